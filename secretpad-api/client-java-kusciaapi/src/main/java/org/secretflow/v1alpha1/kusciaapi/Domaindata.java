@@ -0,0 +1,19957 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: kuscia/proto/api/v1alpha1/kusciaapi/domaindata.proto
+
+package org.secretflow.v1alpha1.kusciaapi;
+
+public final class Domaindata {
+  private Domaindata() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface CreateDomainDataRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <pre>
+     * Optional, the domaindata_id would be generated by server if the domaindata_id is empty.
+     * The unique identity of domaindata,it couldn't duplicate in the same domain.
+     * </pre>
+     *
+     * <code>string domaindata_id = 2;</code>
+     * @return The domaindataId.
+     */
+    java.lang.String getDomaindataId();
+    /**
+     * <pre>
+     * Optional, the domaindata_id would be generated by server if the domaindata_id is empty.
+     * The unique identity of domaindata,it couldn't duplicate in the same domain.
+     * </pre>
+     *
+     * <code>string domaindata_id = 2;</code>
+     * @return The bytes for domaindataId.
+     */
+    com.google.protobuf.ByteString
+        getDomaindataIdBytes();
+
+    /**
+     * <pre>
+     * The human readable, it could duplicate in the domain.
+     * </pre>
+     *
+     * <code>string name = 3;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <pre>
+     * The human readable, it could duplicate in the domain.
+     * </pre>
+     *
+     * <code>string name = 3;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <pre>
+     * Enum: table,model,rule,report,unknown
+     * </pre>
+     *
+     * <code>string type = 4;</code>
+     * @return The type.
+     */
+    java.lang.String getType();
+    /**
+     * <pre>
+     * Enum: table,model,rule,report,unknown
+     * </pre>
+     *
+     * <code>string type = 4;</code>
+     * @return The bytes for type.
+     */
+    com.google.protobuf.ByteString
+        getTypeBytes();
+
+    /**
+     * <pre>
+     * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+     * e.g. the relative_uri is "train/table.csv"
+     *      the URI of datasource is "/home/data"
+     *      the URI of domaindata is "/home/data/train/table.csv"
+     * </pre>
+     *
+     * <code>string relative_uri = 5;</code>
+     * @return The relativeUri.
+     */
+    java.lang.String getRelativeUri();
+    /**
+     * <pre>
+     * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+     * e.g. the relative_uri is "train/table.csv"
+     *      the URI of datasource is "/home/data"
+     *      the URI of domaindata is "/home/data/train/table.csv"
+     * </pre>
+     *
+     * <code>string relative_uri = 5;</code>
+     * @return The bytes for relativeUri.
+     */
+    com.google.protobuf.ByteString
+        getRelativeUriBytes();
+
+    /**
+     * <pre>
+     * Domain_id is the unique identity of the domain. the domaindata is belong to this domain.
+     * </pre>
+     *
+     * <code>string domain_id = 6;</code>
+     * @return The domainId.
+     */
+    java.lang.String getDomainId();
+    /**
+     * <pre>
+     * Domain_id is the unique identity of the domain. the domaindata is belong to this domain.
+     * </pre>
+     *
+     * <code>string domain_id = 6;</code>
+     * @return The bytes for domainId.
+     */
+    com.google.protobuf.ByteString
+        getDomainIdBytes();
+
+    /**
+     * <pre>
+     * Optional, server would use default datasource if datasource_id is empty.
+     * The datasource is where the domain is stored.
+     * </pre>
+     *
+     * <code>string datasource_id = 7;</code>
+     * @return The datasourceId.
+     */
+    java.lang.String getDatasourceId();
+    /**
+     * <pre>
+     * Optional, server would use default datasource if datasource_id is empty.
+     * The datasource is where the domain is stored.
+     * </pre>
+     *
+     * <code>string datasource_id = 7;</code>
+     * @return The bytes for datasourceId.
+     */
+    com.google.protobuf.ByteString
+        getDatasourceIdBytes();
+
+    /**
+     * <pre>
+     * Optional, The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data what they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 8;</code>
+     */
+    int getAttributesCount();
+    /**
+     * <pre>
+     * Optional, The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data what they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 8;</code>
+     */
+    boolean containsAttributes(
+        java.lang.String key);
+    /**
+     * Use {@link #getAttributesMap()} instead.
+     */
+    @java.lang.Deprecated
+    java.util.Map<java.lang.String, java.lang.String>
+    getAttributes();
+    /**
+     * <pre>
+     * Optional, The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data what they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 8;</code>
+     */
+    java.util.Map<java.lang.String, java.lang.String>
+    getAttributesMap();
+    /**
+     * <pre>
+     * Optional, The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data what they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 8;</code>
+     */
+    /* nullable */
+java.lang.String getAttributesOrDefault(
+        java.lang.String key,
+        /* nullable */
+java.lang.String defaultValue);
+    /**
+     * <pre>
+     * Optional, The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data what they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 8;</code>
+     */
+    java.lang.String getAttributesOrThrow(
+        java.lang.String key);
+
+    /**
+     * <pre>
+     * Optional, Partition not support now
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+     * @return Whether the partition field is set.
+     */
+    boolean hasPartition();
+    /**
+     * <pre>
+     * Optional, Partition not support now
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+     * @return The partition.
+     */
+    org.secretflow.v1alpha1.common.Common.Partition getPartition();
+    /**
+     * <pre>
+     * Optional, Partition not support now
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.PartitionOrBuilder getPartitionOrBuilder();
+
+    /**
+     * <pre>
+     * This field must be set if the type is 'table',
+     * the columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+     */
+    java.util.List<org.secretflow.v1alpha1.common.Common.DataColumn> 
+        getColumnsList();
+    /**
+     * <pre>
+     * This field must be set if the type is 'table',
+     * the columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.DataColumn getColumns(int index);
+    /**
+     * <pre>
+     * This field must be set if the type is 'table',
+     * the columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+     */
+    int getColumnsCount();
+    /**
+     * <pre>
+     * This field must be set if the type is 'table',
+     * the columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+     */
+    java.util.List<? extends org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder> 
+        getColumnsOrBuilderList();
+    /**
+     * <pre>
+     * This field must be set if the type is 'table',
+     * the columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder getColumnsOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * Optional , The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+     * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+     * </pre>
+     *
+     * <code>string vendor = 11;</code>
+     * @return The vendor.
+     */
+    java.lang.String getVendor();
+    /**
+     * <pre>
+     * Optional , The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+     * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+     * </pre>
+     *
+     * <code>string vendor = 11;</code>
+     * @return The bytes for vendor.
+     */
+    com.google.protobuf.ByteString
+        getVendorBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataRequest}
+   */
+  public static final class CreateDomainDataRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataRequest)
+      CreateDomainDataRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CreateDomainDataRequest.newBuilder() to construct.
+    private CreateDomainDataRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CreateDomainDataRequest() {
+      domaindataId_ = "";
+      name_ = "";
+      type_ = "";
+      relativeUri_ = "";
+      domainId_ = "";
+      datasourceId_ = "";
+      columns_ = java.util.Collections.emptyList();
+      vendor_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CreateDomainDataRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataRequest_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    @java.lang.Override
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 8:
+          return internalGetAttributes();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    public static final int DOMAINDATA_ID_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domaindataId_ = "";
+    /**
+     * <pre>
+     * Optional, the domaindata_id would be generated by server if the domaindata_id is empty.
+     * The unique identity of domaindata,it couldn't duplicate in the same domain.
+     * </pre>
+     *
+     * <code>string domaindata_id = 2;</code>
+     * @return The domaindataId.
+     */
+    @java.lang.Override
+    public java.lang.String getDomaindataId() {
+      java.lang.Object ref = domaindataId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domaindataId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Optional, the domaindata_id would be generated by server if the domaindata_id is empty.
+     * The unique identity of domaindata,it couldn't duplicate in the same domain.
+     * </pre>
+     *
+     * <code>string domaindata_id = 2;</code>
+     * @return The bytes for domaindataId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomaindataIdBytes() {
+      java.lang.Object ref = domaindataId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domaindataId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NAME_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <pre>
+     * The human readable, it could duplicate in the domain.
+     * </pre>
+     *
+     * <code>string name = 3;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The human readable, it could duplicate in the domain.
+     * </pre>
+     *
+     * <code>string name = 3;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object type_ = "";
+    /**
+     * <pre>
+     * Enum: table,model,rule,report,unknown
+     * </pre>
+     *
+     * <code>string type = 4;</code>
+     * @return The type.
+     */
+    @java.lang.Override
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        type_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Enum: table,model,rule,report,unknown
+     * </pre>
+     *
+     * <code>string type = 4;</code>
+     * @return The bytes for type.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTypeBytes() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        type_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int RELATIVE_URI_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object relativeUri_ = "";
+    /**
+     * <pre>
+     * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+     * e.g. the relative_uri is "train/table.csv"
+     *      the URI of datasource is "/home/data"
+     *      the URI of domaindata is "/home/data/train/table.csv"
+     * </pre>
+     *
+     * <code>string relative_uri = 5;</code>
+     * @return The relativeUri.
+     */
+    @java.lang.Override
+    public java.lang.String getRelativeUri() {
+      java.lang.Object ref = relativeUri_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        relativeUri_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+     * e.g. the relative_uri is "train/table.csv"
+     *      the URI of datasource is "/home/data"
+     *      the URI of domaindata is "/home/data/train/table.csv"
+     * </pre>
+     *
+     * <code>string relative_uri = 5;</code>
+     * @return The bytes for relativeUri.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getRelativeUriBytes() {
+      java.lang.Object ref = relativeUri_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        relativeUri_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DOMAIN_ID_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domainId_ = "";
+    /**
+     * <pre>
+     * Domain_id is the unique identity of the domain. the domaindata is belong to this domain.
+     * </pre>
+     *
+     * <code>string domain_id = 6;</code>
+     * @return The domainId.
+     */
+    @java.lang.Override
+    public java.lang.String getDomainId() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domainId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Domain_id is the unique identity of the domain. the domaindata is belong to this domain.
+     * </pre>
+     *
+     * <code>string domain_id = 6;</code>
+     * @return The bytes for domainId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomainIdBytes() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domainId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DATASOURCE_ID_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object datasourceId_ = "";
+    /**
+     * <pre>
+     * Optional, server would use default datasource if datasource_id is empty.
+     * The datasource is where the domain is stored.
+     * </pre>
+     *
+     * <code>string datasource_id = 7;</code>
+     * @return The datasourceId.
+     */
+    @java.lang.Override
+    public java.lang.String getDatasourceId() {
+      java.lang.Object ref = datasourceId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        datasourceId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Optional, server would use default datasource if datasource_id is empty.
+     * The datasource is where the domain is stored.
+     * </pre>
+     *
+     * <code>string datasource_id = 7;</code>
+     * @return The bytes for datasourceId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDatasourceIdBytes() {
+      java.lang.Object ref = datasourceId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        datasourceId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ATTRIBUTES_FIELD_NUMBER = 8;
+    private static final class AttributesDefaultEntryHolder {
+      static final com.google.protobuf.MapEntry<
+          java.lang.String, java.lang.String> defaultEntry =
+              com.google.protobuf.MapEntry
+              .<java.lang.String, java.lang.String>newDefaultInstance(
+                  org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataRequest_AttributesEntry_descriptor, 
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "",
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "");
+    }
+    @SuppressWarnings("serial")
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.String> attributes_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetAttributes() {
+      if (attributes_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            AttributesDefaultEntryHolder.defaultEntry);
+      }
+      return attributes_;
+    }
+    public int getAttributesCount() {
+      return internalGetAttributes().getMap().size();
+    }
+    /**
+     * <pre>
+     * Optional, The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data what they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 8;</code>
+     */
+    @java.lang.Override
+    public boolean containsAttributes(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      return internalGetAttributes().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getAttributesMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String> getAttributes() {
+      return getAttributesMap();
+    }
+    /**
+     * <pre>
+     * Optional, The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data what they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 8;</code>
+     */
+    @java.lang.Override
+    public java.util.Map<java.lang.String, java.lang.String> getAttributesMap() {
+      return internalGetAttributes().getMap();
+    }
+    /**
+     * <pre>
+     * Optional, The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data what they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 8;</code>
+     */
+    @java.lang.Override
+    public /* nullable */
+java.lang.String getAttributesOrDefault(
+        java.lang.String key,
+        /* nullable */
+java.lang.String defaultValue) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetAttributes().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <pre>
+     * Optional, The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data what they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 8;</code>
+     */
+    @java.lang.Override
+    public java.lang.String getAttributesOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetAttributes().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public static final int PARTITION_FIELD_NUMBER = 9;
+    private org.secretflow.v1alpha1.common.Common.Partition partition_;
+    /**
+     * <pre>
+     * Optional, Partition not support now
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+     * @return Whether the partition field is set.
+     */
+    @java.lang.Override
+    public boolean hasPartition() {
+      return partition_ != null;
+    }
+    /**
+     * <pre>
+     * Optional, Partition not support now
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+     * @return The partition.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Partition getPartition() {
+      return partition_ == null ? org.secretflow.v1alpha1.common.Common.Partition.getDefaultInstance() : partition_;
+    }
+    /**
+     * <pre>
+     * Optional, Partition not support now
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.PartitionOrBuilder getPartitionOrBuilder() {
+      return partition_ == null ? org.secretflow.v1alpha1.common.Common.Partition.getDefaultInstance() : partition_;
+    }
+
+    public static final int COLUMNS_FIELD_NUMBER = 10;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.v1alpha1.common.Common.DataColumn> columns_;
+    /**
+     * <pre>
+     * This field must be set if the type is 'table',
+     * the columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.v1alpha1.common.Common.DataColumn> getColumnsList() {
+      return columns_;
+    }
+    /**
+     * <pre>
+     * This field must be set if the type is 'table',
+     * the columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder> 
+        getColumnsOrBuilderList() {
+      return columns_;
+    }
+    /**
+     * <pre>
+     * This field must be set if the type is 'table',
+     * the columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+     */
+    @java.lang.Override
+    public int getColumnsCount() {
+      return columns_.size();
+    }
+    /**
+     * <pre>
+     * This field must be set if the type is 'table',
+     * the columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.DataColumn getColumns(int index) {
+      return columns_.get(index);
+    }
+    /**
+     * <pre>
+     * This field must be set if the type is 'table',
+     * the columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder getColumnsOrBuilder(
+        int index) {
+      return columns_.get(index);
+    }
+
+    public static final int VENDOR_FIELD_NUMBER = 11;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object vendor_ = "";
+    /**
+     * <pre>
+     * Optional , The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+     * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+     * </pre>
+     *
+     * <code>string vendor = 11;</code>
+     * @return The vendor.
+     */
+    @java.lang.Override
+    public java.lang.String getVendor() {
+      java.lang.Object ref = vendor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        vendor_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Optional , The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+     * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+     * </pre>
+     *
+     * <code>string vendor = 11;</code>
+     * @return The bytes for vendor.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getVendorBytes() {
+      java.lang.Object ref = vendor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        vendor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domaindataId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, domaindataId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(type_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, type_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(relativeUri_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, relativeUri_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(datasourceId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 7, datasourceId_);
+      }
+      com.google.protobuf.GeneratedMessageV3
+        .serializeStringMapTo(
+          output,
+          internalGetAttributes(),
+          AttributesDefaultEntryHolder.defaultEntry,
+          8);
+      if (partition_ != null) {
+        output.writeMessage(9, getPartition());
+      }
+      for (int i = 0; i < columns_.size(); i++) {
+        output.writeMessage(10, columns_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(vendor_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 11, vendor_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domaindataId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, domaindataId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(type_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, type_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(relativeUri_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, relativeUri_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(datasourceId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, datasourceId_);
+      }
+      for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+           : internalGetAttributes().getMap().entrySet()) {
+        com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+        attributes__ = AttributesDefaultEntryHolder.defaultEntry.newBuilderForType()
+            .setKey(entry.getKey())
+            .setValue(entry.getValue())
+            .build();
+        size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(8, attributes__);
+      }
+      if (partition_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, getPartition());
+      }
+      for (int i = 0; i < columns_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(10, columns_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(vendor_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(11, vendor_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest other = (org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (!getDomaindataId()
+          .equals(other.getDomaindataId())) return false;
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getType()
+          .equals(other.getType())) return false;
+      if (!getRelativeUri()
+          .equals(other.getRelativeUri())) return false;
+      if (!getDomainId()
+          .equals(other.getDomainId())) return false;
+      if (!getDatasourceId()
+          .equals(other.getDatasourceId())) return false;
+      if (!internalGetAttributes().equals(
+          other.internalGetAttributes())) return false;
+      if (hasPartition() != other.hasPartition()) return false;
+      if (hasPartition()) {
+        if (!getPartition()
+            .equals(other.getPartition())) return false;
+      }
+      if (!getColumnsList()
+          .equals(other.getColumnsList())) return false;
+      if (!getVendor()
+          .equals(other.getVendor())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      hash = (37 * hash) + DOMAINDATA_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDomaindataId().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getType().hashCode();
+      hash = (37 * hash) + RELATIVE_URI_FIELD_NUMBER;
+      hash = (53 * hash) + getRelativeUri().hashCode();
+      hash = (37 * hash) + DOMAIN_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDomainId().hashCode();
+      hash = (37 * hash) + DATASOURCE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDatasourceId().hashCode();
+      if (!internalGetAttributes().getMap().isEmpty()) {
+        hash = (37 * hash) + ATTRIBUTES_FIELD_NUMBER;
+        hash = (53 * hash) + internalGetAttributes().hashCode();
+      }
+      if (hasPartition()) {
+        hash = (37 * hash) + PARTITION_FIELD_NUMBER;
+        hash = (53 * hash) + getPartition().hashCode();
+      }
+      if (getColumnsCount() > 0) {
+        hash = (37 * hash) + COLUMNS_FIELD_NUMBER;
+        hash = (53 * hash) + getColumnsList().hashCode();
+      }
+      hash = (37 * hash) + VENDOR_FIELD_NUMBER;
+      hash = (53 * hash) + getVendor().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataRequest)
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataRequest_descriptor;
+      }
+
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMapField(
+          int number) {
+        switch (number) {
+          case 8:
+            return internalGetAttributes();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMutableMapField(
+          int number) {
+        switch (number) {
+          case 8:
+            return internalGetMutableAttributes();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        domaindataId_ = "";
+        name_ = "";
+        type_ = "";
+        relativeUri_ = "";
+        domainId_ = "";
+        datasourceId_ = "";
+        internalGetMutableAttributes().clear();
+        partition_ = null;
+        if (partitionBuilder_ != null) {
+          partitionBuilder_.dispose();
+          partitionBuilder_ = null;
+        }
+        if (columnsBuilder_ == null) {
+          columns_ = java.util.Collections.emptyList();
+        } else {
+          columns_ = null;
+          columnsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000200);
+        vendor_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest result = new org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest result) {
+        if (columnsBuilder_ == null) {
+          if (((bitField0_ & 0x00000200) != 0)) {
+            columns_ = java.util.Collections.unmodifiableList(columns_);
+            bitField0_ = (bitField0_ & ~0x00000200);
+          }
+          result.columns_ = columns_;
+        } else {
+          result.columns_ = columnsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.domaindataId_ = domaindataId_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.type_ = type_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.relativeUri_ = relativeUri_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.domainId_ = domainId_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.datasourceId_ = datasourceId_;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.attributes_ = internalGetAttributes();
+          result.attributes_.makeImmutable();
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.partition_ = partitionBuilder_ == null
+              ? partition_
+              : partitionBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000400) != 0)) {
+          result.vendor_ = vendor_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (!other.getDomaindataId().isEmpty()) {
+          domaindataId_ = other.domaindataId_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (!other.getType().isEmpty()) {
+          type_ = other.type_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (!other.getRelativeUri().isEmpty()) {
+          relativeUri_ = other.relativeUri_;
+          bitField0_ |= 0x00000010;
+          onChanged();
+        }
+        if (!other.getDomainId().isEmpty()) {
+          domainId_ = other.domainId_;
+          bitField0_ |= 0x00000020;
+          onChanged();
+        }
+        if (!other.getDatasourceId().isEmpty()) {
+          datasourceId_ = other.datasourceId_;
+          bitField0_ |= 0x00000040;
+          onChanged();
+        }
+        internalGetMutableAttributes().mergeFrom(
+            other.internalGetAttributes());
+        bitField0_ |= 0x00000080;
+        if (other.hasPartition()) {
+          mergePartition(other.getPartition());
+        }
+        if (columnsBuilder_ == null) {
+          if (!other.columns_.isEmpty()) {
+            if (columns_.isEmpty()) {
+              columns_ = other.columns_;
+              bitField0_ = (bitField0_ & ~0x00000200);
+            } else {
+              ensureColumnsIsMutable();
+              columns_.addAll(other.columns_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.columns_.isEmpty()) {
+            if (columnsBuilder_.isEmpty()) {
+              columnsBuilder_.dispose();
+              columnsBuilder_ = null;
+              columns_ = other.columns_;
+              bitField0_ = (bitField0_ & ~0x00000200);
+              columnsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getColumnsFieldBuilder() : null;
+            } else {
+              columnsBuilder_.addAllMessages(other.columns_);
+            }
+          }
+        }
+        if (!other.getVendor().isEmpty()) {
+          vendor_ = other.vendor_;
+          bitField0_ |= 0x00000400;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                domaindataId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                type_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                relativeUri_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 50: {
+                domainId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              case 58: {
+                datasourceId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 58
+              case 66: {
+                com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+                attributes__ = input.readMessage(
+                    AttributesDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+                internalGetMutableAttributes().getMutableMap().put(
+                    attributes__.getKey(), attributes__.getValue());
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 66
+              case 74: {
+                input.readMessage(
+                    getPartitionFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 74
+              case 82: {
+                org.secretflow.v1alpha1.common.Common.DataColumn m =
+                    input.readMessage(
+                        org.secretflow.v1alpha1.common.Common.DataColumn.parser(),
+                        extensionRegistry);
+                if (columnsBuilder_ == null) {
+                  ensureColumnsIsMutable();
+                  columns_.add(m);
+                } else {
+                  columnsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 82
+              case 90: {
+                vendor_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000400;
+                break;
+              } // case 90
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private java.lang.Object domaindataId_ = "";
+      /**
+       * <pre>
+       * Optional, the domaindata_id would be generated by server if the domaindata_id is empty.
+       * The unique identity of domaindata,it couldn't duplicate in the same domain.
+       * </pre>
+       *
+       * <code>string domaindata_id = 2;</code>
+       * @return The domaindataId.
+       */
+      public java.lang.String getDomaindataId() {
+        java.lang.Object ref = domaindataId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domaindataId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Optional, the domaindata_id would be generated by server if the domaindata_id is empty.
+       * The unique identity of domaindata,it couldn't duplicate in the same domain.
+       * </pre>
+       *
+       * <code>string domaindata_id = 2;</code>
+       * @return The bytes for domaindataId.
+       */
+      public com.google.protobuf.ByteString
+          getDomaindataIdBytes() {
+        java.lang.Object ref = domaindataId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domaindataId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Optional, the domaindata_id would be generated by server if the domaindata_id is empty.
+       * The unique identity of domaindata,it couldn't duplicate in the same domain.
+       * </pre>
+       *
+       * <code>string domaindata_id = 2;</code>
+       * @param value The domaindataId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomaindataId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domaindataId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Optional, the domaindata_id would be generated by server if the domaindata_id is empty.
+       * The unique identity of domaindata,it couldn't duplicate in the same domain.
+       * </pre>
+       *
+       * <code>string domaindata_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomaindataId() {
+        domaindataId_ = getDefaultInstance().getDomaindataId();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Optional, the domaindata_id would be generated by server if the domaindata_id is empty.
+       * The unique identity of domaindata,it couldn't duplicate in the same domain.
+       * </pre>
+       *
+       * <code>string domaindata_id = 2;</code>
+       * @param value The bytes for domaindataId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomaindataIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domaindataId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * The human readable, it could duplicate in the domain.
+       * </pre>
+       *
+       * <code>string name = 3;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The human readable, it could duplicate in the domain.
+       * </pre>
+       *
+       * <code>string name = 3;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The human readable, it could duplicate in the domain.
+       * </pre>
+       *
+       * <code>string name = 3;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The human readable, it could duplicate in the domain.
+       * </pre>
+       *
+       * <code>string name = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The human readable, it could duplicate in the domain.
+       * </pre>
+       *
+       * <code>string name = 3;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object type_ = "";
+      /**
+       * <pre>
+       * Enum: table,model,rule,report,unknown
+       * </pre>
+       *
+       * <code>string type = 4;</code>
+       * @return The type.
+       */
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          type_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Enum: table,model,rule,report,unknown
+       * </pre>
+       *
+       * <code>string type = 4;</code>
+       * @return The bytes for type.
+       */
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Enum: table,model,rule,report,unknown
+       * </pre>
+       *
+       * <code>string type = 4;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        type_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Enum: table,model,rule,report,unknown
+       * </pre>
+       *
+       * <code>string type = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        type_ = getDefaultInstance().getType();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Enum: table,model,rule,report,unknown
+       * </pre>
+       *
+       * <code>string type = 4;</code>
+       * @param value The bytes for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        type_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object relativeUri_ = "";
+      /**
+       * <pre>
+       * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+       * e.g. the relative_uri is "train/table.csv"
+       *      the URI of datasource is "/home/data"
+       *      the URI of domaindata is "/home/data/train/table.csv"
+       * </pre>
+       *
+       * <code>string relative_uri = 5;</code>
+       * @return The relativeUri.
+       */
+      public java.lang.String getRelativeUri() {
+        java.lang.Object ref = relativeUri_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          relativeUri_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+       * e.g. the relative_uri is "train/table.csv"
+       *      the URI of datasource is "/home/data"
+       *      the URI of domaindata is "/home/data/train/table.csv"
+       * </pre>
+       *
+       * <code>string relative_uri = 5;</code>
+       * @return The bytes for relativeUri.
+       */
+      public com.google.protobuf.ByteString
+          getRelativeUriBytes() {
+        java.lang.Object ref = relativeUri_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          relativeUri_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+       * e.g. the relative_uri is "train/table.csv"
+       *      the URI of datasource is "/home/data"
+       *      the URI of domaindata is "/home/data/train/table.csv"
+       * </pre>
+       *
+       * <code>string relative_uri = 5;</code>
+       * @param value The relativeUri to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRelativeUri(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        relativeUri_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+       * e.g. the relative_uri is "train/table.csv"
+       *      the URI of datasource is "/home/data"
+       *      the URI of domaindata is "/home/data/train/table.csv"
+       * </pre>
+       *
+       * <code>string relative_uri = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRelativeUri() {
+        relativeUri_ = getDefaultInstance().getRelativeUri();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+       * e.g. the relative_uri is "train/table.csv"
+       *      the URI of datasource is "/home/data"
+       *      the URI of domaindata is "/home/data/train/table.csv"
+       * </pre>
+       *
+       * <code>string relative_uri = 5;</code>
+       * @param value The bytes for relativeUri to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRelativeUriBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        relativeUri_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object domainId_ = "";
+      /**
+       * <pre>
+       * Domain_id is the unique identity of the domain. the domaindata is belong to this domain.
+       * </pre>
+       *
+       * <code>string domain_id = 6;</code>
+       * @return The domainId.
+       */
+      public java.lang.String getDomainId() {
+        java.lang.Object ref = domainId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domainId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Domain_id is the unique identity of the domain. the domaindata is belong to this domain.
+       * </pre>
+       *
+       * <code>string domain_id = 6;</code>
+       * @return The bytes for domainId.
+       */
+      public com.google.protobuf.ByteString
+          getDomainIdBytes() {
+        java.lang.Object ref = domainId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domainId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Domain_id is the unique identity of the domain. the domaindata is belong to this domain.
+       * </pre>
+       *
+       * <code>string domain_id = 6;</code>
+       * @param value The domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domainId_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Domain_id is the unique identity of the domain. the domaindata is belong to this domain.
+       * </pre>
+       *
+       * <code>string domain_id = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomainId() {
+        domainId_ = getDefaultInstance().getDomainId();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Domain_id is the unique identity of the domain. the domaindata is belong to this domain.
+       * </pre>
+       *
+       * <code>string domain_id = 6;</code>
+       * @param value The bytes for domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domainId_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object datasourceId_ = "";
+      /**
+       * <pre>
+       * Optional, server would use default datasource if datasource_id is empty.
+       * The datasource is where the domain is stored.
+       * </pre>
+       *
+       * <code>string datasource_id = 7;</code>
+       * @return The datasourceId.
+       */
+      public java.lang.String getDatasourceId() {
+        java.lang.Object ref = datasourceId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          datasourceId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Optional, server would use default datasource if datasource_id is empty.
+       * The datasource is where the domain is stored.
+       * </pre>
+       *
+       * <code>string datasource_id = 7;</code>
+       * @return The bytes for datasourceId.
+       */
+      public com.google.protobuf.ByteString
+          getDatasourceIdBytes() {
+        java.lang.Object ref = datasourceId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          datasourceId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Optional, server would use default datasource if datasource_id is empty.
+       * The datasource is where the domain is stored.
+       * </pre>
+       *
+       * <code>string datasource_id = 7;</code>
+       * @param value The datasourceId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDatasourceId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        datasourceId_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Optional, server would use default datasource if datasource_id is empty.
+       * The datasource is where the domain is stored.
+       * </pre>
+       *
+       * <code>string datasource_id = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDatasourceId() {
+        datasourceId_ = getDefaultInstance().getDatasourceId();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Optional, server would use default datasource if datasource_id is empty.
+       * The datasource is where the domain is stored.
+       * </pre>
+       *
+       * <code>string datasource_id = 7;</code>
+       * @param value The bytes for datasourceId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDatasourceIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        datasourceId_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.MapField<
+          java.lang.String, java.lang.String> attributes_;
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+          internalGetAttributes() {
+        if (attributes_ == null) {
+          return com.google.protobuf.MapField.emptyMapField(
+              AttributesDefaultEntryHolder.defaultEntry);
+        }
+        return attributes_;
+      }
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+          internalGetMutableAttributes() {
+        if (attributes_ == null) {
+          attributes_ = com.google.protobuf.MapField.newMapField(
+              AttributesDefaultEntryHolder.defaultEntry);
+        }
+        if (!attributes_.isMutable()) {
+          attributes_ = attributes_.copy();
+        }
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return attributes_;
+      }
+      public int getAttributesCount() {
+        return internalGetAttributes().getMap().size();
+      }
+      /**
+       * <pre>
+       * Optional, The attributes of the domaindata, this field use as a extra field, User could set
+       * this field to any data what they need.
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; attributes = 8;</code>
+       */
+      @java.lang.Override
+      public boolean containsAttributes(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        return internalGetAttributes().getMap().containsKey(key);
+      }
+      /**
+       * Use {@link #getAttributesMap()} instead.
+       */
+      @java.lang.Override
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String> getAttributes() {
+        return getAttributesMap();
+      }
+      /**
+       * <pre>
+       * Optional, The attributes of the domaindata, this field use as a extra field, User could set
+       * this field to any data what they need.
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; attributes = 8;</code>
+       */
+      @java.lang.Override
+      public java.util.Map<java.lang.String, java.lang.String> getAttributesMap() {
+        return internalGetAttributes().getMap();
+      }
+      /**
+       * <pre>
+       * Optional, The attributes of the domaindata, this field use as a extra field, User could set
+       * this field to any data what they need.
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; attributes = 8;</code>
+       */
+      @java.lang.Override
+      public /* nullable */
+java.lang.String getAttributesOrDefault(
+          java.lang.String key,
+          /* nullable */
+java.lang.String defaultValue) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetAttributes().getMap();
+        return map.containsKey(key) ? map.get(key) : defaultValue;
+      }
+      /**
+       * <pre>
+       * Optional, The attributes of the domaindata, this field use as a extra field, User could set
+       * this field to any data what they need.
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; attributes = 8;</code>
+       */
+      @java.lang.Override
+      public java.lang.String getAttributesOrThrow(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetAttributes().getMap();
+        if (!map.containsKey(key)) {
+          throw new java.lang.IllegalArgumentException();
+        }
+        return map.get(key);
+      }
+      public Builder clearAttributes() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        internalGetMutableAttributes().getMutableMap()
+            .clear();
+        return this;
+      }
+      /**
+       * <pre>
+       * Optional, The attributes of the domaindata, this field use as a extra field, User could set
+       * this field to any data what they need.
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; attributes = 8;</code>
+       */
+      public Builder removeAttributes(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        internalGetMutableAttributes().getMutableMap()
+            .remove(key);
+        return this;
+      }
+      /**
+       * Use alternate mutation accessors instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String>
+          getMutableAttributes() {
+        bitField0_ |= 0x00000080;
+        return internalGetMutableAttributes().getMutableMap();
+      }
+      /**
+       * <pre>
+       * Optional, The attributes of the domaindata, this field use as a extra field, User could set
+       * this field to any data what they need.
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; attributes = 8;</code>
+       */
+      public Builder putAttributes(
+          java.lang.String key,
+          java.lang.String value) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        if (value == null) { throw new NullPointerException("map value"); }
+        internalGetMutableAttributes().getMutableMap()
+            .put(key, value);
+        bitField0_ |= 0x00000080;
+        return this;
+      }
+      /**
+       * <pre>
+       * Optional, The attributes of the domaindata, this field use as a extra field, User could set
+       * this field to any data what they need.
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; attributes = 8;</code>
+       */
+      public Builder putAllAttributes(
+          java.util.Map<java.lang.String, java.lang.String> values) {
+        internalGetMutableAttributes().getMutableMap()
+            .putAll(values);
+        bitField0_ |= 0x00000080;
+        return this;
+      }
+
+      private org.secretflow.v1alpha1.common.Common.Partition partition_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Partition, org.secretflow.v1alpha1.common.Common.Partition.Builder, org.secretflow.v1alpha1.common.Common.PartitionOrBuilder> partitionBuilder_;
+      /**
+       * <pre>
+       * Optional, Partition not support now
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+       * @return Whether the partition field is set.
+       */
+      public boolean hasPartition() {
+        return ((bitField0_ & 0x00000100) != 0);
+      }
+      /**
+       * <pre>
+       * Optional, Partition not support now
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+       * @return The partition.
+       */
+      public org.secretflow.v1alpha1.common.Common.Partition getPartition() {
+        if (partitionBuilder_ == null) {
+          return partition_ == null ? org.secretflow.v1alpha1.common.Common.Partition.getDefaultInstance() : partition_;
+        } else {
+          return partitionBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * Optional, Partition not support now
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+       */
+      public Builder setPartition(org.secretflow.v1alpha1.common.Common.Partition value) {
+        if (partitionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          partition_ = value;
+        } else {
+          partitionBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Optional, Partition not support now
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+       */
+      public Builder setPartition(
+          org.secretflow.v1alpha1.common.Common.Partition.Builder builderForValue) {
+        if (partitionBuilder_ == null) {
+          partition_ = builderForValue.build();
+        } else {
+          partitionBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Optional, Partition not support now
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+       */
+      public Builder mergePartition(org.secretflow.v1alpha1.common.Common.Partition value) {
+        if (partitionBuilder_ == null) {
+          if (((bitField0_ & 0x00000100) != 0) &&
+            partition_ != null &&
+            partition_ != org.secretflow.v1alpha1.common.Common.Partition.getDefaultInstance()) {
+            getPartitionBuilder().mergeFrom(value);
+          } else {
+            partition_ = value;
+          }
+        } else {
+          partitionBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Optional, Partition not support now
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+       */
+      public Builder clearPartition() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        partition_ = null;
+        if (partitionBuilder_ != null) {
+          partitionBuilder_.dispose();
+          partitionBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Optional, Partition not support now
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Partition.Builder getPartitionBuilder() {
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return getPartitionFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Optional, Partition not support now
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.PartitionOrBuilder getPartitionOrBuilder() {
+        if (partitionBuilder_ != null) {
+          return partitionBuilder_.getMessageOrBuilder();
+        } else {
+          return partition_ == null ?
+              org.secretflow.v1alpha1.common.Common.Partition.getDefaultInstance() : partition_;
+        }
+      }
+      /**
+       * <pre>
+       * Optional, Partition not support now
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Partition, org.secretflow.v1alpha1.common.Common.Partition.Builder, org.secretflow.v1alpha1.common.Common.PartitionOrBuilder> 
+          getPartitionFieldBuilder() {
+        if (partitionBuilder_ == null) {
+          partitionBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Partition, org.secretflow.v1alpha1.common.Common.Partition.Builder, org.secretflow.v1alpha1.common.Common.PartitionOrBuilder>(
+                  getPartition(),
+                  getParentForChildren(),
+                  isClean());
+          partition_ = null;
+        }
+        return partitionBuilder_;
+      }
+
+      private java.util.List<org.secretflow.v1alpha1.common.Common.DataColumn> columns_ =
+        java.util.Collections.emptyList();
+      private void ensureColumnsIsMutable() {
+        if (!((bitField0_ & 0x00000200) != 0)) {
+          columns_ = new java.util.ArrayList<org.secretflow.v1alpha1.common.Common.DataColumn>(columns_);
+          bitField0_ |= 0x00000200;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.DataColumn, org.secretflow.v1alpha1.common.Common.DataColumn.Builder, org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder> columnsBuilder_;
+
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * the columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.common.Common.DataColumn> getColumnsList() {
+        if (columnsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(columns_);
+        } else {
+          return columnsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * the columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public int getColumnsCount() {
+        if (columnsBuilder_ == null) {
+          return columns_.size();
+        } else {
+          return columnsBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * the columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.DataColumn getColumns(int index) {
+        if (columnsBuilder_ == null) {
+          return columns_.get(index);
+        } else {
+          return columnsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * the columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public Builder setColumns(
+          int index, org.secretflow.v1alpha1.common.Common.DataColumn value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.set(index, value);
+          onChanged();
+        } else {
+          columnsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * the columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public Builder setColumns(
+          int index, org.secretflow.v1alpha1.common.Common.DataColumn.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * the columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public Builder addColumns(org.secretflow.v1alpha1.common.Common.DataColumn value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.add(value);
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * the columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public Builder addColumns(
+          int index, org.secretflow.v1alpha1.common.Common.DataColumn value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.add(index, value);
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * the columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public Builder addColumns(
+          org.secretflow.v1alpha1.common.Common.DataColumn.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.add(builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * the columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public Builder addColumns(
+          int index, org.secretflow.v1alpha1.common.Common.DataColumn.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * the columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public Builder addAllColumns(
+          java.lang.Iterable<? extends org.secretflow.v1alpha1.common.Common.DataColumn> values) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, columns_);
+          onChanged();
+        } else {
+          columnsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * the columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public Builder clearColumns() {
+        if (columnsBuilder_ == null) {
+          columns_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000200);
+          onChanged();
+        } else {
+          columnsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * the columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public Builder removeColumns(int index) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.remove(index);
+          onChanged();
+        } else {
+          columnsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * the columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.DataColumn.Builder getColumnsBuilder(
+          int index) {
+        return getColumnsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * the columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder getColumnsOrBuilder(
+          int index) {
+        if (columnsBuilder_ == null) {
+          return columns_.get(index);  } else {
+          return columnsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * the columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public java.util.List<? extends org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder> 
+           getColumnsOrBuilderList() {
+        if (columnsBuilder_ != null) {
+          return columnsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(columns_);
+        }
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * the columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.DataColumn.Builder addColumnsBuilder() {
+        return getColumnsFieldBuilder().addBuilder(
+            org.secretflow.v1alpha1.common.Common.DataColumn.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * the columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.DataColumn.Builder addColumnsBuilder(
+          int index) {
+        return getColumnsFieldBuilder().addBuilder(
+            index, org.secretflow.v1alpha1.common.Common.DataColumn.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * the columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.common.Common.DataColumn.Builder> 
+           getColumnsBuilderList() {
+        return getColumnsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.DataColumn, org.secretflow.v1alpha1.common.Common.DataColumn.Builder, org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder> 
+          getColumnsFieldBuilder() {
+        if (columnsBuilder_ == null) {
+          columnsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.DataColumn, org.secretflow.v1alpha1.common.Common.DataColumn.Builder, org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder>(
+                  columns_,
+                  ((bitField0_ & 0x00000200) != 0),
+                  getParentForChildren(),
+                  isClean());
+          columns_ = null;
+        }
+        return columnsBuilder_;
+      }
+
+      private java.lang.Object vendor_ = "";
+      /**
+       * <pre>
+       * Optional , The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+       * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+       * </pre>
+       *
+       * <code>string vendor = 11;</code>
+       * @return The vendor.
+       */
+      public java.lang.String getVendor() {
+        java.lang.Object ref = vendor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          vendor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Optional , The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+       * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+       * </pre>
+       *
+       * <code>string vendor = 11;</code>
+       * @return The bytes for vendor.
+       */
+      public com.google.protobuf.ByteString
+          getVendorBytes() {
+        java.lang.Object ref = vendor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          vendor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Optional , The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+       * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+       * </pre>
+       *
+       * <code>string vendor = 11;</code>
+       * @param value The vendor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVendor(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        vendor_ = value;
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Optional , The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+       * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+       * </pre>
+       *
+       * <code>string vendor = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVendor() {
+        vendor_ = getDefaultInstance().getVendor();
+        bitField0_ = (bitField0_ & ~0x00000400);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Optional , The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+       * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+       * </pre>
+       *
+       * <code>string vendor = 11;</code>
+       * @param value The bytes for vendor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVendorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        vendor_ = value;
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CreateDomainDataRequest>
+        PARSER = new com.google.protobuf.AbstractParser<CreateDomainDataRequest>() {
+      @java.lang.Override
+      public CreateDomainDataRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CreateDomainDataRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CreateDomainDataRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CreateDomainDataResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    boolean hasData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData data = 2;</code>
+     * @return The data.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData getData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData data = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseDataOrBuilder getDataOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponse}
+   */
+  public static final class CreateDomainDataResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponse)
+      CreateDomainDataResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CreateDomainDataResponse.newBuilder() to construct.
+    private CreateDomainDataResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CreateDomainDataResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CreateDomainDataResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    private org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData data_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    @java.lang.Override
+    public boolean hasData() {
+      return data_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData data = 2;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData getData() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData.getDefaultInstance() : data_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData data = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseDataOrBuilder getDataOrBuilder() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData.getDefaultInstance() : data_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      if (data_ != null) {
+        output.writeMessage(2, getData());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      if (data_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getData());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse other = (org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (hasData() != other.hasData()) return false;
+      if (hasData()) {
+        if (!getData()
+            .equals(other.getData())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponse)
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse result = new org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.data_ = dataBuilder_ == null
+              ? data_
+              : dataBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        if (other.hasData()) {
+          mergeData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getDataFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData data_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData, org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseDataOrBuilder> dataBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData data = 2;</code>
+       * @return Whether the data field is set.
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData data = 2;</code>
+       * @return The data.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData getData() {
+        if (dataBuilder_ == null) {
+          return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData.getDefaultInstance() : data_;
+        } else {
+          return dataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData data = 2;</code>
+       */
+      public Builder setData(org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          data_ = value;
+        } else {
+          dataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData data = 2;</code>
+       */
+      public Builder setData(
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
+        } else {
+          dataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData data = 2;</code>
+       */
+      public Builder mergeData(org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData value) {
+        if (dataBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            data_ != null &&
+            data_ != org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData.getDefaultInstance()) {
+            getDataBuilder().mergeFrom(value);
+          } else {
+            data_ = value;
+          }
+        } else {
+          dataBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData data = 2;</code>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData.Builder getDataBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseDataOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
+        } else {
+          return data_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData.getDefaultInstance() : data_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData data = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData, org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseDataOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData, org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseDataOrBuilder>(
+                  getData(),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CreateDomainDataResponse>
+        PARSER = new com.google.protobuf.AbstractParser<CreateDomainDataResponse>() {
+      @java.lang.Override
+      public CreateDomainDataResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CreateDomainDataResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CreateDomainDataResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CreateDomainDataResponseDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * id of created datasource
+     * </pre>
+     *
+     * <code>string domaindata_id = 1;</code>
+     * @return The domaindataId.
+     */
+    java.lang.String getDomaindataId();
+    /**
+     * <pre>
+     * id of created datasource
+     * </pre>
+     *
+     * <code>string domaindata_id = 1;</code>
+     * @return The bytes for domaindataId.
+     */
+    com.google.protobuf.ByteString
+        getDomaindataIdBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData}
+   */
+  public static final class CreateDomainDataResponseData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData)
+      CreateDomainDataResponseDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CreateDomainDataResponseData.newBuilder() to construct.
+    private CreateDomainDataResponseData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CreateDomainDataResponseData() {
+      domaindataId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CreateDomainDataResponseData();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataResponseData_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataResponseData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData.Builder.class);
+    }
+
+    public static final int DOMAINDATA_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domaindataId_ = "";
+    /**
+     * <pre>
+     * id of created datasource
+     * </pre>
+     *
+     * <code>string domaindata_id = 1;</code>
+     * @return The domaindataId.
+     */
+    @java.lang.Override
+    public java.lang.String getDomaindataId() {
+      java.lang.Object ref = domaindataId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domaindataId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * id of created datasource
+     * </pre>
+     *
+     * <code>string domaindata_id = 1;</code>
+     * @return The bytes for domaindataId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomaindataIdBytes() {
+      java.lang.Object ref = domaindataId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domaindataId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domaindataId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, domaindataId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domaindataId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, domaindataId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData other = (org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData) obj;
+
+      if (!getDomaindataId()
+          .equals(other.getDomaindataId())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DOMAINDATA_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDomaindataId().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData)
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataResponseData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        domaindataId_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData build() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData result = new org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.domaindataId_ = domaindataId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData.getDefaultInstance()) return this;
+        if (!other.getDomaindataId().isEmpty()) {
+          domaindataId_ = other.domaindataId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                domaindataId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object domaindataId_ = "";
+      /**
+       * <pre>
+       * id of created datasource
+       * </pre>
+       *
+       * <code>string domaindata_id = 1;</code>
+       * @return The domaindataId.
+       */
+      public java.lang.String getDomaindataId() {
+        java.lang.Object ref = domaindataId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domaindataId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * id of created datasource
+       * </pre>
+       *
+       * <code>string domaindata_id = 1;</code>
+       * @return The bytes for domaindataId.
+       */
+      public com.google.protobuf.ByteString
+          getDomaindataIdBytes() {
+        java.lang.Object ref = domaindataId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domaindataId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * id of created datasource
+       * </pre>
+       *
+       * <code>string domaindata_id = 1;</code>
+       * @param value The domaindataId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomaindataId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domaindataId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * id of created datasource
+       * </pre>
+       *
+       * <code>string domaindata_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomaindataId() {
+        domaindataId_ = getDefaultInstance().getDomaindataId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * id of created datasource
+       * </pre>
+       *
+       * <code>string domaindata_id = 1;</code>
+       * @param value The bytes for domaindataId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomaindataIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domaindataId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainDataResponseData)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CreateDomainDataResponseData>
+        PARSER = new com.google.protobuf.AbstractParser<CreateDomainDataResponseData>() {
+      @java.lang.Override
+      public CreateDomainDataResponseData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CreateDomainDataResponseData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CreateDomainDataResponseData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.CreateDomainDataResponseData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface UpdateDomainDataRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainDataRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <pre>
+     * Mandatory, The domaindata_id indicate which domaindata would be updated.
+     * </pre>
+     *
+     * <code>string domaindata_id = 2;</code>
+     * @return The domaindataId.
+     */
+    java.lang.String getDomaindataId();
+    /**
+     * <pre>
+     * Mandatory, The domaindata_id indicate which domaindata would be updated.
+     * </pre>
+     *
+     * <code>string domaindata_id = 2;</code>
+     * @return The bytes for domaindataId.
+     */
+    com.google.protobuf.ByteString
+        getDomaindataIdBytes();
+
+    /**
+     * <pre>
+     * The human-readable name
+     * </pre>
+     *
+     * <code>string name = 3;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <pre>
+     * The human-readable name
+     * </pre>
+     *
+     * <code>string name = 3;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <pre>
+     * Enum: table,model,rule,report,unknown
+     * </pre>
+     *
+     * <code>string type = 4;</code>
+     * @return The type.
+     */
+    java.lang.String getType();
+    /**
+     * <pre>
+     * Enum: table,model,rule,report,unknown
+     * </pre>
+     *
+     * <code>string type = 4;</code>
+     * @return The bytes for type.
+     */
+    com.google.protobuf.ByteString
+        getTypeBytes();
+
+    /**
+     * <pre>
+     * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+     * e.g. the relative_uri is "train/table.csv"
+     *      the URI of datasource is "/home/data"
+     *      the URI of domaindata is "/home/data/train/table.csv"
+     * </pre>
+     *
+     * <code>string relative_uri = 5;</code>
+     * @return The relativeUri.
+     */
+    java.lang.String getRelativeUri();
+    /**
+     * <pre>
+     * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+     * e.g. the relative_uri is "train/table.csv"
+     *      the URI of datasource is "/home/data"
+     *      the URI of domaindata is "/home/data/train/table.csv"
+     * </pre>
+     *
+     * <code>string relative_uri = 5;</code>
+     * @return The bytes for relativeUri.
+     */
+    com.google.protobuf.ByteString
+        getRelativeUriBytes();
+
+    /**
+     * <pre>
+     * Mandatory, The domain_id indicate which domain's domaindata would be updated.
+     * </pre>
+     *
+     * <code>string domain_id = 6;</code>
+     * @return The domainId.
+     */
+    java.lang.String getDomainId();
+    /**
+     * <pre>
+     * Mandatory, The domain_id indicate which domain's domaindata would be updated.
+     * </pre>
+     *
+     * <code>string domain_id = 6;</code>
+     * @return The bytes for domainId.
+     */
+    com.google.protobuf.ByteString
+        getDomainIdBytes();
+
+    /**
+     * <pre>
+     * The datasource is where the domain is stored.
+     * </pre>
+     *
+     * <code>string datasource_id = 7;</code>
+     * @return The datasourceId.
+     */
+    java.lang.String getDatasourceId();
+    /**
+     * <pre>
+     * The datasource is where the domain is stored.
+     * </pre>
+     *
+     * <code>string datasource_id = 7;</code>
+     * @return The bytes for datasourceId.
+     */
+    com.google.protobuf.ByteString
+        getDatasourceIdBytes();
+
+    /**
+     * <pre>
+     * The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data that they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 8;</code>
+     */
+    int getAttributesCount();
+    /**
+     * <pre>
+     * The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data that they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 8;</code>
+     */
+    boolean containsAttributes(
+        java.lang.String key);
+    /**
+     * Use {@link #getAttributesMap()} instead.
+     */
+    @java.lang.Deprecated
+    java.util.Map<java.lang.String, java.lang.String>
+    getAttributes();
+    /**
+     * <pre>
+     * The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data that they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 8;</code>
+     */
+    java.util.Map<java.lang.String, java.lang.String>
+    getAttributesMap();
+    /**
+     * <pre>
+     * The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data that they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 8;</code>
+     */
+    /* nullable */
+java.lang.String getAttributesOrDefault(
+        java.lang.String key,
+        /* nullable */
+java.lang.String defaultValue);
+    /**
+     * <pre>
+     * The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data that they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 8;</code>
+     */
+    java.lang.String getAttributesOrThrow(
+        java.lang.String key);
+
+    /**
+     * <pre>
+     * Partition not support now
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+     * @return Whether the partition field is set.
+     */
+    boolean hasPartition();
+    /**
+     * <pre>
+     * Partition not support now
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+     * @return The partition.
+     */
+    org.secretflow.v1alpha1.common.Common.Partition getPartition();
+    /**
+     * <pre>
+     * Partition not support now
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.PartitionOrBuilder getPartitionOrBuilder();
+
+    /**
+     * <pre>
+     * The columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+     */
+    java.util.List<org.secretflow.v1alpha1.common.Common.DataColumn> 
+        getColumnsList();
+    /**
+     * <pre>
+     * The columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.DataColumn getColumns(int index);
+    /**
+     * <pre>
+     * The columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+     */
+    int getColumnsCount();
+    /**
+     * <pre>
+     * The columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+     */
+    java.util.List<? extends org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder> 
+        getColumnsOrBuilderList();
+    /**
+     * <pre>
+     * The columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder getColumnsOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+     * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+     * </pre>
+     *
+     * <code>string vendor = 11;</code>
+     * @return The vendor.
+     */
+    java.lang.String getVendor();
+    /**
+     * <pre>
+     * The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+     * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+     * </pre>
+     *
+     * <code>string vendor = 11;</code>
+     * @return The bytes for vendor.
+     */
+    com.google.protobuf.ByteString
+        getVendorBytes();
+  }
+  /**
+   * <pre>
+   * UpdateDomainDataRequest : The field would not be updated if the field not set in the UpdateDomainDataRequest
+   * or the field is invalid.
+   * </pre>
+   *
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainDataRequest}
+   */
+  public static final class UpdateDomainDataRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainDataRequest)
+      UpdateDomainDataRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use UpdateDomainDataRequest.newBuilder() to construct.
+    private UpdateDomainDataRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private UpdateDomainDataRequest() {
+      domaindataId_ = "";
+      name_ = "";
+      type_ = "";
+      relativeUri_ = "";
+      domainId_ = "";
+      datasourceId_ = "";
+      columns_ = java.util.Collections.emptyList();
+      vendor_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new UpdateDomainDataRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataRequest_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    @java.lang.Override
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 8:
+          return internalGetAttributes();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    public static final int DOMAINDATA_ID_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domaindataId_ = "";
+    /**
+     * <pre>
+     * Mandatory, The domaindata_id indicate which domaindata would be updated.
+     * </pre>
+     *
+     * <code>string domaindata_id = 2;</code>
+     * @return The domaindataId.
+     */
+    @java.lang.Override
+    public java.lang.String getDomaindataId() {
+      java.lang.Object ref = domaindataId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domaindataId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Mandatory, The domaindata_id indicate which domaindata would be updated.
+     * </pre>
+     *
+     * <code>string domaindata_id = 2;</code>
+     * @return The bytes for domaindataId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomaindataIdBytes() {
+      java.lang.Object ref = domaindataId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domaindataId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NAME_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <pre>
+     * The human-readable name
+     * </pre>
+     *
+     * <code>string name = 3;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The human-readable name
+     * </pre>
+     *
+     * <code>string name = 3;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object type_ = "";
+    /**
+     * <pre>
+     * Enum: table,model,rule,report,unknown
+     * </pre>
+     *
+     * <code>string type = 4;</code>
+     * @return The type.
+     */
+    @java.lang.Override
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        type_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Enum: table,model,rule,report,unknown
+     * </pre>
+     *
+     * <code>string type = 4;</code>
+     * @return The bytes for type.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTypeBytes() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        type_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int RELATIVE_URI_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object relativeUri_ = "";
+    /**
+     * <pre>
+     * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+     * e.g. the relative_uri is "train/table.csv"
+     *      the URI of datasource is "/home/data"
+     *      the URI of domaindata is "/home/data/train/table.csv"
+     * </pre>
+     *
+     * <code>string relative_uri = 5;</code>
+     * @return The relativeUri.
+     */
+    @java.lang.Override
+    public java.lang.String getRelativeUri() {
+      java.lang.Object ref = relativeUri_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        relativeUri_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+     * e.g. the relative_uri is "train/table.csv"
+     *      the URI of datasource is "/home/data"
+     *      the URI of domaindata is "/home/data/train/table.csv"
+     * </pre>
+     *
+     * <code>string relative_uri = 5;</code>
+     * @return The bytes for relativeUri.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getRelativeUriBytes() {
+      java.lang.Object ref = relativeUri_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        relativeUri_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DOMAIN_ID_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domainId_ = "";
+    /**
+     * <pre>
+     * Mandatory, The domain_id indicate which domain's domaindata would be updated.
+     * </pre>
+     *
+     * <code>string domain_id = 6;</code>
+     * @return The domainId.
+     */
+    @java.lang.Override
+    public java.lang.String getDomainId() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domainId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Mandatory, The domain_id indicate which domain's domaindata would be updated.
+     * </pre>
+     *
+     * <code>string domain_id = 6;</code>
+     * @return The bytes for domainId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomainIdBytes() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domainId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DATASOURCE_ID_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object datasourceId_ = "";
+    /**
+     * <pre>
+     * The datasource is where the domain is stored.
+     * </pre>
+     *
+     * <code>string datasource_id = 7;</code>
+     * @return The datasourceId.
+     */
+    @java.lang.Override
+    public java.lang.String getDatasourceId() {
+      java.lang.Object ref = datasourceId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        datasourceId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The datasource is where the domain is stored.
+     * </pre>
+     *
+     * <code>string datasource_id = 7;</code>
+     * @return The bytes for datasourceId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDatasourceIdBytes() {
+      java.lang.Object ref = datasourceId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        datasourceId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ATTRIBUTES_FIELD_NUMBER = 8;
+    private static final class AttributesDefaultEntryHolder {
+      static final com.google.protobuf.MapEntry<
+          java.lang.String, java.lang.String> defaultEntry =
+              com.google.protobuf.MapEntry
+              .<java.lang.String, java.lang.String>newDefaultInstance(
+                  org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataRequest_AttributesEntry_descriptor, 
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "",
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "");
+    }
+    @SuppressWarnings("serial")
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.String> attributes_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetAttributes() {
+      if (attributes_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            AttributesDefaultEntryHolder.defaultEntry);
+      }
+      return attributes_;
+    }
+    public int getAttributesCount() {
+      return internalGetAttributes().getMap().size();
+    }
+    /**
+     * <pre>
+     * The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data that they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 8;</code>
+     */
+    @java.lang.Override
+    public boolean containsAttributes(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      return internalGetAttributes().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getAttributesMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String> getAttributes() {
+      return getAttributesMap();
+    }
+    /**
+     * <pre>
+     * The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data that they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 8;</code>
+     */
+    @java.lang.Override
+    public java.util.Map<java.lang.String, java.lang.String> getAttributesMap() {
+      return internalGetAttributes().getMap();
+    }
+    /**
+     * <pre>
+     * The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data that they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 8;</code>
+     */
+    @java.lang.Override
+    public /* nullable */
+java.lang.String getAttributesOrDefault(
+        java.lang.String key,
+        /* nullable */
+java.lang.String defaultValue) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetAttributes().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <pre>
+     * The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data that they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 8;</code>
+     */
+    @java.lang.Override
+    public java.lang.String getAttributesOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetAttributes().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public static final int PARTITION_FIELD_NUMBER = 9;
+    private org.secretflow.v1alpha1.common.Common.Partition partition_;
+    /**
+     * <pre>
+     * Partition not support now
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+     * @return Whether the partition field is set.
+     */
+    @java.lang.Override
+    public boolean hasPartition() {
+      return partition_ != null;
+    }
+    /**
+     * <pre>
+     * Partition not support now
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+     * @return The partition.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Partition getPartition() {
+      return partition_ == null ? org.secretflow.v1alpha1.common.Common.Partition.getDefaultInstance() : partition_;
+    }
+    /**
+     * <pre>
+     * Partition not support now
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.PartitionOrBuilder getPartitionOrBuilder() {
+      return partition_ == null ? org.secretflow.v1alpha1.common.Common.Partition.getDefaultInstance() : partition_;
+    }
+
+    public static final int COLUMNS_FIELD_NUMBER = 10;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.v1alpha1.common.Common.DataColumn> columns_;
+    /**
+     * <pre>
+     * The columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.v1alpha1.common.Common.DataColumn> getColumnsList() {
+      return columns_;
+    }
+    /**
+     * <pre>
+     * The columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder> 
+        getColumnsOrBuilderList() {
+      return columns_;
+    }
+    /**
+     * <pre>
+     * The columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+     */
+    @java.lang.Override
+    public int getColumnsCount() {
+      return columns_.size();
+    }
+    /**
+     * <pre>
+     * The columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.DataColumn getColumns(int index) {
+      return columns_.get(index);
+    }
+    /**
+     * <pre>
+     * The columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder getColumnsOrBuilder(
+        int index) {
+      return columns_.get(index);
+    }
+
+    public static final int VENDOR_FIELD_NUMBER = 11;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object vendor_ = "";
+    /**
+     * <pre>
+     * The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+     * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+     * </pre>
+     *
+     * <code>string vendor = 11;</code>
+     * @return The vendor.
+     */
+    @java.lang.Override
+    public java.lang.String getVendor() {
+      java.lang.Object ref = vendor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        vendor_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+     * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+     * </pre>
+     *
+     * <code>string vendor = 11;</code>
+     * @return The bytes for vendor.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getVendorBytes() {
+      java.lang.Object ref = vendor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        vendor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domaindataId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, domaindataId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(type_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, type_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(relativeUri_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, relativeUri_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(datasourceId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 7, datasourceId_);
+      }
+      com.google.protobuf.GeneratedMessageV3
+        .serializeStringMapTo(
+          output,
+          internalGetAttributes(),
+          AttributesDefaultEntryHolder.defaultEntry,
+          8);
+      if (partition_ != null) {
+        output.writeMessage(9, getPartition());
+      }
+      for (int i = 0; i < columns_.size(); i++) {
+        output.writeMessage(10, columns_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(vendor_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 11, vendor_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domaindataId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, domaindataId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(type_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, type_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(relativeUri_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, relativeUri_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(datasourceId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, datasourceId_);
+      }
+      for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+           : internalGetAttributes().getMap().entrySet()) {
+        com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+        attributes__ = AttributesDefaultEntryHolder.defaultEntry.newBuilderForType()
+            .setKey(entry.getKey())
+            .setValue(entry.getValue())
+            .build();
+        size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(8, attributes__);
+      }
+      if (partition_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, getPartition());
+      }
+      for (int i = 0; i < columns_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(10, columns_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(vendor_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(11, vendor_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest other = (org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (!getDomaindataId()
+          .equals(other.getDomaindataId())) return false;
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getType()
+          .equals(other.getType())) return false;
+      if (!getRelativeUri()
+          .equals(other.getRelativeUri())) return false;
+      if (!getDomainId()
+          .equals(other.getDomainId())) return false;
+      if (!getDatasourceId()
+          .equals(other.getDatasourceId())) return false;
+      if (!internalGetAttributes().equals(
+          other.internalGetAttributes())) return false;
+      if (hasPartition() != other.hasPartition()) return false;
+      if (hasPartition()) {
+        if (!getPartition()
+            .equals(other.getPartition())) return false;
+      }
+      if (!getColumnsList()
+          .equals(other.getColumnsList())) return false;
+      if (!getVendor()
+          .equals(other.getVendor())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      hash = (37 * hash) + DOMAINDATA_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDomaindataId().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getType().hashCode();
+      hash = (37 * hash) + RELATIVE_URI_FIELD_NUMBER;
+      hash = (53 * hash) + getRelativeUri().hashCode();
+      hash = (37 * hash) + DOMAIN_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDomainId().hashCode();
+      hash = (37 * hash) + DATASOURCE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDatasourceId().hashCode();
+      if (!internalGetAttributes().getMap().isEmpty()) {
+        hash = (37 * hash) + ATTRIBUTES_FIELD_NUMBER;
+        hash = (53 * hash) + internalGetAttributes().hashCode();
+      }
+      if (hasPartition()) {
+        hash = (37 * hash) + PARTITION_FIELD_NUMBER;
+        hash = (53 * hash) + getPartition().hashCode();
+      }
+      if (getColumnsCount() > 0) {
+        hash = (37 * hash) + COLUMNS_FIELD_NUMBER;
+        hash = (53 * hash) + getColumnsList().hashCode();
+      }
+      hash = (37 * hash) + VENDOR_FIELD_NUMBER;
+      hash = (53 * hash) + getVendor().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * UpdateDomainDataRequest : The field would not be updated if the field not set in the UpdateDomainDataRequest
+     * or the field is invalid.
+     * </pre>
+     *
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainDataRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainDataRequest)
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataRequest_descriptor;
+      }
+
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMapField(
+          int number) {
+        switch (number) {
+          case 8:
+            return internalGetAttributes();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMutableMapField(
+          int number) {
+        switch (number) {
+          case 8:
+            return internalGetMutableAttributes();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        domaindataId_ = "";
+        name_ = "";
+        type_ = "";
+        relativeUri_ = "";
+        domainId_ = "";
+        datasourceId_ = "";
+        internalGetMutableAttributes().clear();
+        partition_ = null;
+        if (partitionBuilder_ != null) {
+          partitionBuilder_.dispose();
+          partitionBuilder_ = null;
+        }
+        if (columnsBuilder_ == null) {
+          columns_ = java.util.Collections.emptyList();
+        } else {
+          columns_ = null;
+          columnsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000200);
+        vendor_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest result = new org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest result) {
+        if (columnsBuilder_ == null) {
+          if (((bitField0_ & 0x00000200) != 0)) {
+            columns_ = java.util.Collections.unmodifiableList(columns_);
+            bitField0_ = (bitField0_ & ~0x00000200);
+          }
+          result.columns_ = columns_;
+        } else {
+          result.columns_ = columnsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.domaindataId_ = domaindataId_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.type_ = type_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.relativeUri_ = relativeUri_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.domainId_ = domainId_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.datasourceId_ = datasourceId_;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.attributes_ = internalGetAttributes();
+          result.attributes_.makeImmutable();
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.partition_ = partitionBuilder_ == null
+              ? partition_
+              : partitionBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000400) != 0)) {
+          result.vendor_ = vendor_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (!other.getDomaindataId().isEmpty()) {
+          domaindataId_ = other.domaindataId_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (!other.getType().isEmpty()) {
+          type_ = other.type_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (!other.getRelativeUri().isEmpty()) {
+          relativeUri_ = other.relativeUri_;
+          bitField0_ |= 0x00000010;
+          onChanged();
+        }
+        if (!other.getDomainId().isEmpty()) {
+          domainId_ = other.domainId_;
+          bitField0_ |= 0x00000020;
+          onChanged();
+        }
+        if (!other.getDatasourceId().isEmpty()) {
+          datasourceId_ = other.datasourceId_;
+          bitField0_ |= 0x00000040;
+          onChanged();
+        }
+        internalGetMutableAttributes().mergeFrom(
+            other.internalGetAttributes());
+        bitField0_ |= 0x00000080;
+        if (other.hasPartition()) {
+          mergePartition(other.getPartition());
+        }
+        if (columnsBuilder_ == null) {
+          if (!other.columns_.isEmpty()) {
+            if (columns_.isEmpty()) {
+              columns_ = other.columns_;
+              bitField0_ = (bitField0_ & ~0x00000200);
+            } else {
+              ensureColumnsIsMutable();
+              columns_.addAll(other.columns_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.columns_.isEmpty()) {
+            if (columnsBuilder_.isEmpty()) {
+              columnsBuilder_.dispose();
+              columnsBuilder_ = null;
+              columns_ = other.columns_;
+              bitField0_ = (bitField0_ & ~0x00000200);
+              columnsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getColumnsFieldBuilder() : null;
+            } else {
+              columnsBuilder_.addAllMessages(other.columns_);
+            }
+          }
+        }
+        if (!other.getVendor().isEmpty()) {
+          vendor_ = other.vendor_;
+          bitField0_ |= 0x00000400;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                domaindataId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                type_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                relativeUri_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 50: {
+                domainId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              case 58: {
+                datasourceId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 58
+              case 66: {
+                com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+                attributes__ = input.readMessage(
+                    AttributesDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+                internalGetMutableAttributes().getMutableMap().put(
+                    attributes__.getKey(), attributes__.getValue());
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 66
+              case 74: {
+                input.readMessage(
+                    getPartitionFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 74
+              case 82: {
+                org.secretflow.v1alpha1.common.Common.DataColumn m =
+                    input.readMessage(
+                        org.secretflow.v1alpha1.common.Common.DataColumn.parser(),
+                        extensionRegistry);
+                if (columnsBuilder_ == null) {
+                  ensureColumnsIsMutable();
+                  columns_.add(m);
+                } else {
+                  columnsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 82
+              case 90: {
+                vendor_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000400;
+                break;
+              } // case 90
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private java.lang.Object domaindataId_ = "";
+      /**
+       * <pre>
+       * Mandatory, The domaindata_id indicate which domaindata would be updated.
+       * </pre>
+       *
+       * <code>string domaindata_id = 2;</code>
+       * @return The domaindataId.
+       */
+      public java.lang.String getDomaindataId() {
+        java.lang.Object ref = domaindataId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domaindataId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Mandatory, The domaindata_id indicate which domaindata would be updated.
+       * </pre>
+       *
+       * <code>string domaindata_id = 2;</code>
+       * @return The bytes for domaindataId.
+       */
+      public com.google.protobuf.ByteString
+          getDomaindataIdBytes() {
+        java.lang.Object ref = domaindataId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domaindataId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Mandatory, The domaindata_id indicate which domaindata would be updated.
+       * </pre>
+       *
+       * <code>string domaindata_id = 2;</code>
+       * @param value The domaindataId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomaindataId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domaindataId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Mandatory, The domaindata_id indicate which domaindata would be updated.
+       * </pre>
+       *
+       * <code>string domaindata_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomaindataId() {
+        domaindataId_ = getDefaultInstance().getDomaindataId();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Mandatory, The domaindata_id indicate which domaindata would be updated.
+       * </pre>
+       *
+       * <code>string domaindata_id = 2;</code>
+       * @param value The bytes for domaindataId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomaindataIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domaindataId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * The human-readable name
+       * </pre>
+       *
+       * <code>string name = 3;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The human-readable name
+       * </pre>
+       *
+       * <code>string name = 3;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The human-readable name
+       * </pre>
+       *
+       * <code>string name = 3;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The human-readable name
+       * </pre>
+       *
+       * <code>string name = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The human-readable name
+       * </pre>
+       *
+       * <code>string name = 3;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object type_ = "";
+      /**
+       * <pre>
+       * Enum: table,model,rule,report,unknown
+       * </pre>
+       *
+       * <code>string type = 4;</code>
+       * @return The type.
+       */
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          type_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Enum: table,model,rule,report,unknown
+       * </pre>
+       *
+       * <code>string type = 4;</code>
+       * @return The bytes for type.
+       */
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Enum: table,model,rule,report,unknown
+       * </pre>
+       *
+       * <code>string type = 4;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        type_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Enum: table,model,rule,report,unknown
+       * </pre>
+       *
+       * <code>string type = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        type_ = getDefaultInstance().getType();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Enum: table,model,rule,report,unknown
+       * </pre>
+       *
+       * <code>string type = 4;</code>
+       * @param value The bytes for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        type_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object relativeUri_ = "";
+      /**
+       * <pre>
+       * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+       * e.g. the relative_uri is "train/table.csv"
+       *      the URI of datasource is "/home/data"
+       *      the URI of domaindata is "/home/data/train/table.csv"
+       * </pre>
+       *
+       * <code>string relative_uri = 5;</code>
+       * @return The relativeUri.
+       */
+      public java.lang.String getRelativeUri() {
+        java.lang.Object ref = relativeUri_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          relativeUri_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+       * e.g. the relative_uri is "train/table.csv"
+       *      the URI of datasource is "/home/data"
+       *      the URI of domaindata is "/home/data/train/table.csv"
+       * </pre>
+       *
+       * <code>string relative_uri = 5;</code>
+       * @return The bytes for relativeUri.
+       */
+      public com.google.protobuf.ByteString
+          getRelativeUriBytes() {
+        java.lang.Object ref = relativeUri_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          relativeUri_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+       * e.g. the relative_uri is "train/table.csv"
+       *      the URI of datasource is "/home/data"
+       *      the URI of domaindata is "/home/data/train/table.csv"
+       * </pre>
+       *
+       * <code>string relative_uri = 5;</code>
+       * @param value The relativeUri to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRelativeUri(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        relativeUri_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+       * e.g. the relative_uri is "train/table.csv"
+       *      the URI of datasource is "/home/data"
+       *      the URI of domaindata is "/home/data/train/table.csv"
+       * </pre>
+       *
+       * <code>string relative_uri = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRelativeUri() {
+        relativeUri_ = getDefaultInstance().getRelativeUri();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+       * e.g. the relative_uri is "train/table.csv"
+       *      the URI of datasource is "/home/data"
+       *      the URI of domaindata is "/home/data/train/table.csv"
+       * </pre>
+       *
+       * <code>string relative_uri = 5;</code>
+       * @param value The bytes for relativeUri to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRelativeUriBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        relativeUri_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object domainId_ = "";
+      /**
+       * <pre>
+       * Mandatory, The domain_id indicate which domain's domaindata would be updated.
+       * </pre>
+       *
+       * <code>string domain_id = 6;</code>
+       * @return The domainId.
+       */
+      public java.lang.String getDomainId() {
+        java.lang.Object ref = domainId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domainId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Mandatory, The domain_id indicate which domain's domaindata would be updated.
+       * </pre>
+       *
+       * <code>string domain_id = 6;</code>
+       * @return The bytes for domainId.
+       */
+      public com.google.protobuf.ByteString
+          getDomainIdBytes() {
+        java.lang.Object ref = domainId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domainId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Mandatory, The domain_id indicate which domain's domaindata would be updated.
+       * </pre>
+       *
+       * <code>string domain_id = 6;</code>
+       * @param value The domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domainId_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Mandatory, The domain_id indicate which domain's domaindata would be updated.
+       * </pre>
+       *
+       * <code>string domain_id = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomainId() {
+        domainId_ = getDefaultInstance().getDomainId();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Mandatory, The domain_id indicate which domain's domaindata would be updated.
+       * </pre>
+       *
+       * <code>string domain_id = 6;</code>
+       * @param value The bytes for domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domainId_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object datasourceId_ = "";
+      /**
+       * <pre>
+       * The datasource is where the domain is stored.
+       * </pre>
+       *
+       * <code>string datasource_id = 7;</code>
+       * @return The datasourceId.
+       */
+      public java.lang.String getDatasourceId() {
+        java.lang.Object ref = datasourceId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          datasourceId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The datasource is where the domain is stored.
+       * </pre>
+       *
+       * <code>string datasource_id = 7;</code>
+       * @return The bytes for datasourceId.
+       */
+      public com.google.protobuf.ByteString
+          getDatasourceIdBytes() {
+        java.lang.Object ref = datasourceId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          datasourceId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The datasource is where the domain is stored.
+       * </pre>
+       *
+       * <code>string datasource_id = 7;</code>
+       * @param value The datasourceId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDatasourceId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        datasourceId_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The datasource is where the domain is stored.
+       * </pre>
+       *
+       * <code>string datasource_id = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDatasourceId() {
+        datasourceId_ = getDefaultInstance().getDatasourceId();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The datasource is where the domain is stored.
+       * </pre>
+       *
+       * <code>string datasource_id = 7;</code>
+       * @param value The bytes for datasourceId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDatasourceIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        datasourceId_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.MapField<
+          java.lang.String, java.lang.String> attributes_;
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+          internalGetAttributes() {
+        if (attributes_ == null) {
+          return com.google.protobuf.MapField.emptyMapField(
+              AttributesDefaultEntryHolder.defaultEntry);
+        }
+        return attributes_;
+      }
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+          internalGetMutableAttributes() {
+        if (attributes_ == null) {
+          attributes_ = com.google.protobuf.MapField.newMapField(
+              AttributesDefaultEntryHolder.defaultEntry);
+        }
+        if (!attributes_.isMutable()) {
+          attributes_ = attributes_.copy();
+        }
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return attributes_;
+      }
+      public int getAttributesCount() {
+        return internalGetAttributes().getMap().size();
+      }
+      /**
+       * <pre>
+       * The attributes of the domaindata, this field use as a extra field, User could set
+       * this field to any data that they need.
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; attributes = 8;</code>
+       */
+      @java.lang.Override
+      public boolean containsAttributes(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        return internalGetAttributes().getMap().containsKey(key);
+      }
+      /**
+       * Use {@link #getAttributesMap()} instead.
+       */
+      @java.lang.Override
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String> getAttributes() {
+        return getAttributesMap();
+      }
+      /**
+       * <pre>
+       * The attributes of the domaindata, this field use as a extra field, User could set
+       * this field to any data that they need.
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; attributes = 8;</code>
+       */
+      @java.lang.Override
+      public java.util.Map<java.lang.String, java.lang.String> getAttributesMap() {
+        return internalGetAttributes().getMap();
+      }
+      /**
+       * <pre>
+       * The attributes of the domaindata, this field use as a extra field, User could set
+       * this field to any data that they need.
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; attributes = 8;</code>
+       */
+      @java.lang.Override
+      public /* nullable */
+java.lang.String getAttributesOrDefault(
+          java.lang.String key,
+          /* nullable */
+java.lang.String defaultValue) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetAttributes().getMap();
+        return map.containsKey(key) ? map.get(key) : defaultValue;
+      }
+      /**
+       * <pre>
+       * The attributes of the domaindata, this field use as a extra field, User could set
+       * this field to any data that they need.
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; attributes = 8;</code>
+       */
+      @java.lang.Override
+      public java.lang.String getAttributesOrThrow(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetAttributes().getMap();
+        if (!map.containsKey(key)) {
+          throw new java.lang.IllegalArgumentException();
+        }
+        return map.get(key);
+      }
+      public Builder clearAttributes() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        internalGetMutableAttributes().getMutableMap()
+            .clear();
+        return this;
+      }
+      /**
+       * <pre>
+       * The attributes of the domaindata, this field use as a extra field, User could set
+       * this field to any data that they need.
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; attributes = 8;</code>
+       */
+      public Builder removeAttributes(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        internalGetMutableAttributes().getMutableMap()
+            .remove(key);
+        return this;
+      }
+      /**
+       * Use alternate mutation accessors instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String>
+          getMutableAttributes() {
+        bitField0_ |= 0x00000080;
+        return internalGetMutableAttributes().getMutableMap();
+      }
+      /**
+       * <pre>
+       * The attributes of the domaindata, this field use as a extra field, User could set
+       * this field to any data that they need.
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; attributes = 8;</code>
+       */
+      public Builder putAttributes(
+          java.lang.String key,
+          java.lang.String value) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        if (value == null) { throw new NullPointerException("map value"); }
+        internalGetMutableAttributes().getMutableMap()
+            .put(key, value);
+        bitField0_ |= 0x00000080;
+        return this;
+      }
+      /**
+       * <pre>
+       * The attributes of the domaindata, this field use as a extra field, User could set
+       * this field to any data that they need.
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; attributes = 8;</code>
+       */
+      public Builder putAllAttributes(
+          java.util.Map<java.lang.String, java.lang.String> values) {
+        internalGetMutableAttributes().getMutableMap()
+            .putAll(values);
+        bitField0_ |= 0x00000080;
+        return this;
+      }
+
+      private org.secretflow.v1alpha1.common.Common.Partition partition_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Partition, org.secretflow.v1alpha1.common.Common.Partition.Builder, org.secretflow.v1alpha1.common.Common.PartitionOrBuilder> partitionBuilder_;
+      /**
+       * <pre>
+       * Partition not support now
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+       * @return Whether the partition field is set.
+       */
+      public boolean hasPartition() {
+        return ((bitField0_ & 0x00000100) != 0);
+      }
+      /**
+       * <pre>
+       * Partition not support now
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+       * @return The partition.
+       */
+      public org.secretflow.v1alpha1.common.Common.Partition getPartition() {
+        if (partitionBuilder_ == null) {
+          return partition_ == null ? org.secretflow.v1alpha1.common.Common.Partition.getDefaultInstance() : partition_;
+        } else {
+          return partitionBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * Partition not support now
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+       */
+      public Builder setPartition(org.secretflow.v1alpha1.common.Common.Partition value) {
+        if (partitionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          partition_ = value;
+        } else {
+          partitionBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Partition not support now
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+       */
+      public Builder setPartition(
+          org.secretflow.v1alpha1.common.Common.Partition.Builder builderForValue) {
+        if (partitionBuilder_ == null) {
+          partition_ = builderForValue.build();
+        } else {
+          partitionBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Partition not support now
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+       */
+      public Builder mergePartition(org.secretflow.v1alpha1.common.Common.Partition value) {
+        if (partitionBuilder_ == null) {
+          if (((bitField0_ & 0x00000100) != 0) &&
+            partition_ != null &&
+            partition_ != org.secretflow.v1alpha1.common.Common.Partition.getDefaultInstance()) {
+            getPartitionBuilder().mergeFrom(value);
+          } else {
+            partition_ = value;
+          }
+        } else {
+          partitionBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Partition not support now
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+       */
+      public Builder clearPartition() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        partition_ = null;
+        if (partitionBuilder_ != null) {
+          partitionBuilder_.dispose();
+          partitionBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Partition not support now
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Partition.Builder getPartitionBuilder() {
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return getPartitionFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Partition not support now
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.PartitionOrBuilder getPartitionOrBuilder() {
+        if (partitionBuilder_ != null) {
+          return partitionBuilder_.getMessageOrBuilder();
+        } else {
+          return partition_ == null ?
+              org.secretflow.v1alpha1.common.Common.Partition.getDefaultInstance() : partition_;
+        }
+      }
+      /**
+       * <pre>
+       * Partition not support now
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 9;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Partition, org.secretflow.v1alpha1.common.Common.Partition.Builder, org.secretflow.v1alpha1.common.Common.PartitionOrBuilder> 
+          getPartitionFieldBuilder() {
+        if (partitionBuilder_ == null) {
+          partitionBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Partition, org.secretflow.v1alpha1.common.Common.Partition.Builder, org.secretflow.v1alpha1.common.Common.PartitionOrBuilder>(
+                  getPartition(),
+                  getParentForChildren(),
+                  isClean());
+          partition_ = null;
+        }
+        return partitionBuilder_;
+      }
+
+      private java.util.List<org.secretflow.v1alpha1.common.Common.DataColumn> columns_ =
+        java.util.Collections.emptyList();
+      private void ensureColumnsIsMutable() {
+        if (!((bitField0_ & 0x00000200) != 0)) {
+          columns_ = new java.util.ArrayList<org.secretflow.v1alpha1.common.Common.DataColumn>(columns_);
+          bitField0_ |= 0x00000200;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.DataColumn, org.secretflow.v1alpha1.common.Common.DataColumn.Builder, org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder> columnsBuilder_;
+
+      /**
+       * <pre>
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.common.Common.DataColumn> getColumnsList() {
+        if (columnsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(columns_);
+        } else {
+          return columnsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public int getColumnsCount() {
+        if (columnsBuilder_ == null) {
+          return columns_.size();
+        } else {
+          return columnsBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.DataColumn getColumns(int index) {
+        if (columnsBuilder_ == null) {
+          return columns_.get(index);
+        } else {
+          return columnsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public Builder setColumns(
+          int index, org.secretflow.v1alpha1.common.Common.DataColumn value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.set(index, value);
+          onChanged();
+        } else {
+          columnsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public Builder setColumns(
+          int index, org.secretflow.v1alpha1.common.Common.DataColumn.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public Builder addColumns(org.secretflow.v1alpha1.common.Common.DataColumn value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.add(value);
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public Builder addColumns(
+          int index, org.secretflow.v1alpha1.common.Common.DataColumn value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.add(index, value);
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public Builder addColumns(
+          org.secretflow.v1alpha1.common.Common.DataColumn.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.add(builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public Builder addColumns(
+          int index, org.secretflow.v1alpha1.common.Common.DataColumn.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public Builder addAllColumns(
+          java.lang.Iterable<? extends org.secretflow.v1alpha1.common.Common.DataColumn> values) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, columns_);
+          onChanged();
+        } else {
+          columnsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public Builder clearColumns() {
+        if (columnsBuilder_ == null) {
+          columns_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000200);
+          onChanged();
+        } else {
+          columnsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public Builder removeColumns(int index) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.remove(index);
+          onChanged();
+        } else {
+          columnsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.DataColumn.Builder getColumnsBuilder(
+          int index) {
+        return getColumnsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder getColumnsOrBuilder(
+          int index) {
+        if (columnsBuilder_ == null) {
+          return columns_.get(index);  } else {
+          return columnsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public java.util.List<? extends org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder> 
+           getColumnsOrBuilderList() {
+        if (columnsBuilder_ != null) {
+          return columnsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(columns_);
+        }
+      }
+      /**
+       * <pre>
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.DataColumn.Builder addColumnsBuilder() {
+        return getColumnsFieldBuilder().addBuilder(
+            org.secretflow.v1alpha1.common.Common.DataColumn.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.DataColumn.Builder addColumnsBuilder(
+          int index) {
+        return getColumnsFieldBuilder().addBuilder(
+            index, org.secretflow.v1alpha1.common.Common.DataColumn.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 10;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.common.Common.DataColumn.Builder> 
+           getColumnsBuilderList() {
+        return getColumnsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.DataColumn, org.secretflow.v1alpha1.common.Common.DataColumn.Builder, org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder> 
+          getColumnsFieldBuilder() {
+        if (columnsBuilder_ == null) {
+          columnsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.DataColumn, org.secretflow.v1alpha1.common.Common.DataColumn.Builder, org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder>(
+                  columns_,
+                  ((bitField0_ & 0x00000200) != 0),
+                  getParentForChildren(),
+                  isClean());
+          columns_ = null;
+        }
+        return columnsBuilder_;
+      }
+
+      private java.lang.Object vendor_ = "";
+      /**
+       * <pre>
+       * The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+       * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+       * </pre>
+       *
+       * <code>string vendor = 11;</code>
+       * @return The vendor.
+       */
+      public java.lang.String getVendor() {
+        java.lang.Object ref = vendor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          vendor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+       * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+       * </pre>
+       *
+       * <code>string vendor = 11;</code>
+       * @return The bytes for vendor.
+       */
+      public com.google.protobuf.ByteString
+          getVendorBytes() {
+        java.lang.Object ref = vendor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          vendor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+       * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+       * </pre>
+       *
+       * <code>string vendor = 11;</code>
+       * @param value The vendor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVendor(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        vendor_ = value;
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+       * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+       * </pre>
+       *
+       * <code>string vendor = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVendor() {
+        vendor_ = getDefaultInstance().getVendor();
+        bitField0_ = (bitField0_ & ~0x00000400);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+       * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+       * </pre>
+       *
+       * <code>string vendor = 11;</code>
+       * @param value The bytes for vendor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVendorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        vendor_ = value;
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainDataRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainDataRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<UpdateDomainDataRequest>
+        PARSER = new com.google.protobuf.AbstractParser<UpdateDomainDataRequest>() {
+      @java.lang.Override
+      public UpdateDomainDataRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<UpdateDomainDataRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<UpdateDomainDataRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface UpdateDomainDataResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainDataResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainDataResponse}
+   */
+  public static final class UpdateDomainDataResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainDataResponse)
+      UpdateDomainDataResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use UpdateDomainDataResponse.newBuilder() to construct.
+    private UpdateDomainDataResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private UpdateDomainDataResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new UpdateDomainDataResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse other = (org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainDataResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainDataResponse)
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse result = new org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainDataResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainDataResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<UpdateDomainDataResponse>
+        PARSER = new com.google.protobuf.AbstractParser<UpdateDomainDataResponse>() {
+      @java.lang.Override
+      public UpdateDomainDataResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<UpdateDomainDataResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<UpdateDomainDataResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.UpdateDomainDataResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DeleteDomainDataRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainDataRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <pre>
+     * domaindata id
+     * </pre>
+     *
+     * <code>string domain_id = 2;</code>
+     * @return The domainId.
+     */
+    java.lang.String getDomainId();
+    /**
+     * <pre>
+     * domaindata id
+     * </pre>
+     *
+     * <code>string domain_id = 2;</code>
+     * @return The bytes for domainId.
+     */
+    com.google.protobuf.ByteString
+        getDomainIdBytes();
+
+    /**
+     * <code>string domaindata_id = 3;</code>
+     * @return The domaindataId.
+     */
+    java.lang.String getDomaindataId();
+    /**
+     * <code>string domaindata_id = 3;</code>
+     * @return The bytes for domaindataId.
+     */
+    com.google.protobuf.ByteString
+        getDomaindataIdBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainDataRequest}
+   */
+  public static final class DeleteDomainDataRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainDataRequest)
+      DeleteDomainDataRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DeleteDomainDataRequest.newBuilder() to construct.
+    private DeleteDomainDataRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DeleteDomainDataRequest() {
+      domainId_ = "";
+      domaindataId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DeleteDomainDataRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainDataRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainDataRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    public static final int DOMAIN_ID_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domainId_ = "";
+    /**
+     * <pre>
+     * domaindata id
+     * </pre>
+     *
+     * <code>string domain_id = 2;</code>
+     * @return The domainId.
+     */
+    @java.lang.Override
+    public java.lang.String getDomainId() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domainId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * domaindata id
+     * </pre>
+     *
+     * <code>string domain_id = 2;</code>
+     * @return The bytes for domainId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomainIdBytes() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domainId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DOMAINDATA_ID_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domaindataId_ = "";
+    /**
+     * <code>string domaindata_id = 3;</code>
+     * @return The domaindataId.
+     */
+    @java.lang.Override
+    public java.lang.String getDomaindataId() {
+      java.lang.Object ref = domaindataId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domaindataId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string domaindata_id = 3;</code>
+     * @return The bytes for domaindataId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomaindataIdBytes() {
+      java.lang.Object ref = domaindataId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domaindataId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domaindataId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, domaindataId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domaindataId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, domaindataId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest other = (org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (!getDomainId()
+          .equals(other.getDomainId())) return false;
+      if (!getDomaindataId()
+          .equals(other.getDomaindataId())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      hash = (37 * hash) + DOMAIN_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDomainId().hashCode();
+      hash = (37 * hash) + DOMAINDATA_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDomaindataId().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainDataRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainDataRequest)
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainDataRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainDataRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        domainId_ = "";
+        domaindataId_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainDataRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest result = new org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.domainId_ = domainId_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.domaindataId_ = domaindataId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (!other.getDomainId().isEmpty()) {
+          domainId_ = other.domainId_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getDomaindataId().isEmpty()) {
+          domaindataId_ = other.domaindataId_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                domainId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                domaindataId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private java.lang.Object domainId_ = "";
+      /**
+       * <pre>
+       * domaindata id
+       * </pre>
+       *
+       * <code>string domain_id = 2;</code>
+       * @return The domainId.
+       */
+      public java.lang.String getDomainId() {
+        java.lang.Object ref = domainId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domainId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * domaindata id
+       * </pre>
+       *
+       * <code>string domain_id = 2;</code>
+       * @return The bytes for domainId.
+       */
+      public com.google.protobuf.ByteString
+          getDomainIdBytes() {
+        java.lang.Object ref = domainId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domainId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * domaindata id
+       * </pre>
+       *
+       * <code>string domain_id = 2;</code>
+       * @param value The domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domainId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * domaindata id
+       * </pre>
+       *
+       * <code>string domain_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomainId() {
+        domainId_ = getDefaultInstance().getDomainId();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * domaindata id
+       * </pre>
+       *
+       * <code>string domain_id = 2;</code>
+       * @param value The bytes for domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domainId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object domaindataId_ = "";
+      /**
+       * <code>string domaindata_id = 3;</code>
+       * @return The domaindataId.
+       */
+      public java.lang.String getDomaindataId() {
+        java.lang.Object ref = domaindataId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domaindataId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string domaindata_id = 3;</code>
+       * @return The bytes for domaindataId.
+       */
+      public com.google.protobuf.ByteString
+          getDomaindataIdBytes() {
+        java.lang.Object ref = domaindataId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domaindataId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string domaindata_id = 3;</code>
+       * @param value The domaindataId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomaindataId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domaindataId_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domaindata_id = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomaindataId() {
+        domaindataId_ = getDefaultInstance().getDomaindataId();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domaindata_id = 3;</code>
+       * @param value The bytes for domaindataId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomaindataIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domaindataId_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainDataRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainDataRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DeleteDomainDataRequest>
+        PARSER = new com.google.protobuf.AbstractParser<DeleteDomainDataRequest>() {
+      @java.lang.Override
+      public DeleteDomainDataRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeleteDomainDataRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeleteDomainDataRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DeleteDomainDataResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainDataResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainDataResponse}
+   */
+  public static final class DeleteDomainDataResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainDataResponse)
+      DeleteDomainDataResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DeleteDomainDataResponse.newBuilder() to construct.
+    private DeleteDomainDataResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DeleteDomainDataResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DeleteDomainDataResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainDataResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainDataResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse other = (org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainDataResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainDataResponse)
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainDataResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainDataResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainDataResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse result = new org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainDataResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainDataResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DeleteDomainDataResponse>
+        PARSER = new com.google.protobuf.AbstractParser<DeleteDomainDataResponse>() {
+      @java.lang.Override
+      public DeleteDomainDataResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeleteDomainDataResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeleteDomainDataResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.DeleteDomainDataResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QueryDomainDataRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    boolean hasData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+     * @return The data.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData getData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestDataOrBuilder getDataOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequest}
+   */
+  public static final class QueryDomainDataRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequest)
+      QueryDomainDataRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use QueryDomainDataRequest.newBuilder() to construct.
+    private QueryDomainDataRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private QueryDomainDataRequest() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new QueryDomainDataRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    private org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData data_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    @java.lang.Override
+    public boolean hasData() {
+      return data_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData getData() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.getDefaultInstance() : data_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestDataOrBuilder getDataOrBuilder() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.getDefaultInstance() : data_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      if (data_ != null) {
+        output.writeMessage(2, getData());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      if (data_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getData());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest other = (org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (hasData() != other.hasData()) return false;
+      if (hasData()) {
+        if (!getData()
+            .equals(other.getData())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequest)
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest result = new org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.data_ = dataBuilder_ == null
+              ? data_
+              : dataBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (other.hasData()) {
+          mergeData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getDataFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData data_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestDataOrBuilder> dataBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       * @return Whether the data field is set.
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       * @return The data.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData getData() {
+        if (dataBuilder_ == null) {
+          return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.getDefaultInstance() : data_;
+        } else {
+          return dataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public Builder setData(org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          data_ = value;
+        } else {
+          dataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public Builder setData(
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
+        } else {
+          dataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public Builder mergeData(org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData value) {
+        if (dataBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            data_ != null &&
+            data_ != org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.getDefaultInstance()) {
+            getDataBuilder().mergeFrom(value);
+          } else {
+            data_ = value;
+          }
+        } else {
+          dataBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.Builder getDataBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestDataOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
+        } else {
+          return data_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.getDefaultInstance() : data_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestDataOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestDataOrBuilder>(
+                  getData(),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<QueryDomainDataRequest>
+        PARSER = new com.google.protobuf.AbstractParser<QueryDomainDataRequest>() {
+      @java.lang.Override
+      public QueryDomainDataRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<QueryDomainDataRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<QueryDomainDataRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QueryDomainDataResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    boolean hasData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainData data = 2;</code>
+     * @return The data.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData getData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainData data = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataOrBuilder getDataOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataResponse}
+   */
+  public static final class QueryDomainDataResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataResponse)
+      QueryDomainDataResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use QueryDomainDataResponse.newBuilder() to construct.
+    private QueryDomainDataResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private QueryDomainDataResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new QueryDomainDataResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    private org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData data_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    @java.lang.Override
+    public boolean hasData() {
+      return data_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainData data = 2;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData getData() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.getDefaultInstance() : data_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainData data = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataOrBuilder getDataOrBuilder() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.getDefaultInstance() : data_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      if (data_ != null) {
+        output.writeMessage(2, getData());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      if (data_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getData());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse other = (org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (hasData() != other.hasData()) return false;
+      if (hasData()) {
+        if (!getData()
+            .equals(other.getData())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataResponse)
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse result = new org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.data_ = dataBuilder_ == null
+              ? data_
+              : dataBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        if (other.hasData()) {
+          mergeData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getDataFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData data_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataOrBuilder> dataBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainData data = 2;</code>
+       * @return Whether the data field is set.
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainData data = 2;</code>
+       * @return The data.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData getData() {
+        if (dataBuilder_ == null) {
+          return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.getDefaultInstance() : data_;
+        } else {
+          return dataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainData data = 2;</code>
+       */
+      public Builder setData(org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          data_ = value;
+        } else {
+          dataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainData data = 2;</code>
+       */
+      public Builder setData(
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
+        } else {
+          dataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainData data = 2;</code>
+       */
+      public Builder mergeData(org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData value) {
+        if (dataBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            data_ != null &&
+            data_ != org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.getDefaultInstance()) {
+            getDataBuilder().mergeFrom(value);
+          } else {
+            data_ = value;
+          }
+        } else {
+          dataBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainData data = 2;</code>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.Builder getDataBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
+        } else {
+          return data_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.getDefaultInstance() : data_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainData data = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataOrBuilder>(
+                  getData(),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<QueryDomainDataResponse>
+        PARSER = new com.google.protobuf.AbstractParser<QueryDomainDataResponse>() {
+      @java.lang.Override
+      public QueryDomainDataResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<QueryDomainDataResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<QueryDomainDataResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QueryDomainDataRequestDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string domain_id = 1;</code>
+     * @return The domainId.
+     */
+    java.lang.String getDomainId();
+    /**
+     * <code>string domain_id = 1;</code>
+     * @return The bytes for domainId.
+     */
+    com.google.protobuf.ByteString
+        getDomainIdBytes();
+
+    /**
+     * <code>string domaindata_id = 2;</code>
+     * @return The domaindataId.
+     */
+    java.lang.String getDomaindataId();
+    /**
+     * <code>string domaindata_id = 2;</code>
+     * @return The bytes for domaindataId.
+     */
+    com.google.protobuf.ByteString
+        getDomaindataIdBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData}
+   */
+  public static final class QueryDomainDataRequestData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData)
+      QueryDomainDataRequestDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use QueryDomainDataRequestData.newBuilder() to construct.
+    private QueryDomainDataRequestData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private QueryDomainDataRequestData() {
+      domainId_ = "";
+      domaindataId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new QueryDomainDataRequestData();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataRequestData_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataRequestData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.Builder.class);
+    }
+
+    public static final int DOMAIN_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domainId_ = "";
+    /**
+     * <code>string domain_id = 1;</code>
+     * @return The domainId.
+     */
+    @java.lang.Override
+    public java.lang.String getDomainId() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domainId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string domain_id = 1;</code>
+     * @return The bytes for domainId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomainIdBytes() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domainId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DOMAINDATA_ID_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domaindataId_ = "";
+    /**
+     * <code>string domaindata_id = 2;</code>
+     * @return The domaindataId.
+     */
+    @java.lang.Override
+    public java.lang.String getDomaindataId() {
+      java.lang.Object ref = domaindataId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domaindataId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string domaindata_id = 2;</code>
+     * @return The bytes for domaindataId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomaindataIdBytes() {
+      java.lang.Object ref = domaindataId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domaindataId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domaindataId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, domaindataId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domaindataId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, domaindataId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData other = (org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData) obj;
+
+      if (!getDomainId()
+          .equals(other.getDomainId())) return false;
+      if (!getDomaindataId()
+          .equals(other.getDomaindataId())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DOMAIN_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDomainId().hashCode();
+      hash = (37 * hash) + DOMAINDATA_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDomaindataId().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData)
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataRequestData_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataRequestData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        domainId_ = "";
+        domaindataId_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataRequestData_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData build() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData result = new org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.domainId_ = domainId_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.domaindataId_ = domaindataId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.getDefaultInstance()) return this;
+        if (!other.getDomainId().isEmpty()) {
+          domainId_ = other.domainId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getDomaindataId().isEmpty()) {
+          domaindataId_ = other.domaindataId_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                domainId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                domaindataId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object domainId_ = "";
+      /**
+       * <code>string domain_id = 1;</code>
+       * @return The domainId.
+       */
+      public java.lang.String getDomainId() {
+        java.lang.Object ref = domainId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domainId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string domain_id = 1;</code>
+       * @return The bytes for domainId.
+       */
+      public com.google.protobuf.ByteString
+          getDomainIdBytes() {
+        java.lang.Object ref = domainId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domainId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string domain_id = 1;</code>
+       * @param value The domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domainId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domain_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomainId() {
+        domainId_ = getDefaultInstance().getDomainId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domain_id = 1;</code>
+       * @param value The bytes for domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domainId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object domaindataId_ = "";
+      /**
+       * <code>string domaindata_id = 2;</code>
+       * @return The domaindataId.
+       */
+      public java.lang.String getDomaindataId() {
+        java.lang.Object ref = domaindataId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domaindataId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string domaindata_id = 2;</code>
+       * @return The bytes for domaindataId.
+       */
+      public com.google.protobuf.ByteString
+          getDomaindataIdBytes() {
+        java.lang.Object ref = domaindataId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domaindataId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string domaindata_id = 2;</code>
+       * @param value The domaindataId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomaindataId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domaindataId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domaindata_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomaindataId() {
+        domaindataId_ = getDefaultInstance().getDomaindataId();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domaindata_id = 2;</code>
+       * @param value The bytes for domaindataId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomaindataIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domaindataId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<QueryDomainDataRequestData>
+        PARSER = new com.google.protobuf.AbstractParser<QueryDomainDataRequestData>() {
+      @java.lang.Override
+      public QueryDomainDataRequestData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<QueryDomainDataRequestData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<QueryDomainDataRequestData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchQueryDomainDataRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainDataRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+     */
+    java.util.List<org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData> 
+        getDataList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData getData(int index);
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+     */
+    int getDataCount();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+     */
+    java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestDataOrBuilder> 
+        getDataOrBuilderList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestDataOrBuilder getDataOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainDataRequest}
+   */
+  public static final class BatchQueryDomainDataRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainDataRequest)
+      BatchQueryDomainDataRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchQueryDomainDataRequest.newBuilder() to construct.
+    private BatchQueryDomainDataRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchQueryDomainDataRequest() {
+      data_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchQueryDomainDataRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainDataRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainDataRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData> data_;
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData> getDataList() {
+      return data_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestDataOrBuilder> 
+        getDataOrBuilderList() {
+      return data_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+     */
+    @java.lang.Override
+    public int getDataCount() {
+      return data_.size();
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData getData(int index) {
+      return data_.get(index);
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestDataOrBuilder getDataOrBuilder(
+        int index) {
+      return data_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      for (int i = 0; i < data_.size(); i++) {
+        output.writeMessage(2, data_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      for (int i = 0; i < data_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, data_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest other = (org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (!getDataList()
+          .equals(other.getDataList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      if (getDataCount() > 0) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getDataList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainDataRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainDataRequest)
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainDataRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainDataRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        if (dataBuilder_ == null) {
+          data_ = java.util.Collections.emptyList();
+        } else {
+          data_ = null;
+          dataBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainDataRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest result = new org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest result) {
+        if (dataBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            data_ = java.util.Collections.unmodifiableList(data_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.data_ = data_;
+        } else {
+          result.data_ = dataBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (dataBuilder_ == null) {
+          if (!other.data_.isEmpty()) {
+            if (data_.isEmpty()) {
+              data_ = other.data_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureDataIsMutable();
+              data_.addAll(other.data_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.data_.isEmpty()) {
+            if (dataBuilder_.isEmpty()) {
+              dataBuilder_.dispose();
+              dataBuilder_ = null;
+              data_ = other.data_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              dataBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getDataFieldBuilder() : null;
+            } else {
+              dataBuilder_.addAllMessages(other.data_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData m =
+                    input.readMessage(
+                        org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.parser(),
+                        extensionRegistry);
+                if (dataBuilder_ == null) {
+                  ensureDataIsMutable();
+                  data_.add(m);
+                } else {
+                  dataBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private java.util.List<org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData> data_ =
+        java.util.Collections.emptyList();
+      private void ensureDataIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          data_ = new java.util.ArrayList<org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData>(data_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestDataOrBuilder> dataBuilder_;
+
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData> getDataList() {
+        if (dataBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(data_);
+        } else {
+          return dataBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public int getDataCount() {
+        if (dataBuilder_ == null) {
+          return data_.size();
+        } else {
+          return dataBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData getData(int index) {
+        if (dataBuilder_ == null) {
+          return data_.get(index);
+        } else {
+          return dataBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public Builder setData(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDataIsMutable();
+          data_.set(index, value);
+          onChanged();
+        } else {
+          dataBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public Builder setData(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          ensureDataIsMutable();
+          data_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          dataBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public Builder addData(org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDataIsMutable();
+          data_.add(value);
+          onChanged();
+        } else {
+          dataBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public Builder addData(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDataIsMutable();
+          data_.add(index, value);
+          onChanged();
+        } else {
+          dataBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public Builder addData(
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          ensureDataIsMutable();
+          data_.add(builderForValue.build());
+          onChanged();
+        } else {
+          dataBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public Builder addData(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          ensureDataIsMutable();
+          data_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          dataBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public Builder addAllData(
+          java.lang.Iterable<? extends org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData> values) {
+        if (dataBuilder_ == null) {
+          ensureDataIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, data_);
+          onChanged();
+        } else {
+          dataBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public Builder clearData() {
+        if (dataBuilder_ == null) {
+          data_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          dataBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public Builder removeData(int index) {
+        if (dataBuilder_ == null) {
+          ensureDataIsMutable();
+          data_.remove(index);
+          onChanged();
+        } else {
+          dataBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.Builder getDataBuilder(
+          int index) {
+        return getDataFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestDataOrBuilder getDataOrBuilder(
+          int index) {
+        if (dataBuilder_ == null) {
+          return data_.get(index);  } else {
+          return dataBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestDataOrBuilder> 
+           getDataOrBuilderList() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(data_);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.Builder addDataBuilder() {
+        return getDataFieldBuilder().addBuilder(
+            org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.Builder addDataBuilder(
+          int index) {
+        return getDataFieldBuilder().addBuilder(
+            index, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainDataRequestData data = 2;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.Builder> 
+           getDataBuilderList() {
+        return getDataFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestDataOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestData.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.QueryDomainDataRequestDataOrBuilder>(
+                  data_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainDataRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainDataRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchQueryDomainDataRequest>
+        PARSER = new com.google.protobuf.AbstractParser<BatchQueryDomainDataRequest>() {
+      @java.lang.Override
+      public BatchQueryDomainDataRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchQueryDomainDataRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchQueryDomainDataRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchQueryDomainDataResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainDataResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    boolean hasData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+     * @return The data.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList getData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataListOrBuilder getDataOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainDataResponse}
+   */
+  public static final class BatchQueryDomainDataResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainDataResponse)
+      BatchQueryDomainDataResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchQueryDomainDataResponse.newBuilder() to construct.
+    private BatchQueryDomainDataResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchQueryDomainDataResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchQueryDomainDataResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainDataResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainDataResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    private org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList data_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    @java.lang.Override
+    public boolean hasData() {
+      return data_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList getData() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.getDefaultInstance() : data_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataListOrBuilder getDataOrBuilder() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.getDefaultInstance() : data_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      if (data_ != null) {
+        output.writeMessage(2, getData());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      if (data_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getData());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse other = (org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (hasData() != other.hasData()) return false;
+      if (hasData()) {
+        if (!getData()
+            .equals(other.getData())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainDataResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainDataResponse)
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainDataResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainDataResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainDataResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse result = new org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.data_ = dataBuilder_ == null
+              ? data_
+              : dataBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        if (other.hasData()) {
+          mergeData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getDataFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList data_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataListOrBuilder> dataBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+       * @return Whether the data field is set.
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+       * @return The data.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList getData() {
+        if (dataBuilder_ == null) {
+          return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.getDefaultInstance() : data_;
+        } else {
+          return dataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+       */
+      public Builder setData(org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          data_ = value;
+        } else {
+          dataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+       */
+      public Builder setData(
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
+        } else {
+          dataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+       */
+      public Builder mergeData(org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList value) {
+        if (dataBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            data_ != null &&
+            data_ != org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.getDefaultInstance()) {
+            getDataBuilder().mergeFrom(value);
+          } else {
+            data_ = value;
+          }
+        } else {
+          dataBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.Builder getDataBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataListOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
+        } else {
+          return data_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.getDefaultInstance() : data_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataListOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataListOrBuilder>(
+                  getData(),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainDataResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainDataResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchQueryDomainDataResponse>
+        PARSER = new com.google.protobuf.AbstractParser<BatchQueryDomainDataResponse>() {
+      @java.lang.Override
+      public BatchQueryDomainDataResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchQueryDomainDataResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchQueryDomainDataResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.BatchQueryDomainDataResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ListDomainDataRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    boolean hasData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData data = 2;</code>
+     * @return The data.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData getData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData data = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestDataOrBuilder getDataOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequest}
+   */
+  public static final class ListDomainDataRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequest)
+      ListDomainDataRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ListDomainDataRequest.newBuilder() to construct.
+    private ListDomainDataRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ListDomainDataRequest() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ListDomainDataRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    private org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData data_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    @java.lang.Override
+    public boolean hasData() {
+      return data_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData data = 2;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData getData() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData.getDefaultInstance() : data_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData data = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestDataOrBuilder getDataOrBuilder() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData.getDefaultInstance() : data_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      if (data_ != null) {
+        output.writeMessage(2, getData());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      if (data_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getData());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest other = (org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (hasData() != other.hasData()) return false;
+      if (hasData()) {
+        if (!getData()
+            .equals(other.getData())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequest)
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest result = new org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.data_ = dataBuilder_ == null
+              ? data_
+              : dataBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (other.hasData()) {
+          mergeData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getDataFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData data_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData, org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestDataOrBuilder> dataBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData data = 2;</code>
+       * @return Whether the data field is set.
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData data = 2;</code>
+       * @return The data.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData getData() {
+        if (dataBuilder_ == null) {
+          return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData.getDefaultInstance() : data_;
+        } else {
+          return dataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData data = 2;</code>
+       */
+      public Builder setData(org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          data_ = value;
+        } else {
+          dataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData data = 2;</code>
+       */
+      public Builder setData(
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
+        } else {
+          dataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData data = 2;</code>
+       */
+      public Builder mergeData(org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData value) {
+        if (dataBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            data_ != null &&
+            data_ != org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData.getDefaultInstance()) {
+            getDataBuilder().mergeFrom(value);
+          } else {
+            data_ = value;
+          }
+        } else {
+          dataBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData data = 2;</code>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData.Builder getDataBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestDataOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
+        } else {
+          return data_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData.getDefaultInstance() : data_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData data = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData, org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestDataOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData, org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestDataOrBuilder>(
+                  getData(),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ListDomainDataRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ListDomainDataRequest>() {
+      @java.lang.Override
+      public ListDomainDataRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ListDomainDataRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ListDomainDataRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ListDomainDataResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    boolean hasData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+     * @return The data.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList getData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataListOrBuilder getDataOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataResponse}
+   */
+  public static final class ListDomainDataResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataResponse)
+      ListDomainDataResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ListDomainDataResponse.newBuilder() to construct.
+    private ListDomainDataResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ListDomainDataResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ListDomainDataResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    private org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList data_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    @java.lang.Override
+    public boolean hasData() {
+      return data_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList getData() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.getDefaultInstance() : data_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataListOrBuilder getDataOrBuilder() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.getDefaultInstance() : data_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      if (data_ != null) {
+        output.writeMessage(2, getData());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      if (data_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getData());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse other = (org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (hasData() != other.hasData()) return false;
+      if (hasData()) {
+        if (!getData()
+            .equals(other.getData())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataResponse)
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse result = new org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.data_ = dataBuilder_ == null
+              ? data_
+              : dataBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        if (other.hasData()) {
+          mergeData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getDataFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList data_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataListOrBuilder> dataBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+       * @return Whether the data field is set.
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+       * @return The data.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList getData() {
+        if (dataBuilder_ == null) {
+          return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.getDefaultInstance() : data_;
+        } else {
+          return dataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+       */
+      public Builder setData(org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          data_ = value;
+        } else {
+          dataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+       */
+      public Builder setData(
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
+        } else {
+          dataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+       */
+      public Builder mergeData(org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList value) {
+        if (dataBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            data_ != null &&
+            data_ != org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.getDefaultInstance()) {
+            getDataBuilder().mergeFrom(value);
+          } else {
+            data_ = value;
+          }
+        } else {
+          dataBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.Builder getDataBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataListOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
+        } else {
+          return data_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.getDefaultInstance() : data_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList data = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataListOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataListOrBuilder>(
+                  getData(),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ListDomainDataResponse>
+        PARSER = new com.google.protobuf.AbstractParser<ListDomainDataResponse>() {
+      @java.lang.Override
+      public ListDomainDataResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ListDomainDataResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ListDomainDataResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ListDomainDataRequestDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * couldn't be empty
+     * </pre>
+     *
+     * <code>string domain_id = 1;</code>
+     * @return The domainId.
+     */
+    java.lang.String getDomainId();
+    /**
+     * <pre>
+     * couldn't be empty
+     * </pre>
+     *
+     * <code>string domain_id = 1;</code>
+     * @return The bytes for domainId.
+     */
+    com.google.protobuf.ByteString
+        getDomainIdBytes();
+
+    /**
+     * <pre>
+     * Optional, The domaindata_type would be use as the filter condition to list the domaindata.
+     * </pre>
+     *
+     * <code>string domaindata_type = 2;</code>
+     * @return The domaindataType.
+     */
+    java.lang.String getDomaindataType();
+    /**
+     * <pre>
+     * Optional, The domaindata_type would be use as the filter condition to list the domaindata.
+     * </pre>
+     *
+     * <code>string domaindata_type = 2;</code>
+     * @return The bytes for domaindataType.
+     */
+    com.google.protobuf.ByteString
+        getDomaindataTypeBytes();
+
+    /**
+     * <pre>
+     * Optional, the domaindata_vendor would be use as the filter condition to list the domaindata.
+     * </pre>
+     *
+     * <code>string domaindata_vendor = 3;</code>
+     * @return The domaindataVendor.
+     */
+    java.lang.String getDomaindataVendor();
+    /**
+     * <pre>
+     * Optional, the domaindata_vendor would be use as the filter condition to list the domaindata.
+     * </pre>
+     *
+     * <code>string domaindata_vendor = 3;</code>
+     * @return The bytes for domaindataVendor.
+     */
+    com.google.protobuf.ByteString
+        getDomaindataVendorBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData}
+   */
+  public static final class ListDomainDataRequestData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData)
+      ListDomainDataRequestDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ListDomainDataRequestData.newBuilder() to construct.
+    private ListDomainDataRequestData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ListDomainDataRequestData() {
+      domainId_ = "";
+      domaindataType_ = "";
+      domaindataVendor_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ListDomainDataRequestData();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataRequestData_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataRequestData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData.Builder.class);
+    }
+
+    public static final int DOMAIN_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domainId_ = "";
+    /**
+     * <pre>
+     * couldn't be empty
+     * </pre>
+     *
+     * <code>string domain_id = 1;</code>
+     * @return The domainId.
+     */
+    @java.lang.Override
+    public java.lang.String getDomainId() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domainId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * couldn't be empty
+     * </pre>
+     *
+     * <code>string domain_id = 1;</code>
+     * @return The bytes for domainId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomainIdBytes() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domainId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DOMAINDATA_TYPE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domaindataType_ = "";
+    /**
+     * <pre>
+     * Optional, The domaindata_type would be use as the filter condition to list the domaindata.
+     * </pre>
+     *
+     * <code>string domaindata_type = 2;</code>
+     * @return The domaindataType.
+     */
+    @java.lang.Override
+    public java.lang.String getDomaindataType() {
+      java.lang.Object ref = domaindataType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domaindataType_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Optional, The domaindata_type would be use as the filter condition to list the domaindata.
+     * </pre>
+     *
+     * <code>string domaindata_type = 2;</code>
+     * @return The bytes for domaindataType.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomaindataTypeBytes() {
+      java.lang.Object ref = domaindataType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domaindataType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DOMAINDATA_VENDOR_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domaindataVendor_ = "";
+    /**
+     * <pre>
+     * Optional, the domaindata_vendor would be use as the filter condition to list the domaindata.
+     * </pre>
+     *
+     * <code>string domaindata_vendor = 3;</code>
+     * @return The domaindataVendor.
+     */
+    @java.lang.Override
+    public java.lang.String getDomaindataVendor() {
+      java.lang.Object ref = domaindataVendor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domaindataVendor_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Optional, the domaindata_vendor would be use as the filter condition to list the domaindata.
+     * </pre>
+     *
+     * <code>string domaindata_vendor = 3;</code>
+     * @return The bytes for domaindataVendor.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomaindataVendorBytes() {
+      java.lang.Object ref = domaindataVendor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domaindataVendor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domaindataType_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, domaindataType_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domaindataVendor_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, domaindataVendor_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domaindataType_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, domaindataType_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domaindataVendor_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, domaindataVendor_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData other = (org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData) obj;
+
+      if (!getDomainId()
+          .equals(other.getDomainId())) return false;
+      if (!getDomaindataType()
+          .equals(other.getDomaindataType())) return false;
+      if (!getDomaindataVendor()
+          .equals(other.getDomaindataVendor())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DOMAIN_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDomainId().hashCode();
+      hash = (37 * hash) + DOMAINDATA_TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getDomaindataType().hashCode();
+      hash = (37 * hash) + DOMAINDATA_VENDOR_FIELD_NUMBER;
+      hash = (53 * hash) + getDomaindataVendor().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData)
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataRequestData_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataRequestData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        domainId_ = "";
+        domaindataType_ = "";
+        domaindataVendor_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataRequestData_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData build() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData result = new org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.domainId_ = domainId_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.domaindataType_ = domaindataType_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.domaindataVendor_ = domaindataVendor_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData.getDefaultInstance()) return this;
+        if (!other.getDomainId().isEmpty()) {
+          domainId_ = other.domainId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getDomaindataType().isEmpty()) {
+          domaindataType_ = other.domaindataType_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getDomaindataVendor().isEmpty()) {
+          domaindataVendor_ = other.domaindataVendor_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                domainId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                domaindataType_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                domaindataVendor_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object domainId_ = "";
+      /**
+       * <pre>
+       * couldn't be empty
+       * </pre>
+       *
+       * <code>string domain_id = 1;</code>
+       * @return The domainId.
+       */
+      public java.lang.String getDomainId() {
+        java.lang.Object ref = domainId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domainId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * couldn't be empty
+       * </pre>
+       *
+       * <code>string domain_id = 1;</code>
+       * @return The bytes for domainId.
+       */
+      public com.google.protobuf.ByteString
+          getDomainIdBytes() {
+        java.lang.Object ref = domainId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domainId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * couldn't be empty
+       * </pre>
+       *
+       * <code>string domain_id = 1;</code>
+       * @param value The domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domainId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * couldn't be empty
+       * </pre>
+       *
+       * <code>string domain_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomainId() {
+        domainId_ = getDefaultInstance().getDomainId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * couldn't be empty
+       * </pre>
+       *
+       * <code>string domain_id = 1;</code>
+       * @param value The bytes for domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domainId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object domaindataType_ = "";
+      /**
+       * <pre>
+       * Optional, The domaindata_type would be use as the filter condition to list the domaindata.
+       * </pre>
+       *
+       * <code>string domaindata_type = 2;</code>
+       * @return The domaindataType.
+       */
+      public java.lang.String getDomaindataType() {
+        java.lang.Object ref = domaindataType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domaindataType_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Optional, The domaindata_type would be use as the filter condition to list the domaindata.
+       * </pre>
+       *
+       * <code>string domaindata_type = 2;</code>
+       * @return The bytes for domaindataType.
+       */
+      public com.google.protobuf.ByteString
+          getDomaindataTypeBytes() {
+        java.lang.Object ref = domaindataType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domaindataType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Optional, The domaindata_type would be use as the filter condition to list the domaindata.
+       * </pre>
+       *
+       * <code>string domaindata_type = 2;</code>
+       * @param value The domaindataType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomaindataType(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domaindataType_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Optional, The domaindata_type would be use as the filter condition to list the domaindata.
+       * </pre>
+       *
+       * <code>string domaindata_type = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomaindataType() {
+        domaindataType_ = getDefaultInstance().getDomaindataType();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Optional, The domaindata_type would be use as the filter condition to list the domaindata.
+       * </pre>
+       *
+       * <code>string domaindata_type = 2;</code>
+       * @param value The bytes for domaindataType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomaindataTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domaindataType_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object domaindataVendor_ = "";
+      /**
+       * <pre>
+       * Optional, the domaindata_vendor would be use as the filter condition to list the domaindata.
+       * </pre>
+       *
+       * <code>string domaindata_vendor = 3;</code>
+       * @return The domaindataVendor.
+       */
+      public java.lang.String getDomaindataVendor() {
+        java.lang.Object ref = domaindataVendor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domaindataVendor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Optional, the domaindata_vendor would be use as the filter condition to list the domaindata.
+       * </pre>
+       *
+       * <code>string domaindata_vendor = 3;</code>
+       * @return The bytes for domaindataVendor.
+       */
+      public com.google.protobuf.ByteString
+          getDomaindataVendorBytes() {
+        java.lang.Object ref = domaindataVendor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domaindataVendor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Optional, the domaindata_vendor would be use as the filter condition to list the domaindata.
+       * </pre>
+       *
+       * <code>string domaindata_vendor = 3;</code>
+       * @param value The domaindataVendor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomaindataVendor(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domaindataVendor_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Optional, the domaindata_vendor would be use as the filter condition to list the domaindata.
+       * </pre>
+       *
+       * <code>string domaindata_vendor = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomaindataVendor() {
+        domaindataVendor_ = getDefaultInstance().getDomaindataVendor();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Optional, the domaindata_vendor would be use as the filter condition to list the domaindata.
+       * </pre>
+       *
+       * <code>string domaindata_vendor = 3;</code>
+       * @param value The bytes for domaindataVendor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomaindataVendorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domaindataVendor_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.ListDomainDataRequestData)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ListDomainDataRequestData>
+        PARSER = new com.google.protobuf.AbstractParser<ListDomainDataRequestData>() {
+      @java.lang.Override
+      public ListDomainDataRequestData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ListDomainDataRequestData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ListDomainDataRequestData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.ListDomainDataRequestData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DomainDataListOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+     */
+    java.util.List<org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData> 
+        getDomaindataListList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData getDomaindataList(int index);
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+     */
+    int getDomaindataListCount();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+     */
+    java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataOrBuilder> 
+        getDomaindataListOrBuilderList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataOrBuilder getDomaindataListOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList}
+   */
+  public static final class DomainDataList extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList)
+      DomainDataListOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DomainDataList.newBuilder() to construct.
+    private DomainDataList(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DomainDataList() {
+      domaindataList_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DomainDataList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainDataList_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainDataList_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.Builder.class);
+    }
+
+    public static final int DOMAINDATA_LIST_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData> domaindataList_;
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData> getDomaindataListList() {
+      return domaindataList_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataOrBuilder> 
+        getDomaindataListOrBuilderList() {
+      return domaindataList_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+     */
+    @java.lang.Override
+    public int getDomaindataListCount() {
+      return domaindataList_.size();
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData getDomaindataList(int index) {
+      return domaindataList_.get(index);
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataOrBuilder getDomaindataListOrBuilder(
+        int index) {
+      return domaindataList_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < domaindataList_.size(); i++) {
+        output.writeMessage(1, domaindataList_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < domaindataList_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, domaindataList_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList other = (org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList) obj;
+
+      if (!getDomaindataListList()
+          .equals(other.getDomaindataListList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getDomaindataListCount() > 0) {
+        hash = (37 * hash) + DOMAINDATA_LIST_FIELD_NUMBER;
+        hash = (53 * hash) + getDomaindataListList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList)
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataListOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainDataList_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainDataList_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        if (domaindataListBuilder_ == null) {
+          domaindataList_ = java.util.Collections.emptyList();
+        } else {
+          domaindataList_ = null;
+          domaindataListBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainDataList_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList build() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList result = new org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList result) {
+        if (domaindataListBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            domaindataList_ = java.util.Collections.unmodifiableList(domaindataList_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.domaindataList_ = domaindataList_;
+        } else {
+          result.domaindataList_ = domaindataListBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList result) {
+        int from_bitField0_ = bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList.getDefaultInstance()) return this;
+        if (domaindataListBuilder_ == null) {
+          if (!other.domaindataList_.isEmpty()) {
+            if (domaindataList_.isEmpty()) {
+              domaindataList_ = other.domaindataList_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureDomaindataListIsMutable();
+              domaindataList_.addAll(other.domaindataList_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.domaindataList_.isEmpty()) {
+            if (domaindataListBuilder_.isEmpty()) {
+              domaindataListBuilder_.dispose();
+              domaindataListBuilder_ = null;
+              domaindataList_ = other.domaindataList_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              domaindataListBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getDomaindataListFieldBuilder() : null;
+            } else {
+              domaindataListBuilder_.addAllMessages(other.domaindataList_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData m =
+                    input.readMessage(
+                        org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.parser(),
+                        extensionRegistry);
+                if (domaindataListBuilder_ == null) {
+                  ensureDomaindataListIsMutable();
+                  domaindataList_.add(m);
+                } else {
+                  domaindataListBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData> domaindataList_ =
+        java.util.Collections.emptyList();
+      private void ensureDomaindataListIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          domaindataList_ = new java.util.ArrayList<org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData>(domaindataList_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataOrBuilder> domaindataListBuilder_;
+
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData> getDomaindataListList() {
+        if (domaindataListBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(domaindataList_);
+        } else {
+          return domaindataListBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+       */
+      public int getDomaindataListCount() {
+        if (domaindataListBuilder_ == null) {
+          return domaindataList_.size();
+        } else {
+          return domaindataListBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData getDomaindataList(int index) {
+        if (domaindataListBuilder_ == null) {
+          return domaindataList_.get(index);
+        } else {
+          return domaindataListBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+       */
+      public Builder setDomaindataList(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData value) {
+        if (domaindataListBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDomaindataListIsMutable();
+          domaindataList_.set(index, value);
+          onChanged();
+        } else {
+          domaindataListBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+       */
+      public Builder setDomaindataList(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.Builder builderForValue) {
+        if (domaindataListBuilder_ == null) {
+          ensureDomaindataListIsMutable();
+          domaindataList_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          domaindataListBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+       */
+      public Builder addDomaindataList(org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData value) {
+        if (domaindataListBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDomaindataListIsMutable();
+          domaindataList_.add(value);
+          onChanged();
+        } else {
+          domaindataListBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+       */
+      public Builder addDomaindataList(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData value) {
+        if (domaindataListBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDomaindataListIsMutable();
+          domaindataList_.add(index, value);
+          onChanged();
+        } else {
+          domaindataListBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+       */
+      public Builder addDomaindataList(
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.Builder builderForValue) {
+        if (domaindataListBuilder_ == null) {
+          ensureDomaindataListIsMutable();
+          domaindataList_.add(builderForValue.build());
+          onChanged();
+        } else {
+          domaindataListBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+       */
+      public Builder addDomaindataList(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.Builder builderForValue) {
+        if (domaindataListBuilder_ == null) {
+          ensureDomaindataListIsMutable();
+          domaindataList_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          domaindataListBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+       */
+      public Builder addAllDomaindataList(
+          java.lang.Iterable<? extends org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData> values) {
+        if (domaindataListBuilder_ == null) {
+          ensureDomaindataListIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, domaindataList_);
+          onChanged();
+        } else {
+          domaindataListBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+       */
+      public Builder clearDomaindataList() {
+        if (domaindataListBuilder_ == null) {
+          domaindataList_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          domaindataListBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+       */
+      public Builder removeDomaindataList(int index) {
+        if (domaindataListBuilder_ == null) {
+          ensureDomaindataListIsMutable();
+          domaindataList_.remove(index);
+          onChanged();
+        } else {
+          domaindataListBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.Builder getDomaindataListBuilder(
+          int index) {
+        return getDomaindataListFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataOrBuilder getDomaindataListOrBuilder(
+          int index) {
+        if (domaindataListBuilder_ == null) {
+          return domaindataList_.get(index);  } else {
+          return domaindataListBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+       */
+      public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataOrBuilder> 
+           getDomaindataListOrBuilderList() {
+        if (domaindataListBuilder_ != null) {
+          return domaindataListBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(domaindataList_);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.Builder addDomaindataListBuilder() {
+        return getDomaindataListFieldBuilder().addBuilder(
+            org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.Builder addDomaindataListBuilder(
+          int index) {
+        return getDomaindataListFieldBuilder().addBuilder(
+            index, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainData domaindata_list = 1;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.Builder> 
+           getDomaindataListBuilderList() {
+        return getDomaindataListFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataOrBuilder> 
+          getDomaindataListFieldBuilder() {
+        if (domaindataListBuilder_ == null) {
+          domaindataListBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.Builder, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataOrBuilder>(
+                  domaindataList_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          domaindataList_ = null;
+        }
+        return domaindataListBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.DomainDataList)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DomainDataList>
+        PARSER = new com.google.protobuf.AbstractParser<DomainDataList>() {
+      @java.lang.Override
+      public DomainDataList parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DomainDataList> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DomainDataList> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataList getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DomainDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.DomainData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * domaindata_id is the identification of domaindata, it couldn't duplicate in the same domain.
+     * </pre>
+     *
+     * <code>string domaindata_id = 1;</code>
+     * @return The domaindataId.
+     */
+    java.lang.String getDomaindataId();
+    /**
+     * <pre>
+     * domaindata_id is the identification of domaindata, it couldn't duplicate in the same domain.
+     * </pre>
+     *
+     * <code>string domaindata_id = 1;</code>
+     * @return The bytes for domaindataId.
+     */
+    com.google.protobuf.ByteString
+        getDomaindataIdBytes();
+
+    /**
+     * <pre>
+     * The human readable, it could duplicate in the domain.
+     * </pre>
+     *
+     * <code>string name = 2;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <pre>
+     * The human readable, it could duplicate in the domain.
+     * </pre>
+     *
+     * <code>string name = 2;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <pre>
+     * DomainData type , Enum: table,model,rule,report,unknown
+     * </pre>
+     *
+     * <code>string type = 3;</code>
+     * @return The type.
+     */
+    java.lang.String getType();
+    /**
+     * <pre>
+     * DomainData type , Enum: table,model,rule,report,unknown
+     * </pre>
+     *
+     * <code>string type = 3;</code>
+     * @return The bytes for type.
+     */
+    com.google.protobuf.ByteString
+        getTypeBytes();
+
+    /**
+     * <pre>
+     * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+     * e.g. the relative_uri is "train/table.csv"
+     *      the URI of datasource is "/home/data"
+     *      the URI of domaindata is "/home/data/train/table.csv"
+     * </pre>
+     *
+     * <code>string relative_uri = 4;</code>
+     * @return The relativeUri.
+     */
+    java.lang.String getRelativeUri();
+    /**
+     * <pre>
+     * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+     * e.g. the relative_uri is "train/table.csv"
+     *      the URI of datasource is "/home/data"
+     *      the URI of domaindata is "/home/data/train/table.csv"
+     * </pre>
+     *
+     * <code>string relative_uri = 4;</code>
+     * @return The bytes for relativeUri.
+     */
+    com.google.protobuf.ByteString
+        getRelativeUriBytes();
+
+    /**
+     * <pre>
+     * domain_id the unique identity of the domain. the domaindata is belong to this domain.
+     * </pre>
+     *
+     * <code>string domain_id = 5;</code>
+     * @return The domainId.
+     */
+    java.lang.String getDomainId();
+    /**
+     * <pre>
+     * domain_id the unique identity of the domain. the domaindata is belong to this domain.
+     * </pre>
+     *
+     * <code>string domain_id = 5;</code>
+     * @return The bytes for domainId.
+     */
+    com.google.protobuf.ByteString
+        getDomainIdBytes();
+
+    /**
+     * <pre>
+     * datasource_id is the identity of the domaindatasource, the domaindatasource that storage the domaindata file.
+     * </pre>
+     *
+     * <code>string datasource_id = 6;</code>
+     * @return The datasourceId.
+     */
+    java.lang.String getDatasourceId();
+    /**
+     * <pre>
+     * datasource_id is the identity of the domaindatasource, the domaindatasource that storage the domaindata file.
+     * </pre>
+     *
+     * <code>string datasource_id = 6;</code>
+     * @return The bytes for datasourceId.
+     */
+    com.google.protobuf.ByteString
+        getDatasourceIdBytes();
+
+    /**
+     * <pre>
+     * The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data that they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 7;</code>
+     */
+    int getAttributesCount();
+    /**
+     * <pre>
+     * The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data that they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 7;</code>
+     */
+    boolean containsAttributes(
+        java.lang.String key);
+    /**
+     * Use {@link #getAttributesMap()} instead.
+     */
+    @java.lang.Deprecated
+    java.util.Map<java.lang.String, java.lang.String>
+    getAttributes();
+    /**
+     * <pre>
+     * The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data that they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 7;</code>
+     */
+    java.util.Map<java.lang.String, java.lang.String>
+    getAttributesMap();
+    /**
+     * <pre>
+     * The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data that they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 7;</code>
+     */
+    /* nullable */
+java.lang.String getAttributesOrDefault(
+        java.lang.String key,
+        /* nullable */
+java.lang.String defaultValue);
+    /**
+     * <pre>
+     * The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data that they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 7;</code>
+     */
+    java.lang.String getAttributesOrThrow(
+        java.lang.String key);
+
+    /**
+     * <pre>
+     * Partition not support now,
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.Partition partition = 8;</code>
+     * @return Whether the partition field is set.
+     */
+    boolean hasPartition();
+    /**
+     * <pre>
+     * Partition not support now,
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.Partition partition = 8;</code>
+     * @return The partition.
+     */
+    org.secretflow.v1alpha1.common.Common.Partition getPartition();
+    /**
+     * <pre>
+     * Partition not support now,
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.Partition partition = 8;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.PartitionOrBuilder getPartitionOrBuilder();
+
+    /**
+     * <pre>
+     * This field must be set if the type is 'table',
+     * The columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+     */
+    java.util.List<org.secretflow.v1alpha1.common.Common.DataColumn> 
+        getColumnsList();
+    /**
+     * <pre>
+     * This field must be set if the type is 'table',
+     * The columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.DataColumn getColumns(int index);
+    /**
+     * <pre>
+     * This field must be set if the type is 'table',
+     * The columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+     */
+    int getColumnsCount();
+    /**
+     * <pre>
+     * This field must be set if the type is 'table',
+     * The columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+     */
+    java.util.List<? extends org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder> 
+        getColumnsOrBuilderList();
+    /**
+     * <pre>
+     * This field must be set if the type is 'table',
+     * The columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder getColumnsOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+     * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+     * </pre>
+     *
+     * <code>string vendor = 10;</code>
+     * @return The vendor.
+     */
+    java.lang.String getVendor();
+    /**
+     * <pre>
+     * The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+     * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+     * </pre>
+     *
+     * <code>string vendor = 10;</code>
+     * @return The bytes for vendor.
+     */
+    com.google.protobuf.ByteString
+        getVendorBytes();
+
+    /**
+     * <pre>
+     * The status of the domaindata , enum: Available,Unavailable
+     * </pre>
+     *
+     * <code>string status = 11;</code>
+     * @return The status.
+     */
+    java.lang.String getStatus();
+    /**
+     * <pre>
+     * The status of the domaindata , enum: Available,Unavailable
+     * </pre>
+     *
+     * <code>string status = 11;</code>
+     * @return The bytes for status.
+     */
+    com.google.protobuf.ByteString
+        getStatusBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DomainData}
+   */
+  public static final class DomainData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.DomainData)
+      DomainDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DomainData.newBuilder() to construct.
+    private DomainData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DomainData() {
+      domaindataId_ = "";
+      name_ = "";
+      type_ = "";
+      relativeUri_ = "";
+      domainId_ = "";
+      datasourceId_ = "";
+      columns_ = java.util.Collections.emptyList();
+      vendor_ = "";
+      status_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DomainData();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainData_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    @java.lang.Override
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 7:
+          return internalGetAttributes();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.Builder.class);
+    }
+
+    public static final int DOMAINDATA_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domaindataId_ = "";
+    /**
+     * <pre>
+     * domaindata_id is the identification of domaindata, it couldn't duplicate in the same domain.
+     * </pre>
+     *
+     * <code>string domaindata_id = 1;</code>
+     * @return The domaindataId.
+     */
+    @java.lang.Override
+    public java.lang.String getDomaindataId() {
+      java.lang.Object ref = domaindataId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domaindataId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * domaindata_id is the identification of domaindata, it couldn't duplicate in the same domain.
+     * </pre>
+     *
+     * <code>string domaindata_id = 1;</code>
+     * @return The bytes for domaindataId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomaindataIdBytes() {
+      java.lang.Object ref = domaindataId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domaindataId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NAME_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <pre>
+     * The human readable, it could duplicate in the domain.
+     * </pre>
+     *
+     * <code>string name = 2;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The human readable, it could duplicate in the domain.
+     * </pre>
+     *
+     * <code>string name = 2;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object type_ = "";
+    /**
+     * <pre>
+     * DomainData type , Enum: table,model,rule,report,unknown
+     * </pre>
+     *
+     * <code>string type = 3;</code>
+     * @return The type.
+     */
+    @java.lang.Override
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        type_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * DomainData type , Enum: table,model,rule,report,unknown
+     * </pre>
+     *
+     * <code>string type = 3;</code>
+     * @return The bytes for type.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTypeBytes() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        type_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int RELATIVE_URI_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object relativeUri_ = "";
+    /**
+     * <pre>
+     * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+     * e.g. the relative_uri is "train/table.csv"
+     *      the URI of datasource is "/home/data"
+     *      the URI of domaindata is "/home/data/train/table.csv"
+     * </pre>
+     *
+     * <code>string relative_uri = 4;</code>
+     * @return The relativeUri.
+     */
+    @java.lang.Override
+    public java.lang.String getRelativeUri() {
+      java.lang.Object ref = relativeUri_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        relativeUri_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+     * e.g. the relative_uri is "train/table.csv"
+     *      the URI of datasource is "/home/data"
+     *      the URI of domaindata is "/home/data/train/table.csv"
+     * </pre>
+     *
+     * <code>string relative_uri = 4;</code>
+     * @return The bytes for relativeUri.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getRelativeUriBytes() {
+      java.lang.Object ref = relativeUri_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        relativeUri_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DOMAIN_ID_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domainId_ = "";
+    /**
+     * <pre>
+     * domain_id the unique identity of the domain. the domaindata is belong to this domain.
+     * </pre>
+     *
+     * <code>string domain_id = 5;</code>
+     * @return The domainId.
+     */
+    @java.lang.Override
+    public java.lang.String getDomainId() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domainId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * domain_id the unique identity of the domain. the domaindata is belong to this domain.
+     * </pre>
+     *
+     * <code>string domain_id = 5;</code>
+     * @return The bytes for domainId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomainIdBytes() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domainId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DATASOURCE_ID_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object datasourceId_ = "";
+    /**
+     * <pre>
+     * datasource_id is the identity of the domaindatasource, the domaindatasource that storage the domaindata file.
+     * </pre>
+     *
+     * <code>string datasource_id = 6;</code>
+     * @return The datasourceId.
+     */
+    @java.lang.Override
+    public java.lang.String getDatasourceId() {
+      java.lang.Object ref = datasourceId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        datasourceId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * datasource_id is the identity of the domaindatasource, the domaindatasource that storage the domaindata file.
+     * </pre>
+     *
+     * <code>string datasource_id = 6;</code>
+     * @return The bytes for datasourceId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDatasourceIdBytes() {
+      java.lang.Object ref = datasourceId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        datasourceId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ATTRIBUTES_FIELD_NUMBER = 7;
+    private static final class AttributesDefaultEntryHolder {
+      static final com.google.protobuf.MapEntry<
+          java.lang.String, java.lang.String> defaultEntry =
+              com.google.protobuf.MapEntry
+              .<java.lang.String, java.lang.String>newDefaultInstance(
+                  org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainData_AttributesEntry_descriptor, 
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "",
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "");
+    }
+    @SuppressWarnings("serial")
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.String> attributes_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetAttributes() {
+      if (attributes_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            AttributesDefaultEntryHolder.defaultEntry);
+      }
+      return attributes_;
+    }
+    public int getAttributesCount() {
+      return internalGetAttributes().getMap().size();
+    }
+    /**
+     * <pre>
+     * The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data that they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 7;</code>
+     */
+    @java.lang.Override
+    public boolean containsAttributes(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      return internalGetAttributes().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getAttributesMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String> getAttributes() {
+      return getAttributesMap();
+    }
+    /**
+     * <pre>
+     * The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data that they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.Map<java.lang.String, java.lang.String> getAttributesMap() {
+      return internalGetAttributes().getMap();
+    }
+    /**
+     * <pre>
+     * The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data that they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 7;</code>
+     */
+    @java.lang.Override
+    public /* nullable */
+java.lang.String getAttributesOrDefault(
+        java.lang.String key,
+        /* nullable */
+java.lang.String defaultValue) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetAttributes().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <pre>
+     * The attributes of the domaindata, this field use as a extra field, User could set
+     * this field to any data that they need.
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; attributes = 7;</code>
+     */
+    @java.lang.Override
+    public java.lang.String getAttributesOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetAttributes().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public static final int PARTITION_FIELD_NUMBER = 8;
+    private org.secretflow.v1alpha1.common.Common.Partition partition_;
+    /**
+     * <pre>
+     * Partition not support now,
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.Partition partition = 8;</code>
+     * @return Whether the partition field is set.
+     */
+    @java.lang.Override
+    public boolean hasPartition() {
+      return partition_ != null;
+    }
+    /**
+     * <pre>
+     * Partition not support now,
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.Partition partition = 8;</code>
+     * @return The partition.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Partition getPartition() {
+      return partition_ == null ? org.secretflow.v1alpha1.common.Common.Partition.getDefaultInstance() : partition_;
+    }
+    /**
+     * <pre>
+     * Partition not support now,
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.Partition partition = 8;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.PartitionOrBuilder getPartitionOrBuilder() {
+      return partition_ == null ? org.secretflow.v1alpha1.common.Common.Partition.getDefaultInstance() : partition_;
+    }
+
+    public static final int COLUMNS_FIELD_NUMBER = 9;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.v1alpha1.common.Common.DataColumn> columns_;
+    /**
+     * <pre>
+     * This field must be set if the type is 'table',
+     * The columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.v1alpha1.common.Common.DataColumn> getColumnsList() {
+      return columns_;
+    }
+    /**
+     * <pre>
+     * This field must be set if the type is 'table',
+     * The columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder> 
+        getColumnsOrBuilderList() {
+      return columns_;
+    }
+    /**
+     * <pre>
+     * This field must be set if the type is 'table',
+     * The columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+     */
+    @java.lang.Override
+    public int getColumnsCount() {
+      return columns_.size();
+    }
+    /**
+     * <pre>
+     * This field must be set if the type is 'table',
+     * The columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.DataColumn getColumns(int index) {
+      return columns_.get(index);
+    }
+    /**
+     * <pre>
+     * This field must be set if the type is 'table',
+     * The columns describe the table's schema information.
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder getColumnsOrBuilder(
+        int index) {
+      return columns_.get(index);
+    }
+
+    public static final int VENDOR_FIELD_NUMBER = 10;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object vendor_ = "";
+    /**
+     * <pre>
+     * The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+     * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+     * </pre>
+     *
+     * <code>string vendor = 10;</code>
+     * @return The vendor.
+     */
+    @java.lang.Override
+    public java.lang.String getVendor() {
+      java.lang.Object ref = vendor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        vendor_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+     * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+     * </pre>
+     *
+     * <code>string vendor = 10;</code>
+     * @return The bytes for vendor.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getVendorBytes() {
+      java.lang.Object ref = vendor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        vendor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 11;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object status_ = "";
+    /**
+     * <pre>
+     * The status of the domaindata , enum: Available,Unavailable
+     * </pre>
+     *
+     * <code>string status = 11;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public java.lang.String getStatus() {
+      java.lang.Object ref = status_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        status_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The status of the domaindata , enum: Available,Unavailable
+     * </pre>
+     *
+     * <code>string status = 11;</code>
+     * @return The bytes for status.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getStatusBytes() {
+      java.lang.Object ref = status_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        status_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domaindataId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, domaindataId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(type_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, type_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(relativeUri_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, relativeUri_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(datasourceId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, datasourceId_);
+      }
+      com.google.protobuf.GeneratedMessageV3
+        .serializeStringMapTo(
+          output,
+          internalGetAttributes(),
+          AttributesDefaultEntryHolder.defaultEntry,
+          7);
+      if (partition_ != null) {
+        output.writeMessage(8, getPartition());
+      }
+      for (int i = 0; i < columns_.size(); i++) {
+        output.writeMessage(9, columns_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(vendor_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 10, vendor_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(status_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 11, status_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domaindataId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, domaindataId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(type_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, type_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(relativeUri_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, relativeUri_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(datasourceId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, datasourceId_);
+      }
+      for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+           : internalGetAttributes().getMap().entrySet()) {
+        com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+        attributes__ = AttributesDefaultEntryHolder.defaultEntry.newBuilderForType()
+            .setKey(entry.getKey())
+            .setValue(entry.getValue())
+            .build();
+        size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(7, attributes__);
+      }
+      if (partition_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, getPartition());
+      }
+      for (int i = 0; i < columns_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, columns_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(vendor_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(10, vendor_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(status_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(11, status_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData other = (org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData) obj;
+
+      if (!getDomaindataId()
+          .equals(other.getDomaindataId())) return false;
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getType()
+          .equals(other.getType())) return false;
+      if (!getRelativeUri()
+          .equals(other.getRelativeUri())) return false;
+      if (!getDomainId()
+          .equals(other.getDomainId())) return false;
+      if (!getDatasourceId()
+          .equals(other.getDatasourceId())) return false;
+      if (!internalGetAttributes().equals(
+          other.internalGetAttributes())) return false;
+      if (hasPartition() != other.hasPartition()) return false;
+      if (hasPartition()) {
+        if (!getPartition()
+            .equals(other.getPartition())) return false;
+      }
+      if (!getColumnsList()
+          .equals(other.getColumnsList())) return false;
+      if (!getVendor()
+          .equals(other.getVendor())) return false;
+      if (!getStatus()
+          .equals(other.getStatus())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DOMAINDATA_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDomaindataId().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getType().hashCode();
+      hash = (37 * hash) + RELATIVE_URI_FIELD_NUMBER;
+      hash = (53 * hash) + getRelativeUri().hashCode();
+      hash = (37 * hash) + DOMAIN_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDomainId().hashCode();
+      hash = (37 * hash) + DATASOURCE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDatasourceId().hashCode();
+      if (!internalGetAttributes().getMap().isEmpty()) {
+        hash = (37 * hash) + ATTRIBUTES_FIELD_NUMBER;
+        hash = (53 * hash) + internalGetAttributes().hashCode();
+      }
+      if (hasPartition()) {
+        hash = (37 * hash) + PARTITION_FIELD_NUMBER;
+        hash = (53 * hash) + getPartition().hashCode();
+      }
+      if (getColumnsCount() > 0) {
+        hash = (37 * hash) + COLUMNS_FIELD_NUMBER;
+        hash = (53 * hash) + getColumnsList().hashCode();
+      }
+      hash = (37 * hash) + VENDOR_FIELD_NUMBER;
+      hash = (53 * hash) + getVendor().hashCode();
+      hash = (37 * hash) + STATUS_FIELD_NUMBER;
+      hash = (53 * hash) + getStatus().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DomainData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.DomainData)
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainData_descriptor;
+      }
+
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMapField(
+          int number) {
+        switch (number) {
+          case 7:
+            return internalGetAttributes();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMutableMapField(
+          int number) {
+        switch (number) {
+          case 7:
+            return internalGetMutableAttributes();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.class, org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        domaindataId_ = "";
+        name_ = "";
+        type_ = "";
+        relativeUri_ = "";
+        domainId_ = "";
+        datasourceId_ = "";
+        internalGetMutableAttributes().clear();
+        partition_ = null;
+        if (partitionBuilder_ != null) {
+          partitionBuilder_.dispose();
+          partitionBuilder_ = null;
+        }
+        if (columnsBuilder_ == null) {
+          columns_ = java.util.Collections.emptyList();
+        } else {
+          columns_ = null;
+          columnsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000100);
+        vendor_ = "";
+        status_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainData_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData build() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData result = new org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData result) {
+        if (columnsBuilder_ == null) {
+          if (((bitField0_ & 0x00000100) != 0)) {
+            columns_ = java.util.Collections.unmodifiableList(columns_);
+            bitField0_ = (bitField0_ & ~0x00000100);
+          }
+          result.columns_ = columns_;
+        } else {
+          result.columns_ = columnsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.domaindataId_ = domaindataId_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.type_ = type_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.relativeUri_ = relativeUri_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.domainId_ = domainId_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.datasourceId_ = datasourceId_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.attributes_ = internalGetAttributes();
+          result.attributes_.makeImmutable();
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.partition_ = partitionBuilder_ == null
+              ? partition_
+              : partitionBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          result.vendor_ = vendor_;
+        }
+        if (((from_bitField0_ & 0x00000400) != 0)) {
+          result.status_ = status_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData.getDefaultInstance()) return this;
+        if (!other.getDomaindataId().isEmpty()) {
+          domaindataId_ = other.domaindataId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getType().isEmpty()) {
+          type_ = other.type_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (!other.getRelativeUri().isEmpty()) {
+          relativeUri_ = other.relativeUri_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (!other.getDomainId().isEmpty()) {
+          domainId_ = other.domainId_;
+          bitField0_ |= 0x00000010;
+          onChanged();
+        }
+        if (!other.getDatasourceId().isEmpty()) {
+          datasourceId_ = other.datasourceId_;
+          bitField0_ |= 0x00000020;
+          onChanged();
+        }
+        internalGetMutableAttributes().mergeFrom(
+            other.internalGetAttributes());
+        bitField0_ |= 0x00000040;
+        if (other.hasPartition()) {
+          mergePartition(other.getPartition());
+        }
+        if (columnsBuilder_ == null) {
+          if (!other.columns_.isEmpty()) {
+            if (columns_.isEmpty()) {
+              columns_ = other.columns_;
+              bitField0_ = (bitField0_ & ~0x00000100);
+            } else {
+              ensureColumnsIsMutable();
+              columns_.addAll(other.columns_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.columns_.isEmpty()) {
+            if (columnsBuilder_.isEmpty()) {
+              columnsBuilder_.dispose();
+              columnsBuilder_ = null;
+              columns_ = other.columns_;
+              bitField0_ = (bitField0_ & ~0x00000100);
+              columnsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getColumnsFieldBuilder() : null;
+            } else {
+              columnsBuilder_.addAllMessages(other.columns_);
+            }
+          }
+        }
+        if (!other.getVendor().isEmpty()) {
+          vendor_ = other.vendor_;
+          bitField0_ |= 0x00000200;
+          onChanged();
+        }
+        if (!other.getStatus().isEmpty()) {
+          status_ = other.status_;
+          bitField0_ |= 0x00000400;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                domaindataId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                type_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                relativeUri_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                domainId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 50: {
+                datasourceId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              case 58: {
+                com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+                attributes__ = input.readMessage(
+                    AttributesDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+                internalGetMutableAttributes().getMutableMap().put(
+                    attributes__.getKey(), attributes__.getValue());
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 58
+              case 66: {
+                input.readMessage(
+                    getPartitionFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 66
+              case 74: {
+                org.secretflow.v1alpha1.common.Common.DataColumn m =
+                    input.readMessage(
+                        org.secretflow.v1alpha1.common.Common.DataColumn.parser(),
+                        extensionRegistry);
+                if (columnsBuilder_ == null) {
+                  ensureColumnsIsMutable();
+                  columns_.add(m);
+                } else {
+                  columnsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 74
+              case 82: {
+                vendor_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000200;
+                break;
+              } // case 82
+              case 90: {
+                status_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000400;
+                break;
+              } // case 90
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object domaindataId_ = "";
+      /**
+       * <pre>
+       * domaindata_id is the identification of domaindata, it couldn't duplicate in the same domain.
+       * </pre>
+       *
+       * <code>string domaindata_id = 1;</code>
+       * @return The domaindataId.
+       */
+      public java.lang.String getDomaindataId() {
+        java.lang.Object ref = domaindataId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domaindataId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * domaindata_id is the identification of domaindata, it couldn't duplicate in the same domain.
+       * </pre>
+       *
+       * <code>string domaindata_id = 1;</code>
+       * @return The bytes for domaindataId.
+       */
+      public com.google.protobuf.ByteString
+          getDomaindataIdBytes() {
+        java.lang.Object ref = domaindataId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domaindataId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * domaindata_id is the identification of domaindata, it couldn't duplicate in the same domain.
+       * </pre>
+       *
+       * <code>string domaindata_id = 1;</code>
+       * @param value The domaindataId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomaindataId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domaindataId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * domaindata_id is the identification of domaindata, it couldn't duplicate in the same domain.
+       * </pre>
+       *
+       * <code>string domaindata_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomaindataId() {
+        domaindataId_ = getDefaultInstance().getDomaindataId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * domaindata_id is the identification of domaindata, it couldn't duplicate in the same domain.
+       * </pre>
+       *
+       * <code>string domaindata_id = 1;</code>
+       * @param value The bytes for domaindataId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomaindataIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domaindataId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * The human readable, it could duplicate in the domain.
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The human readable, it could duplicate in the domain.
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The human readable, it could duplicate in the domain.
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The human readable, it could duplicate in the domain.
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The human readable, it could duplicate in the domain.
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object type_ = "";
+      /**
+       * <pre>
+       * DomainData type , Enum: table,model,rule,report,unknown
+       * </pre>
+       *
+       * <code>string type = 3;</code>
+       * @return The type.
+       */
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          type_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * DomainData type , Enum: table,model,rule,report,unknown
+       * </pre>
+       *
+       * <code>string type = 3;</code>
+       * @return The bytes for type.
+       */
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * DomainData type , Enum: table,model,rule,report,unknown
+       * </pre>
+       *
+       * <code>string type = 3;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        type_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * DomainData type , Enum: table,model,rule,report,unknown
+       * </pre>
+       *
+       * <code>string type = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        type_ = getDefaultInstance().getType();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * DomainData type , Enum: table,model,rule,report,unknown
+       * </pre>
+       *
+       * <code>string type = 3;</code>
+       * @param value The bytes for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        type_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object relativeUri_ = "";
+      /**
+       * <pre>
+       * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+       * e.g. the relative_uri is "train/table.csv"
+       *      the URI of datasource is "/home/data"
+       *      the URI of domaindata is "/home/data/train/table.csv"
+       * </pre>
+       *
+       * <code>string relative_uri = 4;</code>
+       * @return The relativeUri.
+       */
+      public java.lang.String getRelativeUri() {
+        java.lang.Object ref = relativeUri_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          relativeUri_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+       * e.g. the relative_uri is "train/table.csv"
+       *      the URI of datasource is "/home/data"
+       *      the URI of domaindata is "/home/data/train/table.csv"
+       * </pre>
+       *
+       * <code>string relative_uri = 4;</code>
+       * @return The bytes for relativeUri.
+       */
+      public com.google.protobuf.ByteString
+          getRelativeUriBytes() {
+        java.lang.Object ref = relativeUri_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          relativeUri_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+       * e.g. the relative_uri is "train/table.csv"
+       *      the URI of datasource is "/home/data"
+       *      the URI of domaindata is "/home/data/train/table.csv"
+       * </pre>
+       *
+       * <code>string relative_uri = 4;</code>
+       * @param value The relativeUri to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRelativeUri(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        relativeUri_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+       * e.g. the relative_uri is "train/table.csv"
+       *      the URI of datasource is "/home/data"
+       *      the URI of domaindata is "/home/data/train/table.csv"
+       * </pre>
+       *
+       * <code>string relative_uri = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRelativeUri() {
+        relativeUri_ = getDefaultInstance().getRelativeUri();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The relative_uri is relative to the datasource URI, The datasourceURI appends relative_uri is the domaindataURI.
+       * e.g. the relative_uri is "train/table.csv"
+       *      the URI of datasource is "/home/data"
+       *      the URI of domaindata is "/home/data/train/table.csv"
+       * </pre>
+       *
+       * <code>string relative_uri = 4;</code>
+       * @param value The bytes for relativeUri to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRelativeUriBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        relativeUri_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object domainId_ = "";
+      /**
+       * <pre>
+       * domain_id the unique identity of the domain. the domaindata is belong to this domain.
+       * </pre>
+       *
+       * <code>string domain_id = 5;</code>
+       * @return The domainId.
+       */
+      public java.lang.String getDomainId() {
+        java.lang.Object ref = domainId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domainId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * domain_id the unique identity of the domain. the domaindata is belong to this domain.
+       * </pre>
+       *
+       * <code>string domain_id = 5;</code>
+       * @return The bytes for domainId.
+       */
+      public com.google.protobuf.ByteString
+          getDomainIdBytes() {
+        java.lang.Object ref = domainId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domainId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * domain_id the unique identity of the domain. the domaindata is belong to this domain.
+       * </pre>
+       *
+       * <code>string domain_id = 5;</code>
+       * @param value The domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domainId_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * domain_id the unique identity of the domain. the domaindata is belong to this domain.
+       * </pre>
+       *
+       * <code>string domain_id = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomainId() {
+        domainId_ = getDefaultInstance().getDomainId();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * domain_id the unique identity of the domain. the domaindata is belong to this domain.
+       * </pre>
+       *
+       * <code>string domain_id = 5;</code>
+       * @param value The bytes for domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domainId_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object datasourceId_ = "";
+      /**
+       * <pre>
+       * datasource_id is the identity of the domaindatasource, the domaindatasource that storage the domaindata file.
+       * </pre>
+       *
+       * <code>string datasource_id = 6;</code>
+       * @return The datasourceId.
+       */
+      public java.lang.String getDatasourceId() {
+        java.lang.Object ref = datasourceId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          datasourceId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * datasource_id is the identity of the domaindatasource, the domaindatasource that storage the domaindata file.
+       * </pre>
+       *
+       * <code>string datasource_id = 6;</code>
+       * @return The bytes for datasourceId.
+       */
+      public com.google.protobuf.ByteString
+          getDatasourceIdBytes() {
+        java.lang.Object ref = datasourceId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          datasourceId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * datasource_id is the identity of the domaindatasource, the domaindatasource that storage the domaindata file.
+       * </pre>
+       *
+       * <code>string datasource_id = 6;</code>
+       * @param value The datasourceId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDatasourceId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        datasourceId_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * datasource_id is the identity of the domaindatasource, the domaindatasource that storage the domaindata file.
+       * </pre>
+       *
+       * <code>string datasource_id = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDatasourceId() {
+        datasourceId_ = getDefaultInstance().getDatasourceId();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * datasource_id is the identity of the domaindatasource, the domaindatasource that storage the domaindata file.
+       * </pre>
+       *
+       * <code>string datasource_id = 6;</code>
+       * @param value The bytes for datasourceId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDatasourceIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        datasourceId_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.MapField<
+          java.lang.String, java.lang.String> attributes_;
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+          internalGetAttributes() {
+        if (attributes_ == null) {
+          return com.google.protobuf.MapField.emptyMapField(
+              AttributesDefaultEntryHolder.defaultEntry);
+        }
+        return attributes_;
+      }
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+          internalGetMutableAttributes() {
+        if (attributes_ == null) {
+          attributes_ = com.google.protobuf.MapField.newMapField(
+              AttributesDefaultEntryHolder.defaultEntry);
+        }
+        if (!attributes_.isMutable()) {
+          attributes_ = attributes_.copy();
+        }
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return attributes_;
+      }
+      public int getAttributesCount() {
+        return internalGetAttributes().getMap().size();
+      }
+      /**
+       * <pre>
+       * The attributes of the domaindata, this field use as a extra field, User could set
+       * this field to any data that they need.
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; attributes = 7;</code>
+       */
+      @java.lang.Override
+      public boolean containsAttributes(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        return internalGetAttributes().getMap().containsKey(key);
+      }
+      /**
+       * Use {@link #getAttributesMap()} instead.
+       */
+      @java.lang.Override
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String> getAttributes() {
+        return getAttributesMap();
+      }
+      /**
+       * <pre>
+       * The attributes of the domaindata, this field use as a extra field, User could set
+       * this field to any data that they need.
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; attributes = 7;</code>
+       */
+      @java.lang.Override
+      public java.util.Map<java.lang.String, java.lang.String> getAttributesMap() {
+        return internalGetAttributes().getMap();
+      }
+      /**
+       * <pre>
+       * The attributes of the domaindata, this field use as a extra field, User could set
+       * this field to any data that they need.
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; attributes = 7;</code>
+       */
+      @java.lang.Override
+      public /* nullable */
+java.lang.String getAttributesOrDefault(
+          java.lang.String key,
+          /* nullable */
+java.lang.String defaultValue) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetAttributes().getMap();
+        return map.containsKey(key) ? map.get(key) : defaultValue;
+      }
+      /**
+       * <pre>
+       * The attributes of the domaindata, this field use as a extra field, User could set
+       * this field to any data that they need.
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; attributes = 7;</code>
+       */
+      @java.lang.Override
+      public java.lang.String getAttributesOrThrow(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetAttributes().getMap();
+        if (!map.containsKey(key)) {
+          throw new java.lang.IllegalArgumentException();
+        }
+        return map.get(key);
+      }
+      public Builder clearAttributes() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        internalGetMutableAttributes().getMutableMap()
+            .clear();
+        return this;
+      }
+      /**
+       * <pre>
+       * The attributes of the domaindata, this field use as a extra field, User could set
+       * this field to any data that they need.
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; attributes = 7;</code>
+       */
+      public Builder removeAttributes(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        internalGetMutableAttributes().getMutableMap()
+            .remove(key);
+        return this;
+      }
+      /**
+       * Use alternate mutation accessors instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String>
+          getMutableAttributes() {
+        bitField0_ |= 0x00000040;
+        return internalGetMutableAttributes().getMutableMap();
+      }
+      /**
+       * <pre>
+       * The attributes of the domaindata, this field use as a extra field, User could set
+       * this field to any data that they need.
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; attributes = 7;</code>
+       */
+      public Builder putAttributes(
+          java.lang.String key,
+          java.lang.String value) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        if (value == null) { throw new NullPointerException("map value"); }
+        internalGetMutableAttributes().getMutableMap()
+            .put(key, value);
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <pre>
+       * The attributes of the domaindata, this field use as a extra field, User could set
+       * this field to any data that they need.
+       * </pre>
+       *
+       * <code>map&lt;string, string&gt; attributes = 7;</code>
+       */
+      public Builder putAllAttributes(
+          java.util.Map<java.lang.String, java.lang.String> values) {
+        internalGetMutableAttributes().getMutableMap()
+            .putAll(values);
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+
+      private org.secretflow.v1alpha1.common.Common.Partition partition_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Partition, org.secretflow.v1alpha1.common.Common.Partition.Builder, org.secretflow.v1alpha1.common.Common.PartitionOrBuilder> partitionBuilder_;
+      /**
+       * <pre>
+       * Partition not support now,
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 8;</code>
+       * @return Whether the partition field is set.
+       */
+      public boolean hasPartition() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <pre>
+       * Partition not support now,
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 8;</code>
+       * @return The partition.
+       */
+      public org.secretflow.v1alpha1.common.Common.Partition getPartition() {
+        if (partitionBuilder_ == null) {
+          return partition_ == null ? org.secretflow.v1alpha1.common.Common.Partition.getDefaultInstance() : partition_;
+        } else {
+          return partitionBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * Partition not support now,
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 8;</code>
+       */
+      public Builder setPartition(org.secretflow.v1alpha1.common.Common.Partition value) {
+        if (partitionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          partition_ = value;
+        } else {
+          partitionBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Partition not support now,
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 8;</code>
+       */
+      public Builder setPartition(
+          org.secretflow.v1alpha1.common.Common.Partition.Builder builderForValue) {
+        if (partitionBuilder_ == null) {
+          partition_ = builderForValue.build();
+        } else {
+          partitionBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Partition not support now,
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 8;</code>
+       */
+      public Builder mergePartition(org.secretflow.v1alpha1.common.Common.Partition value) {
+        if (partitionBuilder_ == null) {
+          if (((bitField0_ & 0x00000080) != 0) &&
+            partition_ != null &&
+            partition_ != org.secretflow.v1alpha1.common.Common.Partition.getDefaultInstance()) {
+            getPartitionBuilder().mergeFrom(value);
+          } else {
+            partition_ = value;
+          }
+        } else {
+          partitionBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Partition not support now,
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 8;</code>
+       */
+      public Builder clearPartition() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        partition_ = null;
+        if (partitionBuilder_ != null) {
+          partitionBuilder_.dispose();
+          partitionBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Partition not support now,
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 8;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Partition.Builder getPartitionBuilder() {
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return getPartitionFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Partition not support now,
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 8;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.PartitionOrBuilder getPartitionOrBuilder() {
+        if (partitionBuilder_ != null) {
+          return partitionBuilder_.getMessageOrBuilder();
+        } else {
+          return partition_ == null ?
+              org.secretflow.v1alpha1.common.Common.Partition.getDefaultInstance() : partition_;
+        }
+      }
+      /**
+       * <pre>
+       * Partition not support now,
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.Partition partition = 8;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Partition, org.secretflow.v1alpha1.common.Common.Partition.Builder, org.secretflow.v1alpha1.common.Common.PartitionOrBuilder> 
+          getPartitionFieldBuilder() {
+        if (partitionBuilder_ == null) {
+          partitionBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Partition, org.secretflow.v1alpha1.common.Common.Partition.Builder, org.secretflow.v1alpha1.common.Common.PartitionOrBuilder>(
+                  getPartition(),
+                  getParentForChildren(),
+                  isClean());
+          partition_ = null;
+        }
+        return partitionBuilder_;
+      }
+
+      private java.util.List<org.secretflow.v1alpha1.common.Common.DataColumn> columns_ =
+        java.util.Collections.emptyList();
+      private void ensureColumnsIsMutable() {
+        if (!((bitField0_ & 0x00000100) != 0)) {
+          columns_ = new java.util.ArrayList<org.secretflow.v1alpha1.common.Common.DataColumn>(columns_);
+          bitField0_ |= 0x00000100;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.DataColumn, org.secretflow.v1alpha1.common.Common.DataColumn.Builder, org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder> columnsBuilder_;
+
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.common.Common.DataColumn> getColumnsList() {
+        if (columnsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(columns_);
+        } else {
+          return columnsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+       */
+      public int getColumnsCount() {
+        if (columnsBuilder_ == null) {
+          return columns_.size();
+        } else {
+          return columnsBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.DataColumn getColumns(int index) {
+        if (columnsBuilder_ == null) {
+          return columns_.get(index);
+        } else {
+          return columnsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+       */
+      public Builder setColumns(
+          int index, org.secretflow.v1alpha1.common.Common.DataColumn value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.set(index, value);
+          onChanged();
+        } else {
+          columnsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+       */
+      public Builder setColumns(
+          int index, org.secretflow.v1alpha1.common.Common.DataColumn.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+       */
+      public Builder addColumns(org.secretflow.v1alpha1.common.Common.DataColumn value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.add(value);
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+       */
+      public Builder addColumns(
+          int index, org.secretflow.v1alpha1.common.Common.DataColumn value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.add(index, value);
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+       */
+      public Builder addColumns(
+          org.secretflow.v1alpha1.common.Common.DataColumn.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.add(builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+       */
+      public Builder addColumns(
+          int index, org.secretflow.v1alpha1.common.Common.DataColumn.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+       */
+      public Builder addAllColumns(
+          java.lang.Iterable<? extends org.secretflow.v1alpha1.common.Common.DataColumn> values) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, columns_);
+          onChanged();
+        } else {
+          columnsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+       */
+      public Builder clearColumns() {
+        if (columnsBuilder_ == null) {
+          columns_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000100);
+          onChanged();
+        } else {
+          columnsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+       */
+      public Builder removeColumns(int index) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.remove(index);
+          onChanged();
+        } else {
+          columnsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.DataColumn.Builder getColumnsBuilder(
+          int index) {
+        return getColumnsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder getColumnsOrBuilder(
+          int index) {
+        if (columnsBuilder_ == null) {
+          return columns_.get(index);  } else {
+          return columnsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+       */
+      public java.util.List<? extends org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder> 
+           getColumnsOrBuilderList() {
+        if (columnsBuilder_ != null) {
+          return columnsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(columns_);
+        }
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.DataColumn.Builder addColumnsBuilder() {
+        return getColumnsFieldBuilder().addBuilder(
+            org.secretflow.v1alpha1.common.Common.DataColumn.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.DataColumn.Builder addColumnsBuilder(
+          int index) {
+        return getColumnsFieldBuilder().addBuilder(
+            index, org.secretflow.v1alpha1.common.Common.DataColumn.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * This field must be set if the type is 'table',
+       * The columns describe the table's schema information.
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.DataColumn columns = 9;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.common.Common.DataColumn.Builder> 
+           getColumnsBuilderList() {
+        return getColumnsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.DataColumn, org.secretflow.v1alpha1.common.Common.DataColumn.Builder, org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder> 
+          getColumnsFieldBuilder() {
+        if (columnsBuilder_ == null) {
+          columnsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.DataColumn, org.secretflow.v1alpha1.common.Common.DataColumn.Builder, org.secretflow.v1alpha1.common.Common.DataColumnOrBuilder>(
+                  columns_,
+                  ((bitField0_ & 0x00000100) != 0),
+                  getParentForChildren(),
+                  isClean());
+          columns_ = null;
+        }
+        return columnsBuilder_;
+      }
+
+      private java.lang.Object vendor_ = "";
+      /**
+       * <pre>
+       * The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+       * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+       * </pre>
+       *
+       * <code>string vendor = 10;</code>
+       * @return The vendor.
+       */
+      public java.lang.String getVendor() {
+        java.lang.Object ref = vendor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          vendor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+       * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+       * </pre>
+       *
+       * <code>string vendor = 10;</code>
+       * @return The bytes for vendor.
+       */
+      public com.google.protobuf.ByteString
+          getVendorBytes() {
+        java.lang.Object ref = vendor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          vendor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+       * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+       * </pre>
+       *
+       * <code>string vendor = 10;</code>
+       * @param value The vendor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVendor(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        vendor_ = value;
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+       * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+       * </pre>
+       *
+       * <code>string vendor = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVendor() {
+        vendor_ = getDefaultInstance().getVendor();
+        bitField0_ = (bitField0_ & ~0x00000200);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The vendor is the one who outputs the domain data, it may be the SecretFlow engine,
+       * another vendor's engine, or manually registered. it's could be manual, secretflow or other vendor string.
+       * </pre>
+       *
+       * <code>string vendor = 10;</code>
+       * @param value The bytes for vendor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVendorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        vendor_ = value;
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object status_ = "";
+      /**
+       * <pre>
+       * The status of the domaindata , enum: Available,Unavailable
+       * </pre>
+       *
+       * <code>string status = 11;</code>
+       * @return The status.
+       */
+      public java.lang.String getStatus() {
+        java.lang.Object ref = status_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          status_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The status of the domaindata , enum: Available,Unavailable
+       * </pre>
+       *
+       * <code>string status = 11;</code>
+       * @return The bytes for status.
+       */
+      public com.google.protobuf.ByteString
+          getStatusBytes() {
+        java.lang.Object ref = status_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          status_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The status of the domaindata , enum: Available,Unavailable
+       * </pre>
+       *
+       * <code>string status = 11;</code>
+       * @param value The status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatus(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        status_ = value;
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The status of the domaindata , enum: Available,Unavailable
+       * </pre>
+       *
+       * <code>string status = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStatus() {
+        status_ = getDefaultInstance().getStatus();
+        bitField0_ = (bitField0_ & ~0x00000400);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The status of the domaindata , enum: Available,Unavailable
+       * </pre>
+       *
+       * <code>string status = 11;</code>
+       * @param value The bytes for status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatusBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        status_ = value;
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.DomainData)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.DomainData)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DomainData>
+        PARSER = new com.google.protobuf.AbstractParser<DomainData>() {
+      @java.lang.Override
+      public DomainData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DomainData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DomainData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domaindata.DomainData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataRequest_AttributesEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataRequest_AttributesEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataResponseData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataResponseData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataRequest_AttributesEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataRequest_AttributesEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainDataRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainDataRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainDataResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainDataResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataRequestData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataRequestData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainDataRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainDataRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainDataResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainDataResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataRequestData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataRequestData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainDataList_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainDataList_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainData_AttributesEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainData_AttributesEntry_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n4kuscia/proto/api/v1alpha1/kusciaapi/do" +
+      "maindata.proto\022#kuscia.proto.api.v1alpha" +
+      "1.kusciaapi\032&kuscia/proto/api/v1alpha1/c" +
+      "ommon.proto\"\334\003\n\027CreateDomainDataRequest\022" +
+      "8\n\006header\030\001 \001(\0132(.kuscia.proto.api.v1alp" +
+      "ha1.RequestHeader\022\025\n\rdomaindata_id\030\002 \001(\t" +
+      "\022\014\n\004name\030\003 \001(\t\022\014\n\004type\030\004 \001(\t\022\024\n\014relative" +
+      "_uri\030\005 \001(\t\022\021\n\tdomain_id\030\006 \001(\t\022\025\n\rdatasou" +
+      "rce_id\030\007 \001(\t\022`\n\nattributes\030\010 \003(\0132L.kusci" +
+      "a.proto.api.v1alpha1.kusciaapi.CreateDom" +
+      "ainDataRequest.AttributesEntry\0227\n\tpartit" +
+      "ion\030\t \001(\0132$.kuscia.proto.api.v1alpha1.Pa" +
+      "rtition\0226\n\007columns\030\n \003(\0132%.kuscia.proto." +
+      "api.v1alpha1.DataColumn\022\016\n\006vendor\030\013 \001(\t\032" +
+      "1\n\017AttributesEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value" +
+      "\030\002 \001(\t:\0028\001\"\236\001\n\030CreateDomainDataResponse\022" +
+      "1\n\006status\030\001 \001(\0132!.kuscia.proto.api.v1alp" +
+      "ha1.Status\022O\n\004data\030\002 \001(\0132A.kuscia.proto." +
+      "api.v1alpha1.kusciaapi.CreateDomainDataR" +
+      "esponseData\"5\n\034CreateDomainDataResponseD" +
+      "ata\022\025\n\rdomaindata_id\030\001 \001(\t\"\334\003\n\027UpdateDom" +
+      "ainDataRequest\0228\n\006header\030\001 \001(\0132(.kuscia." +
+      "proto.api.v1alpha1.RequestHeader\022\025\n\rdoma" +
+      "indata_id\030\002 \001(\t\022\014\n\004name\030\003 \001(\t\022\014\n\004type\030\004 " +
+      "\001(\t\022\024\n\014relative_uri\030\005 \001(\t\022\021\n\tdomain_id\030\006" +
+      " \001(\t\022\025\n\rdatasource_id\030\007 \001(\t\022`\n\nattribute" +
+      "s\030\010 \003(\0132L.kuscia.proto.api.v1alpha1.kusc" +
+      "iaapi.UpdateDomainDataRequest.Attributes" +
+      "Entry\0227\n\tpartition\030\t \001(\0132$.kuscia.proto." +
+      "api.v1alpha1.Partition\0226\n\007columns\030\n \003(\0132" +
+      "%.kuscia.proto.api.v1alpha1.DataColumn\022\016" +
+      "\n\006vendor\030\013 \001(\t\0321\n\017AttributesEntry\022\013\n\003key" +
+      "\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\"M\n\030UpdateDomai" +
+      "nDataResponse\0221\n\006status\030\001 \001(\0132!.kuscia.p" +
+      "roto.api.v1alpha1.Status\"}\n\027DeleteDomain" +
+      "DataRequest\0228\n\006header\030\001 \001(\0132(.kuscia.pro" +
+      "to.api.v1alpha1.RequestHeader\022\021\n\tdomain_" +
+      "id\030\002 \001(\t\022\025\n\rdomaindata_id\030\003 \001(\t\"M\n\030Delet" +
+      "eDomainDataResponse\0221\n\006status\030\001 \001(\0132!.ku" +
+      "scia.proto.api.v1alpha1.Status\"\241\001\n\026Query" +
+      "DomainDataRequest\0228\n\006header\030\001 \001(\0132(.kusc" +
+      "ia.proto.api.v1alpha1.RequestHeader\022M\n\004d" +
+      "ata\030\002 \001(\0132?.kuscia.proto.api.v1alpha1.ku" +
+      "sciaapi.QueryDomainDataRequestData\"\213\001\n\027Q" +
+      "ueryDomainDataResponse\0221\n\006status\030\001 \001(\0132!" +
+      ".kuscia.proto.api.v1alpha1.Status\022=\n\004dat" +
+      "a\030\002 \001(\0132/.kuscia.proto.api.v1alpha1.kusc" +
+      "iaapi.DomainData\"F\n\032QueryDomainDataReque" +
+      "stData\022\021\n\tdomain_id\030\001 \001(\t\022\025\n\rdomaindata_" +
+      "id\030\002 \001(\t\"\246\001\n\033BatchQueryDomainDataRequest" +
+      "\0228\n\006header\030\001 \001(\0132(.kuscia.proto.api.v1al" +
+      "pha1.RequestHeader\022M\n\004data\030\002 \003(\0132?.kusci" +
+      "a.proto.api.v1alpha1.kusciaapi.QueryDoma" +
+      "inDataRequestData\"\224\001\n\034BatchQueryDomainDa" +
+      "taResponse\0221\n\006status\030\001 \001(\0132!.kuscia.prot" +
+      "o.api.v1alpha1.Status\022A\n\004data\030\002 \001(\01323.ku" +
+      "scia.proto.api.v1alpha1.kusciaapi.Domain" +
+      "DataList\"\237\001\n\025ListDomainDataRequest\0228\n\006he" +
+      "ader\030\001 \001(\0132(.kuscia.proto.api.v1alpha1.R" +
+      "equestHeader\022L\n\004data\030\002 \001(\0132>.kuscia.prot" +
+      "o.api.v1alpha1.kusciaapi.ListDomainDataR" +
+      "equestData\"\216\001\n\026ListDomainDataResponse\0221\n" +
+      "\006status\030\001 \001(\0132!.kuscia.proto.api.v1alpha" +
+      "1.Status\022A\n\004data\030\002 \001(\01323.kuscia.proto.ap" +
+      "i.v1alpha1.kusciaapi.DomainDataList\"b\n\031L" +
+      "istDomainDataRequestData\022\021\n\tdomain_id\030\001 " +
+      "\001(\t\022\027\n\017domaindata_type\030\002 \001(\t\022\031\n\021domainda" +
+      "ta_vendor\030\003 \001(\t\"Z\n\016DomainDataList\022H\n\017dom" +
+      "aindata_list\030\001 \003(\0132/.kuscia.proto.api.v1" +
+      "alpha1.kusciaapi.DomainData\"\230\003\n\nDomainDa" +
+      "ta\022\025\n\rdomaindata_id\030\001 \001(\t\022\014\n\004name\030\002 \001(\t\022" +
+      "\014\n\004type\030\003 \001(\t\022\024\n\014relative_uri\030\004 \001(\t\022\021\n\td" +
+      "omain_id\030\005 \001(\t\022\025\n\rdatasource_id\030\006 \001(\t\022S\n" +
+      "\nattributes\030\007 \003(\0132?.kuscia.proto.api.v1a" +
+      "lpha1.kusciaapi.DomainData.AttributesEnt" +
+      "ry\0227\n\tpartition\030\010 \001(\0132$.kuscia.proto.api" +
+      ".v1alpha1.Partition\0226\n\007columns\030\t \003(\0132%.k" +
+      "uscia.proto.api.v1alpha1.DataColumn\022\016\n\006v" +
+      "endor\030\n \001(\t\022\016\n\006status\030\013 \001(\t\0321\n\017Attribute" +
+      "sEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\0012\202" +
+      "\007\n\021DomainDataService\022\217\001\n\020CreateDomainDat" +
+      "a\022<.kuscia.proto.api.v1alpha1.kusciaapi." +
+      "CreateDomainDataRequest\032=.kuscia.proto.a" +
+      "pi.v1alpha1.kusciaapi.CreateDomainDataRe" +
+      "sponse\022\217\001\n\020UpdateDomainData\022<.kuscia.pro" +
+      "to.api.v1alpha1.kusciaapi.UpdateDomainDa" +
+      "taRequest\032=.kuscia.proto.api.v1alpha1.ku" +
+      "sciaapi.UpdateDomainDataResponse\022\217\001\n\020Del" +
+      "eteDomainData\022<.kuscia.proto.api.v1alpha" +
+      "1.kusciaapi.DeleteDomainDataRequest\032=.ku" +
+      "scia.proto.api.v1alpha1.kusciaapi.Delete" +
+      "DomainDataResponse\022\214\001\n\017QueryDomainData\022;" +
+      ".kuscia.proto.api.v1alpha1.kusciaapi.Que" +
+      "ryDomainDataRequest\032<.kuscia.proto.api.v" +
+      "1alpha1.kusciaapi.QueryDomainDataRespons" +
+      "e\022\233\001\n\024BatchQueryDomainData\022@.kuscia.prot" +
+      "o.api.v1alpha1.kusciaapi.BatchQueryDomai" +
+      "nDataRequest\032A.kuscia.proto.api.v1alpha1" +
+      ".kusciaapi.BatchQueryDomainDataResponse\022" +
+      "\211\001\n\016ListDomainData\022:.kuscia.proto.api.v1" +
+      "alpha1.kusciaapi.ListDomainDataRequest\032;" +
+      ".kuscia.proto.api.v1alpha1.kusciaapi.Lis" +
+      "tDomainDataResponseB^\n!org.secretflow.v1" +
+      "alpha1.kusciaapiZ9github.com/secretflow/" +
+      "kuscia/proto/api/v1alpha1/kusciaapib\006pro" +
+      "to3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          org.secretflow.v1alpha1.common.Common.getDescriptor(),
+        });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataRequest_descriptor,
+        new java.lang.String[] { "Header", "DomaindataId", "Name", "Type", "RelativeUri", "DomainId", "DatasourceId", "Attributes", "Partition", "Columns", "Vendor", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataRequest_AttributesEntry_descriptor =
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataRequest_descriptor.getNestedTypes().get(0);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataRequest_AttributesEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataRequest_AttributesEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataResponse_descriptor,
+        new java.lang.String[] { "Status", "Data", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataResponseData_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataResponseData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainDataResponseData_descriptor,
+        new java.lang.String[] { "DomaindataId", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataRequest_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataRequest_descriptor,
+        new java.lang.String[] { "Header", "DomaindataId", "Name", "Type", "RelativeUri", "DomainId", "DatasourceId", "Attributes", "Partition", "Columns", "Vendor", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataRequest_AttributesEntry_descriptor =
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataRequest_descriptor.getNestedTypes().get(0);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataRequest_AttributesEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataRequest_AttributesEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataResponse_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainDataResponse_descriptor,
+        new java.lang.String[] { "Status", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainDataRequest_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainDataRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainDataRequest_descriptor,
+        new java.lang.String[] { "Header", "DomainId", "DomaindataId", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainDataResponse_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainDataResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainDataResponse_descriptor,
+        new java.lang.String[] { "Status", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataRequest_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataRequest_descriptor,
+        new java.lang.String[] { "Header", "Data", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataResponse_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataResponse_descriptor,
+        new java.lang.String[] { "Status", "Data", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataRequestData_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataRequestData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainDataRequestData_descriptor,
+        new java.lang.String[] { "DomainId", "DomaindataId", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainDataRequest_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainDataRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainDataRequest_descriptor,
+        new java.lang.String[] { "Header", "Data", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainDataResponse_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainDataResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainDataResponse_descriptor,
+        new java.lang.String[] { "Status", "Data", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataRequest_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataRequest_descriptor,
+        new java.lang.String[] { "Header", "Data", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataResponse_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataResponse_descriptor,
+        new java.lang.String[] { "Status", "Data", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataRequestData_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataRequestData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_ListDomainDataRequestData_descriptor,
+        new java.lang.String[] { "DomainId", "DomaindataType", "DomaindataVendor", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainDataList_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainDataList_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainDataList_descriptor,
+        new java.lang.String[] { "DomaindataList", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainData_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainData_descriptor,
+        new java.lang.String[] { "DomaindataId", "Name", "Type", "RelativeUri", "DomainId", "DatasourceId", "Attributes", "Partition", "Columns", "Vendor", "Status", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainData_AttributesEntry_descriptor =
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainData_descriptor.getNestedTypes().get(0);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainData_AttributesEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainData_AttributesEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    org.secretflow.v1alpha1.common.Common.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,1856 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: kuscia/proto/api/v1alpha1/kusciaapi/health.proto
+
+package org.secretflow.v1alpha1.kusciaapi;
+
+public final class Health {
+  private Health() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface HealthRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.HealthRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.HealthRequest}
+   */
+  public static final class HealthRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.HealthRequest)
+      HealthRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use HealthRequest.newBuilder() to construct.
+    private HealthRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private HealthRequest() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new HealthRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Health.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Health.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest.class, org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest other = (org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.HealthRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.HealthRequest)
+        org.secretflow.v1alpha1.kusciaapi.Health.HealthRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Health.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Health.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest.class, org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Health.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest result = new org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.HealthRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.HealthRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<HealthRequest>
+        PARSER = new com.google.protobuf.AbstractParser<HealthRequest>() {
+      @java.lang.Override
+      public HealthRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<HealthRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<HealthRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Health.HealthRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface HealthResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.HealthResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    boolean hasData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData data = 2;</code>
+     * @return The data.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData getData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData data = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseDataOrBuilder getDataOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.HealthResponse}
+   */
+  public static final class HealthResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.HealthResponse)
+      HealthResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use HealthResponse.newBuilder() to construct.
+    private HealthResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private HealthResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new HealthResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Health.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Health.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse.class, org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    private org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData data_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    @java.lang.Override
+    public boolean hasData() {
+      return data_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData data = 2;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData getData() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData.getDefaultInstance() : data_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData data = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseDataOrBuilder getDataOrBuilder() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData.getDefaultInstance() : data_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      if (data_ != null) {
+        output.writeMessage(2, getData());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      if (data_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getData());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse other = (org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (hasData() != other.hasData()) return false;
+      if (hasData()) {
+        if (!getData()
+            .equals(other.getData())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.HealthResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.HealthResponse)
+        org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Health.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Health.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse.class, org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Health.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse result = new org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.data_ = dataBuilder_ == null
+              ? data_
+              : dataBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        if (other.hasData()) {
+          mergeData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getDataFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData data_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData, org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseDataOrBuilder> dataBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData data = 2;</code>
+       * @return Whether the data field is set.
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData data = 2;</code>
+       * @return The data.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData getData() {
+        if (dataBuilder_ == null) {
+          return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData.getDefaultInstance() : data_;
+        } else {
+          return dataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData data = 2;</code>
+       */
+      public Builder setData(org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          data_ = value;
+        } else {
+          dataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData data = 2;</code>
+       */
+      public Builder setData(
+          org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
+        } else {
+          dataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData data = 2;</code>
+       */
+      public Builder mergeData(org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData value) {
+        if (dataBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            data_ != null &&
+            data_ != org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData.getDefaultInstance()) {
+            getDataBuilder().mergeFrom(value);
+          } else {
+            data_ = value;
+          }
+        } else {
+          dataBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData data = 2;</code>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData.Builder getDataBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseDataOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
+        } else {
+          return data_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData.getDefaultInstance() : data_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData data = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData, org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseDataOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData, org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseDataOrBuilder>(
+                  getData(),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.HealthResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.HealthResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<HealthResponse>
+        PARSER = new com.google.protobuf.AbstractParser<HealthResponse>() {
+      @java.lang.Override
+      public HealthResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<HealthResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<HealthResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Health.HealthResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface HealthResponseDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bool ready = 1;</code>
+     * @return The ready.
+     */
+    boolean getReady();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData}
+   */
+  public static final class HealthResponseData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData)
+      HealthResponseDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use HealthResponseData.newBuilder() to construct.
+    private HealthResponseData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private HealthResponseData() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new HealthResponseData();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Health.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthResponseData_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Health.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthResponseData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData.class, org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData.Builder.class);
+    }
+
+    public static final int READY_FIELD_NUMBER = 1;
+    private boolean ready_ = false;
+    /**
+     * <code>bool ready = 1;</code>
+     * @return The ready.
+     */
+    @java.lang.Override
+    public boolean getReady() {
+      return ready_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (ready_ != false) {
+        output.writeBool(1, ready_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (ready_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, ready_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData other = (org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData) obj;
+
+      if (getReady()
+          != other.getReady()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + READY_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getReady());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData)
+        org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Health.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Health.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthResponseData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData.class, org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        ready_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Health.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData build() {
+        org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData result = new org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.ready_ = ready_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData.getDefaultInstance()) return this;
+        if (other.getReady() != false) {
+          setReady(other.getReady());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                ready_ = input.readBool();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private boolean ready_ ;
+      /**
+       * <code>bool ready = 1;</code>
+       * @return The ready.
+       */
+      @java.lang.Override
+      public boolean getReady() {
+        return ready_;
+      }
+      /**
+       * <code>bool ready = 1;</code>
+       * @param value The ready to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReady(boolean value) {
+
+        ready_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool ready = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearReady() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        ready_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.HealthResponseData)
+    private static final org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<HealthResponseData>
+        PARSER = new com.google.protobuf.AbstractParser<HealthResponseData>() {
+      @java.lang.Override
+      public HealthResponseData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<HealthResponseData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<HealthResponseData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Health.HealthResponseData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthResponseData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthResponseData_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n0kuscia/proto/api/v1alpha1/kusciaapi/he" +
+      "alth.proto\022#kuscia.proto.api.v1alpha1.ku" +
+      "sciaapi\032&kuscia/proto/api/v1alpha1/commo" +
+      "n.proto\"I\n\rHealthRequest\0228\n\006header\030\001 \001(\013" +
+      "2(.kuscia.proto.api.v1alpha1.RequestHead" +
+      "er\"\212\001\n\016HealthResponse\0221\n\006status\030\001 \001(\0132!." +
+      "kuscia.proto.api.v1alpha1.Status\022E\n\004data" +
+      "\030\002 \001(\01327.kuscia.proto.api.v1alpha1.kusci" +
+      "aapi.HealthResponseData\"#\n\022HealthRespons" +
+      "eData\022\r\n\005ready\030\001 \001(\0102\203\001\n\rHealthService\022r" +
+      "\n\007healthZ\0222.kuscia.proto.api.v1alpha1.ku" +
+      "sciaapi.HealthRequest\0323.kuscia.proto.api" +
+      ".v1alpha1.kusciaapi.HealthResponseB^\n!or" +
+      "g.secretflow.v1alpha1.kusciaapiZ9github." +
+      "com/secretflow/kuscia/proto/api/v1alpha1" +
+      "/kusciaapib\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          org.secretflow.v1alpha1.common.Common.getDescriptor(),
+        });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthRequest_descriptor,
+        new java.lang.String[] { "Header", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthResponse_descriptor,
+        new java.lang.String[] { "Status", "Data", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthResponseData_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthResponseData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_HealthResponseData_descriptor,
+        new java.lang.String[] { "Ready", });
+    org.secretflow.v1alpha1.common.Common.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
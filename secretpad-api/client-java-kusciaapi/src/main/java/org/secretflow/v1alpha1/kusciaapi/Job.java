@@ -0,0 +1,24373 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: kuscia/proto/api/v1alpha1/kusciaapi/job.proto
+
+package org.secretflow.v1alpha1.kusciaapi;
+
+public final class Job {
+  private Job() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  /**
+   * Protobuf enum {@code kuscia.proto.api.v1alpha1.kusciaapi.TaskState}
+   */
+  public enum TaskState
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>Pending = 0;</code>
+     */
+    Pending(0),
+    /**
+     * <code>Running = 1;</code>
+     */
+    Running(1),
+    /**
+     * <code>Succeeded = 2;</code>
+     */
+    Succeeded(2),
+    /**
+     * <code>Failed = 3;</code>
+     */
+    Failed(3),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>Pending = 0;</code>
+     */
+    public static final int Pending_VALUE = 0;
+    /**
+     * <code>Running = 1;</code>
+     */
+    public static final int Running_VALUE = 1;
+    /**
+     * <code>Succeeded = 2;</code>
+     */
+    public static final int Succeeded_VALUE = 2;
+    /**
+     * <code>Failed = 3;</code>
+     */
+    public static final int Failed_VALUE = 3;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static TaskState valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static TaskState forNumber(int value) {
+      switch (value) {
+        case 0: return Pending;
+        case 1: return Running;
+        case 2: return Succeeded;
+        case 3: return Failed;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<TaskState>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        TaskState> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<TaskState>() {
+            public TaskState findValueByNumber(int number) {
+              return TaskState.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final TaskState[] VALUES = values();
+
+    public static TaskState valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private TaskState(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:kuscia.proto.api.v1alpha1.kusciaapi.TaskState)
+  }
+
+  /**
+   * Protobuf enum {@code kuscia.proto.api.v1alpha1.kusciaapi.EventType}
+   */
+  public enum EventType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>ADDED = 0;</code>
+     */
+    ADDED(0),
+    /**
+     * <code>MODIFIED = 1;</code>
+     */
+    MODIFIED(1),
+    /**
+     * <code>DELETED = 2;</code>
+     */
+    DELETED(2),
+    /**
+     * <code>ERROR = 3;</code>
+     */
+    ERROR(3),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>ADDED = 0;</code>
+     */
+    public static final int ADDED_VALUE = 0;
+    /**
+     * <code>MODIFIED = 1;</code>
+     */
+    public static final int MODIFIED_VALUE = 1;
+    /**
+     * <code>DELETED = 2;</code>
+     */
+    public static final int DELETED_VALUE = 2;
+    /**
+     * <code>ERROR = 3;</code>
+     */
+    public static final int ERROR_VALUE = 3;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static EventType valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static EventType forNumber(int value) {
+      switch (value) {
+        case 0: return ADDED;
+        case 1: return MODIFIED;
+        case 2: return DELETED;
+        case 3: return ERROR;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<EventType>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EventType> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EventType>() {
+            public EventType findValueByNumber(int number) {
+              return EventType.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.getDescriptor().getEnumTypes().get(1);
+    }
+
+    private static final EventType[] VALUES = values();
+
+    public static EventType valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private EventType(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:kuscia.proto.api.v1alpha1.kusciaapi.EventType)
+  }
+
+  public interface CreateJobRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.CreateJobRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>string job_id = 2;</code>
+     * @return The jobId.
+     */
+    java.lang.String getJobId();
+    /**
+     * <code>string job_id = 2;</code>
+     * @return The bytes for jobId.
+     */
+    com.google.protobuf.ByteString
+        getJobIdBytes();
+
+    /**
+     * <pre>
+     * 发起方
+     * </pre>
+     *
+     * <code>string initiator = 3;</code>
+     * @return The initiator.
+     */
+    java.lang.String getInitiator();
+    /**
+     * <pre>
+     * 发起方
+     * </pre>
+     *
+     * <code>string initiator = 3;</code>
+     * @return The bytes for initiator.
+     */
+    com.google.protobuf.ByteString
+        getInitiatorBytes();
+
+    /**
+     * <pre>
+     * 并发度
+     * </pre>
+     *
+     * <code>int32 max_parallelism = 4;</code>
+     * @return The maxParallelism.
+     */
+    int getMaxParallelism();
+
+    /**
+     * <pre>
+     * 任务参数
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+     */
+    java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.Task> 
+        getTasksList();
+    /**
+     * <pre>
+     * 任务参数
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.Task getTasks(int index);
+    /**
+     * <pre>
+     * 任务参数
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+     */
+    int getTasksCount();
+    /**
+     * <pre>
+     * 任务参数
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+     */
+    java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Job.TaskOrBuilder> 
+        getTasksOrBuilderList();
+    /**
+     * <pre>
+     * 任务参数
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.TaskOrBuilder getTasksOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateJobRequest}
+   */
+  public static final class CreateJobRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateJobRequest)
+      CreateJobRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CreateJobRequest.newBuilder() to construct.
+    private CreateJobRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CreateJobRequest() {
+      jobId_ = "";
+      initiator_ = "";
+      tasks_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CreateJobRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest.class, org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    public static final int JOB_ID_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object jobId_ = "";
+    /**
+     * <code>string job_id = 2;</code>
+     * @return The jobId.
+     */
+    @java.lang.Override
+    public java.lang.String getJobId() {
+      java.lang.Object ref = jobId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        jobId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string job_id = 2;</code>
+     * @return The bytes for jobId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getJobIdBytes() {
+      java.lang.Object ref = jobId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        jobId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int INITIATOR_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object initiator_ = "";
+    /**
+     * <pre>
+     * 发起方
+     * </pre>
+     *
+     * <code>string initiator = 3;</code>
+     * @return The initiator.
+     */
+    @java.lang.Override
+    public java.lang.String getInitiator() {
+      java.lang.Object ref = initiator_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        initiator_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * 发起方
+     * </pre>
+     *
+     * <code>string initiator = 3;</code>
+     * @return The bytes for initiator.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getInitiatorBytes() {
+      java.lang.Object ref = initiator_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        initiator_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MAX_PARALLELISM_FIELD_NUMBER = 4;
+    private int maxParallelism_ = 0;
+    /**
+     * <pre>
+     * 并发度
+     * </pre>
+     *
+     * <code>int32 max_parallelism = 4;</code>
+     * @return The maxParallelism.
+     */
+    @java.lang.Override
+    public int getMaxParallelism() {
+      return maxParallelism_;
+    }
+
+    public static final int TASKS_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.Task> tasks_;
+    /**
+     * <pre>
+     * 任务参数
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.Task> getTasksList() {
+      return tasks_;
+    }
+    /**
+     * <pre>
+     * 任务参数
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Job.TaskOrBuilder> 
+        getTasksOrBuilderList() {
+      return tasks_;
+    }
+    /**
+     * <pre>
+     * 任务参数
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+     */
+    @java.lang.Override
+    public int getTasksCount() {
+      return tasks_.size();
+    }
+    /**
+     * <pre>
+     * 任务参数
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.Task getTasks(int index) {
+      return tasks_.get(index);
+    }
+    /**
+     * <pre>
+     * 任务参数
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.TaskOrBuilder getTasksOrBuilder(
+        int index) {
+      return tasks_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, jobId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(initiator_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, initiator_);
+      }
+      if (maxParallelism_ != 0) {
+        output.writeInt32(4, maxParallelism_);
+      }
+      for (int i = 0; i < tasks_.size(); i++) {
+        output.writeMessage(5, tasks_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, jobId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(initiator_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, initiator_);
+      }
+      if (maxParallelism_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, maxParallelism_);
+      }
+      for (int i = 0; i < tasks_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, tasks_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest other = (org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (!getJobId()
+          .equals(other.getJobId())) return false;
+      if (!getInitiator()
+          .equals(other.getInitiator())) return false;
+      if (getMaxParallelism()
+          != other.getMaxParallelism()) return false;
+      if (!getTasksList()
+          .equals(other.getTasksList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      hash = (37 * hash) + JOB_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getJobId().hashCode();
+      hash = (37 * hash) + INITIATOR_FIELD_NUMBER;
+      hash = (53 * hash) + getInitiator().hashCode();
+      hash = (37 * hash) + MAX_PARALLELISM_FIELD_NUMBER;
+      hash = (53 * hash) + getMaxParallelism();
+      if (getTasksCount() > 0) {
+        hash = (37 * hash) + TASKS_FIELD_NUMBER;
+        hash = (53 * hash) + getTasksList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateJobRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateJobRequest)
+        org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest.class, org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        jobId_ = "";
+        initiator_ = "";
+        maxParallelism_ = 0;
+        if (tasksBuilder_ == null) {
+          tasks_ = java.util.Collections.emptyList();
+        } else {
+          tasks_ = null;
+          tasksBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest result = new org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest result) {
+        if (tasksBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) != 0)) {
+            tasks_ = java.util.Collections.unmodifiableList(tasks_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.tasks_ = tasks_;
+        } else {
+          result.tasks_ = tasksBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.jobId_ = jobId_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.initiator_ = initiator_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.maxParallelism_ = maxParallelism_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (!other.getJobId().isEmpty()) {
+          jobId_ = other.jobId_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getInitiator().isEmpty()) {
+          initiator_ = other.initiator_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.getMaxParallelism() != 0) {
+          setMaxParallelism(other.getMaxParallelism());
+        }
+        if (tasksBuilder_ == null) {
+          if (!other.tasks_.isEmpty()) {
+            if (tasks_.isEmpty()) {
+              tasks_ = other.tasks_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureTasksIsMutable();
+              tasks_.addAll(other.tasks_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.tasks_.isEmpty()) {
+            if (tasksBuilder_.isEmpty()) {
+              tasksBuilder_.dispose();
+              tasksBuilder_ = null;
+              tasks_ = other.tasks_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              tasksBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTasksFieldBuilder() : null;
+            } else {
+              tasksBuilder_.addAllMessages(other.tasks_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                jobId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                initiator_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 32: {
+                maxParallelism_ = input.readInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 42: {
+                org.secretflow.v1alpha1.kusciaapi.Job.Task m =
+                    input.readMessage(
+                        org.secretflow.v1alpha1.kusciaapi.Job.Task.parser(),
+                        extensionRegistry);
+                if (tasksBuilder_ == null) {
+                  ensureTasksIsMutable();
+                  tasks_.add(m);
+                } else {
+                  tasksBuilder_.addMessage(m);
+                }
+                break;
+              } // case 42
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private java.lang.Object jobId_ = "";
+      /**
+       * <code>string job_id = 2;</code>
+       * @return The jobId.
+       */
+      public java.lang.String getJobId() {
+        java.lang.Object ref = jobId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          jobId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string job_id = 2;</code>
+       * @return The bytes for jobId.
+       */
+      public com.google.protobuf.ByteString
+          getJobIdBytes() {
+        java.lang.Object ref = jobId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          jobId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string job_id = 2;</code>
+       * @param value The jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        jobId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearJobId() {
+        jobId_ = getDefaultInstance().getJobId();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_id = 2;</code>
+       * @param value The bytes for jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        jobId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object initiator_ = "";
+      /**
+       * <pre>
+       * 发起方
+       * </pre>
+       *
+       * <code>string initiator = 3;</code>
+       * @return The initiator.
+       */
+      public java.lang.String getInitiator() {
+        java.lang.Object ref = initiator_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          initiator_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * 发起方
+       * </pre>
+       *
+       * <code>string initiator = 3;</code>
+       * @return The bytes for initiator.
+       */
+      public com.google.protobuf.ByteString
+          getInitiatorBytes() {
+        java.lang.Object ref = initiator_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          initiator_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * 发起方
+       * </pre>
+       *
+       * <code>string initiator = 3;</code>
+       * @param value The initiator to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInitiator(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        initiator_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 发起方
+       * </pre>
+       *
+       * <code>string initiator = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInitiator() {
+        initiator_ = getDefaultInstance().getInitiator();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 发起方
+       * </pre>
+       *
+       * <code>string initiator = 3;</code>
+       * @param value The bytes for initiator to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInitiatorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        initiator_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private int maxParallelism_ ;
+      /**
+       * <pre>
+       * 并发度
+       * </pre>
+       *
+       * <code>int32 max_parallelism = 4;</code>
+       * @return The maxParallelism.
+       */
+      @java.lang.Override
+      public int getMaxParallelism() {
+        return maxParallelism_;
+      }
+      /**
+       * <pre>
+       * 并发度
+       * </pre>
+       *
+       * <code>int32 max_parallelism = 4;</code>
+       * @param value The maxParallelism to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaxParallelism(int value) {
+
+        maxParallelism_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 并发度
+       * </pre>
+       *
+       * <code>int32 max_parallelism = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaxParallelism() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        maxParallelism_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.Task> tasks_ =
+        java.util.Collections.emptyList();
+      private void ensureTasksIsMutable() {
+        if (!((bitField0_ & 0x00000010) != 0)) {
+          tasks_ = new java.util.ArrayList<org.secretflow.v1alpha1.kusciaapi.Job.Task>(tasks_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.Task, org.secretflow.v1alpha1.kusciaapi.Job.Task.Builder, org.secretflow.v1alpha1.kusciaapi.Job.TaskOrBuilder> tasksBuilder_;
+
+      /**
+       * <pre>
+       * 任务参数
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.Task> getTasksList() {
+        if (tasksBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(tasks_);
+        } else {
+          return tasksBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * 任务参数
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+       */
+      public int getTasksCount() {
+        if (tasksBuilder_ == null) {
+          return tasks_.size();
+        } else {
+          return tasksBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * 任务参数
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.Task getTasks(int index) {
+        if (tasksBuilder_ == null) {
+          return tasks_.get(index);
+        } else {
+          return tasksBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * 任务参数
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+       */
+      public Builder setTasks(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.Task value) {
+        if (tasksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTasksIsMutable();
+          tasks_.set(index, value);
+          onChanged();
+        } else {
+          tasksBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 任务参数
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+       */
+      public Builder setTasks(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.Task.Builder builderForValue) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          tasksBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 任务参数
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+       */
+      public Builder addTasks(org.secretflow.v1alpha1.kusciaapi.Job.Task value) {
+        if (tasksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTasksIsMutable();
+          tasks_.add(value);
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 任务参数
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+       */
+      public Builder addTasks(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.Task value) {
+        if (tasksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTasksIsMutable();
+          tasks_.add(index, value);
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 任务参数
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+       */
+      public Builder addTasks(
+          org.secretflow.v1alpha1.kusciaapi.Job.Task.Builder builderForValue) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.add(builderForValue.build());
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 任务参数
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+       */
+      public Builder addTasks(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.Task.Builder builderForValue) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 任务参数
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+       */
+      public Builder addAllTasks(
+          java.lang.Iterable<? extends org.secretflow.v1alpha1.kusciaapi.Job.Task> values) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, tasks_);
+          onChanged();
+        } else {
+          tasksBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 任务参数
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+       */
+      public Builder clearTasks() {
+        if (tasksBuilder_ == null) {
+          tasks_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          tasksBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 任务参数
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+       */
+      public Builder removeTasks(int index) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.remove(index);
+          onChanged();
+        } else {
+          tasksBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 任务参数
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.Task.Builder getTasksBuilder(
+          int index) {
+        return getTasksFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * 任务参数
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.TaskOrBuilder getTasksOrBuilder(
+          int index) {
+        if (tasksBuilder_ == null) {
+          return tasks_.get(index);  } else {
+          return tasksBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * 任务参数
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+       */
+      public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Job.TaskOrBuilder> 
+           getTasksOrBuilderList() {
+        if (tasksBuilder_ != null) {
+          return tasksBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(tasks_);
+        }
+      }
+      /**
+       * <pre>
+       * 任务参数
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.Task.Builder addTasksBuilder() {
+        return getTasksFieldBuilder().addBuilder(
+            org.secretflow.v1alpha1.kusciaapi.Job.Task.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * 任务参数
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.Task.Builder addTasksBuilder(
+          int index) {
+        return getTasksFieldBuilder().addBuilder(
+            index, org.secretflow.v1alpha1.kusciaapi.Job.Task.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * 任务参数
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Task tasks = 5;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.Task.Builder> 
+           getTasksBuilderList() {
+        return getTasksFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.Task, org.secretflow.v1alpha1.kusciaapi.Job.Task.Builder, org.secretflow.v1alpha1.kusciaapi.Job.TaskOrBuilder> 
+          getTasksFieldBuilder() {
+        if (tasksBuilder_ == null) {
+          tasksBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Job.Task, org.secretflow.v1alpha1.kusciaapi.Job.Task.Builder, org.secretflow.v1alpha1.kusciaapi.Job.TaskOrBuilder>(
+                  tasks_,
+                  ((bitField0_ & 0x00000010) != 0),
+                  getParentForChildren(),
+                  isClean());
+          tasks_ = null;
+        }
+        return tasksBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateJobRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateJobRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CreateJobRequest>
+        PARSER = new com.google.protobuf.AbstractParser<CreateJobRequest>() {
+      @java.lang.Override
+      public CreateJobRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CreateJobRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CreateJobRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.CreateJobRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CreateJobResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    boolean hasData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData data = 2;</code>
+     * @return The data.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData getData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData data = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseDataOrBuilder getDataOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponse}
+   */
+  public static final class CreateJobResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponse)
+      CreateJobResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CreateJobResponse.newBuilder() to construct.
+    private CreateJobResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CreateJobResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CreateJobResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse.class, org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    private org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData data_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    @java.lang.Override
+    public boolean hasData() {
+      return data_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData data = 2;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData getData() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData.getDefaultInstance() : data_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData data = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseDataOrBuilder getDataOrBuilder() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData.getDefaultInstance() : data_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      if (data_ != null) {
+        output.writeMessage(2, getData());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      if (data_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getData());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse other = (org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (hasData() != other.hasData()) return false;
+      if (hasData()) {
+        if (!getData()
+            .equals(other.getData())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponse)
+        org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse.class, org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse result = new org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.data_ = dataBuilder_ == null
+              ? data_
+              : dataBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        if (other.hasData()) {
+          mergeData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getDataFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData data_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData, org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseDataOrBuilder> dataBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData data = 2;</code>
+       * @return Whether the data field is set.
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData data = 2;</code>
+       * @return The data.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData getData() {
+        if (dataBuilder_ == null) {
+          return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData.getDefaultInstance() : data_;
+        } else {
+          return dataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData data = 2;</code>
+       */
+      public Builder setData(org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          data_ = value;
+        } else {
+          dataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData data = 2;</code>
+       */
+      public Builder setData(
+          org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
+        } else {
+          dataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData data = 2;</code>
+       */
+      public Builder mergeData(org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData value) {
+        if (dataBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            data_ != null &&
+            data_ != org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData.getDefaultInstance()) {
+            getDataBuilder().mergeFrom(value);
+          } else {
+            data_ = value;
+          }
+        } else {
+          dataBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData data = 2;</code>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData.Builder getDataBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseDataOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
+        } else {
+          return data_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData.getDefaultInstance() : data_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData data = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData, org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseDataOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData, org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseDataOrBuilder>(
+                  getData(),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CreateJobResponse>
+        PARSER = new com.google.protobuf.AbstractParser<CreateJobResponse>() {
+      @java.lang.Override
+      public CreateJobResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CreateJobResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CreateJobResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CreateJobResponseDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The jobId.
+     */
+    java.lang.String getJobId();
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The bytes for jobId.
+     */
+    com.google.protobuf.ByteString
+        getJobIdBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData}
+   */
+  public static final class CreateJobResponseData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData)
+      CreateJobResponseDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CreateJobResponseData.newBuilder() to construct.
+    private CreateJobResponseData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CreateJobResponseData() {
+      jobId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CreateJobResponseData();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobResponseData_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobResponseData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData.class, org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData.Builder.class);
+    }
+
+    public static final int JOB_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object jobId_ = "";
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The jobId.
+     */
+    @java.lang.Override
+    public java.lang.String getJobId() {
+      java.lang.Object ref = jobId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        jobId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The bytes for jobId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getJobIdBytes() {
+      java.lang.Object ref = jobId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        jobId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, jobId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, jobId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData other = (org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData) obj;
+
+      if (!getJobId()
+          .equals(other.getJobId())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + JOB_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getJobId().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData)
+        org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobResponseData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData.class, org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        jobId_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData result = new org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.jobId_ = jobId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData.getDefaultInstance()) return this;
+        if (!other.getJobId().isEmpty()) {
+          jobId_ = other.jobId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                jobId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object jobId_ = "";
+      /**
+       * <code>string job_id = 1;</code>
+       * @return The jobId.
+       */
+      public java.lang.String getJobId() {
+        java.lang.Object ref = jobId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          jobId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @return The bytes for jobId.
+       */
+      public com.google.protobuf.ByteString
+          getJobIdBytes() {
+        java.lang.Object ref = jobId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          jobId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @param value The jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        jobId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearJobId() {
+        jobId_ = getDefaultInstance().getJobId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @param value The bytes for jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        jobId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateJobResponseData)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CreateJobResponseData>
+        PARSER = new com.google.protobuf.AbstractParser<CreateJobResponseData>() {
+      @java.lang.Override
+      public CreateJobResponseData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CreateJobResponseData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CreateJobResponseData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.CreateJobResponseData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TaskOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.Task)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string app_image = 1;</code>
+     * @return The appImage.
+     */
+    java.lang.String getAppImage();
+    /**
+     * <code>string app_image = 1;</code>
+     * @return The bytes for appImage.
+     */
+    com.google.protobuf.ByteString
+        getAppImageBytes();
+
+    /**
+     * <pre>
+     * 参与方
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+     */
+    java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.Party> 
+        getPartiesList();
+    /**
+     * <pre>
+     * 参与方
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.Party getParties(int index);
+    /**
+     * <pre>
+     * 参与方
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+     */
+    int getPartiesCount();
+    /**
+     * <pre>
+     * 参与方
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+     */
+    java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Job.PartyOrBuilder> 
+        getPartiesOrBuilderList();
+    /**
+     * <pre>
+     * 参与方
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.PartyOrBuilder getPartiesOrBuilder(
+        int index);
+
+    /**
+     * <code>string alias = 3;</code>
+     * @return The alias.
+     */
+    java.lang.String getAlias();
+    /**
+     * <code>string alias = 3;</code>
+     * @return The bytes for alias.
+     */
+    com.google.protobuf.ByteString
+        getAliasBytes();
+
+    /**
+     * <code>string task_id = 4;</code>
+     * @return The taskId.
+     */
+    java.lang.String getTaskId();
+    /**
+     * <code>string task_id = 4;</code>
+     * @return The bytes for taskId.
+     */
+    com.google.protobuf.ByteString
+        getTaskIdBytes();
+
+    /**
+     * <pre>
+     * dependencies tasks
+     * </pre>
+     *
+     * <code>repeated string dependencies = 5;</code>
+     * @return A list containing the dependencies.
+     */
+    java.util.List<java.lang.String>
+        getDependenciesList();
+    /**
+     * <pre>
+     * dependencies tasks
+     * </pre>
+     *
+     * <code>repeated string dependencies = 5;</code>
+     * @return The count of dependencies.
+     */
+    int getDependenciesCount();
+    /**
+     * <pre>
+     * dependencies tasks
+     * </pre>
+     *
+     * <code>repeated string dependencies = 5;</code>
+     * @param index The index of the element to return.
+     * @return The dependencies at the given index.
+     */
+    java.lang.String getDependencies(int index);
+    /**
+     * <pre>
+     * dependencies tasks
+     * </pre>
+     *
+     * <code>repeated string dependencies = 5;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the dependencies at the given index.
+     */
+    com.google.protobuf.ByteString
+        getDependenciesBytes(int index);
+
+    /**
+     * <pre>
+     * task input config
+     * </pre>
+     *
+     * <code>string task_input_config = 6;</code>
+     * @return The taskInputConfig.
+     */
+    java.lang.String getTaskInputConfig();
+    /**
+     * <pre>
+     * task input config
+     * </pre>
+     *
+     * <code>string task_input_config = 6;</code>
+     * @return The bytes for taskInputConfig.
+     */
+    com.google.protobuf.ByteString
+        getTaskInputConfigBytes();
+
+    /**
+     * <code>int32 priority = 7;</code>
+     * @return The priority.
+     */
+    int getPriority();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.Task}
+   */
+  public static final class Task extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.Task)
+      TaskOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Task.newBuilder() to construct.
+    private Task(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Task() {
+      appImage_ = "";
+      parties_ = java.util.Collections.emptyList();
+      alias_ = "";
+      taskId_ = "";
+      dependencies_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      taskInputConfig_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Task();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_Task_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_Task_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.Task.class, org.secretflow.v1alpha1.kusciaapi.Job.Task.Builder.class);
+    }
+
+    public static final int APP_IMAGE_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object appImage_ = "";
+    /**
+     * <code>string app_image = 1;</code>
+     * @return The appImage.
+     */
+    @java.lang.Override
+    public java.lang.String getAppImage() {
+      java.lang.Object ref = appImage_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        appImage_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string app_image = 1;</code>
+     * @return The bytes for appImage.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getAppImageBytes() {
+      java.lang.Object ref = appImage_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        appImage_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PARTIES_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.Party> parties_;
+    /**
+     * <pre>
+     * 参与方
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.Party> getPartiesList() {
+      return parties_;
+    }
+    /**
+     * <pre>
+     * 参与方
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Job.PartyOrBuilder> 
+        getPartiesOrBuilderList() {
+      return parties_;
+    }
+    /**
+     * <pre>
+     * 参与方
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+     */
+    @java.lang.Override
+    public int getPartiesCount() {
+      return parties_.size();
+    }
+    /**
+     * <pre>
+     * 参与方
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.Party getParties(int index) {
+      return parties_.get(index);
+    }
+    /**
+     * <pre>
+     * 参与方
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.PartyOrBuilder getPartiesOrBuilder(
+        int index) {
+      return parties_.get(index);
+    }
+
+    public static final int ALIAS_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object alias_ = "";
+    /**
+     * <code>string alias = 3;</code>
+     * @return The alias.
+     */
+    @java.lang.Override
+    public java.lang.String getAlias() {
+      java.lang.Object ref = alias_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        alias_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string alias = 3;</code>
+     * @return The bytes for alias.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getAliasBytes() {
+      java.lang.Object ref = alias_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        alias_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TASK_ID_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object taskId_ = "";
+    /**
+     * <code>string task_id = 4;</code>
+     * @return The taskId.
+     */
+    @java.lang.Override
+    public java.lang.String getTaskId() {
+      java.lang.Object ref = taskId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        taskId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string task_id = 4;</code>
+     * @return The bytes for taskId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTaskIdBytes() {
+      java.lang.Object ref = taskId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        taskId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DEPENDENCIES_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList dependencies_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * dependencies tasks
+     * </pre>
+     *
+     * <code>repeated string dependencies = 5;</code>
+     * @return A list containing the dependencies.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getDependenciesList() {
+      return dependencies_;
+    }
+    /**
+     * <pre>
+     * dependencies tasks
+     * </pre>
+     *
+     * <code>repeated string dependencies = 5;</code>
+     * @return The count of dependencies.
+     */
+    public int getDependenciesCount() {
+      return dependencies_.size();
+    }
+    /**
+     * <pre>
+     * dependencies tasks
+     * </pre>
+     *
+     * <code>repeated string dependencies = 5;</code>
+     * @param index The index of the element to return.
+     * @return The dependencies at the given index.
+     */
+    public java.lang.String getDependencies(int index) {
+      return dependencies_.get(index);
+    }
+    /**
+     * <pre>
+     * dependencies tasks
+     * </pre>
+     *
+     * <code>repeated string dependencies = 5;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the dependencies at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getDependenciesBytes(int index) {
+      return dependencies_.getByteString(index);
+    }
+
+    public static final int TASK_INPUT_CONFIG_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object taskInputConfig_ = "";
+    /**
+     * <pre>
+     * task input config
+     * </pre>
+     *
+     * <code>string task_input_config = 6;</code>
+     * @return The taskInputConfig.
+     */
+    @java.lang.Override
+    public java.lang.String getTaskInputConfig() {
+      java.lang.Object ref = taskInputConfig_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        taskInputConfig_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * task input config
+     * </pre>
+     *
+     * <code>string task_input_config = 6;</code>
+     * @return The bytes for taskInputConfig.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTaskInputConfigBytes() {
+      java.lang.Object ref = taskInputConfig_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        taskInputConfig_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PRIORITY_FIELD_NUMBER = 7;
+    private int priority_ = 0;
+    /**
+     * <code>int32 priority = 7;</code>
+     * @return The priority.
+     */
+    @java.lang.Override
+    public int getPriority() {
+      return priority_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(appImage_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, appImage_);
+      }
+      for (int i = 0; i < parties_.size(); i++) {
+        output.writeMessage(2, parties_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(alias_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, alias_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(taskId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, taskId_);
+      }
+      for (int i = 0; i < dependencies_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, dependencies_.getRaw(i));
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(taskInputConfig_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, taskInputConfig_);
+      }
+      if (priority_ != 0) {
+        output.writeInt32(7, priority_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(appImage_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, appImage_);
+      }
+      for (int i = 0; i < parties_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, parties_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(alias_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, alias_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(taskId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, taskId_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < dependencies_.size(); i++) {
+          dataSize += computeStringSizeNoTag(dependencies_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getDependenciesList().size();
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(taskInputConfig_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, taskInputConfig_);
+      }
+      if (priority_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(7, priority_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.Task)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.Task other = (org.secretflow.v1alpha1.kusciaapi.Job.Task) obj;
+
+      if (!getAppImage()
+          .equals(other.getAppImage())) return false;
+      if (!getPartiesList()
+          .equals(other.getPartiesList())) return false;
+      if (!getAlias()
+          .equals(other.getAlias())) return false;
+      if (!getTaskId()
+          .equals(other.getTaskId())) return false;
+      if (!getDependenciesList()
+          .equals(other.getDependenciesList())) return false;
+      if (!getTaskInputConfig()
+          .equals(other.getTaskInputConfig())) return false;
+      if (getPriority()
+          != other.getPriority()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + APP_IMAGE_FIELD_NUMBER;
+      hash = (53 * hash) + getAppImage().hashCode();
+      if (getPartiesCount() > 0) {
+        hash = (37 * hash) + PARTIES_FIELD_NUMBER;
+        hash = (53 * hash) + getPartiesList().hashCode();
+      }
+      hash = (37 * hash) + ALIAS_FIELD_NUMBER;
+      hash = (53 * hash) + getAlias().hashCode();
+      hash = (37 * hash) + TASK_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getTaskId().hashCode();
+      if (getDependenciesCount() > 0) {
+        hash = (37 * hash) + DEPENDENCIES_FIELD_NUMBER;
+        hash = (53 * hash) + getDependenciesList().hashCode();
+      }
+      hash = (37 * hash) + TASK_INPUT_CONFIG_FIELD_NUMBER;
+      hash = (53 * hash) + getTaskInputConfig().hashCode();
+      hash = (37 * hash) + PRIORITY_FIELD_NUMBER;
+      hash = (53 * hash) + getPriority();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Task parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Task parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Task parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Task parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Task parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Task parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Task parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Task parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Task parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Task parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Task parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Task parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.Task prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.Task}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.Task)
+        org.secretflow.v1alpha1.kusciaapi.Job.TaskOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_Task_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_Task_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.Task.class, org.secretflow.v1alpha1.kusciaapi.Job.Task.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.Task.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        appImage_ = "";
+        if (partiesBuilder_ == null) {
+          parties_ = java.util.Collections.emptyList();
+        } else {
+          parties_ = null;
+          partiesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        alias_ = "";
+        taskId_ = "";
+        dependencies_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        taskInputConfig_ = "";
+        priority_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_Task_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.Task getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.Task.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.Task build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.Task result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.Task buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.Task result = new org.secretflow.v1alpha1.kusciaapi.Job.Task(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.v1alpha1.kusciaapi.Job.Task result) {
+        if (partiesBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            parties_ = java.util.Collections.unmodifiableList(parties_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.parties_ = parties_;
+        } else {
+          result.parties_ = partiesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.Task result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.appImage_ = appImage_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.alias_ = alias_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.taskId_ = taskId_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          dependencies_.makeImmutable();
+          result.dependencies_ = dependencies_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.taskInputConfig_ = taskInputConfig_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.priority_ = priority_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.Task) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.Task)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.Task other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.Task.getDefaultInstance()) return this;
+        if (!other.getAppImage().isEmpty()) {
+          appImage_ = other.appImage_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (partiesBuilder_ == null) {
+          if (!other.parties_.isEmpty()) {
+            if (parties_.isEmpty()) {
+              parties_ = other.parties_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensurePartiesIsMutable();
+              parties_.addAll(other.parties_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.parties_.isEmpty()) {
+            if (partiesBuilder_.isEmpty()) {
+              partiesBuilder_.dispose();
+              partiesBuilder_ = null;
+              parties_ = other.parties_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              partiesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPartiesFieldBuilder() : null;
+            } else {
+              partiesBuilder_.addAllMessages(other.parties_);
+            }
+          }
+        }
+        if (!other.getAlias().isEmpty()) {
+          alias_ = other.alias_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (!other.getTaskId().isEmpty()) {
+          taskId_ = other.taskId_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (!other.dependencies_.isEmpty()) {
+          if (dependencies_.isEmpty()) {
+            dependencies_ = other.dependencies_;
+            bitField0_ |= 0x00000010;
+          } else {
+            ensureDependenciesIsMutable();
+            dependencies_.addAll(other.dependencies_);
+          }
+          onChanged();
+        }
+        if (!other.getTaskInputConfig().isEmpty()) {
+          taskInputConfig_ = other.taskInputConfig_;
+          bitField0_ |= 0x00000020;
+          onChanged();
+        }
+        if (other.getPriority() != 0) {
+          setPriority(other.getPriority());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                appImage_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                org.secretflow.v1alpha1.kusciaapi.Job.Party m =
+                    input.readMessage(
+                        org.secretflow.v1alpha1.kusciaapi.Job.Party.parser(),
+                        extensionRegistry);
+                if (partiesBuilder_ == null) {
+                  ensurePartiesIsMutable();
+                  parties_.add(m);
+                } else {
+                  partiesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              case 26: {
+                alias_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                taskId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureDependenciesIsMutable();
+                dependencies_.add(s);
+                break;
+              } // case 42
+              case 50: {
+                taskInputConfig_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              case 56: {
+                priority_ = input.readInt32();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object appImage_ = "";
+      /**
+       * <code>string app_image = 1;</code>
+       * @return The appImage.
+       */
+      public java.lang.String getAppImage() {
+        java.lang.Object ref = appImage_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          appImage_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string app_image = 1;</code>
+       * @return The bytes for appImage.
+       */
+      public com.google.protobuf.ByteString
+          getAppImageBytes() {
+        java.lang.Object ref = appImage_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          appImage_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string app_image = 1;</code>
+       * @param value The appImage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppImage(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        appImage_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string app_image = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppImage() {
+        appImage_ = getDefaultInstance().getAppImage();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string app_image = 1;</code>
+       * @param value The bytes for appImage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppImageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        appImage_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.Party> parties_ =
+        java.util.Collections.emptyList();
+      private void ensurePartiesIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          parties_ = new java.util.ArrayList<org.secretflow.v1alpha1.kusciaapi.Job.Party>(parties_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.Party, org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder, org.secretflow.v1alpha1.kusciaapi.Job.PartyOrBuilder> partiesBuilder_;
+
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.Party> getPartiesList() {
+        if (partiesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(parties_);
+        } else {
+          return partiesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public int getPartiesCount() {
+        if (partiesBuilder_ == null) {
+          return parties_.size();
+        } else {
+          return partiesBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.Party getParties(int index) {
+        if (partiesBuilder_ == null) {
+          return parties_.get(index);
+        } else {
+          return partiesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public Builder setParties(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.Party value) {
+        if (partiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePartiesIsMutable();
+          parties_.set(index, value);
+          onChanged();
+        } else {
+          partiesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public Builder setParties(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder builderForValue) {
+        if (partiesBuilder_ == null) {
+          ensurePartiesIsMutable();
+          parties_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          partiesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public Builder addParties(org.secretflow.v1alpha1.kusciaapi.Job.Party value) {
+        if (partiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePartiesIsMutable();
+          parties_.add(value);
+          onChanged();
+        } else {
+          partiesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public Builder addParties(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.Party value) {
+        if (partiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePartiesIsMutable();
+          parties_.add(index, value);
+          onChanged();
+        } else {
+          partiesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public Builder addParties(
+          org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder builderForValue) {
+        if (partiesBuilder_ == null) {
+          ensurePartiesIsMutable();
+          parties_.add(builderForValue.build());
+          onChanged();
+        } else {
+          partiesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public Builder addParties(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder builderForValue) {
+        if (partiesBuilder_ == null) {
+          ensurePartiesIsMutable();
+          parties_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          partiesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public Builder addAllParties(
+          java.lang.Iterable<? extends org.secretflow.v1alpha1.kusciaapi.Job.Party> values) {
+        if (partiesBuilder_ == null) {
+          ensurePartiesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, parties_);
+          onChanged();
+        } else {
+          partiesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public Builder clearParties() {
+        if (partiesBuilder_ == null) {
+          parties_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          partiesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public Builder removeParties(int index) {
+        if (partiesBuilder_ == null) {
+          ensurePartiesIsMutable();
+          parties_.remove(index);
+          onChanged();
+        } else {
+          partiesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder getPartiesBuilder(
+          int index) {
+        return getPartiesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.PartyOrBuilder getPartiesOrBuilder(
+          int index) {
+        if (partiesBuilder_ == null) {
+          return parties_.get(index);  } else {
+          return partiesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Job.PartyOrBuilder> 
+           getPartiesOrBuilderList() {
+        if (partiesBuilder_ != null) {
+          return partiesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(parties_);
+        }
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder addPartiesBuilder() {
+        return getPartiesFieldBuilder().addBuilder(
+            org.secretflow.v1alpha1.kusciaapi.Job.Party.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder addPartiesBuilder(
+          int index) {
+        return getPartiesFieldBuilder().addBuilder(
+            index, org.secretflow.v1alpha1.kusciaapi.Job.Party.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder> 
+           getPartiesBuilderList() {
+        return getPartiesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.Party, org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder, org.secretflow.v1alpha1.kusciaapi.Job.PartyOrBuilder> 
+          getPartiesFieldBuilder() {
+        if (partiesBuilder_ == null) {
+          partiesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Job.Party, org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder, org.secretflow.v1alpha1.kusciaapi.Job.PartyOrBuilder>(
+                  parties_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          parties_ = null;
+        }
+        return partiesBuilder_;
+      }
+
+      private java.lang.Object alias_ = "";
+      /**
+       * <code>string alias = 3;</code>
+       * @return The alias.
+       */
+      public java.lang.String getAlias() {
+        java.lang.Object ref = alias_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          alias_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string alias = 3;</code>
+       * @return The bytes for alias.
+       */
+      public com.google.protobuf.ByteString
+          getAliasBytes() {
+        java.lang.Object ref = alias_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          alias_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string alias = 3;</code>
+       * @param value The alias to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAlias(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        alias_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string alias = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAlias() {
+        alias_ = getDefaultInstance().getAlias();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string alias = 3;</code>
+       * @param value The bytes for alias to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAliasBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        alias_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object taskId_ = "";
+      /**
+       * <code>string task_id = 4;</code>
+       * @return The taskId.
+       */
+      public java.lang.String getTaskId() {
+        java.lang.Object ref = taskId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          taskId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string task_id = 4;</code>
+       * @return The bytes for taskId.
+       */
+      public com.google.protobuf.ByteString
+          getTaskIdBytes() {
+        java.lang.Object ref = taskId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          taskId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string task_id = 4;</code>
+       * @param value The taskId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTaskId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        taskId_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string task_id = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTaskId() {
+        taskId_ = getDefaultInstance().getTaskId();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string task_id = 4;</code>
+       * @param value The bytes for taskId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTaskIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        taskId_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList dependencies_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureDependenciesIsMutable() {
+        if (!dependencies_.isModifiable()) {
+          dependencies_ = new com.google.protobuf.LazyStringArrayList(dependencies_);
+        }
+        bitField0_ |= 0x00000010;
+      }
+      /**
+       * <pre>
+       * dependencies tasks
+       * </pre>
+       *
+       * <code>repeated string dependencies = 5;</code>
+       * @return A list containing the dependencies.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getDependenciesList() {
+        dependencies_.makeImmutable();
+        return dependencies_;
+      }
+      /**
+       * <pre>
+       * dependencies tasks
+       * </pre>
+       *
+       * <code>repeated string dependencies = 5;</code>
+       * @return The count of dependencies.
+       */
+      public int getDependenciesCount() {
+        return dependencies_.size();
+      }
+      /**
+       * <pre>
+       * dependencies tasks
+       * </pre>
+       *
+       * <code>repeated string dependencies = 5;</code>
+       * @param index The index of the element to return.
+       * @return The dependencies at the given index.
+       */
+      public java.lang.String getDependencies(int index) {
+        return dependencies_.get(index);
+      }
+      /**
+       * <pre>
+       * dependencies tasks
+       * </pre>
+       *
+       * <code>repeated string dependencies = 5;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the dependencies at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getDependenciesBytes(int index) {
+        return dependencies_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * dependencies tasks
+       * </pre>
+       *
+       * <code>repeated string dependencies = 5;</code>
+       * @param index The index to set the value at.
+       * @param value The dependencies to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDependencies(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureDependenciesIsMutable();
+        dependencies_.set(index, value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * dependencies tasks
+       * </pre>
+       *
+       * <code>repeated string dependencies = 5;</code>
+       * @param value The dependencies to add.
+       * @return This builder for chaining.
+       */
+      public Builder addDependencies(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureDependenciesIsMutable();
+        dependencies_.add(value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * dependencies tasks
+       * </pre>
+       *
+       * <code>repeated string dependencies = 5;</code>
+       * @param values The dependencies to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllDependencies(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureDependenciesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, dependencies_);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * dependencies tasks
+       * </pre>
+       *
+       * <code>repeated string dependencies = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDependencies() {
+        dependencies_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * dependencies tasks
+       * </pre>
+       *
+       * <code>repeated string dependencies = 5;</code>
+       * @param value The bytes of the dependencies to add.
+       * @return This builder for chaining.
+       */
+      public Builder addDependenciesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureDependenciesIsMutable();
+        dependencies_.add(value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object taskInputConfig_ = "";
+      /**
+       * <pre>
+       * task input config
+       * </pre>
+       *
+       * <code>string task_input_config = 6;</code>
+       * @return The taskInputConfig.
+       */
+      public java.lang.String getTaskInputConfig() {
+        java.lang.Object ref = taskInputConfig_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          taskInputConfig_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * task input config
+       * </pre>
+       *
+       * <code>string task_input_config = 6;</code>
+       * @return The bytes for taskInputConfig.
+       */
+      public com.google.protobuf.ByteString
+          getTaskInputConfigBytes() {
+        java.lang.Object ref = taskInputConfig_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          taskInputConfig_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * task input config
+       * </pre>
+       *
+       * <code>string task_input_config = 6;</code>
+       * @param value The taskInputConfig to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTaskInputConfig(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        taskInputConfig_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * task input config
+       * </pre>
+       *
+       * <code>string task_input_config = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTaskInputConfig() {
+        taskInputConfig_ = getDefaultInstance().getTaskInputConfig();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * task input config
+       * </pre>
+       *
+       * <code>string task_input_config = 6;</code>
+       * @param value The bytes for taskInputConfig to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTaskInputConfigBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        taskInputConfig_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+
+      private int priority_ ;
+      /**
+       * <code>int32 priority = 7;</code>
+       * @return The priority.
+       */
+      @java.lang.Override
+      public int getPriority() {
+        return priority_;
+      }
+      /**
+       * <code>int32 priority = 7;</code>
+       * @param value The priority to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPriority(int value) {
+
+        priority_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 priority = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPriority() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        priority_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.Task)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.Task)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.Task DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.Task();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Task getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Task>
+        PARSER = new com.google.protobuf.AbstractParser<Task>() {
+      @java.lang.Override
+      public Task parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Task> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Task> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.Task getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PartyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.Party)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string domain_id = 1;</code>
+     * @return The domainId.
+     */
+    java.lang.String getDomainId();
+    /**
+     * <code>string domain_id = 1;</code>
+     * @return The bytes for domainId.
+     */
+    com.google.protobuf.ByteString
+        getDomainIdBytes();
+
+    /**
+     * <pre>
+     * server or client
+     * </pre>
+     *
+     * <code>string role = 2;</code>
+     * @return The role.
+     */
+    java.lang.String getRole();
+    /**
+     * <pre>
+     * server or client
+     * </pre>
+     *
+     * <code>string role = 2;</code>
+     * @return The bytes for role.
+     */
+    com.google.protobuf.ByteString
+        getRoleBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.Party}
+   */
+  public static final class Party extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.Party)
+      PartyOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Party.newBuilder() to construct.
+    private Party(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Party() {
+      domainId_ = "";
+      role_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Party();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_Party_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_Party_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.Party.class, org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder.class);
+    }
+
+    public static final int DOMAIN_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domainId_ = "";
+    /**
+     * <code>string domain_id = 1;</code>
+     * @return The domainId.
+     */
+    @java.lang.Override
+    public java.lang.String getDomainId() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domainId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string domain_id = 1;</code>
+     * @return The bytes for domainId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomainIdBytes() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domainId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ROLE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object role_ = "";
+    /**
+     * <pre>
+     * server or client
+     * </pre>
+     *
+     * <code>string role = 2;</code>
+     * @return The role.
+     */
+    @java.lang.Override
+    public java.lang.String getRole() {
+      java.lang.Object ref = role_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        role_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * server or client
+     * </pre>
+     *
+     * <code>string role = 2;</code>
+     * @return The bytes for role.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getRoleBytes() {
+      java.lang.Object ref = role_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        role_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(role_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, role_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(role_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, role_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.Party)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.Party other = (org.secretflow.v1alpha1.kusciaapi.Job.Party) obj;
+
+      if (!getDomainId()
+          .equals(other.getDomainId())) return false;
+      if (!getRole()
+          .equals(other.getRole())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DOMAIN_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDomainId().hashCode();
+      hash = (37 * hash) + ROLE_FIELD_NUMBER;
+      hash = (53 * hash) + getRole().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Party parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Party parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Party parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Party parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Party parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Party parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Party parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Party parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Party parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Party parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Party parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Party parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.Party prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.Party}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.Party)
+        org.secretflow.v1alpha1.kusciaapi.Job.PartyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_Party_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_Party_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.Party.class, org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.Party.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        domainId_ = "";
+        role_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_Party_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.Party getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.Party.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.Party build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.Party result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.Party buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.Party result = new org.secretflow.v1alpha1.kusciaapi.Job.Party(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.Party result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.domainId_ = domainId_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.role_ = role_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.Party) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.Party)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.Party other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.Party.getDefaultInstance()) return this;
+        if (!other.getDomainId().isEmpty()) {
+          domainId_ = other.domainId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getRole().isEmpty()) {
+          role_ = other.role_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                domainId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                role_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object domainId_ = "";
+      /**
+       * <code>string domain_id = 1;</code>
+       * @return The domainId.
+       */
+      public java.lang.String getDomainId() {
+        java.lang.Object ref = domainId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domainId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string domain_id = 1;</code>
+       * @return The bytes for domainId.
+       */
+      public com.google.protobuf.ByteString
+          getDomainIdBytes() {
+        java.lang.Object ref = domainId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domainId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string domain_id = 1;</code>
+       * @param value The domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domainId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domain_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomainId() {
+        domainId_ = getDefaultInstance().getDomainId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domain_id = 1;</code>
+       * @param value The bytes for domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domainId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object role_ = "";
+      /**
+       * <pre>
+       * server or client
+       * </pre>
+       *
+       * <code>string role = 2;</code>
+       * @return The role.
+       */
+      public java.lang.String getRole() {
+        java.lang.Object ref = role_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          role_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * server or client
+       * </pre>
+       *
+       * <code>string role = 2;</code>
+       * @return The bytes for role.
+       */
+      public com.google.protobuf.ByteString
+          getRoleBytes() {
+        java.lang.Object ref = role_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          role_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * server or client
+       * </pre>
+       *
+       * <code>string role = 2;</code>
+       * @param value The role to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRole(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        role_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * server or client
+       * </pre>
+       *
+       * <code>string role = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRole() {
+        role_ = getDefaultInstance().getRole();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * server or client
+       * </pre>
+       *
+       * <code>string role = 2;</code>
+       * @param value The bytes for role to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRoleBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        role_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.Party)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.Party)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.Party DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.Party();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.Party getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Party>
+        PARSER = new com.google.protobuf.AbstractParser<Party>() {
+      @java.lang.Override
+      public Party parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Party> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Party> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.Party getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DeleteJobRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>string job_id = 2;</code>
+     * @return The jobId.
+     */
+    java.lang.String getJobId();
+    /**
+     * <code>string job_id = 2;</code>
+     * @return The bytes for jobId.
+     */
+    com.google.protobuf.ByteString
+        getJobIdBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobRequest}
+   */
+  public static final class DeleteJobRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobRequest)
+      DeleteJobRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DeleteJobRequest.newBuilder() to construct.
+    private DeleteJobRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DeleteJobRequest() {
+      jobId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DeleteJobRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest.class, org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    public static final int JOB_ID_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object jobId_ = "";
+    /**
+     * <code>string job_id = 2;</code>
+     * @return The jobId.
+     */
+    @java.lang.Override
+    public java.lang.String getJobId() {
+      java.lang.Object ref = jobId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        jobId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string job_id = 2;</code>
+     * @return The bytes for jobId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getJobIdBytes() {
+      java.lang.Object ref = jobId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        jobId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, jobId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, jobId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest other = (org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (!getJobId()
+          .equals(other.getJobId())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      hash = (37 * hash) + JOB_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getJobId().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobRequest)
+        org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest.class, org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        jobId_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest result = new org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.jobId_ = jobId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (!other.getJobId().isEmpty()) {
+          jobId_ = other.jobId_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                jobId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private java.lang.Object jobId_ = "";
+      /**
+       * <code>string job_id = 2;</code>
+       * @return The jobId.
+       */
+      public java.lang.String getJobId() {
+        java.lang.Object ref = jobId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          jobId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string job_id = 2;</code>
+       * @return The bytes for jobId.
+       */
+      public com.google.protobuf.ByteString
+          getJobIdBytes() {
+        java.lang.Object ref = jobId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          jobId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string job_id = 2;</code>
+       * @param value The jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        jobId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearJobId() {
+        jobId_ = getDefaultInstance().getJobId();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_id = 2;</code>
+       * @param value The bytes for jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        jobId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DeleteJobRequest>
+        PARSER = new com.google.protobuf.AbstractParser<DeleteJobRequest>() {
+      @java.lang.Override
+      public DeleteJobRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeleteJobRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeleteJobRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DeleteJobResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    boolean hasData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData data = 2;</code>
+     * @return The data.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData getData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData data = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseDataOrBuilder getDataOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponse}
+   */
+  public static final class DeleteJobResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponse)
+      DeleteJobResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DeleteJobResponse.newBuilder() to construct.
+    private DeleteJobResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DeleteJobResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DeleteJobResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse.class, org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    private org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData data_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    @java.lang.Override
+    public boolean hasData() {
+      return data_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData data = 2;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData getData() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData.getDefaultInstance() : data_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData data = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseDataOrBuilder getDataOrBuilder() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData.getDefaultInstance() : data_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      if (data_ != null) {
+        output.writeMessage(2, getData());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      if (data_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getData());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse other = (org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (hasData() != other.hasData()) return false;
+      if (hasData()) {
+        if (!getData()
+            .equals(other.getData())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponse)
+        org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse.class, org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse result = new org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.data_ = dataBuilder_ == null
+              ? data_
+              : dataBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        if (other.hasData()) {
+          mergeData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getDataFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData data_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData, org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseDataOrBuilder> dataBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData data = 2;</code>
+       * @return Whether the data field is set.
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData data = 2;</code>
+       * @return The data.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData getData() {
+        if (dataBuilder_ == null) {
+          return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData.getDefaultInstance() : data_;
+        } else {
+          return dataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData data = 2;</code>
+       */
+      public Builder setData(org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          data_ = value;
+        } else {
+          dataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData data = 2;</code>
+       */
+      public Builder setData(
+          org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
+        } else {
+          dataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData data = 2;</code>
+       */
+      public Builder mergeData(org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData value) {
+        if (dataBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            data_ != null &&
+            data_ != org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData.getDefaultInstance()) {
+            getDataBuilder().mergeFrom(value);
+          } else {
+            data_ = value;
+          }
+        } else {
+          dataBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData data = 2;</code>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData.Builder getDataBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseDataOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
+        } else {
+          return data_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData.getDefaultInstance() : data_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData data = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData, org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseDataOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData, org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseDataOrBuilder>(
+                  getData(),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DeleteJobResponse>
+        PARSER = new com.google.protobuf.AbstractParser<DeleteJobResponse>() {
+      @java.lang.Override
+      public DeleteJobResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeleteJobResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeleteJobResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DeleteJobResponseDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The jobId.
+     */
+    java.lang.String getJobId();
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The bytes for jobId.
+     */
+    com.google.protobuf.ByteString
+        getJobIdBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData}
+   */
+  public static final class DeleteJobResponseData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData)
+      DeleteJobResponseDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DeleteJobResponseData.newBuilder() to construct.
+    private DeleteJobResponseData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DeleteJobResponseData() {
+      jobId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DeleteJobResponseData();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobResponseData_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobResponseData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData.class, org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData.Builder.class);
+    }
+
+    public static final int JOB_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object jobId_ = "";
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The jobId.
+     */
+    @java.lang.Override
+    public java.lang.String getJobId() {
+      java.lang.Object ref = jobId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        jobId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The bytes for jobId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getJobIdBytes() {
+      java.lang.Object ref = jobId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        jobId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, jobId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, jobId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData other = (org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData) obj;
+
+      if (!getJobId()
+          .equals(other.getJobId())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + JOB_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getJobId().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData)
+        org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobResponseData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData.class, org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        jobId_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData result = new org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.jobId_ = jobId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData.getDefaultInstance()) return this;
+        if (!other.getJobId().isEmpty()) {
+          jobId_ = other.jobId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                jobId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object jobId_ = "";
+      /**
+       * <code>string job_id = 1;</code>
+       * @return The jobId.
+       */
+      public java.lang.String getJobId() {
+        java.lang.Object ref = jobId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          jobId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @return The bytes for jobId.
+       */
+      public com.google.protobuf.ByteString
+          getJobIdBytes() {
+        java.lang.Object ref = jobId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          jobId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @param value The jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        jobId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearJobId() {
+        jobId_ = getDefaultInstance().getJobId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @param value The bytes for jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        jobId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.DeleteJobResponseData)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DeleteJobResponseData>
+        PARSER = new com.google.protobuf.AbstractParser<DeleteJobResponseData>() {
+      @java.lang.Override
+      public DeleteJobResponseData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeleteJobResponseData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeleteJobResponseData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.DeleteJobResponseData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface StopJobRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.StopJobRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>string job_id = 2;</code>
+     * @return The jobId.
+     */
+    java.lang.String getJobId();
+    /**
+     * <code>string job_id = 2;</code>
+     * @return The bytes for jobId.
+     */
+    com.google.protobuf.ByteString
+        getJobIdBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.StopJobRequest}
+   */
+  public static final class StopJobRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.StopJobRequest)
+      StopJobRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use StopJobRequest.newBuilder() to construct.
+    private StopJobRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private StopJobRequest() {
+      jobId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new StopJobRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest.class, org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    public static final int JOB_ID_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object jobId_ = "";
+    /**
+     * <code>string job_id = 2;</code>
+     * @return The jobId.
+     */
+    @java.lang.Override
+    public java.lang.String getJobId() {
+      java.lang.Object ref = jobId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        jobId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string job_id = 2;</code>
+     * @return The bytes for jobId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getJobIdBytes() {
+      java.lang.Object ref = jobId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        jobId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, jobId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, jobId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest other = (org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (!getJobId()
+          .equals(other.getJobId())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      hash = (37 * hash) + JOB_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getJobId().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.StopJobRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.StopJobRequest)
+        org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest.class, org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        jobId_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest result = new org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.jobId_ = jobId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (!other.getJobId().isEmpty()) {
+          jobId_ = other.jobId_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                jobId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private java.lang.Object jobId_ = "";
+      /**
+       * <code>string job_id = 2;</code>
+       * @return The jobId.
+       */
+      public java.lang.String getJobId() {
+        java.lang.Object ref = jobId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          jobId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string job_id = 2;</code>
+       * @return The bytes for jobId.
+       */
+      public com.google.protobuf.ByteString
+          getJobIdBytes() {
+        java.lang.Object ref = jobId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          jobId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string job_id = 2;</code>
+       * @param value The jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        jobId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearJobId() {
+        jobId_ = getDefaultInstance().getJobId();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_id = 2;</code>
+       * @param value The bytes for jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        jobId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.StopJobRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.StopJobRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<StopJobRequest>
+        PARSER = new com.google.protobuf.AbstractParser<StopJobRequest>() {
+      @java.lang.Override
+      public StopJobRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<StopJobRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<StopJobRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.StopJobRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface StopJobResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    boolean hasData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData data = 2;</code>
+     * @return The data.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData getData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData data = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseDataOrBuilder getDataOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponse}
+   */
+  public static final class StopJobResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponse)
+      StopJobResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use StopJobResponse.newBuilder() to construct.
+    private StopJobResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private StopJobResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new StopJobResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse.class, org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    private org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData data_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    @java.lang.Override
+    public boolean hasData() {
+      return data_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData data = 2;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData getData() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData.getDefaultInstance() : data_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData data = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseDataOrBuilder getDataOrBuilder() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData.getDefaultInstance() : data_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      if (data_ != null) {
+        output.writeMessage(2, getData());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      if (data_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getData());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse other = (org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (hasData() != other.hasData()) return false;
+      if (hasData()) {
+        if (!getData()
+            .equals(other.getData())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponse)
+        org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse.class, org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse result = new org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.data_ = dataBuilder_ == null
+              ? data_
+              : dataBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        if (other.hasData()) {
+          mergeData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getDataFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData data_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData, org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseDataOrBuilder> dataBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData data = 2;</code>
+       * @return Whether the data field is set.
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData data = 2;</code>
+       * @return The data.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData getData() {
+        if (dataBuilder_ == null) {
+          return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData.getDefaultInstance() : data_;
+        } else {
+          return dataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData data = 2;</code>
+       */
+      public Builder setData(org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          data_ = value;
+        } else {
+          dataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData data = 2;</code>
+       */
+      public Builder setData(
+          org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
+        } else {
+          dataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData data = 2;</code>
+       */
+      public Builder mergeData(org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData value) {
+        if (dataBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            data_ != null &&
+            data_ != org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData.getDefaultInstance()) {
+            getDataBuilder().mergeFrom(value);
+          } else {
+            data_ = value;
+          }
+        } else {
+          dataBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData data = 2;</code>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData.Builder getDataBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseDataOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
+        } else {
+          return data_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData.getDefaultInstance() : data_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData data = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData, org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseDataOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData, org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseDataOrBuilder>(
+                  getData(),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<StopJobResponse>
+        PARSER = new com.google.protobuf.AbstractParser<StopJobResponse>() {
+      @java.lang.Override
+      public StopJobResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<StopJobResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<StopJobResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface StopJobResponseDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The jobId.
+     */
+    java.lang.String getJobId();
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The bytes for jobId.
+     */
+    com.google.protobuf.ByteString
+        getJobIdBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData}
+   */
+  public static final class StopJobResponseData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData)
+      StopJobResponseDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use StopJobResponseData.newBuilder() to construct.
+    private StopJobResponseData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private StopJobResponseData() {
+      jobId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new StopJobResponseData();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobResponseData_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobResponseData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData.class, org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData.Builder.class);
+    }
+
+    public static final int JOB_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object jobId_ = "";
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The jobId.
+     */
+    @java.lang.Override
+    public java.lang.String getJobId() {
+      java.lang.Object ref = jobId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        jobId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The bytes for jobId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getJobIdBytes() {
+      java.lang.Object ref = jobId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        jobId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, jobId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, jobId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData other = (org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData) obj;
+
+      if (!getJobId()
+          .equals(other.getJobId())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + JOB_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getJobId().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData)
+        org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobResponseData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData.class, org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        jobId_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData result = new org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.jobId_ = jobId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData.getDefaultInstance()) return this;
+        if (!other.getJobId().isEmpty()) {
+          jobId_ = other.jobId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                jobId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object jobId_ = "";
+      /**
+       * <code>string job_id = 1;</code>
+       * @return The jobId.
+       */
+      public java.lang.String getJobId() {
+        java.lang.Object ref = jobId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          jobId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @return The bytes for jobId.
+       */
+      public com.google.protobuf.ByteString
+          getJobIdBytes() {
+        java.lang.Object ref = jobId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          jobId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @param value The jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        jobId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearJobId() {
+        jobId_ = getDefaultInstance().getJobId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @param value The bytes for jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        jobId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.StopJobResponseData)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<StopJobResponseData>
+        PARSER = new com.google.protobuf.AbstractParser<StopJobResponseData>() {
+      @java.lang.Override
+      public StopJobResponseData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<StopJobResponseData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<StopJobResponseData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.StopJobResponseData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QueryJobRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.QueryJobRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>string job_id = 2;</code>
+     * @return The jobId.
+     */
+    java.lang.String getJobId();
+    /**
+     * <code>string job_id = 2;</code>
+     * @return The bytes for jobId.
+     */
+    com.google.protobuf.ByteString
+        getJobIdBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryJobRequest}
+   */
+  public static final class QueryJobRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryJobRequest)
+      QueryJobRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use QueryJobRequest.newBuilder() to construct.
+    private QueryJobRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private QueryJobRequest() {
+      jobId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new QueryJobRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest.class, org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    public static final int JOB_ID_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object jobId_ = "";
+    /**
+     * <code>string job_id = 2;</code>
+     * @return The jobId.
+     */
+    @java.lang.Override
+    public java.lang.String getJobId() {
+      java.lang.Object ref = jobId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        jobId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string job_id = 2;</code>
+     * @return The bytes for jobId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getJobIdBytes() {
+      java.lang.Object ref = jobId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        jobId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, jobId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, jobId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest other = (org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (!getJobId()
+          .equals(other.getJobId())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      hash = (37 * hash) + JOB_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getJobId().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryJobRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryJobRequest)
+        org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest.class, org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        jobId_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest result = new org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.jobId_ = jobId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (!other.getJobId().isEmpty()) {
+          jobId_ = other.jobId_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                jobId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private java.lang.Object jobId_ = "";
+      /**
+       * <code>string job_id = 2;</code>
+       * @return The jobId.
+       */
+      public java.lang.String getJobId() {
+        java.lang.Object ref = jobId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          jobId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string job_id = 2;</code>
+       * @return The bytes for jobId.
+       */
+      public com.google.protobuf.ByteString
+          getJobIdBytes() {
+        java.lang.Object ref = jobId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          jobId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string job_id = 2;</code>
+       * @param value The jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        jobId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearJobId() {
+        jobId_ = getDefaultInstance().getJobId();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_id = 2;</code>
+       * @param value The bytes for jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        jobId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryJobRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryJobRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<QueryJobRequest>
+        PARSER = new com.google.protobuf.AbstractParser<QueryJobRequest>() {
+      @java.lang.Override
+      public QueryJobRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<QueryJobRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<QueryJobRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.QueryJobRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QueryJobResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    boolean hasData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData data = 2;</code>
+     * @return The data.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData getData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData data = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseDataOrBuilder getDataOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponse}
+   */
+  public static final class QueryJobResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponse)
+      QueryJobResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use QueryJobResponse.newBuilder() to construct.
+    private QueryJobResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private QueryJobResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new QueryJobResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse.class, org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    private org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData data_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    @java.lang.Override
+    public boolean hasData() {
+      return data_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData data = 2;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData getData() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData.getDefaultInstance() : data_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData data = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseDataOrBuilder getDataOrBuilder() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData.getDefaultInstance() : data_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      if (data_ != null) {
+        output.writeMessage(2, getData());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      if (data_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getData());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse other = (org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (hasData() != other.hasData()) return false;
+      if (hasData()) {
+        if (!getData()
+            .equals(other.getData())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponse)
+        org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse.class, org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse result = new org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.data_ = dataBuilder_ == null
+              ? data_
+              : dataBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        if (other.hasData()) {
+          mergeData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getDataFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData data_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData, org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseDataOrBuilder> dataBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData data = 2;</code>
+       * @return Whether the data field is set.
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData data = 2;</code>
+       * @return The data.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData getData() {
+        if (dataBuilder_ == null) {
+          return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData.getDefaultInstance() : data_;
+        } else {
+          return dataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData data = 2;</code>
+       */
+      public Builder setData(org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          data_ = value;
+        } else {
+          dataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData data = 2;</code>
+       */
+      public Builder setData(
+          org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
+        } else {
+          dataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData data = 2;</code>
+       */
+      public Builder mergeData(org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData value) {
+        if (dataBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            data_ != null &&
+            data_ != org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData.getDefaultInstance()) {
+            getDataBuilder().mergeFrom(value);
+          } else {
+            data_ = value;
+          }
+        } else {
+          dataBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData data = 2;</code>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData.Builder getDataBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseDataOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
+        } else {
+          return data_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData.getDefaultInstance() : data_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData data = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData, org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseDataOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData, org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseDataOrBuilder>(
+                  getData(),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<QueryJobResponse>
+        PARSER = new com.google.protobuf.AbstractParser<QueryJobResponse>() {
+      @java.lang.Override
+      public QueryJobResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<QueryJobResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<QueryJobResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QueryJobResponseDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The jobId.
+     */
+    java.lang.String getJobId();
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The bytes for jobId.
+     */
+    com.google.protobuf.ByteString
+        getJobIdBytes();
+
+    /**
+     * <code>string initiator = 2;</code>
+     * @return The initiator.
+     */
+    java.lang.String getInitiator();
+    /**
+     * <code>string initiator = 2;</code>
+     * @return The bytes for initiator.
+     */
+    com.google.protobuf.ByteString
+        getInitiatorBytes();
+
+    /**
+     * <code>int32 max_parallelism = 3;</code>
+     * @return The maxParallelism.
+     */
+    int getMaxParallelism();
+
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+     */
+    java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig> 
+        getTasksList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig getTasks(int index);
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+     */
+    int getTasksCount();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+     */
+    java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Job.TaskConfigOrBuilder> 
+        getTasksOrBuilderList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.TaskConfigOrBuilder getTasksOrBuilder(
+        int index);
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 5;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 5;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 5;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetailOrBuilder getStatusOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData}
+   */
+  public static final class QueryJobResponseData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData)
+      QueryJobResponseDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use QueryJobResponseData.newBuilder() to construct.
+    private QueryJobResponseData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private QueryJobResponseData() {
+      jobId_ = "";
+      initiator_ = "";
+      tasks_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new QueryJobResponseData();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobResponseData_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobResponseData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData.class, org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData.Builder.class);
+    }
+
+    public static final int JOB_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object jobId_ = "";
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The jobId.
+     */
+    @java.lang.Override
+    public java.lang.String getJobId() {
+      java.lang.Object ref = jobId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        jobId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The bytes for jobId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getJobIdBytes() {
+      java.lang.Object ref = jobId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        jobId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int INITIATOR_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object initiator_ = "";
+    /**
+     * <code>string initiator = 2;</code>
+     * @return The initiator.
+     */
+    @java.lang.Override
+    public java.lang.String getInitiator() {
+      java.lang.Object ref = initiator_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        initiator_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string initiator = 2;</code>
+     * @return The bytes for initiator.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getInitiatorBytes() {
+      java.lang.Object ref = initiator_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        initiator_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MAX_PARALLELISM_FIELD_NUMBER = 3;
+    private int maxParallelism_ = 0;
+    /**
+     * <code>int32 max_parallelism = 3;</code>
+     * @return The maxParallelism.
+     */
+    @java.lang.Override
+    public int getMaxParallelism() {
+      return maxParallelism_;
+    }
+
+    public static final int TASKS_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig> tasks_;
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig> getTasksList() {
+      return tasks_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Job.TaskConfigOrBuilder> 
+        getTasksOrBuilderList() {
+      return tasks_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+     */
+    @java.lang.Override
+    public int getTasksCount() {
+      return tasks_.size();
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig getTasks(int index) {
+      return tasks_.get(index);
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.TaskConfigOrBuilder getTasksOrBuilder(
+        int index) {
+      return tasks_.get(index);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 5;
+    private org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 5;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 5;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 5;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetailOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.getDefaultInstance() : status_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, jobId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(initiator_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, initiator_);
+      }
+      if (maxParallelism_ != 0) {
+        output.writeInt32(3, maxParallelism_);
+      }
+      for (int i = 0; i < tasks_.size(); i++) {
+        output.writeMessage(4, tasks_.get(i));
+      }
+      if (status_ != null) {
+        output.writeMessage(5, getStatus());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, jobId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(initiator_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, initiator_);
+      }
+      if (maxParallelism_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, maxParallelism_);
+      }
+      for (int i = 0; i < tasks_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, tasks_.get(i));
+      }
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, getStatus());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData other = (org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData) obj;
+
+      if (!getJobId()
+          .equals(other.getJobId())) return false;
+      if (!getInitiator()
+          .equals(other.getInitiator())) return false;
+      if (getMaxParallelism()
+          != other.getMaxParallelism()) return false;
+      if (!getTasksList()
+          .equals(other.getTasksList())) return false;
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + JOB_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getJobId().hashCode();
+      hash = (37 * hash) + INITIATOR_FIELD_NUMBER;
+      hash = (53 * hash) + getInitiator().hashCode();
+      hash = (37 * hash) + MAX_PARALLELISM_FIELD_NUMBER;
+      hash = (53 * hash) + getMaxParallelism();
+      if (getTasksCount() > 0) {
+        hash = (37 * hash) + TASKS_FIELD_NUMBER;
+        hash = (53 * hash) + getTasksList().hashCode();
+      }
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData)
+        org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobResponseData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData.class, org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        jobId_ = "";
+        initiator_ = "";
+        maxParallelism_ = 0;
+        if (tasksBuilder_ == null) {
+          tasks_ = java.util.Collections.emptyList();
+        } else {
+          tasks_ = null;
+          tasksBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData result = new org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData result) {
+        if (tasksBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            tasks_ = java.util.Collections.unmodifiableList(tasks_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.tasks_ = tasks_;
+        } else {
+          result.tasks_ = tasksBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.jobId_ = jobId_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.initiator_ = initiator_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.maxParallelism_ = maxParallelism_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData.getDefaultInstance()) return this;
+        if (!other.getJobId().isEmpty()) {
+          jobId_ = other.jobId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getInitiator().isEmpty()) {
+          initiator_ = other.initiator_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.getMaxParallelism() != 0) {
+          setMaxParallelism(other.getMaxParallelism());
+        }
+        if (tasksBuilder_ == null) {
+          if (!other.tasks_.isEmpty()) {
+            if (tasks_.isEmpty()) {
+              tasks_ = other.tasks_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureTasksIsMutable();
+              tasks_.addAll(other.tasks_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.tasks_.isEmpty()) {
+            if (tasksBuilder_.isEmpty()) {
+              tasksBuilder_.dispose();
+              tasksBuilder_ = null;
+              tasks_ = other.tasks_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              tasksBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTasksFieldBuilder() : null;
+            } else {
+              tasksBuilder_.addAllMessages(other.tasks_);
+            }
+          }
+        }
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                jobId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                initiator_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 24: {
+                maxParallelism_ = input.readInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 34: {
+                org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig m =
+                    input.readMessage(
+                        org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig.parser(),
+                        extensionRegistry);
+                if (tasksBuilder_ == null) {
+                  ensureTasksIsMutable();
+                  tasks_.add(m);
+                } else {
+                  tasksBuilder_.addMessage(m);
+                }
+                break;
+              } // case 34
+              case 42: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object jobId_ = "";
+      /**
+       * <code>string job_id = 1;</code>
+       * @return The jobId.
+       */
+      public java.lang.String getJobId() {
+        java.lang.Object ref = jobId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          jobId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @return The bytes for jobId.
+       */
+      public com.google.protobuf.ByteString
+          getJobIdBytes() {
+        java.lang.Object ref = jobId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          jobId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @param value The jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        jobId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearJobId() {
+        jobId_ = getDefaultInstance().getJobId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @param value The bytes for jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        jobId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object initiator_ = "";
+      /**
+       * <code>string initiator = 2;</code>
+       * @return The initiator.
+       */
+      public java.lang.String getInitiator() {
+        java.lang.Object ref = initiator_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          initiator_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string initiator = 2;</code>
+       * @return The bytes for initiator.
+       */
+      public com.google.protobuf.ByteString
+          getInitiatorBytes() {
+        java.lang.Object ref = initiator_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          initiator_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string initiator = 2;</code>
+       * @param value The initiator to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInitiator(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        initiator_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string initiator = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInitiator() {
+        initiator_ = getDefaultInstance().getInitiator();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string initiator = 2;</code>
+       * @param value The bytes for initiator to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInitiatorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        initiator_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private int maxParallelism_ ;
+      /**
+       * <code>int32 max_parallelism = 3;</code>
+       * @return The maxParallelism.
+       */
+      @java.lang.Override
+      public int getMaxParallelism() {
+        return maxParallelism_;
+      }
+      /**
+       * <code>int32 max_parallelism = 3;</code>
+       * @param value The maxParallelism to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaxParallelism(int value) {
+
+        maxParallelism_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 max_parallelism = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaxParallelism() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        maxParallelism_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig> tasks_ =
+        java.util.Collections.emptyList();
+      private void ensureTasksIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          tasks_ = new java.util.ArrayList<org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig>(tasks_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig, org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig.Builder, org.secretflow.v1alpha1.kusciaapi.Job.TaskConfigOrBuilder> tasksBuilder_;
+
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig> getTasksList() {
+        if (tasksBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(tasks_);
+        } else {
+          return tasksBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+       */
+      public int getTasksCount() {
+        if (tasksBuilder_ == null) {
+          return tasks_.size();
+        } else {
+          return tasksBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig getTasks(int index) {
+        if (tasksBuilder_ == null) {
+          return tasks_.get(index);
+        } else {
+          return tasksBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+       */
+      public Builder setTasks(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig value) {
+        if (tasksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTasksIsMutable();
+          tasks_.set(index, value);
+          onChanged();
+        } else {
+          tasksBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+       */
+      public Builder setTasks(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig.Builder builderForValue) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          tasksBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+       */
+      public Builder addTasks(org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig value) {
+        if (tasksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTasksIsMutable();
+          tasks_.add(value);
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+       */
+      public Builder addTasks(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig value) {
+        if (tasksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTasksIsMutable();
+          tasks_.add(index, value);
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+       */
+      public Builder addTasks(
+          org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig.Builder builderForValue) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.add(builderForValue.build());
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+       */
+      public Builder addTasks(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig.Builder builderForValue) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+       */
+      public Builder addAllTasks(
+          java.lang.Iterable<? extends org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig> values) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, tasks_);
+          onChanged();
+        } else {
+          tasksBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+       */
+      public Builder clearTasks() {
+        if (tasksBuilder_ == null) {
+          tasks_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          tasksBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+       */
+      public Builder removeTasks(int index) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.remove(index);
+          onChanged();
+        } else {
+          tasksBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig.Builder getTasksBuilder(
+          int index) {
+        return getTasksFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.TaskConfigOrBuilder getTasksOrBuilder(
+          int index) {
+        if (tasksBuilder_ == null) {
+          return tasks_.get(index);  } else {
+          return tasksBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+       */
+      public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Job.TaskConfigOrBuilder> 
+           getTasksOrBuilderList() {
+        if (tasksBuilder_ != null) {
+          return tasksBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(tasks_);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig.Builder addTasksBuilder() {
+        return getTasksFieldBuilder().addBuilder(
+            org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig.Builder addTasksBuilder(
+          int index) {
+        return getTasksFieldBuilder().addBuilder(
+            index, org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig tasks = 4;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig.Builder> 
+           getTasksBuilderList() {
+        return getTasksFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig, org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig.Builder, org.secretflow.v1alpha1.kusciaapi.Job.TaskConfigOrBuilder> 
+          getTasksFieldBuilder() {
+        if (tasksBuilder_ == null) {
+          tasksBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig, org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig.Builder, org.secretflow.v1alpha1.kusciaapi.Job.TaskConfigOrBuilder>(
+                  tasks_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          tasks_ = null;
+        }
+        return tasksBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.Builder, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetailOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 5;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 5;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 5;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 5;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 5;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 5;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 5;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 5;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetailOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.Builder, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetailOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.Builder, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetailOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryJobResponseData)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<QueryJobResponseData>
+        PARSER = new com.google.protobuf.AbstractParser<QueryJobResponseData>() {
+      @java.lang.Override
+      public QueryJobResponseData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<QueryJobResponseData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<QueryJobResponseData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.QueryJobResponseData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface JobStatusDetailOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string state = 1;</code>
+     * @return The state.
+     */
+    java.lang.String getState();
+    /**
+     * <code>string state = 1;</code>
+     * @return The bytes for state.
+     */
+    com.google.protobuf.ByteString
+        getStateBytes();
+
+    /**
+     * <code>string err_msg = 2;</code>
+     * @return The errMsg.
+     */
+    java.lang.String getErrMsg();
+    /**
+     * <code>string err_msg = 2;</code>
+     * @return The bytes for errMsg.
+     */
+    com.google.protobuf.ByteString
+        getErrMsgBytes();
+
+    /**
+     * <code>string create_time = 3;</code>
+     * @return The createTime.
+     */
+    java.lang.String getCreateTime();
+    /**
+     * <code>string create_time = 3;</code>
+     * @return The bytes for createTime.
+     */
+    com.google.protobuf.ByteString
+        getCreateTimeBytes();
+
+    /**
+     * <code>string start_time = 4;</code>
+     * @return The startTime.
+     */
+    java.lang.String getStartTime();
+    /**
+     * <code>string start_time = 4;</code>
+     * @return The bytes for startTime.
+     */
+    com.google.protobuf.ByteString
+        getStartTimeBytes();
+
+    /**
+     * <code>string end_time = 5;</code>
+     * @return The endTime.
+     */
+    java.lang.String getEndTime();
+    /**
+     * <code>string end_time = 5;</code>
+     * @return The bytes for endTime.
+     */
+    com.google.protobuf.ByteString
+        getEndTimeBytes();
+
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+     */
+    java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus> 
+        getTasksList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus getTasks(int index);
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+     */
+    int getTasksCount();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+     */
+    java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Job.TaskStatusOrBuilder> 
+        getTasksOrBuilderList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.TaskStatusOrBuilder getTasksOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail}
+   */
+  public static final class JobStatusDetail extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail)
+      JobStatusDetailOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use JobStatusDetail.newBuilder() to construct.
+    private JobStatusDetail(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private JobStatusDetail() {
+      state_ = "";
+      errMsg_ = "";
+      createTime_ = "";
+      startTime_ = "";
+      endTime_ = "";
+      tasks_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new JobStatusDetail();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusDetail_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusDetail_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.class, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.Builder.class);
+    }
+
+    public static final int STATE_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object state_ = "";
+    /**
+     * <code>string state = 1;</code>
+     * @return The state.
+     */
+    @java.lang.Override
+    public java.lang.String getState() {
+      java.lang.Object ref = state_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        state_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string state = 1;</code>
+     * @return The bytes for state.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getStateBytes() {
+      java.lang.Object ref = state_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        state_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ERR_MSG_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object errMsg_ = "";
+    /**
+     * <code>string err_msg = 2;</code>
+     * @return The errMsg.
+     */
+    @java.lang.Override
+    public java.lang.String getErrMsg() {
+      java.lang.Object ref = errMsg_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        errMsg_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string err_msg = 2;</code>
+     * @return The bytes for errMsg.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getErrMsgBytes() {
+      java.lang.Object ref = errMsg_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        errMsg_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CREATE_TIME_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object createTime_ = "";
+    /**
+     * <code>string create_time = 3;</code>
+     * @return The createTime.
+     */
+    @java.lang.Override
+    public java.lang.String getCreateTime() {
+      java.lang.Object ref = createTime_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        createTime_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string create_time = 3;</code>
+     * @return The bytes for createTime.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCreateTimeBytes() {
+      java.lang.Object ref = createTime_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        createTime_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int START_TIME_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object startTime_ = "";
+    /**
+     * <code>string start_time = 4;</code>
+     * @return The startTime.
+     */
+    @java.lang.Override
+    public java.lang.String getStartTime() {
+      java.lang.Object ref = startTime_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        startTime_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string start_time = 4;</code>
+     * @return The bytes for startTime.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getStartTimeBytes() {
+      java.lang.Object ref = startTime_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        startTime_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int END_TIME_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object endTime_ = "";
+    /**
+     * <code>string end_time = 5;</code>
+     * @return The endTime.
+     */
+    @java.lang.Override
+    public java.lang.String getEndTime() {
+      java.lang.Object ref = endTime_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        endTime_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string end_time = 5;</code>
+     * @return The bytes for endTime.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getEndTimeBytes() {
+      java.lang.Object ref = endTime_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        endTime_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TASKS_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus> tasks_;
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus> getTasksList() {
+      return tasks_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Job.TaskStatusOrBuilder> 
+        getTasksOrBuilderList() {
+      return tasks_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+     */
+    @java.lang.Override
+    public int getTasksCount() {
+      return tasks_.size();
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus getTasks(int index) {
+      return tasks_.get(index);
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.TaskStatusOrBuilder getTasksOrBuilder(
+        int index) {
+      return tasks_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(state_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, state_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(errMsg_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, errMsg_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(createTime_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, createTime_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(startTime_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, startTime_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(endTime_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, endTime_);
+      }
+      for (int i = 0; i < tasks_.size(); i++) {
+        output.writeMessage(6, tasks_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(state_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, state_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(errMsg_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, errMsg_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(createTime_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, createTime_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(startTime_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, startTime_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(endTime_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, endTime_);
+      }
+      for (int i = 0; i < tasks_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, tasks_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail other = (org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail) obj;
+
+      if (!getState()
+          .equals(other.getState())) return false;
+      if (!getErrMsg()
+          .equals(other.getErrMsg())) return false;
+      if (!getCreateTime()
+          .equals(other.getCreateTime())) return false;
+      if (!getStartTime()
+          .equals(other.getStartTime())) return false;
+      if (!getEndTime()
+          .equals(other.getEndTime())) return false;
+      if (!getTasksList()
+          .equals(other.getTasksList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + STATE_FIELD_NUMBER;
+      hash = (53 * hash) + getState().hashCode();
+      hash = (37 * hash) + ERR_MSG_FIELD_NUMBER;
+      hash = (53 * hash) + getErrMsg().hashCode();
+      hash = (37 * hash) + CREATE_TIME_FIELD_NUMBER;
+      hash = (53 * hash) + getCreateTime().hashCode();
+      hash = (37 * hash) + START_TIME_FIELD_NUMBER;
+      hash = (53 * hash) + getStartTime().hashCode();
+      hash = (37 * hash) + END_TIME_FIELD_NUMBER;
+      hash = (53 * hash) + getEndTime().hashCode();
+      if (getTasksCount() > 0) {
+        hash = (37 * hash) + TASKS_FIELD_NUMBER;
+        hash = (53 * hash) + getTasksList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail)
+        org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetailOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusDetail_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusDetail_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.class, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        state_ = "";
+        errMsg_ = "";
+        createTime_ = "";
+        startTime_ = "";
+        endTime_ = "";
+        if (tasksBuilder_ == null) {
+          tasks_ = java.util.Collections.emptyList();
+        } else {
+          tasks_ = null;
+          tasksBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusDetail_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail result = new org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail result) {
+        if (tasksBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) != 0)) {
+            tasks_ = java.util.Collections.unmodifiableList(tasks_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.tasks_ = tasks_;
+        } else {
+          result.tasks_ = tasksBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.state_ = state_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.errMsg_ = errMsg_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.createTime_ = createTime_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.startTime_ = startTime_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.endTime_ = endTime_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.getDefaultInstance()) return this;
+        if (!other.getState().isEmpty()) {
+          state_ = other.state_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getErrMsg().isEmpty()) {
+          errMsg_ = other.errMsg_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getCreateTime().isEmpty()) {
+          createTime_ = other.createTime_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (!other.getStartTime().isEmpty()) {
+          startTime_ = other.startTime_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (!other.getEndTime().isEmpty()) {
+          endTime_ = other.endTime_;
+          bitField0_ |= 0x00000010;
+          onChanged();
+        }
+        if (tasksBuilder_ == null) {
+          if (!other.tasks_.isEmpty()) {
+            if (tasks_.isEmpty()) {
+              tasks_ = other.tasks_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureTasksIsMutable();
+              tasks_.addAll(other.tasks_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.tasks_.isEmpty()) {
+            if (tasksBuilder_.isEmpty()) {
+              tasksBuilder_.dispose();
+              tasksBuilder_ = null;
+              tasks_ = other.tasks_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              tasksBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTasksFieldBuilder() : null;
+            } else {
+              tasksBuilder_.addAllMessages(other.tasks_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                state_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                errMsg_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                createTime_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                startTime_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                endTime_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 50: {
+                org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus m =
+                    input.readMessage(
+                        org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus.parser(),
+                        extensionRegistry);
+                if (tasksBuilder_ == null) {
+                  ensureTasksIsMutable();
+                  tasks_.add(m);
+                } else {
+                  tasksBuilder_.addMessage(m);
+                }
+                break;
+              } // case 50
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object state_ = "";
+      /**
+       * <code>string state = 1;</code>
+       * @return The state.
+       */
+      public java.lang.String getState() {
+        java.lang.Object ref = state_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          state_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string state = 1;</code>
+       * @return The bytes for state.
+       */
+      public com.google.protobuf.ByteString
+          getStateBytes() {
+        java.lang.Object ref = state_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          state_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string state = 1;</code>
+       * @param value The state to set.
+       * @return This builder for chaining.
+       */
+      public Builder setState(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        state_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string state = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearState() {
+        state_ = getDefaultInstance().getState();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string state = 1;</code>
+       * @param value The bytes for state to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStateBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        state_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object errMsg_ = "";
+      /**
+       * <code>string err_msg = 2;</code>
+       * @return The errMsg.
+       */
+      public java.lang.String getErrMsg() {
+        java.lang.Object ref = errMsg_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          errMsg_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string err_msg = 2;</code>
+       * @return The bytes for errMsg.
+       */
+      public com.google.protobuf.ByteString
+          getErrMsgBytes() {
+        java.lang.Object ref = errMsg_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          errMsg_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string err_msg = 2;</code>
+       * @param value The errMsg to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrMsg(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        errMsg_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string err_msg = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearErrMsg() {
+        errMsg_ = getDefaultInstance().getErrMsg();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string err_msg = 2;</code>
+       * @param value The bytes for errMsg to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrMsgBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        errMsg_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object createTime_ = "";
+      /**
+       * <code>string create_time = 3;</code>
+       * @return The createTime.
+       */
+      public java.lang.String getCreateTime() {
+        java.lang.Object ref = createTime_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          createTime_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string create_time = 3;</code>
+       * @return The bytes for createTime.
+       */
+      public com.google.protobuf.ByteString
+          getCreateTimeBytes() {
+        java.lang.Object ref = createTime_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          createTime_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string create_time = 3;</code>
+       * @param value The createTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCreateTime(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        createTime_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string create_time = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCreateTime() {
+        createTime_ = getDefaultInstance().getCreateTime();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string create_time = 3;</code>
+       * @param value The bytes for createTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCreateTimeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        createTime_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object startTime_ = "";
+      /**
+       * <code>string start_time = 4;</code>
+       * @return The startTime.
+       */
+      public java.lang.String getStartTime() {
+        java.lang.Object ref = startTime_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          startTime_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string start_time = 4;</code>
+       * @return The bytes for startTime.
+       */
+      public com.google.protobuf.ByteString
+          getStartTimeBytes() {
+        java.lang.Object ref = startTime_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          startTime_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string start_time = 4;</code>
+       * @param value The startTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStartTime(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        startTime_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string start_time = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStartTime() {
+        startTime_ = getDefaultInstance().getStartTime();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string start_time = 4;</code>
+       * @param value The bytes for startTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStartTimeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        startTime_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object endTime_ = "";
+      /**
+       * <code>string end_time = 5;</code>
+       * @return The endTime.
+       */
+      public java.lang.String getEndTime() {
+        java.lang.Object ref = endTime_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          endTime_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string end_time = 5;</code>
+       * @return The bytes for endTime.
+       */
+      public com.google.protobuf.ByteString
+          getEndTimeBytes() {
+        java.lang.Object ref = endTime_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          endTime_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string end_time = 5;</code>
+       * @param value The endTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEndTime(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        endTime_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string end_time = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEndTime() {
+        endTime_ = getDefaultInstance().getEndTime();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string end_time = 5;</code>
+       * @param value The bytes for endTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEndTimeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        endTime_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus> tasks_ =
+        java.util.Collections.emptyList();
+      private void ensureTasksIsMutable() {
+        if (!((bitField0_ & 0x00000020) != 0)) {
+          tasks_ = new java.util.ArrayList<org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus>(tasks_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus, org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Job.TaskStatusOrBuilder> tasksBuilder_;
+
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus> getTasksList() {
+        if (tasksBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(tasks_);
+        } else {
+          return tasksBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+       */
+      public int getTasksCount() {
+        if (tasksBuilder_ == null) {
+          return tasks_.size();
+        } else {
+          return tasksBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus getTasks(int index) {
+        if (tasksBuilder_ == null) {
+          return tasks_.get(index);
+        } else {
+          return tasksBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+       */
+      public Builder setTasks(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus value) {
+        if (tasksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTasksIsMutable();
+          tasks_.set(index, value);
+          onChanged();
+        } else {
+          tasksBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+       */
+      public Builder setTasks(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus.Builder builderForValue) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          tasksBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+       */
+      public Builder addTasks(org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus value) {
+        if (tasksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTasksIsMutable();
+          tasks_.add(value);
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+       */
+      public Builder addTasks(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus value) {
+        if (tasksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTasksIsMutable();
+          tasks_.add(index, value);
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+       */
+      public Builder addTasks(
+          org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus.Builder builderForValue) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.add(builderForValue.build());
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+       */
+      public Builder addTasks(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus.Builder builderForValue) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          tasksBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+       */
+      public Builder addAllTasks(
+          java.lang.Iterable<? extends org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus> values) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, tasks_);
+          onChanged();
+        } else {
+          tasksBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+       */
+      public Builder clearTasks() {
+        if (tasksBuilder_ == null) {
+          tasks_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          tasksBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+       */
+      public Builder removeTasks(int index) {
+        if (tasksBuilder_ == null) {
+          ensureTasksIsMutable();
+          tasks_.remove(index);
+          onChanged();
+        } else {
+          tasksBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus.Builder getTasksBuilder(
+          int index) {
+        return getTasksFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.TaskStatusOrBuilder getTasksOrBuilder(
+          int index) {
+        if (tasksBuilder_ == null) {
+          return tasks_.get(index);  } else {
+          return tasksBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+       */
+      public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Job.TaskStatusOrBuilder> 
+           getTasksOrBuilderList() {
+        if (tasksBuilder_ != null) {
+          return tasksBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(tasks_);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus.Builder addTasksBuilder() {
+        return getTasksFieldBuilder().addBuilder(
+            org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus.Builder addTasksBuilder(
+          int index) {
+        return getTasksFieldBuilder().addBuilder(
+            index, org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus tasks = 6;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus.Builder> 
+           getTasksBuilderList() {
+        return getTasksFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus, org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Job.TaskStatusOrBuilder> 
+          getTasksFieldBuilder() {
+        if (tasksBuilder_ == null) {
+          tasksBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus, org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Job.TaskStatusOrBuilder>(
+                  tasks_,
+                  ((bitField0_ & 0x00000020) != 0),
+                  getParentForChildren(),
+                  isClean());
+          tasks_ = null;
+        }
+        return tasksBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<JobStatusDetail>
+        PARSER = new com.google.protobuf.AbstractParser<JobStatusDetail>() {
+      @java.lang.Override
+      public JobStatusDetail parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<JobStatusDetail> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<JobStatusDetail> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TaskConfigOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * 镜像
+     * </pre>
+     *
+     * <code>string app_image = 1;</code>
+     * @return The appImage.
+     */
+    java.lang.String getAppImage();
+    /**
+     * <pre>
+     * 镜像
+     * </pre>
+     *
+     * <code>string app_image = 1;</code>
+     * @return The bytes for appImage.
+     */
+    com.google.protobuf.ByteString
+        getAppImageBytes();
+
+    /**
+     * <pre>
+     * 参与方
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+     */
+    java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.Party> 
+        getPartiesList();
+    /**
+     * <pre>
+     * 参与方
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.Party getParties(int index);
+    /**
+     * <pre>
+     * 参与方
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+     */
+    int getPartiesCount();
+    /**
+     * <pre>
+     * 参与方
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+     */
+    java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Job.PartyOrBuilder> 
+        getPartiesOrBuilderList();
+    /**
+     * <pre>
+     * 参与方
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.PartyOrBuilder getPartiesOrBuilder(
+        int index);
+
+    /**
+     * <code>string alias = 3;</code>
+     * @return The alias.
+     */
+    java.lang.String getAlias();
+    /**
+     * <code>string alias = 3;</code>
+     * @return The bytes for alias.
+     */
+    com.google.protobuf.ByteString
+        getAliasBytes();
+
+    /**
+     * <code>string task_id = 4;</code>
+     * @return The taskId.
+     */
+    java.lang.String getTaskId();
+    /**
+     * <code>string task_id = 4;</code>
+     * @return The bytes for taskId.
+     */
+    com.google.protobuf.ByteString
+        getTaskIdBytes();
+
+    /**
+     * <pre>
+     * dependencies tasks
+     * </pre>
+     *
+     * <code>repeated string dependencies = 5;</code>
+     * @return A list containing the dependencies.
+     */
+    java.util.List<java.lang.String>
+        getDependenciesList();
+    /**
+     * <pre>
+     * dependencies tasks
+     * </pre>
+     *
+     * <code>repeated string dependencies = 5;</code>
+     * @return The count of dependencies.
+     */
+    int getDependenciesCount();
+    /**
+     * <pre>
+     * dependencies tasks
+     * </pre>
+     *
+     * <code>repeated string dependencies = 5;</code>
+     * @param index The index of the element to return.
+     * @return The dependencies at the given index.
+     */
+    java.lang.String getDependencies(int index);
+    /**
+     * <pre>
+     * dependencies tasks
+     * </pre>
+     *
+     * <code>repeated string dependencies = 5;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the dependencies at the given index.
+     */
+    com.google.protobuf.ByteString
+        getDependenciesBytes(int index);
+
+    /**
+     * <pre>
+     * task input config
+     * </pre>
+     *
+     * <code>string task_input_config = 6;</code>
+     * @return The taskInputConfig.
+     */
+    java.lang.String getTaskInputConfig();
+    /**
+     * <pre>
+     * task input config
+     * </pre>
+     *
+     * <code>string task_input_config = 6;</code>
+     * @return The bytes for taskInputConfig.
+     */
+    com.google.protobuf.ByteString
+        getTaskInputConfigBytes();
+
+    /**
+     * <code>int32 priority = 7;</code>
+     * @return The priority.
+     */
+    int getPriority();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig}
+   */
+  public static final class TaskConfig extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig)
+      TaskConfigOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TaskConfig.newBuilder() to construct.
+    private TaskConfig(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TaskConfig() {
+      appImage_ = "";
+      parties_ = java.util.Collections.emptyList();
+      alias_ = "";
+      taskId_ = "";
+      dependencies_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      taskInputConfig_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TaskConfig();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TaskConfig_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TaskConfig_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig.class, org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig.Builder.class);
+    }
+
+    public static final int APP_IMAGE_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object appImage_ = "";
+    /**
+     * <pre>
+     * 镜像
+     * </pre>
+     *
+     * <code>string app_image = 1;</code>
+     * @return The appImage.
+     */
+    @java.lang.Override
+    public java.lang.String getAppImage() {
+      java.lang.Object ref = appImage_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        appImage_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * 镜像
+     * </pre>
+     *
+     * <code>string app_image = 1;</code>
+     * @return The bytes for appImage.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getAppImageBytes() {
+      java.lang.Object ref = appImage_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        appImage_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PARTIES_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.Party> parties_;
+    /**
+     * <pre>
+     * 参与方
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.Party> getPartiesList() {
+      return parties_;
+    }
+    /**
+     * <pre>
+     * 参与方
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Job.PartyOrBuilder> 
+        getPartiesOrBuilderList() {
+      return parties_;
+    }
+    /**
+     * <pre>
+     * 参与方
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+     */
+    @java.lang.Override
+    public int getPartiesCount() {
+      return parties_.size();
+    }
+    /**
+     * <pre>
+     * 参与方
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.Party getParties(int index) {
+      return parties_.get(index);
+    }
+    /**
+     * <pre>
+     * 参与方
+     * </pre>
+     *
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.PartyOrBuilder getPartiesOrBuilder(
+        int index) {
+      return parties_.get(index);
+    }
+
+    public static final int ALIAS_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object alias_ = "";
+    /**
+     * <code>string alias = 3;</code>
+     * @return The alias.
+     */
+    @java.lang.Override
+    public java.lang.String getAlias() {
+      java.lang.Object ref = alias_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        alias_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string alias = 3;</code>
+     * @return The bytes for alias.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getAliasBytes() {
+      java.lang.Object ref = alias_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        alias_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TASK_ID_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object taskId_ = "";
+    /**
+     * <code>string task_id = 4;</code>
+     * @return The taskId.
+     */
+    @java.lang.Override
+    public java.lang.String getTaskId() {
+      java.lang.Object ref = taskId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        taskId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string task_id = 4;</code>
+     * @return The bytes for taskId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTaskIdBytes() {
+      java.lang.Object ref = taskId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        taskId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DEPENDENCIES_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList dependencies_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * dependencies tasks
+     * </pre>
+     *
+     * <code>repeated string dependencies = 5;</code>
+     * @return A list containing the dependencies.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getDependenciesList() {
+      return dependencies_;
+    }
+    /**
+     * <pre>
+     * dependencies tasks
+     * </pre>
+     *
+     * <code>repeated string dependencies = 5;</code>
+     * @return The count of dependencies.
+     */
+    public int getDependenciesCount() {
+      return dependencies_.size();
+    }
+    /**
+     * <pre>
+     * dependencies tasks
+     * </pre>
+     *
+     * <code>repeated string dependencies = 5;</code>
+     * @param index The index of the element to return.
+     * @return The dependencies at the given index.
+     */
+    public java.lang.String getDependencies(int index) {
+      return dependencies_.get(index);
+    }
+    /**
+     * <pre>
+     * dependencies tasks
+     * </pre>
+     *
+     * <code>repeated string dependencies = 5;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the dependencies at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getDependenciesBytes(int index) {
+      return dependencies_.getByteString(index);
+    }
+
+    public static final int TASK_INPUT_CONFIG_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object taskInputConfig_ = "";
+    /**
+     * <pre>
+     * task input config
+     * </pre>
+     *
+     * <code>string task_input_config = 6;</code>
+     * @return The taskInputConfig.
+     */
+    @java.lang.Override
+    public java.lang.String getTaskInputConfig() {
+      java.lang.Object ref = taskInputConfig_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        taskInputConfig_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * task input config
+     * </pre>
+     *
+     * <code>string task_input_config = 6;</code>
+     * @return The bytes for taskInputConfig.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTaskInputConfigBytes() {
+      java.lang.Object ref = taskInputConfig_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        taskInputConfig_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PRIORITY_FIELD_NUMBER = 7;
+    private int priority_ = 0;
+    /**
+     * <code>int32 priority = 7;</code>
+     * @return The priority.
+     */
+    @java.lang.Override
+    public int getPriority() {
+      return priority_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(appImage_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, appImage_);
+      }
+      for (int i = 0; i < parties_.size(); i++) {
+        output.writeMessage(2, parties_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(alias_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, alias_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(taskId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, taskId_);
+      }
+      for (int i = 0; i < dependencies_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, dependencies_.getRaw(i));
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(taskInputConfig_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, taskInputConfig_);
+      }
+      if (priority_ != 0) {
+        output.writeInt32(7, priority_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(appImage_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, appImage_);
+      }
+      for (int i = 0; i < parties_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, parties_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(alias_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, alias_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(taskId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, taskId_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < dependencies_.size(); i++) {
+          dataSize += computeStringSizeNoTag(dependencies_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getDependenciesList().size();
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(taskInputConfig_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, taskInputConfig_);
+      }
+      if (priority_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(7, priority_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig other = (org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig) obj;
+
+      if (!getAppImage()
+          .equals(other.getAppImage())) return false;
+      if (!getPartiesList()
+          .equals(other.getPartiesList())) return false;
+      if (!getAlias()
+          .equals(other.getAlias())) return false;
+      if (!getTaskId()
+          .equals(other.getTaskId())) return false;
+      if (!getDependenciesList()
+          .equals(other.getDependenciesList())) return false;
+      if (!getTaskInputConfig()
+          .equals(other.getTaskInputConfig())) return false;
+      if (getPriority()
+          != other.getPriority()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + APP_IMAGE_FIELD_NUMBER;
+      hash = (53 * hash) + getAppImage().hashCode();
+      if (getPartiesCount() > 0) {
+        hash = (37 * hash) + PARTIES_FIELD_NUMBER;
+        hash = (53 * hash) + getPartiesList().hashCode();
+      }
+      hash = (37 * hash) + ALIAS_FIELD_NUMBER;
+      hash = (53 * hash) + getAlias().hashCode();
+      hash = (37 * hash) + TASK_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getTaskId().hashCode();
+      if (getDependenciesCount() > 0) {
+        hash = (37 * hash) + DEPENDENCIES_FIELD_NUMBER;
+        hash = (53 * hash) + getDependenciesList().hashCode();
+      }
+      hash = (37 * hash) + TASK_INPUT_CONFIG_FIELD_NUMBER;
+      hash = (53 * hash) + getTaskInputConfig().hashCode();
+      hash = (37 * hash) + PRIORITY_FIELD_NUMBER;
+      hash = (53 * hash) + getPriority();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig)
+        org.secretflow.v1alpha1.kusciaapi.Job.TaskConfigOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TaskConfig_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TaskConfig_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig.class, org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        appImage_ = "";
+        if (partiesBuilder_ == null) {
+          parties_ = java.util.Collections.emptyList();
+        } else {
+          parties_ = null;
+          partiesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        alias_ = "";
+        taskId_ = "";
+        dependencies_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        taskInputConfig_ = "";
+        priority_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TaskConfig_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig result = new org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig result) {
+        if (partiesBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            parties_ = java.util.Collections.unmodifiableList(parties_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.parties_ = parties_;
+        } else {
+          result.parties_ = partiesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.appImage_ = appImage_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.alias_ = alias_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.taskId_ = taskId_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          dependencies_.makeImmutable();
+          result.dependencies_ = dependencies_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.taskInputConfig_ = taskInputConfig_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.priority_ = priority_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig.getDefaultInstance()) return this;
+        if (!other.getAppImage().isEmpty()) {
+          appImage_ = other.appImage_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (partiesBuilder_ == null) {
+          if (!other.parties_.isEmpty()) {
+            if (parties_.isEmpty()) {
+              parties_ = other.parties_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensurePartiesIsMutable();
+              parties_.addAll(other.parties_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.parties_.isEmpty()) {
+            if (partiesBuilder_.isEmpty()) {
+              partiesBuilder_.dispose();
+              partiesBuilder_ = null;
+              parties_ = other.parties_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              partiesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPartiesFieldBuilder() : null;
+            } else {
+              partiesBuilder_.addAllMessages(other.parties_);
+            }
+          }
+        }
+        if (!other.getAlias().isEmpty()) {
+          alias_ = other.alias_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (!other.getTaskId().isEmpty()) {
+          taskId_ = other.taskId_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (!other.dependencies_.isEmpty()) {
+          if (dependencies_.isEmpty()) {
+            dependencies_ = other.dependencies_;
+            bitField0_ |= 0x00000010;
+          } else {
+            ensureDependenciesIsMutable();
+            dependencies_.addAll(other.dependencies_);
+          }
+          onChanged();
+        }
+        if (!other.getTaskInputConfig().isEmpty()) {
+          taskInputConfig_ = other.taskInputConfig_;
+          bitField0_ |= 0x00000020;
+          onChanged();
+        }
+        if (other.getPriority() != 0) {
+          setPriority(other.getPriority());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                appImage_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                org.secretflow.v1alpha1.kusciaapi.Job.Party m =
+                    input.readMessage(
+                        org.secretflow.v1alpha1.kusciaapi.Job.Party.parser(),
+                        extensionRegistry);
+                if (partiesBuilder_ == null) {
+                  ensurePartiesIsMutable();
+                  parties_.add(m);
+                } else {
+                  partiesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              case 26: {
+                alias_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                taskId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureDependenciesIsMutable();
+                dependencies_.add(s);
+                break;
+              } // case 42
+              case 50: {
+                taskInputConfig_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              case 56: {
+                priority_ = input.readInt32();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object appImage_ = "";
+      /**
+       * <pre>
+       * 镜像
+       * </pre>
+       *
+       * <code>string app_image = 1;</code>
+       * @return The appImage.
+       */
+      public java.lang.String getAppImage() {
+        java.lang.Object ref = appImage_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          appImage_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * 镜像
+       * </pre>
+       *
+       * <code>string app_image = 1;</code>
+       * @return The bytes for appImage.
+       */
+      public com.google.protobuf.ByteString
+          getAppImageBytes() {
+        java.lang.Object ref = appImage_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          appImage_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * 镜像
+       * </pre>
+       *
+       * <code>string app_image = 1;</code>
+       * @param value The appImage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppImage(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        appImage_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 镜像
+       * </pre>
+       *
+       * <code>string app_image = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppImage() {
+        appImage_ = getDefaultInstance().getAppImage();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 镜像
+       * </pre>
+       *
+       * <code>string app_image = 1;</code>
+       * @param value The bytes for appImage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppImageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        appImage_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.Party> parties_ =
+        java.util.Collections.emptyList();
+      private void ensurePartiesIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          parties_ = new java.util.ArrayList<org.secretflow.v1alpha1.kusciaapi.Job.Party>(parties_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.Party, org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder, org.secretflow.v1alpha1.kusciaapi.Job.PartyOrBuilder> partiesBuilder_;
+
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.Party> getPartiesList() {
+        if (partiesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(parties_);
+        } else {
+          return partiesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public int getPartiesCount() {
+        if (partiesBuilder_ == null) {
+          return parties_.size();
+        } else {
+          return partiesBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.Party getParties(int index) {
+        if (partiesBuilder_ == null) {
+          return parties_.get(index);
+        } else {
+          return partiesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public Builder setParties(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.Party value) {
+        if (partiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePartiesIsMutable();
+          parties_.set(index, value);
+          onChanged();
+        } else {
+          partiesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public Builder setParties(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder builderForValue) {
+        if (partiesBuilder_ == null) {
+          ensurePartiesIsMutable();
+          parties_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          partiesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public Builder addParties(org.secretflow.v1alpha1.kusciaapi.Job.Party value) {
+        if (partiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePartiesIsMutable();
+          parties_.add(value);
+          onChanged();
+        } else {
+          partiesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public Builder addParties(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.Party value) {
+        if (partiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePartiesIsMutable();
+          parties_.add(index, value);
+          onChanged();
+        } else {
+          partiesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public Builder addParties(
+          org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder builderForValue) {
+        if (partiesBuilder_ == null) {
+          ensurePartiesIsMutable();
+          parties_.add(builderForValue.build());
+          onChanged();
+        } else {
+          partiesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public Builder addParties(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder builderForValue) {
+        if (partiesBuilder_ == null) {
+          ensurePartiesIsMutable();
+          parties_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          partiesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public Builder addAllParties(
+          java.lang.Iterable<? extends org.secretflow.v1alpha1.kusciaapi.Job.Party> values) {
+        if (partiesBuilder_ == null) {
+          ensurePartiesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, parties_);
+          onChanged();
+        } else {
+          partiesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public Builder clearParties() {
+        if (partiesBuilder_ == null) {
+          parties_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          partiesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public Builder removeParties(int index) {
+        if (partiesBuilder_ == null) {
+          ensurePartiesIsMutable();
+          parties_.remove(index);
+          onChanged();
+        } else {
+          partiesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder getPartiesBuilder(
+          int index) {
+        return getPartiesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.PartyOrBuilder getPartiesOrBuilder(
+          int index) {
+        if (partiesBuilder_ == null) {
+          return parties_.get(index);  } else {
+          return partiesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Job.PartyOrBuilder> 
+           getPartiesOrBuilderList() {
+        if (partiesBuilder_ != null) {
+          return partiesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(parties_);
+        }
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder addPartiesBuilder() {
+        return getPartiesFieldBuilder().addBuilder(
+            org.secretflow.v1alpha1.kusciaapi.Job.Party.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder addPartiesBuilder(
+          int index) {
+        return getPartiesFieldBuilder().addBuilder(
+            index, org.secretflow.v1alpha1.kusciaapi.Job.Party.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * 参与方
+       * </pre>
+       *
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.Party parties = 2;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder> 
+           getPartiesBuilderList() {
+        return getPartiesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.Party, org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder, org.secretflow.v1alpha1.kusciaapi.Job.PartyOrBuilder> 
+          getPartiesFieldBuilder() {
+        if (partiesBuilder_ == null) {
+          partiesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Job.Party, org.secretflow.v1alpha1.kusciaapi.Job.Party.Builder, org.secretflow.v1alpha1.kusciaapi.Job.PartyOrBuilder>(
+                  parties_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          parties_ = null;
+        }
+        return partiesBuilder_;
+      }
+
+      private java.lang.Object alias_ = "";
+      /**
+       * <code>string alias = 3;</code>
+       * @return The alias.
+       */
+      public java.lang.String getAlias() {
+        java.lang.Object ref = alias_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          alias_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string alias = 3;</code>
+       * @return The bytes for alias.
+       */
+      public com.google.protobuf.ByteString
+          getAliasBytes() {
+        java.lang.Object ref = alias_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          alias_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string alias = 3;</code>
+       * @param value The alias to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAlias(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        alias_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string alias = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAlias() {
+        alias_ = getDefaultInstance().getAlias();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string alias = 3;</code>
+       * @param value The bytes for alias to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAliasBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        alias_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object taskId_ = "";
+      /**
+       * <code>string task_id = 4;</code>
+       * @return The taskId.
+       */
+      public java.lang.String getTaskId() {
+        java.lang.Object ref = taskId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          taskId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string task_id = 4;</code>
+       * @return The bytes for taskId.
+       */
+      public com.google.protobuf.ByteString
+          getTaskIdBytes() {
+        java.lang.Object ref = taskId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          taskId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string task_id = 4;</code>
+       * @param value The taskId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTaskId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        taskId_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string task_id = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTaskId() {
+        taskId_ = getDefaultInstance().getTaskId();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string task_id = 4;</code>
+       * @param value The bytes for taskId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTaskIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        taskId_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList dependencies_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureDependenciesIsMutable() {
+        if (!dependencies_.isModifiable()) {
+          dependencies_ = new com.google.protobuf.LazyStringArrayList(dependencies_);
+        }
+        bitField0_ |= 0x00000010;
+      }
+      /**
+       * <pre>
+       * dependencies tasks
+       * </pre>
+       *
+       * <code>repeated string dependencies = 5;</code>
+       * @return A list containing the dependencies.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getDependenciesList() {
+        dependencies_.makeImmutable();
+        return dependencies_;
+      }
+      /**
+       * <pre>
+       * dependencies tasks
+       * </pre>
+       *
+       * <code>repeated string dependencies = 5;</code>
+       * @return The count of dependencies.
+       */
+      public int getDependenciesCount() {
+        return dependencies_.size();
+      }
+      /**
+       * <pre>
+       * dependencies tasks
+       * </pre>
+       *
+       * <code>repeated string dependencies = 5;</code>
+       * @param index The index of the element to return.
+       * @return The dependencies at the given index.
+       */
+      public java.lang.String getDependencies(int index) {
+        return dependencies_.get(index);
+      }
+      /**
+       * <pre>
+       * dependencies tasks
+       * </pre>
+       *
+       * <code>repeated string dependencies = 5;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the dependencies at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getDependenciesBytes(int index) {
+        return dependencies_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * dependencies tasks
+       * </pre>
+       *
+       * <code>repeated string dependencies = 5;</code>
+       * @param index The index to set the value at.
+       * @param value The dependencies to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDependencies(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureDependenciesIsMutable();
+        dependencies_.set(index, value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * dependencies tasks
+       * </pre>
+       *
+       * <code>repeated string dependencies = 5;</code>
+       * @param value The dependencies to add.
+       * @return This builder for chaining.
+       */
+      public Builder addDependencies(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureDependenciesIsMutable();
+        dependencies_.add(value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * dependencies tasks
+       * </pre>
+       *
+       * <code>repeated string dependencies = 5;</code>
+       * @param values The dependencies to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllDependencies(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureDependenciesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, dependencies_);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * dependencies tasks
+       * </pre>
+       *
+       * <code>repeated string dependencies = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDependencies() {
+        dependencies_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * dependencies tasks
+       * </pre>
+       *
+       * <code>repeated string dependencies = 5;</code>
+       * @param value The bytes of the dependencies to add.
+       * @return This builder for chaining.
+       */
+      public Builder addDependenciesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureDependenciesIsMutable();
+        dependencies_.add(value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object taskInputConfig_ = "";
+      /**
+       * <pre>
+       * task input config
+       * </pre>
+       *
+       * <code>string task_input_config = 6;</code>
+       * @return The taskInputConfig.
+       */
+      public java.lang.String getTaskInputConfig() {
+        java.lang.Object ref = taskInputConfig_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          taskInputConfig_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * task input config
+       * </pre>
+       *
+       * <code>string task_input_config = 6;</code>
+       * @return The bytes for taskInputConfig.
+       */
+      public com.google.protobuf.ByteString
+          getTaskInputConfigBytes() {
+        java.lang.Object ref = taskInputConfig_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          taskInputConfig_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * task input config
+       * </pre>
+       *
+       * <code>string task_input_config = 6;</code>
+       * @param value The taskInputConfig to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTaskInputConfig(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        taskInputConfig_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * task input config
+       * </pre>
+       *
+       * <code>string task_input_config = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTaskInputConfig() {
+        taskInputConfig_ = getDefaultInstance().getTaskInputConfig();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * task input config
+       * </pre>
+       *
+       * <code>string task_input_config = 6;</code>
+       * @param value The bytes for taskInputConfig to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTaskInputConfigBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        taskInputConfig_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+
+      private int priority_ ;
+      /**
+       * <code>int32 priority = 7;</code>
+       * @return The priority.
+       */
+      @java.lang.Override
+      public int getPriority() {
+        return priority_;
+      }
+      /**
+       * <code>int32 priority = 7;</code>
+       * @param value The priority to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPriority(int value) {
+
+        priority_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 priority = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPriority() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        priority_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.TaskConfig)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TaskConfig>
+        PARSER = new com.google.protobuf.AbstractParser<TaskConfig>() {
+      @java.lang.Override
+      public TaskConfig parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<TaskConfig> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TaskConfig> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.TaskConfig getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TaskStatusOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string task_id = 1;</code>
+     * @return The taskId.
+     */
+    java.lang.String getTaskId();
+    /**
+     * <code>string task_id = 1;</code>
+     * @return The bytes for taskId.
+     */
+    com.google.protobuf.ByteString
+        getTaskIdBytes();
+
+    /**
+     * <code>string state = 2;</code>
+     * @return The state.
+     */
+    java.lang.String getState();
+    /**
+     * <code>string state = 2;</code>
+     * @return The bytes for state.
+     */
+    com.google.protobuf.ByteString
+        getStateBytes();
+
+    /**
+     * <code>string err_msg = 3;</code>
+     * @return The errMsg.
+     */
+    java.lang.String getErrMsg();
+    /**
+     * <code>string err_msg = 3;</code>
+     * @return The bytes for errMsg.
+     */
+    com.google.protobuf.ByteString
+        getErrMsgBytes();
+
+    /**
+     * <code>string create_time = 4;</code>
+     * @return The createTime.
+     */
+    java.lang.String getCreateTime();
+    /**
+     * <code>string create_time = 4;</code>
+     * @return The bytes for createTime.
+     */
+    com.google.protobuf.ByteString
+        getCreateTimeBytes();
+
+    /**
+     * <code>string start_time = 5;</code>
+     * @return The startTime.
+     */
+    java.lang.String getStartTime();
+    /**
+     * <code>string start_time = 5;</code>
+     * @return The bytes for startTime.
+     */
+    com.google.protobuf.ByteString
+        getStartTimeBytes();
+
+    /**
+     * <code>string end_time = 6;</code>
+     * @return The endTime.
+     */
+    java.lang.String getEndTime();
+    /**
+     * <code>string end_time = 6;</code>
+     * @return The bytes for endTime.
+     */
+    com.google.protobuf.ByteString
+        getEndTimeBytes();
+
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+     */
+    java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus> 
+        getPartiesList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus getParties(int index);
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+     */
+    int getPartiesCount();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+     */
+    java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Job.PartyStatusOrBuilder> 
+        getPartiesOrBuilderList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.PartyStatusOrBuilder getPartiesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus}
+   */
+  public static final class TaskStatus extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus)
+      TaskStatusOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TaskStatus.newBuilder() to construct.
+    private TaskStatus(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TaskStatus() {
+      taskId_ = "";
+      state_ = "";
+      errMsg_ = "";
+      createTime_ = "";
+      startTime_ = "";
+      endTime_ = "";
+      parties_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TaskStatus();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TaskStatus_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TaskStatus_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus.class, org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus.Builder.class);
+    }
+
+    public static final int TASK_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object taskId_ = "";
+    /**
+     * <code>string task_id = 1;</code>
+     * @return The taskId.
+     */
+    @java.lang.Override
+    public java.lang.String getTaskId() {
+      java.lang.Object ref = taskId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        taskId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string task_id = 1;</code>
+     * @return The bytes for taskId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTaskIdBytes() {
+      java.lang.Object ref = taskId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        taskId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STATE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object state_ = "";
+    /**
+     * <code>string state = 2;</code>
+     * @return The state.
+     */
+    @java.lang.Override
+    public java.lang.String getState() {
+      java.lang.Object ref = state_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        state_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string state = 2;</code>
+     * @return The bytes for state.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getStateBytes() {
+      java.lang.Object ref = state_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        state_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ERR_MSG_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object errMsg_ = "";
+    /**
+     * <code>string err_msg = 3;</code>
+     * @return The errMsg.
+     */
+    @java.lang.Override
+    public java.lang.String getErrMsg() {
+      java.lang.Object ref = errMsg_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        errMsg_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string err_msg = 3;</code>
+     * @return The bytes for errMsg.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getErrMsgBytes() {
+      java.lang.Object ref = errMsg_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        errMsg_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CREATE_TIME_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object createTime_ = "";
+    /**
+     * <code>string create_time = 4;</code>
+     * @return The createTime.
+     */
+    @java.lang.Override
+    public java.lang.String getCreateTime() {
+      java.lang.Object ref = createTime_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        createTime_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string create_time = 4;</code>
+     * @return The bytes for createTime.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCreateTimeBytes() {
+      java.lang.Object ref = createTime_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        createTime_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int START_TIME_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object startTime_ = "";
+    /**
+     * <code>string start_time = 5;</code>
+     * @return The startTime.
+     */
+    @java.lang.Override
+    public java.lang.String getStartTime() {
+      java.lang.Object ref = startTime_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        startTime_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string start_time = 5;</code>
+     * @return The bytes for startTime.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getStartTimeBytes() {
+      java.lang.Object ref = startTime_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        startTime_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int END_TIME_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object endTime_ = "";
+    /**
+     * <code>string end_time = 6;</code>
+     * @return The endTime.
+     */
+    @java.lang.Override
+    public java.lang.String getEndTime() {
+      java.lang.Object ref = endTime_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        endTime_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string end_time = 6;</code>
+     * @return The bytes for endTime.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getEndTimeBytes() {
+      java.lang.Object ref = endTime_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        endTime_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PARTIES_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus> parties_;
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus> getPartiesList() {
+      return parties_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Job.PartyStatusOrBuilder> 
+        getPartiesOrBuilderList() {
+      return parties_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+     */
+    @java.lang.Override
+    public int getPartiesCount() {
+      return parties_.size();
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus getParties(int index) {
+      return parties_.get(index);
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.PartyStatusOrBuilder getPartiesOrBuilder(
+        int index) {
+      return parties_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(taskId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, taskId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(state_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, state_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(errMsg_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, errMsg_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(createTime_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, createTime_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(startTime_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, startTime_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(endTime_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, endTime_);
+      }
+      for (int i = 0; i < parties_.size(); i++) {
+        output.writeMessage(7, parties_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(taskId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, taskId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(state_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, state_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(errMsg_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, errMsg_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(createTime_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, createTime_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(startTime_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, startTime_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(endTime_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, endTime_);
+      }
+      for (int i = 0; i < parties_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, parties_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus other = (org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus) obj;
+
+      if (!getTaskId()
+          .equals(other.getTaskId())) return false;
+      if (!getState()
+          .equals(other.getState())) return false;
+      if (!getErrMsg()
+          .equals(other.getErrMsg())) return false;
+      if (!getCreateTime()
+          .equals(other.getCreateTime())) return false;
+      if (!getStartTime()
+          .equals(other.getStartTime())) return false;
+      if (!getEndTime()
+          .equals(other.getEndTime())) return false;
+      if (!getPartiesList()
+          .equals(other.getPartiesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TASK_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getTaskId().hashCode();
+      hash = (37 * hash) + STATE_FIELD_NUMBER;
+      hash = (53 * hash) + getState().hashCode();
+      hash = (37 * hash) + ERR_MSG_FIELD_NUMBER;
+      hash = (53 * hash) + getErrMsg().hashCode();
+      hash = (37 * hash) + CREATE_TIME_FIELD_NUMBER;
+      hash = (53 * hash) + getCreateTime().hashCode();
+      hash = (37 * hash) + START_TIME_FIELD_NUMBER;
+      hash = (53 * hash) + getStartTime().hashCode();
+      hash = (37 * hash) + END_TIME_FIELD_NUMBER;
+      hash = (53 * hash) + getEndTime().hashCode();
+      if (getPartiesCount() > 0) {
+        hash = (37 * hash) + PARTIES_FIELD_NUMBER;
+        hash = (53 * hash) + getPartiesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus)
+        org.secretflow.v1alpha1.kusciaapi.Job.TaskStatusOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TaskStatus_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TaskStatus_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus.class, org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        taskId_ = "";
+        state_ = "";
+        errMsg_ = "";
+        createTime_ = "";
+        startTime_ = "";
+        endTime_ = "";
+        if (partiesBuilder_ == null) {
+          parties_ = java.util.Collections.emptyList();
+        } else {
+          parties_ = null;
+          partiesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TaskStatus_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus result = new org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus result) {
+        if (partiesBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) != 0)) {
+            parties_ = java.util.Collections.unmodifiableList(parties_);
+            bitField0_ = (bitField0_ & ~0x00000040);
+          }
+          result.parties_ = parties_;
+        } else {
+          result.parties_ = partiesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.taskId_ = taskId_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.state_ = state_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.errMsg_ = errMsg_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.createTime_ = createTime_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.startTime_ = startTime_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.endTime_ = endTime_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus.getDefaultInstance()) return this;
+        if (!other.getTaskId().isEmpty()) {
+          taskId_ = other.taskId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getState().isEmpty()) {
+          state_ = other.state_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getErrMsg().isEmpty()) {
+          errMsg_ = other.errMsg_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (!other.getCreateTime().isEmpty()) {
+          createTime_ = other.createTime_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (!other.getStartTime().isEmpty()) {
+          startTime_ = other.startTime_;
+          bitField0_ |= 0x00000010;
+          onChanged();
+        }
+        if (!other.getEndTime().isEmpty()) {
+          endTime_ = other.endTime_;
+          bitField0_ |= 0x00000020;
+          onChanged();
+        }
+        if (partiesBuilder_ == null) {
+          if (!other.parties_.isEmpty()) {
+            if (parties_.isEmpty()) {
+              parties_ = other.parties_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+            } else {
+              ensurePartiesIsMutable();
+              parties_.addAll(other.parties_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.parties_.isEmpty()) {
+            if (partiesBuilder_.isEmpty()) {
+              partiesBuilder_.dispose();
+              partiesBuilder_ = null;
+              parties_ = other.parties_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+              partiesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPartiesFieldBuilder() : null;
+            } else {
+              partiesBuilder_.addAllMessages(other.parties_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                taskId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                state_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                errMsg_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                createTime_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                startTime_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 50: {
+                endTime_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              case 58: {
+                org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus m =
+                    input.readMessage(
+                        org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus.parser(),
+                        extensionRegistry);
+                if (partiesBuilder_ == null) {
+                  ensurePartiesIsMutable();
+                  parties_.add(m);
+                } else {
+                  partiesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 58
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object taskId_ = "";
+      /**
+       * <code>string task_id = 1;</code>
+       * @return The taskId.
+       */
+      public java.lang.String getTaskId() {
+        java.lang.Object ref = taskId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          taskId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string task_id = 1;</code>
+       * @return The bytes for taskId.
+       */
+      public com.google.protobuf.ByteString
+          getTaskIdBytes() {
+        java.lang.Object ref = taskId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          taskId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string task_id = 1;</code>
+       * @param value The taskId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTaskId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        taskId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string task_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTaskId() {
+        taskId_ = getDefaultInstance().getTaskId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string task_id = 1;</code>
+       * @param value The bytes for taskId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTaskIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        taskId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object state_ = "";
+      /**
+       * <code>string state = 2;</code>
+       * @return The state.
+       */
+      public java.lang.String getState() {
+        java.lang.Object ref = state_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          state_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string state = 2;</code>
+       * @return The bytes for state.
+       */
+      public com.google.protobuf.ByteString
+          getStateBytes() {
+        java.lang.Object ref = state_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          state_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string state = 2;</code>
+       * @param value The state to set.
+       * @return This builder for chaining.
+       */
+      public Builder setState(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        state_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string state = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearState() {
+        state_ = getDefaultInstance().getState();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string state = 2;</code>
+       * @param value The bytes for state to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStateBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        state_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object errMsg_ = "";
+      /**
+       * <code>string err_msg = 3;</code>
+       * @return The errMsg.
+       */
+      public java.lang.String getErrMsg() {
+        java.lang.Object ref = errMsg_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          errMsg_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string err_msg = 3;</code>
+       * @return The bytes for errMsg.
+       */
+      public com.google.protobuf.ByteString
+          getErrMsgBytes() {
+        java.lang.Object ref = errMsg_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          errMsg_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string err_msg = 3;</code>
+       * @param value The errMsg to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrMsg(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        errMsg_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string err_msg = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearErrMsg() {
+        errMsg_ = getDefaultInstance().getErrMsg();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string err_msg = 3;</code>
+       * @param value The bytes for errMsg to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrMsgBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        errMsg_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object createTime_ = "";
+      /**
+       * <code>string create_time = 4;</code>
+       * @return The createTime.
+       */
+      public java.lang.String getCreateTime() {
+        java.lang.Object ref = createTime_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          createTime_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string create_time = 4;</code>
+       * @return The bytes for createTime.
+       */
+      public com.google.protobuf.ByteString
+          getCreateTimeBytes() {
+        java.lang.Object ref = createTime_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          createTime_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string create_time = 4;</code>
+       * @param value The createTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCreateTime(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        createTime_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string create_time = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCreateTime() {
+        createTime_ = getDefaultInstance().getCreateTime();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string create_time = 4;</code>
+       * @param value The bytes for createTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCreateTimeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        createTime_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object startTime_ = "";
+      /**
+       * <code>string start_time = 5;</code>
+       * @return The startTime.
+       */
+      public java.lang.String getStartTime() {
+        java.lang.Object ref = startTime_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          startTime_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string start_time = 5;</code>
+       * @return The bytes for startTime.
+       */
+      public com.google.protobuf.ByteString
+          getStartTimeBytes() {
+        java.lang.Object ref = startTime_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          startTime_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string start_time = 5;</code>
+       * @param value The startTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStartTime(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        startTime_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string start_time = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStartTime() {
+        startTime_ = getDefaultInstance().getStartTime();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string start_time = 5;</code>
+       * @param value The bytes for startTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStartTimeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        startTime_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object endTime_ = "";
+      /**
+       * <code>string end_time = 6;</code>
+       * @return The endTime.
+       */
+      public java.lang.String getEndTime() {
+        java.lang.Object ref = endTime_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          endTime_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string end_time = 6;</code>
+       * @return The bytes for endTime.
+       */
+      public com.google.protobuf.ByteString
+          getEndTimeBytes() {
+        java.lang.Object ref = endTime_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          endTime_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string end_time = 6;</code>
+       * @param value The endTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEndTime(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        endTime_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string end_time = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEndTime() {
+        endTime_ = getDefaultInstance().getEndTime();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string end_time = 6;</code>
+       * @param value The bytes for endTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEndTimeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        endTime_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus> parties_ =
+        java.util.Collections.emptyList();
+      private void ensurePartiesIsMutable() {
+        if (!((bitField0_ & 0x00000040) != 0)) {
+          parties_ = new java.util.ArrayList<org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus>(parties_);
+          bitField0_ |= 0x00000040;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus, org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Job.PartyStatusOrBuilder> partiesBuilder_;
+
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus> getPartiesList() {
+        if (partiesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(parties_);
+        } else {
+          return partiesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+       */
+      public int getPartiesCount() {
+        if (partiesBuilder_ == null) {
+          return parties_.size();
+        } else {
+          return partiesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus getParties(int index) {
+        if (partiesBuilder_ == null) {
+          return parties_.get(index);
+        } else {
+          return partiesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+       */
+      public Builder setParties(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus value) {
+        if (partiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePartiesIsMutable();
+          parties_.set(index, value);
+          onChanged();
+        } else {
+          partiesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+       */
+      public Builder setParties(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus.Builder builderForValue) {
+        if (partiesBuilder_ == null) {
+          ensurePartiesIsMutable();
+          parties_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          partiesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+       */
+      public Builder addParties(org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus value) {
+        if (partiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePartiesIsMutable();
+          parties_.add(value);
+          onChanged();
+        } else {
+          partiesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+       */
+      public Builder addParties(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus value) {
+        if (partiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePartiesIsMutable();
+          parties_.add(index, value);
+          onChanged();
+        } else {
+          partiesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+       */
+      public Builder addParties(
+          org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus.Builder builderForValue) {
+        if (partiesBuilder_ == null) {
+          ensurePartiesIsMutable();
+          parties_.add(builderForValue.build());
+          onChanged();
+        } else {
+          partiesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+       */
+      public Builder addParties(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus.Builder builderForValue) {
+        if (partiesBuilder_ == null) {
+          ensurePartiesIsMutable();
+          parties_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          partiesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+       */
+      public Builder addAllParties(
+          java.lang.Iterable<? extends org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus> values) {
+        if (partiesBuilder_ == null) {
+          ensurePartiesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, parties_);
+          onChanged();
+        } else {
+          partiesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+       */
+      public Builder clearParties() {
+        if (partiesBuilder_ == null) {
+          parties_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+          onChanged();
+        } else {
+          partiesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+       */
+      public Builder removeParties(int index) {
+        if (partiesBuilder_ == null) {
+          ensurePartiesIsMutable();
+          parties_.remove(index);
+          onChanged();
+        } else {
+          partiesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus.Builder getPartiesBuilder(
+          int index) {
+        return getPartiesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.PartyStatusOrBuilder getPartiesOrBuilder(
+          int index) {
+        if (partiesBuilder_ == null) {
+          return parties_.get(index);  } else {
+          return partiesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+       */
+      public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Job.PartyStatusOrBuilder> 
+           getPartiesOrBuilderList() {
+        if (partiesBuilder_ != null) {
+          return partiesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(parties_);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus.Builder addPartiesBuilder() {
+        return getPartiesFieldBuilder().addBuilder(
+            org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus.Builder addPartiesBuilder(
+          int index) {
+        return getPartiesFieldBuilder().addBuilder(
+            index, org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus parties = 7;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus.Builder> 
+           getPartiesBuilderList() {
+        return getPartiesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus, org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Job.PartyStatusOrBuilder> 
+          getPartiesFieldBuilder() {
+        if (partiesBuilder_ == null) {
+          partiesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus, org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Job.PartyStatusOrBuilder>(
+                  parties_,
+                  ((bitField0_ & 0x00000040) != 0),
+                  getParentForChildren(),
+                  isClean());
+          parties_ = null;
+        }
+        return partiesBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.TaskStatus)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TaskStatus>
+        PARSER = new com.google.protobuf.AbstractParser<TaskStatus>() {
+      @java.lang.Override
+      public TaskStatus parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<TaskStatus> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TaskStatus> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.TaskStatus getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PartyStatusOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string domain_id = 1;</code>
+     * @return The domainId.
+     */
+    java.lang.String getDomainId();
+    /**
+     * <code>string domain_id = 1;</code>
+     * @return The bytes for domainId.
+     */
+    com.google.protobuf.ByteString
+        getDomainIdBytes();
+
+    /**
+     * <code>string state = 2;</code>
+     * @return The state.
+     */
+    java.lang.String getState();
+    /**
+     * <code>string state = 2;</code>
+     * @return The bytes for state.
+     */
+    com.google.protobuf.ByteString
+        getStateBytes();
+
+    /**
+     * <code>string err_msg = 3;</code>
+     * @return The errMsg.
+     */
+    java.lang.String getErrMsg();
+    /**
+     * <code>string err_msg = 3;</code>
+     * @return The bytes for errMsg.
+     */
+    com.google.protobuf.ByteString
+        getErrMsgBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus}
+   */
+  public static final class PartyStatus extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus)
+      PartyStatusOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PartyStatus.newBuilder() to construct.
+    private PartyStatus(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PartyStatus() {
+      domainId_ = "";
+      state_ = "";
+      errMsg_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new PartyStatus();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_PartyStatus_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_PartyStatus_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus.class, org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus.Builder.class);
+    }
+
+    public static final int DOMAIN_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domainId_ = "";
+    /**
+     * <code>string domain_id = 1;</code>
+     * @return The domainId.
+     */
+    @java.lang.Override
+    public java.lang.String getDomainId() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domainId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string domain_id = 1;</code>
+     * @return The bytes for domainId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomainIdBytes() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domainId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STATE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object state_ = "";
+    /**
+     * <code>string state = 2;</code>
+     * @return The state.
+     */
+    @java.lang.Override
+    public java.lang.String getState() {
+      java.lang.Object ref = state_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        state_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string state = 2;</code>
+     * @return The bytes for state.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getStateBytes() {
+      java.lang.Object ref = state_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        state_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ERR_MSG_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object errMsg_ = "";
+    /**
+     * <code>string err_msg = 3;</code>
+     * @return The errMsg.
+     */
+    @java.lang.Override
+    public java.lang.String getErrMsg() {
+      java.lang.Object ref = errMsg_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        errMsg_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string err_msg = 3;</code>
+     * @return The bytes for errMsg.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getErrMsgBytes() {
+      java.lang.Object ref = errMsg_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        errMsg_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(state_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, state_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(errMsg_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, errMsg_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(state_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, state_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(errMsg_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, errMsg_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus other = (org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus) obj;
+
+      if (!getDomainId()
+          .equals(other.getDomainId())) return false;
+      if (!getState()
+          .equals(other.getState())) return false;
+      if (!getErrMsg()
+          .equals(other.getErrMsg())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DOMAIN_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDomainId().hashCode();
+      hash = (37 * hash) + STATE_FIELD_NUMBER;
+      hash = (53 * hash) + getState().hashCode();
+      hash = (37 * hash) + ERR_MSG_FIELD_NUMBER;
+      hash = (53 * hash) + getErrMsg().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus)
+        org.secretflow.v1alpha1.kusciaapi.Job.PartyStatusOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_PartyStatus_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_PartyStatus_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus.class, org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        domainId_ = "";
+        state_ = "";
+        errMsg_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_PartyStatus_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus result = new org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.domainId_ = domainId_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.state_ = state_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.errMsg_ = errMsg_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus.getDefaultInstance()) return this;
+        if (!other.getDomainId().isEmpty()) {
+          domainId_ = other.domainId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getState().isEmpty()) {
+          state_ = other.state_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getErrMsg().isEmpty()) {
+          errMsg_ = other.errMsg_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                domainId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                state_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                errMsg_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object domainId_ = "";
+      /**
+       * <code>string domain_id = 1;</code>
+       * @return The domainId.
+       */
+      public java.lang.String getDomainId() {
+        java.lang.Object ref = domainId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domainId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string domain_id = 1;</code>
+       * @return The bytes for domainId.
+       */
+      public com.google.protobuf.ByteString
+          getDomainIdBytes() {
+        java.lang.Object ref = domainId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domainId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string domain_id = 1;</code>
+       * @param value The domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domainId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domain_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomainId() {
+        domainId_ = getDefaultInstance().getDomainId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domain_id = 1;</code>
+       * @param value The bytes for domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domainId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object state_ = "";
+      /**
+       * <code>string state = 2;</code>
+       * @return The state.
+       */
+      public java.lang.String getState() {
+        java.lang.Object ref = state_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          state_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string state = 2;</code>
+       * @return The bytes for state.
+       */
+      public com.google.protobuf.ByteString
+          getStateBytes() {
+        java.lang.Object ref = state_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          state_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string state = 2;</code>
+       * @param value The state to set.
+       * @return This builder for chaining.
+       */
+      public Builder setState(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        state_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string state = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearState() {
+        state_ = getDefaultInstance().getState();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string state = 2;</code>
+       * @param value The bytes for state to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStateBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        state_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object errMsg_ = "";
+      /**
+       * <code>string err_msg = 3;</code>
+       * @return The errMsg.
+       */
+      public java.lang.String getErrMsg() {
+        java.lang.Object ref = errMsg_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          errMsg_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string err_msg = 3;</code>
+       * @return The bytes for errMsg.
+       */
+      public com.google.protobuf.ByteString
+          getErrMsgBytes() {
+        java.lang.Object ref = errMsg_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          errMsg_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string err_msg = 3;</code>
+       * @param value The errMsg to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrMsg(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        errMsg_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string err_msg = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearErrMsg() {
+        errMsg_ = getDefaultInstance().getErrMsg();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string err_msg = 3;</code>
+       * @param value The bytes for errMsg to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrMsgBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        errMsg_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.PartyStatus)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PartyStatus>
+        PARSER = new com.google.protobuf.AbstractParser<PartyStatus>() {
+      @java.lang.Override
+      public PartyStatus parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PartyStatus> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PartyStatus> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.PartyStatus getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchQueryJobStatusRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>repeated string job_ids = 2;</code>
+     * @return A list containing the jobIds.
+     */
+    java.util.List<java.lang.String>
+        getJobIdsList();
+    /**
+     * <code>repeated string job_ids = 2;</code>
+     * @return The count of jobIds.
+     */
+    int getJobIdsCount();
+    /**
+     * <code>repeated string job_ids = 2;</code>
+     * @param index The index of the element to return.
+     * @return The jobIds at the given index.
+     */
+    java.lang.String getJobIds(int index);
+    /**
+     * <code>repeated string job_ids = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the jobIds at the given index.
+     */
+    com.google.protobuf.ByteString
+        getJobIdsBytes(int index);
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusRequest}
+   */
+  public static final class BatchQueryJobStatusRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusRequest)
+      BatchQueryJobStatusRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchQueryJobStatusRequest.newBuilder() to construct.
+    private BatchQueryJobStatusRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchQueryJobStatusRequest() {
+      jobIds_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchQueryJobStatusRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest.class, org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    public static final int JOB_IDS_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList jobIds_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <code>repeated string job_ids = 2;</code>
+     * @return A list containing the jobIds.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getJobIdsList() {
+      return jobIds_;
+    }
+    /**
+     * <code>repeated string job_ids = 2;</code>
+     * @return The count of jobIds.
+     */
+    public int getJobIdsCount() {
+      return jobIds_.size();
+    }
+    /**
+     * <code>repeated string job_ids = 2;</code>
+     * @param index The index of the element to return.
+     * @return The jobIds at the given index.
+     */
+    public java.lang.String getJobIds(int index) {
+      return jobIds_.get(index);
+    }
+    /**
+     * <code>repeated string job_ids = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the jobIds at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getJobIdsBytes(int index) {
+      return jobIds_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      for (int i = 0; i < jobIds_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, jobIds_.getRaw(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < jobIds_.size(); i++) {
+          dataSize += computeStringSizeNoTag(jobIds_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getJobIdsList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest other = (org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (!getJobIdsList()
+          .equals(other.getJobIdsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      if (getJobIdsCount() > 0) {
+        hash = (37 * hash) + JOB_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getJobIdsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusRequest)
+        org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest.class, org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        jobIds_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest result = new org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          jobIds_.makeImmutable();
+          result.jobIds_ = jobIds_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (!other.jobIds_.isEmpty()) {
+          if (jobIds_.isEmpty()) {
+            jobIds_ = other.jobIds_;
+            bitField0_ |= 0x00000002;
+          } else {
+            ensureJobIdsIsMutable();
+            jobIds_.addAll(other.jobIds_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureJobIdsIsMutable();
+                jobIds_.add(s);
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private com.google.protobuf.LazyStringArrayList jobIds_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureJobIdsIsMutable() {
+        if (!jobIds_.isModifiable()) {
+          jobIds_ = new com.google.protobuf.LazyStringArrayList(jobIds_);
+        }
+        bitField0_ |= 0x00000002;
+      }
+      /**
+       * <code>repeated string job_ids = 2;</code>
+       * @return A list containing the jobIds.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getJobIdsList() {
+        jobIds_.makeImmutable();
+        return jobIds_;
+      }
+      /**
+       * <code>repeated string job_ids = 2;</code>
+       * @return The count of jobIds.
+       */
+      public int getJobIdsCount() {
+        return jobIds_.size();
+      }
+      /**
+       * <code>repeated string job_ids = 2;</code>
+       * @param index The index of the element to return.
+       * @return The jobIds at the given index.
+       */
+      public java.lang.String getJobIds(int index) {
+        return jobIds_.get(index);
+      }
+      /**
+       * <code>repeated string job_ids = 2;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the jobIds at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getJobIdsBytes(int index) {
+        return jobIds_.getByteString(index);
+      }
+      /**
+       * <code>repeated string job_ids = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The jobIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobIds(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureJobIdsIsMutable();
+        jobIds_.set(index, value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string job_ids = 2;</code>
+       * @param value The jobIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addJobIds(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureJobIdsIsMutable();
+        jobIds_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string job_ids = 2;</code>
+       * @param values The jobIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllJobIds(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureJobIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, jobIds_);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string job_ids = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearJobIds() {
+        jobIds_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string job_ids = 2;</code>
+       * @param value The bytes of the jobIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addJobIdsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureJobIdsIsMutable();
+        jobIds_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchQueryJobStatusRequest>
+        PARSER = new com.google.protobuf.AbstractParser<BatchQueryJobStatusRequest>() {
+      @java.lang.Override
+      public BatchQueryJobStatusRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchQueryJobStatusRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchQueryJobStatusRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchQueryJobStatusResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    boolean hasData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData data = 2;</code>
+     * @return The data.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData getData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData data = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseDataOrBuilder getDataOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponse}
+   */
+  public static final class BatchQueryJobStatusResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponse)
+      BatchQueryJobStatusResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchQueryJobStatusResponse.newBuilder() to construct.
+    private BatchQueryJobStatusResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchQueryJobStatusResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchQueryJobStatusResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse.class, org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    private org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData data_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    @java.lang.Override
+    public boolean hasData() {
+      return data_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData data = 2;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData getData() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData.getDefaultInstance() : data_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData data = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseDataOrBuilder getDataOrBuilder() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData.getDefaultInstance() : data_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      if (data_ != null) {
+        output.writeMessage(2, getData());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      if (data_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getData());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse other = (org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (hasData() != other.hasData()) return false;
+      if (hasData()) {
+        if (!getData()
+            .equals(other.getData())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponse)
+        org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse.class, org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse result = new org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.data_ = dataBuilder_ == null
+              ? data_
+              : dataBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        if (other.hasData()) {
+          mergeData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getDataFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData data_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData, org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseDataOrBuilder> dataBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData data = 2;</code>
+       * @return Whether the data field is set.
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData data = 2;</code>
+       * @return The data.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData getData() {
+        if (dataBuilder_ == null) {
+          return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData.getDefaultInstance() : data_;
+        } else {
+          return dataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData data = 2;</code>
+       */
+      public Builder setData(org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          data_ = value;
+        } else {
+          dataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData data = 2;</code>
+       */
+      public Builder setData(
+          org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
+        } else {
+          dataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData data = 2;</code>
+       */
+      public Builder mergeData(org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData value) {
+        if (dataBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            data_ != null &&
+            data_ != org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData.getDefaultInstance()) {
+            getDataBuilder().mergeFrom(value);
+          } else {
+            data_ = value;
+          }
+        } else {
+          dataBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData data = 2;</code>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData.Builder getDataBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseDataOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
+        } else {
+          return data_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData.getDefaultInstance() : data_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData data = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData, org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseDataOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData, org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseDataOrBuilder>(
+                  getData(),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchQueryJobStatusResponse>
+        PARSER = new com.google.protobuf.AbstractParser<BatchQueryJobStatusResponse>() {
+      @java.lang.Override
+      public BatchQueryJobStatusResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchQueryJobStatusResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchQueryJobStatusResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchQueryJobStatusResponseDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+     */
+    java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.JobStatus> 
+        getJobsList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.JobStatus getJobs(int index);
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+     */
+    int getJobsCount();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+     */
+    java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Job.JobStatusOrBuilder> 
+        getJobsOrBuilderList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.JobStatusOrBuilder getJobsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData}
+   */
+  public static final class BatchQueryJobStatusResponseData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData)
+      BatchQueryJobStatusResponseDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchQueryJobStatusResponseData.newBuilder() to construct.
+    private BatchQueryJobStatusResponseData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchQueryJobStatusResponseData() {
+      jobs_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchQueryJobStatusResponseData();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusResponseData_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusResponseData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData.class, org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData.Builder.class);
+    }
+
+    public static final int JOBS_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.JobStatus> jobs_;
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.JobStatus> getJobsList() {
+      return jobs_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Job.JobStatusOrBuilder> 
+        getJobsOrBuilderList() {
+      return jobs_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+     */
+    @java.lang.Override
+    public int getJobsCount() {
+      return jobs_.size();
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.JobStatus getJobs(int index) {
+      return jobs_.get(index);
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusOrBuilder getJobsOrBuilder(
+        int index) {
+      return jobs_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < jobs_.size(); i++) {
+        output.writeMessage(1, jobs_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < jobs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, jobs_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData other = (org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData) obj;
+
+      if (!getJobsList()
+          .equals(other.getJobsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getJobsCount() > 0) {
+        hash = (37 * hash) + JOBS_FIELD_NUMBER;
+        hash = (53 * hash) + getJobsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData)
+        org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusResponseData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData.class, org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        if (jobsBuilder_ == null) {
+          jobs_ = java.util.Collections.emptyList();
+        } else {
+          jobs_ = null;
+          jobsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData result = new org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData result) {
+        if (jobsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            jobs_ = java.util.Collections.unmodifiableList(jobs_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.jobs_ = jobs_;
+        } else {
+          result.jobs_ = jobsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData result) {
+        int from_bitField0_ = bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData.getDefaultInstance()) return this;
+        if (jobsBuilder_ == null) {
+          if (!other.jobs_.isEmpty()) {
+            if (jobs_.isEmpty()) {
+              jobs_ = other.jobs_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureJobsIsMutable();
+              jobs_.addAll(other.jobs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.jobs_.isEmpty()) {
+            if (jobsBuilder_.isEmpty()) {
+              jobsBuilder_.dispose();
+              jobsBuilder_ = null;
+              jobs_ = other.jobs_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              jobsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getJobsFieldBuilder() : null;
+            } else {
+              jobsBuilder_.addAllMessages(other.jobs_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                org.secretflow.v1alpha1.kusciaapi.Job.JobStatus m =
+                    input.readMessage(
+                        org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.parser(),
+                        extensionRegistry);
+                if (jobsBuilder_ == null) {
+                  ensureJobsIsMutable();
+                  jobs_.add(m);
+                } else {
+                  jobsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.JobStatus> jobs_ =
+        java.util.Collections.emptyList();
+      private void ensureJobsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          jobs_ = new java.util.ArrayList<org.secretflow.v1alpha1.kusciaapi.Job.JobStatus>(jobs_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.JobStatus, org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusOrBuilder> jobsBuilder_;
+
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.JobStatus> getJobsList() {
+        if (jobsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(jobs_);
+        } else {
+          return jobsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+       */
+      public int getJobsCount() {
+        if (jobsBuilder_ == null) {
+          return jobs_.size();
+        } else {
+          return jobsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatus getJobs(int index) {
+        if (jobsBuilder_ == null) {
+          return jobs_.get(index);
+        } else {
+          return jobsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+       */
+      public Builder setJobs(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.JobStatus value) {
+        if (jobsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureJobsIsMutable();
+          jobs_.set(index, value);
+          onChanged();
+        } else {
+          jobsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+       */
+      public Builder setJobs(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.Builder builderForValue) {
+        if (jobsBuilder_ == null) {
+          ensureJobsIsMutable();
+          jobs_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          jobsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+       */
+      public Builder addJobs(org.secretflow.v1alpha1.kusciaapi.Job.JobStatus value) {
+        if (jobsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureJobsIsMutable();
+          jobs_.add(value);
+          onChanged();
+        } else {
+          jobsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+       */
+      public Builder addJobs(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.JobStatus value) {
+        if (jobsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureJobsIsMutable();
+          jobs_.add(index, value);
+          onChanged();
+        } else {
+          jobsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+       */
+      public Builder addJobs(
+          org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.Builder builderForValue) {
+        if (jobsBuilder_ == null) {
+          ensureJobsIsMutable();
+          jobs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          jobsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+       */
+      public Builder addJobs(
+          int index, org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.Builder builderForValue) {
+        if (jobsBuilder_ == null) {
+          ensureJobsIsMutable();
+          jobs_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          jobsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+       */
+      public Builder addAllJobs(
+          java.lang.Iterable<? extends org.secretflow.v1alpha1.kusciaapi.Job.JobStatus> values) {
+        if (jobsBuilder_ == null) {
+          ensureJobsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, jobs_);
+          onChanged();
+        } else {
+          jobsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+       */
+      public Builder clearJobs() {
+        if (jobsBuilder_ == null) {
+          jobs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          jobsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+       */
+      public Builder removeJobs(int index) {
+        if (jobsBuilder_ == null) {
+          ensureJobsIsMutable();
+          jobs_.remove(index);
+          onChanged();
+        } else {
+          jobsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.Builder getJobsBuilder(
+          int index) {
+        return getJobsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusOrBuilder getJobsOrBuilder(
+          int index) {
+        if (jobsBuilder_ == null) {
+          return jobs_.get(index);  } else {
+          return jobsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+       */
+      public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Job.JobStatusOrBuilder> 
+           getJobsOrBuilderList() {
+        if (jobsBuilder_ != null) {
+          return jobsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(jobs_);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.Builder addJobsBuilder() {
+        return getJobsFieldBuilder().addBuilder(
+            org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.Builder addJobsBuilder(
+          int index) {
+        return getJobsFieldBuilder().addBuilder(
+            index, org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.JobStatus jobs = 1;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.Builder> 
+           getJobsBuilderList() {
+        return getJobsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.JobStatus, org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusOrBuilder> 
+          getJobsFieldBuilder() {
+        if (jobsBuilder_ == null) {
+          jobsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Job.JobStatus, org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusOrBuilder>(
+                  jobs_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          jobs_ = null;
+        }
+        return jobsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryJobStatusResponseData)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchQueryJobStatusResponseData>
+        PARSER = new com.google.protobuf.AbstractParser<BatchQueryJobStatusResponseData>() {
+      @java.lang.Override
+      public BatchQueryJobStatusResponseData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchQueryJobStatusResponseData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchQueryJobStatusResponseData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.BatchQueryJobStatusResponseData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface JobStatusResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    boolean hasData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData data = 2;</code>
+     * @return The data.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData getData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData data = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseDataOrBuilder getDataOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponse}
+   */
+  public static final class JobStatusResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponse)
+      JobStatusResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use JobStatusResponse.newBuilder() to construct.
+    private JobStatusResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private JobStatusResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new JobStatusResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse.class, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    private org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData data_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    @java.lang.Override
+    public boolean hasData() {
+      return data_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData data = 2;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData getData() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData.getDefaultInstance() : data_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData data = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseDataOrBuilder getDataOrBuilder() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData.getDefaultInstance() : data_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      if (data_ != null) {
+        output.writeMessage(2, getData());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      if (data_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getData());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse other = (org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (hasData() != other.hasData()) return false;
+      if (hasData()) {
+        if (!getData()
+            .equals(other.getData())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponse)
+        org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse.class, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse result = new org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.data_ = dataBuilder_ == null
+              ? data_
+              : dataBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        if (other.hasData()) {
+          mergeData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getDataFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData data_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseDataOrBuilder> dataBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData data = 2;</code>
+       * @return Whether the data field is set.
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData data = 2;</code>
+       * @return The data.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData getData() {
+        if (dataBuilder_ == null) {
+          return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData.getDefaultInstance() : data_;
+        } else {
+          return dataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData data = 2;</code>
+       */
+      public Builder setData(org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          data_ = value;
+        } else {
+          dataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData data = 2;</code>
+       */
+      public Builder setData(
+          org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
+        } else {
+          dataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData data = 2;</code>
+       */
+      public Builder mergeData(org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData value) {
+        if (dataBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            data_ != null &&
+            data_ != org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData.getDefaultInstance()) {
+            getDataBuilder().mergeFrom(value);
+          } else {
+            data_ = value;
+          }
+        } else {
+          dataBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData data = 2;</code>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData.Builder getDataBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseDataOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
+        } else {
+          return data_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData.getDefaultInstance() : data_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData data = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseDataOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseDataOrBuilder>(
+                  getData(),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<JobStatusResponse>
+        PARSER = new com.google.protobuf.AbstractParser<JobStatusResponse>() {
+      @java.lang.Override
+      public JobStatusResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<JobStatusResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<JobStatusResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface JobStatusResponseDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The jobId.
+     */
+    java.lang.String getJobId();
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The bytes for jobId.
+     */
+    com.google.protobuf.ByteString
+        getJobIdBytes();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetailOrBuilder getStatusOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData}
+   */
+  public static final class JobStatusResponseData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData)
+      JobStatusResponseDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use JobStatusResponseData.newBuilder() to construct.
+    private JobStatusResponseData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private JobStatusResponseData() {
+      jobId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new JobStatusResponseData();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusResponseData_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusResponseData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData.class, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData.Builder.class);
+    }
+
+    public static final int JOB_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object jobId_ = "";
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The jobId.
+     */
+    @java.lang.Override
+    public java.lang.String getJobId() {
+      java.lang.Object ref = jobId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        jobId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The bytes for jobId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getJobIdBytes() {
+      java.lang.Object ref = jobId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        jobId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 2;
+    private org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetailOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.getDefaultInstance() : status_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, jobId_);
+      }
+      if (status_ != null) {
+        output.writeMessage(2, getStatus());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, jobId_);
+      }
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getStatus());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData other = (org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData) obj;
+
+      if (!getJobId()
+          .equals(other.getJobId())) return false;
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + JOB_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getJobId().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData)
+        org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusResponseData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData.class, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        jobId_ = "";
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData result = new org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.jobId_ = jobId_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData.getDefaultInstance()) return this;
+        if (!other.getJobId().isEmpty()) {
+          jobId_ = other.jobId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                jobId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object jobId_ = "";
+      /**
+       * <code>string job_id = 1;</code>
+       * @return The jobId.
+       */
+      public java.lang.String getJobId() {
+        java.lang.Object ref = jobId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          jobId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @return The bytes for jobId.
+       */
+      public com.google.protobuf.ByteString
+          getJobIdBytes() {
+        java.lang.Object ref = jobId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          jobId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @param value The jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        jobId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearJobId() {
+        jobId_ = getDefaultInstance().getJobId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @param value The bytes for jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        jobId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.Builder, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetailOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetailOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.Builder, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetailOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.Builder, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetailOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.JobStatusResponseData)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<JobStatusResponseData>
+        PARSER = new com.google.protobuf.AbstractParser<JobStatusResponseData>() {
+      @java.lang.Override
+      public JobStatusResponseData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<JobStatusResponseData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<JobStatusResponseData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusResponseData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface JobStatusOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.JobStatus)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The jobId.
+     */
+    java.lang.String getJobId();
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The bytes for jobId.
+     */
+    com.google.protobuf.ByteString
+        getJobIdBytes();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetailOrBuilder getStatusOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.JobStatus}
+   */
+  public static final class JobStatus extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.JobStatus)
+      JobStatusOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use JobStatus.newBuilder() to construct.
+    private JobStatus(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private JobStatus() {
+      jobId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new JobStatus();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatus_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatus_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.class, org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.Builder.class);
+    }
+
+    public static final int JOB_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object jobId_ = "";
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The jobId.
+     */
+    @java.lang.Override
+    public java.lang.String getJobId() {
+      java.lang.Object ref = jobId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        jobId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string job_id = 1;</code>
+     * @return The bytes for jobId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getJobIdBytes() {
+      java.lang.Object ref = jobId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        jobId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 2;
+    private org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetailOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.getDefaultInstance() : status_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, jobId_);
+      }
+      if (status_ != null) {
+        output.writeMessage(2, getStatus());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(jobId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, jobId_);
+      }
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getStatus());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.JobStatus)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.JobStatus other = (org.secretflow.v1alpha1.kusciaapi.Job.JobStatus) obj;
+
+      if (!getJobId()
+          .equals(other.getJobId())) return false;
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + JOB_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getJobId().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatus parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatus parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatus parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatus parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatus parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatus parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatus parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatus parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatus parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatus parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatus parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatus parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.JobStatus prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.JobStatus}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.JobStatus)
+        org.secretflow.v1alpha1.kusciaapi.Job.JobStatusOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatus_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatus_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.class, org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        jobId_ = "";
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatus_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatus getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatus build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.JobStatus result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatus buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.JobStatus result = new org.secretflow.v1alpha1.kusciaapi.Job.JobStatus(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.JobStatus result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.jobId_ = jobId_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.JobStatus) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.JobStatus)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.JobStatus other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.getDefaultInstance()) return this;
+        if (!other.getJobId().isEmpty()) {
+          jobId_ = other.jobId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                jobId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object jobId_ = "";
+      /**
+       * <code>string job_id = 1;</code>
+       * @return The jobId.
+       */
+      public java.lang.String getJobId() {
+        java.lang.Object ref = jobId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          jobId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @return The bytes for jobId.
+       */
+      public com.google.protobuf.ByteString
+          getJobIdBytes() {
+        java.lang.Object ref = jobId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          jobId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @param value The jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        jobId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearJobId() {
+        jobId_ = getDefaultInstance().getJobId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string job_id = 1;</code>
+       * @param value The bytes for jobId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJobIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        jobId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.Builder, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetailOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetailOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatusDetail status = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.Builder, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetailOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetail.Builder, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusDetailOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.JobStatus)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.JobStatus)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.JobStatus DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.JobStatus();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.JobStatus getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<JobStatus>
+        PARSER = new com.google.protobuf.AbstractParser<JobStatus>() {
+      @java.lang.Override
+      public JobStatus parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<JobStatus> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<JobStatus> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.JobStatus getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface WatchJobRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.WatchJobRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>int64 timeout_seconds = 2;</code>
+     * @return The timeoutSeconds.
+     */
+    long getTimeoutSeconds();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.WatchJobRequest}
+   */
+  public static final class WatchJobRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.WatchJobRequest)
+      WatchJobRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use WatchJobRequest.newBuilder() to construct.
+    private WatchJobRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private WatchJobRequest() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new WatchJobRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_WatchJobRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_WatchJobRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest.class, org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    public static final int TIMEOUT_SECONDS_FIELD_NUMBER = 2;
+    private long timeoutSeconds_ = 0L;
+    /**
+     * <code>int64 timeout_seconds = 2;</code>
+     * @return The timeoutSeconds.
+     */
+    @java.lang.Override
+    public long getTimeoutSeconds() {
+      return timeoutSeconds_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      if (timeoutSeconds_ != 0L) {
+        output.writeInt64(2, timeoutSeconds_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      if (timeoutSeconds_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, timeoutSeconds_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest other = (org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (getTimeoutSeconds()
+          != other.getTimeoutSeconds()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      hash = (37 * hash) + TIMEOUT_SECONDS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getTimeoutSeconds());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.WatchJobRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.WatchJobRequest)
+        org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_WatchJobRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_WatchJobRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest.class, org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        timeoutSeconds_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_WatchJobRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest result = new org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.timeoutSeconds_ = timeoutSeconds_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (other.getTimeoutSeconds() != 0L) {
+          setTimeoutSeconds(other.getTimeoutSeconds());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                timeoutSeconds_ = input.readInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private long timeoutSeconds_ ;
+      /**
+       * <code>int64 timeout_seconds = 2;</code>
+       * @return The timeoutSeconds.
+       */
+      @java.lang.Override
+      public long getTimeoutSeconds() {
+        return timeoutSeconds_;
+      }
+      /**
+       * <code>int64 timeout_seconds = 2;</code>
+       * @param value The timeoutSeconds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimeoutSeconds(long value) {
+
+        timeoutSeconds_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 timeout_seconds = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimeoutSeconds() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        timeoutSeconds_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.WatchJobRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.WatchJobRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<WatchJobRequest>
+        PARSER = new com.google.protobuf.AbstractParser<WatchJobRequest>() {
+      @java.lang.Override
+      public WatchJobRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<WatchJobRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<WatchJobRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.WatchJobRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface WatchJobEventResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.WatchJobEventResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.EventType type = 1;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    int getTypeValue();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.EventType type = 1;</code>
+     * @return The type.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.EventType getType();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatus object = 2;</code>
+     * @return Whether the object field is set.
+     */
+    boolean hasObject();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatus object = 2;</code>
+     * @return The object.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.JobStatus getObject();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatus object = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Job.JobStatusOrBuilder getObjectOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.WatchJobEventResponse}
+   */
+  public static final class WatchJobEventResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.WatchJobEventResponse)
+      WatchJobEventResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use WatchJobEventResponse.newBuilder() to construct.
+    private WatchJobEventResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private WatchJobEventResponse() {
+      type_ = 0;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new WatchJobEventResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_WatchJobEventResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_WatchJobEventResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse.class, org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse.Builder.class);
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 1;
+    private int type_ = 0;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.EventType type = 1;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    @java.lang.Override public int getTypeValue() {
+      return type_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.EventType type = 1;</code>
+     * @return The type.
+     */
+    @java.lang.Override public org.secretflow.v1alpha1.kusciaapi.Job.EventType getType() {
+      org.secretflow.v1alpha1.kusciaapi.Job.EventType result = org.secretflow.v1alpha1.kusciaapi.Job.EventType.forNumber(type_);
+      return result == null ? org.secretflow.v1alpha1.kusciaapi.Job.EventType.UNRECOGNIZED : result;
+    }
+
+    public static final int OBJECT_FIELD_NUMBER = 2;
+    private org.secretflow.v1alpha1.kusciaapi.Job.JobStatus object_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatus object = 2;</code>
+     * @return Whether the object field is set.
+     */
+    @java.lang.Override
+    public boolean hasObject() {
+      return object_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatus object = 2;</code>
+     * @return The object.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.JobStatus getObject() {
+      return object_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.getDefaultInstance() : object_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatus object = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusOrBuilder getObjectOrBuilder() {
+      return object_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.getDefaultInstance() : object_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (type_ != org.secretflow.v1alpha1.kusciaapi.Job.EventType.ADDED.getNumber()) {
+        output.writeEnum(1, type_);
+      }
+      if (object_ != null) {
+        output.writeMessage(2, getObject());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (type_ != org.secretflow.v1alpha1.kusciaapi.Job.EventType.ADDED.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, type_);
+      }
+      if (object_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getObject());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse other = (org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse) obj;
+
+      if (type_ != other.type_) return false;
+      if (hasObject() != other.hasObject()) return false;
+      if (hasObject()) {
+        if (!getObject()
+            .equals(other.getObject())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + type_;
+      if (hasObject()) {
+        hash = (37 * hash) + OBJECT_FIELD_NUMBER;
+        hash = (53 * hash) + getObject().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.WatchJobEventResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.WatchJobEventResponse)
+        org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_WatchJobEventResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_WatchJobEventResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse.class, org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        type_ = 0;
+        object_ = null;
+        if (objectBuilder_ != null) {
+          objectBuilder_.dispose();
+          objectBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_WatchJobEventResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse result = new org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.type_ = type_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.object_ = objectBuilder_ == null
+              ? object_
+              : objectBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse.getDefaultInstance()) return this;
+        if (other.type_ != 0) {
+          setTypeValue(other.getTypeValue());
+        }
+        if (other.hasObject()) {
+          mergeObject(other.getObject());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                type_ = input.readEnum();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 18: {
+                input.readMessage(
+                    getObjectFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int type_ = 0;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.EventType type = 1;</code>
+       * @return The enum numeric value on the wire for type.
+       */
+      @java.lang.Override public int getTypeValue() {
+        return type_;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.EventType type = 1;</code>
+       * @param value The enum numeric value on the wire for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeValue(int value) {
+        type_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.EventType type = 1;</code>
+       * @return The type.
+       */
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Job.EventType getType() {
+        org.secretflow.v1alpha1.kusciaapi.Job.EventType result = org.secretflow.v1alpha1.kusciaapi.Job.EventType.forNumber(type_);
+        return result == null ? org.secretflow.v1alpha1.kusciaapi.Job.EventType.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.EventType type = 1;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(org.secretflow.v1alpha1.kusciaapi.Job.EventType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        type_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.EventType type = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        type_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Job.JobStatus object_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.JobStatus, org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusOrBuilder> objectBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatus object = 2;</code>
+       * @return Whether the object field is set.
+       */
+      public boolean hasObject() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatus object = 2;</code>
+       * @return The object.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatus getObject() {
+        if (objectBuilder_ == null) {
+          return object_ == null ? org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.getDefaultInstance() : object_;
+        } else {
+          return objectBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatus object = 2;</code>
+       */
+      public Builder setObject(org.secretflow.v1alpha1.kusciaapi.Job.JobStatus value) {
+        if (objectBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          object_ = value;
+        } else {
+          objectBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatus object = 2;</code>
+       */
+      public Builder setObject(
+          org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.Builder builderForValue) {
+        if (objectBuilder_ == null) {
+          object_ = builderForValue.build();
+        } else {
+          objectBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatus object = 2;</code>
+       */
+      public Builder mergeObject(org.secretflow.v1alpha1.kusciaapi.Job.JobStatus value) {
+        if (objectBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            object_ != null &&
+            object_ != org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.getDefaultInstance()) {
+            getObjectBuilder().mergeFrom(value);
+          } else {
+            object_ = value;
+          }
+        } else {
+          objectBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatus object = 2;</code>
+       */
+      public Builder clearObject() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        object_ = null;
+        if (objectBuilder_ != null) {
+          objectBuilder_.dispose();
+          objectBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatus object = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.Builder getObjectBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getObjectFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatus object = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Job.JobStatusOrBuilder getObjectOrBuilder() {
+        if (objectBuilder_ != null) {
+          return objectBuilder_.getMessageOrBuilder();
+        } else {
+          return object_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.getDefaultInstance() : object_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.JobStatus object = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Job.JobStatus, org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusOrBuilder> 
+          getObjectFieldBuilder() {
+        if (objectBuilder_ == null) {
+          objectBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Job.JobStatus, org.secretflow.v1alpha1.kusciaapi.Job.JobStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Job.JobStatusOrBuilder>(
+                  getObject(),
+                  getParentForChildren(),
+                  isClean());
+          object_ = null;
+        }
+        return objectBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.WatchJobEventResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.WatchJobEventResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<WatchJobEventResponse>
+        PARSER = new com.google.protobuf.AbstractParser<WatchJobEventResponse>() {
+      @java.lang.Override
+      public WatchJobEventResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<WatchJobEventResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<WatchJobEventResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Job.WatchJobEventResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobResponseData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobResponseData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_Task_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_Task_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_Party_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_Party_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobResponseData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobResponseData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobResponseData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobResponseData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobResponseData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobResponseData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusDetail_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusDetail_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TaskConfig_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TaskConfig_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TaskStatus_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TaskStatus_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_PartyStatus_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_PartyStatus_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusResponseData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusResponseData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusResponseData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusResponseData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatus_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatus_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_WatchJobRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_WatchJobRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_WatchJobEventResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_WatchJobEventResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n-kuscia/proto/api/v1alpha1/kusciaapi/jo" +
+      "b.proto\022#kuscia.proto.api.v1alpha1.kusci" +
+      "aapi\032&kuscia/proto/api/v1alpha1/common.p" +
+      "roto\"\302\001\n\020CreateJobRequest\0228\n\006header\030\001 \001(" +
+      "\0132(.kuscia.proto.api.v1alpha1.RequestHea" +
+      "der\022\016\n\006job_id\030\002 \001(\t\022\021\n\tinitiator\030\003 \001(\t\022\027" +
+      "\n\017max_parallelism\030\004 \001(\005\0228\n\005tasks\030\005 \003(\0132)" +
+      ".kuscia.proto.api.v1alpha1.kusciaapi.Tas" +
+      "k\"\220\001\n\021CreateJobResponse\0221\n\006status\030\001 \001(\0132" +
+      "!.kuscia.proto.api.v1alpha1.Status\022H\n\004da" +
+      "ta\030\002 \001(\0132:.kuscia.proto.api.v1alpha1.kus" +
+      "ciaapi.CreateJobResponseData\"\'\n\025CreateJo" +
+      "bResponseData\022\016\n\006job_id\030\001 \001(\t\"\271\001\n\004Task\022\021" +
+      "\n\tapp_image\030\001 \001(\t\022;\n\007parties\030\002 \003(\0132*.kus" +
+      "cia.proto.api.v1alpha1.kusciaapi.Party\022\r" +
+      "\n\005alias\030\003 \001(\t\022\017\n\007task_id\030\004 \001(\t\022\024\n\014depend" +
+      "encies\030\005 \003(\t\022\031\n\021task_input_config\030\006 \001(\t\022" +
+      "\020\n\010priority\030\007 \001(\005\"(\n\005Party\022\021\n\tdomain_id\030" +
+      "\001 \001(\t\022\014\n\004role\030\002 \001(\t\"\\\n\020DeleteJobRequest\022" +
+      "8\n\006header\030\001 \001(\0132(.kuscia.proto.api.v1alp" +
+      "ha1.RequestHeader\022\016\n\006job_id\030\002 \001(\t\"\220\001\n\021De" +
+      "leteJobResponse\0221\n\006status\030\001 \001(\0132!.kuscia" +
+      ".proto.api.v1alpha1.Status\022H\n\004data\030\002 \001(\013" +
+      "2:.kuscia.proto.api.v1alpha1.kusciaapi.D" +
+      "eleteJobResponseData\"\'\n\025DeleteJobRespons" +
+      "eData\022\016\n\006job_id\030\001 \001(\t\"Z\n\016StopJobRequest\022" +
+      "8\n\006header\030\001 \001(\0132(.kuscia.proto.api.v1alp" +
+      "ha1.RequestHeader\022\016\n\006job_id\030\002 \001(\t\"\214\001\n\017St" +
+      "opJobResponse\0221\n\006status\030\001 \001(\0132!.kuscia.p" +
+      "roto.api.v1alpha1.Status\022F\n\004data\030\002 \001(\01328" +
+      ".kuscia.proto.api.v1alpha1.kusciaapi.Sto" +
+      "pJobResponseData\"%\n\023StopJobResponseData\022" +
+      "\016\n\006job_id\030\001 \001(\t\"[\n\017QueryJobRequest\0228\n\006he" +
+      "ader\030\001 \001(\0132(.kuscia.proto.api.v1alpha1.R" +
+      "equestHeader\022\016\n\006job_id\030\002 \001(\t\"\216\001\n\020QueryJo" +
+      "bResponse\0221\n\006status\030\001 \001(\0132!.kuscia.proto" +
+      ".api.v1alpha1.Status\022G\n\004data\030\002 \001(\01329.kus" +
+      "cia.proto.api.v1alpha1.kusciaapi.QueryJo" +
+      "bResponseData\"\330\001\n\024QueryJobResponseData\022\016" +
+      "\n\006job_id\030\001 \001(\t\022\021\n\tinitiator\030\002 \001(\t\022\027\n\017max" +
+      "_parallelism\030\003 \001(\005\022>\n\005tasks\030\004 \003(\0132/.kusc" +
+      "ia.proto.api.v1alpha1.kusciaapi.TaskConf" +
+      "ig\022D\n\006status\030\005 \001(\01324.kuscia.proto.api.v1" +
+      "alpha1.kusciaapi.JobStatusDetail\"\254\001\n\017Job" +
+      "StatusDetail\022\r\n\005state\030\001 \001(\t\022\017\n\007err_msg\030\002" +
+      " \001(\t\022\023\n\013create_time\030\003 \001(\t\022\022\n\nstart_time\030" +
+      "\004 \001(\t\022\020\n\010end_time\030\005 \001(\t\022>\n\005tasks\030\006 \003(\0132/" +
+      ".kuscia.proto.api.v1alpha1.kusciaapi.Tas" +
+      "kStatus\"\277\001\n\nTaskConfig\022\021\n\tapp_image\030\001 \001(" +
+      "\t\022;\n\007parties\030\002 \003(\0132*.kuscia.proto.api.v1" +
+      "alpha1.kusciaapi.Party\022\r\n\005alias\030\003 \001(\t\022\017\n" +
+      "\007task_id\030\004 \001(\t\022\024\n\014dependencies\030\005 \003(\t\022\031\n\021" +
+      "task_input_config\030\006 \001(\t\022\020\n\010priority\030\007 \001(" +
+      "\005\"\273\001\n\nTaskStatus\022\017\n\007task_id\030\001 \001(\t\022\r\n\005sta" +
+      "te\030\002 \001(\t\022\017\n\007err_msg\030\003 \001(\t\022\023\n\013create_time" +
+      "\030\004 \001(\t\022\022\n\nstart_time\030\005 \001(\t\022\020\n\010end_time\030\006" +
+      " \001(\t\022A\n\007parties\030\007 \003(\01320.kuscia.proto.api" +
+      ".v1alpha1.kusciaapi.PartyStatus\"@\n\013Party" +
+      "Status\022\021\n\tdomain_id\030\001 \001(\t\022\r\n\005state\030\002 \001(\t" +
+      "\022\017\n\007err_msg\030\003 \001(\t\"g\n\032BatchQueryJobStatus" +
+      "Request\0228\n\006header\030\001 \001(\0132(.kuscia.proto.a" +
+      "pi.v1alpha1.RequestHeader\022\017\n\007job_ids\030\002 \003" +
+      "(\t\"\244\001\n\033BatchQueryJobStatusResponse\0221\n\006st" +
+      "atus\030\001 \001(\0132!.kuscia.proto.api.v1alpha1.S" +
+      "tatus\022R\n\004data\030\002 \001(\0132D.kuscia.proto.api.v" +
+      "1alpha1.kusciaapi.BatchQueryJobStatusRes" +
+      "ponseData\"_\n\037BatchQueryJobStatusResponse" +
+      "Data\022<\n\004jobs\030\001 \003(\0132..kuscia.proto.api.v1" +
+      "alpha1.kusciaapi.JobStatus\"\220\001\n\021JobStatus" +
+      "Response\0221\n\006status\030\001 \001(\0132!.kuscia.proto." +
+      "api.v1alpha1.Status\022H\n\004data\030\002 \001(\0132:.kusc" +
+      "ia.proto.api.v1alpha1.kusciaapi.JobStatu" +
+      "sResponseData\"m\n\025JobStatusResponseData\022\016" +
+      "\n\006job_id\030\001 \001(\t\022D\n\006status\030\002 \001(\01324.kuscia." +
+      "proto.api.v1alpha1.kusciaapi.JobStatusDe" +
+      "tail\"a\n\tJobStatus\022\016\n\006job_id\030\001 \001(\t\022D\n\006sta" +
+      "tus\030\002 \001(\01324.kuscia.proto.api.v1alpha1.ku" +
+      "sciaapi.JobStatusDetail\"d\n\017WatchJobReque" +
+      "st\0228\n\006header\030\001 \001(\0132(.kuscia.proto.api.v1" +
+      "alpha1.RequestHeader\022\027\n\017timeout_seconds\030" +
+      "\002 \001(\003\"\225\001\n\025WatchJobEventResponse\022<\n\004type\030" +
+      "\001 \001(\0162..kuscia.proto.api.v1alpha1.kuscia" +
+      "api.EventType\022>\n\006object\030\002 \001(\0132..kuscia.p" +
+      "roto.api.v1alpha1.kusciaapi.JobStatus*@\n" +
+      "\tTaskState\022\013\n\007Pending\020\000\022\013\n\007Running\020\001\022\r\n\t" +
+      "Succeeded\020\002\022\n\n\006Failed\020\003*<\n\tEventType\022\t\n\005" +
+      "ADDED\020\000\022\014\n\010MODIFIED\020\001\022\013\n\007DELETED\020\002\022\t\n\005ER" +
+      "ROR\020\0032\216\007\n\nJobService\022z\n\tCreateJob\0225.kusc" +
+      "ia.proto.api.v1alpha1.kusciaapi.CreateJo" +
+      "bRequest\0326.kuscia.proto.api.v1alpha1.kus" +
+      "ciaapi.CreateJobResponse\022w\n\010QueryJob\0224.k" +
+      "uscia.proto.api.v1alpha1.kusciaapi.Query" +
+      "JobRequest\0325.kuscia.proto.api.v1alpha1.k" +
+      "usciaapi.QueryJobResponse\022~\n\016QueryJobSta" +
+      "tus\0224.kuscia.proto.api.v1alpha1.kusciaap" +
+      "i.QueryJobRequest\0326.kuscia.proto.api.v1a" +
+      "lpha1.kusciaapi.JobStatusResponse\022\230\001\n\023Ba" +
+      "tchQueryJobStatus\022?.kuscia.proto.api.v1a" +
+      "lpha1.kusciaapi.BatchQueryJobStatusReque" +
+      "st\032@.kuscia.proto.api.v1alpha1.kusciaapi" +
+      ".BatchQueryJobStatusResponse\022t\n\007StopJob\022" +
+      "3.kuscia.proto.api.v1alpha1.kusciaapi.St" +
+      "opJobRequest\0324.kuscia.proto.api.v1alpha1" +
+      ".kusciaapi.StopJobResponse\022z\n\tDeleteJob\022" +
+      "5.kuscia.proto.api.v1alpha1.kusciaapi.De" +
+      "leteJobRequest\0326.kuscia.proto.api.v1alph" +
+      "a1.kusciaapi.DeleteJobResponse\022~\n\010WatchJ" +
+      "ob\0224.kuscia.proto.api.v1alpha1.kusciaapi" +
+      ".WatchJobRequest\032:.kuscia.proto.api.v1al" +
+      "pha1.kusciaapi.WatchJobEventResponse0\001B^" +
+      "\n!org.secretflow.v1alpha1.kusciaapiZ9git" +
+      "hub.com/secretflow/kuscia/proto/api/v1al" +
+      "pha1/kusciaapib\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          org.secretflow.v1alpha1.common.Common.getDescriptor(),
+        });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobRequest_descriptor,
+        new java.lang.String[] { "Header", "JobId", "Initiator", "MaxParallelism", "Tasks", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobResponse_descriptor,
+        new java.lang.String[] { "Status", "Data", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobResponseData_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobResponseData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateJobResponseData_descriptor,
+        new java.lang.String[] { "JobId", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_Task_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_Task_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_Task_descriptor,
+        new java.lang.String[] { "AppImage", "Parties", "Alias", "TaskId", "Dependencies", "TaskInputConfig", "Priority", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_Party_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_Party_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_Party_descriptor,
+        new java.lang.String[] { "DomainId", "Role", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobRequest_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobRequest_descriptor,
+        new java.lang.String[] { "Header", "JobId", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobResponse_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobResponse_descriptor,
+        new java.lang.String[] { "Status", "Data", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobResponseData_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobResponseData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteJobResponseData_descriptor,
+        new java.lang.String[] { "JobId", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobRequest_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobRequest_descriptor,
+        new java.lang.String[] { "Header", "JobId", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobResponse_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobResponse_descriptor,
+        new java.lang.String[] { "Status", "Data", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobResponseData_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobResponseData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_StopJobResponseData_descriptor,
+        new java.lang.String[] { "JobId", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobRequest_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobRequest_descriptor,
+        new java.lang.String[] { "Header", "JobId", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobResponse_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobResponse_descriptor,
+        new java.lang.String[] { "Status", "Data", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobResponseData_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobResponseData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryJobResponseData_descriptor,
+        new java.lang.String[] { "JobId", "Initiator", "MaxParallelism", "Tasks", "Status", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusDetail_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusDetail_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusDetail_descriptor,
+        new java.lang.String[] { "State", "ErrMsg", "CreateTime", "StartTime", "EndTime", "Tasks", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TaskConfig_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TaskConfig_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TaskConfig_descriptor,
+        new java.lang.String[] { "AppImage", "Parties", "Alias", "TaskId", "Dependencies", "TaskInputConfig", "Priority", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TaskStatus_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TaskStatus_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TaskStatus_descriptor,
+        new java.lang.String[] { "TaskId", "State", "ErrMsg", "CreateTime", "StartTime", "EndTime", "Parties", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_PartyStatus_descriptor =
+      getDescriptor().getMessageTypes().get(17);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_PartyStatus_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_PartyStatus_descriptor,
+        new java.lang.String[] { "DomainId", "State", "ErrMsg", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusRequest_descriptor =
+      getDescriptor().getMessageTypes().get(18);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusRequest_descriptor,
+        new java.lang.String[] { "Header", "JobIds", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusResponse_descriptor =
+      getDescriptor().getMessageTypes().get(19);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusResponse_descriptor,
+        new java.lang.String[] { "Status", "Data", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusResponseData_descriptor =
+      getDescriptor().getMessageTypes().get(20);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusResponseData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryJobStatusResponseData_descriptor,
+        new java.lang.String[] { "Jobs", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusResponse_descriptor =
+      getDescriptor().getMessageTypes().get(21);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusResponse_descriptor,
+        new java.lang.String[] { "Status", "Data", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusResponseData_descriptor =
+      getDescriptor().getMessageTypes().get(22);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusResponseData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatusResponseData_descriptor,
+        new java.lang.String[] { "JobId", "Status", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatus_descriptor =
+      getDescriptor().getMessageTypes().get(23);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatus_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_JobStatus_descriptor,
+        new java.lang.String[] { "JobId", "Status", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_WatchJobRequest_descriptor =
+      getDescriptor().getMessageTypes().get(24);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_WatchJobRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_WatchJobRequest_descriptor,
+        new java.lang.String[] { "Header", "TimeoutSeconds", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_WatchJobEventResponse_descriptor =
+      getDescriptor().getMessageTypes().get(25);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_WatchJobEventResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_WatchJobEventResponse_descriptor,
+        new java.lang.String[] { "Type", "Object", });
+    org.secretflow.v1alpha1.common.Common.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -47,6 +47,26 @@ public enum DataErrorCode implements ErrorCode {
      * File name duplication
      */
     NAME_DUPLICATION_ERROR(202011806),
+    /**
+     * Upload session does not exist or has expired
+     */
+    UPLOAD_SESSION_NOT_EXISTS(202011807),
+    /**
+     * Chunk checksum or length does not match
+     */
+    UPLOAD_CHUNK_MISMATCH(202011808),
+    /**
+     * Upload completed with missing chunks
+     */
+    UPLOAD_INCOMPLETE(202011809),
+    /**
+     * Too many uploads or downloads in progress
+     */
+    TRANSFER_LIMIT_EXCEEDED(202011810),
+    /**
+     * Compressed upload cannot be decompressed or extracted
+     */
+    COMPRESSED_FILE_INVALID(202011811),
 
     ;
 
@@ -21,17 +21,20 @@ import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
-import org.apache.commons.compress.utils.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.util.CollectionUtils;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Enumeration;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.zip.GZIPOutputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -50,118 +53,53 @@ public class CompressUtils {
     private static final int BUFFER_SIZE = 1024 * 100;
 
     /**
-     * Get files via path
+     * Write all regular files under a directory as a tar.gz archive to an output stream.
+     * Entries are named relative to the directory and written in path order, nothing is written to disk,
+     * the output stream is finished but left open for the caller to close
      *
-     * @param path
-     * @return File list
+     * @param dir directory to archive
+     * @param out output stream
+     * @throws IOException when reading the files or writing the stream fails
      */
-    public static List<File> getFiles(String path) {
-        List<File> list = new LinkedList<File>();
-
-        File file = new File(path);
-        File[] tempList = file.listFiles();
-        if (null != tempList && tempList.length > 0) {
-            for (int i = 0; i < tempList.length; i++) {
-                if (tempList[i].isFile()) {
-                    list.add(new File(tempList[i].getPath()));
-                }
-                if (tempList[i].isDirectory()) {
-                    List<File> tmpList = getFiles(tempList[i].getPath());
-                    if (!CollectionUtils.isEmpty(tmpList)) {
-                        list.addAll(tmpList);
-                    }
-                }
-            }
-        }
-        return list;
+    public static void writeTarGz(File dir, OutputStream out) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE);
+        writeTar(dir, gzip);
+        gzip.finish();
+        out.flush();
     }
 
     /**
-     * The private function returns the collection of files compressed into a tar package
+     * Write all regular files under a directory as a tar.gz archive to an output stream like {@link #writeTarGz(File, OutputStream)},
+     * with the gzip blocks compressed in parallel by a parallel gzip compressor
      *
-     * @param files  The collection of files to compress
-     * @param target The target file for the output stream
-     * @return File  Specifies the target file to return
+     * @param dir        directory to archive
+     * @param out        output stream
+     * @param compressor parallel gzip compressor
+     * @throws IOException when reading the files, compressing or writing the stream fails
      */
-    public static File pack(List<File> files, String inPutPath, File target) throws IOException {
-        try (FileOutputStream out = new FileOutputStream(target)) {
-            try (BufferedOutputStream bos = new BufferedOutputStream(out, BUFFER_SIZE)) {
-                try (TarArchiveOutputStream os = new TarArchiveOutputStream(bos)) {
-                    // Solve the problem of file name too long
-                    os.setLongFileMode(TarArchiveOutputStream.LONGFILE_GNU);
-                    for (File file : files) {
-                        // Remove the directory in front of the file
-                        os.putArchiveEntry(new TarArchiveEntry(file, file.getAbsolutePath().replace(inPutPath, "")));
-                        try (FileInputStream fis = new FileInputStream(file)) {
-                            IOUtils.copy(fis, os);
-                            os.closeArchiveEntry();
-                        }
-                    }
-                } catch (Exception e) {
-                    LOGGER.error(e.getMessage());
-                    throw new RuntimeException(e);
-                }
-            }
-        }
-        return target;
+    public static void writeTarGz(File dir, OutputStream out, ParallelGzipCompressor compressor) throws IOException {
+        ParallelGzipOutputStream gzip = compressor.open(out);
+        writeTar(dir, gzip);
+        gzip.finish();
+        out.flush();
     }
 
-    /**
-     * Compress source file list to target
-     *
-     * @param source
-     * @param target
-     * @param fileName
-     * @throws Exception
-     */
-    public static void compress(String source, String target, String fileName) throws Exception {
-
-        List<File> list = getFiles(source);
-        if (CollectionUtils.isEmpty(list)) {
-            LOGGER.error("source file is empty , please check [  {}  ]....", source);
-            return;
-        }
-        File file = new File(target);
-        if (!file.exists()) {
-            file.mkdirs();
-        }
-
-        compressTar(list, source, target, fileName);
-
-
-    }
-
-    /**
-     * Compress tar file
-     *
-     * @param list
-     * @param outPutPath
-     * @param fileName
-     */
-    public static File compressTar(List<File> list, String inPutPath, String outPutPath, String fileName) throws Exception {
-        File outPutFile = new File(outPutPath + File.separator + fileName + ".tar.gz");
-        File tempTar = new File("temp.tar");
-        try (FileInputStream fis = new FileInputStream(pack(list, inPutPath, tempTar))) {
-            try (BufferedInputStream bis = new BufferedInputStream(fis, BUFFER_SIZE)) {
-                try (FileOutputStream fos = new FileOutputStream(outPutFile)) {
-                    try (GZIPOutputStream gzp = new GZIPOutputStream(fos)) {
-                        int count;
-                        byte[] data = new byte[BUFFER_SIZE];
-                        while ((count = bis.read(data, 0, BUFFER_SIZE)) != -1) {
-                            gzp.write(data, 0, count);
-                        }
-                    }
-                }
-            }
+    private static void writeTar(File dir, OutputStream out) throws IOException {
+        Path root = dir.toPath();
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
         }
-
-        try {
-            Files.deleteIfExists(tempTar.toPath());
-        } catch (IOException e) {
-            LOGGER.error(e.getMessage());
-            throw new RuntimeException(e);
+        TarArchiveOutputStream tar = new TarArchiveOutputStream(out);
+        // Solve the problem of file name too long and files over 8 GB
+        tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_GNU);
+        tar.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+        for (Path file : files) {
+            tar.putArchiveEntry(new TarArchiveEntry(file.toFile(), root.relativize(file).toString()));
+            Files.copy(file, tar);
+            tar.closeArchiveEntry();
         }
-        return outPutFile;
+        tar.finish();
     }
 
     /**
@@ -212,11 +150,11 @@ public class CompressUtils {
                 ZipEntry entry = (ZipEntry) enums.nextElement();
                 if (entry.isDirectory()) {
                     // create an empty directory
-                    createDirectory(outputDir, entry.getName());
+                    Files.createDirectories(entryPath(Paths.get(outputDir), entry.getName()));
                 } else {
                     try (InputStream in = zipFile.getInputStream(entry)) {
                         try (OutputStream out = new FileOutputStream(
-                                new File(outputDir + File.separator + entry.getName()))) {
+                                entryPath(Paths.get(outputDir), entry.getName()).toFile())) {
                             writeFile(in, out);
                         }
                     }
@@ -244,11 +182,11 @@ public class CompressUtils {
                 // the tar entry type is directory
                 if (entry.isDirectory()) {
                     // create an empty directory
-                    createDirectory(outputDir, entry.getName());
+                    Files.createDirectories(entryPath(Paths.get(outputDir), entry.getName()));
                 } else {
                     // the tar entry type is file
                     try (OutputStream out = new FileOutputStream(
-                            new File(outputDir + File.separator + entry.getName()))) {
+                            entryPath(Paths.get(outputDir), entry.getName()).toFile())) {
                         writeFile(tarIn, out);
                     }
                 }
@@ -272,10 +210,10 @@ public class CompressUtils {
             TarArchiveEntry entry;
             while ((entry = tarIn.getNextTarEntry()) != null) {
                 if (entry.isDirectory()) {
-                    createDirectory(outputDir, entry.getName());
+                    Files.createDirectories(entryPath(Paths.get(outputDir), entry.getName()));
                 } else {
                     try (OutputStream out = new FileOutputStream(
-                            new File(outputDir + File.separator + entry.getName()))) {
+                            entryPath(Paths.get(outputDir), entry.getName()).toFile())) {
                         writeFile(tarIn, out);
                     }
                 }
@@ -283,6 +221,81 @@ public class CompressUtils {
         }
     }
 
+    /**
+     * Extract a tar.gz archive while it is read from a stream, so the archive itself is never stored.
+     * Only regular files and dirs are extracted, links and other entry types are skipped, and entry names are sandboxed to the output dir.
+     * The input stream is left open for the caller to close
+     *
+     * @param in        tar.gz stream, concatenated gzip members are read as one
+     * @param outputDir output dir, created if needed
+     * @param maxBytes  max total size of the extracted files
+     * @return extracted files in archive order
+     * @throws IOException when the archive is invalid, an entry escapes the output dir, the size limit is exceeded or writing fails
+     */
+    public static List<Path> extractTarGz(InputStream in, Path outputDir, long maxBytes) throws IOException {
+        Files.createDirectories(outputDir);
+        List<Path> files = new ArrayList<>();
+        TarArchiveInputStream tarIn = new TarArchiveInputStream(new GzipCompressorInputStream(new BufferedInputStream(in, BUFFER_SIZE), true));
+        long remaining = maxBytes;
+        TarArchiveEntry entry;
+        while ((entry = tarIn.getNextTarEntry()) != null) {
+            Path target = entryPath(outputDir, entry.getName());
+            if (entry.isDirectory()) {
+                Files.createDirectories(target);
+                continue;
+            }
+            if (!entry.isFile()) {
+                LOGGER.warn("skip tar entry {} which is not a regular file", entry.getName());
+                continue;
+            }
+            Files.createDirectories(target.getParent());
+            try (OutputStream out = Files.newOutputStream(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                remaining -= copy(tarIn, out, remaining);
+            }
+            files.add(target);
+        }
+        return files;
+    }
+
+    /**
+     * Resolve the path of an archive entry under an output dir, names escaping the dir through absolute paths, .. or links are refused
+     *
+     * @param outputDir output dir
+     * @param name      entry name
+     * @return entry path
+     * @throws IOException when the entry is outside of the output dir
+     */
+    public static Path entryPath(Path outputDir, String name) throws IOException {
+        Path path = outputDir.resolve(name).normalize();
+        if (!SafeFileUtils.checkPathInDir(path.toFile(), outputDir.toFile())) {
+            throw new IOException("archive entry " + name + " is outside of the output dir");
+        }
+        return path;
+    }
+
+    /**
+     * Copy a stream up to a byte limit
+     *
+     * @param in       input stream
+     * @param out      output stream
+     * @param maxBytes max bytes copied
+     * @return bytes copied
+     * @throws IOException when reading or writing fails or the input exceeds the limit
+     */
+    public static long copy(InputStream in, OutputStream out, long maxBytes) throws IOException {
+        byte[] b = new byte[BUFFER_SIZE];
+        long copied = 0;
+        int length;
+        while ((length = in.read(b)) != -1) {
+            copied += length;
+            if (copied > maxBytes) {
+                throw new IOException("extracted size exceeds the limit");
+            }
+            out.write(b, 0, length);
+        }
+        return copied;
+    }
+
     /**
      * Write file from inputStream to outputStream
      *
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.common.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.zip.Deflater;
+
+/**
+ * Parallel gzip compressor owning the fork-join pool shared by all its {@link ParallelGzipOutputStream}s,
+ * so concurrent archives together never use more than the configured threads for compression
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+public class ParallelGzipCompressor implements Closeable {
+
+    private final ForkJoinPool pool;
+
+    private final int blockSize;
+
+    private final int level;
+
+    /**
+     * Create a parallel gzip compressor
+     *
+     * @param threads   compression threads, 0 or negative for the number of processors
+     * @param blockSize uncompressed block size
+     */
+    public ParallelGzipCompressor(int threads, int blockSize) {
+        this(threads, blockSize, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    public ParallelGzipCompressor(int threads, int blockSize, int level) {
+        int parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("parallel-gzip-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        this.blockSize = blockSize;
+        this.level = level;
+    }
+
+    /**
+     * Open a gzip stream over an output stream, each stream keeps up to two blocks per thread in flight
+     *
+     * @param out underlying output stream
+     * @return parallel gzip output stream
+     * @throws IOException when writing the gzip header fails
+     */
+    public ParallelGzipOutputStream open(OutputStream out) throws IOException {
+        return new ParallelGzipOutputStream(out, pool, blockSize, level, pool.getParallelism() * 2);
+    }
+
+    public int getThreads() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+}
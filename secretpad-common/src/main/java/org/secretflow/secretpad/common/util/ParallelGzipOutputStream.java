@@ -0,0 +1,250 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.common.util;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Gzip output stream compressing blocks in parallel on a fork-join pool, in the way of pigz.
+ * Input is cut into fixed size blocks, each block is raw deflated on its own with the last 32 KiB of the previous block
+ * as dictionary and ends with a sync flush, so the compressed blocks concatenate into one deflate stream.
+ * The output is a single member gzip file readable by any gzip tool, the crc is computed on the writing thread.
+ * Blocks are written in order and at most maxInFlight blocks are held in memory.
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+public class ParallelGzipOutputStream extends FilterOutputStream {
+
+    /**
+     * Deflate window size, also the smallest block size
+     */
+    public static final int DICTIONARY_SIZE = 32 * 1024;
+
+    /**
+     * Default block size, the same as pigz
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private final ForkJoinPool pool;
+
+    private final int blockSize;
+
+    private final int level;
+
+    private final int maxInFlight;
+
+    private final Deque<ForkJoinTask<byte[]>> inflight = new ArrayDeque<>();
+
+    private final CRC32 crc = new CRC32();
+
+    private long length;
+
+    private byte[] block;
+
+    private int count;
+
+    /**
+     * Previous block, its tail is the dictionary of the current block
+     */
+    private byte[] previous;
+
+    private int previousCount;
+
+    private boolean finished;
+
+    public ParallelGzipOutputStream(OutputStream out, ForkJoinPool pool) throws IOException {
+        this(out, pool, DEFAULT_BLOCK_SIZE, Deflater.DEFAULT_COMPRESSION, pool.getParallelism() * 2);
+    }
+
+    /**
+     * Create a parallel gzip output stream and write the gzip header
+     *
+     * @param out         underlying output stream
+     * @param pool        pool compressing the blocks
+     * @param blockSize   uncompressed block size, raised to {@link #DICTIONARY_SIZE} when smaller
+     * @param level       deflate compression level
+     * @param maxInFlight max blocks submitted and not yet written, the writer waits for the oldest block beyond it
+     * @throws IOException when writing the header fails
+     */
+    public ParallelGzipOutputStream(OutputStream out, ForkJoinPool pool, int blockSize, int level, int maxInFlight) throws IOException {
+        super(out);
+        this.pool = pool;
+        this.blockSize = Math.max(blockSize, DICTIONARY_SIZE);
+        this.level = level;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.block = new byte[this.blockSize];
+        out.write(HEADER);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        block[count++] = (byte) b;
+        if (count == blockSize) {
+            submit(false);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            int n = Math.min(len, blockSize - count);
+            System.arraycopy(b, off, block, count, n);
+            count += n;
+            off += n;
+            len -= n;
+            if (count == blockSize) {
+                submit(false);
+            }
+        }
+    }
+
+    /**
+     * Write the blocks compressed so far and flush the underlying stream, the pending partial block is kept
+     *
+     * @throws IOException when writing fails
+     */
+    @Override
+    public void flush() throws IOException {
+        while (!inflight.isEmpty() && inflight.peekFirst().isDone()) {
+            writeOldest();
+        }
+        out.flush();
+    }
+
+    /**
+     * Compress the pending input, wait for all blocks and write the gzip trailer without closing the underlying stream
+     *
+     * @throws IOException when compressing or writing fails
+     */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        submit(true);
+        while (!inflight.isEmpty()) {
+            writeOldest();
+        }
+        writeInt((int) crc.getValue());
+        writeInt((int) length);
+        finished = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            inflight.forEach(it -> it.cancel(false));
+            inflight.clear();
+            out.close();
+        }
+    }
+
+    private void submit(boolean last) throws IOException {
+        byte[] input = block;
+        int inputCount = count;
+        byte[] dictionary = previous;
+        int dictionaryCount = previousCount;
+        crc.update(input, 0, inputCount);
+        length += inputCount;
+        inflight.addLast(pool.submit(() -> deflate(input, inputCount, dictionary, dictionaryCount, last)));
+        previous = input;
+        previousCount = inputCount;
+        block = new byte[blockSize];
+        count = 0;
+        while (inflight.size() > maxInFlight || (!inflight.isEmpty() && inflight.peekFirst().isDone())) {
+            writeOldest();
+        }
+    }
+
+    private byte[] deflate(byte[] input, int inputCount, byte[] dictionary, int dictionaryCount, boolean last) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            if (dictionary != null) {
+                int n = Math.min(dictionaryCount, DICTIONARY_SIZE);
+                deflater.setDictionary(dictionary, dictionaryCount - n, n);
+            }
+            deflater.setInput(input, 0, inputCount);
+            byte[] output = new byte[inputCount / 2 + 64];
+            int pos = 0;
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    if (pos == output.length) {
+                        output = Arrays.copyOf(output, output.length * 2);
+                    }
+                    pos += deflater.deflate(output, pos, output.length - pos);
+                }
+            } else {
+                // a sync flush is complete once it leaves free space in the output buffer
+                do {
+                    if (pos == output.length) {
+                        output = Arrays.copyOf(output, output.length * 2);
+                    }
+                    pos += deflater.deflate(output, pos, output.length - pos, Deflater.SYNC_FLUSH);
+                } while (pos == output.length);
+            }
+            return Arrays.copyOf(output, pos);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void writeOldest() throws IOException {
+        ForkJoinTask<byte[]> task = inflight.peekFirst();
+        byte[] compressed;
+        try {
+            compressed = task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted waiting for gzip block");
+        } catch (ExecutionException e) {
+            throw new IOException("compress gzip block failed", e.getCause());
+        }
+        inflight.removeFirst();
+        out.write(compressed);
+    }
+
+    private void writeInt(int value) throws IOException {
+        out.write(value & 0xff);
+        out.write((value >> 8) & 0xff);
+        out.write((value >> 16) & 0xff);
+        out.write((value >> 24) & 0xff);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (finished) {
+            throw new IOException("write beyond end of gzip stream");
+        }
+    }
+}
@@ -0,0 +1,577 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.common.util;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Parallel zip extractor owning the threads shared by all its extractions, so concurrent extractions together never use more than
+ * the configured threads for inflating.
+ * A zip is read as a stream of local entries without its central directory, so it is extracted while it arrives and never stored.
+ * The compressed bytes of an entry with its sizes in the local header are handed to a worker as they are read and the stream moves
+ * on to the next entry at once, so independent entries inflate in parallel. An entry with its sizes in a trailing data descriptor
+ * can only be delimited by inflating it and is inflated on the reading thread.
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+public class ParallelZipExtractor implements Closeable {
+
+    private static final long LOCAL_HEADER = 0x04034b50L;
+    private static final long DATA_DESCRIPTOR = 0x08074b50L;
+    private static final long CENTRAL_HEADER = 0x02014b50L;
+    private static final long END_OF_CENTRAL_DIRECTORY = 0x06054b50L;
+
+    private static final int FLAG_ENCRYPTED = 1;
+    private static final int FLAG_DATA_DESCRIPTOR = 1 << 3;
+
+    private static final int METHOD_STORED = 0;
+    private static final int METHOD_DEFLATED = 8;
+
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+    private static final int ZIP64_EXTRA = 0x0001;
+
+    private static final int BLOCK_SIZE = 64 * 1024;
+
+    /**
+     * Compressed blocks queued per entry, the reading thread waits for a worker that falls behind
+     */
+    private static final int QUEUED_BLOCKS = 16;
+
+    private static final byte[] END = new byte[0];
+
+    private final ExecutorService pool;
+
+    private final int threads;
+
+    /**
+     * Create a parallel zip extractor
+     *
+     * @param threads inflating threads, 0 or negative for the number of processors
+     */
+    public ParallelZipExtractor(int threads) {
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(this.threads, r -> {
+            Thread thread = new Thread(r, "zip-extract-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Extract a zip while it is read from a stream.
+     * Stored and deflated entries are supported, entry names are sandboxed to the output dir and sizes and crc are verified.
+     * The input stream is left open for the caller to close
+     *
+     * @param in        zip stream
+     * @param outputDir output dir, created if needed
+     * @param maxBytes  max total size of the extracted files
+     * @return extracted files in archive order
+     * @throws IOException when the zip is invalid, an entry escapes the output dir, the size limit is exceeded or writing fails
+     */
+    public List<Path> extract(InputStream in, Path outputDir, long maxBytes) throws IOException {
+        Files.createDirectories(outputDir);
+        return new Extraction(new Reader(in), outputDir, maxBytes).run();
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * State of one extraction
+     */
+    private class Extraction {
+        private final Reader reader;
+        private final Path outputDir;
+        private final long maxBytes;
+        private final AtomicLong extracted = new AtomicLong();
+        private final List<Future<?>> workers = new ArrayList<>();
+        /**
+         * Bounds the entries queued for workers, and so the blocks held in memory
+         */
+        private final Semaphore inFlight = new Semaphore(threads * 2);
+        private volatile boolean aborted;
+
+        private Extraction(Reader reader, Path outputDir, long maxBytes) {
+            this.reader = reader;
+            this.outputDir = outputDir;
+            this.maxBytes = maxBytes;
+        }
+
+        private List<Path> run() throws IOException {
+            List<Path> files = new ArrayList<>();
+            try {
+                while (true) {
+                    long signature = reader.readInt();
+                    if (signature == CENTRAL_HEADER || signature == END_OF_CENTRAL_DIRECTORY) {
+                        break;
+                    }
+                    if (signature != LOCAL_HEADER) {
+                        throw new ZipException("invalid zip entry signature " + Long.toHexString(signature));
+                    }
+                    Path file = readEntry();
+                    if (file != null) {
+                        files.add(file);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                aborted = true;
+                // a worker failure makes the reading thread abort, report the cause instead
+                IOException cause = await();
+                if (cause != null) {
+                    throw cause;
+                }
+                throw e;
+            }
+            IOException cause = await();
+            if (cause != null) {
+                throw cause;
+            }
+            return files;
+        }
+
+        /**
+         * Read an entry after its signature
+         *
+         * @return extracted file, null for a dir
+         */
+        private Path readEntry() throws IOException {
+            reader.skip(2);
+            int flags = reader.readShort();
+            int method = reader.readShort();
+            reader.skip(4);
+            long crc = reader.readInt();
+            long compressedSize = reader.readInt();
+            long size = reader.readInt();
+            int nameLength = reader.readShort();
+            int extraLength = reader.readShort();
+            String name = new String(reader.readBytes(nameLength), StandardCharsets.UTF_8);
+            byte[] extra = reader.readBytes(extraLength);
+            boolean zip64 = false;
+            for (int i = 0; i + 4 <= extra.length; ) {
+                int id = (extra[i] & 0xff) | (extra[i + 1] & 0xff) << 8;
+                int length = (extra[i + 2] & 0xff) | (extra[i + 3] & 0xff) << 8;
+                if (id == ZIP64_EXTRA) {
+                    zip64 = true;
+                    int offset = i + 4;
+                    if (size == ZIP64_MAGIC && offset + 8 <= extra.length) {
+                        size = readLong(extra, offset);
+                        offset += 8;
+                    }
+                    if (compressedSize == ZIP64_MAGIC && offset + 8 <= extra.length) {
+                        compressedSize = readLong(extra, offset);
+                    }
+                }
+                i += 4 + length;
+            }
+            if ((flags & FLAG_ENCRYPTED) != 0) {
+                throw new ZipException("encrypted zip entry " + name + " is not supported");
+            }
+            if (method != METHOD_STORED && method != METHOD_DEFLATED) {
+                throw new ZipException("compression method " + method + " of zip entry " + name + " is not supported");
+            }
+            boolean descriptor = (flags & FLAG_DATA_DESCRIPTOR) != 0;
+            if (descriptor && method != METHOD_DEFLATED) {
+                throw new ZipException("stored zip entry " + name + " with a data descriptor is not supported");
+            }
+            Path target = CompressUtils.entryPath(outputDir, name);
+            boolean dir = name.endsWith("/");
+            if (dir) {
+                Files.createDirectories(target);
+            } else {
+                Files.createDirectories(target.getParent());
+            }
+            if (!descriptor) {
+                if (dir) {
+                    reader.skip(compressedSize);
+                } else {
+                    submit(name, target, method, compressedSize, size, crc);
+                }
+                return dir ? null : target;
+            }
+            Sink sink = new Sink(name, dir ? OutputStream.nullOutputStream()
+                    : Files.newOutputStream(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE));
+            long inflated;
+            try (sink) {
+                inflated = inflateInline(sink);
+            }
+            boolean wide = zip64Descriptor(zip64, inflated, sink.written);
+            long signature = reader.readInt();
+            long descriptorCrc = signature == DATA_DESCRIPTOR ? reader.readInt() : signature;
+            long descriptorCompressedSize = wide ? reader.readLong() : reader.readInt();
+            long descriptorSize = wide ? reader.readLong() : reader.readInt();
+            if (descriptorCompressedSize != inflated) {
+                throw new ZipException("zip entry " + name + " has " + inflated + " compressed bytes instead of " + descriptorCompressedSize);
+            }
+            sink.verify(descriptorSize, descriptorCrc);
+            return dir ? null : target;
+        }
+
+        /**
+         * Queue the compressed bytes of an entry with known sizes for a worker
+         */
+        private void submit(String name, Path target, int method, long compressedSize, long size, long crc) throws IOException {
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("interrupted extracting zip entry " + name);
+            }
+            Entry entry = new Entry(name, target, method, size, crc);
+            try {
+                workers.add(pool.submit(entry));
+            } catch (RejectedExecutionException e) {
+                inFlight.release();
+                throw new IOException("zip extractor is closed", e);
+            }
+            long remaining = compressedSize;
+            while (remaining > 0) {
+                byte[] block = reader.readBytes((int) Math.min(BLOCK_SIZE, remaining));
+                entry.put(block);
+                remaining -= block.length;
+            }
+            entry.put(END);
+        }
+
+        /**
+         * Inflate an entry from the stream up to the end of its deflated data
+         *
+         * @return compressed bytes read
+         */
+        private long inflateInline(Sink sink) throws IOException {
+            Inflater inflater = new Inflater(true);
+            byte[] buf = new byte[BLOCK_SIZE];
+            try {
+                while (!inflater.finished()) {
+                    if (inflater.needsInput()) {
+                        reader.feed(inflater);
+                    }
+                    int n = inflater.inflate(buf);
+                    if (n > 0) {
+                        sink.write(buf, n);
+                    } else if (inflater.needsDictionary()) {
+                        throw new ZipException("zip entry " + sink.name + " needs a preset dictionary");
+                    }
+                }
+                reader.unread(inflater.getRemaining());
+                return inflater.getBytesRead();
+            } catch (DataFormatException e) {
+                throw new ZipException("invalid deflated data of zip entry " + sink.name + ": " + e.getMessage());
+            } finally {
+                inflater.end();
+            }
+        }
+
+        /**
+         * Wait for all workers, whether the extraction succeeded or not, so no file is written once it returns
+         *
+         * @return first worker failure, null when all succeeded
+         */
+        private IOException await() {
+            IOException failure = null;
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    aborted = true;
+                    if (failure == null) {
+                        failure = new InterruptedIOException("interrupted extracting zip");
+                    }
+                } catch (ExecutionException e) {
+                    if (failure == null && !(e.getCause() instanceof AbortedException)) {
+                        failure = e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+                    }
+                }
+            }
+            return failure;
+        }
+
+        /**
+         * Entry inflated by a worker from the compressed blocks the reading thread queues
+         */
+        private class Entry implements Callable<Void> {
+            private final String name;
+            private final Path target;
+            private final int method;
+            private final long size;
+            private final long crc;
+            private final BlockingQueue<byte[]> blocks = new ArrayBlockingQueue<>(QUEUED_BLOCKS);
+
+            private Entry(String name, Path target, int method, long size, long crc) {
+                this.name = name;
+                this.target = target;
+                this.method = method;
+                this.size = size;
+                this.crc = crc;
+            }
+
+            private void put(byte[] block) throws IOException {
+                try {
+                    while (!blocks.offer(block, 100, TimeUnit.MILLISECONDS)) {
+                        if (aborted) {
+                            throw new AbortedException();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("interrupted extracting zip entry " + name);
+                }
+            }
+
+            private byte[] take() throws IOException, InterruptedException {
+                byte[] block;
+                while ((block = blocks.poll(100, TimeUnit.MILLISECONDS)) == null) {
+                    if (aborted) {
+                        throw new AbortedException();
+                    }
+                }
+                return block;
+            }
+
+            @Override
+            public Void call() throws Exception {
+                Inflater inflater = method == METHOD_DEFLATED ? new Inflater(true) : null;
+                try (Sink sink = new Sink(name, Files.newOutputStream(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE))) {
+                    byte[] buf = new byte[BLOCK_SIZE];
+                    byte[] block;
+                    while ((block = take()) != END) {
+                        if (inflater == null) {
+                            sink.write(block, block.length);
+                            continue;
+                        }
+                        inflater.setInput(block);
+                        inflate(inflater, sink, buf);
+                    }
+                    if (inflater != null && !inflater.finished()) {
+                        // older zlib needs a dummy byte after raw deflated data
+                        inflater.setInput(new byte[1]);
+                        inflate(inflater, sink, buf);
+                        if (!inflater.finished()) {
+                            throw new ZipException("deflated data of zip entry " + name + " is truncated");
+                        }
+                    }
+                    sink.verify(size, crc);
+                    return null;
+                } catch (Exception e) {
+                    aborted = true;
+                    throw e;
+                } finally {
+                    if (inflater != null) {
+                        inflater.end();
+                    }
+                    inFlight.release();
+                }
+            }
+
+            private void inflate(Inflater inflater, Sink sink, byte[] buf) throws IOException {
+                try {
+                    while (!inflater.finished()) {
+                        int n = inflater.inflate(buf);
+                        if (n > 0) {
+                            sink.write(buf, n);
+                        } else if (inflater.needsInput()) {
+                            return;
+                        } else if (inflater.needsDictionary()) {
+                            throw new ZipException("zip entry " + name + " needs a preset dictionary");
+                        }
+                    }
+                } catch (DataFormatException e) {
+                    throw new ZipException("invalid deflated data of zip entry " + name + ": " + e.getMessage());
+                }
+            }
+        }
+
+        /**
+         * Output of an entry counting its size and crc against the limit of the extraction
+         */
+        private class Sink implements Closeable {
+            private final String name;
+            private final OutputStream out;
+            private final CRC32 checksum = new CRC32();
+            private long written;
+
+            private Sink(String name, OutputStream out) {
+                this.name = name;
+                this.out = new BufferedOutputStream(out, BLOCK_SIZE);
+            }
+
+            private void write(byte[] b, int length) throws IOException {
+                if (extracted.addAndGet(length) > maxBytes) {
+                    throw new IOException("extracted size exceeds the limit of " + maxBytes + " bytes");
+                }
+                out.write(b, 0, length);
+                checksum.update(b, 0, length);
+                written += length;
+            }
+
+            private void verify(long size, long crc) throws ZipException {
+                if (written != size) {
+                    throw new ZipException("zip entry " + name + " has " + written + " bytes instead of " + size);
+                }
+                if (checksum.getValue() != crc) {
+                    throw new ZipException("crc of zip entry " + name + " does not match");
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                out.close();
+            }
+        }
+    }
+
+    /**
+     * Whether the data descriptor of an entry has 8 byte sizes, the rule of {@link java.util.zip.ZipInputStream}:
+     * the entry has a zip64 extra or either size does not fit in 4 bytes, writers add no extra to a streamed entry
+     * before they know its sizes
+     *
+     * @param zip64          whether the local header has a zip64 extra
+     * @param compressedSize compressed bytes read
+     * @param size           uncompressed bytes written
+     * @return true for 8 byte sizes
+     */
+    static boolean zip64Descriptor(boolean zip64, long compressedSize, long size) {
+        return zip64 || compressedSize > ZIP64_MAGIC || size > ZIP64_MAGIC;
+    }
+
+    private static long readLong(byte[] b, int offset) {
+        long value = 0;
+        for (int i = 7; i >= 0; i--) {
+            value = value << 8 | (b[offset + i] & 0xff);
+        }
+        return value;
+    }
+
+    /**
+     * Failure of an entry caused by the failure of another one
+     */
+    private static class AbortedException extends IOException {
+        private AbortedException() {
+            super("zip extraction aborted");
+        }
+    }
+
+    /**
+     * Little endian reader of a zip stream that can hand its buffer to an inflater and take back the bytes it did not use
+     */
+    private static class Reader {
+        private final InputStream in;
+        private final byte[] buf = new byte[BLOCK_SIZE];
+        private int pos;
+        private int limit;
+
+        private Reader(InputStream in) {
+            this.in = in;
+        }
+
+        private boolean fill() throws IOException {
+            while (pos == limit) {
+                int n = in.read(buf, 0, buf.length);
+                if (n < 0) {
+                    return false;
+                }
+                pos = 0;
+                limit = n;
+            }
+            return true;
+        }
+
+        private int readByte() throws IOException {
+            if (!fill()) {
+                throw new EOFException("unexpected end of zip stream");
+            }
+            return buf[pos++] & 0xff;
+        }
+
+        private int readShort() throws IOException {
+            return readByte() | readByte() << 8;
+        }
+
+        private long readInt() throws IOException {
+            return readShort() | (long) readShort() << 16;
+        }
+
+        private long readLong() throws IOException {
+            return readInt() | readInt() << 32;
+        }
+
+        private byte[] readBytes(int length) throws IOException {
+            byte[] b = new byte[length];
+            int offset = 0;
+            while (offset < length) {
+                if (!fill()) {
+                    throw new EOFException("unexpected end of zip stream");
+                }
+                int n = Math.min(length - offset, limit - pos);
+                System.arraycopy(buf, pos, b, offset, n);
+                pos += n;
+                offset += n;
+            }
+            return b;
+        }
+
+        private void skip(long length) throws IOException {
+            while (length > 0) {
+                if (!fill()) {
+                    throw new EOFException("unexpected end of zip stream");
+                }
+                int n = (int) Math.min(length, limit - pos);
+                pos += n;
+                length -= n;
+            }
+        }
+
+        /**
+         * Hand the buffered bytes to an inflater that needs input
+         */
+        private void feed(Inflater inflater) throws IOException {
+            if (!fill()) {
+                throw new EOFException("unexpected end of zip stream");
+            }
+            inflater.setInput(buf, pos, limit - pos);
+            pos = limit;
+        }
+
+        /**
+         * Take back the bytes the inflater did not use from its last input
+         */
+        private void unread(int length) {
+            pos -= length;
+        }
+    }
+}
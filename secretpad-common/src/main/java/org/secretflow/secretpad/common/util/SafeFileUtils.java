@@ -85,4 +85,27 @@ public class SafeFileUtils {
             return true;
         }
     }
+
+    /**
+     * Check the file is inside the dir once .. and symbolic links are resolved, used for names from untrusted input such as archive entries.
+     * Unlike the whitelist check it denies when the check fails
+     *
+     * @param file target file
+     * @param dir  dir the file must be inside of
+     * @return whether the file is inside the dir
+     */
+    public static boolean checkPathInDir(File file, File dir) {
+        try {
+            String canonicalDir = dir.getCanonicalPath();
+            String canonicalPath = file.getCanonicalPath();
+            if (canonicalPath.startsWith(canonicalDir + File.separator)) {
+                return true;
+            }
+            LOGGER.error("Target canonical file path {} not in dir {}, need to deny!", canonicalPath, canonicalDir);
+            return false;
+        } catch (Exception e) {
+            LOGGER.error("Check path in dir catch exception, deny! error is {}", e.getMessage());
+            return false;
+        }
+    }
 }
@@ -16,10 +16,12 @@
 
 package org.secretflow.secretpad.common.util;
 
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
@@ -31,6 +33,8 @@ import java.security.NoSuchAlgorithmException;
  */
 public class Sha256Utils {
 
+    private static final int FILE_BUFFER_SIZE = 1024 * 1024;
+
     /**
      * Convert hash string from content
      *
@@ -77,24 +81,25 @@ public class Sha256Utils {
     }
 
     /**
-     * Convert hash string from file
+     * Convert hash string from file, read with positional reads into a large buffer
      *
      * @param filePath
      * @return file hash string
      */
     public static String fileHash(String filePath) {
-        try (InputStream in = new FileInputStream(filePath)) {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] buffer = new byte[1024];
+            // a heap buffer is digested in place, direct and mapped buffers are copied through a small temp array
+            ByteBuffer buffer = ByteBuffer.allocate(FILE_BUFFER_SIZE);
+            long position = 0;
             int bytesRead;
-            while ((bytesRead = in.read(buffer)) != -1) {
-                digest.update(buffer, 0, bytesRead);
+            while ((bytesRead = channel.read(buffer.clear(), position)) != -1) {
+                digest.update(buffer.array(), 0, bytesRead);
+                position += bytesRead;
             }
             return bytesToHex(digest.digest());
         } catch (NoSuchAlgorithmException | IOException e) {
             throw new RuntimeException(e);
         }
     }
-
-
 }
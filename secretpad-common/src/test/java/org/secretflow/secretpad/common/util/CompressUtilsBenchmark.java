@@ -0,0 +1,123 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.common.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of archiving a directory as tar.gz with the single threaded gzip stream and the parallel gzip stream,
+ * run with the main method from the test classpath, it is not a unit test
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CompressUtilsBenchmark {
+
+    /**
+     * Total size of the archived files in MiB
+     */
+    @Param({"64"})
+    private int sizeMb;
+
+    /**
+     * Parallel gzip threads, 0 for the number of processors
+     */
+    @Param({"0"})
+    private int threads;
+
+    private Path dir;
+
+    private ParallelGzipCompressor compressor;
+
+    @Setup
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("compress-benchmark");
+        Random random = new Random(0);
+        byte[] file = new byte[1024 * 1024];
+        for (int i = 0; i < sizeMb; i++) {
+            // half repetitive text and half random bytes, roughly the compressibility of model files
+            for (int j = 0; j < file.length; j++) {
+                file[j] = j < file.length / 2 ? (byte) ('a' + (j * 31 + i) % 17) : (byte) random.nextInt();
+            }
+            Files.write(dir.resolve("part-" + i), file);
+        }
+        compressor = new ParallelGzipCompressor(threads, ParallelGzipOutputStream.DEFAULT_BLOCK_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        compressor.close();
+        try (var files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+
+    @Benchmark
+    public long serial() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        CompressUtils.writeTarGz(dir.toFile(), out);
+        return out.count;
+    }
+
+    @Benchmark
+    public long parallel() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        CompressUtils.writeTarGz(dir.toFile(), out, compressor);
+        return out.count;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CompressUtilsBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * Output stream discarding the archive, so the benchmark measures archiving and compression only
+     */
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.common.util;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Parallel gzip output stream test
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+public class ParallelGzipOutputStreamTest {
+
+    private final ParallelGzipCompressor compressor = new ParallelGzipCompressor(4, ParallelGzipOutputStream.DICTIONARY_SIZE);
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    public void close() {
+        compressor.close();
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        // many blocks, a partial last block and a mix of compressible and random data
+        byte[] data = data(ParallelGzipOutputStream.DICTIONARY_SIZE * 37 + 123);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (ParallelGzipOutputStream out = compressor.open(compressed)) {
+            for (int off = 0; off < data.length; ) {
+                int len = Math.min(data.length - off, 1 + off % 9000);
+                out.write(data, off, len);
+                off += len;
+            }
+            out.write(7);
+        }
+        byte[] expected = new byte[data.length + 1];
+        System.arraycopy(data, 0, expected, 0, data.length);
+        expected[data.length] = 7;
+
+        Assertions.assertArrayEquals(expected, readAll(new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))));
+        Assertions.assertArrayEquals(expected, readAll(new GzipCompressorInputStream(new ByteArrayInputStream(compressed.toByteArray()))));
+    }
+
+    @Test
+    public void testEmptyAndExactBlocks() throws Exception {
+        for (int size : new int[]{0, ParallelGzipOutputStream.DICTIONARY_SIZE, ParallelGzipOutputStream.DICTIONARY_SIZE * 3}) {
+            byte[] data = data(size);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (ParallelGzipOutputStream out = compressor.open(compressed)) {
+                out.write(data);
+            }
+            Assertions.assertArrayEquals(data, readAll(new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))));
+        }
+    }
+
+    @Test
+    public void testWriteTarGz() throws Exception {
+        Path dir = Files.createDirectories(tempDir.resolve("result/sub"));
+        byte[] data = data(300 * 1024);
+        Files.write(dir.resolve("model.bin"), data);
+        Files.writeString(tempDir.resolve("result/a.txt"), "a");
+
+        ByteArrayOutputStream serial = new ByteArrayOutputStream();
+        CompressUtils.writeTarGz(tempDir.resolve("result").toFile(), serial);
+        ByteArrayOutputStream parallel = new ByteArrayOutputStream();
+        CompressUtils.writeTarGz(tempDir.resolve("result").toFile(), parallel, compressor);
+
+        byte[] serialTar = readAll(new GZIPInputStream(new ByteArrayInputStream(serial.toByteArray())));
+        byte[] parallelTar = readAll(new GZIPInputStream(new ByteArrayInputStream(parallel.toByteArray())));
+        Assertions.assertArrayEquals(serialTar, parallelTar);
+        try (TarArchiveInputStream tar = new TarArchiveInputStream(new ByteArrayInputStream(parallelTar))) {
+            TarArchiveEntry entry = tar.getNextTarEntry();
+            Assertions.assertEquals("a.txt", entry.getName());
+            entry = tar.getNextTarEntry();
+            Assertions.assertEquals("sub/model.bin", entry.getName());
+            Assertions.assertArrayEquals(data, readAll(tar));
+        }
+    }
+
+    @Test
+    public void testWriteAfterFinish() throws Exception {
+        ParallelGzipOutputStream out = compressor.open(new ByteArrayOutputStream());
+        out.finish();
+        Assertions.assertThrows(IOException.class, () -> out.write(1));
+    }
+
+    private static byte[] data(int size) {
+        Random random = new Random(size);
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (i / 4096) % 2 == 0 ? (byte) ('a' + i % 13) : (byte) random.nextInt();
+        }
+        return data;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        return in.readAllBytes();
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.common.util;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Parallel zip extractor test
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+public class ParallelZipExtractorTest {
+
+    private final ParallelZipExtractor extractor = new ParallelZipExtractor(2);
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    public void close() {
+        extractor.close();
+    }
+
+    @Test
+    public void testEntriesWithSizesInLocalHeaders() throws Exception {
+        Map<String, byte[]> entries = entries();
+        // a seekable output writes the sizes into the local headers, so the entries inflate on the workers
+        File zip = tempDir.resolve("sizes.zip").toFile();
+        try (ZipArchiveOutputStream out = new ZipArchiveOutputStream(zip)) {
+            out.putArchiveEntry(new ZipArchiveEntry("data/"));
+            out.closeArchiveEntry();
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                out.putArchiveEntry(new ZipArchiveEntry(entry.getKey()));
+                out.write(entry.getValue());
+                out.closeArchiveEntry();
+            }
+        }
+
+        assertExtracted(entries, extract(Files.readAllBytes(zip.toPath()), Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testEntriesWithDataDescriptors() throws Exception {
+        Map<String, byte[]> entries = entries();
+        byte[] stored = "id\n1\n".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        // a stream output writes the sizes of deflated entries into trailing data descriptors
+        try (ZipOutputStream out = new ZipOutputStream(zip)) {
+            out.putNextEntry(new ZipEntry("data/"));
+            out.closeEntry();
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                out.putNextEntry(new ZipEntry(entry.getKey()));
+                out.write(entry.getValue());
+                out.closeEntry();
+            }
+            ZipEntry storedEntry = new ZipEntry("stored.csv");
+            storedEntry.setMethod(ZipEntry.STORED);
+            storedEntry.setSize(stored.length);
+            CRC32 crc = new CRC32();
+            crc.update(stored);
+            storedEntry.setCrc(crc.getValue());
+            out.putNextEntry(storedEntry);
+            out.write(stored);
+            out.closeEntry();
+        }
+        entries.put("stored.csv", stored);
+
+        assertExtracted(entries, extract(zip.toByteArray(), Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testZip64DataDescriptor() throws Exception {
+        byte[] first = "id,value\n1,2\n".repeat(1000).getBytes(StandardCharsets.UTF_8);
+        byte[] second = "id\n1\n".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        // a zip64 streamed entry, the zip64 extra of the local header makes the sizes of its descriptor 8 bytes wide
+        writeStreamedEntry(zip, "first.csv", first, true);
+        writeStreamedEntry(zip, "second.csv", second, false);
+        writeInt(zip, 0x06054b50L);
+
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("first.csv", first);
+        entries.put("second.csv", second);
+        assertExtracted(entries, extract(zip.toByteArray(), Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testZip64DescriptorOfLargeEntries() {
+        Assertions.assertFalse(ParallelZipExtractor.zip64Descriptor(false, 0xFFFFFFFFL, 0xFFFFFFFFL));
+        Assertions.assertTrue(ParallelZipExtractor.zip64Descriptor(true, 0, 0));
+        // entries over 4 GiB streamed without a zip64 extra still get 8 byte sizes
+        Assertions.assertTrue(ParallelZipExtractor.zip64Descriptor(false, 0x100000000L, 0));
+        Assertions.assertTrue(ParallelZipExtractor.zip64Descriptor(false, 0x1000L, 0x100000000L));
+    }
+
+    @Test
+    public void testRejectsEntriesOutsideOfTheDir() throws Exception {
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(zip)) {
+            out.putNextEntry(new ZipEntry("../escaped.csv"));
+            out.write("id\n1\n".getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+
+        Assertions.assertThrows(IOException.class, () -> extract(zip.toByteArray(), Long.MAX_VALUE));
+        Assertions.assertFalse(Files.exists(tempDir.resolve("escaped.csv")));
+    }
+
+    @Test
+    public void testSizeLimit() throws Exception {
+        Map<String, byte[]> entries = entries();
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(zip)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                out.putNextEntry(new ZipEntry(entry.getKey()));
+                out.write(entry.getValue());
+                out.closeEntry();
+            }
+        }
+        long total = entries.values().stream().mapToLong(b -> b.length).sum();
+
+        Assertions.assertThrows(IOException.class, () -> extract(zip.toByteArray(), total - 1));
+        Assertions.assertEquals(entries.size(), extract(zip.toByteArray(), total).size());
+    }
+
+    private void writeStreamedEntry(ByteArrayOutputStream zip, String name, byte[] data, boolean zip64) {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        writeInt(zip, 0x04034b50L);
+        writeShort(zip, zip64 ? 45 : 20);
+        writeShort(zip, 1 << 3);
+        writeShort(zip, ZipEntry.DEFLATED);
+        writeInt(zip, 0);
+        writeInt(zip, 0);
+        writeInt(zip, zip64 ? 0xFFFFFFFFL : 0);
+        writeInt(zip, zip64 ? 0xFFFFFFFFL : 0);
+        writeShort(zip, nameBytes.length);
+        writeShort(zip, zip64 ? 20 : 0);
+        zip.writeBytes(nameBytes);
+        if (zip64) {
+            writeShort(zip, 0x0001);
+            writeShort(zip, 16);
+            writeLong(zip, 0);
+            writeLong(zip, 0);
+        }
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        deflater.setInput(data);
+        deflater.finish();
+        byte[] buf = new byte[4096];
+        long compressed = 0;
+        while (!deflater.finished()) {
+            int n = deflater.deflate(buf);
+            zip.write(buf, 0, n);
+            compressed += n;
+        }
+        deflater.end();
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        writeInt(zip, 0x08074b50L);
+        writeInt(zip, crc.getValue());
+        if (zip64) {
+            writeLong(zip, compressed);
+            writeLong(zip, data.length);
+        } else {
+            writeInt(zip, compressed);
+            writeInt(zip, data.length);
+        }
+    }
+
+    private void writeShort(ByteArrayOutputStream out, int value) {
+        out.write(value & 0xff);
+        out.write(value >>> 8 & 0xff);
+    }
+
+    private void writeInt(ByteArrayOutputStream out, long value) {
+        writeShort(out, (int) (value & 0xffff));
+        writeShort(out, (int) (value >>> 16 & 0xffff));
+    }
+
+    private void writeLong(ByteArrayOutputStream out, long value) {
+        writeInt(out, value & 0xFFFFFFFFL);
+        writeInt(out, value >>> 32);
+    }
+
+    private List<Path> extract(byte[] zip, long maxBytes) throws IOException {
+        Path outputDir = Files.createTempDirectory(tempDir, "out");
+        // short reads so headers and blocks straddle the read buffer
+        InputStream in = new FilterInputStream(new ByteArrayInputStream(zip)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1000));
+            }
+        };
+        return extractor.extract(in, outputDir, maxBytes);
+    }
+
+    private void assertExtracted(Map<String, byte[]> entries, List<Path> files) throws IOException {
+        Assertions.assertEquals(entries.size(), files.size());
+        int i = 0;
+        for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+            Path file = files.get(i++);
+            Assertions.assertTrue(file.toString().endsWith(entry.getKey()));
+            Assertions.assertArrayEquals(entry.getValue(), Files.readAllBytes(file));
+        }
+    }
+
+    /**
+     * Entries of many blocks, compressible and random, and an empty one
+     */
+    private Map<String, byte[]> entries() {
+        Random random = new Random(7);
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        for (int i = 0; i < 6; i++) {
+            StringBuilder csv = new StringBuilder("id,value\n");
+            for (int row = 0; row < 20000 * (i + 1); row++) {
+                csv.append(row).append(',').append(random.nextInt(100)).append('\n');
+            }
+            entries.put("data/part-" + i + ".csv", csv.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] noise = new byte[300 * 1024];
+        random.nextBytes(noise);
+        entries.put("noise.bin", noise);
+        entries.put("empty.csv", new byte[0]);
+        return entries;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.secretflow.secretpad.common.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.Random;
+
+/**
+ * Sha256 utils test
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+public class Sha256UtilsTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void testFileHashSpansBuffers() throws Exception {
+        byte[] content = new byte[3 * 1024 * 1024 + 17];
+        new Random(1).nextBytes(content);
+        Path file = tempDir.resolve("content");
+        Files.write(file, content);
+
+        Assertions.assertEquals(HexFormat.of().formatHex(Sha256Utils.hash(content)), Sha256Utils.fileHash(file.toString()));
+        Path empty = Files.createFile(tempDir.resolve("empty"));
+        Assertions.assertEquals(HexFormat.of().formatHex(Sha256Utils.hash(new byte[0])), Sha256Utils.fileHash(empty.toString()));
+    }
+}
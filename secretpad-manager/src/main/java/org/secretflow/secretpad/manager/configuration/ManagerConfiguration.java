@@ -19,13 +19,16 @@ package org.secretflow.secretpad.manager.configuration;
 import org.secretflow.secretpad.manager.integration.data.AbstractDataManager;
 import org.secretflow.secretpad.manager.integration.data.DataManager;
 import org.secretflow.secretpad.manager.integration.datatable.AbstractDatatableManager;
+import org.secretflow.secretpad.manager.integration.datatable.CachingDatatableManager;
 import org.secretflow.secretpad.manager.integration.datatable.DatatableManager;
 import org.secretflow.secretpad.manager.integration.job.AbstractJobManager;
 import org.secretflow.secretpad.manager.integration.job.JobManager;
+import org.secretflow.secretpad.manager.integration.search.AbstractSearchIndexManager;
 import org.secretflow.secretpad.persistence.repository.*;
 
 import org.secretflow.v1alpha1.kusciaapi.DomainDataServiceGrpc;
 import org.secretflow.v1alpha1.kusciaapi.JobServiceGrpc;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -41,14 +44,27 @@ public class ManagerConfiguration {
     /**
      * Create a new abstract datatable manager via domain data service blocking stub
      *
-     * @param stub domain data service blocking stub
+     * @param stub               domain data service blocking stub
+     * @param catalogRepository  datatable catalog repository
+     * @param nodeRepository     node repository
+     * @param searchIndexManager search index manager
+     * @param maxStalenessMillis max age of a node catalog before a listing reconciles it
+     * @param cacheMaxSize       max datatables in the metadata cache
+     * @param cacheTtlMillis     time to live of cached datatable metadata
      * @return abstract datatable manager
      */
     @Bean
     AbstractDatatableManager datatableManager(
-            DomainDataServiceGrpc.DomainDataServiceBlockingStub stub
+            DomainDataServiceGrpc.DomainDataServiceBlockingStub stub,
+            DatatableCatalogRepository catalogRepository,
+            NodeRepository nodeRepository,
+            AbstractSearchIndexManager searchIndexManager,
+            @Value("${secretpad.datatable.catalog.max-staleness-millis:600000}") long maxStalenessMillis,
+            @Value("${secretpad.datatable.metadata-cache.max-size:10000}") long cacheMaxSize,
+            @Value("${secretpad.datatable.metadata-cache.ttl-millis:60000}") long cacheTtlMillis
     ) {
-        return new DatatableManager(stub);
+        return new CachingDatatableManager(new DatatableManager(stub, catalogRepository, nodeRepository, searchIndexManager, maxStalenessMillis),
+                cacheMaxSize, cacheTtlMillis);
     }
 
     /**
@@ -63,6 +79,7 @@ public class ManagerConfiguration {
      * @param modelRepository
      * @param reportRepository
      * @param jobStub
+     * @param searchIndexManager
      * @return abstract job manager
      */
     @Bean
@@ -75,9 +92,10 @@ public class ManagerConfiguration {
             ProjectRuleRepository ruleRepository,
             ProjectModelRepository modelRepository,
             ProjectReportRepository reportRepository,
-            JobServiceGrpc.JobServiceBlockingStub jobStub
+            JobServiceGrpc.JobServiceBlockingStub jobStub,
+            AbstractSearchIndexManager searchIndexManager
     ) {
-        return new JobManager(projectJobRepository, datatableManager, resultRepository, fedTableRepository, datatableRepository, ruleRepository, modelRepository, reportRepository, jobStub);
+        return new JobManager(projectJobRepository, datatableManager, resultRepository, fedTableRepository, datatableRepository, ruleRepository, modelRepository, reportRepository, jobStub, searchIndexManager);
     }
 
     /**
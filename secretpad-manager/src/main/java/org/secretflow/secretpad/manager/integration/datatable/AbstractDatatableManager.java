@@ -20,6 +20,7 @@ import org.secretflow.secretpad.manager.integration.model.DatatableDTO;
 import org.secretflow.secretpad.manager.integration.model.DatatableDTO.NodeDatatableId;
 import org.secretflow.secretpad.manager.integration.model.DatatableListDTO;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -71,6 +72,41 @@ public abstract class AbstractDatatableManager {
      */
     public abstract List<DatatableDTO> findByNodeId(String nodeId, String vendor);
 
+    /**
+     * List all manual datatables of a node from the catalog, the catalog of the node is reconciled first when it is stale
+     *
+     * @param nodeId nodeId
+     * @return DatatableDTO list ordered by name
+     */
+    public abstract List<DatatableDTO> listCatalog(String nodeId);
+
+    /**
+     * Refresh the catalog entry of a datatable from kuscia, the entry is removed when the datatable no longer exists
+     *
+     * @param nodeDatatableId datatable id
+     */
+    public abstract void refreshCatalog(NodeDatatableId nodeDatatableId);
+
+    /**
+     * Reconcile the catalog entries of a node with the tables listed by kuscia
+     *
+     * @param nodeId target nodeId
+     */
+    public abstract void reconcileCatalog(String nodeId);
+
+    /**
+     * Reconcile the catalog entries of every node, entries of removed nodes are dropped
+     */
+    public abstract void reconcileCatalogs();
+
+    /**
+     * Drop cached metadata of datatables, nothing is cached by default
+     *
+     * @param nodeDatatableIds datatable id list
+     */
+    public void invalidate(Collection<NodeDatatableId> nodeDatatableIds) {
+    }
+
     /**
      * Delete datatable
      *
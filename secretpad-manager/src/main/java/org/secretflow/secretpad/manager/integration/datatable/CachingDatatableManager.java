@@ -0,0 +1,207 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.manager.integration.datatable;
+
+import org.secretflow.secretpad.manager.integration.model.DatatableDTO;
+import org.secretflow.secretpad.manager.integration.model.DatatableDTO.NodeDatatableId;
+import org.secretflow.secretpad.manager.integration.model.DatatableListDTO;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-through datatable metadata cache in front of another datatable manager.
+ * Misses of a batch are loaded with one findByIds, and concurrent misses of the same datatable share one load.
+ * Datatables not found are never cached, listings are not cached here as they are served by the datatable catalog.
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+public class CachingDatatableManager extends AbstractDatatableManager {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(CachingDatatableManager.class);
+
+    private final AbstractDatatableManager delegate;
+
+    private final Cache<NodeDatatableId, DatatableDTO> cache;
+
+    /**
+     * Loads in flight, a caller missing a datatable that is being loaded waits for that load instead of starting another
+     */
+    private final Map<NodeDatatableId, CompletableFuture<Optional<DatatableDTO>>> inflight = new ConcurrentHashMap<>();
+
+    public CachingDatatableManager(AbstractDatatableManager delegate, long maxSize, long ttlMillis) {
+        this.delegate = delegate;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(Math.max(0, maxSize))
+                .expireAfterWrite(Math.max(0, ttlMillis), TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Underlying cache, exposed for metrics
+     *
+     * @return datatable metadata cache
+     */
+    public Cache<NodeDatatableId, DatatableDTO> getCache() {
+        return cache;
+    }
+
+    @Override
+    public Optional<DatatableDTO> findById(NodeDatatableId nodeDatatableId) {
+        DatatableDTO cached = cache.getIfPresent(nodeDatatableId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return load(List.of(nodeDatatableId), false).get(nodeDatatableId);
+    }
+
+    @Override
+    public Map<NodeDatatableId, DatatableDTO> findByIds(List<NodeDatatableId> nodeDatatableIds) {
+        Map<NodeDatatableId, DatatableDTO> result = new HashMap<>(cache.getAllPresent(nodeDatatableIds));
+        List<NodeDatatableId> misses = nodeDatatableIds.stream().filter(it -> !result.containsKey(it)).distinct().toList();
+        if (!misses.isEmpty()) {
+            load(misses, true).forEach((id, datatable) -> datatable.ifPresent(it -> result.put(id, it)));
+        }
+        return result;
+    }
+
+    @Override
+    public DatatableListDTO findByNodeId(String nodeId, Integer pageSize, Integer pageNumber, String statusFilter, String datatableNameFilter) {
+        return delegate.findByNodeId(nodeId, pageSize, pageNumber, statusFilter, datatableNameFilter);
+    }
+
+    @Override
+    public List<DatatableDTO> findByNodeId(String nodeId, String vendor) {
+        return delegate.findByNodeId(nodeId, vendor);
+    }
+
+    @Override
+    public List<DatatableDTO> listCatalog(String nodeId) {
+        return delegate.listCatalog(nodeId);
+    }
+
+    @Override
+    public void refreshCatalog(NodeDatatableId nodeDatatableId) {
+        invalidate(List.of(nodeDatatableId));
+        delegate.refreshCatalog(nodeDatatableId);
+    }
+
+    @Override
+    public void reconcileCatalog(String nodeId) {
+        delegate.reconcileCatalog(nodeId);
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${secretpad.datatable.catalog.reconcile-initial-delay-millis:60000}",
+            fixedDelayString = "${secretpad.datatable.catalog.reconcile-interval-millis:300000}")
+    public void reconcileCatalogs() {
+        delegate.reconcileCatalogs();
+    }
+
+    @Override
+    public void deleteDataTable(NodeDatatableId nodeDatatableId) {
+        try {
+            delegate.deleteDataTable(nodeDatatableId);
+        } finally {
+            invalidate(List.of(nodeDatatableId));
+        }
+    }
+
+    @Override
+    public void invalidate(Collection<NodeDatatableId> nodeDatatableIds) {
+        nodeDatatableIds.forEach(inflight::remove);
+        cache.invalidateAll(nodeDatatableIds);
+    }
+
+    /**
+     * Load missed datatables, loads already in flight are joined and the rest are loaded in one call.
+     * A single lookup keeps the findById semantics of the delegate, which fails when the datatable does not exist,
+     * while a batch lookup leaves missing datatables out.
+     *
+     * @param misses missed datatable ids
+     * @param batch  whether to load with findByIds
+     * @return Map of datatable id and optional datatable
+     */
+    private Map<NodeDatatableId, Optional<DatatableDTO>> load(List<NodeDatatableId> misses, boolean batch) {
+        Map<NodeDatatableId, CompletableFuture<Optional<DatatableDTO>>> owned = new LinkedHashMap<>();
+        Map<NodeDatatableId, CompletableFuture<Optional<DatatableDTO>>> joined = new HashMap<>();
+        for (NodeDatatableId id : misses) {
+            CompletableFuture<Optional<DatatableDTO>> future = new CompletableFuture<>();
+            CompletableFuture<Optional<DatatableDTO>> existing = inflight.putIfAbsent(id, future);
+            if (existing == null) {
+                owned.put(id, future);
+            } else {
+                joined.put(id, existing);
+            }
+        }
+        Map<NodeDatatableId, Optional<DatatableDTO>> result = new HashMap<>();
+        if (!owned.isEmpty()) {
+            try {
+                Map<NodeDatatableId, DatatableDTO> loaded;
+                if (batch) {
+                    loaded = delegate.findByIds(new ArrayList<>(owned.keySet()));
+                } else {
+                    NodeDatatableId id = owned.keySet().iterator().next();
+                    loaded = delegate.findById(id).map(it -> Map.of(id, it)).orElse(Map.of());
+                }
+                LOGGER.debug("load {} datatables into metadata cache, {} found", owned.size(), loaded.size());
+                owned.forEach((id, future) -> {
+                    Optional<DatatableDTO> datatable = Optional.ofNullable(loaded.get(id));
+                    // an invalidation during the load removes the in flight entry, the loaded value is then not cached;
+                    // the check and the put hold the in flight entry so an invalidation cannot fall in between
+                    inflight.compute(id, (key, current) -> {
+                        if (current != future) {
+                            return current;
+                        }
+                        datatable.ifPresent(it -> cache.put(key, it));
+                        return null;
+                    });
+                    future.complete(datatable);
+                    result.put(id, datatable);
+                });
+            } catch (RuntimeException e) {
+                owned.forEach((id, future) -> {
+                    inflight.remove(id, future);
+                    future.completeExceptionally(e);
+                });
+                throw e;
+            }
+        }
+        joined.forEach((id, future) -> {
+            try {
+                result.put(id, future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        });
+        return result;
+    }
+}
@@ -22,6 +22,13 @@ import org.secretflow.secretpad.common.exception.SecretpadException;
 import org.secretflow.secretpad.common.util.JsonUtils;
 import org.secretflow.secretpad.manager.integration.model.DatatableDTO;
 import org.secretflow.secretpad.manager.integration.model.DatatableListDTO;
+import org.secretflow.secretpad.manager.integration.search.AbstractSearchIndexManager;
+import org.secretflow.secretpad.persistence.entity.DatatableCatalogDO;
+import org.secretflow.secretpad.persistence.entity.NodeDO;
+import org.secretflow.secretpad.persistence.entity.ProjectDatatableDO;
+import org.secretflow.secretpad.persistence.model.SearchDocumentKind;
+import org.secretflow.secretpad.persistence.repository.DatatableCatalogRepository;
+import org.secretflow.secretpad.persistence.repository.NodeRepository;
 
 import org.secretflow.v1alpha1.kusciaapi.DomainDataServiceGrpc;
 import org.secretflow.v1alpha1.kusciaapi.Domaindata;
@@ -29,9 +36,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -39,7 +46,9 @@ import static org.secretflow.secretpad.manager.integration.model.Constants.STATU
 import static org.secretflow.secretpad.manager.integration.model.Constants.STATUS_UNAVAILABLE;
 
 /**
- * Manager datatable operation
+ * Manager datatable operation, datatable listings are served from a local catalog which mirrors kuscia domain data of manual tables.
+ * The catalog is updated on create and delete, reconciled periodically and reconciled on read when a node has not been
+ * synced within the max staleness.
  *
  * @author yansi
  * @date 2023/5/23
@@ -53,8 +62,32 @@ public class DatatableManager extends AbstractDatatableManager {
      */
     private final DomainDataServiceGrpc.DomainDataServiceBlockingStub dataStub;
 
-    public DatatableManager(DomainDataServiceGrpc.DomainDataServiceBlockingStub dataStub) {
+    private final DatatableCatalogRepository catalogRepository;
+
+    private final NodeRepository nodeRepository;
+
+    private final AbstractSearchIndexManager searchIndexManager;
+
+    /**
+     * Max age of the catalog of a node before a listing reconciles it first
+     */
+    private final long maxStalenessMillis;
+
+    /**
+     * Last successful reconcile time of nodes, a node not reconciled since startup is reconciled on its first listing
+     */
+    private final Map<String, Long> reconciledAt = new ConcurrentHashMap<>();
+
+    public DatatableManager(DomainDataServiceGrpc.DomainDataServiceBlockingStub dataStub,
+                            DatatableCatalogRepository catalogRepository,
+                            NodeRepository nodeRepository,
+                            AbstractSearchIndexManager searchIndexManager,
+                            long maxStalenessMillis) {
         this.dataStub = dataStub;
+        this.catalogRepository = catalogRepository;
+        this.nodeRepository = nodeRepository;
+        this.searchIndexManager = searchIndexManager;
+        this.maxStalenessMillis = maxStalenessMillis;
     }
 
     @Override
@@ -101,23 +134,20 @@ public class DatatableManager extends AbstractDatatableManager {
             String statusFilter,
             String datatableNameFilter
     ) {
-        LOGGER.info("Find datatable with kuscia api with node id = {}, filter by usermanul vendor.", nodeId);
-        List<DatatableDTO> datatableDTOList = findByNodeId(nodeId, DATA_VENDOR_MANUAL);
-        LOGGER.info("The datatable list len = {}, now filter by status = {}", datatableDTOList.size(), statusFilter);
-        datatableDTOList = filterByStatus(datatableDTOList, statusFilter);
-        LOGGER.info("After filter by status the datatable list len = {}, now filter by datatable name = {}", datatableDTOList.size(), datatableNameFilter);
-        datatableDTOList = filterByDatatableName(datatableDTOList, datatableNameFilter);
-        LOGGER.info("After filter by name, the datatable list len = {}, now paging.", datatableDTOList.size());
+        reconcileIfStale(nodeId);
+        String status = STATUS_AVAILABLE.equalsIgnoreCase(statusFilter) || STATUS_UNAVAILABLE.equalsIgnoreCase(statusFilter) ? statusFilter : null;
+        long total = catalogRepository.countByNodeId(nodeId, DATA_VENDOR_MANUAL, status, datatableNameFilter);
         int startIndex = pageSize * (pageNumber - 1);
-        if (startIndex > datatableDTOList.size()) {
-            LOGGER.error("When find by node id, the page start index {} > datatableDtolist len {}", startIndex, datatableDTOList.size());
+        if (startIndex > total) {
+            LOGGER.error("When find by node id, the page start index {} > datatable catalog size {}", startIndex, total);
             throw SecretpadException.of(SystemErrorCode.OUT_OF_RANGE_ERROR, "page start index > datatable list length.");
         }
-        int endIndex = Math.min((startIndex + pageSize), datatableDTOList.size());
-        LOGGER.info("After page, we show from {} to {}", startIndex, endIndex);
+        List<DatatableDTO> datatableDTOList = catalogRepository.pageByNodeId(nodeId, DATA_VENDOR_MANUAL, status, datatableNameFilter, pageSize, startIndex)
+                .stream().map(DatatableManager::fromCatalog).collect(Collectors.toList());
+        LOGGER.info("Find datatable from catalog with node id = {}, total = {}, page size = {}", nodeId, total, datatableDTOList.size());
         return DatatableListDTO.builder()
-                .datatableDTOList(datatableDTOList.subList(startIndex, endIndex))
-                .totalDatatableNums(datatableDTOList.size())
+                .datatableDTOList(datatableDTOList)
+                .totalDatatableNums((int) total)
                 .build();
     }
 
@@ -129,15 +159,91 @@ public class DatatableManager extends AbstractDatatableManager {
         if (vendor != null) {
             builder.setDomaindataVendor(vendor);
         }
-        Domaindata.ListDomainDataResponse responses = dataStub.listDomainData(
-                Domaindata.ListDomainDataRequest.newBuilder()
-                        .setData(builder.build()).build());
-        if (responses.getStatus().getCode() != 0) {
-            LOGGER.error("lock up from kusciaapi failed: code={}, message={}, nodeId={}, vendor={}",
-                    responses.getStatus().getCode(), responses.getStatus().getMessage(), nodeId, vendor);
-            throw SecretpadException.of(DatatableErrorCode.QUERY_DATATABLE_FAILED);
+        return listDomainData(builder.build()).stream().map(DatatableDTO::fromDomainData).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<DatatableDTO> listCatalog(String nodeId) {
+        reconcileIfStale(nodeId);
+        return catalogRepository.findByNodeIdAndVendor(nodeId, DATA_VENDOR_MANUAL).stream()
+                .map(DatatableManager::fromCatalog).collect(Collectors.toList());
+    }
+
+    /**
+     * Reconcile the catalog of a node when it has not been reconciled within the max staleness
+     *
+     * @param nodeId nodeId
+     */
+    private void reconcileIfStale(String nodeId) {
+        Long lastReconciled = reconciledAt.get(nodeId);
+        if (lastReconciled == null || System.currentTimeMillis() - lastReconciled >= maxStalenessMillis) {
+            reconcileCatalog(nodeId);
+        }
+    }
+
+    @Override
+    public void refreshCatalog(DatatableDTO.NodeDatatableId nodeDatatableId) {
+        Domaindata.QueryDomainDataResponse response = dataStub.queryDomainData(
+                Domaindata.QueryDomainDataRequest.newBuilder()
+                        .setData(Domaindata.QueryDomainDataRequestData.newBuilder()
+                                .setDomainId(nodeDatatableId.getNodeId())
+                                .setDomaindataId(nodeDatatableId.getDatatableId())
+                                .build())
+                        .build());
+        if (response.getStatus().getCode() != 0) {
+            // leave the catalog to the next reconcile, a failed lookup does not prove the table is gone
+            LOGGER.warn("refresh datatable catalog failed: code={}, message={}, nodeId={}, datatableId={}", response.getStatus().getCode(),
+                    response.getStatus().getMessage(), nodeDatatableId.getNodeId(), nodeDatatableId.getDatatableId());
+            return;
+        }
+        DatatableCatalogDO entry = catalogRepository.save(toCatalog(response.getData(), LocalDateTime.now()));
+        indexCatalog(entry);
+    }
+
+    @Override
+    public void reconcileCatalog(String nodeId) {
+        long start = System.currentTimeMillis();
+        List<Domaindata.DomainData> domainDataList = listDomainData(Domaindata.ListDomainDataRequestData.newBuilder()
+                .setDomaindataType(DATA_TYPE_TABLE)
+                .setDomaindataVendor(DATA_VENDOR_MANUAL)
+                .setDomainId(nodeId)
+                .build());
+        LocalDateTime now = LocalDateTime.now();
+        Map<DatatableCatalogDO.UPK, DatatableCatalogDO> existing = catalogRepository.findByNodeId(nodeId).stream()
+                .collect(Collectors.toMap(DatatableCatalogDO::getUpk, Function.identity()));
+        List<DatatableCatalogDO> changed = new ArrayList<>();
+        for (Domaindata.DomainData domainData : domainDataList) {
+            DatatableCatalogDO entry = toCatalog(domainData, now);
+            DatatableCatalogDO old = existing.remove(entry.getUpk());
+            if (old == null || entry.changedFrom(old)) {
+                changed.add(entry);
+            }
+        }
+        catalogRepository.saveAll(changed);
+        catalogRepository.deleteAllInBatch(existing.values());
+        changed.forEach(this::indexCatalog);
+        existing.keySet().forEach(upk -> searchIndexManager.remove(SearchDocumentKind.Datatable, null, upk.getNodeId(), upk.getDatatableId()));
+        reconciledAt.put(nodeId, start);
+        LOGGER.info("reconcile datatable catalog of node {}: {} tables, {} changed, {} removed, cost {} ms",
+                nodeId, domainDataList.size(), changed.size(), existing.size(), System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public void reconcileCatalogs() {
+        List<String> nodeIds = nodeRepository.findAll().stream().map(NodeDO::getNodeId).collect(Collectors.toList());
+        if (nodeIds.isEmpty()) {
+            catalogRepository.deleteAllInBatch();
+        } else {
+            catalogRepository.deleteByNodeIdNotIn(nodeIds);
+        }
+        reconciledAt.keySet().retainAll(nodeIds);
+        for (String nodeId : nodeIds) {
+            try {
+                reconcileCatalog(nodeId);
+            } catch (Exception e) {
+                LOGGER.warn("reconcile datatable catalog of node {} failed", nodeId, e);
+            }
         }
-        return responses.getData().getDomaindataListList().stream().map(DatatableDTO::fromDomainData).collect(Collectors.toList());
     }
 
     @Override
@@ -151,38 +257,82 @@ public class DatatableManager extends AbstractDatatableManager {
                     response.getStatus().getCode(), response.getStatus().getMessage(), nodeDatatableId.getNodeId(), nodeDatatableId.getDatatableId());
             throw SecretpadException.of(DatatableErrorCode.DELETE_DATATABLE_FAILED);
         }
+        catalogRepository.deleteById(new DatatableCatalogDO.UPK(nodeDatatableId.getNodeId(), nodeDatatableId.getDatatableId()));
+        searchIndexManager.remove(SearchDocumentKind.Datatable, null, nodeDatatableId.getNodeId(), nodeDatatableId.getDatatableId());
     }
 
     /**
-     * Filter datatableDTO list by status
+     * Index a catalog entry for global search, datatables belong to a node rather than a project
      *
-     * @param datatableDTOList
-     * @param statusFilter
-     * @return DatatableDTO list
+     * @param entry catalog entry
      */
-    private List<DatatableDTO> filterByStatus(List<DatatableDTO> datatableDTOList, String statusFilter) {
-        if ((!STATUS_AVAILABLE.equalsIgnoreCase(statusFilter) && !STATUS_UNAVAILABLE.equalsIgnoreCase(statusFilter))) {
-            return datatableDTOList;
-        }
-        return datatableDTOList.stream().filter(
-                it -> statusFilter.equalsIgnoreCase(it.getStatus())
-        ).collect(Collectors.toList());
+    private void indexCatalog(DatatableCatalogDO entry) {
+        searchIndexManager.index(SearchDocumentKind.Datatable, null, entry.getUpk().getNodeId(), entry.getUpk().getDatatableId(),
+                entry.getDatatableName());
     }
 
     /**
-     * Filter datatableDTO list by datatable name
+     * List domain data from kuscia
      *
-     * @param datatableDTOList
-     * @param datatableNameFilter
-     * @return DatatableDTO list
+     * @param requestData list request data
+     * @return domain data list
      */
-    private List<DatatableDTO> filterByDatatableName(List<DatatableDTO> datatableDTOList, String datatableNameFilter) {
-        if (datatableNameFilter == null) {
-            return datatableDTOList;
+    private List<Domaindata.DomainData> listDomainData(Domaindata.ListDomainDataRequestData requestData) {
+        Domaindata.ListDomainDataResponse responses = dataStub.listDomainData(
+                Domaindata.ListDomainDataRequest.newBuilder()
+                        .setData(requestData).build());
+        if (responses.getStatus().getCode() != 0) {
+            LOGGER.error("lock up from kusciaapi failed: code={}, message={}, nodeId={}, vendor={}",
+                    responses.getStatus().getCode(), responses.getStatus().getMessage(), requestData.getDomainId(), requestData.getDomaindataVendor());
+            throw SecretpadException.of(DatatableErrorCode.QUERY_DATATABLE_FAILED);
         }
-        return datatableDTOList.stream().filter(
-                it -> it.getDatatableName().contains(datatableNameFilter)
-        ).collect(Collectors.toList());
+        return responses.getData().getDomaindataListList();
+    }
+
+    /**
+     * Convert kuscia domain data to catalog entry
+     *
+     * @param domainData domain data
+     * @param syncedAt   sync time
+     * @return catalog entry
+     */
+    private static DatatableCatalogDO toCatalog(Domaindata.DomainData domainData, LocalDateTime syncedAt) {
+        return DatatableCatalogDO.builder()
+                .upk(new DatatableCatalogDO.UPK(domainData.getDomainId(), domainData.getDomaindataId()))
+                .datatableName(domainData.getName())
+                .type(domainData.getType())
+                .vendor(domainData.getVendor())
+                .status(domainData.getStatus())
+                .relativeUri(domainData.getRelativeUri())
+                .datasourceId(domainData.getDatasourceId())
+                .attributes(new HashMap<>(domainData.getAttributesMap()))
+                .columns(domainData.getColumnsList().stream()
+                        .map(it -> new ProjectDatatableDO.TableColumn(it.getName(), it.getType(), it.getComment()))
+                        .collect(Collectors.toList()))
+                .gmtSynced(syncedAt)
+                .build();
+    }
+
+    /**
+     * Convert catalog entry to DatatableDTO
+     *
+     * @param entry catalog entry
+     * @return DatatableDTO
+     */
+    private static DatatableDTO fromCatalog(DatatableCatalogDO entry) {
+        return DatatableDTO.builder()
+                .datatableId(entry.getUpk().getDatatableId())
+                .datatableName(entry.getDatatableName())
+                .nodeId(entry.getUpk().getNodeId())
+                .relativeUri(entry.getRelativeUri())
+                .datasourceId(entry.getDatasourceId())
+                .attributes(entry.getAttributes() == null ? Map.of() : entry.getAttributes())
+                .status(entry.getStatus())
+                .type(entry.getType())
+                .schema(entry.getColumns() == null ? List.of() : entry.getColumns().stream()
+                        .map(it -> new DatatableDTO.TableColumnDTO(it.getColName(), it.getColType(), it.getColComment()))
+                        .collect(Collectors.toList()))
+                .build();
     }
 
 }
@@ -23,10 +23,12 @@ import org.secretflow.secretpad.common.util.DateTimes;
 import org.secretflow.secretpad.common.util.JsonUtils;
 import org.secretflow.secretpad.manager.integration.datatable.AbstractDatatableManager;
 import org.secretflow.secretpad.manager.integration.model.DatatableDTO;
+import org.secretflow.secretpad.manager.integration.search.AbstractSearchIndexManager;
 import org.secretflow.secretpad.persistence.entity.*;
 import org.secretflow.secretpad.persistence.model.GraphJobStatus;
 import org.secretflow.secretpad.persistence.model.GraphNodeTaskStatus;
 import org.secretflow.secretpad.persistence.model.ResultKind;
+import org.secretflow.secretpad.persistence.model.SearchDocumentKind;
 import org.secretflow.secretpad.persistence.repository.*;
 
 import com.google.common.base.Strings;
@@ -65,6 +67,7 @@ public class JobManager extends AbstractJobManager {
     private final ProjectRuleRepository ruleRepository;
     private final ProjectModelRepository modelRepository;
     private final ProjectReportRepository reportRepository;
+    private final AbstractSearchIndexManager searchIndexManager;
 
     public JobManager(ProjectJobRepository projectJobRepository,
                       AbstractDatatableManager datatableManager,
@@ -74,7 +77,8 @@ public class JobManager extends AbstractJobManager {
                       ProjectRuleRepository ruleRepository,
                       ProjectModelRepository modelRepository,
                       ProjectReportRepository reportRepository,
-                      JobServiceGrpc.JobServiceBlockingStub jobStub) {
+                      JobServiceGrpc.JobServiceBlockingStub jobStub,
+                      AbstractSearchIndexManager searchIndexManager) {
         this.projectJobRepository = projectJobRepository;
         this.datatableManager = datatableManager;
         this.resultRepository = resultRepository;
@@ -84,6 +88,7 @@ public class JobManager extends AbstractJobManager {
         this.modelRepository = modelRepository;
         this.reportRepository = reportRepository;
         this.jobStub = jobStub;
+        this.searchIndexManager = searchIndexManager;
     }
 
     /**
@@ -158,6 +163,8 @@ public class JobManager extends AbstractJobManager {
         }
         LOGGER.info("look up nodeDatatableIds from kusciaapi, size: {}", nodeDatatableIds.size());
         if (!CollectionUtils.isEmpty(nodeDatatableIds)) {
+            // outputs are written by the finished task, cached metadata of the same ids predates them
+            datatableManager.invalidate(nodeDatatableIds);
             Map<DatatableDTO.NodeDatatableId, DatatableDTO> datatableDTOMap = datatableManager.findByIds(nodeDatatableIds);
             datatableDTOMap.forEach((key, val) -> {
                 String type = val.getType();
@@ -176,6 +183,7 @@ public class JobManager extends AbstractJobManager {
                         .jobId(taskUpk.getJobId())
                         .build();
                 resultRepository.save(resultDO);
+                searchIndexManager.index(SearchDocumentKind.Result, projectId, val.getNodeId(), datatableId, datatableId);
 
                 Map<String, String> attributes = val.getAttributes();
                 String distData = null;
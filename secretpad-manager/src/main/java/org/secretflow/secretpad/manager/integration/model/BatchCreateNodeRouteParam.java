@@ -0,0 +1,41 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.manager.integration.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Batch create node route param, routes are provisioned for every ordered pair of the nodes plus the explicit pairs
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Data
+@Builder
+public class BatchCreateNodeRouteParam {
+    /**
+     * Nodes to connect as a full mesh, both directions of every pair
+     */
+    private List<String> nodeIds;
+    /**
+     * Explicit directed pairs, net addresses override the addresses of nodes when not empty
+     */
+    private List<CreateNodeRouteParam> pairs;
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.manager.integration.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Provision result of one directed node route
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Builder
+@Setter
+@Getter
+public class NodeRouteProvisionDTO {
+
+    private Long routeId;
+
+    private String srcNodeId;
+
+    private String dstNodeId;
+
+    private Result result;
+
+    /**
+     * Failure reason
+     */
+    private String message;
+
+    public enum Result {
+        /**
+         * Route created in kuscia and database
+         */
+        CREATED,
+        /**
+         * Route already exists in kuscia and database, nothing changed
+         */
+        EXISTED,
+        /**
+         * Route can not be created
+         */
+        FAILED
+    }
+}
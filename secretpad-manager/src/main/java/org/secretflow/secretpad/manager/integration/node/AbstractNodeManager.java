@@ -19,6 +19,8 @@ package org.secretflow.secretpad.manager.integration.node;
 import org.secretflow.secretpad.manager.integration.model.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author xiaonan
@@ -33,6 +35,16 @@ public abstract class AbstractNodeManager {
      */
     public abstract List<NodeDTO> listNode();
 
+    /**
+     * List all nodes with statuses and tokens of one batch domain status query.
+     * Cert and role are not in the batch status, they are kept from the known nodes,
+     * domains are queried one by one only for nodes not known yet, known without cert, or missing from the batch status
+     *
+     * @param knownNodes nodes listed before by nodeId
+     * @return NodeDTO list
+     */
+    public abstract List<NodeDTO> listNodeStatus(Map<String, NodeDTO> knownNodes);
+
     /**
      * Create node
      *
@@ -114,4 +126,11 @@ public abstract class AbstractNodeManager {
      */
     public abstract boolean checkNodeReady(String nodeId);
 
+    /**
+     * Filter ready nodes, domain statuses are queried in one batch
+     *
+     * @param nodeIds nodeId list
+     * @return ready nodeIds
+     */
+    public abstract Set<String> filterReadyNodes(List<String> nodeIds);
 }
@@ -22,13 +22,17 @@ import org.secretflow.secretpad.common.errorcode.ProjectErrorCode;
 import org.secretflow.secretpad.common.errorcode.SystemErrorCode;
 import org.secretflow.secretpad.common.exception.SecretpadException;
 import org.secretflow.secretpad.common.util.DateTimes;
-import org.secretflow.secretpad.common.util.JsonUtils;
 import org.secretflow.secretpad.common.util.UUIDUtils;
 import org.secretflow.secretpad.manager.integration.model.*;
+import org.secretflow.secretpad.manager.integration.noderoute.NodeRouteChangedEvent;
 import org.secretflow.secretpad.manager.kuscia.grpc.KusciaDomainRpc;
 import org.secretflow.secretpad.persistence.entity.*;
+import org.secretflow.secretpad.persistence.model.ResultKind;
+import org.secretflow.secretpad.persistence.projection.NodeResultProjection;
 import org.secretflow.secretpad.persistence.repository.*;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
@@ -39,11 +43,23 @@ import org.secretflow.v1alpha1.kusciaapi.DomainServiceGrpc;
 import org.secretflow.v1alpha1.kusciaapi.Domaindata;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -73,6 +89,30 @@ public class NodeManager extends AbstractNodeManager {
 
     private final DomainServiceGrpc.DomainServiceBlockingStub domainServiceBlockingStub;
     private final KusciaDomainRpc kusciaDomainRpc;
+    private final ApplicationEventPublisher publisher;
+
+    /**
+     * Max concurrent kuscia domain queries when listing nodes
+     */
+    @Value("${secretpad.node.query-parallelism:8}")
+    private int queryParallelism;
+
+    private ExecutorService nodeQueryExecutor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        nodeQueryExecutor = Executors.newFixedThreadPool(Math.max(1, queryParallelism), r -> {
+            Thread thread = new Thread(r, "node-query-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void destroy() {
+        nodeQueryExecutor.shutdownNow();
+    }
 
     private void check(String nodeId) {
         List<NodeDO> byType = nodeRepository.findByType(DomainConstants.DomainTypeEnum.embedded.name());
@@ -90,7 +130,120 @@ public class NodeManager extends AbstractNodeManager {
      */
     @Override
     public List<NodeDTO> listNode() {
-        return nodeRepository.findAll().stream().map(this::fillByGrpcDomainQuery).collect(Collectors.toList());
+        List<NodeDO> nodeDOList = nodeRepository.findAll();
+        if (CollectionUtils.isEmpty(nodeDOList)) {
+            return new ArrayList<>();
+        }
+        Map<String, Domain.DomainStatus> domainStatusMap = batchQueryDomainStatus(nodeDOList.stream().map(NodeDO::getNodeId).collect(Collectors.toList()));
+        // fan out the per domain detail queries with bounded concurrency, keep the repository order
+        List<CompletableFuture<NodeDTO>> futures = nodeDOList.stream()
+                .map(nodeDO -> CompletableFuture.supplyAsync(
+                        () -> fillByGrpcDomainQuery(nodeDO, domainStatusMap.get(nodeDO.getNodeId())), nodeQueryExecutor))
+                .collect(Collectors.toList());
+        return joinAll(futures);
+    }
+
+    @Override
+    public List<NodeDTO> listNodeStatus(Map<String, NodeDTO> knownNodes) {
+        List<NodeDO> nodeDOList = nodeRepository.findAll();
+        if (CollectionUtils.isEmpty(nodeDOList)) {
+            return new ArrayList<>();
+        }
+        Map<String, Domain.DomainStatus> domainStatusMap = batchQueryDomainStatus(nodeDOList.stream().map(NodeDO::getNodeId).collect(Collectors.toList()));
+        List<CompletableFuture<NodeDTO>> futures = nodeDOList.stream()
+                .map(nodeDO -> {
+                    Domain.DomainStatus domainStatus = domainStatusMap.get(nodeDO.getNodeId());
+                    NodeDTO known = knownNodes.get(nodeDO.getNodeId());
+                    if (domainStatus == null || known == null
+                            || (StringUtils.isEmpty(known.getCert()) && !domainStatus.getNodeStatusesList().isEmpty())) {
+                        return CompletableFuture.supplyAsync(() -> fillByGrpcDomainQuery(nodeDO, domainStatus), nodeQueryExecutor);
+                    }
+                    NodeDTO nodeDTO = NodeDTO.fromDo(nodeDO);
+                    fillByDomainStatus(nodeDTO, domainStatus.getNodeStatusesList(), domainStatus.getDeployTokenStatusesList());
+                    if (ObjectUtils.isNotEmpty(nodeDTO.getNodeInstances())) {
+                        nodeDTO.setCert(known.getCert());
+                        nodeDTO.setNodeRole(known.getNodeRole());
+                    }
+                    return CompletableFuture.completedFuture(nodeDTO);
+                })
+                .collect(Collectors.toList());
+        return joinAll(futures);
+    }
+
+    /**
+     * Join node queries in order, the runtime exception of a failed query is rethrown as is
+     *
+     * @param futures node queries
+     * @return NodeDTO list
+     */
+    private List<NodeDTO> joinAll(List<CompletableFuture<NodeDTO>> futures) {
+        try {
+            return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Reconcile tokens of nodes that have not recorded one yet with the unused deploy token reported by kuscia,
+     * runs in background so that node reads never write
+     */
+    @Scheduled(initialDelayString = "${secretpad.node.token-reconcile.initial-delay-millis:60000}",
+            fixedDelayString = "${secretpad.node.token-reconcile.interval-millis:60000}")
+    public void reconcileNodeTokens() {
+        List<NodeDO> nodeDOList = nodeRepository.findAll().stream()
+                .filter(nodeDO -> StringUtils.isEmpty(nodeDO.getToken()))
+                .collect(Collectors.toList());
+        if (nodeDOList.isEmpty()) {
+            return;
+        }
+        Map<String, Domain.DomainStatus> domainStatusMap = batchQueryDomainStatus(nodeDOList.stream().map(NodeDO::getNodeId).collect(Collectors.toList()));
+        for (NodeDO nodeDO : nodeDOList) {
+            try {
+                Domain.DomainStatus domainStatus = domainStatusMap.get(nodeDO.getNodeId());
+                List<Domain.DeployTokenStatus> deployTokenStatusesList;
+                if (domainStatus != null) {
+                    deployTokenStatusesList = domainStatus.getDeployTokenStatusesList();
+                } else {
+                    Domain.QueryDomainResponse response = kusciaDomainRpc.queryDomainNoCheck(
+                            Domain.QueryDomainRequest.newBuilder().setDomainId(nodeDO.getNodeId()).build());
+                    if (response.getStatus().getCode() != 0) {
+                        continue;
+                    }
+                    deployTokenStatusesList = response.getData().getDeployTokenStatusesList();
+                }
+                findUnusedToken(deployTokenStatusesList).ifPresent(t -> {
+                    nodeDO.setToken(t.getToken());
+                    nodeRepository.save(nodeDO);
+                    LOGGER.info("reconcile token of node {}", nodeDO.getNodeId());
+                });
+            } catch (Exception e) {
+                LOGGER.warn("reconcile token of node {} failed", nodeDO.getNodeId(), e);
+            }
+        }
+    }
+
+    /**
+     * Batch query domain status of nodes, an empty map is returned when kuscia fails so that callers fall back to per domain queries
+     *
+     * @param domainIds domain id list
+     * @return Map of domain id and domain status
+     */
+    private Map<String, Domain.DomainStatus> batchQueryDomainStatus(List<String> domainIds) {
+        Domain.BatchQueryDomainStatusRequest request = Domain.BatchQueryDomainStatusRequest.newBuilder()
+                .addAllDomainIds(domainIds)
+                .build();
+        try {
+            Domain.BatchQueryDomainStatusResponse response = kusciaDomainRpc.batchQueryDomainStatus(request);
+            return response.getData().getDomainsList().stream()
+                    .collect(Collectors.toMap(Domain.DomainStatus::getDomainId, Function.identity(), (a, b) -> a));
+        } catch (Exception e) {
+            LOGGER.warn("batch query domain status failed, fall back to query domains one by one", e);
+            return new HashMap<>();
+        }
     }
 
     /**
@@ -138,8 +291,9 @@ public class NodeManager extends AbstractNodeManager {
         // call the api interface to delete node
         Domain.DeleteDomainRequest request = Domain.DeleteDomainRequest.newBuilder().setDomainId(nodeId).build();
         nodeRepository.deleteById(nodeId);
+        nodeRouteRepository.deleteBySrcNodeId(nodeId);
         nodeRouteRepository.deleteByDstNodeId(nodeId);
-        nodeRouteRepository.deleteByDstNodeId(nodeId);
+        publisher.publishEvent(new NodeRouteChangedEvent(this, nodeId));
         try {
             kusciaDomainRpc.deleteDomain(request);
         } catch (Exception e) {
@@ -154,37 +308,41 @@ public class NodeManager extends AbstractNodeManager {
 
     @Override
     public NodeResultListDTO listResult(ListResultParam param) {
-        // find all node results from project result table first
-        LOGGER.info("Try select all project results in project_result table with node id = {}", param.getNodeId());
-        List<ProjectResultDO> allProjectResults = projectResultRepository.findByNodeId(param.getNodeId());
-        LOGGER.info("Filter project result with kind filter = {}", param.getKindFilters());
-        allProjectResults = filterByKind(allProjectResults, param.getKindFilters());
-        LOGGER.info("Querying the domain data map with every ref_id in all project results.");
-        Map<String, Domaindata.DomainData> domainDataMap = queryDomainDataMap(allProjectResults);
-        List<NodeResultDTO> nodeResultDTOList = new ArrayList<>(allProjectResults.size());
-        for (ProjectResultDO projectResultDO : allProjectResults) {
-            Domaindata.DomainData domainData = domainDataMap.get(projectResultDO.getUpk().getRefId());
+        LOGGER.info("List node results with node id = {}, kind filter = {}, name filter = {}, time sorting rule = {}",
+                param.getNodeId(), param.getKindFilters(), param.getNameFilter(), param.getTimeSortingRule());
+        List<ResultKind> kinds = filterKinds(param.getKindFilters());
+        if (kinds.isEmpty()) {
+            checkPageRange(param, 0);
+            return NodeResultListDTO.builder().nodeResultDTOList(new ArrayList<>()).totalResultNums(0).build();
+        }
+        Pageable pageable = PageRequest.of(param.getPageNumber() - 1, param.getPageSize(), timeSort(param.getTimeSortingRule()));
+        Page<NodeResultProjection> page = projectResultRepository.pageNodeResults(param.getNodeId(), kinds,
+                StringUtils.defaultString(param.getNameFilter()), pageable);
+        int totalNodeResultNums = (int) page.getTotalElements();
+        checkPageRange(param, totalNodeResultNums);
+        // only the current page is enriched from kuscia
+        Map<String, Domaindata.DomainData> domainDataMap = queryDomainDataMap(param.getNodeId(),
+                page.getContent().stream().map(NodeResultProjection::getRefId).collect(Collectors.toList()));
+        List<NodeResultDTO> nodeResultDTOList = new ArrayList<>(page.getNumberOfElements());
+        for (NodeResultProjection result : page.getContent()) {
+            Domaindata.DomainData domainData = domainDataMap.get(result.getRefId());
             if (domainData == null) {
-                LOGGER.warn("Ref_id {} in project_result table does not exits in kuscia api.", projectResultDO.getUpk().getRefId());
+                LOGGER.warn("Ref_id {} in project_result table does not exits in kuscia api.", result.getRefId());
             } else {
-                nodeResultDTOList.add(
-                        findNodeResult(domainData, projectResultDO)
-                );
+                nodeResultDTOList.add(NodeResultDTO.builder()
+                        .domainDataId(domainData.getDomaindataId())
+                        .resultName(domainData.getDomaindataId())
+                        .resultKind(domainData.getType())
+                        .sourceProjectId(result.getProjectId())
+                        .sourceProjectName(result.getProjectName())
+                        .trainFlow(result.getTrainFlow())
+                        .gmtCreate(DateTimes.toRfc3339(result.getGmtCreate()))
+                        .relativeUri(domainData.getRelativeUri())
+                        .jobId(result.getJobId())
+                        .build());
             }
         }
-        LOGGER.info("Filter node results with name filter = {}", param.getNameFilter());
-        nodeResultDTOList = filterByName(nodeResultDTOList, param.getNameFilter());
-        int totalNodeResultNums = nodeResultDTOList.size();
-        LOGGER.info("After filter, total node result nums = {}, now try to sort with the time sorting rule = {}", totalNodeResultNums, param.getTimeSortingRule());
-        sortNodeResults(nodeResultDTOList, param.getTimeSortingRule());
-        LOGGER.info("After sort node results, total nod result nums = {}, now paging.", nodeResultDTOList.size());
-        int startIndex = param.getPageSize() * (param.getPageNumber() - 1);
-        if (startIndex > nodeResultDTOList.size()) {
-            throw SecretpadException.of(SystemErrorCode.OUT_OF_RANGE_ERROR, "page start index > results length.");
-        }
-        int endIndex = Math.min(startIndex + param.getPageSize(), nodeResultDTOList.size());
-        nodeResultDTOList = nodeResultDTOList.subList(startIndex, endIndex);
-        LOGGER.info("After page the, there are {} showing node results, from {}, to {}.", nodeResultDTOList.size(), startIndex, endIndex);
+        LOGGER.info("Listed {} node results of page {}, total node result nums = {}", nodeResultDTOList.size(), param.getPageNumber(), totalNodeResultNums);
         return NodeResultListDTO.builder()
                 .nodeResultDTOList(nodeResultDTOList)
                 .totalResultNums(totalNodeResultNums)
@@ -256,54 +414,80 @@ public class NodeManager extends AbstractNodeManager {
             LOGGER.error("Cannot find node by nodeId {}.", nodeId);
             throw SecretpadException.of(NodeErrorCode.NODE_NOT_EXIST_ERROR);
         }
-        return fillByGrpcDomainQuery(nodeDO);
+        return fillByGrpcDomainQuery(nodeDO, null);
     }
 
-    private NodeDTO fillByGrpcDomainQuery(NodeDO nodeDO) {
+    /**
+     * Build node DTO with kuscia domain detail, the batch queried domain status is preferred for node instances and tokens.
+     * Nothing is written back here, tokens are persisted by {@link #reconcileNodeTokens()}
+     *
+     * @param nodeDO       node
+     * @param domainStatus batch queried domain status, nullable
+     * @return NodeDTO
+     */
+    private NodeDTO fillByGrpcDomainQuery(NodeDO nodeDO, Domain.DomainStatus domainStatus) {
         NodeDTO nodeDTO = NodeDTO.fromDo(nodeDO);
+        if (domainStatus != null) {
+            fillByDomainStatus(nodeDTO, domainStatus.getNodeStatusesList(), domainStatus.getDeployTokenStatusesList());
+        }
         Domain.QueryDomainRequest queryDomainRequest =
                 Domain.QueryDomainRequest.newBuilder().setDomainId(nodeDO.getNodeId()).build();
         Domain.QueryDomainResponse response = kusciaDomainRpc.queryDomainNoCheck(queryDomainRequest);
-        if (response.getStatus().getCode() == 0) {
-            nodeDTO.setNodeStatus(DomainConstants.DomainStatusEnum.NotReady.name());
-            if (ObjectUtils.isNotEmpty(response.getData())) {
-                String cert = response.getData().getCert();
-                String role = response.getData().getRole();
-                List<Domain.NodeStatus> nodeStatusesList = response.getData().getNodeStatusesList();
-                if (ObjectUtils.isNotEmpty(nodeStatusesList)) {
-                    List<NodeInstanceDTO> nodeInstanceDTOList = nodeStatusesList.stream().map(NodeInstanceDTO::formDomainNodeStatus).collect(Collectors.toList());
-                    nodeDTO.setNodeInstances(nodeInstanceDTOList);
-                    nodeDTO.setCert(StringUtils.isEmpty(cert) ? DomainConstants.DomainCertConfigEnum.unconfirmed.name() : DomainConstants.DomainCertConfigEnum.configured.name());
-                    nodeDTO.setNodeRole(role);
-                    nodeInstanceDTOList.forEach(s -> {
-                        if (s.getStatus().equals(DomainConstants.DomainStatusEnum.Ready.name())) {
-                            nodeDTO.setNodeStatus(s.getStatus());
-                        }
-                    });
+        if (response.getStatus().getCode() == 0 && ObjectUtils.isNotEmpty(response.getData())) {
+            Domain.QueryDomainResponseData data = response.getData();
+            if (domainStatus == null) {
+                fillByDomainStatus(nodeDTO, data.getNodeStatusesList(), data.getDeployTokenStatusesList());
+            }
+            if (ObjectUtils.isNotEmpty(nodeDTO.getNodeInstances())) {
+                nodeDTO.setCert(StringUtils.isEmpty(data.getCert()) ? DomainConstants.DomainCertConfigEnum.unconfirmed.name() : DomainConstants.DomainCertConfigEnum.configured.name());
+                nodeDTO.setNodeRole(data.getRole());
+            }
+        }
+        return nodeDTO;
+    }
+
+    private void fillByDomainStatus(NodeDTO nodeDTO, List<Domain.NodeStatus> nodeStatusesList, List<Domain.DeployTokenStatus> deployTokenStatusesList) {
+        nodeDTO.setNodeStatus(DomainConstants.DomainStatusEnum.NotReady.name());
+        if (ObjectUtils.isNotEmpty(nodeStatusesList)) {
+            List<NodeInstanceDTO> nodeInstanceDTOList = nodeStatusesList.stream().map(NodeInstanceDTO::formDomainNodeStatus).collect(Collectors.toList());
+            nodeDTO.setNodeInstances(nodeInstanceDTOList);
+            nodeInstanceDTOList.forEach(s -> {
+                if (s.getStatus().equals(DomainConstants.DomainStatusEnum.Ready.name())) {
+                    nodeDTO.setNodeStatus(s.getStatus());
                 }
-                List<Domain.DeployTokenStatus> deployTokenStatusesList = response.getData().getDeployTokenStatusesList();
-                if (ObjectUtils.isNotEmpty(deployTokenStatusesList)) {
-                    String token = nodeDTO.getToken();
-                    if (StringUtils.isEmpty(token)) {
-                        deployTokenStatusesList.forEach(t -> {
-                            if (t.getState().equals(DomainConstants.TokenStatusEnum.unused.name())) {
-                                nodeDO.setToken(t.getToken());
-                                nodeRepository.save(nodeDO);
-                                nodeDTO.setToken(t.getToken());
-                                nodeDTO.setTokenStatus(t.getState());
-                            }
-                        });
-                    } else {
-                        deployTokenStatusesList.forEach(t -> {
-                            if (token.equals(t.getToken())) {
-                                nodeDTO.setTokenStatus(t.getState());
-                            }
-                        });
+            });
+        }
+        if (ObjectUtils.isNotEmpty(deployTokenStatusesList)) {
+            String token = nodeDTO.getToken();
+            if (StringUtils.isEmpty(token)) {
+                findUnusedToken(deployTokenStatusesList).ifPresent(t -> {
+                    nodeDTO.setToken(t.getToken());
+                    nodeDTO.setTokenStatus(t.getState());
+                });
+            } else {
+                deployTokenStatusesList.forEach(t -> {
+                    if (token.equals(t.getToken())) {
+                        nodeDTO.setTokenStatus(t.getState());
                     }
-                }
+                });
             }
         }
-        return nodeDTO;
+    }
+
+    /**
+     * Find the last unused deploy token
+     *
+     * @param deployTokenStatusesList deploy token status list
+     * @return unused deploy token
+     */
+    private Optional<Domain.DeployTokenStatus> findUnusedToken(List<Domain.DeployTokenStatus> deployTokenStatusesList) {
+        Domain.DeployTokenStatus unused = null;
+        for (Domain.DeployTokenStatus t : deployTokenStatusesList) {
+            if (t.getState().equals(DomainConstants.TokenStatusEnum.unused.name())) {
+                unused = t;
+            }
+        }
+        return Optional.ofNullable(unused);
     }
 
     /**
@@ -346,89 +530,92 @@ public class NodeManager extends AbstractNodeManager {
         return true;
     }
 
+    @Override
+    public Set<String> filterReadyNodes(List<String> nodeIds) {
+        if (CollectionUtils.isEmpty(nodeIds)) {
+            return Collections.emptySet();
+        }
+        Map<String, Domain.DomainStatus> domainStatusMap = batchQueryDomainStatus(nodeIds);
+        Set<String> readyNodeIds = new HashSet<>();
+        for (String nodeId : nodeIds) {
+            Domain.DomainStatus domainStatus = domainStatusMap.get(nodeId);
+            boolean ready = domainStatus == null ? checkNodeReady(nodeId) : domainStatus.getNodeStatusesList().stream()
+                    .anyMatch(nodeStatus -> DomainConstants.DomainStatusEnum.Ready.name().equals(nodeStatus.getStatus()));
+            if (ready) {
+                readyNodeIds.add(nodeId);
+            }
+        }
+        return readyNodeIds;
+    }
+
     /**
-     * Filter project result list by kind conditions
+     * Result kinds matching the kind filters by name, all kinds if filters are empty
      *
-     * @param projectResultDOList projectResultDOList
-     * @param kindFilters         kindFilters
-     * @return filtered project result list
+     * @param kindFilters kind filters
+     * @return result kinds
      */
-    private List<ProjectResultDO> filterByKind(List<ProjectResultDO> projectResultDOList, List<String> kindFilters) {
+    private List<ResultKind> filterKinds(List<String> kindFilters) {
         if (CollectionUtils.isEmpty(kindFilters)) {
-            return projectResultDOList;
-        }
-        return projectResultDOList.stream().filter(
-                it -> {
-                    for (String kindFilter : kindFilters) {
-                        if (it.getUpk().getKind().getName().equalsIgnoreCase(kindFilter)) {
-                            return true;
-                        }
-                    }
-                    return false;
-                }
-        ).collect(Collectors.toList());
+            return Arrays.asList(ResultKind.values());
+        }
+        return Arrays.stream(ResultKind.values())
+                .filter(kind -> kindFilters.stream().anyMatch(kind.getName()::equalsIgnoreCase))
+                .collect(Collectors.toList());
     }
 
     /**
-     * Fuzzy filtering based on the name of the presentation, project and training flow
-     * Note that the filtering here, although called by name, is actually based on the domain data id
+     * Sort by result create time with timeSortingRule, unsorted for unknown rules
      *
-     * @return node result list
+     * @param timeSortingRule time sorting rule
+     * @return sort
      */
-    private List<NodeResultDTO> filterByName(
-            List<NodeResultDTO> nodeResultDTOList,
-            String nameFilter
-    ) {
-        if (nameFilter == null || "".equals(nameFilter)) {
-            return nodeResultDTOList;
-        }
-        LOGGER.info("afy got name filter (actual id) {}", nameFilter);
-        return nodeResultDTOList.stream().filter(
-                it -> (it.getDomainDataId() != null && it.getDomainDataId().contains(nameFilter)) ||
-                        (it.getSourceProjectName() != null && it.getSourceProjectName().contains(nameFilter)) ||
-                        (it.getTrainFlow() != null && it.getTrainFlow().contains(nameFilter))
-        ).collect(Collectors.toList());
+    private Sort timeSort(String timeSortingRule) {
+        if (ASCENDING_SORT_RULE.equalsIgnoreCase(timeSortingRule)) {
+            return Sort.by(Sort.Direction.ASC, "gmtCreate");
+        }
+        if (DESCENDING_SORT_RULE.equalsIgnoreCase(timeSortingRule)) {
+            return Sort.by(Sort.Direction.DESC, "gmtCreate");
+        }
+        return Sort.unsorted();
+    }
 
+    private void checkPageRange(ListResultParam param, int total) {
+        int startIndex = param.getPageSize() * (param.getPageNumber() - 1);
+        if (startIndex > total) {
+            throw SecretpadException.of(SystemErrorCode.OUT_OF_RANGE_ERROR, "page start index > results length.");
+        }
     }
 
     /**
-     * Query all domain data by nodeId and RefId then collect to Map
+     * Query domain data of a node by refIds then collect to Map
      *
-     * @param allProjectResults all project results
+     * @param nodeId target nodeId
+     * @param refIds target refIds
      * @return Map of domain data id and domain data
      */
-    private Map<String, Domaindata.DomainData> queryDomainDataMap(List<ProjectResultDO> allProjectResults) {
-        if (CollectionUtils.isEmpty(allProjectResults)) {
+    private Map<String, Domaindata.DomainData> queryDomainDataMap(String nodeId, List<String> refIds) {
+        if (CollectionUtils.isEmpty(refIds)) {
             return Collections.emptyMap();
         }
-        // query all node domain data from apiLite
-        LOGGER.info("afy len of all projectResult = {}", allProjectResults.size());
-        LOGGER.info("afy try to batch query node id = {}, refid = {}", allProjectResults.get(0).getUpk().getNodeId(), allProjectResults.get(0).getUpk().getRefId());
         Domaindata.BatchQueryDomainDataRequest batchQueryDomainDataRequest = Domaindata.BatchQueryDomainDataRequest.newBuilder()
                 .addAllData(
-                        allProjectResults.stream().map(
-                                it -> Domaindata.QueryDomainDataRequestData.newBuilder()
-                                        .setDomainId(it.getUpk().getNodeId())
-                                        .setDomaindataId(it.getUpk().getRefId())
+                        refIds.stream().map(
+                                refId -> Domaindata.QueryDomainDataRequestData.newBuilder()
+                                        .setDomainId(nodeId)
+                                        .setDomaindataId(refId)
                                         .build()
                         ).collect(Collectors.toList())
                 )
                 .build();
         Domaindata.BatchQueryDomainDataResponse response = domainDataStub.batchQueryDomainData(batchQueryDomainDataRequest);
         if (response.getStatus().getCode() != 0) {
-            LOGGER.error("lock up from apilite failed: code={}, message={}, request={}",
-                    response.getStatus().getCode(), response.getStatus().getMessage(), JsonUtils.toJSONString(allProjectResults));
+            LOGGER.error("lock up from apilite failed: code={}, message={}, nodeId={}, refIds={}",
+                    response.getStatus().getCode(), response.getStatus().getMessage(), nodeId, refIds);
             throw SecretpadException.of(NodeErrorCode.DOMAIN_DATA_NOT_EXISTS);
         }
-        List<Domaindata.DomainData> dataList = response.getData().getDomaindataListList().stream().filter(
-                it -> !"".equals(it.getDomaindataId())
-        ).collect(Collectors.toList());
-        return dataList.stream().collect(
-                Collectors.toMap(
-                        Domaindata.DomainData::getDomaindataId,
-                        Function.identity()
-                )
-        );
+        return response.getData().getDomaindataListList().stream()
+                .filter(it -> !"".equals(it.getDomaindataId()))
+                .collect(Collectors.toMap(Domaindata.DomainData::getDomaindataId, Function.identity(), (a, b) -> a));
     }
 
     /**
@@ -492,24 +679,6 @@ public class NodeManager extends AbstractNodeManager {
     }
 
 
-    /**
-     * Sort node results by timeSortingRule
-     *
-     * @param nodeResultDTOList
-     * @param timeSortingRule
-     */
-    private void sortNodeResults(List<NodeResultDTO> nodeResultDTOList, String timeSortingRule) {
-        if (ASCENDING_SORT_RULE.equalsIgnoreCase(timeSortingRule)) {
-            nodeResultDTOList.sort(
-                    (o1, o2) -> (int) (DateTimes.rfc3339ToLong(o1.getGmtCreate()) - DateTimes.rfc3339ToLong(o2.getGmtCreate()))
-            );
-        } else if (DESCENDING_SORT_RULE.equalsIgnoreCase(timeSortingRule)) {
-            nodeResultDTOList.sort(
-                    (o1, o2) -> (int) (DateTimes.rfc3339ToLong(o2.getGmtCreate()) - DateTimes.rfc3339ToLong(o1.getGmtCreate()))
-            );
-        }
-    }
-
     private String genDomainId() {
         return UUIDUtils.random(8);
     }
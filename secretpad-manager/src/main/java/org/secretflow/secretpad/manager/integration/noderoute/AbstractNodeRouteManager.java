@@ -16,13 +16,17 @@
 
 package org.secretflow.secretpad.manager.integration.noderoute;
 
+import org.secretflow.secretpad.manager.integration.model.BatchCreateNodeRouteParam;
 import org.secretflow.secretpad.manager.integration.model.CreateNodeRouteParam;
 import org.secretflow.secretpad.manager.integration.model.NodeRouteDTO;
+import org.secretflow.secretpad.manager.integration.model.NodeRouteProvisionDTO;
 import org.secretflow.secretpad.manager.integration.model.UpdateNodeRouteParam;
 import org.secretflow.secretpad.persistence.entity.NodeDO;
 
 import org.secretflow.v1alpha1.kusciaapi.DomainRoute;
 
+import java.util.List;
+
 /**
  * @author yutu
  * @date 2023/08/07
@@ -33,6 +37,14 @@ public abstract class AbstractNodeRouteManager {
 
     public abstract Long createNodeRoute(CreateNodeRouteParam param, NodeDO srcNode, NodeDO dstNode);
 
+    /**
+     * Provision routes of many nodes, node readiness and existing routes are checked in batch and missing routes are created concurrently
+     *
+     * @param param batch create node route param
+     * @return provision result of every directed pair, in the order of pairs
+     */
+    public abstract List<NodeRouteProvisionDTO> batchCreateNodeRoute(BatchCreateNodeRouteParam param);
+
     public abstract NodeRouteDTO queryNodeRoute(String srcNodeId);
 
     public abstract void deleteNodeRoute(String srcNodeId, String dstNodeId);
@@ -43,6 +55,14 @@ public abstract class AbstractNodeRouteManager {
 
     public abstract DomainRoute.RouteStatus getRouteStatus(String srcNodeId, String dstNodeId);
 
+    /**
+     * Query route statuses of several routes with one kuscia call
+     *
+     * @param routeKeys route keys of source and destination
+     * @return domain route status list, routes unknown to kuscia are absent
+     */
+    public abstract List<DomainRoute.DomainRouteStatus> batchGetRouteStatus(List<DomainRoute.DomainRouteKey> routeKeys);
+
     public abstract boolean checkNodeRouteExists(String srcNodeId, String dstNodeId);
 
     public abstract boolean checkNodeRouteReady(String srcNodeId, String dstNodeId);
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.manager.integration.noderoute;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event published after node routes of a node are created, updated or deleted
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Getter
+public class NodeRouteChangedEvent extends ApplicationEvent {
+    /**
+     * Source nodeId of the changed route, or the node whose routes are all changed
+     */
+    private final String nodeId;
+
+    public NodeRouteChangedEvent(Object source, String nodeId) {
+        super(source);
+        this.nodeId = nodeId;
+    }
+}
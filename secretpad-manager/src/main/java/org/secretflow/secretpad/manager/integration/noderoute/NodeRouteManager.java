@@ -20,25 +20,34 @@ import org.secretflow.secretpad.common.constant.DomainRouterConstants;
 import org.secretflow.secretpad.common.errorcode.NodeRouteErrorCode;
 import org.secretflow.secretpad.common.errorcode.SystemErrorCode;
 import org.secretflow.secretpad.common.exception.SecretpadException;
-import org.secretflow.secretpad.manager.integration.model.CreateNodeRouteParam;
-import org.secretflow.secretpad.manager.integration.model.NodeRouteDTO;
-import org.secretflow.secretpad.manager.integration.model.UpdateNodeRouteParam;
+import org.secretflow.secretpad.manager.integration.model.*;
 import org.secretflow.secretpad.manager.integration.node.AbstractNodeManager;
 import org.secretflow.secretpad.persistence.entity.NodeDO;
 import org.secretflow.secretpad.persistence.entity.NodeRouteDO;
 import org.secretflow.secretpad.persistence.repository.NodeRepository;
 import org.secretflow.secretpad.persistence.repository.NodeRouteRepository;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.secretflow.v1alpha1.kusciaapi.DomainRoute;
 import org.secretflow.v1alpha1.kusciaapi.DomainRouteServiceGrpc;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
 
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * @author yutu
@@ -54,6 +63,30 @@ public class NodeRouteManager extends AbstractNodeRouteManager {
 
     private final AbstractNodeManager nodeManager;
     private final DomainRouteServiceGrpc.DomainRouteServiceBlockingStub routeServiceBlockingStub;
+    private final ApplicationEventPublisher publisher;
+
+    /**
+     * Max concurrent kuscia route creations when provisioning routes in batch
+     */
+    @Value("${secretpad.node-route.provision-parallelism:8}")
+    private int provisionParallelism;
+
+    private ExecutorService provisionExecutor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        provisionExecutor = Executors.newFixedThreadPool(Math.max(1, provisionParallelism), r -> {
+            Thread thread = new Thread(r, "node-route-provision-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void destroy() {
+        provisionExecutor.shutdownNow();
+    }
 
     @Override
     @Transactional
@@ -80,14 +113,19 @@ public class NodeRouteManager extends AbstractNodeRouteManager {
     }
 
     private void createNodeRouteNotInDb(NodeDO srcNode, NodeDO dstNode) {
-        if (checkDomainRouterExists(srcNode.getNodeId(), dstNode.getNodeId())) {
-            deleteDomainRouter(srcNode.getNodeId(), dstNode.getNodeId());
+        createDomainRouter(srcNode.getNodeId(), dstNode.getNodeId(), dstNode.getNetAddress(),
+                checkDomainRouterExists(srcNode.getNodeId(), dstNode.getNodeId()));
+    }
+
+    private void createDomainRouter(String srcNodeId, String dstNodeId, String dstNetAddress, boolean exists) {
+        if (exists) {
+            deleteDomainRouter(srcNodeId, dstNodeId);
         }
         DomainRoute.TokenConfig tokenConfig = buildTokenConfig();
-        DomainRoute.RouteEndpoint routeEndpoint = buildRouteEndpoint(dstNode);
+        DomainRoute.RouteEndpoint routeEndpoint = buildRouteEndpoint(dstNetAddress);
         DomainRoute.CreateDomainRouteRequest createDomainRouteRequest =
                 DomainRoute.CreateDomainRouteRequest.newBuilder().setAuthenticationType("Token").setTokenConfig(tokenConfig)
-                        .setDestination(dstNode.getNodeId()).setEndpoint(routeEndpoint).setSource(srcNode.getNodeId()).build();
+                        .setDestination(dstNodeId).setEndpoint(routeEndpoint).setSource(srcNodeId).build();
         DomainRoute.CreateDomainRouteResponse createDomainRouteResponse =
                 routeServiceBlockingStub.createDomainRoute(createDomainRouteRequest);
         if (createDomainRouteResponse.getStatus().getCode() != 0) {
@@ -111,9 +149,162 @@ public class NodeRouteManager extends AbstractNodeRouteManager {
         nodeRouteDO.setSrcNetAddress(srcNode.getNetAddress());
         nodeRouteDO.setDstNetAddress(dstNode.getNetAddress());
         nodeRouteDO = nodeRouteRepository.save(nodeRouteDO);
+        publisher.publishEvent(new NodeRouteChangedEvent(this, srcNode.getNodeId()));
         return nodeRouteDO.getId();
     }
 
+    @Override
+    public List<NodeRouteProvisionDTO> batchCreateNodeRoute(BatchCreateNodeRouteParam param) {
+        Map<String, CreateNodeRouteParam> pairs = expandPairs(param);
+        if (pairs.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Set<String> nodeIds = new LinkedHashSet<>();
+        pairs.values().forEach(pair -> {
+            nodeIds.add(pair.getSrcNodeId());
+            nodeIds.add(pair.getDstNodeId());
+        });
+        Map<String, NodeDO> nodes = nodeRepository.findAllById(nodeIds).stream()
+                .collect(Collectors.toMap(NodeDO::getNodeId, Function.identity()));
+        Set<String> readyNodeIds = nodeManager.filterReadyNodes(new ArrayList<>(nodes.keySet()));
+        Map<String, NodeRouteDO> routes = nodeRouteRepository.findBySrcNodeIds(new ArrayList<>(nodeIds)).stream()
+                .collect(Collectors.toMap(route -> routeKey(route.getSrcNodeId(), route.getDstNodeId()), Function.identity(), (a, b) -> a));
+        Set<String> domainRoutes = queryDomainRouters(pairs.values());
+
+        Map<String, CompletableFuture<NodeRouteProvisionDTO>> futures = new LinkedHashMap<>();
+        pairs.forEach((key, pair) -> {
+            NodeDO srcNode = nodes.get(pair.getSrcNodeId());
+            NodeDO dstNode = nodes.get(pair.getDstNodeId());
+            if (srcNode == null || dstNode == null) {
+                futures.put(key, CompletableFuture.completedFuture(provisionResult(pair, NodeRouteProvisionDTO.Result.FAILED, "node do not exit")));
+                return;
+            }
+            if (!readyNodeIds.contains(srcNode.getNodeId()) || !readyNodeIds.contains(dstNode.getNodeId())) {
+                futures.put(key, CompletableFuture.completedFuture(provisionResult(pair, NodeRouteProvisionDTO.Result.FAILED, "node status not ready")));
+                return;
+            }
+            pair.setSrcNetAddress(StringUtils.defaultIfEmpty(pair.getSrcNetAddress(), srcNode.getNetAddress()));
+            pair.setDstNetAddress(StringUtils.defaultIfEmpty(pair.getDstNetAddress(), dstNode.getNetAddress()));
+            boolean inDb = routes.containsKey(key);
+            futures.put(key, CompletableFuture.supplyAsync(() -> provisionDomainRouter(pair, inDb,
+                    domainRoutes == null ? null : domainRoutes.contains(key)), provisionExecutor));
+        });
+        CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).join();
+
+        // database writes stay on the calling thread, only kuscia calls run concurrently
+        List<NodeRouteProvisionDTO> results = new ArrayList<>(futures.size());
+        List<NodeRouteDO> toSave = new ArrayList<>();
+        List<NodeRouteProvisionDTO> created = new ArrayList<>();
+        futures.forEach((key, future) -> {
+            NodeRouteProvisionDTO result = future.join();
+            results.add(result);
+            NodeRouteDO nodeRouteDO = routes.get(key);
+            if (result.getResult() != NodeRouteProvisionDTO.Result.CREATED) {
+                result.setRouteId(nodeRouteDO == null ? null : nodeRouteDO.getId());
+                return;
+            }
+            if (nodeRouteDO == null) {
+                nodeRouteDO = NodeRouteDO.builder().srcNodeId(result.getSrcNodeId()).dstNodeId(result.getDstNodeId()).build();
+            }
+            CreateNodeRouteParam pair = pairs.get(key);
+            nodeRouteDO.setSrcNetAddress(pair.getSrcNetAddress());
+            nodeRouteDO.setDstNetAddress(pair.getDstNetAddress());
+            toSave.add(nodeRouteDO);
+            created.add(result);
+        });
+        List<NodeRouteDO> saved = nodeRouteRepository.saveAll(toSave);
+        saved.stream().map(NodeRouteDO::getSrcNodeId).distinct()
+                .forEach(nodeId -> publisher.publishEvent(new NodeRouteChangedEvent(this, nodeId)));
+        for (int i = 0; i < saved.size(); i++) {
+            created.get(i).setRouteId(saved.get(i).getId());
+        }
+        log.info("batch create node routes finished, {} pairs, {} created", results.size(), created.size());
+        return results;
+    }
+
+    /**
+     * Expand the param to directed pairs keyed by route key, explicit pairs win over the full mesh ones
+     *
+     * @param param batch create node route param
+     * @return ordered map of route key and pair
+     */
+    private Map<String, CreateNodeRouteParam> expandPairs(BatchCreateNodeRouteParam param) {
+        Map<String, CreateNodeRouteParam> pairs = new LinkedHashMap<>();
+        if (!CollectionUtils.isEmpty(param.getPairs())) {
+            for (CreateNodeRouteParam pair : param.getPairs()) {
+                pairs.putIfAbsent(routeKey(pair.getSrcNodeId(), pair.getDstNodeId()), CreateNodeRouteParam.builder()
+                        .srcNodeId(pair.getSrcNodeId()).dstNodeId(pair.getDstNodeId())
+                        .srcNetAddress(pair.getSrcNetAddress()).dstNetAddress(pair.getDstNetAddress()).build());
+                if (DomainRouterConstants.DomainRouterTypeEnum.FullDuplex.name().equals(pair.getRouteType())) {
+                    pairs.putIfAbsent(routeKey(pair.getDstNodeId(), pair.getSrcNodeId()), CreateNodeRouteParam.builder()
+                            .srcNodeId(pair.getDstNodeId()).dstNodeId(pair.getSrcNodeId())
+                            .srcNetAddress(pair.getDstNetAddress()).dstNetAddress(pair.getSrcNetAddress()).build());
+                }
+            }
+        }
+        if (!CollectionUtils.isEmpty(param.getNodeIds())) {
+            List<String> nodeIds = param.getNodeIds().stream().distinct().toList();
+            for (String srcNodeId : nodeIds) {
+                for (String dstNodeId : nodeIds) {
+                    if (!srcNodeId.equals(dstNodeId)) {
+                        pairs.putIfAbsent(routeKey(srcNodeId, dstNodeId),
+                                CreateNodeRouteParam.builder().srcNodeId(srcNodeId).dstNodeId(dstNodeId).build());
+                    }
+                }
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * Create the kuscia domain route of a pair if it is missing
+     *
+     * @param pair   directed pair with resolved net addresses
+     * @param inDb   whether the route exists in database
+     * @param exists whether the route exists in kuscia, null when unknown
+     * @return provision result
+     */
+    private NodeRouteProvisionDTO provisionDomainRouter(CreateNodeRouteParam pair, boolean inDb, Boolean exists) {
+        try {
+            boolean domainRouterExists = exists == null ? checkDomainRouterExists(pair.getSrcNodeId(), pair.getDstNodeId()) : exists;
+            if (inDb && domainRouterExists) {
+                return provisionResult(pair, NodeRouteProvisionDTO.Result.EXISTED, null);
+            }
+            createDomainRouter(pair.getSrcNodeId(), pair.getDstNodeId(), pair.getDstNetAddress(), domainRouterExists);
+            return provisionResult(pair, NodeRouteProvisionDTO.Result.CREATED, null);
+        } catch (Exception e) {
+            log.error("create node route {} failed", routeKey(pair.getSrcNodeId(), pair.getDstNodeId()), e);
+            return provisionResult(pair, NodeRouteProvisionDTO.Result.FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * Query which of the pairs exist in kuscia with one call
+     *
+     * @param pairs directed pairs
+     * @return route keys known to kuscia, null when the batch query fails and each pair has to be checked alone
+     */
+    private Set<String> queryDomainRouters(Collection<CreateNodeRouteParam> pairs) {
+        List<DomainRoute.DomainRouteKey> routeKeys = pairs.stream().map(pair -> DomainRoute.DomainRouteKey.newBuilder()
+                .setSource(pair.getSrcNodeId()).setDestination(pair.getDstNodeId()).build()).collect(Collectors.toList());
+        try {
+            return batchGetRouteStatus(routeKeys).stream()
+                    .map(status -> routeKey(status.getSource(), status.getDestination())).collect(Collectors.toSet());
+        } catch (Exception e) {
+            log.warn("batch query domain route status failed, check routes one by one", e);
+            return null;
+        }
+    }
+
+    private NodeRouteProvisionDTO provisionResult(CreateNodeRouteParam pair, NodeRouteProvisionDTO.Result result, String message) {
+        return NodeRouteProvisionDTO.builder().srcNodeId(pair.getSrcNodeId()).dstNodeId(pair.getDstNodeId())
+                .result(result).message(message).build();
+    }
+
+    private static String routeKey(String srcNodeId, String dstNodeId) {
+        return srcNodeId + "->" + dstNodeId;
+    }
+
     @Override
     public NodeRouteDTO queryNodeRoute(String srcNodeId) {
         return null;
@@ -141,6 +332,7 @@ public class NodeRouteManager extends AbstractNodeRouteManager {
             throw SecretpadException.of(NodeRouteErrorCode.NODE_ROUTE_NOT_EXIST_ERROR, "node router do not exit");
         }
         nodeRouteRepository.deleteById(nodeRouteDO.getId());
+        publisher.publishEvent(new NodeRouteChangedEvent(this, nodeRouteDO.getSrcNodeId()));
     }
 
     @Override
@@ -169,6 +361,21 @@ public class NodeRouteManager extends AbstractNodeRouteManager {
         return status;
     }
 
+    @Override
+    public List<DomainRoute.DomainRouteStatus> batchGetRouteStatus(List<DomainRoute.DomainRouteKey> routeKeys) {
+        if (routeKeys.isEmpty()) {
+            return List.of();
+        }
+        DomainRoute.BatchQueryDomainRouteStatusResponse response = routeServiceBlockingStub.batchQueryDomainRouteStatus(
+                DomainRoute.BatchQueryDomainRouteStatusRequest.newBuilder().addAllRouteKeys(routeKeys).build());
+        if (response.getStatus().getCode() != 0) {
+            log.error("batch query domain route status failed, code = {}, msg = {}", response.getStatus().getCode(),
+                    response.getStatus().getMessage());
+            throw SecretpadException.of(NodeRouteErrorCode.NODE_ROUTE_QUERY_ERROR, "batch query domain route status failed.");
+        }
+        return response.getData().getRoutesList();
+    }
+
     @Override
     public boolean checkNodeRouteExists(String srcNodeId, String dstNodeId) {
         return checkDomainRouterExists(srcNodeId, dstNodeId);
@@ -187,8 +394,7 @@ public class NodeRouteManager extends AbstractNodeRouteManager {
         return DomainRoute.TokenConfig.newBuilder().setTokenGenMethod("RSA-GEN").build();
     }
 
-    private DomainRoute.RouteEndpoint buildRouteEndpoint(NodeDO dstNode) {
-        String netAddress = dstNode.getNetAddress();
+    private DomainRoute.RouteEndpoint buildRouteEndpoint(String netAddress) {
         String[] split = netAddress.split(":");
         String host = split[0];
         int port = Integer.parseInt(split[1]);
@@ -231,6 +437,7 @@ public class NodeRouteManager extends AbstractNodeRouteManager {
         if (response.getStatus().getCode() == 11404) {
             nodeRouteRepository.deleteById(nodeRouteDO.getId());
             nodeRouteRepository.flush();
+            publisher.publishEvent(new NodeRouteChangedEvent(this, nodeRouteDO.getSrcNodeId()));
             return;
         }
         if (response.getStatus().getCode() != 0) {
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.secretflow.secretpad.manager.integration.search;
+
+import org.secretflow.secretpad.persistence.model.SearchDocumentKind;
+
+/**
+ * Maintains the global search index of projects, graphs, datatables and results
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+public abstract class AbstractSearchIndexManager {
+
+    /**
+     * Index a document, the title of an already indexed document with the same key is replaced
+     *
+     * @param kind      document kind
+     * @param projectId project id, null when absent
+     * @param nodeId    node id, null when absent
+     * @param refId     id of the document in its own table
+     * @param title     display name, the ref id is used when null
+     */
+    public abstract void index(SearchDocumentKind kind, String projectId, String nodeId, String refId, String title);
+
+    /**
+     * Remove a document from the index
+     *
+     * @param kind      document kind
+     * @param projectId project id, null when absent
+     * @param nodeId    node id, null when absent
+     * @param refId     id of the document in its own table
+     */
+    public abstract void remove(SearchDocumentKind kind, String projectId, String nodeId, String refId);
+
+    /**
+     * Remove a project and its graphs and results from the index
+     *
+     * @param projectId project id
+     */
+    public abstract void removeProject(String projectId);
+
+    /**
+     * Rebuild the whole index from projects, graphs, the datatable catalog and results
+     */
+    public abstract void rebuild();
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.secretflow.secretpad.manager.integration.search;
+
+import org.secretflow.secretpad.persistence.model.SearchDocumentKind;
+import org.secretflow.secretpad.persistence.repository.SearchDocumentRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Search index manager over search_document and its fts5 trigram index search_index.
+ * Create and delete paths keep the index up to date incrementally, and a periodic rebuild repairs any drift
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexManager extends AbstractSearchIndexManager {
+
+    private static final List<String> PROJECT_KINDS = List.of(SearchDocumentKind.Project.name(), SearchDocumentKind.Graph.name(),
+            SearchDocumentKind.Result.name());
+
+    private final SearchDocumentRepository searchDocumentRepository;
+
+    @Override
+    @Transactional
+    public void index(SearchDocumentKind kind, String projectId, String nodeId, String refId, String title) {
+        String project = Objects.toString(projectId, "");
+        String node = Objects.toString(nodeId, "");
+        String name = Objects.toString(title, refId);
+        searchDocumentRepository.upsertDocument(kind.name(), project, node, refId, name);
+        Long id = searchDocumentRepository.findIdByKey(kind.name(), project, node, refId);
+        searchDocumentRepository.deleteIndex(id);
+        searchDocumentRepository.insertIndex(id, name, refId);
+    }
+
+    @Override
+    @Transactional
+    public void remove(SearchDocumentKind kind, String projectId, String nodeId, String refId) {
+        List<String> kinds = List.of(kind.name());
+        String project = Objects.toString(projectId, "");
+        String node = Objects.toString(nodeId, "");
+        searchDocumentRepository.deleteIndexByKey(kinds, project, node, refId);
+        searchDocumentRepository.deleteDocumentByKey(kinds, project, node, refId);
+    }
+
+    @Override
+    @Transactional
+    public void removeProject(String projectId) {
+        searchDocumentRepository.deleteIndexByKey(PROJECT_KINDS, projectId, null, null);
+        searchDocumentRepository.deleteDocumentByKey(PROJECT_KINDS, projectId, null, null);
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(initialDelayString = "${secretpad.search.rebuild-initial-delay-millis:30000}",
+            fixedDelayString = "${secretpad.search.rebuild-interval-millis:3600000}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        searchDocumentRepository.deleteAllIndex();
+        searchDocumentRepository.deleteAllDocuments();
+        searchDocumentRepository.loadAllDocuments();
+        searchDocumentRepository.indexAllDocuments();
+        log.info("rebuild search index cost {} ms", System.currentTimeMillis() - start);
+    }
+}
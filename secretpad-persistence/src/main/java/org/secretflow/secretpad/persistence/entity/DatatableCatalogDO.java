@@ -0,0 +1,180 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.persistence.entity;
+
+import org.secretflow.secretpad.persistence.converter.BaseObjectJsonConverter;
+import org.secretflow.secretpad.persistence.converter.BaseObjectListJsonConverter;
+import org.secretflow.secretpad.persistence.converter.SqliteLocalDateTimeConverter;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Datatable catalog data object, a local mirror of the kuscia domain data metadata of tables
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Setter
+@Getter
+@Table(name = "datatable_catalog")
+public class DatatableCatalogDO {
+
+    /**
+     * Datatable catalog unique primary key
+     */
+    @EmbeddedId
+    private UPK upk;
+
+    /**
+     * Datatable name
+     */
+    @Column(name = "datatable_name", nullable = false)
+    private String datatableName;
+
+    /**
+     * Domain data type
+     */
+    @Column(name = "type")
+    private String type;
+
+    /**
+     * Domain data vendor, manual for tables registered by users
+     */
+    @Column(name = "vendor")
+    private String vendor;
+
+    /**
+     * Datatable status, Available or Unavailable
+     */
+    @Column(name = "status")
+    private String status;
+
+    /**
+     * Relative uri
+     */
+    @Column(name = "relative_uri")
+    private String relativeUri;
+
+    /**
+     * Datasource id
+     */
+    @Column(name = "datasource_id")
+    private String datasourceId;
+
+    /**
+     * Domain data attributes
+     */
+    @Column(name = "attributes", columnDefinition = "text")
+    @Convert(converter = AttributesConverter.class)
+    private Map<String, String> attributes;
+
+    /**
+     * Datatable schema
+     */
+    @Column(name = "columns", columnDefinition = "text")
+    @Convert(converter = ColumnsConverter.class)
+    private List<ProjectDatatableDO.TableColumn> columns;
+
+    /**
+     * Time of the last sync from kuscia
+     */
+    @Column(name = "gmt_synced", nullable = false)
+    @Convert(converter = SqliteLocalDateTimeConverter.class)
+    private LocalDateTime gmtSynced;
+
+    /**
+     * Whether the mirrored metadata differs from the other catalog entry, the sync time is ignored
+     *
+     * @param other other catalog entry
+     * @return whether changed
+     */
+    public boolean changedFrom(DatatableCatalogDO other) {
+        return !(Objects.equals(datatableName, other.datatableName)
+                && Objects.equals(type, other.type)
+                && Objects.equals(vendor, other.vendor)
+                && Objects.equals(status, other.status)
+                && Objects.equals(relativeUri, other.relativeUri)
+                && Objects.equals(datasourceId, other.datasourceId)
+                && Objects.equals(attributes, other.attributes)
+                && columnsEqual(columns, other.columns));
+    }
+
+    private static boolean columnsEqual(List<ProjectDatatableDO.TableColumn> a, List<ProjectDatatableDO.TableColumn> b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            ProjectDatatableDO.TableColumn x = a.get(i);
+            ProjectDatatableDO.TableColumn y = b.get(i);
+            if (!Objects.equals(x.getColName(), y.getColName())
+                    || !Objects.equals(x.getColType(), y.getColType())
+                    || !Objects.equals(x.getColComment(), y.getColComment())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Datatable catalog unique primary key
+     */
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class UPK implements Serializable {
+        /**
+         * Node id
+         */
+        @Column(name = "node_id", nullable = false, length = 64)
+        private String nodeId;
+        /**
+         * Datatable id
+         */
+        @Column(name = "datatable_id", nullable = false, length = 64)
+        private String datatableId;
+    }
+
+    @Converter
+    public static class AttributesConverter extends BaseObjectJsonConverter<Map> {
+        public AttributesConverter() {
+            super(Map.class);
+        }
+    }
+
+    @Converter
+    public static class ColumnsConverter extends BaseObjectListJsonConverter<ProjectDatatableDO.TableColumn> {
+        public ColumnsConverter() {
+            super(ProjectDatatableDO.TableColumn.class);
+        }
+    }
+}
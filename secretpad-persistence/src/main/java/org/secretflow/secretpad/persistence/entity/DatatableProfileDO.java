@@ -0,0 +1,132 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.persistence.entity;
+
+import org.secretflow.secretpad.persistence.converter.BaseObjectListJsonConverter;
+import org.secretflow.secretpad.persistence.converter.SqliteLocalDateTimeConverter;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Datatable profile data object, the inferred schema and column statistics of an uploaded csv file
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Setter
+@Getter
+@Table(name = "datatable_profile")
+public class DatatableProfileDO {
+
+    /**
+     * Datatable profile unique primary key
+     */
+    @EmbeddedId
+    private UPK upk;
+
+    /**
+     * Number of data rows
+     */
+    @Column(name = "row_count", nullable = false)
+    private Long rowCount;
+
+    /**
+     * Column profiles in file order
+     */
+    @Column(name = "columns", columnDefinition = "text")
+    @Convert(converter = ColumnsConverter.class)
+    private List<ColumnProfile> columns;
+
+    /**
+     * Profile time
+     */
+    @Column(name = "gmt_create", nullable = false)
+    @Convert(converter = SqliteLocalDateTimeConverter.class)
+    private LocalDateTime gmtCreate;
+
+    /**
+     * Datatable profile unique primary key
+     */
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class UPK implements Serializable {
+        /**
+         * Node id
+         */
+        @Column(name = "node_id", nullable = false, length = 64)
+        private String nodeId;
+        /**
+         * File name under the data dir of the node, the relative uri of the datatable
+         */
+        @Column(name = "relative_uri", nullable = false)
+        private String relativeUri;
+    }
+
+    /**
+     * Column profile
+     */
+    @Getter
+    @Setter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ColumnProfile {
+        /**
+         * Column name
+         */
+        private String name;
+        /**
+         * Inferred column type, int, float, bool or str
+         */
+        private String type;
+        /**
+         * Number of empty or null values
+         */
+        private Long nullCount;
+        /**
+         * Estimated number of distinct non null values
+         */
+        private Long distinctCount;
+        /**
+         * Min value, numeric for numeric columns
+         */
+        private String min;
+        /**
+         * Max value, numeric for numeric columns
+         */
+        private String max;
+    }
+
+    @Converter
+    public static class ColumnsConverter extends BaseObjectListJsonConverter<ColumnProfile> {
+        public ColumnsConverter() {
+            super(ColumnProfile.class);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.secretflow.secretpad.persistence.entity;
+
+import org.secretflow.secretpad.persistence.model.SearchDocumentKind;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Search document data object, one searchable project, graph, datatable or result.
+ * The full text index search_index keeps the title and ref id of the document under the same rowid
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Setter
+@Getter
+@Table(name = "search_document")
+public class SearchDocumentDO {
+
+    /**
+     * Document id, also the rowid of the document in search_index
+     */
+    @Id
+    @Column(name = "id", unique = true, insertable = false, updatable = false)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Document kind
+     */
+    @Column(name = "kind", nullable = false, length = 16)
+    @Enumerated(EnumType.STRING)
+    private SearchDocumentKind kind;
+
+    /**
+     * Project id, empty for datatables
+     */
+    @Column(name = "project_id", nullable = false, length = 64)
+    private String projectId;
+
+    /**
+     * Node id, empty for projects and graphs
+     */
+    @Column(name = "node_id", nullable = false, length = 64)
+    private String nodeId;
+
+    /**
+     * Id of the document in its own table, project id, graph id, datatable id or result ref id
+     */
+    @Column(name = "ref_id", nullable = false, length = 64)
+    private String refId;
+
+    /**
+     * Display name
+     */
+    @Column(name = "title", nullable = false)
+    private String title;
+}
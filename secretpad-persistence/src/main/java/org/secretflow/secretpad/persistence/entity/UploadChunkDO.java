@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.secretflow.secretpad.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Received chunk of a chunked upload session
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Setter
+@Getter
+@Table(name = "upload_chunk")
+public class UploadChunkDO {
+
+    /**
+     * Upload chunk unique primary key
+     */
+    @EmbeddedId
+    private UPK upk;
+
+    /**
+     * Chunk size in bytes
+     */
+    @Column(name = "size", nullable = false)
+    private Long size;
+
+    /**
+     * Sha-256 hex of the chunk
+     */
+    @Column(name = "checksum", nullable = false, length = 64)
+    private String checksum;
+
+    /**
+     * Upload chunk unique primary key
+     */
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class UPK implements Serializable {
+        /**
+         * Upload id
+         */
+        @Column(name = "upload_id", nullable = false, length = 64)
+        private String uploadId;
+        /**
+         * Chunk index
+         */
+        @Column(name = "chunk_index", nullable = false)
+        private Integer chunkIndex;
+    }
+}
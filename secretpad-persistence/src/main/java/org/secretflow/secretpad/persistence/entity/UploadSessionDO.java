@@ -0,0 +1,116 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.secretflow.secretpad.persistence.entity;
+
+import org.secretflow.secretpad.persistence.converter.SqliteLocalDateTimeConverter;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Chunked upload session data object
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Setter
+@Getter
+@Table(name = "upload_session")
+public class UploadSessionDO {
+
+    /**
+     * Upload id
+     */
+    @Id
+    @Column(name = "upload_id", nullable = false, length = 64)
+    private String uploadId;
+
+    /**
+     * Node id
+     */
+    @Column(name = "node_id", nullable = false, length = 64)
+    private String nodeId;
+
+    /**
+     * File name given by the user
+     */
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    /**
+     * File name under the data dir of the node
+     */
+    @Column(name = "real_name", nullable = false)
+    private String realName;
+
+    /**
+     * File size in bytes
+     */
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    /**
+     * Chunk size in bytes, the last chunk may be shorter
+     */
+    @Column(name = "chunk_size", nullable = false)
+    private Long chunkSize;
+
+    /**
+     * Number of chunks
+     */
+    @Column(name = "chunk_count", nullable = false)
+    private Integer chunkCount;
+
+    /**
+     * Create time
+     */
+    @Column(name = "gmt_create", nullable = false)
+    @Convert(converter = SqliteLocalDateTimeConverter.class)
+    private LocalDateTime gmtCreate;
+
+    /**
+     * Time of the last received chunk, sessions inactive for too long are garbage collected
+     */
+    @Column(name = "gmt_active", nullable = false)
+    @Convert(converter = SqliteLocalDateTimeConverter.class)
+    private LocalDateTime gmtActive;
+
+    /**
+     * Offset of a chunk in the file
+     *
+     * @param chunkIndex chunk index
+     * @return offset in bytes
+     */
+    public long chunkOffset(int chunkIndex) {
+        return chunkIndex * chunkSize;
+    }
+
+    /**
+     * Expected length of a chunk
+     *
+     * @param chunkIndex chunk index
+     * @return length in bytes
+     */
+    public long chunkLength(int chunkIndex) {
+        return Math.min(chunkSize, fileSize - chunkOffset(chunkIndex));
+    }
+}
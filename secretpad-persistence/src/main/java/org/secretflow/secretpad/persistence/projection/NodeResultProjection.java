@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.persistence.projection;
+
+import org.secretflow.secretpad.persistence.model.ResultKind;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Node result projection data, a project result joined with its project name and training flow name
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class NodeResultProjection {
+    /**
+     * Domain data id of the result
+     */
+    private String refId;
+    /**
+     * Result kind
+     */
+    private ResultKind kind;
+    /**
+     * Source project id, null if the project is deleted
+     */
+    private String projectId;
+    /**
+     * Source project name, null if the project is deleted
+     */
+    private String projectName;
+    /**
+     * Training flow name, null if the job or graph is missing
+     */
+    private String trainFlow;
+    /**
+     * Job id
+     */
+    private String jobId;
+    /**
+     * Create time
+     */
+    private LocalDateTime gmtCreate;
+}
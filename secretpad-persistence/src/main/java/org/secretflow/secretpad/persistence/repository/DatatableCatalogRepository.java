@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.persistence.repository;
+
+import org.secretflow.secretpad.persistence.entity.DatatableCatalogDO;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Datatable catalog repository
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Repository
+public interface DatatableCatalogRepository extends JpaRepository<DatatableCatalogDO, DatatableCatalogDO.UPK> {
+
+    /**
+     * Query all catalog entries of a node
+     *
+     * @param nodeId target nodeId
+     * @return catalog entries
+     */
+    @Query("from DatatableCatalogDO d where d.upk.nodeId=:nodeId")
+    List<DatatableCatalogDO> findByNodeId(@Param("nodeId") String nodeId);
+
+    /**
+     * Query all catalog entries of a node and vendor ordered by name
+     *
+     * @param nodeId target nodeId
+     * @param vendor domain data vendor
+     * @return catalog entries
+     */
+    @Query("from DatatableCatalogDO d where d.upk.nodeId=:nodeId and d.vendor=:vendor order by d.datatableName, d.upk.datatableId")
+    List<DatatableCatalogDO> findByNodeIdAndVendor(@Param("nodeId") String nodeId, @Param("vendor") String vendor);
+
+    /**
+     * Page catalog entries of a node and vendor ordered by name, served by the index on (node_id, vendor, status, datatable_name).
+     * The name filter is instr over the entries of the node, so it keeps the case sensitive String.contains semantics of the
+     * former in memory filter. The fts5 trigram index of global search is not used, trigrams cannot match names shorter than 3 characters
+     *
+     * @param nodeId target nodeId
+     * @param vendor domain data vendor
+     * @param status status filter ignoring case, null for all
+     * @param name   datatable name substring filter, null for all
+     * @param limit  max rows
+     * @param offset rows to skip
+     * @return catalog entries
+     */
+    @Query(value = "select * from datatable_catalog where node_id=:nodeId and vendor=:vendor " +
+            "and (:status is null or status=:status collate nocase) and (:name is null or instr(datatable_name, :name) > 0) " +
+            "order by datatable_name, datatable_id limit :limit offset :offset", nativeQuery = true)
+    List<DatatableCatalogDO> pageByNodeId(@Param("nodeId") String nodeId, @Param("vendor") String vendor, @Param("status") String status,
+                                          @Param("name") String name, @Param("limit") int limit, @Param("offset") int offset);
+
+    /**
+     * Count catalog entries of a node with the same filter as {@link #pageByNodeId}
+     *
+     * @param nodeId target nodeId
+     * @param vendor domain data vendor
+     * @param status status filter ignoring case, null for all
+     * @param name   datatable name substring filter, null for all
+     * @return count
+     */
+    @Query(value = "select count(*) from datatable_catalog where node_id=:nodeId and vendor=:vendor " +
+            "and (:status is null or status=:status collate nocase) and (:name is null or instr(datatable_name, :name) > 0)", nativeQuery = true)
+    long countByNodeId(@Param("nodeId") String nodeId, @Param("vendor") String vendor, @Param("status") String status, @Param("name") String name);
+
+    /**
+     * Delete catalog entries of nodes which no longer exist
+     *
+     * @param nodeIds existing nodeIds
+     * @return deleted rows
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from DatatableCatalogDO d where d.upk.nodeId not in :nodeIds")
+    int deleteByNodeIdNotIn(@Param("nodeIds") Collection<String> nodeIds);
+}
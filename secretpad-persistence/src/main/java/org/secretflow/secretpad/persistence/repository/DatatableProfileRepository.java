@@ -0,0 +1,32 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.persistence.repository;
+
+import org.secretflow.secretpad.persistence.entity.DatatableProfileDO;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Datatable profile repository
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Repository
+public interface DatatableProfileRepository extends JpaRepository<DatatableProfileDO, DatatableProfileDO.UPK> {
+}
@@ -22,6 +22,7 @@ import org.secretflow.secretpad.persistence.entity.NodeDO;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -53,4 +54,19 @@ public interface NodeRepository extends JpaRepository<NodeDO, String>, JpaSpecif
     void deleteByNodeId(String nodeId);
 
     List<NodeDO> findByType(String type);
+
+    /**
+     * Keyset query nodes, rows are ordered by gmt_create desc, id desc and start after the given key
+     *
+     * @param search    name, nodeId or netAddress search, null for all
+     * @param gmtCreate gmt_create of the last row of the previous page
+     * @param id        id of the last row of the previous page
+     * @param limit     max rows
+     * @return nodes
+     */
+    @Query(value = "select * from node where is_deleted=0 " +
+            "and (:search is null or name like '%' || :search || '%' or node_id like '%' || :search || '%' or net_address like '%' || :search || '%') " +
+            "and (gmt_create, id) < (:gmtCreate, :id) order by gmt_create desc, id desc limit :limit", nativeQuery = true)
+    List<NodeDO> keysetQuery(@Param("search") String search, @Param("gmtCreate") String gmtCreate,
+                             @Param("id") Long id, @Param("limit") int limit);
 }
\ No newline at end of file
@@ -56,6 +56,15 @@ public interface NodeRouteRepository extends JpaRepository<NodeRouteDO, Long>, J
     @Query("from NodeRouteDO d where d.srcNodeId=:nodeId")
     List<NodeRouteDO> findBySrcNodeId(@Param("nodeId") String nodeId);
 
+    /**
+     * Query node route results of several source nodes in one query
+     *
+     * @param nodeIds source nodeId list
+     * @return all node route results
+     */
+    @Query("from NodeRouteDO d where d.srcNodeId in :nodeIds")
+    List<NodeRouteDO> findBySrcNodeIds(@Param("nodeIds") List<String> nodeIds);
+
     @Query("from NodeRouteDO d where d.srcNodeId=:nodeId or d.dstNodeId=:nodeId")
     Set<NodeRouteDO> findBySrcNodeIdAndDstNodeId(@Param("nodeId") String nodeId);
 
@@ -79,4 +88,34 @@ public interface NodeRouteRepository extends JpaRepository<NodeRouteDO, Long>, J
     @Query(value = "from NodeRouteDO a join NodeDO b on a.dstNodeId=b.nodeId " +
             "where a.srcNodeId=:nodeId and (a.dstNodeId like %:search% or a.dstNetAddress like %:search% or b.name like %:search%)")
     Page<NodeRouteDO> pageQuery(@Param("nodeId") String nodeId, @Param("search") String search, Pageable pageable);
+
+    /**
+     * Keyset query node routes of a source node, rows are ordered by gmt_create desc, id desc and start after the given key
+     *
+     * @param nodeId    source nodeId
+     * @param search    dstNodeId, dstNetAddress or dst node name search, null for all
+     * @param gmtCreate gmt_create of the last row of the previous page
+     * @param id        id of the last row of the previous page
+     * @param limit     max rows
+     * @return node routes
+     */
+    @Query(value = "select a.* from node_route a join node b on a.dst_node_id=b.node_id " +
+            "where a.src_node_id=:nodeId and a.is_deleted=0 and b.is_deleted=0 " +
+            "and (:search is null or a.dst_node_id like '%' || :search || '%' or a.dst_net_address like '%' || :search || '%' or b.name like '%' || :search || '%') " +
+            "and (a.gmt_create, a.id) < (:gmtCreate, :id) order by a.gmt_create desc, a.id desc limit :limit", nativeQuery = true)
+    List<NodeRouteDO> keysetQuery(@Param("nodeId") String nodeId, @Param("search") String search, @Param("gmtCreate") String gmtCreate,
+                                  @Param("id") Long id, @Param("limit") int limit);
+
+    /**
+     * Count node routes of a source node with the same filter as {@link #keysetQuery}
+     *
+     * @param nodeId source nodeId
+     * @param search dstNodeId, dstNetAddress or dst node name search, null for all
+     * @return count
+     */
+    @Query(value = "select count(*) from node_route a join node b on a.dst_node_id=b.node_id " +
+            "where a.src_node_id=:nodeId and a.is_deleted=0 and b.is_deleted=0 " +
+            "and (:search is null or a.dst_node_id like '%' || :search || '%' or a.dst_net_address like '%' || :search || '%' or b.name like '%' || :search || '%')",
+            nativeQuery = true)
+    long countQuery(@Param("nodeId") String nodeId, @Param("search") String search);
 }
\ No newline at end of file
@@ -17,10 +17,15 @@
 package org.secretflow.secretpad.persistence.repository;
 
 import org.secretflow.secretpad.persistence.entity.ProjectGraphNodeDO;
+import org.secretflow.secretpad.persistence.projection.GraphNodeLayoutProjection;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Project graph node repository
  *
@@ -29,4 +34,26 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface ProjectGraphNodeRepository extends JpaRepository<ProjectGraphNodeDO, ProjectGraphNodeDO.UPK> {
+    /**
+     * Query graph node layouts by projectId and graphId, the node_def column is never read
+     *
+     * @param projectId target projectId
+     * @param graphId   target graphId
+     * @return graph node layout projection list
+     */
+    @Query("select new org.secretflow.secretpad.persistence.projection.GraphNodeLayoutProjection(n.upk.graphNodeId, n.codeName, n.label, n.x, n.y) " +
+            "from ProjectGraphNodeDO n where n.upk.projectId=:projectId and n.upk.graphId=:graphId")
+    List<GraphNodeLayoutProjection> findLayoutByGraphId(@Param("projectId") String projectId, @Param("graphId") String graphId);
+
+    /**
+     * Query project graph node results by projectId, graphId and graphNodeIds
+     *
+     * @param projectId    target projectId
+     * @param graphId      target graphId
+     * @param graphNodeIds target graphNodeId list
+     * @return project graph node results
+     */
+    @Query("from ProjectGraphNodeDO n where n.upk.projectId=:projectId and n.upk.graphId=:graphId and n.upk.graphNodeId in :graphNodeIds")
+    List<ProjectGraphNodeDO> findByGraphNodeIds(@Param("projectId") String projectId, @Param("graphId") String graphId,
+                                                @Param("graphNodeIds") List<String> graphNodeIds);
 }
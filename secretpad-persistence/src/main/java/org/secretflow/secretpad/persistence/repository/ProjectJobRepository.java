@@ -73,6 +73,46 @@ public interface ProjectJobRepository extends JpaRepository<ProjectJobDO, Projec
     @Query("from ProjectJobDO pj where pj.upk.projectId=:projectId")
     Page<ProjectJobDO> pageByProjectId(@Param("projectId") String projectId, Pageable pageable);
 
+    /**
+     * Keyset query project job results by projectId, rows are ordered by gmt_create desc, id desc and start after the given key.
+     * The datetime key is compared as text, the same as how sqlite stores gmt_create
+     *
+     * @param projectId target projectId
+     * @param gmtCreate gmt_create of the last row of the previous page
+     * @param id        id of the last row of the previous page
+     * @param limit     max rows
+     * @return project job results
+     */
+    @Query(value = "select * from project_job where project_id=:projectId and is_deleted=0 and (gmt_create, id) < (:gmtCreate, :id) " +
+            "order by gmt_create desc, id desc limit :limit", nativeQuery = true)
+    List<ProjectJobDO> keysetByProjectId(@Param("projectId") String projectId, @Param("gmtCreate") String gmtCreate,
+                                         @Param("id") Long id, @Param("limit") int limit);
+
+    /**
+     * Keyset query project job results by projectId and graphId, rows are ordered by gmt_create desc, id desc and start after the given key
+     *
+     * @param projectId target projectId
+     * @param graphId   target graphId
+     * @param gmtCreate gmt_create of the last row of the previous page
+     * @param id        id of the last row of the previous page
+     * @param limit     max rows
+     * @return project job results
+     */
+    @Query(value = "select * from project_job where project_id=:projectId and graph_id=:graphId and is_deleted=0 and (gmt_create, id) < (:gmtCreate, :id) " +
+            "order by gmt_create desc, id desc limit :limit", nativeQuery = true)
+    List<ProjectJobDO> keysetByProjectIdAndGraphId(@Param("projectId") String projectId, @Param("graphId") String graphId,
+                                                   @Param("gmtCreate") String gmtCreate, @Param("id") Long id, @Param("limit") int limit);
+
+    /**
+     * Query the count of project job results satisfied by projectId and graphId
+     *
+     * @param projectId target projectId
+     * @param graphId   target graphId
+     * @return the count of project job results
+     */
+    @Query("select count(*) from ProjectJobDO pj where pj.upk.projectId=:projectId and pj.graphId=:graphId")
+    long countByProjectIdAndGraphId(@Param("projectId") String projectId, @Param("graphId") String graphId);
+
     /**
      * Query the count of project job results satisfied by projectId
      *
@@ -20,7 +20,10 @@ package org.secretflow.secretpad.persistence.repository;
 import org.secretflow.secretpad.persistence.entity.ProjectResultDO;
 import org.secretflow.secretpad.persistence.model.ResultKind;
 import org.secretflow.secretpad.persistence.projection.CountProjection;
+import org.secretflow.secretpad.persistence.projection.NodeResultProjection;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -117,4 +120,42 @@ public interface ProjectResultRepository extends JpaRepository<ProjectResultDO,
             "where pr.upk.nodeId=:nodeId")
     Long countByNodeId(@Param("nodeId") String nodeId);
 
+    /**
+     * Query the count of project results grouped by nodeId in one query
+     *
+     * @param nodeIds target nodeId list
+     * @return CountProjection list of nodeId and count, nodes without results are absent
+     */
+    @Query("select new org.secretflow.secretpad.persistence.projection.CountProjection(pr.upk.nodeId, count(*)) from " +
+            "ProjectResultDO pr join ProjectDO p on pr.upk.projectId=p.projectId " +
+            "where pr.upk.nodeId in :nodeIds group by pr.upk.nodeId")
+    List<CountProjection> countByNodeIds(@Param("nodeIds") List<String> nodeIds);
+
+    /**
+     * Paging query node results joined with project and training flow names, filtered by kinds and a fuzzy name
+     * matched against the result id, project name and training flow name
+     *
+     * @param nodeId   target nodeId
+     * @param kinds    result kinds to include
+     * @param name     fuzzy name, empty string matches all
+     * @param pageable paging and sorting configuration, sort properties refer to the project result
+     * @return node result projection page with the exact total count
+     */
+    @Query(value = "select new org.secretflow.secretpad.persistence.projection.NodeResultProjection(" +
+            "pr.upk.refId, pr.upk.kind, p.projectId, p.name, g.name, pr.jobId, pr.gmtCreate) " +
+            "from ProjectResultDO pr " +
+            "left join ProjectDO p on p.projectId=pr.upk.projectId and p.isDeleted=false " +
+            "left join ProjectJobDO j on j.upk.projectId=pr.upk.projectId and j.upk.jobId=pr.jobId and j.isDeleted=false " +
+            "left join ProjectGraphDO g on g.upk.projectId=p.projectId and g.upk.graphId=j.graphId and g.isDeleted=false " +
+            "where pr.upk.nodeId=:nodeId and pr.upk.kind in :kinds " +
+            "and (pr.upk.refId like concat('%', :name, '%') or p.name like concat('%', :name, '%') or g.name like concat('%', :name, '%'))",
+            countQuery = "select count(pr) from ProjectResultDO pr " +
+                    "left join ProjectDO p on p.projectId=pr.upk.projectId and p.isDeleted=false " +
+                    "left join ProjectJobDO j on j.upk.projectId=pr.upk.projectId and j.upk.jobId=pr.jobId and j.isDeleted=false " +
+                    "left join ProjectGraphDO g on g.upk.projectId=p.projectId and g.upk.graphId=j.graphId and g.isDeleted=false " +
+                    "where pr.upk.nodeId=:nodeId and pr.upk.kind in :kinds " +
+                    "and (pr.upk.refId like concat('%', :name, '%') or p.name like concat('%', :name, '%') or g.name like concat('%', :name, '%'))")
+    Page<NodeResultProjection> pageNodeResults(@Param("nodeId") String nodeId, @Param("kinds") List<ResultKind> kinds,
+                                               @Param("name") String name, Pageable pageable);
+
 }
\ No newline at end of file
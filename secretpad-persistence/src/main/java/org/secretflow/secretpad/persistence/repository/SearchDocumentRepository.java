@@ -0,0 +1,207 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.secretflow.secretpad.persistence.repository;
+
+import org.secretflow.secretpad.persistence.entity.SearchDocumentDO;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Search document repository, maintains search_document together with its fts5 index search_index
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Repository
+public interface SearchDocumentRepository extends JpaRepository<SearchDocumentDO, Long> {
+
+    /**
+     * Insert a document or update the title of the existing one with the same key
+     *
+     * @param kind      document kind
+     * @param projectId project id, empty when absent
+     * @param nodeId    node id, empty when absent
+     * @param refId     ref id
+     * @param title     title
+     */
+    @Modifying
+    @Query(value = "insert into search_document (kind, project_id, node_id, ref_id, title) values (:kind, :projectId, :nodeId, :refId, :title) " +
+            "on conflict (kind, project_id, node_id, ref_id) do update set title=excluded.title", nativeQuery = true)
+    void upsertDocument(@Param("kind") String kind, @Param("projectId") String projectId, @Param("nodeId") String nodeId,
+                        @Param("refId") String refId, @Param("title") String title);
+
+    /**
+     * Query the document id by key
+     *
+     * @param kind      document kind
+     * @param projectId project id, empty when absent
+     * @param nodeId    node id, empty when absent
+     * @param refId     ref id
+     * @return document id
+     */
+    @Query(value = "select id from search_document where kind=:kind and project_id=:projectId and node_id=:nodeId and ref_id=:refId", nativeQuery = true)
+    Long findIdByKey(@Param("kind") String kind, @Param("projectId") String projectId, @Param("nodeId") String nodeId, @Param("refId") String refId);
+
+    /**
+     * Delete the index entry of a document
+     *
+     * @param id document id
+     */
+    @Modifying
+    @Query(value = "delete from search_index where rowid=:id", nativeQuery = true)
+    void deleteIndex(@Param("id") Long id);
+
+    /**
+     * Insert the index entry of a document
+     *
+     * @param id    document id
+     * @param title title
+     * @param refId ref id
+     */
+    @Modifying
+    @Query(value = "insert into search_index (rowid, title, ref_id) values (:id, :title, :refId)", nativeQuery = true)
+    void insertIndex(@Param("id") Long id, @Param("title") String title, @Param("refId") String refId);
+
+    /**
+     * Delete the index entries of documents by key
+     *
+     * @param kinds     document kinds
+     * @param projectId project id, null for any
+     * @param nodeId    node id, null for any
+     * @param refId     ref id, null for any
+     */
+    @Modifying
+    @Query(value = "delete from search_index where rowid in (select id from search_document where kind in :kinds " +
+            "and (:projectId is null or project_id=:projectId) and (:nodeId is null or node_id=:nodeId) and (:refId is null or ref_id=:refId))", nativeQuery = true)
+    void deleteIndexByKey(@Param("kinds") Collection<String> kinds, @Param("projectId") String projectId, @Param("nodeId") String nodeId,
+                          @Param("refId") String refId);
+
+    /**
+     * Delete documents by key, the index entries must be deleted first with {@link #deleteIndexByKey}
+     *
+     * @param kinds     document kinds
+     * @param projectId project id, null for any
+     * @param nodeId    node id, null for any
+     * @param refId     ref id, null for any
+     */
+    @Modifying
+    @Query(value = "delete from search_document where kind in :kinds " +
+            "and (:projectId is null or project_id=:projectId) and (:nodeId is null or node_id=:nodeId) and (:refId is null or ref_id=:refId)", nativeQuery = true)
+    void deleteDocumentByKey(@Param("kinds") Collection<String> kinds, @Param("projectId") String projectId, @Param("nodeId") String nodeId,
+                             @Param("refId") String refId);
+
+    /**
+     * Delete every index entry
+     */
+    @Modifying
+    @Query(value = "delete from search_index", nativeQuery = true)
+    void deleteAllIndex();
+
+    /**
+     * Delete every document
+     */
+    @Modifying
+    @Query(value = "delete from search_document", nativeQuery = true)
+    void deleteAllDocuments();
+
+    /**
+     * Load documents of every project, catalog datatable, and graph and result of a project not deleted
+     */
+    @Modifying
+    @Query(value = "insert into search_document (kind, project_id, node_id, ref_id, title) " +
+            "select 'Project', project_id, '', project_id, name from project where is_deleted=0 " +
+            "union all select 'Graph', g.project_id, '', g.graph_id, coalesce(g.name, g.graph_id) from project_graph g " +
+            "join project p on p.project_id=g.project_id and p.is_deleted=0 where g.is_deleted=0 " +
+            "union all select 'Datatable', '', node_id, datatable_id, datatable_name from datatable_catalog " +
+            "union all select 'Result', r.project_id, r.node_id, r.ref_id, r.ref_id from project_result r " +
+            "join project p on p.project_id=r.project_id and p.is_deleted=0 where r.is_deleted=0 " +
+            "on conflict (kind, project_id, node_id, ref_id) do nothing", nativeQuery = true)
+    void loadAllDocuments();
+
+    /**
+     * Index every document
+     */
+    @Modifying
+    @Query(value = "insert into search_index (rowid, title, ref_id) select id, title, ref_id from search_document", nativeQuery = true)
+    void indexAllDocuments();
+
+    /**
+     * Full text search documents, exact title matches first and then by bm25 with the title weighted over the ref id
+     *
+     * @param match     fts5 match expression
+     * @param query     raw query text
+     * @param kinds     document kinds
+     * @param projectId project id, null for any
+     * @param limit     max rows
+     * @param offset    rows to skip
+     * @return documents
+     */
+    @Query(value = "select d.* from search_index s join search_document d on d.id=s.rowid " +
+            "where search_index match :match and d.kind in :kinds and (:projectId is null or d.project_id=:projectId) " +
+            "order by lower(d.title)=lower(:query) desc, bm25(search_index, 10.0, 1.0), d.id limit :limit offset :offset", nativeQuery = true)
+    List<SearchDocumentDO> matchQuery(@Param("match") String match, @Param("query") String query, @Param("kinds") Collection<String> kinds,
+                                      @Param("projectId") String projectId, @Param("limit") int limit, @Param("offset") int offset);
+
+    /**
+     * Count documents with the same filter as {@link #matchQuery}
+     *
+     * @param match     fts5 match expression
+     * @param kinds     document kinds
+     * @param projectId project id, null for any
+     * @return count
+     */
+    @Query(value = "select count(*) from search_index s join search_document d on d.id=s.rowid " +
+            "where search_index match :match and d.kind in :kinds and (:projectId is null or d.project_id=:projectId)", nativeQuery = true)
+    long matchCount(@Param("match") String match, @Param("kinds") Collection<String> kinds, @Param("projectId") String projectId);
+
+    /**
+     * Substring search documents for queries shorter than a trigram, exact title matches first, then title prefixes, then shorter titles
+     *
+     * @param query     query text
+     * @param kinds     document kinds
+     * @param projectId project id, null for any
+     * @param limit     max rows
+     * @param offset    rows to skip
+     * @return documents
+     */
+    @Query(value = "select d.* from search_document d " +
+            "where (instr(lower(d.title), lower(:query)) > 0 or instr(lower(d.ref_id), lower(:query)) > 0) " +
+            "and d.kind in :kinds and (:projectId is null or d.project_id=:projectId) " +
+            "order by lower(d.title)=lower(:query) desc, instr(lower(d.title), lower(:query))=1 desc, length(d.title), d.id " +
+            "limit :limit offset :offset", nativeQuery = true)
+    List<SearchDocumentDO> scanQuery(@Param("query") String query, @Param("kinds") Collection<String> kinds, @Param("projectId") String projectId,
+                                     @Param("limit") int limit, @Param("offset") int offset);
+
+    /**
+     * Count documents with the same filter as {@link #scanQuery}
+     *
+     * @param query     query text
+     * @param kinds     document kinds
+     * @param projectId project id, null for any
+     * @return count
+     */
+    @Query(value = "select count(*) from search_document d " +
+            "where (instr(lower(d.title), lower(:query)) > 0 or instr(lower(d.ref_id), lower(:query)) > 0) " +
+            "and d.kind in :kinds and (:projectId is null or d.project_id=:projectId)", nativeQuery = true)
+    long scanCount(@Param("query") String query, @Param("kinds") Collection<String> kinds, @Param("projectId") String projectId);
+}
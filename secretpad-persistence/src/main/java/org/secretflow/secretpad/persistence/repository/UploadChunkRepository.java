@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.secretflow.secretpad.persistence.repository;
+
+import org.secretflow.secretpad.persistence.entity.UploadChunkDO;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Chunked upload chunk repository
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Repository
+public interface UploadChunkRepository extends JpaRepository<UploadChunkDO, UploadChunkDO.UPK> {
+
+    /**
+     * Query indexes of received chunks of a session
+     *
+     * @param uploadId upload id
+     * @return ordered chunk indexes
+     */
+    @Query("select c.upk.chunkIndex from UploadChunkDO c where c.upk.uploadId=:uploadId order by c.upk.chunkIndex")
+    List<Integer> findChunkIndexes(@Param("uploadId") String uploadId);
+
+    /**
+     * Count received chunks of a session
+     *
+     * @param uploadId upload id
+     * @return count
+     */
+    @Query("select count(c) from UploadChunkDO c where c.upk.uploadId=:uploadId")
+    long countByUploadId(@Param("uploadId") String uploadId);
+
+    /**
+     * Delete all chunks of a session
+     *
+     * @param uploadId upload id
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from UploadChunkDO c where c.upk.uploadId=:uploadId")
+    void deleteByUploadId(@Param("uploadId") String uploadId);
+}
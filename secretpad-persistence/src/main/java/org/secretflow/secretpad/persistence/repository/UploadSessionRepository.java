@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.secretflow.secretpad.persistence.repository;
+
+import org.secretflow.secretpad.persistence.entity.UploadSessionDO;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Chunked upload session repository
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSessionDO, String> {
+
+    /**
+     * Query sessions without any chunk received since the given time
+     *
+     * @param before inactive since
+     * @return upload sessions
+     */
+    @Query("from UploadSessionDO s where s.gmtActive<:before")
+    List<UploadSessionDO> findInactiveSince(@Param("before") LocalDateTime before);
+
+    /**
+     * Mark a session active
+     *
+     * @param uploadId upload id
+     * @param now      current time
+     */
+    @Transactional
+    @Modifying
+    @Query("update UploadSessionDO s set s.gmtActive=:now where s.uploadId=:uploadId")
+    void touch(@Param("uploadId") String uploadId, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,9275 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: secretflow/protos/component/cluster.proto
+
+package org.secretflow.proto.component;
+
+public final class Cluster {
+  private Cluster() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface SFClusterDescOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.component.SFClusterDesc)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * SecretFlow version.
+     * </pre>
+     *
+     * <code>string sf_version = 1;</code>
+     * @return The sfVersion.
+     */
+    java.lang.String getSfVersion();
+    /**
+     * <pre>
+     * SecretFlow version.
+     * </pre>
+     *
+     * <code>string sf_version = 1;</code>
+     * @return The bytes for sfVersion.
+     */
+    com.google.protobuf.ByteString
+        getSfVersionBytes();
+
+    /**
+     * <pre>
+     * Python version.
+     * </pre>
+     *
+     * <code>string py_version = 2;</code>
+     * @return The pyVersion.
+     */
+    java.lang.String getPyVersion();
+    /**
+     * <pre>
+     * Python version.
+     * </pre>
+     *
+     * <code>string py_version = 2;</code>
+     * @return The bytes for pyVersion.
+     */
+    com.google.protobuf.ByteString
+        getPyVersionBytes();
+
+    /**
+     * <pre>
+     * Joined entities.
+     * e.g. [CompanyA, CompanyB]
+     * </pre>
+     *
+     * <code>repeated string parties = 3;</code>
+     * @return A list containing the parties.
+     */
+    java.util.List<java.lang.String>
+        getPartiesList();
+    /**
+     * <pre>
+     * Joined entities.
+     * e.g. [CompanyA, CompanyB]
+     * </pre>
+     *
+     * <code>repeated string parties = 3;</code>
+     * @return The count of parties.
+     */
+    int getPartiesCount();
+    /**
+     * <pre>
+     * Joined entities.
+     * e.g. [CompanyA, CompanyB]
+     * </pre>
+     *
+     * <code>repeated string parties = 3;</code>
+     * @param index The index of the element to return.
+     * @return The parties at the given index.
+     */
+    java.lang.String getParties(int index);
+    /**
+     * <pre>
+     * Joined entities.
+     * e.g. [CompanyA, CompanyB]
+     * </pre>
+     *
+     * <code>repeated string parties = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the parties at the given index.
+     */
+    com.google.protobuf.ByteString
+        getPartiesBytes(int index);
+
+    /**
+     * <pre>
+     * Description of secret devices
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+     */
+    java.util.List<org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc> 
+        getDevicesList();
+    /**
+     * <pre>
+     * Description of secret devices
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+     */
+    org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc getDevices(int index);
+    /**
+     * <pre>
+     * Description of secret devices
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+     */
+    int getDevicesCount();
+    /**
+     * <pre>
+     * Description of secret devices
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDescOrBuilder> 
+        getDevicesOrBuilderList();
+    /**
+     * <pre>
+     * Description of secret devices
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+     */
+    org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDescOrBuilder getDevicesOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * Description of a SecretFlow cluster, including:
+   * - version info
+   * - parties: who participate in the computation.
+   * - secret devices and their configs: security levels.
+   * </pre>
+   *
+   * Protobuf type {@code secretflow.component.SFClusterDesc}
+   */
+  public static final class SFClusterDesc extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.component.SFClusterDesc)
+      SFClusterDescOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SFClusterDesc.newBuilder() to construct.
+    private SFClusterDesc(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SFClusterDesc() {
+      sfVersion_ = "";
+      pyVersion_ = "";
+      parties_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      devices_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SFClusterDesc();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterDesc_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterDesc_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.component.Cluster.SFClusterDesc.class, org.secretflow.proto.component.Cluster.SFClusterDesc.Builder.class);
+    }
+
+    public interface DeviceDescOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:secretflow.component.SFClusterDesc.DeviceDesc)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <pre>
+       * Name of the device.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      java.lang.String getName();
+      /**
+       * <pre>
+       * Name of the device.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
+
+      /**
+       * <pre>
+       * Supported: SPU, HEU, TEEU
+       * </pre>
+       *
+       * <code>string type = 2;</code>
+       * @return The type.
+       */
+      java.lang.String getType();
+      /**
+       * <pre>
+       * Supported: SPU, HEU, TEEU
+       * </pre>
+       *
+       * <code>string type = 2;</code>
+       * @return The bytes for type.
+       */
+      com.google.protobuf.ByteString
+          getTypeBytes();
+
+      /**
+       * <pre>
+       * Parties of device.
+       * </pre>
+       *
+       * <code>repeated string parties = 3;</code>
+       * @return A list containing the parties.
+       */
+      java.util.List<java.lang.String>
+          getPartiesList();
+      /**
+       * <pre>
+       * Parties of device.
+       * </pre>
+       *
+       * <code>repeated string parties = 3;</code>
+       * @return The count of parties.
+       */
+      int getPartiesCount();
+      /**
+       * <pre>
+       * Parties of device.
+       * </pre>
+       *
+       * <code>repeated string parties = 3;</code>
+       * @param index The index of the element to return.
+       * @return The parties at the given index.
+       */
+      java.lang.String getParties(int index);
+      /**
+       * <pre>
+       * Parties of device.
+       * </pre>
+       *
+       * <code>repeated string parties = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the parties at the given index.
+       */
+      com.google.protobuf.ByteString
+          getPartiesBytes(int index);
+
+      /**
+       * <pre>
+       * Specific config for the secret device.
+       * </pre>
+       *
+       * <code>string config = 4;</code>
+       * @return The config.
+       */
+      java.lang.String getConfig();
+      /**
+       * <pre>
+       * Specific config for the secret device.
+       * </pre>
+       *
+       * <code>string config = 4;</code>
+       * @return The bytes for config.
+       */
+      com.google.protobuf.ByteString
+          getConfigBytes();
+    }
+    /**
+     * <pre>
+     * Description for a secret device.
+     * PYUs do not need to claim.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.SFClusterDesc.DeviceDesc}
+     */
+    public static final class DeviceDesc extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:secretflow.component.SFClusterDesc.DeviceDesc)
+        DeviceDescOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use DeviceDesc.newBuilder() to construct.
+      private DeviceDesc(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private DeviceDesc() {
+        name_ = "";
+        type_ = "";
+        parties_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        config_ = "";
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new DeviceDesc();
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterDesc_DeviceDesc_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterDesc_DeviceDesc_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc.class, org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc.Builder.class);
+      }
+
+      public static final int NAME_FIELD_NUMBER = 1;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * Name of the device.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      @java.lang.Override
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        }
+      }
+      /**
+       * <pre>
+       * Name of the device.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int TYPE_FIELD_NUMBER = 2;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object type_ = "";
+      /**
+       * <pre>
+       * Supported: SPU, HEU, TEEU
+       * </pre>
+       *
+       * <code>string type = 2;</code>
+       * @return The type.
+       */
+      @java.lang.Override
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          type_ = s;
+          return s;
+        }
+      }
+      /**
+       * <pre>
+       * Supported: SPU, HEU, TEEU
+       * </pre>
+       *
+       * <code>string type = 2;</code>
+       * @return The bytes for type.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int PARTIES_FIELD_NUMBER = 3;
+      @SuppressWarnings("serial")
+      private com.google.protobuf.LazyStringArrayList parties_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      /**
+       * <pre>
+       * Parties of device.
+       * </pre>
+       *
+       * <code>repeated string parties = 3;</code>
+       * @return A list containing the parties.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getPartiesList() {
+        return parties_;
+      }
+      /**
+       * <pre>
+       * Parties of device.
+       * </pre>
+       *
+       * <code>repeated string parties = 3;</code>
+       * @return The count of parties.
+       */
+      public int getPartiesCount() {
+        return parties_.size();
+      }
+      /**
+       * <pre>
+       * Parties of device.
+       * </pre>
+       *
+       * <code>repeated string parties = 3;</code>
+       * @param index The index of the element to return.
+       * @return The parties at the given index.
+       */
+      public java.lang.String getParties(int index) {
+        return parties_.get(index);
+      }
+      /**
+       * <pre>
+       * Parties of device.
+       * </pre>
+       *
+       * <code>repeated string parties = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the parties at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getPartiesBytes(int index) {
+        return parties_.getByteString(index);
+      }
+
+      public static final int CONFIG_FIELD_NUMBER = 4;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object config_ = "";
+      /**
+       * <pre>
+       * Specific config for the secret device.
+       * </pre>
+       *
+       * <code>string config = 4;</code>
+       * @return The config.
+       */
+      @java.lang.Override
+      public java.lang.String getConfig() {
+        java.lang.Object ref = config_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          config_ = s;
+          return s;
+        }
+      }
+      /**
+       * <pre>
+       * Specific config for the secret device.
+       * </pre>
+       *
+       * <code>string config = 4;</code>
+       * @return The bytes for config.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getConfigBytes() {
+        java.lang.Object ref = config_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          config_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+        }
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(type_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 2, type_);
+        }
+        for (int i = 0; i < parties_.size(); i++) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 3, parties_.getRaw(i));
+        }
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(config_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 4, config_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+        }
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(type_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, type_);
+        }
+        {
+          int dataSize = 0;
+          for (int i = 0; i < parties_.size(); i++) {
+            dataSize += computeStringSizeNoTag(parties_.getRaw(i));
+          }
+          size += dataSize;
+          size += 1 * getPartiesList().size();
+        }
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(config_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, config_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc)) {
+          return super.equals(obj);
+        }
+        org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc other = (org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc) obj;
+
+        if (!getName()
+            .equals(other.getName())) return false;
+        if (!getType()
+            .equals(other.getType())) return false;
+        if (!getPartiesList()
+            .equals(other.getPartiesList())) return false;
+        if (!getConfig()
+            .equals(other.getConfig())) return false;
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getName().hashCode();
+        hash = (37 * hash) + TYPE_FIELD_NUMBER;
+        hash = (53 * hash) + getType().hashCode();
+        if (getPartiesCount() > 0) {
+          hash = (37 * hash) + PARTIES_FIELD_NUMBER;
+          hash = (53 * hash) + getPartiesList().hashCode();
+        }
+        hash = (37 * hash) + CONFIG_FIELD_NUMBER;
+        hash = (53 * hash) + getConfig().hashCode();
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * <pre>
+       * Description for a secret device.
+       * PYUs do not need to claim.
+       * </pre>
+       *
+       * Protobuf type {@code secretflow.component.SFClusterDesc.DeviceDesc}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:secretflow.component.SFClusterDesc.DeviceDesc)
+          org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDescOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterDesc_DeviceDesc_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterDesc_DeviceDesc_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc.class, org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc.Builder.class);
+        }
+
+        // Construct using org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          name_ = "";
+          type_ = "";
+          parties_ =
+              com.google.protobuf.LazyStringArrayList.emptyList();
+          config_ = "";
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterDesc_DeviceDesc_descriptor;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc getDefaultInstanceForType() {
+          return org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc build() {
+          org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc buildPartial() {
+          org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc result = new org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc(this);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartial0(org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.name_ = name_;
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.type_ = type_;
+          }
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            parties_.makeImmutable();
+            result.parties_ = parties_;
+          }
+          if (((from_bitField0_ & 0x00000008) != 0)) {
+            result.config_ = config_;
+          }
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc) {
+            return mergeFrom((org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc other) {
+          if (other == org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc.getDefaultInstance()) return this;
+          if (!other.getName().isEmpty()) {
+            name_ = other.name_;
+            bitField0_ |= 0x00000001;
+            onChanged();
+          }
+          if (!other.getType().isEmpty()) {
+            type_ = other.type_;
+            bitField0_ |= 0x00000002;
+            onChanged();
+          }
+          if (!other.parties_.isEmpty()) {
+            if (parties_.isEmpty()) {
+              parties_ = other.parties_;
+              bitField0_ |= 0x00000004;
+            } else {
+              ensurePartiesIsMutable();
+              parties_.addAll(other.parties_);
+            }
+            onChanged();
+          }
+          if (!other.getConfig().isEmpty()) {
+            config_ = other.config_;
+            bitField0_ |= 0x00000008;
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 10: {
+                  name_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 10
+                case 18: {
+                  type_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000002;
+                  break;
+                } // case 18
+                case 26: {
+                  java.lang.String s = input.readStringRequireUtf8();
+                  ensurePartiesIsMutable();
+                  parties_.add(s);
+                  break;
+                } // case 26
+                case 34: {
+                  config_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000008;
+                  break;
+                } // case 34
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object name_ = "";
+        /**
+         * <pre>
+         * Name of the device.
+         * </pre>
+         *
+         * <code>string name = 1;</code>
+         * @return The name.
+         */
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            name_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <pre>
+         * Name of the device.
+         * </pre>
+         *
+         * <code>string name = 1;</code>
+         * @return The bytes for name.
+         */
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <pre>
+         * Name of the device.
+         * </pre>
+         *
+         * <code>string name = 1;</code>
+         * @param value The name to set.
+         * @return This builder for chaining.
+         */
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          name_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Name of the device.
+         * </pre>
+         *
+         * <code>string name = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearName() {
+          name_ = getDefaultInstance().getName();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Name of the device.
+         * </pre>
+         *
+         * <code>string name = 1;</code>
+         * @param value The bytes for name to set.
+         * @return This builder for chaining.
+         */
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          name_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object type_ = "";
+        /**
+         * <pre>
+         * Supported: SPU, HEU, TEEU
+         * </pre>
+         *
+         * <code>string type = 2;</code>
+         * @return The type.
+         */
+        public java.lang.String getType() {
+          java.lang.Object ref = type_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            type_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <pre>
+         * Supported: SPU, HEU, TEEU
+         * </pre>
+         *
+         * <code>string type = 2;</code>
+         * @return The bytes for type.
+         */
+        public com.google.protobuf.ByteString
+            getTypeBytes() {
+          java.lang.Object ref = type_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            type_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <pre>
+         * Supported: SPU, HEU, TEEU
+         * </pre>
+         *
+         * <code>string type = 2;</code>
+         * @param value The type to set.
+         * @return This builder for chaining.
+         */
+        public Builder setType(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          type_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Supported: SPU, HEU, TEEU
+         * </pre>
+         *
+         * <code>string type = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearType() {
+          type_ = getDefaultInstance().getType();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Supported: SPU, HEU, TEEU
+         * </pre>
+         *
+         * <code>string type = 2;</code>
+         * @param value The bytes for type to set.
+         * @return This builder for chaining.
+         */
+        public Builder setTypeBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          type_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+
+        private com.google.protobuf.LazyStringArrayList parties_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        private void ensurePartiesIsMutable() {
+          if (!parties_.isModifiable()) {
+            parties_ = new com.google.protobuf.LazyStringArrayList(parties_);
+          }
+          bitField0_ |= 0x00000004;
+        }
+        /**
+         * <pre>
+         * Parties of device.
+         * </pre>
+         *
+         * <code>repeated string parties = 3;</code>
+         * @return A list containing the parties.
+         */
+        public com.google.protobuf.ProtocolStringList
+            getPartiesList() {
+          parties_.makeImmutable();
+          return parties_;
+        }
+        /**
+         * <pre>
+         * Parties of device.
+         * </pre>
+         *
+         * <code>repeated string parties = 3;</code>
+         * @return The count of parties.
+         */
+        public int getPartiesCount() {
+          return parties_.size();
+        }
+        /**
+         * <pre>
+         * Parties of device.
+         * </pre>
+         *
+         * <code>repeated string parties = 3;</code>
+         * @param index The index of the element to return.
+         * @return The parties at the given index.
+         */
+        public java.lang.String getParties(int index) {
+          return parties_.get(index);
+        }
+        /**
+         * <pre>
+         * Parties of device.
+         * </pre>
+         *
+         * <code>repeated string parties = 3;</code>
+         * @param index The index of the value to return.
+         * @return The bytes of the parties at the given index.
+         */
+        public com.google.protobuf.ByteString
+            getPartiesBytes(int index) {
+          return parties_.getByteString(index);
+        }
+        /**
+         * <pre>
+         * Parties of device.
+         * </pre>
+         *
+         * <code>repeated string parties = 3;</code>
+         * @param index The index to set the value at.
+         * @param value The parties to set.
+         * @return This builder for chaining.
+         */
+        public Builder setParties(
+            int index, java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          ensurePartiesIsMutable();
+          parties_.set(index, value);
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Parties of device.
+         * </pre>
+         *
+         * <code>repeated string parties = 3;</code>
+         * @param value The parties to add.
+         * @return This builder for chaining.
+         */
+        public Builder addParties(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          ensurePartiesIsMutable();
+          parties_.add(value);
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Parties of device.
+         * </pre>
+         *
+         * <code>repeated string parties = 3;</code>
+         * @param values The parties to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAllParties(
+            java.lang.Iterable<java.lang.String> values) {
+          ensurePartiesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, parties_);
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Parties of device.
+         * </pre>
+         *
+         * <code>repeated string parties = 3;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearParties() {
+          parties_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Parties of device.
+         * </pre>
+         *
+         * <code>repeated string parties = 3;</code>
+         * @param value The bytes of the parties to add.
+         * @return This builder for chaining.
+         */
+        public Builder addPartiesBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          ensurePartiesIsMutable();
+          parties_.add(value);
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object config_ = "";
+        /**
+         * <pre>
+         * Specific config for the secret device.
+         * </pre>
+         *
+         * <code>string config = 4;</code>
+         * @return The config.
+         */
+        public java.lang.String getConfig() {
+          java.lang.Object ref = config_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            config_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <pre>
+         * Specific config for the secret device.
+         * </pre>
+         *
+         * <code>string config = 4;</code>
+         * @return The bytes for config.
+         */
+        public com.google.protobuf.ByteString
+            getConfigBytes() {
+          java.lang.Object ref = config_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            config_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <pre>
+         * Specific config for the secret device.
+         * </pre>
+         *
+         * <code>string config = 4;</code>
+         * @param value The config to set.
+         * @return This builder for chaining.
+         */
+        public Builder setConfig(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          config_ = value;
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Specific config for the secret device.
+         * </pre>
+         *
+         * <code>string config = 4;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearConfig() {
+          config_ = getDefaultInstance().getConfig();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Specific config for the secret device.
+         * </pre>
+         *
+         * <code>string config = 4;</code>
+         * @param value The bytes for config to set.
+         * @return This builder for chaining.
+         */
+        public Builder setConfigBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          config_ = value;
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:secretflow.component.SFClusterDesc.DeviceDesc)
+      }
+
+      // @@protoc_insertion_point(class_scope:secretflow.component.SFClusterDesc.DeviceDesc)
+      private static final org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc();
+      }
+
+      public static org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<DeviceDesc>
+          PARSER = new com.google.protobuf.AbstractParser<DeviceDesc>() {
+        @java.lang.Override
+        public DeviceDesc parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<DeviceDesc> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<DeviceDesc> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public static final int SF_VERSION_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object sfVersion_ = "";
+    /**
+     * <pre>
+     * SecretFlow version.
+     * </pre>
+     *
+     * <code>string sf_version = 1;</code>
+     * @return The sfVersion.
+     */
+    @java.lang.Override
+    public java.lang.String getSfVersion() {
+      java.lang.Object ref = sfVersion_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        sfVersion_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * SecretFlow version.
+     * </pre>
+     *
+     * <code>string sf_version = 1;</code>
+     * @return The bytes for sfVersion.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSfVersionBytes() {
+      java.lang.Object ref = sfVersion_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        sfVersion_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PY_VERSION_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object pyVersion_ = "";
+    /**
+     * <pre>
+     * Python version.
+     * </pre>
+     *
+     * <code>string py_version = 2;</code>
+     * @return The pyVersion.
+     */
+    @java.lang.Override
+    public java.lang.String getPyVersion() {
+      java.lang.Object ref = pyVersion_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        pyVersion_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Python version.
+     * </pre>
+     *
+     * <code>string py_version = 2;</code>
+     * @return The bytes for pyVersion.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPyVersionBytes() {
+      java.lang.Object ref = pyVersion_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        pyVersion_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PARTIES_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList parties_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * Joined entities.
+     * e.g. [CompanyA, CompanyB]
+     * </pre>
+     *
+     * <code>repeated string parties = 3;</code>
+     * @return A list containing the parties.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getPartiesList() {
+      return parties_;
+    }
+    /**
+     * <pre>
+     * Joined entities.
+     * e.g. [CompanyA, CompanyB]
+     * </pre>
+     *
+     * <code>repeated string parties = 3;</code>
+     * @return The count of parties.
+     */
+    public int getPartiesCount() {
+      return parties_.size();
+    }
+    /**
+     * <pre>
+     * Joined entities.
+     * e.g. [CompanyA, CompanyB]
+     * </pre>
+     *
+     * <code>repeated string parties = 3;</code>
+     * @param index The index of the element to return.
+     * @return The parties at the given index.
+     */
+    public java.lang.String getParties(int index) {
+      return parties_.get(index);
+    }
+    /**
+     * <pre>
+     * Joined entities.
+     * e.g. [CompanyA, CompanyB]
+     * </pre>
+     *
+     * <code>repeated string parties = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the parties at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getPartiesBytes(int index) {
+      return parties_.getByteString(index);
+    }
+
+    public static final int DEVICES_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc> devices_;
+    /**
+     * <pre>
+     * Description of secret devices
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc> getDevicesList() {
+      return devices_;
+    }
+    /**
+     * <pre>
+     * Description of secret devices
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDescOrBuilder> 
+        getDevicesOrBuilderList() {
+      return devices_;
+    }
+    /**
+     * <pre>
+     * Description of secret devices
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+     */
+    @java.lang.Override
+    public int getDevicesCount() {
+      return devices_.size();
+    }
+    /**
+     * <pre>
+     * Description of secret devices
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc getDevices(int index) {
+      return devices_.get(index);
+    }
+    /**
+     * <pre>
+     * Description of secret devices
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDescOrBuilder getDevicesOrBuilder(
+        int index) {
+      return devices_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(sfVersion_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, sfVersion_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(pyVersion_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, pyVersion_);
+      }
+      for (int i = 0; i < parties_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, parties_.getRaw(i));
+      }
+      for (int i = 0; i < devices_.size(); i++) {
+        output.writeMessage(4, devices_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(sfVersion_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, sfVersion_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(pyVersion_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, pyVersion_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < parties_.size(); i++) {
+          dataSize += computeStringSizeNoTag(parties_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getPartiesList().size();
+      }
+      for (int i = 0; i < devices_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, devices_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.component.Cluster.SFClusterDesc)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.component.Cluster.SFClusterDesc other = (org.secretflow.proto.component.Cluster.SFClusterDesc) obj;
+
+      if (!getSfVersion()
+          .equals(other.getSfVersion())) return false;
+      if (!getPyVersion()
+          .equals(other.getPyVersion())) return false;
+      if (!getPartiesList()
+          .equals(other.getPartiesList())) return false;
+      if (!getDevicesList()
+          .equals(other.getDevicesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SF_VERSION_FIELD_NUMBER;
+      hash = (53 * hash) + getSfVersion().hashCode();
+      hash = (37 * hash) + PY_VERSION_FIELD_NUMBER;
+      hash = (53 * hash) + getPyVersion().hashCode();
+      if (getPartiesCount() > 0) {
+        hash = (37 * hash) + PARTIES_FIELD_NUMBER;
+        hash = (53 * hash) + getPartiesList().hashCode();
+      }
+      if (getDevicesCount() > 0) {
+        hash = (37 * hash) + DEVICES_FIELD_NUMBER;
+        hash = (53 * hash) + getDevicesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.component.Cluster.SFClusterDesc parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterDesc parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterDesc parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterDesc parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterDesc parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterDesc parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterDesc parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterDesc parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterDesc parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterDesc parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterDesc parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterDesc parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.component.Cluster.SFClusterDesc prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Description of a SecretFlow cluster, including:
+     * - version info
+     * - parties: who participate in the computation.
+     * - secret devices and their configs: security levels.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.SFClusterDesc}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.component.SFClusterDesc)
+        org.secretflow.proto.component.Cluster.SFClusterDescOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterDesc_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterDesc_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Cluster.SFClusterDesc.class, org.secretflow.proto.component.Cluster.SFClusterDesc.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.component.Cluster.SFClusterDesc.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        sfVersion_ = "";
+        pyVersion_ = "";
+        parties_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        if (devicesBuilder_ == null) {
+          devices_ = java.util.Collections.emptyList();
+        } else {
+          devices_ = null;
+          devicesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterDesc_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Cluster.SFClusterDesc getDefaultInstanceForType() {
+        return org.secretflow.proto.component.Cluster.SFClusterDesc.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Cluster.SFClusterDesc build() {
+        org.secretflow.proto.component.Cluster.SFClusterDesc result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Cluster.SFClusterDesc buildPartial() {
+        org.secretflow.proto.component.Cluster.SFClusterDesc result = new org.secretflow.proto.component.Cluster.SFClusterDesc(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.proto.component.Cluster.SFClusterDesc result) {
+        if (devicesBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            devices_ = java.util.Collections.unmodifiableList(devices_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.devices_ = devices_;
+        } else {
+          result.devices_ = devicesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.proto.component.Cluster.SFClusterDesc result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.sfVersion_ = sfVersion_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.pyVersion_ = pyVersion_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          parties_.makeImmutable();
+          result.parties_ = parties_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.component.Cluster.SFClusterDesc) {
+          return mergeFrom((org.secretflow.proto.component.Cluster.SFClusterDesc)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.component.Cluster.SFClusterDesc other) {
+        if (other == org.secretflow.proto.component.Cluster.SFClusterDesc.getDefaultInstance()) return this;
+        if (!other.getSfVersion().isEmpty()) {
+          sfVersion_ = other.sfVersion_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getPyVersion().isEmpty()) {
+          pyVersion_ = other.pyVersion_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.parties_.isEmpty()) {
+          if (parties_.isEmpty()) {
+            parties_ = other.parties_;
+            bitField0_ |= 0x00000004;
+          } else {
+            ensurePartiesIsMutable();
+            parties_.addAll(other.parties_);
+          }
+          onChanged();
+        }
+        if (devicesBuilder_ == null) {
+          if (!other.devices_.isEmpty()) {
+            if (devices_.isEmpty()) {
+              devices_ = other.devices_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureDevicesIsMutable();
+              devices_.addAll(other.devices_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.devices_.isEmpty()) {
+            if (devicesBuilder_.isEmpty()) {
+              devicesBuilder_.dispose();
+              devicesBuilder_ = null;
+              devices_ = other.devices_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              devicesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getDevicesFieldBuilder() : null;
+            } else {
+              devicesBuilder_.addAllMessages(other.devices_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                sfVersion_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                pyVersion_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensurePartiesIsMutable();
+                parties_.add(s);
+                break;
+              } // case 26
+              case 34: {
+                org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc m =
+                    input.readMessage(
+                        org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc.parser(),
+                        extensionRegistry);
+                if (devicesBuilder_ == null) {
+                  ensureDevicesIsMutable();
+                  devices_.add(m);
+                } else {
+                  devicesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object sfVersion_ = "";
+      /**
+       * <pre>
+       * SecretFlow version.
+       * </pre>
+       *
+       * <code>string sf_version = 1;</code>
+       * @return The sfVersion.
+       */
+      public java.lang.String getSfVersion() {
+        java.lang.Object ref = sfVersion_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          sfVersion_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * SecretFlow version.
+       * </pre>
+       *
+       * <code>string sf_version = 1;</code>
+       * @return The bytes for sfVersion.
+       */
+      public com.google.protobuf.ByteString
+          getSfVersionBytes() {
+        java.lang.Object ref = sfVersion_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          sfVersion_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * SecretFlow version.
+       * </pre>
+       *
+       * <code>string sf_version = 1;</code>
+       * @param value The sfVersion to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSfVersion(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        sfVersion_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * SecretFlow version.
+       * </pre>
+       *
+       * <code>string sf_version = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSfVersion() {
+        sfVersion_ = getDefaultInstance().getSfVersion();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * SecretFlow version.
+       * </pre>
+       *
+       * <code>string sf_version = 1;</code>
+       * @param value The bytes for sfVersion to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSfVersionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        sfVersion_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object pyVersion_ = "";
+      /**
+       * <pre>
+       * Python version.
+       * </pre>
+       *
+       * <code>string py_version = 2;</code>
+       * @return The pyVersion.
+       */
+      public java.lang.String getPyVersion() {
+        java.lang.Object ref = pyVersion_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          pyVersion_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Python version.
+       * </pre>
+       *
+       * <code>string py_version = 2;</code>
+       * @return The bytes for pyVersion.
+       */
+      public com.google.protobuf.ByteString
+          getPyVersionBytes() {
+        java.lang.Object ref = pyVersion_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          pyVersion_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Python version.
+       * </pre>
+       *
+       * <code>string py_version = 2;</code>
+       * @param value The pyVersion to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPyVersion(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        pyVersion_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Python version.
+       * </pre>
+       *
+       * <code>string py_version = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPyVersion() {
+        pyVersion_ = getDefaultInstance().getPyVersion();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Python version.
+       * </pre>
+       *
+       * <code>string py_version = 2;</code>
+       * @param value The bytes for pyVersion to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPyVersionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        pyVersion_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList parties_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensurePartiesIsMutable() {
+        if (!parties_.isModifiable()) {
+          parties_ = new com.google.protobuf.LazyStringArrayList(parties_);
+        }
+        bitField0_ |= 0x00000004;
+      }
+      /**
+       * <pre>
+       * Joined entities.
+       * e.g. [CompanyA, CompanyB]
+       * </pre>
+       *
+       * <code>repeated string parties = 3;</code>
+       * @return A list containing the parties.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getPartiesList() {
+        parties_.makeImmutable();
+        return parties_;
+      }
+      /**
+       * <pre>
+       * Joined entities.
+       * e.g. [CompanyA, CompanyB]
+       * </pre>
+       *
+       * <code>repeated string parties = 3;</code>
+       * @return The count of parties.
+       */
+      public int getPartiesCount() {
+        return parties_.size();
+      }
+      /**
+       * <pre>
+       * Joined entities.
+       * e.g. [CompanyA, CompanyB]
+       * </pre>
+       *
+       * <code>repeated string parties = 3;</code>
+       * @param index The index of the element to return.
+       * @return The parties at the given index.
+       */
+      public java.lang.String getParties(int index) {
+        return parties_.get(index);
+      }
+      /**
+       * <pre>
+       * Joined entities.
+       * e.g. [CompanyA, CompanyB]
+       * </pre>
+       *
+       * <code>repeated string parties = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the parties at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getPartiesBytes(int index) {
+        return parties_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * Joined entities.
+       * e.g. [CompanyA, CompanyB]
+       * </pre>
+       *
+       * <code>repeated string parties = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The parties to set.
+       * @return This builder for chaining.
+       */
+      public Builder setParties(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensurePartiesIsMutable();
+        parties_.set(index, value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Joined entities.
+       * e.g. [CompanyA, CompanyB]
+       * </pre>
+       *
+       * <code>repeated string parties = 3;</code>
+       * @param value The parties to add.
+       * @return This builder for chaining.
+       */
+      public Builder addParties(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensurePartiesIsMutable();
+        parties_.add(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Joined entities.
+       * e.g. [CompanyA, CompanyB]
+       * </pre>
+       *
+       * <code>repeated string parties = 3;</code>
+       * @param values The parties to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllParties(
+          java.lang.Iterable<java.lang.String> values) {
+        ensurePartiesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, parties_);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Joined entities.
+       * e.g. [CompanyA, CompanyB]
+       * </pre>
+       *
+       * <code>repeated string parties = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearParties() {
+        parties_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Joined entities.
+       * e.g. [CompanyA, CompanyB]
+       * </pre>
+       *
+       * <code>repeated string parties = 3;</code>
+       * @param value The bytes of the parties to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPartiesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensurePartiesIsMutable();
+        parties_.add(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc> devices_ =
+        java.util.Collections.emptyList();
+      private void ensureDevicesIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          devices_ = new java.util.ArrayList<org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc>(devices_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc, org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc.Builder, org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDescOrBuilder> devicesBuilder_;
+
+      /**
+       * <pre>
+       * Description of secret devices
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc> getDevicesList() {
+        if (devicesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(devices_);
+        } else {
+          return devicesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Description of secret devices
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+       */
+      public int getDevicesCount() {
+        if (devicesBuilder_ == null) {
+          return devices_.size();
+        } else {
+          return devicesBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Description of secret devices
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+       */
+      public org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc getDevices(int index) {
+        if (devicesBuilder_ == null) {
+          return devices_.get(index);
+        } else {
+          return devicesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Description of secret devices
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+       */
+      public Builder setDevices(
+          int index, org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc value) {
+        if (devicesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDevicesIsMutable();
+          devices_.set(index, value);
+          onChanged();
+        } else {
+          devicesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Description of secret devices
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+       */
+      public Builder setDevices(
+          int index, org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc.Builder builderForValue) {
+        if (devicesBuilder_ == null) {
+          ensureDevicesIsMutable();
+          devices_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          devicesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Description of secret devices
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+       */
+      public Builder addDevices(org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc value) {
+        if (devicesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDevicesIsMutable();
+          devices_.add(value);
+          onChanged();
+        } else {
+          devicesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Description of secret devices
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+       */
+      public Builder addDevices(
+          int index, org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc value) {
+        if (devicesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDevicesIsMutable();
+          devices_.add(index, value);
+          onChanged();
+        } else {
+          devicesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Description of secret devices
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+       */
+      public Builder addDevices(
+          org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc.Builder builderForValue) {
+        if (devicesBuilder_ == null) {
+          ensureDevicesIsMutable();
+          devices_.add(builderForValue.build());
+          onChanged();
+        } else {
+          devicesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Description of secret devices
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+       */
+      public Builder addDevices(
+          int index, org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc.Builder builderForValue) {
+        if (devicesBuilder_ == null) {
+          ensureDevicesIsMutable();
+          devices_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          devicesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Description of secret devices
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+       */
+      public Builder addAllDevices(
+          java.lang.Iterable<? extends org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc> values) {
+        if (devicesBuilder_ == null) {
+          ensureDevicesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, devices_);
+          onChanged();
+        } else {
+          devicesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Description of secret devices
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+       */
+      public Builder clearDevices() {
+        if (devicesBuilder_ == null) {
+          devices_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          devicesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Description of secret devices
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+       */
+      public Builder removeDevices(int index) {
+        if (devicesBuilder_ == null) {
+          ensureDevicesIsMutable();
+          devices_.remove(index);
+          onChanged();
+        } else {
+          devicesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Description of secret devices
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+       */
+      public org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc.Builder getDevicesBuilder(
+          int index) {
+        return getDevicesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * Description of secret devices
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+       */
+      public org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDescOrBuilder getDevicesOrBuilder(
+          int index) {
+        if (devicesBuilder_ == null) {
+          return devices_.get(index);  } else {
+          return devicesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * Description of secret devices
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDescOrBuilder> 
+           getDevicesOrBuilderList() {
+        if (devicesBuilder_ != null) {
+          return devicesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(devices_);
+        }
+      }
+      /**
+       * <pre>
+       * Description of secret devices
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+       */
+      public org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc.Builder addDevicesBuilder() {
+        return getDevicesFieldBuilder().addBuilder(
+            org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Description of secret devices
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+       */
+      public org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc.Builder addDevicesBuilder(
+          int index) {
+        return getDevicesFieldBuilder().addBuilder(
+            index, org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Description of secret devices
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.SFClusterDesc.DeviceDesc devices = 4;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc.Builder> 
+           getDevicesBuilderList() {
+        return getDevicesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc, org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc.Builder, org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDescOrBuilder> 
+          getDevicesFieldBuilder() {
+        if (devicesBuilder_ == null) {
+          devicesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc, org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDesc.Builder, org.secretflow.proto.component.Cluster.SFClusterDesc.DeviceDescOrBuilder>(
+                  devices_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          devices_ = null;
+        }
+        return devicesBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.component.SFClusterDesc)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.component.SFClusterDesc)
+    private static final org.secretflow.proto.component.Cluster.SFClusterDesc DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.component.Cluster.SFClusterDesc();
+    }
+
+    public static org.secretflow.proto.component.Cluster.SFClusterDesc getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SFClusterDesc>
+        PARSER = new com.google.protobuf.AbstractParser<SFClusterDesc>() {
+      @java.lang.Override
+      public SFClusterDesc parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<SFClusterDesc> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SFClusterDesc> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.component.Cluster.SFClusterDesc getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface StorageConfigOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.component.StorageConfig)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * supported: local_fs
+     * </pre>
+     *
+     * <code>string type = 1;</code>
+     * @return The type.
+     */
+    java.lang.String getType();
+    /**
+     * <pre>
+     * supported: local_fs
+     * </pre>
+     *
+     * <code>string type = 1;</code>
+     * @return The bytes for type.
+     */
+    com.google.protobuf.ByteString
+        getTypeBytes();
+
+    /**
+     * <pre>
+     * local_fs
+     * </pre>
+     *
+     * <code>.secretflow.component.StorageConfig.LocalFSConfig local_fs = 2;</code>
+     * @return Whether the localFs field is set.
+     */
+    boolean hasLocalFs();
+    /**
+     * <pre>
+     * local_fs
+     * </pre>
+     *
+     * <code>.secretflow.component.StorageConfig.LocalFSConfig local_fs = 2;</code>
+     * @return The localFs.
+     */
+    org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig getLocalFs();
+    /**
+     * <pre>
+     * local_fs
+     * </pre>
+     *
+     * <code>.secretflow.component.StorageConfig.LocalFSConfig local_fs = 2;</code>
+     */
+    org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfigOrBuilder getLocalFsOrBuilder();
+  }
+  /**
+   * <pre>
+   * A StorageConfig is the root for all data for one party.
+   * For security reasons, you have to put the a JSON format of config at
+   * .sf_storage file at each node for each party in production.
+   * </pre>
+   *
+   * Protobuf type {@code secretflow.component.StorageConfig}
+   */
+  public static final class StorageConfig extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.component.StorageConfig)
+      StorageConfigOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use StorageConfig.newBuilder() to construct.
+    private StorageConfig(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private StorageConfig() {
+      type_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new StorageConfig();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_StorageConfig_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_StorageConfig_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.component.Cluster.StorageConfig.class, org.secretflow.proto.component.Cluster.StorageConfig.Builder.class);
+    }
+
+    public interface LocalFSConfigOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:secretflow.component.StorageConfig.LocalFSConfig)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <pre>
+       * working directory
+       * </pre>
+       *
+       * <code>string wd = 1;</code>
+       * @return The wd.
+       */
+      java.lang.String getWd();
+      /**
+       * <pre>
+       * working directory
+       * </pre>
+       *
+       * <code>string wd = 1;</code>
+       * @return The bytes for wd.
+       */
+      com.google.protobuf.ByteString
+          getWdBytes();
+    }
+    /**
+     * Protobuf type {@code secretflow.component.StorageConfig.LocalFSConfig}
+     */
+    public static final class LocalFSConfig extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:secretflow.component.StorageConfig.LocalFSConfig)
+        LocalFSConfigOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use LocalFSConfig.newBuilder() to construct.
+      private LocalFSConfig(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private LocalFSConfig() {
+        wd_ = "";
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new LocalFSConfig();
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_StorageConfig_LocalFSConfig_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_StorageConfig_LocalFSConfig_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig.class, org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig.Builder.class);
+      }
+
+      public static final int WD_FIELD_NUMBER = 1;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object wd_ = "";
+      /**
+       * <pre>
+       * working directory
+       * </pre>
+       *
+       * <code>string wd = 1;</code>
+       * @return The wd.
+       */
+      @java.lang.Override
+      public java.lang.String getWd() {
+        java.lang.Object ref = wd_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          wd_ = s;
+          return s;
+        }
+      }
+      /**
+       * <pre>
+       * working directory
+       * </pre>
+       *
+       * <code>string wd = 1;</code>
+       * @return The bytes for wd.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getWdBytes() {
+        java.lang.Object ref = wd_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          wd_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(wd_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, wd_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(wd_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, wd_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig)) {
+          return super.equals(obj);
+        }
+        org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig other = (org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig) obj;
+
+        if (!getWd()
+            .equals(other.getWd())) return false;
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + WD_FIELD_NUMBER;
+        hash = (53 * hash) + getWd().hashCode();
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code secretflow.component.StorageConfig.LocalFSConfig}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:secretflow.component.StorageConfig.LocalFSConfig)
+          org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfigOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_StorageConfig_LocalFSConfig_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_StorageConfig_LocalFSConfig_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig.class, org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig.Builder.class);
+        }
+
+        // Construct using org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          wd_ = "";
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_StorageConfig_LocalFSConfig_descriptor;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig getDefaultInstanceForType() {
+          return org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig build() {
+          org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig buildPartial() {
+          org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig result = new org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig(this);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartial0(org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.wd_ = wd_;
+          }
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig) {
+            return mergeFrom((org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig other) {
+          if (other == org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig.getDefaultInstance()) return this;
+          if (!other.getWd().isEmpty()) {
+            wd_ = other.wd_;
+            bitField0_ |= 0x00000001;
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 10: {
+                  wd_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 10
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object wd_ = "";
+        /**
+         * <pre>
+         * working directory
+         * </pre>
+         *
+         * <code>string wd = 1;</code>
+         * @return The wd.
+         */
+        public java.lang.String getWd() {
+          java.lang.Object ref = wd_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            wd_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <pre>
+         * working directory
+         * </pre>
+         *
+         * <code>string wd = 1;</code>
+         * @return The bytes for wd.
+         */
+        public com.google.protobuf.ByteString
+            getWdBytes() {
+          java.lang.Object ref = wd_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            wd_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <pre>
+         * working directory
+         * </pre>
+         *
+         * <code>string wd = 1;</code>
+         * @param value The wd to set.
+         * @return This builder for chaining.
+         */
+        public Builder setWd(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          wd_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * working directory
+         * </pre>
+         *
+         * <code>string wd = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearWd() {
+          wd_ = getDefaultInstance().getWd();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * working directory
+         * </pre>
+         *
+         * <code>string wd = 1;</code>
+         * @param value The bytes for wd to set.
+         * @return This builder for chaining.
+         */
+        public Builder setWdBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          wd_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:secretflow.component.StorageConfig.LocalFSConfig)
+      }
+
+      // @@protoc_insertion_point(class_scope:secretflow.component.StorageConfig.LocalFSConfig)
+      private static final org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig();
+      }
+
+      public static org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<LocalFSConfig>
+          PARSER = new com.google.protobuf.AbstractParser<LocalFSConfig>() {
+        @java.lang.Override
+        public LocalFSConfig parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<LocalFSConfig> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<LocalFSConfig> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object type_ = "";
+    /**
+     * <pre>
+     * supported: local_fs
+     * </pre>
+     *
+     * <code>string type = 1;</code>
+     * @return The type.
+     */
+    @java.lang.Override
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        type_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * supported: local_fs
+     * </pre>
+     *
+     * <code>string type = 1;</code>
+     * @return The bytes for type.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTypeBytes() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        type_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LOCAL_FS_FIELD_NUMBER = 2;
+    private org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig localFs_;
+    /**
+     * <pre>
+     * local_fs
+     * </pre>
+     *
+     * <code>.secretflow.component.StorageConfig.LocalFSConfig local_fs = 2;</code>
+     * @return Whether the localFs field is set.
+     */
+    @java.lang.Override
+    public boolean hasLocalFs() {
+      return localFs_ != null;
+    }
+    /**
+     * <pre>
+     * local_fs
+     * </pre>
+     *
+     * <code>.secretflow.component.StorageConfig.LocalFSConfig local_fs = 2;</code>
+     * @return The localFs.
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig getLocalFs() {
+      return localFs_ == null ? org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig.getDefaultInstance() : localFs_;
+    }
+    /**
+     * <pre>
+     * local_fs
+     * </pre>
+     *
+     * <code>.secretflow.component.StorageConfig.LocalFSConfig local_fs = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfigOrBuilder getLocalFsOrBuilder() {
+      return localFs_ == null ? org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig.getDefaultInstance() : localFs_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(type_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, type_);
+      }
+      if (localFs_ != null) {
+        output.writeMessage(2, getLocalFs());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(type_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, type_);
+      }
+      if (localFs_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getLocalFs());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.component.Cluster.StorageConfig)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.component.Cluster.StorageConfig other = (org.secretflow.proto.component.Cluster.StorageConfig) obj;
+
+      if (!getType()
+          .equals(other.getType())) return false;
+      if (hasLocalFs() != other.hasLocalFs()) return false;
+      if (hasLocalFs()) {
+        if (!getLocalFs()
+            .equals(other.getLocalFs())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getType().hashCode();
+      if (hasLocalFs()) {
+        hash = (37 * hash) + LOCAL_FS_FIELD_NUMBER;
+        hash = (53 * hash) + getLocalFs().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.component.Cluster.StorageConfig parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Cluster.StorageConfig parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Cluster.StorageConfig parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Cluster.StorageConfig parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Cluster.StorageConfig parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Cluster.StorageConfig parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Cluster.StorageConfig parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Cluster.StorageConfig parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Cluster.StorageConfig parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Cluster.StorageConfig parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Cluster.StorageConfig parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Cluster.StorageConfig parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.component.Cluster.StorageConfig prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * A StorageConfig is the root for all data for one party.
+     * For security reasons, you have to put the a JSON format of config at
+     * .sf_storage file at each node for each party in production.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.StorageConfig}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.component.StorageConfig)
+        org.secretflow.proto.component.Cluster.StorageConfigOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_StorageConfig_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_StorageConfig_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Cluster.StorageConfig.class, org.secretflow.proto.component.Cluster.StorageConfig.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.component.Cluster.StorageConfig.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        type_ = "";
+        localFs_ = null;
+        if (localFsBuilder_ != null) {
+          localFsBuilder_.dispose();
+          localFsBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_StorageConfig_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Cluster.StorageConfig getDefaultInstanceForType() {
+        return org.secretflow.proto.component.Cluster.StorageConfig.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Cluster.StorageConfig build() {
+        org.secretflow.proto.component.Cluster.StorageConfig result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Cluster.StorageConfig buildPartial() {
+        org.secretflow.proto.component.Cluster.StorageConfig result = new org.secretflow.proto.component.Cluster.StorageConfig(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.proto.component.Cluster.StorageConfig result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.type_ = type_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.localFs_ = localFsBuilder_ == null
+              ? localFs_
+              : localFsBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.component.Cluster.StorageConfig) {
+          return mergeFrom((org.secretflow.proto.component.Cluster.StorageConfig)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.component.Cluster.StorageConfig other) {
+        if (other == org.secretflow.proto.component.Cluster.StorageConfig.getDefaultInstance()) return this;
+        if (!other.getType().isEmpty()) {
+          type_ = other.type_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasLocalFs()) {
+          mergeLocalFs(other.getLocalFs());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                type_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getLocalFsFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object type_ = "";
+      /**
+       * <pre>
+       * supported: local_fs
+       * </pre>
+       *
+       * <code>string type = 1;</code>
+       * @return The type.
+       */
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          type_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * supported: local_fs
+       * </pre>
+       *
+       * <code>string type = 1;</code>
+       * @return The bytes for type.
+       */
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * supported: local_fs
+       * </pre>
+       *
+       * <code>string type = 1;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        type_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * supported: local_fs
+       * </pre>
+       *
+       * <code>string type = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        type_ = getDefaultInstance().getType();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * supported: local_fs
+       * </pre>
+       *
+       * <code>string type = 1;</code>
+       * @param value The bytes for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        type_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig localFs_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig, org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig.Builder, org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfigOrBuilder> localFsBuilder_;
+      /**
+       * <pre>
+       * local_fs
+       * </pre>
+       *
+       * <code>.secretflow.component.StorageConfig.LocalFSConfig local_fs = 2;</code>
+       * @return Whether the localFs field is set.
+       */
+      public boolean hasLocalFs() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <pre>
+       * local_fs
+       * </pre>
+       *
+       * <code>.secretflow.component.StorageConfig.LocalFSConfig local_fs = 2;</code>
+       * @return The localFs.
+       */
+      public org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig getLocalFs() {
+        if (localFsBuilder_ == null) {
+          return localFs_ == null ? org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig.getDefaultInstance() : localFs_;
+        } else {
+          return localFsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * local_fs
+       * </pre>
+       *
+       * <code>.secretflow.component.StorageConfig.LocalFSConfig local_fs = 2;</code>
+       */
+      public Builder setLocalFs(org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig value) {
+        if (localFsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          localFs_ = value;
+        } else {
+          localFsBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * local_fs
+       * </pre>
+       *
+       * <code>.secretflow.component.StorageConfig.LocalFSConfig local_fs = 2;</code>
+       */
+      public Builder setLocalFs(
+          org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig.Builder builderForValue) {
+        if (localFsBuilder_ == null) {
+          localFs_ = builderForValue.build();
+        } else {
+          localFsBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * local_fs
+       * </pre>
+       *
+       * <code>.secretflow.component.StorageConfig.LocalFSConfig local_fs = 2;</code>
+       */
+      public Builder mergeLocalFs(org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig value) {
+        if (localFsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            localFs_ != null &&
+            localFs_ != org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig.getDefaultInstance()) {
+            getLocalFsBuilder().mergeFrom(value);
+          } else {
+            localFs_ = value;
+          }
+        } else {
+          localFsBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * local_fs
+       * </pre>
+       *
+       * <code>.secretflow.component.StorageConfig.LocalFSConfig local_fs = 2;</code>
+       */
+      public Builder clearLocalFs() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        localFs_ = null;
+        if (localFsBuilder_ != null) {
+          localFsBuilder_.dispose();
+          localFsBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * local_fs
+       * </pre>
+       *
+       * <code>.secretflow.component.StorageConfig.LocalFSConfig local_fs = 2;</code>
+       */
+      public org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig.Builder getLocalFsBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getLocalFsFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * local_fs
+       * </pre>
+       *
+       * <code>.secretflow.component.StorageConfig.LocalFSConfig local_fs = 2;</code>
+       */
+      public org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfigOrBuilder getLocalFsOrBuilder() {
+        if (localFsBuilder_ != null) {
+          return localFsBuilder_.getMessageOrBuilder();
+        } else {
+          return localFs_ == null ?
+              org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig.getDefaultInstance() : localFs_;
+        }
+      }
+      /**
+       * <pre>
+       * local_fs
+       * </pre>
+       *
+       * <code>.secretflow.component.StorageConfig.LocalFSConfig local_fs = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig, org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig.Builder, org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfigOrBuilder> 
+          getLocalFsFieldBuilder() {
+        if (localFsBuilder_ == null) {
+          localFsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig, org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfig.Builder, org.secretflow.proto.component.Cluster.StorageConfig.LocalFSConfigOrBuilder>(
+                  getLocalFs(),
+                  getParentForChildren(),
+                  isClean());
+          localFs_ = null;
+        }
+        return localFsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.component.StorageConfig)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.component.StorageConfig)
+    private static final org.secretflow.proto.component.Cluster.StorageConfig DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.component.Cluster.StorageConfig();
+    }
+
+    public static org.secretflow.proto.component.Cluster.StorageConfig getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<StorageConfig>
+        PARSER = new com.google.protobuf.AbstractParser<StorageConfig>() {
+      @java.lang.Override
+      public StorageConfig parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<StorageConfig> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<StorageConfig> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.component.Cluster.StorageConfig getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SFClusterConfigOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.component.SFClusterConfig)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.secretflow.component.SFClusterDesc desc = 1;</code>
+     * @return Whether the desc field is set.
+     */
+    boolean hasDesc();
+    /**
+     * <code>.secretflow.component.SFClusterDesc desc = 1;</code>
+     * @return The desc.
+     */
+    org.secretflow.proto.component.Cluster.SFClusterDesc getDesc();
+    /**
+     * <code>.secretflow.component.SFClusterDesc desc = 1;</code>
+     */
+    org.secretflow.proto.component.Cluster.SFClusterDescOrBuilder getDescOrBuilder();
+
+    /**
+     * <code>.secretflow.component.SFClusterConfig.PublicConfig public_config = 2;</code>
+     * @return Whether the publicConfig field is set.
+     */
+    boolean hasPublicConfig();
+    /**
+     * <code>.secretflow.component.SFClusterConfig.PublicConfig public_config = 2;</code>
+     * @return The publicConfig.
+     */
+    org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig getPublicConfig();
+    /**
+     * <code>.secretflow.component.SFClusterConfig.PublicConfig public_config = 2;</code>
+     */
+    org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfigOrBuilder getPublicConfigOrBuilder();
+
+    /**
+     * <code>.secretflow.component.SFClusterConfig.PrivateConfig private_config = 3;</code>
+     * @return Whether the privateConfig field is set.
+     */
+    boolean hasPrivateConfig();
+    /**
+     * <code>.secretflow.component.SFClusterConfig.PrivateConfig private_config = 3;</code>
+     * @return The privateConfig.
+     */
+    org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig getPrivateConfig();
+    /**
+     * <code>.secretflow.component.SFClusterConfig.PrivateConfig private_config = 3;</code>
+     */
+    org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfigOrBuilder getPrivateConfigOrBuilder();
+  }
+  /**
+   * <pre>
+   * Runtime Config for a SecretFlow cluster.
+   * </pre>
+   *
+   * Protobuf type {@code secretflow.component.SFClusterConfig}
+   */
+  public static final class SFClusterConfig extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.component.SFClusterConfig)
+      SFClusterConfigOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SFClusterConfig.newBuilder() to construct.
+    private SFClusterConfig(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SFClusterConfig() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SFClusterConfig();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.component.Cluster.SFClusterConfig.class, org.secretflow.proto.component.Cluster.SFClusterConfig.Builder.class);
+    }
+
+    public interface RayFedConfigOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:secretflow.component.SFClusterConfig.RayFedConfig)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>repeated string parties = 1;</code>
+       * @return A list containing the parties.
+       */
+      java.util.List<java.lang.String>
+          getPartiesList();
+      /**
+       * <code>repeated string parties = 1;</code>
+       * @return The count of parties.
+       */
+      int getPartiesCount();
+      /**
+       * <code>repeated string parties = 1;</code>
+       * @param index The index of the element to return.
+       * @return The parties at the given index.
+       */
+      java.lang.String getParties(int index);
+      /**
+       * <code>repeated string parties = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the parties at the given index.
+       */
+      com.google.protobuf.ByteString
+          getPartiesBytes(int index);
+
+      /**
+       * <code>repeated string addresses = 2;</code>
+       * @return A list containing the addresses.
+       */
+      java.util.List<java.lang.String>
+          getAddressesList();
+      /**
+       * <code>repeated string addresses = 2;</code>
+       * @return The count of addresses.
+       */
+      int getAddressesCount();
+      /**
+       * <code>repeated string addresses = 2;</code>
+       * @param index The index of the element to return.
+       * @return The addresses at the given index.
+       */
+      java.lang.String getAddresses(int index);
+      /**
+       * <code>repeated string addresses = 2;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the addresses at the given index.
+       */
+      com.google.protobuf.ByteString
+          getAddressesBytes(int index);
+
+      /**
+       * <code>repeated string listen_addresses = 3;</code>
+       * @return A list containing the listenAddresses.
+       */
+      java.util.List<java.lang.String>
+          getListenAddressesList();
+      /**
+       * <code>repeated string listen_addresses = 3;</code>
+       * @return The count of listenAddresses.
+       */
+      int getListenAddressesCount();
+      /**
+       * <code>repeated string listen_addresses = 3;</code>
+       * @param index The index of the element to return.
+       * @return The listenAddresses at the given index.
+       */
+      java.lang.String getListenAddresses(int index);
+      /**
+       * <code>repeated string listen_addresses = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the listenAddresses at the given index.
+       */
+      com.google.protobuf.ByteString
+          getListenAddressesBytes(int index);
+    }
+    /**
+     * <pre>
+     * Contains addresses for a RayFed cluster.
+     * Each party should own an address.
+     * Only for production mode.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.SFClusterConfig.RayFedConfig}
+     */
+    public static final class RayFedConfig extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:secretflow.component.SFClusterConfig.RayFedConfig)
+        RayFedConfigOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use RayFedConfig.newBuilder() to construct.
+      private RayFedConfig(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private RayFedConfig() {
+        parties_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        addresses_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        listenAddresses_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new RayFedConfig();
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_RayFedConfig_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_RayFedConfig_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig.class, org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig.Builder.class);
+      }
+
+      public static final int PARTIES_FIELD_NUMBER = 1;
+      @SuppressWarnings("serial")
+      private com.google.protobuf.LazyStringArrayList parties_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      /**
+       * <code>repeated string parties = 1;</code>
+       * @return A list containing the parties.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getPartiesList() {
+        return parties_;
+      }
+      /**
+       * <code>repeated string parties = 1;</code>
+       * @return The count of parties.
+       */
+      public int getPartiesCount() {
+        return parties_.size();
+      }
+      /**
+       * <code>repeated string parties = 1;</code>
+       * @param index The index of the element to return.
+       * @return The parties at the given index.
+       */
+      public java.lang.String getParties(int index) {
+        return parties_.get(index);
+      }
+      /**
+       * <code>repeated string parties = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the parties at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getPartiesBytes(int index) {
+        return parties_.getByteString(index);
+      }
+
+      public static final int ADDRESSES_FIELD_NUMBER = 2;
+      @SuppressWarnings("serial")
+      private com.google.protobuf.LazyStringArrayList addresses_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      /**
+       * <code>repeated string addresses = 2;</code>
+       * @return A list containing the addresses.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getAddressesList() {
+        return addresses_;
+      }
+      /**
+       * <code>repeated string addresses = 2;</code>
+       * @return The count of addresses.
+       */
+      public int getAddressesCount() {
+        return addresses_.size();
+      }
+      /**
+       * <code>repeated string addresses = 2;</code>
+       * @param index The index of the element to return.
+       * @return The addresses at the given index.
+       */
+      public java.lang.String getAddresses(int index) {
+        return addresses_.get(index);
+      }
+      /**
+       * <code>repeated string addresses = 2;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the addresses at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getAddressesBytes(int index) {
+        return addresses_.getByteString(index);
+      }
+
+      public static final int LISTEN_ADDRESSES_FIELD_NUMBER = 3;
+      @SuppressWarnings("serial")
+      private com.google.protobuf.LazyStringArrayList listenAddresses_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      /**
+       * <code>repeated string listen_addresses = 3;</code>
+       * @return A list containing the listenAddresses.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getListenAddressesList() {
+        return listenAddresses_;
+      }
+      /**
+       * <code>repeated string listen_addresses = 3;</code>
+       * @return The count of listenAddresses.
+       */
+      public int getListenAddressesCount() {
+        return listenAddresses_.size();
+      }
+      /**
+       * <code>repeated string listen_addresses = 3;</code>
+       * @param index The index of the element to return.
+       * @return The listenAddresses at the given index.
+       */
+      public java.lang.String getListenAddresses(int index) {
+        return listenAddresses_.get(index);
+      }
+      /**
+       * <code>repeated string listen_addresses = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the listenAddresses at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getListenAddressesBytes(int index) {
+        return listenAddresses_.getByteString(index);
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        for (int i = 0; i < parties_.size(); i++) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, parties_.getRaw(i));
+        }
+        for (int i = 0; i < addresses_.size(); i++) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 2, addresses_.getRaw(i));
+        }
+        for (int i = 0; i < listenAddresses_.size(); i++) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 3, listenAddresses_.getRaw(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        {
+          int dataSize = 0;
+          for (int i = 0; i < parties_.size(); i++) {
+            dataSize += computeStringSizeNoTag(parties_.getRaw(i));
+          }
+          size += dataSize;
+          size += 1 * getPartiesList().size();
+        }
+        {
+          int dataSize = 0;
+          for (int i = 0; i < addresses_.size(); i++) {
+            dataSize += computeStringSizeNoTag(addresses_.getRaw(i));
+          }
+          size += dataSize;
+          size += 1 * getAddressesList().size();
+        }
+        {
+          int dataSize = 0;
+          for (int i = 0; i < listenAddresses_.size(); i++) {
+            dataSize += computeStringSizeNoTag(listenAddresses_.getRaw(i));
+          }
+          size += dataSize;
+          size += 1 * getListenAddressesList().size();
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig)) {
+          return super.equals(obj);
+        }
+        org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig other = (org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig) obj;
+
+        if (!getPartiesList()
+            .equals(other.getPartiesList())) return false;
+        if (!getAddressesList()
+            .equals(other.getAddressesList())) return false;
+        if (!getListenAddressesList()
+            .equals(other.getListenAddressesList())) return false;
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        if (getPartiesCount() > 0) {
+          hash = (37 * hash) + PARTIES_FIELD_NUMBER;
+          hash = (53 * hash) + getPartiesList().hashCode();
+        }
+        if (getAddressesCount() > 0) {
+          hash = (37 * hash) + ADDRESSES_FIELD_NUMBER;
+          hash = (53 * hash) + getAddressesList().hashCode();
+        }
+        if (getListenAddressesCount() > 0) {
+          hash = (37 * hash) + LISTEN_ADDRESSES_FIELD_NUMBER;
+          hash = (53 * hash) + getListenAddressesList().hashCode();
+        }
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * <pre>
+       * Contains addresses for a RayFed cluster.
+       * Each party should own an address.
+       * Only for production mode.
+       * </pre>
+       *
+       * Protobuf type {@code secretflow.component.SFClusterConfig.RayFedConfig}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:secretflow.component.SFClusterConfig.RayFedConfig)
+          org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfigOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_RayFedConfig_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_RayFedConfig_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig.class, org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig.Builder.class);
+        }
+
+        // Construct using org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          parties_ =
+              com.google.protobuf.LazyStringArrayList.emptyList();
+          addresses_ =
+              com.google.protobuf.LazyStringArrayList.emptyList();
+          listenAddresses_ =
+              com.google.protobuf.LazyStringArrayList.emptyList();
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_RayFedConfig_descriptor;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig getDefaultInstanceForType() {
+          return org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig build() {
+          org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig buildPartial() {
+          org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig result = new org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig(this);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartial0(org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            parties_.makeImmutable();
+            result.parties_ = parties_;
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            addresses_.makeImmutable();
+            result.addresses_ = addresses_;
+          }
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            listenAddresses_.makeImmutable();
+            result.listenAddresses_ = listenAddresses_;
+          }
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig) {
+            return mergeFrom((org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig other) {
+          if (other == org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig.getDefaultInstance()) return this;
+          if (!other.parties_.isEmpty()) {
+            if (parties_.isEmpty()) {
+              parties_ = other.parties_;
+              bitField0_ |= 0x00000001;
+            } else {
+              ensurePartiesIsMutable();
+              parties_.addAll(other.parties_);
+            }
+            onChanged();
+          }
+          if (!other.addresses_.isEmpty()) {
+            if (addresses_.isEmpty()) {
+              addresses_ = other.addresses_;
+              bitField0_ |= 0x00000002;
+            } else {
+              ensureAddressesIsMutable();
+              addresses_.addAll(other.addresses_);
+            }
+            onChanged();
+          }
+          if (!other.listenAddresses_.isEmpty()) {
+            if (listenAddresses_.isEmpty()) {
+              listenAddresses_ = other.listenAddresses_;
+              bitField0_ |= 0x00000004;
+            } else {
+              ensureListenAddressesIsMutable();
+              listenAddresses_.addAll(other.listenAddresses_);
+            }
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 10: {
+                  java.lang.String s = input.readStringRequireUtf8();
+                  ensurePartiesIsMutable();
+                  parties_.add(s);
+                  break;
+                } // case 10
+                case 18: {
+                  java.lang.String s = input.readStringRequireUtf8();
+                  ensureAddressesIsMutable();
+                  addresses_.add(s);
+                  break;
+                } // case 18
+                case 26: {
+                  java.lang.String s = input.readStringRequireUtf8();
+                  ensureListenAddressesIsMutable();
+                  listenAddresses_.add(s);
+                  break;
+                } // case 26
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private com.google.protobuf.LazyStringArrayList parties_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        private void ensurePartiesIsMutable() {
+          if (!parties_.isModifiable()) {
+            parties_ = new com.google.protobuf.LazyStringArrayList(parties_);
+          }
+          bitField0_ |= 0x00000001;
+        }
+        /**
+         * <code>repeated string parties = 1;</code>
+         * @return A list containing the parties.
+         */
+        public com.google.protobuf.ProtocolStringList
+            getPartiesList() {
+          parties_.makeImmutable();
+          return parties_;
+        }
+        /**
+         * <code>repeated string parties = 1;</code>
+         * @return The count of parties.
+         */
+        public int getPartiesCount() {
+          return parties_.size();
+        }
+        /**
+         * <code>repeated string parties = 1;</code>
+         * @param index The index of the element to return.
+         * @return The parties at the given index.
+         */
+        public java.lang.String getParties(int index) {
+          return parties_.get(index);
+        }
+        /**
+         * <code>repeated string parties = 1;</code>
+         * @param index The index of the value to return.
+         * @return The bytes of the parties at the given index.
+         */
+        public com.google.protobuf.ByteString
+            getPartiesBytes(int index) {
+          return parties_.getByteString(index);
+        }
+        /**
+         * <code>repeated string parties = 1;</code>
+         * @param index The index to set the value at.
+         * @param value The parties to set.
+         * @return This builder for chaining.
+         */
+        public Builder setParties(
+            int index, java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          ensurePartiesIsMutable();
+          parties_.set(index, value);
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string parties = 1;</code>
+         * @param value The parties to add.
+         * @return This builder for chaining.
+         */
+        public Builder addParties(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          ensurePartiesIsMutable();
+          parties_.add(value);
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string parties = 1;</code>
+         * @param values The parties to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAllParties(
+            java.lang.Iterable<java.lang.String> values) {
+          ensurePartiesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, parties_);
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string parties = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearParties() {
+          parties_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string parties = 1;</code>
+         * @param value The bytes of the parties to add.
+         * @return This builder for chaining.
+         */
+        public Builder addPartiesBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          ensurePartiesIsMutable();
+          parties_.add(value);
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+
+        private com.google.protobuf.LazyStringArrayList addresses_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        private void ensureAddressesIsMutable() {
+          if (!addresses_.isModifiable()) {
+            addresses_ = new com.google.protobuf.LazyStringArrayList(addresses_);
+          }
+          bitField0_ |= 0x00000002;
+        }
+        /**
+         * <code>repeated string addresses = 2;</code>
+         * @return A list containing the addresses.
+         */
+        public com.google.protobuf.ProtocolStringList
+            getAddressesList() {
+          addresses_.makeImmutable();
+          return addresses_;
+        }
+        /**
+         * <code>repeated string addresses = 2;</code>
+         * @return The count of addresses.
+         */
+        public int getAddressesCount() {
+          return addresses_.size();
+        }
+        /**
+         * <code>repeated string addresses = 2;</code>
+         * @param index The index of the element to return.
+         * @return The addresses at the given index.
+         */
+        public java.lang.String getAddresses(int index) {
+          return addresses_.get(index);
+        }
+        /**
+         * <code>repeated string addresses = 2;</code>
+         * @param index The index of the value to return.
+         * @return The bytes of the addresses at the given index.
+         */
+        public com.google.protobuf.ByteString
+            getAddressesBytes(int index) {
+          return addresses_.getByteString(index);
+        }
+        /**
+         * <code>repeated string addresses = 2;</code>
+         * @param index The index to set the value at.
+         * @param value The addresses to set.
+         * @return This builder for chaining.
+         */
+        public Builder setAddresses(
+            int index, java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          ensureAddressesIsMutable();
+          addresses_.set(index, value);
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string addresses = 2;</code>
+         * @param value The addresses to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAddresses(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          ensureAddressesIsMutable();
+          addresses_.add(value);
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string addresses = 2;</code>
+         * @param values The addresses to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAllAddresses(
+            java.lang.Iterable<java.lang.String> values) {
+          ensureAddressesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, addresses_);
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string addresses = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearAddresses() {
+          addresses_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string addresses = 2;</code>
+         * @param value The bytes of the addresses to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAddressesBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          ensureAddressesIsMutable();
+          addresses_.add(value);
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+
+        private com.google.protobuf.LazyStringArrayList listenAddresses_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        private void ensureListenAddressesIsMutable() {
+          if (!listenAddresses_.isModifiable()) {
+            listenAddresses_ = new com.google.protobuf.LazyStringArrayList(listenAddresses_);
+          }
+          bitField0_ |= 0x00000004;
+        }
+        /**
+         * <code>repeated string listen_addresses = 3;</code>
+         * @return A list containing the listenAddresses.
+         */
+        public com.google.protobuf.ProtocolStringList
+            getListenAddressesList() {
+          listenAddresses_.makeImmutable();
+          return listenAddresses_;
+        }
+        /**
+         * <code>repeated string listen_addresses = 3;</code>
+         * @return The count of listenAddresses.
+         */
+        public int getListenAddressesCount() {
+          return listenAddresses_.size();
+        }
+        /**
+         * <code>repeated string listen_addresses = 3;</code>
+         * @param index The index of the element to return.
+         * @return The listenAddresses at the given index.
+         */
+        public java.lang.String getListenAddresses(int index) {
+          return listenAddresses_.get(index);
+        }
+        /**
+         * <code>repeated string listen_addresses = 3;</code>
+         * @param index The index of the value to return.
+         * @return The bytes of the listenAddresses at the given index.
+         */
+        public com.google.protobuf.ByteString
+            getListenAddressesBytes(int index) {
+          return listenAddresses_.getByteString(index);
+        }
+        /**
+         * <code>repeated string listen_addresses = 3;</code>
+         * @param index The index to set the value at.
+         * @param value The listenAddresses to set.
+         * @return This builder for chaining.
+         */
+        public Builder setListenAddresses(
+            int index, java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          ensureListenAddressesIsMutable();
+          listenAddresses_.set(index, value);
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string listen_addresses = 3;</code>
+         * @param value The listenAddresses to add.
+         * @return This builder for chaining.
+         */
+        public Builder addListenAddresses(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          ensureListenAddressesIsMutable();
+          listenAddresses_.add(value);
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string listen_addresses = 3;</code>
+         * @param values The listenAddresses to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAllListenAddresses(
+            java.lang.Iterable<java.lang.String> values) {
+          ensureListenAddressesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, listenAddresses_);
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string listen_addresses = 3;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearListenAddresses() {
+          listenAddresses_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string listen_addresses = 3;</code>
+         * @param value The bytes of the listenAddresses to add.
+         * @return This builder for chaining.
+         */
+        public Builder addListenAddressesBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          ensureListenAddressesIsMutable();
+          listenAddresses_.add(value);
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:secretflow.component.SFClusterConfig.RayFedConfig)
+      }
+
+      // @@protoc_insertion_point(class_scope:secretflow.component.SFClusterConfig.RayFedConfig)
+      private static final org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig();
+      }
+
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<RayFedConfig>
+          PARSER = new com.google.protobuf.AbstractParser<RayFedConfig>() {
+        @java.lang.Override
+        public RayFedConfig parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<RayFedConfig> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<RayFedConfig> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public interface SPUConfigOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:secretflow.component.SFClusterConfig.SPUConfig)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      java.lang.String getName();
+      /**
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
+
+      /**
+       * <code>repeated string parties = 2;</code>
+       * @return A list containing the parties.
+       */
+      java.util.List<java.lang.String>
+          getPartiesList();
+      /**
+       * <code>repeated string parties = 2;</code>
+       * @return The count of parties.
+       */
+      int getPartiesCount();
+      /**
+       * <code>repeated string parties = 2;</code>
+       * @param index The index of the element to return.
+       * @return The parties at the given index.
+       */
+      java.lang.String getParties(int index);
+      /**
+       * <code>repeated string parties = 2;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the parties at the given index.
+       */
+      com.google.protobuf.ByteString
+          getPartiesBytes(int index);
+
+      /**
+       * <code>repeated string addresses = 3;</code>
+       * @return A list containing the addresses.
+       */
+      java.util.List<java.lang.String>
+          getAddressesList();
+      /**
+       * <code>repeated string addresses = 3;</code>
+       * @return The count of addresses.
+       */
+      int getAddressesCount();
+      /**
+       * <code>repeated string addresses = 3;</code>
+       * @param index The index of the element to return.
+       * @return The addresses at the given index.
+       */
+      java.lang.String getAddresses(int index);
+      /**
+       * <code>repeated string addresses = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the addresses at the given index.
+       */
+      com.google.protobuf.ByteString
+          getAddressesBytes(int index);
+
+      /**
+       * <code>repeated string listen_addresses = 4;</code>
+       * @return A list containing the listenAddresses.
+       */
+      java.util.List<java.lang.String>
+          getListenAddressesList();
+      /**
+       * <code>repeated string listen_addresses = 4;</code>
+       * @return The count of listenAddresses.
+       */
+      int getListenAddressesCount();
+      /**
+       * <code>repeated string listen_addresses = 4;</code>
+       * @param index The index of the element to return.
+       * @return The listenAddresses at the given index.
+       */
+      java.lang.String getListenAddresses(int index);
+      /**
+       * <code>repeated string listen_addresses = 4;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the listenAddresses at the given index.
+       */
+      com.google.protobuf.ByteString
+          getListenAddressesBytes(int index);
+    }
+    /**
+     * <pre>
+     * Contains addresses for a SPU device.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.SFClusterConfig.SPUConfig}
+     */
+    public static final class SPUConfig extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:secretflow.component.SFClusterConfig.SPUConfig)
+        SPUConfigOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use SPUConfig.newBuilder() to construct.
+      private SPUConfig(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private SPUConfig() {
+        name_ = "";
+        parties_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        addresses_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        listenAddresses_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new SPUConfig();
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_SPUConfig_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_SPUConfig_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig.class, org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig.Builder.class);
+      }
+
+      public static final int NAME_FIELD_NUMBER = 1;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object name_ = "";
+      /**
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      @java.lang.Override
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int PARTIES_FIELD_NUMBER = 2;
+      @SuppressWarnings("serial")
+      private com.google.protobuf.LazyStringArrayList parties_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      /**
+       * <code>repeated string parties = 2;</code>
+       * @return A list containing the parties.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getPartiesList() {
+        return parties_;
+      }
+      /**
+       * <code>repeated string parties = 2;</code>
+       * @return The count of parties.
+       */
+      public int getPartiesCount() {
+        return parties_.size();
+      }
+      /**
+       * <code>repeated string parties = 2;</code>
+       * @param index The index of the element to return.
+       * @return The parties at the given index.
+       */
+      public java.lang.String getParties(int index) {
+        return parties_.get(index);
+      }
+      /**
+       * <code>repeated string parties = 2;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the parties at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getPartiesBytes(int index) {
+        return parties_.getByteString(index);
+      }
+
+      public static final int ADDRESSES_FIELD_NUMBER = 3;
+      @SuppressWarnings("serial")
+      private com.google.protobuf.LazyStringArrayList addresses_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      /**
+       * <code>repeated string addresses = 3;</code>
+       * @return A list containing the addresses.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getAddressesList() {
+        return addresses_;
+      }
+      /**
+       * <code>repeated string addresses = 3;</code>
+       * @return The count of addresses.
+       */
+      public int getAddressesCount() {
+        return addresses_.size();
+      }
+      /**
+       * <code>repeated string addresses = 3;</code>
+       * @param index The index of the element to return.
+       * @return The addresses at the given index.
+       */
+      public java.lang.String getAddresses(int index) {
+        return addresses_.get(index);
+      }
+      /**
+       * <code>repeated string addresses = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the addresses at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getAddressesBytes(int index) {
+        return addresses_.getByteString(index);
+      }
+
+      public static final int LISTEN_ADDRESSES_FIELD_NUMBER = 4;
+      @SuppressWarnings("serial")
+      private com.google.protobuf.LazyStringArrayList listenAddresses_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      /**
+       * <code>repeated string listen_addresses = 4;</code>
+       * @return A list containing the listenAddresses.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getListenAddressesList() {
+        return listenAddresses_;
+      }
+      /**
+       * <code>repeated string listen_addresses = 4;</code>
+       * @return The count of listenAddresses.
+       */
+      public int getListenAddressesCount() {
+        return listenAddresses_.size();
+      }
+      /**
+       * <code>repeated string listen_addresses = 4;</code>
+       * @param index The index of the element to return.
+       * @return The listenAddresses at the given index.
+       */
+      public java.lang.String getListenAddresses(int index) {
+        return listenAddresses_.get(index);
+      }
+      /**
+       * <code>repeated string listen_addresses = 4;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the listenAddresses at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getListenAddressesBytes(int index) {
+        return listenAddresses_.getByteString(index);
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+        }
+        for (int i = 0; i < parties_.size(); i++) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 2, parties_.getRaw(i));
+        }
+        for (int i = 0; i < addresses_.size(); i++) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 3, addresses_.getRaw(i));
+        }
+        for (int i = 0; i < listenAddresses_.size(); i++) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 4, listenAddresses_.getRaw(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+        }
+        {
+          int dataSize = 0;
+          for (int i = 0; i < parties_.size(); i++) {
+            dataSize += computeStringSizeNoTag(parties_.getRaw(i));
+          }
+          size += dataSize;
+          size += 1 * getPartiesList().size();
+        }
+        {
+          int dataSize = 0;
+          for (int i = 0; i < addresses_.size(); i++) {
+            dataSize += computeStringSizeNoTag(addresses_.getRaw(i));
+          }
+          size += dataSize;
+          size += 1 * getAddressesList().size();
+        }
+        {
+          int dataSize = 0;
+          for (int i = 0; i < listenAddresses_.size(); i++) {
+            dataSize += computeStringSizeNoTag(listenAddresses_.getRaw(i));
+          }
+          size += dataSize;
+          size += 1 * getListenAddressesList().size();
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig)) {
+          return super.equals(obj);
+        }
+        org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig other = (org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig) obj;
+
+        if (!getName()
+            .equals(other.getName())) return false;
+        if (!getPartiesList()
+            .equals(other.getPartiesList())) return false;
+        if (!getAddressesList()
+            .equals(other.getAddressesList())) return false;
+        if (!getListenAddressesList()
+            .equals(other.getListenAddressesList())) return false;
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getName().hashCode();
+        if (getPartiesCount() > 0) {
+          hash = (37 * hash) + PARTIES_FIELD_NUMBER;
+          hash = (53 * hash) + getPartiesList().hashCode();
+        }
+        if (getAddressesCount() > 0) {
+          hash = (37 * hash) + ADDRESSES_FIELD_NUMBER;
+          hash = (53 * hash) + getAddressesList().hashCode();
+        }
+        if (getListenAddressesCount() > 0) {
+          hash = (37 * hash) + LISTEN_ADDRESSES_FIELD_NUMBER;
+          hash = (53 * hash) + getListenAddressesList().hashCode();
+        }
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * <pre>
+       * Contains addresses for a SPU device.
+       * </pre>
+       *
+       * Protobuf type {@code secretflow.component.SFClusterConfig.SPUConfig}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:secretflow.component.SFClusterConfig.SPUConfig)
+          org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfigOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_SPUConfig_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_SPUConfig_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig.class, org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig.Builder.class);
+        }
+
+        // Construct using org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          name_ = "";
+          parties_ =
+              com.google.protobuf.LazyStringArrayList.emptyList();
+          addresses_ =
+              com.google.protobuf.LazyStringArrayList.emptyList();
+          listenAddresses_ =
+              com.google.protobuf.LazyStringArrayList.emptyList();
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_SPUConfig_descriptor;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig getDefaultInstanceForType() {
+          return org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig build() {
+          org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig buildPartial() {
+          org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig result = new org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig(this);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartial0(org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.name_ = name_;
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            parties_.makeImmutable();
+            result.parties_ = parties_;
+          }
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            addresses_.makeImmutable();
+            result.addresses_ = addresses_;
+          }
+          if (((from_bitField0_ & 0x00000008) != 0)) {
+            listenAddresses_.makeImmutable();
+            result.listenAddresses_ = listenAddresses_;
+          }
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig) {
+            return mergeFrom((org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig other) {
+          if (other == org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig.getDefaultInstance()) return this;
+          if (!other.getName().isEmpty()) {
+            name_ = other.name_;
+            bitField0_ |= 0x00000001;
+            onChanged();
+          }
+          if (!other.parties_.isEmpty()) {
+            if (parties_.isEmpty()) {
+              parties_ = other.parties_;
+              bitField0_ |= 0x00000002;
+            } else {
+              ensurePartiesIsMutable();
+              parties_.addAll(other.parties_);
+            }
+            onChanged();
+          }
+          if (!other.addresses_.isEmpty()) {
+            if (addresses_.isEmpty()) {
+              addresses_ = other.addresses_;
+              bitField0_ |= 0x00000004;
+            } else {
+              ensureAddressesIsMutable();
+              addresses_.addAll(other.addresses_);
+            }
+            onChanged();
+          }
+          if (!other.listenAddresses_.isEmpty()) {
+            if (listenAddresses_.isEmpty()) {
+              listenAddresses_ = other.listenAddresses_;
+              bitField0_ |= 0x00000008;
+            } else {
+              ensureListenAddressesIsMutable();
+              listenAddresses_.addAll(other.listenAddresses_);
+            }
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 10: {
+                  name_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 10
+                case 18: {
+                  java.lang.String s = input.readStringRequireUtf8();
+                  ensurePartiesIsMutable();
+                  parties_.add(s);
+                  break;
+                } // case 18
+                case 26: {
+                  java.lang.String s = input.readStringRequireUtf8();
+                  ensureAddressesIsMutable();
+                  addresses_.add(s);
+                  break;
+                } // case 26
+                case 34: {
+                  java.lang.String s = input.readStringRequireUtf8();
+                  ensureListenAddressesIsMutable();
+                  listenAddresses_.add(s);
+                  break;
+                } // case 34
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object name_ = "";
+        /**
+         * <code>string name = 1;</code>
+         * @return The name.
+         */
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            name_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string name = 1;</code>
+         * @return The bytes for name.
+         */
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string name = 1;</code>
+         * @param value The name to set.
+         * @return This builder for chaining.
+         */
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          name_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string name = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearName() {
+          name_ = getDefaultInstance().getName();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string name = 1;</code>
+         * @param value The bytes for name to set.
+         * @return This builder for chaining.
+         */
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          name_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+
+        private com.google.protobuf.LazyStringArrayList parties_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        private void ensurePartiesIsMutable() {
+          if (!parties_.isModifiable()) {
+            parties_ = new com.google.protobuf.LazyStringArrayList(parties_);
+          }
+          bitField0_ |= 0x00000002;
+        }
+        /**
+         * <code>repeated string parties = 2;</code>
+         * @return A list containing the parties.
+         */
+        public com.google.protobuf.ProtocolStringList
+            getPartiesList() {
+          parties_.makeImmutable();
+          return parties_;
+        }
+        /**
+         * <code>repeated string parties = 2;</code>
+         * @return The count of parties.
+         */
+        public int getPartiesCount() {
+          return parties_.size();
+        }
+        /**
+         * <code>repeated string parties = 2;</code>
+         * @param index The index of the element to return.
+         * @return The parties at the given index.
+         */
+        public java.lang.String getParties(int index) {
+          return parties_.get(index);
+        }
+        /**
+         * <code>repeated string parties = 2;</code>
+         * @param index The index of the value to return.
+         * @return The bytes of the parties at the given index.
+         */
+        public com.google.protobuf.ByteString
+            getPartiesBytes(int index) {
+          return parties_.getByteString(index);
+        }
+        /**
+         * <code>repeated string parties = 2;</code>
+         * @param index The index to set the value at.
+         * @param value The parties to set.
+         * @return This builder for chaining.
+         */
+        public Builder setParties(
+            int index, java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          ensurePartiesIsMutable();
+          parties_.set(index, value);
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string parties = 2;</code>
+         * @param value The parties to add.
+         * @return This builder for chaining.
+         */
+        public Builder addParties(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          ensurePartiesIsMutable();
+          parties_.add(value);
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string parties = 2;</code>
+         * @param values The parties to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAllParties(
+            java.lang.Iterable<java.lang.String> values) {
+          ensurePartiesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, parties_);
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string parties = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearParties() {
+          parties_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string parties = 2;</code>
+         * @param value The bytes of the parties to add.
+         * @return This builder for chaining.
+         */
+        public Builder addPartiesBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          ensurePartiesIsMutable();
+          parties_.add(value);
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+
+        private com.google.protobuf.LazyStringArrayList addresses_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        private void ensureAddressesIsMutable() {
+          if (!addresses_.isModifiable()) {
+            addresses_ = new com.google.protobuf.LazyStringArrayList(addresses_);
+          }
+          bitField0_ |= 0x00000004;
+        }
+        /**
+         * <code>repeated string addresses = 3;</code>
+         * @return A list containing the addresses.
+         */
+        public com.google.protobuf.ProtocolStringList
+            getAddressesList() {
+          addresses_.makeImmutable();
+          return addresses_;
+        }
+        /**
+         * <code>repeated string addresses = 3;</code>
+         * @return The count of addresses.
+         */
+        public int getAddressesCount() {
+          return addresses_.size();
+        }
+        /**
+         * <code>repeated string addresses = 3;</code>
+         * @param index The index of the element to return.
+         * @return The addresses at the given index.
+         */
+        public java.lang.String getAddresses(int index) {
+          return addresses_.get(index);
+        }
+        /**
+         * <code>repeated string addresses = 3;</code>
+         * @param index The index of the value to return.
+         * @return The bytes of the addresses at the given index.
+         */
+        public com.google.protobuf.ByteString
+            getAddressesBytes(int index) {
+          return addresses_.getByteString(index);
+        }
+        /**
+         * <code>repeated string addresses = 3;</code>
+         * @param index The index to set the value at.
+         * @param value The addresses to set.
+         * @return This builder for chaining.
+         */
+        public Builder setAddresses(
+            int index, java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          ensureAddressesIsMutable();
+          addresses_.set(index, value);
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string addresses = 3;</code>
+         * @param value The addresses to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAddresses(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          ensureAddressesIsMutable();
+          addresses_.add(value);
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string addresses = 3;</code>
+         * @param values The addresses to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAllAddresses(
+            java.lang.Iterable<java.lang.String> values) {
+          ensureAddressesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, addresses_);
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string addresses = 3;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearAddresses() {
+          addresses_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string addresses = 3;</code>
+         * @param value The bytes of the addresses to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAddressesBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          ensureAddressesIsMutable();
+          addresses_.add(value);
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+
+        private com.google.protobuf.LazyStringArrayList listenAddresses_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        private void ensureListenAddressesIsMutable() {
+          if (!listenAddresses_.isModifiable()) {
+            listenAddresses_ = new com.google.protobuf.LazyStringArrayList(listenAddresses_);
+          }
+          bitField0_ |= 0x00000008;
+        }
+        /**
+         * <code>repeated string listen_addresses = 4;</code>
+         * @return A list containing the listenAddresses.
+         */
+        public com.google.protobuf.ProtocolStringList
+            getListenAddressesList() {
+          listenAddresses_.makeImmutable();
+          return listenAddresses_;
+        }
+        /**
+         * <code>repeated string listen_addresses = 4;</code>
+         * @return The count of listenAddresses.
+         */
+        public int getListenAddressesCount() {
+          return listenAddresses_.size();
+        }
+        /**
+         * <code>repeated string listen_addresses = 4;</code>
+         * @param index The index of the element to return.
+         * @return The listenAddresses at the given index.
+         */
+        public java.lang.String getListenAddresses(int index) {
+          return listenAddresses_.get(index);
+        }
+        /**
+         * <code>repeated string listen_addresses = 4;</code>
+         * @param index The index of the value to return.
+         * @return The bytes of the listenAddresses at the given index.
+         */
+        public com.google.protobuf.ByteString
+            getListenAddressesBytes(int index) {
+          return listenAddresses_.getByteString(index);
+        }
+        /**
+         * <code>repeated string listen_addresses = 4;</code>
+         * @param index The index to set the value at.
+         * @param value The listenAddresses to set.
+         * @return This builder for chaining.
+         */
+        public Builder setListenAddresses(
+            int index, java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          ensureListenAddressesIsMutable();
+          listenAddresses_.set(index, value);
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string listen_addresses = 4;</code>
+         * @param value The listenAddresses to add.
+         * @return This builder for chaining.
+         */
+        public Builder addListenAddresses(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          ensureListenAddressesIsMutable();
+          listenAddresses_.add(value);
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string listen_addresses = 4;</code>
+         * @param values The listenAddresses to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAllListenAddresses(
+            java.lang.Iterable<java.lang.String> values) {
+          ensureListenAddressesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, listenAddresses_);
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string listen_addresses = 4;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearListenAddresses() {
+          listenAddresses_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string listen_addresses = 4;</code>
+         * @param value The bytes of the listenAddresses to add.
+         * @return This builder for chaining.
+         */
+        public Builder addListenAddressesBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          ensureListenAddressesIsMutable();
+          listenAddresses_.add(value);
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:secretflow.component.SFClusterConfig.SPUConfig)
+      }
+
+      // @@protoc_insertion_point(class_scope:secretflow.component.SFClusterConfig.SPUConfig)
+      private static final org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig();
+      }
+
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<SPUConfig>
+          PARSER = new com.google.protobuf.AbstractParser<SPUConfig>() {
+        @java.lang.Override
+        public SPUConfig parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<SPUConfig> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<SPUConfig> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public interface PublicConfigOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:secretflow.component.SFClusterConfig.PublicConfig)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>.secretflow.component.SFClusterConfig.RayFedConfig rayfed_config = 1;</code>
+       * @return Whether the rayfedConfig field is set.
+       */
+      boolean hasRayfedConfig();
+      /**
+       * <code>.secretflow.component.SFClusterConfig.RayFedConfig rayfed_config = 1;</code>
+       * @return The rayfedConfig.
+       */
+      org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig getRayfedConfig();
+      /**
+       * <code>.secretflow.component.SFClusterConfig.RayFedConfig rayfed_config = 1;</code>
+       */
+      org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfigOrBuilder getRayfedConfigOrBuilder();
+
+      /**
+       * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+       */
+      java.util.List<org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig> 
+          getSpuConfigsList();
+      /**
+       * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+       */
+      org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig getSpuConfigs(int index);
+      /**
+       * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+       */
+      int getSpuConfigsCount();
+      /**
+       * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+       */
+      java.util.List<? extends org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfigOrBuilder> 
+          getSpuConfigsOrBuilderList();
+      /**
+       * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+       */
+      org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfigOrBuilder getSpuConfigsOrBuilder(
+          int index);
+    }
+    /**
+     * <pre>
+     * Public and shared to all parties.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.SFClusterConfig.PublicConfig}
+     */
+    public static final class PublicConfig extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:secretflow.component.SFClusterConfig.PublicConfig)
+        PublicConfigOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use PublicConfig.newBuilder() to construct.
+      private PublicConfig(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private PublicConfig() {
+        spuConfigs_ = java.util.Collections.emptyList();
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new PublicConfig();
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_PublicConfig_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_PublicConfig_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig.class, org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig.Builder.class);
+      }
+
+      public static final int RAYFED_CONFIG_FIELD_NUMBER = 1;
+      private org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig rayfedConfig_;
+      /**
+       * <code>.secretflow.component.SFClusterConfig.RayFedConfig rayfed_config = 1;</code>
+       * @return Whether the rayfedConfig field is set.
+       */
+      @java.lang.Override
+      public boolean hasRayfedConfig() {
+        return rayfedConfig_ != null;
+      }
+      /**
+       * <code>.secretflow.component.SFClusterConfig.RayFedConfig rayfed_config = 1;</code>
+       * @return The rayfedConfig.
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig getRayfedConfig() {
+        return rayfedConfig_ == null ? org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig.getDefaultInstance() : rayfedConfig_;
+      }
+      /**
+       * <code>.secretflow.component.SFClusterConfig.RayFedConfig rayfed_config = 1;</code>
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfigOrBuilder getRayfedConfigOrBuilder() {
+        return rayfedConfig_ == null ? org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig.getDefaultInstance() : rayfedConfig_;
+      }
+
+      public static final int SPU_CONFIGS_FIELD_NUMBER = 2;
+      @SuppressWarnings("serial")
+      private java.util.List<org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig> spuConfigs_;
+      /**
+       * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+       */
+      @java.lang.Override
+      public java.util.List<org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig> getSpuConfigsList() {
+        return spuConfigs_;
+      }
+      /**
+       * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+       */
+      @java.lang.Override
+      public java.util.List<? extends org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfigOrBuilder> 
+          getSpuConfigsOrBuilderList() {
+        return spuConfigs_;
+      }
+      /**
+       * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+       */
+      @java.lang.Override
+      public int getSpuConfigsCount() {
+        return spuConfigs_.size();
+      }
+      /**
+       * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig getSpuConfigs(int index) {
+        return spuConfigs_.get(index);
+      }
+      /**
+       * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfigOrBuilder getSpuConfigsOrBuilder(
+          int index) {
+        return spuConfigs_.get(index);
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (rayfedConfig_ != null) {
+          output.writeMessage(1, getRayfedConfig());
+        }
+        for (int i = 0; i < spuConfigs_.size(); i++) {
+          output.writeMessage(2, spuConfigs_.get(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (rayfedConfig_ != null) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(1, getRayfedConfig());
+        }
+        for (int i = 0; i < spuConfigs_.size(); i++) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(2, spuConfigs_.get(i));
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig)) {
+          return super.equals(obj);
+        }
+        org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig other = (org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig) obj;
+
+        if (hasRayfedConfig() != other.hasRayfedConfig()) return false;
+        if (hasRayfedConfig()) {
+          if (!getRayfedConfig()
+              .equals(other.getRayfedConfig())) return false;
+        }
+        if (!getSpuConfigsList()
+            .equals(other.getSpuConfigsList())) return false;
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        if (hasRayfedConfig()) {
+          hash = (37 * hash) + RAYFED_CONFIG_FIELD_NUMBER;
+          hash = (53 * hash) + getRayfedConfig().hashCode();
+        }
+        if (getSpuConfigsCount() > 0) {
+          hash = (37 * hash) + SPU_CONFIGS_FIELD_NUMBER;
+          hash = (53 * hash) + getSpuConfigsList().hashCode();
+        }
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * <pre>
+       * Public and shared to all parties.
+       * </pre>
+       *
+       * Protobuf type {@code secretflow.component.SFClusterConfig.PublicConfig}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:secretflow.component.SFClusterConfig.PublicConfig)
+          org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfigOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_PublicConfig_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_PublicConfig_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig.class, org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig.Builder.class);
+        }
+
+        // Construct using org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          rayfedConfig_ = null;
+          if (rayfedConfigBuilder_ != null) {
+            rayfedConfigBuilder_.dispose();
+            rayfedConfigBuilder_ = null;
+          }
+          if (spuConfigsBuilder_ == null) {
+            spuConfigs_ = java.util.Collections.emptyList();
+          } else {
+            spuConfigs_ = null;
+            spuConfigsBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000002);
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_PublicConfig_descriptor;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig getDefaultInstanceForType() {
+          return org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig build() {
+          org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig buildPartial() {
+          org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig result = new org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig(this);
+          buildPartialRepeatedFields(result);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartialRepeatedFields(org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig result) {
+          if (spuConfigsBuilder_ == null) {
+            if (((bitField0_ & 0x00000002) != 0)) {
+              spuConfigs_ = java.util.Collections.unmodifiableList(spuConfigs_);
+              bitField0_ = (bitField0_ & ~0x00000002);
+            }
+            result.spuConfigs_ = spuConfigs_;
+          } else {
+            result.spuConfigs_ = spuConfigsBuilder_.build();
+          }
+        }
+
+        private void buildPartial0(org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.rayfedConfig_ = rayfedConfigBuilder_ == null
+                ? rayfedConfig_
+                : rayfedConfigBuilder_.build();
+          }
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig) {
+            return mergeFrom((org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig other) {
+          if (other == org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig.getDefaultInstance()) return this;
+          if (other.hasRayfedConfig()) {
+            mergeRayfedConfig(other.getRayfedConfig());
+          }
+          if (spuConfigsBuilder_ == null) {
+            if (!other.spuConfigs_.isEmpty()) {
+              if (spuConfigs_.isEmpty()) {
+                spuConfigs_ = other.spuConfigs_;
+                bitField0_ = (bitField0_ & ~0x00000002);
+              } else {
+                ensureSpuConfigsIsMutable();
+                spuConfigs_.addAll(other.spuConfigs_);
+              }
+              onChanged();
+            }
+          } else {
+            if (!other.spuConfigs_.isEmpty()) {
+              if (spuConfigsBuilder_.isEmpty()) {
+                spuConfigsBuilder_.dispose();
+                spuConfigsBuilder_ = null;
+                spuConfigs_ = other.spuConfigs_;
+                bitField0_ = (bitField0_ & ~0x00000002);
+                spuConfigsBuilder_ = 
+                  com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                     getSpuConfigsFieldBuilder() : null;
+              } else {
+                spuConfigsBuilder_.addAllMessages(other.spuConfigs_);
+              }
+            }
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 10: {
+                  input.readMessage(
+                      getRayfedConfigFieldBuilder().getBuilder(),
+                      extensionRegistry);
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 10
+                case 18: {
+                  org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig m =
+                      input.readMessage(
+                          org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig.parser(),
+                          extensionRegistry);
+                  if (spuConfigsBuilder_ == null) {
+                    ensureSpuConfigsIsMutable();
+                    spuConfigs_.add(m);
+                  } else {
+                    spuConfigsBuilder_.addMessage(m);
+                  }
+                  break;
+                } // case 18
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig rayfedConfig_;
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig, org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig.Builder, org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfigOrBuilder> rayfedConfigBuilder_;
+        /**
+         * <code>.secretflow.component.SFClusterConfig.RayFedConfig rayfed_config = 1;</code>
+         * @return Whether the rayfedConfig field is set.
+         */
+        public boolean hasRayfedConfig() {
+          return ((bitField0_ & 0x00000001) != 0);
+        }
+        /**
+         * <code>.secretflow.component.SFClusterConfig.RayFedConfig rayfed_config = 1;</code>
+         * @return The rayfedConfig.
+         */
+        public org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig getRayfedConfig() {
+          if (rayfedConfigBuilder_ == null) {
+            return rayfedConfig_ == null ? org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig.getDefaultInstance() : rayfedConfig_;
+          } else {
+            return rayfedConfigBuilder_.getMessage();
+          }
+        }
+        /**
+         * <code>.secretflow.component.SFClusterConfig.RayFedConfig rayfed_config = 1;</code>
+         */
+        public Builder setRayfedConfig(org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig value) {
+          if (rayfedConfigBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            rayfedConfig_ = value;
+          } else {
+            rayfedConfigBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.SFClusterConfig.RayFedConfig rayfed_config = 1;</code>
+         */
+        public Builder setRayfedConfig(
+            org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig.Builder builderForValue) {
+          if (rayfedConfigBuilder_ == null) {
+            rayfedConfig_ = builderForValue.build();
+          } else {
+            rayfedConfigBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.SFClusterConfig.RayFedConfig rayfed_config = 1;</code>
+         */
+        public Builder mergeRayfedConfig(org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig value) {
+          if (rayfedConfigBuilder_ == null) {
+            if (((bitField0_ & 0x00000001) != 0) &&
+              rayfedConfig_ != null &&
+              rayfedConfig_ != org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig.getDefaultInstance()) {
+              getRayfedConfigBuilder().mergeFrom(value);
+            } else {
+              rayfedConfig_ = value;
+            }
+          } else {
+            rayfedConfigBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.SFClusterConfig.RayFedConfig rayfed_config = 1;</code>
+         */
+        public Builder clearRayfedConfig() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          rayfedConfig_ = null;
+          if (rayfedConfigBuilder_ != null) {
+            rayfedConfigBuilder_.dispose();
+            rayfedConfigBuilder_ = null;
+          }
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.SFClusterConfig.RayFedConfig rayfed_config = 1;</code>
+         */
+        public org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig.Builder getRayfedConfigBuilder() {
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return getRayfedConfigFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>.secretflow.component.SFClusterConfig.RayFedConfig rayfed_config = 1;</code>
+         */
+        public org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfigOrBuilder getRayfedConfigOrBuilder() {
+          if (rayfedConfigBuilder_ != null) {
+            return rayfedConfigBuilder_.getMessageOrBuilder();
+          } else {
+            return rayfedConfig_ == null ?
+                org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig.getDefaultInstance() : rayfedConfig_;
+          }
+        }
+        /**
+         * <code>.secretflow.component.SFClusterConfig.RayFedConfig rayfed_config = 1;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig, org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig.Builder, org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfigOrBuilder> 
+            getRayfedConfigFieldBuilder() {
+          if (rayfedConfigBuilder_ == null) {
+            rayfedConfigBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig, org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfig.Builder, org.secretflow.proto.component.Cluster.SFClusterConfig.RayFedConfigOrBuilder>(
+                    getRayfedConfig(),
+                    getParentForChildren(),
+                    isClean());
+            rayfedConfig_ = null;
+          }
+          return rayfedConfigBuilder_;
+        }
+
+        private java.util.List<org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig> spuConfigs_ =
+          java.util.Collections.emptyList();
+        private void ensureSpuConfigsIsMutable() {
+          if (!((bitField0_ & 0x00000002) != 0)) {
+            spuConfigs_ = new java.util.ArrayList<org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig>(spuConfigs_);
+            bitField0_ |= 0x00000002;
+           }
+        }
+
+        private com.google.protobuf.RepeatedFieldBuilderV3<
+            org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig, org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig.Builder, org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfigOrBuilder> spuConfigsBuilder_;
+
+        /**
+         * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+         */
+        public java.util.List<org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig> getSpuConfigsList() {
+          if (spuConfigsBuilder_ == null) {
+            return java.util.Collections.unmodifiableList(spuConfigs_);
+          } else {
+            return spuConfigsBuilder_.getMessageList();
+          }
+        }
+        /**
+         * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+         */
+        public int getSpuConfigsCount() {
+          if (spuConfigsBuilder_ == null) {
+            return spuConfigs_.size();
+          } else {
+            return spuConfigsBuilder_.getCount();
+          }
+        }
+        /**
+         * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+         */
+        public org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig getSpuConfigs(int index) {
+          if (spuConfigsBuilder_ == null) {
+            return spuConfigs_.get(index);
+          } else {
+            return spuConfigsBuilder_.getMessage(index);
+          }
+        }
+        /**
+         * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+         */
+        public Builder setSpuConfigs(
+            int index, org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig value) {
+          if (spuConfigsBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureSpuConfigsIsMutable();
+            spuConfigs_.set(index, value);
+            onChanged();
+          } else {
+            spuConfigsBuilder_.setMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+         */
+        public Builder setSpuConfigs(
+            int index, org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig.Builder builderForValue) {
+          if (spuConfigsBuilder_ == null) {
+            ensureSpuConfigsIsMutable();
+            spuConfigs_.set(index, builderForValue.build());
+            onChanged();
+          } else {
+            spuConfigsBuilder_.setMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+         */
+        public Builder addSpuConfigs(org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig value) {
+          if (spuConfigsBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureSpuConfigsIsMutable();
+            spuConfigs_.add(value);
+            onChanged();
+          } else {
+            spuConfigsBuilder_.addMessage(value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+         */
+        public Builder addSpuConfigs(
+            int index, org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig value) {
+          if (spuConfigsBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureSpuConfigsIsMutable();
+            spuConfigs_.add(index, value);
+            onChanged();
+          } else {
+            spuConfigsBuilder_.addMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+         */
+        public Builder addSpuConfigs(
+            org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig.Builder builderForValue) {
+          if (spuConfigsBuilder_ == null) {
+            ensureSpuConfigsIsMutable();
+            spuConfigs_.add(builderForValue.build());
+            onChanged();
+          } else {
+            spuConfigsBuilder_.addMessage(builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+         */
+        public Builder addSpuConfigs(
+            int index, org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig.Builder builderForValue) {
+          if (spuConfigsBuilder_ == null) {
+            ensureSpuConfigsIsMutable();
+            spuConfigs_.add(index, builderForValue.build());
+            onChanged();
+          } else {
+            spuConfigsBuilder_.addMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+         */
+        public Builder addAllSpuConfigs(
+            java.lang.Iterable<? extends org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig> values) {
+          if (spuConfigsBuilder_ == null) {
+            ensureSpuConfigsIsMutable();
+            com.google.protobuf.AbstractMessageLite.Builder.addAll(
+                values, spuConfigs_);
+            onChanged();
+          } else {
+            spuConfigsBuilder_.addAllMessages(values);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+         */
+        public Builder clearSpuConfigs() {
+          if (spuConfigsBuilder_ == null) {
+            spuConfigs_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000002);
+            onChanged();
+          } else {
+            spuConfigsBuilder_.clear();
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+         */
+        public Builder removeSpuConfigs(int index) {
+          if (spuConfigsBuilder_ == null) {
+            ensureSpuConfigsIsMutable();
+            spuConfigs_.remove(index);
+            onChanged();
+          } else {
+            spuConfigsBuilder_.remove(index);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+         */
+        public org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig.Builder getSpuConfigsBuilder(
+            int index) {
+          return getSpuConfigsFieldBuilder().getBuilder(index);
+        }
+        /**
+         * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+         */
+        public org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfigOrBuilder getSpuConfigsOrBuilder(
+            int index) {
+          if (spuConfigsBuilder_ == null) {
+            return spuConfigs_.get(index);  } else {
+            return spuConfigsBuilder_.getMessageOrBuilder(index);
+          }
+        }
+        /**
+         * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+         */
+        public java.util.List<? extends org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfigOrBuilder> 
+             getSpuConfigsOrBuilderList() {
+          if (spuConfigsBuilder_ != null) {
+            return spuConfigsBuilder_.getMessageOrBuilderList();
+          } else {
+            return java.util.Collections.unmodifiableList(spuConfigs_);
+          }
+        }
+        /**
+         * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+         */
+        public org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig.Builder addSpuConfigsBuilder() {
+          return getSpuConfigsFieldBuilder().addBuilder(
+              org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+         */
+        public org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig.Builder addSpuConfigsBuilder(
+            int index) {
+          return getSpuConfigsFieldBuilder().addBuilder(
+              index, org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .secretflow.component.SFClusterConfig.SPUConfig spu_configs = 2;</code>
+         */
+        public java.util.List<org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig.Builder> 
+             getSpuConfigsBuilderList() {
+          return getSpuConfigsFieldBuilder().getBuilderList();
+        }
+        private com.google.protobuf.RepeatedFieldBuilderV3<
+            org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig, org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig.Builder, org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfigOrBuilder> 
+            getSpuConfigsFieldBuilder() {
+          if (spuConfigsBuilder_ == null) {
+            spuConfigsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+                org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig, org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfig.Builder, org.secretflow.proto.component.Cluster.SFClusterConfig.SPUConfigOrBuilder>(
+                    spuConfigs_,
+                    ((bitField0_ & 0x00000002) != 0),
+                    getParentForChildren(),
+                    isClean());
+            spuConfigs_ = null;
+          }
+          return spuConfigsBuilder_;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:secretflow.component.SFClusterConfig.PublicConfig)
+      }
+
+      // @@protoc_insertion_point(class_scope:secretflow.component.SFClusterConfig.PublicConfig)
+      private static final org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig();
+      }
+
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<PublicConfig>
+          PARSER = new com.google.protobuf.AbstractParser<PublicConfig>() {
+        @java.lang.Override
+        public PublicConfig parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<PublicConfig> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<PublicConfig> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public interface PrivateConfigOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:secretflow.component.SFClusterConfig.PrivateConfig)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>string self_party = 1;</code>
+       * @return The selfParty.
+       */
+      java.lang.String getSelfParty();
+      /**
+       * <code>string self_party = 1;</code>
+       * @return The bytes for selfParty.
+       */
+      com.google.protobuf.ByteString
+          getSelfPartyBytes();
+
+      /**
+       * <code>string ray_head_addr = 2;</code>
+       * @return The rayHeadAddr.
+       */
+      java.lang.String getRayHeadAddr();
+      /**
+       * <code>string ray_head_addr = 2;</code>
+       * @return The bytes for rayHeadAddr.
+       */
+      com.google.protobuf.ByteString
+          getRayHeadAddrBytes();
+
+      /**
+       * <code>.secretflow.component.StorageConfig storage_config = 3;</code>
+       * @return Whether the storageConfig field is set.
+       */
+      boolean hasStorageConfig();
+      /**
+       * <code>.secretflow.component.StorageConfig storage_config = 3;</code>
+       * @return The storageConfig.
+       */
+      org.secretflow.proto.component.Cluster.StorageConfig getStorageConfig();
+      /**
+       * <code>.secretflow.component.StorageConfig storage_config = 3;</code>
+       */
+      org.secretflow.proto.component.Cluster.StorageConfigOrBuilder getStorageConfigOrBuilder();
+    }
+    /**
+     * <pre>
+     * Different for each party.
+     * For production mode only.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.SFClusterConfig.PrivateConfig}
+     */
+    public static final class PrivateConfig extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:secretflow.component.SFClusterConfig.PrivateConfig)
+        PrivateConfigOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use PrivateConfig.newBuilder() to construct.
+      private PrivateConfig(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private PrivateConfig() {
+        selfParty_ = "";
+        rayHeadAddr_ = "";
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new PrivateConfig();
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_PrivateConfig_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_PrivateConfig_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig.class, org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig.Builder.class);
+      }
+
+      public static final int SELF_PARTY_FIELD_NUMBER = 1;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object selfParty_ = "";
+      /**
+       * <code>string self_party = 1;</code>
+       * @return The selfParty.
+       */
+      @java.lang.Override
+      public java.lang.String getSelfParty() {
+        java.lang.Object ref = selfParty_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          selfParty_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string self_party = 1;</code>
+       * @return The bytes for selfParty.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getSelfPartyBytes() {
+        java.lang.Object ref = selfParty_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          selfParty_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int RAY_HEAD_ADDR_FIELD_NUMBER = 2;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object rayHeadAddr_ = "";
+      /**
+       * <code>string ray_head_addr = 2;</code>
+       * @return The rayHeadAddr.
+       */
+      @java.lang.Override
+      public java.lang.String getRayHeadAddr() {
+        java.lang.Object ref = rayHeadAddr_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          rayHeadAddr_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string ray_head_addr = 2;</code>
+       * @return The bytes for rayHeadAddr.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getRayHeadAddrBytes() {
+        java.lang.Object ref = rayHeadAddr_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          rayHeadAddr_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int STORAGE_CONFIG_FIELD_NUMBER = 3;
+      private org.secretflow.proto.component.Cluster.StorageConfig storageConfig_;
+      /**
+       * <code>.secretflow.component.StorageConfig storage_config = 3;</code>
+       * @return Whether the storageConfig field is set.
+       */
+      @java.lang.Override
+      public boolean hasStorageConfig() {
+        return storageConfig_ != null;
+      }
+      /**
+       * <code>.secretflow.component.StorageConfig storage_config = 3;</code>
+       * @return The storageConfig.
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.Cluster.StorageConfig getStorageConfig() {
+        return storageConfig_ == null ? org.secretflow.proto.component.Cluster.StorageConfig.getDefaultInstance() : storageConfig_;
+      }
+      /**
+       * <code>.secretflow.component.StorageConfig storage_config = 3;</code>
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.Cluster.StorageConfigOrBuilder getStorageConfigOrBuilder() {
+        return storageConfig_ == null ? org.secretflow.proto.component.Cluster.StorageConfig.getDefaultInstance() : storageConfig_;
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(selfParty_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, selfParty_);
+        }
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(rayHeadAddr_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 2, rayHeadAddr_);
+        }
+        if (storageConfig_ != null) {
+          output.writeMessage(3, getStorageConfig());
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(selfParty_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, selfParty_);
+        }
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(rayHeadAddr_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, rayHeadAddr_);
+        }
+        if (storageConfig_ != null) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(3, getStorageConfig());
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig)) {
+          return super.equals(obj);
+        }
+        org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig other = (org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig) obj;
+
+        if (!getSelfParty()
+            .equals(other.getSelfParty())) return false;
+        if (!getRayHeadAddr()
+            .equals(other.getRayHeadAddr())) return false;
+        if (hasStorageConfig() != other.hasStorageConfig()) return false;
+        if (hasStorageConfig()) {
+          if (!getStorageConfig()
+              .equals(other.getStorageConfig())) return false;
+        }
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + SELF_PARTY_FIELD_NUMBER;
+        hash = (53 * hash) + getSelfParty().hashCode();
+        hash = (37 * hash) + RAY_HEAD_ADDR_FIELD_NUMBER;
+        hash = (53 * hash) + getRayHeadAddr().hashCode();
+        if (hasStorageConfig()) {
+          hash = (37 * hash) + STORAGE_CONFIG_FIELD_NUMBER;
+          hash = (53 * hash) + getStorageConfig().hashCode();
+        }
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * <pre>
+       * Different for each party.
+       * For production mode only.
+       * </pre>
+       *
+       * Protobuf type {@code secretflow.component.SFClusterConfig.PrivateConfig}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:secretflow.component.SFClusterConfig.PrivateConfig)
+          org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfigOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_PrivateConfig_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_PrivateConfig_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig.class, org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig.Builder.class);
+        }
+
+        // Construct using org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          selfParty_ = "";
+          rayHeadAddr_ = "";
+          storageConfig_ = null;
+          if (storageConfigBuilder_ != null) {
+            storageConfigBuilder_.dispose();
+            storageConfigBuilder_ = null;
+          }
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_PrivateConfig_descriptor;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig getDefaultInstanceForType() {
+          return org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig build() {
+          org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig buildPartial() {
+          org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig result = new org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig(this);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartial0(org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.selfParty_ = selfParty_;
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.rayHeadAddr_ = rayHeadAddr_;
+          }
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            result.storageConfig_ = storageConfigBuilder_ == null
+                ? storageConfig_
+                : storageConfigBuilder_.build();
+          }
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig) {
+            return mergeFrom((org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig other) {
+          if (other == org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig.getDefaultInstance()) return this;
+          if (!other.getSelfParty().isEmpty()) {
+            selfParty_ = other.selfParty_;
+            bitField0_ |= 0x00000001;
+            onChanged();
+          }
+          if (!other.getRayHeadAddr().isEmpty()) {
+            rayHeadAddr_ = other.rayHeadAddr_;
+            bitField0_ |= 0x00000002;
+            onChanged();
+          }
+          if (other.hasStorageConfig()) {
+            mergeStorageConfig(other.getStorageConfig());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 10: {
+                  selfParty_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 10
+                case 18: {
+                  rayHeadAddr_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000002;
+                  break;
+                } // case 18
+                case 26: {
+                  input.readMessage(
+                      getStorageConfigFieldBuilder().getBuilder(),
+                      extensionRegistry);
+                  bitField0_ |= 0x00000004;
+                  break;
+                } // case 26
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object selfParty_ = "";
+        /**
+         * <code>string self_party = 1;</code>
+         * @return The selfParty.
+         */
+        public java.lang.String getSelfParty() {
+          java.lang.Object ref = selfParty_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            selfParty_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string self_party = 1;</code>
+         * @return The bytes for selfParty.
+         */
+        public com.google.protobuf.ByteString
+            getSelfPartyBytes() {
+          java.lang.Object ref = selfParty_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            selfParty_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string self_party = 1;</code>
+         * @param value The selfParty to set.
+         * @return This builder for chaining.
+         */
+        public Builder setSelfParty(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          selfParty_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string self_party = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearSelfParty() {
+          selfParty_ = getDefaultInstance().getSelfParty();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string self_party = 1;</code>
+         * @param value The bytes for selfParty to set.
+         * @return This builder for chaining.
+         */
+        public Builder setSelfPartyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          selfParty_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object rayHeadAddr_ = "";
+        /**
+         * <code>string ray_head_addr = 2;</code>
+         * @return The rayHeadAddr.
+         */
+        public java.lang.String getRayHeadAddr() {
+          java.lang.Object ref = rayHeadAddr_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            rayHeadAddr_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string ray_head_addr = 2;</code>
+         * @return The bytes for rayHeadAddr.
+         */
+        public com.google.protobuf.ByteString
+            getRayHeadAddrBytes() {
+          java.lang.Object ref = rayHeadAddr_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            rayHeadAddr_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string ray_head_addr = 2;</code>
+         * @param value The rayHeadAddr to set.
+         * @return This builder for chaining.
+         */
+        public Builder setRayHeadAddr(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          rayHeadAddr_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string ray_head_addr = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearRayHeadAddr() {
+          rayHeadAddr_ = getDefaultInstance().getRayHeadAddr();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string ray_head_addr = 2;</code>
+         * @param value The bytes for rayHeadAddr to set.
+         * @return This builder for chaining.
+         */
+        public Builder setRayHeadAddrBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          rayHeadAddr_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+
+        private org.secretflow.proto.component.Cluster.StorageConfig storageConfig_;
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.secretflow.proto.component.Cluster.StorageConfig, org.secretflow.proto.component.Cluster.StorageConfig.Builder, org.secretflow.proto.component.Cluster.StorageConfigOrBuilder> storageConfigBuilder_;
+        /**
+         * <code>.secretflow.component.StorageConfig storage_config = 3;</code>
+         * @return Whether the storageConfig field is set.
+         */
+        public boolean hasStorageConfig() {
+          return ((bitField0_ & 0x00000004) != 0);
+        }
+        /**
+         * <code>.secretflow.component.StorageConfig storage_config = 3;</code>
+         * @return The storageConfig.
+         */
+        public org.secretflow.proto.component.Cluster.StorageConfig getStorageConfig() {
+          if (storageConfigBuilder_ == null) {
+            return storageConfig_ == null ? org.secretflow.proto.component.Cluster.StorageConfig.getDefaultInstance() : storageConfig_;
+          } else {
+            return storageConfigBuilder_.getMessage();
+          }
+        }
+        /**
+         * <code>.secretflow.component.StorageConfig storage_config = 3;</code>
+         */
+        public Builder setStorageConfig(org.secretflow.proto.component.Cluster.StorageConfig value) {
+          if (storageConfigBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            storageConfig_ = value;
+          } else {
+            storageConfigBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.StorageConfig storage_config = 3;</code>
+         */
+        public Builder setStorageConfig(
+            org.secretflow.proto.component.Cluster.StorageConfig.Builder builderForValue) {
+          if (storageConfigBuilder_ == null) {
+            storageConfig_ = builderForValue.build();
+          } else {
+            storageConfigBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.StorageConfig storage_config = 3;</code>
+         */
+        public Builder mergeStorageConfig(org.secretflow.proto.component.Cluster.StorageConfig value) {
+          if (storageConfigBuilder_ == null) {
+            if (((bitField0_ & 0x00000004) != 0) &&
+              storageConfig_ != null &&
+              storageConfig_ != org.secretflow.proto.component.Cluster.StorageConfig.getDefaultInstance()) {
+              getStorageConfigBuilder().mergeFrom(value);
+            } else {
+              storageConfig_ = value;
+            }
+          } else {
+            storageConfigBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.StorageConfig storage_config = 3;</code>
+         */
+        public Builder clearStorageConfig() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          storageConfig_ = null;
+          if (storageConfigBuilder_ != null) {
+            storageConfigBuilder_.dispose();
+            storageConfigBuilder_ = null;
+          }
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.StorageConfig storage_config = 3;</code>
+         */
+        public org.secretflow.proto.component.Cluster.StorageConfig.Builder getStorageConfigBuilder() {
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return getStorageConfigFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>.secretflow.component.StorageConfig storage_config = 3;</code>
+         */
+        public org.secretflow.proto.component.Cluster.StorageConfigOrBuilder getStorageConfigOrBuilder() {
+          if (storageConfigBuilder_ != null) {
+            return storageConfigBuilder_.getMessageOrBuilder();
+          } else {
+            return storageConfig_ == null ?
+                org.secretflow.proto.component.Cluster.StorageConfig.getDefaultInstance() : storageConfig_;
+          }
+        }
+        /**
+         * <code>.secretflow.component.StorageConfig storage_config = 3;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.secretflow.proto.component.Cluster.StorageConfig, org.secretflow.proto.component.Cluster.StorageConfig.Builder, org.secretflow.proto.component.Cluster.StorageConfigOrBuilder> 
+            getStorageConfigFieldBuilder() {
+          if (storageConfigBuilder_ == null) {
+            storageConfigBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                org.secretflow.proto.component.Cluster.StorageConfig, org.secretflow.proto.component.Cluster.StorageConfig.Builder, org.secretflow.proto.component.Cluster.StorageConfigOrBuilder>(
+                    getStorageConfig(),
+                    getParentForChildren(),
+                    isClean());
+            storageConfig_ = null;
+          }
+          return storageConfigBuilder_;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:secretflow.component.SFClusterConfig.PrivateConfig)
+      }
+
+      // @@protoc_insertion_point(class_scope:secretflow.component.SFClusterConfig.PrivateConfig)
+      private static final org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig();
+      }
+
+      public static org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<PrivateConfig>
+          PARSER = new com.google.protobuf.AbstractParser<PrivateConfig>() {
+        @java.lang.Override
+        public PrivateConfig parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<PrivateConfig> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<PrivateConfig> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public static final int DESC_FIELD_NUMBER = 1;
+    private org.secretflow.proto.component.Cluster.SFClusterDesc desc_;
+    /**
+     * <code>.secretflow.component.SFClusterDesc desc = 1;</code>
+     * @return Whether the desc field is set.
+     */
+    @java.lang.Override
+    public boolean hasDesc() {
+      return desc_ != null;
+    }
+    /**
+     * <code>.secretflow.component.SFClusterDesc desc = 1;</code>
+     * @return The desc.
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Cluster.SFClusterDesc getDesc() {
+      return desc_ == null ? org.secretflow.proto.component.Cluster.SFClusterDesc.getDefaultInstance() : desc_;
+    }
+    /**
+     * <code>.secretflow.component.SFClusterDesc desc = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Cluster.SFClusterDescOrBuilder getDescOrBuilder() {
+      return desc_ == null ? org.secretflow.proto.component.Cluster.SFClusterDesc.getDefaultInstance() : desc_;
+    }
+
+    public static final int PUBLIC_CONFIG_FIELD_NUMBER = 2;
+    private org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig publicConfig_;
+    /**
+     * <code>.secretflow.component.SFClusterConfig.PublicConfig public_config = 2;</code>
+     * @return Whether the publicConfig field is set.
+     */
+    @java.lang.Override
+    public boolean hasPublicConfig() {
+      return publicConfig_ != null;
+    }
+    /**
+     * <code>.secretflow.component.SFClusterConfig.PublicConfig public_config = 2;</code>
+     * @return The publicConfig.
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig getPublicConfig() {
+      return publicConfig_ == null ? org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig.getDefaultInstance() : publicConfig_;
+    }
+    /**
+     * <code>.secretflow.component.SFClusterConfig.PublicConfig public_config = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfigOrBuilder getPublicConfigOrBuilder() {
+      return publicConfig_ == null ? org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig.getDefaultInstance() : publicConfig_;
+    }
+
+    public static final int PRIVATE_CONFIG_FIELD_NUMBER = 3;
+    private org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig privateConfig_;
+    /**
+     * <code>.secretflow.component.SFClusterConfig.PrivateConfig private_config = 3;</code>
+     * @return Whether the privateConfig field is set.
+     */
+    @java.lang.Override
+    public boolean hasPrivateConfig() {
+      return privateConfig_ != null;
+    }
+    /**
+     * <code>.secretflow.component.SFClusterConfig.PrivateConfig private_config = 3;</code>
+     * @return The privateConfig.
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig getPrivateConfig() {
+      return privateConfig_ == null ? org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig.getDefaultInstance() : privateConfig_;
+    }
+    /**
+     * <code>.secretflow.component.SFClusterConfig.PrivateConfig private_config = 3;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfigOrBuilder getPrivateConfigOrBuilder() {
+      return privateConfig_ == null ? org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig.getDefaultInstance() : privateConfig_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (desc_ != null) {
+        output.writeMessage(1, getDesc());
+      }
+      if (publicConfig_ != null) {
+        output.writeMessage(2, getPublicConfig());
+      }
+      if (privateConfig_ != null) {
+        output.writeMessage(3, getPrivateConfig());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (desc_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getDesc());
+      }
+      if (publicConfig_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getPublicConfig());
+      }
+      if (privateConfig_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getPrivateConfig());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.component.Cluster.SFClusterConfig)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.component.Cluster.SFClusterConfig other = (org.secretflow.proto.component.Cluster.SFClusterConfig) obj;
+
+      if (hasDesc() != other.hasDesc()) return false;
+      if (hasDesc()) {
+        if (!getDesc()
+            .equals(other.getDesc())) return false;
+      }
+      if (hasPublicConfig() != other.hasPublicConfig()) return false;
+      if (hasPublicConfig()) {
+        if (!getPublicConfig()
+            .equals(other.getPublicConfig())) return false;
+      }
+      if (hasPrivateConfig() != other.hasPrivateConfig()) return false;
+      if (hasPrivateConfig()) {
+        if (!getPrivateConfig()
+            .equals(other.getPrivateConfig())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasDesc()) {
+        hash = (37 * hash) + DESC_FIELD_NUMBER;
+        hash = (53 * hash) + getDesc().hashCode();
+      }
+      if (hasPublicConfig()) {
+        hash = (37 * hash) + PUBLIC_CONFIG_FIELD_NUMBER;
+        hash = (53 * hash) + getPublicConfig().hashCode();
+      }
+      if (hasPrivateConfig()) {
+        hash = (37 * hash) + PRIVATE_CONFIG_FIELD_NUMBER;
+        hash = (53 * hash) + getPrivateConfig().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.component.Cluster.SFClusterConfig parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterConfig parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterConfig parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterConfig parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterConfig parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterConfig parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterConfig parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterConfig parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterConfig parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterConfig parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterConfig parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Cluster.SFClusterConfig parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.component.Cluster.SFClusterConfig prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Runtime Config for a SecretFlow cluster.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.SFClusterConfig}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.component.SFClusterConfig)
+        org.secretflow.proto.component.Cluster.SFClusterConfigOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Cluster.SFClusterConfig.class, org.secretflow.proto.component.Cluster.SFClusterConfig.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.component.Cluster.SFClusterConfig.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        desc_ = null;
+        if (descBuilder_ != null) {
+          descBuilder_.dispose();
+          descBuilder_ = null;
+        }
+        publicConfig_ = null;
+        if (publicConfigBuilder_ != null) {
+          publicConfigBuilder_.dispose();
+          publicConfigBuilder_ = null;
+        }
+        privateConfig_ = null;
+        if (privateConfigBuilder_ != null) {
+          privateConfigBuilder_.dispose();
+          privateConfigBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.component.Cluster.internal_static_secretflow_component_SFClusterConfig_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Cluster.SFClusterConfig getDefaultInstanceForType() {
+        return org.secretflow.proto.component.Cluster.SFClusterConfig.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Cluster.SFClusterConfig build() {
+        org.secretflow.proto.component.Cluster.SFClusterConfig result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Cluster.SFClusterConfig buildPartial() {
+        org.secretflow.proto.component.Cluster.SFClusterConfig result = new org.secretflow.proto.component.Cluster.SFClusterConfig(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.proto.component.Cluster.SFClusterConfig result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.desc_ = descBuilder_ == null
+              ? desc_
+              : descBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.publicConfig_ = publicConfigBuilder_ == null
+              ? publicConfig_
+              : publicConfigBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.privateConfig_ = privateConfigBuilder_ == null
+              ? privateConfig_
+              : privateConfigBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.component.Cluster.SFClusterConfig) {
+          return mergeFrom((org.secretflow.proto.component.Cluster.SFClusterConfig)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.component.Cluster.SFClusterConfig other) {
+        if (other == org.secretflow.proto.component.Cluster.SFClusterConfig.getDefaultInstance()) return this;
+        if (other.hasDesc()) {
+          mergeDesc(other.getDesc());
+        }
+        if (other.hasPublicConfig()) {
+          mergePublicConfig(other.getPublicConfig());
+        }
+        if (other.hasPrivateConfig()) {
+          mergePrivateConfig(other.getPrivateConfig());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getDescFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getPublicConfigFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                input.readMessage(
+                    getPrivateConfigFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.proto.component.Cluster.SFClusterDesc desc_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.proto.component.Cluster.SFClusterDesc, org.secretflow.proto.component.Cluster.SFClusterDesc.Builder, org.secretflow.proto.component.Cluster.SFClusterDescOrBuilder> descBuilder_;
+      /**
+       * <code>.secretflow.component.SFClusterDesc desc = 1;</code>
+       * @return Whether the desc field is set.
+       */
+      public boolean hasDesc() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.secretflow.component.SFClusterDesc desc = 1;</code>
+       * @return The desc.
+       */
+      public org.secretflow.proto.component.Cluster.SFClusterDesc getDesc() {
+        if (descBuilder_ == null) {
+          return desc_ == null ? org.secretflow.proto.component.Cluster.SFClusterDesc.getDefaultInstance() : desc_;
+        } else {
+          return descBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.secretflow.component.SFClusterDesc desc = 1;</code>
+       */
+      public Builder setDesc(org.secretflow.proto.component.Cluster.SFClusterDesc value) {
+        if (descBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          desc_ = value;
+        } else {
+          descBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.secretflow.component.SFClusterDesc desc = 1;</code>
+       */
+      public Builder setDesc(
+          org.secretflow.proto.component.Cluster.SFClusterDesc.Builder builderForValue) {
+        if (descBuilder_ == null) {
+          desc_ = builderForValue.build();
+        } else {
+          descBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.secretflow.component.SFClusterDesc desc = 1;</code>
+       */
+      public Builder mergeDesc(org.secretflow.proto.component.Cluster.SFClusterDesc value) {
+        if (descBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            desc_ != null &&
+            desc_ != org.secretflow.proto.component.Cluster.SFClusterDesc.getDefaultInstance()) {
+            getDescBuilder().mergeFrom(value);
+          } else {
+            desc_ = value;
+          }
+        } else {
+          descBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.secretflow.component.SFClusterDesc desc = 1;</code>
+       */
+      public Builder clearDesc() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        desc_ = null;
+        if (descBuilder_ != null) {
+          descBuilder_.dispose();
+          descBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.secretflow.component.SFClusterDesc desc = 1;</code>
+       */
+      public org.secretflow.proto.component.Cluster.SFClusterDesc.Builder getDescBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getDescFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.secretflow.component.SFClusterDesc desc = 1;</code>
+       */
+      public org.secretflow.proto.component.Cluster.SFClusterDescOrBuilder getDescOrBuilder() {
+        if (descBuilder_ != null) {
+          return descBuilder_.getMessageOrBuilder();
+        } else {
+          return desc_ == null ?
+              org.secretflow.proto.component.Cluster.SFClusterDesc.getDefaultInstance() : desc_;
+        }
+      }
+      /**
+       * <code>.secretflow.component.SFClusterDesc desc = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.proto.component.Cluster.SFClusterDesc, org.secretflow.proto.component.Cluster.SFClusterDesc.Builder, org.secretflow.proto.component.Cluster.SFClusterDescOrBuilder> 
+          getDescFieldBuilder() {
+        if (descBuilder_ == null) {
+          descBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.proto.component.Cluster.SFClusterDesc, org.secretflow.proto.component.Cluster.SFClusterDesc.Builder, org.secretflow.proto.component.Cluster.SFClusterDescOrBuilder>(
+                  getDesc(),
+                  getParentForChildren(),
+                  isClean());
+          desc_ = null;
+        }
+        return descBuilder_;
+      }
+
+      private org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig publicConfig_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig, org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig.Builder, org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfigOrBuilder> publicConfigBuilder_;
+      /**
+       * <code>.secretflow.component.SFClusterConfig.PublicConfig public_config = 2;</code>
+       * @return Whether the publicConfig field is set.
+       */
+      public boolean hasPublicConfig() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.secretflow.component.SFClusterConfig.PublicConfig public_config = 2;</code>
+       * @return The publicConfig.
+       */
+      public org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig getPublicConfig() {
+        if (publicConfigBuilder_ == null) {
+          return publicConfig_ == null ? org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig.getDefaultInstance() : publicConfig_;
+        } else {
+          return publicConfigBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.secretflow.component.SFClusterConfig.PublicConfig public_config = 2;</code>
+       */
+      public Builder setPublicConfig(org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig value) {
+        if (publicConfigBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          publicConfig_ = value;
+        } else {
+          publicConfigBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.secretflow.component.SFClusterConfig.PublicConfig public_config = 2;</code>
+       */
+      public Builder setPublicConfig(
+          org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig.Builder builderForValue) {
+        if (publicConfigBuilder_ == null) {
+          publicConfig_ = builderForValue.build();
+        } else {
+          publicConfigBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.secretflow.component.SFClusterConfig.PublicConfig public_config = 2;</code>
+       */
+      public Builder mergePublicConfig(org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig value) {
+        if (publicConfigBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            publicConfig_ != null &&
+            publicConfig_ != org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig.getDefaultInstance()) {
+            getPublicConfigBuilder().mergeFrom(value);
+          } else {
+            publicConfig_ = value;
+          }
+        } else {
+          publicConfigBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.secretflow.component.SFClusterConfig.PublicConfig public_config = 2;</code>
+       */
+      public Builder clearPublicConfig() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        publicConfig_ = null;
+        if (publicConfigBuilder_ != null) {
+          publicConfigBuilder_.dispose();
+          publicConfigBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.secretflow.component.SFClusterConfig.PublicConfig public_config = 2;</code>
+       */
+      public org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig.Builder getPublicConfigBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getPublicConfigFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.secretflow.component.SFClusterConfig.PublicConfig public_config = 2;</code>
+       */
+      public org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfigOrBuilder getPublicConfigOrBuilder() {
+        if (publicConfigBuilder_ != null) {
+          return publicConfigBuilder_.getMessageOrBuilder();
+        } else {
+          return publicConfig_ == null ?
+              org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig.getDefaultInstance() : publicConfig_;
+        }
+      }
+      /**
+       * <code>.secretflow.component.SFClusterConfig.PublicConfig public_config = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig, org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig.Builder, org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfigOrBuilder> 
+          getPublicConfigFieldBuilder() {
+        if (publicConfigBuilder_ == null) {
+          publicConfigBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig, org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfig.Builder, org.secretflow.proto.component.Cluster.SFClusterConfig.PublicConfigOrBuilder>(
+                  getPublicConfig(),
+                  getParentForChildren(),
+                  isClean());
+          publicConfig_ = null;
+        }
+        return publicConfigBuilder_;
+      }
+
+      private org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig privateConfig_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig, org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig.Builder, org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfigOrBuilder> privateConfigBuilder_;
+      /**
+       * <code>.secretflow.component.SFClusterConfig.PrivateConfig private_config = 3;</code>
+       * @return Whether the privateConfig field is set.
+       */
+      public boolean hasPrivateConfig() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>.secretflow.component.SFClusterConfig.PrivateConfig private_config = 3;</code>
+       * @return The privateConfig.
+       */
+      public org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig getPrivateConfig() {
+        if (privateConfigBuilder_ == null) {
+          return privateConfig_ == null ? org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig.getDefaultInstance() : privateConfig_;
+        } else {
+          return privateConfigBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.secretflow.component.SFClusterConfig.PrivateConfig private_config = 3;</code>
+       */
+      public Builder setPrivateConfig(org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig value) {
+        if (privateConfigBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          privateConfig_ = value;
+        } else {
+          privateConfigBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.secretflow.component.SFClusterConfig.PrivateConfig private_config = 3;</code>
+       */
+      public Builder setPrivateConfig(
+          org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig.Builder builderForValue) {
+        if (privateConfigBuilder_ == null) {
+          privateConfig_ = builderForValue.build();
+        } else {
+          privateConfigBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.secretflow.component.SFClusterConfig.PrivateConfig private_config = 3;</code>
+       */
+      public Builder mergePrivateConfig(org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig value) {
+        if (privateConfigBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0) &&
+            privateConfig_ != null &&
+            privateConfig_ != org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig.getDefaultInstance()) {
+            getPrivateConfigBuilder().mergeFrom(value);
+          } else {
+            privateConfig_ = value;
+          }
+        } else {
+          privateConfigBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.secretflow.component.SFClusterConfig.PrivateConfig private_config = 3;</code>
+       */
+      public Builder clearPrivateConfig() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        privateConfig_ = null;
+        if (privateConfigBuilder_ != null) {
+          privateConfigBuilder_.dispose();
+          privateConfigBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.secretflow.component.SFClusterConfig.PrivateConfig private_config = 3;</code>
+       */
+      public org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig.Builder getPrivateConfigBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getPrivateConfigFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.secretflow.component.SFClusterConfig.PrivateConfig private_config = 3;</code>
+       */
+      public org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfigOrBuilder getPrivateConfigOrBuilder() {
+        if (privateConfigBuilder_ != null) {
+          return privateConfigBuilder_.getMessageOrBuilder();
+        } else {
+          return privateConfig_ == null ?
+              org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig.getDefaultInstance() : privateConfig_;
+        }
+      }
+      /**
+       * <code>.secretflow.component.SFClusterConfig.PrivateConfig private_config = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig, org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig.Builder, org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfigOrBuilder> 
+          getPrivateConfigFieldBuilder() {
+        if (privateConfigBuilder_ == null) {
+          privateConfigBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig, org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfig.Builder, org.secretflow.proto.component.Cluster.SFClusterConfig.PrivateConfigOrBuilder>(
+                  getPrivateConfig(),
+                  getParentForChildren(),
+                  isClean());
+          privateConfig_ = null;
+        }
+        return privateConfigBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.component.SFClusterConfig)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.component.SFClusterConfig)
+    private static final org.secretflow.proto.component.Cluster.SFClusterConfig DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.component.Cluster.SFClusterConfig();
+    }
+
+    public static org.secretflow.proto.component.Cluster.SFClusterConfig getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SFClusterConfig>
+        PARSER = new com.google.protobuf.AbstractParser<SFClusterConfig>() {
+      @java.lang.Override
+      public SFClusterConfig parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<SFClusterConfig> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SFClusterConfig> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.component.Cluster.SFClusterConfig getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_SFClusterDesc_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_SFClusterDesc_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_SFClusterDesc_DeviceDesc_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_SFClusterDesc_DeviceDesc_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_StorageConfig_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_StorageConfig_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_StorageConfig_LocalFSConfig_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_StorageConfig_LocalFSConfig_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_SFClusterConfig_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_SFClusterConfig_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_SFClusterConfig_RayFedConfig_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_SFClusterConfig_RayFedConfig_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_SFClusterConfig_SPUConfig_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_SFClusterConfig_SPUConfig_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_SFClusterConfig_PublicConfig_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_SFClusterConfig_PublicConfig_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_SFClusterConfig_PrivateConfig_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_SFClusterConfig_PrivateConfig_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n)secretflow/protos/component/cluster.pr" +
+      "oto\022\024secretflow.component\"\324\001\n\rSFClusterD" +
+      "esc\022\022\n\nsf_version\030\001 \001(\t\022\022\n\npy_version\030\002 " +
+      "\001(\t\022\017\n\007parties\030\003 \003(\t\022?\n\007devices\030\004 \003(\0132.." +
+      "secretflow.component.SFClusterDesc.Devic" +
+      "eDesc\032I\n\nDeviceDesc\022\014\n\004name\030\001 \001(\t\022\014\n\004typ" +
+      "e\030\002 \001(\t\022\017\n\007parties\030\003 \003(\t\022\016\n\006config\030\004 \001(\t" +
+      "\"\177\n\rStorageConfig\022\014\n\004type\030\001 \001(\t\022C\n\010local" +
+      "_fs\030\002 \001(\01321.secretflow.component.Storage" +
+      "Config.LocalFSConfig\032\033\n\rLocalFSConfig\022\n\n" +
+      "\002wd\030\001 \001(\t\"\236\005\n\017SFClusterConfig\0221\n\004desc\030\001 " +
+      "\001(\0132#.secretflow.component.SFClusterDesc" +
+      "\022I\n\rpublic_config\030\002 \001(\01322.secretflow.com" +
+      "ponent.SFClusterConfig.PublicConfig\022K\n\016p" +
+      "rivate_config\030\003 \001(\01323.secretflow.compone" +
+      "nt.SFClusterConfig.PrivateConfig\032L\n\014RayF" +
+      "edConfig\022\017\n\007parties\030\001 \003(\t\022\021\n\taddresses\030\002" +
+      " \003(\t\022\030\n\020listen_addresses\030\003 \003(\t\032W\n\tSPUCon" +
+      "fig\022\014\n\004name\030\001 \001(\t\022\017\n\007parties\030\002 \003(\t\022\021\n\tad" +
+      "dresses\030\003 \003(\t\022\030\n\020listen_addresses\030\004 \003(\t\032" +
+      "\237\001\n\014PublicConfig\022I\n\rrayfed_config\030\001 \001(\0132" +
+      "2.secretflow.component.SFClusterConfig.R" +
+      "ayFedConfig\022D\n\013spu_configs\030\002 \003(\0132/.secre" +
+      "tflow.component.SFClusterConfig.SPUConfi" +
+      "g\032w\n\rPrivateConfig\022\022\n\nself_party\030\001 \001(\t\022\025" +
+      "\n\rray_head_addr\030\002 \001(\t\022;\n\016storage_config\030" +
+      "\003 \001(\0132#.secretflow.component.StorageConf" +
+      "igB \n\036org.secretflow.proto.componentb\006pr" +
+      "oto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_secretflow_component_SFClusterDesc_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_secretflow_component_SFClusterDesc_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_SFClusterDesc_descriptor,
+        new java.lang.String[] { "SfVersion", "PyVersion", "Parties", "Devices", });
+    internal_static_secretflow_component_SFClusterDesc_DeviceDesc_descriptor =
+      internal_static_secretflow_component_SFClusterDesc_descriptor.getNestedTypes().get(0);
+    internal_static_secretflow_component_SFClusterDesc_DeviceDesc_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_SFClusterDesc_DeviceDesc_descriptor,
+        new java.lang.String[] { "Name", "Type", "Parties", "Config", });
+    internal_static_secretflow_component_StorageConfig_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_secretflow_component_StorageConfig_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_StorageConfig_descriptor,
+        new java.lang.String[] { "Type", "LocalFs", });
+    internal_static_secretflow_component_StorageConfig_LocalFSConfig_descriptor =
+      internal_static_secretflow_component_StorageConfig_descriptor.getNestedTypes().get(0);
+    internal_static_secretflow_component_StorageConfig_LocalFSConfig_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_StorageConfig_LocalFSConfig_descriptor,
+        new java.lang.String[] { "Wd", });
+    internal_static_secretflow_component_SFClusterConfig_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_secretflow_component_SFClusterConfig_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_SFClusterConfig_descriptor,
+        new java.lang.String[] { "Desc", "PublicConfig", "PrivateConfig", });
+    internal_static_secretflow_component_SFClusterConfig_RayFedConfig_descriptor =
+      internal_static_secretflow_component_SFClusterConfig_descriptor.getNestedTypes().get(0);
+    internal_static_secretflow_component_SFClusterConfig_RayFedConfig_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_SFClusterConfig_RayFedConfig_descriptor,
+        new java.lang.String[] { "Parties", "Addresses", "ListenAddresses", });
+    internal_static_secretflow_component_SFClusterConfig_SPUConfig_descriptor =
+      internal_static_secretflow_component_SFClusterConfig_descriptor.getNestedTypes().get(1);
+    internal_static_secretflow_component_SFClusterConfig_SPUConfig_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_SFClusterConfig_SPUConfig_descriptor,
+        new java.lang.String[] { "Name", "Parties", "Addresses", "ListenAddresses", });
+    internal_static_secretflow_component_SFClusterConfig_PublicConfig_descriptor =
+      internal_static_secretflow_component_SFClusterConfig_descriptor.getNestedTypes().get(2);
+    internal_static_secretflow_component_SFClusterConfig_PublicConfig_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_SFClusterConfig_PublicConfig_descriptor,
+        new java.lang.String[] { "RayfedConfig", "SpuConfigs", });
+    internal_static_secretflow_component_SFClusterConfig_PrivateConfig_descriptor =
+      internal_static_secretflow_component_SFClusterConfig_descriptor.getNestedTypes().get(3);
+    internal_static_secretflow_component_SFClusterConfig_PrivateConfig_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_SFClusterConfig_PrivateConfig_descriptor,
+        new java.lang.String[] { "SelfParty", "RayHeadAddr", "StorageConfig", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,13098 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: secretflow/protos/component/comp.proto
+
+package org.secretflow.proto.component;
+
+public final class Comp {
+  private Comp() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  /**
+   * <pre>
+   * Different types of attributes.
+   * </pre>
+   *
+   * Protobuf enum {@code secretflow.component.AttrType}
+   */
+  public enum AttrType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <pre>
+     * Atomic types
+     * </pre>
+     *
+     * <code>AT_UNDEFINED = 0;</code>
+     */
+    AT_UNDEFINED(0),
+    /**
+     * <code>AT_FLOAT = 1;</code>
+     */
+    AT_FLOAT(1),
+    /**
+     * <code>AT_INT = 2;</code>
+     */
+    AT_INT(2),
+    /**
+     * <code>AT_STRING = 3;</code>
+     */
+    AT_STRING(3),
+    /**
+     * <code>AT_BOOL = 4;</code>
+     */
+    AT_BOOL(4),
+    /**
+     * <code>AT_FLOATS = 5;</code>
+     */
+    AT_FLOATS(5),
+    /**
+     * <code>AT_INTS = 6;</code>
+     */
+    AT_INTS(6),
+    /**
+     * <code>AT_STRINGS = 7;</code>
+     */
+    AT_STRINGS(7),
+    /**
+     * <code>AT_BOOLS = 8;</code>
+     */
+    AT_BOOLS(8),
+    /**
+     * <pre>
+     * Special types
+     * </pre>
+     *
+     * <code>AT_STRUCT_GROUP = 9;</code>
+     */
+    AT_STRUCT_GROUP(9),
+    /**
+     * <code>AT_UNION_GROUP = 10;</code>
+     */
+    AT_UNION_GROUP(10),
+    /**
+     * <code>AT_SF_TABLE_COL = 11;</code>
+     */
+    AT_SF_TABLE_COL(11),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <pre>
+     * Atomic types
+     * </pre>
+     *
+     * <code>AT_UNDEFINED = 0;</code>
+     */
+    public static final int AT_UNDEFINED_VALUE = 0;
+    /**
+     * <code>AT_FLOAT = 1;</code>
+     */
+    public static final int AT_FLOAT_VALUE = 1;
+    /**
+     * <code>AT_INT = 2;</code>
+     */
+    public static final int AT_INT_VALUE = 2;
+    /**
+     * <code>AT_STRING = 3;</code>
+     */
+    public static final int AT_STRING_VALUE = 3;
+    /**
+     * <code>AT_BOOL = 4;</code>
+     */
+    public static final int AT_BOOL_VALUE = 4;
+    /**
+     * <code>AT_FLOATS = 5;</code>
+     */
+    public static final int AT_FLOATS_VALUE = 5;
+    /**
+     * <code>AT_INTS = 6;</code>
+     */
+    public static final int AT_INTS_VALUE = 6;
+    /**
+     * <code>AT_STRINGS = 7;</code>
+     */
+    public static final int AT_STRINGS_VALUE = 7;
+    /**
+     * <code>AT_BOOLS = 8;</code>
+     */
+    public static final int AT_BOOLS_VALUE = 8;
+    /**
+     * <pre>
+     * Special types
+     * </pre>
+     *
+     * <code>AT_STRUCT_GROUP = 9;</code>
+     */
+    public static final int AT_STRUCT_GROUP_VALUE = 9;
+    /**
+     * <code>AT_UNION_GROUP = 10;</code>
+     */
+    public static final int AT_UNION_GROUP_VALUE = 10;
+    /**
+     * <code>AT_SF_TABLE_COL = 11;</code>
+     */
+    public static final int AT_SF_TABLE_COL_VALUE = 11;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static AttrType valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static AttrType forNumber(int value) {
+      switch (value) {
+        case 0: return AT_UNDEFINED;
+        case 1: return AT_FLOAT;
+        case 2: return AT_INT;
+        case 3: return AT_STRING;
+        case 4: return AT_BOOL;
+        case 5: return AT_FLOATS;
+        case 6: return AT_INTS;
+        case 7: return AT_STRINGS;
+        case 8: return AT_BOOLS;
+        case 9: return AT_STRUCT_GROUP;
+        case 10: return AT_UNION_GROUP;
+        case 11: return AT_SF_TABLE_COL;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<AttrType>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        AttrType> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<AttrType>() {
+            public AttrType findValueByNumber(int number) {
+              return AttrType.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.Comp.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final AttrType[] VALUES = values();
+
+    public static AttrType valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private AttrType(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:secretflow.component.AttrType)
+  }
+
+  public interface AttributeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.component.Attribute)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * FLOAT
+     * </pre>
+     *
+     * <code>float f = 1;</code>
+     * @return The f.
+     */
+    float getF();
+
+    /**
+     * <pre>
+     * NOTE(junfeng): "is" is preserved by Python. Replaced with "i64".
+     * </pre>
+     *
+     * <code>int64 i64 = 2;</code>
+     * @return The i64.
+     */
+    long getI64();
+
+    /**
+     * <pre>
+     * STRING
+     * </pre>
+     *
+     * <code>string s = 3;</code>
+     * @return The s.
+     */
+    java.lang.String getS();
+    /**
+     * <pre>
+     * STRING
+     * </pre>
+     *
+     * <code>string s = 3;</code>
+     * @return The bytes for s.
+     */
+    com.google.protobuf.ByteString
+        getSBytes();
+
+    /**
+     * <pre>
+     * BOOL
+     * </pre>
+     *
+     * <code>bool b = 4;</code>
+     * @return The b.
+     */
+    boolean getB();
+
+    /**
+     * <pre>
+     * lists
+     * </pre>
+     *
+     * <code>repeated float fs = 5;</code>
+     * @return A list containing the fs.
+     */
+    java.util.List<java.lang.Float> getFsList();
+    /**
+     * <pre>
+     * lists
+     * </pre>
+     *
+     * <code>repeated float fs = 5;</code>
+     * @return The count of fs.
+     */
+    int getFsCount();
+    /**
+     * <pre>
+     * lists
+     * </pre>
+     *
+     * <code>repeated float fs = 5;</code>
+     * @param index The index of the element to return.
+     * @return The fs at the given index.
+     */
+    float getFs(int index);
+
+    /**
+     * <pre>
+     * INTS
+     * </pre>
+     *
+     * <code>repeated int64 i64s = 6;</code>
+     * @return A list containing the i64s.
+     */
+    java.util.List<java.lang.Long> getI64SList();
+    /**
+     * <pre>
+     * INTS
+     * </pre>
+     *
+     * <code>repeated int64 i64s = 6;</code>
+     * @return The count of i64s.
+     */
+    int getI64SCount();
+    /**
+     * <pre>
+     * INTS
+     * </pre>
+     *
+     * <code>repeated int64 i64s = 6;</code>
+     * @param index The index of the element to return.
+     * @return The i64s at the given index.
+     */
+    long getI64S(int index);
+
+    /**
+     * <pre>
+     * STRINGS
+     * </pre>
+     *
+     * <code>repeated string ss = 7;</code>
+     * @return A list containing the ss.
+     */
+    java.util.List<java.lang.String>
+        getSsList();
+    /**
+     * <pre>
+     * STRINGS
+     * </pre>
+     *
+     * <code>repeated string ss = 7;</code>
+     * @return The count of ss.
+     */
+    int getSsCount();
+    /**
+     * <pre>
+     * STRINGS
+     * </pre>
+     *
+     * <code>repeated string ss = 7;</code>
+     * @param index The index of the element to return.
+     * @return The ss at the given index.
+     */
+    java.lang.String getSs(int index);
+    /**
+     * <pre>
+     * STRINGS
+     * </pre>
+     *
+     * <code>repeated string ss = 7;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the ss at the given index.
+     */
+    com.google.protobuf.ByteString
+        getSsBytes(int index);
+
+    /**
+     * <pre>
+     * BOOLS
+     * </pre>
+     *
+     * <code>repeated bool bs = 8;</code>
+     * @return A list containing the bs.
+     */
+    java.util.List<java.lang.Boolean> getBsList();
+    /**
+     * <pre>
+     * BOOLS
+     * </pre>
+     *
+     * <code>repeated bool bs = 8;</code>
+     * @return The count of bs.
+     */
+    int getBsCount();
+    /**
+     * <pre>
+     * BOOLS
+     * </pre>
+     *
+     * <code>repeated bool bs = 8;</code>
+     * @param index The index of the element to return.
+     * @return The bs at the given index.
+     */
+    boolean getBs(int index);
+
+    /**
+     * <pre>
+     * indicates the value is missing explicitly.
+     * </pre>
+     *
+     * <code>bool is_na = 9;</code>
+     * @return The isNa.
+     */
+    boolean getIsNa();
+  }
+  /**
+   * <pre>
+   * The value of a attribute
+   * </pre>
+   *
+   * Protobuf type {@code secretflow.component.Attribute}
+   */
+  public static final class Attribute extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.component.Attribute)
+      AttributeOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Attribute.newBuilder() to construct.
+    private Attribute(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Attribute() {
+      s_ = "";
+      fs_ = emptyFloatList();
+      i64S_ = emptyLongList();
+      ss_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      bs_ = emptyBooleanList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Attribute();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.Comp.internal_static_secretflow_component_Attribute_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.component.Comp.internal_static_secretflow_component_Attribute_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.component.Comp.Attribute.class, org.secretflow.proto.component.Comp.Attribute.Builder.class);
+    }
+
+    public static final int F_FIELD_NUMBER = 1;
+    private float f_ = 0F;
+    /**
+     * <pre>
+     * FLOAT
+     * </pre>
+     *
+     * <code>float f = 1;</code>
+     * @return The f.
+     */
+    @java.lang.Override
+    public float getF() {
+      return f_;
+    }
+
+    public static final int I64_FIELD_NUMBER = 2;
+    private long i64_ = 0L;
+    /**
+     * <pre>
+     * NOTE(junfeng): "is" is preserved by Python. Replaced with "i64".
+     * </pre>
+     *
+     * <code>int64 i64 = 2;</code>
+     * @return The i64.
+     */
+    @java.lang.Override
+    public long getI64() {
+      return i64_;
+    }
+
+    public static final int S_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object s_ = "";
+    /**
+     * <pre>
+     * STRING
+     * </pre>
+     *
+     * <code>string s = 3;</code>
+     * @return The s.
+     */
+    @java.lang.Override
+    public java.lang.String getS() {
+      java.lang.Object ref = s_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        s_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * STRING
+     * </pre>
+     *
+     * <code>string s = 3;</code>
+     * @return The bytes for s.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSBytes() {
+      java.lang.Object ref = s_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        s_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int B_FIELD_NUMBER = 4;
+    private boolean b_ = false;
+    /**
+     * <pre>
+     * BOOL
+     * </pre>
+     *
+     * <code>bool b = 4;</code>
+     * @return The b.
+     */
+    @java.lang.Override
+    public boolean getB() {
+      return b_;
+    }
+
+    public static final int FS_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.FloatList fs_;
+    /**
+     * <pre>
+     * lists
+     * </pre>
+     *
+     * <code>repeated float fs = 5;</code>
+     * @return A list containing the fs.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Float>
+        getFsList() {
+      return fs_;
+    }
+    /**
+     * <pre>
+     * lists
+     * </pre>
+     *
+     * <code>repeated float fs = 5;</code>
+     * @return The count of fs.
+     */
+    public int getFsCount() {
+      return fs_.size();
+    }
+    /**
+     * <pre>
+     * lists
+     * </pre>
+     *
+     * <code>repeated float fs = 5;</code>
+     * @param index The index of the element to return.
+     * @return The fs at the given index.
+     */
+    public float getFs(int index) {
+      return fs_.getFloat(index);
+    }
+    private int fsMemoizedSerializedSize = -1;
+
+    public static final int I64S_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.LongList i64S_;
+    /**
+     * <pre>
+     * INTS
+     * </pre>
+     *
+     * <code>repeated int64 i64s = 6;</code>
+     * @return A list containing the i64s.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Long>
+        getI64SList() {
+      return i64S_;
+    }
+    /**
+     * <pre>
+     * INTS
+     * </pre>
+     *
+     * <code>repeated int64 i64s = 6;</code>
+     * @return The count of i64s.
+     */
+    public int getI64SCount() {
+      return i64S_.size();
+    }
+    /**
+     * <pre>
+     * INTS
+     * </pre>
+     *
+     * <code>repeated int64 i64s = 6;</code>
+     * @param index The index of the element to return.
+     * @return The i64s at the given index.
+     */
+    public long getI64S(int index) {
+      return i64S_.getLong(index);
+    }
+    private int i64SMemoizedSerializedSize = -1;
+
+    public static final int SS_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList ss_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * STRINGS
+     * </pre>
+     *
+     * <code>repeated string ss = 7;</code>
+     * @return A list containing the ss.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getSsList() {
+      return ss_;
+    }
+    /**
+     * <pre>
+     * STRINGS
+     * </pre>
+     *
+     * <code>repeated string ss = 7;</code>
+     * @return The count of ss.
+     */
+    public int getSsCount() {
+      return ss_.size();
+    }
+    /**
+     * <pre>
+     * STRINGS
+     * </pre>
+     *
+     * <code>repeated string ss = 7;</code>
+     * @param index The index of the element to return.
+     * @return The ss at the given index.
+     */
+    public java.lang.String getSs(int index) {
+      return ss_.get(index);
+    }
+    /**
+     * <pre>
+     * STRINGS
+     * </pre>
+     *
+     * <code>repeated string ss = 7;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the ss at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getSsBytes(int index) {
+      return ss_.getByteString(index);
+    }
+
+    public static final int BS_FIELD_NUMBER = 8;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.BooleanList bs_;
+    /**
+     * <pre>
+     * BOOLS
+     * </pre>
+     *
+     * <code>repeated bool bs = 8;</code>
+     * @return A list containing the bs.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Boolean>
+        getBsList() {
+      return bs_;
+    }
+    /**
+     * <pre>
+     * BOOLS
+     * </pre>
+     *
+     * <code>repeated bool bs = 8;</code>
+     * @return The count of bs.
+     */
+    public int getBsCount() {
+      return bs_.size();
+    }
+    /**
+     * <pre>
+     * BOOLS
+     * </pre>
+     *
+     * <code>repeated bool bs = 8;</code>
+     * @param index The index of the element to return.
+     * @return The bs at the given index.
+     */
+    public boolean getBs(int index) {
+      return bs_.getBoolean(index);
+    }
+    private int bsMemoizedSerializedSize = -1;
+
+    public static final int IS_NA_FIELD_NUMBER = 9;
+    private boolean isNa_ = false;
+    /**
+     * <pre>
+     * indicates the value is missing explicitly.
+     * </pre>
+     *
+     * <code>bool is_na = 9;</code>
+     * @return The isNa.
+     */
+    @java.lang.Override
+    public boolean getIsNa() {
+      return isNa_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (java.lang.Float.floatToRawIntBits(f_) != 0) {
+        output.writeFloat(1, f_);
+      }
+      if (i64_ != 0L) {
+        output.writeInt64(2, i64_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(s_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, s_);
+      }
+      if (b_ != false) {
+        output.writeBool(4, b_);
+      }
+      if (getFsList().size() > 0) {
+        output.writeUInt32NoTag(42);
+        output.writeUInt32NoTag(fsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < fs_.size(); i++) {
+        output.writeFloatNoTag(fs_.getFloat(i));
+      }
+      if (getI64SList().size() > 0) {
+        output.writeUInt32NoTag(50);
+        output.writeUInt32NoTag(i64SMemoizedSerializedSize);
+      }
+      for (int i = 0; i < i64S_.size(); i++) {
+        output.writeInt64NoTag(i64S_.getLong(i));
+      }
+      for (int i = 0; i < ss_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 7, ss_.getRaw(i));
+      }
+      if (getBsList().size() > 0) {
+        output.writeUInt32NoTag(66);
+        output.writeUInt32NoTag(bsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < bs_.size(); i++) {
+        output.writeBoolNoTag(bs_.getBoolean(i));
+      }
+      if (isNa_ != false) {
+        output.writeBool(9, isNa_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (java.lang.Float.floatToRawIntBits(f_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFloatSize(1, f_);
+      }
+      if (i64_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, i64_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(s_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, s_);
+      }
+      if (b_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, b_);
+      }
+      {
+        int dataSize = 0;
+        dataSize = 4 * getFsList().size();
+        size += dataSize;
+        if (!getFsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        fsMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < i64S_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(i64S_.getLong(i));
+        }
+        size += dataSize;
+        if (!getI64SList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        i64SMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < ss_.size(); i++) {
+          dataSize += computeStringSizeNoTag(ss_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getSsList().size();
+      }
+      {
+        int dataSize = 0;
+        dataSize = 1 * getBsList().size();
+        size += dataSize;
+        if (!getBsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        bsMemoizedSerializedSize = dataSize;
+      }
+      if (isNa_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(9, isNa_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.component.Comp.Attribute)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.component.Comp.Attribute other = (org.secretflow.proto.component.Comp.Attribute) obj;
+
+      if (java.lang.Float.floatToIntBits(getF())
+          != java.lang.Float.floatToIntBits(
+              other.getF())) return false;
+      if (getI64()
+          != other.getI64()) return false;
+      if (!getS()
+          .equals(other.getS())) return false;
+      if (getB()
+          != other.getB()) return false;
+      if (!getFsList()
+          .equals(other.getFsList())) return false;
+      if (!getI64SList()
+          .equals(other.getI64SList())) return false;
+      if (!getSsList()
+          .equals(other.getSsList())) return false;
+      if (!getBsList()
+          .equals(other.getBsList())) return false;
+      if (getIsNa()
+          != other.getIsNa()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + F_FIELD_NUMBER;
+      hash = (53 * hash) + java.lang.Float.floatToIntBits(
+          getF());
+      hash = (37 * hash) + I64_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getI64());
+      hash = (37 * hash) + S_FIELD_NUMBER;
+      hash = (53 * hash) + getS().hashCode();
+      hash = (37 * hash) + B_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getB());
+      if (getFsCount() > 0) {
+        hash = (37 * hash) + FS_FIELD_NUMBER;
+        hash = (53 * hash) + getFsList().hashCode();
+      }
+      if (getI64SCount() > 0) {
+        hash = (37 * hash) + I64S_FIELD_NUMBER;
+        hash = (53 * hash) + getI64SList().hashCode();
+      }
+      if (getSsCount() > 0) {
+        hash = (37 * hash) + SS_FIELD_NUMBER;
+        hash = (53 * hash) + getSsList().hashCode();
+      }
+      if (getBsCount() > 0) {
+        hash = (37 * hash) + BS_FIELD_NUMBER;
+        hash = (53 * hash) + getBsList().hashCode();
+      }
+      hash = (37 * hash) + IS_NA_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getIsNa());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.component.Comp.Attribute parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Comp.Attribute parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.Attribute parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Comp.Attribute parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.Attribute parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Comp.Attribute parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.Attribute parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Comp.Attribute parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.Attribute parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Comp.Attribute parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.Attribute parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Comp.Attribute parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.component.Comp.Attribute prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * The value of a attribute
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.Attribute}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.component.Attribute)
+        org.secretflow.proto.component.Comp.AttributeOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Comp.internal_static_secretflow_component_Attribute_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Comp.internal_static_secretflow_component_Attribute_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Comp.Attribute.class, org.secretflow.proto.component.Comp.Attribute.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.component.Comp.Attribute.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        f_ = 0F;
+        i64_ = 0L;
+        s_ = "";
+        b_ = false;
+        fs_ = emptyFloatList();
+        i64S_ = emptyLongList();
+        ss_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        bs_ = emptyBooleanList();
+        isNa_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.component.Comp.internal_static_secretflow_component_Attribute_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.Attribute getDefaultInstanceForType() {
+        return org.secretflow.proto.component.Comp.Attribute.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.Attribute build() {
+        org.secretflow.proto.component.Comp.Attribute result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.Attribute buildPartial() {
+        org.secretflow.proto.component.Comp.Attribute result = new org.secretflow.proto.component.Comp.Attribute(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.proto.component.Comp.Attribute result) {
+        if (((bitField0_ & 0x00000010) != 0)) {
+          fs_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.fs_ = fs_;
+        if (((bitField0_ & 0x00000020) != 0)) {
+          i64S_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        }
+        result.i64S_ = i64S_;
+        if (((bitField0_ & 0x00000080) != 0)) {
+          bs_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000080);
+        }
+        result.bs_ = bs_;
+      }
+
+      private void buildPartial0(org.secretflow.proto.component.Comp.Attribute result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.f_ = f_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.i64_ = i64_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.s_ = s_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.b_ = b_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          ss_.makeImmutable();
+          result.ss_ = ss_;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.isNa_ = isNa_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.component.Comp.Attribute) {
+          return mergeFrom((org.secretflow.proto.component.Comp.Attribute)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.component.Comp.Attribute other) {
+        if (other == org.secretflow.proto.component.Comp.Attribute.getDefaultInstance()) return this;
+        if (other.getF() != 0F) {
+          setF(other.getF());
+        }
+        if (other.getI64() != 0L) {
+          setI64(other.getI64());
+        }
+        if (!other.getS().isEmpty()) {
+          s_ = other.s_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.getB() != false) {
+          setB(other.getB());
+        }
+        if (!other.fs_.isEmpty()) {
+          if (fs_.isEmpty()) {
+            fs_ = other.fs_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureFsIsMutable();
+            fs_.addAll(other.fs_);
+          }
+          onChanged();
+        }
+        if (!other.i64S_.isEmpty()) {
+          if (i64S_.isEmpty()) {
+            i64S_ = other.i64S_;
+            bitField0_ = (bitField0_ & ~0x00000020);
+          } else {
+            ensureI64SIsMutable();
+            i64S_.addAll(other.i64S_);
+          }
+          onChanged();
+        }
+        if (!other.ss_.isEmpty()) {
+          if (ss_.isEmpty()) {
+            ss_ = other.ss_;
+            bitField0_ |= 0x00000040;
+          } else {
+            ensureSsIsMutable();
+            ss_.addAll(other.ss_);
+          }
+          onChanged();
+        }
+        if (!other.bs_.isEmpty()) {
+          if (bs_.isEmpty()) {
+            bs_ = other.bs_;
+            bitField0_ = (bitField0_ & ~0x00000080);
+          } else {
+            ensureBsIsMutable();
+            bs_.addAll(other.bs_);
+          }
+          onChanged();
+        }
+        if (other.getIsNa() != false) {
+          setIsNa(other.getIsNa());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 13: {
+                f_ = input.readFloat();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 13
+              case 16: {
+                i64_ = input.readInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                s_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 32: {
+                b_ = input.readBool();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 45: {
+                float v = input.readFloat();
+                ensureFsIsMutable();
+                fs_.addFloat(v);
+                break;
+              } // case 45
+              case 42: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureFsIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  fs_.addFloat(input.readFloat());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 42
+              case 48: {
+                long v = input.readInt64();
+                ensureI64SIsMutable();
+                i64S_.addLong(v);
+                break;
+              } // case 48
+              case 50: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureI64SIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  i64S_.addLong(input.readInt64());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 50
+              case 58: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureSsIsMutable();
+                ss_.add(s);
+                break;
+              } // case 58
+              case 64: {
+                boolean v = input.readBool();
+                ensureBsIsMutable();
+                bs_.addBoolean(v);
+                break;
+              } // case 64
+              case 66: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureBsIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  bs_.addBoolean(input.readBool());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 66
+              case 72: {
+                isNa_ = input.readBool();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 72
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private float f_ ;
+      /**
+       * <pre>
+       * FLOAT
+       * </pre>
+       *
+       * <code>float f = 1;</code>
+       * @return The f.
+       */
+      @java.lang.Override
+      public float getF() {
+        return f_;
+      }
+      /**
+       * <pre>
+       * FLOAT
+       * </pre>
+       *
+       * <code>float f = 1;</code>
+       * @param value The f to set.
+       * @return This builder for chaining.
+       */
+      public Builder setF(float value) {
+
+        f_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * FLOAT
+       * </pre>
+       *
+       * <code>float f = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearF() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        f_ = 0F;
+        onChanged();
+        return this;
+      }
+
+      private long i64_ ;
+      /**
+       * <pre>
+       * NOTE(junfeng): "is" is preserved by Python. Replaced with "i64".
+       * </pre>
+       *
+       * <code>int64 i64 = 2;</code>
+       * @return The i64.
+       */
+      @java.lang.Override
+      public long getI64() {
+        return i64_;
+      }
+      /**
+       * <pre>
+       * NOTE(junfeng): "is" is preserved by Python. Replaced with "i64".
+       * </pre>
+       *
+       * <code>int64 i64 = 2;</code>
+       * @param value The i64 to set.
+       * @return This builder for chaining.
+       */
+      public Builder setI64(long value) {
+
+        i64_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * NOTE(junfeng): "is" is preserved by Python. Replaced with "i64".
+       * </pre>
+       *
+       * <code>int64 i64 = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearI64() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        i64_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object s_ = "";
+      /**
+       * <pre>
+       * STRING
+       * </pre>
+       *
+       * <code>string s = 3;</code>
+       * @return The s.
+       */
+      public java.lang.String getS() {
+        java.lang.Object ref = s_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          s_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * STRING
+       * </pre>
+       *
+       * <code>string s = 3;</code>
+       * @return The bytes for s.
+       */
+      public com.google.protobuf.ByteString
+          getSBytes() {
+        java.lang.Object ref = s_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          s_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * STRING
+       * </pre>
+       *
+       * <code>string s = 3;</code>
+       * @param value The s to set.
+       * @return This builder for chaining.
+       */
+      public Builder setS(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        s_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * STRING
+       * </pre>
+       *
+       * <code>string s = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearS() {
+        s_ = getDefaultInstance().getS();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * STRING
+       * </pre>
+       *
+       * <code>string s = 3;</code>
+       * @param value The bytes for s to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        s_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private boolean b_ ;
+      /**
+       * <pre>
+       * BOOL
+       * </pre>
+       *
+       * <code>bool b = 4;</code>
+       * @return The b.
+       */
+      @java.lang.Override
+      public boolean getB() {
+        return b_;
+      }
+      /**
+       * <pre>
+       * BOOL
+       * </pre>
+       *
+       * <code>bool b = 4;</code>
+       * @param value The b to set.
+       * @return This builder for chaining.
+       */
+      public Builder setB(boolean value) {
+
+        b_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * BOOL
+       * </pre>
+       *
+       * <code>bool b = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearB() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        b_ = false;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.FloatList fs_ = emptyFloatList();
+      private void ensureFsIsMutable() {
+        if (!((bitField0_ & 0x00000010) != 0)) {
+          fs_ = mutableCopy(fs_);
+          bitField0_ |= 0x00000010;
+        }
+      }
+      /**
+       * <pre>
+       * lists
+       * </pre>
+       *
+       * <code>repeated float fs = 5;</code>
+       * @return A list containing the fs.
+       */
+      public java.util.List<java.lang.Float>
+          getFsList() {
+        return ((bitField0_ & 0x00000010) != 0) ?
+                 java.util.Collections.unmodifiableList(fs_) : fs_;
+      }
+      /**
+       * <pre>
+       * lists
+       * </pre>
+       *
+       * <code>repeated float fs = 5;</code>
+       * @return The count of fs.
+       */
+      public int getFsCount() {
+        return fs_.size();
+      }
+      /**
+       * <pre>
+       * lists
+       * </pre>
+       *
+       * <code>repeated float fs = 5;</code>
+       * @param index The index of the element to return.
+       * @return The fs at the given index.
+       */
+      public float getFs(int index) {
+        return fs_.getFloat(index);
+      }
+      /**
+       * <pre>
+       * lists
+       * </pre>
+       *
+       * <code>repeated float fs = 5;</code>
+       * @param index The index to set the value at.
+       * @param value The fs to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFs(
+          int index, float value) {
+
+        ensureFsIsMutable();
+        fs_.setFloat(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * lists
+       * </pre>
+       *
+       * <code>repeated float fs = 5;</code>
+       * @param value The fs to add.
+       * @return This builder for chaining.
+       */
+      public Builder addFs(float value) {
+
+        ensureFsIsMutable();
+        fs_.addFloat(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * lists
+       * </pre>
+       *
+       * <code>repeated float fs = 5;</code>
+       * @param values The fs to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllFs(
+          java.lang.Iterable<? extends java.lang.Float> values) {
+        ensureFsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, fs_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * lists
+       * </pre>
+       *
+       * <code>repeated float fs = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFs() {
+        fs_ = emptyFloatList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.LongList i64S_ = emptyLongList();
+      private void ensureI64SIsMutable() {
+        if (!((bitField0_ & 0x00000020) != 0)) {
+          i64S_ = mutableCopy(i64S_);
+          bitField0_ |= 0x00000020;
+        }
+      }
+      /**
+       * <pre>
+       * INTS
+       * </pre>
+       *
+       * <code>repeated int64 i64s = 6;</code>
+       * @return A list containing the i64s.
+       */
+      public java.util.List<java.lang.Long>
+          getI64SList() {
+        return ((bitField0_ & 0x00000020) != 0) ?
+                 java.util.Collections.unmodifiableList(i64S_) : i64S_;
+      }
+      /**
+       * <pre>
+       * INTS
+       * </pre>
+       *
+       * <code>repeated int64 i64s = 6;</code>
+       * @return The count of i64s.
+       */
+      public int getI64SCount() {
+        return i64S_.size();
+      }
+      /**
+       * <pre>
+       * INTS
+       * </pre>
+       *
+       * <code>repeated int64 i64s = 6;</code>
+       * @param index The index of the element to return.
+       * @return The i64s at the given index.
+       */
+      public long getI64S(int index) {
+        return i64S_.getLong(index);
+      }
+      /**
+       * <pre>
+       * INTS
+       * </pre>
+       *
+       * <code>repeated int64 i64s = 6;</code>
+       * @param index The index to set the value at.
+       * @param value The i64s to set.
+       * @return This builder for chaining.
+       */
+      public Builder setI64S(
+          int index, long value) {
+
+        ensureI64SIsMutable();
+        i64S_.setLong(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * INTS
+       * </pre>
+       *
+       * <code>repeated int64 i64s = 6;</code>
+       * @param value The i64s to add.
+       * @return This builder for chaining.
+       */
+      public Builder addI64S(long value) {
+
+        ensureI64SIsMutable();
+        i64S_.addLong(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * INTS
+       * </pre>
+       *
+       * <code>repeated int64 i64s = 6;</code>
+       * @param values The i64s to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllI64S(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureI64SIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, i64S_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * INTS
+       * </pre>
+       *
+       * <code>repeated int64 i64s = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearI64S() {
+        i64S_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList ss_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureSsIsMutable() {
+        if (!ss_.isModifiable()) {
+          ss_ = new com.google.protobuf.LazyStringArrayList(ss_);
+        }
+        bitField0_ |= 0x00000040;
+      }
+      /**
+       * <pre>
+       * STRINGS
+       * </pre>
+       *
+       * <code>repeated string ss = 7;</code>
+       * @return A list containing the ss.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getSsList() {
+        ss_.makeImmutable();
+        return ss_;
+      }
+      /**
+       * <pre>
+       * STRINGS
+       * </pre>
+       *
+       * <code>repeated string ss = 7;</code>
+       * @return The count of ss.
+       */
+      public int getSsCount() {
+        return ss_.size();
+      }
+      /**
+       * <pre>
+       * STRINGS
+       * </pre>
+       *
+       * <code>repeated string ss = 7;</code>
+       * @param index The index of the element to return.
+       * @return The ss at the given index.
+       */
+      public java.lang.String getSs(int index) {
+        return ss_.get(index);
+      }
+      /**
+       * <pre>
+       * STRINGS
+       * </pre>
+       *
+       * <code>repeated string ss = 7;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the ss at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getSsBytes(int index) {
+        return ss_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * STRINGS
+       * </pre>
+       *
+       * <code>repeated string ss = 7;</code>
+       * @param index The index to set the value at.
+       * @param value The ss to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSs(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureSsIsMutable();
+        ss_.set(index, value);
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * STRINGS
+       * </pre>
+       *
+       * <code>repeated string ss = 7;</code>
+       * @param value The ss to add.
+       * @return This builder for chaining.
+       */
+      public Builder addSs(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureSsIsMutable();
+        ss_.add(value);
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * STRINGS
+       * </pre>
+       *
+       * <code>repeated string ss = 7;</code>
+       * @param values The ss to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllSs(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureSsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, ss_);
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * STRINGS
+       * </pre>
+       *
+       * <code>repeated string ss = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSs() {
+        ss_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000040);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * STRINGS
+       * </pre>
+       *
+       * <code>repeated string ss = 7;</code>
+       * @param value The bytes of the ss to add.
+       * @return This builder for chaining.
+       */
+      public Builder addSsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureSsIsMutable();
+        ss_.add(value);
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.BooleanList bs_ = emptyBooleanList();
+      private void ensureBsIsMutable() {
+        if (!((bitField0_ & 0x00000080) != 0)) {
+          bs_ = mutableCopy(bs_);
+          bitField0_ |= 0x00000080;
+        }
+      }
+      /**
+       * <pre>
+       * BOOLS
+       * </pre>
+       *
+       * <code>repeated bool bs = 8;</code>
+       * @return A list containing the bs.
+       */
+      public java.util.List<java.lang.Boolean>
+          getBsList() {
+        return ((bitField0_ & 0x00000080) != 0) ?
+                 java.util.Collections.unmodifiableList(bs_) : bs_;
+      }
+      /**
+       * <pre>
+       * BOOLS
+       * </pre>
+       *
+       * <code>repeated bool bs = 8;</code>
+       * @return The count of bs.
+       */
+      public int getBsCount() {
+        return bs_.size();
+      }
+      /**
+       * <pre>
+       * BOOLS
+       * </pre>
+       *
+       * <code>repeated bool bs = 8;</code>
+       * @param index The index of the element to return.
+       * @return The bs at the given index.
+       */
+      public boolean getBs(int index) {
+        return bs_.getBoolean(index);
+      }
+      /**
+       * <pre>
+       * BOOLS
+       * </pre>
+       *
+       * <code>repeated bool bs = 8;</code>
+       * @param index The index to set the value at.
+       * @param value The bs to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBs(
+          int index, boolean value) {
+
+        ensureBsIsMutable();
+        bs_.setBoolean(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * BOOLS
+       * </pre>
+       *
+       * <code>repeated bool bs = 8;</code>
+       * @param value The bs to add.
+       * @return This builder for chaining.
+       */
+      public Builder addBs(boolean value) {
+
+        ensureBsIsMutable();
+        bs_.addBoolean(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * BOOLS
+       * </pre>
+       *
+       * <code>repeated bool bs = 8;</code>
+       * @param values The bs to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllBs(
+          java.lang.Iterable<? extends java.lang.Boolean> values) {
+        ensureBsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, bs_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * BOOLS
+       * </pre>
+       *
+       * <code>repeated bool bs = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBs() {
+        bs_ = emptyBooleanList();
+        bitField0_ = (bitField0_ & ~0x00000080);
+        onChanged();
+        return this;
+      }
+
+      private boolean isNa_ ;
+      /**
+       * <pre>
+       * indicates the value is missing explicitly.
+       * </pre>
+       *
+       * <code>bool is_na = 9;</code>
+       * @return The isNa.
+       */
+      @java.lang.Override
+      public boolean getIsNa() {
+        return isNa_;
+      }
+      /**
+       * <pre>
+       * indicates the value is missing explicitly.
+       * </pre>
+       *
+       * <code>bool is_na = 9;</code>
+       * @param value The isNa to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIsNa(boolean value) {
+
+        isNa_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * indicates the value is missing explicitly.
+       * </pre>
+       *
+       * <code>bool is_na = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIsNa() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        isNa_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.component.Attribute)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.component.Attribute)
+    private static final org.secretflow.proto.component.Comp.Attribute DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.component.Comp.Attribute();
+    }
+
+    public static org.secretflow.proto.component.Comp.Attribute getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Attribute>
+        PARSER = new com.google.protobuf.AbstractParser<Attribute>() {
+      @java.lang.Override
+      public Attribute parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Attribute> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Attribute> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.Attribute getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface AttributeDefOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.component.AttributeDef)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * indicates the ancestors of a node,
+     * e.g. [name_a, name_b, name_c] means the path prefixes of current Attribute
+     * is name_a/name_b/name_c/
+     * only ^[a-zA-Z0-9_.-]*$ is allowed.
+     * "input" and "output" are reserved.
+     * </pre>
+     *
+     * <code>repeated string prefixes = 1;</code>
+     * @return A list containing the prefixes.
+     */
+    java.util.List<java.lang.String>
+        getPrefixesList();
+    /**
+     * <pre>
+     * indicates the ancestors of a node,
+     * e.g. [name_a, name_b, name_c] means the path prefixes of current Attribute
+     * is name_a/name_b/name_c/
+     * only ^[a-zA-Z0-9_.-]*$ is allowed.
+     * "input" and "output" are reserved.
+     * </pre>
+     *
+     * <code>repeated string prefixes = 1;</code>
+     * @return The count of prefixes.
+     */
+    int getPrefixesCount();
+    /**
+     * <pre>
+     * indicates the ancestors of a node,
+     * e.g. [name_a, name_b, name_c] means the path prefixes of current Attribute
+     * is name_a/name_b/name_c/
+     * only ^[a-zA-Z0-9_.-]*$ is allowed.
+     * "input" and "output" are reserved.
+     * </pre>
+     *
+     * <code>repeated string prefixes = 1;</code>
+     * @param index The index of the element to return.
+     * @return The prefixes at the given index.
+     */
+    java.lang.String getPrefixes(int index);
+    /**
+     * <pre>
+     * indicates the ancestors of a node,
+     * e.g. [name_a, name_b, name_c] means the path prefixes of current Attribute
+     * is name_a/name_b/name_c/
+     * only ^[a-zA-Z0-9_.-]*$ is allowed.
+     * "input" and "output" are reserved.
+     * </pre>
+     *
+     * <code>repeated string prefixes = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the prefixes at the given index.
+     */
+    com.google.protobuf.ByteString
+        getPrefixesBytes(int index);
+
+    /**
+     * <pre>
+     * must be uniqe in the same level just like linux file systems.
+     * only ^[a-zA-Z0-9_.-]*$ is allowed.
+     * "input" and "output" are reserved.
+     * </pre>
+     *
+     * <code>string name = 2;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <pre>
+     * must be uniqe in the same level just like linux file systems.
+     * only ^[a-zA-Z0-9_.-]*$ is allowed.
+     * "input" and "output" are reserved.
+     * </pre>
+     *
+     * <code>string name = 2;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>string desc = 3;</code>
+     * @return The desc.
+     */
+    java.lang.String getDesc();
+    /**
+     * <code>string desc = 3;</code>
+     * @return The bytes for desc.
+     */
+    com.google.protobuf.ByteString
+        getDescBytes();
+
+    /**
+     * <code>.secretflow.component.AttrType type = 4;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    int getTypeValue();
+    /**
+     * <code>.secretflow.component.AttrType type = 4;</code>
+     * @return The type.
+     */
+    org.secretflow.proto.component.Comp.AttrType getType();
+
+    /**
+     * <pre>
+     * required for ATOMIC
+     * </pre>
+     *
+     * <code>.secretflow.component.AttributeDef.AtomicAttrDesc atomic = 5;</code>
+     * @return Whether the atomic field is set.
+     */
+    boolean hasAtomic();
+    /**
+     * <pre>
+     * required for ATOMIC
+     * </pre>
+     *
+     * <code>.secretflow.component.AttributeDef.AtomicAttrDesc atomic = 5;</code>
+     * @return The atomic.
+     */
+    org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc getAtomic();
+    /**
+     * <pre>
+     * required for ATOMIC
+     * </pre>
+     *
+     * <code>.secretflow.component.AttributeDef.AtomicAttrDesc atomic = 5;</code>
+     */
+    org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDescOrBuilder getAtomicOrBuilder();
+
+    /**
+     * <pre>
+     * required for UNION
+     * </pre>
+     *
+     * <code>.secretflow.component.AttributeDef.UnionAttrGroupDesc union = 6;</code>
+     * @return Whether the union field is set.
+     */
+    boolean hasUnion();
+    /**
+     * <pre>
+     * required for UNION
+     * </pre>
+     *
+     * <code>.secretflow.component.AttributeDef.UnionAttrGroupDesc union = 6;</code>
+     * @return The union.
+     */
+    org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc getUnion();
+    /**
+     * <pre>
+     * required for UNION
+     * </pre>
+     *
+     * <code>.secretflow.component.AttributeDef.UnionAttrGroupDesc union = 6;</code>
+     */
+    org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDescOrBuilder getUnionOrBuilder();
+  }
+  /**
+   * <pre>
+   * Describe a attribute.
+   * </pre>
+   *
+   * Protobuf type {@code secretflow.component.AttributeDef}
+   */
+  public static final class AttributeDef extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.component.AttributeDef)
+      AttributeDefOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use AttributeDef.newBuilder() to construct.
+    private AttributeDef(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private AttributeDef() {
+      prefixes_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      name_ = "";
+      desc_ = "";
+      type_ = 0;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new AttributeDef();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.Comp.internal_static_secretflow_component_AttributeDef_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.component.Comp.internal_static_secretflow_component_AttributeDef_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.component.Comp.AttributeDef.class, org.secretflow.proto.component.Comp.AttributeDef.Builder.class);
+    }
+
+    public interface AtomicAttrDescOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:secretflow.component.AttributeDef.AtomicAttrDesc)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <pre>
+       * Only valid when type is {FLOATS, INTS, STRINGS, BOOLS}
+       * </pre>
+       *
+       * <code>int64 list_min_length_inclusive = 1;</code>
+       * @return The listMinLengthInclusive.
+       */
+      long getListMinLengthInclusive();
+
+      /**
+       * <code>int64 list_max_length_inclusive = 2;</code>
+       * @return The listMaxLengthInclusive.
+       */
+      long getListMaxLengthInclusive();
+
+      /**
+       * <code>bool is_optional = 3;</code>
+       * @return The isOptional.
+       */
+      boolean getIsOptional();
+
+      /**
+       * <pre>
+       * A reasonable default for this attribute if the user does not supply a
+       * value.
+       * </pre>
+       *
+       * <code>.secretflow.component.Attribute default_value = 4;</code>
+       * @return Whether the defaultValue field is set.
+       */
+      boolean hasDefaultValue();
+      /**
+       * <pre>
+       * A reasonable default for this attribute if the user does not supply a
+       * value.
+       * </pre>
+       *
+       * <code>.secretflow.component.Attribute default_value = 4;</code>
+       * @return The defaultValue.
+       */
+      org.secretflow.proto.component.Comp.Attribute getDefaultValue();
+      /**
+       * <pre>
+       * A reasonable default for this attribute if the user does not supply a
+       * value.
+       * </pre>
+       *
+       * <code>.secretflow.component.Attribute default_value = 4;</code>
+       */
+      org.secretflow.proto.component.Comp.AttributeOrBuilder getDefaultValueOrBuilder();
+
+      /**
+       * <pre>
+       * Only valid when type is {FLOAT, INT, STRING, FLOATS, INTS, STRINGS}
+       * Please use list fields of AtomicParameter, i.e. ss, i64s, fs
+       * If type is list, allowed_values is applied to each element.
+       * </pre>
+       *
+       * <code>.secretflow.component.Attribute allowed_values = 5;</code>
+       * @return Whether the allowedValues field is set.
+       */
+      boolean hasAllowedValues();
+      /**
+       * <pre>
+       * Only valid when type is {FLOAT, INT, STRING, FLOATS, INTS, STRINGS}
+       * Please use list fields of AtomicParameter, i.e. ss, i64s, fs
+       * If type is list, allowed_values is applied to each element.
+       * </pre>
+       *
+       * <code>.secretflow.component.Attribute allowed_values = 5;</code>
+       * @return The allowedValues.
+       */
+      org.secretflow.proto.component.Comp.Attribute getAllowedValues();
+      /**
+       * <pre>
+       * Only valid when type is {FLOAT, INT, STRING, FLOATS, INTS, STRINGS}
+       * Please use list fields of AtomicParameter, i.e. ss, i64s, fs
+       * If type is list, allowed_values is applied to each element.
+       * </pre>
+       *
+       * <code>.secretflow.component.Attribute allowed_values = 5;</code>
+       */
+      org.secretflow.proto.component.Comp.AttributeOrBuilder getAllowedValuesOrBuilder();
+
+      /**
+       * <pre>
+       * Only valid when type is {FLOAT, INT, FLOATS, INTS}
+       * If type is list, allowed_values is applied to each element.
+       * </pre>
+       *
+       * <code>bool has_lower_bound = 6;</code>
+       * @return The hasLowerBound.
+       */
+      boolean getHasLowerBound();
+
+      /**
+       * <code>.secretflow.component.Attribute lower_bound = 7;</code>
+       * @return Whether the lowerBound field is set.
+       */
+      boolean hasLowerBound();
+      /**
+       * <code>.secretflow.component.Attribute lower_bound = 7;</code>
+       * @return The lowerBound.
+       */
+      org.secretflow.proto.component.Comp.Attribute getLowerBound();
+      /**
+       * <code>.secretflow.component.Attribute lower_bound = 7;</code>
+       */
+      org.secretflow.proto.component.Comp.AttributeOrBuilder getLowerBoundOrBuilder();
+
+      /**
+       * <code>bool lower_bound_inclusive = 8;</code>
+       * @return The lowerBoundInclusive.
+       */
+      boolean getLowerBoundInclusive();
+
+      /**
+       * <code>bool has_upper_bound = 9;</code>
+       * @return The hasUpperBound.
+       */
+      boolean getHasUpperBound();
+
+      /**
+       * <code>.secretflow.component.Attribute upper_bound = 10;</code>
+       * @return Whether the upperBound field is set.
+       */
+      boolean hasUpperBound();
+      /**
+       * <code>.secretflow.component.Attribute upper_bound = 10;</code>
+       * @return The upperBound.
+       */
+      org.secretflow.proto.component.Comp.Attribute getUpperBound();
+      /**
+       * <code>.secretflow.component.Attribute upper_bound = 10;</code>
+       */
+      org.secretflow.proto.component.Comp.AttributeOrBuilder getUpperBoundOrBuilder();
+
+      /**
+       * <code>bool upper_bound_inclusive = 11;</code>
+       * @return The upperBoundInclusive.
+       */
+      boolean getUpperBoundInclusive();
+    }
+    /**
+     * <pre>
+     * Extras for a atomic attribute.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.AttributeDef.AtomicAttrDesc}
+     */
+    public static final class AtomicAttrDesc extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:secretflow.component.AttributeDef.AtomicAttrDesc)
+        AtomicAttrDescOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use AtomicAttrDesc.newBuilder() to construct.
+      private AtomicAttrDesc(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private AtomicAttrDesc() {
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new AtomicAttrDesc();
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Comp.internal_static_secretflow_component_AttributeDef_AtomicAttrDesc_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Comp.internal_static_secretflow_component_AttributeDef_AtomicAttrDesc_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc.class, org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc.Builder.class);
+      }
+
+      public static final int LIST_MIN_LENGTH_INCLUSIVE_FIELD_NUMBER = 1;
+      private long listMinLengthInclusive_ = 0L;
+      /**
+       * <pre>
+       * Only valid when type is {FLOATS, INTS, STRINGS, BOOLS}
+       * </pre>
+       *
+       * <code>int64 list_min_length_inclusive = 1;</code>
+       * @return The listMinLengthInclusive.
+       */
+      @java.lang.Override
+      public long getListMinLengthInclusive() {
+        return listMinLengthInclusive_;
+      }
+
+      public static final int LIST_MAX_LENGTH_INCLUSIVE_FIELD_NUMBER = 2;
+      private long listMaxLengthInclusive_ = 0L;
+      /**
+       * <code>int64 list_max_length_inclusive = 2;</code>
+       * @return The listMaxLengthInclusive.
+       */
+      @java.lang.Override
+      public long getListMaxLengthInclusive() {
+        return listMaxLengthInclusive_;
+      }
+
+      public static final int IS_OPTIONAL_FIELD_NUMBER = 3;
+      private boolean isOptional_ = false;
+      /**
+       * <code>bool is_optional = 3;</code>
+       * @return The isOptional.
+       */
+      @java.lang.Override
+      public boolean getIsOptional() {
+        return isOptional_;
+      }
+
+      public static final int DEFAULT_VALUE_FIELD_NUMBER = 4;
+      private org.secretflow.proto.component.Comp.Attribute defaultValue_;
+      /**
+       * <pre>
+       * A reasonable default for this attribute if the user does not supply a
+       * value.
+       * </pre>
+       *
+       * <code>.secretflow.component.Attribute default_value = 4;</code>
+       * @return Whether the defaultValue field is set.
+       */
+      @java.lang.Override
+      public boolean hasDefaultValue() {
+        return defaultValue_ != null;
+      }
+      /**
+       * <pre>
+       * A reasonable default for this attribute if the user does not supply a
+       * value.
+       * </pre>
+       *
+       * <code>.secretflow.component.Attribute default_value = 4;</code>
+       * @return The defaultValue.
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.Attribute getDefaultValue() {
+        return defaultValue_ == null ? org.secretflow.proto.component.Comp.Attribute.getDefaultInstance() : defaultValue_;
+      }
+      /**
+       * <pre>
+       * A reasonable default for this attribute if the user does not supply a
+       * value.
+       * </pre>
+       *
+       * <code>.secretflow.component.Attribute default_value = 4;</code>
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.AttributeOrBuilder getDefaultValueOrBuilder() {
+        return defaultValue_ == null ? org.secretflow.proto.component.Comp.Attribute.getDefaultInstance() : defaultValue_;
+      }
+
+      public static final int ALLOWED_VALUES_FIELD_NUMBER = 5;
+      private org.secretflow.proto.component.Comp.Attribute allowedValues_;
+      /**
+       * <pre>
+       * Only valid when type is {FLOAT, INT, STRING, FLOATS, INTS, STRINGS}
+       * Please use list fields of AtomicParameter, i.e. ss, i64s, fs
+       * If type is list, allowed_values is applied to each element.
+       * </pre>
+       *
+       * <code>.secretflow.component.Attribute allowed_values = 5;</code>
+       * @return Whether the allowedValues field is set.
+       */
+      @java.lang.Override
+      public boolean hasAllowedValues() {
+        return allowedValues_ != null;
+      }
+      /**
+       * <pre>
+       * Only valid when type is {FLOAT, INT, STRING, FLOATS, INTS, STRINGS}
+       * Please use list fields of AtomicParameter, i.e. ss, i64s, fs
+       * If type is list, allowed_values is applied to each element.
+       * </pre>
+       *
+       * <code>.secretflow.component.Attribute allowed_values = 5;</code>
+       * @return The allowedValues.
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.Attribute getAllowedValues() {
+        return allowedValues_ == null ? org.secretflow.proto.component.Comp.Attribute.getDefaultInstance() : allowedValues_;
+      }
+      /**
+       * <pre>
+       * Only valid when type is {FLOAT, INT, STRING, FLOATS, INTS, STRINGS}
+       * Please use list fields of AtomicParameter, i.e. ss, i64s, fs
+       * If type is list, allowed_values is applied to each element.
+       * </pre>
+       *
+       * <code>.secretflow.component.Attribute allowed_values = 5;</code>
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.AttributeOrBuilder getAllowedValuesOrBuilder() {
+        return allowedValues_ == null ? org.secretflow.proto.component.Comp.Attribute.getDefaultInstance() : allowedValues_;
+      }
+
+      public static final int HAS_LOWER_BOUND_FIELD_NUMBER = 6;
+      private boolean hasLowerBound_ = false;
+      /**
+       * <pre>
+       * Only valid when type is {FLOAT, INT, FLOATS, INTS}
+       * If type is list, allowed_values is applied to each element.
+       * </pre>
+       *
+       * <code>bool has_lower_bound = 6;</code>
+       * @return The hasLowerBound.
+       */
+      @java.lang.Override
+      public boolean getHasLowerBound() {
+        return hasLowerBound_;
+      }
+
+      public static final int LOWER_BOUND_FIELD_NUMBER = 7;
+      private org.secretflow.proto.component.Comp.Attribute lowerBound_;
+      /**
+       * <code>.secretflow.component.Attribute lower_bound = 7;</code>
+       * @return Whether the lowerBound field is set.
+       */
+      @java.lang.Override
+      public boolean hasLowerBound() {
+        return lowerBound_ != null;
+      }
+      /**
+       * <code>.secretflow.component.Attribute lower_bound = 7;</code>
+       * @return The lowerBound.
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.Attribute getLowerBound() {
+        return lowerBound_ == null ? org.secretflow.proto.component.Comp.Attribute.getDefaultInstance() : lowerBound_;
+      }
+      /**
+       * <code>.secretflow.component.Attribute lower_bound = 7;</code>
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.AttributeOrBuilder getLowerBoundOrBuilder() {
+        return lowerBound_ == null ? org.secretflow.proto.component.Comp.Attribute.getDefaultInstance() : lowerBound_;
+      }
+
+      public static final int LOWER_BOUND_INCLUSIVE_FIELD_NUMBER = 8;
+      private boolean lowerBoundInclusive_ = false;
+      /**
+       * <code>bool lower_bound_inclusive = 8;</code>
+       * @return The lowerBoundInclusive.
+       */
+      @java.lang.Override
+      public boolean getLowerBoundInclusive() {
+        return lowerBoundInclusive_;
+      }
+
+      public static final int HAS_UPPER_BOUND_FIELD_NUMBER = 9;
+      private boolean hasUpperBound_ = false;
+      /**
+       * <code>bool has_upper_bound = 9;</code>
+       * @return The hasUpperBound.
+       */
+      @java.lang.Override
+      public boolean getHasUpperBound() {
+        return hasUpperBound_;
+      }
+
+      public static final int UPPER_BOUND_FIELD_NUMBER = 10;
+      private org.secretflow.proto.component.Comp.Attribute upperBound_;
+      /**
+       * <code>.secretflow.component.Attribute upper_bound = 10;</code>
+       * @return Whether the upperBound field is set.
+       */
+      @java.lang.Override
+      public boolean hasUpperBound() {
+        return upperBound_ != null;
+      }
+      /**
+       * <code>.secretflow.component.Attribute upper_bound = 10;</code>
+       * @return The upperBound.
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.Attribute getUpperBound() {
+        return upperBound_ == null ? org.secretflow.proto.component.Comp.Attribute.getDefaultInstance() : upperBound_;
+      }
+      /**
+       * <code>.secretflow.component.Attribute upper_bound = 10;</code>
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.AttributeOrBuilder getUpperBoundOrBuilder() {
+        return upperBound_ == null ? org.secretflow.proto.component.Comp.Attribute.getDefaultInstance() : upperBound_;
+      }
+
+      public static final int UPPER_BOUND_INCLUSIVE_FIELD_NUMBER = 11;
+      private boolean upperBoundInclusive_ = false;
+      /**
+       * <code>bool upper_bound_inclusive = 11;</code>
+       * @return The upperBoundInclusive.
+       */
+      @java.lang.Override
+      public boolean getUpperBoundInclusive() {
+        return upperBoundInclusive_;
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (listMinLengthInclusive_ != 0L) {
+          output.writeInt64(1, listMinLengthInclusive_);
+        }
+        if (listMaxLengthInclusive_ != 0L) {
+          output.writeInt64(2, listMaxLengthInclusive_);
+        }
+        if (isOptional_ != false) {
+          output.writeBool(3, isOptional_);
+        }
+        if (defaultValue_ != null) {
+          output.writeMessage(4, getDefaultValue());
+        }
+        if (allowedValues_ != null) {
+          output.writeMessage(5, getAllowedValues());
+        }
+        if (hasLowerBound_ != false) {
+          output.writeBool(6, hasLowerBound_);
+        }
+        if (lowerBound_ != null) {
+          output.writeMessage(7, getLowerBound());
+        }
+        if (lowerBoundInclusive_ != false) {
+          output.writeBool(8, lowerBoundInclusive_);
+        }
+        if (hasUpperBound_ != false) {
+          output.writeBool(9, hasUpperBound_);
+        }
+        if (upperBound_ != null) {
+          output.writeMessage(10, getUpperBound());
+        }
+        if (upperBoundInclusive_ != false) {
+          output.writeBool(11, upperBoundInclusive_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (listMinLengthInclusive_ != 0L) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt64Size(1, listMinLengthInclusive_);
+        }
+        if (listMaxLengthInclusive_ != 0L) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt64Size(2, listMaxLengthInclusive_);
+        }
+        if (isOptional_ != false) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBoolSize(3, isOptional_);
+        }
+        if (defaultValue_ != null) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(4, getDefaultValue());
+        }
+        if (allowedValues_ != null) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(5, getAllowedValues());
+        }
+        if (hasLowerBound_ != false) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBoolSize(6, hasLowerBound_);
+        }
+        if (lowerBound_ != null) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(7, getLowerBound());
+        }
+        if (lowerBoundInclusive_ != false) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBoolSize(8, lowerBoundInclusive_);
+        }
+        if (hasUpperBound_ != false) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBoolSize(9, hasUpperBound_);
+        }
+        if (upperBound_ != null) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(10, getUpperBound());
+        }
+        if (upperBoundInclusive_ != false) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBoolSize(11, upperBoundInclusive_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc)) {
+          return super.equals(obj);
+        }
+        org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc other = (org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc) obj;
+
+        if (getListMinLengthInclusive()
+            != other.getListMinLengthInclusive()) return false;
+        if (getListMaxLengthInclusive()
+            != other.getListMaxLengthInclusive()) return false;
+        if (getIsOptional()
+            != other.getIsOptional()) return false;
+        if (hasDefaultValue() != other.hasDefaultValue()) return false;
+        if (hasDefaultValue()) {
+          if (!getDefaultValue()
+              .equals(other.getDefaultValue())) return false;
+        }
+        if (hasAllowedValues() != other.hasAllowedValues()) return false;
+        if (hasAllowedValues()) {
+          if (!getAllowedValues()
+              .equals(other.getAllowedValues())) return false;
+        }
+        if (getHasLowerBound()
+            != other.getHasLowerBound()) return false;
+        if (hasLowerBound() != other.hasLowerBound()) return false;
+        if (hasLowerBound()) {
+          if (!getLowerBound()
+              .equals(other.getLowerBound())) return false;
+        }
+        if (getLowerBoundInclusive()
+            != other.getLowerBoundInclusive()) return false;
+        if (getHasUpperBound()
+            != other.getHasUpperBound()) return false;
+        if (hasUpperBound() != other.hasUpperBound()) return false;
+        if (hasUpperBound()) {
+          if (!getUpperBound()
+              .equals(other.getUpperBound())) return false;
+        }
+        if (getUpperBoundInclusive()
+            != other.getUpperBoundInclusive()) return false;
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + LIST_MIN_LENGTH_INCLUSIVE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getListMinLengthInclusive());
+        hash = (37 * hash) + LIST_MAX_LENGTH_INCLUSIVE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getListMaxLengthInclusive());
+        hash = (37 * hash) + IS_OPTIONAL_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getIsOptional());
+        if (hasDefaultValue()) {
+          hash = (37 * hash) + DEFAULT_VALUE_FIELD_NUMBER;
+          hash = (53 * hash) + getDefaultValue().hashCode();
+        }
+        if (hasAllowedValues()) {
+          hash = (37 * hash) + ALLOWED_VALUES_FIELD_NUMBER;
+          hash = (53 * hash) + getAllowedValues().hashCode();
+        }
+        hash = (37 * hash) + HAS_LOWER_BOUND_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getHasLowerBound());
+        if (hasLowerBound()) {
+          hash = (37 * hash) + LOWER_BOUND_FIELD_NUMBER;
+          hash = (53 * hash) + getLowerBound().hashCode();
+        }
+        hash = (37 * hash) + LOWER_BOUND_INCLUSIVE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getLowerBoundInclusive());
+        hash = (37 * hash) + HAS_UPPER_BOUND_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getHasUpperBound());
+        if (hasUpperBound()) {
+          hash = (37 * hash) + UPPER_BOUND_FIELD_NUMBER;
+          hash = (53 * hash) + getUpperBound().hashCode();
+        }
+        hash = (37 * hash) + UPPER_BOUND_INCLUSIVE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getUpperBoundInclusive());
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * <pre>
+       * Extras for a atomic attribute.
+       * </pre>
+       *
+       * Protobuf type {@code secretflow.component.AttributeDef.AtomicAttrDesc}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:secretflow.component.AttributeDef.AtomicAttrDesc)
+          org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDescOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.secretflow.proto.component.Comp.internal_static_secretflow_component_AttributeDef_AtomicAttrDesc_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.secretflow.proto.component.Comp.internal_static_secretflow_component_AttributeDef_AtomicAttrDesc_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc.class, org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc.Builder.class);
+        }
+
+        // Construct using org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          listMinLengthInclusive_ = 0L;
+          listMaxLengthInclusive_ = 0L;
+          isOptional_ = false;
+          defaultValue_ = null;
+          if (defaultValueBuilder_ != null) {
+            defaultValueBuilder_.dispose();
+            defaultValueBuilder_ = null;
+          }
+          allowedValues_ = null;
+          if (allowedValuesBuilder_ != null) {
+            allowedValuesBuilder_.dispose();
+            allowedValuesBuilder_ = null;
+          }
+          hasLowerBound_ = false;
+          lowerBound_ = null;
+          if (lowerBoundBuilder_ != null) {
+            lowerBoundBuilder_.dispose();
+            lowerBoundBuilder_ = null;
+          }
+          lowerBoundInclusive_ = false;
+          hasUpperBound_ = false;
+          upperBound_ = null;
+          if (upperBoundBuilder_ != null) {
+            upperBoundBuilder_.dispose();
+            upperBoundBuilder_ = null;
+          }
+          upperBoundInclusive_ = false;
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.secretflow.proto.component.Comp.internal_static_secretflow_component_AttributeDef_AtomicAttrDesc_descriptor;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc getDefaultInstanceForType() {
+          return org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc build() {
+          org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc buildPartial() {
+          org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc result = new org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc(this);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartial0(org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.listMinLengthInclusive_ = listMinLengthInclusive_;
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.listMaxLengthInclusive_ = listMaxLengthInclusive_;
+          }
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            result.isOptional_ = isOptional_;
+          }
+          if (((from_bitField0_ & 0x00000008) != 0)) {
+            result.defaultValue_ = defaultValueBuilder_ == null
+                ? defaultValue_
+                : defaultValueBuilder_.build();
+          }
+          if (((from_bitField0_ & 0x00000010) != 0)) {
+            result.allowedValues_ = allowedValuesBuilder_ == null
+                ? allowedValues_
+                : allowedValuesBuilder_.build();
+          }
+          if (((from_bitField0_ & 0x00000020) != 0)) {
+            result.hasLowerBound_ = hasLowerBound_;
+          }
+          if (((from_bitField0_ & 0x00000040) != 0)) {
+            result.lowerBound_ = lowerBoundBuilder_ == null
+                ? lowerBound_
+                : lowerBoundBuilder_.build();
+          }
+          if (((from_bitField0_ & 0x00000080) != 0)) {
+            result.lowerBoundInclusive_ = lowerBoundInclusive_;
+          }
+          if (((from_bitField0_ & 0x00000100) != 0)) {
+            result.hasUpperBound_ = hasUpperBound_;
+          }
+          if (((from_bitField0_ & 0x00000200) != 0)) {
+            result.upperBound_ = upperBoundBuilder_ == null
+                ? upperBound_
+                : upperBoundBuilder_.build();
+          }
+          if (((from_bitField0_ & 0x00000400) != 0)) {
+            result.upperBoundInclusive_ = upperBoundInclusive_;
+          }
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc) {
+            return mergeFrom((org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc other) {
+          if (other == org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc.getDefaultInstance()) return this;
+          if (other.getListMinLengthInclusive() != 0L) {
+            setListMinLengthInclusive(other.getListMinLengthInclusive());
+          }
+          if (other.getListMaxLengthInclusive() != 0L) {
+            setListMaxLengthInclusive(other.getListMaxLengthInclusive());
+          }
+          if (other.getIsOptional() != false) {
+            setIsOptional(other.getIsOptional());
+          }
+          if (other.hasDefaultValue()) {
+            mergeDefaultValue(other.getDefaultValue());
+          }
+          if (other.hasAllowedValues()) {
+            mergeAllowedValues(other.getAllowedValues());
+          }
+          if (other.getHasLowerBound() != false) {
+            setHasLowerBound(other.getHasLowerBound());
+          }
+          if (other.hasLowerBound()) {
+            mergeLowerBound(other.getLowerBound());
+          }
+          if (other.getLowerBoundInclusive() != false) {
+            setLowerBoundInclusive(other.getLowerBoundInclusive());
+          }
+          if (other.getHasUpperBound() != false) {
+            setHasUpperBound(other.getHasUpperBound());
+          }
+          if (other.hasUpperBound()) {
+            mergeUpperBound(other.getUpperBound());
+          }
+          if (other.getUpperBoundInclusive() != false) {
+            setUpperBoundInclusive(other.getUpperBoundInclusive());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 8: {
+                  listMinLengthInclusive_ = input.readInt64();
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 8
+                case 16: {
+                  listMaxLengthInclusive_ = input.readInt64();
+                  bitField0_ |= 0x00000002;
+                  break;
+                } // case 16
+                case 24: {
+                  isOptional_ = input.readBool();
+                  bitField0_ |= 0x00000004;
+                  break;
+                } // case 24
+                case 34: {
+                  input.readMessage(
+                      getDefaultValueFieldBuilder().getBuilder(),
+                      extensionRegistry);
+                  bitField0_ |= 0x00000008;
+                  break;
+                } // case 34
+                case 42: {
+                  input.readMessage(
+                      getAllowedValuesFieldBuilder().getBuilder(),
+                      extensionRegistry);
+                  bitField0_ |= 0x00000010;
+                  break;
+                } // case 42
+                case 48: {
+                  hasLowerBound_ = input.readBool();
+                  bitField0_ |= 0x00000020;
+                  break;
+                } // case 48
+                case 58: {
+                  input.readMessage(
+                      getLowerBoundFieldBuilder().getBuilder(),
+                      extensionRegistry);
+                  bitField0_ |= 0x00000040;
+                  break;
+                } // case 58
+                case 64: {
+                  lowerBoundInclusive_ = input.readBool();
+                  bitField0_ |= 0x00000080;
+                  break;
+                } // case 64
+                case 72: {
+                  hasUpperBound_ = input.readBool();
+                  bitField0_ |= 0x00000100;
+                  break;
+                } // case 72
+                case 82: {
+                  input.readMessage(
+                      getUpperBoundFieldBuilder().getBuilder(),
+                      extensionRegistry);
+                  bitField0_ |= 0x00000200;
+                  break;
+                } // case 82
+                case 88: {
+                  upperBoundInclusive_ = input.readBool();
+                  bitField0_ |= 0x00000400;
+                  break;
+                } // case 88
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private long listMinLengthInclusive_ ;
+        /**
+         * <pre>
+         * Only valid when type is {FLOATS, INTS, STRINGS, BOOLS}
+         * </pre>
+         *
+         * <code>int64 list_min_length_inclusive = 1;</code>
+         * @return The listMinLengthInclusive.
+         */
+        @java.lang.Override
+        public long getListMinLengthInclusive() {
+          return listMinLengthInclusive_;
+        }
+        /**
+         * <pre>
+         * Only valid when type is {FLOATS, INTS, STRINGS, BOOLS}
+         * </pre>
+         *
+         * <code>int64 list_min_length_inclusive = 1;</code>
+         * @param value The listMinLengthInclusive to set.
+         * @return This builder for chaining.
+         */
+        public Builder setListMinLengthInclusive(long value) {
+
+          listMinLengthInclusive_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Only valid when type is {FLOATS, INTS, STRINGS, BOOLS}
+         * </pre>
+         *
+         * <code>int64 list_min_length_inclusive = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearListMinLengthInclusive() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          listMinLengthInclusive_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        private long listMaxLengthInclusive_ ;
+        /**
+         * <code>int64 list_max_length_inclusive = 2;</code>
+         * @return The listMaxLengthInclusive.
+         */
+        @java.lang.Override
+        public long getListMaxLengthInclusive() {
+          return listMaxLengthInclusive_;
+        }
+        /**
+         * <code>int64 list_max_length_inclusive = 2;</code>
+         * @param value The listMaxLengthInclusive to set.
+         * @return This builder for chaining.
+         */
+        public Builder setListMaxLengthInclusive(long value) {
+
+          listMaxLengthInclusive_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>int64 list_max_length_inclusive = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearListMaxLengthInclusive() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          listMaxLengthInclusive_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        private boolean isOptional_ ;
+        /**
+         * <code>bool is_optional = 3;</code>
+         * @return The isOptional.
+         */
+        @java.lang.Override
+        public boolean getIsOptional() {
+          return isOptional_;
+        }
+        /**
+         * <code>bool is_optional = 3;</code>
+         * @param value The isOptional to set.
+         * @return This builder for chaining.
+         */
+        public Builder setIsOptional(boolean value) {
+
+          isOptional_ = value;
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>bool is_optional = 3;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearIsOptional() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          isOptional_ = false;
+          onChanged();
+          return this;
+        }
+
+        private org.secretflow.proto.component.Comp.Attribute defaultValue_;
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder> defaultValueBuilder_;
+        /**
+         * <pre>
+         * A reasonable default for this attribute if the user does not supply a
+         * value.
+         * </pre>
+         *
+         * <code>.secretflow.component.Attribute default_value = 4;</code>
+         * @return Whether the defaultValue field is set.
+         */
+        public boolean hasDefaultValue() {
+          return ((bitField0_ & 0x00000008) != 0);
+        }
+        /**
+         * <pre>
+         * A reasonable default for this attribute if the user does not supply a
+         * value.
+         * </pre>
+         *
+         * <code>.secretflow.component.Attribute default_value = 4;</code>
+         * @return The defaultValue.
+         */
+        public org.secretflow.proto.component.Comp.Attribute getDefaultValue() {
+          if (defaultValueBuilder_ == null) {
+            return defaultValue_ == null ? org.secretflow.proto.component.Comp.Attribute.getDefaultInstance() : defaultValue_;
+          } else {
+            return defaultValueBuilder_.getMessage();
+          }
+        }
+        /**
+         * <pre>
+         * A reasonable default for this attribute if the user does not supply a
+         * value.
+         * </pre>
+         *
+         * <code>.secretflow.component.Attribute default_value = 4;</code>
+         */
+        public Builder setDefaultValue(org.secretflow.proto.component.Comp.Attribute value) {
+          if (defaultValueBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            defaultValue_ = value;
+          } else {
+            defaultValueBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * A reasonable default for this attribute if the user does not supply a
+         * value.
+         * </pre>
+         *
+         * <code>.secretflow.component.Attribute default_value = 4;</code>
+         */
+        public Builder setDefaultValue(
+            org.secretflow.proto.component.Comp.Attribute.Builder builderForValue) {
+          if (defaultValueBuilder_ == null) {
+            defaultValue_ = builderForValue.build();
+          } else {
+            defaultValueBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * A reasonable default for this attribute if the user does not supply a
+         * value.
+         * </pre>
+         *
+         * <code>.secretflow.component.Attribute default_value = 4;</code>
+         */
+        public Builder mergeDefaultValue(org.secretflow.proto.component.Comp.Attribute value) {
+          if (defaultValueBuilder_ == null) {
+            if (((bitField0_ & 0x00000008) != 0) &&
+              defaultValue_ != null &&
+              defaultValue_ != org.secretflow.proto.component.Comp.Attribute.getDefaultInstance()) {
+              getDefaultValueBuilder().mergeFrom(value);
+            } else {
+              defaultValue_ = value;
+            }
+          } else {
+            defaultValueBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * A reasonable default for this attribute if the user does not supply a
+         * value.
+         * </pre>
+         *
+         * <code>.secretflow.component.Attribute default_value = 4;</code>
+         */
+        public Builder clearDefaultValue() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          defaultValue_ = null;
+          if (defaultValueBuilder_ != null) {
+            defaultValueBuilder_.dispose();
+            defaultValueBuilder_ = null;
+          }
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * A reasonable default for this attribute if the user does not supply a
+         * value.
+         * </pre>
+         *
+         * <code>.secretflow.component.Attribute default_value = 4;</code>
+         */
+        public org.secretflow.proto.component.Comp.Attribute.Builder getDefaultValueBuilder() {
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return getDefaultValueFieldBuilder().getBuilder();
+        }
+        /**
+         * <pre>
+         * A reasonable default for this attribute if the user does not supply a
+         * value.
+         * </pre>
+         *
+         * <code>.secretflow.component.Attribute default_value = 4;</code>
+         */
+        public org.secretflow.proto.component.Comp.AttributeOrBuilder getDefaultValueOrBuilder() {
+          if (defaultValueBuilder_ != null) {
+            return defaultValueBuilder_.getMessageOrBuilder();
+          } else {
+            return defaultValue_ == null ?
+                org.secretflow.proto.component.Comp.Attribute.getDefaultInstance() : defaultValue_;
+          }
+        }
+        /**
+         * <pre>
+         * A reasonable default for this attribute if the user does not supply a
+         * value.
+         * </pre>
+         *
+         * <code>.secretflow.component.Attribute default_value = 4;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder> 
+            getDefaultValueFieldBuilder() {
+          if (defaultValueBuilder_ == null) {
+            defaultValueBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder>(
+                    getDefaultValue(),
+                    getParentForChildren(),
+                    isClean());
+            defaultValue_ = null;
+          }
+          return defaultValueBuilder_;
+        }
+
+        private org.secretflow.proto.component.Comp.Attribute allowedValues_;
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder> allowedValuesBuilder_;
+        /**
+         * <pre>
+         * Only valid when type is {FLOAT, INT, STRING, FLOATS, INTS, STRINGS}
+         * Please use list fields of AtomicParameter, i.e. ss, i64s, fs
+         * If type is list, allowed_values is applied to each element.
+         * </pre>
+         *
+         * <code>.secretflow.component.Attribute allowed_values = 5;</code>
+         * @return Whether the allowedValues field is set.
+         */
+        public boolean hasAllowedValues() {
+          return ((bitField0_ & 0x00000010) != 0);
+        }
+        /**
+         * <pre>
+         * Only valid when type is {FLOAT, INT, STRING, FLOATS, INTS, STRINGS}
+         * Please use list fields of AtomicParameter, i.e. ss, i64s, fs
+         * If type is list, allowed_values is applied to each element.
+         * </pre>
+         *
+         * <code>.secretflow.component.Attribute allowed_values = 5;</code>
+         * @return The allowedValues.
+         */
+        public org.secretflow.proto.component.Comp.Attribute getAllowedValues() {
+          if (allowedValuesBuilder_ == null) {
+            return allowedValues_ == null ? org.secretflow.proto.component.Comp.Attribute.getDefaultInstance() : allowedValues_;
+          } else {
+            return allowedValuesBuilder_.getMessage();
+          }
+        }
+        /**
+         * <pre>
+         * Only valid when type is {FLOAT, INT, STRING, FLOATS, INTS, STRINGS}
+         * Please use list fields of AtomicParameter, i.e. ss, i64s, fs
+         * If type is list, allowed_values is applied to each element.
+         * </pre>
+         *
+         * <code>.secretflow.component.Attribute allowed_values = 5;</code>
+         */
+        public Builder setAllowedValues(org.secretflow.proto.component.Comp.Attribute value) {
+          if (allowedValuesBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            allowedValues_ = value;
+          } else {
+            allowedValuesBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000010;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Only valid when type is {FLOAT, INT, STRING, FLOATS, INTS, STRINGS}
+         * Please use list fields of AtomicParameter, i.e. ss, i64s, fs
+         * If type is list, allowed_values is applied to each element.
+         * </pre>
+         *
+         * <code>.secretflow.component.Attribute allowed_values = 5;</code>
+         */
+        public Builder setAllowedValues(
+            org.secretflow.proto.component.Comp.Attribute.Builder builderForValue) {
+          if (allowedValuesBuilder_ == null) {
+            allowedValues_ = builderForValue.build();
+          } else {
+            allowedValuesBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000010;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Only valid when type is {FLOAT, INT, STRING, FLOATS, INTS, STRINGS}
+         * Please use list fields of AtomicParameter, i.e. ss, i64s, fs
+         * If type is list, allowed_values is applied to each element.
+         * </pre>
+         *
+         * <code>.secretflow.component.Attribute allowed_values = 5;</code>
+         */
+        public Builder mergeAllowedValues(org.secretflow.proto.component.Comp.Attribute value) {
+          if (allowedValuesBuilder_ == null) {
+            if (((bitField0_ & 0x00000010) != 0) &&
+              allowedValues_ != null &&
+              allowedValues_ != org.secretflow.proto.component.Comp.Attribute.getDefaultInstance()) {
+              getAllowedValuesBuilder().mergeFrom(value);
+            } else {
+              allowedValues_ = value;
+            }
+          } else {
+            allowedValuesBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000010;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Only valid when type is {FLOAT, INT, STRING, FLOATS, INTS, STRINGS}
+         * Please use list fields of AtomicParameter, i.e. ss, i64s, fs
+         * If type is list, allowed_values is applied to each element.
+         * </pre>
+         *
+         * <code>.secretflow.component.Attribute allowed_values = 5;</code>
+         */
+        public Builder clearAllowedValues() {
+          bitField0_ = (bitField0_ & ~0x00000010);
+          allowedValues_ = null;
+          if (allowedValuesBuilder_ != null) {
+            allowedValuesBuilder_.dispose();
+            allowedValuesBuilder_ = null;
+          }
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Only valid when type is {FLOAT, INT, STRING, FLOATS, INTS, STRINGS}
+         * Please use list fields of AtomicParameter, i.e. ss, i64s, fs
+         * If type is list, allowed_values is applied to each element.
+         * </pre>
+         *
+         * <code>.secretflow.component.Attribute allowed_values = 5;</code>
+         */
+        public org.secretflow.proto.component.Comp.Attribute.Builder getAllowedValuesBuilder() {
+          bitField0_ |= 0x00000010;
+          onChanged();
+          return getAllowedValuesFieldBuilder().getBuilder();
+        }
+        /**
+         * <pre>
+         * Only valid when type is {FLOAT, INT, STRING, FLOATS, INTS, STRINGS}
+         * Please use list fields of AtomicParameter, i.e. ss, i64s, fs
+         * If type is list, allowed_values is applied to each element.
+         * </pre>
+         *
+         * <code>.secretflow.component.Attribute allowed_values = 5;</code>
+         */
+        public org.secretflow.proto.component.Comp.AttributeOrBuilder getAllowedValuesOrBuilder() {
+          if (allowedValuesBuilder_ != null) {
+            return allowedValuesBuilder_.getMessageOrBuilder();
+          } else {
+            return allowedValues_ == null ?
+                org.secretflow.proto.component.Comp.Attribute.getDefaultInstance() : allowedValues_;
+          }
+        }
+        /**
+         * <pre>
+         * Only valid when type is {FLOAT, INT, STRING, FLOATS, INTS, STRINGS}
+         * Please use list fields of AtomicParameter, i.e. ss, i64s, fs
+         * If type is list, allowed_values is applied to each element.
+         * </pre>
+         *
+         * <code>.secretflow.component.Attribute allowed_values = 5;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder> 
+            getAllowedValuesFieldBuilder() {
+          if (allowedValuesBuilder_ == null) {
+            allowedValuesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder>(
+                    getAllowedValues(),
+                    getParentForChildren(),
+                    isClean());
+            allowedValues_ = null;
+          }
+          return allowedValuesBuilder_;
+        }
+
+        private boolean hasLowerBound_ ;
+        /**
+         * <pre>
+         * Only valid when type is {FLOAT, INT, FLOATS, INTS}
+         * If type is list, allowed_values is applied to each element.
+         * </pre>
+         *
+         * <code>bool has_lower_bound = 6;</code>
+         * @return The hasLowerBound.
+         */
+        @java.lang.Override
+        public boolean getHasLowerBound() {
+          return hasLowerBound_;
+        }
+        /**
+         * <pre>
+         * Only valid when type is {FLOAT, INT, FLOATS, INTS}
+         * If type is list, allowed_values is applied to each element.
+         * </pre>
+         *
+         * <code>bool has_lower_bound = 6;</code>
+         * @param value The hasLowerBound to set.
+         * @return This builder for chaining.
+         */
+        public Builder setHasLowerBound(boolean value) {
+
+          hasLowerBound_ = value;
+          bitField0_ |= 0x00000020;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Only valid when type is {FLOAT, INT, FLOATS, INTS}
+         * If type is list, allowed_values is applied to each element.
+         * </pre>
+         *
+         * <code>bool has_lower_bound = 6;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearHasLowerBound() {
+          bitField0_ = (bitField0_ & ~0x00000020);
+          hasLowerBound_ = false;
+          onChanged();
+          return this;
+        }
+
+        private org.secretflow.proto.component.Comp.Attribute lowerBound_;
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder> lowerBoundBuilder_;
+        /**
+         * <code>.secretflow.component.Attribute lower_bound = 7;</code>
+         * @return Whether the lowerBound field is set.
+         */
+        public boolean hasLowerBound() {
+          return ((bitField0_ & 0x00000040) != 0);
+        }
+        /**
+         * <code>.secretflow.component.Attribute lower_bound = 7;</code>
+         * @return The lowerBound.
+         */
+        public org.secretflow.proto.component.Comp.Attribute getLowerBound() {
+          if (lowerBoundBuilder_ == null) {
+            return lowerBound_ == null ? org.secretflow.proto.component.Comp.Attribute.getDefaultInstance() : lowerBound_;
+          } else {
+            return lowerBoundBuilder_.getMessage();
+          }
+        }
+        /**
+         * <code>.secretflow.component.Attribute lower_bound = 7;</code>
+         */
+        public Builder setLowerBound(org.secretflow.proto.component.Comp.Attribute value) {
+          if (lowerBoundBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            lowerBound_ = value;
+          } else {
+            lowerBoundBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000040;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Attribute lower_bound = 7;</code>
+         */
+        public Builder setLowerBound(
+            org.secretflow.proto.component.Comp.Attribute.Builder builderForValue) {
+          if (lowerBoundBuilder_ == null) {
+            lowerBound_ = builderForValue.build();
+          } else {
+            lowerBoundBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000040;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Attribute lower_bound = 7;</code>
+         */
+        public Builder mergeLowerBound(org.secretflow.proto.component.Comp.Attribute value) {
+          if (lowerBoundBuilder_ == null) {
+            if (((bitField0_ & 0x00000040) != 0) &&
+              lowerBound_ != null &&
+              lowerBound_ != org.secretflow.proto.component.Comp.Attribute.getDefaultInstance()) {
+              getLowerBoundBuilder().mergeFrom(value);
+            } else {
+              lowerBound_ = value;
+            }
+          } else {
+            lowerBoundBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000040;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Attribute lower_bound = 7;</code>
+         */
+        public Builder clearLowerBound() {
+          bitField0_ = (bitField0_ & ~0x00000040);
+          lowerBound_ = null;
+          if (lowerBoundBuilder_ != null) {
+            lowerBoundBuilder_.dispose();
+            lowerBoundBuilder_ = null;
+          }
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Attribute lower_bound = 7;</code>
+         */
+        public org.secretflow.proto.component.Comp.Attribute.Builder getLowerBoundBuilder() {
+          bitField0_ |= 0x00000040;
+          onChanged();
+          return getLowerBoundFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>.secretflow.component.Attribute lower_bound = 7;</code>
+         */
+        public org.secretflow.proto.component.Comp.AttributeOrBuilder getLowerBoundOrBuilder() {
+          if (lowerBoundBuilder_ != null) {
+            return lowerBoundBuilder_.getMessageOrBuilder();
+          } else {
+            return lowerBound_ == null ?
+                org.secretflow.proto.component.Comp.Attribute.getDefaultInstance() : lowerBound_;
+          }
+        }
+        /**
+         * <code>.secretflow.component.Attribute lower_bound = 7;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder> 
+            getLowerBoundFieldBuilder() {
+          if (lowerBoundBuilder_ == null) {
+            lowerBoundBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder>(
+                    getLowerBound(),
+                    getParentForChildren(),
+                    isClean());
+            lowerBound_ = null;
+          }
+          return lowerBoundBuilder_;
+        }
+
+        private boolean lowerBoundInclusive_ ;
+        /**
+         * <code>bool lower_bound_inclusive = 8;</code>
+         * @return The lowerBoundInclusive.
+         */
+        @java.lang.Override
+        public boolean getLowerBoundInclusive() {
+          return lowerBoundInclusive_;
+        }
+        /**
+         * <code>bool lower_bound_inclusive = 8;</code>
+         * @param value The lowerBoundInclusive to set.
+         * @return This builder for chaining.
+         */
+        public Builder setLowerBoundInclusive(boolean value) {
+
+          lowerBoundInclusive_ = value;
+          bitField0_ |= 0x00000080;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>bool lower_bound_inclusive = 8;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearLowerBoundInclusive() {
+          bitField0_ = (bitField0_ & ~0x00000080);
+          lowerBoundInclusive_ = false;
+          onChanged();
+          return this;
+        }
+
+        private boolean hasUpperBound_ ;
+        /**
+         * <code>bool has_upper_bound = 9;</code>
+         * @return The hasUpperBound.
+         */
+        @java.lang.Override
+        public boolean getHasUpperBound() {
+          return hasUpperBound_;
+        }
+        /**
+         * <code>bool has_upper_bound = 9;</code>
+         * @param value The hasUpperBound to set.
+         * @return This builder for chaining.
+         */
+        public Builder setHasUpperBound(boolean value) {
+
+          hasUpperBound_ = value;
+          bitField0_ |= 0x00000100;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>bool has_upper_bound = 9;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearHasUpperBound() {
+          bitField0_ = (bitField0_ & ~0x00000100);
+          hasUpperBound_ = false;
+          onChanged();
+          return this;
+        }
+
+        private org.secretflow.proto.component.Comp.Attribute upperBound_;
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder> upperBoundBuilder_;
+        /**
+         * <code>.secretflow.component.Attribute upper_bound = 10;</code>
+         * @return Whether the upperBound field is set.
+         */
+        public boolean hasUpperBound() {
+          return ((bitField0_ & 0x00000200) != 0);
+        }
+        /**
+         * <code>.secretflow.component.Attribute upper_bound = 10;</code>
+         * @return The upperBound.
+         */
+        public org.secretflow.proto.component.Comp.Attribute getUpperBound() {
+          if (upperBoundBuilder_ == null) {
+            return upperBound_ == null ? org.secretflow.proto.component.Comp.Attribute.getDefaultInstance() : upperBound_;
+          } else {
+            return upperBoundBuilder_.getMessage();
+          }
+        }
+        /**
+         * <code>.secretflow.component.Attribute upper_bound = 10;</code>
+         */
+        public Builder setUpperBound(org.secretflow.proto.component.Comp.Attribute value) {
+          if (upperBoundBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            upperBound_ = value;
+          } else {
+            upperBoundBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000200;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Attribute upper_bound = 10;</code>
+         */
+        public Builder setUpperBound(
+            org.secretflow.proto.component.Comp.Attribute.Builder builderForValue) {
+          if (upperBoundBuilder_ == null) {
+            upperBound_ = builderForValue.build();
+          } else {
+            upperBoundBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000200;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Attribute upper_bound = 10;</code>
+         */
+        public Builder mergeUpperBound(org.secretflow.proto.component.Comp.Attribute value) {
+          if (upperBoundBuilder_ == null) {
+            if (((bitField0_ & 0x00000200) != 0) &&
+              upperBound_ != null &&
+              upperBound_ != org.secretflow.proto.component.Comp.Attribute.getDefaultInstance()) {
+              getUpperBoundBuilder().mergeFrom(value);
+            } else {
+              upperBound_ = value;
+            }
+          } else {
+            upperBoundBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000200;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Attribute upper_bound = 10;</code>
+         */
+        public Builder clearUpperBound() {
+          bitField0_ = (bitField0_ & ~0x00000200);
+          upperBound_ = null;
+          if (upperBoundBuilder_ != null) {
+            upperBoundBuilder_.dispose();
+            upperBoundBuilder_ = null;
+          }
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Attribute upper_bound = 10;</code>
+         */
+        public org.secretflow.proto.component.Comp.Attribute.Builder getUpperBoundBuilder() {
+          bitField0_ |= 0x00000200;
+          onChanged();
+          return getUpperBoundFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>.secretflow.component.Attribute upper_bound = 10;</code>
+         */
+        public org.secretflow.proto.component.Comp.AttributeOrBuilder getUpperBoundOrBuilder() {
+          if (upperBoundBuilder_ != null) {
+            return upperBoundBuilder_.getMessageOrBuilder();
+          } else {
+            return upperBound_ == null ?
+                org.secretflow.proto.component.Comp.Attribute.getDefaultInstance() : upperBound_;
+          }
+        }
+        /**
+         * <code>.secretflow.component.Attribute upper_bound = 10;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder> 
+            getUpperBoundFieldBuilder() {
+          if (upperBoundBuilder_ == null) {
+            upperBoundBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder>(
+                    getUpperBound(),
+                    getParentForChildren(),
+                    isClean());
+            upperBound_ = null;
+          }
+          return upperBoundBuilder_;
+        }
+
+        private boolean upperBoundInclusive_ ;
+        /**
+         * <code>bool upper_bound_inclusive = 11;</code>
+         * @return The upperBoundInclusive.
+         */
+        @java.lang.Override
+        public boolean getUpperBoundInclusive() {
+          return upperBoundInclusive_;
+        }
+        /**
+         * <code>bool upper_bound_inclusive = 11;</code>
+         * @param value The upperBoundInclusive to set.
+         * @return This builder for chaining.
+         */
+        public Builder setUpperBoundInclusive(boolean value) {
+
+          upperBoundInclusive_ = value;
+          bitField0_ |= 0x00000400;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>bool upper_bound_inclusive = 11;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearUpperBoundInclusive() {
+          bitField0_ = (bitField0_ & ~0x00000400);
+          upperBoundInclusive_ = false;
+          onChanged();
+          return this;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:secretflow.component.AttributeDef.AtomicAttrDesc)
+      }
+
+      // @@protoc_insertion_point(class_scope:secretflow.component.AttributeDef.AtomicAttrDesc)
+      private static final org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc();
+      }
+
+      public static org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<AtomicAttrDesc>
+          PARSER = new com.google.protobuf.AbstractParser<AtomicAttrDesc>() {
+        @java.lang.Override
+        public AtomicAttrDesc parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<AtomicAttrDesc> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<AtomicAttrDesc> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public interface UnionAttrGroupDescOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:secretflow.component.AttributeDef.UnionAttrGroupDesc)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <pre>
+       * name of default selected child.
+       * </pre>
+       *
+       * <code>string default_selection = 1;</code>
+       * @return The defaultSelection.
+       */
+      java.lang.String getDefaultSelection();
+      /**
+       * <pre>
+       * name of default selected child.
+       * </pre>
+       *
+       * <code>string default_selection = 1;</code>
+       * @return The bytes for defaultSelection.
+       */
+      com.google.protobuf.ByteString
+          getDefaultSelectionBytes();
+    }
+    /**
+     * <pre>
+     * Extras for union attribute group.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.AttributeDef.UnionAttrGroupDesc}
+     */
+    public static final class UnionAttrGroupDesc extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:secretflow.component.AttributeDef.UnionAttrGroupDesc)
+        UnionAttrGroupDescOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use UnionAttrGroupDesc.newBuilder() to construct.
+      private UnionAttrGroupDesc(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private UnionAttrGroupDesc() {
+        defaultSelection_ = "";
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new UnionAttrGroupDesc();
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Comp.internal_static_secretflow_component_AttributeDef_UnionAttrGroupDesc_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Comp.internal_static_secretflow_component_AttributeDef_UnionAttrGroupDesc_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc.class, org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc.Builder.class);
+      }
+
+      public static final int DEFAULT_SELECTION_FIELD_NUMBER = 1;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object defaultSelection_ = "";
+      /**
+       * <pre>
+       * name of default selected child.
+       * </pre>
+       *
+       * <code>string default_selection = 1;</code>
+       * @return The defaultSelection.
+       */
+      @java.lang.Override
+      public java.lang.String getDefaultSelection() {
+        java.lang.Object ref = defaultSelection_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          defaultSelection_ = s;
+          return s;
+        }
+      }
+      /**
+       * <pre>
+       * name of default selected child.
+       * </pre>
+       *
+       * <code>string default_selection = 1;</code>
+       * @return The bytes for defaultSelection.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getDefaultSelectionBytes() {
+        java.lang.Object ref = defaultSelection_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          defaultSelection_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(defaultSelection_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, defaultSelection_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(defaultSelection_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, defaultSelection_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc)) {
+          return super.equals(obj);
+        }
+        org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc other = (org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc) obj;
+
+        if (!getDefaultSelection()
+            .equals(other.getDefaultSelection())) return false;
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + DEFAULT_SELECTION_FIELD_NUMBER;
+        hash = (53 * hash) + getDefaultSelection().hashCode();
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * <pre>
+       * Extras for union attribute group.
+       * </pre>
+       *
+       * Protobuf type {@code secretflow.component.AttributeDef.UnionAttrGroupDesc}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:secretflow.component.AttributeDef.UnionAttrGroupDesc)
+          org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDescOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.secretflow.proto.component.Comp.internal_static_secretflow_component_AttributeDef_UnionAttrGroupDesc_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.secretflow.proto.component.Comp.internal_static_secretflow_component_AttributeDef_UnionAttrGroupDesc_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc.class, org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc.Builder.class);
+        }
+
+        // Construct using org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          defaultSelection_ = "";
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.secretflow.proto.component.Comp.internal_static_secretflow_component_AttributeDef_UnionAttrGroupDesc_descriptor;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc getDefaultInstanceForType() {
+          return org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc build() {
+          org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc buildPartial() {
+          org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc result = new org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc(this);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartial0(org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.defaultSelection_ = defaultSelection_;
+          }
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc) {
+            return mergeFrom((org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc other) {
+          if (other == org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc.getDefaultInstance()) return this;
+          if (!other.getDefaultSelection().isEmpty()) {
+            defaultSelection_ = other.defaultSelection_;
+            bitField0_ |= 0x00000001;
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 10: {
+                  defaultSelection_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 10
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object defaultSelection_ = "";
+        /**
+         * <pre>
+         * name of default selected child.
+         * </pre>
+         *
+         * <code>string default_selection = 1;</code>
+         * @return The defaultSelection.
+         */
+        public java.lang.String getDefaultSelection() {
+          java.lang.Object ref = defaultSelection_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            defaultSelection_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <pre>
+         * name of default selected child.
+         * </pre>
+         *
+         * <code>string default_selection = 1;</code>
+         * @return The bytes for defaultSelection.
+         */
+        public com.google.protobuf.ByteString
+            getDefaultSelectionBytes() {
+          java.lang.Object ref = defaultSelection_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            defaultSelection_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <pre>
+         * name of default selected child.
+         * </pre>
+         *
+         * <code>string default_selection = 1;</code>
+         * @param value The defaultSelection to set.
+         * @return This builder for chaining.
+         */
+        public Builder setDefaultSelection(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          defaultSelection_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * name of default selected child.
+         * </pre>
+         *
+         * <code>string default_selection = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearDefaultSelection() {
+          defaultSelection_ = getDefaultInstance().getDefaultSelection();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * name of default selected child.
+         * </pre>
+         *
+         * <code>string default_selection = 1;</code>
+         * @param value The bytes for defaultSelection to set.
+         * @return This builder for chaining.
+         */
+        public Builder setDefaultSelectionBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          defaultSelection_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:secretflow.component.AttributeDef.UnionAttrGroupDesc)
+      }
+
+      // @@protoc_insertion_point(class_scope:secretflow.component.AttributeDef.UnionAttrGroupDesc)
+      private static final org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc();
+      }
+
+      public static org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<UnionAttrGroupDesc>
+          PARSER = new com.google.protobuf.AbstractParser<UnionAttrGroupDesc>() {
+        @java.lang.Override
+        public UnionAttrGroupDesc parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<UnionAttrGroupDesc> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<UnionAttrGroupDesc> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public static final int PREFIXES_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList prefixes_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * indicates the ancestors of a node,
+     * e.g. [name_a, name_b, name_c] means the path prefixes of current Attribute
+     * is name_a/name_b/name_c/
+     * only ^[a-zA-Z0-9_.-]*$ is allowed.
+     * "input" and "output" are reserved.
+     * </pre>
+     *
+     * <code>repeated string prefixes = 1;</code>
+     * @return A list containing the prefixes.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getPrefixesList() {
+      return prefixes_;
+    }
+    /**
+     * <pre>
+     * indicates the ancestors of a node,
+     * e.g. [name_a, name_b, name_c] means the path prefixes of current Attribute
+     * is name_a/name_b/name_c/
+     * only ^[a-zA-Z0-9_.-]*$ is allowed.
+     * "input" and "output" are reserved.
+     * </pre>
+     *
+     * <code>repeated string prefixes = 1;</code>
+     * @return The count of prefixes.
+     */
+    public int getPrefixesCount() {
+      return prefixes_.size();
+    }
+    /**
+     * <pre>
+     * indicates the ancestors of a node,
+     * e.g. [name_a, name_b, name_c] means the path prefixes of current Attribute
+     * is name_a/name_b/name_c/
+     * only ^[a-zA-Z0-9_.-]*$ is allowed.
+     * "input" and "output" are reserved.
+     * </pre>
+     *
+     * <code>repeated string prefixes = 1;</code>
+     * @param index The index of the element to return.
+     * @return The prefixes at the given index.
+     */
+    public java.lang.String getPrefixes(int index) {
+      return prefixes_.get(index);
+    }
+    /**
+     * <pre>
+     * indicates the ancestors of a node,
+     * e.g. [name_a, name_b, name_c] means the path prefixes of current Attribute
+     * is name_a/name_b/name_c/
+     * only ^[a-zA-Z0-9_.-]*$ is allowed.
+     * "input" and "output" are reserved.
+     * </pre>
+     *
+     * <code>repeated string prefixes = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the prefixes at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getPrefixesBytes(int index) {
+      return prefixes_.getByteString(index);
+    }
+
+    public static final int NAME_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <pre>
+     * must be uniqe in the same level just like linux file systems.
+     * only ^[a-zA-Z0-9_.-]*$ is allowed.
+     * "input" and "output" are reserved.
+     * </pre>
+     *
+     * <code>string name = 2;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * must be uniqe in the same level just like linux file systems.
+     * only ^[a-zA-Z0-9_.-]*$ is allowed.
+     * "input" and "output" are reserved.
+     * </pre>
+     *
+     * <code>string name = 2;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DESC_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object desc_ = "";
+    /**
+     * <code>string desc = 3;</code>
+     * @return The desc.
+     */
+    @java.lang.Override
+    public java.lang.String getDesc() {
+      java.lang.Object ref = desc_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        desc_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string desc = 3;</code>
+     * @return The bytes for desc.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDescBytes() {
+      java.lang.Object ref = desc_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        desc_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 4;
+    private int type_ = 0;
+    /**
+     * <code>.secretflow.component.AttrType type = 4;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    @java.lang.Override public int getTypeValue() {
+      return type_;
+    }
+    /**
+     * <code>.secretflow.component.AttrType type = 4;</code>
+     * @return The type.
+     */
+    @java.lang.Override public org.secretflow.proto.component.Comp.AttrType getType() {
+      org.secretflow.proto.component.Comp.AttrType result = org.secretflow.proto.component.Comp.AttrType.forNumber(type_);
+      return result == null ? org.secretflow.proto.component.Comp.AttrType.UNRECOGNIZED : result;
+    }
+
+    public static final int ATOMIC_FIELD_NUMBER = 5;
+    private org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc atomic_;
+    /**
+     * <pre>
+     * required for ATOMIC
+     * </pre>
+     *
+     * <code>.secretflow.component.AttributeDef.AtomicAttrDesc atomic = 5;</code>
+     * @return Whether the atomic field is set.
+     */
+    @java.lang.Override
+    public boolean hasAtomic() {
+      return atomic_ != null;
+    }
+    /**
+     * <pre>
+     * required for ATOMIC
+     * </pre>
+     *
+     * <code>.secretflow.component.AttributeDef.AtomicAttrDesc atomic = 5;</code>
+     * @return The atomic.
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc getAtomic() {
+      return atomic_ == null ? org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc.getDefaultInstance() : atomic_;
+    }
+    /**
+     * <pre>
+     * required for ATOMIC
+     * </pre>
+     *
+     * <code>.secretflow.component.AttributeDef.AtomicAttrDesc atomic = 5;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDescOrBuilder getAtomicOrBuilder() {
+      return atomic_ == null ? org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc.getDefaultInstance() : atomic_;
+    }
+
+    public static final int UNION_FIELD_NUMBER = 6;
+    private org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc union_;
+    /**
+     * <pre>
+     * required for UNION
+     * </pre>
+     *
+     * <code>.secretflow.component.AttributeDef.UnionAttrGroupDesc union = 6;</code>
+     * @return Whether the union field is set.
+     */
+    @java.lang.Override
+    public boolean hasUnion() {
+      return union_ != null;
+    }
+    /**
+     * <pre>
+     * required for UNION
+     * </pre>
+     *
+     * <code>.secretflow.component.AttributeDef.UnionAttrGroupDesc union = 6;</code>
+     * @return The union.
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc getUnion() {
+      return union_ == null ? org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc.getDefaultInstance() : union_;
+    }
+    /**
+     * <pre>
+     * required for UNION
+     * </pre>
+     *
+     * <code>.secretflow.component.AttributeDef.UnionAttrGroupDesc union = 6;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDescOrBuilder getUnionOrBuilder() {
+      return union_ == null ? org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc.getDefaultInstance() : union_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < prefixes_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, prefixes_.getRaw(i));
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, desc_);
+      }
+      if (type_ != org.secretflow.proto.component.Comp.AttrType.AT_UNDEFINED.getNumber()) {
+        output.writeEnum(4, type_);
+      }
+      if (atomic_ != null) {
+        output.writeMessage(5, getAtomic());
+      }
+      if (union_ != null) {
+        output.writeMessage(6, getUnion());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < prefixes_.size(); i++) {
+          dataSize += computeStringSizeNoTag(prefixes_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getPrefixesList().size();
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, desc_);
+      }
+      if (type_ != org.secretflow.proto.component.Comp.AttrType.AT_UNDEFINED.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(4, type_);
+      }
+      if (atomic_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, getAtomic());
+      }
+      if (union_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, getUnion());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.component.Comp.AttributeDef)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.component.Comp.AttributeDef other = (org.secretflow.proto.component.Comp.AttributeDef) obj;
+
+      if (!getPrefixesList()
+          .equals(other.getPrefixesList())) return false;
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getDesc()
+          .equals(other.getDesc())) return false;
+      if (type_ != other.type_) return false;
+      if (hasAtomic() != other.hasAtomic()) return false;
+      if (hasAtomic()) {
+        if (!getAtomic()
+            .equals(other.getAtomic())) return false;
+      }
+      if (hasUnion() != other.hasUnion()) return false;
+      if (hasUnion()) {
+        if (!getUnion()
+            .equals(other.getUnion())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getPrefixesCount() > 0) {
+        hash = (37 * hash) + PREFIXES_FIELD_NUMBER;
+        hash = (53 * hash) + getPrefixesList().hashCode();
+      }
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + DESC_FIELD_NUMBER;
+      hash = (53 * hash) + getDesc().hashCode();
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + type_;
+      if (hasAtomic()) {
+        hash = (37 * hash) + ATOMIC_FIELD_NUMBER;
+        hash = (53 * hash) + getAtomic().hashCode();
+      }
+      if (hasUnion()) {
+        hash = (37 * hash) + UNION_FIELD_NUMBER;
+        hash = (53 * hash) + getUnion().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.component.Comp.AttributeDef parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Comp.AttributeDef parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.AttributeDef parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Comp.AttributeDef parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.AttributeDef parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Comp.AttributeDef parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.AttributeDef parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Comp.AttributeDef parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.AttributeDef parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Comp.AttributeDef parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.AttributeDef parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Comp.AttributeDef parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.component.Comp.AttributeDef prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Describe a attribute.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.AttributeDef}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.component.AttributeDef)
+        org.secretflow.proto.component.Comp.AttributeDefOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Comp.internal_static_secretflow_component_AttributeDef_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Comp.internal_static_secretflow_component_AttributeDef_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Comp.AttributeDef.class, org.secretflow.proto.component.Comp.AttributeDef.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.component.Comp.AttributeDef.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        prefixes_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        name_ = "";
+        desc_ = "";
+        type_ = 0;
+        atomic_ = null;
+        if (atomicBuilder_ != null) {
+          atomicBuilder_.dispose();
+          atomicBuilder_ = null;
+        }
+        union_ = null;
+        if (unionBuilder_ != null) {
+          unionBuilder_.dispose();
+          unionBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.component.Comp.internal_static_secretflow_component_AttributeDef_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.AttributeDef getDefaultInstanceForType() {
+        return org.secretflow.proto.component.Comp.AttributeDef.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.AttributeDef build() {
+        org.secretflow.proto.component.Comp.AttributeDef result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.AttributeDef buildPartial() {
+        org.secretflow.proto.component.Comp.AttributeDef result = new org.secretflow.proto.component.Comp.AttributeDef(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.proto.component.Comp.AttributeDef result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          prefixes_.makeImmutable();
+          result.prefixes_ = prefixes_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.desc_ = desc_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.type_ = type_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.atomic_ = atomicBuilder_ == null
+              ? atomic_
+              : atomicBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.union_ = unionBuilder_ == null
+              ? union_
+              : unionBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.component.Comp.AttributeDef) {
+          return mergeFrom((org.secretflow.proto.component.Comp.AttributeDef)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.component.Comp.AttributeDef other) {
+        if (other == org.secretflow.proto.component.Comp.AttributeDef.getDefaultInstance()) return this;
+        if (!other.prefixes_.isEmpty()) {
+          if (prefixes_.isEmpty()) {
+            prefixes_ = other.prefixes_;
+            bitField0_ |= 0x00000001;
+          } else {
+            ensurePrefixesIsMutable();
+            prefixes_.addAll(other.prefixes_);
+          }
+          onChanged();
+        }
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getDesc().isEmpty()) {
+          desc_ = other.desc_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.type_ != 0) {
+          setTypeValue(other.getTypeValue());
+        }
+        if (other.hasAtomic()) {
+          mergeAtomic(other.getAtomic());
+        }
+        if (other.hasUnion()) {
+          mergeUnion(other.getUnion());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensurePrefixesIsMutable();
+                prefixes_.add(s);
+                break;
+              } // case 10
+              case 18: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                desc_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 32: {
+                type_ = input.readEnum();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 42: {
+                input.readMessage(
+                    getAtomicFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 50: {
+                input.readMessage(
+                    getUnionFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringArrayList prefixes_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensurePrefixesIsMutable() {
+        if (!prefixes_.isModifiable()) {
+          prefixes_ = new com.google.protobuf.LazyStringArrayList(prefixes_);
+        }
+        bitField0_ |= 0x00000001;
+      }
+      /**
+       * <pre>
+       * indicates the ancestors of a node,
+       * e.g. [name_a, name_b, name_c] means the path prefixes of current Attribute
+       * is name_a/name_b/name_c/
+       * only ^[a-zA-Z0-9_.-]*$ is allowed.
+       * "input" and "output" are reserved.
+       * </pre>
+       *
+       * <code>repeated string prefixes = 1;</code>
+       * @return A list containing the prefixes.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getPrefixesList() {
+        prefixes_.makeImmutable();
+        return prefixes_;
+      }
+      /**
+       * <pre>
+       * indicates the ancestors of a node,
+       * e.g. [name_a, name_b, name_c] means the path prefixes of current Attribute
+       * is name_a/name_b/name_c/
+       * only ^[a-zA-Z0-9_.-]*$ is allowed.
+       * "input" and "output" are reserved.
+       * </pre>
+       *
+       * <code>repeated string prefixes = 1;</code>
+       * @return The count of prefixes.
+       */
+      public int getPrefixesCount() {
+        return prefixes_.size();
+      }
+      /**
+       * <pre>
+       * indicates the ancestors of a node,
+       * e.g. [name_a, name_b, name_c] means the path prefixes of current Attribute
+       * is name_a/name_b/name_c/
+       * only ^[a-zA-Z0-9_.-]*$ is allowed.
+       * "input" and "output" are reserved.
+       * </pre>
+       *
+       * <code>repeated string prefixes = 1;</code>
+       * @param index The index of the element to return.
+       * @return The prefixes at the given index.
+       */
+      public java.lang.String getPrefixes(int index) {
+        return prefixes_.get(index);
+      }
+      /**
+       * <pre>
+       * indicates the ancestors of a node,
+       * e.g. [name_a, name_b, name_c] means the path prefixes of current Attribute
+       * is name_a/name_b/name_c/
+       * only ^[a-zA-Z0-9_.-]*$ is allowed.
+       * "input" and "output" are reserved.
+       * </pre>
+       *
+       * <code>repeated string prefixes = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the prefixes at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getPrefixesBytes(int index) {
+        return prefixes_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * indicates the ancestors of a node,
+       * e.g. [name_a, name_b, name_c] means the path prefixes of current Attribute
+       * is name_a/name_b/name_c/
+       * only ^[a-zA-Z0-9_.-]*$ is allowed.
+       * "input" and "output" are reserved.
+       * </pre>
+       *
+       * <code>repeated string prefixes = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The prefixes to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPrefixes(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensurePrefixesIsMutable();
+        prefixes_.set(index, value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * indicates the ancestors of a node,
+       * e.g. [name_a, name_b, name_c] means the path prefixes of current Attribute
+       * is name_a/name_b/name_c/
+       * only ^[a-zA-Z0-9_.-]*$ is allowed.
+       * "input" and "output" are reserved.
+       * </pre>
+       *
+       * <code>repeated string prefixes = 1;</code>
+       * @param value The prefixes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPrefixes(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensurePrefixesIsMutable();
+        prefixes_.add(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * indicates the ancestors of a node,
+       * e.g. [name_a, name_b, name_c] means the path prefixes of current Attribute
+       * is name_a/name_b/name_c/
+       * only ^[a-zA-Z0-9_.-]*$ is allowed.
+       * "input" and "output" are reserved.
+       * </pre>
+       *
+       * <code>repeated string prefixes = 1;</code>
+       * @param values The prefixes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPrefixes(
+          java.lang.Iterable<java.lang.String> values) {
+        ensurePrefixesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, prefixes_);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * indicates the ancestors of a node,
+       * e.g. [name_a, name_b, name_c] means the path prefixes of current Attribute
+       * is name_a/name_b/name_c/
+       * only ^[a-zA-Z0-9_.-]*$ is allowed.
+       * "input" and "output" are reserved.
+       * </pre>
+       *
+       * <code>repeated string prefixes = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPrefixes() {
+        prefixes_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * indicates the ancestors of a node,
+       * e.g. [name_a, name_b, name_c] means the path prefixes of current Attribute
+       * is name_a/name_b/name_c/
+       * only ^[a-zA-Z0-9_.-]*$ is allowed.
+       * "input" and "output" are reserved.
+       * </pre>
+       *
+       * <code>repeated string prefixes = 1;</code>
+       * @param value The bytes of the prefixes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPrefixesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensurePrefixesIsMutable();
+        prefixes_.add(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * must be uniqe in the same level just like linux file systems.
+       * only ^[a-zA-Z0-9_.-]*$ is allowed.
+       * "input" and "output" are reserved.
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * must be uniqe in the same level just like linux file systems.
+       * only ^[a-zA-Z0-9_.-]*$ is allowed.
+       * "input" and "output" are reserved.
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * must be uniqe in the same level just like linux file systems.
+       * only ^[a-zA-Z0-9_.-]*$ is allowed.
+       * "input" and "output" are reserved.
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * must be uniqe in the same level just like linux file systems.
+       * only ^[a-zA-Z0-9_.-]*$ is allowed.
+       * "input" and "output" are reserved.
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * must be uniqe in the same level just like linux file systems.
+       * only ^[a-zA-Z0-9_.-]*$ is allowed.
+       * "input" and "output" are reserved.
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object desc_ = "";
+      /**
+       * <code>string desc = 3;</code>
+       * @return The desc.
+       */
+      public java.lang.String getDesc() {
+        java.lang.Object ref = desc_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          desc_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string desc = 3;</code>
+       * @return The bytes for desc.
+       */
+      public com.google.protobuf.ByteString
+          getDescBytes() {
+        java.lang.Object ref = desc_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          desc_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string desc = 3;</code>
+       * @param value The desc to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDesc(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        desc_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string desc = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDesc() {
+        desc_ = getDefaultInstance().getDesc();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string desc = 3;</code>
+       * @param value The bytes for desc to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDescBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        desc_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private int type_ = 0;
+      /**
+       * <code>.secretflow.component.AttrType type = 4;</code>
+       * @return The enum numeric value on the wire for type.
+       */
+      @java.lang.Override public int getTypeValue() {
+        return type_;
+      }
+      /**
+       * <code>.secretflow.component.AttrType type = 4;</code>
+       * @param value The enum numeric value on the wire for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeValue(int value) {
+        type_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.secretflow.component.AttrType type = 4;</code>
+       * @return The type.
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.AttrType getType() {
+        org.secretflow.proto.component.Comp.AttrType result = org.secretflow.proto.component.Comp.AttrType.forNumber(type_);
+        return result == null ? org.secretflow.proto.component.Comp.AttrType.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.secretflow.component.AttrType type = 4;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(org.secretflow.proto.component.Comp.AttrType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000008;
+        type_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.secretflow.component.AttrType type = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        type_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc atomic_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc, org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc.Builder, org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDescOrBuilder> atomicBuilder_;
+      /**
+       * <pre>
+       * required for ATOMIC
+       * </pre>
+       *
+       * <code>.secretflow.component.AttributeDef.AtomicAttrDesc atomic = 5;</code>
+       * @return Whether the atomic field is set.
+       */
+      public boolean hasAtomic() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <pre>
+       * required for ATOMIC
+       * </pre>
+       *
+       * <code>.secretflow.component.AttributeDef.AtomicAttrDesc atomic = 5;</code>
+       * @return The atomic.
+       */
+      public org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc getAtomic() {
+        if (atomicBuilder_ == null) {
+          return atomic_ == null ? org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc.getDefaultInstance() : atomic_;
+        } else {
+          return atomicBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * required for ATOMIC
+       * </pre>
+       *
+       * <code>.secretflow.component.AttributeDef.AtomicAttrDesc atomic = 5;</code>
+       */
+      public Builder setAtomic(org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc value) {
+        if (atomicBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          atomic_ = value;
+        } else {
+          atomicBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * required for ATOMIC
+       * </pre>
+       *
+       * <code>.secretflow.component.AttributeDef.AtomicAttrDesc atomic = 5;</code>
+       */
+      public Builder setAtomic(
+          org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc.Builder builderForValue) {
+        if (atomicBuilder_ == null) {
+          atomic_ = builderForValue.build();
+        } else {
+          atomicBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * required for ATOMIC
+       * </pre>
+       *
+       * <code>.secretflow.component.AttributeDef.AtomicAttrDesc atomic = 5;</code>
+       */
+      public Builder mergeAtomic(org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc value) {
+        if (atomicBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) != 0) &&
+            atomic_ != null &&
+            atomic_ != org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc.getDefaultInstance()) {
+            getAtomicBuilder().mergeFrom(value);
+          } else {
+            atomic_ = value;
+          }
+        } else {
+          atomicBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * required for ATOMIC
+       * </pre>
+       *
+       * <code>.secretflow.component.AttributeDef.AtomicAttrDesc atomic = 5;</code>
+       */
+      public Builder clearAtomic() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        atomic_ = null;
+        if (atomicBuilder_ != null) {
+          atomicBuilder_.dispose();
+          atomicBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * required for ATOMIC
+       * </pre>
+       *
+       * <code>.secretflow.component.AttributeDef.AtomicAttrDesc atomic = 5;</code>
+       */
+      public org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc.Builder getAtomicBuilder() {
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return getAtomicFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * required for ATOMIC
+       * </pre>
+       *
+       * <code>.secretflow.component.AttributeDef.AtomicAttrDesc atomic = 5;</code>
+       */
+      public org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDescOrBuilder getAtomicOrBuilder() {
+        if (atomicBuilder_ != null) {
+          return atomicBuilder_.getMessageOrBuilder();
+        } else {
+          return atomic_ == null ?
+              org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc.getDefaultInstance() : atomic_;
+        }
+      }
+      /**
+       * <pre>
+       * required for ATOMIC
+       * </pre>
+       *
+       * <code>.secretflow.component.AttributeDef.AtomicAttrDesc atomic = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc, org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc.Builder, org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDescOrBuilder> 
+          getAtomicFieldBuilder() {
+        if (atomicBuilder_ == null) {
+          atomicBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc, org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDesc.Builder, org.secretflow.proto.component.Comp.AttributeDef.AtomicAttrDescOrBuilder>(
+                  getAtomic(),
+                  getParentForChildren(),
+                  isClean());
+          atomic_ = null;
+        }
+        return atomicBuilder_;
+      }
+
+      private org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc union_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc, org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc.Builder, org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDescOrBuilder> unionBuilder_;
+      /**
+       * <pre>
+       * required for UNION
+       * </pre>
+       *
+       * <code>.secretflow.component.AttributeDef.UnionAttrGroupDesc union = 6;</code>
+       * @return Whether the union field is set.
+       */
+      public boolean hasUnion() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <pre>
+       * required for UNION
+       * </pre>
+       *
+       * <code>.secretflow.component.AttributeDef.UnionAttrGroupDesc union = 6;</code>
+       * @return The union.
+       */
+      public org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc getUnion() {
+        if (unionBuilder_ == null) {
+          return union_ == null ? org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc.getDefaultInstance() : union_;
+        } else {
+          return unionBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * required for UNION
+       * </pre>
+       *
+       * <code>.secretflow.component.AttributeDef.UnionAttrGroupDesc union = 6;</code>
+       */
+      public Builder setUnion(org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc value) {
+        if (unionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          union_ = value;
+        } else {
+          unionBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * required for UNION
+       * </pre>
+       *
+       * <code>.secretflow.component.AttributeDef.UnionAttrGroupDesc union = 6;</code>
+       */
+      public Builder setUnion(
+          org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc.Builder builderForValue) {
+        if (unionBuilder_ == null) {
+          union_ = builderForValue.build();
+        } else {
+          unionBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * required for UNION
+       * </pre>
+       *
+       * <code>.secretflow.component.AttributeDef.UnionAttrGroupDesc union = 6;</code>
+       */
+      public Builder mergeUnion(org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc value) {
+        if (unionBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) != 0) &&
+            union_ != null &&
+            union_ != org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc.getDefaultInstance()) {
+            getUnionBuilder().mergeFrom(value);
+          } else {
+            union_ = value;
+          }
+        } else {
+          unionBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * required for UNION
+       * </pre>
+       *
+       * <code>.secretflow.component.AttributeDef.UnionAttrGroupDesc union = 6;</code>
+       */
+      public Builder clearUnion() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        union_ = null;
+        if (unionBuilder_ != null) {
+          unionBuilder_.dispose();
+          unionBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * required for UNION
+       * </pre>
+       *
+       * <code>.secretflow.component.AttributeDef.UnionAttrGroupDesc union = 6;</code>
+       */
+      public org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc.Builder getUnionBuilder() {
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return getUnionFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * required for UNION
+       * </pre>
+       *
+       * <code>.secretflow.component.AttributeDef.UnionAttrGroupDesc union = 6;</code>
+       */
+      public org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDescOrBuilder getUnionOrBuilder() {
+        if (unionBuilder_ != null) {
+          return unionBuilder_.getMessageOrBuilder();
+        } else {
+          return union_ == null ?
+              org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc.getDefaultInstance() : union_;
+        }
+      }
+      /**
+       * <pre>
+       * required for UNION
+       * </pre>
+       *
+       * <code>.secretflow.component.AttributeDef.UnionAttrGroupDesc union = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc, org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc.Builder, org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDescOrBuilder> 
+          getUnionFieldBuilder() {
+        if (unionBuilder_ == null) {
+          unionBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc, org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDesc.Builder, org.secretflow.proto.component.Comp.AttributeDef.UnionAttrGroupDescOrBuilder>(
+                  getUnion(),
+                  getParentForChildren(),
+                  isClean());
+          union_ = null;
+        }
+        return unionBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.component.AttributeDef)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.component.AttributeDef)
+    private static final org.secretflow.proto.component.Comp.AttributeDef DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.component.Comp.AttributeDef();
+    }
+
+    public static org.secretflow.proto.component.Comp.AttributeDef getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<AttributeDef>
+        PARSER = new com.google.protobuf.AbstractParser<AttributeDef>() {
+      @java.lang.Override
+      public AttributeDef parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<AttributeDef> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AttributeDef> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.AttributeDef getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface IoDefOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.component.IoDef)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * should be unique among all IOs.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <pre>
+     * should be unique among all IOs.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>string desc = 2;</code>
+     * @return The desc.
+     */
+    java.lang.String getDesc();
+    /**
+     * <code>string desc = 2;</code>
+     * @return The bytes for desc.
+     */
+    com.google.protobuf.ByteString
+        getDescBytes();
+
+    /**
+     * <pre>
+     * Multiple types are accepted.
+     * Please check DistData in data.proto
+     * </pre>
+     *
+     * <code>repeated string types = 3;</code>
+     * @return A list containing the types.
+     */
+    java.util.List<java.lang.String>
+        getTypesList();
+    /**
+     * <pre>
+     * Multiple types are accepted.
+     * Please check DistData in data.proto
+     * </pre>
+     *
+     * <code>repeated string types = 3;</code>
+     * @return The count of types.
+     */
+    int getTypesCount();
+    /**
+     * <pre>
+     * Multiple types are accepted.
+     * Please check DistData in data.proto
+     * </pre>
+     *
+     * <code>repeated string types = 3;</code>
+     * @param index The index of the element to return.
+     * @return The types at the given index.
+     */
+    java.lang.String getTypes(int index);
+    /**
+     * <pre>
+     * Multiple types are accepted.
+     * Please check DistData in data.proto
+     * </pre>
+     *
+     * <code>repeated string types = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the types at the given index.
+     */
+    com.google.protobuf.ByteString
+        getTypesBytes(int index);
+
+    /**
+     * <pre>
+     * only valid for tables.
+     * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+     */
+    java.util.List<org.secretflow.proto.component.Comp.IoDef.TableAttrDef> 
+        getAttrsList();
+    /**
+     * <pre>
+     * only valid for tables.
+     * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+     */
+    org.secretflow.proto.component.Comp.IoDef.TableAttrDef getAttrs(int index);
+    /**
+     * <pre>
+     * only valid for tables.
+     * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+     */
+    int getAttrsCount();
+    /**
+     * <pre>
+     * only valid for tables.
+     * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.component.Comp.IoDef.TableAttrDefOrBuilder> 
+        getAttrsOrBuilderList();
+    /**
+     * <pre>
+     * only valid for tables.
+     * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+     */
+    org.secretflow.proto.component.Comp.IoDef.TableAttrDefOrBuilder getAttrsOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * Define an input/output for component
+   * </pre>
+   *
+   * Protobuf type {@code secretflow.component.IoDef}
+   */
+  public static final class IoDef extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.component.IoDef)
+      IoDefOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use IoDef.newBuilder() to construct.
+    private IoDef(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private IoDef() {
+      name_ = "";
+      desc_ = "";
+      types_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      attrs_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new IoDef();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.Comp.internal_static_secretflow_component_IoDef_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.component.Comp.internal_static_secretflow_component_IoDef_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.component.Comp.IoDef.class, org.secretflow.proto.component.Comp.IoDef.Builder.class);
+    }
+
+    public interface TableAttrDefOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:secretflow.component.IoDef.TableAttrDef)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <pre>
+       * unique among all attributes for the table.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      java.lang.String getName();
+      /**
+       * <pre>
+       * unique among all attributes for the table.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
+
+      /**
+       * <code>string desc = 2;</code>
+       * @return The desc.
+       */
+      java.lang.String getDesc();
+      /**
+       * <code>string desc = 2;</code>
+       * @return The bytes for desc.
+       */
+      com.google.protobuf.ByteString
+          getDescBytes();
+
+      /**
+       * <pre>
+       * accepted col data types.
+       * Please check DistData.VerticalTable in data.proto
+       * </pre>
+       *
+       * <code>repeated string types = 3;</code>
+       * @return A list containing the types.
+       */
+      java.util.List<java.lang.String>
+          getTypesList();
+      /**
+       * <pre>
+       * accepted col data types.
+       * Please check DistData.VerticalTable in data.proto
+       * </pre>
+       *
+       * <code>repeated string types = 3;</code>
+       * @return The count of types.
+       */
+      int getTypesCount();
+      /**
+       * <pre>
+       * accepted col data types.
+       * Please check DistData.VerticalTable in data.proto
+       * </pre>
+       *
+       * <code>repeated string types = 3;</code>
+       * @param index The index of the element to return.
+       * @return The types at the given index.
+       */
+      java.lang.String getTypes(int index);
+      /**
+       * <pre>
+       * accepted col data types.
+       * Please check DistData.VerticalTable in data.proto
+       * </pre>
+       *
+       * <code>repeated string types = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the types at the given index.
+       */
+      com.google.protobuf.ByteString
+          getTypesBytes(int index);
+
+      /**
+       * <pre>
+       * inclusive
+       * </pre>
+       *
+       * <code>int64 col_min_cnt_inclusive = 4;</code>
+       * @return The colMinCntInclusive.
+       */
+      long getColMinCntInclusive();
+
+      /**
+       * <code>int64 col_max_cnt_inclusive = 5;</code>
+       * @return The colMaxCntInclusive.
+       */
+      long getColMaxCntInclusive();
+
+      /**
+       * <pre>
+       * extra attribute for specified col.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+       */
+      java.util.List<org.secretflow.proto.component.Comp.AttributeDef> 
+          getAttrsList();
+      /**
+       * <pre>
+       * extra attribute for specified col.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+       */
+      org.secretflow.proto.component.Comp.AttributeDef getAttrs(int index);
+      /**
+       * <pre>
+       * extra attribute for specified col.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+       */
+      int getAttrsCount();
+      /**
+       * <pre>
+       * extra attribute for specified col.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+       */
+      java.util.List<? extends org.secretflow.proto.component.Comp.AttributeDefOrBuilder> 
+          getAttrsOrBuilderList();
+      /**
+       * <pre>
+       * extra attribute for specified col.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+       */
+      org.secretflow.proto.component.Comp.AttributeDefOrBuilder getAttrsOrBuilder(
+          int index);
+    }
+    /**
+     * <pre>
+     * An extra attribute for a table
+     * If provided in a IoDef, e.g.
+     * {
+     *   "name": "feature",
+     *   "types": [
+     *       "int",
+     *       "float"
+     *   ],
+     *   "col_min_cnt_inclusive": 1,
+     *   "col_max_cnt": 3,
+     *   "attrs": [
+     *       {
+     *           "name": "bucket_size",
+     *           "type": "AT_INT"
+     *       }
+     *   ]
+     * }
+     * means after a user provide a table as IO, they should also specify
+     * cols as "feature"
+     * - col_min_cnt_inclusive is 1: At least 1 col to be selected
+     * - col_max_cnt_inclusive is 3: At most 3 cols to be selected.
+     * And afterwards, user have to fill an int attribute called bucket_size for
+     * each selected cols.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.IoDef.TableAttrDef}
+     */
+    public static final class TableAttrDef extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:secretflow.component.IoDef.TableAttrDef)
+        TableAttrDefOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use TableAttrDef.newBuilder() to construct.
+      private TableAttrDef(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private TableAttrDef() {
+        name_ = "";
+        desc_ = "";
+        types_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        attrs_ = java.util.Collections.emptyList();
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new TableAttrDef();
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Comp.internal_static_secretflow_component_IoDef_TableAttrDef_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Comp.internal_static_secretflow_component_IoDef_TableAttrDef_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Comp.IoDef.TableAttrDef.class, org.secretflow.proto.component.Comp.IoDef.TableAttrDef.Builder.class);
+      }
+
+      public static final int NAME_FIELD_NUMBER = 1;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * unique among all attributes for the table.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      @java.lang.Override
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        }
+      }
+      /**
+       * <pre>
+       * unique among all attributes for the table.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int DESC_FIELD_NUMBER = 2;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object desc_ = "";
+      /**
+       * <code>string desc = 2;</code>
+       * @return The desc.
+       */
+      @java.lang.Override
+      public java.lang.String getDesc() {
+        java.lang.Object ref = desc_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          desc_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @return The bytes for desc.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getDescBytes() {
+        java.lang.Object ref = desc_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          desc_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int TYPES_FIELD_NUMBER = 3;
+      @SuppressWarnings("serial")
+      private com.google.protobuf.LazyStringArrayList types_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      /**
+       * <pre>
+       * accepted col data types.
+       * Please check DistData.VerticalTable in data.proto
+       * </pre>
+       *
+       * <code>repeated string types = 3;</code>
+       * @return A list containing the types.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getTypesList() {
+        return types_;
+      }
+      /**
+       * <pre>
+       * accepted col data types.
+       * Please check DistData.VerticalTable in data.proto
+       * </pre>
+       *
+       * <code>repeated string types = 3;</code>
+       * @return The count of types.
+       */
+      public int getTypesCount() {
+        return types_.size();
+      }
+      /**
+       * <pre>
+       * accepted col data types.
+       * Please check DistData.VerticalTable in data.proto
+       * </pre>
+       *
+       * <code>repeated string types = 3;</code>
+       * @param index The index of the element to return.
+       * @return The types at the given index.
+       */
+      public java.lang.String getTypes(int index) {
+        return types_.get(index);
+      }
+      /**
+       * <pre>
+       * accepted col data types.
+       * Please check DistData.VerticalTable in data.proto
+       * </pre>
+       *
+       * <code>repeated string types = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the types at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getTypesBytes(int index) {
+        return types_.getByteString(index);
+      }
+
+      public static final int COL_MIN_CNT_INCLUSIVE_FIELD_NUMBER = 4;
+      private long colMinCntInclusive_ = 0L;
+      /**
+       * <pre>
+       * inclusive
+       * </pre>
+       *
+       * <code>int64 col_min_cnt_inclusive = 4;</code>
+       * @return The colMinCntInclusive.
+       */
+      @java.lang.Override
+      public long getColMinCntInclusive() {
+        return colMinCntInclusive_;
+      }
+
+      public static final int COL_MAX_CNT_INCLUSIVE_FIELD_NUMBER = 5;
+      private long colMaxCntInclusive_ = 0L;
+      /**
+       * <code>int64 col_max_cnt_inclusive = 5;</code>
+       * @return The colMaxCntInclusive.
+       */
+      @java.lang.Override
+      public long getColMaxCntInclusive() {
+        return colMaxCntInclusive_;
+      }
+
+      public static final int ATTRS_FIELD_NUMBER = 6;
+      @SuppressWarnings("serial")
+      private java.util.List<org.secretflow.proto.component.Comp.AttributeDef> attrs_;
+      /**
+       * <pre>
+       * extra attribute for specified col.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+       */
+      @java.lang.Override
+      public java.util.List<org.secretflow.proto.component.Comp.AttributeDef> getAttrsList() {
+        return attrs_;
+      }
+      /**
+       * <pre>
+       * extra attribute for specified col.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+       */
+      @java.lang.Override
+      public java.util.List<? extends org.secretflow.proto.component.Comp.AttributeDefOrBuilder> 
+          getAttrsOrBuilderList() {
+        return attrs_;
+      }
+      /**
+       * <pre>
+       * extra attribute for specified col.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+       */
+      @java.lang.Override
+      public int getAttrsCount() {
+        return attrs_.size();
+      }
+      /**
+       * <pre>
+       * extra attribute for specified col.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.AttributeDef getAttrs(int index) {
+        return attrs_.get(index);
+      }
+      /**
+       * <pre>
+       * extra attribute for specified col.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.AttributeDefOrBuilder getAttrsOrBuilder(
+          int index) {
+        return attrs_.get(index);
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+        }
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 2, desc_);
+        }
+        for (int i = 0; i < types_.size(); i++) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 3, types_.getRaw(i));
+        }
+        if (colMinCntInclusive_ != 0L) {
+          output.writeInt64(4, colMinCntInclusive_);
+        }
+        if (colMaxCntInclusive_ != 0L) {
+          output.writeInt64(5, colMaxCntInclusive_);
+        }
+        for (int i = 0; i < attrs_.size(); i++) {
+          output.writeMessage(6, attrs_.get(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+        }
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, desc_);
+        }
+        {
+          int dataSize = 0;
+          for (int i = 0; i < types_.size(); i++) {
+            dataSize += computeStringSizeNoTag(types_.getRaw(i));
+          }
+          size += dataSize;
+          size += 1 * getTypesList().size();
+        }
+        if (colMinCntInclusive_ != 0L) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt64Size(4, colMinCntInclusive_);
+        }
+        if (colMaxCntInclusive_ != 0L) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt64Size(5, colMaxCntInclusive_);
+        }
+        for (int i = 0; i < attrs_.size(); i++) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(6, attrs_.get(i));
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.secretflow.proto.component.Comp.IoDef.TableAttrDef)) {
+          return super.equals(obj);
+        }
+        org.secretflow.proto.component.Comp.IoDef.TableAttrDef other = (org.secretflow.proto.component.Comp.IoDef.TableAttrDef) obj;
+
+        if (!getName()
+            .equals(other.getName())) return false;
+        if (!getDesc()
+            .equals(other.getDesc())) return false;
+        if (!getTypesList()
+            .equals(other.getTypesList())) return false;
+        if (getColMinCntInclusive()
+            != other.getColMinCntInclusive()) return false;
+        if (getColMaxCntInclusive()
+            != other.getColMaxCntInclusive()) return false;
+        if (!getAttrsList()
+            .equals(other.getAttrsList())) return false;
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getName().hashCode();
+        hash = (37 * hash) + DESC_FIELD_NUMBER;
+        hash = (53 * hash) + getDesc().hashCode();
+        if (getTypesCount() > 0) {
+          hash = (37 * hash) + TYPES_FIELD_NUMBER;
+          hash = (53 * hash) + getTypesList().hashCode();
+        }
+        hash = (37 * hash) + COL_MIN_CNT_INCLUSIVE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getColMinCntInclusive());
+        hash = (37 * hash) + COL_MAX_CNT_INCLUSIVE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getColMaxCntInclusive());
+        if (getAttrsCount() > 0) {
+          hash = (37 * hash) + ATTRS_FIELD_NUMBER;
+          hash = (53 * hash) + getAttrsList().hashCode();
+        }
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.secretflow.proto.component.Comp.IoDef.TableAttrDef parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Comp.IoDef.TableAttrDef parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Comp.IoDef.TableAttrDef parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Comp.IoDef.TableAttrDef parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Comp.IoDef.TableAttrDef parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Comp.IoDef.TableAttrDef parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Comp.IoDef.TableAttrDef parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Comp.IoDef.TableAttrDef parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Comp.IoDef.TableAttrDef parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Comp.IoDef.TableAttrDef parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Comp.IoDef.TableAttrDef parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Comp.IoDef.TableAttrDef parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.secretflow.proto.component.Comp.IoDef.TableAttrDef prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * <pre>
+       * An extra attribute for a table
+       * If provided in a IoDef, e.g.
+       * {
+       *   "name": "feature",
+       *   "types": [
+       *       "int",
+       *       "float"
+       *   ],
+       *   "col_min_cnt_inclusive": 1,
+       *   "col_max_cnt": 3,
+       *   "attrs": [
+       *       {
+       *           "name": "bucket_size",
+       *           "type": "AT_INT"
+       *       }
+       *   ]
+       * }
+       * means after a user provide a table as IO, they should also specify
+       * cols as "feature"
+       * - col_min_cnt_inclusive is 1: At least 1 col to be selected
+       * - col_max_cnt_inclusive is 3: At most 3 cols to be selected.
+       * And afterwards, user have to fill an int attribute called bucket_size for
+       * each selected cols.
+       * </pre>
+       *
+       * Protobuf type {@code secretflow.component.IoDef.TableAttrDef}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:secretflow.component.IoDef.TableAttrDef)
+          org.secretflow.proto.component.Comp.IoDef.TableAttrDefOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.secretflow.proto.component.Comp.internal_static_secretflow_component_IoDef_TableAttrDef_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.secretflow.proto.component.Comp.internal_static_secretflow_component_IoDef_TableAttrDef_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.secretflow.proto.component.Comp.IoDef.TableAttrDef.class, org.secretflow.proto.component.Comp.IoDef.TableAttrDef.Builder.class);
+        }
+
+        // Construct using org.secretflow.proto.component.Comp.IoDef.TableAttrDef.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          name_ = "";
+          desc_ = "";
+          types_ =
+              com.google.protobuf.LazyStringArrayList.emptyList();
+          colMinCntInclusive_ = 0L;
+          colMaxCntInclusive_ = 0L;
+          if (attrsBuilder_ == null) {
+            attrs_ = java.util.Collections.emptyList();
+          } else {
+            attrs_ = null;
+            attrsBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000020);
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.secretflow.proto.component.Comp.internal_static_secretflow_component_IoDef_TableAttrDef_descriptor;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Comp.IoDef.TableAttrDef getDefaultInstanceForType() {
+          return org.secretflow.proto.component.Comp.IoDef.TableAttrDef.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Comp.IoDef.TableAttrDef build() {
+          org.secretflow.proto.component.Comp.IoDef.TableAttrDef result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Comp.IoDef.TableAttrDef buildPartial() {
+          org.secretflow.proto.component.Comp.IoDef.TableAttrDef result = new org.secretflow.proto.component.Comp.IoDef.TableAttrDef(this);
+          buildPartialRepeatedFields(result);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartialRepeatedFields(org.secretflow.proto.component.Comp.IoDef.TableAttrDef result) {
+          if (attrsBuilder_ == null) {
+            if (((bitField0_ & 0x00000020) != 0)) {
+              attrs_ = java.util.Collections.unmodifiableList(attrs_);
+              bitField0_ = (bitField0_ & ~0x00000020);
+            }
+            result.attrs_ = attrs_;
+          } else {
+            result.attrs_ = attrsBuilder_.build();
+          }
+        }
+
+        private void buildPartial0(org.secretflow.proto.component.Comp.IoDef.TableAttrDef result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.name_ = name_;
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.desc_ = desc_;
+          }
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            types_.makeImmutable();
+            result.types_ = types_;
+          }
+          if (((from_bitField0_ & 0x00000008) != 0)) {
+            result.colMinCntInclusive_ = colMinCntInclusive_;
+          }
+          if (((from_bitField0_ & 0x00000010) != 0)) {
+            result.colMaxCntInclusive_ = colMaxCntInclusive_;
+          }
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.secretflow.proto.component.Comp.IoDef.TableAttrDef) {
+            return mergeFrom((org.secretflow.proto.component.Comp.IoDef.TableAttrDef)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.secretflow.proto.component.Comp.IoDef.TableAttrDef other) {
+          if (other == org.secretflow.proto.component.Comp.IoDef.TableAttrDef.getDefaultInstance()) return this;
+          if (!other.getName().isEmpty()) {
+            name_ = other.name_;
+            bitField0_ |= 0x00000001;
+            onChanged();
+          }
+          if (!other.getDesc().isEmpty()) {
+            desc_ = other.desc_;
+            bitField0_ |= 0x00000002;
+            onChanged();
+          }
+          if (!other.types_.isEmpty()) {
+            if (types_.isEmpty()) {
+              types_ = other.types_;
+              bitField0_ |= 0x00000004;
+            } else {
+              ensureTypesIsMutable();
+              types_.addAll(other.types_);
+            }
+            onChanged();
+          }
+          if (other.getColMinCntInclusive() != 0L) {
+            setColMinCntInclusive(other.getColMinCntInclusive());
+          }
+          if (other.getColMaxCntInclusive() != 0L) {
+            setColMaxCntInclusive(other.getColMaxCntInclusive());
+          }
+          if (attrsBuilder_ == null) {
+            if (!other.attrs_.isEmpty()) {
+              if (attrs_.isEmpty()) {
+                attrs_ = other.attrs_;
+                bitField0_ = (bitField0_ & ~0x00000020);
+              } else {
+                ensureAttrsIsMutable();
+                attrs_.addAll(other.attrs_);
+              }
+              onChanged();
+            }
+          } else {
+            if (!other.attrs_.isEmpty()) {
+              if (attrsBuilder_.isEmpty()) {
+                attrsBuilder_.dispose();
+                attrsBuilder_ = null;
+                attrs_ = other.attrs_;
+                bitField0_ = (bitField0_ & ~0x00000020);
+                attrsBuilder_ = 
+                  com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                     getAttrsFieldBuilder() : null;
+              } else {
+                attrsBuilder_.addAllMessages(other.attrs_);
+              }
+            }
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 10: {
+                  name_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 10
+                case 18: {
+                  desc_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000002;
+                  break;
+                } // case 18
+                case 26: {
+                  java.lang.String s = input.readStringRequireUtf8();
+                  ensureTypesIsMutable();
+                  types_.add(s);
+                  break;
+                } // case 26
+                case 32: {
+                  colMinCntInclusive_ = input.readInt64();
+                  bitField0_ |= 0x00000008;
+                  break;
+                } // case 32
+                case 40: {
+                  colMaxCntInclusive_ = input.readInt64();
+                  bitField0_ |= 0x00000010;
+                  break;
+                } // case 40
+                case 50: {
+                  org.secretflow.proto.component.Comp.AttributeDef m =
+                      input.readMessage(
+                          org.secretflow.proto.component.Comp.AttributeDef.parser(),
+                          extensionRegistry);
+                  if (attrsBuilder_ == null) {
+                    ensureAttrsIsMutable();
+                    attrs_.add(m);
+                  } else {
+                    attrsBuilder_.addMessage(m);
+                  }
+                  break;
+                } // case 50
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object name_ = "";
+        /**
+         * <pre>
+         * unique among all attributes for the table.
+         * </pre>
+         *
+         * <code>string name = 1;</code>
+         * @return The name.
+         */
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            name_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <pre>
+         * unique among all attributes for the table.
+         * </pre>
+         *
+         * <code>string name = 1;</code>
+         * @return The bytes for name.
+         */
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <pre>
+         * unique among all attributes for the table.
+         * </pre>
+         *
+         * <code>string name = 1;</code>
+         * @param value The name to set.
+         * @return This builder for chaining.
+         */
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          name_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * unique among all attributes for the table.
+         * </pre>
+         *
+         * <code>string name = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearName() {
+          name_ = getDefaultInstance().getName();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * unique among all attributes for the table.
+         * </pre>
+         *
+         * <code>string name = 1;</code>
+         * @param value The bytes for name to set.
+         * @return This builder for chaining.
+         */
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          name_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object desc_ = "";
+        /**
+         * <code>string desc = 2;</code>
+         * @return The desc.
+         */
+        public java.lang.String getDesc() {
+          java.lang.Object ref = desc_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            desc_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string desc = 2;</code>
+         * @return The bytes for desc.
+         */
+        public com.google.protobuf.ByteString
+            getDescBytes() {
+          java.lang.Object ref = desc_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            desc_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string desc = 2;</code>
+         * @param value The desc to set.
+         * @return This builder for chaining.
+         */
+        public Builder setDesc(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          desc_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string desc = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearDesc() {
+          desc_ = getDefaultInstance().getDesc();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string desc = 2;</code>
+         * @param value The bytes for desc to set.
+         * @return This builder for chaining.
+         */
+        public Builder setDescBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          desc_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+
+        private com.google.protobuf.LazyStringArrayList types_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        private void ensureTypesIsMutable() {
+          if (!types_.isModifiable()) {
+            types_ = new com.google.protobuf.LazyStringArrayList(types_);
+          }
+          bitField0_ |= 0x00000004;
+        }
+        /**
+         * <pre>
+         * accepted col data types.
+         * Please check DistData.VerticalTable in data.proto
+         * </pre>
+         *
+         * <code>repeated string types = 3;</code>
+         * @return A list containing the types.
+         */
+        public com.google.protobuf.ProtocolStringList
+            getTypesList() {
+          types_.makeImmutable();
+          return types_;
+        }
+        /**
+         * <pre>
+         * accepted col data types.
+         * Please check DistData.VerticalTable in data.proto
+         * </pre>
+         *
+         * <code>repeated string types = 3;</code>
+         * @return The count of types.
+         */
+        public int getTypesCount() {
+          return types_.size();
+        }
+        /**
+         * <pre>
+         * accepted col data types.
+         * Please check DistData.VerticalTable in data.proto
+         * </pre>
+         *
+         * <code>repeated string types = 3;</code>
+         * @param index The index of the element to return.
+         * @return The types at the given index.
+         */
+        public java.lang.String getTypes(int index) {
+          return types_.get(index);
+        }
+        /**
+         * <pre>
+         * accepted col data types.
+         * Please check DistData.VerticalTable in data.proto
+         * </pre>
+         *
+         * <code>repeated string types = 3;</code>
+         * @param index The index of the value to return.
+         * @return The bytes of the types at the given index.
+         */
+        public com.google.protobuf.ByteString
+            getTypesBytes(int index) {
+          return types_.getByteString(index);
+        }
+        /**
+         * <pre>
+         * accepted col data types.
+         * Please check DistData.VerticalTable in data.proto
+         * </pre>
+         *
+         * <code>repeated string types = 3;</code>
+         * @param index The index to set the value at.
+         * @param value The types to set.
+         * @return This builder for chaining.
+         */
+        public Builder setTypes(
+            int index, java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          ensureTypesIsMutable();
+          types_.set(index, value);
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * accepted col data types.
+         * Please check DistData.VerticalTable in data.proto
+         * </pre>
+         *
+         * <code>repeated string types = 3;</code>
+         * @param value The types to add.
+         * @return This builder for chaining.
+         */
+        public Builder addTypes(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          ensureTypesIsMutable();
+          types_.add(value);
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * accepted col data types.
+         * Please check DistData.VerticalTable in data.proto
+         * </pre>
+         *
+         * <code>repeated string types = 3;</code>
+         * @param values The types to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAllTypes(
+            java.lang.Iterable<java.lang.String> values) {
+          ensureTypesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, types_);
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * accepted col data types.
+         * Please check DistData.VerticalTable in data.proto
+         * </pre>
+         *
+         * <code>repeated string types = 3;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearTypes() {
+          types_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * accepted col data types.
+         * Please check DistData.VerticalTable in data.proto
+         * </pre>
+         *
+         * <code>repeated string types = 3;</code>
+         * @param value The bytes of the types to add.
+         * @return This builder for chaining.
+         */
+        public Builder addTypesBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          ensureTypesIsMutable();
+          types_.add(value);
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+
+        private long colMinCntInclusive_ ;
+        /**
+         * <pre>
+         * inclusive
+         * </pre>
+         *
+         * <code>int64 col_min_cnt_inclusive = 4;</code>
+         * @return The colMinCntInclusive.
+         */
+        @java.lang.Override
+        public long getColMinCntInclusive() {
+          return colMinCntInclusive_;
+        }
+        /**
+         * <pre>
+         * inclusive
+         * </pre>
+         *
+         * <code>int64 col_min_cnt_inclusive = 4;</code>
+         * @param value The colMinCntInclusive to set.
+         * @return This builder for chaining.
+         */
+        public Builder setColMinCntInclusive(long value) {
+
+          colMinCntInclusive_ = value;
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * inclusive
+         * </pre>
+         *
+         * <code>int64 col_min_cnt_inclusive = 4;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearColMinCntInclusive() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          colMinCntInclusive_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        private long colMaxCntInclusive_ ;
+        /**
+         * <code>int64 col_max_cnt_inclusive = 5;</code>
+         * @return The colMaxCntInclusive.
+         */
+        @java.lang.Override
+        public long getColMaxCntInclusive() {
+          return colMaxCntInclusive_;
+        }
+        /**
+         * <code>int64 col_max_cnt_inclusive = 5;</code>
+         * @param value The colMaxCntInclusive to set.
+         * @return This builder for chaining.
+         */
+        public Builder setColMaxCntInclusive(long value) {
+
+          colMaxCntInclusive_ = value;
+          bitField0_ |= 0x00000010;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>int64 col_max_cnt_inclusive = 5;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearColMaxCntInclusive() {
+          bitField0_ = (bitField0_ & ~0x00000010);
+          colMaxCntInclusive_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        private java.util.List<org.secretflow.proto.component.Comp.AttributeDef> attrs_ =
+          java.util.Collections.emptyList();
+        private void ensureAttrsIsMutable() {
+          if (!((bitField0_ & 0x00000020) != 0)) {
+            attrs_ = new java.util.ArrayList<org.secretflow.proto.component.Comp.AttributeDef>(attrs_);
+            bitField0_ |= 0x00000020;
+           }
+        }
+
+        private com.google.protobuf.RepeatedFieldBuilderV3<
+            org.secretflow.proto.component.Comp.AttributeDef, org.secretflow.proto.component.Comp.AttributeDef.Builder, org.secretflow.proto.component.Comp.AttributeDefOrBuilder> attrsBuilder_;
+
+        /**
+         * <pre>
+         * extra attribute for specified col.
+         * </pre>
+         *
+         * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+         */
+        public java.util.List<org.secretflow.proto.component.Comp.AttributeDef> getAttrsList() {
+          if (attrsBuilder_ == null) {
+            return java.util.Collections.unmodifiableList(attrs_);
+          } else {
+            return attrsBuilder_.getMessageList();
+          }
+        }
+        /**
+         * <pre>
+         * extra attribute for specified col.
+         * </pre>
+         *
+         * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+         */
+        public int getAttrsCount() {
+          if (attrsBuilder_ == null) {
+            return attrs_.size();
+          } else {
+            return attrsBuilder_.getCount();
+          }
+        }
+        /**
+         * <pre>
+         * extra attribute for specified col.
+         * </pre>
+         *
+         * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+         */
+        public org.secretflow.proto.component.Comp.AttributeDef getAttrs(int index) {
+          if (attrsBuilder_ == null) {
+            return attrs_.get(index);
+          } else {
+            return attrsBuilder_.getMessage(index);
+          }
+        }
+        /**
+         * <pre>
+         * extra attribute for specified col.
+         * </pre>
+         *
+         * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+         */
+        public Builder setAttrs(
+            int index, org.secretflow.proto.component.Comp.AttributeDef value) {
+          if (attrsBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureAttrsIsMutable();
+            attrs_.set(index, value);
+            onChanged();
+          } else {
+            attrsBuilder_.setMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <pre>
+         * extra attribute for specified col.
+         * </pre>
+         *
+         * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+         */
+        public Builder setAttrs(
+            int index, org.secretflow.proto.component.Comp.AttributeDef.Builder builderForValue) {
+          if (attrsBuilder_ == null) {
+            ensureAttrsIsMutable();
+            attrs_.set(index, builderForValue.build());
+            onChanged();
+          } else {
+            attrsBuilder_.setMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <pre>
+         * extra attribute for specified col.
+         * </pre>
+         *
+         * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+         */
+        public Builder addAttrs(org.secretflow.proto.component.Comp.AttributeDef value) {
+          if (attrsBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureAttrsIsMutable();
+            attrs_.add(value);
+            onChanged();
+          } else {
+            attrsBuilder_.addMessage(value);
+          }
+          return this;
+        }
+        /**
+         * <pre>
+         * extra attribute for specified col.
+         * </pre>
+         *
+         * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+         */
+        public Builder addAttrs(
+            int index, org.secretflow.proto.component.Comp.AttributeDef value) {
+          if (attrsBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureAttrsIsMutable();
+            attrs_.add(index, value);
+            onChanged();
+          } else {
+            attrsBuilder_.addMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <pre>
+         * extra attribute for specified col.
+         * </pre>
+         *
+         * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+         */
+        public Builder addAttrs(
+            org.secretflow.proto.component.Comp.AttributeDef.Builder builderForValue) {
+          if (attrsBuilder_ == null) {
+            ensureAttrsIsMutable();
+            attrs_.add(builderForValue.build());
+            onChanged();
+          } else {
+            attrsBuilder_.addMessage(builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <pre>
+         * extra attribute for specified col.
+         * </pre>
+         *
+         * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+         */
+        public Builder addAttrs(
+            int index, org.secretflow.proto.component.Comp.AttributeDef.Builder builderForValue) {
+          if (attrsBuilder_ == null) {
+            ensureAttrsIsMutable();
+            attrs_.add(index, builderForValue.build());
+            onChanged();
+          } else {
+            attrsBuilder_.addMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <pre>
+         * extra attribute for specified col.
+         * </pre>
+         *
+         * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+         */
+        public Builder addAllAttrs(
+            java.lang.Iterable<? extends org.secretflow.proto.component.Comp.AttributeDef> values) {
+          if (attrsBuilder_ == null) {
+            ensureAttrsIsMutable();
+            com.google.protobuf.AbstractMessageLite.Builder.addAll(
+                values, attrs_);
+            onChanged();
+          } else {
+            attrsBuilder_.addAllMessages(values);
+          }
+          return this;
+        }
+        /**
+         * <pre>
+         * extra attribute for specified col.
+         * </pre>
+         *
+         * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+         */
+        public Builder clearAttrs() {
+          if (attrsBuilder_ == null) {
+            attrs_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000020);
+            onChanged();
+          } else {
+            attrsBuilder_.clear();
+          }
+          return this;
+        }
+        /**
+         * <pre>
+         * extra attribute for specified col.
+         * </pre>
+         *
+         * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+         */
+        public Builder removeAttrs(int index) {
+          if (attrsBuilder_ == null) {
+            ensureAttrsIsMutable();
+            attrs_.remove(index);
+            onChanged();
+          } else {
+            attrsBuilder_.remove(index);
+          }
+          return this;
+        }
+        /**
+         * <pre>
+         * extra attribute for specified col.
+         * </pre>
+         *
+         * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+         */
+        public org.secretflow.proto.component.Comp.AttributeDef.Builder getAttrsBuilder(
+            int index) {
+          return getAttrsFieldBuilder().getBuilder(index);
+        }
+        /**
+         * <pre>
+         * extra attribute for specified col.
+         * </pre>
+         *
+         * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+         */
+        public org.secretflow.proto.component.Comp.AttributeDefOrBuilder getAttrsOrBuilder(
+            int index) {
+          if (attrsBuilder_ == null) {
+            return attrs_.get(index);  } else {
+            return attrsBuilder_.getMessageOrBuilder(index);
+          }
+        }
+        /**
+         * <pre>
+         * extra attribute for specified col.
+         * </pre>
+         *
+         * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+         */
+        public java.util.List<? extends org.secretflow.proto.component.Comp.AttributeDefOrBuilder> 
+             getAttrsOrBuilderList() {
+          if (attrsBuilder_ != null) {
+            return attrsBuilder_.getMessageOrBuilderList();
+          } else {
+            return java.util.Collections.unmodifiableList(attrs_);
+          }
+        }
+        /**
+         * <pre>
+         * extra attribute for specified col.
+         * </pre>
+         *
+         * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+         */
+        public org.secretflow.proto.component.Comp.AttributeDef.Builder addAttrsBuilder() {
+          return getAttrsFieldBuilder().addBuilder(
+              org.secretflow.proto.component.Comp.AttributeDef.getDefaultInstance());
+        }
+        /**
+         * <pre>
+         * extra attribute for specified col.
+         * </pre>
+         *
+         * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+         */
+        public org.secretflow.proto.component.Comp.AttributeDef.Builder addAttrsBuilder(
+            int index) {
+          return getAttrsFieldBuilder().addBuilder(
+              index, org.secretflow.proto.component.Comp.AttributeDef.getDefaultInstance());
+        }
+        /**
+         * <pre>
+         * extra attribute for specified col.
+         * </pre>
+         *
+         * <code>repeated .secretflow.component.AttributeDef attrs = 6;</code>
+         */
+        public java.util.List<org.secretflow.proto.component.Comp.AttributeDef.Builder> 
+             getAttrsBuilderList() {
+          return getAttrsFieldBuilder().getBuilderList();
+        }
+        private com.google.protobuf.RepeatedFieldBuilderV3<
+            org.secretflow.proto.component.Comp.AttributeDef, org.secretflow.proto.component.Comp.AttributeDef.Builder, org.secretflow.proto.component.Comp.AttributeDefOrBuilder> 
+            getAttrsFieldBuilder() {
+          if (attrsBuilder_ == null) {
+            attrsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+                org.secretflow.proto.component.Comp.AttributeDef, org.secretflow.proto.component.Comp.AttributeDef.Builder, org.secretflow.proto.component.Comp.AttributeDefOrBuilder>(
+                    attrs_,
+                    ((bitField0_ & 0x00000020) != 0),
+                    getParentForChildren(),
+                    isClean());
+            attrs_ = null;
+          }
+          return attrsBuilder_;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:secretflow.component.IoDef.TableAttrDef)
+      }
+
+      // @@protoc_insertion_point(class_scope:secretflow.component.IoDef.TableAttrDef)
+      private static final org.secretflow.proto.component.Comp.IoDef.TableAttrDef DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.secretflow.proto.component.Comp.IoDef.TableAttrDef();
+      }
+
+      public static org.secretflow.proto.component.Comp.IoDef.TableAttrDef getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<TableAttrDef>
+          PARSER = new com.google.protobuf.AbstractParser<TableAttrDef>() {
+        @java.lang.Override
+        public TableAttrDef parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<TableAttrDef> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<TableAttrDef> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.IoDef.TableAttrDef getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <pre>
+     * should be unique among all IOs.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * should be unique among all IOs.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DESC_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object desc_ = "";
+    /**
+     * <code>string desc = 2;</code>
+     * @return The desc.
+     */
+    @java.lang.Override
+    public java.lang.String getDesc() {
+      java.lang.Object ref = desc_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        desc_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string desc = 2;</code>
+     * @return The bytes for desc.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDescBytes() {
+      java.lang.Object ref = desc_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        desc_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TYPES_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList types_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * Multiple types are accepted.
+     * Please check DistData in data.proto
+     * </pre>
+     *
+     * <code>repeated string types = 3;</code>
+     * @return A list containing the types.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getTypesList() {
+      return types_;
+    }
+    /**
+     * <pre>
+     * Multiple types are accepted.
+     * Please check DistData in data.proto
+     * </pre>
+     *
+     * <code>repeated string types = 3;</code>
+     * @return The count of types.
+     */
+    public int getTypesCount() {
+      return types_.size();
+    }
+    /**
+     * <pre>
+     * Multiple types are accepted.
+     * Please check DistData in data.proto
+     * </pre>
+     *
+     * <code>repeated string types = 3;</code>
+     * @param index The index of the element to return.
+     * @return The types at the given index.
+     */
+    public java.lang.String getTypes(int index) {
+      return types_.get(index);
+    }
+    /**
+     * <pre>
+     * Multiple types are accepted.
+     * Please check DistData in data.proto
+     * </pre>
+     *
+     * <code>repeated string types = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the types at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getTypesBytes(int index) {
+      return types_.getByteString(index);
+    }
+
+    public static final int ATTRS_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.component.Comp.IoDef.TableAttrDef> attrs_;
+    /**
+     * <pre>
+     * only valid for tables.
+     * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.component.Comp.IoDef.TableAttrDef> getAttrsList() {
+      return attrs_;
+    }
+    /**
+     * <pre>
+     * only valid for tables.
+     * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.component.Comp.IoDef.TableAttrDefOrBuilder> 
+        getAttrsOrBuilderList() {
+      return attrs_;
+    }
+    /**
+     * <pre>
+     * only valid for tables.
+     * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+     */
+    @java.lang.Override
+    public int getAttrsCount() {
+      return attrs_.size();
+    }
+    /**
+     * <pre>
+     * only valid for tables.
+     * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.IoDef.TableAttrDef getAttrs(int index) {
+      return attrs_.get(index);
+    }
+    /**
+     * <pre>
+     * only valid for tables.
+     * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.IoDef.TableAttrDefOrBuilder getAttrsOrBuilder(
+        int index) {
+      return attrs_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, desc_);
+      }
+      for (int i = 0; i < types_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, types_.getRaw(i));
+      }
+      for (int i = 0; i < attrs_.size(); i++) {
+        output.writeMessage(4, attrs_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, desc_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < types_.size(); i++) {
+          dataSize += computeStringSizeNoTag(types_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getTypesList().size();
+      }
+      for (int i = 0; i < attrs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, attrs_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.component.Comp.IoDef)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.component.Comp.IoDef other = (org.secretflow.proto.component.Comp.IoDef) obj;
+
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getDesc()
+          .equals(other.getDesc())) return false;
+      if (!getTypesList()
+          .equals(other.getTypesList())) return false;
+      if (!getAttrsList()
+          .equals(other.getAttrsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + DESC_FIELD_NUMBER;
+      hash = (53 * hash) + getDesc().hashCode();
+      if (getTypesCount() > 0) {
+        hash = (37 * hash) + TYPES_FIELD_NUMBER;
+        hash = (53 * hash) + getTypesList().hashCode();
+      }
+      if (getAttrsCount() > 0) {
+        hash = (37 * hash) + ATTRS_FIELD_NUMBER;
+        hash = (53 * hash) + getAttrsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.component.Comp.IoDef parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Comp.IoDef parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.IoDef parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Comp.IoDef parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.IoDef parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Comp.IoDef parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.IoDef parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Comp.IoDef parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.IoDef parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Comp.IoDef parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.IoDef parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Comp.IoDef parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.component.Comp.IoDef prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Define an input/output for component
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.IoDef}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.component.IoDef)
+        org.secretflow.proto.component.Comp.IoDefOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Comp.internal_static_secretflow_component_IoDef_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Comp.internal_static_secretflow_component_IoDef_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Comp.IoDef.class, org.secretflow.proto.component.Comp.IoDef.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.component.Comp.IoDef.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        name_ = "";
+        desc_ = "";
+        types_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        if (attrsBuilder_ == null) {
+          attrs_ = java.util.Collections.emptyList();
+        } else {
+          attrs_ = null;
+          attrsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.component.Comp.internal_static_secretflow_component_IoDef_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.IoDef getDefaultInstanceForType() {
+        return org.secretflow.proto.component.Comp.IoDef.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.IoDef build() {
+        org.secretflow.proto.component.Comp.IoDef result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.IoDef buildPartial() {
+        org.secretflow.proto.component.Comp.IoDef result = new org.secretflow.proto.component.Comp.IoDef(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.proto.component.Comp.IoDef result) {
+        if (attrsBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            attrs_ = java.util.Collections.unmodifiableList(attrs_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.attrs_ = attrs_;
+        } else {
+          result.attrs_ = attrsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.proto.component.Comp.IoDef result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.desc_ = desc_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          types_.makeImmutable();
+          result.types_ = types_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.component.Comp.IoDef) {
+          return mergeFrom((org.secretflow.proto.component.Comp.IoDef)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.component.Comp.IoDef other) {
+        if (other == org.secretflow.proto.component.Comp.IoDef.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getDesc().isEmpty()) {
+          desc_ = other.desc_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.types_.isEmpty()) {
+          if (types_.isEmpty()) {
+            types_ = other.types_;
+            bitField0_ |= 0x00000004;
+          } else {
+            ensureTypesIsMutable();
+            types_.addAll(other.types_);
+          }
+          onChanged();
+        }
+        if (attrsBuilder_ == null) {
+          if (!other.attrs_.isEmpty()) {
+            if (attrs_.isEmpty()) {
+              attrs_ = other.attrs_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureAttrsIsMutable();
+              attrs_.addAll(other.attrs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.attrs_.isEmpty()) {
+            if (attrsBuilder_.isEmpty()) {
+              attrsBuilder_.dispose();
+              attrsBuilder_ = null;
+              attrs_ = other.attrs_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              attrsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getAttrsFieldBuilder() : null;
+            } else {
+              attrsBuilder_.addAllMessages(other.attrs_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                desc_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureTypesIsMutable();
+                types_.add(s);
+                break;
+              } // case 26
+              case 34: {
+                org.secretflow.proto.component.Comp.IoDef.TableAttrDef m =
+                    input.readMessage(
+                        org.secretflow.proto.component.Comp.IoDef.TableAttrDef.parser(),
+                        extensionRegistry);
+                if (attrsBuilder_ == null) {
+                  ensureAttrsIsMutable();
+                  attrs_.add(m);
+                } else {
+                  attrsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * should be unique among all IOs.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * should be unique among all IOs.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * should be unique among all IOs.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * should be unique among all IOs.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * should be unique among all IOs.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object desc_ = "";
+      /**
+       * <code>string desc = 2;</code>
+       * @return The desc.
+       */
+      public java.lang.String getDesc() {
+        java.lang.Object ref = desc_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          desc_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @return The bytes for desc.
+       */
+      public com.google.protobuf.ByteString
+          getDescBytes() {
+        java.lang.Object ref = desc_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          desc_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @param value The desc to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDesc(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        desc_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDesc() {
+        desc_ = getDefaultInstance().getDesc();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @param value The bytes for desc to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDescBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        desc_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList types_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureTypesIsMutable() {
+        if (!types_.isModifiable()) {
+          types_ = new com.google.protobuf.LazyStringArrayList(types_);
+        }
+        bitField0_ |= 0x00000004;
+      }
+      /**
+       * <pre>
+       * Multiple types are accepted.
+       * Please check DistData in data.proto
+       * </pre>
+       *
+       * <code>repeated string types = 3;</code>
+       * @return A list containing the types.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getTypesList() {
+        types_.makeImmutable();
+        return types_;
+      }
+      /**
+       * <pre>
+       * Multiple types are accepted.
+       * Please check DistData in data.proto
+       * </pre>
+       *
+       * <code>repeated string types = 3;</code>
+       * @return The count of types.
+       */
+      public int getTypesCount() {
+        return types_.size();
+      }
+      /**
+       * <pre>
+       * Multiple types are accepted.
+       * Please check DistData in data.proto
+       * </pre>
+       *
+       * <code>repeated string types = 3;</code>
+       * @param index The index of the element to return.
+       * @return The types at the given index.
+       */
+      public java.lang.String getTypes(int index) {
+        return types_.get(index);
+      }
+      /**
+       * <pre>
+       * Multiple types are accepted.
+       * Please check DistData in data.proto
+       * </pre>
+       *
+       * <code>repeated string types = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the types at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getTypesBytes(int index) {
+        return types_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * Multiple types are accepted.
+       * Please check DistData in data.proto
+       * </pre>
+       *
+       * <code>repeated string types = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The types to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypes(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureTypesIsMutable();
+        types_.set(index, value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Multiple types are accepted.
+       * Please check DistData in data.proto
+       * </pre>
+       *
+       * <code>repeated string types = 3;</code>
+       * @param value The types to add.
+       * @return This builder for chaining.
+       */
+      public Builder addTypes(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureTypesIsMutable();
+        types_.add(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Multiple types are accepted.
+       * Please check DistData in data.proto
+       * </pre>
+       *
+       * <code>repeated string types = 3;</code>
+       * @param values The types to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllTypes(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureTypesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, types_);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Multiple types are accepted.
+       * Please check DistData in data.proto
+       * </pre>
+       *
+       * <code>repeated string types = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTypes() {
+        types_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Multiple types are accepted.
+       * Please check DistData in data.proto
+       * </pre>
+       *
+       * <code>repeated string types = 3;</code>
+       * @param value The bytes of the types to add.
+       * @return This builder for chaining.
+       */
+      public Builder addTypesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureTypesIsMutable();
+        types_.add(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.proto.component.Comp.IoDef.TableAttrDef> attrs_ =
+        java.util.Collections.emptyList();
+      private void ensureAttrsIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          attrs_ = new java.util.ArrayList<org.secretflow.proto.component.Comp.IoDef.TableAttrDef>(attrs_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Comp.IoDef.TableAttrDef, org.secretflow.proto.component.Comp.IoDef.TableAttrDef.Builder, org.secretflow.proto.component.Comp.IoDef.TableAttrDefOrBuilder> attrsBuilder_;
+
+      /**
+       * <pre>
+       * only valid for tables.
+       * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Comp.IoDef.TableAttrDef> getAttrsList() {
+        if (attrsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(attrs_);
+        } else {
+          return attrsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * only valid for tables.
+       * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+       */
+      public int getAttrsCount() {
+        if (attrsBuilder_ == null) {
+          return attrs_.size();
+        } else {
+          return attrsBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * only valid for tables.
+       * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+       */
+      public org.secretflow.proto.component.Comp.IoDef.TableAttrDef getAttrs(int index) {
+        if (attrsBuilder_ == null) {
+          return attrs_.get(index);
+        } else {
+          return attrsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * only valid for tables.
+       * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+       */
+      public Builder setAttrs(
+          int index, org.secretflow.proto.component.Comp.IoDef.TableAttrDef value) {
+        if (attrsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttrsIsMutable();
+          attrs_.set(index, value);
+          onChanged();
+        } else {
+          attrsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only valid for tables.
+       * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+       */
+      public Builder setAttrs(
+          int index, org.secretflow.proto.component.Comp.IoDef.TableAttrDef.Builder builderForValue) {
+        if (attrsBuilder_ == null) {
+          ensureAttrsIsMutable();
+          attrs_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          attrsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only valid for tables.
+       * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+       */
+      public Builder addAttrs(org.secretflow.proto.component.Comp.IoDef.TableAttrDef value) {
+        if (attrsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttrsIsMutable();
+          attrs_.add(value);
+          onChanged();
+        } else {
+          attrsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only valid for tables.
+       * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+       */
+      public Builder addAttrs(
+          int index, org.secretflow.proto.component.Comp.IoDef.TableAttrDef value) {
+        if (attrsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttrsIsMutable();
+          attrs_.add(index, value);
+          onChanged();
+        } else {
+          attrsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only valid for tables.
+       * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+       */
+      public Builder addAttrs(
+          org.secretflow.proto.component.Comp.IoDef.TableAttrDef.Builder builderForValue) {
+        if (attrsBuilder_ == null) {
+          ensureAttrsIsMutable();
+          attrs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          attrsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only valid for tables.
+       * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+       */
+      public Builder addAttrs(
+          int index, org.secretflow.proto.component.Comp.IoDef.TableAttrDef.Builder builderForValue) {
+        if (attrsBuilder_ == null) {
+          ensureAttrsIsMutable();
+          attrs_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          attrsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only valid for tables.
+       * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+       */
+      public Builder addAllAttrs(
+          java.lang.Iterable<? extends org.secretflow.proto.component.Comp.IoDef.TableAttrDef> values) {
+        if (attrsBuilder_ == null) {
+          ensureAttrsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, attrs_);
+          onChanged();
+        } else {
+          attrsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only valid for tables.
+       * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+       */
+      public Builder clearAttrs() {
+        if (attrsBuilder_ == null) {
+          attrs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          attrsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only valid for tables.
+       * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+       */
+      public Builder removeAttrs(int index) {
+        if (attrsBuilder_ == null) {
+          ensureAttrsIsMutable();
+          attrs_.remove(index);
+          onChanged();
+        } else {
+          attrsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only valid for tables.
+       * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+       */
+      public org.secretflow.proto.component.Comp.IoDef.TableAttrDef.Builder getAttrsBuilder(
+          int index) {
+        return getAttrsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * only valid for tables.
+       * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+       */
+      public org.secretflow.proto.component.Comp.IoDef.TableAttrDefOrBuilder getAttrsOrBuilder(
+          int index) {
+        if (attrsBuilder_ == null) {
+          return attrs_.get(index);  } else {
+          return attrsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * only valid for tables.
+       * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.component.Comp.IoDef.TableAttrDefOrBuilder> 
+           getAttrsOrBuilderList() {
+        if (attrsBuilder_ != null) {
+          return attrsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(attrs_);
+        }
+      }
+      /**
+       * <pre>
+       * only valid for tables.
+       * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+       */
+      public org.secretflow.proto.component.Comp.IoDef.TableAttrDef.Builder addAttrsBuilder() {
+        return getAttrsFieldBuilder().addBuilder(
+            org.secretflow.proto.component.Comp.IoDef.TableAttrDef.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * only valid for tables.
+       * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+       */
+      public org.secretflow.proto.component.Comp.IoDef.TableAttrDef.Builder addAttrsBuilder(
+          int index) {
+        return getAttrsFieldBuilder().addBuilder(
+            index, org.secretflow.proto.component.Comp.IoDef.TableAttrDef.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * only valid for tables.
+       * The attribute path is "{input|output}/{IoDef name}/{TableAttrDef name}"
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.IoDef.TableAttrDef attrs = 4;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Comp.IoDef.TableAttrDef.Builder> 
+           getAttrsBuilderList() {
+        return getAttrsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Comp.IoDef.TableAttrDef, org.secretflow.proto.component.Comp.IoDef.TableAttrDef.Builder, org.secretflow.proto.component.Comp.IoDef.TableAttrDefOrBuilder> 
+          getAttrsFieldBuilder() {
+        if (attrsBuilder_ == null) {
+          attrsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.component.Comp.IoDef.TableAttrDef, org.secretflow.proto.component.Comp.IoDef.TableAttrDef.Builder, org.secretflow.proto.component.Comp.IoDef.TableAttrDefOrBuilder>(
+                  attrs_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          attrs_ = null;
+        }
+        return attrsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.component.IoDef)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.component.IoDef)
+    private static final org.secretflow.proto.component.Comp.IoDef DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.component.Comp.IoDef();
+    }
+
+    public static org.secretflow.proto.component.Comp.IoDef getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<IoDef>
+        PARSER = new com.google.protobuf.AbstractParser<IoDef>() {
+      @java.lang.Override
+      public IoDef parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<IoDef> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<IoDef> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.IoDef getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ComponentDefOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.component.ComponentDef)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * namespace of the comp.
+     * </pre>
+     *
+     * <code>string domain = 1;</code>
+     * @return The domain.
+     */
+    java.lang.String getDomain();
+    /**
+     * <pre>
+     * namespace of the comp.
+     * </pre>
+     *
+     * <code>string domain = 1;</code>
+     * @return The bytes for domain.
+     */
+    com.google.protobuf.ByteString
+        getDomainBytes();
+
+    /**
+     * <pre>
+     * should be unique among all comps of the same domain.
+     * </pre>
+     *
+     * <code>string name = 2;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <pre>
+     * should be unique among all comps of the same domain.
+     * </pre>
+     *
+     * <code>string name = 2;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>string desc = 3;</code>
+     * @return The desc.
+     */
+    java.lang.String getDesc();
+    /**
+     * <code>string desc = 3;</code>
+     * @return The bytes for desc.
+     */
+    com.google.protobuf.ByteString
+        getDescBytes();
+
+    /**
+     * <pre>
+     * version of the comp.
+     * </pre>
+     *
+     * <code>string version = 4;</code>
+     * @return The version.
+     */
+    java.lang.String getVersion();
+    /**
+     * <pre>
+     * version of the comp.
+     * </pre>
+     *
+     * <code>string version = 4;</code>
+     * @return The bytes for version.
+     */
+    com.google.protobuf.ByteString
+        getVersionBytes();
+
+    /**
+     * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+     */
+    java.util.List<org.secretflow.proto.component.Comp.AttributeDef> 
+        getAttrsList();
+    /**
+     * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+     */
+    org.secretflow.proto.component.Comp.AttributeDef getAttrs(int index);
+    /**
+     * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+     */
+    int getAttrsCount();
+    /**
+     * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.component.Comp.AttributeDefOrBuilder> 
+        getAttrsOrBuilderList();
+    /**
+     * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+     */
+    org.secretflow.proto.component.Comp.AttributeDefOrBuilder getAttrsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+     */
+    java.util.List<org.secretflow.proto.component.Comp.IoDef> 
+        getInputsList();
+    /**
+     * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+     */
+    org.secretflow.proto.component.Comp.IoDef getInputs(int index);
+    /**
+     * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+     */
+    int getInputsCount();
+    /**
+     * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.component.Comp.IoDefOrBuilder> 
+        getInputsOrBuilderList();
+    /**
+     * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+     */
+    org.secretflow.proto.component.Comp.IoDefOrBuilder getInputsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+     */
+    java.util.List<org.secretflow.proto.component.Comp.IoDef> 
+        getOutputsList();
+    /**
+     * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+     */
+    org.secretflow.proto.component.Comp.IoDef getOutputs(int index);
+    /**
+     * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+     */
+    int getOutputsCount();
+    /**
+     * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.component.Comp.IoDefOrBuilder> 
+        getOutputsOrBuilderList();
+    /**
+     * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+     */
+    org.secretflow.proto.component.Comp.IoDefOrBuilder getOutputsOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * The definition of a comp.
+   * </pre>
+   *
+   * Protobuf type {@code secretflow.component.ComponentDef}
+   */
+  public static final class ComponentDef extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.component.ComponentDef)
+      ComponentDefOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ComponentDef.newBuilder() to construct.
+    private ComponentDef(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ComponentDef() {
+      domain_ = "";
+      name_ = "";
+      desc_ = "";
+      version_ = "";
+      attrs_ = java.util.Collections.emptyList();
+      inputs_ = java.util.Collections.emptyList();
+      outputs_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ComponentDef();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.Comp.internal_static_secretflow_component_ComponentDef_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.component.Comp.internal_static_secretflow_component_ComponentDef_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.component.Comp.ComponentDef.class, org.secretflow.proto.component.Comp.ComponentDef.Builder.class);
+    }
+
+    public static final int DOMAIN_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domain_ = "";
+    /**
+     * <pre>
+     * namespace of the comp.
+     * </pre>
+     *
+     * <code>string domain = 1;</code>
+     * @return The domain.
+     */
+    @java.lang.Override
+    public java.lang.String getDomain() {
+      java.lang.Object ref = domain_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domain_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * namespace of the comp.
+     * </pre>
+     *
+     * <code>string domain = 1;</code>
+     * @return The bytes for domain.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomainBytes() {
+      java.lang.Object ref = domain_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domain_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NAME_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <pre>
+     * should be unique among all comps of the same domain.
+     * </pre>
+     *
+     * <code>string name = 2;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * should be unique among all comps of the same domain.
+     * </pre>
+     *
+     * <code>string name = 2;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DESC_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object desc_ = "";
+    /**
+     * <code>string desc = 3;</code>
+     * @return The desc.
+     */
+    @java.lang.Override
+    public java.lang.String getDesc() {
+      java.lang.Object ref = desc_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        desc_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string desc = 3;</code>
+     * @return The bytes for desc.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDescBytes() {
+      java.lang.Object ref = desc_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        desc_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object version_ = "";
+    /**
+     * <pre>
+     * version of the comp.
+     * </pre>
+     *
+     * <code>string version = 4;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public java.lang.String getVersion() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        version_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * version of the comp.
+     * </pre>
+     *
+     * <code>string version = 4;</code>
+     * @return The bytes for version.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getVersionBytes() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        version_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ATTRS_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.component.Comp.AttributeDef> attrs_;
+    /**
+     * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.component.Comp.AttributeDef> getAttrsList() {
+      return attrs_;
+    }
+    /**
+     * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.component.Comp.AttributeDefOrBuilder> 
+        getAttrsOrBuilderList() {
+      return attrs_;
+    }
+    /**
+     * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+     */
+    @java.lang.Override
+    public int getAttrsCount() {
+      return attrs_.size();
+    }
+    /**
+     * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.AttributeDef getAttrs(int index) {
+      return attrs_.get(index);
+    }
+    /**
+     * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.AttributeDefOrBuilder getAttrsOrBuilder(
+        int index) {
+      return attrs_.get(index);
+    }
+
+    public static final int INPUTS_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.component.Comp.IoDef> inputs_;
+    /**
+     * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.component.Comp.IoDef> getInputsList() {
+      return inputs_;
+    }
+    /**
+     * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.component.Comp.IoDefOrBuilder> 
+        getInputsOrBuilderList() {
+      return inputs_;
+    }
+    /**
+     * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+     */
+    @java.lang.Override
+    public int getInputsCount() {
+      return inputs_.size();
+    }
+    /**
+     * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.IoDef getInputs(int index) {
+      return inputs_.get(index);
+    }
+    /**
+     * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.IoDefOrBuilder getInputsOrBuilder(
+        int index) {
+      return inputs_.get(index);
+    }
+
+    public static final int OUTPUTS_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.component.Comp.IoDef> outputs_;
+    /**
+     * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.component.Comp.IoDef> getOutputsList() {
+      return outputs_;
+    }
+    /**
+     * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.component.Comp.IoDefOrBuilder> 
+        getOutputsOrBuilderList() {
+      return outputs_;
+    }
+    /**
+     * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+     */
+    @java.lang.Override
+    public int getOutputsCount() {
+      return outputs_.size();
+    }
+    /**
+     * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.IoDef getOutputs(int index) {
+      return outputs_.get(index);
+    }
+    /**
+     * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.IoDefOrBuilder getOutputsOrBuilder(
+        int index) {
+      return outputs_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domain_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, domain_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, desc_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(version_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, version_);
+      }
+      for (int i = 0; i < attrs_.size(); i++) {
+        output.writeMessage(5, attrs_.get(i));
+      }
+      for (int i = 0; i < inputs_.size(); i++) {
+        output.writeMessage(6, inputs_.get(i));
+      }
+      for (int i = 0; i < outputs_.size(); i++) {
+        output.writeMessage(7, outputs_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domain_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, domain_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, desc_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(version_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, version_);
+      }
+      for (int i = 0; i < attrs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, attrs_.get(i));
+      }
+      for (int i = 0; i < inputs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, inputs_.get(i));
+      }
+      for (int i = 0; i < outputs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, outputs_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.component.Comp.ComponentDef)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.component.Comp.ComponentDef other = (org.secretflow.proto.component.Comp.ComponentDef) obj;
+
+      if (!getDomain()
+          .equals(other.getDomain())) return false;
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getDesc()
+          .equals(other.getDesc())) return false;
+      if (!getVersion()
+          .equals(other.getVersion())) return false;
+      if (!getAttrsList()
+          .equals(other.getAttrsList())) return false;
+      if (!getInputsList()
+          .equals(other.getInputsList())) return false;
+      if (!getOutputsList()
+          .equals(other.getOutputsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DOMAIN_FIELD_NUMBER;
+      hash = (53 * hash) + getDomain().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + DESC_FIELD_NUMBER;
+      hash = (53 * hash) + getDesc().hashCode();
+      hash = (37 * hash) + VERSION_FIELD_NUMBER;
+      hash = (53 * hash) + getVersion().hashCode();
+      if (getAttrsCount() > 0) {
+        hash = (37 * hash) + ATTRS_FIELD_NUMBER;
+        hash = (53 * hash) + getAttrsList().hashCode();
+      }
+      if (getInputsCount() > 0) {
+        hash = (37 * hash) + INPUTS_FIELD_NUMBER;
+        hash = (53 * hash) + getInputsList().hashCode();
+      }
+      if (getOutputsCount() > 0) {
+        hash = (37 * hash) + OUTPUTS_FIELD_NUMBER;
+        hash = (53 * hash) + getOutputsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.component.Comp.ComponentDef parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Comp.ComponentDef parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.ComponentDef parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Comp.ComponentDef parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.ComponentDef parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Comp.ComponentDef parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.ComponentDef parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Comp.ComponentDef parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.ComponentDef parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Comp.ComponentDef parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.ComponentDef parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Comp.ComponentDef parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.component.Comp.ComponentDef prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * The definition of a comp.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.ComponentDef}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.component.ComponentDef)
+        org.secretflow.proto.component.Comp.ComponentDefOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Comp.internal_static_secretflow_component_ComponentDef_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Comp.internal_static_secretflow_component_ComponentDef_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Comp.ComponentDef.class, org.secretflow.proto.component.Comp.ComponentDef.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.component.Comp.ComponentDef.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        domain_ = "";
+        name_ = "";
+        desc_ = "";
+        version_ = "";
+        if (attrsBuilder_ == null) {
+          attrs_ = java.util.Collections.emptyList();
+        } else {
+          attrs_ = null;
+          attrsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (inputsBuilder_ == null) {
+          inputs_ = java.util.Collections.emptyList();
+        } else {
+          inputs_ = null;
+          inputsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        if (outputsBuilder_ == null) {
+          outputs_ = java.util.Collections.emptyList();
+        } else {
+          outputs_ = null;
+          outputsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.component.Comp.internal_static_secretflow_component_ComponentDef_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.ComponentDef getDefaultInstanceForType() {
+        return org.secretflow.proto.component.Comp.ComponentDef.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.ComponentDef build() {
+        org.secretflow.proto.component.Comp.ComponentDef result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.ComponentDef buildPartial() {
+        org.secretflow.proto.component.Comp.ComponentDef result = new org.secretflow.proto.component.Comp.ComponentDef(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.proto.component.Comp.ComponentDef result) {
+        if (attrsBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) != 0)) {
+            attrs_ = java.util.Collections.unmodifiableList(attrs_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.attrs_ = attrs_;
+        } else {
+          result.attrs_ = attrsBuilder_.build();
+        }
+        if (inputsBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) != 0)) {
+            inputs_ = java.util.Collections.unmodifiableList(inputs_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.inputs_ = inputs_;
+        } else {
+          result.inputs_ = inputsBuilder_.build();
+        }
+        if (outputsBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) != 0)) {
+            outputs_ = java.util.Collections.unmodifiableList(outputs_);
+            bitField0_ = (bitField0_ & ~0x00000040);
+          }
+          result.outputs_ = outputs_;
+        } else {
+          result.outputs_ = outputsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.proto.component.Comp.ComponentDef result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.domain_ = domain_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.desc_ = desc_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.version_ = version_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.component.Comp.ComponentDef) {
+          return mergeFrom((org.secretflow.proto.component.Comp.ComponentDef)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.component.Comp.ComponentDef other) {
+        if (other == org.secretflow.proto.component.Comp.ComponentDef.getDefaultInstance()) return this;
+        if (!other.getDomain().isEmpty()) {
+          domain_ = other.domain_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getDesc().isEmpty()) {
+          desc_ = other.desc_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (!other.getVersion().isEmpty()) {
+          version_ = other.version_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (attrsBuilder_ == null) {
+          if (!other.attrs_.isEmpty()) {
+            if (attrs_.isEmpty()) {
+              attrs_ = other.attrs_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureAttrsIsMutable();
+              attrs_.addAll(other.attrs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.attrs_.isEmpty()) {
+            if (attrsBuilder_.isEmpty()) {
+              attrsBuilder_.dispose();
+              attrsBuilder_ = null;
+              attrs_ = other.attrs_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              attrsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getAttrsFieldBuilder() : null;
+            } else {
+              attrsBuilder_.addAllMessages(other.attrs_);
+            }
+          }
+        }
+        if (inputsBuilder_ == null) {
+          if (!other.inputs_.isEmpty()) {
+            if (inputs_.isEmpty()) {
+              inputs_ = other.inputs_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureInputsIsMutable();
+              inputs_.addAll(other.inputs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.inputs_.isEmpty()) {
+            if (inputsBuilder_.isEmpty()) {
+              inputsBuilder_.dispose();
+              inputsBuilder_ = null;
+              inputs_ = other.inputs_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              inputsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getInputsFieldBuilder() : null;
+            } else {
+              inputsBuilder_.addAllMessages(other.inputs_);
+            }
+          }
+        }
+        if (outputsBuilder_ == null) {
+          if (!other.outputs_.isEmpty()) {
+            if (outputs_.isEmpty()) {
+              outputs_ = other.outputs_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+            } else {
+              ensureOutputsIsMutable();
+              outputs_.addAll(other.outputs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.outputs_.isEmpty()) {
+            if (outputsBuilder_.isEmpty()) {
+              outputsBuilder_.dispose();
+              outputsBuilder_ = null;
+              outputs_ = other.outputs_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+              outputsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getOutputsFieldBuilder() : null;
+            } else {
+              outputsBuilder_.addAllMessages(other.outputs_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                domain_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                desc_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                version_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                org.secretflow.proto.component.Comp.AttributeDef m =
+                    input.readMessage(
+                        org.secretflow.proto.component.Comp.AttributeDef.parser(),
+                        extensionRegistry);
+                if (attrsBuilder_ == null) {
+                  ensureAttrsIsMutable();
+                  attrs_.add(m);
+                } else {
+                  attrsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 42
+              case 50: {
+                org.secretflow.proto.component.Comp.IoDef m =
+                    input.readMessage(
+                        org.secretflow.proto.component.Comp.IoDef.parser(),
+                        extensionRegistry);
+                if (inputsBuilder_ == null) {
+                  ensureInputsIsMutable();
+                  inputs_.add(m);
+                } else {
+                  inputsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 50
+              case 58: {
+                org.secretflow.proto.component.Comp.IoDef m =
+                    input.readMessage(
+                        org.secretflow.proto.component.Comp.IoDef.parser(),
+                        extensionRegistry);
+                if (outputsBuilder_ == null) {
+                  ensureOutputsIsMutable();
+                  outputs_.add(m);
+                } else {
+                  outputsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 58
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object domain_ = "";
+      /**
+       * <pre>
+       * namespace of the comp.
+       * </pre>
+       *
+       * <code>string domain = 1;</code>
+       * @return The domain.
+       */
+      public java.lang.String getDomain() {
+        java.lang.Object ref = domain_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domain_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * namespace of the comp.
+       * </pre>
+       *
+       * <code>string domain = 1;</code>
+       * @return The bytes for domain.
+       */
+      public com.google.protobuf.ByteString
+          getDomainBytes() {
+        java.lang.Object ref = domain_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domain_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * namespace of the comp.
+       * </pre>
+       *
+       * <code>string domain = 1;</code>
+       * @param value The domain to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomain(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domain_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * namespace of the comp.
+       * </pre>
+       *
+       * <code>string domain = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomain() {
+        domain_ = getDefaultInstance().getDomain();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * namespace of the comp.
+       * </pre>
+       *
+       * <code>string domain = 1;</code>
+       * @param value The bytes for domain to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domain_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * should be unique among all comps of the same domain.
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * should be unique among all comps of the same domain.
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * should be unique among all comps of the same domain.
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * should be unique among all comps of the same domain.
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * should be unique among all comps of the same domain.
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object desc_ = "";
+      /**
+       * <code>string desc = 3;</code>
+       * @return The desc.
+       */
+      public java.lang.String getDesc() {
+        java.lang.Object ref = desc_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          desc_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string desc = 3;</code>
+       * @return The bytes for desc.
+       */
+      public com.google.protobuf.ByteString
+          getDescBytes() {
+        java.lang.Object ref = desc_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          desc_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string desc = 3;</code>
+       * @param value The desc to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDesc(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        desc_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string desc = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDesc() {
+        desc_ = getDefaultInstance().getDesc();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string desc = 3;</code>
+       * @param value The bytes for desc to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDescBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        desc_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object version_ = "";
+      /**
+       * <pre>
+       * version of the comp.
+       * </pre>
+       *
+       * <code>string version = 4;</code>
+       * @return The version.
+       */
+      public java.lang.String getVersion() {
+        java.lang.Object ref = version_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          version_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * version of the comp.
+       * </pre>
+       *
+       * <code>string version = 4;</code>
+       * @return The bytes for version.
+       */
+      public com.google.protobuf.ByteString
+          getVersionBytes() {
+        java.lang.Object ref = version_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          version_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * version of the comp.
+       * </pre>
+       *
+       * <code>string version = 4;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        version_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * version of the comp.
+       * </pre>
+       *
+       * <code>string version = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        version_ = getDefaultInstance().getVersion();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * version of the comp.
+       * </pre>
+       *
+       * <code>string version = 4;</code>
+       * @param value The bytes for version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        version_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.proto.component.Comp.AttributeDef> attrs_ =
+        java.util.Collections.emptyList();
+      private void ensureAttrsIsMutable() {
+        if (!((bitField0_ & 0x00000010) != 0)) {
+          attrs_ = new java.util.ArrayList<org.secretflow.proto.component.Comp.AttributeDef>(attrs_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Comp.AttributeDef, org.secretflow.proto.component.Comp.AttributeDef.Builder, org.secretflow.proto.component.Comp.AttributeDefOrBuilder> attrsBuilder_;
+
+      /**
+       * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Comp.AttributeDef> getAttrsList() {
+        if (attrsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(attrs_);
+        } else {
+          return attrsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+       */
+      public int getAttrsCount() {
+        if (attrsBuilder_ == null) {
+          return attrs_.size();
+        } else {
+          return attrsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+       */
+      public org.secretflow.proto.component.Comp.AttributeDef getAttrs(int index) {
+        if (attrsBuilder_ == null) {
+          return attrs_.get(index);
+        } else {
+          return attrsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+       */
+      public Builder setAttrs(
+          int index, org.secretflow.proto.component.Comp.AttributeDef value) {
+        if (attrsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttrsIsMutable();
+          attrs_.set(index, value);
+          onChanged();
+        } else {
+          attrsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+       */
+      public Builder setAttrs(
+          int index, org.secretflow.proto.component.Comp.AttributeDef.Builder builderForValue) {
+        if (attrsBuilder_ == null) {
+          ensureAttrsIsMutable();
+          attrs_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          attrsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+       */
+      public Builder addAttrs(org.secretflow.proto.component.Comp.AttributeDef value) {
+        if (attrsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttrsIsMutable();
+          attrs_.add(value);
+          onChanged();
+        } else {
+          attrsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+       */
+      public Builder addAttrs(
+          int index, org.secretflow.proto.component.Comp.AttributeDef value) {
+        if (attrsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttrsIsMutable();
+          attrs_.add(index, value);
+          onChanged();
+        } else {
+          attrsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+       */
+      public Builder addAttrs(
+          org.secretflow.proto.component.Comp.AttributeDef.Builder builderForValue) {
+        if (attrsBuilder_ == null) {
+          ensureAttrsIsMutable();
+          attrs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          attrsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+       */
+      public Builder addAttrs(
+          int index, org.secretflow.proto.component.Comp.AttributeDef.Builder builderForValue) {
+        if (attrsBuilder_ == null) {
+          ensureAttrsIsMutable();
+          attrs_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          attrsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+       */
+      public Builder addAllAttrs(
+          java.lang.Iterable<? extends org.secretflow.proto.component.Comp.AttributeDef> values) {
+        if (attrsBuilder_ == null) {
+          ensureAttrsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, attrs_);
+          onChanged();
+        } else {
+          attrsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+       */
+      public Builder clearAttrs() {
+        if (attrsBuilder_ == null) {
+          attrs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          attrsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+       */
+      public Builder removeAttrs(int index) {
+        if (attrsBuilder_ == null) {
+          ensureAttrsIsMutable();
+          attrs_.remove(index);
+          onChanged();
+        } else {
+          attrsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+       */
+      public org.secretflow.proto.component.Comp.AttributeDef.Builder getAttrsBuilder(
+          int index) {
+        return getAttrsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+       */
+      public org.secretflow.proto.component.Comp.AttributeDefOrBuilder getAttrsOrBuilder(
+          int index) {
+        if (attrsBuilder_ == null) {
+          return attrs_.get(index);  } else {
+          return attrsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.component.Comp.AttributeDefOrBuilder> 
+           getAttrsOrBuilderList() {
+        if (attrsBuilder_ != null) {
+          return attrsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(attrs_);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+       */
+      public org.secretflow.proto.component.Comp.AttributeDef.Builder addAttrsBuilder() {
+        return getAttrsFieldBuilder().addBuilder(
+            org.secretflow.proto.component.Comp.AttributeDef.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+       */
+      public org.secretflow.proto.component.Comp.AttributeDef.Builder addAttrsBuilder(
+          int index) {
+        return getAttrsFieldBuilder().addBuilder(
+            index, org.secretflow.proto.component.Comp.AttributeDef.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.AttributeDef attrs = 5;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Comp.AttributeDef.Builder> 
+           getAttrsBuilderList() {
+        return getAttrsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Comp.AttributeDef, org.secretflow.proto.component.Comp.AttributeDef.Builder, org.secretflow.proto.component.Comp.AttributeDefOrBuilder> 
+          getAttrsFieldBuilder() {
+        if (attrsBuilder_ == null) {
+          attrsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.component.Comp.AttributeDef, org.secretflow.proto.component.Comp.AttributeDef.Builder, org.secretflow.proto.component.Comp.AttributeDefOrBuilder>(
+                  attrs_,
+                  ((bitField0_ & 0x00000010) != 0),
+                  getParentForChildren(),
+                  isClean());
+          attrs_ = null;
+        }
+        return attrsBuilder_;
+      }
+
+      private java.util.List<org.secretflow.proto.component.Comp.IoDef> inputs_ =
+        java.util.Collections.emptyList();
+      private void ensureInputsIsMutable() {
+        if (!((bitField0_ & 0x00000020) != 0)) {
+          inputs_ = new java.util.ArrayList<org.secretflow.proto.component.Comp.IoDef>(inputs_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Comp.IoDef, org.secretflow.proto.component.Comp.IoDef.Builder, org.secretflow.proto.component.Comp.IoDefOrBuilder> inputsBuilder_;
+
+      /**
+       * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Comp.IoDef> getInputsList() {
+        if (inputsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(inputs_);
+        } else {
+          return inputsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+       */
+      public int getInputsCount() {
+        if (inputsBuilder_ == null) {
+          return inputs_.size();
+        } else {
+          return inputsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+       */
+      public org.secretflow.proto.component.Comp.IoDef getInputs(int index) {
+        if (inputsBuilder_ == null) {
+          return inputs_.get(index);
+        } else {
+          return inputsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+       */
+      public Builder setInputs(
+          int index, org.secretflow.proto.component.Comp.IoDef value) {
+        if (inputsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInputsIsMutable();
+          inputs_.set(index, value);
+          onChanged();
+        } else {
+          inputsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+       */
+      public Builder setInputs(
+          int index, org.secretflow.proto.component.Comp.IoDef.Builder builderForValue) {
+        if (inputsBuilder_ == null) {
+          ensureInputsIsMutable();
+          inputs_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          inputsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+       */
+      public Builder addInputs(org.secretflow.proto.component.Comp.IoDef value) {
+        if (inputsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInputsIsMutable();
+          inputs_.add(value);
+          onChanged();
+        } else {
+          inputsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+       */
+      public Builder addInputs(
+          int index, org.secretflow.proto.component.Comp.IoDef value) {
+        if (inputsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInputsIsMutable();
+          inputs_.add(index, value);
+          onChanged();
+        } else {
+          inputsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+       */
+      public Builder addInputs(
+          org.secretflow.proto.component.Comp.IoDef.Builder builderForValue) {
+        if (inputsBuilder_ == null) {
+          ensureInputsIsMutable();
+          inputs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          inputsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+       */
+      public Builder addInputs(
+          int index, org.secretflow.proto.component.Comp.IoDef.Builder builderForValue) {
+        if (inputsBuilder_ == null) {
+          ensureInputsIsMutable();
+          inputs_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          inputsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+       */
+      public Builder addAllInputs(
+          java.lang.Iterable<? extends org.secretflow.proto.component.Comp.IoDef> values) {
+        if (inputsBuilder_ == null) {
+          ensureInputsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, inputs_);
+          onChanged();
+        } else {
+          inputsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+       */
+      public Builder clearInputs() {
+        if (inputsBuilder_ == null) {
+          inputs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          inputsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+       */
+      public Builder removeInputs(int index) {
+        if (inputsBuilder_ == null) {
+          ensureInputsIsMutable();
+          inputs_.remove(index);
+          onChanged();
+        } else {
+          inputsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+       */
+      public org.secretflow.proto.component.Comp.IoDef.Builder getInputsBuilder(
+          int index) {
+        return getInputsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+       */
+      public org.secretflow.proto.component.Comp.IoDefOrBuilder getInputsOrBuilder(
+          int index) {
+        if (inputsBuilder_ == null) {
+          return inputs_.get(index);  } else {
+          return inputsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.component.Comp.IoDefOrBuilder> 
+           getInputsOrBuilderList() {
+        if (inputsBuilder_ != null) {
+          return inputsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(inputs_);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+       */
+      public org.secretflow.proto.component.Comp.IoDef.Builder addInputsBuilder() {
+        return getInputsFieldBuilder().addBuilder(
+            org.secretflow.proto.component.Comp.IoDef.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+       */
+      public org.secretflow.proto.component.Comp.IoDef.Builder addInputsBuilder(
+          int index) {
+        return getInputsFieldBuilder().addBuilder(
+            index, org.secretflow.proto.component.Comp.IoDef.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef inputs = 6;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Comp.IoDef.Builder> 
+           getInputsBuilderList() {
+        return getInputsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Comp.IoDef, org.secretflow.proto.component.Comp.IoDef.Builder, org.secretflow.proto.component.Comp.IoDefOrBuilder> 
+          getInputsFieldBuilder() {
+        if (inputsBuilder_ == null) {
+          inputsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.component.Comp.IoDef, org.secretflow.proto.component.Comp.IoDef.Builder, org.secretflow.proto.component.Comp.IoDefOrBuilder>(
+                  inputs_,
+                  ((bitField0_ & 0x00000020) != 0),
+                  getParentForChildren(),
+                  isClean());
+          inputs_ = null;
+        }
+        return inputsBuilder_;
+      }
+
+      private java.util.List<org.secretflow.proto.component.Comp.IoDef> outputs_ =
+        java.util.Collections.emptyList();
+      private void ensureOutputsIsMutable() {
+        if (!((bitField0_ & 0x00000040) != 0)) {
+          outputs_ = new java.util.ArrayList<org.secretflow.proto.component.Comp.IoDef>(outputs_);
+          bitField0_ |= 0x00000040;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Comp.IoDef, org.secretflow.proto.component.Comp.IoDef.Builder, org.secretflow.proto.component.Comp.IoDefOrBuilder> outputsBuilder_;
+
+      /**
+       * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Comp.IoDef> getOutputsList() {
+        if (outputsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(outputs_);
+        } else {
+          return outputsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+       */
+      public int getOutputsCount() {
+        if (outputsBuilder_ == null) {
+          return outputs_.size();
+        } else {
+          return outputsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+       */
+      public org.secretflow.proto.component.Comp.IoDef getOutputs(int index) {
+        if (outputsBuilder_ == null) {
+          return outputs_.get(index);
+        } else {
+          return outputsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+       */
+      public Builder setOutputs(
+          int index, org.secretflow.proto.component.Comp.IoDef value) {
+        if (outputsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOutputsIsMutable();
+          outputs_.set(index, value);
+          onChanged();
+        } else {
+          outputsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+       */
+      public Builder setOutputs(
+          int index, org.secretflow.proto.component.Comp.IoDef.Builder builderForValue) {
+        if (outputsBuilder_ == null) {
+          ensureOutputsIsMutable();
+          outputs_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          outputsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+       */
+      public Builder addOutputs(org.secretflow.proto.component.Comp.IoDef value) {
+        if (outputsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOutputsIsMutable();
+          outputs_.add(value);
+          onChanged();
+        } else {
+          outputsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+       */
+      public Builder addOutputs(
+          int index, org.secretflow.proto.component.Comp.IoDef value) {
+        if (outputsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOutputsIsMutable();
+          outputs_.add(index, value);
+          onChanged();
+        } else {
+          outputsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+       */
+      public Builder addOutputs(
+          org.secretflow.proto.component.Comp.IoDef.Builder builderForValue) {
+        if (outputsBuilder_ == null) {
+          ensureOutputsIsMutable();
+          outputs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          outputsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+       */
+      public Builder addOutputs(
+          int index, org.secretflow.proto.component.Comp.IoDef.Builder builderForValue) {
+        if (outputsBuilder_ == null) {
+          ensureOutputsIsMutable();
+          outputs_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          outputsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+       */
+      public Builder addAllOutputs(
+          java.lang.Iterable<? extends org.secretflow.proto.component.Comp.IoDef> values) {
+        if (outputsBuilder_ == null) {
+          ensureOutputsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, outputs_);
+          onChanged();
+        } else {
+          outputsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+       */
+      public Builder clearOutputs() {
+        if (outputsBuilder_ == null) {
+          outputs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+          onChanged();
+        } else {
+          outputsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+       */
+      public Builder removeOutputs(int index) {
+        if (outputsBuilder_ == null) {
+          ensureOutputsIsMutable();
+          outputs_.remove(index);
+          onChanged();
+        } else {
+          outputsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+       */
+      public org.secretflow.proto.component.Comp.IoDef.Builder getOutputsBuilder(
+          int index) {
+        return getOutputsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+       */
+      public org.secretflow.proto.component.Comp.IoDefOrBuilder getOutputsOrBuilder(
+          int index) {
+        if (outputsBuilder_ == null) {
+          return outputs_.get(index);  } else {
+          return outputsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.component.Comp.IoDefOrBuilder> 
+           getOutputsOrBuilderList() {
+        if (outputsBuilder_ != null) {
+          return outputsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(outputs_);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+       */
+      public org.secretflow.proto.component.Comp.IoDef.Builder addOutputsBuilder() {
+        return getOutputsFieldBuilder().addBuilder(
+            org.secretflow.proto.component.Comp.IoDef.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+       */
+      public org.secretflow.proto.component.Comp.IoDef.Builder addOutputsBuilder(
+          int index) {
+        return getOutputsFieldBuilder().addBuilder(
+            index, org.secretflow.proto.component.Comp.IoDef.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.IoDef outputs = 7;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Comp.IoDef.Builder> 
+           getOutputsBuilderList() {
+        return getOutputsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Comp.IoDef, org.secretflow.proto.component.Comp.IoDef.Builder, org.secretflow.proto.component.Comp.IoDefOrBuilder> 
+          getOutputsFieldBuilder() {
+        if (outputsBuilder_ == null) {
+          outputsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.component.Comp.IoDef, org.secretflow.proto.component.Comp.IoDef.Builder, org.secretflow.proto.component.Comp.IoDefOrBuilder>(
+                  outputs_,
+                  ((bitField0_ & 0x00000040) != 0),
+                  getParentForChildren(),
+                  isClean());
+          outputs_ = null;
+        }
+        return outputsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.component.ComponentDef)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.component.ComponentDef)
+    private static final org.secretflow.proto.component.Comp.ComponentDef DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.component.Comp.ComponentDef();
+    }
+
+    public static org.secretflow.proto.component.Comp.ComponentDef getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ComponentDef>
+        PARSER = new com.google.protobuf.AbstractParser<ComponentDef>() {
+      @java.lang.Override
+      public ComponentDef parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ComponentDef> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ComponentDef> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.ComponentDef getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CompListDefOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.component.CompListDef)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>string desc = 2;</code>
+     * @return The desc.
+     */
+    java.lang.String getDesc();
+    /**
+     * <code>string desc = 2;</code>
+     * @return The bytes for desc.
+     */
+    com.google.protobuf.ByteString
+        getDescBytes();
+
+    /**
+     * <code>string version = 3;</code>
+     * @return The version.
+     */
+    java.lang.String getVersion();
+    /**
+     * <code>string version = 3;</code>
+     * @return The bytes for version.
+     */
+    com.google.protobuf.ByteString
+        getVersionBytes();
+
+    /**
+     * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+     */
+    java.util.List<org.secretflow.proto.component.Comp.ComponentDef> 
+        getCompsList();
+    /**
+     * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+     */
+    org.secretflow.proto.component.Comp.ComponentDef getComps(int index);
+    /**
+     * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+     */
+    int getCompsCount();
+    /**
+     * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.component.Comp.ComponentDefOrBuilder> 
+        getCompsOrBuilderList();
+    /**
+     * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+     */
+    org.secretflow.proto.component.Comp.ComponentDefOrBuilder getCompsOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * A list of component
+   * </pre>
+   *
+   * Protobuf type {@code secretflow.component.CompListDef}
+   */
+  public static final class CompListDef extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.component.CompListDef)
+      CompListDefOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CompListDef.newBuilder() to construct.
+    private CompListDef(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CompListDef() {
+      name_ = "";
+      desc_ = "";
+      version_ = "";
+      comps_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CompListDef();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.Comp.internal_static_secretflow_component_CompListDef_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.component.Comp.internal_static_secretflow_component_CompListDef_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.component.Comp.CompListDef.class, org.secretflow.proto.component.Comp.CompListDef.Builder.class);
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DESC_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object desc_ = "";
+    /**
+     * <code>string desc = 2;</code>
+     * @return The desc.
+     */
+    @java.lang.Override
+    public java.lang.String getDesc() {
+      java.lang.Object ref = desc_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        desc_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string desc = 2;</code>
+     * @return The bytes for desc.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDescBytes() {
+      java.lang.Object ref = desc_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        desc_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object version_ = "";
+    /**
+     * <code>string version = 3;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public java.lang.String getVersion() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        version_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string version = 3;</code>
+     * @return The bytes for version.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getVersionBytes() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        version_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int COMPS_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.component.Comp.ComponentDef> comps_;
+    /**
+     * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.component.Comp.ComponentDef> getCompsList() {
+      return comps_;
+    }
+    /**
+     * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.component.Comp.ComponentDefOrBuilder> 
+        getCompsOrBuilderList() {
+      return comps_;
+    }
+    /**
+     * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+     */
+    @java.lang.Override
+    public int getCompsCount() {
+      return comps_.size();
+    }
+    /**
+     * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.ComponentDef getComps(int index) {
+      return comps_.get(index);
+    }
+    /**
+     * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.ComponentDefOrBuilder getCompsOrBuilder(
+        int index) {
+      return comps_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, desc_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(version_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, version_);
+      }
+      for (int i = 0; i < comps_.size(); i++) {
+        output.writeMessage(4, comps_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, desc_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(version_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, version_);
+      }
+      for (int i = 0; i < comps_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, comps_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.component.Comp.CompListDef)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.component.Comp.CompListDef other = (org.secretflow.proto.component.Comp.CompListDef) obj;
+
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getDesc()
+          .equals(other.getDesc())) return false;
+      if (!getVersion()
+          .equals(other.getVersion())) return false;
+      if (!getCompsList()
+          .equals(other.getCompsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + DESC_FIELD_NUMBER;
+      hash = (53 * hash) + getDesc().hashCode();
+      hash = (37 * hash) + VERSION_FIELD_NUMBER;
+      hash = (53 * hash) + getVersion().hashCode();
+      if (getCompsCount() > 0) {
+        hash = (37 * hash) + COMPS_FIELD_NUMBER;
+        hash = (53 * hash) + getCompsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.component.Comp.CompListDef parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Comp.CompListDef parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.CompListDef parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Comp.CompListDef parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.CompListDef parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Comp.CompListDef parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.CompListDef parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Comp.CompListDef parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.CompListDef parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Comp.CompListDef parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Comp.CompListDef parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Comp.CompListDef parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.component.Comp.CompListDef prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * A list of component
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.CompListDef}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.component.CompListDef)
+        org.secretflow.proto.component.Comp.CompListDefOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Comp.internal_static_secretflow_component_CompListDef_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Comp.internal_static_secretflow_component_CompListDef_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Comp.CompListDef.class, org.secretflow.proto.component.Comp.CompListDef.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.component.Comp.CompListDef.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        name_ = "";
+        desc_ = "";
+        version_ = "";
+        if (compsBuilder_ == null) {
+          comps_ = java.util.Collections.emptyList();
+        } else {
+          comps_ = null;
+          compsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.component.Comp.internal_static_secretflow_component_CompListDef_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.CompListDef getDefaultInstanceForType() {
+        return org.secretflow.proto.component.Comp.CompListDef.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.CompListDef build() {
+        org.secretflow.proto.component.Comp.CompListDef result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.CompListDef buildPartial() {
+        org.secretflow.proto.component.Comp.CompListDef result = new org.secretflow.proto.component.Comp.CompListDef(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.proto.component.Comp.CompListDef result) {
+        if (compsBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            comps_ = java.util.Collections.unmodifiableList(comps_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.comps_ = comps_;
+        } else {
+          result.comps_ = compsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.proto.component.Comp.CompListDef result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.desc_ = desc_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.version_ = version_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.component.Comp.CompListDef) {
+          return mergeFrom((org.secretflow.proto.component.Comp.CompListDef)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.component.Comp.CompListDef other) {
+        if (other == org.secretflow.proto.component.Comp.CompListDef.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getDesc().isEmpty()) {
+          desc_ = other.desc_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getVersion().isEmpty()) {
+          version_ = other.version_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (compsBuilder_ == null) {
+          if (!other.comps_.isEmpty()) {
+            if (comps_.isEmpty()) {
+              comps_ = other.comps_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureCompsIsMutable();
+              comps_.addAll(other.comps_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.comps_.isEmpty()) {
+            if (compsBuilder_.isEmpty()) {
+              compsBuilder_.dispose();
+              compsBuilder_ = null;
+              comps_ = other.comps_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              compsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getCompsFieldBuilder() : null;
+            } else {
+              compsBuilder_.addAllMessages(other.comps_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                desc_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                version_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                org.secretflow.proto.component.Comp.ComponentDef m =
+                    input.readMessage(
+                        org.secretflow.proto.component.Comp.ComponentDef.parser(),
+                        extensionRegistry);
+                if (compsBuilder_ == null) {
+                  ensureCompsIsMutable();
+                  comps_.add(m);
+                } else {
+                  compsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object desc_ = "";
+      /**
+       * <code>string desc = 2;</code>
+       * @return The desc.
+       */
+      public java.lang.String getDesc() {
+        java.lang.Object ref = desc_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          desc_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @return The bytes for desc.
+       */
+      public com.google.protobuf.ByteString
+          getDescBytes() {
+        java.lang.Object ref = desc_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          desc_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @param value The desc to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDesc(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        desc_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDesc() {
+        desc_ = getDefaultInstance().getDesc();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @param value The bytes for desc to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDescBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        desc_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object version_ = "";
+      /**
+       * <code>string version = 3;</code>
+       * @return The version.
+       */
+      public java.lang.String getVersion() {
+        java.lang.Object ref = version_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          version_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string version = 3;</code>
+       * @return The bytes for version.
+       */
+      public com.google.protobuf.ByteString
+          getVersionBytes() {
+        java.lang.Object ref = version_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          version_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string version = 3;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        version_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string version = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        version_ = getDefaultInstance().getVersion();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string version = 3;</code>
+       * @param value The bytes for version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        version_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.proto.component.Comp.ComponentDef> comps_ =
+        java.util.Collections.emptyList();
+      private void ensureCompsIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          comps_ = new java.util.ArrayList<org.secretflow.proto.component.Comp.ComponentDef>(comps_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Comp.ComponentDef, org.secretflow.proto.component.Comp.ComponentDef.Builder, org.secretflow.proto.component.Comp.ComponentDefOrBuilder> compsBuilder_;
+
+      /**
+       * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Comp.ComponentDef> getCompsList() {
+        if (compsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(comps_);
+        } else {
+          return compsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+       */
+      public int getCompsCount() {
+        if (compsBuilder_ == null) {
+          return comps_.size();
+        } else {
+          return compsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+       */
+      public org.secretflow.proto.component.Comp.ComponentDef getComps(int index) {
+        if (compsBuilder_ == null) {
+          return comps_.get(index);
+        } else {
+          return compsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+       */
+      public Builder setComps(
+          int index, org.secretflow.proto.component.Comp.ComponentDef value) {
+        if (compsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCompsIsMutable();
+          comps_.set(index, value);
+          onChanged();
+        } else {
+          compsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+       */
+      public Builder setComps(
+          int index, org.secretflow.proto.component.Comp.ComponentDef.Builder builderForValue) {
+        if (compsBuilder_ == null) {
+          ensureCompsIsMutable();
+          comps_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          compsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+       */
+      public Builder addComps(org.secretflow.proto.component.Comp.ComponentDef value) {
+        if (compsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCompsIsMutable();
+          comps_.add(value);
+          onChanged();
+        } else {
+          compsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+       */
+      public Builder addComps(
+          int index, org.secretflow.proto.component.Comp.ComponentDef value) {
+        if (compsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCompsIsMutable();
+          comps_.add(index, value);
+          onChanged();
+        } else {
+          compsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+       */
+      public Builder addComps(
+          org.secretflow.proto.component.Comp.ComponentDef.Builder builderForValue) {
+        if (compsBuilder_ == null) {
+          ensureCompsIsMutable();
+          comps_.add(builderForValue.build());
+          onChanged();
+        } else {
+          compsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+       */
+      public Builder addComps(
+          int index, org.secretflow.proto.component.Comp.ComponentDef.Builder builderForValue) {
+        if (compsBuilder_ == null) {
+          ensureCompsIsMutable();
+          comps_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          compsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+       */
+      public Builder addAllComps(
+          java.lang.Iterable<? extends org.secretflow.proto.component.Comp.ComponentDef> values) {
+        if (compsBuilder_ == null) {
+          ensureCompsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, comps_);
+          onChanged();
+        } else {
+          compsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+       */
+      public Builder clearComps() {
+        if (compsBuilder_ == null) {
+          comps_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          compsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+       */
+      public Builder removeComps(int index) {
+        if (compsBuilder_ == null) {
+          ensureCompsIsMutable();
+          comps_.remove(index);
+          onChanged();
+        } else {
+          compsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+       */
+      public org.secretflow.proto.component.Comp.ComponentDef.Builder getCompsBuilder(
+          int index) {
+        return getCompsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+       */
+      public org.secretflow.proto.component.Comp.ComponentDefOrBuilder getCompsOrBuilder(
+          int index) {
+        if (compsBuilder_ == null) {
+          return comps_.get(index);  } else {
+          return compsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.component.Comp.ComponentDefOrBuilder> 
+           getCompsOrBuilderList() {
+        if (compsBuilder_ != null) {
+          return compsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(comps_);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+       */
+      public org.secretflow.proto.component.Comp.ComponentDef.Builder addCompsBuilder() {
+        return getCompsFieldBuilder().addBuilder(
+            org.secretflow.proto.component.Comp.ComponentDef.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+       */
+      public org.secretflow.proto.component.Comp.ComponentDef.Builder addCompsBuilder(
+          int index) {
+        return getCompsFieldBuilder().addBuilder(
+            index, org.secretflow.proto.component.Comp.ComponentDef.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.ComponentDef comps = 4;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Comp.ComponentDef.Builder> 
+           getCompsBuilderList() {
+        return getCompsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Comp.ComponentDef, org.secretflow.proto.component.Comp.ComponentDef.Builder, org.secretflow.proto.component.Comp.ComponentDefOrBuilder> 
+          getCompsFieldBuilder() {
+        if (compsBuilder_ == null) {
+          compsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.component.Comp.ComponentDef, org.secretflow.proto.component.Comp.ComponentDef.Builder, org.secretflow.proto.component.Comp.ComponentDefOrBuilder>(
+                  comps_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          comps_ = null;
+        }
+        return compsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.component.CompListDef)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.component.CompListDef)
+    private static final org.secretflow.proto.component.Comp.CompListDef DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.component.Comp.CompListDef();
+    }
+
+    public static org.secretflow.proto.component.Comp.CompListDef getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CompListDef>
+        PARSER = new com.google.protobuf.AbstractParser<CompListDef>() {
+      @java.lang.Override
+      public CompListDef parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CompListDef> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CompListDef> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.CompListDef getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_Attribute_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_Attribute_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_AttributeDef_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_AttributeDef_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_AttributeDef_AtomicAttrDesc_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_AttributeDef_AtomicAttrDesc_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_AttributeDef_UnionAttrGroupDesc_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_AttributeDef_UnionAttrGroupDesc_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_IoDef_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_IoDef_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_IoDef_TableAttrDef_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_IoDef_TableAttrDef_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_ComponentDef_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_ComponentDef_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_CompListDef_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_CompListDef_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n&secretflow/protos/component/comp.proto" +
+      "\022\024secretflow.component\"z\n\tAttribute\022\t\n\001f" +
+      "\030\001 \001(\002\022\013\n\003i64\030\002 \001(\003\022\t\n\001s\030\003 \001(\t\022\t\n\001b\030\004 \001(" +
+      "\010\022\n\n\002fs\030\005 \003(\002\022\014\n\004i64s\030\006 \003(\003\022\n\n\002ss\030\007 \003(\t\022" +
+      "\n\n\002bs\030\010 \003(\010\022\r\n\005is_na\030\t \001(\010\"\337\005\n\014Attribute" +
+      "Def\022\020\n\010prefixes\030\001 \003(\t\022\014\n\004name\030\002 \001(\t\022\014\n\004d" +
+      "esc\030\003 \001(\t\022,\n\004type\030\004 \001(\0162\036.secretflow.com" +
+      "ponent.AttrType\022A\n\006atomic\030\005 \001(\01321.secret" +
+      "flow.component.AttributeDef.AtomicAttrDe" +
+      "sc\022D\n\005union\030\006 \001(\01325.secretflow.component" +
+      ".AttributeDef.UnionAttrGroupDesc\032\270\003\n\016Ato" +
+      "micAttrDesc\022!\n\031list_min_length_inclusive" +
+      "\030\001 \001(\003\022!\n\031list_max_length_inclusive\030\002 \001(" +
+      "\003\022\023\n\013is_optional\030\003 \001(\010\0226\n\rdefault_value\030" +
+      "\004 \001(\0132\037.secretflow.component.Attribute\0227" +
+      "\n\016allowed_values\030\005 \001(\0132\037.secretflow.comp" +
+      "onent.Attribute\022\027\n\017has_lower_bound\030\006 \001(\010" +
+      "\0224\n\013lower_bound\030\007 \001(\0132\037.secretflow.compo" +
+      "nent.Attribute\022\035\n\025lower_bound_inclusive\030" +
+      "\010 \001(\010\022\027\n\017has_upper_bound\030\t \001(\010\0224\n\013upper_" +
+      "bound\030\n \001(\0132\037.secretflow.component.Attri" +
+      "bute\022\035\n\025upper_bound_inclusive\030\013 \001(\010\032/\n\022U" +
+      "nionAttrGroupDesc\022\031\n\021default_selection\030\001" +
+      " \001(\t\"\230\002\n\005IoDef\022\014\n\004name\030\001 \001(\t\022\014\n\004desc\030\002 \001" +
+      "(\t\022\r\n\005types\030\003 \003(\t\0227\n\005attrs\030\004 \003(\0132(.secre" +
+      "tflow.component.IoDef.TableAttrDef\032\252\001\n\014T" +
+      "ableAttrDef\022\014\n\004name\030\001 \001(\t\022\014\n\004desc\030\002 \001(\t\022" +
+      "\r\n\005types\030\003 \003(\t\022\035\n\025col_min_cnt_inclusive\030" +
+      "\004 \001(\003\022\035\n\025col_max_cnt_inclusive\030\005 \001(\003\0221\n\005" +
+      "attrs\030\006 \003(\0132\".secretflow.component.Attri" +
+      "buteDef\"\331\001\n\014ComponentDef\022\016\n\006domain\030\001 \001(\t" +
+      "\022\014\n\004name\030\002 \001(\t\022\014\n\004desc\030\003 \001(\t\022\017\n\007version\030" +
+      "\004 \001(\t\0221\n\005attrs\030\005 \003(\0132\".secretflow.compon" +
+      "ent.AttributeDef\022+\n\006inputs\030\006 \003(\0132\033.secre" +
+      "tflow.component.IoDef\022,\n\007outputs\030\007 \003(\0132\033" +
+      ".secretflow.component.IoDef\"m\n\013CompListD" +
+      "ef\022\014\n\004name\030\001 \001(\t\022\014\n\004desc\030\002 \001(\t\022\017\n\007versio" +
+      "n\030\003 \001(\t\0221\n\005comps\030\004 \003(\0132\".secretflow.comp" +
+      "onent.ComponentDef*\312\001\n\010AttrType\022\020\n\014AT_UN" +
+      "DEFINED\020\000\022\014\n\010AT_FLOAT\020\001\022\n\n\006AT_INT\020\002\022\r\n\tA" +
+      "T_STRING\020\003\022\013\n\007AT_BOOL\020\004\022\r\n\tAT_FLOATS\020\005\022\013" +
+      "\n\007AT_INTS\020\006\022\016\n\nAT_STRINGS\020\007\022\014\n\010AT_BOOLS\020" +
+      "\010\022\023\n\017AT_STRUCT_GROUP\020\t\022\022\n\016AT_UNION_GROUP" +
+      "\020\n\022\023\n\017AT_SF_TABLE_COL\020\013B \n\036org.secretflo" +
+      "w.proto.componentb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_secretflow_component_Attribute_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_secretflow_component_Attribute_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_Attribute_descriptor,
+        new java.lang.String[] { "F", "I64", "S", "B", "Fs", "I64S", "Ss", "Bs", "IsNa", });
+    internal_static_secretflow_component_AttributeDef_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_secretflow_component_AttributeDef_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_AttributeDef_descriptor,
+        new java.lang.String[] { "Prefixes", "Name", "Desc", "Type", "Atomic", "Union", });
+    internal_static_secretflow_component_AttributeDef_AtomicAttrDesc_descriptor =
+      internal_static_secretflow_component_AttributeDef_descriptor.getNestedTypes().get(0);
+    internal_static_secretflow_component_AttributeDef_AtomicAttrDesc_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_AttributeDef_AtomicAttrDesc_descriptor,
+        new java.lang.String[] { "ListMinLengthInclusive", "ListMaxLengthInclusive", "IsOptional", "DefaultValue", "AllowedValues", "HasLowerBound", "LowerBound", "LowerBoundInclusive", "HasUpperBound", "UpperBound", "UpperBoundInclusive", });
+    internal_static_secretflow_component_AttributeDef_UnionAttrGroupDesc_descriptor =
+      internal_static_secretflow_component_AttributeDef_descriptor.getNestedTypes().get(1);
+    internal_static_secretflow_component_AttributeDef_UnionAttrGroupDesc_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_AttributeDef_UnionAttrGroupDesc_descriptor,
+        new java.lang.String[] { "DefaultSelection", });
+    internal_static_secretflow_component_IoDef_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_secretflow_component_IoDef_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_IoDef_descriptor,
+        new java.lang.String[] { "Name", "Desc", "Types", "Attrs", });
+    internal_static_secretflow_component_IoDef_TableAttrDef_descriptor =
+      internal_static_secretflow_component_IoDef_descriptor.getNestedTypes().get(0);
+    internal_static_secretflow_component_IoDef_TableAttrDef_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_IoDef_TableAttrDef_descriptor,
+        new java.lang.String[] { "Name", "Desc", "Types", "ColMinCntInclusive", "ColMaxCntInclusive", "Attrs", });
+    internal_static_secretflow_component_ComponentDef_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_secretflow_component_ComponentDef_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_ComponentDef_descriptor,
+        new java.lang.String[] { "Domain", "Name", "Desc", "Version", "Attrs", "Inputs", "Outputs", });
+    internal_static_secretflow_component_CompListDef_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_secretflow_component_CompListDef_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_CompListDef_descriptor,
+        new java.lang.String[] { "Name", "Desc", "Version", "Comps", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
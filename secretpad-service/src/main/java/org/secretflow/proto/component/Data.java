@@ -0,0 +1,9260 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: secretflow/protos/component/data.proto
+
+package org.secretflow.proto.component;
+
+public final class Data {
+  private Data() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface SystemInfoOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.component.SystemInfo)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * The application name. i.e. Secretflow/SCQL etc.
+     * Supported: Secretflow
+     * </pre>
+     *
+     * <code>string app_name = 1;</code>
+     * @return The appName.
+     */
+    java.lang.String getAppName();
+    /**
+     * <pre>
+     * The application name. i.e. Secretflow/SCQL etc.
+     * Supported: Secretflow
+     * </pre>
+     *
+     * <code>string app_name = 1;</code>
+     * @return The bytes for appName.
+     */
+    com.google.protobuf.ByteString
+        getAppNameBytes();
+
+    /**
+     * <pre>
+     * Only valid when app_name is Secretflow.
+     * </pre>
+     *
+     * <code>.secretflow.component.SFClusterDesc secretflow = 2;</code>
+     * @return Whether the secretflow field is set.
+     */
+    boolean hasSecretflow();
+    /**
+     * <pre>
+     * Only valid when app_name is Secretflow.
+     * </pre>
+     *
+     * <code>.secretflow.component.SFClusterDesc secretflow = 2;</code>
+     * @return The secretflow.
+     */
+    org.secretflow.proto.component.Cluster.SFClusterDesc getSecretflow();
+    /**
+     * <pre>
+     * Only valid when app_name is Secretflow.
+     * </pre>
+     *
+     * <code>.secretflow.component.SFClusterDesc secretflow = 2;</code>
+     */
+    org.secretflow.proto.component.Cluster.SFClusterDescOrBuilder getSecretflowOrBuilder();
+  }
+  /**
+   * <pre>
+   * Describe the application underlying the data
+   * </pre>
+   *
+   * Protobuf type {@code secretflow.component.SystemInfo}
+   */
+  public static final class SystemInfo extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.component.SystemInfo)
+      SystemInfoOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SystemInfo.newBuilder() to construct.
+    private SystemInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SystemInfo() {
+      appName_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SystemInfo();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.Data.internal_static_secretflow_component_SystemInfo_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.component.Data.internal_static_secretflow_component_SystemInfo_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.component.Data.SystemInfo.class, org.secretflow.proto.component.Data.SystemInfo.Builder.class);
+    }
+
+    public static final int APP_NAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object appName_ = "";
+    /**
+     * <pre>
+     * The application name. i.e. Secretflow/SCQL etc.
+     * Supported: Secretflow
+     * </pre>
+     *
+     * <code>string app_name = 1;</code>
+     * @return The appName.
+     */
+    @java.lang.Override
+    public java.lang.String getAppName() {
+      java.lang.Object ref = appName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        appName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The application name. i.e. Secretflow/SCQL etc.
+     * Supported: Secretflow
+     * </pre>
+     *
+     * <code>string app_name = 1;</code>
+     * @return The bytes for appName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getAppNameBytes() {
+      java.lang.Object ref = appName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        appName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SECRETFLOW_FIELD_NUMBER = 2;
+    private org.secretflow.proto.component.Cluster.SFClusterDesc secretflow_;
+    /**
+     * <pre>
+     * Only valid when app_name is Secretflow.
+     * </pre>
+     *
+     * <code>.secretflow.component.SFClusterDesc secretflow = 2;</code>
+     * @return Whether the secretflow field is set.
+     */
+    @java.lang.Override
+    public boolean hasSecretflow() {
+      return secretflow_ != null;
+    }
+    /**
+     * <pre>
+     * Only valid when app_name is Secretflow.
+     * </pre>
+     *
+     * <code>.secretflow.component.SFClusterDesc secretflow = 2;</code>
+     * @return The secretflow.
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Cluster.SFClusterDesc getSecretflow() {
+      return secretflow_ == null ? org.secretflow.proto.component.Cluster.SFClusterDesc.getDefaultInstance() : secretflow_;
+    }
+    /**
+     * <pre>
+     * Only valid when app_name is Secretflow.
+     * </pre>
+     *
+     * <code>.secretflow.component.SFClusterDesc secretflow = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Cluster.SFClusterDescOrBuilder getSecretflowOrBuilder() {
+      return secretflow_ == null ? org.secretflow.proto.component.Cluster.SFClusterDesc.getDefaultInstance() : secretflow_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(appName_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, appName_);
+      }
+      if (secretflow_ != null) {
+        output.writeMessage(2, getSecretflow());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(appName_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, appName_);
+      }
+      if (secretflow_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getSecretflow());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.component.Data.SystemInfo)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.component.Data.SystemInfo other = (org.secretflow.proto.component.Data.SystemInfo) obj;
+
+      if (!getAppName()
+          .equals(other.getAppName())) return false;
+      if (hasSecretflow() != other.hasSecretflow()) return false;
+      if (hasSecretflow()) {
+        if (!getSecretflow()
+            .equals(other.getSecretflow())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + APP_NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getAppName().hashCode();
+      if (hasSecretflow()) {
+        hash = (37 * hash) + SECRETFLOW_FIELD_NUMBER;
+        hash = (53 * hash) + getSecretflow().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.component.Data.SystemInfo parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Data.SystemInfo parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.SystemInfo parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Data.SystemInfo parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.SystemInfo parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Data.SystemInfo parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.SystemInfo parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Data.SystemInfo parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.SystemInfo parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Data.SystemInfo parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.SystemInfo parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Data.SystemInfo parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.component.Data.SystemInfo prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Describe the application underlying the data
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.SystemInfo}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.component.SystemInfo)
+        org.secretflow.proto.component.Data.SystemInfoOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_SystemInfo_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_SystemInfo_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Data.SystemInfo.class, org.secretflow.proto.component.Data.SystemInfo.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.component.Data.SystemInfo.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        appName_ = "";
+        secretflow_ = null;
+        if (secretflowBuilder_ != null) {
+          secretflowBuilder_.dispose();
+          secretflowBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_SystemInfo_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Data.SystemInfo getDefaultInstanceForType() {
+        return org.secretflow.proto.component.Data.SystemInfo.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Data.SystemInfo build() {
+        org.secretflow.proto.component.Data.SystemInfo result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Data.SystemInfo buildPartial() {
+        org.secretflow.proto.component.Data.SystemInfo result = new org.secretflow.proto.component.Data.SystemInfo(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.proto.component.Data.SystemInfo result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.appName_ = appName_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.secretflow_ = secretflowBuilder_ == null
+              ? secretflow_
+              : secretflowBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.component.Data.SystemInfo) {
+          return mergeFrom((org.secretflow.proto.component.Data.SystemInfo)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.component.Data.SystemInfo other) {
+        if (other == org.secretflow.proto.component.Data.SystemInfo.getDefaultInstance()) return this;
+        if (!other.getAppName().isEmpty()) {
+          appName_ = other.appName_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasSecretflow()) {
+          mergeSecretflow(other.getSecretflow());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                appName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getSecretflowFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object appName_ = "";
+      /**
+       * <pre>
+       * The application name. i.e. Secretflow/SCQL etc.
+       * Supported: Secretflow
+       * </pre>
+       *
+       * <code>string app_name = 1;</code>
+       * @return The appName.
+       */
+      public java.lang.String getAppName() {
+        java.lang.Object ref = appName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          appName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The application name. i.e. Secretflow/SCQL etc.
+       * Supported: Secretflow
+       * </pre>
+       *
+       * <code>string app_name = 1;</code>
+       * @return The bytes for appName.
+       */
+      public com.google.protobuf.ByteString
+          getAppNameBytes() {
+        java.lang.Object ref = appName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          appName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The application name. i.e. Secretflow/SCQL etc.
+       * Supported: Secretflow
+       * </pre>
+       *
+       * <code>string app_name = 1;</code>
+       * @param value The appName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        appName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The application name. i.e. Secretflow/SCQL etc.
+       * Supported: Secretflow
+       * </pre>
+       *
+       * <code>string app_name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppName() {
+        appName_ = getDefaultInstance().getAppName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The application name. i.e. Secretflow/SCQL etc.
+       * Supported: Secretflow
+       * </pre>
+       *
+       * <code>string app_name = 1;</code>
+       * @param value The bytes for appName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        appName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private org.secretflow.proto.component.Cluster.SFClusterDesc secretflow_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.proto.component.Cluster.SFClusterDesc, org.secretflow.proto.component.Cluster.SFClusterDesc.Builder, org.secretflow.proto.component.Cluster.SFClusterDescOrBuilder> secretflowBuilder_;
+      /**
+       * <pre>
+       * Only valid when app_name is Secretflow.
+       * </pre>
+       *
+       * <code>.secretflow.component.SFClusterDesc secretflow = 2;</code>
+       * @return Whether the secretflow field is set.
+       */
+      public boolean hasSecretflow() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <pre>
+       * Only valid when app_name is Secretflow.
+       * </pre>
+       *
+       * <code>.secretflow.component.SFClusterDesc secretflow = 2;</code>
+       * @return The secretflow.
+       */
+      public org.secretflow.proto.component.Cluster.SFClusterDesc getSecretflow() {
+        if (secretflowBuilder_ == null) {
+          return secretflow_ == null ? org.secretflow.proto.component.Cluster.SFClusterDesc.getDefaultInstance() : secretflow_;
+        } else {
+          return secretflowBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * Only valid when app_name is Secretflow.
+       * </pre>
+       *
+       * <code>.secretflow.component.SFClusterDesc secretflow = 2;</code>
+       */
+      public Builder setSecretflow(org.secretflow.proto.component.Cluster.SFClusterDesc value) {
+        if (secretflowBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          secretflow_ = value;
+        } else {
+          secretflowBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Only valid when app_name is Secretflow.
+       * </pre>
+       *
+       * <code>.secretflow.component.SFClusterDesc secretflow = 2;</code>
+       */
+      public Builder setSecretflow(
+          org.secretflow.proto.component.Cluster.SFClusterDesc.Builder builderForValue) {
+        if (secretflowBuilder_ == null) {
+          secretflow_ = builderForValue.build();
+        } else {
+          secretflowBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Only valid when app_name is Secretflow.
+       * </pre>
+       *
+       * <code>.secretflow.component.SFClusterDesc secretflow = 2;</code>
+       */
+      public Builder mergeSecretflow(org.secretflow.proto.component.Cluster.SFClusterDesc value) {
+        if (secretflowBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            secretflow_ != null &&
+            secretflow_ != org.secretflow.proto.component.Cluster.SFClusterDesc.getDefaultInstance()) {
+            getSecretflowBuilder().mergeFrom(value);
+          } else {
+            secretflow_ = value;
+          }
+        } else {
+          secretflowBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Only valid when app_name is Secretflow.
+       * </pre>
+       *
+       * <code>.secretflow.component.SFClusterDesc secretflow = 2;</code>
+       */
+      public Builder clearSecretflow() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        secretflow_ = null;
+        if (secretflowBuilder_ != null) {
+          secretflowBuilder_.dispose();
+          secretflowBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Only valid when app_name is Secretflow.
+       * </pre>
+       *
+       * <code>.secretflow.component.SFClusterDesc secretflow = 2;</code>
+       */
+      public org.secretflow.proto.component.Cluster.SFClusterDesc.Builder getSecretflowBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getSecretflowFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Only valid when app_name is Secretflow.
+       * </pre>
+       *
+       * <code>.secretflow.component.SFClusterDesc secretflow = 2;</code>
+       */
+      public org.secretflow.proto.component.Cluster.SFClusterDescOrBuilder getSecretflowOrBuilder() {
+        if (secretflowBuilder_ != null) {
+          return secretflowBuilder_.getMessageOrBuilder();
+        } else {
+          return secretflow_ == null ?
+              org.secretflow.proto.component.Cluster.SFClusterDesc.getDefaultInstance() : secretflow_;
+        }
+      }
+      /**
+       * <pre>
+       * Only valid when app_name is Secretflow.
+       * </pre>
+       *
+       * <code>.secretflow.component.SFClusterDesc secretflow = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.proto.component.Cluster.SFClusterDesc, org.secretflow.proto.component.Cluster.SFClusterDesc.Builder, org.secretflow.proto.component.Cluster.SFClusterDescOrBuilder> 
+          getSecretflowFieldBuilder() {
+        if (secretflowBuilder_ == null) {
+          secretflowBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.proto.component.Cluster.SFClusterDesc, org.secretflow.proto.component.Cluster.SFClusterDesc.Builder, org.secretflow.proto.component.Cluster.SFClusterDescOrBuilder>(
+                  getSecretflow(),
+                  getParentForChildren(),
+                  isClean());
+          secretflow_ = null;
+        }
+        return secretflowBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.component.SystemInfo)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.component.SystemInfo)
+    private static final org.secretflow.proto.component.Data.SystemInfo DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.component.Data.SystemInfo();
+    }
+
+    public static org.secretflow.proto.component.Data.SystemInfo getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SystemInfo>
+        PARSER = new com.google.protobuf.AbstractParser<SystemInfo>() {
+      @java.lang.Override
+      public SystemInfo parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<SystemInfo> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SystemInfo> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.SystemInfo getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TableSchemaOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.component.TableSchema)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * table's id column(s) name
+     * optional, can be empty
+     * </pre>
+     *
+     * <code>repeated string ids = 1;</code>
+     * @return A list containing the ids.
+     */
+    java.util.List<java.lang.String>
+        getIdsList();
+    /**
+     * <pre>
+     * table's id column(s) name
+     * optional, can be empty
+     * </pre>
+     *
+     * <code>repeated string ids = 1;</code>
+     * @return The count of ids.
+     */
+    int getIdsCount();
+    /**
+     * <pre>
+     * table's id column(s) name
+     * optional, can be empty
+     * </pre>
+     *
+     * <code>repeated string ids = 1;</code>
+     * @param index The index of the element to return.
+     * @return The ids at the given index.
+     */
+    java.lang.String getIds(int index);
+    /**
+     * <pre>
+     * table's id column(s) name
+     * optional, can be empty
+     * </pre>
+     *
+     * <code>repeated string ids = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the ids at the given index.
+     */
+    com.google.protobuf.ByteString
+        getIdsBytes(int index);
+
+    /**
+     * <pre>
+     * table's feature column(s) name
+     * </pre>
+     *
+     * <code>repeated string features = 2;</code>
+     * @return A list containing the features.
+     */
+    java.util.List<java.lang.String>
+        getFeaturesList();
+    /**
+     * <pre>
+     * table's feature column(s) name
+     * </pre>
+     *
+     * <code>repeated string features = 2;</code>
+     * @return The count of features.
+     */
+    int getFeaturesCount();
+    /**
+     * <pre>
+     * table's feature column(s) name
+     * </pre>
+     *
+     * <code>repeated string features = 2;</code>
+     * @param index The index of the element to return.
+     * @return The features at the given index.
+     */
+    java.lang.String getFeatures(int index);
+    /**
+     * <pre>
+     * table's feature column(s) name
+     * </pre>
+     *
+     * <code>repeated string features = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the features at the given index.
+     */
+    com.google.protobuf.ByteString
+        getFeaturesBytes(int index);
+
+    /**
+     * <pre>
+     * table's label column(s) name
+     * optional, can be empty
+     * </pre>
+     *
+     * <code>repeated string labels = 3;</code>
+     * @return A list containing the labels.
+     */
+    java.util.List<java.lang.String>
+        getLabelsList();
+    /**
+     * <pre>
+     * table's label column(s) name
+     * optional, can be empty
+     * </pre>
+     *
+     * <code>repeated string labels = 3;</code>
+     * @return The count of labels.
+     */
+    int getLabelsCount();
+    /**
+     * <pre>
+     * table's label column(s) name
+     * optional, can be empty
+     * </pre>
+     *
+     * <code>repeated string labels = 3;</code>
+     * @param index The index of the element to return.
+     * @return The labels at the given index.
+     */
+    java.lang.String getLabels(int index);
+    /**
+     * <pre>
+     * table's label column(s) name
+     * optional, can be empty
+     * </pre>
+     *
+     * <code>repeated string labels = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the labels at the given index.
+     */
+    com.google.protobuf.ByteString
+        getLabelsBytes(int index);
+
+    /**
+     * <pre>
+     * id column(s) data type
+     * len(id) should match len(id_types)
+     * </pre>
+     *
+     * <code>repeated string id_types = 4;</code>
+     * @return A list containing the idTypes.
+     */
+    java.util.List<java.lang.String>
+        getIdTypesList();
+    /**
+     * <pre>
+     * id column(s) data type
+     * len(id) should match len(id_types)
+     * </pre>
+     *
+     * <code>repeated string id_types = 4;</code>
+     * @return The count of idTypes.
+     */
+    int getIdTypesCount();
+    /**
+     * <pre>
+     * id column(s) data type
+     * len(id) should match len(id_types)
+     * </pre>
+     *
+     * <code>repeated string id_types = 4;</code>
+     * @param index The index of the element to return.
+     * @return The idTypes at the given index.
+     */
+    java.lang.String getIdTypes(int index);
+    /**
+     * <pre>
+     * id column(s) data type
+     * len(id) should match len(id_types)
+     * </pre>
+     *
+     * <code>repeated string id_types = 4;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the idTypes at the given index.
+     */
+    com.google.protobuf.ByteString
+        getIdTypesBytes(int index);
+
+    /**
+     * <pre>
+     * feature column(s) data type
+     * len(features) should match len(feature_types)
+     * </pre>
+     *
+     * <code>repeated string feature_types = 5;</code>
+     * @return A list containing the featureTypes.
+     */
+    java.util.List<java.lang.String>
+        getFeatureTypesList();
+    /**
+     * <pre>
+     * feature column(s) data type
+     * len(features) should match len(feature_types)
+     * </pre>
+     *
+     * <code>repeated string feature_types = 5;</code>
+     * @return The count of featureTypes.
+     */
+    int getFeatureTypesCount();
+    /**
+     * <pre>
+     * feature column(s) data type
+     * len(features) should match len(feature_types)
+     * </pre>
+     *
+     * <code>repeated string feature_types = 5;</code>
+     * @param index The index of the element to return.
+     * @return The featureTypes at the given index.
+     */
+    java.lang.String getFeatureTypes(int index);
+    /**
+     * <pre>
+     * feature column(s) data type
+     * len(features) should match len(feature_types)
+     * </pre>
+     *
+     * <code>repeated string feature_types = 5;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the featureTypes at the given index.
+     */
+    com.google.protobuf.ByteString
+        getFeatureTypesBytes(int index);
+
+    /**
+     * <pre>
+     * label column(s) data type
+     * len(labels) should match len(label_types)
+     * </pre>
+     *
+     * <code>repeated string label_types = 6;</code>
+     * @return A list containing the labelTypes.
+     */
+    java.util.List<java.lang.String>
+        getLabelTypesList();
+    /**
+     * <pre>
+     * label column(s) data type
+     * len(labels) should match len(label_types)
+     * </pre>
+     *
+     * <code>repeated string label_types = 6;</code>
+     * @return The count of labelTypes.
+     */
+    int getLabelTypesCount();
+    /**
+     * <pre>
+     * label column(s) data type
+     * len(labels) should match len(label_types)
+     * </pre>
+     *
+     * <code>repeated string label_types = 6;</code>
+     * @param index The index of the element to return.
+     * @return The labelTypes at the given index.
+     */
+    java.lang.String getLabelTypes(int index);
+    /**
+     * <pre>
+     * label column(s) data type
+     * len(labels) should match len(label_types)
+     * </pre>
+     *
+     * <code>repeated string label_types = 6;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the labelTypes at the given index.
+     */
+    com.google.protobuf.ByteString
+        getLabelTypesBytes(int index);
+  }
+  /**
+   * <pre>
+   * NOTE: A col is by default a feature.
+   * A col must be one of id / feature / label. By default, it should be a
+   * feature.
+   * All names must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*"
+   * All ata type must be one of component.data_utils.SUPPORTED_VTABLE_DATA_TYPE.
+   * </pre>
+   *
+   * Protobuf type {@code secretflow.component.TableSchema}
+   */
+  public static final class TableSchema extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.component.TableSchema)
+      TableSchemaOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TableSchema.newBuilder() to construct.
+    private TableSchema(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TableSchema() {
+      ids_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      features_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      labels_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      idTypes_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      featureTypes_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      labelTypes_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TableSchema();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.Data.internal_static_secretflow_component_TableSchema_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.component.Data.internal_static_secretflow_component_TableSchema_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.component.Data.TableSchema.class, org.secretflow.proto.component.Data.TableSchema.Builder.class);
+    }
+
+    public static final int IDS_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList ids_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * table's id column(s) name
+     * optional, can be empty
+     * </pre>
+     *
+     * <code>repeated string ids = 1;</code>
+     * @return A list containing the ids.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getIdsList() {
+      return ids_;
+    }
+    /**
+     * <pre>
+     * table's id column(s) name
+     * optional, can be empty
+     * </pre>
+     *
+     * <code>repeated string ids = 1;</code>
+     * @return The count of ids.
+     */
+    public int getIdsCount() {
+      return ids_.size();
+    }
+    /**
+     * <pre>
+     * table's id column(s) name
+     * optional, can be empty
+     * </pre>
+     *
+     * <code>repeated string ids = 1;</code>
+     * @param index The index of the element to return.
+     * @return The ids at the given index.
+     */
+    public java.lang.String getIds(int index) {
+      return ids_.get(index);
+    }
+    /**
+     * <pre>
+     * table's id column(s) name
+     * optional, can be empty
+     * </pre>
+     *
+     * <code>repeated string ids = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the ids at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getIdsBytes(int index) {
+      return ids_.getByteString(index);
+    }
+
+    public static final int FEATURES_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList features_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * table's feature column(s) name
+     * </pre>
+     *
+     * <code>repeated string features = 2;</code>
+     * @return A list containing the features.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getFeaturesList() {
+      return features_;
+    }
+    /**
+     * <pre>
+     * table's feature column(s) name
+     * </pre>
+     *
+     * <code>repeated string features = 2;</code>
+     * @return The count of features.
+     */
+    public int getFeaturesCount() {
+      return features_.size();
+    }
+    /**
+     * <pre>
+     * table's feature column(s) name
+     * </pre>
+     *
+     * <code>repeated string features = 2;</code>
+     * @param index The index of the element to return.
+     * @return The features at the given index.
+     */
+    public java.lang.String getFeatures(int index) {
+      return features_.get(index);
+    }
+    /**
+     * <pre>
+     * table's feature column(s) name
+     * </pre>
+     *
+     * <code>repeated string features = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the features at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getFeaturesBytes(int index) {
+      return features_.getByteString(index);
+    }
+
+    public static final int LABELS_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList labels_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * table's label column(s) name
+     * optional, can be empty
+     * </pre>
+     *
+     * <code>repeated string labels = 3;</code>
+     * @return A list containing the labels.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getLabelsList() {
+      return labels_;
+    }
+    /**
+     * <pre>
+     * table's label column(s) name
+     * optional, can be empty
+     * </pre>
+     *
+     * <code>repeated string labels = 3;</code>
+     * @return The count of labels.
+     */
+    public int getLabelsCount() {
+      return labels_.size();
+    }
+    /**
+     * <pre>
+     * table's label column(s) name
+     * optional, can be empty
+     * </pre>
+     *
+     * <code>repeated string labels = 3;</code>
+     * @param index The index of the element to return.
+     * @return The labels at the given index.
+     */
+    public java.lang.String getLabels(int index) {
+      return labels_.get(index);
+    }
+    /**
+     * <pre>
+     * table's label column(s) name
+     * optional, can be empty
+     * </pre>
+     *
+     * <code>repeated string labels = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the labels at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getLabelsBytes(int index) {
+      return labels_.getByteString(index);
+    }
+
+    public static final int ID_TYPES_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList idTypes_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * id column(s) data type
+     * len(id) should match len(id_types)
+     * </pre>
+     *
+     * <code>repeated string id_types = 4;</code>
+     * @return A list containing the idTypes.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getIdTypesList() {
+      return idTypes_;
+    }
+    /**
+     * <pre>
+     * id column(s) data type
+     * len(id) should match len(id_types)
+     * </pre>
+     *
+     * <code>repeated string id_types = 4;</code>
+     * @return The count of idTypes.
+     */
+    public int getIdTypesCount() {
+      return idTypes_.size();
+    }
+    /**
+     * <pre>
+     * id column(s) data type
+     * len(id) should match len(id_types)
+     * </pre>
+     *
+     * <code>repeated string id_types = 4;</code>
+     * @param index The index of the element to return.
+     * @return The idTypes at the given index.
+     */
+    public java.lang.String getIdTypes(int index) {
+      return idTypes_.get(index);
+    }
+    /**
+     * <pre>
+     * id column(s) data type
+     * len(id) should match len(id_types)
+     * </pre>
+     *
+     * <code>repeated string id_types = 4;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the idTypes at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getIdTypesBytes(int index) {
+      return idTypes_.getByteString(index);
+    }
+
+    public static final int FEATURE_TYPES_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList featureTypes_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * feature column(s) data type
+     * len(features) should match len(feature_types)
+     * </pre>
+     *
+     * <code>repeated string feature_types = 5;</code>
+     * @return A list containing the featureTypes.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getFeatureTypesList() {
+      return featureTypes_;
+    }
+    /**
+     * <pre>
+     * feature column(s) data type
+     * len(features) should match len(feature_types)
+     * </pre>
+     *
+     * <code>repeated string feature_types = 5;</code>
+     * @return The count of featureTypes.
+     */
+    public int getFeatureTypesCount() {
+      return featureTypes_.size();
+    }
+    /**
+     * <pre>
+     * feature column(s) data type
+     * len(features) should match len(feature_types)
+     * </pre>
+     *
+     * <code>repeated string feature_types = 5;</code>
+     * @param index The index of the element to return.
+     * @return The featureTypes at the given index.
+     */
+    public java.lang.String getFeatureTypes(int index) {
+      return featureTypes_.get(index);
+    }
+    /**
+     * <pre>
+     * feature column(s) data type
+     * len(features) should match len(feature_types)
+     * </pre>
+     *
+     * <code>repeated string feature_types = 5;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the featureTypes at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getFeatureTypesBytes(int index) {
+      return featureTypes_.getByteString(index);
+    }
+
+    public static final int LABEL_TYPES_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList labelTypes_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * label column(s) data type
+     * len(labels) should match len(label_types)
+     * </pre>
+     *
+     * <code>repeated string label_types = 6;</code>
+     * @return A list containing the labelTypes.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getLabelTypesList() {
+      return labelTypes_;
+    }
+    /**
+     * <pre>
+     * label column(s) data type
+     * len(labels) should match len(label_types)
+     * </pre>
+     *
+     * <code>repeated string label_types = 6;</code>
+     * @return The count of labelTypes.
+     */
+    public int getLabelTypesCount() {
+      return labelTypes_.size();
+    }
+    /**
+     * <pre>
+     * label column(s) data type
+     * len(labels) should match len(label_types)
+     * </pre>
+     *
+     * <code>repeated string label_types = 6;</code>
+     * @param index The index of the element to return.
+     * @return The labelTypes at the given index.
+     */
+    public java.lang.String getLabelTypes(int index) {
+      return labelTypes_.get(index);
+    }
+    /**
+     * <pre>
+     * label column(s) data type
+     * len(labels) should match len(label_types)
+     * </pre>
+     *
+     * <code>repeated string label_types = 6;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the labelTypes at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getLabelTypesBytes(int index) {
+      return labelTypes_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < ids_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, ids_.getRaw(i));
+      }
+      for (int i = 0; i < features_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, features_.getRaw(i));
+      }
+      for (int i = 0; i < labels_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, labels_.getRaw(i));
+      }
+      for (int i = 0; i < idTypes_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, idTypes_.getRaw(i));
+      }
+      for (int i = 0; i < featureTypes_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, featureTypes_.getRaw(i));
+      }
+      for (int i = 0; i < labelTypes_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, labelTypes_.getRaw(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < ids_.size(); i++) {
+          dataSize += computeStringSizeNoTag(ids_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getIdsList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < features_.size(); i++) {
+          dataSize += computeStringSizeNoTag(features_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getFeaturesList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < labels_.size(); i++) {
+          dataSize += computeStringSizeNoTag(labels_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getLabelsList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < idTypes_.size(); i++) {
+          dataSize += computeStringSizeNoTag(idTypes_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getIdTypesList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < featureTypes_.size(); i++) {
+          dataSize += computeStringSizeNoTag(featureTypes_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getFeatureTypesList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < labelTypes_.size(); i++) {
+          dataSize += computeStringSizeNoTag(labelTypes_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getLabelTypesList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.component.Data.TableSchema)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.component.Data.TableSchema other = (org.secretflow.proto.component.Data.TableSchema) obj;
+
+      if (!getIdsList()
+          .equals(other.getIdsList())) return false;
+      if (!getFeaturesList()
+          .equals(other.getFeaturesList())) return false;
+      if (!getLabelsList()
+          .equals(other.getLabelsList())) return false;
+      if (!getIdTypesList()
+          .equals(other.getIdTypesList())) return false;
+      if (!getFeatureTypesList()
+          .equals(other.getFeatureTypesList())) return false;
+      if (!getLabelTypesList()
+          .equals(other.getLabelTypesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getIdsCount() > 0) {
+        hash = (37 * hash) + IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getIdsList().hashCode();
+      }
+      if (getFeaturesCount() > 0) {
+        hash = (37 * hash) + FEATURES_FIELD_NUMBER;
+        hash = (53 * hash) + getFeaturesList().hashCode();
+      }
+      if (getLabelsCount() > 0) {
+        hash = (37 * hash) + LABELS_FIELD_NUMBER;
+        hash = (53 * hash) + getLabelsList().hashCode();
+      }
+      if (getIdTypesCount() > 0) {
+        hash = (37 * hash) + ID_TYPES_FIELD_NUMBER;
+        hash = (53 * hash) + getIdTypesList().hashCode();
+      }
+      if (getFeatureTypesCount() > 0) {
+        hash = (37 * hash) + FEATURE_TYPES_FIELD_NUMBER;
+        hash = (53 * hash) + getFeatureTypesList().hashCode();
+      }
+      if (getLabelTypesCount() > 0) {
+        hash = (37 * hash) + LABEL_TYPES_FIELD_NUMBER;
+        hash = (53 * hash) + getLabelTypesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.component.Data.TableSchema parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Data.TableSchema parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.TableSchema parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Data.TableSchema parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.TableSchema parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Data.TableSchema parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.TableSchema parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Data.TableSchema parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.TableSchema parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Data.TableSchema parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.TableSchema parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Data.TableSchema parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.component.Data.TableSchema prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * NOTE: A col is by default a feature.
+     * A col must be one of id / feature / label. By default, it should be a
+     * feature.
+     * All names must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*"
+     * All ata type must be one of component.data_utils.SUPPORTED_VTABLE_DATA_TYPE.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.TableSchema}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.component.TableSchema)
+        org.secretflow.proto.component.Data.TableSchemaOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_TableSchema_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_TableSchema_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Data.TableSchema.class, org.secretflow.proto.component.Data.TableSchema.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.component.Data.TableSchema.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        ids_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        features_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        labels_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        idTypes_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        featureTypes_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        labelTypes_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_TableSchema_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Data.TableSchema getDefaultInstanceForType() {
+        return org.secretflow.proto.component.Data.TableSchema.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Data.TableSchema build() {
+        org.secretflow.proto.component.Data.TableSchema result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Data.TableSchema buildPartial() {
+        org.secretflow.proto.component.Data.TableSchema result = new org.secretflow.proto.component.Data.TableSchema(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.proto.component.Data.TableSchema result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          ids_.makeImmutable();
+          result.ids_ = ids_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          features_.makeImmutable();
+          result.features_ = features_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          labels_.makeImmutable();
+          result.labels_ = labels_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          idTypes_.makeImmutable();
+          result.idTypes_ = idTypes_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          featureTypes_.makeImmutable();
+          result.featureTypes_ = featureTypes_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          labelTypes_.makeImmutable();
+          result.labelTypes_ = labelTypes_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.component.Data.TableSchema) {
+          return mergeFrom((org.secretflow.proto.component.Data.TableSchema)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.component.Data.TableSchema other) {
+        if (other == org.secretflow.proto.component.Data.TableSchema.getDefaultInstance()) return this;
+        if (!other.ids_.isEmpty()) {
+          if (ids_.isEmpty()) {
+            ids_ = other.ids_;
+            bitField0_ |= 0x00000001;
+          } else {
+            ensureIdsIsMutable();
+            ids_.addAll(other.ids_);
+          }
+          onChanged();
+        }
+        if (!other.features_.isEmpty()) {
+          if (features_.isEmpty()) {
+            features_ = other.features_;
+            bitField0_ |= 0x00000002;
+          } else {
+            ensureFeaturesIsMutable();
+            features_.addAll(other.features_);
+          }
+          onChanged();
+        }
+        if (!other.labels_.isEmpty()) {
+          if (labels_.isEmpty()) {
+            labels_ = other.labels_;
+            bitField0_ |= 0x00000004;
+          } else {
+            ensureLabelsIsMutable();
+            labels_.addAll(other.labels_);
+          }
+          onChanged();
+        }
+        if (!other.idTypes_.isEmpty()) {
+          if (idTypes_.isEmpty()) {
+            idTypes_ = other.idTypes_;
+            bitField0_ |= 0x00000008;
+          } else {
+            ensureIdTypesIsMutable();
+            idTypes_.addAll(other.idTypes_);
+          }
+          onChanged();
+        }
+        if (!other.featureTypes_.isEmpty()) {
+          if (featureTypes_.isEmpty()) {
+            featureTypes_ = other.featureTypes_;
+            bitField0_ |= 0x00000010;
+          } else {
+            ensureFeatureTypesIsMutable();
+            featureTypes_.addAll(other.featureTypes_);
+          }
+          onChanged();
+        }
+        if (!other.labelTypes_.isEmpty()) {
+          if (labelTypes_.isEmpty()) {
+            labelTypes_ = other.labelTypes_;
+            bitField0_ |= 0x00000020;
+          } else {
+            ensureLabelTypesIsMutable();
+            labelTypes_.addAll(other.labelTypes_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureIdsIsMutable();
+                ids_.add(s);
+                break;
+              } // case 10
+              case 18: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureFeaturesIsMutable();
+                features_.add(s);
+                break;
+              } // case 18
+              case 26: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureLabelsIsMutable();
+                labels_.add(s);
+                break;
+              } // case 26
+              case 34: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureIdTypesIsMutable();
+                idTypes_.add(s);
+                break;
+              } // case 34
+              case 42: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureFeatureTypesIsMutable();
+                featureTypes_.add(s);
+                break;
+              } // case 42
+              case 50: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureLabelTypesIsMutable();
+                labelTypes_.add(s);
+                break;
+              } // case 50
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringArrayList ids_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureIdsIsMutable() {
+        if (!ids_.isModifiable()) {
+          ids_ = new com.google.protobuf.LazyStringArrayList(ids_);
+        }
+        bitField0_ |= 0x00000001;
+      }
+      /**
+       * <pre>
+       * table's id column(s) name
+       * optional, can be empty
+       * </pre>
+       *
+       * <code>repeated string ids = 1;</code>
+       * @return A list containing the ids.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getIdsList() {
+        ids_.makeImmutable();
+        return ids_;
+      }
+      /**
+       * <pre>
+       * table's id column(s) name
+       * optional, can be empty
+       * </pre>
+       *
+       * <code>repeated string ids = 1;</code>
+       * @return The count of ids.
+       */
+      public int getIdsCount() {
+        return ids_.size();
+      }
+      /**
+       * <pre>
+       * table's id column(s) name
+       * optional, can be empty
+       * </pre>
+       *
+       * <code>repeated string ids = 1;</code>
+       * @param index The index of the element to return.
+       * @return The ids at the given index.
+       */
+      public java.lang.String getIds(int index) {
+        return ids_.get(index);
+      }
+      /**
+       * <pre>
+       * table's id column(s) name
+       * optional, can be empty
+       * </pre>
+       *
+       * <code>repeated string ids = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the ids at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getIdsBytes(int index) {
+        return ids_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * table's id column(s) name
+       * optional, can be empty
+       * </pre>
+       *
+       * <code>repeated string ids = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The ids to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIds(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureIdsIsMutable();
+        ids_.set(index, value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * table's id column(s) name
+       * optional, can be empty
+       * </pre>
+       *
+       * <code>repeated string ids = 1;</code>
+       * @param value The ids to add.
+       * @return This builder for chaining.
+       */
+      public Builder addIds(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureIdsIsMutable();
+        ids_.add(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * table's id column(s) name
+       * optional, can be empty
+       * </pre>
+       *
+       * <code>repeated string ids = 1;</code>
+       * @param values The ids to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllIds(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, ids_);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * table's id column(s) name
+       * optional, can be empty
+       * </pre>
+       *
+       * <code>repeated string ids = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIds() {
+        ids_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * table's id column(s) name
+       * optional, can be empty
+       * </pre>
+       *
+       * <code>repeated string ids = 1;</code>
+       * @param value The bytes of the ids to add.
+       * @return This builder for chaining.
+       */
+      public Builder addIdsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureIdsIsMutable();
+        ids_.add(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList features_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureFeaturesIsMutable() {
+        if (!features_.isModifiable()) {
+          features_ = new com.google.protobuf.LazyStringArrayList(features_);
+        }
+        bitField0_ |= 0x00000002;
+      }
+      /**
+       * <pre>
+       * table's feature column(s) name
+       * </pre>
+       *
+       * <code>repeated string features = 2;</code>
+       * @return A list containing the features.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getFeaturesList() {
+        features_.makeImmutable();
+        return features_;
+      }
+      /**
+       * <pre>
+       * table's feature column(s) name
+       * </pre>
+       *
+       * <code>repeated string features = 2;</code>
+       * @return The count of features.
+       */
+      public int getFeaturesCount() {
+        return features_.size();
+      }
+      /**
+       * <pre>
+       * table's feature column(s) name
+       * </pre>
+       *
+       * <code>repeated string features = 2;</code>
+       * @param index The index of the element to return.
+       * @return The features at the given index.
+       */
+      public java.lang.String getFeatures(int index) {
+        return features_.get(index);
+      }
+      /**
+       * <pre>
+       * table's feature column(s) name
+       * </pre>
+       *
+       * <code>repeated string features = 2;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the features at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getFeaturesBytes(int index) {
+        return features_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * table's feature column(s) name
+       * </pre>
+       *
+       * <code>repeated string features = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The features to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFeatures(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureFeaturesIsMutable();
+        features_.set(index, value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * table's feature column(s) name
+       * </pre>
+       *
+       * <code>repeated string features = 2;</code>
+       * @param value The features to add.
+       * @return This builder for chaining.
+       */
+      public Builder addFeatures(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureFeaturesIsMutable();
+        features_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * table's feature column(s) name
+       * </pre>
+       *
+       * <code>repeated string features = 2;</code>
+       * @param values The features to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllFeatures(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureFeaturesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, features_);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * table's feature column(s) name
+       * </pre>
+       *
+       * <code>repeated string features = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFeatures() {
+        features_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * table's feature column(s) name
+       * </pre>
+       *
+       * <code>repeated string features = 2;</code>
+       * @param value The bytes of the features to add.
+       * @return This builder for chaining.
+       */
+      public Builder addFeaturesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureFeaturesIsMutable();
+        features_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList labels_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureLabelsIsMutable() {
+        if (!labels_.isModifiable()) {
+          labels_ = new com.google.protobuf.LazyStringArrayList(labels_);
+        }
+        bitField0_ |= 0x00000004;
+      }
+      /**
+       * <pre>
+       * table's label column(s) name
+       * optional, can be empty
+       * </pre>
+       *
+       * <code>repeated string labels = 3;</code>
+       * @return A list containing the labels.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getLabelsList() {
+        labels_.makeImmutable();
+        return labels_;
+      }
+      /**
+       * <pre>
+       * table's label column(s) name
+       * optional, can be empty
+       * </pre>
+       *
+       * <code>repeated string labels = 3;</code>
+       * @return The count of labels.
+       */
+      public int getLabelsCount() {
+        return labels_.size();
+      }
+      /**
+       * <pre>
+       * table's label column(s) name
+       * optional, can be empty
+       * </pre>
+       *
+       * <code>repeated string labels = 3;</code>
+       * @param index The index of the element to return.
+       * @return The labels at the given index.
+       */
+      public java.lang.String getLabels(int index) {
+        return labels_.get(index);
+      }
+      /**
+       * <pre>
+       * table's label column(s) name
+       * optional, can be empty
+       * </pre>
+       *
+       * <code>repeated string labels = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the labels at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getLabelsBytes(int index) {
+        return labels_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * table's label column(s) name
+       * optional, can be empty
+       * </pre>
+       *
+       * <code>repeated string labels = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The labels to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabels(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureLabelsIsMutable();
+        labels_.set(index, value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * table's label column(s) name
+       * optional, can be empty
+       * </pre>
+       *
+       * <code>repeated string labels = 3;</code>
+       * @param value The labels to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLabels(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureLabelsIsMutable();
+        labels_.add(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * table's label column(s) name
+       * optional, can be empty
+       * </pre>
+       *
+       * <code>repeated string labels = 3;</code>
+       * @param values The labels to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllLabels(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureLabelsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, labels_);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * table's label column(s) name
+       * optional, can be empty
+       * </pre>
+       *
+       * <code>repeated string labels = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLabels() {
+        labels_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * table's label column(s) name
+       * optional, can be empty
+       * </pre>
+       *
+       * <code>repeated string labels = 3;</code>
+       * @param value The bytes of the labels to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLabelsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureLabelsIsMutable();
+        labels_.add(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList idTypes_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureIdTypesIsMutable() {
+        if (!idTypes_.isModifiable()) {
+          idTypes_ = new com.google.protobuf.LazyStringArrayList(idTypes_);
+        }
+        bitField0_ |= 0x00000008;
+      }
+      /**
+       * <pre>
+       * id column(s) data type
+       * len(id) should match len(id_types)
+       * </pre>
+       *
+       * <code>repeated string id_types = 4;</code>
+       * @return A list containing the idTypes.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getIdTypesList() {
+        idTypes_.makeImmutable();
+        return idTypes_;
+      }
+      /**
+       * <pre>
+       * id column(s) data type
+       * len(id) should match len(id_types)
+       * </pre>
+       *
+       * <code>repeated string id_types = 4;</code>
+       * @return The count of idTypes.
+       */
+      public int getIdTypesCount() {
+        return idTypes_.size();
+      }
+      /**
+       * <pre>
+       * id column(s) data type
+       * len(id) should match len(id_types)
+       * </pre>
+       *
+       * <code>repeated string id_types = 4;</code>
+       * @param index The index of the element to return.
+       * @return The idTypes at the given index.
+       */
+      public java.lang.String getIdTypes(int index) {
+        return idTypes_.get(index);
+      }
+      /**
+       * <pre>
+       * id column(s) data type
+       * len(id) should match len(id_types)
+       * </pre>
+       *
+       * <code>repeated string id_types = 4;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the idTypes at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getIdTypesBytes(int index) {
+        return idTypes_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * id column(s) data type
+       * len(id) should match len(id_types)
+       * </pre>
+       *
+       * <code>repeated string id_types = 4;</code>
+       * @param index The index to set the value at.
+       * @param value The idTypes to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdTypes(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureIdTypesIsMutable();
+        idTypes_.set(index, value);
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * id column(s) data type
+       * len(id) should match len(id_types)
+       * </pre>
+       *
+       * <code>repeated string id_types = 4;</code>
+       * @param value The idTypes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addIdTypes(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureIdTypesIsMutable();
+        idTypes_.add(value);
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * id column(s) data type
+       * len(id) should match len(id_types)
+       * </pre>
+       *
+       * <code>repeated string id_types = 4;</code>
+       * @param values The idTypes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllIdTypes(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureIdTypesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, idTypes_);
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * id column(s) data type
+       * len(id) should match len(id_types)
+       * </pre>
+       *
+       * <code>repeated string id_types = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIdTypes() {
+        idTypes_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * id column(s) data type
+       * len(id) should match len(id_types)
+       * </pre>
+       *
+       * <code>repeated string id_types = 4;</code>
+       * @param value The bytes of the idTypes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addIdTypesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureIdTypesIsMutable();
+        idTypes_.add(value);
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList featureTypes_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureFeatureTypesIsMutable() {
+        if (!featureTypes_.isModifiable()) {
+          featureTypes_ = new com.google.protobuf.LazyStringArrayList(featureTypes_);
+        }
+        bitField0_ |= 0x00000010;
+      }
+      /**
+       * <pre>
+       * feature column(s) data type
+       * len(features) should match len(feature_types)
+       * </pre>
+       *
+       * <code>repeated string feature_types = 5;</code>
+       * @return A list containing the featureTypes.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getFeatureTypesList() {
+        featureTypes_.makeImmutable();
+        return featureTypes_;
+      }
+      /**
+       * <pre>
+       * feature column(s) data type
+       * len(features) should match len(feature_types)
+       * </pre>
+       *
+       * <code>repeated string feature_types = 5;</code>
+       * @return The count of featureTypes.
+       */
+      public int getFeatureTypesCount() {
+        return featureTypes_.size();
+      }
+      /**
+       * <pre>
+       * feature column(s) data type
+       * len(features) should match len(feature_types)
+       * </pre>
+       *
+       * <code>repeated string feature_types = 5;</code>
+       * @param index The index of the element to return.
+       * @return The featureTypes at the given index.
+       */
+      public java.lang.String getFeatureTypes(int index) {
+        return featureTypes_.get(index);
+      }
+      /**
+       * <pre>
+       * feature column(s) data type
+       * len(features) should match len(feature_types)
+       * </pre>
+       *
+       * <code>repeated string feature_types = 5;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the featureTypes at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getFeatureTypesBytes(int index) {
+        return featureTypes_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * feature column(s) data type
+       * len(features) should match len(feature_types)
+       * </pre>
+       *
+       * <code>repeated string feature_types = 5;</code>
+       * @param index The index to set the value at.
+       * @param value The featureTypes to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFeatureTypes(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureFeatureTypesIsMutable();
+        featureTypes_.set(index, value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * feature column(s) data type
+       * len(features) should match len(feature_types)
+       * </pre>
+       *
+       * <code>repeated string feature_types = 5;</code>
+       * @param value The featureTypes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addFeatureTypes(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureFeatureTypesIsMutable();
+        featureTypes_.add(value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * feature column(s) data type
+       * len(features) should match len(feature_types)
+       * </pre>
+       *
+       * <code>repeated string feature_types = 5;</code>
+       * @param values The featureTypes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllFeatureTypes(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureFeatureTypesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, featureTypes_);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * feature column(s) data type
+       * len(features) should match len(feature_types)
+       * </pre>
+       *
+       * <code>repeated string feature_types = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFeatureTypes() {
+        featureTypes_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * feature column(s) data type
+       * len(features) should match len(feature_types)
+       * </pre>
+       *
+       * <code>repeated string feature_types = 5;</code>
+       * @param value The bytes of the featureTypes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addFeatureTypesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureFeatureTypesIsMutable();
+        featureTypes_.add(value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList labelTypes_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureLabelTypesIsMutable() {
+        if (!labelTypes_.isModifiable()) {
+          labelTypes_ = new com.google.protobuf.LazyStringArrayList(labelTypes_);
+        }
+        bitField0_ |= 0x00000020;
+      }
+      /**
+       * <pre>
+       * label column(s) data type
+       * len(labels) should match len(label_types)
+       * </pre>
+       *
+       * <code>repeated string label_types = 6;</code>
+       * @return A list containing the labelTypes.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getLabelTypesList() {
+        labelTypes_.makeImmutable();
+        return labelTypes_;
+      }
+      /**
+       * <pre>
+       * label column(s) data type
+       * len(labels) should match len(label_types)
+       * </pre>
+       *
+       * <code>repeated string label_types = 6;</code>
+       * @return The count of labelTypes.
+       */
+      public int getLabelTypesCount() {
+        return labelTypes_.size();
+      }
+      /**
+       * <pre>
+       * label column(s) data type
+       * len(labels) should match len(label_types)
+       * </pre>
+       *
+       * <code>repeated string label_types = 6;</code>
+       * @param index The index of the element to return.
+       * @return The labelTypes at the given index.
+       */
+      public java.lang.String getLabelTypes(int index) {
+        return labelTypes_.get(index);
+      }
+      /**
+       * <pre>
+       * label column(s) data type
+       * len(labels) should match len(label_types)
+       * </pre>
+       *
+       * <code>repeated string label_types = 6;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the labelTypes at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getLabelTypesBytes(int index) {
+        return labelTypes_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * label column(s) data type
+       * len(labels) should match len(label_types)
+       * </pre>
+       *
+       * <code>repeated string label_types = 6;</code>
+       * @param index The index to set the value at.
+       * @param value The labelTypes to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabelTypes(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureLabelTypesIsMutable();
+        labelTypes_.set(index, value);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * label column(s) data type
+       * len(labels) should match len(label_types)
+       * </pre>
+       *
+       * <code>repeated string label_types = 6;</code>
+       * @param value The labelTypes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLabelTypes(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureLabelTypesIsMutable();
+        labelTypes_.add(value);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * label column(s) data type
+       * len(labels) should match len(label_types)
+       * </pre>
+       *
+       * <code>repeated string label_types = 6;</code>
+       * @param values The labelTypes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllLabelTypes(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureLabelTypesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, labelTypes_);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * label column(s) data type
+       * len(labels) should match len(label_types)
+       * </pre>
+       *
+       * <code>repeated string label_types = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLabelTypes() {
+        labelTypes_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000020);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * label column(s) data type
+       * len(labels) should match len(label_types)
+       * </pre>
+       *
+       * <code>repeated string label_types = 6;</code>
+       * @param value The bytes of the labelTypes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLabelTypesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureLabelTypesIsMutable();
+        labelTypes_.add(value);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.component.TableSchema)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.component.TableSchema)
+    private static final org.secretflow.proto.component.Data.TableSchema DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.component.Data.TableSchema();
+    }
+
+    public static org.secretflow.proto.component.Data.TableSchema getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TableSchema>
+        PARSER = new com.google.protobuf.AbstractParser<TableSchema>() {
+      @java.lang.Override
+      public TableSchema parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<TableSchema> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TableSchema> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.TableSchema getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface VerticalTableOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.component.VerticalTable)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * The virtical splitted slices' schema.
+     * Matches data_refs in parent DistData message.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+     */
+    java.util.List<org.secretflow.proto.component.Data.TableSchema> 
+        getSchemasList();
+    /**
+     * <pre>
+     * The virtical splitted slices' schema.
+     * Matches data_refs in parent DistData message.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+     */
+    org.secretflow.proto.component.Data.TableSchema getSchemas(int index);
+    /**
+     * <pre>
+     * The virtical splitted slices' schema.
+     * Matches data_refs in parent DistData message.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+     */
+    int getSchemasCount();
+    /**
+     * <pre>
+     * The virtical splitted slices' schema.
+     * Matches data_refs in parent DistData message.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.component.Data.TableSchemaOrBuilder> 
+        getSchemasOrBuilderList();
+    /**
+     * <pre>
+     * The virtical splitted slices' schema.
+     * Matches data_refs in parent DistData message.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+     */
+    org.secretflow.proto.component.Data.TableSchemaOrBuilder getSchemasOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * If -1, the number is unknown, else the number of lines.
+     * </pre>
+     *
+     * <code>int64 num_lines = 2;</code>
+     * @return The numLines.
+     */
+    long getNumLines();
+  }
+  /**
+   * <pre>
+   * Table describes a vertical virtual table from multiple-parties.
+   * TODO: move this to secretflow/protos/builtin/
+   * Guide: if some type is only required to be handle inside a specific system,
+   * for instance woe.rule file in engine, we dont need to define a new type here.
+   * </pre>
+   *
+   * Protobuf type {@code secretflow.component.VerticalTable}
+   */
+  public static final class VerticalTable extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.component.VerticalTable)
+      VerticalTableOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use VerticalTable.newBuilder() to construct.
+    private VerticalTable(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private VerticalTable() {
+      schemas_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new VerticalTable();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.Data.internal_static_secretflow_component_VerticalTable_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.component.Data.internal_static_secretflow_component_VerticalTable_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.component.Data.VerticalTable.class, org.secretflow.proto.component.Data.VerticalTable.Builder.class);
+    }
+
+    public static final int SCHEMAS_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.component.Data.TableSchema> schemas_;
+    /**
+     * <pre>
+     * The virtical splitted slices' schema.
+     * Matches data_refs in parent DistData message.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.component.Data.TableSchema> getSchemasList() {
+      return schemas_;
+    }
+    /**
+     * <pre>
+     * The virtical splitted slices' schema.
+     * Matches data_refs in parent DistData message.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.component.Data.TableSchemaOrBuilder> 
+        getSchemasOrBuilderList() {
+      return schemas_;
+    }
+    /**
+     * <pre>
+     * The virtical splitted slices' schema.
+     * Matches data_refs in parent DistData message.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+     */
+    @java.lang.Override
+    public int getSchemasCount() {
+      return schemas_.size();
+    }
+    /**
+     * <pre>
+     * The virtical splitted slices' schema.
+     * Matches data_refs in parent DistData message.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.TableSchema getSchemas(int index) {
+      return schemas_.get(index);
+    }
+    /**
+     * <pre>
+     * The virtical splitted slices' schema.
+     * Matches data_refs in parent DistData message.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.TableSchemaOrBuilder getSchemasOrBuilder(
+        int index) {
+      return schemas_.get(index);
+    }
+
+    public static final int NUM_LINES_FIELD_NUMBER = 2;
+    private long numLines_ = 0L;
+    /**
+     * <pre>
+     * If -1, the number is unknown, else the number of lines.
+     * </pre>
+     *
+     * <code>int64 num_lines = 2;</code>
+     * @return The numLines.
+     */
+    @java.lang.Override
+    public long getNumLines() {
+      return numLines_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < schemas_.size(); i++) {
+        output.writeMessage(1, schemas_.get(i));
+      }
+      if (numLines_ != 0L) {
+        output.writeInt64(2, numLines_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < schemas_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, schemas_.get(i));
+      }
+      if (numLines_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, numLines_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.component.Data.VerticalTable)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.component.Data.VerticalTable other = (org.secretflow.proto.component.Data.VerticalTable) obj;
+
+      if (!getSchemasList()
+          .equals(other.getSchemasList())) return false;
+      if (getNumLines()
+          != other.getNumLines()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getSchemasCount() > 0) {
+        hash = (37 * hash) + SCHEMAS_FIELD_NUMBER;
+        hash = (53 * hash) + getSchemasList().hashCode();
+      }
+      hash = (37 * hash) + NUM_LINES_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getNumLines());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.component.Data.VerticalTable parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Data.VerticalTable parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.VerticalTable parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Data.VerticalTable parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.VerticalTable parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Data.VerticalTable parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.VerticalTable parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Data.VerticalTable parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.VerticalTable parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Data.VerticalTable parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.VerticalTable parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Data.VerticalTable parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.component.Data.VerticalTable prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Table describes a vertical virtual table from multiple-parties.
+     * TODO: move this to secretflow/protos/builtin/
+     * Guide: if some type is only required to be handle inside a specific system,
+     * for instance woe.rule file in engine, we dont need to define a new type here.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.VerticalTable}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.component.VerticalTable)
+        org.secretflow.proto.component.Data.VerticalTableOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_VerticalTable_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_VerticalTable_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Data.VerticalTable.class, org.secretflow.proto.component.Data.VerticalTable.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.component.Data.VerticalTable.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        if (schemasBuilder_ == null) {
+          schemas_ = java.util.Collections.emptyList();
+        } else {
+          schemas_ = null;
+          schemasBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        numLines_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_VerticalTable_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Data.VerticalTable getDefaultInstanceForType() {
+        return org.secretflow.proto.component.Data.VerticalTable.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Data.VerticalTable build() {
+        org.secretflow.proto.component.Data.VerticalTable result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Data.VerticalTable buildPartial() {
+        org.secretflow.proto.component.Data.VerticalTable result = new org.secretflow.proto.component.Data.VerticalTable(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.proto.component.Data.VerticalTable result) {
+        if (schemasBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            schemas_ = java.util.Collections.unmodifiableList(schemas_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.schemas_ = schemas_;
+        } else {
+          result.schemas_ = schemasBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.proto.component.Data.VerticalTable result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.numLines_ = numLines_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.component.Data.VerticalTable) {
+          return mergeFrom((org.secretflow.proto.component.Data.VerticalTable)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.component.Data.VerticalTable other) {
+        if (other == org.secretflow.proto.component.Data.VerticalTable.getDefaultInstance()) return this;
+        if (schemasBuilder_ == null) {
+          if (!other.schemas_.isEmpty()) {
+            if (schemas_.isEmpty()) {
+              schemas_ = other.schemas_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureSchemasIsMutable();
+              schemas_.addAll(other.schemas_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.schemas_.isEmpty()) {
+            if (schemasBuilder_.isEmpty()) {
+              schemasBuilder_.dispose();
+              schemasBuilder_ = null;
+              schemas_ = other.schemas_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              schemasBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getSchemasFieldBuilder() : null;
+            } else {
+              schemasBuilder_.addAllMessages(other.schemas_);
+            }
+          }
+        }
+        if (other.getNumLines() != 0L) {
+          setNumLines(other.getNumLines());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                org.secretflow.proto.component.Data.TableSchema m =
+                    input.readMessage(
+                        org.secretflow.proto.component.Data.TableSchema.parser(),
+                        extensionRegistry);
+                if (schemasBuilder_ == null) {
+                  ensureSchemasIsMutable();
+                  schemas_.add(m);
+                } else {
+                  schemasBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              case 16: {
+                numLines_ = input.readInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<org.secretflow.proto.component.Data.TableSchema> schemas_ =
+        java.util.Collections.emptyList();
+      private void ensureSchemasIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          schemas_ = new java.util.ArrayList<org.secretflow.proto.component.Data.TableSchema>(schemas_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Data.TableSchema, org.secretflow.proto.component.Data.TableSchema.Builder, org.secretflow.proto.component.Data.TableSchemaOrBuilder> schemasBuilder_;
+
+      /**
+       * <pre>
+       * The virtical splitted slices' schema.
+       * Matches data_refs in parent DistData message.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Data.TableSchema> getSchemasList() {
+        if (schemasBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(schemas_);
+        } else {
+          return schemasBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * The virtical splitted slices' schema.
+       * Matches data_refs in parent DistData message.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+       */
+      public int getSchemasCount() {
+        if (schemasBuilder_ == null) {
+          return schemas_.size();
+        } else {
+          return schemasBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * The virtical splitted slices' schema.
+       * Matches data_refs in parent DistData message.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+       */
+      public org.secretflow.proto.component.Data.TableSchema getSchemas(int index) {
+        if (schemasBuilder_ == null) {
+          return schemas_.get(index);
+        } else {
+          return schemasBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * The virtical splitted slices' schema.
+       * Matches data_refs in parent DistData message.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+       */
+      public Builder setSchemas(
+          int index, org.secretflow.proto.component.Data.TableSchema value) {
+        if (schemasBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSchemasIsMutable();
+          schemas_.set(index, value);
+          onChanged();
+        } else {
+          schemasBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The virtical splitted slices' schema.
+       * Matches data_refs in parent DistData message.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+       */
+      public Builder setSchemas(
+          int index, org.secretflow.proto.component.Data.TableSchema.Builder builderForValue) {
+        if (schemasBuilder_ == null) {
+          ensureSchemasIsMutable();
+          schemas_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          schemasBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The virtical splitted slices' schema.
+       * Matches data_refs in parent DistData message.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+       */
+      public Builder addSchemas(org.secretflow.proto.component.Data.TableSchema value) {
+        if (schemasBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSchemasIsMutable();
+          schemas_.add(value);
+          onChanged();
+        } else {
+          schemasBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The virtical splitted slices' schema.
+       * Matches data_refs in parent DistData message.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+       */
+      public Builder addSchemas(
+          int index, org.secretflow.proto.component.Data.TableSchema value) {
+        if (schemasBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSchemasIsMutable();
+          schemas_.add(index, value);
+          onChanged();
+        } else {
+          schemasBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The virtical splitted slices' schema.
+       * Matches data_refs in parent DistData message.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+       */
+      public Builder addSchemas(
+          org.secretflow.proto.component.Data.TableSchema.Builder builderForValue) {
+        if (schemasBuilder_ == null) {
+          ensureSchemasIsMutable();
+          schemas_.add(builderForValue.build());
+          onChanged();
+        } else {
+          schemasBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The virtical splitted slices' schema.
+       * Matches data_refs in parent DistData message.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+       */
+      public Builder addSchemas(
+          int index, org.secretflow.proto.component.Data.TableSchema.Builder builderForValue) {
+        if (schemasBuilder_ == null) {
+          ensureSchemasIsMutable();
+          schemas_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          schemasBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The virtical splitted slices' schema.
+       * Matches data_refs in parent DistData message.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+       */
+      public Builder addAllSchemas(
+          java.lang.Iterable<? extends org.secretflow.proto.component.Data.TableSchema> values) {
+        if (schemasBuilder_ == null) {
+          ensureSchemasIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, schemas_);
+          onChanged();
+        } else {
+          schemasBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The virtical splitted slices' schema.
+       * Matches data_refs in parent DistData message.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+       */
+      public Builder clearSchemas() {
+        if (schemasBuilder_ == null) {
+          schemas_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          schemasBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The virtical splitted slices' schema.
+       * Matches data_refs in parent DistData message.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+       */
+      public Builder removeSchemas(int index) {
+        if (schemasBuilder_ == null) {
+          ensureSchemasIsMutable();
+          schemas_.remove(index);
+          onChanged();
+        } else {
+          schemasBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The virtical splitted slices' schema.
+       * Matches data_refs in parent DistData message.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+       */
+      public org.secretflow.proto.component.Data.TableSchema.Builder getSchemasBuilder(
+          int index) {
+        return getSchemasFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * The virtical splitted slices' schema.
+       * Matches data_refs in parent DistData message.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+       */
+      public org.secretflow.proto.component.Data.TableSchemaOrBuilder getSchemasOrBuilder(
+          int index) {
+        if (schemasBuilder_ == null) {
+          return schemas_.get(index);  } else {
+          return schemasBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * The virtical splitted slices' schema.
+       * Matches data_refs in parent DistData message.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.component.Data.TableSchemaOrBuilder> 
+           getSchemasOrBuilderList() {
+        if (schemasBuilder_ != null) {
+          return schemasBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(schemas_);
+        }
+      }
+      /**
+       * <pre>
+       * The virtical splitted slices' schema.
+       * Matches data_refs in parent DistData message.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+       */
+      public org.secretflow.proto.component.Data.TableSchema.Builder addSchemasBuilder() {
+        return getSchemasFieldBuilder().addBuilder(
+            org.secretflow.proto.component.Data.TableSchema.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * The virtical splitted slices' schema.
+       * Matches data_refs in parent DistData message.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+       */
+      public org.secretflow.proto.component.Data.TableSchema.Builder addSchemasBuilder(
+          int index) {
+        return getSchemasFieldBuilder().addBuilder(
+            index, org.secretflow.proto.component.Data.TableSchema.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * The virtical splitted slices' schema.
+       * Matches data_refs in parent DistData message.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.TableSchema schemas = 1;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Data.TableSchema.Builder> 
+           getSchemasBuilderList() {
+        return getSchemasFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Data.TableSchema, org.secretflow.proto.component.Data.TableSchema.Builder, org.secretflow.proto.component.Data.TableSchemaOrBuilder> 
+          getSchemasFieldBuilder() {
+        if (schemasBuilder_ == null) {
+          schemasBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.component.Data.TableSchema, org.secretflow.proto.component.Data.TableSchema.Builder, org.secretflow.proto.component.Data.TableSchemaOrBuilder>(
+                  schemas_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          schemas_ = null;
+        }
+        return schemasBuilder_;
+      }
+
+      private long numLines_ ;
+      /**
+       * <pre>
+       * If -1, the number is unknown, else the number of lines.
+       * </pre>
+       *
+       * <code>int64 num_lines = 2;</code>
+       * @return The numLines.
+       */
+      @java.lang.Override
+      public long getNumLines() {
+        return numLines_;
+      }
+      /**
+       * <pre>
+       * If -1, the number is unknown, else the number of lines.
+       * </pre>
+       *
+       * <code>int64 num_lines = 2;</code>
+       * @param value The numLines to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNumLines(long value) {
+
+        numLines_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * If -1, the number is unknown, else the number of lines.
+       * </pre>
+       *
+       * <code>int64 num_lines = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNumLines() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        numLines_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.component.VerticalTable)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.component.VerticalTable)
+    private static final org.secretflow.proto.component.Data.VerticalTable DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.component.Data.VerticalTable();
+    }
+
+    public static org.secretflow.proto.component.Data.VerticalTable getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<VerticalTable>
+        PARSER = new com.google.protobuf.AbstractParser<VerticalTable>() {
+      @java.lang.Override
+      public VerticalTable parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<VerticalTable> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<VerticalTable> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.VerticalTable getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface IndividualTableOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.component.IndividualTable)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.secretflow.component.TableSchema schema = 1;</code>
+     * @return Whether the schema field is set.
+     */
+    boolean hasSchema();
+    /**
+     * <code>.secretflow.component.TableSchema schema = 1;</code>
+     * @return The schema.
+     */
+    org.secretflow.proto.component.Data.TableSchema getSchema();
+    /**
+     * <code>.secretflow.component.TableSchema schema = 1;</code>
+     */
+    org.secretflow.proto.component.Data.TableSchemaOrBuilder getSchemaOrBuilder();
+
+    /**
+     * <pre>
+     * If -1, the number is unknown, else the number of lines.
+     * </pre>
+     *
+     * <code>int64 num_lines = 2;</code>
+     * @return The numLines.
+     */
+    long getNumLines();
+  }
+  /**
+   * Protobuf type {@code secretflow.component.IndividualTable}
+   */
+  public static final class IndividualTable extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.component.IndividualTable)
+      IndividualTableOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use IndividualTable.newBuilder() to construct.
+    private IndividualTable(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private IndividualTable() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new IndividualTable();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.Data.internal_static_secretflow_component_IndividualTable_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.component.Data.internal_static_secretflow_component_IndividualTable_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.component.Data.IndividualTable.class, org.secretflow.proto.component.Data.IndividualTable.Builder.class);
+    }
+
+    public static final int SCHEMA_FIELD_NUMBER = 1;
+    private org.secretflow.proto.component.Data.TableSchema schema_;
+    /**
+     * <code>.secretflow.component.TableSchema schema = 1;</code>
+     * @return Whether the schema field is set.
+     */
+    @java.lang.Override
+    public boolean hasSchema() {
+      return schema_ != null;
+    }
+    /**
+     * <code>.secretflow.component.TableSchema schema = 1;</code>
+     * @return The schema.
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.TableSchema getSchema() {
+      return schema_ == null ? org.secretflow.proto.component.Data.TableSchema.getDefaultInstance() : schema_;
+    }
+    /**
+     * <code>.secretflow.component.TableSchema schema = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.TableSchemaOrBuilder getSchemaOrBuilder() {
+      return schema_ == null ? org.secretflow.proto.component.Data.TableSchema.getDefaultInstance() : schema_;
+    }
+
+    public static final int NUM_LINES_FIELD_NUMBER = 2;
+    private long numLines_ = 0L;
+    /**
+     * <pre>
+     * If -1, the number is unknown, else the number of lines.
+     * </pre>
+     *
+     * <code>int64 num_lines = 2;</code>
+     * @return The numLines.
+     */
+    @java.lang.Override
+    public long getNumLines() {
+      return numLines_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (schema_ != null) {
+        output.writeMessage(1, getSchema());
+      }
+      if (numLines_ != 0L) {
+        output.writeInt64(2, numLines_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (schema_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getSchema());
+      }
+      if (numLines_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, numLines_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.component.Data.IndividualTable)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.component.Data.IndividualTable other = (org.secretflow.proto.component.Data.IndividualTable) obj;
+
+      if (hasSchema() != other.hasSchema()) return false;
+      if (hasSchema()) {
+        if (!getSchema()
+            .equals(other.getSchema())) return false;
+      }
+      if (getNumLines()
+          != other.getNumLines()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasSchema()) {
+        hash = (37 * hash) + SCHEMA_FIELD_NUMBER;
+        hash = (53 * hash) + getSchema().hashCode();
+      }
+      hash = (37 * hash) + NUM_LINES_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getNumLines());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.component.Data.IndividualTable parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Data.IndividualTable parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.IndividualTable parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Data.IndividualTable parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.IndividualTable parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Data.IndividualTable parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.IndividualTable parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Data.IndividualTable parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.IndividualTable parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Data.IndividualTable parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.IndividualTable parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Data.IndividualTable parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.component.Data.IndividualTable prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code secretflow.component.IndividualTable}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.component.IndividualTable)
+        org.secretflow.proto.component.Data.IndividualTableOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_IndividualTable_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_IndividualTable_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Data.IndividualTable.class, org.secretflow.proto.component.Data.IndividualTable.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.component.Data.IndividualTable.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        schema_ = null;
+        if (schemaBuilder_ != null) {
+          schemaBuilder_.dispose();
+          schemaBuilder_ = null;
+        }
+        numLines_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_IndividualTable_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Data.IndividualTable getDefaultInstanceForType() {
+        return org.secretflow.proto.component.Data.IndividualTable.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Data.IndividualTable build() {
+        org.secretflow.proto.component.Data.IndividualTable result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Data.IndividualTable buildPartial() {
+        org.secretflow.proto.component.Data.IndividualTable result = new org.secretflow.proto.component.Data.IndividualTable(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.proto.component.Data.IndividualTable result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.schema_ = schemaBuilder_ == null
+              ? schema_
+              : schemaBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.numLines_ = numLines_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.component.Data.IndividualTable) {
+          return mergeFrom((org.secretflow.proto.component.Data.IndividualTable)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.component.Data.IndividualTable other) {
+        if (other == org.secretflow.proto.component.Data.IndividualTable.getDefaultInstance()) return this;
+        if (other.hasSchema()) {
+          mergeSchema(other.getSchema());
+        }
+        if (other.getNumLines() != 0L) {
+          setNumLines(other.getNumLines());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getSchemaFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                numLines_ = input.readInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.proto.component.Data.TableSchema schema_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.proto.component.Data.TableSchema, org.secretflow.proto.component.Data.TableSchema.Builder, org.secretflow.proto.component.Data.TableSchemaOrBuilder> schemaBuilder_;
+      /**
+       * <code>.secretflow.component.TableSchema schema = 1;</code>
+       * @return Whether the schema field is set.
+       */
+      public boolean hasSchema() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.secretflow.component.TableSchema schema = 1;</code>
+       * @return The schema.
+       */
+      public org.secretflow.proto.component.Data.TableSchema getSchema() {
+        if (schemaBuilder_ == null) {
+          return schema_ == null ? org.secretflow.proto.component.Data.TableSchema.getDefaultInstance() : schema_;
+        } else {
+          return schemaBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.secretflow.component.TableSchema schema = 1;</code>
+       */
+      public Builder setSchema(org.secretflow.proto.component.Data.TableSchema value) {
+        if (schemaBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          schema_ = value;
+        } else {
+          schemaBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.secretflow.component.TableSchema schema = 1;</code>
+       */
+      public Builder setSchema(
+          org.secretflow.proto.component.Data.TableSchema.Builder builderForValue) {
+        if (schemaBuilder_ == null) {
+          schema_ = builderForValue.build();
+        } else {
+          schemaBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.secretflow.component.TableSchema schema = 1;</code>
+       */
+      public Builder mergeSchema(org.secretflow.proto.component.Data.TableSchema value) {
+        if (schemaBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            schema_ != null &&
+            schema_ != org.secretflow.proto.component.Data.TableSchema.getDefaultInstance()) {
+            getSchemaBuilder().mergeFrom(value);
+          } else {
+            schema_ = value;
+          }
+        } else {
+          schemaBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.secretflow.component.TableSchema schema = 1;</code>
+       */
+      public Builder clearSchema() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        schema_ = null;
+        if (schemaBuilder_ != null) {
+          schemaBuilder_.dispose();
+          schemaBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.secretflow.component.TableSchema schema = 1;</code>
+       */
+      public org.secretflow.proto.component.Data.TableSchema.Builder getSchemaBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getSchemaFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.secretflow.component.TableSchema schema = 1;</code>
+       */
+      public org.secretflow.proto.component.Data.TableSchemaOrBuilder getSchemaOrBuilder() {
+        if (schemaBuilder_ != null) {
+          return schemaBuilder_.getMessageOrBuilder();
+        } else {
+          return schema_ == null ?
+              org.secretflow.proto.component.Data.TableSchema.getDefaultInstance() : schema_;
+        }
+      }
+      /**
+       * <code>.secretflow.component.TableSchema schema = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.proto.component.Data.TableSchema, org.secretflow.proto.component.Data.TableSchema.Builder, org.secretflow.proto.component.Data.TableSchemaOrBuilder> 
+          getSchemaFieldBuilder() {
+        if (schemaBuilder_ == null) {
+          schemaBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.proto.component.Data.TableSchema, org.secretflow.proto.component.Data.TableSchema.Builder, org.secretflow.proto.component.Data.TableSchemaOrBuilder>(
+                  getSchema(),
+                  getParentForChildren(),
+                  isClean());
+          schema_ = null;
+        }
+        return schemaBuilder_;
+      }
+
+      private long numLines_ ;
+      /**
+       * <pre>
+       * If -1, the number is unknown, else the number of lines.
+       * </pre>
+       *
+       * <code>int64 num_lines = 2;</code>
+       * @return The numLines.
+       */
+      @java.lang.Override
+      public long getNumLines() {
+        return numLines_;
+      }
+      /**
+       * <pre>
+       * If -1, the number is unknown, else the number of lines.
+       * </pre>
+       *
+       * <code>int64 num_lines = 2;</code>
+       * @param value The numLines to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNumLines(long value) {
+
+        numLines_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * If -1, the number is unknown, else the number of lines.
+       * </pre>
+       *
+       * <code>int64 num_lines = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNumLines() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        numLines_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.component.IndividualTable)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.component.IndividualTable)
+    private static final org.secretflow.proto.component.Data.IndividualTable DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.component.Data.IndividualTable();
+    }
+
+    public static org.secretflow.proto.component.Data.IndividualTable getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<IndividualTable>
+        PARSER = new com.google.protobuf.AbstractParser<IndividualTable>() {
+      @java.lang.Override
+      public IndividualTable parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<IndividualTable> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<IndividualTable> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.IndividualTable getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DeviceObjectCollectionOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.component.DeviceObjectCollection)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+     */
+    java.util.List<org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject> 
+        getObjsList();
+    /**
+     * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+     */
+    org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject getObjs(int index);
+    /**
+     * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+     */
+    int getObjsCount();
+    /**
+     * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObjectOrBuilder> 
+        getObjsOrBuilderList();
+    /**
+     * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+     */
+    org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObjectOrBuilder getObjsOrBuilder(
+        int index);
+
+    /**
+     * <code>string public_info = 2;</code>
+     * @return The publicInfo.
+     */
+    java.lang.String getPublicInfo();
+    /**
+     * <code>string public_info = 2;</code>
+     * @return The bytes for publicInfo.
+     */
+    com.google.protobuf.ByteString
+        getPublicInfoBytes();
+  }
+  /**
+   * Protobuf type {@code secretflow.component.DeviceObjectCollection}
+   */
+  public static final class DeviceObjectCollection extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.component.DeviceObjectCollection)
+      DeviceObjectCollectionOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DeviceObjectCollection.newBuilder() to construct.
+    private DeviceObjectCollection(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DeviceObjectCollection() {
+      objs_ = java.util.Collections.emptyList();
+      publicInfo_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DeviceObjectCollection();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.Data.internal_static_secretflow_component_DeviceObjectCollection_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.component.Data.internal_static_secretflow_component_DeviceObjectCollection_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.component.Data.DeviceObjectCollection.class, org.secretflow.proto.component.Data.DeviceObjectCollection.Builder.class);
+    }
+
+    public interface DeviceObjectOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:secretflow.component.DeviceObjectCollection.DeviceObject)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <pre>
+       * spu / pyu
+       * </pre>
+       *
+       * <code>string type = 1;</code>
+       * @return The type.
+       */
+      java.lang.String getType();
+      /**
+       * <pre>
+       * spu / pyu
+       * </pre>
+       *
+       * <code>string type = 1;</code>
+       * @return The bytes for type.
+       */
+      com.google.protobuf.ByteString
+          getTypeBytes();
+
+      /**
+       * <pre>
+       * save on which data_ref
+       * </pre>
+       *
+       * <code>repeated int32 data_ref_idxs = 2;</code>
+       * @return A list containing the dataRefIdxs.
+       */
+      java.util.List<java.lang.Integer> getDataRefIdxsList();
+      /**
+       * <pre>
+       * save on which data_ref
+       * </pre>
+       *
+       * <code>repeated int32 data_ref_idxs = 2;</code>
+       * @return The count of dataRefIdxs.
+       */
+      int getDataRefIdxsCount();
+      /**
+       * <pre>
+       * save on which data_ref
+       * </pre>
+       *
+       * <code>repeated int32 data_ref_idxs = 2;</code>
+       * @param index The index of the element to return.
+       * @return The dataRefIdxs at the given index.
+       */
+      int getDataRefIdxs(int index);
+    }
+    /**
+     * Protobuf type {@code secretflow.component.DeviceObjectCollection.DeviceObject}
+     */
+    public static final class DeviceObject extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:secretflow.component.DeviceObjectCollection.DeviceObject)
+        DeviceObjectOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use DeviceObject.newBuilder() to construct.
+      private DeviceObject(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private DeviceObject() {
+        type_ = "";
+        dataRefIdxs_ = emptyIntList();
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new DeviceObject();
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_DeviceObjectCollection_DeviceObject_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_DeviceObjectCollection_DeviceObject_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject.class, org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject.Builder.class);
+      }
+
+      public static final int TYPE_FIELD_NUMBER = 1;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object type_ = "";
+      /**
+       * <pre>
+       * spu / pyu
+       * </pre>
+       *
+       * <code>string type = 1;</code>
+       * @return The type.
+       */
+      @java.lang.Override
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          type_ = s;
+          return s;
+        }
+      }
+      /**
+       * <pre>
+       * spu / pyu
+       * </pre>
+       *
+       * <code>string type = 1;</code>
+       * @return The bytes for type.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int DATA_REF_IDXS_FIELD_NUMBER = 2;
+      @SuppressWarnings("serial")
+      private com.google.protobuf.Internal.IntList dataRefIdxs_;
+      /**
+       * <pre>
+       * save on which data_ref
+       * </pre>
+       *
+       * <code>repeated int32 data_ref_idxs = 2;</code>
+       * @return A list containing the dataRefIdxs.
+       */
+      @java.lang.Override
+      public java.util.List<java.lang.Integer>
+          getDataRefIdxsList() {
+        return dataRefIdxs_;
+      }
+      /**
+       * <pre>
+       * save on which data_ref
+       * </pre>
+       *
+       * <code>repeated int32 data_ref_idxs = 2;</code>
+       * @return The count of dataRefIdxs.
+       */
+      public int getDataRefIdxsCount() {
+        return dataRefIdxs_.size();
+      }
+      /**
+       * <pre>
+       * save on which data_ref
+       * </pre>
+       *
+       * <code>repeated int32 data_ref_idxs = 2;</code>
+       * @param index The index of the element to return.
+       * @return The dataRefIdxs at the given index.
+       */
+      public int getDataRefIdxs(int index) {
+        return dataRefIdxs_.getInt(index);
+      }
+      private int dataRefIdxsMemoizedSerializedSize = -1;
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(type_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, type_);
+        }
+        if (getDataRefIdxsList().size() > 0) {
+          output.writeUInt32NoTag(18);
+          output.writeUInt32NoTag(dataRefIdxsMemoizedSerializedSize);
+        }
+        for (int i = 0; i < dataRefIdxs_.size(); i++) {
+          output.writeInt32NoTag(dataRefIdxs_.getInt(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(type_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, type_);
+        }
+        {
+          int dataSize = 0;
+          for (int i = 0; i < dataRefIdxs_.size(); i++) {
+            dataSize += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataRefIdxs_.getInt(i));
+          }
+          size += dataSize;
+          if (!getDataRefIdxsList().isEmpty()) {
+            size += 1;
+            size += com.google.protobuf.CodedOutputStream
+                .computeInt32SizeNoTag(dataSize);
+          }
+          dataRefIdxsMemoizedSerializedSize = dataSize;
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject)) {
+          return super.equals(obj);
+        }
+        org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject other = (org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject) obj;
+
+        if (!getType()
+            .equals(other.getType())) return false;
+        if (!getDataRefIdxsList()
+            .equals(other.getDataRefIdxsList())) return false;
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + TYPE_FIELD_NUMBER;
+        hash = (53 * hash) + getType().hashCode();
+        if (getDataRefIdxsCount() > 0) {
+          hash = (37 * hash) + DATA_REF_IDXS_FIELD_NUMBER;
+          hash = (53 * hash) + getDataRefIdxsList().hashCode();
+        }
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code secretflow.component.DeviceObjectCollection.DeviceObject}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:secretflow.component.DeviceObjectCollection.DeviceObject)
+          org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObjectOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.secretflow.proto.component.Data.internal_static_secretflow_component_DeviceObjectCollection_DeviceObject_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.secretflow.proto.component.Data.internal_static_secretflow_component_DeviceObjectCollection_DeviceObject_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject.class, org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject.Builder.class);
+        }
+
+        // Construct using org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          type_ = "";
+          dataRefIdxs_ = emptyIntList();
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.secretflow.proto.component.Data.internal_static_secretflow_component_DeviceObjectCollection_DeviceObject_descriptor;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject getDefaultInstanceForType() {
+          return org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject build() {
+          org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject buildPartial() {
+          org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject result = new org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject(this);
+          buildPartialRepeatedFields(result);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartialRepeatedFields(org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject result) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            dataRefIdxs_.makeImmutable();
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.dataRefIdxs_ = dataRefIdxs_;
+        }
+
+        private void buildPartial0(org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.type_ = type_;
+          }
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject) {
+            return mergeFrom((org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject other) {
+          if (other == org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject.getDefaultInstance()) return this;
+          if (!other.getType().isEmpty()) {
+            type_ = other.type_;
+            bitField0_ |= 0x00000001;
+            onChanged();
+          }
+          if (!other.dataRefIdxs_.isEmpty()) {
+            if (dataRefIdxs_.isEmpty()) {
+              dataRefIdxs_ = other.dataRefIdxs_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureDataRefIdxsIsMutable();
+              dataRefIdxs_.addAll(other.dataRefIdxs_);
+            }
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 10: {
+                  type_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 10
+                case 16: {
+                  int v = input.readInt32();
+                  ensureDataRefIdxsIsMutable();
+                  dataRefIdxs_.addInt(v);
+                  break;
+                } // case 16
+                case 18: {
+                  int length = input.readRawVarint32();
+                  int limit = input.pushLimit(length);
+                  ensureDataRefIdxsIsMutable();
+                  while (input.getBytesUntilLimit() > 0) {
+                    dataRefIdxs_.addInt(input.readInt32());
+                  }
+                  input.popLimit(limit);
+                  break;
+                } // case 18
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object type_ = "";
+        /**
+         * <pre>
+         * spu / pyu
+         * </pre>
+         *
+         * <code>string type = 1;</code>
+         * @return The type.
+         */
+        public java.lang.String getType() {
+          java.lang.Object ref = type_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            type_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <pre>
+         * spu / pyu
+         * </pre>
+         *
+         * <code>string type = 1;</code>
+         * @return The bytes for type.
+         */
+        public com.google.protobuf.ByteString
+            getTypeBytes() {
+          java.lang.Object ref = type_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            type_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <pre>
+         * spu / pyu
+         * </pre>
+         *
+         * <code>string type = 1;</code>
+         * @param value The type to set.
+         * @return This builder for chaining.
+         */
+        public Builder setType(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          type_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * spu / pyu
+         * </pre>
+         *
+         * <code>string type = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearType() {
+          type_ = getDefaultInstance().getType();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * spu / pyu
+         * </pre>
+         *
+         * <code>string type = 1;</code>
+         * @param value The bytes for type to set.
+         * @return This builder for chaining.
+         */
+        public Builder setTypeBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          type_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+
+        private com.google.protobuf.Internal.IntList dataRefIdxs_ = emptyIntList();
+        private void ensureDataRefIdxsIsMutable() {
+          if (!((bitField0_ & 0x00000002) != 0)) {
+            dataRefIdxs_ = mutableCopy(dataRefIdxs_);
+            bitField0_ |= 0x00000002;
+          }
+        }
+        /**
+         * <pre>
+         * save on which data_ref
+         * </pre>
+         *
+         * <code>repeated int32 data_ref_idxs = 2;</code>
+         * @return A list containing the dataRefIdxs.
+         */
+        public java.util.List<java.lang.Integer>
+            getDataRefIdxsList() {
+          return ((bitField0_ & 0x00000002) != 0) ?
+                   java.util.Collections.unmodifiableList(dataRefIdxs_) : dataRefIdxs_;
+        }
+        /**
+         * <pre>
+         * save on which data_ref
+         * </pre>
+         *
+         * <code>repeated int32 data_ref_idxs = 2;</code>
+         * @return The count of dataRefIdxs.
+         */
+        public int getDataRefIdxsCount() {
+          return dataRefIdxs_.size();
+        }
+        /**
+         * <pre>
+         * save on which data_ref
+         * </pre>
+         *
+         * <code>repeated int32 data_ref_idxs = 2;</code>
+         * @param index The index of the element to return.
+         * @return The dataRefIdxs at the given index.
+         */
+        public int getDataRefIdxs(int index) {
+          return dataRefIdxs_.getInt(index);
+        }
+        /**
+         * <pre>
+         * save on which data_ref
+         * </pre>
+         *
+         * <code>repeated int32 data_ref_idxs = 2;</code>
+         * @param index The index to set the value at.
+         * @param value The dataRefIdxs to set.
+         * @return This builder for chaining.
+         */
+        public Builder setDataRefIdxs(
+            int index, int value) {
+
+          ensureDataRefIdxsIsMutable();
+          dataRefIdxs_.setInt(index, value);
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * save on which data_ref
+         * </pre>
+         *
+         * <code>repeated int32 data_ref_idxs = 2;</code>
+         * @param value The dataRefIdxs to add.
+         * @return This builder for chaining.
+         */
+        public Builder addDataRefIdxs(int value) {
+
+          ensureDataRefIdxsIsMutable();
+          dataRefIdxs_.addInt(value);
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * save on which data_ref
+         * </pre>
+         *
+         * <code>repeated int32 data_ref_idxs = 2;</code>
+         * @param values The dataRefIdxs to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAllDataRefIdxs(
+            java.lang.Iterable<? extends java.lang.Integer> values) {
+          ensureDataRefIdxsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, dataRefIdxs_);
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * save on which data_ref
+         * </pre>
+         *
+         * <code>repeated int32 data_ref_idxs = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearDataRefIdxs() {
+          dataRefIdxs_ = emptyIntList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+          return this;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:secretflow.component.DeviceObjectCollection.DeviceObject)
+      }
+
+      // @@protoc_insertion_point(class_scope:secretflow.component.DeviceObjectCollection.DeviceObject)
+      private static final org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject();
+      }
+
+      public static org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<DeviceObject>
+          PARSER = new com.google.protobuf.AbstractParser<DeviceObject>() {
+        @java.lang.Override
+        public DeviceObject parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<DeviceObject> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<DeviceObject> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public static final int OBJS_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject> objs_;
+    /**
+     * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject> getObjsList() {
+      return objs_;
+    }
+    /**
+     * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObjectOrBuilder> 
+        getObjsOrBuilderList() {
+      return objs_;
+    }
+    /**
+     * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+     */
+    @java.lang.Override
+    public int getObjsCount() {
+      return objs_.size();
+    }
+    /**
+     * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject getObjs(int index) {
+      return objs_.get(index);
+    }
+    /**
+     * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObjectOrBuilder getObjsOrBuilder(
+        int index) {
+      return objs_.get(index);
+    }
+
+    public static final int PUBLIC_INFO_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object publicInfo_ = "";
+    /**
+     * <code>string public_info = 2;</code>
+     * @return The publicInfo.
+     */
+    @java.lang.Override
+    public java.lang.String getPublicInfo() {
+      java.lang.Object ref = publicInfo_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        publicInfo_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string public_info = 2;</code>
+     * @return The bytes for publicInfo.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPublicInfoBytes() {
+      java.lang.Object ref = publicInfo_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        publicInfo_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < objs_.size(); i++) {
+        output.writeMessage(1, objs_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(publicInfo_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, publicInfo_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < objs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, objs_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(publicInfo_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, publicInfo_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.component.Data.DeviceObjectCollection)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.component.Data.DeviceObjectCollection other = (org.secretflow.proto.component.Data.DeviceObjectCollection) obj;
+
+      if (!getObjsList()
+          .equals(other.getObjsList())) return false;
+      if (!getPublicInfo()
+          .equals(other.getPublicInfo())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getObjsCount() > 0) {
+        hash = (37 * hash) + OBJS_FIELD_NUMBER;
+        hash = (53 * hash) + getObjsList().hashCode();
+      }
+      hash = (37 * hash) + PUBLIC_INFO_FIELD_NUMBER;
+      hash = (53 * hash) + getPublicInfo().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.component.Data.DeviceObjectCollection parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Data.DeviceObjectCollection parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.DeviceObjectCollection parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Data.DeviceObjectCollection parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.DeviceObjectCollection parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Data.DeviceObjectCollection parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.DeviceObjectCollection parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Data.DeviceObjectCollection parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.DeviceObjectCollection parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Data.DeviceObjectCollection parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.DeviceObjectCollection parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Data.DeviceObjectCollection parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.component.Data.DeviceObjectCollection prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code secretflow.component.DeviceObjectCollection}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.component.DeviceObjectCollection)
+        org.secretflow.proto.component.Data.DeviceObjectCollectionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_DeviceObjectCollection_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_DeviceObjectCollection_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Data.DeviceObjectCollection.class, org.secretflow.proto.component.Data.DeviceObjectCollection.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.component.Data.DeviceObjectCollection.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        if (objsBuilder_ == null) {
+          objs_ = java.util.Collections.emptyList();
+        } else {
+          objs_ = null;
+          objsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        publicInfo_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_DeviceObjectCollection_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Data.DeviceObjectCollection getDefaultInstanceForType() {
+        return org.secretflow.proto.component.Data.DeviceObjectCollection.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Data.DeviceObjectCollection build() {
+        org.secretflow.proto.component.Data.DeviceObjectCollection result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Data.DeviceObjectCollection buildPartial() {
+        org.secretflow.proto.component.Data.DeviceObjectCollection result = new org.secretflow.proto.component.Data.DeviceObjectCollection(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.proto.component.Data.DeviceObjectCollection result) {
+        if (objsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            objs_ = java.util.Collections.unmodifiableList(objs_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.objs_ = objs_;
+        } else {
+          result.objs_ = objsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.proto.component.Data.DeviceObjectCollection result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.publicInfo_ = publicInfo_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.component.Data.DeviceObjectCollection) {
+          return mergeFrom((org.secretflow.proto.component.Data.DeviceObjectCollection)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.component.Data.DeviceObjectCollection other) {
+        if (other == org.secretflow.proto.component.Data.DeviceObjectCollection.getDefaultInstance()) return this;
+        if (objsBuilder_ == null) {
+          if (!other.objs_.isEmpty()) {
+            if (objs_.isEmpty()) {
+              objs_ = other.objs_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureObjsIsMutable();
+              objs_.addAll(other.objs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.objs_.isEmpty()) {
+            if (objsBuilder_.isEmpty()) {
+              objsBuilder_.dispose();
+              objsBuilder_ = null;
+              objs_ = other.objs_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              objsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getObjsFieldBuilder() : null;
+            } else {
+              objsBuilder_.addAllMessages(other.objs_);
+            }
+          }
+        }
+        if (!other.getPublicInfo().isEmpty()) {
+          publicInfo_ = other.publicInfo_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject m =
+                    input.readMessage(
+                        org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject.parser(),
+                        extensionRegistry);
+                if (objsBuilder_ == null) {
+                  ensureObjsIsMutable();
+                  objs_.add(m);
+                } else {
+                  objsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              case 18: {
+                publicInfo_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject> objs_ =
+        java.util.Collections.emptyList();
+      private void ensureObjsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          objs_ = new java.util.ArrayList<org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject>(objs_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject, org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject.Builder, org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObjectOrBuilder> objsBuilder_;
+
+      /**
+       * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject> getObjsList() {
+        if (objsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(objs_);
+        } else {
+          return objsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+       */
+      public int getObjsCount() {
+        if (objsBuilder_ == null) {
+          return objs_.size();
+        } else {
+          return objsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+       */
+      public org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject getObjs(int index) {
+        if (objsBuilder_ == null) {
+          return objs_.get(index);
+        } else {
+          return objsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+       */
+      public Builder setObjs(
+          int index, org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject value) {
+        if (objsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureObjsIsMutable();
+          objs_.set(index, value);
+          onChanged();
+        } else {
+          objsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+       */
+      public Builder setObjs(
+          int index, org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject.Builder builderForValue) {
+        if (objsBuilder_ == null) {
+          ensureObjsIsMutable();
+          objs_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          objsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+       */
+      public Builder addObjs(org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject value) {
+        if (objsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureObjsIsMutable();
+          objs_.add(value);
+          onChanged();
+        } else {
+          objsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+       */
+      public Builder addObjs(
+          int index, org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject value) {
+        if (objsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureObjsIsMutable();
+          objs_.add(index, value);
+          onChanged();
+        } else {
+          objsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+       */
+      public Builder addObjs(
+          org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject.Builder builderForValue) {
+        if (objsBuilder_ == null) {
+          ensureObjsIsMutable();
+          objs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          objsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+       */
+      public Builder addObjs(
+          int index, org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject.Builder builderForValue) {
+        if (objsBuilder_ == null) {
+          ensureObjsIsMutable();
+          objs_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          objsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+       */
+      public Builder addAllObjs(
+          java.lang.Iterable<? extends org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject> values) {
+        if (objsBuilder_ == null) {
+          ensureObjsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, objs_);
+          onChanged();
+        } else {
+          objsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+       */
+      public Builder clearObjs() {
+        if (objsBuilder_ == null) {
+          objs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          objsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+       */
+      public Builder removeObjs(int index) {
+        if (objsBuilder_ == null) {
+          ensureObjsIsMutable();
+          objs_.remove(index);
+          onChanged();
+        } else {
+          objsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+       */
+      public org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject.Builder getObjsBuilder(
+          int index) {
+        return getObjsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+       */
+      public org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObjectOrBuilder getObjsOrBuilder(
+          int index) {
+        if (objsBuilder_ == null) {
+          return objs_.get(index);  } else {
+          return objsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObjectOrBuilder> 
+           getObjsOrBuilderList() {
+        if (objsBuilder_ != null) {
+          return objsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(objs_);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+       */
+      public org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject.Builder addObjsBuilder() {
+        return getObjsFieldBuilder().addBuilder(
+            org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+       */
+      public org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject.Builder addObjsBuilder(
+          int index) {
+        return getObjsFieldBuilder().addBuilder(
+            index, org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.DeviceObjectCollection.DeviceObject objs = 1;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject.Builder> 
+           getObjsBuilderList() {
+        return getObjsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject, org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject.Builder, org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObjectOrBuilder> 
+          getObjsFieldBuilder() {
+        if (objsBuilder_ == null) {
+          objsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject, org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObject.Builder, org.secretflow.proto.component.Data.DeviceObjectCollection.DeviceObjectOrBuilder>(
+                  objs_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          objs_ = null;
+        }
+        return objsBuilder_;
+      }
+
+      private java.lang.Object publicInfo_ = "";
+      /**
+       * <code>string public_info = 2;</code>
+       * @return The publicInfo.
+       */
+      public java.lang.String getPublicInfo() {
+        java.lang.Object ref = publicInfo_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          publicInfo_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string public_info = 2;</code>
+       * @return The bytes for publicInfo.
+       */
+      public com.google.protobuf.ByteString
+          getPublicInfoBytes() {
+        java.lang.Object ref = publicInfo_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          publicInfo_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string public_info = 2;</code>
+       * @param value The publicInfo to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPublicInfo(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        publicInfo_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string public_info = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPublicInfo() {
+        publicInfo_ = getDefaultInstance().getPublicInfo();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string public_info = 2;</code>
+       * @param value The bytes for publicInfo to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPublicInfoBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        publicInfo_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.component.DeviceObjectCollection)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.component.DeviceObjectCollection)
+    private static final org.secretflow.proto.component.Data.DeviceObjectCollection DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.component.Data.DeviceObjectCollection();
+    }
+
+    public static org.secretflow.proto.component.Data.DeviceObjectCollection getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DeviceObjectCollection>
+        PARSER = new com.google.protobuf.AbstractParser<DeviceObjectCollection>() {
+      @java.lang.Override
+      public DeviceObjectCollection parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeviceObjectCollection> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeviceObjectCollection> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.DeviceObjectCollection getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DistDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.component.DistData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * The name of this distributed data.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <pre>
+     * The name of this distributed data.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <pre>
+     * The type of this distributed data, should be meanful to components.
+     * The concreate data format (include public and private part) is defined by
+     * other protos.
+     *
+     * Suggested names, i.e.
+     * - sf.table.vertical_table      represent a secretflow vertical table
+     * - sf.model.*                   represent a secretflow models.
+     * - sf.rule.*                    represent a secretflow rules.
+     * </pre>
+     *
+     * <code>string type = 2;</code>
+     * @return The type.
+     */
+    java.lang.String getType();
+    /**
+     * <pre>
+     * The type of this distributed data, should be meanful to components.
+     * The concreate data format (include public and private part) is defined by
+     * other protos.
+     *
+     * Suggested names, i.e.
+     * - sf.table.vertical_table      represent a secretflow vertical table
+     * - sf.model.*                   represent a secretflow models.
+     * - sf.rule.*                    represent a secretflow rules.
+     * </pre>
+     *
+     * <code>string type = 2;</code>
+     * @return The bytes for type.
+     */
+    com.google.protobuf.ByteString
+        getTypeBytes();
+
+    /**
+     * <pre>
+     * Describe the system information that used to generate this distributed
+     * data.
+     * </pre>
+     *
+     * <code>.secretflow.component.SystemInfo sys_info = 3;</code>
+     * @return Whether the sysInfo field is set.
+     */
+    boolean hasSysInfo();
+    /**
+     * <pre>
+     * Describe the system information that used to generate this distributed
+     * data.
+     * </pre>
+     *
+     * <code>.secretflow.component.SystemInfo sys_info = 3;</code>
+     * @return The sysInfo.
+     */
+    org.secretflow.proto.component.Data.SystemInfo getSysInfo();
+    /**
+     * <pre>
+     * Describe the system information that used to generate this distributed
+     * data.
+     * </pre>
+     *
+     * <code>.secretflow.component.SystemInfo sys_info = 3;</code>
+     */
+    org.secretflow.proto.component.Data.SystemInfoOrBuilder getSysInfoOrBuilder();
+
+    /**
+     * <pre>
+     * Public information, known to all parties.
+     * i.e. secretflow.protos.VerticalTable
+     * </pre>
+     *
+     * <code>.google.protobuf.Any meta = 4;</code>
+     * @return Whether the meta field is set.
+     */
+    boolean hasMeta();
+    /**
+     * <pre>
+     * Public information, known to all parties.
+     * i.e. secretflow.protos.VerticalTable
+     * </pre>
+     *
+     * <code>.google.protobuf.Any meta = 4;</code>
+     * @return The meta.
+     */
+    com.google.protobuf.Any getMeta();
+    /**
+     * <pre>
+     * Public information, known to all parties.
+     * i.e. secretflow.protos.VerticalTable
+     * </pre>
+     *
+     * <code>.google.protobuf.Any meta = 4;</code>
+     */
+    com.google.protobuf.AnyOrBuilder getMetaOrBuilder();
+
+    /**
+     * <pre>
+     * Remote data references.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+     */
+    java.util.List<org.secretflow.proto.component.Data.DistData.DataRef> 
+        getDataRefsList();
+    /**
+     * <pre>
+     * Remote data references.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+     */
+    org.secretflow.proto.component.Data.DistData.DataRef getDataRefs(int index);
+    /**
+     * <pre>
+     * Remote data references.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+     */
+    int getDataRefsCount();
+    /**
+     * <pre>
+     * Remote data references.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.component.Data.DistData.DataRefOrBuilder> 
+        getDataRefsOrBuilderList();
+    /**
+     * <pre>
+     * Remote data references.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+     */
+    org.secretflow.proto.component.Data.DistData.DataRefOrBuilder getDataRefsOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * A public record for any distributed data stucture.
+   * </pre>
+   *
+   * Protobuf type {@code secretflow.component.DistData}
+   */
+  public static final class DistData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.component.DistData)
+      DistDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DistData.newBuilder() to construct.
+    private DistData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DistData() {
+      name_ = "";
+      type_ = "";
+      dataRefs_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DistData();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.Data.internal_static_secretflow_component_DistData_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.component.Data.internal_static_secretflow_component_DistData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.component.Data.DistData.class, org.secretflow.proto.component.Data.DistData.Builder.class);
+    }
+
+    public interface DataRefOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:secretflow.component.DistData.DataRef)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <pre>
+       * The path infomation.
+       * </pre>
+       *
+       * <code>string uri = 1;</code>
+       * @return The uri.
+       */
+      java.lang.String getUri();
+      /**
+       * <pre>
+       * The path infomation.
+       * </pre>
+       *
+       * <code>string uri = 1;</code>
+       * @return The bytes for uri.
+       */
+      com.google.protobuf.ByteString
+          getUriBytes();
+
+      /**
+       * <pre>
+       * The party's id or ownership.
+       * </pre>
+       *
+       * <code>string party = 2;</code>
+       * @return The party.
+       */
+      java.lang.String getParty();
+      /**
+       * <pre>
+       * The party's id or ownership.
+       * </pre>
+       *
+       * <code>string party = 2;</code>
+       * @return The bytes for party.
+       */
+      com.google.protobuf.ByteString
+          getPartyBytes();
+
+      /**
+       * <pre>
+       * the storage format, i.e. csv.
+       * </pre>
+       *
+       * <code>string format = 3;</code>
+       * @return The format.
+       */
+      java.lang.String getFormat();
+      /**
+       * <pre>
+       * the storage format, i.e. csv.
+       * </pre>
+       *
+       * <code>string format = 3;</code>
+       * @return The bytes for format.
+       */
+      com.google.protobuf.ByteString
+          getFormatBytes();
+    }
+    /**
+     * <pre>
+     * A reference to a data that is stored in the remote path.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.DistData.DataRef}
+     */
+    public static final class DataRef extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:secretflow.component.DistData.DataRef)
+        DataRefOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use DataRef.newBuilder() to construct.
+      private DataRef(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private DataRef() {
+        uri_ = "";
+        party_ = "";
+        format_ = "";
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new DataRef();
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_DistData_DataRef_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_DistData_DataRef_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Data.DistData.DataRef.class, org.secretflow.proto.component.Data.DistData.DataRef.Builder.class);
+      }
+
+      public static final int URI_FIELD_NUMBER = 1;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object uri_ = "";
+      /**
+       * <pre>
+       * The path infomation.
+       * </pre>
+       *
+       * <code>string uri = 1;</code>
+       * @return The uri.
+       */
+      @java.lang.Override
+      public java.lang.String getUri() {
+        java.lang.Object ref = uri_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          uri_ = s;
+          return s;
+        }
+      }
+      /**
+       * <pre>
+       * The path infomation.
+       * </pre>
+       *
+       * <code>string uri = 1;</code>
+       * @return The bytes for uri.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getUriBytes() {
+        java.lang.Object ref = uri_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          uri_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int PARTY_FIELD_NUMBER = 2;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object party_ = "";
+      /**
+       * <pre>
+       * The party's id or ownership.
+       * </pre>
+       *
+       * <code>string party = 2;</code>
+       * @return The party.
+       */
+      @java.lang.Override
+      public java.lang.String getParty() {
+        java.lang.Object ref = party_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          party_ = s;
+          return s;
+        }
+      }
+      /**
+       * <pre>
+       * The party's id or ownership.
+       * </pre>
+       *
+       * <code>string party = 2;</code>
+       * @return The bytes for party.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getPartyBytes() {
+        java.lang.Object ref = party_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          party_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int FORMAT_FIELD_NUMBER = 3;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object format_ = "";
+      /**
+       * <pre>
+       * the storage format, i.e. csv.
+       * </pre>
+       *
+       * <code>string format = 3;</code>
+       * @return The format.
+       */
+      @java.lang.Override
+      public java.lang.String getFormat() {
+        java.lang.Object ref = format_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          format_ = s;
+          return s;
+        }
+      }
+      /**
+       * <pre>
+       * the storage format, i.e. csv.
+       * </pre>
+       *
+       * <code>string format = 3;</code>
+       * @return The bytes for format.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getFormatBytes() {
+        java.lang.Object ref = format_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          format_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(uri_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, uri_);
+        }
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(party_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 2, party_);
+        }
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(format_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 3, format_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(uri_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, uri_);
+        }
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(party_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, party_);
+        }
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(format_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, format_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.secretflow.proto.component.Data.DistData.DataRef)) {
+          return super.equals(obj);
+        }
+        org.secretflow.proto.component.Data.DistData.DataRef other = (org.secretflow.proto.component.Data.DistData.DataRef) obj;
+
+        if (!getUri()
+            .equals(other.getUri())) return false;
+        if (!getParty()
+            .equals(other.getParty())) return false;
+        if (!getFormat()
+            .equals(other.getFormat())) return false;
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + URI_FIELD_NUMBER;
+        hash = (53 * hash) + getUri().hashCode();
+        hash = (37 * hash) + PARTY_FIELD_NUMBER;
+        hash = (53 * hash) + getParty().hashCode();
+        hash = (37 * hash) + FORMAT_FIELD_NUMBER;
+        hash = (53 * hash) + getFormat().hashCode();
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.secretflow.proto.component.Data.DistData.DataRef parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Data.DistData.DataRef parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Data.DistData.DataRef parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Data.DistData.DataRef parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Data.DistData.DataRef parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.Data.DistData.DataRef parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Data.DistData.DataRef parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Data.DistData.DataRef parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Data.DistData.DataRef parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Data.DistData.DataRef parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.Data.DistData.DataRef parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.Data.DistData.DataRef parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.secretflow.proto.component.Data.DistData.DataRef prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * <pre>
+       * A reference to a data that is stored in the remote path.
+       * </pre>
+       *
+       * Protobuf type {@code secretflow.component.DistData.DataRef}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:secretflow.component.DistData.DataRef)
+          org.secretflow.proto.component.Data.DistData.DataRefOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.secretflow.proto.component.Data.internal_static_secretflow_component_DistData_DataRef_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.secretflow.proto.component.Data.internal_static_secretflow_component_DistData_DataRef_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.secretflow.proto.component.Data.DistData.DataRef.class, org.secretflow.proto.component.Data.DistData.DataRef.Builder.class);
+        }
+
+        // Construct using org.secretflow.proto.component.Data.DistData.DataRef.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          uri_ = "";
+          party_ = "";
+          format_ = "";
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.secretflow.proto.component.Data.internal_static_secretflow_component_DistData_DataRef_descriptor;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Data.DistData.DataRef getDefaultInstanceForType() {
+          return org.secretflow.proto.component.Data.DistData.DataRef.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Data.DistData.DataRef build() {
+          org.secretflow.proto.component.Data.DistData.DataRef result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.Data.DistData.DataRef buildPartial() {
+          org.secretflow.proto.component.Data.DistData.DataRef result = new org.secretflow.proto.component.Data.DistData.DataRef(this);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartial0(org.secretflow.proto.component.Data.DistData.DataRef result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.uri_ = uri_;
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.party_ = party_;
+          }
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            result.format_ = format_;
+          }
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.secretflow.proto.component.Data.DistData.DataRef) {
+            return mergeFrom((org.secretflow.proto.component.Data.DistData.DataRef)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.secretflow.proto.component.Data.DistData.DataRef other) {
+          if (other == org.secretflow.proto.component.Data.DistData.DataRef.getDefaultInstance()) return this;
+          if (!other.getUri().isEmpty()) {
+            uri_ = other.uri_;
+            bitField0_ |= 0x00000001;
+            onChanged();
+          }
+          if (!other.getParty().isEmpty()) {
+            party_ = other.party_;
+            bitField0_ |= 0x00000002;
+            onChanged();
+          }
+          if (!other.getFormat().isEmpty()) {
+            format_ = other.format_;
+            bitField0_ |= 0x00000004;
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 10: {
+                  uri_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 10
+                case 18: {
+                  party_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000002;
+                  break;
+                } // case 18
+                case 26: {
+                  format_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000004;
+                  break;
+                } // case 26
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object uri_ = "";
+        /**
+         * <pre>
+         * The path infomation.
+         * </pre>
+         *
+         * <code>string uri = 1;</code>
+         * @return The uri.
+         */
+        public java.lang.String getUri() {
+          java.lang.Object ref = uri_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            uri_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <pre>
+         * The path infomation.
+         * </pre>
+         *
+         * <code>string uri = 1;</code>
+         * @return The bytes for uri.
+         */
+        public com.google.protobuf.ByteString
+            getUriBytes() {
+          java.lang.Object ref = uri_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            uri_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <pre>
+         * The path infomation.
+         * </pre>
+         *
+         * <code>string uri = 1;</code>
+         * @param value The uri to set.
+         * @return This builder for chaining.
+         */
+        public Builder setUri(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          uri_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * The path infomation.
+         * </pre>
+         *
+         * <code>string uri = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearUri() {
+          uri_ = getDefaultInstance().getUri();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * The path infomation.
+         * </pre>
+         *
+         * <code>string uri = 1;</code>
+         * @param value The bytes for uri to set.
+         * @return This builder for chaining.
+         */
+        public Builder setUriBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          uri_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object party_ = "";
+        /**
+         * <pre>
+         * The party's id or ownership.
+         * </pre>
+         *
+         * <code>string party = 2;</code>
+         * @return The party.
+         */
+        public java.lang.String getParty() {
+          java.lang.Object ref = party_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            party_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <pre>
+         * The party's id or ownership.
+         * </pre>
+         *
+         * <code>string party = 2;</code>
+         * @return The bytes for party.
+         */
+        public com.google.protobuf.ByteString
+            getPartyBytes() {
+          java.lang.Object ref = party_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            party_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <pre>
+         * The party's id or ownership.
+         * </pre>
+         *
+         * <code>string party = 2;</code>
+         * @param value The party to set.
+         * @return This builder for chaining.
+         */
+        public Builder setParty(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          party_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * The party's id or ownership.
+         * </pre>
+         *
+         * <code>string party = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearParty() {
+          party_ = getDefaultInstance().getParty();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * The party's id or ownership.
+         * </pre>
+         *
+         * <code>string party = 2;</code>
+         * @param value The bytes for party to set.
+         * @return This builder for chaining.
+         */
+        public Builder setPartyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          party_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object format_ = "";
+        /**
+         * <pre>
+         * the storage format, i.e. csv.
+         * </pre>
+         *
+         * <code>string format = 3;</code>
+         * @return The format.
+         */
+        public java.lang.String getFormat() {
+          java.lang.Object ref = format_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            format_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <pre>
+         * the storage format, i.e. csv.
+         * </pre>
+         *
+         * <code>string format = 3;</code>
+         * @return The bytes for format.
+         */
+        public com.google.protobuf.ByteString
+            getFormatBytes() {
+          java.lang.Object ref = format_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            format_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <pre>
+         * the storage format, i.e. csv.
+         * </pre>
+         *
+         * <code>string format = 3;</code>
+         * @param value The format to set.
+         * @return This builder for chaining.
+         */
+        public Builder setFormat(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          format_ = value;
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * the storage format, i.e. csv.
+         * </pre>
+         *
+         * <code>string format = 3;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearFormat() {
+          format_ = getDefaultInstance().getFormat();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * the storage format, i.e. csv.
+         * </pre>
+         *
+         * <code>string format = 3;</code>
+         * @param value The bytes for format to set.
+         * @return This builder for chaining.
+         */
+        public Builder setFormatBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          format_ = value;
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:secretflow.component.DistData.DataRef)
+      }
+
+      // @@protoc_insertion_point(class_scope:secretflow.component.DistData.DataRef)
+      private static final org.secretflow.proto.component.Data.DistData.DataRef DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.secretflow.proto.component.Data.DistData.DataRef();
+      }
+
+      public static org.secretflow.proto.component.Data.DistData.DataRef getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<DataRef>
+          PARSER = new com.google.protobuf.AbstractParser<DataRef>() {
+        @java.lang.Override
+        public DataRef parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<DataRef> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<DataRef> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Data.DistData.DataRef getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <pre>
+     * The name of this distributed data.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The name of this distributed data.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object type_ = "";
+    /**
+     * <pre>
+     * The type of this distributed data, should be meanful to components.
+     * The concreate data format (include public and private part) is defined by
+     * other protos.
+     *
+     * Suggested names, i.e.
+     * - sf.table.vertical_table      represent a secretflow vertical table
+     * - sf.model.*                   represent a secretflow models.
+     * - sf.rule.*                    represent a secretflow rules.
+     * </pre>
+     *
+     * <code>string type = 2;</code>
+     * @return The type.
+     */
+    @java.lang.Override
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        type_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The type of this distributed data, should be meanful to components.
+     * The concreate data format (include public and private part) is defined by
+     * other protos.
+     *
+     * Suggested names, i.e.
+     * - sf.table.vertical_table      represent a secretflow vertical table
+     * - sf.model.*                   represent a secretflow models.
+     * - sf.rule.*                    represent a secretflow rules.
+     * </pre>
+     *
+     * <code>string type = 2;</code>
+     * @return The bytes for type.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTypeBytes() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        type_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SYS_INFO_FIELD_NUMBER = 3;
+    private org.secretflow.proto.component.Data.SystemInfo sysInfo_;
+    /**
+     * <pre>
+     * Describe the system information that used to generate this distributed
+     * data.
+     * </pre>
+     *
+     * <code>.secretflow.component.SystemInfo sys_info = 3;</code>
+     * @return Whether the sysInfo field is set.
+     */
+    @java.lang.Override
+    public boolean hasSysInfo() {
+      return sysInfo_ != null;
+    }
+    /**
+     * <pre>
+     * Describe the system information that used to generate this distributed
+     * data.
+     * </pre>
+     *
+     * <code>.secretflow.component.SystemInfo sys_info = 3;</code>
+     * @return The sysInfo.
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.SystemInfo getSysInfo() {
+      return sysInfo_ == null ? org.secretflow.proto.component.Data.SystemInfo.getDefaultInstance() : sysInfo_;
+    }
+    /**
+     * <pre>
+     * Describe the system information that used to generate this distributed
+     * data.
+     * </pre>
+     *
+     * <code>.secretflow.component.SystemInfo sys_info = 3;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.SystemInfoOrBuilder getSysInfoOrBuilder() {
+      return sysInfo_ == null ? org.secretflow.proto.component.Data.SystemInfo.getDefaultInstance() : sysInfo_;
+    }
+
+    public static final int META_FIELD_NUMBER = 4;
+    private com.google.protobuf.Any meta_;
+    /**
+     * <pre>
+     * Public information, known to all parties.
+     * i.e. secretflow.protos.VerticalTable
+     * </pre>
+     *
+     * <code>.google.protobuf.Any meta = 4;</code>
+     * @return Whether the meta field is set.
+     */
+    @java.lang.Override
+    public boolean hasMeta() {
+      return meta_ != null;
+    }
+    /**
+     * <pre>
+     * Public information, known to all parties.
+     * i.e. secretflow.protos.VerticalTable
+     * </pre>
+     *
+     * <code>.google.protobuf.Any meta = 4;</code>
+     * @return The meta.
+     */
+    @java.lang.Override
+    public com.google.protobuf.Any getMeta() {
+      return meta_ == null ? com.google.protobuf.Any.getDefaultInstance() : meta_;
+    }
+    /**
+     * <pre>
+     * Public information, known to all parties.
+     * i.e. secretflow.protos.VerticalTable
+     * </pre>
+     *
+     * <code>.google.protobuf.Any meta = 4;</code>
+     */
+    @java.lang.Override
+    public com.google.protobuf.AnyOrBuilder getMetaOrBuilder() {
+      return meta_ == null ? com.google.protobuf.Any.getDefaultInstance() : meta_;
+    }
+
+    public static final int DATA_REFS_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.component.Data.DistData.DataRef> dataRefs_;
+    /**
+     * <pre>
+     * Remote data references.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.component.Data.DistData.DataRef> getDataRefsList() {
+      return dataRefs_;
+    }
+    /**
+     * <pre>
+     * Remote data references.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.component.Data.DistData.DataRefOrBuilder> 
+        getDataRefsOrBuilderList() {
+      return dataRefs_;
+    }
+    /**
+     * <pre>
+     * Remote data references.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+     */
+    @java.lang.Override
+    public int getDataRefsCount() {
+      return dataRefs_.size();
+    }
+    /**
+     * <pre>
+     * Remote data references.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.DistData.DataRef getDataRefs(int index) {
+      return dataRefs_.get(index);
+    }
+    /**
+     * <pre>
+     * Remote data references.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.DistData.DataRefOrBuilder getDataRefsOrBuilder(
+        int index) {
+      return dataRefs_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(type_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, type_);
+      }
+      if (sysInfo_ != null) {
+        output.writeMessage(3, getSysInfo());
+      }
+      if (meta_ != null) {
+        output.writeMessage(4, getMeta());
+      }
+      for (int i = 0; i < dataRefs_.size(); i++) {
+        output.writeMessage(5, dataRefs_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(type_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, type_);
+      }
+      if (sysInfo_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getSysInfo());
+      }
+      if (meta_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getMeta());
+      }
+      for (int i = 0; i < dataRefs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, dataRefs_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.component.Data.DistData)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.component.Data.DistData other = (org.secretflow.proto.component.Data.DistData) obj;
+
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getType()
+          .equals(other.getType())) return false;
+      if (hasSysInfo() != other.hasSysInfo()) return false;
+      if (hasSysInfo()) {
+        if (!getSysInfo()
+            .equals(other.getSysInfo())) return false;
+      }
+      if (hasMeta() != other.hasMeta()) return false;
+      if (hasMeta()) {
+        if (!getMeta()
+            .equals(other.getMeta())) return false;
+      }
+      if (!getDataRefsList()
+          .equals(other.getDataRefsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getType().hashCode();
+      if (hasSysInfo()) {
+        hash = (37 * hash) + SYS_INFO_FIELD_NUMBER;
+        hash = (53 * hash) + getSysInfo().hashCode();
+      }
+      if (hasMeta()) {
+        hash = (37 * hash) + META_FIELD_NUMBER;
+        hash = (53 * hash) + getMeta().hashCode();
+      }
+      if (getDataRefsCount() > 0) {
+        hash = (37 * hash) + DATA_REFS_FIELD_NUMBER;
+        hash = (53 * hash) + getDataRefsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.component.Data.DistData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Data.DistData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.DistData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Data.DistData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.DistData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Data.DistData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.DistData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Data.DistData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.DistData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Data.DistData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Data.DistData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Data.DistData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.component.Data.DistData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * A public record for any distributed data stucture.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.DistData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.component.DistData)
+        org.secretflow.proto.component.Data.DistDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_DistData_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_DistData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Data.DistData.class, org.secretflow.proto.component.Data.DistData.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.component.Data.DistData.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        name_ = "";
+        type_ = "";
+        sysInfo_ = null;
+        if (sysInfoBuilder_ != null) {
+          sysInfoBuilder_.dispose();
+          sysInfoBuilder_ = null;
+        }
+        meta_ = null;
+        if (metaBuilder_ != null) {
+          metaBuilder_.dispose();
+          metaBuilder_ = null;
+        }
+        if (dataRefsBuilder_ == null) {
+          dataRefs_ = java.util.Collections.emptyList();
+        } else {
+          dataRefs_ = null;
+          dataRefsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.component.Data.internal_static_secretflow_component_DistData_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Data.DistData getDefaultInstanceForType() {
+        return org.secretflow.proto.component.Data.DistData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Data.DistData build() {
+        org.secretflow.proto.component.Data.DistData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Data.DistData buildPartial() {
+        org.secretflow.proto.component.Data.DistData result = new org.secretflow.proto.component.Data.DistData(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.proto.component.Data.DistData result) {
+        if (dataRefsBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) != 0)) {
+            dataRefs_ = java.util.Collections.unmodifiableList(dataRefs_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.dataRefs_ = dataRefs_;
+        } else {
+          result.dataRefs_ = dataRefsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.proto.component.Data.DistData result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.type_ = type_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.sysInfo_ = sysInfoBuilder_ == null
+              ? sysInfo_
+              : sysInfoBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.meta_ = metaBuilder_ == null
+              ? meta_
+              : metaBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.component.Data.DistData) {
+          return mergeFrom((org.secretflow.proto.component.Data.DistData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.component.Data.DistData other) {
+        if (other == org.secretflow.proto.component.Data.DistData.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getType().isEmpty()) {
+          type_ = other.type_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.hasSysInfo()) {
+          mergeSysInfo(other.getSysInfo());
+        }
+        if (other.hasMeta()) {
+          mergeMeta(other.getMeta());
+        }
+        if (dataRefsBuilder_ == null) {
+          if (!other.dataRefs_.isEmpty()) {
+            if (dataRefs_.isEmpty()) {
+              dataRefs_ = other.dataRefs_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureDataRefsIsMutable();
+              dataRefs_.addAll(other.dataRefs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.dataRefs_.isEmpty()) {
+            if (dataRefsBuilder_.isEmpty()) {
+              dataRefsBuilder_.dispose();
+              dataRefsBuilder_ = null;
+              dataRefs_ = other.dataRefs_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              dataRefsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getDataRefsFieldBuilder() : null;
+            } else {
+              dataRefsBuilder_.addAllMessages(other.dataRefs_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                type_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                input.readMessage(
+                    getSysInfoFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                input.readMessage(
+                    getMetaFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                org.secretflow.proto.component.Data.DistData.DataRef m =
+                    input.readMessage(
+                        org.secretflow.proto.component.Data.DistData.DataRef.parser(),
+                        extensionRegistry);
+                if (dataRefsBuilder_ == null) {
+                  ensureDataRefsIsMutable();
+                  dataRefs_.add(m);
+                } else {
+                  dataRefsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 42
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * The name of this distributed data.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The name of this distributed data.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The name of this distributed data.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The name of this distributed data.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The name of this distributed data.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object type_ = "";
+      /**
+       * <pre>
+       * The type of this distributed data, should be meanful to components.
+       * The concreate data format (include public and private part) is defined by
+       * other protos.
+       *
+       * Suggested names, i.e.
+       * - sf.table.vertical_table      represent a secretflow vertical table
+       * - sf.model.*                   represent a secretflow models.
+       * - sf.rule.*                    represent a secretflow rules.
+       * </pre>
+       *
+       * <code>string type = 2;</code>
+       * @return The type.
+       */
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          type_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The type of this distributed data, should be meanful to components.
+       * The concreate data format (include public and private part) is defined by
+       * other protos.
+       *
+       * Suggested names, i.e.
+       * - sf.table.vertical_table      represent a secretflow vertical table
+       * - sf.model.*                   represent a secretflow models.
+       * - sf.rule.*                    represent a secretflow rules.
+       * </pre>
+       *
+       * <code>string type = 2;</code>
+       * @return The bytes for type.
+       */
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The type of this distributed data, should be meanful to components.
+       * The concreate data format (include public and private part) is defined by
+       * other protos.
+       *
+       * Suggested names, i.e.
+       * - sf.table.vertical_table      represent a secretflow vertical table
+       * - sf.model.*                   represent a secretflow models.
+       * - sf.rule.*                    represent a secretflow rules.
+       * </pre>
+       *
+       * <code>string type = 2;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        type_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The type of this distributed data, should be meanful to components.
+       * The concreate data format (include public and private part) is defined by
+       * other protos.
+       *
+       * Suggested names, i.e.
+       * - sf.table.vertical_table      represent a secretflow vertical table
+       * - sf.model.*                   represent a secretflow models.
+       * - sf.rule.*                    represent a secretflow rules.
+       * </pre>
+       *
+       * <code>string type = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        type_ = getDefaultInstance().getType();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The type of this distributed data, should be meanful to components.
+       * The concreate data format (include public and private part) is defined by
+       * other protos.
+       *
+       * Suggested names, i.e.
+       * - sf.table.vertical_table      represent a secretflow vertical table
+       * - sf.model.*                   represent a secretflow models.
+       * - sf.rule.*                    represent a secretflow rules.
+       * </pre>
+       *
+       * <code>string type = 2;</code>
+       * @param value The bytes for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        type_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private org.secretflow.proto.component.Data.SystemInfo sysInfo_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.proto.component.Data.SystemInfo, org.secretflow.proto.component.Data.SystemInfo.Builder, org.secretflow.proto.component.Data.SystemInfoOrBuilder> sysInfoBuilder_;
+      /**
+       * <pre>
+       * Describe the system information that used to generate this distributed
+       * data.
+       * </pre>
+       *
+       * <code>.secretflow.component.SystemInfo sys_info = 3;</code>
+       * @return Whether the sysInfo field is set.
+       */
+      public boolean hasSysInfo() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <pre>
+       * Describe the system information that used to generate this distributed
+       * data.
+       * </pre>
+       *
+       * <code>.secretflow.component.SystemInfo sys_info = 3;</code>
+       * @return The sysInfo.
+       */
+      public org.secretflow.proto.component.Data.SystemInfo getSysInfo() {
+        if (sysInfoBuilder_ == null) {
+          return sysInfo_ == null ? org.secretflow.proto.component.Data.SystemInfo.getDefaultInstance() : sysInfo_;
+        } else {
+          return sysInfoBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * Describe the system information that used to generate this distributed
+       * data.
+       * </pre>
+       *
+       * <code>.secretflow.component.SystemInfo sys_info = 3;</code>
+       */
+      public Builder setSysInfo(org.secretflow.proto.component.Data.SystemInfo value) {
+        if (sysInfoBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          sysInfo_ = value;
+        } else {
+          sysInfoBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Describe the system information that used to generate this distributed
+       * data.
+       * </pre>
+       *
+       * <code>.secretflow.component.SystemInfo sys_info = 3;</code>
+       */
+      public Builder setSysInfo(
+          org.secretflow.proto.component.Data.SystemInfo.Builder builderForValue) {
+        if (sysInfoBuilder_ == null) {
+          sysInfo_ = builderForValue.build();
+        } else {
+          sysInfoBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Describe the system information that used to generate this distributed
+       * data.
+       * </pre>
+       *
+       * <code>.secretflow.component.SystemInfo sys_info = 3;</code>
+       */
+      public Builder mergeSysInfo(org.secretflow.proto.component.Data.SystemInfo value) {
+        if (sysInfoBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0) &&
+            sysInfo_ != null &&
+            sysInfo_ != org.secretflow.proto.component.Data.SystemInfo.getDefaultInstance()) {
+            getSysInfoBuilder().mergeFrom(value);
+          } else {
+            sysInfo_ = value;
+          }
+        } else {
+          sysInfoBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Describe the system information that used to generate this distributed
+       * data.
+       * </pre>
+       *
+       * <code>.secretflow.component.SystemInfo sys_info = 3;</code>
+       */
+      public Builder clearSysInfo() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        sysInfo_ = null;
+        if (sysInfoBuilder_ != null) {
+          sysInfoBuilder_.dispose();
+          sysInfoBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Describe the system information that used to generate this distributed
+       * data.
+       * </pre>
+       *
+       * <code>.secretflow.component.SystemInfo sys_info = 3;</code>
+       */
+      public org.secretflow.proto.component.Data.SystemInfo.Builder getSysInfoBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getSysInfoFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Describe the system information that used to generate this distributed
+       * data.
+       * </pre>
+       *
+       * <code>.secretflow.component.SystemInfo sys_info = 3;</code>
+       */
+      public org.secretflow.proto.component.Data.SystemInfoOrBuilder getSysInfoOrBuilder() {
+        if (sysInfoBuilder_ != null) {
+          return sysInfoBuilder_.getMessageOrBuilder();
+        } else {
+          return sysInfo_ == null ?
+              org.secretflow.proto.component.Data.SystemInfo.getDefaultInstance() : sysInfo_;
+        }
+      }
+      /**
+       * <pre>
+       * Describe the system information that used to generate this distributed
+       * data.
+       * </pre>
+       *
+       * <code>.secretflow.component.SystemInfo sys_info = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.proto.component.Data.SystemInfo, org.secretflow.proto.component.Data.SystemInfo.Builder, org.secretflow.proto.component.Data.SystemInfoOrBuilder> 
+          getSysInfoFieldBuilder() {
+        if (sysInfoBuilder_ == null) {
+          sysInfoBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.proto.component.Data.SystemInfo, org.secretflow.proto.component.Data.SystemInfo.Builder, org.secretflow.proto.component.Data.SystemInfoOrBuilder>(
+                  getSysInfo(),
+                  getParentForChildren(),
+                  isClean());
+          sysInfo_ = null;
+        }
+        return sysInfoBuilder_;
+      }
+
+      private com.google.protobuf.Any meta_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.Any, com.google.protobuf.Any.Builder, com.google.protobuf.AnyOrBuilder> metaBuilder_;
+      /**
+       * <pre>
+       * Public information, known to all parties.
+       * i.e. secretflow.protos.VerticalTable
+       * </pre>
+       *
+       * <code>.google.protobuf.Any meta = 4;</code>
+       * @return Whether the meta field is set.
+       */
+      public boolean hasMeta() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <pre>
+       * Public information, known to all parties.
+       * i.e. secretflow.protos.VerticalTable
+       * </pre>
+       *
+       * <code>.google.protobuf.Any meta = 4;</code>
+       * @return The meta.
+       */
+      public com.google.protobuf.Any getMeta() {
+        if (metaBuilder_ == null) {
+          return meta_ == null ? com.google.protobuf.Any.getDefaultInstance() : meta_;
+        } else {
+          return metaBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * Public information, known to all parties.
+       * i.e. secretflow.protos.VerticalTable
+       * </pre>
+       *
+       * <code>.google.protobuf.Any meta = 4;</code>
+       */
+      public Builder setMeta(com.google.protobuf.Any value) {
+        if (metaBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          meta_ = value;
+        } else {
+          metaBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Public information, known to all parties.
+       * i.e. secretflow.protos.VerticalTable
+       * </pre>
+       *
+       * <code>.google.protobuf.Any meta = 4;</code>
+       */
+      public Builder setMeta(
+          com.google.protobuf.Any.Builder builderForValue) {
+        if (metaBuilder_ == null) {
+          meta_ = builderForValue.build();
+        } else {
+          metaBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Public information, known to all parties.
+       * i.e. secretflow.protos.VerticalTable
+       * </pre>
+       *
+       * <code>.google.protobuf.Any meta = 4;</code>
+       */
+      public Builder mergeMeta(com.google.protobuf.Any value) {
+        if (metaBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0) &&
+            meta_ != null &&
+            meta_ != com.google.protobuf.Any.getDefaultInstance()) {
+            getMetaBuilder().mergeFrom(value);
+          } else {
+            meta_ = value;
+          }
+        } else {
+          metaBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Public information, known to all parties.
+       * i.e. secretflow.protos.VerticalTable
+       * </pre>
+       *
+       * <code>.google.protobuf.Any meta = 4;</code>
+       */
+      public Builder clearMeta() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        meta_ = null;
+        if (metaBuilder_ != null) {
+          metaBuilder_.dispose();
+          metaBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Public information, known to all parties.
+       * i.e. secretflow.protos.VerticalTable
+       * </pre>
+       *
+       * <code>.google.protobuf.Any meta = 4;</code>
+       */
+      public com.google.protobuf.Any.Builder getMetaBuilder() {
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return getMetaFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Public information, known to all parties.
+       * i.e. secretflow.protos.VerticalTable
+       * </pre>
+       *
+       * <code>.google.protobuf.Any meta = 4;</code>
+       */
+      public com.google.protobuf.AnyOrBuilder getMetaOrBuilder() {
+        if (metaBuilder_ != null) {
+          return metaBuilder_.getMessageOrBuilder();
+        } else {
+          return meta_ == null ?
+              com.google.protobuf.Any.getDefaultInstance() : meta_;
+        }
+      }
+      /**
+       * <pre>
+       * Public information, known to all parties.
+       * i.e. secretflow.protos.VerticalTable
+       * </pre>
+       *
+       * <code>.google.protobuf.Any meta = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.Any, com.google.protobuf.Any.Builder, com.google.protobuf.AnyOrBuilder> 
+          getMetaFieldBuilder() {
+        if (metaBuilder_ == null) {
+          metaBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.google.protobuf.Any, com.google.protobuf.Any.Builder, com.google.protobuf.AnyOrBuilder>(
+                  getMeta(),
+                  getParentForChildren(),
+                  isClean());
+          meta_ = null;
+        }
+        return metaBuilder_;
+      }
+
+      private java.util.List<org.secretflow.proto.component.Data.DistData.DataRef> dataRefs_ =
+        java.util.Collections.emptyList();
+      private void ensureDataRefsIsMutable() {
+        if (!((bitField0_ & 0x00000010) != 0)) {
+          dataRefs_ = new java.util.ArrayList<org.secretflow.proto.component.Data.DistData.DataRef>(dataRefs_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Data.DistData.DataRef, org.secretflow.proto.component.Data.DistData.DataRef.Builder, org.secretflow.proto.component.Data.DistData.DataRefOrBuilder> dataRefsBuilder_;
+
+      /**
+       * <pre>
+       * Remote data references.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Data.DistData.DataRef> getDataRefsList() {
+        if (dataRefsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(dataRefs_);
+        } else {
+          return dataRefsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Remote data references.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+       */
+      public int getDataRefsCount() {
+        if (dataRefsBuilder_ == null) {
+          return dataRefs_.size();
+        } else {
+          return dataRefsBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Remote data references.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+       */
+      public org.secretflow.proto.component.Data.DistData.DataRef getDataRefs(int index) {
+        if (dataRefsBuilder_ == null) {
+          return dataRefs_.get(index);
+        } else {
+          return dataRefsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Remote data references.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+       */
+      public Builder setDataRefs(
+          int index, org.secretflow.proto.component.Data.DistData.DataRef value) {
+        if (dataRefsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDataRefsIsMutable();
+          dataRefs_.set(index, value);
+          onChanged();
+        } else {
+          dataRefsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Remote data references.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+       */
+      public Builder setDataRefs(
+          int index, org.secretflow.proto.component.Data.DistData.DataRef.Builder builderForValue) {
+        if (dataRefsBuilder_ == null) {
+          ensureDataRefsIsMutable();
+          dataRefs_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          dataRefsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Remote data references.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+       */
+      public Builder addDataRefs(org.secretflow.proto.component.Data.DistData.DataRef value) {
+        if (dataRefsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDataRefsIsMutable();
+          dataRefs_.add(value);
+          onChanged();
+        } else {
+          dataRefsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Remote data references.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+       */
+      public Builder addDataRefs(
+          int index, org.secretflow.proto.component.Data.DistData.DataRef value) {
+        if (dataRefsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDataRefsIsMutable();
+          dataRefs_.add(index, value);
+          onChanged();
+        } else {
+          dataRefsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Remote data references.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+       */
+      public Builder addDataRefs(
+          org.secretflow.proto.component.Data.DistData.DataRef.Builder builderForValue) {
+        if (dataRefsBuilder_ == null) {
+          ensureDataRefsIsMutable();
+          dataRefs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          dataRefsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Remote data references.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+       */
+      public Builder addDataRefs(
+          int index, org.secretflow.proto.component.Data.DistData.DataRef.Builder builderForValue) {
+        if (dataRefsBuilder_ == null) {
+          ensureDataRefsIsMutable();
+          dataRefs_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          dataRefsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Remote data references.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+       */
+      public Builder addAllDataRefs(
+          java.lang.Iterable<? extends org.secretflow.proto.component.Data.DistData.DataRef> values) {
+        if (dataRefsBuilder_ == null) {
+          ensureDataRefsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, dataRefs_);
+          onChanged();
+        } else {
+          dataRefsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Remote data references.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+       */
+      public Builder clearDataRefs() {
+        if (dataRefsBuilder_ == null) {
+          dataRefs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          dataRefsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Remote data references.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+       */
+      public Builder removeDataRefs(int index) {
+        if (dataRefsBuilder_ == null) {
+          ensureDataRefsIsMutable();
+          dataRefs_.remove(index);
+          onChanged();
+        } else {
+          dataRefsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Remote data references.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+       */
+      public org.secretflow.proto.component.Data.DistData.DataRef.Builder getDataRefsBuilder(
+          int index) {
+        return getDataRefsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * Remote data references.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+       */
+      public org.secretflow.proto.component.Data.DistData.DataRefOrBuilder getDataRefsOrBuilder(
+          int index) {
+        if (dataRefsBuilder_ == null) {
+          return dataRefs_.get(index);  } else {
+          return dataRefsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * Remote data references.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.component.Data.DistData.DataRefOrBuilder> 
+           getDataRefsOrBuilderList() {
+        if (dataRefsBuilder_ != null) {
+          return dataRefsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(dataRefs_);
+        }
+      }
+      /**
+       * <pre>
+       * Remote data references.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+       */
+      public org.secretflow.proto.component.Data.DistData.DataRef.Builder addDataRefsBuilder() {
+        return getDataRefsFieldBuilder().addBuilder(
+            org.secretflow.proto.component.Data.DistData.DataRef.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Remote data references.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+       */
+      public org.secretflow.proto.component.Data.DistData.DataRef.Builder addDataRefsBuilder(
+          int index) {
+        return getDataRefsFieldBuilder().addBuilder(
+            index, org.secretflow.proto.component.Data.DistData.DataRef.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Remote data references.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData.DataRef data_refs = 5;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Data.DistData.DataRef.Builder> 
+           getDataRefsBuilderList() {
+        return getDataRefsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Data.DistData.DataRef, org.secretflow.proto.component.Data.DistData.DataRef.Builder, org.secretflow.proto.component.Data.DistData.DataRefOrBuilder> 
+          getDataRefsFieldBuilder() {
+        if (dataRefsBuilder_ == null) {
+          dataRefsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.component.Data.DistData.DataRef, org.secretflow.proto.component.Data.DistData.DataRef.Builder, org.secretflow.proto.component.Data.DistData.DataRefOrBuilder>(
+                  dataRefs_,
+                  ((bitField0_ & 0x00000010) != 0),
+                  getParentForChildren(),
+                  isClean());
+          dataRefs_ = null;
+        }
+        return dataRefsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.component.DistData)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.component.DistData)
+    private static final org.secretflow.proto.component.Data.DistData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.component.Data.DistData();
+    }
+
+    public static org.secretflow.proto.component.Data.DistData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DistData>
+        PARSER = new com.google.protobuf.AbstractParser<DistData>() {
+      @java.lang.Override
+      public DistData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DistData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DistData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.DistData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_SystemInfo_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_SystemInfo_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_TableSchema_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_TableSchema_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_VerticalTable_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_VerticalTable_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_IndividualTable_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_IndividualTable_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_DeviceObjectCollection_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_DeviceObjectCollection_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_DeviceObjectCollection_DeviceObject_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_DeviceObjectCollection_DeviceObject_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_DistData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_DistData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_DistData_DataRef_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_DistData_DataRef_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n&secretflow/protos/component/data.proto" +
+      "\022\024secretflow.component\032\031google/protobuf/" +
+      "any.proto\032)secretflow/protos/component/c" +
+      "luster.proto\"W\n\nSystemInfo\022\020\n\010app_name\030\001" +
+      " \001(\t\0227\n\nsecretflow\030\002 \001(\0132#.secretflow.co" +
+      "mponent.SFClusterDesc\"z\n\013TableSchema\022\013\n\003" +
+      "ids\030\001 \003(\t\022\020\n\010features\030\002 \003(\t\022\016\n\006labels\030\003 " +
+      "\003(\t\022\020\n\010id_types\030\004 \003(\t\022\025\n\rfeature_types\030\005" +
+      " \003(\t\022\023\n\013label_types\030\006 \003(\t\"V\n\rVerticalTab" +
+      "le\0222\n\007schemas\030\001 \003(\0132!.secretflow.compone" +
+      "nt.TableSchema\022\021\n\tnum_lines\030\002 \001(\003\"W\n\017Ind" +
+      "ividualTable\0221\n\006schema\030\001 \001(\0132!.secretflo" +
+      "w.component.TableSchema\022\021\n\tnum_lines\030\002 \001" +
+      "(\003\"\253\001\n\026DeviceObjectCollection\022G\n\004objs\030\001 " +
+      "\003(\01329.secretflow.component.DeviceObjectC" +
+      "ollection.DeviceObject\022\023\n\013public_info\030\002 " +
+      "\001(\t\0323\n\014DeviceObject\022\014\n\004type\030\001 \001(\t\022\025\n\rdat" +
+      "a_ref_idxs\030\002 \003(\005\"\360\001\n\010DistData\022\014\n\004name\030\001 " +
+      "\001(\t\022\014\n\004type\030\002 \001(\t\0222\n\010sys_info\030\003 \001(\0132 .se" +
+      "cretflow.component.SystemInfo\022\"\n\004meta\030\004 " +
+      "\001(\0132\024.google.protobuf.Any\0229\n\tdata_refs\030\005" +
+      " \003(\0132&.secretflow.component.DistData.Dat" +
+      "aRef\0325\n\007DataRef\022\013\n\003uri\030\001 \001(\t\022\r\n\005party\030\002 " +
+      "\001(\t\022\016\n\006format\030\003 \001(\tB \n\036org.secretflow.pr" +
+      "oto.componentb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.google.protobuf.AnyProto.getDescriptor(),
+          org.secretflow.proto.component.Cluster.getDescriptor(),
+        });
+    internal_static_secretflow_component_SystemInfo_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_secretflow_component_SystemInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_SystemInfo_descriptor,
+        new java.lang.String[] { "AppName", "Secretflow", });
+    internal_static_secretflow_component_TableSchema_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_secretflow_component_TableSchema_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_TableSchema_descriptor,
+        new java.lang.String[] { "Ids", "Features", "Labels", "IdTypes", "FeatureTypes", "LabelTypes", });
+    internal_static_secretflow_component_VerticalTable_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_secretflow_component_VerticalTable_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_VerticalTable_descriptor,
+        new java.lang.String[] { "Schemas", "NumLines", });
+    internal_static_secretflow_component_IndividualTable_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_secretflow_component_IndividualTable_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_IndividualTable_descriptor,
+        new java.lang.String[] { "Schema", "NumLines", });
+    internal_static_secretflow_component_DeviceObjectCollection_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_secretflow_component_DeviceObjectCollection_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_DeviceObjectCollection_descriptor,
+        new java.lang.String[] { "Objs", "PublicInfo", });
+    internal_static_secretflow_component_DeviceObjectCollection_DeviceObject_descriptor =
+      internal_static_secretflow_component_DeviceObjectCollection_descriptor.getNestedTypes().get(0);
+    internal_static_secretflow_component_DeviceObjectCollection_DeviceObject_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_DeviceObjectCollection_DeviceObject_descriptor,
+        new java.lang.String[] { "Type", "DataRefIdxs", });
+    internal_static_secretflow_component_DistData_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_secretflow_component_DistData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_DistData_descriptor,
+        new java.lang.String[] { "Name", "Type", "SysInfo", "Meta", "DataRefs", });
+    internal_static_secretflow_component_DistData_DataRef_descriptor =
+      internal_static_secretflow_component_DistData_descriptor.getNestedTypes().get(0);
+    internal_static_secretflow_component_DistData_DataRef_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_DistData_DataRef_descriptor,
+        new java.lang.String[] { "Uri", "Party", "Format", });
+    com.google.protobuf.AnyProto.getDescriptor();
+    org.secretflow.proto.component.Cluster.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,3282 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: secretflow/protos/component/evaluation.proto
+
+package org.secretflow.proto.component;
+
+public final class Evaluation {
+  private Evaluation() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface NodeEvalParamOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.component.NodeEvalParam)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * domain of component
+     * </pre>
+     *
+     * <code>string domain = 1;</code>
+     * @return The domain.
+     */
+    java.lang.String getDomain();
+    /**
+     * <pre>
+     * domain of component
+     * </pre>
+     *
+     * <code>string domain = 1;</code>
+     * @return The bytes for domain.
+     */
+    com.google.protobuf.ByteString
+        getDomainBytes();
+
+    /**
+     * <pre>
+     * name of component
+     * </pre>
+     *
+     * <code>string name = 2;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <pre>
+     * name of component
+     * </pre>
+     *
+     * <code>string name = 2;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <pre>
+     * version of component
+     * </pre>
+     *
+     * <code>string version = 3;</code>
+     * @return The version.
+     */
+    java.lang.String getVersion();
+    /**
+     * <pre>
+     * version of component
+     * </pre>
+     *
+     * <code>string version = 3;</code>
+     * @return The bytes for version.
+     */
+    com.google.protobuf.ByteString
+        getVersionBytes();
+
+    /**
+     * <pre>
+     * The attribute value.
+     * </pre>
+     *
+     * <code>repeated string attr_paths = 4;</code>
+     * @return A list containing the attrPaths.
+     */
+    java.util.List<java.lang.String>
+        getAttrPathsList();
+    /**
+     * <pre>
+     * The attribute value.
+     * </pre>
+     *
+     * <code>repeated string attr_paths = 4;</code>
+     * @return The count of attrPaths.
+     */
+    int getAttrPathsCount();
+    /**
+     * <pre>
+     * The attribute value.
+     * </pre>
+     *
+     * <code>repeated string attr_paths = 4;</code>
+     * @param index The index of the element to return.
+     * @return The attrPaths at the given index.
+     */
+    java.lang.String getAttrPaths(int index);
+    /**
+     * <pre>
+     * The attribute value.
+     * </pre>
+     *
+     * <code>repeated string attr_paths = 4;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the attrPaths at the given index.
+     */
+    com.google.protobuf.ByteString
+        getAttrPathsBytes(int index);
+
+    /**
+     * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+     */
+    java.util.List<org.secretflow.proto.component.Comp.Attribute> 
+        getAttrsList();
+    /**
+     * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+     */
+    org.secretflow.proto.component.Comp.Attribute getAttrs(int index);
+    /**
+     * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+     */
+    int getAttrsCount();
+    /**
+     * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.component.Comp.AttributeOrBuilder> 
+        getAttrsOrBuilderList();
+    /**
+     * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+     */
+    org.secretflow.proto.component.Comp.AttributeOrBuilder getAttrsOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * The input values
+     * NOTE: name of DistData doesn't need to match name of input in Comp
+     * definition.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+     */
+    java.util.List<org.secretflow.proto.component.Data.DistData> 
+        getInputsList();
+    /**
+     * <pre>
+     * The input values
+     * NOTE: name of DistData doesn't need to match name of input in Comp
+     * definition.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+     */
+    org.secretflow.proto.component.Data.DistData getInputs(int index);
+    /**
+     * <pre>
+     * The input values
+     * NOTE: name of DistData doesn't need to match name of input in Comp
+     * definition.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+     */
+    int getInputsCount();
+    /**
+     * <pre>
+     * The input values
+     * NOTE: name of DistData doesn't need to match name of input in Comp
+     * definition.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.component.Data.DistDataOrBuilder> 
+        getInputsOrBuilderList();
+    /**
+     * <pre>
+     * The input values
+     * NOTE: name of DistData doesn't need to match name of input in Comp
+     * definition.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+     */
+    org.secretflow.proto.component.Data.DistDataOrBuilder getInputsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated string output_uris = 7;</code>
+     * @return A list containing the outputUris.
+     */
+    java.util.List<java.lang.String>
+        getOutputUrisList();
+    /**
+     * <code>repeated string output_uris = 7;</code>
+     * @return The count of outputUris.
+     */
+    int getOutputUrisCount();
+    /**
+     * <code>repeated string output_uris = 7;</code>
+     * @param index The index of the element to return.
+     * @return The outputUris at the given index.
+     */
+    java.lang.String getOutputUris(int index);
+    /**
+     * <code>repeated string output_uris = 7;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the outputUris at the given index.
+     */
+    com.google.protobuf.ByteString
+        getOutputUrisBytes(int index);
+  }
+  /**
+   * <pre>
+   * Evaluate a node.
+   *   evaluate(NodeEvalParam param, SFClusterConfig sf_config) -&gt; NodeEvalResult
+   * NodeEvalParam contains all the information to evaluate a component.
+   * </pre>
+   *
+   * Protobuf type {@code secretflow.component.NodeEvalParam}
+   */
+  public static final class NodeEvalParam extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.component.NodeEvalParam)
+      NodeEvalParamOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use NodeEvalParam.newBuilder() to construct.
+    private NodeEvalParam(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private NodeEvalParam() {
+      domain_ = "";
+      name_ = "";
+      version_ = "";
+      attrPaths_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      attrs_ = java.util.Collections.emptyList();
+      inputs_ = java.util.Collections.emptyList();
+      outputUris_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new NodeEvalParam();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.Evaluation.internal_static_secretflow_component_NodeEvalParam_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.component.Evaluation.internal_static_secretflow_component_NodeEvalParam_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.component.Evaluation.NodeEvalParam.class, org.secretflow.proto.component.Evaluation.NodeEvalParam.Builder.class);
+    }
+
+    public static final int DOMAIN_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domain_ = "";
+    /**
+     * <pre>
+     * domain of component
+     * </pre>
+     *
+     * <code>string domain = 1;</code>
+     * @return The domain.
+     */
+    @java.lang.Override
+    public java.lang.String getDomain() {
+      java.lang.Object ref = domain_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domain_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * domain of component
+     * </pre>
+     *
+     * <code>string domain = 1;</code>
+     * @return The bytes for domain.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomainBytes() {
+      java.lang.Object ref = domain_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domain_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NAME_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <pre>
+     * name of component
+     * </pre>
+     *
+     * <code>string name = 2;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * name of component
+     * </pre>
+     *
+     * <code>string name = 2;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object version_ = "";
+    /**
+     * <pre>
+     * version of component
+     * </pre>
+     *
+     * <code>string version = 3;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public java.lang.String getVersion() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        version_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * version of component
+     * </pre>
+     *
+     * <code>string version = 3;</code>
+     * @return The bytes for version.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getVersionBytes() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        version_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ATTR_PATHS_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList attrPaths_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * The attribute value.
+     * </pre>
+     *
+     * <code>repeated string attr_paths = 4;</code>
+     * @return A list containing the attrPaths.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getAttrPathsList() {
+      return attrPaths_;
+    }
+    /**
+     * <pre>
+     * The attribute value.
+     * </pre>
+     *
+     * <code>repeated string attr_paths = 4;</code>
+     * @return The count of attrPaths.
+     */
+    public int getAttrPathsCount() {
+      return attrPaths_.size();
+    }
+    /**
+     * <pre>
+     * The attribute value.
+     * </pre>
+     *
+     * <code>repeated string attr_paths = 4;</code>
+     * @param index The index of the element to return.
+     * @return The attrPaths at the given index.
+     */
+    public java.lang.String getAttrPaths(int index) {
+      return attrPaths_.get(index);
+    }
+    /**
+     * <pre>
+     * The attribute value.
+     * </pre>
+     *
+     * <code>repeated string attr_paths = 4;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the attrPaths at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getAttrPathsBytes(int index) {
+      return attrPaths_.getByteString(index);
+    }
+
+    public static final int ATTRS_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.component.Comp.Attribute> attrs_;
+    /**
+     * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.component.Comp.Attribute> getAttrsList() {
+      return attrs_;
+    }
+    /**
+     * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.component.Comp.AttributeOrBuilder> 
+        getAttrsOrBuilderList() {
+      return attrs_;
+    }
+    /**
+     * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+     */
+    @java.lang.Override
+    public int getAttrsCount() {
+      return attrs_.size();
+    }
+    /**
+     * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.Attribute getAttrs(int index) {
+      return attrs_.get(index);
+    }
+    /**
+     * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.AttributeOrBuilder getAttrsOrBuilder(
+        int index) {
+      return attrs_.get(index);
+    }
+
+    public static final int INPUTS_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.component.Data.DistData> inputs_;
+    /**
+     * <pre>
+     * The input values
+     * NOTE: name of DistData doesn't need to match name of input in Comp
+     * definition.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.component.Data.DistData> getInputsList() {
+      return inputs_;
+    }
+    /**
+     * <pre>
+     * The input values
+     * NOTE: name of DistData doesn't need to match name of input in Comp
+     * definition.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.component.Data.DistDataOrBuilder> 
+        getInputsOrBuilderList() {
+      return inputs_;
+    }
+    /**
+     * <pre>
+     * The input values
+     * NOTE: name of DistData doesn't need to match name of input in Comp
+     * definition.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+     */
+    @java.lang.Override
+    public int getInputsCount() {
+      return inputs_.size();
+    }
+    /**
+     * <pre>
+     * The input values
+     * NOTE: name of DistData doesn't need to match name of input in Comp
+     * definition.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.DistData getInputs(int index) {
+      return inputs_.get(index);
+    }
+    /**
+     * <pre>
+     * The input values
+     * NOTE: name of DistData doesn't need to match name of input in Comp
+     * definition.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.DistDataOrBuilder getInputsOrBuilder(
+        int index) {
+      return inputs_.get(index);
+    }
+
+    public static final int OUTPUT_URIS_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList outputUris_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <code>repeated string output_uris = 7;</code>
+     * @return A list containing the outputUris.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getOutputUrisList() {
+      return outputUris_;
+    }
+    /**
+     * <code>repeated string output_uris = 7;</code>
+     * @return The count of outputUris.
+     */
+    public int getOutputUrisCount() {
+      return outputUris_.size();
+    }
+    /**
+     * <code>repeated string output_uris = 7;</code>
+     * @param index The index of the element to return.
+     * @return The outputUris at the given index.
+     */
+    public java.lang.String getOutputUris(int index) {
+      return outputUris_.get(index);
+    }
+    /**
+     * <code>repeated string output_uris = 7;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the outputUris at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getOutputUrisBytes(int index) {
+      return outputUris_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domain_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, domain_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(version_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, version_);
+      }
+      for (int i = 0; i < attrPaths_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, attrPaths_.getRaw(i));
+      }
+      for (int i = 0; i < attrs_.size(); i++) {
+        output.writeMessage(5, attrs_.get(i));
+      }
+      for (int i = 0; i < inputs_.size(); i++) {
+        output.writeMessage(6, inputs_.get(i));
+      }
+      for (int i = 0; i < outputUris_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 7, outputUris_.getRaw(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domain_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, domain_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(version_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, version_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < attrPaths_.size(); i++) {
+          dataSize += computeStringSizeNoTag(attrPaths_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getAttrPathsList().size();
+      }
+      for (int i = 0; i < attrs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, attrs_.get(i));
+      }
+      for (int i = 0; i < inputs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, inputs_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < outputUris_.size(); i++) {
+          dataSize += computeStringSizeNoTag(outputUris_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getOutputUrisList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.component.Evaluation.NodeEvalParam)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.component.Evaluation.NodeEvalParam other = (org.secretflow.proto.component.Evaluation.NodeEvalParam) obj;
+
+      if (!getDomain()
+          .equals(other.getDomain())) return false;
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getVersion()
+          .equals(other.getVersion())) return false;
+      if (!getAttrPathsList()
+          .equals(other.getAttrPathsList())) return false;
+      if (!getAttrsList()
+          .equals(other.getAttrsList())) return false;
+      if (!getInputsList()
+          .equals(other.getInputsList())) return false;
+      if (!getOutputUrisList()
+          .equals(other.getOutputUrisList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DOMAIN_FIELD_NUMBER;
+      hash = (53 * hash) + getDomain().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + VERSION_FIELD_NUMBER;
+      hash = (53 * hash) + getVersion().hashCode();
+      if (getAttrPathsCount() > 0) {
+        hash = (37 * hash) + ATTR_PATHS_FIELD_NUMBER;
+        hash = (53 * hash) + getAttrPathsList().hashCode();
+      }
+      if (getAttrsCount() > 0) {
+        hash = (37 * hash) + ATTRS_FIELD_NUMBER;
+        hash = (53 * hash) + getAttrsList().hashCode();
+      }
+      if (getInputsCount() > 0) {
+        hash = (37 * hash) + INPUTS_FIELD_NUMBER;
+        hash = (53 * hash) + getInputsList().hashCode();
+      }
+      if (getOutputUrisCount() > 0) {
+        hash = (37 * hash) + OUTPUT_URIS_FIELD_NUMBER;
+        hash = (53 * hash) + getOutputUrisList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.component.Evaluation.NodeEvalParam parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalParam parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalParam parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalParam parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalParam parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalParam parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalParam parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalParam parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalParam parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalParam parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalParam parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalParam parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.component.Evaluation.NodeEvalParam prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Evaluate a node.
+     *   evaluate(NodeEvalParam param, SFClusterConfig sf_config) -&gt; NodeEvalResult
+     * NodeEvalParam contains all the information to evaluate a component.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.NodeEvalParam}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.component.NodeEvalParam)
+        org.secretflow.proto.component.Evaluation.NodeEvalParamOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Evaluation.internal_static_secretflow_component_NodeEvalParam_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Evaluation.internal_static_secretflow_component_NodeEvalParam_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Evaluation.NodeEvalParam.class, org.secretflow.proto.component.Evaluation.NodeEvalParam.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.component.Evaluation.NodeEvalParam.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        domain_ = "";
+        name_ = "";
+        version_ = "";
+        attrPaths_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        if (attrsBuilder_ == null) {
+          attrs_ = java.util.Collections.emptyList();
+        } else {
+          attrs_ = null;
+          attrsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (inputsBuilder_ == null) {
+          inputs_ = java.util.Collections.emptyList();
+        } else {
+          inputs_ = null;
+          inputsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        outputUris_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.component.Evaluation.internal_static_secretflow_component_NodeEvalParam_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Evaluation.NodeEvalParam getDefaultInstanceForType() {
+        return org.secretflow.proto.component.Evaluation.NodeEvalParam.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Evaluation.NodeEvalParam build() {
+        org.secretflow.proto.component.Evaluation.NodeEvalParam result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Evaluation.NodeEvalParam buildPartial() {
+        org.secretflow.proto.component.Evaluation.NodeEvalParam result = new org.secretflow.proto.component.Evaluation.NodeEvalParam(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.proto.component.Evaluation.NodeEvalParam result) {
+        if (attrsBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) != 0)) {
+            attrs_ = java.util.Collections.unmodifiableList(attrs_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.attrs_ = attrs_;
+        } else {
+          result.attrs_ = attrsBuilder_.build();
+        }
+        if (inputsBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) != 0)) {
+            inputs_ = java.util.Collections.unmodifiableList(inputs_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.inputs_ = inputs_;
+        } else {
+          result.inputs_ = inputsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.proto.component.Evaluation.NodeEvalParam result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.domain_ = domain_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.version_ = version_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          attrPaths_.makeImmutable();
+          result.attrPaths_ = attrPaths_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          outputUris_.makeImmutable();
+          result.outputUris_ = outputUris_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.component.Evaluation.NodeEvalParam) {
+          return mergeFrom((org.secretflow.proto.component.Evaluation.NodeEvalParam)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.component.Evaluation.NodeEvalParam other) {
+        if (other == org.secretflow.proto.component.Evaluation.NodeEvalParam.getDefaultInstance()) return this;
+        if (!other.getDomain().isEmpty()) {
+          domain_ = other.domain_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getVersion().isEmpty()) {
+          version_ = other.version_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (!other.attrPaths_.isEmpty()) {
+          if (attrPaths_.isEmpty()) {
+            attrPaths_ = other.attrPaths_;
+            bitField0_ |= 0x00000008;
+          } else {
+            ensureAttrPathsIsMutable();
+            attrPaths_.addAll(other.attrPaths_);
+          }
+          onChanged();
+        }
+        if (attrsBuilder_ == null) {
+          if (!other.attrs_.isEmpty()) {
+            if (attrs_.isEmpty()) {
+              attrs_ = other.attrs_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureAttrsIsMutable();
+              attrs_.addAll(other.attrs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.attrs_.isEmpty()) {
+            if (attrsBuilder_.isEmpty()) {
+              attrsBuilder_.dispose();
+              attrsBuilder_ = null;
+              attrs_ = other.attrs_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              attrsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getAttrsFieldBuilder() : null;
+            } else {
+              attrsBuilder_.addAllMessages(other.attrs_);
+            }
+          }
+        }
+        if (inputsBuilder_ == null) {
+          if (!other.inputs_.isEmpty()) {
+            if (inputs_.isEmpty()) {
+              inputs_ = other.inputs_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureInputsIsMutable();
+              inputs_.addAll(other.inputs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.inputs_.isEmpty()) {
+            if (inputsBuilder_.isEmpty()) {
+              inputsBuilder_.dispose();
+              inputsBuilder_ = null;
+              inputs_ = other.inputs_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              inputsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getInputsFieldBuilder() : null;
+            } else {
+              inputsBuilder_.addAllMessages(other.inputs_);
+            }
+          }
+        }
+        if (!other.outputUris_.isEmpty()) {
+          if (outputUris_.isEmpty()) {
+            outputUris_ = other.outputUris_;
+            bitField0_ |= 0x00000040;
+          } else {
+            ensureOutputUrisIsMutable();
+            outputUris_.addAll(other.outputUris_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                domain_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                version_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureAttrPathsIsMutable();
+                attrPaths_.add(s);
+                break;
+              } // case 34
+              case 42: {
+                org.secretflow.proto.component.Comp.Attribute m =
+                    input.readMessage(
+                        org.secretflow.proto.component.Comp.Attribute.parser(),
+                        extensionRegistry);
+                if (attrsBuilder_ == null) {
+                  ensureAttrsIsMutable();
+                  attrs_.add(m);
+                } else {
+                  attrsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 42
+              case 50: {
+                org.secretflow.proto.component.Data.DistData m =
+                    input.readMessage(
+                        org.secretflow.proto.component.Data.DistData.parser(),
+                        extensionRegistry);
+                if (inputsBuilder_ == null) {
+                  ensureInputsIsMutable();
+                  inputs_.add(m);
+                } else {
+                  inputsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 50
+              case 58: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureOutputUrisIsMutable();
+                outputUris_.add(s);
+                break;
+              } // case 58
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object domain_ = "";
+      /**
+       * <pre>
+       * domain of component
+       * </pre>
+       *
+       * <code>string domain = 1;</code>
+       * @return The domain.
+       */
+      public java.lang.String getDomain() {
+        java.lang.Object ref = domain_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domain_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * domain of component
+       * </pre>
+       *
+       * <code>string domain = 1;</code>
+       * @return The bytes for domain.
+       */
+      public com.google.protobuf.ByteString
+          getDomainBytes() {
+        java.lang.Object ref = domain_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domain_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * domain of component
+       * </pre>
+       *
+       * <code>string domain = 1;</code>
+       * @param value The domain to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomain(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domain_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * domain of component
+       * </pre>
+       *
+       * <code>string domain = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomain() {
+        domain_ = getDefaultInstance().getDomain();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * domain of component
+       * </pre>
+       *
+       * <code>string domain = 1;</code>
+       * @param value The bytes for domain to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domain_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * name of component
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * name of component
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * name of component
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * name of component
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * name of component
+       * </pre>
+       *
+       * <code>string name = 2;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object version_ = "";
+      /**
+       * <pre>
+       * version of component
+       * </pre>
+       *
+       * <code>string version = 3;</code>
+       * @return The version.
+       */
+      public java.lang.String getVersion() {
+        java.lang.Object ref = version_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          version_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * version of component
+       * </pre>
+       *
+       * <code>string version = 3;</code>
+       * @return The bytes for version.
+       */
+      public com.google.protobuf.ByteString
+          getVersionBytes() {
+        java.lang.Object ref = version_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          version_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * version of component
+       * </pre>
+       *
+       * <code>string version = 3;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        version_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * version of component
+       * </pre>
+       *
+       * <code>string version = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        version_ = getDefaultInstance().getVersion();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * version of component
+       * </pre>
+       *
+       * <code>string version = 3;</code>
+       * @param value The bytes for version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        version_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList attrPaths_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureAttrPathsIsMutable() {
+        if (!attrPaths_.isModifiable()) {
+          attrPaths_ = new com.google.protobuf.LazyStringArrayList(attrPaths_);
+        }
+        bitField0_ |= 0x00000008;
+      }
+      /**
+       * <pre>
+       * The attribute value.
+       * </pre>
+       *
+       * <code>repeated string attr_paths = 4;</code>
+       * @return A list containing the attrPaths.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getAttrPathsList() {
+        attrPaths_.makeImmutable();
+        return attrPaths_;
+      }
+      /**
+       * <pre>
+       * The attribute value.
+       * </pre>
+       *
+       * <code>repeated string attr_paths = 4;</code>
+       * @return The count of attrPaths.
+       */
+      public int getAttrPathsCount() {
+        return attrPaths_.size();
+      }
+      /**
+       * <pre>
+       * The attribute value.
+       * </pre>
+       *
+       * <code>repeated string attr_paths = 4;</code>
+       * @param index The index of the element to return.
+       * @return The attrPaths at the given index.
+       */
+      public java.lang.String getAttrPaths(int index) {
+        return attrPaths_.get(index);
+      }
+      /**
+       * <pre>
+       * The attribute value.
+       * </pre>
+       *
+       * <code>repeated string attr_paths = 4;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the attrPaths at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getAttrPathsBytes(int index) {
+        return attrPaths_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * The attribute value.
+       * </pre>
+       *
+       * <code>repeated string attr_paths = 4;</code>
+       * @param index The index to set the value at.
+       * @param value The attrPaths to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAttrPaths(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureAttrPathsIsMutable();
+        attrPaths_.set(index, value);
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The attribute value.
+       * </pre>
+       *
+       * <code>repeated string attr_paths = 4;</code>
+       * @param value The attrPaths to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAttrPaths(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureAttrPathsIsMutable();
+        attrPaths_.add(value);
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The attribute value.
+       * </pre>
+       *
+       * <code>repeated string attr_paths = 4;</code>
+       * @param values The attrPaths to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllAttrPaths(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureAttrPathsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, attrPaths_);
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The attribute value.
+       * </pre>
+       *
+       * <code>repeated string attr_paths = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAttrPaths() {
+        attrPaths_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The attribute value.
+       * </pre>
+       *
+       * <code>repeated string attr_paths = 4;</code>
+       * @param value The bytes of the attrPaths to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAttrPathsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureAttrPathsIsMutable();
+        attrPaths_.add(value);
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.proto.component.Comp.Attribute> attrs_ =
+        java.util.Collections.emptyList();
+      private void ensureAttrsIsMutable() {
+        if (!((bitField0_ & 0x00000010) != 0)) {
+          attrs_ = new java.util.ArrayList<org.secretflow.proto.component.Comp.Attribute>(attrs_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder> attrsBuilder_;
+
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Comp.Attribute> getAttrsList() {
+        if (attrsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(attrs_);
+        } else {
+          return attrsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+       */
+      public int getAttrsCount() {
+        if (attrsBuilder_ == null) {
+          return attrs_.size();
+        } else {
+          return attrsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+       */
+      public org.secretflow.proto.component.Comp.Attribute getAttrs(int index) {
+        if (attrsBuilder_ == null) {
+          return attrs_.get(index);
+        } else {
+          return attrsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+       */
+      public Builder setAttrs(
+          int index, org.secretflow.proto.component.Comp.Attribute value) {
+        if (attrsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttrsIsMutable();
+          attrs_.set(index, value);
+          onChanged();
+        } else {
+          attrsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+       */
+      public Builder setAttrs(
+          int index, org.secretflow.proto.component.Comp.Attribute.Builder builderForValue) {
+        if (attrsBuilder_ == null) {
+          ensureAttrsIsMutable();
+          attrs_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          attrsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+       */
+      public Builder addAttrs(org.secretflow.proto.component.Comp.Attribute value) {
+        if (attrsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttrsIsMutable();
+          attrs_.add(value);
+          onChanged();
+        } else {
+          attrsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+       */
+      public Builder addAttrs(
+          int index, org.secretflow.proto.component.Comp.Attribute value) {
+        if (attrsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttrsIsMutable();
+          attrs_.add(index, value);
+          onChanged();
+        } else {
+          attrsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+       */
+      public Builder addAttrs(
+          org.secretflow.proto.component.Comp.Attribute.Builder builderForValue) {
+        if (attrsBuilder_ == null) {
+          ensureAttrsIsMutable();
+          attrs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          attrsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+       */
+      public Builder addAttrs(
+          int index, org.secretflow.proto.component.Comp.Attribute.Builder builderForValue) {
+        if (attrsBuilder_ == null) {
+          ensureAttrsIsMutable();
+          attrs_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          attrsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+       */
+      public Builder addAllAttrs(
+          java.lang.Iterable<? extends org.secretflow.proto.component.Comp.Attribute> values) {
+        if (attrsBuilder_ == null) {
+          ensureAttrsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, attrs_);
+          onChanged();
+        } else {
+          attrsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+       */
+      public Builder clearAttrs() {
+        if (attrsBuilder_ == null) {
+          attrs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          attrsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+       */
+      public Builder removeAttrs(int index) {
+        if (attrsBuilder_ == null) {
+          ensureAttrsIsMutable();
+          attrs_.remove(index);
+          onChanged();
+        } else {
+          attrsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+       */
+      public org.secretflow.proto.component.Comp.Attribute.Builder getAttrsBuilder(
+          int index) {
+        return getAttrsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+       */
+      public org.secretflow.proto.component.Comp.AttributeOrBuilder getAttrsOrBuilder(
+          int index) {
+        if (attrsBuilder_ == null) {
+          return attrs_.get(index);  } else {
+          return attrsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.component.Comp.AttributeOrBuilder> 
+           getAttrsOrBuilderList() {
+        if (attrsBuilder_ != null) {
+          return attrsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(attrs_);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+       */
+      public org.secretflow.proto.component.Comp.Attribute.Builder addAttrsBuilder() {
+        return getAttrsFieldBuilder().addBuilder(
+            org.secretflow.proto.component.Comp.Attribute.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+       */
+      public org.secretflow.proto.component.Comp.Attribute.Builder addAttrsBuilder(
+          int index) {
+        return getAttrsFieldBuilder().addBuilder(
+            index, org.secretflow.proto.component.Comp.Attribute.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 5;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Comp.Attribute.Builder> 
+           getAttrsBuilderList() {
+        return getAttrsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder> 
+          getAttrsFieldBuilder() {
+        if (attrsBuilder_ == null) {
+          attrsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder>(
+                  attrs_,
+                  ((bitField0_ & 0x00000010) != 0),
+                  getParentForChildren(),
+                  isClean());
+          attrs_ = null;
+        }
+        return attrsBuilder_;
+      }
+
+      private java.util.List<org.secretflow.proto.component.Data.DistData> inputs_ =
+        java.util.Collections.emptyList();
+      private void ensureInputsIsMutable() {
+        if (!((bitField0_ & 0x00000020) != 0)) {
+          inputs_ = new java.util.ArrayList<org.secretflow.proto.component.Data.DistData>(inputs_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Data.DistData, org.secretflow.proto.component.Data.DistData.Builder, org.secretflow.proto.component.Data.DistDataOrBuilder> inputsBuilder_;
+
+      /**
+       * <pre>
+       * The input values
+       * NOTE: name of DistData doesn't need to match name of input in Comp
+       * definition.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Data.DistData> getInputsList() {
+        if (inputsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(inputs_);
+        } else {
+          return inputsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * The input values
+       * NOTE: name of DistData doesn't need to match name of input in Comp
+       * definition.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+       */
+      public int getInputsCount() {
+        if (inputsBuilder_ == null) {
+          return inputs_.size();
+        } else {
+          return inputsBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * The input values
+       * NOTE: name of DistData doesn't need to match name of input in Comp
+       * definition.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+       */
+      public org.secretflow.proto.component.Data.DistData getInputs(int index) {
+        if (inputsBuilder_ == null) {
+          return inputs_.get(index);
+        } else {
+          return inputsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * The input values
+       * NOTE: name of DistData doesn't need to match name of input in Comp
+       * definition.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+       */
+      public Builder setInputs(
+          int index, org.secretflow.proto.component.Data.DistData value) {
+        if (inputsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInputsIsMutable();
+          inputs_.set(index, value);
+          onChanged();
+        } else {
+          inputsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The input values
+       * NOTE: name of DistData doesn't need to match name of input in Comp
+       * definition.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+       */
+      public Builder setInputs(
+          int index, org.secretflow.proto.component.Data.DistData.Builder builderForValue) {
+        if (inputsBuilder_ == null) {
+          ensureInputsIsMutable();
+          inputs_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          inputsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The input values
+       * NOTE: name of DistData doesn't need to match name of input in Comp
+       * definition.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+       */
+      public Builder addInputs(org.secretflow.proto.component.Data.DistData value) {
+        if (inputsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInputsIsMutable();
+          inputs_.add(value);
+          onChanged();
+        } else {
+          inputsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The input values
+       * NOTE: name of DistData doesn't need to match name of input in Comp
+       * definition.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+       */
+      public Builder addInputs(
+          int index, org.secretflow.proto.component.Data.DistData value) {
+        if (inputsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInputsIsMutable();
+          inputs_.add(index, value);
+          onChanged();
+        } else {
+          inputsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The input values
+       * NOTE: name of DistData doesn't need to match name of input in Comp
+       * definition.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+       */
+      public Builder addInputs(
+          org.secretflow.proto.component.Data.DistData.Builder builderForValue) {
+        if (inputsBuilder_ == null) {
+          ensureInputsIsMutable();
+          inputs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          inputsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The input values
+       * NOTE: name of DistData doesn't need to match name of input in Comp
+       * definition.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+       */
+      public Builder addInputs(
+          int index, org.secretflow.proto.component.Data.DistData.Builder builderForValue) {
+        if (inputsBuilder_ == null) {
+          ensureInputsIsMutable();
+          inputs_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          inputsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The input values
+       * NOTE: name of DistData doesn't need to match name of input in Comp
+       * definition.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+       */
+      public Builder addAllInputs(
+          java.lang.Iterable<? extends org.secretflow.proto.component.Data.DistData> values) {
+        if (inputsBuilder_ == null) {
+          ensureInputsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, inputs_);
+          onChanged();
+        } else {
+          inputsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The input values
+       * NOTE: name of DistData doesn't need to match name of input in Comp
+       * definition.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+       */
+      public Builder clearInputs() {
+        if (inputsBuilder_ == null) {
+          inputs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          inputsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The input values
+       * NOTE: name of DistData doesn't need to match name of input in Comp
+       * definition.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+       */
+      public Builder removeInputs(int index) {
+        if (inputsBuilder_ == null) {
+          ensureInputsIsMutable();
+          inputs_.remove(index);
+          onChanged();
+        } else {
+          inputsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The input values
+       * NOTE: name of DistData doesn't need to match name of input in Comp
+       * definition.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+       */
+      public org.secretflow.proto.component.Data.DistData.Builder getInputsBuilder(
+          int index) {
+        return getInputsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * The input values
+       * NOTE: name of DistData doesn't need to match name of input in Comp
+       * definition.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+       */
+      public org.secretflow.proto.component.Data.DistDataOrBuilder getInputsOrBuilder(
+          int index) {
+        if (inputsBuilder_ == null) {
+          return inputs_.get(index);  } else {
+          return inputsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * The input values
+       * NOTE: name of DistData doesn't need to match name of input in Comp
+       * definition.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.component.Data.DistDataOrBuilder> 
+           getInputsOrBuilderList() {
+        if (inputsBuilder_ != null) {
+          return inputsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(inputs_);
+        }
+      }
+      /**
+       * <pre>
+       * The input values
+       * NOTE: name of DistData doesn't need to match name of input in Comp
+       * definition.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+       */
+      public org.secretflow.proto.component.Data.DistData.Builder addInputsBuilder() {
+        return getInputsFieldBuilder().addBuilder(
+            org.secretflow.proto.component.Data.DistData.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * The input values
+       * NOTE: name of DistData doesn't need to match name of input in Comp
+       * definition.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+       */
+      public org.secretflow.proto.component.Data.DistData.Builder addInputsBuilder(
+          int index) {
+        return getInputsFieldBuilder().addBuilder(
+            index, org.secretflow.proto.component.Data.DistData.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * The input values
+       * NOTE: name of DistData doesn't need to match name of input in Comp
+       * definition.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData inputs = 6;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Data.DistData.Builder> 
+           getInputsBuilderList() {
+        return getInputsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Data.DistData, org.secretflow.proto.component.Data.DistData.Builder, org.secretflow.proto.component.Data.DistDataOrBuilder> 
+          getInputsFieldBuilder() {
+        if (inputsBuilder_ == null) {
+          inputsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.component.Data.DistData, org.secretflow.proto.component.Data.DistData.Builder, org.secretflow.proto.component.Data.DistDataOrBuilder>(
+                  inputs_,
+                  ((bitField0_ & 0x00000020) != 0),
+                  getParentForChildren(),
+                  isClean());
+          inputs_ = null;
+        }
+        return inputsBuilder_;
+      }
+
+      private com.google.protobuf.LazyStringArrayList outputUris_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureOutputUrisIsMutable() {
+        if (!outputUris_.isModifiable()) {
+          outputUris_ = new com.google.protobuf.LazyStringArrayList(outputUris_);
+        }
+        bitField0_ |= 0x00000040;
+      }
+      /**
+       * <code>repeated string output_uris = 7;</code>
+       * @return A list containing the outputUris.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getOutputUrisList() {
+        outputUris_.makeImmutable();
+        return outputUris_;
+      }
+      /**
+       * <code>repeated string output_uris = 7;</code>
+       * @return The count of outputUris.
+       */
+      public int getOutputUrisCount() {
+        return outputUris_.size();
+      }
+      /**
+       * <code>repeated string output_uris = 7;</code>
+       * @param index The index of the element to return.
+       * @return The outputUris at the given index.
+       */
+      public java.lang.String getOutputUris(int index) {
+        return outputUris_.get(index);
+      }
+      /**
+       * <code>repeated string output_uris = 7;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the outputUris at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getOutputUrisBytes(int index) {
+        return outputUris_.getByteString(index);
+      }
+      /**
+       * <code>repeated string output_uris = 7;</code>
+       * @param index The index to set the value at.
+       * @param value The outputUris to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOutputUris(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureOutputUrisIsMutable();
+        outputUris_.set(index, value);
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string output_uris = 7;</code>
+       * @param value The outputUris to add.
+       * @return This builder for chaining.
+       */
+      public Builder addOutputUris(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureOutputUrisIsMutable();
+        outputUris_.add(value);
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string output_uris = 7;</code>
+       * @param values The outputUris to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllOutputUris(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureOutputUrisIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, outputUris_);
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string output_uris = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOutputUris() {
+        outputUris_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000040);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string output_uris = 7;</code>
+       * @param value The bytes of the outputUris to add.
+       * @return This builder for chaining.
+       */
+      public Builder addOutputUrisBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureOutputUrisIsMutable();
+        outputUris_.add(value);
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.component.NodeEvalParam)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.component.NodeEvalParam)
+    private static final org.secretflow.proto.component.Evaluation.NodeEvalParam DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.component.Evaluation.NodeEvalParam();
+    }
+
+    public static org.secretflow.proto.component.Evaluation.NodeEvalParam getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<NodeEvalParam>
+        PARSER = new com.google.protobuf.AbstractParser<NodeEvalParam>() {
+      @java.lang.Override
+      public NodeEvalParam parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<NodeEvalParam> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<NodeEvalParam> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.component.Evaluation.NodeEvalParam getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface NodeEvalResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.component.NodeEvalResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Output values.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+     */
+    java.util.List<org.secretflow.proto.component.Data.DistData> 
+        getOutputsList();
+    /**
+     * <pre>
+     * Output values.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+     */
+    org.secretflow.proto.component.Data.DistData getOutputs(int index);
+    /**
+     * <pre>
+     * Output values.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+     */
+    int getOutputsCount();
+    /**
+     * <pre>
+     * Output values.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.component.Data.DistDataOrBuilder> 
+        getOutputsOrBuilderList();
+    /**
+     * <pre>
+     * Output values.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+     */
+    org.secretflow.proto.component.Data.DistDataOrBuilder getOutputsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code secretflow.component.NodeEvalResult}
+   */
+  public static final class NodeEvalResult extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.component.NodeEvalResult)
+      NodeEvalResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use NodeEvalResult.newBuilder() to construct.
+    private NodeEvalResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private NodeEvalResult() {
+      outputs_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new NodeEvalResult();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.Evaluation.internal_static_secretflow_component_NodeEvalResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.component.Evaluation.internal_static_secretflow_component_NodeEvalResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.component.Evaluation.NodeEvalResult.class, org.secretflow.proto.component.Evaluation.NodeEvalResult.Builder.class);
+    }
+
+    public static final int OUTPUTS_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.component.Data.DistData> outputs_;
+    /**
+     * <pre>
+     * Output values.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.component.Data.DistData> getOutputsList() {
+      return outputs_;
+    }
+    /**
+     * <pre>
+     * Output values.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.component.Data.DistDataOrBuilder> 
+        getOutputsOrBuilderList() {
+      return outputs_;
+    }
+    /**
+     * <pre>
+     * Output values.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+     */
+    @java.lang.Override
+    public int getOutputsCount() {
+      return outputs_.size();
+    }
+    /**
+     * <pre>
+     * Output values.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.DistData getOutputs(int index) {
+      return outputs_.get(index);
+    }
+    /**
+     * <pre>
+     * Output values.
+     * </pre>
+     *
+     * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.DistDataOrBuilder getOutputsOrBuilder(
+        int index) {
+      return outputs_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < outputs_.size(); i++) {
+        output.writeMessage(1, outputs_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < outputs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, outputs_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.component.Evaluation.NodeEvalResult)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.component.Evaluation.NodeEvalResult other = (org.secretflow.proto.component.Evaluation.NodeEvalResult) obj;
+
+      if (!getOutputsList()
+          .equals(other.getOutputsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getOutputsCount() > 0) {
+        hash = (37 * hash) + OUTPUTS_FIELD_NUMBER;
+        hash = (53 * hash) + getOutputsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.component.Evaluation.NodeEvalResult parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalResult parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.Evaluation.NodeEvalResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.component.Evaluation.NodeEvalResult prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code secretflow.component.NodeEvalResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.component.NodeEvalResult)
+        org.secretflow.proto.component.Evaluation.NodeEvalResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.Evaluation.internal_static_secretflow_component_NodeEvalResult_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.Evaluation.internal_static_secretflow_component_NodeEvalResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.Evaluation.NodeEvalResult.class, org.secretflow.proto.component.Evaluation.NodeEvalResult.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.component.Evaluation.NodeEvalResult.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        if (outputsBuilder_ == null) {
+          outputs_ = java.util.Collections.emptyList();
+        } else {
+          outputs_ = null;
+          outputsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.component.Evaluation.internal_static_secretflow_component_NodeEvalResult_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Evaluation.NodeEvalResult getDefaultInstanceForType() {
+        return org.secretflow.proto.component.Evaluation.NodeEvalResult.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Evaluation.NodeEvalResult build() {
+        org.secretflow.proto.component.Evaluation.NodeEvalResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.Evaluation.NodeEvalResult buildPartial() {
+        org.secretflow.proto.component.Evaluation.NodeEvalResult result = new org.secretflow.proto.component.Evaluation.NodeEvalResult(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.proto.component.Evaluation.NodeEvalResult result) {
+        if (outputsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            outputs_ = java.util.Collections.unmodifiableList(outputs_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.outputs_ = outputs_;
+        } else {
+          result.outputs_ = outputsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.proto.component.Evaluation.NodeEvalResult result) {
+        int from_bitField0_ = bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.component.Evaluation.NodeEvalResult) {
+          return mergeFrom((org.secretflow.proto.component.Evaluation.NodeEvalResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.component.Evaluation.NodeEvalResult other) {
+        if (other == org.secretflow.proto.component.Evaluation.NodeEvalResult.getDefaultInstance()) return this;
+        if (outputsBuilder_ == null) {
+          if (!other.outputs_.isEmpty()) {
+            if (outputs_.isEmpty()) {
+              outputs_ = other.outputs_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureOutputsIsMutable();
+              outputs_.addAll(other.outputs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.outputs_.isEmpty()) {
+            if (outputsBuilder_.isEmpty()) {
+              outputsBuilder_.dispose();
+              outputsBuilder_ = null;
+              outputs_ = other.outputs_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              outputsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getOutputsFieldBuilder() : null;
+            } else {
+              outputsBuilder_.addAllMessages(other.outputs_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                org.secretflow.proto.component.Data.DistData m =
+                    input.readMessage(
+                        org.secretflow.proto.component.Data.DistData.parser(),
+                        extensionRegistry);
+                if (outputsBuilder_ == null) {
+                  ensureOutputsIsMutable();
+                  outputs_.add(m);
+                } else {
+                  outputsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<org.secretflow.proto.component.Data.DistData> outputs_ =
+        java.util.Collections.emptyList();
+      private void ensureOutputsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          outputs_ = new java.util.ArrayList<org.secretflow.proto.component.Data.DistData>(outputs_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Data.DistData, org.secretflow.proto.component.Data.DistData.Builder, org.secretflow.proto.component.Data.DistDataOrBuilder> outputsBuilder_;
+
+      /**
+       * <pre>
+       * Output values.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Data.DistData> getOutputsList() {
+        if (outputsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(outputs_);
+        } else {
+          return outputsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Output values.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+       */
+      public int getOutputsCount() {
+        if (outputsBuilder_ == null) {
+          return outputs_.size();
+        } else {
+          return outputsBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Output values.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+       */
+      public org.secretflow.proto.component.Data.DistData getOutputs(int index) {
+        if (outputsBuilder_ == null) {
+          return outputs_.get(index);
+        } else {
+          return outputsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Output values.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+       */
+      public Builder setOutputs(
+          int index, org.secretflow.proto.component.Data.DistData value) {
+        if (outputsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOutputsIsMutable();
+          outputs_.set(index, value);
+          onChanged();
+        } else {
+          outputsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Output values.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+       */
+      public Builder setOutputs(
+          int index, org.secretflow.proto.component.Data.DistData.Builder builderForValue) {
+        if (outputsBuilder_ == null) {
+          ensureOutputsIsMutable();
+          outputs_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          outputsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Output values.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+       */
+      public Builder addOutputs(org.secretflow.proto.component.Data.DistData value) {
+        if (outputsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOutputsIsMutable();
+          outputs_.add(value);
+          onChanged();
+        } else {
+          outputsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Output values.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+       */
+      public Builder addOutputs(
+          int index, org.secretflow.proto.component.Data.DistData value) {
+        if (outputsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOutputsIsMutable();
+          outputs_.add(index, value);
+          onChanged();
+        } else {
+          outputsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Output values.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+       */
+      public Builder addOutputs(
+          org.secretflow.proto.component.Data.DistData.Builder builderForValue) {
+        if (outputsBuilder_ == null) {
+          ensureOutputsIsMutable();
+          outputs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          outputsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Output values.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+       */
+      public Builder addOutputs(
+          int index, org.secretflow.proto.component.Data.DistData.Builder builderForValue) {
+        if (outputsBuilder_ == null) {
+          ensureOutputsIsMutable();
+          outputs_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          outputsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Output values.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+       */
+      public Builder addAllOutputs(
+          java.lang.Iterable<? extends org.secretflow.proto.component.Data.DistData> values) {
+        if (outputsBuilder_ == null) {
+          ensureOutputsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, outputs_);
+          onChanged();
+        } else {
+          outputsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Output values.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+       */
+      public Builder clearOutputs() {
+        if (outputsBuilder_ == null) {
+          outputs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          outputsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Output values.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+       */
+      public Builder removeOutputs(int index) {
+        if (outputsBuilder_ == null) {
+          ensureOutputsIsMutable();
+          outputs_.remove(index);
+          onChanged();
+        } else {
+          outputsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Output values.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+       */
+      public org.secretflow.proto.component.Data.DistData.Builder getOutputsBuilder(
+          int index) {
+        return getOutputsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * Output values.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+       */
+      public org.secretflow.proto.component.Data.DistDataOrBuilder getOutputsOrBuilder(
+          int index) {
+        if (outputsBuilder_ == null) {
+          return outputs_.get(index);  } else {
+          return outputsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * Output values.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.component.Data.DistDataOrBuilder> 
+           getOutputsOrBuilderList() {
+        if (outputsBuilder_ != null) {
+          return outputsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(outputs_);
+        }
+      }
+      /**
+       * <pre>
+       * Output values.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+       */
+      public org.secretflow.proto.component.Data.DistData.Builder addOutputsBuilder() {
+        return getOutputsFieldBuilder().addBuilder(
+            org.secretflow.proto.component.Data.DistData.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Output values.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+       */
+      public org.secretflow.proto.component.Data.DistData.Builder addOutputsBuilder(
+          int index) {
+        return getOutputsFieldBuilder().addBuilder(
+            index, org.secretflow.proto.component.Data.DistData.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Output values.
+       * </pre>
+       *
+       * <code>repeated .secretflow.component.DistData outputs = 1;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Data.DistData.Builder> 
+           getOutputsBuilderList() {
+        return getOutputsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Data.DistData, org.secretflow.proto.component.Data.DistData.Builder, org.secretflow.proto.component.Data.DistDataOrBuilder> 
+          getOutputsFieldBuilder() {
+        if (outputsBuilder_ == null) {
+          outputsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.component.Data.DistData, org.secretflow.proto.component.Data.DistData.Builder, org.secretflow.proto.component.Data.DistDataOrBuilder>(
+                  outputs_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          outputs_ = null;
+        }
+        return outputsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.component.NodeEvalResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.component.NodeEvalResult)
+    private static final org.secretflow.proto.component.Evaluation.NodeEvalResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.component.Evaluation.NodeEvalResult();
+    }
+
+    public static org.secretflow.proto.component.Evaluation.NodeEvalResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<NodeEvalResult>
+        PARSER = new com.google.protobuf.AbstractParser<NodeEvalResult>() {
+      @java.lang.Override
+      public NodeEvalResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<NodeEvalResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<NodeEvalResult> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.component.Evaluation.NodeEvalResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_NodeEvalParam_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_NodeEvalParam_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_NodeEvalResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_NodeEvalResult_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n,secretflow/protos/component/evaluation" +
+      ".proto\022\024secretflow.component\032&secretflow" +
+      "/protos/component/comp.proto\032&secretflow" +
+      "/protos/component/data.proto\"\307\001\n\rNodeEva" +
+      "lParam\022\016\n\006domain\030\001 \001(\t\022\014\n\004name\030\002 \001(\t\022\017\n\007" +
+      "version\030\003 \001(\t\022\022\n\nattr_paths\030\004 \003(\t\022.\n\005att" +
+      "rs\030\005 \003(\0132\037.secretflow.component.Attribut" +
+      "e\022.\n\006inputs\030\006 \003(\0132\036.secretflow.component" +
+      ".DistData\022\023\n\013output_uris\030\007 \003(\t\"A\n\016NodeEv" +
+      "alResult\022/\n\007outputs\030\001 \003(\0132\036.secretflow.c" +
+      "omponent.DistDataB \n\036org.secretflow.prot" +
+      "o.componentb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          org.secretflow.proto.component.Comp.getDescriptor(),
+          org.secretflow.proto.component.Data.getDescriptor(),
+        });
+    internal_static_secretflow_component_NodeEvalParam_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_secretflow_component_NodeEvalParam_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_NodeEvalParam_descriptor,
+        new java.lang.String[] { "Domain", "Name", "Version", "AttrPaths", "Attrs", "Inputs", "OutputUris", });
+    internal_static_secretflow_component_NodeEvalResult_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_secretflow_component_NodeEvalResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_NodeEvalResult_descriptor,
+        new java.lang.String[] { "Outputs", });
+    org.secretflow.proto.component.Comp.getDescriptor();
+    org.secretflow.proto.component.Data.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,10186 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: secretflow/protos/component/report.proto
+
+package org.secretflow.proto.component;
+
+public final class ReportOuterClass {
+  private ReportOuterClass() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface DescriptionsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.component.Descriptions)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Name of the group.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <pre>
+     * Name of the group.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>string desc = 2;</code>
+     * @return The desc.
+     */
+    java.lang.String getDesc();
+    /**
+     * <code>string desc = 2;</code>
+     * @return The bytes for desc.
+     */
+    com.google.protobuf.ByteString
+        getDescBytes();
+
+    /**
+     * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+     */
+    java.util.List<org.secretflow.proto.component.ReportOuterClass.Descriptions.Item> 
+        getItemsList();
+    /**
+     * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+     */
+    org.secretflow.proto.component.ReportOuterClass.Descriptions.Item getItems(int index);
+    /**
+     * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+     */
+    int getItemsCount();
+    /**
+     * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.component.ReportOuterClass.Descriptions.ItemOrBuilder> 
+        getItemsOrBuilderList();
+    /**
+     * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+     */
+    org.secretflow.proto.component.ReportOuterClass.Descriptions.ItemOrBuilder getItemsOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * Displays multiple read-only fields in groups.
+   * </pre>
+   *
+   * Protobuf type {@code secretflow.component.Descriptions}
+   */
+  public static final class Descriptions extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.component.Descriptions)
+      DescriptionsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Descriptions.newBuilder() to construct.
+    private Descriptions(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Descriptions() {
+      name_ = "";
+      desc_ = "";
+      items_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Descriptions();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Descriptions_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Descriptions_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.component.ReportOuterClass.Descriptions.class, org.secretflow.proto.component.ReportOuterClass.Descriptions.Builder.class);
+    }
+
+    public interface ItemOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:secretflow.component.Descriptions.Item)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <pre>
+       * Name of the field.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      java.lang.String getName();
+      /**
+       * <pre>
+       * Name of the field.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
+
+      /**
+       * <code>string desc = 2;</code>
+       * @return The desc.
+       */
+      java.lang.String getDesc();
+      /**
+       * <code>string desc = 2;</code>
+       * @return The bytes for desc.
+       */
+      com.google.protobuf.ByteString
+          getDescBytes();
+
+      /**
+       * <code>.secretflow.component.AttrType type = 3;</code>
+       * @return The enum numeric value on the wire for type.
+       */
+      int getTypeValue();
+      /**
+       * <code>.secretflow.component.AttrType type = 3;</code>
+       * @return The type.
+       */
+      org.secretflow.proto.component.Comp.AttrType getType();
+
+      /**
+       * <code>.secretflow.component.Attribute value = 4;</code>
+       * @return Whether the value field is set.
+       */
+      boolean hasValue();
+      /**
+       * <code>.secretflow.component.Attribute value = 4;</code>
+       * @return The value.
+       */
+      org.secretflow.proto.component.Comp.Attribute getValue();
+      /**
+       * <code>.secretflow.component.Attribute value = 4;</code>
+       */
+      org.secretflow.proto.component.Comp.AttributeOrBuilder getValueOrBuilder();
+    }
+    /**
+     * Protobuf type {@code secretflow.component.Descriptions.Item}
+     */
+    public static final class Item extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:secretflow.component.Descriptions.Item)
+        ItemOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use Item.newBuilder() to construct.
+      private Item(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private Item() {
+        name_ = "";
+        desc_ = "";
+        type_ = 0;
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new Item();
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Descriptions_Item_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Descriptions_Item_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.ReportOuterClass.Descriptions.Item.class, org.secretflow.proto.component.ReportOuterClass.Descriptions.Item.Builder.class);
+      }
+
+      public static final int NAME_FIELD_NUMBER = 1;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * Name of the field.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      @java.lang.Override
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        }
+      }
+      /**
+       * <pre>
+       * Name of the field.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int DESC_FIELD_NUMBER = 2;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object desc_ = "";
+      /**
+       * <code>string desc = 2;</code>
+       * @return The desc.
+       */
+      @java.lang.Override
+      public java.lang.String getDesc() {
+        java.lang.Object ref = desc_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          desc_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @return The bytes for desc.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getDescBytes() {
+        java.lang.Object ref = desc_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          desc_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int TYPE_FIELD_NUMBER = 3;
+      private int type_ = 0;
+      /**
+       * <code>.secretflow.component.AttrType type = 3;</code>
+       * @return The enum numeric value on the wire for type.
+       */
+      @java.lang.Override public int getTypeValue() {
+        return type_;
+      }
+      /**
+       * <code>.secretflow.component.AttrType type = 3;</code>
+       * @return The type.
+       */
+      @java.lang.Override public org.secretflow.proto.component.Comp.AttrType getType() {
+        org.secretflow.proto.component.Comp.AttrType result = org.secretflow.proto.component.Comp.AttrType.forNumber(type_);
+        return result == null ? org.secretflow.proto.component.Comp.AttrType.UNRECOGNIZED : result;
+      }
+
+      public static final int VALUE_FIELD_NUMBER = 4;
+      private org.secretflow.proto.component.Comp.Attribute value_;
+      /**
+       * <code>.secretflow.component.Attribute value = 4;</code>
+       * @return Whether the value field is set.
+       */
+      @java.lang.Override
+      public boolean hasValue() {
+        return value_ != null;
+      }
+      /**
+       * <code>.secretflow.component.Attribute value = 4;</code>
+       * @return The value.
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.Attribute getValue() {
+        return value_ == null ? org.secretflow.proto.component.Comp.Attribute.getDefaultInstance() : value_;
+      }
+      /**
+       * <code>.secretflow.component.Attribute value = 4;</code>
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.AttributeOrBuilder getValueOrBuilder() {
+        return value_ == null ? org.secretflow.proto.component.Comp.Attribute.getDefaultInstance() : value_;
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+        }
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 2, desc_);
+        }
+        if (type_ != org.secretflow.proto.component.Comp.AttrType.AT_UNDEFINED.getNumber()) {
+          output.writeEnum(3, type_);
+        }
+        if (value_ != null) {
+          output.writeMessage(4, getValue());
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+        }
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, desc_);
+        }
+        if (type_ != org.secretflow.proto.component.Comp.AttrType.AT_UNDEFINED.getNumber()) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeEnumSize(3, type_);
+        }
+        if (value_ != null) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(4, getValue());
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.secretflow.proto.component.ReportOuterClass.Descriptions.Item)) {
+          return super.equals(obj);
+        }
+        org.secretflow.proto.component.ReportOuterClass.Descriptions.Item other = (org.secretflow.proto.component.ReportOuterClass.Descriptions.Item) obj;
+
+        if (!getName()
+            .equals(other.getName())) return false;
+        if (!getDesc()
+            .equals(other.getDesc())) return false;
+        if (type_ != other.type_) return false;
+        if (hasValue() != other.hasValue()) return false;
+        if (hasValue()) {
+          if (!getValue()
+              .equals(other.getValue())) return false;
+        }
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getName().hashCode();
+        hash = (37 * hash) + DESC_FIELD_NUMBER;
+        hash = (53 * hash) + getDesc().hashCode();
+        hash = (37 * hash) + TYPE_FIELD_NUMBER;
+        hash = (53 * hash) + type_;
+        if (hasValue()) {
+          hash = (37 * hash) + VALUE_FIELD_NUMBER;
+          hash = (53 * hash) + getValue().hashCode();
+        }
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.secretflow.proto.component.ReportOuterClass.Descriptions.Item parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Descriptions.Item parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Descriptions.Item parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Descriptions.Item parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Descriptions.Item parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Descriptions.Item parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Descriptions.Item parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Descriptions.Item parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Descriptions.Item parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Descriptions.Item parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Descriptions.Item parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Descriptions.Item parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.secretflow.proto.component.ReportOuterClass.Descriptions.Item prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code secretflow.component.Descriptions.Item}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:secretflow.component.Descriptions.Item)
+          org.secretflow.proto.component.ReportOuterClass.Descriptions.ItemOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Descriptions_Item_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Descriptions_Item_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.secretflow.proto.component.ReportOuterClass.Descriptions.Item.class, org.secretflow.proto.component.ReportOuterClass.Descriptions.Item.Builder.class);
+        }
+
+        // Construct using org.secretflow.proto.component.ReportOuterClass.Descriptions.Item.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          name_ = "";
+          desc_ = "";
+          type_ = 0;
+          value_ = null;
+          if (valueBuilder_ != null) {
+            valueBuilder_.dispose();
+            valueBuilder_ = null;
+          }
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Descriptions_Item_descriptor;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.ReportOuterClass.Descriptions.Item getDefaultInstanceForType() {
+          return org.secretflow.proto.component.ReportOuterClass.Descriptions.Item.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.ReportOuterClass.Descriptions.Item build() {
+          org.secretflow.proto.component.ReportOuterClass.Descriptions.Item result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.ReportOuterClass.Descriptions.Item buildPartial() {
+          org.secretflow.proto.component.ReportOuterClass.Descriptions.Item result = new org.secretflow.proto.component.ReportOuterClass.Descriptions.Item(this);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartial0(org.secretflow.proto.component.ReportOuterClass.Descriptions.Item result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.name_ = name_;
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.desc_ = desc_;
+          }
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            result.type_ = type_;
+          }
+          if (((from_bitField0_ & 0x00000008) != 0)) {
+            result.value_ = valueBuilder_ == null
+                ? value_
+                : valueBuilder_.build();
+          }
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.secretflow.proto.component.ReportOuterClass.Descriptions.Item) {
+            return mergeFrom((org.secretflow.proto.component.ReportOuterClass.Descriptions.Item)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.secretflow.proto.component.ReportOuterClass.Descriptions.Item other) {
+          if (other == org.secretflow.proto.component.ReportOuterClass.Descriptions.Item.getDefaultInstance()) return this;
+          if (!other.getName().isEmpty()) {
+            name_ = other.name_;
+            bitField0_ |= 0x00000001;
+            onChanged();
+          }
+          if (!other.getDesc().isEmpty()) {
+            desc_ = other.desc_;
+            bitField0_ |= 0x00000002;
+            onChanged();
+          }
+          if (other.type_ != 0) {
+            setTypeValue(other.getTypeValue());
+          }
+          if (other.hasValue()) {
+            mergeValue(other.getValue());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 10: {
+                  name_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 10
+                case 18: {
+                  desc_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000002;
+                  break;
+                } // case 18
+                case 24: {
+                  type_ = input.readEnum();
+                  bitField0_ |= 0x00000004;
+                  break;
+                } // case 24
+                case 34: {
+                  input.readMessage(
+                      getValueFieldBuilder().getBuilder(),
+                      extensionRegistry);
+                  bitField0_ |= 0x00000008;
+                  break;
+                } // case 34
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object name_ = "";
+        /**
+         * <pre>
+         * Name of the field.
+         * </pre>
+         *
+         * <code>string name = 1;</code>
+         * @return The name.
+         */
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            name_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <pre>
+         * Name of the field.
+         * </pre>
+         *
+         * <code>string name = 1;</code>
+         * @return The bytes for name.
+         */
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <pre>
+         * Name of the field.
+         * </pre>
+         *
+         * <code>string name = 1;</code>
+         * @param value The name to set.
+         * @return This builder for chaining.
+         */
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          name_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Name of the field.
+         * </pre>
+         *
+         * <code>string name = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearName() {
+          name_ = getDefaultInstance().getName();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Name of the field.
+         * </pre>
+         *
+         * <code>string name = 1;</code>
+         * @param value The bytes for name to set.
+         * @return This builder for chaining.
+         */
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          name_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object desc_ = "";
+        /**
+         * <code>string desc = 2;</code>
+         * @return The desc.
+         */
+        public java.lang.String getDesc() {
+          java.lang.Object ref = desc_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            desc_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string desc = 2;</code>
+         * @return The bytes for desc.
+         */
+        public com.google.protobuf.ByteString
+            getDescBytes() {
+          java.lang.Object ref = desc_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            desc_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string desc = 2;</code>
+         * @param value The desc to set.
+         * @return This builder for chaining.
+         */
+        public Builder setDesc(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          desc_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string desc = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearDesc() {
+          desc_ = getDefaultInstance().getDesc();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string desc = 2;</code>
+         * @param value The bytes for desc to set.
+         * @return This builder for chaining.
+         */
+        public Builder setDescBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          desc_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+
+        private int type_ = 0;
+        /**
+         * <code>.secretflow.component.AttrType type = 3;</code>
+         * @return The enum numeric value on the wire for type.
+         */
+        @java.lang.Override public int getTypeValue() {
+          return type_;
+        }
+        /**
+         * <code>.secretflow.component.AttrType type = 3;</code>
+         * @param value The enum numeric value on the wire for type to set.
+         * @return This builder for chaining.
+         */
+        public Builder setTypeValue(int value) {
+          type_ = value;
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.AttrType type = 3;</code>
+         * @return The type.
+         */
+        @java.lang.Override
+        public org.secretflow.proto.component.Comp.AttrType getType() {
+          org.secretflow.proto.component.Comp.AttrType result = org.secretflow.proto.component.Comp.AttrType.forNumber(type_);
+          return result == null ? org.secretflow.proto.component.Comp.AttrType.UNRECOGNIZED : result;
+        }
+        /**
+         * <code>.secretflow.component.AttrType type = 3;</code>
+         * @param value The type to set.
+         * @return This builder for chaining.
+         */
+        public Builder setType(org.secretflow.proto.component.Comp.AttrType value) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          bitField0_ |= 0x00000004;
+          type_ = value.getNumber();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.AttrType type = 3;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearType() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          type_ = 0;
+          onChanged();
+          return this;
+        }
+
+        private org.secretflow.proto.component.Comp.Attribute value_;
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder> valueBuilder_;
+        /**
+         * <code>.secretflow.component.Attribute value = 4;</code>
+         * @return Whether the value field is set.
+         */
+        public boolean hasValue() {
+          return ((bitField0_ & 0x00000008) != 0);
+        }
+        /**
+         * <code>.secretflow.component.Attribute value = 4;</code>
+         * @return The value.
+         */
+        public org.secretflow.proto.component.Comp.Attribute getValue() {
+          if (valueBuilder_ == null) {
+            return value_ == null ? org.secretflow.proto.component.Comp.Attribute.getDefaultInstance() : value_;
+          } else {
+            return valueBuilder_.getMessage();
+          }
+        }
+        /**
+         * <code>.secretflow.component.Attribute value = 4;</code>
+         */
+        public Builder setValue(org.secretflow.proto.component.Comp.Attribute value) {
+          if (valueBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            value_ = value;
+          } else {
+            valueBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Attribute value = 4;</code>
+         */
+        public Builder setValue(
+            org.secretflow.proto.component.Comp.Attribute.Builder builderForValue) {
+          if (valueBuilder_ == null) {
+            value_ = builderForValue.build();
+          } else {
+            valueBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Attribute value = 4;</code>
+         */
+        public Builder mergeValue(org.secretflow.proto.component.Comp.Attribute value) {
+          if (valueBuilder_ == null) {
+            if (((bitField0_ & 0x00000008) != 0) &&
+              value_ != null &&
+              value_ != org.secretflow.proto.component.Comp.Attribute.getDefaultInstance()) {
+              getValueBuilder().mergeFrom(value);
+            } else {
+              value_ = value;
+            }
+          } else {
+            valueBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Attribute value = 4;</code>
+         */
+        public Builder clearValue() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          value_ = null;
+          if (valueBuilder_ != null) {
+            valueBuilder_.dispose();
+            valueBuilder_ = null;
+          }
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Attribute value = 4;</code>
+         */
+        public org.secretflow.proto.component.Comp.Attribute.Builder getValueBuilder() {
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return getValueFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>.secretflow.component.Attribute value = 4;</code>
+         */
+        public org.secretflow.proto.component.Comp.AttributeOrBuilder getValueOrBuilder() {
+          if (valueBuilder_ != null) {
+            return valueBuilder_.getMessageOrBuilder();
+          } else {
+            return value_ == null ?
+                org.secretflow.proto.component.Comp.Attribute.getDefaultInstance() : value_;
+          }
+        }
+        /**
+         * <code>.secretflow.component.Attribute value = 4;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder> 
+            getValueFieldBuilder() {
+          if (valueBuilder_ == null) {
+            valueBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder>(
+                    getValue(),
+                    getParentForChildren(),
+                    isClean());
+            value_ = null;
+          }
+          return valueBuilder_;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:secretflow.component.Descriptions.Item)
+      }
+
+      // @@protoc_insertion_point(class_scope:secretflow.component.Descriptions.Item)
+      private static final org.secretflow.proto.component.ReportOuterClass.Descriptions.Item DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.secretflow.proto.component.ReportOuterClass.Descriptions.Item();
+      }
+
+      public static org.secretflow.proto.component.ReportOuterClass.Descriptions.Item getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<Item>
+          PARSER = new com.google.protobuf.AbstractParser<Item>() {
+        @java.lang.Override
+        public Item parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<Item> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Item> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Descriptions.Item getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <pre>
+     * Name of the group.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Name of the group.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DESC_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object desc_ = "";
+    /**
+     * <code>string desc = 2;</code>
+     * @return The desc.
+     */
+    @java.lang.Override
+    public java.lang.String getDesc() {
+      java.lang.Object ref = desc_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        desc_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string desc = 2;</code>
+     * @return The bytes for desc.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDescBytes() {
+      java.lang.Object ref = desc_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        desc_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ITEMS_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.component.ReportOuterClass.Descriptions.Item> items_;
+    /**
+     * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.component.ReportOuterClass.Descriptions.Item> getItemsList() {
+      return items_;
+    }
+    /**
+     * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.component.ReportOuterClass.Descriptions.ItemOrBuilder> 
+        getItemsOrBuilderList() {
+      return items_;
+    }
+    /**
+     * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+     */
+    @java.lang.Override
+    public int getItemsCount() {
+      return items_.size();
+    }
+    /**
+     * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.ReportOuterClass.Descriptions.Item getItems(int index) {
+      return items_.get(index);
+    }
+    /**
+     * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.ReportOuterClass.Descriptions.ItemOrBuilder getItemsOrBuilder(
+        int index) {
+      return items_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, desc_);
+      }
+      for (int i = 0; i < items_.size(); i++) {
+        output.writeMessage(3, items_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, desc_);
+      }
+      for (int i = 0; i < items_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, items_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.component.ReportOuterClass.Descriptions)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.component.ReportOuterClass.Descriptions other = (org.secretflow.proto.component.ReportOuterClass.Descriptions) obj;
+
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getDesc()
+          .equals(other.getDesc())) return false;
+      if (!getItemsList()
+          .equals(other.getItemsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + DESC_FIELD_NUMBER;
+      hash = (53 * hash) + getDesc().hashCode();
+      if (getItemsCount() > 0) {
+        hash = (37 * hash) + ITEMS_FIELD_NUMBER;
+        hash = (53 * hash) + getItemsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.component.ReportOuterClass.Descriptions parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Descriptions parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Descriptions parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Descriptions parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Descriptions parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Descriptions parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Descriptions parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Descriptions parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Descriptions parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Descriptions parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Descriptions parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Descriptions parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.component.ReportOuterClass.Descriptions prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Displays multiple read-only fields in groups.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.Descriptions}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.component.Descriptions)
+        org.secretflow.proto.component.ReportOuterClass.DescriptionsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Descriptions_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Descriptions_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.ReportOuterClass.Descriptions.class, org.secretflow.proto.component.ReportOuterClass.Descriptions.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.component.ReportOuterClass.Descriptions.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        name_ = "";
+        desc_ = "";
+        if (itemsBuilder_ == null) {
+          items_ = java.util.Collections.emptyList();
+        } else {
+          items_ = null;
+          itemsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Descriptions_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Descriptions getDefaultInstanceForType() {
+        return org.secretflow.proto.component.ReportOuterClass.Descriptions.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Descriptions build() {
+        org.secretflow.proto.component.ReportOuterClass.Descriptions result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Descriptions buildPartial() {
+        org.secretflow.proto.component.ReportOuterClass.Descriptions result = new org.secretflow.proto.component.ReportOuterClass.Descriptions(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.proto.component.ReportOuterClass.Descriptions result) {
+        if (itemsBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            items_ = java.util.Collections.unmodifiableList(items_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.items_ = items_;
+        } else {
+          result.items_ = itemsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.proto.component.ReportOuterClass.Descriptions result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.desc_ = desc_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.component.ReportOuterClass.Descriptions) {
+          return mergeFrom((org.secretflow.proto.component.ReportOuterClass.Descriptions)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.component.ReportOuterClass.Descriptions other) {
+        if (other == org.secretflow.proto.component.ReportOuterClass.Descriptions.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getDesc().isEmpty()) {
+          desc_ = other.desc_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (itemsBuilder_ == null) {
+          if (!other.items_.isEmpty()) {
+            if (items_.isEmpty()) {
+              items_ = other.items_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureItemsIsMutable();
+              items_.addAll(other.items_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.items_.isEmpty()) {
+            if (itemsBuilder_.isEmpty()) {
+              itemsBuilder_.dispose();
+              itemsBuilder_ = null;
+              items_ = other.items_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              itemsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getItemsFieldBuilder() : null;
+            } else {
+              itemsBuilder_.addAllMessages(other.items_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                desc_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                org.secretflow.proto.component.ReportOuterClass.Descriptions.Item m =
+                    input.readMessage(
+                        org.secretflow.proto.component.ReportOuterClass.Descriptions.Item.parser(),
+                        extensionRegistry);
+                if (itemsBuilder_ == null) {
+                  ensureItemsIsMutable();
+                  items_.add(m);
+                } else {
+                  itemsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * Name of the group.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Name of the group.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Name of the group.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Name of the group.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Name of the group.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object desc_ = "";
+      /**
+       * <code>string desc = 2;</code>
+       * @return The desc.
+       */
+      public java.lang.String getDesc() {
+        java.lang.Object ref = desc_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          desc_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @return The bytes for desc.
+       */
+      public com.google.protobuf.ByteString
+          getDescBytes() {
+        java.lang.Object ref = desc_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          desc_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @param value The desc to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDesc(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        desc_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDesc() {
+        desc_ = getDefaultInstance().getDesc();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @param value The bytes for desc to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDescBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        desc_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.proto.component.ReportOuterClass.Descriptions.Item> items_ =
+        java.util.Collections.emptyList();
+      private void ensureItemsIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          items_ = new java.util.ArrayList<org.secretflow.proto.component.ReportOuterClass.Descriptions.Item>(items_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.ReportOuterClass.Descriptions.Item, org.secretflow.proto.component.ReportOuterClass.Descriptions.Item.Builder, org.secretflow.proto.component.ReportOuterClass.Descriptions.ItemOrBuilder> itemsBuilder_;
+
+      /**
+       * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.ReportOuterClass.Descriptions.Item> getItemsList() {
+        if (itemsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(items_);
+        } else {
+          return itemsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+       */
+      public int getItemsCount() {
+        if (itemsBuilder_ == null) {
+          return items_.size();
+        } else {
+          return itemsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Descriptions.Item getItems(int index) {
+        if (itemsBuilder_ == null) {
+          return items_.get(index);
+        } else {
+          return itemsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+       */
+      public Builder setItems(
+          int index, org.secretflow.proto.component.ReportOuterClass.Descriptions.Item value) {
+        if (itemsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureItemsIsMutable();
+          items_.set(index, value);
+          onChanged();
+        } else {
+          itemsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+       */
+      public Builder setItems(
+          int index, org.secretflow.proto.component.ReportOuterClass.Descriptions.Item.Builder builderForValue) {
+        if (itemsBuilder_ == null) {
+          ensureItemsIsMutable();
+          items_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          itemsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+       */
+      public Builder addItems(org.secretflow.proto.component.ReportOuterClass.Descriptions.Item value) {
+        if (itemsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureItemsIsMutable();
+          items_.add(value);
+          onChanged();
+        } else {
+          itemsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+       */
+      public Builder addItems(
+          int index, org.secretflow.proto.component.ReportOuterClass.Descriptions.Item value) {
+        if (itemsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureItemsIsMutable();
+          items_.add(index, value);
+          onChanged();
+        } else {
+          itemsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+       */
+      public Builder addItems(
+          org.secretflow.proto.component.ReportOuterClass.Descriptions.Item.Builder builderForValue) {
+        if (itemsBuilder_ == null) {
+          ensureItemsIsMutable();
+          items_.add(builderForValue.build());
+          onChanged();
+        } else {
+          itemsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+       */
+      public Builder addItems(
+          int index, org.secretflow.proto.component.ReportOuterClass.Descriptions.Item.Builder builderForValue) {
+        if (itemsBuilder_ == null) {
+          ensureItemsIsMutable();
+          items_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          itemsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+       */
+      public Builder addAllItems(
+          java.lang.Iterable<? extends org.secretflow.proto.component.ReportOuterClass.Descriptions.Item> values) {
+        if (itemsBuilder_ == null) {
+          ensureItemsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, items_);
+          onChanged();
+        } else {
+          itemsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+       */
+      public Builder clearItems() {
+        if (itemsBuilder_ == null) {
+          items_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          itemsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+       */
+      public Builder removeItems(int index) {
+        if (itemsBuilder_ == null) {
+          ensureItemsIsMutable();
+          items_.remove(index);
+          onChanged();
+        } else {
+          itemsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Descriptions.Item.Builder getItemsBuilder(
+          int index) {
+        return getItemsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Descriptions.ItemOrBuilder getItemsOrBuilder(
+          int index) {
+        if (itemsBuilder_ == null) {
+          return items_.get(index);  } else {
+          return itemsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.component.ReportOuterClass.Descriptions.ItemOrBuilder> 
+           getItemsOrBuilderList() {
+        if (itemsBuilder_ != null) {
+          return itemsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(items_);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Descriptions.Item.Builder addItemsBuilder() {
+        return getItemsFieldBuilder().addBuilder(
+            org.secretflow.proto.component.ReportOuterClass.Descriptions.Item.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Descriptions.Item.Builder addItemsBuilder(
+          int index) {
+        return getItemsFieldBuilder().addBuilder(
+            index, org.secretflow.proto.component.ReportOuterClass.Descriptions.Item.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.Descriptions.Item items = 3;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.ReportOuterClass.Descriptions.Item.Builder> 
+           getItemsBuilderList() {
+        return getItemsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.ReportOuterClass.Descriptions.Item, org.secretflow.proto.component.ReportOuterClass.Descriptions.Item.Builder, org.secretflow.proto.component.ReportOuterClass.Descriptions.ItemOrBuilder> 
+          getItemsFieldBuilder() {
+        if (itemsBuilder_ == null) {
+          itemsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.component.ReportOuterClass.Descriptions.Item, org.secretflow.proto.component.ReportOuterClass.Descriptions.Item.Builder, org.secretflow.proto.component.ReportOuterClass.Descriptions.ItemOrBuilder>(
+                  items_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          items_ = null;
+        }
+        return itemsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.component.Descriptions)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.component.Descriptions)
+    private static final org.secretflow.proto.component.ReportOuterClass.Descriptions DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.component.ReportOuterClass.Descriptions();
+    }
+
+    public static org.secretflow.proto.component.ReportOuterClass.Descriptions getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Descriptions>
+        PARSER = new com.google.protobuf.AbstractParser<Descriptions>() {
+      @java.lang.Override
+      public Descriptions parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Descriptions> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Descriptions> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.component.ReportOuterClass.Descriptions getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TableOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.component.Table)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Name of the table
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <pre>
+     * Name of the table
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>string desc = 2;</code>
+     * @return The desc.
+     */
+    java.lang.String getDesc();
+    /**
+     * <code>string desc = 2;</code>
+     * @return The bytes for desc.
+     */
+    com.google.protobuf.ByteString
+        getDescBytes();
+
+    /**
+     * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+     */
+    java.util.List<org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem> 
+        getHeadersList();
+    /**
+     * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+     */
+    org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem getHeaders(int index);
+    /**
+     * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+     */
+    int getHeadersCount();
+    /**
+     * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.component.ReportOuterClass.Table.HeaderItemOrBuilder> 
+        getHeadersOrBuilderList();
+    /**
+     * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+     */
+    org.secretflow.proto.component.ReportOuterClass.Table.HeaderItemOrBuilder getHeadersOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+     */
+    java.util.List<org.secretflow.proto.component.ReportOuterClass.Table.Row> 
+        getRowsList();
+    /**
+     * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+     */
+    org.secretflow.proto.component.ReportOuterClass.Table.Row getRows(int index);
+    /**
+     * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+     */
+    int getRowsCount();
+    /**
+     * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.component.ReportOuterClass.Table.RowOrBuilder> 
+        getRowsOrBuilderList();
+    /**
+     * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+     */
+    org.secretflow.proto.component.ReportOuterClass.Table.RowOrBuilder getRowsOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * Displays rows of data.
+   * </pre>
+   *
+   * Protobuf type {@code secretflow.component.Table}
+   */
+  public static final class Table extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.component.Table)
+      TableOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Table.newBuilder() to construct.
+    private Table(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Table() {
+      name_ = "";
+      desc_ = "";
+      headers_ = java.util.Collections.emptyList();
+      rows_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Table();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Table_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Table_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.component.ReportOuterClass.Table.class, org.secretflow.proto.component.ReportOuterClass.Table.Builder.class);
+    }
+
+    public interface HeaderItemOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:secretflow.component.Table.HeaderItem)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      java.lang.String getName();
+      /**
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
+
+      /**
+       * <code>string desc = 2;</code>
+       * @return The desc.
+       */
+      java.lang.String getDesc();
+      /**
+       * <code>string desc = 2;</code>
+       * @return The bytes for desc.
+       */
+      com.google.protobuf.ByteString
+          getDescBytes();
+
+      /**
+       * <code>.secretflow.component.AttrType type = 3;</code>
+       * @return The enum numeric value on the wire for type.
+       */
+      int getTypeValue();
+      /**
+       * <code>.secretflow.component.AttrType type = 3;</code>
+       * @return The type.
+       */
+      org.secretflow.proto.component.Comp.AttrType getType();
+    }
+    /**
+     * Protobuf type {@code secretflow.component.Table.HeaderItem}
+     */
+    public static final class HeaderItem extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:secretflow.component.Table.HeaderItem)
+        HeaderItemOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use HeaderItem.newBuilder() to construct.
+      private HeaderItem(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private HeaderItem() {
+        name_ = "";
+        desc_ = "";
+        type_ = 0;
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new HeaderItem();
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Table_HeaderItem_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Table_HeaderItem_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem.class, org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem.Builder.class);
+      }
+
+      public static final int NAME_FIELD_NUMBER = 1;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object name_ = "";
+      /**
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      @java.lang.Override
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int DESC_FIELD_NUMBER = 2;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object desc_ = "";
+      /**
+       * <code>string desc = 2;</code>
+       * @return The desc.
+       */
+      @java.lang.Override
+      public java.lang.String getDesc() {
+        java.lang.Object ref = desc_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          desc_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @return The bytes for desc.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getDescBytes() {
+        java.lang.Object ref = desc_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          desc_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int TYPE_FIELD_NUMBER = 3;
+      private int type_ = 0;
+      /**
+       * <code>.secretflow.component.AttrType type = 3;</code>
+       * @return The enum numeric value on the wire for type.
+       */
+      @java.lang.Override public int getTypeValue() {
+        return type_;
+      }
+      /**
+       * <code>.secretflow.component.AttrType type = 3;</code>
+       * @return The type.
+       */
+      @java.lang.Override public org.secretflow.proto.component.Comp.AttrType getType() {
+        org.secretflow.proto.component.Comp.AttrType result = org.secretflow.proto.component.Comp.AttrType.forNumber(type_);
+        return result == null ? org.secretflow.proto.component.Comp.AttrType.UNRECOGNIZED : result;
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+        }
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 2, desc_);
+        }
+        if (type_ != org.secretflow.proto.component.Comp.AttrType.AT_UNDEFINED.getNumber()) {
+          output.writeEnum(3, type_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+        }
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, desc_);
+        }
+        if (type_ != org.secretflow.proto.component.Comp.AttrType.AT_UNDEFINED.getNumber()) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeEnumSize(3, type_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem)) {
+          return super.equals(obj);
+        }
+        org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem other = (org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem) obj;
+
+        if (!getName()
+            .equals(other.getName())) return false;
+        if (!getDesc()
+            .equals(other.getDesc())) return false;
+        if (type_ != other.type_) return false;
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getName().hashCode();
+        hash = (37 * hash) + DESC_FIELD_NUMBER;
+        hash = (53 * hash) + getDesc().hashCode();
+        hash = (37 * hash) + TYPE_FIELD_NUMBER;
+        hash = (53 * hash) + type_;
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code secretflow.component.Table.HeaderItem}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:secretflow.component.Table.HeaderItem)
+          org.secretflow.proto.component.ReportOuterClass.Table.HeaderItemOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Table_HeaderItem_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Table_HeaderItem_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem.class, org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem.Builder.class);
+        }
+
+        // Construct using org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          name_ = "";
+          desc_ = "";
+          type_ = 0;
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Table_HeaderItem_descriptor;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem getDefaultInstanceForType() {
+          return org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem build() {
+          org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem buildPartial() {
+          org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem result = new org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem(this);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartial0(org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.name_ = name_;
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.desc_ = desc_;
+          }
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            result.type_ = type_;
+          }
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem) {
+            return mergeFrom((org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem other) {
+          if (other == org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem.getDefaultInstance()) return this;
+          if (!other.getName().isEmpty()) {
+            name_ = other.name_;
+            bitField0_ |= 0x00000001;
+            onChanged();
+          }
+          if (!other.getDesc().isEmpty()) {
+            desc_ = other.desc_;
+            bitField0_ |= 0x00000002;
+            onChanged();
+          }
+          if (other.type_ != 0) {
+            setTypeValue(other.getTypeValue());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 10: {
+                  name_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 10
+                case 18: {
+                  desc_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000002;
+                  break;
+                } // case 18
+                case 24: {
+                  type_ = input.readEnum();
+                  bitField0_ |= 0x00000004;
+                  break;
+                } // case 24
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object name_ = "";
+        /**
+         * <code>string name = 1;</code>
+         * @return The name.
+         */
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            name_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string name = 1;</code>
+         * @return The bytes for name.
+         */
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string name = 1;</code>
+         * @param value The name to set.
+         * @return This builder for chaining.
+         */
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          name_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string name = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearName() {
+          name_ = getDefaultInstance().getName();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string name = 1;</code>
+         * @param value The bytes for name to set.
+         * @return This builder for chaining.
+         */
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          name_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object desc_ = "";
+        /**
+         * <code>string desc = 2;</code>
+         * @return The desc.
+         */
+        public java.lang.String getDesc() {
+          java.lang.Object ref = desc_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            desc_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string desc = 2;</code>
+         * @return The bytes for desc.
+         */
+        public com.google.protobuf.ByteString
+            getDescBytes() {
+          java.lang.Object ref = desc_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            desc_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string desc = 2;</code>
+         * @param value The desc to set.
+         * @return This builder for chaining.
+         */
+        public Builder setDesc(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          desc_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string desc = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearDesc() {
+          desc_ = getDefaultInstance().getDesc();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string desc = 2;</code>
+         * @param value The bytes for desc to set.
+         * @return This builder for chaining.
+         */
+        public Builder setDescBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          desc_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+
+        private int type_ = 0;
+        /**
+         * <code>.secretflow.component.AttrType type = 3;</code>
+         * @return The enum numeric value on the wire for type.
+         */
+        @java.lang.Override public int getTypeValue() {
+          return type_;
+        }
+        /**
+         * <code>.secretflow.component.AttrType type = 3;</code>
+         * @param value The enum numeric value on the wire for type to set.
+         * @return This builder for chaining.
+         */
+        public Builder setTypeValue(int value) {
+          type_ = value;
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.AttrType type = 3;</code>
+         * @return The type.
+         */
+        @java.lang.Override
+        public org.secretflow.proto.component.Comp.AttrType getType() {
+          org.secretflow.proto.component.Comp.AttrType result = org.secretflow.proto.component.Comp.AttrType.forNumber(type_);
+          return result == null ? org.secretflow.proto.component.Comp.AttrType.UNRECOGNIZED : result;
+        }
+        /**
+         * <code>.secretflow.component.AttrType type = 3;</code>
+         * @param value The type to set.
+         * @return This builder for chaining.
+         */
+        public Builder setType(org.secretflow.proto.component.Comp.AttrType value) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          bitField0_ |= 0x00000004;
+          type_ = value.getNumber();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.AttrType type = 3;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearType() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          type_ = 0;
+          onChanged();
+          return this;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:secretflow.component.Table.HeaderItem)
+      }
+
+      // @@protoc_insertion_point(class_scope:secretflow.component.Table.HeaderItem)
+      private static final org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem();
+      }
+
+      public static org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<HeaderItem>
+          PARSER = new com.google.protobuf.AbstractParser<HeaderItem>() {
+        @java.lang.Override
+        public HeaderItem parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<HeaderItem> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<HeaderItem> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public interface RowOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:secretflow.component.Table.Row)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      java.lang.String getName();
+      /**
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
+
+      /**
+       * <code>string desc = 2;</code>
+       * @return The desc.
+       */
+      java.lang.String getDesc();
+      /**
+       * <code>string desc = 2;</code>
+       * @return The bytes for desc.
+       */
+      com.google.protobuf.ByteString
+          getDescBytes();
+
+      /**
+       * <code>repeated .secretflow.component.Attribute items = 3;</code>
+       */
+      java.util.List<org.secretflow.proto.component.Comp.Attribute> 
+          getItemsList();
+      /**
+       * <code>repeated .secretflow.component.Attribute items = 3;</code>
+       */
+      org.secretflow.proto.component.Comp.Attribute getItems(int index);
+      /**
+       * <code>repeated .secretflow.component.Attribute items = 3;</code>
+       */
+      int getItemsCount();
+      /**
+       * <code>repeated .secretflow.component.Attribute items = 3;</code>
+       */
+      java.util.List<? extends org.secretflow.proto.component.Comp.AttributeOrBuilder> 
+          getItemsOrBuilderList();
+      /**
+       * <code>repeated .secretflow.component.Attribute items = 3;</code>
+       */
+      org.secretflow.proto.component.Comp.AttributeOrBuilder getItemsOrBuilder(
+          int index);
+    }
+    /**
+     * Protobuf type {@code secretflow.component.Table.Row}
+     */
+    public static final class Row extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:secretflow.component.Table.Row)
+        RowOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use Row.newBuilder() to construct.
+      private Row(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private Row() {
+        name_ = "";
+        desc_ = "";
+        items_ = java.util.Collections.emptyList();
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new Row();
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Table_Row_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Table_Row_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.ReportOuterClass.Table.Row.class, org.secretflow.proto.component.ReportOuterClass.Table.Row.Builder.class);
+      }
+
+      public static final int NAME_FIELD_NUMBER = 1;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object name_ = "";
+      /**
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      @java.lang.Override
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int DESC_FIELD_NUMBER = 2;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object desc_ = "";
+      /**
+       * <code>string desc = 2;</code>
+       * @return The desc.
+       */
+      @java.lang.Override
+      public java.lang.String getDesc() {
+        java.lang.Object ref = desc_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          desc_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @return The bytes for desc.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getDescBytes() {
+        java.lang.Object ref = desc_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          desc_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int ITEMS_FIELD_NUMBER = 3;
+      @SuppressWarnings("serial")
+      private java.util.List<org.secretflow.proto.component.Comp.Attribute> items_;
+      /**
+       * <code>repeated .secretflow.component.Attribute items = 3;</code>
+       */
+      @java.lang.Override
+      public java.util.List<org.secretflow.proto.component.Comp.Attribute> getItemsList() {
+        return items_;
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute items = 3;</code>
+       */
+      @java.lang.Override
+      public java.util.List<? extends org.secretflow.proto.component.Comp.AttributeOrBuilder> 
+          getItemsOrBuilderList() {
+        return items_;
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute items = 3;</code>
+       */
+      @java.lang.Override
+      public int getItemsCount() {
+        return items_.size();
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute items = 3;</code>
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.Attribute getItems(int index) {
+        return items_.get(index);
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute items = 3;</code>
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.Comp.AttributeOrBuilder getItemsOrBuilder(
+          int index) {
+        return items_.get(index);
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+        }
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 2, desc_);
+        }
+        for (int i = 0; i < items_.size(); i++) {
+          output.writeMessage(3, items_.get(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+        }
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, desc_);
+        }
+        for (int i = 0; i < items_.size(); i++) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(3, items_.get(i));
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.secretflow.proto.component.ReportOuterClass.Table.Row)) {
+          return super.equals(obj);
+        }
+        org.secretflow.proto.component.ReportOuterClass.Table.Row other = (org.secretflow.proto.component.ReportOuterClass.Table.Row) obj;
+
+        if (!getName()
+            .equals(other.getName())) return false;
+        if (!getDesc()
+            .equals(other.getDesc())) return false;
+        if (!getItemsList()
+            .equals(other.getItemsList())) return false;
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getName().hashCode();
+        hash = (37 * hash) + DESC_FIELD_NUMBER;
+        hash = (53 * hash) + getDesc().hashCode();
+        if (getItemsCount() > 0) {
+          hash = (37 * hash) + ITEMS_FIELD_NUMBER;
+          hash = (53 * hash) + getItemsList().hashCode();
+        }
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.secretflow.proto.component.ReportOuterClass.Table.Row parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.Row parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.Row parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.Row parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.Row parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.Row parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.Row parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.Row parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.Row parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.Row parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.Row parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Table.Row parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.secretflow.proto.component.ReportOuterClass.Table.Row prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code secretflow.component.Table.Row}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:secretflow.component.Table.Row)
+          org.secretflow.proto.component.ReportOuterClass.Table.RowOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Table_Row_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Table_Row_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.secretflow.proto.component.ReportOuterClass.Table.Row.class, org.secretflow.proto.component.ReportOuterClass.Table.Row.Builder.class);
+        }
+
+        // Construct using org.secretflow.proto.component.ReportOuterClass.Table.Row.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          name_ = "";
+          desc_ = "";
+          if (itemsBuilder_ == null) {
+            items_ = java.util.Collections.emptyList();
+          } else {
+            items_ = null;
+            itemsBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000004);
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Table_Row_descriptor;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.ReportOuterClass.Table.Row getDefaultInstanceForType() {
+          return org.secretflow.proto.component.ReportOuterClass.Table.Row.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.ReportOuterClass.Table.Row build() {
+          org.secretflow.proto.component.ReportOuterClass.Table.Row result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.ReportOuterClass.Table.Row buildPartial() {
+          org.secretflow.proto.component.ReportOuterClass.Table.Row result = new org.secretflow.proto.component.ReportOuterClass.Table.Row(this);
+          buildPartialRepeatedFields(result);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartialRepeatedFields(org.secretflow.proto.component.ReportOuterClass.Table.Row result) {
+          if (itemsBuilder_ == null) {
+            if (((bitField0_ & 0x00000004) != 0)) {
+              items_ = java.util.Collections.unmodifiableList(items_);
+              bitField0_ = (bitField0_ & ~0x00000004);
+            }
+            result.items_ = items_;
+          } else {
+            result.items_ = itemsBuilder_.build();
+          }
+        }
+
+        private void buildPartial0(org.secretflow.proto.component.ReportOuterClass.Table.Row result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.name_ = name_;
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.desc_ = desc_;
+          }
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.secretflow.proto.component.ReportOuterClass.Table.Row) {
+            return mergeFrom((org.secretflow.proto.component.ReportOuterClass.Table.Row)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.secretflow.proto.component.ReportOuterClass.Table.Row other) {
+          if (other == org.secretflow.proto.component.ReportOuterClass.Table.Row.getDefaultInstance()) return this;
+          if (!other.getName().isEmpty()) {
+            name_ = other.name_;
+            bitField0_ |= 0x00000001;
+            onChanged();
+          }
+          if (!other.getDesc().isEmpty()) {
+            desc_ = other.desc_;
+            bitField0_ |= 0x00000002;
+            onChanged();
+          }
+          if (itemsBuilder_ == null) {
+            if (!other.items_.isEmpty()) {
+              if (items_.isEmpty()) {
+                items_ = other.items_;
+                bitField0_ = (bitField0_ & ~0x00000004);
+              } else {
+                ensureItemsIsMutable();
+                items_.addAll(other.items_);
+              }
+              onChanged();
+            }
+          } else {
+            if (!other.items_.isEmpty()) {
+              if (itemsBuilder_.isEmpty()) {
+                itemsBuilder_.dispose();
+                itemsBuilder_ = null;
+                items_ = other.items_;
+                bitField0_ = (bitField0_ & ~0x00000004);
+                itemsBuilder_ = 
+                  com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                     getItemsFieldBuilder() : null;
+              } else {
+                itemsBuilder_.addAllMessages(other.items_);
+              }
+            }
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 10: {
+                  name_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 10
+                case 18: {
+                  desc_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000002;
+                  break;
+                } // case 18
+                case 26: {
+                  org.secretflow.proto.component.Comp.Attribute m =
+                      input.readMessage(
+                          org.secretflow.proto.component.Comp.Attribute.parser(),
+                          extensionRegistry);
+                  if (itemsBuilder_ == null) {
+                    ensureItemsIsMutable();
+                    items_.add(m);
+                  } else {
+                    itemsBuilder_.addMessage(m);
+                  }
+                  break;
+                } // case 26
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object name_ = "";
+        /**
+         * <code>string name = 1;</code>
+         * @return The name.
+         */
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            name_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string name = 1;</code>
+         * @return The bytes for name.
+         */
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string name = 1;</code>
+         * @param value The name to set.
+         * @return This builder for chaining.
+         */
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          name_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string name = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearName() {
+          name_ = getDefaultInstance().getName();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string name = 1;</code>
+         * @param value The bytes for name to set.
+         * @return This builder for chaining.
+         */
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          name_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object desc_ = "";
+        /**
+         * <code>string desc = 2;</code>
+         * @return The desc.
+         */
+        public java.lang.String getDesc() {
+          java.lang.Object ref = desc_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            desc_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string desc = 2;</code>
+         * @return The bytes for desc.
+         */
+        public com.google.protobuf.ByteString
+            getDescBytes() {
+          java.lang.Object ref = desc_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            desc_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string desc = 2;</code>
+         * @param value The desc to set.
+         * @return This builder for chaining.
+         */
+        public Builder setDesc(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          desc_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string desc = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearDesc() {
+          desc_ = getDefaultInstance().getDesc();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string desc = 2;</code>
+         * @param value The bytes for desc to set.
+         * @return This builder for chaining.
+         */
+        public Builder setDescBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          desc_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+
+        private java.util.List<org.secretflow.proto.component.Comp.Attribute> items_ =
+          java.util.Collections.emptyList();
+        private void ensureItemsIsMutable() {
+          if (!((bitField0_ & 0x00000004) != 0)) {
+            items_ = new java.util.ArrayList<org.secretflow.proto.component.Comp.Attribute>(items_);
+            bitField0_ |= 0x00000004;
+           }
+        }
+
+        private com.google.protobuf.RepeatedFieldBuilderV3<
+            org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder> itemsBuilder_;
+
+        /**
+         * <code>repeated .secretflow.component.Attribute items = 3;</code>
+         */
+        public java.util.List<org.secretflow.proto.component.Comp.Attribute> getItemsList() {
+          if (itemsBuilder_ == null) {
+            return java.util.Collections.unmodifiableList(items_);
+          } else {
+            return itemsBuilder_.getMessageList();
+          }
+        }
+        /**
+         * <code>repeated .secretflow.component.Attribute items = 3;</code>
+         */
+        public int getItemsCount() {
+          if (itemsBuilder_ == null) {
+            return items_.size();
+          } else {
+            return itemsBuilder_.getCount();
+          }
+        }
+        /**
+         * <code>repeated .secretflow.component.Attribute items = 3;</code>
+         */
+        public org.secretflow.proto.component.Comp.Attribute getItems(int index) {
+          if (itemsBuilder_ == null) {
+            return items_.get(index);
+          } else {
+            return itemsBuilder_.getMessage(index);
+          }
+        }
+        /**
+         * <code>repeated .secretflow.component.Attribute items = 3;</code>
+         */
+        public Builder setItems(
+            int index, org.secretflow.proto.component.Comp.Attribute value) {
+          if (itemsBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureItemsIsMutable();
+            items_.set(index, value);
+            onChanged();
+          } else {
+            itemsBuilder_.setMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .secretflow.component.Attribute items = 3;</code>
+         */
+        public Builder setItems(
+            int index, org.secretflow.proto.component.Comp.Attribute.Builder builderForValue) {
+          if (itemsBuilder_ == null) {
+            ensureItemsIsMutable();
+            items_.set(index, builderForValue.build());
+            onChanged();
+          } else {
+            itemsBuilder_.setMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .secretflow.component.Attribute items = 3;</code>
+         */
+        public Builder addItems(org.secretflow.proto.component.Comp.Attribute value) {
+          if (itemsBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureItemsIsMutable();
+            items_.add(value);
+            onChanged();
+          } else {
+            itemsBuilder_.addMessage(value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .secretflow.component.Attribute items = 3;</code>
+         */
+        public Builder addItems(
+            int index, org.secretflow.proto.component.Comp.Attribute value) {
+          if (itemsBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureItemsIsMutable();
+            items_.add(index, value);
+            onChanged();
+          } else {
+            itemsBuilder_.addMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .secretflow.component.Attribute items = 3;</code>
+         */
+        public Builder addItems(
+            org.secretflow.proto.component.Comp.Attribute.Builder builderForValue) {
+          if (itemsBuilder_ == null) {
+            ensureItemsIsMutable();
+            items_.add(builderForValue.build());
+            onChanged();
+          } else {
+            itemsBuilder_.addMessage(builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .secretflow.component.Attribute items = 3;</code>
+         */
+        public Builder addItems(
+            int index, org.secretflow.proto.component.Comp.Attribute.Builder builderForValue) {
+          if (itemsBuilder_ == null) {
+            ensureItemsIsMutable();
+            items_.add(index, builderForValue.build());
+            onChanged();
+          } else {
+            itemsBuilder_.addMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .secretflow.component.Attribute items = 3;</code>
+         */
+        public Builder addAllItems(
+            java.lang.Iterable<? extends org.secretflow.proto.component.Comp.Attribute> values) {
+          if (itemsBuilder_ == null) {
+            ensureItemsIsMutable();
+            com.google.protobuf.AbstractMessageLite.Builder.addAll(
+                values, items_);
+            onChanged();
+          } else {
+            itemsBuilder_.addAllMessages(values);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .secretflow.component.Attribute items = 3;</code>
+         */
+        public Builder clearItems() {
+          if (itemsBuilder_ == null) {
+            items_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000004);
+            onChanged();
+          } else {
+            itemsBuilder_.clear();
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .secretflow.component.Attribute items = 3;</code>
+         */
+        public Builder removeItems(int index) {
+          if (itemsBuilder_ == null) {
+            ensureItemsIsMutable();
+            items_.remove(index);
+            onChanged();
+          } else {
+            itemsBuilder_.remove(index);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .secretflow.component.Attribute items = 3;</code>
+         */
+        public org.secretflow.proto.component.Comp.Attribute.Builder getItemsBuilder(
+            int index) {
+          return getItemsFieldBuilder().getBuilder(index);
+        }
+        /**
+         * <code>repeated .secretflow.component.Attribute items = 3;</code>
+         */
+        public org.secretflow.proto.component.Comp.AttributeOrBuilder getItemsOrBuilder(
+            int index) {
+          if (itemsBuilder_ == null) {
+            return items_.get(index);  } else {
+            return itemsBuilder_.getMessageOrBuilder(index);
+          }
+        }
+        /**
+         * <code>repeated .secretflow.component.Attribute items = 3;</code>
+         */
+        public java.util.List<? extends org.secretflow.proto.component.Comp.AttributeOrBuilder> 
+             getItemsOrBuilderList() {
+          if (itemsBuilder_ != null) {
+            return itemsBuilder_.getMessageOrBuilderList();
+          } else {
+            return java.util.Collections.unmodifiableList(items_);
+          }
+        }
+        /**
+         * <code>repeated .secretflow.component.Attribute items = 3;</code>
+         */
+        public org.secretflow.proto.component.Comp.Attribute.Builder addItemsBuilder() {
+          return getItemsFieldBuilder().addBuilder(
+              org.secretflow.proto.component.Comp.Attribute.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .secretflow.component.Attribute items = 3;</code>
+         */
+        public org.secretflow.proto.component.Comp.Attribute.Builder addItemsBuilder(
+            int index) {
+          return getItemsFieldBuilder().addBuilder(
+              index, org.secretflow.proto.component.Comp.Attribute.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .secretflow.component.Attribute items = 3;</code>
+         */
+        public java.util.List<org.secretflow.proto.component.Comp.Attribute.Builder> 
+             getItemsBuilderList() {
+          return getItemsFieldBuilder().getBuilderList();
+        }
+        private com.google.protobuf.RepeatedFieldBuilderV3<
+            org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder> 
+            getItemsFieldBuilder() {
+          if (itemsBuilder_ == null) {
+            itemsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+                org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder>(
+                    items_,
+                    ((bitField0_ & 0x00000004) != 0),
+                    getParentForChildren(),
+                    isClean());
+            items_ = null;
+          }
+          return itemsBuilder_;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:secretflow.component.Table.Row)
+      }
+
+      // @@protoc_insertion_point(class_scope:secretflow.component.Table.Row)
+      private static final org.secretflow.proto.component.ReportOuterClass.Table.Row DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.secretflow.proto.component.ReportOuterClass.Table.Row();
+      }
+
+      public static org.secretflow.proto.component.ReportOuterClass.Table.Row getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<Row>
+          PARSER = new com.google.protobuf.AbstractParser<Row>() {
+        @java.lang.Override
+        public Row parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<Row> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Row> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Table.Row getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <pre>
+     * Name of the table
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Name of the table
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DESC_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object desc_ = "";
+    /**
+     * <code>string desc = 2;</code>
+     * @return The desc.
+     */
+    @java.lang.Override
+    public java.lang.String getDesc() {
+      java.lang.Object ref = desc_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        desc_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string desc = 2;</code>
+     * @return The bytes for desc.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDescBytes() {
+      java.lang.Object ref = desc_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        desc_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int HEADERS_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem> headers_;
+    /**
+     * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem> getHeadersList() {
+      return headers_;
+    }
+    /**
+     * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.component.ReportOuterClass.Table.HeaderItemOrBuilder> 
+        getHeadersOrBuilderList() {
+      return headers_;
+    }
+    /**
+     * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+     */
+    @java.lang.Override
+    public int getHeadersCount() {
+      return headers_.size();
+    }
+    /**
+     * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem getHeaders(int index) {
+      return headers_.get(index);
+    }
+    /**
+     * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.ReportOuterClass.Table.HeaderItemOrBuilder getHeadersOrBuilder(
+        int index) {
+      return headers_.get(index);
+    }
+
+    public static final int ROWS_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.component.ReportOuterClass.Table.Row> rows_;
+    /**
+     * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.component.ReportOuterClass.Table.Row> getRowsList() {
+      return rows_;
+    }
+    /**
+     * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.component.ReportOuterClass.Table.RowOrBuilder> 
+        getRowsOrBuilderList() {
+      return rows_;
+    }
+    /**
+     * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+     */
+    @java.lang.Override
+    public int getRowsCount() {
+      return rows_.size();
+    }
+    /**
+     * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.ReportOuterClass.Table.Row getRows(int index) {
+      return rows_.get(index);
+    }
+    /**
+     * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.ReportOuterClass.Table.RowOrBuilder getRowsOrBuilder(
+        int index) {
+      return rows_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, desc_);
+      }
+      for (int i = 0; i < headers_.size(); i++) {
+        output.writeMessage(3, headers_.get(i));
+      }
+      for (int i = 0; i < rows_.size(); i++) {
+        output.writeMessage(4, rows_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, desc_);
+      }
+      for (int i = 0; i < headers_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, headers_.get(i));
+      }
+      for (int i = 0; i < rows_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, rows_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.component.ReportOuterClass.Table)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.component.ReportOuterClass.Table other = (org.secretflow.proto.component.ReportOuterClass.Table) obj;
+
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getDesc()
+          .equals(other.getDesc())) return false;
+      if (!getHeadersList()
+          .equals(other.getHeadersList())) return false;
+      if (!getRowsList()
+          .equals(other.getRowsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + DESC_FIELD_NUMBER;
+      hash = (53 * hash) + getDesc().hashCode();
+      if (getHeadersCount() > 0) {
+        hash = (37 * hash) + HEADERS_FIELD_NUMBER;
+        hash = (53 * hash) + getHeadersList().hashCode();
+      }
+      if (getRowsCount() > 0) {
+        hash = (37 * hash) + ROWS_FIELD_NUMBER;
+        hash = (53 * hash) + getRowsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.component.ReportOuterClass.Table parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Table parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Table parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Table parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Table parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Table parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Table parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Table parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Table parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Table parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Table parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Table parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.component.ReportOuterClass.Table prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Displays rows of data.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.Table}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.component.Table)
+        org.secretflow.proto.component.ReportOuterClass.TableOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Table_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Table_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.ReportOuterClass.Table.class, org.secretflow.proto.component.ReportOuterClass.Table.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.component.ReportOuterClass.Table.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        name_ = "";
+        desc_ = "";
+        if (headersBuilder_ == null) {
+          headers_ = java.util.Collections.emptyList();
+        } else {
+          headers_ = null;
+          headersBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (rowsBuilder_ == null) {
+          rows_ = java.util.Collections.emptyList();
+        } else {
+          rows_ = null;
+          rowsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Table_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Table getDefaultInstanceForType() {
+        return org.secretflow.proto.component.ReportOuterClass.Table.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Table build() {
+        org.secretflow.proto.component.ReportOuterClass.Table result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Table buildPartial() {
+        org.secretflow.proto.component.ReportOuterClass.Table result = new org.secretflow.proto.component.ReportOuterClass.Table(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.proto.component.ReportOuterClass.Table result) {
+        if (headersBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            headers_ = java.util.Collections.unmodifiableList(headers_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.headers_ = headers_;
+        } else {
+          result.headers_ = headersBuilder_.build();
+        }
+        if (rowsBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            rows_ = java.util.Collections.unmodifiableList(rows_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.rows_ = rows_;
+        } else {
+          result.rows_ = rowsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.proto.component.ReportOuterClass.Table result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.desc_ = desc_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.component.ReportOuterClass.Table) {
+          return mergeFrom((org.secretflow.proto.component.ReportOuterClass.Table)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.component.ReportOuterClass.Table other) {
+        if (other == org.secretflow.proto.component.ReportOuterClass.Table.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getDesc().isEmpty()) {
+          desc_ = other.desc_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (headersBuilder_ == null) {
+          if (!other.headers_.isEmpty()) {
+            if (headers_.isEmpty()) {
+              headers_ = other.headers_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureHeadersIsMutable();
+              headers_.addAll(other.headers_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.headers_.isEmpty()) {
+            if (headersBuilder_.isEmpty()) {
+              headersBuilder_.dispose();
+              headersBuilder_ = null;
+              headers_ = other.headers_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              headersBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getHeadersFieldBuilder() : null;
+            } else {
+              headersBuilder_.addAllMessages(other.headers_);
+            }
+          }
+        }
+        if (rowsBuilder_ == null) {
+          if (!other.rows_.isEmpty()) {
+            if (rows_.isEmpty()) {
+              rows_ = other.rows_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureRowsIsMutable();
+              rows_.addAll(other.rows_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.rows_.isEmpty()) {
+            if (rowsBuilder_.isEmpty()) {
+              rowsBuilder_.dispose();
+              rowsBuilder_ = null;
+              rows_ = other.rows_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              rowsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getRowsFieldBuilder() : null;
+            } else {
+              rowsBuilder_.addAllMessages(other.rows_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                desc_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem m =
+                    input.readMessage(
+                        org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem.parser(),
+                        extensionRegistry);
+                if (headersBuilder_ == null) {
+                  ensureHeadersIsMutable();
+                  headers_.add(m);
+                } else {
+                  headersBuilder_.addMessage(m);
+                }
+                break;
+              } // case 26
+              case 34: {
+                org.secretflow.proto.component.ReportOuterClass.Table.Row m =
+                    input.readMessage(
+                        org.secretflow.proto.component.ReportOuterClass.Table.Row.parser(),
+                        extensionRegistry);
+                if (rowsBuilder_ == null) {
+                  ensureRowsIsMutable();
+                  rows_.add(m);
+                } else {
+                  rowsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * Name of the table
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Name of the table
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Name of the table
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Name of the table
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Name of the table
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object desc_ = "";
+      /**
+       * <code>string desc = 2;</code>
+       * @return The desc.
+       */
+      public java.lang.String getDesc() {
+        java.lang.Object ref = desc_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          desc_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @return The bytes for desc.
+       */
+      public com.google.protobuf.ByteString
+          getDescBytes() {
+        java.lang.Object ref = desc_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          desc_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @param value The desc to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDesc(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        desc_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDesc() {
+        desc_ = getDefaultInstance().getDesc();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @param value The bytes for desc to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDescBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        desc_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem> headers_ =
+        java.util.Collections.emptyList();
+      private void ensureHeadersIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          headers_ = new java.util.ArrayList<org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem>(headers_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem, org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem.Builder, org.secretflow.proto.component.ReportOuterClass.Table.HeaderItemOrBuilder> headersBuilder_;
+
+      /**
+       * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem> getHeadersList() {
+        if (headersBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(headers_);
+        } else {
+          return headersBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+       */
+      public int getHeadersCount() {
+        if (headersBuilder_ == null) {
+          return headers_.size();
+        } else {
+          return headersBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem getHeaders(int index) {
+        if (headersBuilder_ == null) {
+          return headers_.get(index);
+        } else {
+          return headersBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+       */
+      public Builder setHeaders(
+          int index, org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem value) {
+        if (headersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureHeadersIsMutable();
+          headers_.set(index, value);
+          onChanged();
+        } else {
+          headersBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+       */
+      public Builder setHeaders(
+          int index, org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem.Builder builderForValue) {
+        if (headersBuilder_ == null) {
+          ensureHeadersIsMutable();
+          headers_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          headersBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+       */
+      public Builder addHeaders(org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem value) {
+        if (headersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureHeadersIsMutable();
+          headers_.add(value);
+          onChanged();
+        } else {
+          headersBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+       */
+      public Builder addHeaders(
+          int index, org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem value) {
+        if (headersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureHeadersIsMutable();
+          headers_.add(index, value);
+          onChanged();
+        } else {
+          headersBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+       */
+      public Builder addHeaders(
+          org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem.Builder builderForValue) {
+        if (headersBuilder_ == null) {
+          ensureHeadersIsMutable();
+          headers_.add(builderForValue.build());
+          onChanged();
+        } else {
+          headersBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+       */
+      public Builder addHeaders(
+          int index, org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem.Builder builderForValue) {
+        if (headersBuilder_ == null) {
+          ensureHeadersIsMutable();
+          headers_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          headersBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+       */
+      public Builder addAllHeaders(
+          java.lang.Iterable<? extends org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem> values) {
+        if (headersBuilder_ == null) {
+          ensureHeadersIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, headers_);
+          onChanged();
+        } else {
+          headersBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+       */
+      public Builder clearHeaders() {
+        if (headersBuilder_ == null) {
+          headers_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          headersBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+       */
+      public Builder removeHeaders(int index) {
+        if (headersBuilder_ == null) {
+          ensureHeadersIsMutable();
+          headers_.remove(index);
+          onChanged();
+        } else {
+          headersBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem.Builder getHeadersBuilder(
+          int index) {
+        return getHeadersFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Table.HeaderItemOrBuilder getHeadersOrBuilder(
+          int index) {
+        if (headersBuilder_ == null) {
+          return headers_.get(index);  } else {
+          return headersBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.component.ReportOuterClass.Table.HeaderItemOrBuilder> 
+           getHeadersOrBuilderList() {
+        if (headersBuilder_ != null) {
+          return headersBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(headers_);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem.Builder addHeadersBuilder() {
+        return getHeadersFieldBuilder().addBuilder(
+            org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem.Builder addHeadersBuilder(
+          int index) {
+        return getHeadersFieldBuilder().addBuilder(
+            index, org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.HeaderItem headers = 3;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem.Builder> 
+           getHeadersBuilderList() {
+        return getHeadersFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem, org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem.Builder, org.secretflow.proto.component.ReportOuterClass.Table.HeaderItemOrBuilder> 
+          getHeadersFieldBuilder() {
+        if (headersBuilder_ == null) {
+          headersBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem, org.secretflow.proto.component.ReportOuterClass.Table.HeaderItem.Builder, org.secretflow.proto.component.ReportOuterClass.Table.HeaderItemOrBuilder>(
+                  headers_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          headers_ = null;
+        }
+        return headersBuilder_;
+      }
+
+      private java.util.List<org.secretflow.proto.component.ReportOuterClass.Table.Row> rows_ =
+        java.util.Collections.emptyList();
+      private void ensureRowsIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          rows_ = new java.util.ArrayList<org.secretflow.proto.component.ReportOuterClass.Table.Row>(rows_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.ReportOuterClass.Table.Row, org.secretflow.proto.component.ReportOuterClass.Table.Row.Builder, org.secretflow.proto.component.ReportOuterClass.Table.RowOrBuilder> rowsBuilder_;
+
+      /**
+       * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.ReportOuterClass.Table.Row> getRowsList() {
+        if (rowsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(rows_);
+        } else {
+          return rowsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+       */
+      public int getRowsCount() {
+        if (rowsBuilder_ == null) {
+          return rows_.size();
+        } else {
+          return rowsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Table.Row getRows(int index) {
+        if (rowsBuilder_ == null) {
+          return rows_.get(index);
+        } else {
+          return rowsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+       */
+      public Builder setRows(
+          int index, org.secretflow.proto.component.ReportOuterClass.Table.Row value) {
+        if (rowsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRowsIsMutable();
+          rows_.set(index, value);
+          onChanged();
+        } else {
+          rowsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+       */
+      public Builder setRows(
+          int index, org.secretflow.proto.component.ReportOuterClass.Table.Row.Builder builderForValue) {
+        if (rowsBuilder_ == null) {
+          ensureRowsIsMutable();
+          rows_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          rowsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+       */
+      public Builder addRows(org.secretflow.proto.component.ReportOuterClass.Table.Row value) {
+        if (rowsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRowsIsMutable();
+          rows_.add(value);
+          onChanged();
+        } else {
+          rowsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+       */
+      public Builder addRows(
+          int index, org.secretflow.proto.component.ReportOuterClass.Table.Row value) {
+        if (rowsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRowsIsMutable();
+          rows_.add(index, value);
+          onChanged();
+        } else {
+          rowsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+       */
+      public Builder addRows(
+          org.secretflow.proto.component.ReportOuterClass.Table.Row.Builder builderForValue) {
+        if (rowsBuilder_ == null) {
+          ensureRowsIsMutable();
+          rows_.add(builderForValue.build());
+          onChanged();
+        } else {
+          rowsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+       */
+      public Builder addRows(
+          int index, org.secretflow.proto.component.ReportOuterClass.Table.Row.Builder builderForValue) {
+        if (rowsBuilder_ == null) {
+          ensureRowsIsMutable();
+          rows_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          rowsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+       */
+      public Builder addAllRows(
+          java.lang.Iterable<? extends org.secretflow.proto.component.ReportOuterClass.Table.Row> values) {
+        if (rowsBuilder_ == null) {
+          ensureRowsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, rows_);
+          onChanged();
+        } else {
+          rowsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+       */
+      public Builder clearRows() {
+        if (rowsBuilder_ == null) {
+          rows_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          rowsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+       */
+      public Builder removeRows(int index) {
+        if (rowsBuilder_ == null) {
+          ensureRowsIsMutable();
+          rows_.remove(index);
+          onChanged();
+        } else {
+          rowsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Table.Row.Builder getRowsBuilder(
+          int index) {
+        return getRowsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Table.RowOrBuilder getRowsOrBuilder(
+          int index) {
+        if (rowsBuilder_ == null) {
+          return rows_.get(index);  } else {
+          return rowsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.component.ReportOuterClass.Table.RowOrBuilder> 
+           getRowsOrBuilderList() {
+        if (rowsBuilder_ != null) {
+          return rowsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(rows_);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Table.Row.Builder addRowsBuilder() {
+        return getRowsFieldBuilder().addBuilder(
+            org.secretflow.proto.component.ReportOuterClass.Table.Row.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Table.Row.Builder addRowsBuilder(
+          int index) {
+        return getRowsFieldBuilder().addBuilder(
+            index, org.secretflow.proto.component.ReportOuterClass.Table.Row.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.Table.Row rows = 4;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.ReportOuterClass.Table.Row.Builder> 
+           getRowsBuilderList() {
+        return getRowsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.ReportOuterClass.Table.Row, org.secretflow.proto.component.ReportOuterClass.Table.Row.Builder, org.secretflow.proto.component.ReportOuterClass.Table.RowOrBuilder> 
+          getRowsFieldBuilder() {
+        if (rowsBuilder_ == null) {
+          rowsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.component.ReportOuterClass.Table.Row, org.secretflow.proto.component.ReportOuterClass.Table.Row.Builder, org.secretflow.proto.component.ReportOuterClass.Table.RowOrBuilder>(
+                  rows_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          rows_ = null;
+        }
+        return rowsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.component.Table)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.component.Table)
+    private static final org.secretflow.proto.component.ReportOuterClass.Table DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.component.ReportOuterClass.Table();
+    }
+
+    public static org.secretflow.proto.component.ReportOuterClass.Table getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Table>
+        PARSER = new com.google.protobuf.AbstractParser<Table>() {
+      @java.lang.Override
+      public Table parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Table> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Table> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.component.ReportOuterClass.Table getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DivOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.component.Div)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Name of the Div
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <pre>
+     * Name of the Div
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>string desc = 2;</code>
+     * @return The desc.
+     */
+    java.lang.String getDesc();
+    /**
+     * <code>string desc = 2;</code>
+     * @return The bytes for desc.
+     */
+    com.google.protobuf.ByteString
+        getDescBytes();
+
+    /**
+     * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+     */
+    java.util.List<org.secretflow.proto.component.ReportOuterClass.Div.Child> 
+        getChildrenList();
+    /**
+     * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+     */
+    org.secretflow.proto.component.ReportOuterClass.Div.Child getChildren(int index);
+    /**
+     * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+     */
+    int getChildrenCount();
+    /**
+     * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.component.ReportOuterClass.Div.ChildOrBuilder> 
+        getChildrenOrBuilderList();
+    /**
+     * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+     */
+    org.secretflow.proto.component.ReportOuterClass.Div.ChildOrBuilder getChildrenOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * A division or a section of the page
+   * </pre>
+   *
+   * Protobuf type {@code secretflow.component.Div}
+   */
+  public static final class Div extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.component.Div)
+      DivOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Div.newBuilder() to construct.
+    private Div(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Div() {
+      name_ = "";
+      desc_ = "";
+      children_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Div();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Div_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Div_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.component.ReportOuterClass.Div.class, org.secretflow.proto.component.ReportOuterClass.Div.Builder.class);
+    }
+
+    public interface ChildOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:secretflow.component.Div.Child)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <pre>
+       * supported: descriptions, table, div
+       * </pre>
+       *
+       * <code>string type = 1;</code>
+       * @return The type.
+       */
+      java.lang.String getType();
+      /**
+       * <pre>
+       * supported: descriptions, table, div
+       * </pre>
+       *
+       * <code>string type = 1;</code>
+       * @return The bytes for type.
+       */
+      com.google.protobuf.ByteString
+          getTypeBytes();
+
+      /**
+       * <code>.secretflow.component.Descriptions descriptions = 2;</code>
+       * @return Whether the descriptions field is set.
+       */
+      boolean hasDescriptions();
+      /**
+       * <code>.secretflow.component.Descriptions descriptions = 2;</code>
+       * @return The descriptions.
+       */
+      org.secretflow.proto.component.ReportOuterClass.Descriptions getDescriptions();
+      /**
+       * <code>.secretflow.component.Descriptions descriptions = 2;</code>
+       */
+      org.secretflow.proto.component.ReportOuterClass.DescriptionsOrBuilder getDescriptionsOrBuilder();
+
+      /**
+       * <code>.secretflow.component.Table table = 3;</code>
+       * @return Whether the table field is set.
+       */
+      boolean hasTable();
+      /**
+       * <code>.secretflow.component.Table table = 3;</code>
+       * @return The table.
+       */
+      org.secretflow.proto.component.ReportOuterClass.Table getTable();
+      /**
+       * <code>.secretflow.component.Table table = 3;</code>
+       */
+      org.secretflow.proto.component.ReportOuterClass.TableOrBuilder getTableOrBuilder();
+
+      /**
+       * <code>.secretflow.component.Div div = 4;</code>
+       * @return Whether the div field is set.
+       */
+      boolean hasDiv();
+      /**
+       * <code>.secretflow.component.Div div = 4;</code>
+       * @return The div.
+       */
+      org.secretflow.proto.component.ReportOuterClass.Div getDiv();
+      /**
+       * <code>.secretflow.component.Div div = 4;</code>
+       */
+      org.secretflow.proto.component.ReportOuterClass.DivOrBuilder getDivOrBuilder();
+    }
+    /**
+     * Protobuf type {@code secretflow.component.Div.Child}
+     */
+    public static final class Child extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:secretflow.component.Div.Child)
+        ChildOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use Child.newBuilder() to construct.
+      private Child(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private Child() {
+        type_ = "";
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new Child();
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Div_Child_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Div_Child_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.ReportOuterClass.Div.Child.class, org.secretflow.proto.component.ReportOuterClass.Div.Child.Builder.class);
+      }
+
+      public static final int TYPE_FIELD_NUMBER = 1;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object type_ = "";
+      /**
+       * <pre>
+       * supported: descriptions, table, div
+       * </pre>
+       *
+       * <code>string type = 1;</code>
+       * @return The type.
+       */
+      @java.lang.Override
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          type_ = s;
+          return s;
+        }
+      }
+      /**
+       * <pre>
+       * supported: descriptions, table, div
+       * </pre>
+       *
+       * <code>string type = 1;</code>
+       * @return The bytes for type.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int DESCRIPTIONS_FIELD_NUMBER = 2;
+      private org.secretflow.proto.component.ReportOuterClass.Descriptions descriptions_;
+      /**
+       * <code>.secretflow.component.Descriptions descriptions = 2;</code>
+       * @return Whether the descriptions field is set.
+       */
+      @java.lang.Override
+      public boolean hasDescriptions() {
+        return descriptions_ != null;
+      }
+      /**
+       * <code>.secretflow.component.Descriptions descriptions = 2;</code>
+       * @return The descriptions.
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Descriptions getDescriptions() {
+        return descriptions_ == null ? org.secretflow.proto.component.ReportOuterClass.Descriptions.getDefaultInstance() : descriptions_;
+      }
+      /**
+       * <code>.secretflow.component.Descriptions descriptions = 2;</code>
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.DescriptionsOrBuilder getDescriptionsOrBuilder() {
+        return descriptions_ == null ? org.secretflow.proto.component.ReportOuterClass.Descriptions.getDefaultInstance() : descriptions_;
+      }
+
+      public static final int TABLE_FIELD_NUMBER = 3;
+      private org.secretflow.proto.component.ReportOuterClass.Table table_;
+      /**
+       * <code>.secretflow.component.Table table = 3;</code>
+       * @return Whether the table field is set.
+       */
+      @java.lang.Override
+      public boolean hasTable() {
+        return table_ != null;
+      }
+      /**
+       * <code>.secretflow.component.Table table = 3;</code>
+       * @return The table.
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Table getTable() {
+        return table_ == null ? org.secretflow.proto.component.ReportOuterClass.Table.getDefaultInstance() : table_;
+      }
+      /**
+       * <code>.secretflow.component.Table table = 3;</code>
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.TableOrBuilder getTableOrBuilder() {
+        return table_ == null ? org.secretflow.proto.component.ReportOuterClass.Table.getDefaultInstance() : table_;
+      }
+
+      public static final int DIV_FIELD_NUMBER = 4;
+      private org.secretflow.proto.component.ReportOuterClass.Div div_;
+      /**
+       * <code>.secretflow.component.Div div = 4;</code>
+       * @return Whether the div field is set.
+       */
+      @java.lang.Override
+      public boolean hasDiv() {
+        return div_ != null;
+      }
+      /**
+       * <code>.secretflow.component.Div div = 4;</code>
+       * @return The div.
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Div getDiv() {
+        return div_ == null ? org.secretflow.proto.component.ReportOuterClass.Div.getDefaultInstance() : div_;
+      }
+      /**
+       * <code>.secretflow.component.Div div = 4;</code>
+       */
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.DivOrBuilder getDivOrBuilder() {
+        return div_ == null ? org.secretflow.proto.component.ReportOuterClass.Div.getDefaultInstance() : div_;
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(type_)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, type_);
+        }
+        if (descriptions_ != null) {
+          output.writeMessage(2, getDescriptions());
+        }
+        if (table_ != null) {
+          output.writeMessage(3, getTable());
+        }
+        if (div_ != null) {
+          output.writeMessage(4, getDiv());
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(type_)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, type_);
+        }
+        if (descriptions_ != null) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(2, getDescriptions());
+        }
+        if (table_ != null) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(3, getTable());
+        }
+        if (div_ != null) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(4, getDiv());
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.secretflow.proto.component.ReportOuterClass.Div.Child)) {
+          return super.equals(obj);
+        }
+        org.secretflow.proto.component.ReportOuterClass.Div.Child other = (org.secretflow.proto.component.ReportOuterClass.Div.Child) obj;
+
+        if (!getType()
+            .equals(other.getType())) return false;
+        if (hasDescriptions() != other.hasDescriptions()) return false;
+        if (hasDescriptions()) {
+          if (!getDescriptions()
+              .equals(other.getDescriptions())) return false;
+        }
+        if (hasTable() != other.hasTable()) return false;
+        if (hasTable()) {
+          if (!getTable()
+              .equals(other.getTable())) return false;
+        }
+        if (hasDiv() != other.hasDiv()) return false;
+        if (hasDiv()) {
+          if (!getDiv()
+              .equals(other.getDiv())) return false;
+        }
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + TYPE_FIELD_NUMBER;
+        hash = (53 * hash) + getType().hashCode();
+        if (hasDescriptions()) {
+          hash = (37 * hash) + DESCRIPTIONS_FIELD_NUMBER;
+          hash = (53 * hash) + getDescriptions().hashCode();
+        }
+        if (hasTable()) {
+          hash = (37 * hash) + TABLE_FIELD_NUMBER;
+          hash = (53 * hash) + getTable().hashCode();
+        }
+        if (hasDiv()) {
+          hash = (37 * hash) + DIV_FIELD_NUMBER;
+          hash = (53 * hash) + getDiv().hashCode();
+        }
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.secretflow.proto.component.ReportOuterClass.Div.Child parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Div.Child parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Div.Child parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Div.Child parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Div.Child parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Div.Child parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Div.Child parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Div.Child parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Div.Child parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Div.Child parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Div.Child parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.secretflow.proto.component.ReportOuterClass.Div.Child parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.secretflow.proto.component.ReportOuterClass.Div.Child prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code secretflow.component.Div.Child}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:secretflow.component.Div.Child)
+          org.secretflow.proto.component.ReportOuterClass.Div.ChildOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Div_Child_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Div_Child_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.secretflow.proto.component.ReportOuterClass.Div.Child.class, org.secretflow.proto.component.ReportOuterClass.Div.Child.Builder.class);
+        }
+
+        // Construct using org.secretflow.proto.component.ReportOuterClass.Div.Child.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          type_ = "";
+          descriptions_ = null;
+          if (descriptionsBuilder_ != null) {
+            descriptionsBuilder_.dispose();
+            descriptionsBuilder_ = null;
+          }
+          table_ = null;
+          if (tableBuilder_ != null) {
+            tableBuilder_.dispose();
+            tableBuilder_ = null;
+          }
+          div_ = null;
+          if (divBuilder_ != null) {
+            divBuilder_.dispose();
+            divBuilder_ = null;
+          }
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Div_Child_descriptor;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.ReportOuterClass.Div.Child getDefaultInstanceForType() {
+          return org.secretflow.proto.component.ReportOuterClass.Div.Child.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.ReportOuterClass.Div.Child build() {
+          org.secretflow.proto.component.ReportOuterClass.Div.Child result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.secretflow.proto.component.ReportOuterClass.Div.Child buildPartial() {
+          org.secretflow.proto.component.ReportOuterClass.Div.Child result = new org.secretflow.proto.component.ReportOuterClass.Div.Child(this);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartial0(org.secretflow.proto.component.ReportOuterClass.Div.Child result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.type_ = type_;
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.descriptions_ = descriptionsBuilder_ == null
+                ? descriptions_
+                : descriptionsBuilder_.build();
+          }
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            result.table_ = tableBuilder_ == null
+                ? table_
+                : tableBuilder_.build();
+          }
+          if (((from_bitField0_ & 0x00000008) != 0)) {
+            result.div_ = divBuilder_ == null
+                ? div_
+                : divBuilder_.build();
+          }
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.secretflow.proto.component.ReportOuterClass.Div.Child) {
+            return mergeFrom((org.secretflow.proto.component.ReportOuterClass.Div.Child)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.secretflow.proto.component.ReportOuterClass.Div.Child other) {
+          if (other == org.secretflow.proto.component.ReportOuterClass.Div.Child.getDefaultInstance()) return this;
+          if (!other.getType().isEmpty()) {
+            type_ = other.type_;
+            bitField0_ |= 0x00000001;
+            onChanged();
+          }
+          if (other.hasDescriptions()) {
+            mergeDescriptions(other.getDescriptions());
+          }
+          if (other.hasTable()) {
+            mergeTable(other.getTable());
+          }
+          if (other.hasDiv()) {
+            mergeDiv(other.getDiv());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 10: {
+                  type_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 10
+                case 18: {
+                  input.readMessage(
+                      getDescriptionsFieldBuilder().getBuilder(),
+                      extensionRegistry);
+                  bitField0_ |= 0x00000002;
+                  break;
+                } // case 18
+                case 26: {
+                  input.readMessage(
+                      getTableFieldBuilder().getBuilder(),
+                      extensionRegistry);
+                  bitField0_ |= 0x00000004;
+                  break;
+                } // case 26
+                case 34: {
+                  input.readMessage(
+                      getDivFieldBuilder().getBuilder(),
+                      extensionRegistry);
+                  bitField0_ |= 0x00000008;
+                  break;
+                } // case 34
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object type_ = "";
+        /**
+         * <pre>
+         * supported: descriptions, table, div
+         * </pre>
+         *
+         * <code>string type = 1;</code>
+         * @return The type.
+         */
+        public java.lang.String getType() {
+          java.lang.Object ref = type_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            type_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <pre>
+         * supported: descriptions, table, div
+         * </pre>
+         *
+         * <code>string type = 1;</code>
+         * @return The bytes for type.
+         */
+        public com.google.protobuf.ByteString
+            getTypeBytes() {
+          java.lang.Object ref = type_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            type_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <pre>
+         * supported: descriptions, table, div
+         * </pre>
+         *
+         * <code>string type = 1;</code>
+         * @param value The type to set.
+         * @return This builder for chaining.
+         */
+        public Builder setType(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          type_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * supported: descriptions, table, div
+         * </pre>
+         *
+         * <code>string type = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearType() {
+          type_ = getDefaultInstance().getType();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * supported: descriptions, table, div
+         * </pre>
+         *
+         * <code>string type = 1;</code>
+         * @param value The bytes for type to set.
+         * @return This builder for chaining.
+         */
+        public Builder setTypeBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          type_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+
+        private org.secretflow.proto.component.ReportOuterClass.Descriptions descriptions_;
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.secretflow.proto.component.ReportOuterClass.Descriptions, org.secretflow.proto.component.ReportOuterClass.Descriptions.Builder, org.secretflow.proto.component.ReportOuterClass.DescriptionsOrBuilder> descriptionsBuilder_;
+        /**
+         * <code>.secretflow.component.Descriptions descriptions = 2;</code>
+         * @return Whether the descriptions field is set.
+         */
+        public boolean hasDescriptions() {
+          return ((bitField0_ & 0x00000002) != 0);
+        }
+        /**
+         * <code>.secretflow.component.Descriptions descriptions = 2;</code>
+         * @return The descriptions.
+         */
+        public org.secretflow.proto.component.ReportOuterClass.Descriptions getDescriptions() {
+          if (descriptionsBuilder_ == null) {
+            return descriptions_ == null ? org.secretflow.proto.component.ReportOuterClass.Descriptions.getDefaultInstance() : descriptions_;
+          } else {
+            return descriptionsBuilder_.getMessage();
+          }
+        }
+        /**
+         * <code>.secretflow.component.Descriptions descriptions = 2;</code>
+         */
+        public Builder setDescriptions(org.secretflow.proto.component.ReportOuterClass.Descriptions value) {
+          if (descriptionsBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            descriptions_ = value;
+          } else {
+            descriptionsBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Descriptions descriptions = 2;</code>
+         */
+        public Builder setDescriptions(
+            org.secretflow.proto.component.ReportOuterClass.Descriptions.Builder builderForValue) {
+          if (descriptionsBuilder_ == null) {
+            descriptions_ = builderForValue.build();
+          } else {
+            descriptionsBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Descriptions descriptions = 2;</code>
+         */
+        public Builder mergeDescriptions(org.secretflow.proto.component.ReportOuterClass.Descriptions value) {
+          if (descriptionsBuilder_ == null) {
+            if (((bitField0_ & 0x00000002) != 0) &&
+              descriptions_ != null &&
+              descriptions_ != org.secretflow.proto.component.ReportOuterClass.Descriptions.getDefaultInstance()) {
+              getDescriptionsBuilder().mergeFrom(value);
+            } else {
+              descriptions_ = value;
+            }
+          } else {
+            descriptionsBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Descriptions descriptions = 2;</code>
+         */
+        public Builder clearDescriptions() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          descriptions_ = null;
+          if (descriptionsBuilder_ != null) {
+            descriptionsBuilder_.dispose();
+            descriptionsBuilder_ = null;
+          }
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Descriptions descriptions = 2;</code>
+         */
+        public org.secretflow.proto.component.ReportOuterClass.Descriptions.Builder getDescriptionsBuilder() {
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return getDescriptionsFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>.secretflow.component.Descriptions descriptions = 2;</code>
+         */
+        public org.secretflow.proto.component.ReportOuterClass.DescriptionsOrBuilder getDescriptionsOrBuilder() {
+          if (descriptionsBuilder_ != null) {
+            return descriptionsBuilder_.getMessageOrBuilder();
+          } else {
+            return descriptions_ == null ?
+                org.secretflow.proto.component.ReportOuterClass.Descriptions.getDefaultInstance() : descriptions_;
+          }
+        }
+        /**
+         * <code>.secretflow.component.Descriptions descriptions = 2;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.secretflow.proto.component.ReportOuterClass.Descriptions, org.secretflow.proto.component.ReportOuterClass.Descriptions.Builder, org.secretflow.proto.component.ReportOuterClass.DescriptionsOrBuilder> 
+            getDescriptionsFieldBuilder() {
+          if (descriptionsBuilder_ == null) {
+            descriptionsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                org.secretflow.proto.component.ReportOuterClass.Descriptions, org.secretflow.proto.component.ReportOuterClass.Descriptions.Builder, org.secretflow.proto.component.ReportOuterClass.DescriptionsOrBuilder>(
+                    getDescriptions(),
+                    getParentForChildren(),
+                    isClean());
+            descriptions_ = null;
+          }
+          return descriptionsBuilder_;
+        }
+
+        private org.secretflow.proto.component.ReportOuterClass.Table table_;
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.secretflow.proto.component.ReportOuterClass.Table, org.secretflow.proto.component.ReportOuterClass.Table.Builder, org.secretflow.proto.component.ReportOuterClass.TableOrBuilder> tableBuilder_;
+        /**
+         * <code>.secretflow.component.Table table = 3;</code>
+         * @return Whether the table field is set.
+         */
+        public boolean hasTable() {
+          return ((bitField0_ & 0x00000004) != 0);
+        }
+        /**
+         * <code>.secretflow.component.Table table = 3;</code>
+         * @return The table.
+         */
+        public org.secretflow.proto.component.ReportOuterClass.Table getTable() {
+          if (tableBuilder_ == null) {
+            return table_ == null ? org.secretflow.proto.component.ReportOuterClass.Table.getDefaultInstance() : table_;
+          } else {
+            return tableBuilder_.getMessage();
+          }
+        }
+        /**
+         * <code>.secretflow.component.Table table = 3;</code>
+         */
+        public Builder setTable(org.secretflow.proto.component.ReportOuterClass.Table value) {
+          if (tableBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            table_ = value;
+          } else {
+            tableBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Table table = 3;</code>
+         */
+        public Builder setTable(
+            org.secretflow.proto.component.ReportOuterClass.Table.Builder builderForValue) {
+          if (tableBuilder_ == null) {
+            table_ = builderForValue.build();
+          } else {
+            tableBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Table table = 3;</code>
+         */
+        public Builder mergeTable(org.secretflow.proto.component.ReportOuterClass.Table value) {
+          if (tableBuilder_ == null) {
+            if (((bitField0_ & 0x00000004) != 0) &&
+              table_ != null &&
+              table_ != org.secretflow.proto.component.ReportOuterClass.Table.getDefaultInstance()) {
+              getTableBuilder().mergeFrom(value);
+            } else {
+              table_ = value;
+            }
+          } else {
+            tableBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Table table = 3;</code>
+         */
+        public Builder clearTable() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          table_ = null;
+          if (tableBuilder_ != null) {
+            tableBuilder_.dispose();
+            tableBuilder_ = null;
+          }
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Table table = 3;</code>
+         */
+        public org.secretflow.proto.component.ReportOuterClass.Table.Builder getTableBuilder() {
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return getTableFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>.secretflow.component.Table table = 3;</code>
+         */
+        public org.secretflow.proto.component.ReportOuterClass.TableOrBuilder getTableOrBuilder() {
+          if (tableBuilder_ != null) {
+            return tableBuilder_.getMessageOrBuilder();
+          } else {
+            return table_ == null ?
+                org.secretflow.proto.component.ReportOuterClass.Table.getDefaultInstance() : table_;
+          }
+        }
+        /**
+         * <code>.secretflow.component.Table table = 3;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.secretflow.proto.component.ReportOuterClass.Table, org.secretflow.proto.component.ReportOuterClass.Table.Builder, org.secretflow.proto.component.ReportOuterClass.TableOrBuilder> 
+            getTableFieldBuilder() {
+          if (tableBuilder_ == null) {
+            tableBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                org.secretflow.proto.component.ReportOuterClass.Table, org.secretflow.proto.component.ReportOuterClass.Table.Builder, org.secretflow.proto.component.ReportOuterClass.TableOrBuilder>(
+                    getTable(),
+                    getParentForChildren(),
+                    isClean());
+            table_ = null;
+          }
+          return tableBuilder_;
+        }
+
+        private org.secretflow.proto.component.ReportOuterClass.Div div_;
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.secretflow.proto.component.ReportOuterClass.Div, org.secretflow.proto.component.ReportOuterClass.Div.Builder, org.secretflow.proto.component.ReportOuterClass.DivOrBuilder> divBuilder_;
+        /**
+         * <code>.secretflow.component.Div div = 4;</code>
+         * @return Whether the div field is set.
+         */
+        public boolean hasDiv() {
+          return ((bitField0_ & 0x00000008) != 0);
+        }
+        /**
+         * <code>.secretflow.component.Div div = 4;</code>
+         * @return The div.
+         */
+        public org.secretflow.proto.component.ReportOuterClass.Div getDiv() {
+          if (divBuilder_ == null) {
+            return div_ == null ? org.secretflow.proto.component.ReportOuterClass.Div.getDefaultInstance() : div_;
+          } else {
+            return divBuilder_.getMessage();
+          }
+        }
+        /**
+         * <code>.secretflow.component.Div div = 4;</code>
+         */
+        public Builder setDiv(org.secretflow.proto.component.ReportOuterClass.Div value) {
+          if (divBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            div_ = value;
+          } else {
+            divBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Div div = 4;</code>
+         */
+        public Builder setDiv(
+            org.secretflow.proto.component.ReportOuterClass.Div.Builder builderForValue) {
+          if (divBuilder_ == null) {
+            div_ = builderForValue.build();
+          } else {
+            divBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Div div = 4;</code>
+         */
+        public Builder mergeDiv(org.secretflow.proto.component.ReportOuterClass.Div value) {
+          if (divBuilder_ == null) {
+            if (((bitField0_ & 0x00000008) != 0) &&
+              div_ != null &&
+              div_ != org.secretflow.proto.component.ReportOuterClass.Div.getDefaultInstance()) {
+              getDivBuilder().mergeFrom(value);
+            } else {
+              div_ = value;
+            }
+          } else {
+            divBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Div div = 4;</code>
+         */
+        public Builder clearDiv() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          div_ = null;
+          if (divBuilder_ != null) {
+            divBuilder_.dispose();
+            divBuilder_ = null;
+          }
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>.secretflow.component.Div div = 4;</code>
+         */
+        public org.secretflow.proto.component.ReportOuterClass.Div.Builder getDivBuilder() {
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return getDivFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>.secretflow.component.Div div = 4;</code>
+         */
+        public org.secretflow.proto.component.ReportOuterClass.DivOrBuilder getDivOrBuilder() {
+          if (divBuilder_ != null) {
+            return divBuilder_.getMessageOrBuilder();
+          } else {
+            return div_ == null ?
+                org.secretflow.proto.component.ReportOuterClass.Div.getDefaultInstance() : div_;
+          }
+        }
+        /**
+         * <code>.secretflow.component.Div div = 4;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilderV3<
+            org.secretflow.proto.component.ReportOuterClass.Div, org.secretflow.proto.component.ReportOuterClass.Div.Builder, org.secretflow.proto.component.ReportOuterClass.DivOrBuilder> 
+            getDivFieldBuilder() {
+          if (divBuilder_ == null) {
+            divBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                org.secretflow.proto.component.ReportOuterClass.Div, org.secretflow.proto.component.ReportOuterClass.Div.Builder, org.secretflow.proto.component.ReportOuterClass.DivOrBuilder>(
+                    getDiv(),
+                    getParentForChildren(),
+                    isClean());
+            div_ = null;
+          }
+          return divBuilder_;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:secretflow.component.Div.Child)
+      }
+
+      // @@protoc_insertion_point(class_scope:secretflow.component.Div.Child)
+      private static final org.secretflow.proto.component.ReportOuterClass.Div.Child DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.secretflow.proto.component.ReportOuterClass.Div.Child();
+      }
+
+      public static org.secretflow.proto.component.ReportOuterClass.Div.Child getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<Child>
+          PARSER = new com.google.protobuf.AbstractParser<Child>() {
+        @java.lang.Override
+        public Child parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<Child> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Child> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Div.Child getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <pre>
+     * Name of the Div
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Name of the Div
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DESC_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object desc_ = "";
+    /**
+     * <code>string desc = 2;</code>
+     * @return The desc.
+     */
+    @java.lang.Override
+    public java.lang.String getDesc() {
+      java.lang.Object ref = desc_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        desc_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string desc = 2;</code>
+     * @return The bytes for desc.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDescBytes() {
+      java.lang.Object ref = desc_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        desc_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CHILDREN_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.component.ReportOuterClass.Div.Child> children_;
+    /**
+     * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.component.ReportOuterClass.Div.Child> getChildrenList() {
+      return children_;
+    }
+    /**
+     * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.component.ReportOuterClass.Div.ChildOrBuilder> 
+        getChildrenOrBuilderList() {
+      return children_;
+    }
+    /**
+     * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+     */
+    @java.lang.Override
+    public int getChildrenCount() {
+      return children_.size();
+    }
+    /**
+     * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.ReportOuterClass.Div.Child getChildren(int index) {
+      return children_.get(index);
+    }
+    /**
+     * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.ReportOuterClass.Div.ChildOrBuilder getChildrenOrBuilder(
+        int index) {
+      return children_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, desc_);
+      }
+      for (int i = 0; i < children_.size(); i++) {
+        output.writeMessage(3, children_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, desc_);
+      }
+      for (int i = 0; i < children_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, children_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.component.ReportOuterClass.Div)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.component.ReportOuterClass.Div other = (org.secretflow.proto.component.ReportOuterClass.Div) obj;
+
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getDesc()
+          .equals(other.getDesc())) return false;
+      if (!getChildrenList()
+          .equals(other.getChildrenList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + DESC_FIELD_NUMBER;
+      hash = (53 * hash) + getDesc().hashCode();
+      if (getChildrenCount() > 0) {
+        hash = (37 * hash) + CHILDREN_FIELD_NUMBER;
+        hash = (53 * hash) + getChildrenList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.component.ReportOuterClass.Div parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Div parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Div parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Div parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Div parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Div parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Div parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Div parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Div parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Div parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Div parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Div parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.component.ReportOuterClass.Div prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * A division or a section of the page
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.Div}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.component.Div)
+        org.secretflow.proto.component.ReportOuterClass.DivOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Div_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Div_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.ReportOuterClass.Div.class, org.secretflow.proto.component.ReportOuterClass.Div.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.component.ReportOuterClass.Div.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        name_ = "";
+        desc_ = "";
+        if (childrenBuilder_ == null) {
+          children_ = java.util.Collections.emptyList();
+        } else {
+          children_ = null;
+          childrenBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Div_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Div getDefaultInstanceForType() {
+        return org.secretflow.proto.component.ReportOuterClass.Div.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Div build() {
+        org.secretflow.proto.component.ReportOuterClass.Div result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Div buildPartial() {
+        org.secretflow.proto.component.ReportOuterClass.Div result = new org.secretflow.proto.component.ReportOuterClass.Div(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.proto.component.ReportOuterClass.Div result) {
+        if (childrenBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            children_ = java.util.Collections.unmodifiableList(children_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.children_ = children_;
+        } else {
+          result.children_ = childrenBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.proto.component.ReportOuterClass.Div result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.desc_ = desc_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.component.ReportOuterClass.Div) {
+          return mergeFrom((org.secretflow.proto.component.ReportOuterClass.Div)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.component.ReportOuterClass.Div other) {
+        if (other == org.secretflow.proto.component.ReportOuterClass.Div.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getDesc().isEmpty()) {
+          desc_ = other.desc_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (childrenBuilder_ == null) {
+          if (!other.children_.isEmpty()) {
+            if (children_.isEmpty()) {
+              children_ = other.children_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureChildrenIsMutable();
+              children_.addAll(other.children_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.children_.isEmpty()) {
+            if (childrenBuilder_.isEmpty()) {
+              childrenBuilder_.dispose();
+              childrenBuilder_ = null;
+              children_ = other.children_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              childrenBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getChildrenFieldBuilder() : null;
+            } else {
+              childrenBuilder_.addAllMessages(other.children_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                desc_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                org.secretflow.proto.component.ReportOuterClass.Div.Child m =
+                    input.readMessage(
+                        org.secretflow.proto.component.ReportOuterClass.Div.Child.parser(),
+                        extensionRegistry);
+                if (childrenBuilder_ == null) {
+                  ensureChildrenIsMutable();
+                  children_.add(m);
+                } else {
+                  childrenBuilder_.addMessage(m);
+                }
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * Name of the Div
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Name of the Div
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Name of the Div
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Name of the Div
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Name of the Div
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object desc_ = "";
+      /**
+       * <code>string desc = 2;</code>
+       * @return The desc.
+       */
+      public java.lang.String getDesc() {
+        java.lang.Object ref = desc_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          desc_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @return The bytes for desc.
+       */
+      public com.google.protobuf.ByteString
+          getDescBytes() {
+        java.lang.Object ref = desc_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          desc_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @param value The desc to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDesc(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        desc_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDesc() {
+        desc_ = getDefaultInstance().getDesc();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @param value The bytes for desc to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDescBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        desc_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.proto.component.ReportOuterClass.Div.Child> children_ =
+        java.util.Collections.emptyList();
+      private void ensureChildrenIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          children_ = new java.util.ArrayList<org.secretflow.proto.component.ReportOuterClass.Div.Child>(children_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.ReportOuterClass.Div.Child, org.secretflow.proto.component.ReportOuterClass.Div.Child.Builder, org.secretflow.proto.component.ReportOuterClass.Div.ChildOrBuilder> childrenBuilder_;
+
+      /**
+       * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.ReportOuterClass.Div.Child> getChildrenList() {
+        if (childrenBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(children_);
+        } else {
+          return childrenBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+       */
+      public int getChildrenCount() {
+        if (childrenBuilder_ == null) {
+          return children_.size();
+        } else {
+          return childrenBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Div.Child getChildren(int index) {
+        if (childrenBuilder_ == null) {
+          return children_.get(index);
+        } else {
+          return childrenBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+       */
+      public Builder setChildren(
+          int index, org.secretflow.proto.component.ReportOuterClass.Div.Child value) {
+        if (childrenBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChildrenIsMutable();
+          children_.set(index, value);
+          onChanged();
+        } else {
+          childrenBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+       */
+      public Builder setChildren(
+          int index, org.secretflow.proto.component.ReportOuterClass.Div.Child.Builder builderForValue) {
+        if (childrenBuilder_ == null) {
+          ensureChildrenIsMutable();
+          children_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          childrenBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+       */
+      public Builder addChildren(org.secretflow.proto.component.ReportOuterClass.Div.Child value) {
+        if (childrenBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChildrenIsMutable();
+          children_.add(value);
+          onChanged();
+        } else {
+          childrenBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+       */
+      public Builder addChildren(
+          int index, org.secretflow.proto.component.ReportOuterClass.Div.Child value) {
+        if (childrenBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChildrenIsMutable();
+          children_.add(index, value);
+          onChanged();
+        } else {
+          childrenBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+       */
+      public Builder addChildren(
+          org.secretflow.proto.component.ReportOuterClass.Div.Child.Builder builderForValue) {
+        if (childrenBuilder_ == null) {
+          ensureChildrenIsMutable();
+          children_.add(builderForValue.build());
+          onChanged();
+        } else {
+          childrenBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+       */
+      public Builder addChildren(
+          int index, org.secretflow.proto.component.ReportOuterClass.Div.Child.Builder builderForValue) {
+        if (childrenBuilder_ == null) {
+          ensureChildrenIsMutable();
+          children_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          childrenBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+       */
+      public Builder addAllChildren(
+          java.lang.Iterable<? extends org.secretflow.proto.component.ReportOuterClass.Div.Child> values) {
+        if (childrenBuilder_ == null) {
+          ensureChildrenIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, children_);
+          onChanged();
+        } else {
+          childrenBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+       */
+      public Builder clearChildren() {
+        if (childrenBuilder_ == null) {
+          children_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          childrenBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+       */
+      public Builder removeChildren(int index) {
+        if (childrenBuilder_ == null) {
+          ensureChildrenIsMutable();
+          children_.remove(index);
+          onChanged();
+        } else {
+          childrenBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Div.Child.Builder getChildrenBuilder(
+          int index) {
+        return getChildrenFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Div.ChildOrBuilder getChildrenOrBuilder(
+          int index) {
+        if (childrenBuilder_ == null) {
+          return children_.get(index);  } else {
+          return childrenBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.component.ReportOuterClass.Div.ChildOrBuilder> 
+           getChildrenOrBuilderList() {
+        if (childrenBuilder_ != null) {
+          return childrenBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(children_);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Div.Child.Builder addChildrenBuilder() {
+        return getChildrenFieldBuilder().addBuilder(
+            org.secretflow.proto.component.ReportOuterClass.Div.Child.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Div.Child.Builder addChildrenBuilder(
+          int index) {
+        return getChildrenFieldBuilder().addBuilder(
+            index, org.secretflow.proto.component.ReportOuterClass.Div.Child.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.Div.Child children = 3;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.ReportOuterClass.Div.Child.Builder> 
+           getChildrenBuilderList() {
+        return getChildrenFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.ReportOuterClass.Div.Child, org.secretflow.proto.component.ReportOuterClass.Div.Child.Builder, org.secretflow.proto.component.ReportOuterClass.Div.ChildOrBuilder> 
+          getChildrenFieldBuilder() {
+        if (childrenBuilder_ == null) {
+          childrenBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.component.ReportOuterClass.Div.Child, org.secretflow.proto.component.ReportOuterClass.Div.Child.Builder, org.secretflow.proto.component.ReportOuterClass.Div.ChildOrBuilder>(
+                  children_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          children_ = null;
+        }
+        return childrenBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.component.Div)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.component.Div)
+    private static final org.secretflow.proto.component.ReportOuterClass.Div DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.component.ReportOuterClass.Div();
+    }
+
+    public static org.secretflow.proto.component.ReportOuterClass.Div getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Div>
+        PARSER = new com.google.protobuf.AbstractParser<Div>() {
+      @java.lang.Override
+      public Div parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Div> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Div> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.component.ReportOuterClass.Div getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TabOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.component.Tab)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Name of the tab.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <pre>
+     * Name of the tab.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>string desc = 2;</code>
+     * @return The desc.
+     */
+    java.lang.String getDesc();
+    /**
+     * <code>string desc = 2;</code>
+     * @return The bytes for desc.
+     */
+    com.google.protobuf.ByteString
+        getDescBytes();
+
+    /**
+     * <code>repeated .secretflow.component.Div divs = 3;</code>
+     */
+    java.util.List<org.secretflow.proto.component.ReportOuterClass.Div> 
+        getDivsList();
+    /**
+     * <code>repeated .secretflow.component.Div divs = 3;</code>
+     */
+    org.secretflow.proto.component.ReportOuterClass.Div getDivs(int index);
+    /**
+     * <code>repeated .secretflow.component.Div divs = 3;</code>
+     */
+    int getDivsCount();
+    /**
+     * <code>repeated .secretflow.component.Div divs = 3;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.component.ReportOuterClass.DivOrBuilder> 
+        getDivsOrBuilderList();
+    /**
+     * <code>repeated .secretflow.component.Div divs = 3;</code>
+     */
+    org.secretflow.proto.component.ReportOuterClass.DivOrBuilder getDivsOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * A page of report.
+   * </pre>
+   *
+   * Protobuf type {@code secretflow.component.Tab}
+   */
+  public static final class Tab extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.component.Tab)
+      TabOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Tab.newBuilder() to construct.
+    private Tab(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Tab() {
+      name_ = "";
+      desc_ = "";
+      divs_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Tab();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Tab_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Tab_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.component.ReportOuterClass.Tab.class, org.secretflow.proto.component.ReportOuterClass.Tab.Builder.class);
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <pre>
+     * Name of the tab.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Name of the tab.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DESC_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object desc_ = "";
+    /**
+     * <code>string desc = 2;</code>
+     * @return The desc.
+     */
+    @java.lang.Override
+    public java.lang.String getDesc() {
+      java.lang.Object ref = desc_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        desc_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string desc = 2;</code>
+     * @return The bytes for desc.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDescBytes() {
+      java.lang.Object ref = desc_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        desc_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DIVS_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.component.ReportOuterClass.Div> divs_;
+    /**
+     * <code>repeated .secretflow.component.Div divs = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.component.ReportOuterClass.Div> getDivsList() {
+      return divs_;
+    }
+    /**
+     * <code>repeated .secretflow.component.Div divs = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.component.ReportOuterClass.DivOrBuilder> 
+        getDivsOrBuilderList() {
+      return divs_;
+    }
+    /**
+     * <code>repeated .secretflow.component.Div divs = 3;</code>
+     */
+    @java.lang.Override
+    public int getDivsCount() {
+      return divs_.size();
+    }
+    /**
+     * <code>repeated .secretflow.component.Div divs = 3;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.ReportOuterClass.Div getDivs(int index) {
+      return divs_.get(index);
+    }
+    /**
+     * <code>repeated .secretflow.component.Div divs = 3;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.ReportOuterClass.DivOrBuilder getDivsOrBuilder(
+        int index) {
+      return divs_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, desc_);
+      }
+      for (int i = 0; i < divs_.size(); i++) {
+        output.writeMessage(3, divs_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, desc_);
+      }
+      for (int i = 0; i < divs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, divs_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.component.ReportOuterClass.Tab)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.component.ReportOuterClass.Tab other = (org.secretflow.proto.component.ReportOuterClass.Tab) obj;
+
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getDesc()
+          .equals(other.getDesc())) return false;
+      if (!getDivsList()
+          .equals(other.getDivsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + DESC_FIELD_NUMBER;
+      hash = (53 * hash) + getDesc().hashCode();
+      if (getDivsCount() > 0) {
+        hash = (37 * hash) + DIVS_FIELD_NUMBER;
+        hash = (53 * hash) + getDivsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.component.ReportOuterClass.Tab parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Tab parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Tab parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Tab parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Tab parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Tab parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Tab parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Tab parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Tab parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Tab parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Tab parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Tab parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.component.ReportOuterClass.Tab prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * A page of report.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.component.Tab}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.component.Tab)
+        org.secretflow.proto.component.ReportOuterClass.TabOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Tab_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Tab_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.ReportOuterClass.Tab.class, org.secretflow.proto.component.ReportOuterClass.Tab.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.component.ReportOuterClass.Tab.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        name_ = "";
+        desc_ = "";
+        if (divsBuilder_ == null) {
+          divs_ = java.util.Collections.emptyList();
+        } else {
+          divs_ = null;
+          divsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Tab_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Tab getDefaultInstanceForType() {
+        return org.secretflow.proto.component.ReportOuterClass.Tab.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Tab build() {
+        org.secretflow.proto.component.ReportOuterClass.Tab result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Tab buildPartial() {
+        org.secretflow.proto.component.ReportOuterClass.Tab result = new org.secretflow.proto.component.ReportOuterClass.Tab(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.proto.component.ReportOuterClass.Tab result) {
+        if (divsBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            divs_ = java.util.Collections.unmodifiableList(divs_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.divs_ = divs_;
+        } else {
+          result.divs_ = divsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.proto.component.ReportOuterClass.Tab result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.desc_ = desc_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.component.ReportOuterClass.Tab) {
+          return mergeFrom((org.secretflow.proto.component.ReportOuterClass.Tab)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.component.ReportOuterClass.Tab other) {
+        if (other == org.secretflow.proto.component.ReportOuterClass.Tab.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getDesc().isEmpty()) {
+          desc_ = other.desc_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (divsBuilder_ == null) {
+          if (!other.divs_.isEmpty()) {
+            if (divs_.isEmpty()) {
+              divs_ = other.divs_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureDivsIsMutable();
+              divs_.addAll(other.divs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.divs_.isEmpty()) {
+            if (divsBuilder_.isEmpty()) {
+              divsBuilder_.dispose();
+              divsBuilder_ = null;
+              divs_ = other.divs_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              divsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getDivsFieldBuilder() : null;
+            } else {
+              divsBuilder_.addAllMessages(other.divs_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                desc_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                org.secretflow.proto.component.ReportOuterClass.Div m =
+                    input.readMessage(
+                        org.secretflow.proto.component.ReportOuterClass.Div.parser(),
+                        extensionRegistry);
+                if (divsBuilder_ == null) {
+                  ensureDivsIsMutable();
+                  divs_.add(m);
+                } else {
+                  divsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * Name of the tab.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Name of the tab.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Name of the tab.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Name of the tab.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Name of the tab.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object desc_ = "";
+      /**
+       * <code>string desc = 2;</code>
+       * @return The desc.
+       */
+      public java.lang.String getDesc() {
+        java.lang.Object ref = desc_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          desc_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @return The bytes for desc.
+       */
+      public com.google.protobuf.ByteString
+          getDescBytes() {
+        java.lang.Object ref = desc_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          desc_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @param value The desc to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDesc(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        desc_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDesc() {
+        desc_ = getDefaultInstance().getDesc();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @param value The bytes for desc to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDescBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        desc_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.proto.component.ReportOuterClass.Div> divs_ =
+        java.util.Collections.emptyList();
+      private void ensureDivsIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          divs_ = new java.util.ArrayList<org.secretflow.proto.component.ReportOuterClass.Div>(divs_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.ReportOuterClass.Div, org.secretflow.proto.component.ReportOuterClass.Div.Builder, org.secretflow.proto.component.ReportOuterClass.DivOrBuilder> divsBuilder_;
+
+      /**
+       * <code>repeated .secretflow.component.Div divs = 3;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.ReportOuterClass.Div> getDivsList() {
+        if (divsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(divs_);
+        } else {
+          return divsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Div divs = 3;</code>
+       */
+      public int getDivsCount() {
+        if (divsBuilder_ == null) {
+          return divs_.size();
+        } else {
+          return divsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Div divs = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Div getDivs(int index) {
+        if (divsBuilder_ == null) {
+          return divs_.get(index);
+        } else {
+          return divsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Div divs = 3;</code>
+       */
+      public Builder setDivs(
+          int index, org.secretflow.proto.component.ReportOuterClass.Div value) {
+        if (divsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDivsIsMutable();
+          divs_.set(index, value);
+          onChanged();
+        } else {
+          divsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Div divs = 3;</code>
+       */
+      public Builder setDivs(
+          int index, org.secretflow.proto.component.ReportOuterClass.Div.Builder builderForValue) {
+        if (divsBuilder_ == null) {
+          ensureDivsIsMutable();
+          divs_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          divsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Div divs = 3;</code>
+       */
+      public Builder addDivs(org.secretflow.proto.component.ReportOuterClass.Div value) {
+        if (divsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDivsIsMutable();
+          divs_.add(value);
+          onChanged();
+        } else {
+          divsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Div divs = 3;</code>
+       */
+      public Builder addDivs(
+          int index, org.secretflow.proto.component.ReportOuterClass.Div value) {
+        if (divsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDivsIsMutable();
+          divs_.add(index, value);
+          onChanged();
+        } else {
+          divsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Div divs = 3;</code>
+       */
+      public Builder addDivs(
+          org.secretflow.proto.component.ReportOuterClass.Div.Builder builderForValue) {
+        if (divsBuilder_ == null) {
+          ensureDivsIsMutable();
+          divs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          divsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Div divs = 3;</code>
+       */
+      public Builder addDivs(
+          int index, org.secretflow.proto.component.ReportOuterClass.Div.Builder builderForValue) {
+        if (divsBuilder_ == null) {
+          ensureDivsIsMutable();
+          divs_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          divsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Div divs = 3;</code>
+       */
+      public Builder addAllDivs(
+          java.lang.Iterable<? extends org.secretflow.proto.component.ReportOuterClass.Div> values) {
+        if (divsBuilder_ == null) {
+          ensureDivsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, divs_);
+          onChanged();
+        } else {
+          divsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Div divs = 3;</code>
+       */
+      public Builder clearDivs() {
+        if (divsBuilder_ == null) {
+          divs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          divsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Div divs = 3;</code>
+       */
+      public Builder removeDivs(int index) {
+        if (divsBuilder_ == null) {
+          ensureDivsIsMutable();
+          divs_.remove(index);
+          onChanged();
+        } else {
+          divsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Div divs = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Div.Builder getDivsBuilder(
+          int index) {
+        return getDivsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .secretflow.component.Div divs = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.DivOrBuilder getDivsOrBuilder(
+          int index) {
+        if (divsBuilder_ == null) {
+          return divs_.get(index);  } else {
+          return divsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Div divs = 3;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.component.ReportOuterClass.DivOrBuilder> 
+           getDivsOrBuilderList() {
+        if (divsBuilder_ != null) {
+          return divsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(divs_);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Div divs = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Div.Builder addDivsBuilder() {
+        return getDivsFieldBuilder().addBuilder(
+            org.secretflow.proto.component.ReportOuterClass.Div.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.Div divs = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Div.Builder addDivsBuilder(
+          int index) {
+        return getDivsFieldBuilder().addBuilder(
+            index, org.secretflow.proto.component.ReportOuterClass.Div.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.Div divs = 3;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.ReportOuterClass.Div.Builder> 
+           getDivsBuilderList() {
+        return getDivsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.ReportOuterClass.Div, org.secretflow.proto.component.ReportOuterClass.Div.Builder, org.secretflow.proto.component.ReportOuterClass.DivOrBuilder> 
+          getDivsFieldBuilder() {
+        if (divsBuilder_ == null) {
+          divsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.component.ReportOuterClass.Div, org.secretflow.proto.component.ReportOuterClass.Div.Builder, org.secretflow.proto.component.ReportOuterClass.DivOrBuilder>(
+                  divs_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          divs_ = null;
+        }
+        return divsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.component.Tab)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.component.Tab)
+    private static final org.secretflow.proto.component.ReportOuterClass.Tab DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.component.ReportOuterClass.Tab();
+    }
+
+    public static org.secretflow.proto.component.ReportOuterClass.Tab getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Tab>
+        PARSER = new com.google.protobuf.AbstractParser<Tab>() {
+      @java.lang.Override
+      public Tab parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Tab> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Tab> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.component.ReportOuterClass.Tab getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ReportOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.component.Report)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Name of the report.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <pre>
+     * Name of the report.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>string desc = 2;</code>
+     * @return The desc.
+     */
+    java.lang.String getDesc();
+    /**
+     * <code>string desc = 2;</code>
+     * @return The bytes for desc.
+     */
+    com.google.protobuf.ByteString
+        getDescBytes();
+
+    /**
+     * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+     */
+    java.util.List<org.secretflow.proto.component.ReportOuterClass.Tab> 
+        getTabsList();
+    /**
+     * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+     */
+    org.secretflow.proto.component.ReportOuterClass.Tab getTabs(int index);
+    /**
+     * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+     */
+    int getTabsCount();
+    /**
+     * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.component.ReportOuterClass.TabOrBuilder> 
+        getTabsOrBuilderList();
+    /**
+     * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+     */
+    org.secretflow.proto.component.ReportOuterClass.TabOrBuilder getTabsOrBuilder(
+        int index);
+
+    /**
+     * <code>int32 err_code = 4;</code>
+     * @return The errCode.
+     */
+    int getErrCode();
+
+    /**
+     * <pre>
+     * err detail (json encoded message, structed error detail)
+     * </pre>
+     *
+     * <code>string err_detail = 5;</code>
+     * @return The errDetail.
+     */
+    java.lang.String getErrDetail();
+    /**
+     * <pre>
+     * err detail (json encoded message, structed error detail)
+     * </pre>
+     *
+     * <code>string err_detail = 5;</code>
+     * @return The bytes for errDetail.
+     */
+    com.google.protobuf.ByteString
+        getErrDetailBytes();
+  }
+  /**
+   * Protobuf type {@code secretflow.component.Report}
+   */
+  public static final class Report extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.component.Report)
+      ReportOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Report.newBuilder() to construct.
+    private Report(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Report() {
+      name_ = "";
+      desc_ = "";
+      tabs_ = java.util.Collections.emptyList();
+      errDetail_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Report();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Report_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Report_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.component.ReportOuterClass.Report.class, org.secretflow.proto.component.ReportOuterClass.Report.Builder.class);
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <pre>
+     * Name of the report.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Name of the report.
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DESC_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object desc_ = "";
+    /**
+     * <code>string desc = 2;</code>
+     * @return The desc.
+     */
+    @java.lang.Override
+    public java.lang.String getDesc() {
+      java.lang.Object ref = desc_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        desc_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string desc = 2;</code>
+     * @return The bytes for desc.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDescBytes() {
+      java.lang.Object ref = desc_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        desc_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TABS_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.component.ReportOuterClass.Tab> tabs_;
+    /**
+     * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.component.ReportOuterClass.Tab> getTabsList() {
+      return tabs_;
+    }
+    /**
+     * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.component.ReportOuterClass.TabOrBuilder> 
+        getTabsOrBuilderList() {
+      return tabs_;
+    }
+    /**
+     * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+     */
+    @java.lang.Override
+    public int getTabsCount() {
+      return tabs_.size();
+    }
+    /**
+     * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.ReportOuterClass.Tab getTabs(int index) {
+      return tabs_.get(index);
+    }
+    /**
+     * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.ReportOuterClass.TabOrBuilder getTabsOrBuilder(
+        int index) {
+      return tabs_.get(index);
+    }
+
+    public static final int ERR_CODE_FIELD_NUMBER = 4;
+    private int errCode_ = 0;
+    /**
+     * <code>int32 err_code = 4;</code>
+     * @return The errCode.
+     */
+    @java.lang.Override
+    public int getErrCode() {
+      return errCode_;
+    }
+
+    public static final int ERR_DETAIL_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object errDetail_ = "";
+    /**
+     * <pre>
+     * err detail (json encoded message, structed error detail)
+     * </pre>
+     *
+     * <code>string err_detail = 5;</code>
+     * @return The errDetail.
+     */
+    @java.lang.Override
+    public java.lang.String getErrDetail() {
+      java.lang.Object ref = errDetail_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        errDetail_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * err detail (json encoded message, structed error detail)
+     * </pre>
+     *
+     * <code>string err_detail = 5;</code>
+     * @return The bytes for errDetail.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getErrDetailBytes() {
+      java.lang.Object ref = errDetail_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        errDetail_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, desc_);
+      }
+      for (int i = 0; i < tabs_.size(); i++) {
+        output.writeMessage(3, tabs_.get(i));
+      }
+      if (errCode_ != 0) {
+        output.writeInt32(4, errCode_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(errDetail_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, errDetail_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(desc_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, desc_);
+      }
+      for (int i = 0; i < tabs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, tabs_.get(i));
+      }
+      if (errCode_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, errCode_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(errDetail_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, errDetail_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.component.ReportOuterClass.Report)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.component.ReportOuterClass.Report other = (org.secretflow.proto.component.ReportOuterClass.Report) obj;
+
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getDesc()
+          .equals(other.getDesc())) return false;
+      if (!getTabsList()
+          .equals(other.getTabsList())) return false;
+      if (getErrCode()
+          != other.getErrCode()) return false;
+      if (!getErrDetail()
+          .equals(other.getErrDetail())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + DESC_FIELD_NUMBER;
+      hash = (53 * hash) + getDesc().hashCode();
+      if (getTabsCount() > 0) {
+        hash = (37 * hash) + TABS_FIELD_NUMBER;
+        hash = (53 * hash) + getTabsList().hashCode();
+      }
+      hash = (37 * hash) + ERR_CODE_FIELD_NUMBER;
+      hash = (53 * hash) + getErrCode();
+      hash = (37 * hash) + ERR_DETAIL_FIELD_NUMBER;
+      hash = (53 * hash) + getErrDetail().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.component.ReportOuterClass.Report parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Report parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Report parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Report parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Report parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Report parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Report parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Report parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Report parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Report parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Report parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.component.ReportOuterClass.Report parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.component.ReportOuterClass.Report prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code secretflow.component.Report}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.component.Report)
+        org.secretflow.proto.component.ReportOuterClass.ReportOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Report_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Report_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.component.ReportOuterClass.Report.class, org.secretflow.proto.component.ReportOuterClass.Report.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.component.ReportOuterClass.Report.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        name_ = "";
+        desc_ = "";
+        if (tabsBuilder_ == null) {
+          tabs_ = java.util.Collections.emptyList();
+        } else {
+          tabs_ = null;
+          tabsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        errCode_ = 0;
+        errDetail_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.component.ReportOuterClass.internal_static_secretflow_component_Report_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Report getDefaultInstanceForType() {
+        return org.secretflow.proto.component.ReportOuterClass.Report.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Report build() {
+        org.secretflow.proto.component.ReportOuterClass.Report result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.component.ReportOuterClass.Report buildPartial() {
+        org.secretflow.proto.component.ReportOuterClass.Report result = new org.secretflow.proto.component.ReportOuterClass.Report(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.proto.component.ReportOuterClass.Report result) {
+        if (tabsBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            tabs_ = java.util.Collections.unmodifiableList(tabs_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.tabs_ = tabs_;
+        } else {
+          result.tabs_ = tabsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.proto.component.ReportOuterClass.Report result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.desc_ = desc_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.errCode_ = errCode_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.errDetail_ = errDetail_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.component.ReportOuterClass.Report) {
+          return mergeFrom((org.secretflow.proto.component.ReportOuterClass.Report)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.component.ReportOuterClass.Report other) {
+        if (other == org.secretflow.proto.component.ReportOuterClass.Report.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getDesc().isEmpty()) {
+          desc_ = other.desc_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (tabsBuilder_ == null) {
+          if (!other.tabs_.isEmpty()) {
+            if (tabs_.isEmpty()) {
+              tabs_ = other.tabs_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureTabsIsMutable();
+              tabs_.addAll(other.tabs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.tabs_.isEmpty()) {
+            if (tabsBuilder_.isEmpty()) {
+              tabsBuilder_.dispose();
+              tabsBuilder_ = null;
+              tabs_ = other.tabs_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              tabsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTabsFieldBuilder() : null;
+            } else {
+              tabsBuilder_.addAllMessages(other.tabs_);
+            }
+          }
+        }
+        if (other.getErrCode() != 0) {
+          setErrCode(other.getErrCode());
+        }
+        if (!other.getErrDetail().isEmpty()) {
+          errDetail_ = other.errDetail_;
+          bitField0_ |= 0x00000010;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                desc_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                org.secretflow.proto.component.ReportOuterClass.Tab m =
+                    input.readMessage(
+                        org.secretflow.proto.component.ReportOuterClass.Tab.parser(),
+                        extensionRegistry);
+                if (tabsBuilder_ == null) {
+                  ensureTabsIsMutable();
+                  tabs_.add(m);
+                } else {
+                  tabsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 26
+              case 32: {
+                errCode_ = input.readInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 42: {
+                errDetail_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * Name of the report.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Name of the report.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Name of the report.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Name of the report.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Name of the report.
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object desc_ = "";
+      /**
+       * <code>string desc = 2;</code>
+       * @return The desc.
+       */
+      public java.lang.String getDesc() {
+        java.lang.Object ref = desc_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          desc_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @return The bytes for desc.
+       */
+      public com.google.protobuf.ByteString
+          getDescBytes() {
+        java.lang.Object ref = desc_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          desc_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @param value The desc to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDesc(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        desc_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDesc() {
+        desc_ = getDefaultInstance().getDesc();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string desc = 2;</code>
+       * @param value The bytes for desc to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDescBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        desc_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.proto.component.ReportOuterClass.Tab> tabs_ =
+        java.util.Collections.emptyList();
+      private void ensureTabsIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          tabs_ = new java.util.ArrayList<org.secretflow.proto.component.ReportOuterClass.Tab>(tabs_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.ReportOuterClass.Tab, org.secretflow.proto.component.ReportOuterClass.Tab.Builder, org.secretflow.proto.component.ReportOuterClass.TabOrBuilder> tabsBuilder_;
+
+      /**
+       * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.ReportOuterClass.Tab> getTabsList() {
+        if (tabsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(tabs_);
+        } else {
+          return tabsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+       */
+      public int getTabsCount() {
+        if (tabsBuilder_ == null) {
+          return tabs_.size();
+        } else {
+          return tabsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Tab getTabs(int index) {
+        if (tabsBuilder_ == null) {
+          return tabs_.get(index);
+        } else {
+          return tabsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+       */
+      public Builder setTabs(
+          int index, org.secretflow.proto.component.ReportOuterClass.Tab value) {
+        if (tabsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTabsIsMutable();
+          tabs_.set(index, value);
+          onChanged();
+        } else {
+          tabsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+       */
+      public Builder setTabs(
+          int index, org.secretflow.proto.component.ReportOuterClass.Tab.Builder builderForValue) {
+        if (tabsBuilder_ == null) {
+          ensureTabsIsMutable();
+          tabs_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          tabsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+       */
+      public Builder addTabs(org.secretflow.proto.component.ReportOuterClass.Tab value) {
+        if (tabsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTabsIsMutable();
+          tabs_.add(value);
+          onChanged();
+        } else {
+          tabsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+       */
+      public Builder addTabs(
+          int index, org.secretflow.proto.component.ReportOuterClass.Tab value) {
+        if (tabsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTabsIsMutable();
+          tabs_.add(index, value);
+          onChanged();
+        } else {
+          tabsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+       */
+      public Builder addTabs(
+          org.secretflow.proto.component.ReportOuterClass.Tab.Builder builderForValue) {
+        if (tabsBuilder_ == null) {
+          ensureTabsIsMutable();
+          tabs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          tabsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+       */
+      public Builder addTabs(
+          int index, org.secretflow.proto.component.ReportOuterClass.Tab.Builder builderForValue) {
+        if (tabsBuilder_ == null) {
+          ensureTabsIsMutable();
+          tabs_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          tabsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+       */
+      public Builder addAllTabs(
+          java.lang.Iterable<? extends org.secretflow.proto.component.ReportOuterClass.Tab> values) {
+        if (tabsBuilder_ == null) {
+          ensureTabsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, tabs_);
+          onChanged();
+        } else {
+          tabsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+       */
+      public Builder clearTabs() {
+        if (tabsBuilder_ == null) {
+          tabs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          tabsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+       */
+      public Builder removeTabs(int index) {
+        if (tabsBuilder_ == null) {
+          ensureTabsIsMutable();
+          tabs_.remove(index);
+          onChanged();
+        } else {
+          tabsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Tab.Builder getTabsBuilder(
+          int index) {
+        return getTabsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.TabOrBuilder getTabsOrBuilder(
+          int index) {
+        if (tabsBuilder_ == null) {
+          return tabs_.get(index);  } else {
+          return tabsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.component.ReportOuterClass.TabOrBuilder> 
+           getTabsOrBuilderList() {
+        if (tabsBuilder_ != null) {
+          return tabsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(tabs_);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Tab.Builder addTabsBuilder() {
+        return getTabsFieldBuilder().addBuilder(
+            org.secretflow.proto.component.ReportOuterClass.Tab.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+       */
+      public org.secretflow.proto.component.ReportOuterClass.Tab.Builder addTabsBuilder(
+          int index) {
+        return getTabsFieldBuilder().addBuilder(
+            index, org.secretflow.proto.component.ReportOuterClass.Tab.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.Tab tabs = 3;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.ReportOuterClass.Tab.Builder> 
+           getTabsBuilderList() {
+        return getTabsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.ReportOuterClass.Tab, org.secretflow.proto.component.ReportOuterClass.Tab.Builder, org.secretflow.proto.component.ReportOuterClass.TabOrBuilder> 
+          getTabsFieldBuilder() {
+        if (tabsBuilder_ == null) {
+          tabsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.component.ReportOuterClass.Tab, org.secretflow.proto.component.ReportOuterClass.Tab.Builder, org.secretflow.proto.component.ReportOuterClass.TabOrBuilder>(
+                  tabs_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          tabs_ = null;
+        }
+        return tabsBuilder_;
+      }
+
+      private int errCode_ ;
+      /**
+       * <code>int32 err_code = 4;</code>
+       * @return The errCode.
+       */
+      @java.lang.Override
+      public int getErrCode() {
+        return errCode_;
+      }
+      /**
+       * <code>int32 err_code = 4;</code>
+       * @param value The errCode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrCode(int value) {
+
+        errCode_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 err_code = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearErrCode() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        errCode_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object errDetail_ = "";
+      /**
+       * <pre>
+       * err detail (json encoded message, structed error detail)
+       * </pre>
+       *
+       * <code>string err_detail = 5;</code>
+       * @return The errDetail.
+       */
+      public java.lang.String getErrDetail() {
+        java.lang.Object ref = errDetail_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          errDetail_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * err detail (json encoded message, structed error detail)
+       * </pre>
+       *
+       * <code>string err_detail = 5;</code>
+       * @return The bytes for errDetail.
+       */
+      public com.google.protobuf.ByteString
+          getErrDetailBytes() {
+        java.lang.Object ref = errDetail_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          errDetail_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * err detail (json encoded message, structed error detail)
+       * </pre>
+       *
+       * <code>string err_detail = 5;</code>
+       * @param value The errDetail to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrDetail(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        errDetail_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * err detail (json encoded message, structed error detail)
+       * </pre>
+       *
+       * <code>string err_detail = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearErrDetail() {
+        errDetail_ = getDefaultInstance().getErrDetail();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * err detail (json encoded message, structed error detail)
+       * </pre>
+       *
+       * <code>string err_detail = 5;</code>
+       * @param value The bytes for errDetail to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrDetailBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        errDetail_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.component.Report)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.component.Report)
+    private static final org.secretflow.proto.component.ReportOuterClass.Report DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.component.ReportOuterClass.Report();
+    }
+
+    public static org.secretflow.proto.component.ReportOuterClass.Report getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Report>
+        PARSER = new com.google.protobuf.AbstractParser<Report>() {
+      @java.lang.Override
+      public Report parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Report> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Report> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.component.ReportOuterClass.Report getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_Descriptions_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_Descriptions_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_Descriptions_Item_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_Descriptions_Item_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_Table_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_Table_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_Table_HeaderItem_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_Table_HeaderItem_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_Table_Row_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_Table_Row_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_Div_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_Div_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_Div_Child_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_Div_Child_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_Tab_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_Tab_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_component_Report_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_component_Report_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n(secretflow/protos/component/report.pro" +
+      "to\022\024secretflow.component\032&secretflow/pro" +
+      "tos/component/comp.proto\"\345\001\n\014Description" +
+      "s\022\014\n\004name\030\001 \001(\t\022\014\n\004desc\030\002 \001(\t\0226\n\005items\030\003" +
+      " \003(\0132\'.secretflow.component.Descriptions" +
+      ".Item\032\200\001\n\004Item\022\014\n\004name\030\001 \001(\t\022\014\n\004desc\030\002 \001" +
+      "(\t\022,\n\004type\030\003 \001(\0162\036.secretflow.component." +
+      "AttrType\022.\n\005value\030\004 \001(\0132\037.secretflow.com" +
+      "ponent.Attribute\"\266\002\n\005Table\022\014\n\004name\030\001 \001(\t" +
+      "\022\014\n\004desc\030\002 \001(\t\0227\n\007headers\030\003 \003(\0132&.secret" +
+      "flow.component.Table.HeaderItem\022-\n\004rows\030" +
+      "\004 \003(\0132\037.secretflow.component.Table.Row\032V" +
+      "\n\nHeaderItem\022\014\n\004name\030\001 \001(\t\022\014\n\004desc\030\002 \001(\t" +
+      "\022,\n\004type\030\003 \001(\0162\036.secretflow.component.At" +
+      "trType\032Q\n\003Row\022\014\n\004name\030\001 \001(\t\022\014\n\004desc\030\002 \001(" +
+      "\t\022.\n\005items\030\003 \003(\0132\037.secretflow.component." +
+      "Attribute\"\372\001\n\003Div\022\014\n\004name\030\001 \001(\t\022\014\n\004desc\030" +
+      "\002 \001(\t\0221\n\010children\030\003 \003(\0132\037.secretflow.com" +
+      "ponent.Div.Child\032\243\001\n\005Child\022\014\n\004type\030\001 \001(\t" +
+      "\0228\n\014descriptions\030\002 \001(\0132\".secretflow.comp" +
+      "onent.Descriptions\022*\n\005table\030\003 \001(\0132\033.secr" +
+      "etflow.component.Table\022&\n\003div\030\004 \001(\0132\031.se" +
+      "cretflow.component.Div\"J\n\003Tab\022\014\n\004name\030\001 " +
+      "\001(\t\022\014\n\004desc\030\002 \001(\t\022\'\n\004divs\030\003 \003(\0132\031.secret" +
+      "flow.component.Div\"s\n\006Report\022\014\n\004name\030\001 \001" +
+      "(\t\022\014\n\004desc\030\002 \001(\t\022\'\n\004tabs\030\003 \003(\0132\031.secretf" +
+      "low.component.Tab\022\020\n\010err_code\030\004 \001(\005\022\022\n\ne" +
+      "rr_detail\030\005 \001(\tB \n\036org.secretflow.proto." +
+      "componentb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          org.secretflow.proto.component.Comp.getDescriptor(),
+        });
+    internal_static_secretflow_component_Descriptions_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_secretflow_component_Descriptions_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_Descriptions_descriptor,
+        new java.lang.String[] { "Name", "Desc", "Items", });
+    internal_static_secretflow_component_Descriptions_Item_descriptor =
+      internal_static_secretflow_component_Descriptions_descriptor.getNestedTypes().get(0);
+    internal_static_secretflow_component_Descriptions_Item_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_Descriptions_Item_descriptor,
+        new java.lang.String[] { "Name", "Desc", "Type", "Value", });
+    internal_static_secretflow_component_Table_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_secretflow_component_Table_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_Table_descriptor,
+        new java.lang.String[] { "Name", "Desc", "Headers", "Rows", });
+    internal_static_secretflow_component_Table_HeaderItem_descriptor =
+      internal_static_secretflow_component_Table_descriptor.getNestedTypes().get(0);
+    internal_static_secretflow_component_Table_HeaderItem_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_Table_HeaderItem_descriptor,
+        new java.lang.String[] { "Name", "Desc", "Type", });
+    internal_static_secretflow_component_Table_Row_descriptor =
+      internal_static_secretflow_component_Table_descriptor.getNestedTypes().get(1);
+    internal_static_secretflow_component_Table_Row_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_Table_Row_descriptor,
+        new java.lang.String[] { "Name", "Desc", "Items", });
+    internal_static_secretflow_component_Div_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_secretflow_component_Div_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_Div_descriptor,
+        new java.lang.String[] { "Name", "Desc", "Children", });
+    internal_static_secretflow_component_Div_Child_descriptor =
+      internal_static_secretflow_component_Div_descriptor.getNestedTypes().get(0);
+    internal_static_secretflow_component_Div_Child_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_Div_Child_descriptor,
+        new java.lang.String[] { "Type", "Descriptions", "Table", "Div", });
+    internal_static_secretflow_component_Tab_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_secretflow_component_Tab_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_Tab_descriptor,
+        new java.lang.String[] { "Name", "Desc", "Divs", });
+    internal_static_secretflow_component_Report_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_secretflow_component_Report_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_component_Report_descriptor,
+        new java.lang.String[] { "Name", "Desc", "Tabs", "ErrCode", "ErrDetail", });
+    org.secretflow.proto.component.Comp.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,5388 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: secretflow/protos/pipeline/pipeline.proto
+
+package org.secretflow.proto.pipeline;
+
+public final class Pipeline {
+  private Pipeline() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  /**
+   * Protobuf enum {@code secretflow.pipeline.State}
+   */
+  public enum State
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <pre>
+     * The default state.
+     * </pre>
+     *
+     * <code>Staging = 0;</code>
+     */
+    Staging(0),
+    /**
+     * <pre>
+     * For a node, it is connected and the schema is inferenced.
+     * For a pipeline, it is about to run.
+     * </pre>
+     *
+     * <code>Initialized = 1;</code>
+     */
+    Initialized(1),
+    /**
+     * <pre>
+     * For a node, it is fired and still running by the backend.
+     * For a pipeline, at least one of its nodes is still running.
+     * </pre>
+     *
+     * <code>Running = 2;</code>
+     */
+    Running(2),
+    /**
+     * <pre>
+     * Finished, succeed.
+     * </pre>
+     *
+     * <code>Succeed = 3;</code>
+     */
+    Succeed(3),
+    /**
+     * <pre>
+     * Finished, failed.
+     * </pre>
+     *
+     * <code>Failed = 4;</code>
+     */
+    Failed(4),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <pre>
+     * The default state.
+     * </pre>
+     *
+     * <code>Staging = 0;</code>
+     */
+    public static final int Staging_VALUE = 0;
+    /**
+     * <pre>
+     * For a node, it is connected and the schema is inferenced.
+     * For a pipeline, it is about to run.
+     * </pre>
+     *
+     * <code>Initialized = 1;</code>
+     */
+    public static final int Initialized_VALUE = 1;
+    /**
+     * <pre>
+     * For a node, it is fired and still running by the backend.
+     * For a pipeline, at least one of its nodes is still running.
+     * </pre>
+     *
+     * <code>Running = 2;</code>
+     */
+    public static final int Running_VALUE = 2;
+    /**
+     * <pre>
+     * Finished, succeed.
+     * </pre>
+     *
+     * <code>Succeed = 3;</code>
+     */
+    public static final int Succeed_VALUE = 3;
+    /**
+     * <pre>
+     * Finished, failed.
+     * </pre>
+     *
+     * <code>Failed = 4;</code>
+     */
+    public static final int Failed_VALUE = 4;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static State valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static State forNumber(int value) {
+      switch (value) {
+        case 0: return Staging;
+        case 1: return Initialized;
+        case 2: return Running;
+        case 3: return Succeed;
+        case 4: return Failed;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<State>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        State> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<State>() {
+            public State findValueByNumber(int number) {
+              return State.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.secretflow.proto.pipeline.Pipeline.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final State[] VALUES = values();
+
+    public static State valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private State(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:secretflow.pipeline.State)
+  }
+
+  public interface NodeDefOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.pipeline.NodeDef)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * id of this node, unique per-pipeline.
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    java.lang.String getId();
+    /**
+     * <pre>
+     * id of this node, unique per-pipeline.
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    com.google.protobuf.ByteString
+        getIdBytes();
+
+    /**
+     * <pre>
+     * domain of component
+     * </pre>
+     *
+     * <code>string domain = 2;</code>
+     * @return The domain.
+     */
+    java.lang.String getDomain();
+    /**
+     * <pre>
+     * domain of component
+     * </pre>
+     *
+     * <code>string domain = 2;</code>
+     * @return The bytes for domain.
+     */
+    com.google.protobuf.ByteString
+        getDomainBytes();
+
+    /**
+     * <pre>
+     * name of component
+     * </pre>
+     *
+     * <code>string name = 3;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <pre>
+     * name of component
+     * </pre>
+     *
+     * <code>string name = 3;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <pre>
+     * version of component
+     * </pre>
+     *
+     * <code>string version = 4;</code>
+     * @return The version.
+     */
+    java.lang.String getVersion();
+    /**
+     * <pre>
+     * version of component
+     * </pre>
+     *
+     * <code>string version = 4;</code>
+     * @return The bytes for version.
+     */
+    com.google.protobuf.ByteString
+        getVersionBytes();
+
+    /**
+     * <pre>
+     * The attribute value.
+     * </pre>
+     *
+     * <code>repeated string attr_paths = 5;</code>
+     * @return A list containing the attrPaths.
+     */
+    java.util.List<java.lang.String>
+        getAttrPathsList();
+    /**
+     * <pre>
+     * The attribute value.
+     * </pre>
+     *
+     * <code>repeated string attr_paths = 5;</code>
+     * @return The count of attrPaths.
+     */
+    int getAttrPathsCount();
+    /**
+     * <pre>
+     * The attribute value.
+     * </pre>
+     *
+     * <code>repeated string attr_paths = 5;</code>
+     * @param index The index of the element to return.
+     * @return The attrPaths at the given index.
+     */
+    java.lang.String getAttrPaths(int index);
+    /**
+     * <pre>
+     * The attribute value.
+     * </pre>
+     *
+     * <code>repeated string attr_paths = 5;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the attrPaths at the given index.
+     */
+    com.google.protobuf.ByteString
+        getAttrPathsBytes(int index);
+
+    /**
+     * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+     */
+    java.util.List<org.secretflow.proto.component.Comp.Attribute> 
+        getAttrsList();
+    /**
+     * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+     */
+    org.secretflow.proto.component.Comp.Attribute getAttrs(int index);
+    /**
+     * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+     */
+    int getAttrsCount();
+    /**
+     * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.component.Comp.AttributeOrBuilder> 
+        getAttrsOrBuilderList();
+    /**
+     * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+     */
+    org.secretflow.proto.component.Comp.AttributeOrBuilder getAttrsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+     */
+    java.util.List<org.secretflow.proto.component.Data.DistData> 
+        getInputsList();
+    /**
+     * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+     */
+    org.secretflow.proto.component.Data.DistData getInputs(int index);
+    /**
+     * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+     */
+    int getInputsCount();
+    /**
+     * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.component.Data.DistDataOrBuilder> 
+        getInputsOrBuilderList();
+    /**
+     * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+     */
+    org.secretflow.proto.component.Data.DistDataOrBuilder getInputsOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * A node is a building block of a DAG, nodes and edges together forms a DAG.
+   * similar to NodeEvalParam except IO are ids.
+   * </pre>
+   *
+   * Protobuf type {@code secretflow.pipeline.NodeDef}
+   */
+  public static final class NodeDef extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.pipeline.NodeDef)
+      NodeDefOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use NodeDef.newBuilder() to construct.
+    private NodeDef(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private NodeDef() {
+      id_ = "";
+      domain_ = "";
+      name_ = "";
+      version_ = "";
+      attrPaths_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      attrs_ = java.util.Collections.emptyList();
+      inputs_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new NodeDef();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.pipeline.Pipeline.internal_static_secretflow_pipeline_NodeDef_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.pipeline.Pipeline.internal_static_secretflow_pipeline_NodeDef_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.pipeline.Pipeline.NodeDef.class, org.secretflow.proto.pipeline.Pipeline.NodeDef.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object id_ = "";
+    /**
+     * <pre>
+     * id of this node, unique per-pipeline.
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        id_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * id of this node, unique per-pipeline.
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DOMAIN_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domain_ = "";
+    /**
+     * <pre>
+     * domain of component
+     * </pre>
+     *
+     * <code>string domain = 2;</code>
+     * @return The domain.
+     */
+    @java.lang.Override
+    public java.lang.String getDomain() {
+      java.lang.Object ref = domain_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domain_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * domain of component
+     * </pre>
+     *
+     * <code>string domain = 2;</code>
+     * @return The bytes for domain.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomainBytes() {
+      java.lang.Object ref = domain_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domain_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NAME_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <pre>
+     * name of component
+     * </pre>
+     *
+     * <code>string name = 3;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * name of component
+     * </pre>
+     *
+     * <code>string name = 3;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object version_ = "";
+    /**
+     * <pre>
+     * version of component
+     * </pre>
+     *
+     * <code>string version = 4;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public java.lang.String getVersion() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        version_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * version of component
+     * </pre>
+     *
+     * <code>string version = 4;</code>
+     * @return The bytes for version.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getVersionBytes() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        version_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ATTR_PATHS_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList attrPaths_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * The attribute value.
+     * </pre>
+     *
+     * <code>repeated string attr_paths = 5;</code>
+     * @return A list containing the attrPaths.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getAttrPathsList() {
+      return attrPaths_;
+    }
+    /**
+     * <pre>
+     * The attribute value.
+     * </pre>
+     *
+     * <code>repeated string attr_paths = 5;</code>
+     * @return The count of attrPaths.
+     */
+    public int getAttrPathsCount() {
+      return attrPaths_.size();
+    }
+    /**
+     * <pre>
+     * The attribute value.
+     * </pre>
+     *
+     * <code>repeated string attr_paths = 5;</code>
+     * @param index The index of the element to return.
+     * @return The attrPaths at the given index.
+     */
+    public java.lang.String getAttrPaths(int index) {
+      return attrPaths_.get(index);
+    }
+    /**
+     * <pre>
+     * The attribute value.
+     * </pre>
+     *
+     * <code>repeated string attr_paths = 5;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the attrPaths at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getAttrPathsBytes(int index) {
+      return attrPaths_.getByteString(index);
+    }
+
+    public static final int ATTRS_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.component.Comp.Attribute> attrs_;
+    /**
+     * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.component.Comp.Attribute> getAttrsList() {
+      return attrs_;
+    }
+    /**
+     * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.component.Comp.AttributeOrBuilder> 
+        getAttrsOrBuilderList() {
+      return attrs_;
+    }
+    /**
+     * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+     */
+    @java.lang.Override
+    public int getAttrsCount() {
+      return attrs_.size();
+    }
+    /**
+     * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.Attribute getAttrs(int index) {
+      return attrs_.get(index);
+    }
+    /**
+     * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Comp.AttributeOrBuilder getAttrsOrBuilder(
+        int index) {
+      return attrs_.get(index);
+    }
+
+    public static final int INPUTS_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.component.Data.DistData> inputs_;
+    /**
+     * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.component.Data.DistData> getInputsList() {
+      return inputs_;
+    }
+    /**
+     * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.component.Data.DistDataOrBuilder> 
+        getInputsOrBuilderList() {
+      return inputs_;
+    }
+    /**
+     * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+     */
+    @java.lang.Override
+    public int getInputsCount() {
+      return inputs_.size();
+    }
+    /**
+     * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.DistData getInputs(int index) {
+      return inputs_.get(index);
+    }
+    /**
+     * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.component.Data.DistDataOrBuilder getInputsOrBuilder(
+        int index) {
+      return inputs_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(id_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, id_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domain_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, domain_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(version_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, version_);
+      }
+      for (int i = 0; i < attrPaths_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, attrPaths_.getRaw(i));
+      }
+      for (int i = 0; i < attrs_.size(); i++) {
+        output.writeMessage(6, attrs_.get(i));
+      }
+      for (int i = 0; i < inputs_.size(); i++) {
+        output.writeMessage(7, inputs_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(id_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, id_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domain_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, domain_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(version_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, version_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < attrPaths_.size(); i++) {
+          dataSize += computeStringSizeNoTag(attrPaths_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getAttrPathsList().size();
+      }
+      for (int i = 0; i < attrs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, attrs_.get(i));
+      }
+      for (int i = 0; i < inputs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, inputs_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.pipeline.Pipeline.NodeDef)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.pipeline.Pipeline.NodeDef other = (org.secretflow.proto.pipeline.Pipeline.NodeDef) obj;
+
+      if (!getId()
+          .equals(other.getId())) return false;
+      if (!getDomain()
+          .equals(other.getDomain())) return false;
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getVersion()
+          .equals(other.getVersion())) return false;
+      if (!getAttrPathsList()
+          .equals(other.getAttrPathsList())) return false;
+      if (!getAttrsList()
+          .equals(other.getAttrsList())) return false;
+      if (!getInputsList()
+          .equals(other.getInputsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + getId().hashCode();
+      hash = (37 * hash) + DOMAIN_FIELD_NUMBER;
+      hash = (53 * hash) + getDomain().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + VERSION_FIELD_NUMBER;
+      hash = (53 * hash) + getVersion().hashCode();
+      if (getAttrPathsCount() > 0) {
+        hash = (37 * hash) + ATTR_PATHS_FIELD_NUMBER;
+        hash = (53 * hash) + getAttrPathsList().hashCode();
+      }
+      if (getAttrsCount() > 0) {
+        hash = (37 * hash) + ATTRS_FIELD_NUMBER;
+        hash = (53 * hash) + getAttrsList().hashCode();
+      }
+      if (getInputsCount() > 0) {
+        hash = (37 * hash) + INPUTS_FIELD_NUMBER;
+        hash = (53 * hash) + getInputsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.pipeline.Pipeline.NodeDef parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeDef parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeDef parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeDef parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeDef parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeDef parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeDef parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeDef parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeDef parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeDef parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeDef parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeDef parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.pipeline.Pipeline.NodeDef prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * A node is a building block of a DAG, nodes and edges together forms a DAG.
+     * similar to NodeEvalParam except IO are ids.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.pipeline.NodeDef}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.pipeline.NodeDef)
+        org.secretflow.proto.pipeline.Pipeline.NodeDefOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.pipeline.Pipeline.internal_static_secretflow_pipeline_NodeDef_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.pipeline.Pipeline.internal_static_secretflow_pipeline_NodeDef_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.pipeline.Pipeline.NodeDef.class, org.secretflow.proto.pipeline.Pipeline.NodeDef.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.pipeline.Pipeline.NodeDef.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        id_ = "";
+        domain_ = "";
+        name_ = "";
+        version_ = "";
+        attrPaths_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        if (attrsBuilder_ == null) {
+          attrs_ = java.util.Collections.emptyList();
+        } else {
+          attrs_ = null;
+          attrsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        if (inputsBuilder_ == null) {
+          inputs_ = java.util.Collections.emptyList();
+        } else {
+          inputs_ = null;
+          inputsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.pipeline.Pipeline.internal_static_secretflow_pipeline_NodeDef_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.pipeline.Pipeline.NodeDef getDefaultInstanceForType() {
+        return org.secretflow.proto.pipeline.Pipeline.NodeDef.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.pipeline.Pipeline.NodeDef build() {
+        org.secretflow.proto.pipeline.Pipeline.NodeDef result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.pipeline.Pipeline.NodeDef buildPartial() {
+        org.secretflow.proto.pipeline.Pipeline.NodeDef result = new org.secretflow.proto.pipeline.Pipeline.NodeDef(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.proto.pipeline.Pipeline.NodeDef result) {
+        if (attrsBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) != 0)) {
+            attrs_ = java.util.Collections.unmodifiableList(attrs_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.attrs_ = attrs_;
+        } else {
+          result.attrs_ = attrsBuilder_.build();
+        }
+        if (inputsBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) != 0)) {
+            inputs_ = java.util.Collections.unmodifiableList(inputs_);
+            bitField0_ = (bitField0_ & ~0x00000040);
+          }
+          result.inputs_ = inputs_;
+        } else {
+          result.inputs_ = inputsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.proto.pipeline.Pipeline.NodeDef result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.id_ = id_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.domain_ = domain_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.version_ = version_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          attrPaths_.makeImmutable();
+          result.attrPaths_ = attrPaths_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.pipeline.Pipeline.NodeDef) {
+          return mergeFrom((org.secretflow.proto.pipeline.Pipeline.NodeDef)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.pipeline.Pipeline.NodeDef other) {
+        if (other == org.secretflow.proto.pipeline.Pipeline.NodeDef.getDefaultInstance()) return this;
+        if (!other.getId().isEmpty()) {
+          id_ = other.id_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getDomain().isEmpty()) {
+          domain_ = other.domain_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (!other.getVersion().isEmpty()) {
+          version_ = other.version_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (!other.attrPaths_.isEmpty()) {
+          if (attrPaths_.isEmpty()) {
+            attrPaths_ = other.attrPaths_;
+            bitField0_ |= 0x00000010;
+          } else {
+            ensureAttrPathsIsMutable();
+            attrPaths_.addAll(other.attrPaths_);
+          }
+          onChanged();
+        }
+        if (attrsBuilder_ == null) {
+          if (!other.attrs_.isEmpty()) {
+            if (attrs_.isEmpty()) {
+              attrs_ = other.attrs_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureAttrsIsMutable();
+              attrs_.addAll(other.attrs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.attrs_.isEmpty()) {
+            if (attrsBuilder_.isEmpty()) {
+              attrsBuilder_.dispose();
+              attrsBuilder_ = null;
+              attrs_ = other.attrs_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              attrsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getAttrsFieldBuilder() : null;
+            } else {
+              attrsBuilder_.addAllMessages(other.attrs_);
+            }
+          }
+        }
+        if (inputsBuilder_ == null) {
+          if (!other.inputs_.isEmpty()) {
+            if (inputs_.isEmpty()) {
+              inputs_ = other.inputs_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+            } else {
+              ensureInputsIsMutable();
+              inputs_.addAll(other.inputs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.inputs_.isEmpty()) {
+            if (inputsBuilder_.isEmpty()) {
+              inputsBuilder_.dispose();
+              inputsBuilder_ = null;
+              inputs_ = other.inputs_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+              inputsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getInputsFieldBuilder() : null;
+            } else {
+              inputsBuilder_.addAllMessages(other.inputs_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                id_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                domain_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                version_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureAttrPathsIsMutable();
+                attrPaths_.add(s);
+                break;
+              } // case 42
+              case 50: {
+                org.secretflow.proto.component.Comp.Attribute m =
+                    input.readMessage(
+                        org.secretflow.proto.component.Comp.Attribute.parser(),
+                        extensionRegistry);
+                if (attrsBuilder_ == null) {
+                  ensureAttrsIsMutable();
+                  attrs_.add(m);
+                } else {
+                  attrsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 50
+              case 58: {
+                org.secretflow.proto.component.Data.DistData m =
+                    input.readMessage(
+                        org.secretflow.proto.component.Data.DistData.parser(),
+                        extensionRegistry);
+                if (inputsBuilder_ == null) {
+                  ensureInputsIsMutable();
+                  inputs_.add(m);
+                } else {
+                  inputsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 58
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object id_ = "";
+      /**
+       * <pre>
+       * id of this node, unique per-pipeline.
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @return The id.
+       */
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          id_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * id of this node, unique per-pipeline.
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @return The bytes for id.
+       */
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * id of this node, unique per-pipeline.
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * id of this node, unique per-pipeline.
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        id_ = getDefaultInstance().getId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * id of this node, unique per-pipeline.
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @param value The bytes for id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object domain_ = "";
+      /**
+       * <pre>
+       * domain of component
+       * </pre>
+       *
+       * <code>string domain = 2;</code>
+       * @return The domain.
+       */
+      public java.lang.String getDomain() {
+        java.lang.Object ref = domain_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domain_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * domain of component
+       * </pre>
+       *
+       * <code>string domain = 2;</code>
+       * @return The bytes for domain.
+       */
+      public com.google.protobuf.ByteString
+          getDomainBytes() {
+        java.lang.Object ref = domain_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domain_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * domain of component
+       * </pre>
+       *
+       * <code>string domain = 2;</code>
+       * @param value The domain to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomain(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domain_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * domain of component
+       * </pre>
+       *
+       * <code>string domain = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomain() {
+        domain_ = getDefaultInstance().getDomain();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * domain of component
+       * </pre>
+       *
+       * <code>string domain = 2;</code>
+       * @param value The bytes for domain to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domain_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <pre>
+       * name of component
+       * </pre>
+       *
+       * <code>string name = 3;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * name of component
+       * </pre>
+       *
+       * <code>string name = 3;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * name of component
+       * </pre>
+       *
+       * <code>string name = 3;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * name of component
+       * </pre>
+       *
+       * <code>string name = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * name of component
+       * </pre>
+       *
+       * <code>string name = 3;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object version_ = "";
+      /**
+       * <pre>
+       * version of component
+       * </pre>
+       *
+       * <code>string version = 4;</code>
+       * @return The version.
+       */
+      public java.lang.String getVersion() {
+        java.lang.Object ref = version_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          version_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * version of component
+       * </pre>
+       *
+       * <code>string version = 4;</code>
+       * @return The bytes for version.
+       */
+      public com.google.protobuf.ByteString
+          getVersionBytes() {
+        java.lang.Object ref = version_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          version_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * version of component
+       * </pre>
+       *
+       * <code>string version = 4;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        version_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * version of component
+       * </pre>
+       *
+       * <code>string version = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        version_ = getDefaultInstance().getVersion();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * version of component
+       * </pre>
+       *
+       * <code>string version = 4;</code>
+       * @param value The bytes for version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        version_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList attrPaths_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureAttrPathsIsMutable() {
+        if (!attrPaths_.isModifiable()) {
+          attrPaths_ = new com.google.protobuf.LazyStringArrayList(attrPaths_);
+        }
+        bitField0_ |= 0x00000010;
+      }
+      /**
+       * <pre>
+       * The attribute value.
+       * </pre>
+       *
+       * <code>repeated string attr_paths = 5;</code>
+       * @return A list containing the attrPaths.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getAttrPathsList() {
+        attrPaths_.makeImmutable();
+        return attrPaths_;
+      }
+      /**
+       * <pre>
+       * The attribute value.
+       * </pre>
+       *
+       * <code>repeated string attr_paths = 5;</code>
+       * @return The count of attrPaths.
+       */
+      public int getAttrPathsCount() {
+        return attrPaths_.size();
+      }
+      /**
+       * <pre>
+       * The attribute value.
+       * </pre>
+       *
+       * <code>repeated string attr_paths = 5;</code>
+       * @param index The index of the element to return.
+       * @return The attrPaths at the given index.
+       */
+      public java.lang.String getAttrPaths(int index) {
+        return attrPaths_.get(index);
+      }
+      /**
+       * <pre>
+       * The attribute value.
+       * </pre>
+       *
+       * <code>repeated string attr_paths = 5;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the attrPaths at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getAttrPathsBytes(int index) {
+        return attrPaths_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * The attribute value.
+       * </pre>
+       *
+       * <code>repeated string attr_paths = 5;</code>
+       * @param index The index to set the value at.
+       * @param value The attrPaths to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAttrPaths(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureAttrPathsIsMutable();
+        attrPaths_.set(index, value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The attribute value.
+       * </pre>
+       *
+       * <code>repeated string attr_paths = 5;</code>
+       * @param value The attrPaths to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAttrPaths(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureAttrPathsIsMutable();
+        attrPaths_.add(value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The attribute value.
+       * </pre>
+       *
+       * <code>repeated string attr_paths = 5;</code>
+       * @param values The attrPaths to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllAttrPaths(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureAttrPathsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, attrPaths_);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The attribute value.
+       * </pre>
+       *
+       * <code>repeated string attr_paths = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAttrPaths() {
+        attrPaths_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The attribute value.
+       * </pre>
+       *
+       * <code>repeated string attr_paths = 5;</code>
+       * @param value The bytes of the attrPaths to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAttrPathsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureAttrPathsIsMutable();
+        attrPaths_.add(value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.proto.component.Comp.Attribute> attrs_ =
+        java.util.Collections.emptyList();
+      private void ensureAttrsIsMutable() {
+        if (!((bitField0_ & 0x00000020) != 0)) {
+          attrs_ = new java.util.ArrayList<org.secretflow.proto.component.Comp.Attribute>(attrs_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder> attrsBuilder_;
+
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Comp.Attribute> getAttrsList() {
+        if (attrsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(attrs_);
+        } else {
+          return attrsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+       */
+      public int getAttrsCount() {
+        if (attrsBuilder_ == null) {
+          return attrs_.size();
+        } else {
+          return attrsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+       */
+      public org.secretflow.proto.component.Comp.Attribute getAttrs(int index) {
+        if (attrsBuilder_ == null) {
+          return attrs_.get(index);
+        } else {
+          return attrsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+       */
+      public Builder setAttrs(
+          int index, org.secretflow.proto.component.Comp.Attribute value) {
+        if (attrsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttrsIsMutable();
+          attrs_.set(index, value);
+          onChanged();
+        } else {
+          attrsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+       */
+      public Builder setAttrs(
+          int index, org.secretflow.proto.component.Comp.Attribute.Builder builderForValue) {
+        if (attrsBuilder_ == null) {
+          ensureAttrsIsMutable();
+          attrs_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          attrsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+       */
+      public Builder addAttrs(org.secretflow.proto.component.Comp.Attribute value) {
+        if (attrsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttrsIsMutable();
+          attrs_.add(value);
+          onChanged();
+        } else {
+          attrsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+       */
+      public Builder addAttrs(
+          int index, org.secretflow.proto.component.Comp.Attribute value) {
+        if (attrsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttrsIsMutable();
+          attrs_.add(index, value);
+          onChanged();
+        } else {
+          attrsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+       */
+      public Builder addAttrs(
+          org.secretflow.proto.component.Comp.Attribute.Builder builderForValue) {
+        if (attrsBuilder_ == null) {
+          ensureAttrsIsMutable();
+          attrs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          attrsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+       */
+      public Builder addAttrs(
+          int index, org.secretflow.proto.component.Comp.Attribute.Builder builderForValue) {
+        if (attrsBuilder_ == null) {
+          ensureAttrsIsMutable();
+          attrs_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          attrsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+       */
+      public Builder addAllAttrs(
+          java.lang.Iterable<? extends org.secretflow.proto.component.Comp.Attribute> values) {
+        if (attrsBuilder_ == null) {
+          ensureAttrsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, attrs_);
+          onChanged();
+        } else {
+          attrsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+       */
+      public Builder clearAttrs() {
+        if (attrsBuilder_ == null) {
+          attrs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          attrsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+       */
+      public Builder removeAttrs(int index) {
+        if (attrsBuilder_ == null) {
+          ensureAttrsIsMutable();
+          attrs_.remove(index);
+          onChanged();
+        } else {
+          attrsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+       */
+      public org.secretflow.proto.component.Comp.Attribute.Builder getAttrsBuilder(
+          int index) {
+        return getAttrsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+       */
+      public org.secretflow.proto.component.Comp.AttributeOrBuilder getAttrsOrBuilder(
+          int index) {
+        if (attrsBuilder_ == null) {
+          return attrs_.get(index);  } else {
+          return attrsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.component.Comp.AttributeOrBuilder> 
+           getAttrsOrBuilderList() {
+        if (attrsBuilder_ != null) {
+          return attrsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(attrs_);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+       */
+      public org.secretflow.proto.component.Comp.Attribute.Builder addAttrsBuilder() {
+        return getAttrsFieldBuilder().addBuilder(
+            org.secretflow.proto.component.Comp.Attribute.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+       */
+      public org.secretflow.proto.component.Comp.Attribute.Builder addAttrsBuilder(
+          int index) {
+        return getAttrsFieldBuilder().addBuilder(
+            index, org.secretflow.proto.component.Comp.Attribute.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.Attribute attrs = 6;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Comp.Attribute.Builder> 
+           getAttrsBuilderList() {
+        return getAttrsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder> 
+          getAttrsFieldBuilder() {
+        if (attrsBuilder_ == null) {
+          attrsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.component.Comp.Attribute, org.secretflow.proto.component.Comp.Attribute.Builder, org.secretflow.proto.component.Comp.AttributeOrBuilder>(
+                  attrs_,
+                  ((bitField0_ & 0x00000020) != 0),
+                  getParentForChildren(),
+                  isClean());
+          attrs_ = null;
+        }
+        return attrsBuilder_;
+      }
+
+      private java.util.List<org.secretflow.proto.component.Data.DistData> inputs_ =
+        java.util.Collections.emptyList();
+      private void ensureInputsIsMutable() {
+        if (!((bitField0_ & 0x00000040) != 0)) {
+          inputs_ = new java.util.ArrayList<org.secretflow.proto.component.Data.DistData>(inputs_);
+          bitField0_ |= 0x00000040;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Data.DistData, org.secretflow.proto.component.Data.DistData.Builder, org.secretflow.proto.component.Data.DistDataOrBuilder> inputsBuilder_;
+
+      /**
+       * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Data.DistData> getInputsList() {
+        if (inputsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(inputs_);
+        } else {
+          return inputsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+       */
+      public int getInputsCount() {
+        if (inputsBuilder_ == null) {
+          return inputs_.size();
+        } else {
+          return inputsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+       */
+      public org.secretflow.proto.component.Data.DistData getInputs(int index) {
+        if (inputsBuilder_ == null) {
+          return inputs_.get(index);
+        } else {
+          return inputsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+       */
+      public Builder setInputs(
+          int index, org.secretflow.proto.component.Data.DistData value) {
+        if (inputsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInputsIsMutable();
+          inputs_.set(index, value);
+          onChanged();
+        } else {
+          inputsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+       */
+      public Builder setInputs(
+          int index, org.secretflow.proto.component.Data.DistData.Builder builderForValue) {
+        if (inputsBuilder_ == null) {
+          ensureInputsIsMutable();
+          inputs_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          inputsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+       */
+      public Builder addInputs(org.secretflow.proto.component.Data.DistData value) {
+        if (inputsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInputsIsMutable();
+          inputs_.add(value);
+          onChanged();
+        } else {
+          inputsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+       */
+      public Builder addInputs(
+          int index, org.secretflow.proto.component.Data.DistData value) {
+        if (inputsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInputsIsMutable();
+          inputs_.add(index, value);
+          onChanged();
+        } else {
+          inputsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+       */
+      public Builder addInputs(
+          org.secretflow.proto.component.Data.DistData.Builder builderForValue) {
+        if (inputsBuilder_ == null) {
+          ensureInputsIsMutable();
+          inputs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          inputsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+       */
+      public Builder addInputs(
+          int index, org.secretflow.proto.component.Data.DistData.Builder builderForValue) {
+        if (inputsBuilder_ == null) {
+          ensureInputsIsMutable();
+          inputs_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          inputsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+       */
+      public Builder addAllInputs(
+          java.lang.Iterable<? extends org.secretflow.proto.component.Data.DistData> values) {
+        if (inputsBuilder_ == null) {
+          ensureInputsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, inputs_);
+          onChanged();
+        } else {
+          inputsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+       */
+      public Builder clearInputs() {
+        if (inputsBuilder_ == null) {
+          inputs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+          onChanged();
+        } else {
+          inputsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+       */
+      public Builder removeInputs(int index) {
+        if (inputsBuilder_ == null) {
+          ensureInputsIsMutable();
+          inputs_.remove(index);
+          onChanged();
+        } else {
+          inputsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+       */
+      public org.secretflow.proto.component.Data.DistData.Builder getInputsBuilder(
+          int index) {
+        return getInputsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+       */
+      public org.secretflow.proto.component.Data.DistDataOrBuilder getInputsOrBuilder(
+          int index) {
+        if (inputsBuilder_ == null) {
+          return inputs_.get(index);  } else {
+          return inputsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.component.Data.DistDataOrBuilder> 
+           getInputsOrBuilderList() {
+        if (inputsBuilder_ != null) {
+          return inputsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(inputs_);
+        }
+      }
+      /**
+       * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+       */
+      public org.secretflow.proto.component.Data.DistData.Builder addInputsBuilder() {
+        return getInputsFieldBuilder().addBuilder(
+            org.secretflow.proto.component.Data.DistData.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+       */
+      public org.secretflow.proto.component.Data.DistData.Builder addInputsBuilder(
+          int index) {
+        return getInputsFieldBuilder().addBuilder(
+            index, org.secretflow.proto.component.Data.DistData.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .secretflow.component.DistData inputs = 7;</code>
+       */
+      public java.util.List<org.secretflow.proto.component.Data.DistData.Builder> 
+           getInputsBuilderList() {
+        return getInputsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.component.Data.DistData, org.secretflow.proto.component.Data.DistData.Builder, org.secretflow.proto.component.Data.DistDataOrBuilder> 
+          getInputsFieldBuilder() {
+        if (inputsBuilder_ == null) {
+          inputsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.component.Data.DistData, org.secretflow.proto.component.Data.DistData.Builder, org.secretflow.proto.component.Data.DistDataOrBuilder>(
+                  inputs_,
+                  ((bitField0_ & 0x00000040) != 0),
+                  getParentForChildren(),
+                  isClean());
+          inputs_ = null;
+        }
+        return inputsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.pipeline.NodeDef)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.pipeline.NodeDef)
+    private static final org.secretflow.proto.pipeline.Pipeline.NodeDef DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.pipeline.Pipeline.NodeDef();
+    }
+
+    public static org.secretflow.proto.pipeline.Pipeline.NodeDef getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<NodeDef>
+        PARSER = new com.google.protobuf.AbstractParser<NodeDef>() {
+      @java.lang.Override
+      public NodeDef parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<NodeDef> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<NodeDef> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.pipeline.Pipeline.NodeDef getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PipelineDefOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.pipeline.PipelineDef)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * The id of this pipeline.
+     * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    java.lang.String getId();
+    /**
+     * <pre>
+     * The id of this pipeline.
+     * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    com.google.protobuf.ByteString
+        getIdBytes();
+
+    /**
+     * <pre>
+     * The node definitions.
+     * </pre>
+     *
+     * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+     */
+    java.util.List<org.secretflow.proto.pipeline.Pipeline.NodeDef> 
+        getNodesList();
+    /**
+     * <pre>
+     * The node definitions.
+     * </pre>
+     *
+     * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+     */
+    org.secretflow.proto.pipeline.Pipeline.NodeDef getNodes(int index);
+    /**
+     * <pre>
+     * The node definitions.
+     * </pre>
+     *
+     * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+     */
+    int getNodesCount();
+    /**
+     * <pre>
+     * The node definitions.
+     * </pre>
+     *
+     * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.pipeline.Pipeline.NodeDefOrBuilder> 
+        getNodesOrBuilderList();
+    /**
+     * <pre>
+     * The node definitions.
+     * </pre>
+     *
+     * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+     */
+    org.secretflow.proto.pipeline.Pipeline.NodeDefOrBuilder getNodesOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * The pipeline(DAG) definition.
+   * </pre>
+   *
+   * Protobuf type {@code secretflow.pipeline.PipelineDef}
+   */
+  public static final class PipelineDef extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.pipeline.PipelineDef)
+      PipelineDefOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PipelineDef.newBuilder() to construct.
+    private PipelineDef(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PipelineDef() {
+      id_ = "";
+      nodes_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new PipelineDef();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.pipeline.Pipeline.internal_static_secretflow_pipeline_PipelineDef_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.pipeline.Pipeline.internal_static_secretflow_pipeline_PipelineDef_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.pipeline.Pipeline.PipelineDef.class, org.secretflow.proto.pipeline.Pipeline.PipelineDef.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object id_ = "";
+    /**
+     * <pre>
+     * The id of this pipeline.
+     * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        id_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The id of this pipeline.
+     * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NODES_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.pipeline.Pipeline.NodeDef> nodes_;
+    /**
+     * <pre>
+     * The node definitions.
+     * </pre>
+     *
+     * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.pipeline.Pipeline.NodeDef> getNodesList() {
+      return nodes_;
+    }
+    /**
+     * <pre>
+     * The node definitions.
+     * </pre>
+     *
+     * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.pipeline.Pipeline.NodeDefOrBuilder> 
+        getNodesOrBuilderList() {
+      return nodes_;
+    }
+    /**
+     * <pre>
+     * The node definitions.
+     * </pre>
+     *
+     * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+     */
+    @java.lang.Override
+    public int getNodesCount() {
+      return nodes_.size();
+    }
+    /**
+     * <pre>
+     * The node definitions.
+     * </pre>
+     *
+     * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.pipeline.Pipeline.NodeDef getNodes(int index) {
+      return nodes_.get(index);
+    }
+    /**
+     * <pre>
+     * The node definitions.
+     * </pre>
+     *
+     * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.pipeline.Pipeline.NodeDefOrBuilder getNodesOrBuilder(
+        int index) {
+      return nodes_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(id_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, id_);
+      }
+      for (int i = 0; i < nodes_.size(); i++) {
+        output.writeMessage(2, nodes_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(id_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, id_);
+      }
+      for (int i = 0; i < nodes_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, nodes_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.pipeline.Pipeline.PipelineDef)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.pipeline.Pipeline.PipelineDef other = (org.secretflow.proto.pipeline.Pipeline.PipelineDef) obj;
+
+      if (!getId()
+          .equals(other.getId())) return false;
+      if (!getNodesList()
+          .equals(other.getNodesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + getId().hashCode();
+      if (getNodesCount() > 0) {
+        hash = (37 * hash) + NODES_FIELD_NUMBER;
+        hash = (53 * hash) + getNodesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineDef parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineDef parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineDef parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineDef parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineDef parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineDef parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineDef parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineDef parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineDef parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineDef parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineDef parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineDef parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.pipeline.Pipeline.PipelineDef prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * The pipeline(DAG) definition.
+     * </pre>
+     *
+     * Protobuf type {@code secretflow.pipeline.PipelineDef}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.pipeline.PipelineDef)
+        org.secretflow.proto.pipeline.Pipeline.PipelineDefOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.pipeline.Pipeline.internal_static_secretflow_pipeline_PipelineDef_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.pipeline.Pipeline.internal_static_secretflow_pipeline_PipelineDef_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.pipeline.Pipeline.PipelineDef.class, org.secretflow.proto.pipeline.Pipeline.PipelineDef.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.pipeline.Pipeline.PipelineDef.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        id_ = "";
+        if (nodesBuilder_ == null) {
+          nodes_ = java.util.Collections.emptyList();
+        } else {
+          nodes_ = null;
+          nodesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.pipeline.Pipeline.internal_static_secretflow_pipeline_PipelineDef_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.pipeline.Pipeline.PipelineDef getDefaultInstanceForType() {
+        return org.secretflow.proto.pipeline.Pipeline.PipelineDef.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.pipeline.Pipeline.PipelineDef build() {
+        org.secretflow.proto.pipeline.Pipeline.PipelineDef result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.pipeline.Pipeline.PipelineDef buildPartial() {
+        org.secretflow.proto.pipeline.Pipeline.PipelineDef result = new org.secretflow.proto.pipeline.Pipeline.PipelineDef(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.proto.pipeline.Pipeline.PipelineDef result) {
+        if (nodesBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            nodes_ = java.util.Collections.unmodifiableList(nodes_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.nodes_ = nodes_;
+        } else {
+          result.nodes_ = nodesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.proto.pipeline.Pipeline.PipelineDef result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.id_ = id_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.pipeline.Pipeline.PipelineDef) {
+          return mergeFrom((org.secretflow.proto.pipeline.Pipeline.PipelineDef)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.pipeline.Pipeline.PipelineDef other) {
+        if (other == org.secretflow.proto.pipeline.Pipeline.PipelineDef.getDefaultInstance()) return this;
+        if (!other.getId().isEmpty()) {
+          id_ = other.id_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (nodesBuilder_ == null) {
+          if (!other.nodes_.isEmpty()) {
+            if (nodes_.isEmpty()) {
+              nodes_ = other.nodes_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureNodesIsMutable();
+              nodes_.addAll(other.nodes_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.nodes_.isEmpty()) {
+            if (nodesBuilder_.isEmpty()) {
+              nodesBuilder_.dispose();
+              nodesBuilder_ = null;
+              nodes_ = other.nodes_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              nodesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getNodesFieldBuilder() : null;
+            } else {
+              nodesBuilder_.addAllMessages(other.nodes_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                id_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                org.secretflow.proto.pipeline.Pipeline.NodeDef m =
+                    input.readMessage(
+                        org.secretflow.proto.pipeline.Pipeline.NodeDef.parser(),
+                        extensionRegistry);
+                if (nodesBuilder_ == null) {
+                  ensureNodesIsMutable();
+                  nodes_.add(m);
+                } else {
+                  nodesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object id_ = "";
+      /**
+       * <pre>
+       * The id of this pipeline.
+       * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @return The id.
+       */
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          id_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The id of this pipeline.
+       * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @return The bytes for id.
+       */
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The id of this pipeline.
+       * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The id of this pipeline.
+       * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        id_ = getDefaultInstance().getId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The id of this pipeline.
+       * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @param value The bytes for id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.proto.pipeline.Pipeline.NodeDef> nodes_ =
+        java.util.Collections.emptyList();
+      private void ensureNodesIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          nodes_ = new java.util.ArrayList<org.secretflow.proto.pipeline.Pipeline.NodeDef>(nodes_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.pipeline.Pipeline.NodeDef, org.secretflow.proto.pipeline.Pipeline.NodeDef.Builder, org.secretflow.proto.pipeline.Pipeline.NodeDefOrBuilder> nodesBuilder_;
+
+      /**
+       * <pre>
+       * The node definitions.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+       */
+      public java.util.List<org.secretflow.proto.pipeline.Pipeline.NodeDef> getNodesList() {
+        if (nodesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(nodes_);
+        } else {
+          return nodesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * The node definitions.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+       */
+      public int getNodesCount() {
+        if (nodesBuilder_ == null) {
+          return nodes_.size();
+        } else {
+          return nodesBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * The node definitions.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+       */
+      public org.secretflow.proto.pipeline.Pipeline.NodeDef getNodes(int index) {
+        if (nodesBuilder_ == null) {
+          return nodes_.get(index);
+        } else {
+          return nodesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * The node definitions.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+       */
+      public Builder setNodes(
+          int index, org.secretflow.proto.pipeline.Pipeline.NodeDef value) {
+        if (nodesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodesIsMutable();
+          nodes_.set(index, value);
+          onChanged();
+        } else {
+          nodesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The node definitions.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+       */
+      public Builder setNodes(
+          int index, org.secretflow.proto.pipeline.Pipeline.NodeDef.Builder builderForValue) {
+        if (nodesBuilder_ == null) {
+          ensureNodesIsMutable();
+          nodes_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          nodesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The node definitions.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+       */
+      public Builder addNodes(org.secretflow.proto.pipeline.Pipeline.NodeDef value) {
+        if (nodesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodesIsMutable();
+          nodes_.add(value);
+          onChanged();
+        } else {
+          nodesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The node definitions.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+       */
+      public Builder addNodes(
+          int index, org.secretflow.proto.pipeline.Pipeline.NodeDef value) {
+        if (nodesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodesIsMutable();
+          nodes_.add(index, value);
+          onChanged();
+        } else {
+          nodesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The node definitions.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+       */
+      public Builder addNodes(
+          org.secretflow.proto.pipeline.Pipeline.NodeDef.Builder builderForValue) {
+        if (nodesBuilder_ == null) {
+          ensureNodesIsMutable();
+          nodes_.add(builderForValue.build());
+          onChanged();
+        } else {
+          nodesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The node definitions.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+       */
+      public Builder addNodes(
+          int index, org.secretflow.proto.pipeline.Pipeline.NodeDef.Builder builderForValue) {
+        if (nodesBuilder_ == null) {
+          ensureNodesIsMutable();
+          nodes_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          nodesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The node definitions.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+       */
+      public Builder addAllNodes(
+          java.lang.Iterable<? extends org.secretflow.proto.pipeline.Pipeline.NodeDef> values) {
+        if (nodesBuilder_ == null) {
+          ensureNodesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, nodes_);
+          onChanged();
+        } else {
+          nodesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The node definitions.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+       */
+      public Builder clearNodes() {
+        if (nodesBuilder_ == null) {
+          nodes_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          nodesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The node definitions.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+       */
+      public Builder removeNodes(int index) {
+        if (nodesBuilder_ == null) {
+          ensureNodesIsMutable();
+          nodes_.remove(index);
+          onChanged();
+        } else {
+          nodesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The node definitions.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+       */
+      public org.secretflow.proto.pipeline.Pipeline.NodeDef.Builder getNodesBuilder(
+          int index) {
+        return getNodesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * The node definitions.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+       */
+      public org.secretflow.proto.pipeline.Pipeline.NodeDefOrBuilder getNodesOrBuilder(
+          int index) {
+        if (nodesBuilder_ == null) {
+          return nodes_.get(index);  } else {
+          return nodesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * The node definitions.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.pipeline.Pipeline.NodeDefOrBuilder> 
+           getNodesOrBuilderList() {
+        if (nodesBuilder_ != null) {
+          return nodesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(nodes_);
+        }
+      }
+      /**
+       * <pre>
+       * The node definitions.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+       */
+      public org.secretflow.proto.pipeline.Pipeline.NodeDef.Builder addNodesBuilder() {
+        return getNodesFieldBuilder().addBuilder(
+            org.secretflow.proto.pipeline.Pipeline.NodeDef.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * The node definitions.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+       */
+      public org.secretflow.proto.pipeline.Pipeline.NodeDef.Builder addNodesBuilder(
+          int index) {
+        return getNodesFieldBuilder().addBuilder(
+            index, org.secretflow.proto.pipeline.Pipeline.NodeDef.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * The node definitions.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeDef nodes = 2;</code>
+       */
+      public java.util.List<org.secretflow.proto.pipeline.Pipeline.NodeDef.Builder> 
+           getNodesBuilderList() {
+        return getNodesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.pipeline.Pipeline.NodeDef, org.secretflow.proto.pipeline.Pipeline.NodeDef.Builder, org.secretflow.proto.pipeline.Pipeline.NodeDefOrBuilder> 
+          getNodesFieldBuilder() {
+        if (nodesBuilder_ == null) {
+          nodesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.pipeline.Pipeline.NodeDef, org.secretflow.proto.pipeline.Pipeline.NodeDef.Builder, org.secretflow.proto.pipeline.Pipeline.NodeDefOrBuilder>(
+                  nodes_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          nodes_ = null;
+        }
+        return nodesBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.pipeline.PipelineDef)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.pipeline.PipelineDef)
+    private static final org.secretflow.proto.pipeline.Pipeline.PipelineDef DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.pipeline.Pipeline.PipelineDef();
+    }
+
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineDef getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PipelineDef>
+        PARSER = new com.google.protobuf.AbstractParser<PipelineDef>() {
+      @java.lang.Override
+      public PipelineDef parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PipelineDef> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PipelineDef> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.pipeline.Pipeline.PipelineDef getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface NodeStateOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.pipeline.NodeState)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * A id of this node, unique within a single DAG.
+     * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    java.lang.String getId();
+    /**
+     * <pre>
+     * A id of this node, unique within a single DAG.
+     * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    com.google.protobuf.ByteString
+        getIdBytes();
+
+    /**
+     * <pre>
+     * The state of this node.
+     * </pre>
+     *
+     * <code>.secretflow.pipeline.State state = 2;</code>
+     * @return The enum numeric value on the wire for state.
+     */
+    int getStateValue();
+    /**
+     * <pre>
+     * The state of this node.
+     * </pre>
+     *
+     * <code>.secretflow.pipeline.State state = 2;</code>
+     * @return The state.
+     */
+    org.secretflow.proto.pipeline.Pipeline.State getState();
+  }
+  /**
+   * Protobuf type {@code secretflow.pipeline.NodeState}
+   */
+  public static final class NodeState extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.pipeline.NodeState)
+      NodeStateOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use NodeState.newBuilder() to construct.
+    private NodeState(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private NodeState() {
+      id_ = "";
+      state_ = 0;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new NodeState();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.pipeline.Pipeline.internal_static_secretflow_pipeline_NodeState_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.pipeline.Pipeline.internal_static_secretflow_pipeline_NodeState_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.pipeline.Pipeline.NodeState.class, org.secretflow.proto.pipeline.Pipeline.NodeState.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object id_ = "";
+    /**
+     * <pre>
+     * A id of this node, unique within a single DAG.
+     * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        id_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * A id of this node, unique within a single DAG.
+     * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STATE_FIELD_NUMBER = 2;
+    private int state_ = 0;
+    /**
+     * <pre>
+     * The state of this node.
+     * </pre>
+     *
+     * <code>.secretflow.pipeline.State state = 2;</code>
+     * @return The enum numeric value on the wire for state.
+     */
+    @java.lang.Override public int getStateValue() {
+      return state_;
+    }
+    /**
+     * <pre>
+     * The state of this node.
+     * </pre>
+     *
+     * <code>.secretflow.pipeline.State state = 2;</code>
+     * @return The state.
+     */
+    @java.lang.Override public org.secretflow.proto.pipeline.Pipeline.State getState() {
+      org.secretflow.proto.pipeline.Pipeline.State result = org.secretflow.proto.pipeline.Pipeline.State.forNumber(state_);
+      return result == null ? org.secretflow.proto.pipeline.Pipeline.State.UNRECOGNIZED : result;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(id_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, id_);
+      }
+      if (state_ != org.secretflow.proto.pipeline.Pipeline.State.Staging.getNumber()) {
+        output.writeEnum(2, state_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(id_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, id_);
+      }
+      if (state_ != org.secretflow.proto.pipeline.Pipeline.State.Staging.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, state_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.pipeline.Pipeline.NodeState)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.pipeline.Pipeline.NodeState other = (org.secretflow.proto.pipeline.Pipeline.NodeState) obj;
+
+      if (!getId()
+          .equals(other.getId())) return false;
+      if (state_ != other.state_) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + getId().hashCode();
+      hash = (37 * hash) + STATE_FIELD_NUMBER;
+      hash = (53 * hash) + state_;
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.pipeline.Pipeline.NodeState parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeState parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeState parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeState parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeState parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeState parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeState parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeState parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeState parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeState parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeState parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.NodeState parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.pipeline.Pipeline.NodeState prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code secretflow.pipeline.NodeState}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.pipeline.NodeState)
+        org.secretflow.proto.pipeline.Pipeline.NodeStateOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.pipeline.Pipeline.internal_static_secretflow_pipeline_NodeState_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.pipeline.Pipeline.internal_static_secretflow_pipeline_NodeState_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.pipeline.Pipeline.NodeState.class, org.secretflow.proto.pipeline.Pipeline.NodeState.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.pipeline.Pipeline.NodeState.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        id_ = "";
+        state_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.pipeline.Pipeline.internal_static_secretflow_pipeline_NodeState_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.pipeline.Pipeline.NodeState getDefaultInstanceForType() {
+        return org.secretflow.proto.pipeline.Pipeline.NodeState.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.pipeline.Pipeline.NodeState build() {
+        org.secretflow.proto.pipeline.Pipeline.NodeState result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.pipeline.Pipeline.NodeState buildPartial() {
+        org.secretflow.proto.pipeline.Pipeline.NodeState result = new org.secretflow.proto.pipeline.Pipeline.NodeState(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.proto.pipeline.Pipeline.NodeState result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.id_ = id_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.state_ = state_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.pipeline.Pipeline.NodeState) {
+          return mergeFrom((org.secretflow.proto.pipeline.Pipeline.NodeState)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.pipeline.Pipeline.NodeState other) {
+        if (other == org.secretflow.proto.pipeline.Pipeline.NodeState.getDefaultInstance()) return this;
+        if (!other.getId().isEmpty()) {
+          id_ = other.id_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.state_ != 0) {
+          setStateValue(other.getStateValue());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                id_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                state_ = input.readEnum();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object id_ = "";
+      /**
+       * <pre>
+       * A id of this node, unique within a single DAG.
+       * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @return The id.
+       */
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          id_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * A id of this node, unique within a single DAG.
+       * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @return The bytes for id.
+       */
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * A id of this node, unique within a single DAG.
+       * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * A id of this node, unique within a single DAG.
+       * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        id_ = getDefaultInstance().getId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * A id of this node, unique within a single DAG.
+       * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @param value The bytes for id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private int state_ = 0;
+      /**
+       * <pre>
+       * The state of this node.
+       * </pre>
+       *
+       * <code>.secretflow.pipeline.State state = 2;</code>
+       * @return The enum numeric value on the wire for state.
+       */
+      @java.lang.Override public int getStateValue() {
+        return state_;
+      }
+      /**
+       * <pre>
+       * The state of this node.
+       * </pre>
+       *
+       * <code>.secretflow.pipeline.State state = 2;</code>
+       * @param value The enum numeric value on the wire for state to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStateValue(int value) {
+        state_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The state of this node.
+       * </pre>
+       *
+       * <code>.secretflow.pipeline.State state = 2;</code>
+       * @return The state.
+       */
+      @java.lang.Override
+      public org.secretflow.proto.pipeline.Pipeline.State getState() {
+        org.secretflow.proto.pipeline.Pipeline.State result = org.secretflow.proto.pipeline.Pipeline.State.forNumber(state_);
+        return result == null ? org.secretflow.proto.pipeline.Pipeline.State.UNRECOGNIZED : result;
+      }
+      /**
+       * <pre>
+       * The state of this node.
+       * </pre>
+       *
+       * <code>.secretflow.pipeline.State state = 2;</code>
+       * @param value The state to set.
+       * @return This builder for chaining.
+       */
+      public Builder setState(org.secretflow.proto.pipeline.Pipeline.State value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000002;
+        state_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The state of this node.
+       * </pre>
+       *
+       * <code>.secretflow.pipeline.State state = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearState() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        state_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.pipeline.NodeState)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.pipeline.NodeState)
+    private static final org.secretflow.proto.pipeline.Pipeline.NodeState DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.pipeline.Pipeline.NodeState();
+    }
+
+    public static org.secretflow.proto.pipeline.Pipeline.NodeState getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<NodeState>
+        PARSER = new com.google.protobuf.AbstractParser<NodeState>() {
+      @java.lang.Override
+      public NodeState parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<NodeState> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<NodeState> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.pipeline.Pipeline.NodeState getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PipelineStateOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:secretflow.pipeline.PipelineState)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * The id of this pipeline.
+     * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    java.lang.String getId();
+    /**
+     * <pre>
+     * The id of this pipeline.
+     * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    com.google.protobuf.ByteString
+        getIdBytes();
+
+    /**
+     * <pre>
+     * The state of this node.
+     * </pre>
+     *
+     * <code>.secretflow.pipeline.State state = 2;</code>
+     * @return The enum numeric value on the wire for state.
+     */
+    int getStateValue();
+    /**
+     * <pre>
+     * The state of this node.
+     * </pre>
+     *
+     * <code>.secretflow.pipeline.State state = 2;</code>
+     * @return The state.
+     */
+    org.secretflow.proto.pipeline.Pipeline.State getState();
+
+    /**
+     * <pre>
+     * The node states.
+     * </pre>
+     *
+     * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+     */
+    java.util.List<org.secretflow.proto.pipeline.Pipeline.NodeState> 
+        getNodesList();
+    /**
+     * <pre>
+     * The node states.
+     * </pre>
+     *
+     * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+     */
+    org.secretflow.proto.pipeline.Pipeline.NodeState getNodes(int index);
+    /**
+     * <pre>
+     * The node states.
+     * </pre>
+     *
+     * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+     */
+    int getNodesCount();
+    /**
+     * <pre>
+     * The node states.
+     * </pre>
+     *
+     * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+     */
+    java.util.List<? extends org.secretflow.proto.pipeline.Pipeline.NodeStateOrBuilder> 
+        getNodesOrBuilderList();
+    /**
+     * <pre>
+     * The node states.
+     * </pre>
+     *
+     * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+     */
+    org.secretflow.proto.pipeline.Pipeline.NodeStateOrBuilder getNodesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code secretflow.pipeline.PipelineState}
+   */
+  public static final class PipelineState extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:secretflow.pipeline.PipelineState)
+      PipelineStateOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PipelineState.newBuilder() to construct.
+    private PipelineState(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PipelineState() {
+      id_ = "";
+      state_ = 0;
+      nodes_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new PipelineState();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.proto.pipeline.Pipeline.internal_static_secretflow_pipeline_PipelineState_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.proto.pipeline.Pipeline.internal_static_secretflow_pipeline_PipelineState_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.proto.pipeline.Pipeline.PipelineState.class, org.secretflow.proto.pipeline.Pipeline.PipelineState.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object id_ = "";
+    /**
+     * <pre>
+     * The id of this pipeline.
+     * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        id_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The id of this pipeline.
+     * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STATE_FIELD_NUMBER = 2;
+    private int state_ = 0;
+    /**
+     * <pre>
+     * The state of this node.
+     * </pre>
+     *
+     * <code>.secretflow.pipeline.State state = 2;</code>
+     * @return The enum numeric value on the wire for state.
+     */
+    @java.lang.Override public int getStateValue() {
+      return state_;
+    }
+    /**
+     * <pre>
+     * The state of this node.
+     * </pre>
+     *
+     * <code>.secretflow.pipeline.State state = 2;</code>
+     * @return The state.
+     */
+    @java.lang.Override public org.secretflow.proto.pipeline.Pipeline.State getState() {
+      org.secretflow.proto.pipeline.Pipeline.State result = org.secretflow.proto.pipeline.Pipeline.State.forNumber(state_);
+      return result == null ? org.secretflow.proto.pipeline.Pipeline.State.UNRECOGNIZED : result;
+    }
+
+    public static final int NODES_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.proto.pipeline.Pipeline.NodeState> nodes_;
+    /**
+     * <pre>
+     * The node states.
+     * </pre>
+     *
+     * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.proto.pipeline.Pipeline.NodeState> getNodesList() {
+      return nodes_;
+    }
+    /**
+     * <pre>
+     * The node states.
+     * </pre>
+     *
+     * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.proto.pipeline.Pipeline.NodeStateOrBuilder> 
+        getNodesOrBuilderList() {
+      return nodes_;
+    }
+    /**
+     * <pre>
+     * The node states.
+     * </pre>
+     *
+     * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+     */
+    @java.lang.Override
+    public int getNodesCount() {
+      return nodes_.size();
+    }
+    /**
+     * <pre>
+     * The node states.
+     * </pre>
+     *
+     * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.pipeline.Pipeline.NodeState getNodes(int index) {
+      return nodes_.get(index);
+    }
+    /**
+     * <pre>
+     * The node states.
+     * </pre>
+     *
+     * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.proto.pipeline.Pipeline.NodeStateOrBuilder getNodesOrBuilder(
+        int index) {
+      return nodes_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(id_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, id_);
+      }
+      if (state_ != org.secretflow.proto.pipeline.Pipeline.State.Staging.getNumber()) {
+        output.writeEnum(2, state_);
+      }
+      for (int i = 0; i < nodes_.size(); i++) {
+        output.writeMessage(3, nodes_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(id_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, id_);
+      }
+      if (state_ != org.secretflow.proto.pipeline.Pipeline.State.Staging.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, state_);
+      }
+      for (int i = 0; i < nodes_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, nodes_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.proto.pipeline.Pipeline.PipelineState)) {
+        return super.equals(obj);
+      }
+      org.secretflow.proto.pipeline.Pipeline.PipelineState other = (org.secretflow.proto.pipeline.Pipeline.PipelineState) obj;
+
+      if (!getId()
+          .equals(other.getId())) return false;
+      if (state_ != other.state_) return false;
+      if (!getNodesList()
+          .equals(other.getNodesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + getId().hashCode();
+      hash = (37 * hash) + STATE_FIELD_NUMBER;
+      hash = (53 * hash) + state_;
+      if (getNodesCount() > 0) {
+        hash = (37 * hash) + NODES_FIELD_NUMBER;
+        hash = (53 * hash) + getNodesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineState parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineState parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineState parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineState parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineState parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineState parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineState parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineState parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineState parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineState parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineState parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineState parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.proto.pipeline.Pipeline.PipelineState prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code secretflow.pipeline.PipelineState}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:secretflow.pipeline.PipelineState)
+        org.secretflow.proto.pipeline.Pipeline.PipelineStateOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.proto.pipeline.Pipeline.internal_static_secretflow_pipeline_PipelineState_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.proto.pipeline.Pipeline.internal_static_secretflow_pipeline_PipelineState_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.proto.pipeline.Pipeline.PipelineState.class, org.secretflow.proto.pipeline.Pipeline.PipelineState.Builder.class);
+      }
+
+      // Construct using org.secretflow.proto.pipeline.Pipeline.PipelineState.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        id_ = "";
+        state_ = 0;
+        if (nodesBuilder_ == null) {
+          nodes_ = java.util.Collections.emptyList();
+        } else {
+          nodes_ = null;
+          nodesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.proto.pipeline.Pipeline.internal_static_secretflow_pipeline_PipelineState_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.pipeline.Pipeline.PipelineState getDefaultInstanceForType() {
+        return org.secretflow.proto.pipeline.Pipeline.PipelineState.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.pipeline.Pipeline.PipelineState build() {
+        org.secretflow.proto.pipeline.Pipeline.PipelineState result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.proto.pipeline.Pipeline.PipelineState buildPartial() {
+        org.secretflow.proto.pipeline.Pipeline.PipelineState result = new org.secretflow.proto.pipeline.Pipeline.PipelineState(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.proto.pipeline.Pipeline.PipelineState result) {
+        if (nodesBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            nodes_ = java.util.Collections.unmodifiableList(nodes_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.nodes_ = nodes_;
+        } else {
+          result.nodes_ = nodesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.proto.pipeline.Pipeline.PipelineState result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.id_ = id_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.state_ = state_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.proto.pipeline.Pipeline.PipelineState) {
+          return mergeFrom((org.secretflow.proto.pipeline.Pipeline.PipelineState)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.proto.pipeline.Pipeline.PipelineState other) {
+        if (other == org.secretflow.proto.pipeline.Pipeline.PipelineState.getDefaultInstance()) return this;
+        if (!other.getId().isEmpty()) {
+          id_ = other.id_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.state_ != 0) {
+          setStateValue(other.getStateValue());
+        }
+        if (nodesBuilder_ == null) {
+          if (!other.nodes_.isEmpty()) {
+            if (nodes_.isEmpty()) {
+              nodes_ = other.nodes_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureNodesIsMutable();
+              nodes_.addAll(other.nodes_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.nodes_.isEmpty()) {
+            if (nodesBuilder_.isEmpty()) {
+              nodesBuilder_.dispose();
+              nodesBuilder_ = null;
+              nodes_ = other.nodes_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              nodesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getNodesFieldBuilder() : null;
+            } else {
+              nodesBuilder_.addAllMessages(other.nodes_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                id_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                state_ = input.readEnum();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                org.secretflow.proto.pipeline.Pipeline.NodeState m =
+                    input.readMessage(
+                        org.secretflow.proto.pipeline.Pipeline.NodeState.parser(),
+                        extensionRegistry);
+                if (nodesBuilder_ == null) {
+                  ensureNodesIsMutable();
+                  nodes_.add(m);
+                } else {
+                  nodesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object id_ = "";
+      /**
+       * <pre>
+       * The id of this pipeline.
+       * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @return The id.
+       */
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          id_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The id of this pipeline.
+       * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @return The bytes for id.
+       */
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The id of this pipeline.
+       * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The id of this pipeline.
+       * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        id_ = getDefaultInstance().getId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The id of this pipeline.
+       * Must match the regexp "[A-Za-z0-9.][A-Za-z0-9_&gt;./]*".
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @param value The bytes for id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private int state_ = 0;
+      /**
+       * <pre>
+       * The state of this node.
+       * </pre>
+       *
+       * <code>.secretflow.pipeline.State state = 2;</code>
+       * @return The enum numeric value on the wire for state.
+       */
+      @java.lang.Override public int getStateValue() {
+        return state_;
+      }
+      /**
+       * <pre>
+       * The state of this node.
+       * </pre>
+       *
+       * <code>.secretflow.pipeline.State state = 2;</code>
+       * @param value The enum numeric value on the wire for state to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStateValue(int value) {
+        state_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The state of this node.
+       * </pre>
+       *
+       * <code>.secretflow.pipeline.State state = 2;</code>
+       * @return The state.
+       */
+      @java.lang.Override
+      public org.secretflow.proto.pipeline.Pipeline.State getState() {
+        org.secretflow.proto.pipeline.Pipeline.State result = org.secretflow.proto.pipeline.Pipeline.State.forNumber(state_);
+        return result == null ? org.secretflow.proto.pipeline.Pipeline.State.UNRECOGNIZED : result;
+      }
+      /**
+       * <pre>
+       * The state of this node.
+       * </pre>
+       *
+       * <code>.secretflow.pipeline.State state = 2;</code>
+       * @param value The state to set.
+       * @return This builder for chaining.
+       */
+      public Builder setState(org.secretflow.proto.pipeline.Pipeline.State value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000002;
+        state_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The state of this node.
+       * </pre>
+       *
+       * <code>.secretflow.pipeline.State state = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearState() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        state_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.proto.pipeline.Pipeline.NodeState> nodes_ =
+        java.util.Collections.emptyList();
+      private void ensureNodesIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          nodes_ = new java.util.ArrayList<org.secretflow.proto.pipeline.Pipeline.NodeState>(nodes_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.pipeline.Pipeline.NodeState, org.secretflow.proto.pipeline.Pipeline.NodeState.Builder, org.secretflow.proto.pipeline.Pipeline.NodeStateOrBuilder> nodesBuilder_;
+
+      /**
+       * <pre>
+       * The node states.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+       */
+      public java.util.List<org.secretflow.proto.pipeline.Pipeline.NodeState> getNodesList() {
+        if (nodesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(nodes_);
+        } else {
+          return nodesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * The node states.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+       */
+      public int getNodesCount() {
+        if (nodesBuilder_ == null) {
+          return nodes_.size();
+        } else {
+          return nodesBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * The node states.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+       */
+      public org.secretflow.proto.pipeline.Pipeline.NodeState getNodes(int index) {
+        if (nodesBuilder_ == null) {
+          return nodes_.get(index);
+        } else {
+          return nodesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * The node states.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+       */
+      public Builder setNodes(
+          int index, org.secretflow.proto.pipeline.Pipeline.NodeState value) {
+        if (nodesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodesIsMutable();
+          nodes_.set(index, value);
+          onChanged();
+        } else {
+          nodesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The node states.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+       */
+      public Builder setNodes(
+          int index, org.secretflow.proto.pipeline.Pipeline.NodeState.Builder builderForValue) {
+        if (nodesBuilder_ == null) {
+          ensureNodesIsMutable();
+          nodes_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          nodesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The node states.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+       */
+      public Builder addNodes(org.secretflow.proto.pipeline.Pipeline.NodeState value) {
+        if (nodesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodesIsMutable();
+          nodes_.add(value);
+          onChanged();
+        } else {
+          nodesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The node states.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+       */
+      public Builder addNodes(
+          int index, org.secretflow.proto.pipeline.Pipeline.NodeState value) {
+        if (nodesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodesIsMutable();
+          nodes_.add(index, value);
+          onChanged();
+        } else {
+          nodesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The node states.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+       */
+      public Builder addNodes(
+          org.secretflow.proto.pipeline.Pipeline.NodeState.Builder builderForValue) {
+        if (nodesBuilder_ == null) {
+          ensureNodesIsMutable();
+          nodes_.add(builderForValue.build());
+          onChanged();
+        } else {
+          nodesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The node states.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+       */
+      public Builder addNodes(
+          int index, org.secretflow.proto.pipeline.Pipeline.NodeState.Builder builderForValue) {
+        if (nodesBuilder_ == null) {
+          ensureNodesIsMutable();
+          nodes_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          nodesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The node states.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+       */
+      public Builder addAllNodes(
+          java.lang.Iterable<? extends org.secretflow.proto.pipeline.Pipeline.NodeState> values) {
+        if (nodesBuilder_ == null) {
+          ensureNodesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, nodes_);
+          onChanged();
+        } else {
+          nodesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The node states.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+       */
+      public Builder clearNodes() {
+        if (nodesBuilder_ == null) {
+          nodes_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          nodesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The node states.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+       */
+      public Builder removeNodes(int index) {
+        if (nodesBuilder_ == null) {
+          ensureNodesIsMutable();
+          nodes_.remove(index);
+          onChanged();
+        } else {
+          nodesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The node states.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+       */
+      public org.secretflow.proto.pipeline.Pipeline.NodeState.Builder getNodesBuilder(
+          int index) {
+        return getNodesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * The node states.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+       */
+      public org.secretflow.proto.pipeline.Pipeline.NodeStateOrBuilder getNodesOrBuilder(
+          int index) {
+        if (nodesBuilder_ == null) {
+          return nodes_.get(index);  } else {
+          return nodesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * The node states.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+       */
+      public java.util.List<? extends org.secretflow.proto.pipeline.Pipeline.NodeStateOrBuilder> 
+           getNodesOrBuilderList() {
+        if (nodesBuilder_ != null) {
+          return nodesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(nodes_);
+        }
+      }
+      /**
+       * <pre>
+       * The node states.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+       */
+      public org.secretflow.proto.pipeline.Pipeline.NodeState.Builder addNodesBuilder() {
+        return getNodesFieldBuilder().addBuilder(
+            org.secretflow.proto.pipeline.Pipeline.NodeState.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * The node states.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+       */
+      public org.secretflow.proto.pipeline.Pipeline.NodeState.Builder addNodesBuilder(
+          int index) {
+        return getNodesFieldBuilder().addBuilder(
+            index, org.secretflow.proto.pipeline.Pipeline.NodeState.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * The node states.
+       * </pre>
+       *
+       * <code>repeated .secretflow.pipeline.NodeState nodes = 3;</code>
+       */
+      public java.util.List<org.secretflow.proto.pipeline.Pipeline.NodeState.Builder> 
+           getNodesBuilderList() {
+        return getNodesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.proto.pipeline.Pipeline.NodeState, org.secretflow.proto.pipeline.Pipeline.NodeState.Builder, org.secretflow.proto.pipeline.Pipeline.NodeStateOrBuilder> 
+          getNodesFieldBuilder() {
+        if (nodesBuilder_ == null) {
+          nodesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.proto.pipeline.Pipeline.NodeState, org.secretflow.proto.pipeline.Pipeline.NodeState.Builder, org.secretflow.proto.pipeline.Pipeline.NodeStateOrBuilder>(
+                  nodes_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          nodes_ = null;
+        }
+        return nodesBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:secretflow.pipeline.PipelineState)
+    }
+
+    // @@protoc_insertion_point(class_scope:secretflow.pipeline.PipelineState)
+    private static final org.secretflow.proto.pipeline.Pipeline.PipelineState DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.proto.pipeline.Pipeline.PipelineState();
+    }
+
+    public static org.secretflow.proto.pipeline.Pipeline.PipelineState getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PipelineState>
+        PARSER = new com.google.protobuf.AbstractParser<PipelineState>() {
+      @java.lang.Override
+      public PipelineState parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PipelineState> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PipelineState> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.proto.pipeline.Pipeline.PipelineState getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_pipeline_NodeDef_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_pipeline_NodeDef_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_pipeline_PipelineDef_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_pipeline_PipelineDef_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_pipeline_NodeState_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_pipeline_NodeState_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_secretflow_pipeline_PipelineState_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_secretflow_pipeline_PipelineState_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n)secretflow/protos/pipeline/pipeline.pr" +
+      "oto\022\023secretflow.pipeline\032&secretflow/pro" +
+      "tos/component/comp.proto\032&secretflow/pro" +
+      "tos/component/data.proto\"\270\001\n\007NodeDef\022\n\n\002" +
+      "id\030\001 \001(\t\022\016\n\006domain\030\002 \001(\t\022\014\n\004name\030\003 \001(\t\022\017" +
+      "\n\007version\030\004 \001(\t\022\022\n\nattr_paths\030\005 \003(\t\022.\n\005a" +
+      "ttrs\030\006 \003(\0132\037.secretflow.component.Attrib" +
+      "ute\022.\n\006inputs\030\007 \003(\0132\036.secretflow.compone" +
+      "nt.DistData\"F\n\013PipelineDef\022\n\n\002id\030\001 \001(\t\022+" +
+      "\n\005nodes\030\002 \003(\0132\034.secretflow.pipeline.Node" +
+      "Def\"B\n\tNodeState\022\n\n\002id\030\001 \001(\t\022)\n\005state\030\002 " +
+      "\001(\0162\032.secretflow.pipeline.State\"u\n\rPipel" +
+      "ineState\022\n\n\002id\030\001 \001(\t\022)\n\005state\030\002 \001(\0162\032.se" +
+      "cretflow.pipeline.State\022-\n\005nodes\030\003 \003(\0132\036" +
+      ".secretflow.pipeline.NodeState*K\n\005State\022" +
+      "\013\n\007Staging\020\000\022\017\n\013Initialized\020\001\022\013\n\007Running" +
+      "\020\002\022\013\n\007Succeed\020\003\022\n\n\006Failed\020\004B\037\n\035org.secre" +
+      "tflow.proto.pipelineb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          org.secretflow.proto.component.Comp.getDescriptor(),
+          org.secretflow.proto.component.Data.getDescriptor(),
+        });
+    internal_static_secretflow_pipeline_NodeDef_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_secretflow_pipeline_NodeDef_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_pipeline_NodeDef_descriptor,
+        new java.lang.String[] { "Id", "Domain", "Name", "Version", "AttrPaths", "Attrs", "Inputs", });
+    internal_static_secretflow_pipeline_PipelineDef_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_secretflow_pipeline_PipelineDef_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_pipeline_PipelineDef_descriptor,
+        new java.lang.String[] { "Id", "Nodes", });
+    internal_static_secretflow_pipeline_NodeState_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_secretflow_pipeline_NodeState_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_pipeline_NodeState_descriptor,
+        new java.lang.String[] { "Id", "State", });
+    internal_static_secretflow_pipeline_PipelineState_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_secretflow_pipeline_PipelineState_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_secretflow_pipeline_PipelineState_descriptor,
+        new java.lang.String[] { "Id", "State", "Nodes", });
+    org.secretflow.proto.component.Comp.getDescriptor();
+    org.secretflow.proto.component.Data.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
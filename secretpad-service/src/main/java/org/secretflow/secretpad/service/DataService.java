@@ -17,9 +17,11 @@
 package org.secretflow.secretpad.service;
 
 import org.secretflow.secretpad.service.model.data.*;
+import org.secretflow.secretpad.service.model.node.NodeIdRequest;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -39,6 +41,69 @@ public interface DataService {
      */
     UploadDataResultVO upload(MultipartFile file, String nodeId);
 
+    /**
+     * Upload data from a stream, a .csv.gz file is decompressed and a .tar.gz or .zip archive extracted while the stream is read
+     *
+     * @param nodeId   target nodeId
+     * @param fileName file name given by the user
+     * @param content  file content, left open for the caller to close
+     * @return data result view object, the extracted csv files are listed for an archive
+     */
+    UploadDataResultVO upload(String nodeId, String fileName, InputStream content);
+
+    /**
+     * Start a chunked upload, the chunks may then be uploaded in any order and in parallel
+     *
+     * @param request init upload request
+     * @return upload session view object
+     */
+    UploadSessionVO initUpload(InitUploadRequest request);
+
+    /**
+     * Write one chunk of a chunked upload in place, uploading a chunk again replaces it
+     *
+     * @param uploadId   upload id
+     * @param chunkIndex chunk index
+     * @param checksum   sha-256 hex of the chunk
+     * @param content    chunk content
+     * @return received chunk view object
+     */
+    UploadChunkVO uploadChunk(String uploadId, int chunkIndex, String checksum, InputStream content);
+
+    /**
+     * Query a chunked upload and its received chunks, used to resume an interrupted upload
+     *
+     * @param request upload session request
+     * @return upload session view object
+     */
+    UploadSessionVO queryUpload(UploadSessionRequest request);
+
+    /**
+     * Complete a chunked upload once all chunks are received
+     *
+     * @param request upload session request
+     * @return data result view object, the same as a single request upload
+     */
+    UploadDataResultVO completeUpload(UploadSessionRequest request);
+
+    /**
+     * Delete chunked uploads inactive for longer than the session ttl together with their partial files
+     */
+    void collectUploadSessions();
+
+    /**
+     * Delete the upload blobs no upload links to any more
+     */
+    void collectUnreferencedBlobs();
+
+    /**
+     * Deduplication savings of the uploads of a node
+     *
+     * @param request node id request
+     * @return deduplication statistics view object
+     */
+    DedupStatsVO dedupStats(NodeIdRequest request);
+
     /**
      * Create data schema
      *
@@ -55,6 +120,14 @@ public interface DataService {
      */
     DownloadInfo download(DownloadDataRequest request);
 
+    /**
+     * Preview the first rows or a random sample of rows of a datatable or result without reading the whole file
+     *
+     * @param request preview data request
+     * @return data preview view object with typed rows
+     */
+    DataPreviewVO preview(PreviewDataRequest request);
+
     /**
      * createDataByDataSource
      *
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service;
+
+import org.secretflow.secretpad.manager.integration.model.NodeDTO;
+import org.secretflow.secretpad.persistence.entity.NodeRouteDO;
+
+import org.secretflow.v1alpha1.kusciaapi.DomainRoute;
+
+import java.util.Collection;
+
+/**
+ * Domain status snapshot service interface, serves node and route statuses refreshed in background from kuscia
+ *
+ * @author yansi
+ * @date 2023/9/7
+ */
+public interface DomainStatusSnapshotService {
+
+    /**
+     * Get node with kuscia domain status, the snapshot is used unless it is older than ttl or a refresh is forced
+     *
+     * @param nodeId       target nodeId
+     * @param forceRefresh whether to query kuscia synchronously
+     * @return node data transfer object
+     */
+    NodeDTO getNode(String nodeId, boolean forceRefresh);
+
+    /**
+     * Get route status, the snapshot is used unless it is older than ttl or a refresh is forced
+     *
+     * @param srcNodeId    source nodeId
+     * @param dstNodeId    destination nodeId
+     * @param forceRefresh whether to query kuscia synchronously
+     * @return route status, null if the route is unknown to kuscia
+     */
+    DomainRoute.RouteStatus getRouteStatus(String srcNodeId, String dstNodeId, boolean forceRefresh);
+
+    /**
+     * Refresh statuses of routes with one batch query
+     *
+     * @param routes target routes
+     */
+    void refreshRoutes(Collection<NodeRouteDO> routes);
+
+    /**
+     * Refresh statuses of all nodes and routes
+     */
+    void refreshAll();
+
+    /**
+     * Drop the snapshot of a node
+     *
+     * @param nodeId target nodeId
+     */
+    void evictNode(String nodeId);
+
+    /**
+     * Drop the snapshot of a route
+     *
+     * @param srcNodeId source nodeId
+     * @param dstNodeId destination nodeId
+     */
+    void evictRoute(String srcNodeId, String dstNodeId);
+}
@@ -145,6 +145,22 @@ public interface GraphService {
      */
     GraphDetailVO getGraphDetail(GetGraphRequest request);
 
+    /**
+     * Query slim graph detail by get graph detail request, only node layout and status are included
+     *
+     * @param request get graph detail request
+     * @return slim graph detail view object
+     */
+    GraphDetailVO getGraphDetailSlim(GetGraphRequest request);
+
+    /**
+     * Batch query graph node information with nodeDef by batch get graph node request
+     *
+     * @param request batch get graph node request
+     * @return graph node information list
+     */
+    List<GraphNodeInfo> batchGetGraphNode(BatchGetGraphNodeRequest request);
+
     /**
      * Query graph node output by graph node output request
      *
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service;
+
+import org.secretflow.secretpad.manager.integration.model.DatatableDTO;
+import org.secretflow.secretpad.manager.integration.model.NodeDTO;
+import org.secretflow.secretpad.service.model.node.NodeVO;
+
+import java.util.List;
+
+/**
+ * Node overview service interface, aggregates node routes, result counts and datatables for a node list
+ *
+ * @author yansi
+ * @date 2023/9/7
+ */
+public interface NodeOverviewService {
+
+    /**
+     * Build node view objects with routes, result counts and manual datatables of all nodes,
+     * routes and result counts are queried with one grouped query each and datatables come from the datatable catalog
+     *
+     * @param nodes node list
+     * @return node view object list in the same order
+     */
+    List<NodeVO> overview(List<NodeDTO> nodes);
+
+    /**
+     * List manual datatables of a node from the datatable catalog
+     *
+     * @param nodeId target nodeId
+     * @return datatable list
+     */
+    List<DatatableDTO> listManualDatatables(String nodeId);
+}
@@ -18,10 +18,7 @@ package org.secretflow.secretpad.service;
 
 import org.secretflow.secretpad.service.model.common.SecretPadPageResponse;
 import org.secretflow.secretpad.service.model.node.NodeVO;
-import org.secretflow.secretpad.service.model.noderoute.CreateNodeRouterRequest;
-import org.secretflow.secretpad.service.model.noderoute.NodeRouterVO;
-import org.secretflow.secretpad.service.model.noderoute.PageNodeRouteRequest;
-import org.secretflow.secretpad.service.model.noderoute.UpdateNodeRouterRequest;
+import org.secretflow.secretpad.service.model.noderoute.*;
 
 import org.springframework.data.domain.Pageable;
 
@@ -35,6 +32,14 @@ import java.util.Set;
 public interface NodeRouterService {
     String createNodeRouter(CreateNodeRouterRequest request);
 
+    /**
+     * Create routes of many nodes in batch
+     *
+     * @param request batch create node router request
+     * @return provision result of every directed pair
+     */
+    List<NodeRouteProvisionVO> batchCreateNodeRouter(BatchCreateNodeRouterRequest request);
+
     SecretPadPageResponse<NodeRouterVO> queryPage(PageNodeRouteRequest request, Pageable pageable);
 
     void updateNodeRouter(UpdateNodeRouterRequest request);
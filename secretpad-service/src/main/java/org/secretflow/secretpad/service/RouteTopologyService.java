@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service;
+
+import org.secretflow.secretpad.manager.integration.model.NodeRouteDTO;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Route topology service interface, an in-memory adjacency index of node routes
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+public interface RouteTopologyService {
+
+    /**
+     * Whether every two of the parties are connected by ready routes in both directions
+     *
+     * @param parties nodeIds
+     * @return whether fully connected
+     */
+    boolean isFullyConnected(Collection<String> parties);
+
+    /**
+     * Directed routes between the parties which are absent or not ready, in the iteration order of parties
+     *
+     * @param parties nodeIds
+     * @return missing routes, routeId is null when the route does not exist
+     */
+    List<NodeRouteDTO> missingRoutes(Collection<String> parties);
+
+    /**
+     * Routes from the node
+     *
+     * @param nodeId source nodeId
+     * @return node routes
+     */
+    List<NodeRouteDTO> neighbors(String nodeId);
+
+    /**
+     * Rebuild the index from node_route
+     */
+    void rebuild();
+}
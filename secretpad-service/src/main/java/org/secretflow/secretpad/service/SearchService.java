@@ -0,0 +1,37 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.secretflow.secretpad.service;
+
+import org.secretflow.secretpad.service.model.common.SecretPadPageResponse;
+import org.secretflow.secretpad.service.model.search.SearchHitVO;
+import org.secretflow.secretpad.service.model.search.SearchRequest;
+
+/**
+ * Global search service interface
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+public interface SearchService {
+
+    /**
+     * Search projects, graphs, datatables and results by name or id
+     *
+     * @param request search request
+     * @return page of search hits ranked by relevance
+     */
+    SecretPadPageResponse<SearchHitVO> search(SearchRequest request);
+}
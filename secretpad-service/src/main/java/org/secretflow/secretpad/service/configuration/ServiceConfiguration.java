@@ -16,12 +16,12 @@
 
 package org.secretflow.secretpad.service.configuration;
 
-import org.secretflow.secretpad.service.factory.JsonProtobufSourceFactory;
+import org.secretflow.secretpad.service.graph.ComponentRegistry;
 import org.secretflow.secretpad.service.graph.JobChain;
 import org.secretflow.secretpad.service.graph.chain.AbstractJobHandler;
 
-import org.secretflow.proto.component.Comp;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -39,15 +39,20 @@ import java.util.List;
 @Configuration
 public class ServiceConfiguration {
     /**
-     * Load components from locations
+     * Load components from locations and build the component registry
      *
-     * @return component list
+     * @param componentLocation component spec location
+     * @param snapshotEnabled   whether to cache parsed component specs as binary snapshots next to the json files,
+     *                          off by default as it writes into the component location
+     * @param publisher         application event publisher for reload events
+     * @return component registry
      * @throws IOException
      */
     @Bean
-    List<Comp.CompListDef> components(@Value("${component.spec.location:./config/components}") String componentLocation) throws IOException {
-        JsonProtobufSourceFactory factory = new JsonProtobufSourceFactory(new String[]{componentLocation});
-        return factory.load();
+    ComponentRegistry componentRegistry(@Value("${component.spec.location:./config/components}") String componentLocation,
+                                        @Value("${component.spec.snapshot.enabled:false}") boolean snapshotEnabled,
+                                        ApplicationEventPublisher publisher) throws IOException {
+        return new ComponentRegistry(new String[]{componentLocation}, snapshotEnabled, publisher);
     }
 
     /**
@@ -16,28 +16,62 @@
 
 package org.secretflow.secretpad.service.factory;
 
-import com.google.protobuf.Message;
+import org.secretflow.secretpad.common.util.Sha256Utils;
+
+import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.util.JsonFormat;
+import lombok.extern.slf4j.Slf4j;
 import org.secretflow.proto.component.Comp;
 import org.springframework.util.ResourceUtils;
 
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Json protobuf source factory
+ * <p>
+ * When snapshot is enabled, each parsed json file is also written as a hidden binary snapshot {@code .<file>.pb} next to it,
+ * which is keyed by the sha256 of the json file and is memory-mapped and parsed instead of the json on later loads.
  *
  * @author yansi
  * @date 2023/5/30
  */
+@Slf4j
 public class JsonProtobufSourceFactory {
+    /**
+     * Snapshot file header magic
+     */
+    private static final byte[] SNAPSHOT_MAGIC = "SPCD".getBytes(StandardCharsets.US_ASCII);
+    /**
+     * Snapshot file suffix
+     */
+    public static final String SNAPSHOT_SUFFIX = ".pb";
+
+    private static final int HASH_LENGTH = 32;
+
     private final String[] locations;
 
+    private final boolean snapshotEnabled;
+
     public JsonProtobufSourceFactory(String[] locations) {
+        this(locations, false);
+    }
+
+    public JsonProtobufSourceFactory(String[] locations, boolean snapshotEnabled) {
         this.locations = locations;
+        this.snapshotEnabled = snapshotEnabled;
     }
 
     /**
@@ -54,12 +88,109 @@ public class JsonProtobufSourceFactory {
         for (String location : locations) {
             File dir = ResourceUtils.getFile(location);
             File[] files = dir.listFiles();
+            if (files == null) {
+                throw new IOException("component location is not a directory: " + location);
+            }
+            Arrays.sort(files);
             for (File file : files) {
-                Message.Builder itemBuilder = Comp.CompListDef.newBuilder();
-                JsonFormat.parser().ignoringUnknownFields().merge(new FileReader(file), itemBuilder);
-                items.add((Comp.CompListDef) itemBuilder.build());
+                // skip sub directories, editor swap files and binary snapshots
+                if (!file.isFile() || file.isHidden()) {
+                    continue;
+                }
+                items.add(load(file.toPath()));
             }
         }
         return items;
     }
+
+    private Comp.CompListDef load(Path source) throws IOException {
+        byte[] content = Files.readAllBytes(source);
+        if (!snapshotEnabled) {
+            return parseJson(content);
+        }
+        byte[] hash = Sha256Utils.hash(content);
+        Path snapshot = snapshotPath(source);
+        Comp.CompListDef item = readSnapshot(snapshot, hash);
+        if (item != null) {
+            return item;
+        }
+        item = parseJson(content);
+        writeSnapshot(snapshot, hash, item);
+        return item;
+    }
+
+    private Comp.CompListDef parseJson(byte[] content) throws InvalidProtocolBufferException {
+        Comp.CompListDef.Builder itemBuilder = Comp.CompListDef.newBuilder();
+        JsonFormat.parser().ignoringUnknownFields().merge(new String(content, StandardCharsets.UTF_8), itemBuilder);
+        return itemBuilder.build();
+    }
+
+    /**
+     * Read binary snapshot, return null when the snapshot is missing, stale or broken
+     *
+     * @param snapshot snapshot path
+     * @param hash     sha256 of json source
+     * @return component list definition
+     */
+    private Comp.CompListDef readSnapshot(Path snapshot, byte[] hash) {
+        if (!Files.isRegularFile(snapshot)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            if (channel.size() < SNAPSHOT_MAGIC.length + HASH_LENGTH) {
+                return null;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            byte[] magic = new byte[SNAPSHOT_MAGIC.length];
+            byte[] snapshotHash = new byte[HASH_LENGTH];
+            buffer.get(magic).get(snapshotHash);
+            if (!Arrays.equals(SNAPSHOT_MAGIC, magic) || !Arrays.equals(hash, snapshotHash)) {
+                return null;
+            }
+            ByteBuffer body = buffer.slice();
+            return Comp.CompListDef.parseFrom(body);
+        } catch (IOException e) {
+            log.warn("read component snapshot {} failed, fall back to json", snapshot, e);
+            return null;
+        }
+    }
+
+    /**
+     * Write binary snapshot via a temp file and atomic move, failures only disable the snapshot for this file
+     *
+     * @param snapshot snapshot path
+     * @param hash     sha256 of json source
+     * @param item     component list definition
+     */
+    private void writeSnapshot(Path snapshot, byte[] hash, Comp.CompListDef item) {
+        Path tmp = null;
+        try {
+            tmp = Files.createTempFile(snapshot.getParent(), snapshot.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                out.write(SNAPSHOT_MAGIC);
+                out.write(hash);
+                item.writeTo(out);
+            }
+            Files.move(tmp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("write component snapshot {} failed", snapshot, e);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                    // best effort cleanup
+                }
+            }
+        }
+    }
+
+    /**
+     * Binary snapshot path of a json source, hidden so it is never loaded as a json source
+     *
+     * @param source json source path
+     * @return snapshot path
+     */
+    public static Path snapshotPath(Path source) {
+        return source.resolveSibling("." + source.getFileName() + SNAPSHOT_SUFFIX);
+    }
 }
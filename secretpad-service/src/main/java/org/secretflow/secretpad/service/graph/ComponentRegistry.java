@@ -0,0 +1,197 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service.graph;
+
+import org.secretflow.secretpad.service.factory.JsonProtobufSourceFactory;
+import org.secretflow.secretpad.service.model.graph.CompListVO;
+import org.secretflow.secretpad.service.model.graph.ComponentKey;
+import org.secretflow.secretpad.service.model.graph.ComponentSummaryDef;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.secretflow.proto.component.Comp;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Component registry, an immutable index of all component definitions which is built once and swapped atomically on reload
+ *
+ * @author yansi
+ * @date 2023/9/5
+ */
+@Slf4j
+public class ComponentRegistry {
+    private final String[] locations;
+
+    private final JsonProtobufSourceFactory sourceFactory;
+
+    private final ApplicationEventPublisher publisher;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    public ComponentRegistry(String[] locations, ApplicationEventPublisher publisher) throws IOException {
+        this(locations, false, publisher);
+    }
+
+    public ComponentRegistry(String[] locations, boolean binarySnapshotEnabled, ApplicationEventPublisher publisher) throws IOException {
+        this.locations = locations;
+        this.sourceFactory = new JsonProtobufSourceFactory(locations, binarySnapshotEnabled);
+        this.publisher = publisher;
+        this.snapshot.set(load());
+    }
+
+    private Snapshot load() throws IOException {
+        long start = System.currentTimeMillis();
+        Snapshot loaded = new Snapshot(sourceFactory.load());
+        log.info("load {} components from {} cost {} ms", loaded.getSize(), Arrays.toString(locations), System.currentTimeMillis() - start);
+        return loaded;
+    }
+
+    /**
+     * Component spec locations
+     *
+     * @return locations
+     */
+    public String[] getLocations() {
+        return locations.clone();
+    }
+
+    /**
+     * Get the current immutable snapshot
+     *
+     * @return component snapshot
+     */
+    public Snapshot current() {
+        return snapshot.get();
+    }
+
+    /**
+     * Find componentDef by component key, the latest registered version is used when key version is blank
+     *
+     * @param key component key
+     * @return componentDef
+     */
+    public Optional<Comp.ComponentDef> find(ComponentKey key) {
+        return current().find(key);
+    }
+
+    /**
+     * Find componentDef by domain, name and version
+     *
+     * @param domain  component domain
+     * @param name    component name
+     * @param version component version
+     * @return componentDef
+     */
+    public Optional<Comp.ComponentDef> find(String domain, String name, String version) {
+        return find(new ComponentKey(domain, name, version));
+    }
+
+    /**
+     * Reload components from locations then swap the snapshot atomically, the current snapshot is kept when loading fails
+     *
+     * @return whether reloaded
+     */
+    public synchronized boolean reload() {
+        Snapshot loaded;
+        try {
+            loaded = load();
+        } catch (Exception e) {
+            log.error("reload components from {} failed, keep the current components", Arrays.toString(locations), e);
+            return false;
+        }
+        snapshot.set(loaded);
+        log.info("reload components from {} finished, {} components loaded", Arrays.toString(locations), loaded.getSize());
+        if (publisher != null) {
+            publisher.publishEvent(new ReloadedEvent(this));
+        }
+        return true;
+    }
+
+    /**
+     * Immutable component snapshot
+     */
+    @Getter
+    public static class Snapshot {
+        /**
+         * Component list definitions
+         */
+        private final List<Comp.CompListDef> compListDefs;
+        /**
+         * Component summary list view object
+         */
+        private final CompListVO summary;
+        /**
+         * Component size
+         */
+        private final int size;
+
+        private final Map<ComponentKey, Comp.ComponentDef> latest;
+
+        private final Map<ComponentKey, Comp.ComponentDef> versioned;
+
+        Snapshot(List<Comp.CompListDef> compListDefs) {
+            Map<ComponentKey, Comp.ComponentDef> latestMap = new HashMap<>();
+            Map<ComponentKey, Comp.ComponentDef> versionedMap = new HashMap<>();
+            List<ComponentSummaryDef> summaries = new ArrayList<>();
+            for (Comp.CompListDef compListDef : compListDefs) {
+                for (Comp.ComponentDef componentDef : compListDef.getCompsList()) {
+                    latestMap.put(new ComponentKey(componentDef.getDomain(), componentDef.getName()), componentDef);
+                    versionedMap.put(new ComponentKey(componentDef.getDomain(), componentDef.getName(), componentDef.getVersion()), componentDef);
+                    summaries.add(ComponentSummaryDef.builder()
+                            .domain(componentDef.getDomain())
+                            .name(componentDef.getName())
+                            .version(componentDef.getVersion())
+                            .desc(componentDef.getDesc())
+                            .build());
+                }
+            }
+            this.compListDefs = List.copyOf(compListDefs);
+            this.latest = Map.copyOf(latestMap);
+            this.versioned = Map.copyOf(versionedMap);
+            this.summary = CompListVO.builder().name("secretflow").comps(Collections.unmodifiableList(summaries)).build();
+            this.size = summaries.size();
+        }
+
+        /**
+         * Find componentDef by component key
+         *
+         * @param key component key
+         * @return componentDef
+         */
+        public Optional<Comp.ComponentDef> find(ComponentKey key) {
+            if (StringUtils.isBlank(key.getVersion())) {
+                return Optional.ofNullable(latest.get(new ComponentKey(key.getDomain(), key.getName())));
+            }
+            return Optional.ofNullable(versioned.get(key));
+        }
+    }
+
+    /**
+     * Event published after components are reloaded
+     */
+    public static class ReloadedEvent extends ApplicationEvent {
+        public ReloadedEvent(ComponentRegistry source) {
+            super(source);
+        }
+    }
+}
@@ -16,14 +16,8 @@
 
 package org.secretflow.secretpad.service.graph;
 
-import org.secretflow.secretpad.common.util.ProtoUtils;
 import org.secretflow.secretpad.service.model.graph.GraphNodeInfo;
 
-import org.secretflow.proto.component.Comp;
-import org.secretflow.proto.pipeline.Pipeline;
-
-import java.util.List;
-
 /**
  * Component tools
  *
@@ -38,18 +32,6 @@ public class ComponentTools {
      * @return datatableId
      */
     public static String getDataTableId(GraphNodeInfo nodeInfo) {
-        Pipeline.NodeDef nodeDef;
-        if (nodeInfo.getNodeDef() instanceof Pipeline.NodeDef) {
-            nodeDef = (Pipeline.NodeDef) nodeInfo.getNodeDef();
-        } else {
-            Pipeline.NodeDef.Builder nodeDefBuilder = Pipeline.NodeDef.newBuilder();
-            nodeDef = (Pipeline.NodeDef) ProtoUtils.fromObject(nodeInfo.getNodeDef(), nodeDefBuilder);
-        }
-        List<Comp.Attribute> attributes = nodeDef.getAttrsList();
-        String tableId = "";
-        if (!attributes.isEmpty()) {
-            tableId = attributes.get(0).getS();
-        }
-        return tableId;
+        return nodeInfo.stringAttr(0);
     }
 }
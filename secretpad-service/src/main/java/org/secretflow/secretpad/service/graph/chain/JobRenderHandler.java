@@ -20,7 +20,6 @@ import org.secretflow.secretpad.common.errorcode.DatatableErrorCode;
 import org.secretflow.secretpad.common.errorcode.GraphErrorCode;
 import org.secretflow.secretpad.common.exception.SecretpadException;
 import org.secretflow.secretpad.common.util.JsonUtils;
-import org.secretflow.secretpad.common.util.ProtoUtils;
 import org.secretflow.secretpad.manager.integration.datatable.AbstractDatatableManager;
 import org.secretflow.secretpad.manager.integration.model.DatatableDTO;
 import org.secretflow.secretpad.persistence.entity.ProjectDatatableDO;
@@ -97,8 +96,7 @@ public class JobRenderHandler extends AbstractJobHandler<ProjectJob> {
                 continue;
             }
 
-            Pipeline.NodeDef.Builder nodeDefBuilder = Pipeline.NodeDef.newBuilder();
-            ProtoUtils.fromObject(graphNodeInfo.getNodeDef(), nodeDefBuilder);
+            Pipeline.NodeDef.Builder nodeDefBuilder = graphNodeInfo.pipelineNodeDef().toBuilder();
 
             if (!CollectionUtils.isEmpty(inputs)) {
                 for (String input : inputs) {
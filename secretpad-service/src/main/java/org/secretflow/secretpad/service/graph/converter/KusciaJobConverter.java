@@ -102,7 +102,6 @@ public class KusciaJobConverter implements JobConverter {
      */
     private String renderTaskInputConfig(ProjectJob.JobTask task) {
         GraphNodeInfo graphNode = task.getNode();
-        Object nodeDef = graphNode.getNodeDef();
         List<String> inputs = graphNode.getInputs();
         List<String> outputs = graphNode.getOutputs();
         List<String> parties = task.getParties();
@@ -118,13 +117,7 @@ public class KusciaJobConverter implements JobConverter {
         });
 
         JsonFormat.TypeRegistry typeRegistry = JsonFormat.TypeRegistry.newBuilder().add(Data.IndividualTable.getDescriptor()).build();
-        Pipeline.NodeDef pipelineNodeDef;
-        if (nodeDef instanceof Pipeline.NodeDef) {
-            pipelineNodeDef = (Pipeline.NodeDef) nodeDef;
-        } else {
-            Pipeline.NodeDef.Builder nodeDefBuilder = Pipeline.NodeDef.newBuilder();
-            pipelineNodeDef = (Pipeline.NodeDef) ProtoUtils.fromObject(nodeDef, nodeDefBuilder);
-        }
+        Pipeline.NodeDef pipelineNodeDef = graphNode.pipelineNodeDef();
 
         Cluster.SFClusterDesc sfClusterDesc = Cluster.SFClusterDesc.newBuilder().addAllParties(parties).addAllDevices(deviceDescs).build();
         TaskConfig.TaskInputConfig taskInputConfig = TaskConfig.TaskInputConfig.newBuilder()
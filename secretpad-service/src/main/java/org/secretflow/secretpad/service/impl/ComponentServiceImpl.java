@@ -20,16 +20,14 @@ import org.secretflow.secretpad.common.errorcode.GraphErrorCode;
 import org.secretflow.secretpad.common.exception.SecretpadException;
 import org.secretflow.secretpad.common.util.FileUtils;
 import org.secretflow.secretpad.common.util.JsonUtils;
-import org.secretflow.secretpad.common.util.ProtoUtils;
 import org.secretflow.secretpad.service.ComponentService;
 import org.secretflow.secretpad.service.constant.ComponentConstants;
+import org.secretflow.secretpad.service.graph.ComponentRegistry;
 import org.secretflow.secretpad.service.model.graph.CompListVO;
 import org.secretflow.secretpad.service.model.graph.ComponentKey;
-import org.secretflow.secretpad.service.model.graph.ComponentSummaryDef;
 import org.secretflow.secretpad.service.model.graph.GraphNodeInfo;
 
 import org.secretflow.proto.component.Comp;
-import org.secretflow.proto.pipeline.Pipeline;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -42,7 +40,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Component service implementation class
@@ -57,48 +54,26 @@ public class ComponentServiceImpl implements ComponentService {
     private String i18nLocation;
 
     @Autowired
-    private List<Comp.CompListDef> components;
+    private ComponentRegistry componentRegistry;
 
     @Override
     public CompListVO listComponents() {
-        CompListVO compListVO = CompListVO.builder().name("secretflow").comps(new ArrayList<>()).build();
-        components.stream().forEach(compListDef -> {
-            List<Comp.ComponentDef> comps = compListDef.getCompsList();
-            if (!CollectionUtils.isEmpty(comps)) {
-                compListVO.getComps().addAll(comps.stream().map(componentDef ->
-                                ComponentSummaryDef.builder()
-                                        .domain(componentDef.getDomain())
-                                        .name(componentDef.getName())
-                                        .version(componentDef.getVersion())
-                                        .desc(componentDef.getDesc())
-                                        .build())
-                        .collect(Collectors.toList()));
-            }
-        });
-        return compListVO;
+        return componentRegistry.current().getSummary();
     }
 
     @Override
     public Comp.ComponentDef getComponent(ComponentKey key) {
-        return batchGetComponent(List.of(key)).get(0);
+        return componentRegistry.find(key).orElseThrow(() -> SecretpadException.of(GraphErrorCode.COMPONENT_NOT_EXISTS, key.toString()));
     }
 
     @Override
     public List<Comp.ComponentDef> batchGetComponent(List<ComponentKey> keys) {
         List<Comp.ComponentDef> result = new ArrayList<>();
-        Map<ComponentKey, Comp.ComponentDef> componentMap = new HashMap<>();
-        components.stream().filter(compListDef -> !CollectionUtils.isEmpty(compListDef.getCompsList())).forEach(compListDef -> {
-            compListDef.getCompsList().stream().forEach(componentDef -> {
-                componentMap.put(new ComponentKey(componentDef.getDomain(), componentDef.getName()), componentDef);
-            });
-        });
         if (!CollectionUtils.isEmpty(keys)) {
-            keys.stream().forEach(key -> {
-                if (!componentMap.containsKey(key)) {
-                    throw SecretpadException.of(GraphErrorCode.COMPONENT_NOT_EXISTS, key.toString());
-                }
-                result.add(componentMap.get(key));
-            });
+            // resolve all keys against one snapshot so that a concurrent reload can not mix two versions
+            ComponentRegistry.Snapshot snapshot = componentRegistry.current();
+            keys.forEach(key -> result.add(snapshot.find(key)
+                    .orElseThrow(() -> SecretpadException.of(GraphErrorCode.COMPONENT_NOT_EXISTS, key.toString()))));
         }
         return result;
     }
@@ -126,15 +101,9 @@ public class ComponentServiceImpl implements ComponentService {
 
     @Override
     public boolean isSecretpadComponent(GraphNodeInfo node) {
-        Pipeline.NodeDef pipelineNodeDef;
-        if (node.getNodeDef() instanceof Pipeline.NodeDef) {
-            pipelineNodeDef = (Pipeline.NodeDef) node.getNodeDef();
-        } else {
-            Pipeline.NodeDef.Builder nodeDefBuilder = Pipeline.NodeDef.newBuilder();
-            pipelineNodeDef = (Pipeline.NodeDef) ProtoUtils.fromJsonString(JsonUtils.toJSONString(node.getNodeDef()), nodeDefBuilder);
-        }
-        String domain = pipelineNodeDef.getDomain();
-        String name = pipelineNodeDef.getName();
+        ComponentKey key = node.componentKey();
+        String domain = key.getDomain();
+        String name = key.getName();
         return ComponentConstants.READ_DATA.equals(domain) && ComponentConstants.DATA_TABLE.equals(name);
     }
 
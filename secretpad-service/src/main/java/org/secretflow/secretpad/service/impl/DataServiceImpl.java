@@ -18,30 +18,73 @@ package org.secretflow.secretpad.service.impl;
 
 
 import org.secretflow.secretpad.common.errorcode.DataErrorCode;
+import org.secretflow.secretpad.common.errorcode.DatatableErrorCode;
+import org.secretflow.secretpad.common.errorcode.ProjectErrorCode;
 import org.secretflow.secretpad.common.errorcode.SystemErrorCode;
 import org.secretflow.secretpad.common.exception.SecretpadException;
 import org.secretflow.secretpad.common.util.CompressUtils;
+import org.secretflow.secretpad.common.util.ParallelZipExtractor;
 import org.secretflow.secretpad.common.util.SafeFileUtils;
+import org.secretflow.secretpad.common.util.Sha256Utils;
 import org.secretflow.secretpad.common.util.TypeConvertUtils;
+import org.secretflow.secretpad.common.util.UUIDUtils;
 import org.secretflow.secretpad.manager.integration.data.AbstractDataManager;
+import org.secretflow.secretpad.manager.integration.datatable.AbstractDatatableManager;
+import org.secretflow.secretpad.manager.integration.model.DatatableDTO;
+import org.secretflow.secretpad.manager.integration.model.DatatableSchema;
 import org.secretflow.secretpad.manager.integration.model.NodeResultDTO;
 import org.secretflow.secretpad.manager.integration.node.AbstractNodeManager;
+import org.secretflow.secretpad.persistence.entity.DatatableProfileDO;
+import org.secretflow.secretpad.persistence.entity.ProjectDatatableDO;
+import org.secretflow.secretpad.persistence.entity.UploadChunkDO;
+import org.secretflow.secretpad.persistence.entity.UploadSessionDO;
+import org.secretflow.secretpad.persistence.repository.DatatableProfileRepository;
+import org.secretflow.secretpad.persistence.repository.ProjectDatatableRepository;
+import org.secretflow.secretpad.persistence.repository.UploadChunkRepository;
+import org.secretflow.secretpad.persistence.repository.UploadSessionRepository;
 import org.secretflow.secretpad.service.DataService;
 import org.secretflow.secretpad.service.model.data.*;
+import org.secretflow.secretpad.service.model.datatable.TableColumnVO;
+import org.secretflow.secretpad.service.model.node.NodeIdRequest;
+import org.secretflow.secretpad.service.profile.CsvPreviewer;
+import org.secretflow.secretpad.service.profile.CsvProfiler;
+import org.secretflow.secretpad.service.storage.ContentAddressedStore;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Data service implementation class
@@ -54,7 +97,19 @@ public class DataServiceImpl implements DataService {
 
     private final static Logger LOGGER = LoggerFactory.getLogger(DataServiceImpl.class);
 
-    private final static List<String> SUPPORT_FILE_TYPE = Arrays.asList(".csv");
+    private final static String CSV_FILE_TYPE = ".csv";
+
+    private final static String ZIP_FILE_TYPE = ".zip";
+
+    /**
+     * Supported upload file types, longer suffixes first so a compressed csv is matched as a whole
+     */
+    private final static List<String> SUPPORT_FILE_TYPE = Arrays.asList(".csv.gz", ".tar.gz", ".tgz", ZIP_FILE_TYPE, CSV_FILE_TYPE);
+
+    /**
+     * Archive file types, extracted into a dir named after the upload
+     */
+    private final static List<String> ARCHIVE_FILE_TYPE = Arrays.asList(".tar.gz", ".tgz", ZIP_FILE_TYPE);
 
     private final static String DEFAULT_DATASOURCE = "default-data-source";
 
@@ -64,66 +119,369 @@ public class DataServiceImpl implements DataService {
 
     private final static String FILE_SEPETATOR = "/";
 
+    private final static String UPLOADING_SUFFIX = ".uploading";
+
+    private final static int CHUNK_BUFFER_SIZE = 64 * 1024;
+
+    private final static int UPLOAD_BUFFER_SIZE = 1024 * 1024;
+
     @Autowired
     private AbstractDataManager dataManager;
 
+    @Autowired
+    private AbstractDatatableManager datatableManager;
+
     @Autowired
     private AbstractNodeManager nodeManager;
 
+    @Autowired
+    private UploadSessionRepository uploadSessionRepository;
+
+    @Autowired
+    private UploadChunkRepository uploadChunkRepository;
+
+    @Autowired
+    private DatatableProfileRepository datatableProfileRepository;
+
+    @Autowired
+    private ProjectDatatableRepository projectDatatableRepository;
+
     @Value("${secretpad.data.dir-path:/app/data/}")
     private String storeDir;
 
+    @Value("${secretpad.data.upload.chunk-size:8388608}")
+    private long defaultChunkSize;
+
+    @Value("${secretpad.data.upload.max-chunk-size:67108864}")
+    private long maxChunkSize;
+
+    @Value("${secretpad.data.upload.session-ttl-millis:86400000}")
+    private long uploadSessionTtlMillis;
+
+    /**
+     * Max splits of an uploaded csv profiled in parallel, 0 for the number of processors
+     */
+    @Value("${secretpad.data.profile.parallelism:0}")
+    private int profileParallelism;
+
+    @Value("${secretpad.data.profile.min-split-bytes:16777216}")
+    private long profileMinSplitBytes;
+
+    /**
+     * Keep one copy of each uploaded content per node, uploads of the same content are hard links of it
+     */
+    @Value("${secretpad.data.upload.dedup:false}")
+    private boolean uploadDedup;
+
+    /**
+     * Threads inflating the entries of uploaded zip archives, shared by all uploads, 0 for the number of processors
+     */
+    @Value("${secretpad.data.upload.extract-threads:0}")
+    private int extractThreads;
+
+    /**
+     * Max decompressed size of a compressed upload, so a decompression bomb cannot fill the disk
+     */
+    @Value("${secretpad.data.upload.max-extracted-bytes:107374182400}")
+    private long maxExtractedBytes;
+
+    @Value("${secretpad.data.preview.default-rows:20}")
+    private int previewDefaultRows;
+
+    @Value("${secretpad.data.preview.max-rows:1000}")
+    private int previewMaxRows;
+
+    /**
+     * Max bytes of a file read by a preview, which bounds its time whatever the file size
+     */
+    @Value("${secretpad.data.preview.max-bytes:8388608}")
+    private long previewMaxBytes;
+
+    @Value("${secretpad.data.preview.max-row-bytes:1048576}")
+    private int previewMaxRowBytes;
+
+    private ExecutorService profileExecutor;
+
+    private CsvProfiler csvProfiler;
+
+    private CsvPreviewer csvPreviewer;
+
+    private ContentAddressedStore contentAddressedStore;
+
+    private ParallelZipExtractor zipExtractor;
+
+    @PostConstruct
+    public void init() {
+        int parallelism = profileParallelism > 0 ? profileParallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        profileExecutor = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread thread = new Thread(r, "csv-profile-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        csvProfiler = new CsvProfiler(profileExecutor, parallelism, profileMinSplitBytes);
+        csvPreviewer = new CsvPreviewer(previewMaxBytes, previewMaxRowBytes);
+        contentAddressedStore = new ContentAddressedStore(storeDir);
+        zipExtractor = new ParallelZipExtractor(extractThreads);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        profileExecutor.shutdownNow();
+        zipExtractor.close();
+    }
+
     @Override
     public UploadDataResultVO upload(MultipartFile file, String nodeId) {
         String fileName = file.getOriginalFilename();
         fileNameCheck(fileName);
         nodeIdValidCheck(nodeId);
-        String dirPath = storeDir + nodeId + FILE_SEPETATOR;
-        String randomFileName = null;
-        File target = null;
-        for (int i = 0; i < 5; i++) {
-            randomFileName = getRandomFileName(fileName);
-            target = new File(dirPath + randomFileName);
-            if (!target.exists()) {
-                break;
+        File target = newUploadTarget(nodeId, fileName);
+        if (CSV_FILE_TYPE.equals(fileType(fileName)) && !uploadDedup) {
+            // the container stored the upload already, moving it is cheaper than copying it
+            try {
+                file.transferTo(target);
+            } catch (IOException e) {
+                LOGGER.error("IOException: {}", e.getMessage());
+                throw SecretpadException.of(SystemErrorCode.UNKNOWN_ERROR, e);
             }
+            return storedFile(nodeId, fileName, target.getName(), target, null);
         }
-        SafeFileUtils.checkPathInWhitelist(target, List.of(storeDir));
+        try (InputStream content = file.getInputStream()) {
+            return store(nodeId, fileName, target, content);
+        } catch (IOException e) {
+            LOGGER.error("IOException: {}", e.getMessage());
+            throw SecretpadException.of(SystemErrorCode.UNKNOWN_ERROR, e);
+        }
+    }
+
+    @Override
+    public UploadDataResultVO upload(String nodeId, String fileName, InputStream content) {
+        fileNameCheck(fileName);
+        nodeIdValidCheck(nodeId);
+        return store(nodeId, fileName, newUploadTarget(nodeId, fileName), content);
+    }
+
+    @Override
+    public UploadSessionVO initUpload(InitUploadRequest request) {
+        String fileName = request.getFileName();
+        String nodeId = request.getNodeId();
+        fileNameCheck(fileName);
+        nodeIdValidCheck(nodeId);
+        long chunkSize = request.getChunkSize() == null ? defaultChunkSize : request.getChunkSize();
+        if (chunkSize > maxChunkSize) {
+            throw SecretpadException.of(DataErrorCode.ILLEGAL_PARAMS_ERROR, "chunk size cannot exceed " + maxChunkSize);
+        }
+        long chunkCount = (request.getFileSize() + chunkSize - 1) / chunkSize;
+        if (chunkCount > Integer.MAX_VALUE) {
+            throw SecretpadException.of(DataErrorCode.ILLEGAL_PARAMS_ERROR, "too many chunks, use a larger chunk size");
+        }
+        File target = newUploadTarget(nodeId, fileName);
+        try {
+            Files.createFile(partialFile(target).toPath());
+        } catch (FileAlreadyExistsException e) {
+            throw SecretpadException.of(DataErrorCode.FILE_EXISTS_ERROR);
+        } catch (IOException e) {
+            LOGGER.error("IOException: {}", e.getMessage());
+            throw SecretpadException.of(SystemErrorCode.UNKNOWN_ERROR, e);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        UploadSessionDO session = UploadSessionDO.builder()
+                .uploadId(UUIDUtils.newUUID())
+                .nodeId(nodeId)
+                .fileName(fileName)
+                .realName(target.getName())
+                .fileSize(request.getFileSize())
+                .chunkSize(chunkSize)
+                .chunkCount((int) chunkCount)
+                .gmtCreate(now)
+                .gmtActive(now)
+                .build();
+        uploadSessionRepository.save(session);
+        LOGGER.info("init upload {} of {} to node {}: {} bytes in {} chunks", session.getUploadId(), fileName, nodeId,
+                session.getFileSize(), session.getChunkCount());
+        return UploadSessionVO.from(session, Collections.emptyList());
+    }
+
+    @Override
+    public UploadChunkVO uploadChunk(String uploadId, int chunkIndex, String checksum, InputStream content) {
+        UploadSessionDO session = openUploadSession(uploadId);
+        if (chunkIndex < 0 || chunkIndex >= session.getChunkCount()) {
+            throw SecretpadException.of(DataErrorCode.ILLEGAL_PARAMS_ERROR, "chunk index out of range: " + chunkIndex);
+        }
+        // a chunk uploaded again counts as missing until its new content is verified
+        UploadChunkDO.UPK upk = new UploadChunkDO.UPK(uploadId, chunkIndex);
+        uploadChunkRepository.deleteById(upk);
+        long offset = session.chunkOffset(chunkIndex);
+        long expected = session.chunkLength(chunkIndex);
+        MessageDigest digest = newDigest();
+        long received = 0;
+        try (FileChannel channel = FileChannel.open(partialFile(session).toPath(), StandardOpenOption.WRITE)) {
+            byte[] buf = new byte[CHUNK_BUFFER_SIZE];
+            int len;
+            while ((len = content.read(buf)) > 0) {
+                if (received + len > expected) {
+                    throw SecretpadException.of(DataErrorCode.UPLOAD_CHUNK_MISMATCH, "chunk " + chunkIndex + " exceeds " + expected + " bytes");
+                }
+                digest.update(buf, 0, len);
+                ByteBuffer buffer = ByteBuffer.wrap(buf, 0, len);
+                while (buffer.hasRemaining()) {
+                    received += channel.write(buffer, offset + received);
+                }
+            }
+            if (received != expected) {
+                throw SecretpadException.of(DataErrorCode.UPLOAD_CHUNK_MISMATCH, "chunk " + chunkIndex + " has " + received + " of " + expected + " bytes");
+            }
+            channel.force(false);
+        } catch (NoSuchFileException e) {
+            throw SecretpadException.of(DataErrorCode.UPLOAD_SESSION_NOT_EXISTS);
+        } catch (IOException e) {
+            LOGGER.error("IOException: {}", e.getMessage());
+            throw SecretpadException.of(SystemErrorCode.UNKNOWN_ERROR, e);
+        }
+        String actual = HexFormat.of().formatHex(digest.digest());
+        if (!actual.equalsIgnoreCase(checksum)) {
+            throw SecretpadException.of(DataErrorCode.UPLOAD_CHUNK_MISMATCH, "checksum of chunk " + chunkIndex + " is " + actual);
+        }
+        uploadChunkRepository.save(UploadChunkDO.builder().upk(upk).size(received).checksum(actual).build());
+        uploadSessionRepository.touch(uploadId, LocalDateTime.now());
+        return UploadChunkVO.builder().chunkIndex(chunkIndex).size(received).checksum(actual).build();
+    }
+
+    @Override
+    public UploadSessionVO queryUpload(UploadSessionRequest request) {
+        UploadSessionDO session = openUploadSession(request.getUploadId());
+        return UploadSessionVO.from(session, uploadChunkRepository.findChunkIndexes(session.getUploadId()));
+    }
+
+    @Override
+    public UploadDataResultVO completeUpload(UploadSessionRequest request) {
+        UploadSessionDO session = openUploadSession(request.getUploadId());
+        long received = uploadChunkRepository.countByUploadId(session.getUploadId());
+        if (received != session.getChunkCount()) {
+            throw SecretpadException.of(DataErrorCode.UPLOAD_INCOMPLETE,
+                    (session.getChunkCount() - received) + " of " + session.getChunkCount() + " chunks missing");
+        }
+        File target = new File(storeDir + session.getNodeId() + FILE_SEPETATOR + session.getRealName());
         if (target.exists()) {
-            LOGGER.warn("After try some times generate random file name, the target random file {} still exists.", dirPath + randomFileName);
             throw SecretpadException.of(DataErrorCode.FILE_EXISTS_ERROR);
         }
-        createDirIfNotExist(dirPath);
+        File partial = partialFile(session);
+        boolean csv = CSV_FILE_TYPE.equals(fileType(session.getFileName()));
+        UploadDataResultVO result = null;
+        try {
+            if (csv) {
+                Files.move(partial.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } else {
+                // the chunks arrive in any order, so a compressed upload is decompressed once it is complete
+                try (InputStream content = Files.newInputStream(partial.toPath())) {
+                    result = store(session.getNodeId(), session.getFileName(), target, content);
+                }
+                Files.delete(partial.toPath());
+            }
+        } catch (NoSuchFileException e) {
+            throw SecretpadException.of(DataErrorCode.UPLOAD_SESSION_NOT_EXISTS);
+        } catch (IOException e) {
+            LOGGER.error("IOException: {}", e.getMessage());
+            throw SecretpadException.of(SystemErrorCode.UNKNOWN_ERROR, e);
+        }
+        uploadChunkRepository.deleteByUploadId(session.getUploadId());
+        uploadSessionRepository.deleteById(session.getUploadId());
+        LOGGER.info("complete upload {} of {} to node {} as {}", session.getUploadId(), session.getFileName(), session.getNodeId(),
+                session.getRealName());
+        if (csv) {
+            // the chunks arrive in any order, so the whole file is hashed once it is complete
+            result = storedFile(session.getNodeId(), session.getFileName(), session.getRealName(), target,
+                    uploadDedup ? Sha256Utils.fileHash(target.getPath()) : null);
+        }
+        return result;
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${secretpad.data.upload.gc-initial-delay-millis:60000}",
+            fixedDelayString = "${secretpad.data.upload.gc-interval-millis:3600000}")
+    public void collectUploadSessions() {
+        LocalDateTime before = LocalDateTime.now().minus(Duration.ofMillis(uploadSessionTtlMillis));
+        for (UploadSessionDO session : uploadSessionRepository.findInactiveSince(before)) {
+            try {
+                Files.deleteIfExists(partialFile(session).toPath());
+                uploadChunkRepository.deleteByUploadId(session.getUploadId());
+                uploadSessionRepository.deleteById(session.getUploadId());
+                LOGGER.info("collect upload {} of {} to node {}, inactive since {}", session.getUploadId(), session.getFileName(),
+                        session.getNodeId(), session.getGmtActive());
+            } catch (Exception e) {
+                LOGGER.warn("collect upload {} failed", session.getUploadId(), e);
+            }
+        }
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${secretpad.data.upload.gc-initial-delay-millis:60000}",
+            fixedDelayString = "${secretpad.data.upload.gc-interval-millis:3600000}")
+    public void collectUnreferencedBlobs() {
         try {
-            file.transferTo(target);
+            int collected = contentAddressedStore.collect();
+            if (collected > 0) {
+                LOGGER.info("collect {} upload blobs no longer linked by any upload", collected);
+            }
+        } catch (Exception e) {
+            LOGGER.warn("collect upload blobs failed", e);
+        }
+    }
+
+    @Override
+    public DedupStatsVO dedupStats(NodeIdRequest request) {
+        nodeIdValidCheck(request.getNodeId());
+        try {
+            return DedupStatsVO.from(request.getNodeId(), contentAddressedStore.stats(request.getNodeId()));
         } catch (IOException e) {
             LOGGER.error("IOException: {}", e.getMessage());
             throw SecretpadException.of(SystemErrorCode.UNKNOWN_ERROR, e);
         }
-        return UploadDataResultVO.builder()
-                .name(fileName)
-                .realName(randomFileName)
-                .datasource(DEFAULT_DATASOURCE)
-                .datasourceType(DEFAULT_DATASOURCE_TYPE)
-                .build();
     }
 
     @Override
     public String createData(CreateDataRequest request) {
-        return dataManager.createData(
+        List<DatatableSchema> datatableSchema = request.getDatatableSchema();
+        if (CollectionUtils.isEmpty(datatableSchema)) {
+            // the schema inferred at upload time is used when none is given, without a profile the table is created as given
+            String realName = request.getRealName() == null ? request.getName() : request.getRealName();
+            datatableSchema = datatableProfileRepository.findById(new DatatableProfileDO.UPK(request.getNodeId(), realName))
+                    .map(DataProfileVO::schemaOf)
+                    .orElse(datatableSchema);
+        }
+        String datatableId = dataManager.createData(
                 request.getNodeId(),
                 request.getName(),
                 request.getRealName(),
                 request.getTableName(),
                 request.getDescription(),
-                request.getDatatableSchema()
+                datatableSchema
         );
+        refreshCatalog(request.getNodeId(), datatableId);
+        return datatableId;
     }
 
     @Override
     public String createDataByDataSource(CreateDataByDataSourceRequest request) {
-        return dataManager.createDataByDataSource(request.getNodeId(), request.getName(), request.getTablePath(),
+        String datatableId = dataManager.createDataByDataSource(request.getNodeId(), request.getName(), request.getTablePath(),
                 request.getDatasourceId(), request.getDescription(), request.getDatatableSchema());
+        refreshCatalog(request.getNodeId(), datatableId);
+        return datatableId;
+    }
+
+    /**
+     * Mirror a created datatable into the datatable catalog, the periodic reconcile catches up when it fails
+     *
+     * @param nodeId      node id
+     * @param datatableId created datatable id
+     */
+    private void refreshCatalog(String nodeId, String datatableId) {
+        try {
+            datatableManager.refreshCatalog(DatatableDTO.NodeDatatableId.from(nodeId, datatableId));
+        } catch (Exception e) {
+            LOGGER.warn("refresh datatable catalog of {} {} failed", nodeId, datatableId, e);
+        }
     }
 
     @Override
@@ -148,13 +506,12 @@ public class DataServiceImpl implements DataService {
             }
             String downloadFilePath = null;
             String fileName = null;
-            if (f.isDirectory()) {
+            boolean archive = f.isDirectory();
+            if (archive) {
                 LOGGER.info("Download process got a dir to download, whose relative uri = {}", relativeUri);
-                CompressUtils.compress(filePath, dir, relativeUri);
+                // the dir is streamed as a tar.gz archive while it is downloaded, nothing is written next to the data
                 fileName = relativeUri + ".tar.gz";
-                // since it is a new compressed file, add a suffix
-                downloadFilePath = dir + fileName;
-
+                downloadFilePath = filePath;
             } else {
                 LOGGER.info("Download process got a  real csv file to download, whose relative uri = {}", relativeUri);
                 fileName = relativeUri + ".csv";
@@ -165,6 +522,7 @@ public class DataServiceImpl implements DataService {
             return DownloadInfo.builder()
                     .fileName(fileName)
                     .filePath(downloadFilePath)
+                    .archive(archive)
                     .build();
         } catch (IOException e) {
             LOGGER.error("IO exception: {}", e.getMessage());
@@ -175,6 +533,343 @@ public class DataServiceImpl implements DataService {
         }
     }
 
+    @Override
+    public DataPreviewVO preview(PreviewDataRequest request) {
+        String nodeId = request.getNodeId();
+        nodeIdValidCheck(nodeId);
+        boolean datatable = StringUtils.hasText(request.getDatatableId());
+        if (datatable == StringUtils.hasText(request.getDomainDataId())) {
+            throw SecretpadException.of(DataErrorCode.ILLEGAL_PARAMS_ERROR, "exactly one of datatable id and domain data id is required");
+        }
+        Map<String, String> columnTypes = new HashMap<>();
+        String relativeUri;
+        if (datatable) {
+            DatatableDTO dto = datatableManager.findById(DatatableDTO.NodeDatatableId.from(nodeId, request.getDatatableId()))
+                    .orElseThrow(() -> SecretpadException.of(DatatableErrorCode.DATATABLE_NOT_EXISTS));
+            relativeUri = dto.getRelativeUri();
+            if (dto.getSchema() != null) {
+                dto.getSchema().forEach(it -> columnTypes.put(it.getColName(), it.getColType()));
+            }
+            if (StringUtils.hasText(request.getProjectId())) {
+                ProjectDatatableDO projectDatatable = projectDatatableRepository
+                        .findById(new ProjectDatatableDO.UPK(request.getProjectId(), nodeId, request.getDatatableId()))
+                        .orElseThrow(() -> SecretpadException.of(ProjectErrorCode.PROJECT_DATATABLE_NOT_EXISTS));
+                projectDatatable.getTableConfig().forEach(it -> columnTypes.put(it.getColName(), it.getColType()));
+            }
+        } else {
+            relativeUri = nodeManager.getNodeResult(nodeId, request.getDomainDataId()).getRelativeUri();
+        }
+        relativeUriValidCheck(relativeUri);
+        File file = new File(storeDir + nodeId + FILE_SEPETATOR + relativeUri);
+        if (file.isDirectory()) {
+            throw SecretpadException.of(DataErrorCode.ILLEGAL_PARAMS_ERROR, "directory " + relativeUri + " cannot be previewed");
+        }
+        if (!file.exists()) {
+            throw SecretpadException.of(DataErrorCode.FILE_NOT_EXISTS_ERROR);
+        }
+        if (columnTypes.isEmpty()) {
+            datatableProfileRepository.findById(new DatatableProfileDO.UPK(nodeId, relativeUri))
+                    .ifPresent(it -> it.getColumns().forEach(column -> columnTypes.put(column.getName(), column.getType())));
+        }
+
+        int rows = Math.min(request.getRows() == null ? previewDefaultRows : request.getRows(), previewMaxRows);
+        PreviewDataRequest.PreviewMode mode = request.getMode() == null ? PreviewDataRequest.PreviewMode.HEAD : request.getMode();
+        long start = System.currentTimeMillis();
+        CsvPreviewer.CsvPreview preview;
+        try {
+            if (mode == PreviewDataRequest.PreviewMode.SAMPLE) {
+                preview = csvPreviewer.sample(file, rows, request.getSeed() == null ? new Random() : new Random(request.getSeed()));
+            } else {
+                preview = csvPreviewer.head(file, rows);
+            }
+        } catch (IOException e) {
+            LOGGER.error("preview {} of node {} failed: {}", relativeUri, nodeId, e.getMessage());
+            throw SecretpadException.of(SystemErrorCode.UNKNOWN_ERROR, e);
+        }
+        LOGGER.info("previewed {} of node {} in {} ms: {} rows, {} bytes", relativeUri, nodeId,
+                System.currentTimeMillis() - start, preview.getRows().size(), preview.getBytesScanned());
+
+        List<String> types = preview.getHeader().stream().map(name -> columnTypes.getOrDefault(name, "str")).toList();
+        List<List<Object>> typedRows = new ArrayList<>(preview.getRows().size());
+        for (List<String> row : preview.getRows()) {
+            List<Object> typedRow = new ArrayList<>(row.size());
+            for (int i = 0; i < row.size(); i++) {
+                typedRow.add(typedValue(types.get(i), row.get(i)));
+            }
+            typedRows.add(typedRow);
+        }
+        List<TableColumnVO> columns = new ArrayList<>();
+        for (int i = 0; i < types.size(); i++) {
+            columns.add(TableColumnVO.builder().colName(preview.getHeader().get(i)).colType(types.get(i)).build());
+        }
+        return DataPreviewVO.builder()
+                .columns(columns)
+                .rows(typedRows)
+                .mode(mode)
+                .truncated(preview.isTruncated())
+                .bytesScanned(preview.getBytesScanned())
+                .build();
+    }
+
+    /**
+     * Convert a csv value to the type of its column, values not matching the type are kept as strings
+     *
+     * @param type  column type, like int64, float or bool
+     * @param value csv value, null for missing values
+     * @return typed value
+     */
+    private static Object typedValue(String type, String value) {
+        if (value == null || type == null) {
+            return value;
+        }
+        String lowerType = type.toLowerCase(Locale.ROOT);
+        try {
+            if (lowerType.startsWith("int") || lowerType.startsWith("uint")) {
+                return Long.parseLong(value);
+            }
+            if (lowerType.startsWith("float") || "double".equals(lowerType)) {
+                double number = Double.parseDouble(value);
+                // nan and inf have no json number form
+                return Double.isFinite(number) ? number : value;
+            }
+        } catch (NumberFormatException e) {
+            return value;
+        }
+        if ("bool".equals(lowerType) && ("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value))) {
+            return Boolean.parseBoolean(value);
+        }
+        return value;
+    }
+
+    /**
+     * Pick a new random file under the data dir of a node for an upload and create the dir if needed
+     *
+     * @param nodeId   target nodeId
+     * @param fileName file name given by the user
+     * @return target file, not yet created
+     */
+    private File newUploadTarget(String nodeId, String fileName) {
+        String dirPath = storeDir + nodeId + FILE_SEPETATOR;
+        String randomFileName = null;
+        File target = null;
+        for (int i = 0; i < 5; i++) {
+            randomFileName = getRandomFileName(fileName);
+            target = new File(dirPath + randomFileName);
+            if (!target.exists()) {
+                break;
+            }
+        }
+        SafeFileUtils.checkPathInWhitelist(target, List.of(storeDir));
+        if (target.exists()) {
+            LOGGER.warn("After try some times generate random file name, the target random file {} still exists.", dirPath + randomFileName);
+            throw SecretpadException.of(DataErrorCode.FILE_EXISTS_ERROR);
+        }
+        createDirIfNotExist(dirPath);
+        return target;
+    }
+
+    /**
+     * Build upload data result view object
+     *
+     * @param fileName file name given by the user
+     * @param realName file name under the data dir of the node
+     * @return upload data result view object
+     */
+    private UploadDataResultVO buildUploadResult(String fileName, String realName, DatatableProfileDO profile) {
+        return UploadDataResultVO.builder()
+                .name(fileName)
+                .realName(realName)
+                .datasource(DEFAULT_DATASOURCE)
+                .datasourceType(DEFAULT_DATASOURCE_TYPE)
+                .datatableSchema(profile == null ? null : DataProfileVO.schemaOf(profile))
+                .profile(profile == null ? null : DataProfileVO.from(profile))
+                .build();
+    }
+
+    /**
+     * Profile an uploaded csv file and store the profile under its relative uri, the upload succeeds without a profile when it fails
+     *
+     * @param nodeId   node id
+     * @param target   uploaded file
+     * @param realName relative uri of the file under the data dir of the node
+     * @return stored datatable profile, null when profiling failed
+     */
+    private DatatableProfileDO profile(String nodeId, File target, String realName) {
+        long start = System.currentTimeMillis();
+        try {
+            DatatableProfileDO profile = csvProfiler.profile(target);
+            profile.setUpk(new DatatableProfileDO.UPK(nodeId, realName));
+            profile.setGmtCreate(LocalDateTime.now());
+            datatableProfileRepository.save(profile);
+            LOGGER.info("profiled {} of node {} in {} ms: {} rows, {} columns", target.getName(), nodeId,
+                    System.currentTimeMillis() - start, profile.getRowCount(), profile.getColumns().size());
+            return profile;
+        } catch (Exception e) {
+            LOGGER.warn("profile {} of node {} failed: {}", target.getName(), nodeId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Store the content of an upload, a compressed csv is decompressed and an archive extracted into the target dir while the content
+     * is read, so the compressed file is never stored. The target is removed when storing fails
+     *
+     * @param nodeId   node id
+     * @param fileName file name given by the user
+     * @param target   target file or dir, not yet created
+     * @param content  uploaded content
+     * @return upload data result view object, the extracted csv files are listed for an archive
+     */
+    private UploadDataResultVO store(String nodeId, String fileName, File target, InputStream content) {
+        String fileType = fileType(fileName);
+        boolean compressed = !CSV_FILE_TYPE.equals(fileType);
+        long start = System.currentTimeMillis();
+        try {
+            if (ARCHIVE_FILE_TYPE.contains(fileType)) {
+                return storeArchive(nodeId, fileName, target, content, fileType);
+            }
+            String contentHash = compressed ? write(new GzipCompressorInputStream(content, true), target, maxExtractedBytes)
+                    : write(content, target, Long.MAX_VALUE);
+            if (compressed) {
+                LOGGER.info("decompressed {} of node {} to {} in {} ms: {} bytes", fileName, nodeId, target.getName(),
+                        System.currentTimeMillis() - start, target.length());
+            }
+            return storedFile(nodeId, fileName, target.getName(), target, contentHash);
+        } catch (IOException e) {
+            FileSystemUtils.deleteRecursively(target);
+            LOGGER.error("store upload {} of node {} failed: {}", fileName, nodeId, e.getMessage());
+            if (compressed) {
+                throw SecretpadException.of(DataErrorCode.COMPRESSED_FILE_INVALID, e.getMessage());
+            }
+            throw SecretpadException.of(SystemErrorCode.UNKNOWN_ERROR, e);
+        }
+    }
+
+    /**
+     * Extract an uploaded archive into the target dir, zip entries are inflated in parallel
+     */
+    private UploadDataResultVO storeArchive(String nodeId, String fileName, File targetDir, InputStream content, String fileType)
+            throws IOException {
+        long start = System.currentTimeMillis();
+        Path dir = targetDir.toPath();
+        List<Path> files = ZIP_FILE_TYPE.equals(fileType) ? zipExtractor.extract(content, dir, maxExtractedBytes)
+                : CompressUtils.extractTarGz(content, dir, maxExtractedBytes);
+        LOGGER.info("extracted {} of node {} to {} in {} ms: {} files", fileName, nodeId, targetDir.getName(),
+                System.currentTimeMillis() - start, files.size());
+        List<UploadDataResultVO> stored = new ArrayList<>();
+        for (Path file : files) {
+            String entryName = dir.relativize(file).toString().replace(File.separatorChar, '/');
+            // only csv files can be created as datatables, other files are kept along
+            if (!entryName.endsWith(CSV_FILE_TYPE)) {
+                continue;
+            }
+            String contentHash = uploadDedup ? Sha256Utils.fileHash(file.toString()) : null;
+            stored.add(storedFile(nodeId, entryName, targetDir.getName() + FILE_SEPETATOR + entryName, file.toFile(), contentHash));
+        }
+        UploadDataResultVO result = buildUploadResult(fileName, targetDir.getName(), null);
+        result.setFiles(stored);
+        return result;
+    }
+
+    /**
+     * Profile and deduplicate a stored csv file
+     *
+     * @param nodeId      node id
+     * @param fileName    file name given by the user
+     * @param realName    relative uri of the file under the data dir of the node
+     * @param file        stored file
+     * @param contentHash sha-256 hex of the content, null when deduplication is off
+     * @return upload data result view object
+     */
+    private UploadDataResultVO storedFile(String nodeId, String fileName, String realName, File file, String contentHash) {
+        UploadDataResultVO result = buildUploadResult(fileName, realName, profile(nodeId, file, realName));
+        if (contentHash != null) {
+            result.setContentHash(contentHash);
+            result.setDeduplicated(deduplicate(nodeId, file, contentHash));
+        }
+        return result;
+    }
+
+    /**
+     * Write uploaded content to its target, hashed in the same pass when deduplication is on
+     *
+     * @param in       content
+     * @param target   target file, not yet created
+     * @param maxBytes max bytes written
+     * @return sha-256 hex of the content, null when deduplication is off
+     */
+    private String write(InputStream in, File target, long maxBytes) throws IOException {
+        MessageDigest digest = uploadDedup ? newDigest() : null;
+        long written = 0;
+        try (OutputStream out = Files.newOutputStream(target.toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            byte[] buf = new byte[UPLOAD_BUFFER_SIZE];
+            int len;
+            while ((len = in.read(buf)) > 0) {
+                written += len;
+                if (written > maxBytes) {
+                    throw new IOException("decompressed size exceeds the limit of " + maxBytes + " bytes");
+                }
+                if (digest != null) {
+                    digest.update(buf, 0, len);
+                }
+                out.write(buf, 0, len);
+            }
+        }
+        return digest == null ? null : HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Share the storage of an upload with earlier uploads of the same content, the upload is kept as is when it fails
+     *
+     * @param nodeId      node id
+     * @param target      uploaded file
+     * @param contentHash sha-256 hex of the content
+     * @return whether the content was stored already
+     */
+    private boolean deduplicate(String nodeId, File target, String contentHash) {
+        try {
+            boolean deduplicated = contentAddressedStore.deduplicate(nodeId, target, contentHash);
+            LOGGER.info("upload {} of node {} has content {}, stored already: {}", target.getName(), nodeId, contentHash, deduplicated);
+            return deduplicated;
+        } catch (Exception e) {
+            LOGGER.warn("deduplicate upload {} of node {} failed: {}", target.getName(), nodeId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Open a chunked upload session
+     *
+     * @param uploadId upload id
+     * @return upload session data object
+     */
+    private UploadSessionDO openUploadSession(String uploadId) {
+        return uploadSessionRepository.findById(uploadId)
+                .orElseThrow(() -> SecretpadException.of(DataErrorCode.UPLOAD_SESSION_NOT_EXISTS));
+    }
+
+    /**
+     * Hidden partial file chunks are written into, renamed to the target once complete
+     *
+     * @param target target file
+     * @return partial file
+     */
+    private File partialFile(File target) {
+        return new File(target.getParentFile(), "." + target.getName() + UPLOADING_SUFFIX);
+    }
+
+    private File partialFile(UploadSessionDO session) {
+        return partialFile(new File(storeDir + session.getNodeId() + FILE_SEPETATOR + session.getRealName()));
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw SecretpadException.of(SystemErrorCode.UNKNOWN_ERROR, e);
+        }
+    }
+
     /**
      * Create directory if not exists
      *
@@ -205,13 +900,23 @@ public class DataServiceImpl implements DataService {
             LOGGER.error("The user input filName {} contains / or \\, which will cause cross dir attack!", fileName);
             throw SecretpadException.of(DataErrorCode.ILLEGAL_PARAMS_ERROR, "file name cannot contains \\ or /");
         }
-        String suffixName = fileName.substring(fileName.lastIndexOf('.'));
-        if (!SUPPORT_FILE_TYPE.contains(suffixName)) {
+        if (fileType(fileName) == null) {
+            String suffixName = fileName.lastIndexOf('.') < 0 ? fileName : fileName.substring(fileName.lastIndexOf('.'));
             LOGGER.error("The user input fileName {} type {} not support yet.", fileName, suffixName);
             throw SecretpadException.of(DataErrorCode.FILE_TYPE_NOT_SUPPORT, "does not support " + suffixName + " type file.");
         }
     }
 
+    /**
+     * Supported file type of a file name
+     *
+     * @param fileName file name
+     * @return file type suffix, null when not supported
+     */
+    private static String fileType(String fileName) {
+        return SUPPORT_FILE_TYPE.stream().filter(fileName::endsWith).findFirst().orElse(null);
+    }
+
     /**
      * Build random file name via random Integer
      *
@@ -219,8 +924,10 @@ public class DataServiceImpl implements DataService {
      * @return random file name
      */
     private String getRandomFileName(String fileName) {
-        String prefix = fileName.substring(0, fileName.lastIndexOf('.'));
-        String suffixName = fileName.substring(fileName.lastIndexOf('.'));
+        String fileType = fileType(fileName);
+        String prefix = fileName.substring(0, fileName.length() - fileType.length());
+        // a compressed csv is stored decompressed and an archive as a dir of its files
+        String suffixName = ARCHIVE_FILE_TYPE.contains(fileType) ? "" : CSV_FILE_TYPE;
         String randomFileName = prefix + "_" + RANDOM.nextInt(Integer.MAX_VALUE) + suffixName;
         LOGGER.info("generate random upload file name: {}", randomFileName);
         return randomFileName;
@@ -21,11 +21,14 @@ import org.secretflow.secretpad.common.exception.SecretpadException;
 import org.secretflow.secretpad.manager.integration.datatable.AbstractDatatableManager;
 import org.secretflow.secretpad.manager.integration.model.DatatableDTO;
 import org.secretflow.secretpad.manager.integration.model.DatatableListDTO;
+import org.secretflow.secretpad.persistence.entity.DatatableProfileDO;
 import org.secretflow.secretpad.persistence.entity.ProjectDO;
 import org.secretflow.secretpad.persistence.entity.ProjectDatatableDO;
+import org.secretflow.secretpad.persistence.repository.DatatableProfileRepository;
 import org.secretflow.secretpad.persistence.repository.ProjectDatatableRepository;
 import org.secretflow.secretpad.persistence.repository.ProjectRepository;
 import org.secretflow.secretpad.service.DatatableService;
+import org.secretflow.secretpad.service.model.data.DataProfileVO;
 import org.secretflow.secretpad.service.model.datatable.*;
 
 import com.google.common.collect.Lists;
@@ -63,6 +66,9 @@ public class DatatableServiceImpl implements DatatableService {
     @Autowired
     private ProjectDatatableRepository projectDatatableRepository;
 
+    @Autowired
+    private DatatableProfileRepository datatableProfileRepository;
+
     @Override
     public DatatableListVO listDatatablesByNodeId(ListDatatableRequest request) {
         LOGGER.info("List data table by nodeId = {}", request.getNodeId());
@@ -108,8 +114,13 @@ public class DatatableServiceImpl implements DatatableService {
 
         Map<String, List<Pair<ProjectDatatableDO, ProjectDO>>> datatableAuthPairs =
                 getAuthProjectPairs(request.getNodeId(), Lists.newArrayList(dto.getDatatableId()));
-        return DatatableVO.from(dto, datatableAuthPairs.containsKey(dto.getDatatableId()) ?
+        DatatableVO datatableVO = DatatableVO.from(dto, datatableAuthPairs.containsKey(dto.getDatatableId()) ?
                 AuthProjectVO.fromPairs(datatableAuthPairs.get(dto.getDatatableId())) : null);
+        if (dto.getRelativeUri() != null) {
+            datatableProfileRepository.findById(new DatatableProfileDO.UPK(request.getNodeId(), dto.getRelativeUri()))
+                    .ifPresent(it -> datatableVO.setProfile(DataProfileVO.from(it)));
+        }
+        return datatableVO;
     }
 
     @Override
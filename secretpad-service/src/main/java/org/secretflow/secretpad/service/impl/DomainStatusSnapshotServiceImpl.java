@@ -0,0 +1,176 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service.impl;
+
+import org.secretflow.secretpad.manager.integration.model.NodeDTO;
+import org.secretflow.secretpad.manager.integration.node.AbstractNodeManager;
+import org.secretflow.secretpad.manager.integration.noderoute.AbstractNodeRouteManager;
+import org.secretflow.secretpad.persistence.entity.NodeRouteDO;
+import org.secretflow.secretpad.persistence.repository.NodeRouteRepository;
+import org.secretflow.secretpad.service.DomainStatusSnapshotService;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.secretflow.v1alpha1.kusciaapi.DomainRoute;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Domain status snapshot service implementation class
+ * <p>
+ * Node and route statuses are refreshed with kuscia batch queries on a fixed interval and kept with their refresh time,
+ * domain details are queried only for nodes new to the snapshot.
+ * Reads are served from the snapshot while it is younger than ttl, otherwise kuscia is queried synchronously.
+ *
+ * @author yansi
+ * @date 2023/9/7
+ */
+@Slf4j
+@Service
+public class DomainStatusSnapshotServiceImpl implements DomainStatusSnapshotService {
+
+    @Autowired
+    private AbstractNodeManager nodeManager;
+
+    @Autowired
+    private AbstractNodeRouteManager nodeRouteManager;
+
+    @Autowired
+    private NodeRouteRepository nodeRouteRepository;
+
+    @Value("${secretpad.status-snapshot.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Max age of a snapshot entry to be served
+     */
+    @Value("${secretpad.status-snapshot.ttl-millis:30000}")
+    private long ttlMillis;
+
+    private final Map<String, Timestamped<NodeDTO>> nodes = new ConcurrentHashMap<>();
+
+    private final Map<String, Timestamped<Optional<DomainRoute.RouteStatus>>> routes = new ConcurrentHashMap<>();
+
+    @Override
+    public NodeDTO getNode(String nodeId, boolean forceRefresh) {
+        Timestamped<NodeDTO> node = nodes.get(nodeId);
+        if (!forceRefresh && isFresh(node)) {
+            return node.getValue();
+        }
+        NodeDTO nodeDTO = nodeManager.getNode(nodeId);
+        nodes.put(nodeId, new Timestamped<>(nodeDTO, System.currentTimeMillis()));
+        return nodeDTO;
+    }
+
+    @Override
+    public DomainRoute.RouteStatus getRouteStatus(String srcNodeId, String dstNodeId, boolean forceRefresh) {
+        String key = routeKey(srcNodeId, dstNodeId);
+        Timestamped<Optional<DomainRoute.RouteStatus>> status = routes.get(key);
+        if (!forceRefresh && isFresh(status)) {
+            return status.getValue().orElse(null);
+        }
+        DomainRoute.RouteStatus routeStatus = nodeRouteManager.getRouteStatus(srcNodeId, dstNodeId);
+        routes.put(key, new Timestamped<>(Optional.ofNullable(routeStatus), System.currentTimeMillis()));
+        return routeStatus;
+    }
+
+    @Override
+    public void refreshRoutes(Collection<NodeRouteDO> routeDOList) {
+        long now = System.currentTimeMillis();
+        List<DomainRoute.DomainRouteKey> routeKeys = routeDOList.stream()
+                .map(it -> DomainRoute.DomainRouteKey.newBuilder().setSource(it.getSrcNodeId()).setDestination(it.getDstNodeId()).build())
+                .collect(Collectors.toList());
+        Map<String, DomainRoute.RouteStatus> statuses = nodeRouteManager.batchGetRouteStatus(routeKeys).stream()
+                .collect(Collectors.toMap(it -> routeKey(it.getSource(), it.getDestination()), DomainRoute.DomainRouteStatus::getStatus, (a, b) -> a));
+        routeKeys.forEach(it -> {
+            String key = routeKey(it.getSource(), it.getDestination());
+            routes.put(key, new Timestamped<>(Optional.ofNullable(statuses.get(key)), now));
+        });
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${secretpad.status-snapshot.initial-delay-millis:10000}",
+            fixedDelayString = "${secretpad.status-snapshot.interval-millis:10000}")
+    public void refreshAll() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            // statuses come from one batch query, cert and role of known nodes are kept
+            Map<String, NodeDTO> knownNodes = new HashMap<>();
+            nodes.forEach((nodeId, node) -> {
+                if (node.getValue() != null) {
+                    knownNodes.put(nodeId, node.getValue());
+                }
+            });
+            List<NodeDTO> nodeDTOList = nodeManager.listNodeStatus(knownNodes);
+            Set<String> nodeIds = new HashSet<>();
+            nodeDTOList.forEach(it -> {
+                nodeIds.add(it.getNodeId());
+                nodes.put(it.getNodeId(), new Timestamped<>(it, start));
+            });
+            nodes.keySet().retainAll(nodeIds);
+        } catch (Exception e) {
+            log.warn("refresh domain status snapshot failed", e);
+        }
+        try {
+            List<NodeRouteDO> routeDOList = nodeRouteRepository.findAll();
+            refreshRoutes(routeDOList);
+            Set<String> routeKeys = routeDOList.stream().map(it -> routeKey(it.getSrcNodeId(), it.getDstNodeId())).collect(Collectors.toSet());
+            routes.keySet().retainAll(routeKeys);
+        } catch (Exception e) {
+            log.warn("refresh domain route status snapshot failed", e);
+        }
+        log.debug("refresh domain status snapshot cost {} ms", System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public void evictNode(String nodeId) {
+        nodes.remove(nodeId);
+    }
+
+    @Override
+    public void evictRoute(String srcNodeId, String dstNodeId) {
+        routes.remove(routeKey(srcNodeId, dstNodeId));
+    }
+
+    private boolean isFresh(Timestamped<?> entry) {
+        return entry != null && System.currentTimeMillis() - entry.getTimestamp() < ttlMillis;
+    }
+
+    private String routeKey(String srcNodeId, String dstNodeId) {
+        return srcNodeId + "->" + dstNodeId;
+    }
+
+    /**
+     * Snapshot entry with its refresh time
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class Timestamped<T> {
+        private final T value;
+        private final long timestamp;
+    }
+}
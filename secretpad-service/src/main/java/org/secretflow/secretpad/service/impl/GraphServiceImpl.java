@@ -26,17 +26,21 @@ import org.secretflow.secretpad.common.util.ProtoUtils;
 import org.secretflow.secretpad.common.util.UUIDUtils;
 import org.secretflow.secretpad.manager.integration.datatable.AbstractDatatableManager;
 import org.secretflow.secretpad.manager.integration.model.DatatableDTO;
+import org.secretflow.secretpad.manager.integration.model.NodeRouteDTO;
 import org.secretflow.secretpad.manager.integration.node.AbstractNodeManager;
-import org.secretflow.secretpad.manager.integration.noderoute.AbstractNodeRouteManager;
+import org.secretflow.secretpad.manager.integration.search.AbstractSearchIndexManager;
 import org.secretflow.secretpad.persistence.entity.*;
 import org.secretflow.secretpad.persistence.model.GraphJobStatus;
 import org.secretflow.secretpad.persistence.model.GraphNodeTaskStatus;
 import org.secretflow.secretpad.persistence.model.ResultKind;
+import org.secretflow.secretpad.persistence.model.SearchDocumentKind;
+import org.secretflow.secretpad.persistence.projection.GraphNodeLayoutProjection;
 import org.secretflow.secretpad.persistence.projection.ProjectJobStatus;
 import org.secretflow.secretpad.persistence.repository.*;
 import org.secretflow.secretpad.service.ComponentService;
 import org.secretflow.secretpad.service.GraphService;
 import org.secretflow.secretpad.service.ProjectService;
+import org.secretflow.secretpad.service.RouteTopologyService;
 import org.secretflow.secretpad.service.graph.ComponentTools;
 import org.secretflow.secretpad.service.graph.JobChain;
 import org.secretflow.secretpad.service.model.graph.*;
@@ -108,11 +112,14 @@ public class GraphServiceImpl implements GraphService {
     private AbstractNodeManager nodeManager;
 
     @Autowired
-    private AbstractNodeRouteManager nodeRouteManager;
+    private RouteTopologyService routeTopologyService;
 
     @Autowired
     private NodeRepository nodeRepository;
 
+    @Autowired
+    private AbstractSearchIndexManager searchIndexManager;
+
     @Override
     public CompListVO listComponents() {
         return componentService.listComponents();
@@ -149,12 +156,14 @@ public class GraphServiceImpl implements GraphService {
             graphDO.setEdges(edges.stream().map(edge -> GraphEdge.toDO(edge)).collect(Collectors.toList()));
         }
         graphRepository.save(graphDO);
+        searchIndexManager.index(SearchDocumentKind.Graph, projectId, null, graphId, name);
         return CreateGraphVO.builder().graphId(graphId).build();
     }
 
     @Override
     public void deleteGraph(DeleteGraphRequest request) {
         graphRepository.deleteById(new ProjectGraphDO.UPK(request.getProjectId(), request.getGraphId()));
+        searchIndexManager.remove(SearchDocumentKind.Graph, request.getProjectId(), null, request.getGraphId());
     }
 
     @Override
@@ -175,6 +184,7 @@ public class GraphServiceImpl implements GraphService {
         ProjectGraphDO graphDO = graphDOOptional.get();
         graphDO.setName(request.getName());
         graphRepository.save(graphDO);
+        searchIndexManager.index(SearchDocumentKind.Graph, request.getProjectId(), null, request.getGraphId(), request.getName());
     }
 
     @Transactional(rollbackFor = Exception.class)
@@ -219,6 +229,27 @@ public class GraphServiceImpl implements GraphService {
         return GraphDetailVO.fromDO(graphDO, nodeStatus);
     }
 
+    @Override
+    public GraphDetailVO getGraphDetailSlim(GetGraphRequest request) {
+        String projectId = request.getProjectId();
+        String graphId = request.getGraphId();
+        Optional<ProjectGraphDO> graphDOOptional = graphRepository.findById(new ProjectGraphDO.UPK(projectId, graphId));
+        if (graphDOOptional.isEmpty()) {
+            throw SecretpadException.of(GraphErrorCode.GRAPH_NOT_EXISTS);
+        }
+        List<GraphNodeLayoutProjection> layouts = graphNodeRepository.findLayoutByGraphId(projectId, graphId);
+        List<String> graphNodeIds = layouts.stream().map(GraphNodeLayoutProjection::getGraphNodeId).collect(Collectors.toList());
+        List<GraphNodeStatusVO> nodeStatus = getLatestTaskStatus(projectId, graphNodeIds).getNodes();
+        return GraphDetailVO.fromLayout(graphDOOptional.get(), layouts, nodeStatus);
+    }
+
+    @Override
+    public List<GraphNodeInfo> batchGetGraphNode(BatchGetGraphNodeRequest request) {
+        List<ProjectGraphNodeDO> graphNodeDOS = graphNodeRepository.findByGraphNodeIds(request.getProjectId(), request.getGraphId(),
+                request.getGraphNodeIds().stream().distinct().collect(Collectors.toList()));
+        return GraphNodeInfo.fromDOList(graphNodeDOS);
+    }
+
     @Override
     public GraphNodeOutputVO getGraphNodeOutput(GraphNodeOutputRequest request) {
         String projectId = request.getProjectId();
@@ -462,15 +493,26 @@ public class GraphServiceImpl implements GraphService {
      * @return latest graph task status
      */
     public GraphStatus getLatestTaskStatus(ProjectGraphDO graphDO) {
-        String projectId = graphDO.getUpk().getProjectId();
         List<ProjectGraphNodeDO> nodes = graphDO.getNodes();
+        List<String> graphNodeIds = CollectionUtils.isEmpty(nodes) ? Collections.emptyList() :
+                nodes.stream().map(node -> node.getUpk().getGraphNodeId()).collect(Collectors.toList());
+        return getLatestTaskStatus(graphDO.getUpk().getProjectId(), graphNodeIds);
+    }
+
+    /**
+     * Find latest task status by projectId and graphNodeIds
+     *
+     * @param projectId    target projectId
+     * @param graphNodeIds target graphNodeId list
+     * @return latest graph task status
+     */
+    private GraphStatus getLatestTaskStatus(String projectId, List<String> graphNodeIds) {
         GraphStatus graphStatus = new GraphStatus();
         List<GraphNodeStatusVO> nodeStatus = new ArrayList<>();
         List<String> jobIds = new ArrayList<>();
 
         // find the latest task associated with graphNode
-        if (!CollectionUtils.isEmpty(nodes)) {
-            List<String> graphNodeIds = nodes.stream().map(node -> node.getUpk().getGraphNodeId()).collect(Collectors.toList());
+        if (!CollectionUtils.isEmpty(graphNodeIds)) {
             for (String graphNodeId : graphNodeIds) {
                 GraphNodeStatusVO nodeStatusVO = new GraphNodeStatusVO();
                 nodeStatusVO.setGraphNodeId(graphNodeId);
@@ -543,23 +585,22 @@ public class GraphServiceImpl implements GraphService {
 
     public void verifyNodeAndRouteHealthy(Set<String> parties) {
         log.info("before graph run healthy check: {}", parties);
+        Set<String> readyNodeIds = nodeManager.filterReadyNodes(new ArrayList<>(parties));
         parties.forEach(node -> {
-            if (!nodeManager.checkNodeReady(node)) {
+            if (!readyNodeIds.contains(node)) {
                 NodeDO nodeDO = nodeRepository.findByNodeId(node);
                 String msg = ObjectUtils.isEmpty(nodeDO) ? node : nodeDO.getName();
                 throw SecretpadException.of(GraphErrorCode.GRAPH_NODE_NOT_EXISTS, msg);
             }
         });
-        for (String partySrc : parties) {
-            for (String partyDst : parties) {
-                if (!partySrc.equals(partyDst) && !nodeRouteManager.checkNodeRouteReady(partySrc, partyDst)) {
-                    NodeDO partySrcNodeDO = nodeRepository.findByNodeId(partySrc);
-                    NodeDO partyDstNodeDO = nodeRepository.findByNodeId(partyDst);
-                    String msg1 = ObjectUtils.isEmpty(partySrcNodeDO) ? partySrc : partySrcNodeDO.getName();
-                    String msg2 = ObjectUtils.isEmpty(partyDstNodeDO) ? partyDst : partyDstNodeDO.getName();
-                    throw SecretpadException.of(GraphErrorCode.GRAPH_NODE_ROUTE_NOT_EXISTS, msg1 + "->" + msg2);
-                }
-            }
+        List<NodeRouteDTO> missingRoutes = routeTopologyService.missingRoutes(parties);
+        if (!missingRoutes.isEmpty()) {
+            NodeRouteDTO missing = missingRoutes.get(0);
+            NodeDO partySrcNodeDO = nodeRepository.findByNodeId(missing.getSrcNodeId());
+            NodeDO partyDstNodeDO = nodeRepository.findByNodeId(missing.getDstNodeId());
+            String msg1 = ObjectUtils.isEmpty(partySrcNodeDO) ? missing.getSrcNodeId() : partySrcNodeDO.getName();
+            String msg2 = ObjectUtils.isEmpty(partyDstNodeDO) ? missing.getDstNodeId() : partyDstNodeDO.getName();
+            throw SecretpadException.of(GraphErrorCode.GRAPH_NODE_ROUTE_NOT_EXISTS, msg1 + "->" + msg2);
         }
     }
 }
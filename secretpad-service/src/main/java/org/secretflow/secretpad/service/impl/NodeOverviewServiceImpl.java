@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service.impl;
+
+import org.secretflow.secretpad.manager.integration.datatable.AbstractDatatableManager;
+import org.secretflow.secretpad.manager.integration.model.DatatableDTO;
+import org.secretflow.secretpad.manager.integration.model.NodeDTO;
+import org.secretflow.secretpad.persistence.projection.CountProjection;
+import org.secretflow.secretpad.persistence.repository.ProjectResultRepository;
+import org.secretflow.secretpad.service.NodeOverviewService;
+import org.secretflow.secretpad.service.RouteTopologyService;
+import org.secretflow.secretpad.service.model.node.NodeVO;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Node overview service implementation class
+ *
+ * @author yansi
+ * @date 2023/9/7
+ */
+@Service
+public class NodeOverviewServiceImpl implements NodeOverviewService {
+
+    @Autowired
+    private AbstractDatatableManager datatableManager;
+
+    @Autowired
+    private RouteTopologyService routeTopologyService;
+
+    @Autowired
+    private ProjectResultRepository resultRepository;
+
+    @Override
+    public List<NodeVO> overview(List<NodeDTO> nodes) {
+        if (nodes.isEmpty()) {
+            return List.of();
+        }
+        List<String> nodeIds = nodes.stream().map(NodeDTO::getNodeId).collect(Collectors.toList());
+        Map<String, Long> resultCounts = CountProjection.toMap(resultRepository.countByNodeIds(nodeIds));
+        return nodes.stream()
+                .map(it -> NodeVO.from(it, listManualDatatables(it.getNodeId()),
+                        routeTopologyService.neighbors(it.getNodeId()), resultCounts.getOrDefault(it.getNodeId(), 0L)))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<DatatableDTO> listManualDatatables(String nodeId) {
+        return datatableManager.listCatalog(nodeId);
+    }
+}
@@ -18,19 +18,20 @@ package org.secretflow.secretpad.service.impl;
 
 import org.secretflow.secretpad.common.errorcode.NodeRouteErrorCode;
 import org.secretflow.secretpad.common.exception.SecretpadException;
+import org.secretflow.secretpad.manager.integration.model.BatchCreateNodeRouteParam;
 import org.secretflow.secretpad.manager.integration.model.CreateNodeRouteParam;
+import org.secretflow.secretpad.manager.integration.model.NodeRouteProvisionDTO;
 import org.secretflow.secretpad.manager.integration.model.UpdateNodeRouteParam;
 import org.secretflow.secretpad.manager.integration.noderoute.AbstractNodeRouteManager;
 import org.secretflow.secretpad.persistence.entity.NodeRouteDO;
 import org.secretflow.secretpad.persistence.repository.NodeRouteRepository;
+import org.secretflow.secretpad.service.DomainStatusSnapshotService;
 import org.secretflow.secretpad.service.NodeRouterService;
 import org.secretflow.secretpad.service.NodeService;
+import org.secretflow.secretpad.service.model.common.PageCursor;
 import org.secretflow.secretpad.service.model.common.SecretPadPageResponse;
 import org.secretflow.secretpad.service.model.node.NodeVO;
-import org.secretflow.secretpad.service.model.noderoute.CreateNodeRouterRequest;
-import org.secretflow.secretpad.service.model.noderoute.NodeRouterVO;
-import org.secretflow.secretpad.service.model.noderoute.PageNodeRouteRequest;
-import org.secretflow.secretpad.service.model.noderoute.UpdateNodeRouterRequest;
+import org.secretflow.secretpad.service.model.noderoute.*;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -45,6 +46,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * @author yutu
@@ -58,33 +60,68 @@ public class NodeRouterServiceImpl implements NodeRouterService {
     private final AbstractNodeRouteManager nodeRouteManager;
     private final NodeRouteRepository nodeRouteRepository;
     private final NodeService nodeService;
+    private final DomainStatusSnapshotService domainStatusSnapshotService;
 
     @Override
     public String createNodeRouter(CreateNodeRouterRequest request) {
-        return String.valueOf(nodeRouteManager.createNodeRoute(CreateNodeRouteParam.builder()
+        Long routeId = nodeRouteManager.createNodeRoute(CreateNodeRouteParam.builder()
                 .srcNodeId(request.getSrcNodeId())
                 .dstNodeId(request.getDstNodeId())
                 .routeType(request.getRouteType())
                 .srcNetAddress(replaceNetAddressProtocol(request.getSrcNetAddress()))
                 .dstNetAddress(replaceNetAddressProtocol(request.getDstNetAddress()))
-                .build(), true));
+                .build(), true);
+        domainStatusSnapshotService.evictRoute(request.getSrcNodeId(), request.getDstNodeId());
+        domainStatusSnapshotService.evictRoute(request.getDstNodeId(), request.getSrcNodeId());
+        return String.valueOf(routeId);
+    }
+
+    @Override
+    public List<NodeRouteProvisionVO> batchCreateNodeRouter(BatchCreateNodeRouterRequest request) {
+        List<CreateNodeRouteParam> pairs = CollectionUtils.isEmpty(request.getPairs()) ? null : request.getPairs().stream()
+                .map(pair -> CreateNodeRouteParam.builder()
+                        .srcNodeId(pair.getSrcNodeId())
+                        .dstNodeId(pair.getDstNodeId())
+                        .srcNetAddress(replaceNetAddressProtocol(pair.getSrcNetAddress()))
+                        .dstNetAddress(replaceNetAddressProtocol(pair.getDstNetAddress()))
+                        .routeType(pair.getRouteType())
+                        .build())
+                .collect(Collectors.toList());
+        List<NodeRouteProvisionDTO> results = nodeRouteManager.batchCreateNodeRoute(BatchCreateNodeRouteParam.builder()
+                .nodeIds(request.getNodeIds()).pairs(pairs).build());
+        results.stream().filter(result -> result.getResult() == NodeRouteProvisionDTO.Result.CREATED)
+                .forEach(result -> domainStatusSnapshotService.evictRoute(result.getSrcNodeId(), result.getDstNodeId()));
+        return results.stream().map(NodeRouteProvisionVO::fromDto).collect(Collectors.toList());
     }
 
     @Override
     public SecretPadPageResponse<NodeRouterVO> queryPage(PageNodeRouteRequest request, Pageable pageable) {
+        if (request.keyset()) {
+            return keysetPage(request);
+        }
         Page<NodeRouteDO> page = nodeRouteRepository.pageQuery(request.getNodeId(), request.getSearch(), pageable);
         SecretPadPageResponse<NodeRouterVO> data = SecretPadPageResponse.toPage(page.map(NodeRouterVO::fromDo));
-        data.getList().forEach(d -> {
-            d.setSrcNode(nodeService.getNode(d.getSrcNodeId()));
-            d.setDstNode(nodeService.getNode(d.getDstNodeId()));
-            DomainRoute.RouteStatus routeStatus = nodeRouteManager.getRouteStatus(d.getSrcNodeId(), d.getDstNodeId());
-            if (!ObjectUtils.isEmpty(routeStatus)) {
-                d.setStatus(routeStatus.getStatus());
-            }
-        });
+        data.getList().forEach(d -> fillStatus(d, false));
         return data;
     }
 
+    /**
+     * Keyset page of node routes, the cost of a page does not grow with its depth
+     *
+     * @param request page node route request
+     * @return node router page with next cursor
+     */
+    private SecretPadPageResponse<NodeRouterVO> keysetPage(PageNodeRouteRequest request) {
+        PageCursor cursor = PageCursor.decode(request.getCursor());
+        long total = cursor.isFirst() ? nodeRouteRepository.countQuery(request.getNodeId(), request.getSearch()) : cursor.getTotal();
+        List<NodeRouteDO> rows = nodeRouteRepository.keysetQuery(request.getNodeId(), request.getSearch(),
+                cursor.getGmtCreate(), cursor.getId(), PageCursor.fetchSize(request.getSize()));
+        String nextCursor = PageCursor.next(rows, request.getSize(), total, NodeRouteDO::getGmtCreate, NodeRouteDO::getId);
+        List<NodeRouterVO> data = rows.stream().limit(request.getSize()).map(NodeRouterVO::fromDo).collect(Collectors.toList());
+        data.forEach(d -> fillStatus(d, false));
+        return SecretPadPageResponse.toPage(data, total, nextCursor);
+    }
+
     @Override
     public void updateNodeRouter(UpdateNodeRouterRequest request) {
         nodeRouteManager.updateNodeRoute(UpdateNodeRouteParam.builder()
@@ -92,23 +129,41 @@ public class NodeRouterServiceImpl implements NodeRouterService {
                 .srcNetAddress(replaceNetAddressProtocol(request.getSrcNetAddress()))
                 .dstNetAddress(replaceNetAddressProtocol(request.getDstNetAddress()))
                 .build());
+        NodeRouteDO nodeRouteDO = nodeRouteRepository.findByRouteId(Long.parseLong(request.getRouterId()));
+        if (!ObjectUtils.isEmpty(nodeRouteDO)) {
+            domainStatusSnapshotService.evictRoute(nodeRouteDO.getSrcNodeId(), nodeRouteDO.getDstNodeId());
+        }
     }
 
     @Override
     public NodeRouterVO getNodeRouter(Long routeId) {
+        return getNodeRouter(routeId, false);
+    }
+
+    private NodeRouterVO getNodeRouter(Long routeId, boolean forceRefresh) {
         NodeRouteDO byRouteId = nodeRouteRepository.findByRouteId(routeId);
         if (ObjectUtils.isEmpty(byRouteId)) {
             throw SecretpadException.of(NodeRouteErrorCode.NODE_ROUTE_NOT_EXIST_ERROR, "route not exist");
         }
         NodeRouterVO nodeRouterVO = NodeRouterVO.fromDo(byRouteId);
-        nodeRouterVO.setSrcNode(nodeService.getNode(nodeRouterVO.getSrcNodeId()));
-        nodeRouterVO.setDstNode(nodeService.getNode(nodeRouterVO.getDstNodeId()));
+        fillStatus(nodeRouterVO, forceRefresh);
+        return nodeRouterVO;
+    }
+
+    /**
+     * Fill nodes and route status from the domain status snapshot
+     *
+     * @param nodeRouterVO node router view object
+     * @param forceRefresh whether to query kuscia synchronously
+     */
+    private void fillStatus(NodeRouterVO nodeRouterVO, boolean forceRefresh) {
+        nodeRouterVO.setSrcNode(NodeVO.from(domainStatusSnapshotService.getNode(nodeRouterVO.getSrcNodeId(), forceRefresh), null, null, null));
+        nodeRouterVO.setDstNode(NodeVO.from(domainStatusSnapshotService.getNode(nodeRouterVO.getDstNodeId(), forceRefresh), null, null, null));
         DomainRoute.RouteStatus routeStatus =
-                nodeRouteManager.getRouteStatus(nodeRouterVO.getSrcNodeId(), nodeRouterVO.getDstNodeId());
+                domainStatusSnapshotService.getRouteStatus(nodeRouterVO.getSrcNodeId(), nodeRouterVO.getDstNodeId(), forceRefresh);
         if (!ObjectUtils.isEmpty(routeStatus)) {
             nodeRouterVO.setStatus(routeStatus.getStatus());
         }
-        return nodeRouterVO;
     }
 
     @Override
@@ -118,20 +173,30 @@ public class NodeRouterServiceImpl implements NodeRouterService {
 
     @Override
     public NodeRouterVO refreshRouter(Long routerId) {
-        return getNodeRouter(routerId);
+        return getNodeRouter(routerId, true);
     }
 
     @Override
     public void refreshRouters(Set<Long> routerIds) {
+        List<NodeRouteDO> routes;
         if (CollectionUtils.isEmpty(routerIds)) {
-            nodeRouteRepository.findAll().forEach(nodeRouteDO -> routerIds.add(nodeRouteDO.getId()));
+            routes = nodeRouteRepository.findAll();
+        } else {
+            routes = nodeRouteRepository.findAllById(routerIds);
+            if (routes.size() != routerIds.size()) {
+                throw SecretpadException.of(NodeRouteErrorCode.NODE_ROUTE_NOT_EXIST_ERROR, "route not exist");
+            }
         }
-        routerIds.forEach(this::getNodeRouter);
+        domainStatusSnapshotService.refreshRoutes(routes);
     }
 
     @Override
     public void deleteNodeRouter(Long routerId) {
+        NodeRouteDO nodeRouteDO = nodeRouteRepository.findByRouteId(routerId);
         nodeRouteManager.deleteNodeRoute(routerId);
+        if (!ObjectUtils.isEmpty(nodeRouteDO)) {
+            domainStatusSnapshotService.evictRoute(nodeRouteDO.getSrcNodeId(), nodeRouteDO.getDstNodeId());
+        }
     }
 
     private String replaceNetAddressProtocol(String netAddress) {
@@ -25,11 +25,13 @@ import org.secretflow.secretpad.manager.integration.model.*;
 import org.secretflow.secretpad.manager.integration.node.AbstractNodeManager;
 import org.secretflow.secretpad.persistence.entity.NodeDO;
 import org.secretflow.secretpad.persistence.repository.NodeRepository;
-import org.secretflow.secretpad.persistence.repository.ProjectResultRepository;
 import org.secretflow.secretpad.service.DataService;
+import org.secretflow.secretpad.service.DomainStatusSnapshotService;
 import org.secretflow.secretpad.service.GraphService;
+import org.secretflow.secretpad.service.NodeOverviewService;
 import org.secretflow.secretpad.service.NodeService;
 import org.secretflow.secretpad.service.ProjectService;
+import org.secretflow.secretpad.service.model.common.PageCursor;
 import org.secretflow.secretpad.service.model.common.SecretPadPageResponse;
 import org.secretflow.secretpad.service.model.data.DataSourceVO;
 import org.secretflow.secretpad.service.model.datatable.TableColumnVO;
@@ -65,9 +67,6 @@ public class NodeServiceImpl implements NodeService {
     @Autowired
     private AbstractDatatableManager datatableManager;
 
-    @Autowired
-    private ProjectResultRepository resultRepository;
-
     /**
      * Todo: part of the projectService logic should be brought into use in projectManager
      */
@@ -83,15 +82,14 @@ public class NodeServiceImpl implements NodeService {
     private NodeRepository nodeRepository;
     @Autowired
     public DataService dataService;
+    @Autowired
+    private NodeOverviewService nodeOverviewService;
+    @Autowired
+    private DomainStatusSnapshotService domainStatusSnapshotService;
 
     @Override
     public List<NodeVO> listNodes() {
-        List<NodeDTO> nodeDTOList = nodeManager.listNode();
-        return nodeDTOList.stream()
-                .map(it -> NodeVO.from(it,
-                        datatableManager.findByNodeId(it.getNodeId(), AbstractDatatableManager.DATA_VENDOR_MANUAL),
-                        nodeManager.findBySrcNodeId(it.getNodeId()), resultRepository.countByNodeId(it.getNodeId())))
-                .collect(Collectors.toList());
+        return nodeOverviewService.overview(nodeManager.listNode());
     }
 
     @Override
@@ -102,11 +100,12 @@ public class NodeServiceImpl implements NodeService {
     @Override
     public void deleteNode(String nodeId) {
         nodeManager.deleteNode(nodeId);
+        domainStatusSnapshotService.evictNode(nodeId);
     }
 
     @Override
     public NodeVO getNode(String nodeId) {
-        NodeDTO it = nodeManager.getNode(nodeId);
+        NodeDTO it = domainStatusSnapshotService.getNode(nodeId, false);
         return NodeVO.from(it, null, null, null);
     }
 
@@ -119,10 +118,14 @@ public class NodeServiceImpl implements NodeService {
         }
         nodeDO.setNetAddress(request.getNetAddress());
         nodeRepository.save(nodeDO);
+        domainStatusSnapshotService.evictNode(request.getNodeId());
     }
 
     @Override
     public SecretPadPageResponse<NodeVO> queryPage(PageNodeRequest request, Pageable pageable) {
+        if (request.keyset()) {
+            return keysetPage(request);
+        }
         Page<NodeDO> page = nodeRepository.findAll(
                 (root, criteriaQuery, criteriaBuilder) -> JpaQueryHelper.getPredicate(root, request, criteriaBuilder),
                 pageable);
@@ -130,11 +133,30 @@ public class NodeServiceImpl implements NodeService {
             return SecretPadPageResponse.toPage(null, 0);
         }
         List<NodeVO> data = page.stream()
-                .map(info -> NodeVO.from(nodeManager.getNode(info.getNodeId()), null, null, null))
+                .map(info -> NodeVO.from(domainStatusSnapshotService.getNode(info.getNodeId(), false), null, null, null))
                 .collect(Collectors.toList());
         return SecretPadPageResponse.toPage(data, page.getTotalElements());
     }
 
+    /**
+     * Keyset page of nodes, the cost of a page does not grow with its depth
+     *
+     * @param request page node request
+     * @return node page with next cursor
+     */
+    private SecretPadPageResponse<NodeVO> keysetPage(PageNodeRequest request) {
+        PageCursor cursor = PageCursor.decode(request.getCursor());
+        long total = cursor.isFirst() ? nodeRepository.count(
+                (root, criteriaQuery, criteriaBuilder) -> JpaQueryHelper.getPredicate(root, request, criteriaBuilder)) : cursor.getTotal();
+        List<NodeDO> rows = nodeRepository.keysetQuery(request.getSearch(), cursor.getGmtCreate(), cursor.getId(),
+                PageCursor.fetchSize(request.getSize()));
+        String nextCursor = PageCursor.next(rows, request.getSize(), total, NodeDO::getGmtCreate, NodeDO::getId);
+        List<NodeVO> data = rows.stream().limit(request.getSize())
+                .map(info -> NodeVO.from(domainStatusSnapshotService.getNode(info.getNodeId(), false), null, null, null))
+                .collect(Collectors.toList());
+        return SecretPadPageResponse.toPage(data, total, nextCursor);
+    }
+
     @Override
     public NodeResultsListVO listResults(ListNodeResultRequest request) {
         NodeResultListDTO nodeResultDTOList = nodeManager.listResult(ListResultParam.builder()
@@ -146,7 +168,7 @@ public class NodeServiceImpl implements NodeService {
 
     @Override
     public NodeVO refreshNode(String nodeId) {
-        return NodeVO.fromDto(nodeManager.refreshNode(nodeId));
+        return NodeVO.fromDto(domainStatusSnapshotService.getNode(nodeId, true));
     }
 
     @Override
@@ -24,14 +24,17 @@ import org.secretflow.secretpad.common.util.JsonUtils;
 import org.secretflow.secretpad.manager.integration.datatable.AbstractDatatableManager;
 import org.secretflow.secretpad.manager.integration.job.JobManager;
 import org.secretflow.secretpad.manager.integration.model.DatatableDTO;
+import org.secretflow.secretpad.manager.integration.search.AbstractSearchIndexManager;
 import org.secretflow.secretpad.persistence.entity.*;
 import org.secretflow.secretpad.persistence.model.GraphNodeTaskStatus;
 import org.secretflow.secretpad.persistence.model.ResultKind;
+import org.secretflow.secretpad.persistence.model.SearchDocumentKind;
 import org.secretflow.secretpad.persistence.projection.CountProjection;
 import org.secretflow.secretpad.persistence.projection.ProjectNodeProjection;
 import org.secretflow.secretpad.persistence.repository.*;
 import org.secretflow.secretpad.service.ProjectService;
 import org.secretflow.secretpad.service.constant.DemoConstants;
+import org.secretflow.secretpad.service.model.common.PageCursor;
 import org.secretflow.secretpad.service.model.datatable.TableColumnConfigVO;
 import org.secretflow.secretpad.service.model.graph.GraphDetailVO;
 import org.secretflow.secretpad.service.model.graph.GraphEdge;
@@ -106,12 +109,16 @@ public class ProjectServiceImpl implements ProjectService {
     @Autowired
     private JobServiceGrpc.JobServiceBlockingStub jobStub;
 
+    @Autowired
+    private AbstractSearchIndexManager searchIndexManager;
+
     @Override
     @Transactional
     public String createProject(CreateProjectRequest request) {
         ProjectDO projectDO =
                 ProjectDO.Factory.newProject(request.getName(), request.getDescription(), request.getComputeMode());
         projectRepository.save(projectDO);
+        searchIndexManager.index(SearchDocumentKind.Project, projectDO.getProjectId(), null, projectDO.getProjectId(), projectDO.getName());
         addInstToProject(new AddInstToProjectRequest(projectDO.getProjectId(), DemoConstants.DEMO_ALICE_INST_ID));
         addInstToProject(new AddInstToProjectRequest(projectDO.getProjectId(), DemoConstants.DEMO_BOB_INST_ID));
         return projectDO.getProjectId();
@@ -161,6 +168,7 @@ public class ProjectServiceImpl implements ProjectService {
             project.setDescription(request.getDescription());
         }
         projectRepository.save(project);
+        searchIndexManager.index(SearchDocumentKind.Project, request.getProjectId(), null, request.getProjectId(), project.getName());
     }
 
     @Override
@@ -171,6 +179,7 @@ public class ProjectServiceImpl implements ProjectService {
             throw SecretpadException.of(ProjectErrorCode.PROJECT_GRAPH_NOT_EMPTY);
         }
         projectRepository.deleteById(projectId);
+        searchIndexManager.removeProject(projectId);
     }
 
     /**
@@ -252,6 +261,9 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     public PageResponse<ProjectJobSummaryVO> listProjectJob(ListProjectJobRequest request) {
+        if (request.getCursor() != null) {
+            return keysetProjectJob(request);
+        }
         Page<ProjectJobDO> page = Strings.isNullOrEmpty(request.getGraphId()) ?
                 projectJobRepository.pageByProjectId(request.getProjectId(),
                         PageRequest.of(request.getPageNum() - 1, request.getPageSize(), Sort.Direction.DESC, DatabaseConstants.GMT_CREATE))
@@ -260,14 +272,45 @@ public class ProjectServiceImpl implements ProjectService {
         if (Objects.isNull(page) || page.getSize() == 0) {
             return PageResponse.of(1, request.getPageSize(), Collections.emptyList());
         }
-        List<String> jobIds = page.get().map(it -> it.getUpk().getJobId()).collect(Collectors.toList());
-        Map<String, Long> jobFedTableCounts = CountProjection.toMap(projectResultRepository.countByJobIds(request.getProjectId(), jobIds, ResultKind.FedTable));
-        Map<String, Long> jobModelCounts = CountProjection.toMap(projectResultRepository.countByJobIds(request.getProjectId(), jobIds, ResultKind.Model));
-        Map<String, Long> jobRuleCounts = CountProjection.toMap(projectResultRepository.countByJobIds(request.getProjectId(), jobIds, ResultKind.Rule));
-        Map<String, Long> reportRuleCounts = CountProjection.toMap(projectResultRepository.countByJobIds(request.getProjectId(), jobIds, ResultKind.Report));
-        Map<String, Long> finishedTaskCounts = CountProjection.toMap(projectJobRepository.countTasksByJobIds(request.getProjectId(), jobIds, GraphNodeTaskStatus.SUCCEED));
-        Map<String, Long> taskCounts = CountProjection.toMap(projectJobRepository.countTasksByJobIds(request.getProjectId(), jobIds));
-        List<ProjectJobSummaryVO> data = page.get().map(it ->
+        return PageResponse.of(page.getTotalPages(), request.getPageSize(), toJobSummaries(request.getProjectId(), page.getContent()));
+    }
+
+    /**
+     * Keyset page of project jobs, the cost of a page does not grow with its depth and concurrent new jobs do not shift later pages
+     *
+     * @param request list project job request
+     * @return project job summary page with next cursor
+     */
+    private PageResponse<ProjectJobSummaryVO> keysetProjectJob(ListProjectJobRequest request) {
+        PageCursor cursor = PageCursor.decode(request.getCursor());
+        boolean byGraph = !Strings.isNullOrEmpty(request.getGraphId());
+        long total = cursor.getTotal();
+        if (cursor.isFirst()) {
+            total = byGraph ? projectJobRepository.countByProjectIdAndGraphId(request.getProjectId(), request.getGraphId())
+                    : projectJobRepository.countByProjectId(request.getProjectId());
+        }
+        int fetchSize = PageCursor.fetchSize(request.getPageSize());
+        List<ProjectJobDO> rows = byGraph ?
+                projectJobRepository.keysetByProjectIdAndGraphId(request.getProjectId(), request.getGraphId(), cursor.getGmtCreate(), cursor.getId(), fetchSize)
+                : projectJobRepository.keysetByProjectId(request.getProjectId(), cursor.getGmtCreate(), cursor.getId(), fetchSize);
+        String nextCursor = PageCursor.next(rows, request.getPageSize(), total, ProjectJobDO::getGmtCreate, ProjectJobDO::getId);
+        List<ProjectJobDO> jobs = rows.subList(0, Math.min(rows.size(), request.getPageSize()));
+        int pageTotal = (int) Math.max(1, (total + request.getPageSize() - 1) / request.getPageSize());
+        return PageResponse.of(pageTotal, request.getPageSize(), toJobSummaries(request.getProjectId(), jobs), nextCursor);
+    }
+
+    private List<ProjectJobSummaryVO> toJobSummaries(String projectId, List<ProjectJobDO> jobs) {
+        if (jobs.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> jobIds = jobs.stream().map(it -> it.getUpk().getJobId()).collect(Collectors.toList());
+        Map<String, Long> jobFedTableCounts = CountProjection.toMap(projectResultRepository.countByJobIds(projectId, jobIds, ResultKind.FedTable));
+        Map<String, Long> jobModelCounts = CountProjection.toMap(projectResultRepository.countByJobIds(projectId, jobIds, ResultKind.Model));
+        Map<String, Long> jobRuleCounts = CountProjection.toMap(projectResultRepository.countByJobIds(projectId, jobIds, ResultKind.Rule));
+        Map<String, Long> reportRuleCounts = CountProjection.toMap(projectResultRepository.countByJobIds(projectId, jobIds, ResultKind.Report));
+        Map<String, Long> finishedTaskCounts = CountProjection.toMap(projectJobRepository.countTasksByJobIds(projectId, jobIds, GraphNodeTaskStatus.SUCCEED));
+        Map<String, Long> taskCounts = CountProjection.toMap(projectJobRepository.countTasksByJobIds(projectId, jobIds));
+        return jobs.stream().map(it ->
                 ProjectJobSummaryVO.of(it,
                         jobFedTableCounts.getOrDefault(it.getUpk().getJobId(), 0L),
                         jobModelCounts.getOrDefault(it.getUpk().getJobId(), 0L),
@@ -277,7 +320,6 @@ public class ProjectServiceImpl implements ProjectService {
                         taskCounts.getOrDefault(it.getUpk().getJobId(), 0L)
                 )
         ).collect(Collectors.toList());
-        return PageResponse.of(page.getTotalPages(), request.getPageSize(), data);
     }
 
     @Override
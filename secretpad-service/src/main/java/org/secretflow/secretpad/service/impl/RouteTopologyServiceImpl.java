@@ -0,0 +1,148 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service.impl;
+
+import org.secretflow.secretpad.common.constant.DomainRouterConstants;
+import org.secretflow.secretpad.manager.integration.model.NodeRouteDTO;
+import org.secretflow.secretpad.manager.integration.noderoute.NodeRouteChangedEvent;
+import org.secretflow.secretpad.persistence.entity.NodeRouteDO;
+import org.secretflow.secretpad.persistence.repository.NodeRouteRepository;
+import org.secretflow.secretpad.service.DomainStatusSnapshotService;
+import org.secretflow.secretpad.service.RouteTopologyService;
+
+import lombok.extern.slf4j.Slf4j;
+import org.secretflow.v1alpha1.kusciaapi.DomainRoute;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Route topology service implementation class
+ * <p>
+ * The adjacency of node_route is kept as an immutable map which is rebuilt after route changes are committed,
+ * route statuses come from the domain status snapshot, so connectivity checks do not touch the database.
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Slf4j
+@Service
+public class RouteTopologyServiceImpl implements RouteTopologyService {
+
+    @Autowired
+    private NodeRouteRepository nodeRouteRepository;
+
+    @Autowired
+    private DomainStatusSnapshotService domainStatusSnapshotService;
+
+    /**
+     * Map of source nodeId and map of destination nodeId and route, null until first used
+     */
+    private final AtomicReference<Map<String, Map<String, NodeRouteDO>>> adjacency = new AtomicReference<>();
+
+    @Override
+    public boolean isFullyConnected(Collection<String> parties) {
+        Map<String, Map<String, NodeRouteDO>> current = current();
+        // check existence of every edge first, statuses are only looked up when the topology is complete
+        for (String src : parties) {
+            for (String dst : parties) {
+                if (!src.equals(dst) && route(current, src, dst) == null) {
+                    return false;
+                }
+            }
+        }
+        return missingRoutes(parties).isEmpty();
+    }
+
+    @Override
+    public List<NodeRouteDTO> missingRoutes(Collection<String> parties) {
+        Map<String, Map<String, NodeRouteDO>> current = current();
+        List<NodeRouteDTO> missing = new ArrayList<>();
+        for (String src : parties) {
+            for (String dst : parties) {
+                if (src.equals(dst)) {
+                    continue;
+                }
+                NodeRouteDO route = route(current, src, dst);
+                if (route == null) {
+                    missing.add(NodeRouteDTO.builder().srcNodeId(src).dstNodeId(dst)
+                            .status(DomainRouterConstants.DomainRouterStatusEnum.Unknown.name()).build());
+                    continue;
+                }
+                DomainRoute.RouteStatus status = domainStatusSnapshotService.getRouteStatus(src, dst, false);
+                if (status == null || !DomainRouterConstants.DomainRouterStatusEnum.Succeeded.name().equals(status.getStatus())) {
+                    NodeRouteDTO dto = NodeRouteDTO.fromDo(route);
+                    if (status != null) {
+                        dto.setStatus(status.getStatus());
+                    }
+                    missing.add(dto);
+                }
+            }
+        }
+        return missing;
+    }
+
+    @Override
+    public List<NodeRouteDTO> neighbors(String nodeId) {
+        return current().getOrDefault(nodeId, Map.of()).values().stream()
+                .map(NodeRouteDTO::fromDo).collect(Collectors.toList());
+    }
+
+    @Override
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<NodeRouteDO> routes = nodeRouteRepository.findAll();
+        // keep the repository order of routes so that neighbors are listed stably
+        Map<String, Map<String, NodeRouteDO>> built = new HashMap<>();
+        routes.forEach(route -> built.computeIfAbsent(route.getSrcNodeId(), k -> new LinkedHashMap<>()).put(route.getDstNodeId(), route));
+        built.replaceAll((src, dsts) -> Collections.unmodifiableMap(dsts));
+        adjacency.set(Collections.unmodifiableMap(built));
+        log.debug("rebuild route topology with {} routes cost {} ms", routes.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Rebuild after route changes are committed, or at once when there is no transaction
+     *
+     * @param event node route changed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNodeRouteChanged(NodeRouteChangedEvent event) {
+        log.debug("node routes of {} changed, rebuild route topology", event.getNodeId());
+        rebuild();
+    }
+
+    private Map<String, Map<String, NodeRouteDO>> current() {
+        Map<String, Map<String, NodeRouteDO>> current = adjacency.get();
+        if (current == null) {
+            synchronized (adjacency) {
+                if (adjacency.get() == null) {
+                    rebuild();
+                }
+                current = adjacency.get();
+            }
+        }
+        return current;
+    }
+
+    private NodeRouteDO route(Map<String, Map<String, NodeRouteDO>> current, String src, String dst) {
+        return current.getOrDefault(src, Map.of()).get(dst);
+    }
+}
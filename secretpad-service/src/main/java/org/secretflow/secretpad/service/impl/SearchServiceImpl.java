@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.secretflow.secretpad.service.impl;
+
+import org.secretflow.secretpad.persistence.entity.SearchDocumentDO;
+import org.secretflow.secretpad.persistence.model.SearchDocumentKind;
+import org.secretflow.secretpad.persistence.repository.SearchDocumentRepository;
+import org.secretflow.secretpad.service.SearchService;
+import org.secretflow.secretpad.service.model.common.SecretPadPageResponse;
+import org.secretflow.secretpad.service.model.search.SearchHitVO;
+import org.secretflow.secretpad.service.model.search.SearchRequest;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Global search service implementation class, queries go to the fts5 trigram index and queries shorter than a trigram
+ * fall back to a substring scan of the documents
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Service
+public class SearchServiceImpl implements SearchService {
+
+    private static final int TRIGRAM = 3;
+
+    @Autowired
+    private SearchDocumentRepository searchDocumentRepository;
+
+    @Override
+    public SecretPadPageResponse<SearchHitVO> search(SearchRequest request) {
+        String query = request.getQuery().trim();
+        List<String> kinds = (CollectionUtils.isEmpty(request.getKinds()) ? Arrays.asList(SearchDocumentKind.values()) : request.getKinds())
+                .stream().map(SearchDocumentKind::name).distinct().collect(Collectors.toList());
+        String projectId = StringUtils.isBlank(request.getProjectId()) ? null : request.getProjectId();
+        int limit = Math.min(SearchRequest.MAX_SIZE, Math.max(1, request.getSize()));
+        int offset = (Math.max(1, request.getPage()) - 1) * limit;
+        List<SearchDocumentDO> documents;
+        long total;
+        if (query.codePointCount(0, query.length()) >= TRIGRAM) {
+            String match = "\"" + query.replace("\"", "\"\"") + "\"";
+            total = searchDocumentRepository.matchCount(match, kinds, projectId);
+            documents = total == 0 ? List.of() : searchDocumentRepository.matchQuery(match, query, kinds, projectId, limit, offset);
+        } else {
+            total = searchDocumentRepository.scanCount(query, kinds, projectId);
+            documents = total == 0 ? List.of() : searchDocumentRepository.scanQuery(query, kinds, projectId, limit, offset);
+        }
+        return SecretPadPageResponse.toPage(documents.stream().map(SearchHitVO::from).collect(Collectors.toList()), total);
+    }
+}
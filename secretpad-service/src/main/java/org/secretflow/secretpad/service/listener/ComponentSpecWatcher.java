@@ -0,0 +1,142 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service.listener;
+
+import org.secretflow.secretpad.service.graph.ComponentRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ResourceUtils;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Component spec watcher, reload the component registry when files under component spec or i18n locations change
+ *
+ * @author yansi
+ * @date 2023/9/5
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "component.spec.watch.enabled", havingValue = "true", matchIfMissing = true)
+public class ComponentSpecWatcher implements ApplicationListener<ApplicationReadyEvent>, DisposableBean {
+
+    @Autowired
+    private ComponentRegistry componentRegistry;
+
+    @Value("${component.i18n.location:./config/i18n}")
+    private String i18nLocation;
+
+    /**
+     * Quiet period to wait for a batch of file changes to settle before reloading
+     */
+    @Value("${component.spec.watch.debounce-millis:1000}")
+    private long debounceMillis;
+
+    private volatile WatchService watchService;
+
+    /**
+     * Start a daemon thread to watch component spec locations
+     *
+     * @param event application ready event
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (watchService != null) {
+            return;
+        }
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            List<String> locations = new ArrayList<>(Arrays.asList(componentRegistry.getLocations()));
+            locations.add(i18nLocation);
+            for (String location : locations) {
+                Path dir = ResourceUtils.getFile(location).toPath();
+                if (!Files.isDirectory(dir)) {
+                    log.warn("component spec location {} is not a directory, skip watching", dir);
+                    continue;
+                }
+                dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+                log.info("watching component spec location {}", dir);
+            }
+        } catch (IOException e) {
+            log.warn("watch component spec locations failed, hot reload disabled", e);
+            return;
+        }
+        Thread watcher = new Thread(this::watch, "component-spec-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = drain(key);
+                // wait until no more events arrive within the quiet period, then reload once
+                WatchKey next;
+                while ((next = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= drain(next);
+                }
+                if (changed) {
+                    componentRegistry.reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            log.info("component spec watcher closed");
+        }
+    }
+
+    /**
+     * Drain events of the key, changes of hidden files such as binary snapshots written by the registry itself are ignored
+     *
+     * @param key watch key
+     * @return whether any visible file changed
+     */
+    private boolean drain(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW || !(event.context() instanceof Path path)
+                    || !path.getFileName().toString().startsWith(".")) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+}
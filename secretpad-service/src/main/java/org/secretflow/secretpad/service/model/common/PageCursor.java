@@ -0,0 +1,129 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service.model.common;
+
+import org.secretflow.secretpad.common.errorcode.SystemErrorCode;
+import org.secretflow.secretpad.common.exception.SecretpadException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset page cursor, points at the (gmt_create, id) of the last row of the previous page in the order of gmt_create desc, id desc.
+ * The cursor is handed out to clients as an opaque url safe string, and it carries the total counted on the first page
+ * so that later pages do not need to count again.
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Getter
+@AllArgsConstructor
+public class PageCursor {
+
+    /**
+     * Same format as the sqlite CURRENT_TIMESTAMP default of gmt_create, so that it compares as text
+     */
+    private static final DateTimeFormatter GMT_CREATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Cursor of the first page, it sorts after every real row
+     */
+    private static final PageCursor FIRST = new PageCursor("9999-12-31 23:59:59", Long.MAX_VALUE, -1);
+
+    /**
+     * Gmt create of the last row, formatted as stored in database
+     */
+    private final String gmtCreate;
+
+    /**
+     * Id of the last row
+     */
+    private final Long id;
+
+    /**
+     * Total counted on the first page, negative when not counted yet
+     */
+    private final long total;
+
+    /**
+     * Decode a cursor from client, a blank cursor means the first page
+     *
+     * @param cursor opaque cursor string
+     * @return page cursor
+     */
+    public static PageCursor decode(String cursor) {
+        if (StringUtils.isBlank(cursor)) {
+            return FIRST;
+        }
+        try {
+            String[] parts = StringUtils.split(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8), SEPARATOR);
+            LocalDateTime.parse(parts[0], GMT_CREATE_FORMATTER);
+            return new PageCursor(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw SecretpadException.of(SystemErrorCode.VALIDATION_ERROR, "invalid page cursor");
+        }
+    }
+
+    /**
+     * Whether this is the cursor of the first page
+     *
+     * @return whether first page
+     */
+    public boolean isFirst() {
+        return total < 0;
+    }
+
+    /**
+     * Build the cursor of the next page from rows fetched with {@link #fetchSize(int)}
+     *
+     * @param rows      fetched rows, one more than the page size when there is a next page
+     * @param pageSize  page size
+     * @param total     total count
+     * @param gmtCreate gmt create getter
+     * @param id        id getter
+     * @param <T>       row type
+     * @return encoded cursor of the next page, null when there is no next page
+     */
+    public static <T> String next(List<T> rows, int pageSize, long total, Function<T, LocalDateTime> gmtCreate, Function<T, Long> id) {
+        if (rows.size() <= pageSize) {
+            return null;
+        }
+        T last = rows.get(pageSize - 1);
+        String raw = String.join(SEPARATOR, GMT_CREATE_FORMATTER.format(gmtCreate.apply(last)), String.valueOf(id.apply(last)), String.valueOf(total));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Rows to fetch for a page, the extra row tells whether there is a next page
+     *
+     * @param pageSize page size
+     * @return fetch size
+     */
+    public static int fetchSize(int pageSize) {
+        return pageSize + 1;
+    }
+}
@@ -54,6 +54,20 @@ public class SecretPadPageRequest {
      * sort，property,property(,ASC|DESC) "createdDate,desc"
      */
     private Map<String, String> sort;
+    /**
+     * keyset cursor, null for page number paging, empty for the first keyset page, otherwise the nextCursor of the previous response.
+     * keyset pages are always sorted by gmtCreate desc, id desc
+     */
+    private String cursor;
+
+    /**
+     * Whether keyset paging is requested
+     *
+     * @return whether keyset paging
+     */
+    public boolean keyset() {
+        return cursor != null;
+    }
 
     public Pageable of() {
         Map<String, String> sortMap = this.getSort();
@@ -45,6 +45,15 @@ public class SecretPadPageResponse<E> implements Serializable {
      */
     @Schema(description = "total")
     private long total;
+    /**
+     * cursor of the next page for keyset paging, null when there is no next page
+     */
+    @Schema(description = "cursor of the next page")
+    private String nextCursor;
+
+    public SecretPadPageResponse(List<E> list, long total) {
+        this(list, total, null);
+    }
 
     public static <T> SecretPadPageResponse<T> toPage(Page<T> page) {
         return new SecretPadPageResponse<>(page.getContent(), page.getTotalElements());
@@ -53,4 +62,8 @@ public class SecretPadPageResponse<E> implements Serializable {
     public static <T> SecretPadPageResponse<T> toPage(List<T> content, long totalElements) {
         return new SecretPadPageResponse<>(content, totalElements);
     }
+
+    public static <T> SecretPadPageResponse<T> toPage(List<T> content, long totalElements, String nextCursor) {
+        return new SecretPadPageResponse<>(content, totalElements, nextCursor);
+    }
 }
\ No newline at end of file
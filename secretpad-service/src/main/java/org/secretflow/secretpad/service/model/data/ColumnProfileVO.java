@@ -0,0 +1,88 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service.model.data;
+
+import org.secretflow.secretpad.persistence.entity.DatatableProfileDO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * Column profile view object
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ColumnProfileVO {
+    /**
+     * Column name
+     */
+    @Schema(description = "column name")
+    private String name;
+
+    /**
+     * Inferred column type, int, float, bool or str
+     */
+    @Schema(description = "inferred column type")
+    private String type;
+
+    /**
+     * Number of empty or null values
+     */
+    @Schema(description = "null count")
+    private Long nullCount;
+
+    /**
+     * Estimated number of distinct non null values
+     */
+    @Schema(description = "estimated distinct count")
+    private Long distinctCount;
+
+    /**
+     * Min value
+     */
+    @Schema(description = "min value")
+    private String min;
+
+    /**
+     * Max value
+     */
+    @Schema(description = "max value")
+    private String max;
+
+    /**
+     * Convert column profile view object from column profile
+     *
+     * @param column column profile
+     * @return column profile view object
+     */
+    public static ColumnProfileVO from(DatatableProfileDO.ColumnProfile column) {
+        return ColumnProfileVO.builder()
+                .name(column.getName())
+                .type(column.getType())
+                .nullCount(column.getNullCount())
+                .distinctCount(column.getDistinctCount())
+                .min(column.getMin())
+                .max(column.getMax())
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service.model.data;
+
+import org.secretflow.secretpad.service.model.datatable.TableColumnVO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Data preview view object, typed rows of a datatable or result
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DataPreviewVO {
+    /**
+     * Columns in file order with the types the values are converted to
+     */
+    @Schema(description = "columns in file order")
+    private List<TableColumnVO> columns;
+
+    /**
+     * Rows in file order, values are numbers, booleans or strings by column type, and null for missing values
+     */
+    @Schema(description = "rows in file order")
+    private List<List<Object>> rows;
+
+    /**
+     * Preview mode
+     */
+    @Schema(description = "preview mode")
+    private PreviewDataRequest.PreviewMode mode;
+
+    /**
+     * Whether the byte limit ended the preview before the rows asked for were read
+     */
+    @Schema(description = "whether the byte limit ended the preview early")
+    private Boolean truncated;
+
+    /**
+     * Bytes of the file read
+     */
+    @Schema(description = "bytes of the file read")
+    private Long bytesScanned;
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service.model.data;
+
+import org.secretflow.secretpad.manager.integration.model.DatatableSchema;
+import org.secretflow.secretpad.persistence.entity.DatatableProfileDO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Data profile view object, the inferred schema and column statistics of an uploaded csv file
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DataProfileVO {
+    /**
+     * Number of data rows
+     */
+    @Schema(description = "row count")
+    private Long rowCount;
+
+    /**
+     * Column profiles in file order
+     */
+    @Schema(description = "column profiles")
+    private List<ColumnProfileVO> columns;
+
+    /**
+     * Convert data profile view object from datatable profile data object
+     *
+     * @param profile datatable profile data object
+     * @return data profile view object
+     */
+    public static DataProfileVO from(DatatableProfileDO profile) {
+        return DataProfileVO.builder()
+                .rowCount(profile.getRowCount())
+                .columns(profile.getColumns().stream().map(ColumnProfileVO::from).collect(Collectors.toList()))
+                .build();
+    }
+
+    /**
+     * Datatable schema inferred from a datatable profile, ready for creating the datatable
+     *
+     * @param profile datatable profile data object
+     * @return datatable schema list
+     */
+    public static List<DatatableSchema> schemaOf(DatatableProfileDO profile) {
+        return profile.getColumns().stream()
+                .map(it -> DatatableSchema.builder().featureName(it.getName()).featureType(it.getType()).featureDescription("").build())
+                .collect(Collectors.toList());
+    }
+}
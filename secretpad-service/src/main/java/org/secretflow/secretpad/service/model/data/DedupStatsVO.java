@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service.model.data;
+
+import org.secretflow.secretpad.service.storage.ContentAddressedStore;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * Deduplication statistics view object of the uploads of a node
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DedupStatsVO {
+    /**
+     * Node id
+     */
+    @Schema(description = "node id")
+    private String nodeId;
+
+    /**
+     * Distinct contents stored
+     */
+    @Schema(description = "distinct contents stored")
+    private Long blobs;
+
+    /**
+     * Uploaded files sharing the stored contents
+     */
+    @Schema(description = "uploaded files")
+    private Long uploads;
+
+    /**
+     * Bytes on disk
+     */
+    @Schema(description = "bytes on disk")
+    private Long storedBytes;
+
+    /**
+     * Bytes the uploaded files would take without deduplication
+     */
+    @Schema(description = "bytes without deduplication")
+    private Long logicalBytes;
+
+    /**
+     * Bytes saved by deduplication
+     */
+    @Schema(description = "bytes saved")
+    private Long savedBytes;
+
+    /**
+     * Convert deduplication statistics view object from content addressed store statistics
+     *
+     * @param nodeId node id
+     * @param stats  content addressed store statistics
+     * @return deduplication statistics view object
+     */
+    public static DedupStatsVO from(String nodeId, ContentAddressedStore.Stats stats) {
+        return DedupStatsVO.builder()
+                .nodeId(nodeId)
+                .blobs(stats.getBlobs())
+                .uploads(stats.getUploads())
+                .storedBytes(stats.getStoredBytes())
+                .logicalBytes(stats.getLogicalBytes())
+                .savedBytes(stats.getSavedBytes())
+                .build();
+    }
+}
@@ -44,5 +44,11 @@ public class DownloadInfo {
     @Schema(description = "file path")
     private String filePath;
 
+    /**
+     * Whether the file path is a directory to be streamed as a tar.gz archive
+     */
+    @Schema(description = "whether the file path is a directory to be streamed as a tar.gz archive")
+    private boolean archive;
+
 
 }
\ No newline at end of file
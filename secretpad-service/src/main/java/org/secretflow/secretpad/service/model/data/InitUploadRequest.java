@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.secretflow.secretpad.service.model.data;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.*;
+
+/**
+ * Init chunked upload request
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Builder
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class InitUploadRequest {
+
+    /**
+     * Node id
+     */
+    @NotBlank
+    @Schema(description = "node id")
+    private String nodeId;
+
+    /**
+     * File name
+     */
+    @NotBlank
+    @Schema(description = "file name")
+    private String fileName;
+
+    /**
+     * File size in bytes
+     */
+    @NotNull
+    @PositiveOrZero
+    @Schema(description = "file size in bytes")
+    private Long fileSize;
+
+    /**
+     * Chunk size in bytes, null for the server default
+     */
+    @Positive
+    @Schema(description = "chunk size in bytes, null for the server default")
+    private Long chunkSize;
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service.model.data;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+/**
+ * Preview data request, previews either a datatable or a result of a node
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Builder
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PreviewDataRequest {
+
+    /**
+     * Node id
+     */
+    @NotBlank
+    @Schema(description = "node id")
+    private String nodeId;
+
+    /**
+     * Datatable id, exclusive with the domain data id
+     */
+    @Schema(description = "datatable id, exclusive with the domain data id")
+    private String datatableId;
+
+    /**
+     * Domain data id of a result, exclusive with the datatable id
+     */
+    @Schema(description = "domain data id of a result, exclusive with the datatable id")
+    private String domainDataId;
+
+    /**
+     * Project id, the column types of a datatable are taken from its table config in the project when given
+     */
+    @Schema(description = "project id, the column types of a datatable are taken from its table config in the project when given")
+    private String projectId;
+
+    /**
+     * Preview mode, HEAD by default
+     */
+    @Schema(description = "preview mode, HEAD or SAMPLE, HEAD by default")
+    private PreviewMode mode;
+
+    /**
+     * Max rows, null for the server default
+     */
+    @Positive
+    @Schema(description = "max rows, null for the server default")
+    private Integer rows;
+
+    /**
+     * Random seed of a sample, null for a different sample each time
+     */
+    @Schema(description = "random seed of a sample, null for a different sample each time")
+    private Long seed;
+
+    public enum PreviewMode {
+        /**
+         * The first rows
+         */
+        HEAD,
+        /**
+         * A random sample of rows in file order
+         */
+        SAMPLE
+    }
+}
@@ -16,11 +16,15 @@
 
 package org.secretflow.secretpad.service.model.data;
 
+import org.secretflow.secretpad.manager.integration.model.DatatableSchema;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.List;
+
 /**
  * Upload data result view object
  *
@@ -52,5 +56,30 @@ public class UploadDataResultVO {
      */
     @Schema(description = "data source type")
     private String datasourceType;
+    /**
+     * Datatable schema inferred from the uploaded file, null when the file could not be profiled
+     */
+    @Schema(description = "inferred datatable schema")
+    private List<DatatableSchema> datatableSchema;
+    /**
+     * Row count and column statistics of the uploaded file, null when the file could not be profiled
+     */
+    @Schema(description = "data profile")
+    private DataProfileVO profile;
+    /**
+     * Sha-256 hex of the uploaded content, null when upload deduplication is off
+     */
+    @Schema(description = "sha-256 of the content")
+    private String contentHash;
+    /**
+     * Whether the same content was uploaded to the node before and its storage is shared
+     */
+    @Schema(description = "whether the content was stored already")
+    private Boolean deduplicated;
+    /**
+     * Csv files extracted from an uploaded archive, each created as a datatable by its real name, null for other uploads
+     */
+    @Schema(description = "csv files extracted from an archive")
+    private List<UploadDataResultVO> files;
 
 }
\ No newline at end of file
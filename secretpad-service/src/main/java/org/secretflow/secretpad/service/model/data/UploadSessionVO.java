@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.secretflow.secretpad.service.model.data;
+
+import org.secretflow.secretpad.persistence.entity.UploadSessionDO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Chunked upload session view object
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Getter
+@Setter
+@Builder
+public class UploadSessionVO {
+    /**
+     * Upload id
+     */
+    @Schema(description = "upload id")
+    private String uploadId;
+
+    /**
+     * Node id
+     */
+    @Schema(description = "node id")
+    private String nodeId;
+
+    /**
+     * File name
+     */
+    @Schema(description = "file name")
+    private String name;
+
+    /**
+     * The real path to store the data once the upload completes
+     */
+    @Schema(description = "the real path to store the data")
+    private String realName;
+
+    /**
+     * File size in bytes
+     */
+    @Schema(description = "file size in bytes")
+    private Long fileSize;
+
+    /**
+     * Chunk size in bytes, chunk i starts at i * chunkSize and the last chunk may be shorter
+     */
+    @Schema(description = "chunk size in bytes")
+    private Long chunkSize;
+
+    /**
+     * Number of chunks
+     */
+    @Schema(description = "number of chunks")
+    private Integer chunkCount;
+
+    /**
+     * Indexes of received chunks
+     */
+    @Schema(description = "indexes of received chunks")
+    private List<Integer> uploadedChunks;
+
+    /**
+     * Convert upload session view object from upload session data object
+     *
+     * @param sessionDO      upload session data object
+     * @param uploadedChunks indexes of received chunks
+     * @return upload session view object
+     */
+    public static UploadSessionVO from(UploadSessionDO sessionDO, List<Integer> uploadedChunks) {
+        return UploadSessionVO.builder()
+                .uploadId(sessionDO.getUploadId())
+                .nodeId(sessionDO.getNodeId())
+                .name(sessionDO.getFileName())
+                .realName(sessionDO.getRealName())
+                .fileSize(sessionDO.getFileSize())
+                .chunkSize(sessionDO.getChunkSize())
+                .chunkCount(sessionDO.getChunkCount())
+                .uploadedChunks(uploadedChunks)
+                .build();
+    }
+}
@@ -17,6 +17,7 @@
 package org.secretflow.secretpad.service.model.datatable;
 
 import org.secretflow.secretpad.manager.integration.model.DatatableDTO;
+import org.secretflow.secretpad.service.model.data.DataProfileVO;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
@@ -82,6 +83,12 @@ public class DatatableVO {
     @Schema(description = "authorized project list")
     private List<AuthProjectVO> authProjects;
 
+    /**
+     * Profile of the uploaded file of the datatable, only filled in the datatable detail
+     */
+    @Schema(description = "data profile")
+    private DataProfileVO profile;
+
     /**
      * Convert datatable view object from datatable data transfer object and authorized project list
      *
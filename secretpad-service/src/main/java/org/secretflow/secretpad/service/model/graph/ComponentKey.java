@@ -36,4 +36,12 @@ public class ComponentKey {
      * Component name
      */
     private String name;
+    /**
+     * Component version, the latest registered version is used when it is blank
+     */
+    private String version;
+
+    public ComponentKey(String domain, String name) {
+        this(domain, name, null);
+    }
 }
@@ -41,6 +41,10 @@ public class GetComponentRequest {
      */
     @NotBlank
     private String name;
+    /**
+     * Component version, optional
+     */
+    private String version;
 
     /**
      * Build a new ComponentKey via get component request
@@ -49,7 +53,7 @@ public class GetComponentRequest {
      * @return a new ComponentKey
      */
     public static ComponentKey toComponentKey(GetComponentRequest request) {
-        return new ComponentKey(request.getDomain(), request.getName());
+        return new ComponentKey(request.getDomain(), request.getName(), request.getVersion());
     }
 
     /**
@@ -17,6 +17,7 @@
 package org.secretflow.secretpad.service.model.graph;
 
 import org.secretflow.secretpad.persistence.entity.ProjectGraphDO;
+import org.secretflow.secretpad.persistence.projection.GraphNodeLayoutProjection;
 
 import lombok.Builder;
 import lombok.Data;
@@ -70,4 +71,23 @@ public class GraphDetailVO {
                 .edges(GraphEdge.fromDOList(graphDO.getEdges()))
                 .build();
     }
+
+    /**
+     * Build a new slim graph detail view object from project graph data object, graph node layout projection list
+     * and graph node status view object list, node nodeDef is not included
+     *
+     * @param graphDO    project graph data object
+     * @param layouts    graph node layout projection list
+     * @param nodeStatus graph node status view object list
+     * @return a new slim graph detail view object
+     */
+    public static GraphDetailVO fromLayout(ProjectGraphDO graphDO, List<GraphNodeLayoutProjection> layouts, List<GraphNodeStatusVO> nodeStatus) {
+        return GraphDetailVO.builder()
+                .projectId(graphDO.getUpk().getProjectId())
+                .graphId(graphDO.getUpk().getGraphId())
+                .name(graphDO.getName())
+                .nodes(GraphNodeDetail.fromLayoutList(layouts, nodeStatus))
+                .edges(GraphEdge.fromDOList(graphDO.getEdges()))
+                .build();
+    }
 }
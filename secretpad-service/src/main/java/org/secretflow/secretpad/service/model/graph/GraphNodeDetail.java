@@ -18,6 +18,7 @@ package org.secretflow.secretpad.service.model.graph;
 
 import org.secretflow.secretpad.persistence.entity.ProjectGraphNodeDO;
 import org.secretflow.secretpad.persistence.model.GraphNodeTaskStatus;
+import org.secretflow.secretpad.persistence.projection.GraphNodeLayoutProjection;
 import org.secretflow.secretpad.service.model.project.MergedProjectResult;
 import org.secretflow.secretpad.service.model.project.ProjectResultBaseVO;
 
@@ -125,6 +126,33 @@ public class GraphNodeDetail extends GraphNodeInfo {
         return new ArrayList<>();
     }
 
+    /**
+     * Batch build slim graph node detail list from graph node layout projection list and graph node status view object list,
+     * inputs, outputs and nodeDef are left empty
+     *
+     * @param layouts    graph node layout projection list
+     * @param nodeStatus graph node status view object list
+     * @return slim graph node detail list
+     */
+    public static List<GraphNodeDetail> fromLayoutList(List<GraphNodeLayoutProjection> layouts, List<GraphNodeStatusVO> nodeStatus) {
+        final Map<String, GraphNodeTaskStatus> statusMap = new HashMap<>();
+        if (!CollectionUtils.isEmpty(nodeStatus)) {
+            statusMap.putAll(nodeStatus.stream().collect(Collectors.toMap(GraphNodeStatusVO::getGraphNodeId, GraphNodeStatusVO::getStatus)));
+        }
+        if (!CollectionUtils.isEmpty(layouts)) {
+            return layouts.stream().map(layout -> GraphNodeDetail.builder()
+                            .codeName(layout.getCodeName())
+                            .graphNodeId(layout.getGraphNodeId())
+                            .label(layout.getLabel())
+                            .x(layout.getX())
+                            .y(layout.getY())
+                            .status(statusMap.getOrDefault(layout.getGraphNodeId(), GraphNodeTaskStatus.STAGING))
+                            .build())
+                    .collect(Collectors.toList());
+        }
+        return new ArrayList<>();
+    }
+
     /**
      * Build graph node detail via filling jobId and taskId
      *
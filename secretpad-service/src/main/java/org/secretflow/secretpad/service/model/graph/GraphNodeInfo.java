@@ -16,17 +16,20 @@
 
 package org.secretflow.secretpad.service.model.graph;
 
+import org.secretflow.secretpad.common.util.ProtoUtils;
 import org.secretflow.secretpad.persistence.entity.ProjectGraphNodeDO;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.secretflow.proto.component.Comp;
+import org.secretflow.proto.pipeline.Pipeline;
 import org.springframework.util.CollectionUtils;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -73,6 +76,100 @@ public class GraphNodeInfo implements Serializable {
      */
     public Object nodeDef;
 
+    /**
+     * Parsed pipeline nodeDef, it is only valid while nodeDef is still the object it was parsed from
+     */
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient Pipeline.NodeDef parsedNodeDef;
+
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient Object parsedNodeDefSource;
+
+    /**
+     * Component key of nodeDef, it is only valid while nodeDef is still the object it was resolved from
+     */
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient ComponentKey componentKey;
+
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient Object componentKeySource;
+
+    /**
+     * Get nodeDef as pipeline nodeDef message, it is parsed at most once per nodeDef object
+     *
+     * @return pipeline nodeDef message
+     */
+    public Pipeline.NodeDef pipelineNodeDef() {
+        Object current = this.nodeDef;
+        if (current instanceof Pipeline.NodeDef) {
+            return (Pipeline.NodeDef) current;
+        }
+        if (parsedNodeDef == null || parsedNodeDefSource != current) {
+            parsedNodeDef = (Pipeline.NodeDef) ProtoUtils.fromObject(current, Pipeline.NodeDef.newBuilder());
+            parsedNodeDefSource = current;
+        }
+        return parsedNodeDef;
+    }
+
+    /**
+     * Get component key of nodeDef, read from the nodeDef map directly without parsing when possible
+     *
+     * @return component key with domain, name and version
+     */
+    public ComponentKey componentKey() {
+        Object current = this.nodeDef;
+        if (componentKey == null || componentKeySource != current) {
+            if (current instanceof Map<?, ?> map) {
+                componentKey = new ComponentKey(asString(map.get("domain")), asString(map.get("name")), asString(map.get("version")));
+            } else {
+                Pipeline.NodeDef def = pipelineNodeDef();
+                componentKey = new ComponentKey(def.getDomain(), def.getName(), def.getVersion());
+            }
+            componentKeySource = current;
+        }
+        return componentKey;
+    }
+
+    /**
+     * Get string value of the attribute at index, read from the nodeDef map directly without parsing when possible
+     *
+     * @param index attribute index
+     * @return string value of the attribute, empty if absent
+     */
+    public String stringAttr(int index) {
+        Object current = this.nodeDef;
+        if (current instanceof Map<?, ?> map) {
+            if (map.get("attrs") instanceof List<?> attrs) {
+                if (index < attrs.size() && attrs.get(index) instanceof Map<?, ?> attr) {
+                    return asString(attr.get("s"));
+                }
+                return "";
+            }
+        }
+        List<Comp.Attribute> attributes = pipelineNodeDef().getAttrsList();
+        return index < attributes.size() ? attributes.get(index).getS() : "";
+    }
+
+    private static String asString(Object value) {
+        return value == null ? "" : value.toString();
+    }
+
     /**
      * Build a new project graph node data object via projectId, graphId and graph node information
      *
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service.model.noderoute;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Batch create node router request, routes are provisioned between every two of nodeIds plus the explicit pairs
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Builder
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class BatchCreateNodeRouterRequest {
+    /**
+     * nodeIds to connect as a full mesh
+     */
+    @Schema(description = "nodeIds to connect as a full mesh")
+    private List<String> nodeIds;
+
+    /**
+     * explicit pairs
+     */
+    @Schema(description = "explicit pairs")
+    @Valid
+    private List<CreateNodeRouterRequest> pairs;
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service.model.noderoute;
+
+import org.secretflow.secretpad.manager.integration.model.NodeRouteProvisionDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * Provision result of one directed node route
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Builder
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class NodeRouteProvisionVO {
+    /**
+     * routeId, null when the route does not exist
+     */
+    @Schema(description = "routeId")
+    private String routeId;
+
+    @Schema(description = "srcNodeId")
+    private String srcNodeId;
+
+    @Schema(description = "dstNodeId")
+    private String dstNodeId;
+
+    /**
+     * CREATED, EXISTED or FAILED
+     */
+    @Schema(description = "provision result: CREATED, EXISTED or FAILED")
+    private String result;
+
+    /**
+     * failure reason
+     */
+    @Schema(description = "failure reason")
+    private String message;
+
+    public static NodeRouteProvisionVO fromDto(NodeRouteProvisionDTO dto) {
+        return NodeRouteProvisionVO.builder()
+                .routeId(dto.getRouteId() == null ? null : String.valueOf(dto.getRouteId()))
+                .srcNodeId(dto.getSrcNodeId())
+                .dstNodeId(dto.getDstNodeId())
+                .result(dto.getResult().name())
+                .message(dto.getMessage())
+                .build();
+    }
+}
@@ -45,4 +45,9 @@ public class PageRequest {
     @Min(1)
     @Max(100)
     private Integer pageSize;
+    /**
+     * Keyset cursor, null for page number paging, empty for the first keyset page, otherwise the nextCursor of the previous response
+     */
+    @Schema(description = "keyset cursor, empty for the first page")
+    private String cursor;
 }
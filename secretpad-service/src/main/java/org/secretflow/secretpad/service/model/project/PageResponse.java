@@ -52,7 +52,17 @@ public class PageResponse<T> {
     @Schema(description = "page data list")
     private List<T> data;
 
+    /**
+     * Cursor of the next page for keyset paging, null when there is no next page
+     */
+    @Schema(description = "cursor of the next page")
+    private String nextCursor;
+
     public static <T> PageResponse<T> of(Integer pageTotal, Integer pageSize, List<T> data) {
-        return new PageResponse<>(pageTotal, pageSize, data);
+        return new PageResponse<>(pageTotal, pageSize, data, null);
+    }
+
+    public static <T> PageResponse<T> of(Integer pageTotal, Integer pageSize, List<T> data, String nextCursor) {
+        return new PageResponse<>(pageTotal, pageSize, data, nextCursor);
     }
 }
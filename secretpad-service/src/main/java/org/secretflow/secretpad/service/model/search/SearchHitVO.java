@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.secretflow.secretpad.service.model.search;
+
+import org.secretflow.secretpad.persistence.entity.SearchDocumentDO;
+import org.secretflow.secretpad.persistence.model.SearchDocumentKind;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * Global search hit view object
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Builder
+@Setter
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitVO {
+    /**
+     * Document kind
+     */
+    @Schema(description = "document kind")
+    private SearchDocumentKind kind;
+
+    /**
+     * Project id, null for datatables
+     */
+    @Schema(description = "project id")
+    private String projectId;
+
+    /**
+     * Node id, null for projects and graphs
+     */
+    @Schema(description = "node id")
+    private String nodeId;
+
+    /**
+     * Id of the document, project id, graph id, datatable id or result id
+     */
+    @Schema(description = "id of the document")
+    private String id;
+
+    /**
+     * Display name
+     */
+    @Schema(description = "display name")
+    private String title;
+
+    /**
+     * Convert search hit view object from search document
+     *
+     * @param documentDO search document
+     * @return search hit view object
+     */
+    public static SearchHitVO from(SearchDocumentDO documentDO) {
+        return SearchHitVO.builder()
+                .kind(documentDO.getKind())
+                .projectId(documentDO.getProjectId().isEmpty() ? null : documentDO.getProjectId())
+                .nodeId(documentDO.getNodeId().isEmpty() ? null : documentDO.getNodeId())
+                .id(documentDO.getRefId())
+                .title(documentDO.getTitle())
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.secretflow.secretpad.service.model.search;
+
+import org.secretflow.secretpad.persistence.model.SearchDocumentKind;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Global search request, results are ranked by relevance and paged by page and size
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Getter
+@Setter
+@ToString
+public class SearchRequest {
+
+    /**
+     * Max page size, every hit of a page is ranked so large pages are not served
+     */
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * Search text, matched as a substring of names and ids ignoring case
+     */
+    @NotBlank
+    @Schema(description = "search text")
+    private String query;
+
+    /**
+     * Document kinds to search, null or empty for all kinds
+     */
+    @Schema(description = "document kinds: Project, Graph, Datatable, Result")
+    private List<SearchDocumentKind> kinds;
+
+    /**
+     * Restrict the search to one project, datatables are not bound to projects and are excluded then
+     */
+    @Schema(description = "project id")
+    private String projectId;
+
+    /**
+     * Page number starting at 1
+     */
+    @Min(1)
+    @Schema(description = "page number, starting at 1")
+    private int page = 1;
+
+    /**
+     * Page size
+     */
+    @Min(1)
+    @Max(MAX_SIZE)
+    @Schema(description = "page size, at most 100")
+    private int size = 10;
+}
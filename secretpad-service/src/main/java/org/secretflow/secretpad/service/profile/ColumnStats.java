@@ -0,0 +1,289 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service.profile;
+
+import org.secretflow.secretpad.persistence.entity.DatatableProfileDO;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Statistics of one column in one file split, fed with raw field bytes and merged across splits.
+ * A column is int when every non null value is a 64 bit integer, else float when every value is a number,
+ * else bool when every value is true or false, else str.
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+class ColumnStats {
+
+    static final String TYPE_INT = "int";
+    static final String TYPE_FLOAT = "float";
+    static final String TYPE_BOOL = "bool";
+    static final String TYPE_STR = "str";
+
+    /**
+     * Longest min and max kept for string columns
+     */
+    private static final int MAX_VALUE_LENGTH = 256;
+
+    private long nullCount;
+
+    private long valueCount;
+
+    private boolean maybeInt = true;
+
+    private boolean maybeFloat = true;
+
+    private boolean maybeBool = true;
+
+    private long minLong = Long.MAX_VALUE;
+
+    private long maxLong = Long.MIN_VALUE;
+
+    private double minDouble = Double.POSITIVE_INFINITY;
+
+    private double maxDouble = Double.NEGATIVE_INFINITY;
+
+    private byte[] minBytes;
+
+    private byte[] maxBytes;
+
+    private final HyperLogLog distinct = new HyperLogLog();
+
+    void addNull() {
+        nullCount++;
+    }
+
+    void add(byte[] bytes, int off, int len) {
+        if (isNull(bytes, off, len)) {
+            nullCount++;
+            return;
+        }
+        valueCount++;
+        distinct.add(HyperLogLog.hash(bytes, off, len));
+        if (maybeInt) {
+            long value = parseLong(bytes, off, len);
+            if (value == Long.MIN_VALUE && !isLongMin(bytes, off, len)) {
+                maybeInt = false;
+            } else {
+                minLong = Math.min(minLong, value);
+                maxLong = Math.max(maxLong, value);
+                minDouble = Math.min(minDouble, value);
+                maxDouble = Math.max(maxDouble, value);
+            }
+        }
+        if (!maybeInt && maybeFloat) {
+            if (isDecimal(bytes, off, len)) {
+                double value = Double.parseDouble(new String(bytes, off, len, StandardCharsets.US_ASCII));
+                minDouble = Math.min(minDouble, value);
+                maxDouble = Math.max(maxDouble, value);
+            } else if (!isSpecialFloat(bytes, off, len)) {
+                maybeFloat = false;
+            }
+        }
+        if (maybeBool && !isBool(bytes, off, len)) {
+            maybeBool = false;
+        }
+        if (minBytes == null || compare(bytes, off, len, minBytes) < 0) {
+            minBytes = Arrays.copyOfRange(bytes, off, off + len);
+        }
+        if (maxBytes == null || compare(bytes, off, len, maxBytes) > 0) {
+            maxBytes = Arrays.copyOfRange(bytes, off, off + len);
+        }
+    }
+
+    void merge(ColumnStats other) {
+        nullCount += other.nullCount;
+        valueCount += other.valueCount;
+        maybeInt &= other.maybeInt;
+        maybeFloat &= other.maybeFloat;
+        maybeBool &= other.maybeBool;
+        minLong = Math.min(minLong, other.minLong);
+        maxLong = Math.max(maxLong, other.maxLong);
+        minDouble = Math.min(minDouble, other.minDouble);
+        maxDouble = Math.max(maxDouble, other.maxDouble);
+        if (other.minBytes != null && (minBytes == null || compare(other.minBytes, 0, other.minBytes.length, minBytes) < 0)) {
+            minBytes = other.minBytes;
+        }
+        if (other.maxBytes != null && (maxBytes == null || compare(other.maxBytes, 0, other.maxBytes.length, maxBytes) > 0)) {
+            maxBytes = other.maxBytes;
+        }
+        distinct.merge(other.distinct);
+    }
+
+    DatatableProfileDO.ColumnProfile toProfile(String name) {
+        String type;
+        String min = null;
+        String max = null;
+        if (valueCount == 0) {
+            type = TYPE_STR;
+        } else if (maybeInt) {
+            type = TYPE_INT;
+            min = String.valueOf(minLong);
+            max = String.valueOf(maxLong);
+        } else if (maybeFloat) {
+            type = TYPE_FLOAT;
+            if (minDouble <= maxDouble) {
+                min = String.valueOf(minDouble);
+                max = String.valueOf(maxDouble);
+            }
+        } else {
+            type = maybeBool ? TYPE_BOOL : TYPE_STR;
+            min = truncate(minBytes);
+            max = truncate(maxBytes);
+        }
+        return DatatableProfileDO.ColumnProfile.builder()
+                .name(name)
+                .type(type)
+                .nullCount(nullCount)
+                .distinctCount(Math.min(distinct.estimate(), valueCount))
+                .min(min)
+                .max(max)
+                .build();
+    }
+
+    private static String truncate(byte[] bytes) {
+        String value = new String(bytes, StandardCharsets.UTF_8);
+        return value.length() > MAX_VALUE_LENGTH ? value.substring(0, MAX_VALUE_LENGTH) : value;
+    }
+
+    /**
+     * Empty fields and the usual null markers of csv exports are nulls
+     */
+    static boolean isNull(byte[] bytes, int off, int len) {
+        return len == 0
+                || equalsIgnoreCase(bytes, off, len, "null")
+                || equalsIgnoreCase(bytes, off, len, "na")
+                || equalsIgnoreCase(bytes, off, len, "n/a");
+    }
+
+    private static boolean isBool(byte[] bytes, int off, int len) {
+        return equalsIgnoreCase(bytes, off, len, "true") || equalsIgnoreCase(bytes, off, len, "false");
+    }
+
+    /**
+     * Parse a decimal 64 bit integer
+     *
+     * @return value, or Long.MIN_VALUE when not an integer or out of range
+     */
+    private static long parseLong(byte[] bytes, int off, int len) {
+        int i = off;
+        int end = off + len;
+        boolean negative = false;
+        if (bytes[i] == '-' || bytes[i] == '+') {
+            negative = bytes[i] == '-';
+            i++;
+        }
+        if (i == end || end - i > 19) {
+            return Long.MIN_VALUE;
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.MIN_VALUE;
+            }
+            // accumulate negatively so Long.MIN_VALUE itself fits
+            if (value < (Long.MIN_VALUE + digit) / 10) {
+                return Long.MIN_VALUE;
+            }
+            value = value * 10 - digit;
+        }
+        if (!negative) {
+            return value == Long.MIN_VALUE ? Long.MIN_VALUE : -value;
+        }
+        return value;
+    }
+
+    private static boolean isLongMin(byte[] bytes, int off, int len) {
+        return equalsIgnoreCase(bytes, off, len, String.valueOf(Long.MIN_VALUE));
+    }
+
+    /**
+     * Nan and inf as written by numpy, they are floats but not counted in min and max
+     */
+    private static boolean isSpecialFloat(byte[] bytes, int off, int len) {
+        int i = off;
+        int end = off + len;
+        if (bytes[i] == '-' || bytes[i] == '+') {
+            i++;
+        }
+        return equalsIgnoreCase(bytes, i, end - i, "nan") || equalsIgnoreCase(bytes, i, end - i, "inf")
+                || equalsIgnoreCase(bytes, i, end - i, "infinity");
+    }
+
+    /**
+     * Decimal number with optional fraction and exponent
+     */
+    private static boolean isDecimal(byte[] bytes, int off, int len) {
+        int i = off;
+        int end = off + len;
+        if (bytes[i] == '-' || bytes[i] == '+') {
+            i++;
+        }
+        int digits = 0;
+        while (i < end && bytes[i] >= '0' && bytes[i] <= '9') {
+            i++;
+            digits++;
+        }
+        if (i < end && bytes[i] == '.') {
+            i++;
+            while (i < end && bytes[i] >= '0' && bytes[i] <= '9') {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (i < end && (bytes[i] == 'e' || bytes[i] == 'E')) {
+            i++;
+            if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+                i++;
+            }
+            int exponentDigits = 0;
+            while (i < end && bytes[i] >= '0' && bytes[i] <= '9') {
+                i++;
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                return false;
+            }
+        }
+        return i == end;
+    }
+
+    private static boolean equalsIgnoreCase(byte[] bytes, int off, int len, String ascii) {
+        if (len != ascii.length()) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            if (Character.toLowerCase(bytes[off + i]) != ascii.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compare bytes lexicographically as unsigned, which for utf-8 is the code point order
+     */
+    private static int compare(byte[] bytes, int off, int len, byte[] other) {
+        return Arrays.compareUnsigned(bytes, off, off + len, other, 0, other.length);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service.profile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Splits a csv line into fields, quoted fields are unquoted into a scratch buffer and unquoted fields are trimmed of spaces
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+class CsvFieldParser {
+
+    private byte[] line;
+    private int position;
+    private int end;
+    private boolean done;
+    private byte[] scratch = new byte[256];
+    private byte[] fieldBytes;
+    private int fieldOffset;
+    private int fieldLength;
+
+    /**
+     * Parse header names of a line, without the byte order mark written by some spreadsheet exports
+     *
+     * @param line  line bytes
+     * @param start line start
+     * @param end   line end, without the line break
+     * @return column names
+     */
+    static List<String> parseHeader(byte[] line, int start, int end) {
+        CsvFieldParser parser = new CsvFieldParser();
+        parser.reset(line, start, end);
+        List<String> names = new ArrayList<>();
+        while (parser.next()) {
+            String name = parser.string();
+            names.add(names.isEmpty() && name.startsWith("\uFEFF") ? name.substring(1) : name);
+        }
+        return names;
+    }
+
+    void reset(byte[] line, int start, int end) {
+        this.line = line;
+        this.position = start;
+        this.end = end;
+        this.done = false;
+    }
+
+    boolean next() {
+        if (done) {
+            return false;
+        }
+        int i = position;
+        while (i < end && line[i] == ' ') {
+            i++;
+        }
+        if (i < end && line[i] == '"') {
+            int length = 0;
+            i++;
+            while (i < end) {
+                if (line[i] == '"') {
+                    if (i + 1 < end && line[i + 1] == '"') {
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                if (length == scratch.length) {
+                    scratch = Arrays.copyOf(scratch, scratch.length * 2);
+                }
+                scratch[length++] = line[i++];
+            }
+            // skip the closing quote and anything up to the separator
+            while (i < end && line[i] != ',') {
+                i++;
+            }
+            fieldBytes = scratch;
+            fieldOffset = 0;
+            fieldLength = length;
+        } else {
+            int start = i;
+            while (i < end && line[i] != ',') {
+                i++;
+            }
+            int stop = i;
+            while (stop > start && line[stop - 1] == ' ') {
+                stop--;
+            }
+            fieldBytes = line;
+            fieldOffset = start;
+            fieldLength = stop - start;
+        }
+        if (i < end) {
+            position = i + 1;
+        } else {
+            done = true;
+        }
+        return true;
+    }
+
+    byte[] bytes() {
+        return fieldBytes;
+    }
+
+    int offset() {
+        return fieldOffset;
+    }
+
+    int length() {
+        return fieldLength;
+    }
+
+    String string() {
+        return new String(fieldBytes, fieldOffset, fieldLength, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service.profile;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Csv previewer, reads the first rows or a random sample of rows of a csv file without reading the whole file.
+ * The file is memory mapped in bounded windows and only the pages of the rows returned are touched, so previewing a huge
+ * file costs about as much as previewing a small one. Rows are sampled by seeking to random offsets and taking the row
+ * starting after each, which is uniform over rows of similar length, files within the byte limit are sampled exactly.
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+public class CsvPreviewer {
+
+    private final long maxBytes;
+
+    private final int maxRowBytes;
+
+    /**
+     * Create a csv previewer
+     *
+     * @param maxBytes    max bytes scanned by a preview
+     * @param maxRowBytes max bytes of a single row, longer rows end a head preview and are skipped by a sample
+     */
+    public CsvPreviewer(long maxBytes, int maxRowBytes) {
+        this.maxRowBytes = Math.max(1, maxRowBytes);
+        this.maxBytes = Math.max(this.maxRowBytes, maxBytes);
+    }
+
+    /**
+     * Preview the first rows of a csv file with a header line
+     *
+     * @param file csv file
+     * @param rows max rows
+     * @return header and rows
+     * @throws IOException when reading fails or the header is missing or too long
+     */
+    public CsvPreview head(File file, int rows) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            Window window = new Window(channel, 0, Math.min(size, maxBytes), size);
+            List<String> header = readHeader(window, file);
+            List<List<String>> result = new ArrayList<>();
+            boolean truncated = false;
+            while (result.size() < rows) {
+                byte[] line = window.nextLine();
+                if (line == null) {
+                    truncated = window.end() < size;
+                    break;
+                }
+                if (line.length > 0) {
+                    result.add(parseRow(line, header.size()));
+                }
+            }
+            return new CsvPreview(header, result, truncated, window.consumed());
+        }
+    }
+
+    /**
+     * Preview a random sample of rows of a csv file with a header line, the rows are returned in file order
+     *
+     * @param file   csv file
+     * @param rows   max rows
+     * @param random random source
+     * @return header and rows
+     * @throws IOException when reading fails or the header is missing or too long
+     */
+    public CsvPreview sample(File file, int rows, Random random) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            Window headerWindow = new Window(channel, 0, Math.min(size, maxRowBytes), size);
+            List<String> header = readHeader(headerWindow, file);
+            long dataStart = headerWindow.consumed();
+            if (size - dataStart <= maxBytes) {
+                return sampleAll(new Window(channel, dataStart, size - dataStart, size), header, rows, random, dataStart);
+            }
+            long[] offsets = new long[rows];
+            for (int i = 0; i < rows; i++) {
+                offsets[i] = dataStart + (long) (random.nextDouble() * (size - dataStart));
+            }
+            Arrays.sort(offsets);
+            List<List<String>> result = new ArrayList<>();
+            long scanned = dataStart;
+            long lastRowStart = -1;
+            boolean truncated = false;
+            for (long offset : offsets) {
+                if (scanned >= maxBytes) {
+                    truncated = true;
+                    break;
+                }
+                // start on the line break before the offset so an offset at a row start picks that row
+                long windowStart = offset - 1;
+                Window window = new Window(channel, windowStart, Math.min(size - windowStart, 2L * maxRowBytes), size);
+                if (!window.skipLine()) {
+                    continue;
+                }
+                long rowStart = windowStart + window.consumed();
+                byte[] line = rowStart == lastRowStart ? null : window.nextLine();
+                scanned += window.consumed();
+                if (line == null || line.length == 0) {
+                    continue;
+                }
+                lastRowStart = rowStart;
+                result.add(parseRow(line, header.size()));
+            }
+            return new CsvPreview(header, result, truncated, scanned);
+        }
+    }
+
+    /**
+     * Reservoir sample the rows of a data range within the byte limit
+     */
+    private CsvPreview sampleAll(Window window, List<String> header, int rows, Random random, long dataStart) {
+        List<byte[]> reservoir = new ArrayList<>();
+        List<Long> indexes = new ArrayList<>();
+        long index = 0;
+        byte[] line;
+        while ((line = window.nextLine()) != null) {
+            if (line.length == 0) {
+                continue;
+            }
+            if (reservoir.size() < rows) {
+                reservoir.add(line);
+                indexes.add(index);
+            } else {
+                long slot = (long) (random.nextDouble() * (index + 1));
+                if (slot < rows) {
+                    reservoir.set((int) slot, line);
+                    indexes.set((int) slot, index);
+                }
+            }
+            index++;
+        }
+        Integer[] order = new Integer[reservoir.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(indexes::get));
+        List<List<String>> result = new ArrayList<>();
+        for (int i : order) {
+            result.add(parseRow(reservoir.get(i), header.size()));
+        }
+        return new CsvPreview(header, result, false, dataStart + window.consumed());
+    }
+
+    private List<String> readHeader(Window window, File file) throws IOException {
+        byte[] line = window.nextLine();
+        if (line == null) {
+            throw new IOException("csv file " + file.getName() + " has no header within " + window.length() + " bytes");
+        }
+        return CsvFieldParser.parseHeader(line, 0, line.length);
+    }
+
+    private static List<String> parseRow(byte[] line, int columnCount) {
+        CsvFieldParser parser = new CsvFieldParser();
+        parser.reset(line, 0, line.length);
+        List<String> row = new ArrayList<>(columnCount);
+        while (row.size() < columnCount && parser.next()) {
+            row.add(ColumnStats.isNull(parser.bytes(), parser.offset(), parser.length()) ? null : parser.string());
+        }
+        // missing trailing fields are nulls and extra fields are ignored
+        while (row.size() < columnCount) {
+            row.add(null);
+        }
+        return row;
+    }
+
+    /**
+     * Header and rows of a csv preview, null markers are read as null values
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class CsvPreview {
+        private final List<String> header;
+        private final List<List<String>> rows;
+        /**
+         * Whether the byte limit ended the preview before the rows asked for were read
+         */
+        private final boolean truncated;
+        /**
+         * Bytes of the file read, including the header
+         */
+        private final long bytesScanned;
+    }
+
+    /**
+     * Memory mapped read only window of a file read line by line, lines must end inside the window unless it ends the file
+     */
+    private static class Window {
+        private final MappedByteBuffer buffer;
+        private final boolean endOfFile;
+        private final long end;
+
+        private Window(FileChannel channel, long start, long length, long size) throws IOException {
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            this.end = start + length;
+            this.endOfFile = end >= size;
+        }
+
+        /**
+         * Next line without the line break
+         *
+         * @return line bytes, null when no complete line is left in the window
+         */
+        private byte[] nextLine() {
+            int start = buffer.position();
+            int limit = buffer.limit();
+            int lineEnd = -1;
+            int next = -1;
+            for (int i = start; i < limit; i++) {
+                if (buffer.get(i) == '\n') {
+                    lineEnd = i;
+                    next = i + 1;
+                    break;
+                }
+            }
+            if (lineEnd < 0) {
+                if (!endOfFile || start == limit) {
+                    return null;
+                }
+                lineEnd = limit;
+                next = limit;
+            }
+            if (lineEnd > start && buffer.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+            byte[] line = new byte[lineEnd - start];
+            buffer.get(start, line);
+            buffer.position(next);
+            return line;
+        }
+
+        /**
+         * Skip to the start of the next line
+         *
+         * @return false when no line break is left in the window
+         */
+        private boolean skipLine() {
+            for (int i = buffer.position(); i < buffer.limit(); i++) {
+                if (buffer.get(i) == '\n') {
+                    buffer.position(i + 1);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private long consumed() {
+            return buffer.position();
+        }
+
+        private long length() {
+            return buffer.capacity();
+        }
+
+        private long end() {
+            return end;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service.profile;
+
+/**
+ * HyperLogLog cardinality sketch over 64 bit hashes with 2^12 registers, about 1.6% standard error in 4 KiB.
+ * Sketches of file splits are merged by taking the max of each register.
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+public class HyperLogLog {
+
+    private static final int P = 12;
+
+    private static final int M = 1 << P;
+
+    private final byte[] registers = new byte[M];
+
+    /**
+     * Hash bytes with 64 bit FNV-1a followed by the murmur3 finalizer to spread the bits
+     *
+     * @param bytes bytes
+     * @param off   offset
+     * @param len   length
+     * @return 64 bit hash
+     */
+    public static long hash(byte[] bytes, int off, int len) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = off; i < off + len; i++) {
+            h ^= bytes[i] & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    public void add(long hash) {
+        int index = (int) (hash >>> (64 - P));
+        // the guard bit bounds the rank when the remaining bits are all zero
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << P) | (1L << (P - 1))) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < M; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    /**
+     * Estimate the cardinality, with linear counting for small cardinalities
+     *
+     * @return estimated number of distinct hashes
+     */
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double alpha = 0.7213 / (1 + 1.079 / M);
+        double estimate = alpha * M * M / sum;
+        if (estimate <= 2.5 * M && zeros > 0) {
+            estimate = M * Math.log((double) M / zeros);
+        }
+        return Math.round(estimate);
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service.storage;
+
+import org.secretflow.secretpad.common.util.Sha256Utils;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.stream.Stream;
+
+/**
+ * Content addressed store of uploaded files. Each node keeps one blob per content hash in a hidden dir of its data dir,
+ * and every uploaded file is a hard link of its blob, so uploading the same content again takes no space and the files
+ * stay plain files for the readers of the data dir. The link count of a blob tells how many uploads share it,
+ * blobs no upload links to any more are collected. Uploads are plain writable files, so a blob is hashed again before it is shared.
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+public class ContentAddressedStore {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(ContentAddressedStore.class);
+
+    public final static String BLOB_DIR = ".blobs";
+
+    private final static int MAX_ATTEMPTS = 3;
+
+    private final String storeDir;
+
+    /**
+     * Create a content addressed store
+     *
+     * @param storeDir data dir holding a dir per node
+     */
+    public ContentAddressedStore(String storeDir) {
+        this.storeDir = storeDir;
+    }
+
+    /**
+     * Share the blob of a hash with an uploaded file, the file becomes a link of the existing blob
+     * or, when the content is new, the blob becomes a link of the file
+     *
+     * @param nodeId node id
+     * @param target uploaded file in the data dir of the node
+     * @param hash   sha-256 hex of the file content
+     * @return true when an existing blob was reused and the space of the file freed
+     * @throws IOException when linking fails
+     */
+    public boolean deduplicate(String nodeId, File target, String hash) throws IOException {
+        Path blobDir = blobDir(nodeId);
+        Files.createDirectories(blobDir);
+        Path blob = blobDir.resolve(hash);
+        Path file = target.toPath();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                if (!Files.exists(blob)) {
+                    Files.createLink(blob, file);
+                    return false;
+                }
+                if (Files.isSameFile(blob, file)) {
+                    return false;
+                }
+                if (Files.size(blob) != Files.size(file) || !hash.equalsIgnoreCase(Sha256Utils.fileHash(blob.toString()))) {
+                    // the blob was changed in place through one of its links, the new upload takes its place
+                    LOGGER.warn("blob {} of node {} does not match its hash, replaced", hash, nodeId);
+                    replaceWithLink(blob, file);
+                    return false;
+                }
+                // link through a temp name so the target never goes missing
+                replaceWithLink(file, blob);
+                return true;
+            } catch (FileAlreadyExistsException | NoSuchFileException e) {
+                // a concurrent upload created the blob or the collector removed it, look again
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Deduplication statistics of a node
+     *
+     * @param nodeId node id
+     * @return blob count, upload count and bytes
+     * @throws IOException when listing the blobs fails
+     */
+    public Stats stats(String nodeId) throws IOException {
+        Path blobDir = blobDir(nodeId);
+        long blobs = 0;
+        long uploads = 0;
+        long storedBytes = 0;
+        long logicalBytes = 0;
+        if (Files.isDirectory(blobDir)) {
+            try (Stream<Path> paths = Files.list(blobDir)) {
+                for (Path blob : (Iterable<Path>) paths::iterator) {
+                    if (!Files.isRegularFile(blob)) {
+                        continue;
+                    }
+                    long links = linkCount(blob) - 1;
+                    if (links <= 0) {
+                        continue;
+                    }
+                    long size = Files.size(blob);
+                    blobs++;
+                    uploads += links;
+                    storedBytes += size;
+                    logicalBytes += size * links;
+                }
+            }
+        }
+        return new Stats(blobs, uploads, storedBytes, logicalBytes);
+    }
+
+    /**
+     * Delete the blobs of all nodes no upload links to any more
+     *
+     * @return number of blobs deleted
+     * @throws IOException when listing the nodes fails
+     */
+    public int collect() throws IOException {
+        File[] nodeDirs = new File(storeDir).listFiles(File::isDirectory);
+        if (nodeDirs == null) {
+            return 0;
+        }
+        int collected = 0;
+        for (File nodeDir : nodeDirs) {
+            Path blobDir = nodeDir.toPath().resolve(BLOB_DIR);
+            if (!Files.isDirectory(blobDir)) {
+                continue;
+            }
+            try (Stream<Path> paths = Files.list(blobDir)) {
+                for (Path blob : (Iterable<Path>) paths::iterator) {
+                    try {
+                        if (Files.isRegularFile(blob) && linkCount(blob) <= 1) {
+                            Files.delete(blob);
+                            collected++;
+                        }
+                    } catch (IOException e) {
+                        LOGGER.warn("collect blob {} failed: {}", blob, e.getMessage());
+                    }
+                }
+            }
+        }
+        return collected;
+    }
+
+    private Path blobDir(String nodeId) {
+        return Paths.get(storeDir, nodeId, BLOB_DIR);
+    }
+
+    /**
+     * Atomically replace a file with a hard link of another one
+     */
+    private static void replaceWithLink(Path file, Path existing) throws IOException {
+        Path link = file.resolveSibling("." + file.getFileName() + ".link");
+        Files.deleteIfExists(link);
+        Files.createLink(link, existing);
+        Files.move(link, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Hard link count of a file, file systems without it are assumed to link the blob from an upload
+     */
+    private static long linkCount(Path path) throws IOException {
+        try {
+            return ((Number) Files.getAttribute(path, "unix:nlink")).longValue();
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            return 2;
+        }
+    }
+
+    /**
+     * Deduplication statistics, only blobs still linked by uploads count
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Stats {
+        private final long blobs;
+        private final long uploads;
+        private final long storedBytes;
+        private final long logicalBytes;
+
+        public long getSavedBytes() {
+            return logicalBytes - storedBytes;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service;
+
+import org.secretflow.secretpad.manager.integration.datatable.AbstractDatatableManager;
+import org.secretflow.secretpad.manager.integration.datatable.CachingDatatableManager;
+import org.secretflow.secretpad.manager.integration.model.DatatableDTO;
+import org.secretflow.secretpad.manager.integration.model.DatatableDTO.NodeDatatableId;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caching datatable manager test
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+public class CachingDatatableManagerTest {
+
+    private static final NodeDatatableId ALICE_T1 = NodeDatatableId.from("alice", "t1");
+
+    private static final NodeDatatableId ALICE_T2 = NodeDatatableId.from("alice", "t2");
+
+    private static final NodeDatatableId ALICE_T3 = NodeDatatableId.from("alice", "t3");
+
+    private final AbstractDatatableManager delegate = Mockito.mock(AbstractDatatableManager.class);
+
+    private final CachingDatatableManager manager = new CachingDatatableManager(delegate, 100, 60000);
+
+    @Test
+    public void testBatchMisses() {
+        Mockito.when(delegate.findById(ALICE_T1)).thenReturn(Optional.of(datatable(ALICE_T1)));
+        Mockito.when(delegate.findByIds(Mockito.anyList())).thenReturn(Map.of(ALICE_T2, datatable(ALICE_T2)));
+
+        Assertions.assertTrue(manager.findById(ALICE_T1).isPresent());
+        Map<NodeDatatableId, DatatableDTO> found = manager.findByIds(List.of(ALICE_T1, ALICE_T2, ALICE_T3));
+
+        Assertions.assertEquals(2, found.size());
+        Mockito.verify(delegate).findByIds(List.of(ALICE_T2, ALICE_T3));
+        // t3 does not exist so it is not cached and is looked up again
+        manager.findByIds(List.of(ALICE_T1, ALICE_T2, ALICE_T3));
+        Mockito.verify(delegate).findByIds(List.of(ALICE_T3));
+        Mockito.verify(delegate, Mockito.times(1)).findById(ALICE_T1);
+        Assertions.assertEquals(3, manager.getCache().stats().hitCount());
+    }
+
+    @Test
+    public void testInvalidate() {
+        Mockito.when(delegate.findById(ALICE_T1)).thenReturn(Optional.of(datatable(ALICE_T1)));
+
+        manager.findById(ALICE_T1);
+        manager.invalidate(List.of(ALICE_T1));
+        manager.findById(ALICE_T1);
+        manager.deleteDataTable(ALICE_T1);
+        manager.findById(ALICE_T1);
+
+        Mockito.verify(delegate, Mockito.times(3)).findById(ALICE_T1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testConcurrentMissesShareOneLoad() throws Exception {
+        int callers = 8;
+        CountDownLatch entered = new CountDownLatch(callers);
+        Map<NodeDatatableId, CompletableFuture<?>> inflight = (Map<NodeDatatableId, CompletableFuture<?>>) ReflectionTestUtils.getField(manager, "inflight");
+        AtomicBoolean allJoined = new AtomicBoolean();
+        AtomicInteger loads = new AtomicInteger();
+        // a load returns only once every caller has entered and all but the loading one wait on its in flight load
+        Callable<Void> awaitCallers = () -> {
+            loads.incrementAndGet();
+            entered.await(5, TimeUnit.SECONDS);
+            long deadline = System.currentTimeMillis() + 5000;
+            while (inflight.get(ALICE_T1).getNumberOfDependents() < callers - 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+            allJoined.set(inflight.get(ALICE_T1).getNumberOfDependents() == callers - 1);
+            return null;
+        };
+        Mockito.when(delegate.findById(ALICE_T1)).thenAnswer(invocation -> {
+            awaitCallers.call();
+            return Optional.of(datatable(ALICE_T1));
+        });
+        Mockito.when(delegate.findByIds(List.of(ALICE_T1))).thenAnswer(invocation -> {
+            awaitCallers.call();
+            return Map.of(ALICE_T1, datatable(ALICE_T1));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Boolean>> found = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                boolean batch = i % 2 == 1;
+                found.add(executor.submit(() -> {
+                    entered.countDown();
+                    return batch ? manager.findByIds(List.of(ALICE_T1)).containsKey(ALICE_T1) : manager.findById(ALICE_T1).isPresent();
+                }));
+            }
+            for (Future<Boolean> it : found) {
+                Assertions.assertTrue(it.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertTrue(allJoined.get());
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    private DatatableDTO datatable(NodeDatatableId id) {
+        return DatatableDTO.builder().nodeId(id.getNodeId()).datatableId(id.getDatatableId()).build();
+    }
+}
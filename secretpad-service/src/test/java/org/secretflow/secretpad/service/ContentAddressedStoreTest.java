@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.secretflow.secretpad.service;
+
+import org.secretflow.secretpad.common.util.Sha256Utils;
+import org.secretflow.secretpad.service.storage.ContentAddressedStore;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Content addressed store test
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+public class ContentAddressedStoreTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void testSameContentSharesOneBlob() throws Exception {
+        ContentAddressedStore store = new ContentAddressedStore(tempDir + "/");
+        File first = write("alice/first.csv", "id\n1\n2\n");
+        File second = write("alice/second.csv", "id\n1\n2\n");
+        File other = write("alice/other.csv", "id\n3\n");
+
+        Assertions.assertFalse(store.deduplicate("alice", first, hash(first)));
+        Assertions.assertTrue(store.deduplicate("alice", second, hash(second)));
+        Assertions.assertFalse(store.deduplicate("alice", other, hash(other)));
+        // deduplicating a file again changes nothing
+        Assertions.assertFalse(store.deduplicate("alice", second, hash(second)));
+
+        Assertions.assertTrue(Files.isSameFile(first.toPath(), second.toPath()));
+        Assertions.assertEquals("id\n1\n2\n", Files.readString(second.toPath()));
+        ContentAddressedStore.Stats stats = store.stats("alice");
+        Assertions.assertEquals(2, stats.getBlobs());
+        Assertions.assertEquals(3, stats.getUploads());
+        Assertions.assertEquals(12, stats.getStoredBytes());
+        Assertions.assertEquals(19, stats.getLogicalBytes());
+        Assertions.assertEquals(7, stats.getSavedBytes());
+        Assertions.assertEquals(0, store.stats("bob").getBlobs());
+    }
+
+    @Test
+    public void testBlobChangedInPlaceIsNotShared() throws Exception {
+        ContentAddressedStore store = new ContentAddressedStore(tempDir + "/");
+        File first = write("alice/first.csv", "id\n1\n2\n");
+        String hash = hash(first);
+        store.deduplicate("alice", first, hash);
+        // the same number of bytes written through the link of the blob
+        Files.writeString(first.toPath(), "id\n3\n4\n", StandardCharsets.UTF_8);
+        File second = write("alice/second.csv", "id\n1\n2\n");
+
+        Assertions.assertFalse(store.deduplicate("alice", second, hash));
+        Assertions.assertEquals("id\n1\n2\n", Files.readString(second.toPath()));
+        Assertions.assertEquals("id\n3\n4\n", Files.readString(first.toPath()));
+        Assertions.assertFalse(Files.isSameFile(first.toPath(), second.toPath()));
+        Assertions.assertTrue(Files.isSameFile(tempDir.resolve("alice/" + ContentAddressedStore.BLOB_DIR + "/" + hash), second.toPath()));
+    }
+
+    @Test
+    public void testCollectUnlinkedBlobs() throws Exception {
+        ContentAddressedStore store = new ContentAddressedStore(tempDir + "/");
+        File first = write("alice/first.csv", "id\n1\n");
+        File second = write("alice/second.csv", "id\n1\n");
+        store.deduplicate("alice", first, hash(first));
+        store.deduplicate("alice", second, hash(second));
+
+        Files.delete(first.toPath());
+        Assertions.assertEquals(0, store.collect());
+        Assertions.assertEquals(1, store.stats("alice").getUploads());
+        Files.delete(second.toPath());
+        Assertions.assertEquals(1, store.collect());
+        Assertions.assertEquals(0, store.stats("alice").getBlobs());
+
+        // the content is stored again when uploaded after its blob was collected
+        File third = write("alice/third.csv", "id\n1\n");
+        Assertions.assertFalse(store.deduplicate("alice", third, hash(third)));
+    }
+
+    private File write(String name, String content) throws Exception {
+        Path file = tempDir.resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file.toFile();
+    }
+
+    private String hash(File file) {
+        return Sha256Utils.fileHash(file.getPath());
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service;
+
+import org.secretflow.secretpad.service.profile.CsvPreviewer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Csv previewer test
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+public class CsvPreviewerTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void testHead() throws Exception {
+        File file = write("\uFEFFid,name,score\r\n1,\"Smith, J\",0.5\r\n\n2,bob\n3,NULL,1\n");
+
+        CsvPreviewer.CsvPreview preview = new CsvPreviewer(1024, 1024).head(file, 2);
+
+        Assertions.assertEquals(List.of("id", "name", "score"), preview.getHeader());
+        Assertions.assertEquals(List.of(List.of("1", "Smith, J", "0.5"), Arrays.asList("2", "bob", null)), preview.getRows());
+        Assertions.assertFalse(preview.isTruncated());
+    }
+
+    @Test
+    public void testHeadStopsAtByteLimit() throws Exception {
+        File file = write(rows(10000));
+
+        CsvPreviewer.CsvPreview preview = new CsvPreviewer(100, 50).head(file, 1000);
+
+        Assertions.assertTrue(preview.isTruncated());
+        Assertions.assertTrue(preview.getBytesScanned() <= 100);
+        List<List<String>> rows = preview.getRows();
+        Assertions.assertFalse(rows.isEmpty());
+        for (int i = 0; i < rows.size(); i++) {
+            Assertions.assertEquals(String.valueOf(i), rows.get(i).get(0));
+        }
+    }
+
+    @Test
+    public void testSampleSeeksLargeFile() throws Exception {
+        File file = write(rows(100000));
+
+        CsvPreviewer previewer = new CsvPreviewer(64 * 1024, 1024);
+        CsvPreviewer.CsvPreview preview = previewer.sample(file, 50, new Random(7));
+
+        Assertions.assertTrue(preview.getBytesScanned() < 64 * 1024);
+        Assertions.assertTrue(preview.getRows().size() >= 45);
+        List<Integer> ids = new ArrayList<>();
+        for (List<String> row : preview.getRows()) {
+            int id = Integer.parseInt(row.get(0));
+            // every sampled row is a whole row
+            Assertions.assertEquals("value-" + id, row.get(1));
+            ids.add(id);
+        }
+        Assertions.assertEquals(ids.stream().sorted().distinct().toList(), ids);
+        Assertions.assertTrue(ids.get(ids.size() - 1) - ids.get(0) > 50000);
+        Assertions.assertEquals(preview.getRows(), previewer.sample(file, 50, new Random(7)).getRows());
+    }
+
+    @Test
+    public void testSampleSmallFileExactly() throws Exception {
+        File file = write(rows(10));
+
+        CsvPreviewer.CsvPreview all = new CsvPreviewer(1024 * 1024, 1024).sample(file, 20, new Random(1));
+        CsvPreviewer.CsvPreview some = new CsvPreviewer(1024 * 1024, 1024).sample(file, 3, new Random(1));
+
+        Assertions.assertEquals(10, all.getRows().size());
+        Assertions.assertEquals("0", all.getRows().get(0).get(0));
+        Assertions.assertEquals(3, some.getRows().size());
+        Assertions.assertFalse(some.isTruncated());
+    }
+
+    private String rows(int count) {
+        StringBuilder csv = new StringBuilder("id,label\n");
+        for (int i = 0; i < count; i++) {
+            csv.append(i).append(",value-").append(i).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private File write(String content) throws Exception {
+        Path file = Files.createTempFile(tempDir, "preview", ".csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file.toFile();
+    }
+}
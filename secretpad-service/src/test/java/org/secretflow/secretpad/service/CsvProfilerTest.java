@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service;
+
+import org.secretflow.secretpad.persistence.entity.DatatableProfileDO;
+import org.secretflow.secretpad.service.profile.CsvProfiler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Csv profiler test
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+public class CsvProfilerTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testInferTypesAndStats() throws Exception {
+        File file = write("\uFEFFid,score,flag,name,empty\r\n"
+                + "1,0.5,true,\"Smith, J\",\n"
+                + "2,1e3,False,alice,\n"
+                + "3,,TRUE,\"say \"\"hi\"\"\",NULL\n"
+                + "\n"
+                + "-4,-2,false,bob\n");
+
+        DatatableProfileDO profile = new CsvProfiler(executor, 1, 1024).profile(file);
+
+        Assertions.assertEquals(4, profile.getRowCount());
+        List<DatatableProfileDO.ColumnProfile> columns = profile.getColumns();
+        Assertions.assertEquals(List.of("id", "score", "flag", "name", "empty"), columns.stream().map(DatatableProfileDO.ColumnProfile::getName).toList());
+        Assertions.assertEquals(List.of("int", "float", "bool", "str", "str"), columns.stream().map(DatatableProfileDO.ColumnProfile::getType).toList());
+
+        Assertions.assertEquals("-4", columns.get(0).getMin());
+        Assertions.assertEquals("3", columns.get(0).getMax());
+        Assertions.assertEquals(4, columns.get(0).getDistinctCount());
+        Assertions.assertEquals("-2.0", columns.get(1).getMin());
+        Assertions.assertEquals("1000.0", columns.get(1).getMax());
+        Assertions.assertEquals(1, columns.get(1).getNullCount());
+        Assertions.assertEquals("Smith, J", columns.get(3).getMin());
+        Assertions.assertEquals("say \"hi\"", columns.get(3).getMax());
+        Assertions.assertEquals(4, columns.get(4).getNullCount());
+        Assertions.assertEquals(0, columns.get(4).getDistinctCount());
+    }
+
+    @Test
+    public void testSplitsMatchSingleRead() throws Exception {
+        StringBuilder csv = new StringBuilder("id,value,label\n");
+        for (int i = 0; i < 20000; i++) {
+            csv.append(i).append(',').append(i % 7 == 0 ? "" : String.valueOf(i * 0.25)).append(',').append("label-").append(i % 500).append('\n');
+        }
+        File file = write(csv.toString());
+
+        DatatableProfileDO single = new CsvProfiler(executor, 1, 1).profile(file);
+        DatatableProfileDO split = new CsvProfiler(executor, 4, 1).profile(file);
+
+        Assertions.assertEquals(20000, single.getRowCount());
+        Assertions.assertEquals(single.getRowCount(), split.getRowCount());
+        for (int i = 0; i < 3; i++) {
+            DatatableProfileDO.ColumnProfile a = single.getColumns().get(i);
+            DatatableProfileDO.ColumnProfile b = split.getColumns().get(i);
+            Assertions.assertEquals(a.getType(), b.getType());
+            Assertions.assertEquals(a.getNullCount(), b.getNullCount());
+            Assertions.assertEquals(a.getDistinctCount(), b.getDistinctCount());
+            Assertions.assertEquals(a.getMin(), b.getMin());
+            Assertions.assertEquals(a.getMax(), b.getMax());
+        }
+        Assertions.assertEquals("float", split.getColumns().get(1).getType());
+        Assertions.assertEquals(2858, split.getColumns().get(1).getNullCount());
+        // the distinct count is an estimate
+        Assertions.assertEquals(500, split.getColumns().get(2).getDistinctCount(), 25);
+        Assertions.assertEquals(20000, split.getColumns().get(0).getDistinctCount(), 1000);
+    }
+
+    private File write(String content) throws Exception {
+        Path file = Files.createTempFile(tempDir, "profile", ".csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file.toFile();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service;
+
+import org.secretflow.secretpad.manager.integration.model.NodeDTO;
+import org.secretflow.secretpad.manager.integration.node.AbstractNodeManager;
+import org.secretflow.secretpad.manager.integration.noderoute.AbstractNodeRouteManager;
+import org.secretflow.secretpad.persistence.entity.NodeRouteDO;
+import org.secretflow.secretpad.persistence.repository.NodeRouteRepository;
+import org.secretflow.secretpad.service.impl.DomainStatusSnapshotServiceImpl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.secretflow.v1alpha1.kusciaapi.DomainRoute;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Domain status snapshot service test
+ *
+ * @author yansi
+ * @date 2023/9/7
+ */
+public class DomainStatusSnapshotServiceTest {
+
+    private final AbstractNodeManager nodeManager = Mockito.mock(AbstractNodeManager.class);
+
+    private final AbstractNodeRouteManager nodeRouteManager = Mockito.mock(AbstractNodeRouteManager.class);
+
+    private final NodeRouteRepository nodeRouteRepository = Mockito.mock(NodeRouteRepository.class);
+
+    private final DomainStatusSnapshotServiceImpl snapshotService = new DomainStatusSnapshotServiceImpl();
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(snapshotService, "nodeManager", nodeManager);
+        ReflectionTestUtils.setField(snapshotService, "nodeRouteManager", nodeRouteManager);
+        ReflectionTestUtils.setField(snapshotService, "nodeRouteRepository", nodeRouteRepository);
+        ReflectionTestUtils.setField(snapshotService, "enabled", true);
+        ReflectionTestUtils.setField(snapshotService, "ttlMillis", 60000L);
+    }
+
+    @Test
+    public void testServeFromSnapshot() {
+        NodeDTO alice = NodeDTO.builder().nodeId("alice").nodeStatus("Ready").build();
+        Mockito.when(nodeManager.listNodeStatus(Mockito.anyMap())).thenReturn(List.of(alice));
+        NodeRouteDO route = NodeRouteDO.builder().srcNodeId("alice").dstNodeId("bob").build();
+        Mockito.when(nodeRouteRepository.findAll()).thenReturn(List.of(route));
+        Mockito.when(nodeRouteManager.batchGetRouteStatus(Mockito.anyList())).thenReturn(List.of(DomainRoute.DomainRouteStatus.newBuilder()
+                .setSource("alice").setDestination("bob").setStatus(DomainRoute.RouteStatus.newBuilder().setStatus("Succeeded")).build()));
+
+        snapshotService.refreshAll();
+
+        Assertions.assertEquals("Ready", snapshotService.getNode("alice", false).getNodeStatus());
+        Assertions.assertEquals("Succeeded", snapshotService.getRouteStatus("alice", "bob", false).getStatus());
+        Mockito.verify(nodeManager, Mockito.never()).getNode(Mockito.any());
+        Mockito.verify(nodeRouteManager, Mockito.never()).getRouteStatus(Mockito.any(), Mockito.any());
+        Mockito.verify(nodeManager, Mockito.never()).listNode();
+    }
+
+    @Test
+    public void testRefreshPassesKnownNodes() {
+        NodeDTO alice = NodeDTO.builder().nodeId("alice").nodeStatus("Ready").cert("configured").nodeRole("partner").build();
+        Mockito.when(nodeManager.listNodeStatus(Mockito.anyMap())).thenReturn(List.of(alice));
+
+        snapshotService.refreshAll();
+        snapshotService.refreshAll();
+
+        ArgumentCaptor<Map<String, NodeDTO>> knownNodes = ArgumentCaptor.forClass(Map.class);
+        Mockito.verify(nodeManager, Mockito.times(2)).listNodeStatus(knownNodes.capture());
+        Assertions.assertTrue(knownNodes.getAllValues().get(0).isEmpty());
+        Assertions.assertSame(alice, knownNodes.getAllValues().get(1).get("alice"));
+    }
+
+    @Test
+    public void testForceRefreshAndExpiry() {
+        Mockito.when(nodeManager.getNode("alice")).thenReturn(NodeDTO.builder().nodeId("alice").nodeStatus("NotReady").build());
+        snapshotService.getNode("alice", false);
+        snapshotService.getNode("alice", false);
+        Mockito.verify(nodeManager, Mockito.times(1)).getNode("alice");
+
+        snapshotService.getNode("alice", true);
+        Mockito.verify(nodeManager, Mockito.times(2)).getNode("alice");
+
+        ReflectionTestUtils.setField(snapshotService, "ttlMillis", 0L);
+        snapshotService.getNode("alice", false);
+        Mockito.verify(nodeManager, Mockito.times(3)).getNode("alice");
+    }
+
+    @Test
+    public void testRefreshFailureKeepsSnapshot() {
+        Mockito.when(nodeManager.getNode("alice")).thenReturn(NodeDTO.builder().nodeId("alice").nodeStatus("Ready").build());
+        snapshotService.getNode("alice", false);
+        Mockito.when(nodeManager.listNodeStatus(Mockito.anyMap())).thenThrow(new IllegalStateException("kuscia unavailable"));
+
+        snapshotService.refreshAll();
+
+        Assertions.assertEquals("Ready", snapshotService.getNode("alice", false).getNodeStatus());
+        Mockito.verify(nodeManager, Mockito.times(1)).getNode("alice");
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service;
+
+import org.secretflow.secretpad.common.util.JsonUtils;
+import org.secretflow.secretpad.service.model.graph.ComponentKey;
+import org.secretflow.secretpad.service.model.graph.GraphNodeInfo;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.secretflow.proto.component.Comp;
+import org.secretflow.proto.pipeline.Pipeline;
+
+/**
+ * GraphNodeInfo nodeDef accessor test
+ *
+ * @author yansi
+ * @date 2023/9/6
+ */
+public class GraphNodeInfoTest {
+    private static final String NODE_DEF = "{\"attrPaths\":[\"datatable_selected\"],\"attrs\":[{\"s\":\"alice-table\"}],\"domain\":\"read_data\",\"name\":\"datatable\",\"version\":\"0.0.1\"}";
+
+    @Test
+    public void testMapNodeDef() {
+        GraphNodeInfo node = GraphNodeInfo.builder().nodeDef(JsonUtils.toJavaObject(NODE_DEF, Object.class)).build();
+        Assertions.assertEquals(new ComponentKey("read_data", "datatable", "0.0.1"), node.componentKey());
+        Assertions.assertEquals("alice-table", node.stringAttr(0));
+        Assertions.assertEquals("", node.stringAttr(1));
+        Pipeline.NodeDef nodeDef = node.pipelineNodeDef();
+        Assertions.assertSame(nodeDef, node.pipelineNodeDef());
+        Assertions.assertEquals("datatable_selected", nodeDef.getAttrPaths(0));
+    }
+
+    @Test
+    public void testReplacedNodeDef() {
+        GraphNodeInfo node = GraphNodeInfo.builder().nodeDef(JsonUtils.toJavaObject(NODE_DEF, Object.class)).build();
+        Assertions.assertEquals("read_data", node.componentKey().getDomain());
+        Pipeline.NodeDef replaced = Pipeline.NodeDef.newBuilder().setDomain("feature").setName("vert_woe_binning")
+                .addAttrs(Comp.Attribute.newBuilder().setS("bob-table").build()).build();
+        node.setNodeDef(replaced);
+        Assertions.assertEquals(new ComponentKey("feature", "vert_woe_binning", ""), node.componentKey());
+        Assertions.assertEquals("bob-table", node.stringAttr(0));
+        Assertions.assertSame(replaced, node.pipelineNodeDef());
+    }
+}
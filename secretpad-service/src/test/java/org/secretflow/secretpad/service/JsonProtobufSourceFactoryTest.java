@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service;
+
+import org.secretflow.secretpad.service.factory.JsonProtobufSourceFactory;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.secretflow.proto.component.Comp;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Json protobuf source factory binary snapshot test
+ *
+ * @author yansi
+ * @date 2023/9/7
+ */
+public class JsonProtobufSourceFactoryTest {
+    private static final Path COMPONENTS = Path.of("../config/components/secretflow.json");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testLoadFromSnapshot() throws IOException {
+        Path source = dir.resolve("secretflow.json");
+        Files.copy(COMPONENTS, source);
+        String[] locations = {dir.toString()};
+
+        List<Comp.CompListDef> fromJson = new JsonProtobufSourceFactory(locations).load();
+        List<Comp.CompListDef> firstLoad = new JsonProtobufSourceFactory(locations, true).load();
+        Path snapshot = JsonProtobufSourceFactory.snapshotPath(source);
+        Assertions.assertTrue(Files.isRegularFile(snapshot));
+        Assertions.assertEquals(fromJson, firstLoad);
+
+        long modified = Files.getLastModifiedTime(snapshot).toMillis();
+        List<Comp.CompListDef> fromSnapshot = new JsonProtobufSourceFactory(locations, true).load();
+        Assertions.assertEquals(fromJson, fromSnapshot);
+        Assertions.assertEquals(1, fromSnapshot.size());
+        Assertions.assertEquals(modified, Files.getLastModifiedTime(snapshot).toMillis());
+    }
+
+    @Test
+    public void testStaleSnapshotIgnored() throws IOException {
+        Path source = dir.resolve("comps.json");
+        Files.writeString(source, "{\"name\":\"old\"}");
+        String[] locations = {dir.toString()};
+        Assertions.assertEquals("old", new JsonProtobufSourceFactory(locations, true).load().get(0).getName());
+
+        Files.writeString(source, "{\"name\":\"new\"}");
+        Assertions.assertEquals("new", new JsonProtobufSourceFactory(locations, true).load().get(0).getName());
+
+        Files.write(JsonProtobufSourceFactory.snapshotPath(source), "broken".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertEquals("new", new JsonProtobufSourceFactory(locations, true).load().get(0).getName());
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service;
+
+import org.secretflow.secretpad.common.exception.SecretpadException;
+import org.secretflow.secretpad.service.model.common.PageCursor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Keyset page cursor test
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+public class PageCursorTest {
+
+    @Test
+    public void testNextAndDecode() {
+        LocalDateTime time = LocalDateTime.of(2023, 9, 8, 10, 30, 0);
+        List<Long> rows = List.of(5L, 4L, 3L);
+
+        Assertions.assertNull(PageCursor.next(rows, 3, 10, id -> time, id -> id));
+        String next = PageCursor.next(rows, 2, 10, id -> time, id -> id);
+        Assertions.assertNotNull(next);
+
+        PageCursor cursor = PageCursor.decode(next);
+        Assertions.assertFalse(cursor.isFirst());
+        Assertions.assertEquals("2023-09-08 10:30:00", cursor.getGmtCreate());
+        Assertions.assertEquals(4L, cursor.getId());
+        Assertions.assertEquals(10, cursor.getTotal());
+    }
+
+    @Test
+    public void testDecodeFirstAndInvalid() {
+        Assertions.assertTrue(PageCursor.decode("").isFirst());
+        Assertions.assertThrows(SecretpadException.class, () -> PageCursor.decode("bm90IGEgY3Vyc29y"));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.service;
+
+import org.secretflow.secretpad.manager.integration.model.NodeRouteDTO;
+import org.secretflow.secretpad.manager.integration.noderoute.NodeRouteChangedEvent;
+import org.secretflow.secretpad.persistence.entity.NodeRouteDO;
+import org.secretflow.secretpad.persistence.repository.NodeRouteRepository;
+import org.secretflow.secretpad.service.impl.RouteTopologyServiceImpl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.secretflow.v1alpha1.kusciaapi.DomainRoute;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Route topology service test
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+public class RouteTopologyServiceTest {
+
+    private final NodeRouteRepository nodeRouteRepository = Mockito.mock(NodeRouteRepository.class);
+
+    private final DomainStatusSnapshotService domainStatusSnapshotService = Mockito.mock(DomainStatusSnapshotService.class);
+
+    private final RouteTopologyServiceImpl topologyService = new RouteTopologyServiceImpl();
+
+    private final List<NodeRouteDO> routes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(topologyService, "nodeRouteRepository", nodeRouteRepository);
+        ReflectionTestUtils.setField(topologyService, "domainStatusSnapshotService", domainStatusSnapshotService);
+        Mockito.when(nodeRouteRepository.findAll()).thenAnswer(invocation -> List.copyOf(routes));
+        Mockito.when(domainStatusSnapshotService.getRouteStatus(Mockito.any(), Mockito.any(), Mockito.eq(false)))
+                .thenReturn(DomainRoute.RouteStatus.newBuilder().setStatus("Succeeded").build());
+        addRoute(1L, "alice", "bob");
+        addRoute(2L, "bob", "alice");
+        addRoute(3L, "alice", "carol");
+    }
+
+    @Test
+    public void testMissingRoutes() {
+        Set<String> parties = new LinkedHashSet<>(List.of("alice", "bob", "carol"));
+
+        Assertions.assertFalse(topologyService.isFullyConnected(parties));
+        List<NodeRouteDTO> missing = topologyService.missingRoutes(parties);
+        Assertions.assertEquals(List.of("bob->carol", "carol->alice", "carol->bob"),
+                missing.stream().map(it -> it.getSrcNodeId() + "->" + it.getDstNodeId()).toList());
+        Assertions.assertTrue(missing.stream().allMatch(it -> it.getRouteId() == null));
+
+        Assertions.assertTrue(topologyService.isFullyConnected(List.of("alice", "bob")));
+        Assertions.assertEquals(List.of("bob", "carol"), topologyService.neighbors("alice").stream().map(NodeRouteDTO::getDstNodeId).toList());
+        Assertions.assertTrue(topologyService.neighbors("dave").isEmpty());
+        Mockito.verify(nodeRouteRepository, Mockito.times(1)).findAll();
+    }
+
+    @Test
+    public void testRouteNotReady() {
+        Mockito.when(domainStatusSnapshotService.getRouteStatus("bob", "alice", false))
+                .thenReturn(DomainRoute.RouteStatus.newBuilder().setStatus("Failed").build());
+
+        List<NodeRouteDTO> missing = topologyService.missingRoutes(List.of("alice", "bob"));
+
+        Assertions.assertEquals(1, missing.size());
+        Assertions.assertEquals(2L, missing.get(0).getRouteId());
+        Assertions.assertEquals("Failed", missing.get(0).getStatus());
+    }
+
+    @Test
+    public void testRebuildOnRouteChanged() {
+        Assertions.assertFalse(topologyService.isFullyConnected(List.of("alice", "carol")));
+        addRoute(4L, "carol", "alice");
+        Assertions.assertFalse(topologyService.isFullyConnected(List.of("alice", "carol")));
+
+        topologyService.onNodeRouteChanged(new NodeRouteChangedEvent(this, "carol"));
+
+        Assertions.assertTrue(topologyService.isFullyConnected(List.of("alice", "carol")));
+    }
+
+    private void addRoute(Long id, String src, String dst) {
+        routes.add(NodeRouteDO.builder().id(id).srcNodeId(src).dstNodeId(dst).build());
+    }
+}
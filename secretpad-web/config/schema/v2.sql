@@ -0,0 +1,131 @@
+drop table `node`;
+create table if not exists `node`
+(
+    id              integer primary key autoincrement,
+    node_id         varchar(64)  not null,
+    name            varchar(256) not null,
+    auth            text,                                           -- ca
+    description     text        default '',                         -- description
+    control_node_id varchar(64)  not null,                          -- node control id
+    net_address     varchar(100),                                   -- node net address
+    token           varchar(100),                                   -- aging token used by node deploy
+    type            varchar(10) default 'normal',                   -- node type :embedded、normal
+    is_deleted      tinyint(1)  default '0' not null,               -- delete flag
+    gmt_create      datetime    default CURRENT_TIMESTAMP not null, -- create time
+    gmt_modified    datetime    default CURRENT_TIMESTAMP not null, -- modified time
+    create_by       varchar(128) not null,                          -- create by user name
+    update_by       varchar(128) not null                           -- update by user name
+);
+create unique index `upk_node_id` on node (`node_id`);
+create index `key_node_name` on node (`name`);
+
+drop table `node_route`;
+create table if not exists `node_route`
+(
+    id              integer primary key autoincrement,
+    src_node_id     varchar(64)  not null,
+    dst_node_id     varchar(64)  not null,
+    src_net_address varchar(100),                                  -- node net address
+    dst_net_address varchar(100),                                  -- cooperate node net address
+    is_deleted      tinyint(1) default '0' not null,               -- delete flag
+    gmt_create      datetime   default CURRENT_TIMESTAMP not null, -- create time
+    gmt_modified    datetime   default CURRENT_TIMESTAMP not null, -- modified time
+    create_by       varchar(128) not null,                         -- create by user name
+    update_by       varchar(128) not null                          -- update by user name
+);
+create unique index `upk_route_src_dst` on node_route (`src_node_id`, `dst_node_id`);
+create index `key_router_src` on node_route (`src_node_id`);
+create index `key_router_dst` on node_route (`dst_node_id`);
+
+
+-- project - new project and project info add compute_mode enum: pipeline,hub
+begin;
+alter table 'project'
+    add 'compute_mode' varchar(64) default 'pipeline' not null; -- compute_mode: pipeline,hub
+commit;
+
+
+create index if not exists `key_project_result_node_create` on project_result (`node_id`, `gmt_create`);
+-- keyset paging indexes, sqlite appends the rowid id to every index so (gmt_create, id) is covered
+create index if not exists `key_project_job_create` on project_job (`project_id`, `gmt_create`);
+create index if not exists `key_project_job_graph_create` on project_job (`project_id`, `graph_id`, `gmt_create`);
+create index if not exists `key_node_create` on node (`gmt_create`);
+create index if not exists `key_router_src_create` on node_route (`src_node_id`, `gmt_create`);
+
+-- datatable catalog, a local mirror of kuscia domain data metadata of tables
+create table if not exists `datatable_catalog`
+(
+    node_id        varchar(64)  not null, -- node id
+    datatable_id   varchar(64)  not null, -- domain data id
+    datatable_name varchar(256) not null, -- datatable name
+    type           varchar(32),           -- domain data type
+    vendor         varchar(64),           -- domain data vendor
+    status         varchar(32),           -- Available or Unavailable
+    relative_uri   varchar(512),          -- relative uri
+    datasource_id  varchar(64),           -- datasource id
+    attributes     text,                  -- domain data attributes json
+    columns        text,                  -- datatable schema json
+    gmt_synced     datetime     not null, -- last sync time
+    primary key (node_id, datatable_id)
+);
+create index if not exists `key_datatable_catalog_search` on datatable_catalog (`node_id`, `vendor`, `status`, `datatable_name`);
+
+-- global search, search_index is an fts5 trigram index over title and ref id of search_document keyed by the document id
+create table if not exists `search_document`
+(
+    id         integer primary key autoincrement,
+    kind       varchar(16)  not null,            -- Project, Graph, Datatable or Result
+    project_id varchar(64)  default '' not null, -- project id, empty for datatables
+    node_id    varchar(64)  default '' not null, -- node id, empty for projects and graphs
+    ref_id     varchar(64)  not null,            -- id of the document in its own table
+    title      varchar(256) not null             -- display name
+);
+create unique index if not exists `upk_search_document` on search_document (`kind`, `project_id`, `node_id`, `ref_id`);
+create virtual table if not exists `search_index` using fts5(title, ref_id, tokenize = 'trigram');
+
+-- chunked uploads, chunks are written in place into a partial file and recorded once their checksum is verified
+create table if not exists `upload_session`
+(
+    upload_id   varchar(64)  not null primary key, -- upload id
+    node_id     varchar(64)  not null,             -- node id
+    file_name   varchar(256) not null,             -- file name given by the user
+    real_name   varchar(256) not null,             -- file name under the data dir of the node
+    file_size   bigint       not null,             -- file size in bytes
+    chunk_size  bigint       not null,             -- chunk size in bytes, the last chunk may be shorter
+    chunk_count integer      not null,             -- number of chunks
+    gmt_create  datetime     not null,             -- create time
+    gmt_active  datetime     not null              -- time of the last received chunk
+);
+create index if not exists `key_upload_session_active` on upload_session (`gmt_active`);
+create table if not exists `upload_chunk`
+(
+    upload_id   varchar(64) not null, -- upload id
+    chunk_index integer     not null, -- chunk index, the chunk starts at chunk_index * chunk_size
+    size        bigint      not null, -- chunk size in bytes
+    checksum    varchar(64) not null, -- sha-256 hex of the chunk
+    primary key (upload_id, chunk_index)
+);
+
+-- profiles of uploaded csv files, inferred at upload time and kept with the datatables created from them
+create table if not exists `datatable_profile`
+(
+    node_id      varchar(64)  not null, -- node id
+    relative_uri varchar(256) not null, -- file name under the data dir of the node, the relative uri of the datatable
+    row_count    bigint       not null, -- number of data rows
+    columns      text,                  -- column profiles json
+    gmt_create   datetime     not null, -- profile time
+    primary key (node_id, relative_uri)
+);
+
+-------- add mock data --------------
+insert into main.node (node_id, name, control_node_id, auth, description, type, is_deleted, create_by, update_by,
+                       net_address)
+values ('alice', 'alice', 'alice', 'alice', 'alice', 'embedded', 0, 'admin', 'admin', '127.0.0.1:28080'),
+       ('bob', 'bob', 'bob', 'bob', 'bob', 'embedded', 0, 'admin', 'admin', '127.0.0.1:38080');
+
+insert into main.node_route (src_node_id, dst_node_id, is_deleted, create_by, update_by,
+                             src_net_address, dst_net_address)
+values ('alice', 'bob', 0, 'admin', 'admin', '127.0.0.1:28080',
+        '127.0.0.1:38080'),
+       ('bob', 'alice', 0, 'admin', 'admin', '127.0.0.1:38080',
+        '127.0.0.1:28080');
\ No newline at end of file
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.web.cache;
+
+import org.secretflow.secretpad.common.util.Sha256Utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.*;
+import org.springframework.util.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pre-serialized and pre-gzipped response body with a content hash ETag
+ *
+ * @author yansi
+ * @date 2023/9/7
+ */
+public final class CachedResponse {
+    private final byte[] body;
+
+    private final byte[] gzipBody;
+
+    private final String etag;
+
+    private CachedResponse(byte[] body, byte[] gzipBody, String etag) {
+        this.body = body;
+        this.gzipBody = gzipBody;
+        this.etag = etag;
+    }
+
+    /**
+     * Build a new cached response from json body bytes
+     *
+     * @param body json body bytes
+     * @return a new cached response
+     */
+    public static CachedResponse of(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(body.length / 4, 64));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new CachedResponse(body, out.toByteArray(), "\"" + HexFormat.of().formatHex(Sha256Utils.hash(body)) + "\"");
+    }
+
+    /**
+     * Get quoted ETag of the body
+     *
+     * @return quoted ETag
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * Build response entity for the request, answer 304 when the GET request carries a matching If-None-Match header,
+     * and send the gzipped body when the client accepts gzip
+     *
+     * @param request http servlet request
+     * @return response entity
+     */
+    public ResponseEntity<byte[]> toResponseEntity(HttpServletRequest request) {
+        if (HttpMethod.GET.matches(request.getMethod()) && etagMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").contentLength(gzipBody.length).body(gzipBody);
+        }
+        return builder.contentLength(body.length).body(body);
+    }
+
+    private boolean etagMatches(String ifNoneMatch) {
+        if (!StringUtils.hasText(ifNoneMatch)) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || etag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if ("gzip".equalsIgnoreCase(parts[0].trim())) {
+                return parts.length < 2 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
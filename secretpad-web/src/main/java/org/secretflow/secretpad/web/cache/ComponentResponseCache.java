@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.web.cache;
+
+import org.secretflow.secretpad.service.GraphService;
+import org.secretflow.secretpad.service.graph.ComponentRegistry;
+import org.secretflow.secretpad.service.model.common.SecretPadResponse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache of the component list and component i18n responses.
+ * Entries are bound to the component registry snapshot they were built from, so a registry reload invalidates them.
+ *
+ * @author yansi
+ * @date 2023/9/7
+ */
+@Component
+public class ComponentResponseCache {
+
+    @Autowired
+    private GraphService graphService;
+
+    @Autowired
+    private ComponentRegistry componentRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final AtomicReference<Entry> components = new AtomicReference<>();
+
+    private final AtomicReference<Entry> componentI18n = new AtomicReference<>();
+
+    /**
+     * Get cached component list response
+     *
+     * @return cached response
+     */
+    public CachedResponse components() {
+        return getOrBuild(components, graphService::listComponents);
+    }
+
+    /**
+     * Get cached component international config response
+     *
+     * @return cached response
+     */
+    public CachedResponse componentI18n() {
+        return getOrBuild(componentI18n, graphService::listComponentI18n);
+    }
+
+    private CachedResponse getOrBuild(AtomicReference<Entry> ref, Supplier<Object> loader) {
+        ComponentRegistry.Snapshot snapshot = componentRegistry.current();
+        Entry entry = ref.get();
+        if (entry != null && entry.source == snapshot) {
+            return entry.response;
+        }
+        // concurrent builders produce identical bytes for the same snapshot, so the last write simply wins
+        CachedResponse response = CachedResponse.of(serialize(SecretPadResponse.success(loader.get())));
+        ref.set(new Entry(snapshot, response));
+        return response;
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final ComponentRegistry.Snapshot source;
+        private final CachedResponse response;
+    }
+}
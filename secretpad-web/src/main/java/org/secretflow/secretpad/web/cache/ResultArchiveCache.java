@@ -0,0 +1,289 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.web.cache;
+
+import org.secretflow.secretpad.common.util.CompressUtils;
+import org.secretflow.secretpad.common.util.ParallelGzipCompressor;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Disk cache of the tar.gz archives of directory results.
+ * Archives are keyed by a fingerprint of the directory, its path and the relative path, size and modified time of every file,
+ * so an unchanged result is archived once and a changed result simply gets a new key.
+ * An archive is never built ahead of a download: the first download of a directory streams the archive at once and tees it
+ * into the cache, one build per archive at a time, while concurrent first downloads stream without caching.
+ * Least recently used archives are evicted over the quota.
+ * Archives used within the min idle time are never evicted, as the file is opened for sending only after it is handed out.
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Component
+public class ResultArchiveCache {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(ResultArchiveCache.class);
+
+    private static final String ARCHIVE_SUFFIX = ".tar.gz";
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    @Autowired
+    private ParallelGzipCompressor archiveGzipCompressor;
+
+    @Value("${secretpad.data.download.archive-cache.dir-path:${secretpad.data.dir-path:/app/data/}.archive-cache/}")
+    private String cacheDir;
+
+    /**
+     * Disk quota of cached archives in bytes, 0 or negative disables the cache and archives are streamed on the fly
+     */
+    @Value("${secretpad.data.download.archive-cache.max-bytes:10737418240}")
+    private long maxBytes;
+
+    @Value("${secretpad.data.download.archive-cache.min-idle-millis:60000}")
+    private long minIdleMillis;
+
+    /**
+     * Cached archives in least recently used order, guarded by this
+     */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long totalBytes;
+
+    /**
+     * Keys of the archives being teed into the cache
+     */
+    private final Set<String> building = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Load the archives left by the last run in modified time order and drop unfinished builds
+     *
+     * @throws IOException when the cache directory cannot be read
+     */
+    @PostConstruct
+    public void init() throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+        Path dir = Files.createDirectories(Path.of(cacheDir));
+        List<File> archives = new ArrayList<>();
+        try (Stream<Path> list = Files.list(dir)) {
+            for (Path path : list.collect(Collectors.toList())) {
+                String name = path.getFileName().toString();
+                if (name.endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(path);
+                } else if (name.endsWith(ARCHIVE_SUFFIX)) {
+                    archives.add(path.toFile());
+                }
+            }
+        }
+        archives.sort(Comparator.comparingLong(File::lastModified));
+        synchronized (this) {
+            for (File archive : archives) {
+                String key = archive.getName().substring(0, archive.getName().length() - ARCHIVE_SUFFIX.length());
+                entries.put(key, new Entry(archive, archive.length(), archive.lastModified()));
+                totalBytes += archive.length();
+            }
+            evict();
+        }
+        LOGGER.info("archive cache loaded {} archives, {} bytes", archives.size(), totalBytes);
+    }
+
+    /**
+     * Whether archives are cached, otherwise the caller streams them
+     *
+     * @return whether enabled
+     */
+    public boolean isEnabled() {
+        return maxBytes > 0;
+    }
+
+    /**
+     * Find the cached archive of a directory
+     *
+     * @param dir directory to archive
+     * @return archive file, null when the cache is disabled or the directory is not cached or has changed since
+     * @throws IOException when walking the directory fails
+     */
+    public File find(File dir) throws IOException {
+        return isEnabled() ? lookup(fingerprint(dir)) : null;
+    }
+
+    /**
+     * Stream the archive of a directory that is not cached, the archive is teed into the cache unless another download
+     * is building it already. A failed or aborted download leaves nothing in the cache
+     *
+     * @param dir directory to archive
+     * @param out output of the download
+     * @throws IOException when walking the directory or writing the archive fails
+     */
+    public void stream(File dir, OutputStream out) throws IOException {
+        String key = isEnabled() ? fingerprint(dir) : null;
+        if (key == null || !building.add(key)) {
+            CompressUtils.writeTarGz(dir, out, archiveGzipCompressor);
+            return;
+        }
+        try {
+            build(dir, key, out);
+        } finally {
+            building.remove(key);
+        }
+    }
+
+    private synchronized File lookup(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.file.exists()) {
+            entries.remove(key);
+            totalBytes -= entry.size;
+            return null;
+        }
+        entry.lastAccess = System.currentTimeMillis();
+        return entry.file;
+    }
+
+    private void build(File dir, String key, OutputStream download) throws IOException {
+        Path target = Path.of(cacheDir, key + ARCHIVE_SUFFIX);
+        Path temp = Files.createTempFile(Files.createDirectories(Path.of(cacheDir)), key, TEMP_SUFFIX);
+        long start = System.currentTimeMillis();
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp), 1024 * 1024)) {
+                CompressUtils.writeTarGz(dir, new Tee(download, out), archiveGzipCompressor);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        File archive = target.toFile();
+        synchronized (this) {
+            Entry previous = entries.put(key, new Entry(archive, archive.length(), System.currentTimeMillis()));
+            if (previous != null) {
+                totalBytes -= previous.size;
+            }
+            totalBytes += archive.length();
+            evict();
+        }
+        LOGGER.info("archive of {} built in {} ms, {} bytes", dir.getName(), System.currentTimeMillis() - start, archive.length());
+    }
+
+    /**
+     * Delete least recently used archives until the quota is met, skipping archives used within the min idle time
+     */
+    private synchronized void evict() {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Entry entry = iterator.next().getValue();
+            if (now - entry.lastAccess < minIdleMillis) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(entry.file.toPath());
+            } catch (IOException e) {
+                LOGGER.warn("evict archive {} failed: {}", entry.file.getName(), e.getMessage());
+                continue;
+            }
+            iterator.remove();
+            totalBytes -= entry.size;
+            LOGGER.info("archive {} evicted, {} bytes", entry.file.getName(), entry.size);
+        }
+    }
+
+    private String fingerprint(File dir) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        Path root = dir.toPath().toAbsolutePath().normalize();
+        digest.update(root.toString().getBytes(StandardCharsets.UTF_8));
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            digest.update(("\0" + root.relativize(file) + "\0" + attributes.size() + "\0"
+                    + attributes.lastModifiedTime().toMillis()).getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Output writing to the download and the cache file, the download is not closed as the caller owns it
+     */
+    @AllArgsConstructor
+    private static class Tee extends OutputStream {
+        private final OutputStream download;
+        private final OutputStream file;
+
+        @Override
+        public void write(int b) throws IOException {
+            download.write(b);
+            file.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            download.write(b, off, len);
+            file.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            download.flush();
+            file.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final File file;
+        private final long size;
+        private long lastAccess;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.secretflow.secretpad.web.configuration;
+
+import org.secretflow.secretpad.common.util.ParallelGzipCompressor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for data downloads, directory results are streamed as archives compressed in parallel
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Configuration
+public class DownloadConfiguration {
+
+    /**
+     * Threads compressing archive blocks, shared by all archives, 0 for the number of processors
+     */
+    @Value("${secretpad.data.download.gzip-threads:0}")
+    private int gzipThreads;
+
+    /**
+     * Uncompressed size of the blocks compressed in parallel
+     */
+    @Value("${secretpad.data.download.gzip-block-size:131072}")
+    private int gzipBlockSize;
+
+    /**
+     * Parallel gzip compressor of streamed archives
+     *
+     * @return parallel gzip compressor
+     */
+    @Bean(destroyMethod = "close")
+    public ParallelGzipCompressor archiveGzipCompressor() {
+        return new ParallelGzipCompressor(gzipThreads, gzipBlockSize);
+    }
+
+}
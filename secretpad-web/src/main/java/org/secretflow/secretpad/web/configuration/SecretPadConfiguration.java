@@ -18,8 +18,12 @@ package org.secretflow.secretpad.web.configuration;
 
 import org.secretflow.secretpad.common.i18n.LocaleMessageResolver;
 import org.secretflow.secretpad.common.i18n.MessageResolver;
+import org.secretflow.secretpad.manager.integration.datatable.AbstractDatatableManager;
+import org.secretflow.secretpad.manager.integration.datatable.CachingDatatableManager;
 import org.secretflow.secretpad.web.exception.BasicErrorHandler;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.web.ServerProperties;
@@ -66,6 +70,21 @@ public class SecretPadConfiguration {
         return new LocaleMessageResolver(messageSource);
     }
 
+    /**
+     * Bind hit, miss and eviction metrics of the datatable metadata cache
+     *
+     * @param datatableManager datatable manager
+     * @return meter binder
+     */
+    @Bean
+    public MeterBinder datatableMetadataCacheMetrics(AbstractDatatableManager datatableManager) {
+        return registry -> {
+            if (datatableManager instanceof CachingDatatableManager cachingDatatableManager) {
+                GuavaCacheMetrics.monitor(registry, cachingDatatableManager.getCache(), "datatable.metadata");
+            }
+        };
+    }
+
     @Bean
     public BasicErrorHandler basicErrorController(ErrorAttributes errorAttributes, ServerProperties serverProperties,
                                                   ObjectProvider<List<ErrorViewResolver>> errorViewResolversProvider) {
@@ -21,19 +21,27 @@ import org.secretflow.secretpad.common.exception.SecretpadException;
 import org.secretflow.secretpad.service.DataService;
 import org.secretflow.secretpad.service.model.common.SecretPadResponse;
 import org.secretflow.secretpad.service.model.data.*;
+import org.secretflow.secretpad.service.model.node.NodeIdRequest;
+import org.secretflow.secretpad.web.cache.ResultArchiveCache;
+import org.secretflow.secretpad.web.transfer.TransferExecutor;
+import org.secretflow.secretpad.web.transfer.TransferLimiter;
+import org.secretflow.secretpad.web.util.FileResponseUtils;
 
-import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
-import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 
@@ -51,25 +59,136 @@ public class DataController {
 
     public final DataService dataService;
 
+    private final ResultArchiveCache resultArchiveCache;
+
+    private final TransferLimiter transferLimiter;
+
+    private final TransferExecutor transferExecutor;
+
+    /**
+     * Whether downloads of whole files may be handed over to tomcat sendfile. Tomcat sends the file after the request
+     * has been processed and tells nobody when it is done, so sendfile is used only when no transfer limit applies
+     */
+    @Value("${secretpad.data.download.sendfile:true}")
+    private boolean sendfile;
+
     @Autowired
-    public DataController(DataService dataService) {
+    public DataController(DataService dataService, ResultArchiveCache resultArchiveCache, TransferLimiter transferLimiter,
+                          TransferExecutor transferExecutor) {
         this.dataService = dataService;
+        this.resultArchiveCache = resultArchiveCache;
+        this.transferLimiter = transferLimiter;
+        this.transferExecutor = transferExecutor;
     }
 
     /**
-     * Upload data api
+     * Upload data api, the uploaded file is stored on the transfer executor
      *
-     * @param nodeId target nodeId
-     * @param file   multipart file
+     * @param nodeId      target nodeId
+     * @param file        multipart file
      * @return successful SecretPadResponse with upload data result view object
      */
     @ResponseBody
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public SecretPadResponse<UploadDataResultVO> upload(
+    public WebAsyncTask<SecretPadResponse<UploadDataResultVO>> upload(
             @RequestParam(value = "Node-Id") String nodeId,
             @RequestParam("file") MultipartFile file
     ) {
-        return SecretPadResponse.success(dataService.upload(file, nodeId));
+        return transferExecutor.submit(transferLimiter.acquire(nodeId),
+                () -> SecretPadResponse.success(dataService.upload(file, nodeId)));
+    }
+
+    /**
+     * Upload data api streaming the raw file as the request body, so it is never buffered as multipart.
+     * A .csv.gz file is decompressed and a .tar.gz or .zip archive extracted on the transfer executor while the body arrives
+     *
+     * @param nodeId      target nodeId
+     * @param fileName    file name
+     * @param httpRequest http servlet request
+     * @return successful SecretPadResponse with upload data result view object
+     */
+    @ResponseBody
+    @PostMapping(value = "/upload/stream", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public WebAsyncTask<SecretPadResponse<UploadDataResultVO>> uploadStream(
+            @RequestParam(value = "Node-Id") String nodeId,
+            @RequestParam(value = "fileName") String fileName,
+            HttpServletRequest httpRequest
+    ) {
+        return transferExecutor.submit(transferLimiter.acquire(nodeId), () -> {
+            try (InputStream content = httpRequest.getInputStream()) {
+                return SecretPadResponse.success(dataService.upload(nodeId, fileName, content));
+            } catch (IOException e) {
+                LOGGER.error(e.getMessage());
+                throw SecretpadException.of(SystemErrorCode.UNKNOWN_ERROR, e);
+            }
+        });
+    }
+
+    /**
+     * Start a chunked upload api
+     *
+     * @param request init upload request
+     * @return successful SecretPadResponse with upload session view object
+     */
+    @ResponseBody
+    @PostMapping(value = "/upload/init", consumes = "application/json")
+    public SecretPadResponse<UploadSessionVO> initUpload(@Valid @RequestBody InitUploadRequest request) {
+        return SecretPadResponse.success(dataService.initUpload(request));
+    }
+
+    /**
+     * Upload one chunk of a chunked upload api, the request body is the raw chunk content so it is never buffered as multipart.
+     * The body is read on the transfer executor
+     *
+     * @param uploadId   upload id
+     * @param chunkIndex chunk index
+     * @param checksum   sha-256 hex of the chunk
+     * @param request    http servlet request
+     * @return successful SecretPadResponse with received chunk view object
+     */
+    @ResponseBody
+    @PostMapping(value = "/upload/chunk", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public WebAsyncTask<SecretPadResponse<UploadChunkVO>> uploadChunk(
+            @RequestParam(value = "uploadId") String uploadId,
+            @RequestParam(value = "chunkIndex") int chunkIndex,
+            @RequestParam(value = "checksum") String checksum,
+            HttpServletRequest request
+    ) {
+        String nodeId = dataService.queryUpload(new UploadSessionRequest(uploadId)).getNodeId();
+        return transferExecutor.submit(transferLimiter.acquire(nodeId), () -> {
+            try (InputStream content = request.getInputStream()) {
+                return SecretPadResponse.success(dataService.uploadChunk(uploadId, chunkIndex, checksum, content));
+            } catch (IOException e) {
+                LOGGER.error(e.getMessage());
+                throw SecretpadException.of(SystemErrorCode.UNKNOWN_ERROR, e);
+            }
+        });
+    }
+
+    /**
+     * Query a chunked upload api, used to resume an interrupted upload
+     *
+     * @param request upload session request
+     * @return successful SecretPadResponse with upload session view object
+     */
+    @ResponseBody
+    @PostMapping(value = "/upload/status", consumes = "application/json")
+    public SecretPadResponse<UploadSessionVO> queryUpload(@Valid @RequestBody UploadSessionRequest request) {
+        return SecretPadResponse.success(dataService.queryUpload(request));
+    }
+
+    /**
+     * Complete a chunked upload api, the chunks are joined and an archive extracted on the transfer executor
+     *
+     * @param request upload session request
+     * @return successful SecretPadResponse with upload data result view object
+     */
+    @ResponseBody
+    @PostMapping(value = "/upload/complete", consumes = "application/json")
+    public WebAsyncTask<SecretPadResponse<UploadDataResultVO>> completeUpload(@Valid @RequestBody UploadSessionRequest request) {
+        String nodeId = dataService.queryUpload(request).getNodeId();
+        return transferExecutor.submit(transferLimiter.acquire(nodeId),
+                () -> SecretPadResponse.success(dataService.completeUpload(request)));
     }
 
     /**
@@ -92,37 +211,102 @@ public class DataController {
     }
 
     /**
-     * Download data api
+     * Download data api, a single HTTP Range is supported so clients can resume or download parts in parallel.
+     * Directory results are downloaded as a tar.gz archive. The first download streams it on the fly without length and ranges
+     * and tees it into the result archive cache, later downloads are served from the cache with ranges.
+     * Status and headers are set before the body is written on the transfer executor,
+     * or sent by tomcat sendfile when available and no transfer limit applies
      *
-     * @param response http servlet response
-     * @param request  download data request
-     * @return successful SecretPadResponse with null data
+     * @param httpRequest http servlet request
+     * @param response    http servlet response
+     * @param request     download data request
+     * @return async task writing the body, null when there is no body or sendfile writes it
      */
     @ResponseBody
     @PostMapping(value = "/download")
-    public void download(HttpServletResponse response, @Valid @RequestBody DownloadDataRequest request) {
+    public WebAsyncTask<Void> download(HttpServletRequest httpRequest, HttpServletResponse response,
+                                       @Valid @RequestBody DownloadDataRequest request) {
         DownloadInfo downloadInfo = dataService.download(request);
-        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
-        response.setHeader("Content-Disposition", "attachment;filename*=UTF-8''" + downloadInfo.getFileName());
-        response.setContentLength((int) new File(downloadInfo.getFilePath()).length());
+        File file = new File(downloadInfo.getFilePath());
+        TransferLimiter.Permit permit = transferLimiter.acquire(request.getNodeId());
         try {
-            ServletOutputStream outputStream = response.getOutputStream();
-            InputStream inputStream = new FileInputStream(downloadInfo.getFilePath());
-            byte[] buf = new byte[1024];
-            int len;
-            while ((len = inputStream.read(buf)) > 0) {
-                outputStream.write(buf, 0, len);
+            File source = downloadInfo.isArchive() ? resultArchiveCache.find(file) : file;
+            if (source == null) {
+                // the archive is not cached, it is streamed at once without length and ranges and teed into the cache
+                response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment;filename*=UTF-8''" + downloadInfo.getFileName());
+                response.setHeader(HttpHeaders.ACCEPT_RANGES, "none");
+                return transferExecutor.submit(permit, () -> {
+                    try {
+                        resultArchiveCache.stream(file, response.getOutputStream());
+                    } catch (IOException e) {
+                        // the response is committed already, the client sees a truncated archive
+                        LOGGER.error("stream archive of {} failed: {}", downloadInfo.getFileName(), e.getMessage());
+                        throw e;
+                    }
+                    return null;
+                });
             }
-            inputStream.close();
+            FileResponseUtils.Range range = FileResponseUtils.prepare(httpRequest, response, source, downloadInfo.getFileName(),
+                    sendfile && !transferLimiter.isLimited());
+            if (range == null) {
+                permit.close();
+                return null;
+            }
+            return transferExecutor.submit(permit, () -> {
+                FileResponseUtils.write(source, range, response.getOutputStream());
+                return null;
+            });
         } catch (Exception e) {
-            LOGGER.error(e.getMessage());
+            permit.close();
+            LOGGER.error("download {} failed: {}", downloadInfo.getFileName(), e.getMessage());
             throw SecretpadException.of(SystemErrorCode.UNKNOWN_ERROR, e);
         }
     }
 
+    /**
+     * Download data api taking the ids as query parameters, so browsers and download tools can fetch and resume
+     * a download with plain GET requests. Same as {@link #download(HttpServletRequest, HttpServletResponse, DownloadDataRequest)}
+     *
+     * @param httpRequest  http servlet request
+     * @param response     http servlet response
+     * @param nodeId       node id
+     * @param domainDataId domain data id
+     * @return async task writing the body, null when there is no body or sendfile writes it
+     */
+    @GetMapping(value = "/download")
+    public WebAsyncTask<Void> download(HttpServletRequest httpRequest, HttpServletResponse response,
+                                       @RequestParam(value = "nodeId") String nodeId,
+                                       @RequestParam(value = "domainDataId") String domainDataId) {
+        return download(httpRequest, response, new DownloadDataRequest(nodeId, domainDataId));
+    }
+
+    /**
+     * Preview data api, returns the first rows or a random sample of rows of a datatable or result as typed values
+     *
+     * @param request preview data request
+     * @return successful SecretPadResponse with data preview view object
+     */
+    @ResponseBody
+    @PostMapping(value = "/preview", consumes = "application/json")
+    public SecretPadResponse<DataPreviewVO> preview(@Valid @RequestBody PreviewDataRequest request) {
+        return SecretPadResponse.success(dataService.preview(request));
+    }
+
+    /**
+     * Upload deduplication statistics api
+     *
+     * @param request node id request
+     * @return successful SecretPadResponse with deduplication statistics view object
+     */
+    @ResponseBody
+    @PostMapping(value = "/dedup/stats", consumes = "application/json")
+    public SecretPadResponse<DedupStatsVO> dedupStats(@Valid @RequestBody NodeIdRequest request) {
+        return SecretPadResponse.success(dataService.dedupStats(request));
+    }
+
     @PostMapping(value = "/listDataSource")
     public SecretPadResponse<List<DataSourceVO>> listDataSource() {
         return SecretPadResponse.success(dataService.queryDataSources());
     }
-
 }
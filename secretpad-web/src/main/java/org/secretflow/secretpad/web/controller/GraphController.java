@@ -20,14 +20,14 @@ import org.secretflow.secretpad.common.util.ProtoUtils;
 import org.secretflow.secretpad.service.GraphService;
 import org.secretflow.secretpad.service.model.common.SecretPadResponse;
 import org.secretflow.secretpad.service.model.graph.*;
+import org.secretflow.secretpad.web.cache.ComponentResponseCache;
 
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
@@ -44,26 +44,31 @@ public class GraphController {
     @Autowired
     private GraphService graphService;
 
+    @Autowired
+    private ComponentResponseCache componentResponseCache;
+
     /**
-     * List component international config api
+     * List component international config api, the pre-serialized response supports gzip and If-None-Match on GET
      *
+     * @param request http servlet request
      * @return successful SecretPadResponse with component international config
      */
-    @PostMapping("/component/i18n")
+    @RequestMapping(value = "/component/i18n", method = {RequestMethod.GET, RequestMethod.POST})
     @Operation(summary = "component international config")
-    public SecretPadResponse<Object> listComponentI18n() {
-        return SecretPadResponse.success(graphService.listComponentI18n());
+    public ResponseEntity<byte[]> listComponentI18n(HttpServletRequest request) {
+        return componentResponseCache.componentI18n().toResponseEntity(request);
     }
 
     /**
-     * List component api
+     * List component api, the pre-serialized response supports gzip and If-None-Match on GET
      *
+     * @param request http servlet request
      * @return successful SecretPadResponse with component list view object
      */
-    @PostMapping("/component/list")
+    @RequestMapping(value = "/component/list", method = {RequestMethod.GET, RequestMethod.POST})
     @Operation(summary = "component list")
-    public SecretPadResponse<CompListVO> listComponents() {
-        return SecretPadResponse.success(graphService.listComponents());
+    public ResponseEntity<byte[]> listComponents(HttpServletRequest request) {
+        return componentResponseCache.components().toResponseEntity(request);
     }
 
     /**
@@ -215,6 +220,30 @@ public class GraphController {
         return SecretPadResponse.success(graphService.getGraphDetail(request));
     }
 
+    /**
+     * Query slim graph detail api, node nodeDef, inputs and outputs are not included
+     *
+     * @param request get graph detail request
+     * @return successful SecretPadResponse with slim graph detail view object
+     */
+    @Operation(summary = "slim graph detail with node layout and status only")
+    @PostMapping("/graph/detail/slim")
+    public SecretPadResponse<GraphDetailVO> getGraphDetailSlim(@Valid @RequestBody GetGraphRequest request) {
+        return SecretPadResponse.success(graphService.getGraphDetailSlim(request));
+    }
+
+    /**
+     * Batch query graph node detail api
+     *
+     * @param request batch get graph node request
+     * @return successful SecretPadResponse with graph node information list
+     */
+    @Operation(summary = "batch graph node detail")
+    @PostMapping("/graph/node/batch")
+    public SecretPadResponse<List<GraphNodeInfo>> batchGetGraphNode(@Valid @RequestBody BatchGetGraphNodeRequest request) {
+        return SecretPadResponse.success(graphService.batchGetGraphNode(request));
+    }
+
     /**
      * Query graph node output api
      *
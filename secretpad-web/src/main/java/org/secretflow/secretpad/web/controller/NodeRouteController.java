@@ -46,6 +46,11 @@ public class NodeRouteController {
         return SecretPadResponse.success(nodeRouterService.createNodeRouter(request));
     }
 
+    @PostMapping(value = "/batchCreate", consumes = "application/json")
+    public SecretPadResponse<List<NodeRouteProvisionVO>> batchCreate(@Valid @RequestBody BatchCreateNodeRouterRequest request) {
+        return SecretPadResponse.success(nodeRouterService.batchCreateNodeRouter(request));
+    }
+
     @PostMapping(value = "/page", consumes = "application/json")
     public SecretPadResponse<SecretPadPageResponse<NodeRouterVO>> page(@Valid @RequestBody PageNodeRouteRequest query) {
         return SecretPadResponse.success(nodeRouterService.queryPage(query, query.of()));
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.secretflow.secretpad.web.controller;
+
+import org.secretflow.secretpad.service.SearchService;
+import org.secretflow.secretpad.service.model.common.SecretPadPageResponse;
+import org.secretflow.secretpad.service.model.common.SecretPadResponse;
+import org.secretflow.secretpad.service.model.search.SearchHitVO;
+import org.secretflow.secretpad.service.model.search.SearchRequest;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Global search controller
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(value = "/api/v1alpha1/search")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /**
+     * Search projects, graphs, datatables and results by name or id
+     *
+     * @param request search request
+     * @return successful SecretPadResponse with page of search hits
+     */
+    @PostMapping(value = "/page", consumes = "application/json")
+    public SecretPadResponse<SecretPadPageResponse<SearchHitVO>> search(@Valid @RequestBody SearchRequest request) {
+        return SecretPadResponse.success(searchService.search(request));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.web.transfer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Bounded I/O executor of uploads and downloads, each transfer runs as an async request task on it
+ * so slow clients hold no request threads of the servlet container.
+ * Only transfer endpoints use it, other async requests keep the executor and timeout of the container.
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Component
+public class TransferExecutor {
+
+    /**
+     * Threads writing and reading transfer bodies, one per transfer in progress, see the transfer limits
+     */
+    @Value("${secretpad.data.transfer.io-threads:64}")
+    private int ioThreads;
+
+    /**
+     * Time a transfer may take from its start to its last byte, its request fails after it.
+     * A client that stops reading fails its blocked write earlier, after the socket timeout of the connector
+     */
+    @Value("${secretpad.data.transfer.timeout-millis:3600000}")
+    private long timeoutMillis;
+
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        int threads = Math.max(1, ioThreads);
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads);
+        executor.setThreadNamePrefix("transfer-io-");
+        executor.setDaemon(true);
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * Run a transfer as the async task of its request. The permit is released as soon as the transfer ends,
+     * or when the request completes without the transfer having run because it timed out or was rejected
+     *
+     * @param permit   transfer permit
+     * @param transfer transfer reading the request or writing the response
+     * @param <T>      result type
+     * @return async task of the request
+     */
+    public <T> WebAsyncTask<T> submit(TransferLimiter.Permit permit, Callable<T> transfer) {
+        WebAsyncTask<T> task = new WebAsyncTask<>(timeoutMillis, executor, () -> {
+            try (permit) {
+                return transfer.call();
+            }
+        });
+        task.onCompletion(permit::close);
+        return task;
+    }
+}
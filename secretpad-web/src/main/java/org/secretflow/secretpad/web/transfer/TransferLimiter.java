@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.web.transfer;
+
+import org.secretflow.secretpad.common.errorcode.DataErrorCode;
+import org.secretflow.secretpad.common.exception.SecretpadException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Global and per node limits of the uploads and downloads in progress.
+ * A transfer over a limit is rejected at once rather than queued, so waiting transfers never hold request threads
+ * and clients retry later.
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@Component
+public class TransferLimiter {
+
+    /**
+     * Transfers in progress in total, 0 or negative for no limit
+     */
+    @Value("${secretpad.data.transfer.max-concurrent:64}")
+    private int maxConcurrent;
+
+    /**
+     * Transfers in progress per node, 0 or negative for no limit
+     */
+    @Value("${secretpad.data.transfer.max-concurrent-per-node:16}")
+    private int maxConcurrentPerNode;
+
+    private final AtomicInteger active = new AtomicInteger();
+
+    /**
+     * Transfers in progress per node, a node without transfers has no entry
+     */
+    private final Map<String, Integer> activeByNode = new ConcurrentHashMap<>();
+
+    /**
+     * Acquire a permit for a transfer of a node, it must be closed once the transfer ends
+     *
+     * @param nodeId node id
+     * @return transfer permit
+     * @throws SecretpadException when a limit is reached
+     */
+    public Permit acquire(String nodeId) {
+        if (active.incrementAndGet() > maxConcurrent && maxConcurrent > 0) {
+            active.decrementAndGet();
+            throw SecretpadException.of(DataErrorCode.TRANSFER_LIMIT_EXCEEDED, maxConcurrent + " in total");
+        }
+        boolean[] acquired = new boolean[1];
+        activeByNode.compute(nodeId, (key, count) -> {
+            int current = count == null ? 0 : count;
+            acquired[0] = current < maxConcurrentPerNode || maxConcurrentPerNode <= 0;
+            return acquired[0] ? current + 1 : count;
+        });
+        if (!acquired[0]) {
+            active.decrementAndGet();
+            throw SecretpadException.of(DataErrorCode.TRANSFER_LIMIT_EXCEEDED, maxConcurrentPerNode + " of node " + nodeId);
+        }
+        return new Permit(nodeId);
+    }
+
+    /**
+     * Whether any limit applies, a transfer under a limit must hold its permit until its last byte is sent
+     *
+     * @return whether limited
+     */
+    public boolean isLimited() {
+        return maxConcurrent > 0 || maxConcurrentPerNode > 0;
+    }
+
+    /**
+     * Transfers in progress
+     *
+     * @return count of transfers
+     */
+    public int active() {
+        return active.get();
+    }
+
+    private void release(String nodeId) {
+        activeByNode.computeIfPresent(nodeId, (key, count) -> count > 1 ? count - 1 : null);
+        active.decrementAndGet();
+    }
+
+    /**
+     * Permit of a transfer, closing it more than once releases it once
+     */
+    public class Permit implements AutoCloseable {
+        private final String nodeId;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(String nodeId) {
+            this.nodeId = nodeId;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(nodeId);
+            }
+        }
+    }
+}
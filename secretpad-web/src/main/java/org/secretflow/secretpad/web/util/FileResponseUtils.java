@@ -0,0 +1,177 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.secretflow.secretpad.web.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * File response utils, writes a file as an attachment with single byte range, ETag and Last-Modified support
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+public class FileResponseUtils {
+
+    /**
+     * Request attributes of the tomcat sendfile support, the connector then writes the file itself without copying it through the jvm
+     */
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final Pattern SINGLE_RANGE = Pattern.compile("^bytes=(\\d{0,18})-(\\d{0,18})$");
+
+    /**
+     * Set the status and headers of a file attachment and hand the body over to tomcat sendfile when allowed.
+     * A single byte range is answered with 206 or 416, multiple ranges are not supported and get the whole file,
+     * and a range with an If-Range that no longer matches the file gets the whole file as well.
+     *
+     * @param request  http servlet request
+     * @param response http servlet response
+     * @param file     file to write
+     * @param fileName attachment file name
+     * @param sendfile whether the body may be sent by tomcat sendfile, which holds no thread while sending
+     * @return byte range of the file left to write, null when there is no body or sendfile writes it
+     * @throws IOException when the file path cannot be resolved
+     */
+    public static Range prepare(HttpServletRequest request, HttpServletResponse response, File file, String fileName,
+                                boolean sendfile) throws IOException {
+        long length = file.length();
+        long lastModified = file.lastModified();
+        String etag = "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(length) + "\"";
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment;filename*=UTF-8''" + fileName);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+
+        long start = 0;
+        long end = length - 1;
+        Matcher range = rangeOf(request, etag, lastModified);
+        if (range != null) {
+            if (range.group(1).isEmpty()) {
+                start = Math.max(0, length - Long.parseLong(range.group(2)));
+            } else {
+                start = Long.parseLong(range.group(1));
+                if (!range.group(2).isEmpty()) {
+                    end = Math.min(end, Long.parseLong(range.group(2)));
+                }
+            }
+            if (start >= length || start > end) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return null;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if (count == 0) {
+            return null;
+        }
+        if (sendfile && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.getCanonicalPath());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return null;
+        }
+        return new Range(start, end);
+    }
+
+    /**
+     * Write a byte range of a file with zero copy transfers where the output allows
+     *
+     * @param file  file to write
+     * @param range byte range
+     * @param out   output stream
+     * @throws IOException when reading the file or writing the output fails
+     */
+    public static void write(File file, Range range, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = range.getStart();
+            long end = range.getEnd();
+            while (position <= end) {
+                long transferred = channel.transferTo(position, end + 1 - position, target);
+                if (transferred <= 0) {
+                    throw new EOFException("file " + file.getName() + " truncated at " + position + " while writing");
+                }
+                position += transferred;
+            }
+        }
+    }
+
+    /**
+     * Parse a satisfiable-looking single byte range of the request
+     *
+     * @param request      http servlet request
+     * @param etag         current ETag of the file
+     * @param lastModified current last modified time of the file
+     * @return range matcher, null when the whole file should be written
+     */
+    private static Matcher rangeOf(HttpServletRequest request, String etag, long lastModified) {
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            long ifRangeDate;
+            try {
+                ifRangeDate = request.getDateHeader(HttpHeaders.IF_RANGE);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+            // http dates have second precision
+            if (ifRangeDate < 0 || ifRangeDate / 1000 != lastModified / 1000) {
+                return null;
+            }
+        }
+        Matcher matcher = SINGLE_RANGE.matcher(range.trim());
+        if (!matcher.matches() || (matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+            return null;
+        }
+        return matcher;
+    }
+
+    /**
+     * Inclusive byte range of a file
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Range {
+        private final long start;
+        private final long end;
+    }
+}
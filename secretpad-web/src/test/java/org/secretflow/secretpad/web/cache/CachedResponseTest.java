@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.web.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Cached response test
+ *
+ * @author yansi
+ * @date 2023/9/7
+ */
+public class CachedResponseTest {
+
+    @Test
+    public void testEtagIsContentHash() {
+        byte[] body = "{\"components\":[]}".getBytes(StandardCharsets.UTF_8);
+        // rebuilt after an eviction, equal content must keep its tag
+        CachedResponse first = CachedResponse.of(body);
+        CachedResponse rebuilt = CachedResponse.of(body.clone());
+
+        Assertions.assertEquals(first.getEtag(), rebuilt.getEtag());
+        Assertions.assertTrue(first.getEtag().matches("\"[0-9a-f]{64}\""));
+        Assertions.assertNotEquals(first.getEtag(), CachedResponse.of("{}".getBytes(StandardCharsets.UTF_8)).getEtag());
+    }
+
+    @Test
+    public void testNotModifiedRoundTrip() {
+        byte[] body = "{\"components\":[]}".getBytes(StandardCharsets.UTF_8);
+        ResponseEntity<byte[]> full = CachedResponse.of(body).toResponseEntity(new MockHttpServletRequest("GET", "/components"));
+        Assertions.assertEquals(HttpStatus.OK, full.getStatusCode());
+        String etag = full.getHeaders().getETag();
+
+        MockHttpServletRequest revalidate = new MockHttpServletRequest("GET", "/components");
+        revalidate.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        ResponseEntity<byte[]> notModified = CachedResponse.of(body.clone()).toResponseEntity(revalidate);
+
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        Assertions.assertNull(notModified.getBody());
+        Assertions.assertEquals(etag, notModified.getHeaders().getETag());
+    }
+}
@@ -22,6 +22,7 @@ import org.secretflow.secretpad.service.model.common.SecretPadResponse;
 import org.secretflow.secretpad.web.SecretPadApplication;
 
 import org.apache.commons.lang3.StringUtils;
+import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.slf4j.Logger;
@@ -35,7 +36,9 @@ import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -74,12 +77,17 @@ public class ControllerTest {
     }
 
     void assertResponse(MvcRequestFunction<MockHttpServletRequestBuilder> f) throws Exception {
-        MockHttpServletResponse response = mockMvc.perform(f.apply()
+        MvcResult result = mockMvc.perform(f.apply()
                         .contentType(MediaType.APPLICATION_JSON)
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(MockMvcResultMatchers.status().isOk())
-                .andReturn()
-                .getResponse();
+                .andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andReturn();
+        }
+        MockHttpServletResponse response = result.getResponse();
         SecretPadResponse secretPadResponse = JsonUtils.toJavaObject(response.getContentAsString(), SecretPadResponse.class);
         Assertions.assertEquals(secretPadResponse.getStatus().getCode(), 0);
         Assertions.assertNotNull(secretPadResponse.getData());
@@ -98,12 +106,17 @@ public class ControllerTest {
     }
 
     void assertErrorCode(MvcRequestFunction<MockHttpServletRequestBuilder> f, ErrorCode errorCode) throws Exception {
-        MockHttpServletResponse response = mockMvc.perform(f.apply()
+        MvcResult result = mockMvc.perform(f.apply()
                         .contentType(MediaType.APPLICATION_JSON)
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(MockMvcResultMatchers.status().isOk())
-                .andReturn()
-                .getResponse();
+                .andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andReturn();
+        }
+        MockHttpServletResponse response = result.getResponse();
         SecretPadResponse secretPadResponse = JsonUtils.toJavaObject(response.getContentAsString(), SecretPadResponse.class);
         Assertions.assertEquals(secretPadResponse.getStatus().getCode(), errorCode.getCode());
     }
@@ -119,12 +132,40 @@ public class ControllerTest {
     }
 
     void assertMultipartResponse(MvcRequestFunction<MockHttpServletRequestBuilder> f) throws Exception {
-        MockHttpServletResponse response = mockMvc.perform(f.apply()
+        MvcResult result = mockMvc.perform(f.apply()
                         .contentType(MediaType.MULTIPART_FORM_DATA_VALUE)
                         .accept(MediaType.APPLICATION_JSON))
-                .andExpect(MockMvcResultMatchers.status().isOk())
-                .andReturn()
-                .getResponse();
+                .andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result)).andReturn();
+        }
+        MockHttpServletResponse response = result.getResponse();
+        Assertions.assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        SecretPadResponse secretPadResponse = JsonUtils.toJavaObject(response.getContentAsString(), SecretPadResponse.class);
+        Assertions.assertEquals(secretPadResponse.getStatus().getCode(), 0);
+        Assertions.assertNotNull(secretPadResponse.getData());
+    }
+
+    MockHttpServletResponse perform(MvcRequestFunction<MockHttpServletRequestBuilder> f) throws Exception {
+        MvcResult result = mockMvc.perform(f.apply()
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result)).andReturn();
+        }
+        return result.getResponse();
+    }
+
+    void assertOctetStreamResponse(MvcRequestFunction<MockHttpServletRequestBuilder> f) throws Exception {
+        MvcResult result = mockMvc.perform(f.apply()
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result)).andReturn();
+        }
+        MockHttpServletResponse response = result.getResponse();
+        Assertions.assertEquals(HttpServletResponse.SC_OK, response.getStatus());
         SecretPadResponse secretPadResponse = JsonUtils.toJavaObject(response.getContentAsString(), SecretPadResponse.class);
         Assertions.assertEquals(secretPadResponse.getStatus().getCode(), 0);
         Assertions.assertNotNull(secretPadResponse.getData());
@@ -16,32 +16,75 @@
 
 package org.secretflow.secretpad.web.controller;
 
+import org.secretflow.secretpad.common.errorcode.DataErrorCode;
+import org.secretflow.secretpad.common.exception.SecretpadException;
 import org.secretflow.secretpad.common.util.JsonUtils;
+import org.secretflow.secretpad.persistence.entity.DatatableProfileDO;
 import org.secretflow.secretpad.persistence.entity.ProjectDO;
 import org.secretflow.secretpad.persistence.entity.ProjectGraphDO;
 import org.secretflow.secretpad.persistence.entity.ProjectJobDO;
 import org.secretflow.secretpad.persistence.entity.ProjectResultDO;
+import org.secretflow.secretpad.persistence.entity.UploadSessionDO;
+import org.secretflow.secretpad.persistence.repository.DatatableProfileRepository;
 import org.secretflow.secretpad.persistence.repository.ProjectGraphRepository;
 import org.secretflow.secretpad.persistence.repository.ProjectJobRepository;
 import org.secretflow.secretpad.persistence.repository.ProjectRepository;
 import org.secretflow.secretpad.persistence.repository.ProjectResultRepository;
+import org.secretflow.secretpad.persistence.repository.UploadSessionRepository;
+import org.secretflow.secretpad.service.DataService;
 import org.secretflow.secretpad.service.model.data.CreateDataRequest;
 import org.secretflow.secretpad.service.model.data.DownloadDataRequest;
+import org.secretflow.secretpad.service.model.data.InitUploadRequest;
+import org.secretflow.secretpad.service.model.data.PreviewDataRequest;
+import org.secretflow.secretpad.service.model.data.UploadDataResultVO;
+import org.secretflow.secretpad.service.model.data.UploadSessionRequest;
+import org.secretflow.secretpad.service.model.data.UploadSessionVO;
+import org.secretflow.secretpad.service.model.node.NodeIdRequest;
+import org.secretflow.secretpad.web.transfer.TransferLimiter;
 import org.secretflow.secretpad.web.utils.FakerUtils;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.secretflow.v1alpha1.kusciaapi.DomainDataServiceGrpc;
 import org.secretflow.v1alpha1.kusciaapi.Domaindata;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.util.FileSystemUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static org.secretflow.secretpad.manager.integration.datatable.AbstractDatatableManager.DATA_TYPE_TABLE;
 import static org.secretflow.secretpad.manager.integration.datatable.AbstractDatatableManager.DATA_VENDOR_MANUAL;
@@ -69,6 +112,21 @@ class DataControllerTest extends ControllerTest {
     @MockBean
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private DataService dataService;
+
+    @Autowired
+    private UploadSessionRepository uploadSessionRepository;
+
+    @Autowired
+    private TransferLimiter transferLimiter;
+
+    @Autowired
+    private DatatableProfileRepository datatableProfileRepository;
+
+    @Value("${secretpad.data.dir-path}")
+    private String storeDir;
+
     @Test
     void upload() throws Exception {
         assertMultipartResponse(() -> {
@@ -79,6 +137,165 @@ class DataControllerTest extends ControllerTest {
         });
     }
 
+    @Test
+    void chunkedUpload() throws Exception {
+        byte[] content = "id,age\n1,20\n2,30\n3,40\n".getBytes(StandardCharsets.UTF_8);
+        UploadSessionVO session = dataService.initUpload(InitUploadRequest.builder()
+                .nodeId("alice").fileName("chunked.csv").fileSize((long) content.length).chunkSize(8L).build());
+        Assertions.assertEquals(3, session.getChunkCount());
+        // chunks arrive out of order, the last one is shorter
+        for (int chunkIndex : List.of(2, 0)) {
+            byte[] chunk = Arrays.copyOfRange(content, chunkIndex * 8, Math.min(content.length, chunkIndex * 8 + 8));
+            assertOctetStreamResponse(() -> MockMvcRequestBuilders.post(getMappingUrl(DataController.class, "uploadChunk",
+                            String.class, int.class, String.class, HttpServletRequest.class))
+                    .param("uploadId", session.getUploadId())
+                    .param("chunkIndex", String.valueOf(chunkIndex))
+                    .param("checksum", sha256(chunk))
+                    .content(chunk));
+        }
+        UploadSessionRequest request = new UploadSessionRequest(session.getUploadId());
+        Assertions.assertEquals(List.of(0, 2), dataService.queryUpload(request).getUploadedChunks());
+        assertErrorCode(() -> MockMvcRequestBuilders.post(getMappingUrl(DataController.class, "completeUpload", UploadSessionRequest.class))
+                .content(JsonUtils.toJSONString(request)), DataErrorCode.UPLOAD_INCOMPLETE);
+
+        byte[] middle = Arrays.copyOfRange(content, 8, 16);
+        SecretpadException mismatch = Assertions.assertThrows(SecretpadException.class, () ->
+                dataService.uploadChunk(session.getUploadId(), 1, sha256(content), new ByteArrayInputStream(middle)));
+        Assertions.assertEquals(DataErrorCode.UPLOAD_CHUNK_MISMATCH, mismatch.getErrorCode());
+        dataService.uploadChunk(session.getUploadId(), 1, sha256(middle), new ByteArrayInputStream(middle));
+
+        // completing is a transfer of the node, it is rejected at once while the node is at its limit
+        List<TransferLimiter.Permit> permits = new ArrayList<>();
+        try {
+            while (true) {
+                permits.add(transferLimiter.acquire("alice"));
+            }
+        } catch (SecretpadException e) {
+            Assertions.assertEquals(DataErrorCode.TRANSFER_LIMIT_EXCEEDED, e.getErrorCode());
+        }
+        assertErrorCode(() -> MockMvcRequestBuilders.post(getMappingUrl(DataController.class, "completeUpload", UploadSessionRequest.class))
+                .content(JsonUtils.toJSONString(request)), DataErrorCode.TRANSFER_LIMIT_EXCEEDED);
+        permits.forEach(TransferLimiter.Permit::close);
+
+        assertResponse(() -> MockMvcRequestBuilders.post(getMappingUrl(DataController.class, "completeUpload", UploadSessionRequest.class))
+                .content(JsonUtils.toJSONString(request)));
+        File target = new File(storeDir + "alice/" + session.getRealName());
+        Assertions.assertArrayEquals(content, Files.readAllBytes(target.toPath()));
+        Assertions.assertFalse(uploadSessionRepository.existsById(session.getUploadId()));
+        DatatableProfileDO profile = datatableProfileRepository.findById(new DatatableProfileDO.UPK("alice", session.getRealName())).orElseThrow();
+        Assertions.assertEquals(3, profile.getRowCount());
+        Assertions.assertEquals("int", profile.getColumns().get(1).getType());
+        Assertions.assertEquals("20", profile.getColumns().get(1).getMin());
+        Assertions.assertEquals("40", profile.getColumns().get(1).getMax());
+        Files.delete(target.toPath());
+    }
+
+    @Test
+    void uploadDeduplicated() throws Exception {
+        // only this test stores uploads by content, the others cover the plain upload path
+        Object dataServiceImpl = AopTestUtils.getTargetObject(dataService);
+        ReflectionTestUtils.setField(dataServiceImpl, "uploadDedup", true);
+        try {
+            String nodeId = "dedupNode";
+            byte[] content = "id,age\n1,20\n".getBytes(StandardCharsets.UTF_8);
+            NodeIdRequest statsRequest = new NodeIdRequest(nodeId);
+            Map<?, ?> before = data(perform(() -> MockMvcRequestBuilders.post(getMappingUrl(DataController.class, "dedupStats", NodeIdRequest.class))
+                    .content(JsonUtils.toJSONString(statsRequest))));
+
+            UploadDataResultVO first = dataService.upload(new MockMultipartFile("file", "same.csv", MediaType.TEXT_PLAIN_VALUE, content), nodeId);
+            UploadDataResultVO second = dataService.upload(new MockMultipartFile("file", "same.csv", MediaType.TEXT_PLAIN_VALUE, content), nodeId);
+
+            Assertions.assertEquals(sha256(content), second.getContentHash());
+            Assertions.assertFalse(first.getDeduplicated());
+            Assertions.assertTrue(second.getDeduplicated());
+            File firstFile = new File(storeDir + nodeId + "/" + first.getRealName());
+            File secondFile = new File(storeDir + nodeId + "/" + second.getRealName());
+            Assertions.assertNotEquals(firstFile, secondFile);
+            Assertions.assertTrue(Files.isSameFile(firstFile.toPath(), secondFile.toPath()));
+            Assertions.assertArrayEquals(content, Files.readAllBytes(secondFile.toPath()));
+
+            Map<?, ?> after = data(perform(() -> MockMvcRequestBuilders.post(getMappingUrl(DataController.class, "dedupStats", NodeIdRequest.class))
+                    .content(JsonUtils.toJSONString(statsRequest))));
+            Assertions.assertEquals(((Number) before.get("uploads")).longValue() + 2, ((Number) after.get("uploads")).longValue());
+            Assertions.assertEquals(((Number) before.get("savedBytes")).longValue() + content.length, ((Number) after.get("savedBytes")).longValue());
+            Files.delete(firstFile.toPath());
+            Files.delete(secondFile.toPath());
+            dataService.collectUnreferencedBlobs();
+        } finally {
+            ReflectionTestUtils.setField(dataServiceImpl, "uploadDedup", false);
+        }
+    }
+
+    @Test
+    void uploadCompressed() throws Exception {
+        String nodeId = "compressedNode";
+        byte[] csv = "id,age\n1,20\n2,30\n".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream gz = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gz)) {
+            out.write(csv);
+        }
+        UploadDataResultVO single = dataService.upload(nodeId, "people.csv.gz", new ByteArrayInputStream(gz.toByteArray()));
+        Assertions.assertTrue(single.getRealName().startsWith("people_") && single.getRealName().endsWith(".csv"));
+        Assertions.assertEquals(2, single.getProfile().getRowCount());
+        File singleFile = new File(storeDir + nodeId + "/" + single.getRealName());
+        Assertions.assertArrayEquals(csv, Files.readAllBytes(singleFile.toPath()));
+
+        ByteArrayOutputStream tarGz = new ByteArrayOutputStream();
+        try (TarArchiveOutputStream out = new TarArchiveOutputStream(new GZIPOutputStream(tarGz))) {
+            for (String name : List.of("a.csv", "sub/b.csv", "readme.txt")) {
+                TarArchiveEntry entry = new TarArchiveEntry(name);
+                entry.setSize(csv.length);
+                out.putArchiveEntry(entry);
+                out.write(csv);
+                out.closeArchiveEntry();
+            }
+        }
+        UploadDataResultVO archive = dataService.upload(nodeId, "set.tar.gz", new ByteArrayInputStream(tarGz.toByteArray()));
+        File archiveDir = new File(storeDir + nodeId + "/" + archive.getRealName());
+        Assertions.assertTrue(archiveDir.isDirectory());
+        Assertions.assertEquals(List.of(archive.getRealName() + "/a.csv", archive.getRealName() + "/sub/b.csv"),
+                archive.getFiles().stream().map(UploadDataResultVO::getRealName).toList());
+        Assertions.assertEquals(2, archive.getFiles().get(1).getProfile().getRowCount());
+        Assertions.assertTrue(new File(archiveDir, "readme.txt").exists());
+
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(zip)) {
+            out.putNextEntry(new ZipEntry("c.csv"));
+            out.write(csv);
+            out.closeEntry();
+        }
+        assertOctetStreamResponse(() -> MockMvcRequestBuilders.post(getMappingUrl(DataController.class, "uploadStream",
+                        String.class, String.class, HttpServletRequest.class))
+                .param("Node-Id", nodeId)
+                .param("fileName", "set.zip")
+                .content(zip.toByteArray()));
+
+        SecretpadException broken = Assertions.assertThrows(SecretpadException.class, () ->
+                dataService.upload(nodeId, "broken.csv.gz", new ByteArrayInputStream(csv)));
+        Assertions.assertEquals(DataErrorCode.COMPRESSED_FILE_INVALID, broken.getErrorCode());
+        File nodeDir = new File(storeDir + nodeId);
+        Assertions.assertEquals(0, nodeDir.list((dir, name) -> name.startsWith("broken_")).length);
+        Assertions.assertEquals(1, nodeDir.list((dir, name) -> name.startsWith("set_") && new File(dir, name + "/c.csv").exists()).length);
+        FileSystemUtils.deleteRecursively(nodeDir);
+        dataService.collectUnreferencedBlobs();
+    }
+
+    @Test
+    void collectUploadSessions() {
+        UploadSessionVO session = dataService.initUpload(InitUploadRequest.builder()
+                .nodeId("alice").fileName("abandoned.csv").fileSize(16L).build());
+        File partial = new File(storeDir + "alice/." + session.getRealName() + ".uploading");
+        Assertions.assertTrue(partial.exists());
+        UploadSessionDO sessionDO = uploadSessionRepository.findById(session.getUploadId()).orElseThrow();
+        sessionDO.setGmtActive(LocalDateTime.now().minusDays(2));
+        uploadSessionRepository.save(sessionDO);
+
+        dataService.collectUploadSessions();
+
+        Assertions.assertFalse(partial.exists());
+        Assertions.assertFalse(uploadSessionRepository.existsById(session.getUploadId()));
+    }
+
     @Test
     void createData() throws Exception {
         assertResponse(() -> {
@@ -115,6 +332,22 @@ class DataControllerTest extends ControllerTest {
         });
     }
 
+    @Test
+    void createDataWithoutSchemaOrProfile() throws Exception {
+        assertResponse(() -> {
+            CreateDataRequest createDataRequest = FakerUtils.fake(CreateDataRequest.class);
+            createDataRequest.setDatatableSchema(List.of());
+            Mockito.when(dataStub.createDomainData(Mockito.any())).thenReturn(Domaindata.CreateDomainDataResponse.newBuilder()
+                    .setData(Domaindata.CreateDomainDataResponseData.newBuilder().setDomaindataId(createDataRequest.getNodeId()).build())
+                    .build());
+            return MockMvcRequestBuilders.post(getMappingUrl(DataController.class, "createData", CreateDataRequest.class))
+                    .content(JsonUtils.toJSONString(createDataRequest));
+        });
+        ArgumentCaptor<Domaindata.CreateDomainDataRequest> created = ArgumentCaptor.forClass(Domaindata.CreateDomainDataRequest.class);
+        Mockito.verify(dataStub).createDomainData(created.capture());
+        Assertions.assertEquals(0, created.getValue().getColumnsCount());
+    }
+
     @Test
     void downloadFileExists() throws Exception {
         assertResponseWithEmptyContent(() -> {
@@ -154,7 +387,7 @@ class DataControllerTest extends ControllerTest {
                             .build()))
                     .thenReturn(domainDataResponse);
 
-            return MockMvcRequestBuilders.post(getMappingUrl(DataController.class, "download", HttpServletResponse.class, DownloadDataRequest.class))
+            return MockMvcRequestBuilders.post(getMappingUrl(DataController.class, "download", HttpServletRequest.class, HttpServletResponse.class, DownloadDataRequest.class))
                     .header("User-Agent", userAgent).content(JsonUtils.toJSONString(request));
         });
     }
@@ -198,8 +431,212 @@ class DataControllerTest extends ControllerTest {
                             .build()))
                     .thenReturn(domainDataResponse);
 
-            return MockMvcRequestBuilders.post(getMappingUrl(DataController.class, "download", HttpServletResponse.class, DownloadDataRequest.class))
+            return MockMvcRequestBuilders.post(getMappingUrl(DataController.class, "download", HttpServletRequest.class, HttpServletResponse.class, DownloadDataRequest.class))
                     .header("User-Agent", userAgent).content(JsonUtils.toJSONString(request));
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    void downloadRange() throws Exception {
+        DownloadDataRequest request = new DownloadDataRequest("mockMvcNodeId", "rangeDomainData");
+        mockDownload(request, "rangeFile");
+        File file = new File(storeDir + "mockMvcNodeId/rangeFile");
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), "0123456789".getBytes(StandardCharsets.UTF_8));
+        String url = getMappingUrl(DataController.class, "download", HttpServletRequest.class, HttpServletResponse.class, DownloadDataRequest.class);
+        String content = JsonUtils.toJSONString(request);
+
+        MockHttpServletResponse whole = perform(() -> MockMvcRequestBuilders.post(url).content(content));
+        Assertions.assertEquals(200, whole.getStatus());
+        Assertions.assertEquals("0123456789", whole.getContentAsString());
+        Assertions.assertEquals("bytes", whole.getHeader(HttpHeaders.ACCEPT_RANGES));
+        String etag = whole.getHeader(HttpHeaders.ETAG);
+        Assertions.assertNotNull(etag);
+
+        MockHttpServletResponse part = perform(() -> MockMvcRequestBuilders.post(url).content(content)
+                .header(HttpHeaders.RANGE, "bytes=2-5").header(HttpHeaders.IF_RANGE, etag));
+        Assertions.assertEquals(206, part.getStatus());
+        Assertions.assertEquals("2345", part.getContentAsString());
+        Assertions.assertEquals("bytes 2-5/10", part.getHeader(HttpHeaders.CONTENT_RANGE));
+        Assertions.assertEquals(4, part.getContentLengthLong());
+
+        MockHttpServletResponse suffix = perform(() -> MockMvcRequestBuilders.post(url).content(content)
+                .header(HttpHeaders.RANGE, "bytes=-3"));
+        Assertions.assertEquals("789", suffix.getContentAsString());
+
+        MockHttpServletResponse unsatisfiable = perform(() -> MockMvcRequestBuilders.post(url).content(content)
+                .header(HttpHeaders.RANGE, "bytes=20-"));
+        Assertions.assertEquals(416, unsatisfiable.getStatus());
+        Assertions.assertEquals("bytes */10", unsatisfiable.getHeader(HttpHeaders.CONTENT_RANGE));
+
+        // the file changed since the client got its etag, so the range is ignored
+        MockHttpServletResponse stale = perform(() -> MockMvcRequestBuilders.post(url).content(content)
+                .header(HttpHeaders.RANGE, "bytes=2-5").header(HttpHeaders.IF_RANGE, "\"stale\""));
+        Assertions.assertEquals(200, stale.getStatus());
+        Assertions.assertEquals("0123456789", stale.getContentAsString());
+        Files.delete(file.toPath());
+    }
+
+    @Test
+    void downloadRangeByGet() throws Exception {
+        DownloadDataRequest request = new DownloadDataRequest("mockMvcNodeId", "getRangeDomainData");
+        mockDownload(request, "getRangeFile");
+        File file = new File(storeDir + "mockMvcNodeId/getRangeFile");
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), "0123456789".getBytes(StandardCharsets.UTF_8));
+        String url = getMappingUrl(DataController.class, "download", HttpServletRequest.class, HttpServletResponse.class,
+                String.class, String.class);
+
+        MockHttpServletResponse part = perform(() -> MockMvcRequestBuilders.get(url)
+                .param("nodeId", request.getNodeId()).param("domainDataId", request.getDomainDataId())
+                .header(HttpHeaders.RANGE, "bytes=2-5"));
+        Assertions.assertEquals(206, part.getStatus());
+        Assertions.assertEquals("2345", part.getContentAsString());
+        Assertions.assertEquals("bytes 2-5/10", part.getHeader(HttpHeaders.CONTENT_RANGE));
+        Assertions.assertNotNull(part.getHeader(HttpHeaders.ETAG));
+        Files.delete(file.toPath());
+    }
+
+    @Test
+    void downloadDirectory() throws Exception {
+        DownloadDataRequest request = new DownloadDataRequest("mockMvcNodeId", "dirDomainData");
+        mockDownload(request, "dirResult");
+        File dir = new File(storeDir + "mockMvcNodeId/dirResult");
+        new File(dir, "sub").mkdirs();
+        Files.write(new File(dir, "b.csv").toPath(), "id\n2\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(dir, "sub/a.csv").toPath(), "id\n1\n".getBytes(StandardCharsets.UTF_8));
+
+        MockHttpServletResponse response = perform(() -> MockMvcRequestBuilders.post(getMappingUrl(DataController.class, "download",
+                HttpServletRequest.class, HttpServletResponse.class, DownloadDataRequest.class)).content(JsonUtils.toJSONString(request)));
+
+        Assertions.assertEquals(200, response.getStatus());
+        Assertions.assertTrue(response.getHeader(HttpHeaders.CONTENT_DISPOSITION).endsWith("dirResult.tar.gz"));
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (TarArchiveInputStream tar = new TarArchiveInputStream(new GzipCompressorInputStream(
+                new ByteArrayInputStream(response.getContentAsByteArray())))) {
+            TarArchiveEntry entry;
+            while ((entry = tar.getNextTarEntry()) != null) {
+                entries.put(entry.getName(), new String(tar.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        Assertions.assertEquals(Map.of("b.csv", "id\n2\n", "sub/a.csv", "id\n1\n"), entries);
+        Assertions.assertFalse(new File(storeDir + "mockMvcNodeId/dirResult.tar.gz").exists());
+        FileSystemUtils.deleteRecursively(dir);
+    }
+
+    @Test
+    void downloadDirectoryCached() throws Exception {
+        DownloadDataRequest request = new DownloadDataRequest("mockMvcNodeId", "cachedDomainData");
+        mockDownload(request, "cachedResult");
+        File dir = new File(storeDir + "mockMvcNodeId/cachedResult");
+        dir.mkdirs();
+        Files.write(new File(dir, "a.csv").toPath(), "id\n1\n".getBytes(StandardCharsets.UTF_8));
+        File cacheDir = new File(storeDir + ".archive-cache");
+        int cached = archivesIn(cacheDir);
+
+        MockHttpServletResponse first = perform(() -> MockMvcRequestBuilders.post(getMappingUrl(DataController.class, "download",
+                HttpServletRequest.class, HttpServletResponse.class, DownloadDataRequest.class)).content(JsonUtils.toJSONString(request)));
+        MockHttpServletResponse second = perform(() -> MockMvcRequestBuilders.post(getMappingUrl(DataController.class, "download",
+                        HttpServletRequest.class, HttpServletResponse.class, DownloadDataRequest.class)).content(JsonUtils.toJSONString(request))
+                .header(HttpHeaders.RANGE, "bytes=0-9"));
+
+        // the first download streams the archive at once and tees it into the cache, the second is served from the cache
+        Assertions.assertEquals(200, first.getStatus());
+        Assertions.assertEquals("none", first.getHeader(HttpHeaders.ACCEPT_RANGES));
+        Assertions.assertEquals(206, second.getStatus());
+        Assertions.assertNotNull(second.getHeader(HttpHeaders.ETAG));
+        Assertions.assertArrayEquals(Arrays.copyOf(first.getContentAsByteArray(), 10), second.getContentAsByteArray());
+        Assertions.assertEquals(cached + 1, archivesIn(cacheDir));
+
+        // a changed result gets a new archive
+        Files.write(new File(dir, "b.csv").toPath(), "id\n2\n".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse third = perform(() -> MockMvcRequestBuilders.post(getMappingUrl(DataController.class, "download",
+                HttpServletRequest.class, HttpServletResponse.class, DownloadDataRequest.class)).content(JsonUtils.toJSONString(request)));
+        Assertions.assertEquals(200, third.getStatus());
+        Assertions.assertEquals(cached + 2, archivesIn(cacheDir));
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (TarArchiveInputStream tar = new TarArchiveInputStream(new GzipCompressorInputStream(
+                new ByteArrayInputStream(third.getContentAsByteArray())))) {
+            TarArchiveEntry entry;
+            while ((entry = tar.getNextTarEntry()) != null) {
+                entries.put(entry.getName(), new String(tar.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        Assertions.assertEquals(Map.of("a.csv", "id\n1\n", "b.csv", "id\n2\n"), entries);
+        FileSystemUtils.deleteRecursively(dir);
+    }
+
+    @Test
+    void previewResult() throws Exception {
+        DownloadDataRequest result = new DownloadDataRequest("mockMvcNodeId", "previewDomainData");
+        mockDownload(result, "previewResult.csv");
+        File file = new File(storeDir + "mockMvcNodeId/previewResult.csv");
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), "id,age,name\n1,20,alice\n2,,bob\n3,40,carol\n".getBytes(StandardCharsets.UTF_8));
+        datatableProfileRepository.save(DatatableProfileDO.builder()
+                .upk(new DatatableProfileDO.UPK("mockMvcNodeId", "previewResult.csv"))
+                .rowCount(3L)
+                .columns(List.of(
+                        DatatableProfileDO.ColumnProfile.builder().name("id").type("int").build(),
+                        DatatableProfileDO.ColumnProfile.builder().name("age").type("int").build(),
+                        DatatableProfileDO.ColumnProfile.builder().name("name").type("str").build()))
+                .gmtCreate(LocalDateTime.now())
+                .build());
+
+        PreviewDataRequest head = PreviewDataRequest.builder().nodeId("mockMvcNodeId").domainDataId("previewDomainData").rows(2).build();
+        MockHttpServletResponse headResponse = perform(() -> MockMvcRequestBuilders.post(getMappingUrl(DataController.class, "preview",
+                PreviewDataRequest.class)).content(JsonUtils.toJSONString(head)));
+        Map<?, ?> headData = data(headResponse);
+        Assertions.assertEquals(List.of(Arrays.asList(1, 20, "alice"), Arrays.asList(2, null, "bob")), headData.get("rows"));
+        Assertions.assertEquals("HEAD", headData.get("mode"));
+
+        PreviewDataRequest sample = PreviewDataRequest.builder().nodeId("mockMvcNodeId").domainDataId("previewDomainData")
+                .mode(PreviewDataRequest.PreviewMode.SAMPLE).rows(10).seed(1L).build();
+        MockHttpServletResponse sampleResponse = perform(() -> MockMvcRequestBuilders.post(getMappingUrl(DataController.class, "preview",
+                PreviewDataRequest.class)).content(JsonUtils.toJSONString(sample)));
+        Map<?, ?> sampleData = data(sampleResponse);
+        Assertions.assertEquals(3, ((List<?>) sampleData.get("rows")).size());
+
+        PreviewDataRequest invalid = PreviewDataRequest.builder().nodeId("mockMvcNodeId").build();
+        assertErrorCode(() -> MockMvcRequestBuilders.post(getMappingUrl(DataController.class, "preview",
+                PreviewDataRequest.class)).content(JsonUtils.toJSONString(invalid)), DataErrorCode.ILLEGAL_PARAMS_ERROR);
+        Files.delete(file.toPath());
+    }
+
+    private Map<?, ?> data(MockHttpServletResponse response) throws Exception {
+        return (Map<?, ?>) JsonUtils.toJavaObject(response.getContentAsString(), Map.class).get("data");
+    }
+
+    private int archivesIn(File dir) {
+        String[] archives = dir.list((d, name) -> name.endsWith(".tar.gz"));
+        return archives == null ? 0 : archives.length;
+    }
+
+    private void mockDownload(DownloadDataRequest request, String relativeUri) throws Exception {
+        ProjectResultDO projectResultDO = FakerUtils.fake(ProjectResultDO.class);
+        projectResultDO.setGmtCreate(LocalDateTime.now());
+        Mockito.when(projectResultRepository.findByNodeIdAndRefId(request.getNodeId(), request.getDomainDataId()))
+                .thenReturn(Optional.of(projectResultDO));
+        ProjectDO projectDO = FakerUtils.fake(ProjectDO.class);
+        Mockito.when(projectRepository.findById(projectResultDO.getUpk().getProjectId()))
+                .thenReturn(Optional.of(projectDO));
+        ProjectJobDO projectJobDO = FakerUtils.fake(ProjectJobDO.class);
+        Mockito.when(projectJobRepository.findByJobId(projectResultDO.getJobId()))
+                .thenReturn(Optional.of(projectJobDO));
+        Mockito.when(projectGraphRepository.findByGraphId(projectJobDO.getGraphId(), projectDO.getProjectId()))
+                .thenReturn(Optional.of(FakerUtils.fake(ProjectGraphDO.class)));
+        Mockito.when(dataStub.queryDomainData(Domaindata.QueryDomainDataRequest.newBuilder()
+                        .setData(Domaindata.QueryDomainDataRequestData.newBuilder()
+                                .setDomainId(request.getNodeId())
+                                .setDomaindataId(request.getDomainDataId())
+                                .build())
+                        .build()))
+                .thenReturn(Domaindata.QueryDomainDataResponse.newBuilder()
+                        .setData(Domaindata.DomainData.newBuilder().setRelativeUri(relativeUri).build())
+                        .build());
+    }
+
+    private String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
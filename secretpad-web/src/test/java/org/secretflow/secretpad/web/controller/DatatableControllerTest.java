@@ -17,9 +17,14 @@
 package org.secretflow.secretpad.web.controller;
 
 import org.secretflow.secretpad.common.errorcode.DatatableErrorCode;
+import org.secretflow.secretpad.common.errorcode.SystemErrorCode;
 import org.secretflow.secretpad.common.util.JsonUtils;
+import org.secretflow.secretpad.manager.integration.datatable.AbstractDatatableManager;
+import org.secretflow.secretpad.manager.integration.model.DatatableDTO;
+import org.secretflow.secretpad.manager.integration.model.DatatableListDTO;
 import org.secretflow.secretpad.persistence.entity.ProjectDO;
 import org.secretflow.secretpad.persistence.entity.ProjectDatatableDO;
+import org.secretflow.secretpad.persistence.repository.DatatableCatalogRepository;
 import org.secretflow.secretpad.persistence.repository.ProjectDatatableRepository;
 import org.secretflow.secretpad.persistence.repository.ProjectRepository;
 import org.secretflow.secretpad.service.model.datatable.DeleteDatatableRequest;
@@ -27,11 +32,13 @@ import org.secretflow.secretpad.service.model.datatable.GetDatatableRequest;
 import org.secretflow.secretpad.service.model.datatable.ListDatatableRequest;
 import org.secretflow.secretpad.web.utils.FakerUtils;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.secretflow.v1alpha1.common.Common;
 import org.secretflow.v1alpha1.kusciaapi.DomainDataServiceGrpc;
 import org.secretflow.v1alpha1.kusciaapi.Domaindata;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
@@ -63,6 +70,12 @@ class DatatableControllerTest extends ControllerTest {
     @MockBean
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private DatatableCatalogRepository catalogRepository;
+
+    @Autowired
+    private AbstractDatatableManager datatableManager;
+
     @Test
     void listDatatables() throws Exception {
         assertResponse(() -> {
@@ -91,6 +104,60 @@ class DatatableControllerTest extends ControllerTest {
         });
     }
 
+    @Test
+    void listDatatablesFromCatalog() throws Exception {
+        String nodeId = "catalogTestNode";
+        // kuscia lists in no particular order
+        Domaindata.ListDomainDataResponse response = Domaindata.ListDomainDataResponse.newBuilder()
+                .setData(Domaindata.DomainDataList.newBuilder()
+                        .addDomaindataList(buildDomainData(nodeId, "t1", "alice_train", "Available"))
+                        .addDomaindataList(buildDomainData(nodeId, "t4", "alice_test", "Available"))
+                        .addDomaindataList(buildDomainData(nodeId, "t3", "alice_raw", "Unavailable"))
+                        .addDomaindataList(buildDomainData(nodeId, "t2", "alice_test", "Available"))
+                        .addDomaindataList(buildDomainData(nodeId, "t5", "bob_alice_join", "Available"))
+                        .addDomaindataList(buildDomainData(nodeId, "t6", "ALICE_UPPER", "Available"))
+                        .build())
+                .build();
+        Mockito.when(dataStub.listDomainData(Domaindata.ListDomainDataRequest.newBuilder()
+                        .setData(Domaindata.ListDomainDataRequestData.newBuilder()
+                                .setDomaindataType(DATA_TYPE_TABLE)
+                                .setDomaindataVendor(DATA_VENDOR_MANUAL)
+                                .setDomainId(nodeId)
+                                .build())
+                        .build()))
+                .thenReturn(response);
+
+        // the status filter ignores case, the name filter matches anywhere in the name with case like String.contains,
+        // rows are ordered by datatable_name then datatable_id
+        DatatableListDTO first = datatableManager.findByNodeId(nodeId, 3, 1, "AVAILABLE", "alice_");
+        Assertions.assertEquals(4, first.getTotalDatatableNums());
+        Assertions.assertEquals(List.of("t2", "t4", "t1"), datatableIds(first));
+        DatatableListDTO second = datatableManager.findByNodeId(nodeId, 3, 2, "AVAILABLE", "alice_");
+        Assertions.assertEquals(4, second.getTotalDatatableNums());
+        Assertions.assertEquals(List.of("t5"), datatableIds(second));
+        Assertions.assertEquals(List.of("t6", "t3", "t2", "t4", "t1", "t5"), datatableIds(datatableManager.findByNodeId(nodeId, 10, 1, null, null)));
+
+        // four available alice tables, the third page starts past them
+        assertErrorCode(() -> {
+            ListDatatableRequest request = ListDatatableRequest.builder().nodeId(nodeId).pageSize(3).pageNumber(3)
+                    .statusFilter("available").datatableNameFilter("alice_").build();
+            return MockMvcRequestBuilders.post(getMappingUrl(DatatableController.class, "listDatatables", ListDatatableRequest.class))
+                    .content(JsonUtils.toJSONString(request));
+        }, SystemErrorCode.OUT_OF_RANGE_ERROR);
+        Assertions.assertEquals(6, catalogRepository.findByNodeId(nodeId).size());
+
+        // a delete confirmed by kuscia removes the catalog row
+        Mockito.when(dataStub.deleteDomainData(Mockito.any())).thenReturn(Domaindata.DeleteDomainDataResponse.newBuilder()
+                .setStatus(Common.Status.newBuilder().setCode(0).build()).build());
+        datatableManager.deleteDataTable(DatatableDTO.NodeDatatableId.from(nodeId, "t4"));
+        Assertions.assertEquals(List.of("t1", "t2", "t3", "t5", "t6"),
+                catalogRepository.findByNodeId(nodeId).stream().map(it -> it.getUpk().getDatatableId()).sorted().toList());
+    }
+
+    private List<String> datatableIds(DatatableListDTO datatableList) {
+        return datatableList.getDatatableDTOList().stream().map(DatatableDTO::getDatatableId).toList();
+    }
+
     @Test
     void getDatatable() throws Exception {
         assertResponse(() -> {
@@ -186,6 +253,17 @@ class DatatableControllerTest extends ControllerTest {
         }, DatatableErrorCode.DELETE_DATATABLE_FAILED);
     }
 
+    private Domaindata.DomainData buildDomainData(String nodeId, String datatableId, String name, String status) {
+        return Domaindata.DomainData.newBuilder()
+                .setDomainId(nodeId)
+                .setDomaindataId(datatableId)
+                .setName(name)
+                .setType(DATA_TYPE_TABLE)
+                .setVendor(DATA_VENDOR_MANUAL)
+                .setStatus(status)
+                .build();
+    }
+
     private List<ProjectDatatableDO> buildProjectDatatableDO() {
         List<ProjectDatatableDO> projectDatatableDOS = new ArrayList<>();
         ProjectDatatableDO projectDatatableDO = new ProjectDatatableDO();
@@ -16,23 +16,36 @@
 
 package org.secretflow.secretpad.web.controller;
 
+import org.secretflow.secretpad.common.errorcode.GraphErrorCode;
 import org.secretflow.secretpad.common.util.JsonUtils;
 import org.secretflow.secretpad.persistence.entity.ProjectGraphDO;
 import org.secretflow.secretpad.persistence.entity.ProjectGraphNodeDO;
 import org.secretflow.secretpad.persistence.entity.ProjectTaskDO;
+import org.secretflow.secretpad.persistence.projection.GraphNodeLayoutProjection;
 import org.secretflow.secretpad.persistence.repository.ProjectGraphNodeRepository;
 import org.secretflow.secretpad.persistence.repository.ProjectGraphRepository;
 import org.secretflow.secretpad.persistence.repository.ProjectJobTaskRepository;
+import org.secretflow.secretpad.service.model.common.SecretPadResponse;
 import org.secretflow.secretpad.service.model.graph.*;
 import org.secretflow.secretpad.web.utils.FakerUtils;
 
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Graph controller test
@@ -42,6 +55,9 @@ import java.util.Optional;
  */
 class GraphControllerTest extends ControllerTest {
 
+    @Autowired
+    private MockMvc mockMvc;
+
     @MockBean
     private ProjectGraphRepository graphRepository;
 
@@ -71,17 +87,45 @@ class GraphControllerTest extends ControllerTest {
     @Test
     void listComponentI18n() throws Exception {
         assertResponse(() -> {
-            return MockMvcRequestBuilders.post(getMappingUrl(GraphController.class, "listComponentI18n"));
+            return MockMvcRequestBuilders.post(getMappingUrl(GraphController.class, "listComponentI18n", HttpServletRequest.class));
         });
     }
 
     @Test
     void listComponents() throws Exception {
         assertResponse(() -> {
-            return MockMvcRequestBuilders.post(getMappingUrl(GraphController.class, "listComponents"));
+            return MockMvcRequestBuilders.post(getMappingUrl(GraphController.class, "listComponents", HttpServletRequest.class));
         });
     }
 
+    @Test
+    void listComponentsNotModified() throws Exception {
+        String url = getMappingUrl(GraphController.class, "listComponents", HttpServletRequest.class);
+        MockHttpServletResponse response = mockMvc.perform(MockMvcRequestBuilders.get(url))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse();
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        Assertions.assertNotNull(etag);
+        mockMvc.perform(MockMvcRequestBuilders.get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+    }
+
+    @Test
+    void listComponentI18nGzip() throws Exception {
+        String url = getMappingUrl(GraphController.class, "listComponentI18n", HttpServletRequest.class);
+        MockHttpServletResponse response = mockMvc.perform(MockMvcRequestBuilders.get(url).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn()
+                .getResponse();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            SecretPadResponse secretPadResponse = JsonUtils.toJavaObject(new String(in.readAllBytes(), StandardCharsets.UTF_8), SecretPadResponse.class);
+            Assertions.assertEquals(0, secretPadResponse.getStatus().getCode());
+            Assertions.assertNotNull(secretPadResponse.getData());
+        }
+    }
+
     @Test
     void getComponent() throws Exception {
         assertResponse(() -> {
@@ -93,6 +137,30 @@ class GraphControllerTest extends ControllerTest {
         });
     }
 
+    @Test
+    void getComponentWithVersion() throws Exception {
+        assertResponse(() -> {
+            GetComponentRequest request = new GetComponentRequest();
+            request.setDomain("feature");
+            request.setName("vert_woe_binning");
+            request.setVersion("0.0.1");
+            return MockMvcRequestBuilders.post(getMappingUrl(GraphController.class, "getComponent", GetComponentRequest.class))
+                    .content(JsonUtils.toJSONString(request));
+        });
+    }
+
+    @Test
+    void getComponentWithUnknownVersion() throws Exception {
+        assertErrorCode(() -> {
+            GetComponentRequest request = new GetComponentRequest();
+            request.setDomain("feature");
+            request.setName("vert_woe_binning");
+            request.setVersion("not-exists");
+            return MockMvcRequestBuilders.post(getMappingUrl(GraphController.class, "getComponent", GetComponentRequest.class))
+                    .content(JsonUtils.toJSONString(request));
+        }, GraphErrorCode.COMPONENT_NOT_EXISTS);
+    }
+
     @Test
     void createGraph() throws Exception {
         assertResponse(() -> {
@@ -207,6 +275,33 @@ class GraphControllerTest extends ControllerTest {
         });
     }
 
+    @Test
+    void getGraphDetailSlim() throws Exception {
+        assertResponse(() -> {
+            GetGraphRequest getGraphRequest = FakerUtils.fake(GetGraphRequest.class);
+            ProjectGraphDO projectGraphDO = FakerUtils.fake(ProjectGraphDO.class);
+            Mockito.when(graphRepository.findById(new ProjectGraphDO.UPK(getGraphRequest.getProjectId(), getGraphRequest.getGraphId())))
+                    .thenReturn(Optional.of(projectGraphDO));
+            Mockito.when(graphNodeRepository.findLayoutByGraphId(getGraphRequest.getProjectId(), getGraphRequest.getGraphId()))
+                    .thenReturn(List.of(FakerUtils.fake(GraphNodeLayoutProjection.class)));
+            return MockMvcRequestBuilders.post(getMappingUrl(GraphController.class, "getGraphDetailSlim", GetGraphRequest.class))
+                    .content(JsonUtils.toJSONString(getGraphRequest));
+        });
+    }
+
+    @Test
+    void batchGetGraphNode() throws Exception {
+        assertResponse(() -> {
+            BatchGetGraphNodeRequest request = FakerUtils.fake(BatchGetGraphNodeRequest.class);
+            ProjectGraphNodeDO graphNodeDO = FakerUtils.fake(ProjectGraphNodeDO.class);
+            graphNodeDO.setNodeDef(JsonUtils.toJavaObject(NODE_DEF, Object.class));
+            Mockito.when(graphNodeRepository.findByGraphNodeIds(Mockito.eq(request.getProjectId()), Mockito.eq(request.getGraphId()), Mockito.anyList()))
+                    .thenReturn(List.of(graphNodeDO));
+            return MockMvcRequestBuilders.post(getMappingUrl(GraphController.class, "batchGetGraphNode", BatchGetGraphNodeRequest.class))
+                    .content(JsonUtils.toJSONString(request));
+        });
+    }
+
     @Test
     void getGraphNodeOutput() throws Exception {
         assertResponse(() -> {
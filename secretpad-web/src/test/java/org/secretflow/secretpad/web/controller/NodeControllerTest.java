@@ -3,27 +3,45 @@ package org.secretflow.secretpad.web.controller;
 import org.secretflow.secretpad.common.errorcode.*;
 import org.secretflow.secretpad.common.util.DateTimes;
 import org.secretflow.secretpad.common.util.JsonUtils;
+import org.secretflow.secretpad.manager.integration.datatable.AbstractDatatableManager;
+import org.secretflow.secretpad.manager.integration.model.DatatableDTO;
+import org.secretflow.secretpad.manager.integration.model.NodeDTO;
+import org.secretflow.secretpad.manager.integration.node.NodeManager;
 import org.secretflow.secretpad.persistence.entity.*;
 import org.secretflow.secretpad.persistence.model.ResultKind;
+import org.secretflow.secretpad.persistence.projection.CountProjection;
+import org.secretflow.secretpad.persistence.projection.NodeResultProjection;
 import org.secretflow.secretpad.persistence.repository.*;
+import org.secretflow.secretpad.service.DomainStatusSnapshotService;
+import org.secretflow.secretpad.service.NodeService;
+import org.secretflow.secretpad.service.impl.NodeOverviewServiceImpl;
 import org.secretflow.secretpad.service.model.node.*;
 import org.secretflow.secretpad.web.utils.FakerUtils;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.secretflow.v1alpha1.common.Common;
 import org.secretflow.v1alpha1.kusciaapi.Domain;
 import org.secretflow.v1alpha1.kusciaapi.DomainDataServiceGrpc;
 import org.secretflow.v1alpha1.kusciaapi.DomainServiceGrpc;
 import org.secretflow.v1alpha1.kusciaapi.Domaindata;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Node controller test
@@ -60,6 +78,15 @@ class NodeControllerTest extends ControllerTest {
     @MockBean
     private DomainServiceGrpc.DomainServiceBlockingStub domainServiceStub;
 
+    @Autowired
+    private NodeManager nodeManager;
+
+    @Autowired
+    private NodeService nodeService;
+
+    @Autowired
+    private DomainStatusSnapshotService domainStatusSnapshotService;
+
     private List<NodeDO> buildNodeDOList() {
         List<NodeDO> nodeDOList = new ArrayList<>();
         nodeDOList.add(NodeDO.builder().nodeId("alice").name("alice").description("alice").auth("alice").build());
@@ -80,6 +107,13 @@ class NodeControllerTest extends ControllerTest {
         return projectResultDOList;
     }
 
+    private Page<NodeResultProjection> buildNodeResultProjectionPage(Pageable pageable) {
+        NodeResultProjection projection = new NodeResultProjection("alice-ref1", ResultKind.FedTable, PROJECT_ID, "project",
+                "graph", "op-psiv3-dabgvasfasdasdas", DateTimes.utcFromRfc3339("2023-08-02T08:30:15.235+08:00"));
+        List<NodeResultProjection> content = pageable.getPageNumber() == 0 ? List.of(projection) : List.of();
+        return new PageImpl<>(content, pageable, 1);
+    }
+
     private ProjectJobDO buildProjectJobDO(boolean isTaskEmpty) {
         ProjectJobDO.UPK upk = new ProjectJobDO.UPK();
         upk.setProjectId(PROJECT_ID);
@@ -173,6 +207,122 @@ class NodeControllerTest extends ControllerTest {
         });
     }
 
+    @Test
+    void listNodeWithBatchDomainStatus() throws Exception {
+        // a fake kuscia with N domains, their statuses must come from one batch query and not one query per domain
+        int domainNum = 40;
+        List<NodeDO> nodeDOList = new ArrayList<>();
+        Domain.BatchQueryDomainStatusResponseData.Builder statusData = Domain.BatchQueryDomainStatusResponseData.newBuilder();
+        for (int i = 0; i < domainNum; i++) {
+            nodeDOList.add(NodeDO.builder().nodeId("node" + i).name("node" + i).build());
+            statusData.addDomains(Domain.DomainStatus.newBuilder().setDomainId("node" + i)
+                    .addNodeStatuses(Domain.NodeStatus.newBuilder().setName("node" + i).setStatus("Ready").build())
+                    .addDeployTokenStatuses(Domain.DeployTokenStatus.newBuilder().setToken("token" + i).setState("unused").build())
+                    .build());
+        }
+        Mockito.when(nodeRepository.findAll()).thenReturn(nodeDOList);
+        Mockito.when(domainServiceStub.batchQueryDomainStatus(Mockito.any())).thenReturn(Domain.BatchQueryDomainStatusResponse.newBuilder()
+                .setStatus(Common.Status.newBuilder().setCode(0).build()).setData(statusData).build());
+        // the first detail queries wait until as many as the query parallelism are in flight, so they only pass when run concurrently
+        int parallelism = (int) ReflectionTestUtils.getField((Object) AopTestUtils.getTargetObject(nodeManager), "queryParallelism");
+        CountDownLatch inFlight = new CountDownLatch(parallelism);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger timedOut = new AtomicInteger();
+        Mockito.when(domainServiceStub.queryDomain(Mockito.any())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            inFlight.countDown();
+            if (!inFlight.await(10, TimeUnit.SECONDS)) {
+                timedOut.incrementAndGet();
+            }
+            running.decrementAndGet();
+            return Domain.QueryDomainResponse.newBuilder().setStatus(Common.Status.newBuilder().setCode(0).build())
+                    .setData(Domain.QueryDomainResponseData.newBuilder().setRole("partner").build()).build();
+        });
+
+        List<NodeDTO> nodes = nodeManager.listNode();
+
+        Assertions.assertEquals(domainNum, nodes.size());
+        Assertions.assertEquals("node7", nodes.get(7).getNodeId());
+        Assertions.assertEquals("Ready", nodes.get(7).getNodeStatus());
+        Assertions.assertEquals("token7", nodes.get(7).getToken());
+        Assertions.assertEquals("partner", nodes.get(7).getNodeRole());
+        ArgumentCaptor<Domain.BatchQueryDomainStatusRequest> batch = ArgumentCaptor.forClass(Domain.BatchQueryDomainStatusRequest.class);
+        Mockito.verify(domainServiceStub, Mockito.times(1)).batchQueryDomainStatus(batch.capture());
+        Assertions.assertEquals(domainNum, batch.getValue().getDomainIdsCount());
+        Mockito.verify(domainServiceStub, Mockito.times(domainNum)).queryDomain(Mockito.any());
+        Assertions.assertEquals(0, timedOut.get());
+        Assertions.assertEquals(parallelism, maxRunning.get());
+        Mockito.verify(nodeRepository, Mockito.never()).save(Mockito.any());
+    }
+
+    @Test
+    void listNodeStatusQueriesOnlyNewDomains() {
+        List<NodeDO> nodeDOList = List.of(NodeDO.builder().nodeId("alice").name("alice").build(),
+                NodeDO.builder().nodeId("bob").name("bob").build());
+        Domain.BatchQueryDomainStatusResponseData.Builder statusData = Domain.BatchQueryDomainStatusResponseData.newBuilder();
+        nodeDOList.forEach(nodeDO -> statusData.addDomains(Domain.DomainStatus.newBuilder().setDomainId(nodeDO.getNodeId())
+                .addNodeStatuses(Domain.NodeStatus.newBuilder().setName(nodeDO.getNodeId()).setStatus("Ready").build()).build()));
+        Mockito.when(nodeRepository.findAll()).thenReturn(nodeDOList);
+        Mockito.when(domainServiceStub.batchQueryDomainStatus(Mockito.any())).thenReturn(Domain.BatchQueryDomainStatusResponse.newBuilder()
+                .setStatus(Common.Status.newBuilder().setCode(0).build()).setData(statusData).build());
+        Mockito.when(domainServiceStub.queryDomain(Mockito.any())).thenReturn(Domain.QueryDomainResponse.newBuilder()
+                .setStatus(Common.Status.newBuilder().setCode(0).build())
+                .setData(Domain.QueryDomainResponseData.newBuilder().setRole("partner").setCert("cert").build()).build());
+        NodeDTO knownAlice = NodeDTO.builder().nodeId("alice").cert("configured").nodeRole("guest").build();
+
+        List<NodeDTO> nodes = nodeManager.listNodeStatus(Map.of("alice", knownAlice));
+
+        Assertions.assertEquals("Ready", nodes.get(0).getNodeStatus());
+        Assertions.assertEquals("guest", nodes.get(0).getNodeRole());
+        Assertions.assertEquals("configured", nodes.get(0).getCert());
+        Assertions.assertEquals("Ready", nodes.get(1).getNodeStatus());
+        Assertions.assertEquals("partner", nodes.get(1).getNodeRole());
+        ArgumentCaptor<Domain.QueryDomainRequest> query = ArgumentCaptor.forClass(Domain.QueryDomainRequest.class);
+        Mockito.verify(domainServiceStub, Mockito.times(1)).queryDomain(query.capture());
+        Assertions.assertEquals("bob", query.getValue().getDomainId());
+        Mockito.verify(domainServiceStub, Mockito.times(1)).batchQueryDomainStatus(Mockito.any());
+    }
+
+    @Test
+    void reconcileNodeTokens() {
+        Mockito.when(nodeRepository.findAll()).thenReturn(buildNodeDOList());
+        Mockito.when(domainServiceStub.batchQueryDomainStatus(Mockito.any())).thenReturn(Domain.BatchQueryDomainStatusResponse.newBuilder()
+                .setStatus(Common.Status.newBuilder().setCode(0).build())
+                .setData(Domain.BatchQueryDomainStatusResponseData.newBuilder().addDomains(Domain.DomainStatus.newBuilder().setDomainId("alice")
+                        .addDeployTokenStatuses(Domain.DeployTokenStatus.newBuilder().setToken("alice-token").setState("unused").build())))
+                .build());
+        nodeManager.reconcileNodeTokens();
+        Mockito.verify(nodeRepository).save(Mockito.argThat(nodeDO -> "alice-token".equals(nodeDO.getToken())));
+    }
+
+    @Test
+    void listNodeOverviewWithGroupedQueries() throws Exception {
+        assertResponse(() -> {
+            List<NodeDO> nodeDOList = List.of(NodeDO.builder().nodeId("alice").build(), NodeDO.builder().nodeId("bob").build(),
+                    NodeDO.builder().nodeId("carol").build());
+            Mockito.when(nodeRepository.findAll()).thenReturn(nodeDOList);
+            Mockito.when(domainServiceStub.queryDomain(Mockito.any())).thenReturn(buildQueryDomainResponse(0));
+            Mockito.when(dataStub.listDomainData(Mockito.any())).thenReturn(buildListDomainDataResponse(0));
+            Mockito.when(resultRepository.countByNodeIds(Mockito.anyList())).thenReturn(List.of(new CountProjection("alice", 2L)));
+            return MockMvcRequestBuilders.post(getMappingUrl(NodeController.class, "listNode"));
+        });
+        Mockito.verify(resultRepository, Mockito.times(1)).countByNodeIds(Mockito.anyList());
+        Mockito.verify(resultRepository, Mockito.never()).countByNodeId(Mockito.any());
+    }
+
+    @Test
+    void nodeOverviewDatatablesFromCatalog() {
+        AbstractDatatableManager datatableManager = Mockito.mock(AbstractDatatableManager.class);
+        DatatableDTO datatable = DatatableDTO.builder().datatableId("alice-table").build();
+        Mockito.when(datatableManager.listCatalog("alice")).thenReturn(List.of(datatable));
+        NodeOverviewServiceImpl overviewService = new NodeOverviewServiceImpl();
+        ReflectionTestUtils.setField(overviewService, "datatableManager", datatableManager);
+        Assertions.assertEquals(List.of(datatable), overviewService.listManualDatatables("alice"));
+        Mockito.verify(datatableManager, Mockito.times(1)).listCatalog("alice");
+        Mockito.verify(datatableManager, Mockito.never()).findByNodeId(Mockito.any(), Mockito.any());
+    }
+
     @Test
     void listNodeByQueryDatatableFailedException() throws Exception {
         assertErrorCode(() -> {
@@ -279,8 +429,8 @@ class NodeControllerTest extends ControllerTest {
             request.setPageSize(20);
             request.setPageNumber(1);
 
-            List<ProjectResultDO> projectResultDOS = buildProjectResultDOList();
-            Mockito.when(resultRepository.findByNodeId(Mockito.anyString())).thenReturn(projectResultDOS);
+            Mockito.when(resultRepository.pageNodeResults(Mockito.anyString(), Mockito.anyList(), Mockito.anyString(), Mockito.any()))
+                    .thenAnswer(invocation -> buildNodeResultProjectionPage(invocation.getArgument(3)));
 
             Domaindata.BatchQueryDomainDataResponse batchQueryDomainDataResponse = buildBatchQueryDomainDataResponse(0);
             Mockito.when(dataStub.batchQueryDomainData(Mockito.any())).thenReturn(batchQueryDomainDataResponse);
@@ -299,8 +449,8 @@ class NodeControllerTest extends ControllerTest {
             request.setPageSize(20);
             request.setPageNumber(1);
 
-            List<ProjectResultDO> projectResultDOS = buildProjectResultDOList();
-            Mockito.when(resultRepository.findByNodeId(Mockito.anyString())).thenReturn(projectResultDOS);
+            Mockito.when(resultRepository.pageNodeResults(Mockito.anyString(), Mockito.anyList(), Mockito.anyString(), Mockito.any()))
+                    .thenAnswer(invocation -> buildNodeResultProjectionPage(invocation.getArgument(3)));
 
             Domaindata.BatchQueryDomainDataResponse batchQueryDomainDataResponse = buildBatchQueryDomainDataResponse(1);
             Mockito.when(dataStub.batchQueryDomainData(Mockito.any())).thenReturn(batchQueryDomainDataResponse);
@@ -319,8 +469,8 @@ class NodeControllerTest extends ControllerTest {
             request.setPageSize(20);
             request.setPageNumber(2);
 
-            List<ProjectResultDO> projectResultDOS = buildProjectResultDOList();
-            Mockito.when(resultRepository.findByNodeId(Mockito.anyString())).thenReturn(projectResultDOS);
+            Mockito.when(resultRepository.pageNodeResults(Mockito.anyString(), Mockito.anyList(), Mockito.anyString(), Mockito.any()))
+                    .thenAnswer(invocation -> buildNodeResultProjectionPage(invocation.getArgument(3)));
 
             Domaindata.BatchQueryDomainDataResponse batchQueryDomainDataResponse = buildBatchQueryDomainDataResponse(0);
             Mockito.when(dataStub.batchQueryDomainData(Mockito.any())).thenReturn(batchQueryDomainDataResponse);
@@ -515,6 +665,29 @@ class NodeControllerTest extends ControllerTest {
         });
     }
 
+    @Test
+    void updateNodeThenGetNode() {
+        NodeDO alice = NodeDO.builder().nodeId("alice").netAddress("127.0.0.1:28080").build();
+        Mockito.when(nodeRepository.findByNodeId("alice")).thenReturn(alice);
+        Mockito.when(domainServiceStub.queryDomain(Mockito.any())).thenReturn(buildQueryDomainResponse(0));
+        // snapshots stay fresh for the whole test, the update must not be hidden by the snapshot of the node
+        Object snapshotService = AopTestUtils.getTargetObject(domainStatusSnapshotService);
+        ReflectionTestUtils.setField(snapshotService, "ttlMillis", 60000L);
+        try {
+            Assertions.assertEquals("127.0.0.1:28080", nodeService.getNode("alice").getNetAddress());
+
+            UpdateNodeRequest request = new UpdateNodeRequest();
+            request.setNodeId("alice");
+            request.setNetAddress("127.0.0.1:38080");
+            nodeService.updateNode(request);
+
+            Assertions.assertEquals("127.0.0.1:38080", nodeService.getNode("alice").getNetAddress());
+        } finally {
+            ReflectionTestUtils.setField(snapshotService, "ttlMillis", 0L);
+            domainStatusSnapshotService.evictNode("alice");
+        }
+    }
+
     @Test
     void updateNodeByNodeNotExistsException() throws Exception {
         assertErrorCode(() -> {
@@ -534,6 +707,7 @@ class NodeControllerTest extends ControllerTest {
             request.setSearch("");
             request.setPage(1);
             request.setSize(10);
+            request.setCursor(null);
             NodeDO alice = NodeDO.builder().nodeId("alice").build();
             List<NodeDO> list = new ArrayList<>();
             list.add(alice);
@@ -554,6 +728,7 @@ class NodeControllerTest extends ControllerTest {
             request.setSearch("");
             request.setPage(1);
             request.setSize(10);
+            request.setCursor(null);
             NodeDO alice = NodeDO.builder().nodeId("alice").build();
             Page<NodeDO> page = new PageImpl<>(buildNodeDOList());
             Mockito.when(nodeRepository.findAll(Mockito.any(Specification.class), Mockito.any(Pageable.class))).thenReturn(page);
@@ -572,6 +747,7 @@ class NodeControllerTest extends ControllerTest {
             request.setSearch("");
             request.setPage(1);
             request.setSize(10);
+            request.setCursor(null);
             NodeDO alice = NodeDO.builder().nodeId("alice").build();
             Page<NodeDO> page = new PageImpl<>(buildNodeDOList());
             Mockito.when(nodeRepository.findAll(Mockito.any(Specification.class), Mockito.any(Pageable.class))).thenReturn(page);
@@ -583,6 +759,41 @@ class NodeControllerTest extends ControllerTest {
         }, NodeErrorCode.NODE_NOT_EXIST_ERROR);
     }
 
+    @Test
+    void pageNodeByCursor() throws Exception {
+        assertResponse(() -> {
+            PageNodeRequest request = FakerUtils.fake(PageNodeRequest.class);
+            request.setSearch("");
+            request.setSize(1);
+            request.setCursor("");
+            NodeDO alice = NodeDO.builder().nodeId("alice").build();
+            alice.setId(2L);
+            alice.setGmtCreate(LocalDateTime.of(2023, 9, 8, 10, 0, 0));
+            NodeDO bob = NodeDO.builder().nodeId("bob").build();
+            bob.setId(1L);
+            bob.setGmtCreate(LocalDateTime.of(2023, 9, 8, 10, 0, 0));
+            Mockito.when(nodeRepository.count(Mockito.any(Specification.class))).thenReturn(2L);
+            Mockito.when(nodeRepository.keysetQuery(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyInt())).thenReturn(List.of(alice, bob));
+            Mockito.when(nodeRepository.findByNodeId(Mockito.any())).thenReturn(alice);
+            Domain.QueryDomainResponse queryDomainResponse = buildQueryDomainResponse(0);
+            Mockito.when(domainServiceStub.queryDomain(Mockito.any())).thenReturn(queryDomainResponse);
+            return MockMvcRequestBuilders.post(getMappingUrl(NodeController.class, "page", PageNodeRequest.class)).
+                    content(JsonUtils.toJSONString(request));
+        });
+        Mockito.verify(nodeRepository).keysetQuery("", "9999-12-31 23:59:59", Long.MAX_VALUE, 2);
+    }
+
+    @Test
+    void pageNodeByInvalidCursor() throws Exception {
+        assertErrorCode(() -> {
+            PageNodeRequest request = FakerUtils.fake(PageNodeRequest.class);
+            request.setSize(10);
+            request.setCursor("not a cursor");
+            return MockMvcRequestBuilders.post(getMappingUrl(NodeController.class, "page", PageNodeRequest.class)).
+                    content(JsonUtils.toJSONString(request));
+        }, SystemErrorCode.VALIDATION_ERROR);
+    }
+
     @Test
     void getNode() throws Exception {
         assertResponse(() -> {
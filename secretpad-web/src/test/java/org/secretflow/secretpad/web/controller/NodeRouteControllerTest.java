@@ -8,6 +8,7 @@ import org.secretflow.secretpad.persistence.entity.NodeDO;
 import org.secretflow.secretpad.persistence.entity.NodeRouteDO;
 import org.secretflow.secretpad.persistence.repository.NodeRepository;
 import org.secretflow.secretpad.persistence.repository.NodeRouteRepository;
+import org.secretflow.secretpad.service.model.noderoute.BatchCreateNodeRouterRequest;
 import org.secretflow.secretpad.service.model.noderoute.CreateNodeRouterRequest;
 import org.secretflow.secretpad.service.model.noderoute.UpdateNodeRouterRequest;
 
@@ -21,6 +22,7 @@ import org.secretflow.v1alpha1.kusciaapi.DomainServiceGrpc;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -137,6 +139,48 @@ class NodeRouteControllerTest extends ControllerTest {
         }, NodeRouteErrorCode.NODE_ROUTE_CREATE_ERROR);
     }
 
+    @Test
+    void batchCreate() throws Exception {
+        assertResponse(() -> {
+            BatchCreateNodeRouterRequest request = BatchCreateNodeRouterRequest.builder()
+                    .nodeIds(List.of("alice", "bob", "carol")).build();
+            Mockito.when(nodeRepository.findAllById(Mockito.any())).thenReturn(List.of(
+                    NodeDO.builder().nodeId("alice").netAddress("127.0.0.1:8080").build(),
+                    NodeDO.builder().nodeId("bob").netAddress("127.0.0.1:8081").build(),
+                    NodeDO.builder().nodeId("carol").netAddress("127.0.0.1:8082").build()));
+            Mockito.when(domainServiceStub.batchQueryDomainStatus(Mockito.any())).thenReturn(Domain.BatchQueryDomainStatusResponse.newBuilder()
+                    .setStatus(Common.Status.newBuilder().setCode(0).build())
+                    .setData(Domain.BatchQueryDomainStatusResponseData.newBuilder()
+                            .addDomains(buildDomainStatus("alice", DomainConstants.DomainStatusEnum.Ready.name()))
+                            .addDomains(buildDomainStatus("bob", DomainConstants.DomainStatusEnum.Ready.name()))
+                            .addDomains(buildDomainStatus("carol", "NotReady")).build())
+                    .build());
+            Mockito.when(nodeRouteRepository.findBySrcNodeIds(Mockito.any())).thenReturn(List.of(buildNodeRouteDO().get()));
+            Mockito.when(domainRouteServiceBlockingStub.batchQueryDomainRouteStatus(Mockito.any())).thenReturn(
+                    DomainRoute.BatchQueryDomainRouteStatusResponse.newBuilder()
+                            .setStatus(Common.Status.newBuilder().setCode(0).build())
+                            .setData(DomainRoute.BatchQueryDomainRouteStatusResponseData.newBuilder()
+                                    .addRoutes(DomainRoute.DomainRouteStatus.newBuilder().setSource("alice").setDestination("bob").build()).build())
+                            .build());
+            Mockito.when(domainRouteServiceBlockingStub.createDomainRoute(Mockito.any())).thenReturn(buildCreateDomainRouteResponse(0));
+            Mockito.when(nodeRouteRepository.saveAll(Mockito.any())).thenAnswer(invocation -> invocation.getArgument(0));
+            return MockMvcRequestBuilders.post(getMappingUrl(NodeRouteController.class, "batchCreate", BatchCreateNodeRouterRequest.class)).
+                    content(JsonUtils.toJSONString(request));
+        });
+        // only bob->alice is missing between the ready nodes, readiness and existing routes are queried in batch
+        Mockito.verify(domainRouteServiceBlockingStub, Mockito.times(1)).createDomainRoute(
+                Mockito.argThat(r -> "bob".equals(r.getSource()) && "alice".equals(r.getDestination())));
+        Mockito.verify(domainRouteServiceBlockingStub, Mockito.never()).queryDomainRoute(Mockito.any());
+        Mockito.verify(domainServiceStub, Mockito.never()).queryDomain(Mockito.any());
+        Mockito.verify(nodeRouteRepository).saveAll(Mockito.argThat(routes -> routes instanceof List<NodeRouteDO> list
+                && list.size() == 1 && "bob".equals(list.get(0).getSrcNodeId()) && "127.0.0.1:8080".equals(list.get(0).getDstNetAddress())));
+    }
+
+    private Domain.DomainStatus buildDomainStatus(String domainId, String status) {
+        return Domain.DomainStatus.newBuilder().setDomainId(domainId)
+                .addNodeStatuses(Domain.NodeStatus.newBuilder().setStatus(status).build()).build();
+    }
+
     private CreateNodeRouterRequest buildCreateNodeRouterRequest() {
         return CreateNodeRouterRequest.builder()
                 .srcNodeId("alice")
@@ -529,6 +529,7 @@ class ProjectControllerTest extends ControllerTest {
             ListProjectJobRequest request = FakerUtils.fake(ListProjectJobRequest.class);
             request.setPageNum(1);
             request.setPageSize(20);
+            request.setCursor(null);
 
             //Mockito.when(projectJobRepository.pageByProjectIdAndGraphId(Mockito.anyString(), Mockito.anyString(), Mockito.any())).thenReturn(page);
 
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.secretflow.secretpad.web.controller;
+
+import org.secretflow.secretpad.common.errorcode.SystemErrorCode;
+import org.secretflow.secretpad.common.util.JsonUtils;
+import org.secretflow.secretpad.common.util.UUIDUtils;
+import org.secretflow.secretpad.manager.integration.search.AbstractSearchIndexManager;
+import org.secretflow.secretpad.persistence.entity.ProjectDO;
+import org.secretflow.secretpad.persistence.entity.ProjectResultDO;
+import org.secretflow.secretpad.persistence.model.ResultKind;
+import org.secretflow.secretpad.persistence.model.SearchDocumentKind;
+import org.secretflow.secretpad.persistence.repository.ProjectRepository;
+import org.secretflow.secretpad.persistence.repository.ProjectResultRepository;
+import org.secretflow.secretpad.service.SearchService;
+import org.secretflow.secretpad.service.model.common.SecretPadPageResponse;
+import org.secretflow.secretpad.service.model.search.SearchHitVO;
+import org.secretflow.secretpad.service.model.search.SearchRequest;
+import org.secretflow.secretpad.web.utils.FakerUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.List;
+
+/**
+ * Search controller test
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+class SearchControllerTest extends ControllerTest {
+
+    @Autowired
+    private AbstractSearchIndexManager searchIndexManager;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectResultRepository resultRepository;
+
+    @Test
+    void search() throws Exception {
+        String suffix = UUIDUtils.random(8);
+        String projectId = "p" + suffix;
+        searchIndexManager.index(SearchDocumentKind.Project, projectId, null, projectId, "Credit Risk " + suffix);
+        searchIndexManager.index(SearchDocumentKind.Graph, projectId, null, "g" + suffix, "risk " + suffix);
+        searchIndexManager.index(SearchDocumentKind.Datatable, null, "alice", "t" + suffix, "alice_risk_" + suffix);
+        assertResponse(() -> {
+            SearchRequest request = buildSearchRequest("RISK " + suffix, null, null);
+            return MockMvcRequestBuilders.post(getMappingUrl(SearchController.class, "search", SearchRequest.class))
+                    .content(JsonUtils.toJSONString(request));
+        });
+
+        // case-insensitive substring match with the exact title ranked first
+        SecretPadPageResponse<SearchHitVO> hits = searchService.search(buildSearchRequest("RISK " + suffix, null, null));
+        Assertions.assertEquals(2, hits.getTotal());
+        Assertions.assertEquals(SearchDocumentKind.Graph, hits.getList().get(0).getKind());
+        Assertions.assertEquals(3, searchService.search(buildSearchRequest(suffix, null, null)).getTotal());
+        Assertions.assertEquals(1, searchService.search(buildSearchRequest(suffix, List.of(SearchDocumentKind.Datatable), null)).getTotal());
+        Assertions.assertEquals(2, searchService.search(buildSearchRequest(suffix, null, projectId)).getTotal());
+
+        // renames replace the indexed title, removals drop the document
+        searchIndexManager.index(SearchDocumentKind.Graph, projectId, null, "g" + suffix, "renamed " + suffix);
+        Assertions.assertEquals(1, searchService.search(buildSearchRequest("risk " + suffix, null, null)).getTotal());
+        searchIndexManager.removeProject(projectId);
+        Assertions.assertEquals(1, searchService.search(buildSearchRequest(suffix, null, null)).getTotal());
+    }
+
+    @Test
+    void searchShortQuery() throws Exception {
+        String suffix = UUIDUtils.random(8);
+        searchIndexManager.index(SearchDocumentKind.Result, "p" + suffix, "alice", "r" + suffix, null);
+        SecretPadPageResponse<SearchHitVO> hits = searchService.search(buildSearchRequest("r" + suffix.charAt(0), List.of(SearchDocumentKind.Result), "p" + suffix));
+        Assertions.assertEquals(1, hits.getTotal());
+        Assertions.assertEquals("r" + suffix, hits.getList().get(0).getTitle());
+        searchIndexManager.remove(SearchDocumentKind.Result, "p" + suffix, "alice", "r" + suffix);
+        Assertions.assertEquals(0, searchService.search(buildSearchRequest("r" + suffix, null, null)).getTotal());
+    }
+
+    @Test
+    void searchPageSizeCapped() throws Exception {
+        assertErrorCode(() -> {
+            SearchRequest request = buildSearchRequest("risk", null, null);
+            request.setSize(SearchRequest.MAX_SIZE + 1);
+            return MockMvcRequestBuilders.post(getMappingUrl(SearchController.class, "search", SearchRequest.class))
+                    .content(JsonUtils.toJSONString(request));
+        }, SystemErrorCode.VALIDATION_ERROR);
+    }
+
+    @Test
+    void rebuildSkipsDeletedProjects() throws Exception {
+        String suffix = UUIDUtils.random(8);
+        saveProjectWithResult("live" + suffix, "liveResult" + suffix, false);
+        saveProjectWithResult("deleted" + suffix, "deletedResult" + suffix, true);
+
+        searchIndexManager.rebuild();
+
+        Assertions.assertEquals(1, searchService.search(buildSearchRequest("liveResult" + suffix, null, null)).getTotal());
+        Assertions.assertEquals(0, searchService.search(buildSearchRequest("deletedResult" + suffix, null, null)).getTotal());
+    }
+
+    private void saveProjectWithResult(String projectId, String refId, boolean projectDeleted) throws Exception {
+        ProjectDO project = FakerUtils.fake(ProjectDO.class);
+        project.setProjectId(projectId);
+        project.setIsDeleted(projectDeleted);
+        projectRepository.save(project);
+        ProjectResultDO result = FakerUtils.fake(ProjectResultDO.class);
+        result.setUpk(new ProjectResultDO.UPK(projectId, ResultKind.FedTable, "alice", refId));
+        result.setIsDeleted(false);
+        resultRepository.save(result);
+    }
+
+    private SearchRequest buildSearchRequest(String query, List<SearchDocumentKind> kinds, String projectId) {
+        SearchRequest request = new SearchRequest();
+        request.setQuery(query);
+        request.setKinds(kinds);
+        request.setProjectId(projectId);
+        return request;
+    }
+}
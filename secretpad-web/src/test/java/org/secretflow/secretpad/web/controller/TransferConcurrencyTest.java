@@ -0,0 +1,311 @@
+/*
+ * Copyright 2023 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.secretpad.web.controller;
+
+import org.secretflow.secretpad.common.errorcode.DataErrorCode;
+import org.secretflow.secretpad.common.util.JsonUtils;
+import org.secretflow.secretpad.persistence.entity.ProjectDO;
+import org.secretflow.secretpad.persistence.entity.ProjectGraphDO;
+import org.secretflow.secretpad.persistence.entity.ProjectJobDO;
+import org.secretflow.secretpad.persistence.entity.ProjectResultDO;
+import org.secretflow.secretpad.persistence.repository.ProjectGraphRepository;
+import org.secretflow.secretpad.persistence.repository.ProjectJobRepository;
+import org.secretflow.secretpad.persistence.repository.ProjectRepository;
+import org.secretflow.secretpad.persistence.repository.ProjectResultRepository;
+import org.secretflow.secretpad.service.model.common.SecretPadResponse;
+import org.secretflow.secretpad.service.model.data.DownloadDataRequest;
+import org.secretflow.secretpad.web.SecretPadApplication;
+import org.secretflow.secretpad.web.cache.ResultArchiveCache;
+import org.secretflow.secretpad.web.transfer.TransferLimiter;
+import org.secretflow.secretpad.web.utils.FakerUtils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.secretflow.v1alpha1.kusciaapi.DomainDataServiceGrpc;
+import org.secretflow.v1alpha1.kusciaapi.Domaindata;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Data transfer concurrency test on a real server, slow downloads must neither hold request threads nor exceed the transfer limits
+ *
+ * @author yansi
+ * @date 2023/9/8
+ */
+@ActiveProfiles(value = "test")
+@SpringBootTest(classes = SecretPadApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.ssl.enabled=false",
+        "server.http-port=0",
+        "server.tomcat.accesslog.enabled=false",
+        "server.tomcat.threads.max=8",
+        "secretpad.data.transfer.max-concurrent=" + TransferConcurrencyTest.DOWNLOADS,
+        "secretpad.data.transfer.max-concurrent-per-node=" + TransferConcurrencyTest.DOWNLOADS
+})
+class TransferConcurrencyTest {
+
+    static final int DOWNLOADS = 50;
+
+    private static final int FILE_SIZE = 32 * 1024 * 1024;
+
+    private static final String NODE_ID = "transferNodeId";
+
+    private static final String DOMAIN_DATA_ID = "largeDomainData";
+
+    private static final String DIR_DOMAIN_DATA_ID = "largeDirDomainData";
+
+    @MockBean
+    private DomainDataServiceGrpc.DomainDataServiceBlockingStub dataStub;
+
+    @MockBean
+    private ProjectResultRepository projectResultRepository;
+
+    @MockBean
+    private ProjectJobRepository projectJobRepository;
+
+    @MockBean
+    private ProjectGraphRepository projectGraphRepository;
+
+    @MockBean
+    private ProjectRepository projectRepository;
+
+    @SpyBean
+    private ResultArchiveCache resultArchiveCache;
+
+    @Autowired
+    private TransferLimiter transferLimiter;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${secretpad.data.dir-path}")
+    private String storeDir;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(5)).build();
+
+    private final List<Socket> downloads = new ArrayList<>();
+
+    @BeforeAll
+    public static void setup() throws IOException, InterruptedException {
+        ProcessBuilder pb = new ProcessBuilder("./config/setup.sh");
+        Process process = pb.start();
+        process.waitFor();
+    }
+
+    @AfterEach
+    public void close() throws IOException {
+        for (Socket socket : downloads) {
+            socket.close();
+        }
+        downloads.clear();
+    }
+
+    @Test
+    void apiLatencyStaysFlatDuringLargeDownloads() throws Exception {
+        mockDownload(DOMAIN_DATA_ID, "largeFile");
+        File file = largeFile(NODE_ID + "/largeFile");
+        String body = JsonUtils.toJSONString(new DownloadDataRequest(NODE_ID, DOMAIN_DATA_ID));
+        try {
+            long idle = medianLatencyNanos();
+
+            // clients that read the status line and then stop reading, every download blocks on a full socket buffer
+            for (int i = 0; i < DOWNLOADS; i++) {
+                readStatus(startDownload(body));
+            }
+            Assertions.assertEquals(DOWNLOADS, transferLimiter.active());
+
+            long busy = medianLatencyNanos();
+            Assertions.assertTrue(busy <= 3 * idle + Duration.ofMillis(50).toNanos(),
+                    "api latency grew from " + idle / 1000 + "us to " + busy / 1000 + "us during downloads");
+
+            // one more download is over the limit and rejected at once
+            HttpResponse<String> rejected = client.send(HttpRequest.newBuilder(url("/api/v1alpha1/data/download"))
+                    .timeout(Duration.ofSeconds(5))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            SecretPadResponse response = JsonUtils.toJavaObject(rejected.body(), SecretPadResponse.class);
+            Assertions.assertEquals(DataErrorCode.TRANSFER_LIMIT_EXCEEDED.getCode(), response.getStatus().getCode());
+
+            close();
+            awaitActive(0);
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    void archiveStreamsDoNotHoldRequestThreads() throws Exception {
+        mockDownload(DIR_DOMAIN_DATA_ID, "largeDir");
+        File dir = new File(storeDir + NODE_ID + "/largeDir");
+        // a download of a missing result creates an empty file in its place
+        FileSystemUtils.deleteRecursively(dir);
+        Assertions.assertTrue(dir.mkdirs());
+        Files.write(new File(dir, "part-0.csv").toPath(), "id\n1\n".getBytes(StandardCharsets.UTF_8));
+        // every download of the directory is stuck archiving until released
+        CountDownLatch released = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            released.await();
+            return invocation.callRealMethod();
+        }).when(resultArchiveCache).stream(Mockito.any(File.class), Mockito.any(OutputStream.class));
+        String body = JsonUtils.toJSONString(new DownloadDataRequest(NODE_ID, DIR_DOMAIN_DATA_ID));
+        try {
+            long idle = medianLatencyNanos();
+
+            List<Socket> waiting = new ArrayList<>();
+            for (int i = 0; i < DOWNLOADS; i++) {
+                waiting.add(startDownload(body));
+            }
+            awaitActive(DOWNLOADS);
+
+            long busy = medianLatencyNanos();
+            Assertions.assertTrue(busy <= 3 * idle + Duration.ofMillis(50).toNanos(),
+                    "api latency grew from " + idle / 1000 + "us to " + busy / 1000 + "us during archive streams");
+
+            released.countDown();
+            for (Socket socket : waiting) {
+                readStatus(socket);
+            }
+            close();
+            awaitActive(0);
+        } finally {
+            released.countDown();
+            FileSystemUtils.deleteRecursively(dir);
+        }
+    }
+
+    private File largeFile(String path) throws IOException {
+        File file = new File(storeDir + path);
+        file.getParentFile().mkdirs();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(FILE_SIZE);
+        }
+        return file;
+    }
+
+    private void awaitActive(int active) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30000;
+        while (transferLimiter.active() != active && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        Assertions.assertEquals(active, transferLimiter.active());
+    }
+
+    private Socket startDownload(String body) throws IOException {
+        Socket socket = new Socket();
+        socket.setReceiveBufferSize(4096);
+        socket.connect(new InetSocketAddress("localhost", port), 5000);
+        socket.setSoTimeout(10000);
+        downloads.add(socket);
+        byte[] content = body.getBytes(StandardCharsets.UTF_8);
+        OutputStream out = socket.getOutputStream();
+        out.write(("POST /api/v1alpha1/data/download HTTP/1.1\r\n"
+                + "Host: localhost:" + port + "\r\n"
+                + "Content-Type: application/json\r\n"
+                + "Content-Length: " + content.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.write(content);
+        out.flush();
+        return socket;
+    }
+
+    private void readStatus(Socket socket) throws IOException {
+        InputStream in = socket.getInputStream();
+        byte[] status = new byte[12];
+        int read = 0;
+        while (read < status.length) {
+            int n = in.read(status, read, status.length - read);
+            Assertions.assertTrue(n > 0, "download closed before its status line");
+            read += n;
+        }
+        Assertions.assertEquals("HTTP/1.1 200", new String(status, StandardCharsets.US_ASCII));
+    }
+
+    private long medianLatencyNanos() throws Exception {
+        long[] latencies = new long[21];
+        HttpRequest request = HttpRequest.newBuilder(url("/api/v1alpha1/data/listDataSource"))
+                .timeout(Duration.ofSeconds(5))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{}"))
+                .build();
+        for (int i = 0; i < latencies.length; i++) {
+            long start = System.nanoTime();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            latencies[i] = System.nanoTime() - start;
+            Assertions.assertEquals(200, response.statusCode());
+        }
+        Arrays.sort(latencies);
+        return latencies[latencies.length / 2];
+    }
+
+    private URI url(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private void mockDownload(String domainDataId, String relativeUri) throws Exception {
+        ProjectResultDO projectResultDO = FakerUtils.fake(ProjectResultDO.class);
+        projectResultDO.setGmtCreate(LocalDateTime.now());
+        Mockito.when(projectResultRepository.findByNodeIdAndRefId(NODE_ID, domainDataId))
+                .thenReturn(Optional.of(projectResultDO));
+        ProjectDO projectDO = FakerUtils.fake(ProjectDO.class);
+        Mockito.when(projectRepository.findById(projectResultDO.getUpk().getProjectId()))
+                .thenReturn(Optional.of(projectDO));
+        ProjectJobDO projectJobDO = FakerUtils.fake(ProjectJobDO.class);
+        Mockito.when(projectJobRepository.findByJobId(projectResultDO.getJobId()))
+                .thenReturn(Optional.of(projectJobDO));
+        Mockito.when(projectGraphRepository.findByGraphId(projectJobDO.getGraphId(), projectDO.getProjectId()))
+                .thenReturn(Optional.of(FakerUtils.fake(ProjectGraphDO.class)));
+        Mockito.when(dataStub.queryDomainData(Domaindata.QueryDomainDataRequest.newBuilder()
+                        .setData(Domaindata.QueryDomainDataRequestData.newBuilder()
+                                .setDomainId(NODE_ID)
+                                .setDomaindataId(domainDataId)
+                                .build())
+                        .build()))
+                .thenReturn(Domaindata.QueryDomainDataResponse.newBuilder()
+                        .setData(Domaindata.DomainData.newBuilder().setRelativeUri(relativeUri).build())
+                        .build());
+    }
+}